@@ -0,0 +1,862 @@
+package com.facebook.buck.android;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AndroidInstrumentationTestJVMArgs}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ImmutableAndroidInstrumentationTestJVMArgs.builder()}.
+ */
+@Generated(from = "AndroidInstrumentationTestJVMArgs", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableAndroidInstrumentationTestJVMArgs
+    extends AndroidInstrumentationTestJVMArgs {
+  private final String pathToAdbExecutable;
+  private final @Nullable Path directoryForTestResults;
+  private final String testPackage;
+  private final String testRunner;
+  private final String targetPackage;
+  private final String ddmlibJarPath;
+  private final String kxmlJarPath;
+  private final String guavaJarPath;
+  private final boolean debugEnabled;
+  private final boolean codeCoverageEnabled;
+  private final String androidToolsCommonJarPath;
+  private final @Nullable String deviceSerial;
+  private final @Nullable Path instrumentationApkPath;
+  private final @Nullable Path apkUnderTestPath;
+  private final @Nullable Path apkUnderTestExopackageLocalDir;
+  private final @Nullable String testFilter;
+  private final @Nullable Path exopackageLocalDir;
+  private final Path testRunnerClasspath;
+  private final ImmutableMap<String, String> environmentOverrides;
+
+  private ImmutableAndroidInstrumentationTestJVMArgs(ImmutableAndroidInstrumentationTestJVMArgs.Builder builder) {
+    this.pathToAdbExecutable = builder.pathToAdbExecutable;
+    this.directoryForTestResults = builder.directoryForTestResults;
+    this.testPackage = builder.testPackage;
+    this.testRunner = builder.testRunner;
+    this.targetPackage = builder.targetPackage;
+    this.ddmlibJarPath = builder.ddmlibJarPath;
+    this.kxmlJarPath = builder.kxmlJarPath;
+    this.guavaJarPath = builder.guavaJarPath;
+    this.androidToolsCommonJarPath = builder.androidToolsCommonJarPath;
+    this.deviceSerial = builder.deviceSerial;
+    this.instrumentationApkPath = builder.instrumentationApkPath;
+    this.apkUnderTestPath = builder.apkUnderTestPath;
+    this.apkUnderTestExopackageLocalDir = builder.apkUnderTestExopackageLocalDir;
+    this.testFilter = builder.testFilter;
+    this.exopackageLocalDir = builder.exopackageLocalDir;
+    this.testRunnerClasspath = builder.testRunnerClasspath;
+    this.environmentOverrides = builder.environmentOverrides.build();
+    if (builder.debugEnabledIsSet()) {
+      initShim.setDebugEnabled(builder.debugEnabled);
+    }
+    if (builder.codeCoverageEnabledIsSet()) {
+      initShim.setCodeCoverageEnabled(builder.codeCoverageEnabled);
+    }
+    this.debugEnabled = initShim.isDebugEnabled();
+    this.codeCoverageEnabled = initShim.isCodeCoverageEnabled();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "AndroidInstrumentationTestJVMArgs", generator = "Immutables")
+  private final class InitShim {
+    private byte debugEnabledBuildStage = STAGE_UNINITIALIZED;
+    private boolean debugEnabled;
+
+    boolean isDebugEnabled() {
+      if (debugEnabledBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (debugEnabledBuildStage == STAGE_UNINITIALIZED) {
+        debugEnabledBuildStage = STAGE_INITIALIZING;
+        this.debugEnabled = ImmutableAndroidInstrumentationTestJVMArgs.super.isDebugEnabled();
+        debugEnabledBuildStage = STAGE_INITIALIZED;
+      }
+      return this.debugEnabled;
+    }
+
+    void setDebugEnabled(boolean debugEnabled) {
+      this.debugEnabled = debugEnabled;
+      debugEnabledBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte codeCoverageEnabledBuildStage = STAGE_UNINITIALIZED;
+    private boolean codeCoverageEnabled;
+
+    boolean isCodeCoverageEnabled() {
+      if (codeCoverageEnabledBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (codeCoverageEnabledBuildStage == STAGE_UNINITIALIZED) {
+        codeCoverageEnabledBuildStage = STAGE_INITIALIZING;
+        this.codeCoverageEnabled = ImmutableAndroidInstrumentationTestJVMArgs.super.isCodeCoverageEnabled();
+        codeCoverageEnabledBuildStage = STAGE_INITIALIZED;
+      }
+      return this.codeCoverageEnabled;
+    }
+
+    void setCodeCoverageEnabled(boolean codeCoverageEnabled) {
+      this.codeCoverageEnabled = codeCoverageEnabled;
+      codeCoverageEnabledBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (debugEnabledBuildStage == STAGE_INITIALIZING) attributes.add("debugEnabled");
+      if (codeCoverageEnabledBuildStage == STAGE_INITIALIZING) attributes.add("codeCoverageEnabled");
+      return "Cannot build AndroidInstrumentationTestJVMArgs, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code pathToAdbExecutable} attribute
+   */
+  @Override
+  String getPathToAdbExecutable() {
+    return pathToAdbExecutable;
+  }
+
+  /**
+   * @return The value of the {@code directoryForTestResults} attribute
+   */
+  @Override
+  Optional<Path> getDirectoryForTestResults() {
+    return Optional.ofNullable(directoryForTestResults);
+  }
+
+  /**
+   * @return The value of the {@code testPackage} attribute
+   */
+  @Override
+  String getTestPackage() {
+    return testPackage;
+  }
+
+  /**
+   * @return The value of the {@code testRunner} attribute
+   */
+  @Override
+  String getTestRunner() {
+    return testRunner;
+  }
+
+  /**
+   * @return The value of the {@code targetPackage} attribute
+   */
+  @Override
+  String getTargetPackage() {
+    return targetPackage;
+  }
+
+  /**
+   * @return The value of the {@code ddmlibJarPath} attribute
+   */
+  @Override
+  String getDdmlibJarPath() {
+    return ddmlibJarPath;
+  }
+
+  /**
+   * @return The value of the {@code kxmlJarPath} attribute
+   */
+  @Override
+  String getKxmlJarPath() {
+    return kxmlJarPath;
+  }
+
+  /**
+   * @return The value of the {@code guavaJarPath} attribute
+   */
+  @Override
+  String getGuavaJarPath() {
+    return guavaJarPath;
+  }
+
+  /**
+   * @return The value of the {@code debugEnabled} attribute
+   */
+  @Override
+  boolean isDebugEnabled() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isDebugEnabled()
+        : this.debugEnabled;
+  }
+
+  /**
+   * @return The value of the {@code codeCoverageEnabled} attribute
+   */
+  @Override
+  boolean isCodeCoverageEnabled() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isCodeCoverageEnabled()
+        : this.codeCoverageEnabled;
+  }
+
+  /**
+   * @return The value of the {@code androidToolsCommonJarPath} attribute
+   */
+  @Override
+  String getAndroidToolsCommonJarPath() {
+    return androidToolsCommonJarPath;
+  }
+
+  /**
+   * @return The value of the {@code deviceSerial} attribute
+   */
+  @Override
+  Optional<String> getDeviceSerial() {
+    return Optional.ofNullable(deviceSerial);
+  }
+
+  /**
+   * @return The value of the {@code instrumentationApkPath} attribute
+   */
+  @Override
+  Optional<Path> getInstrumentationApkPath() {
+    return Optional.ofNullable(instrumentationApkPath);
+  }
+
+  /**
+   * @return The value of the {@code apkUnderTestPath} attribute
+   */
+  @Override
+  Optional<Path> getApkUnderTestPath() {
+    return Optional.ofNullable(apkUnderTestPath);
+  }
+
+  /**
+   * @return The value of the {@code apkUnderTestExopackageLocalDir} attribute
+   */
+  @Override
+  Optional<Path> getApkUnderTestExopackageLocalDir() {
+    return Optional.ofNullable(apkUnderTestExopackageLocalDir);
+  }
+
+  /**
+   * @return The value of the {@code testFilter} attribute
+   */
+  @Override
+  Optional<String> getTestFilter() {
+    return Optional.ofNullable(testFilter);
+  }
+
+  /**
+   * @return The value of the {@code exopackageLocalDir} attribute
+   */
+  @Override
+  Optional<Path> getExopackageLocalDir() {
+    return Optional.ofNullable(exopackageLocalDir);
+  }
+
+  /**
+   * @return The value of the {@code testRunnerClasspath} attribute
+   */
+  @Override
+  Path getTestRunnerClasspath() {
+    return testRunnerClasspath;
+  }
+
+  /**
+   * @return The value of the {@code environmentOverrides} attribute
+   */
+  @Override
+  ImmutableMap<String, String> getEnvironmentOverrides() {
+    return environmentOverrides;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableAndroidInstrumentationTestJVMArgs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableAndroidInstrumentationTestJVMArgs
+        && equalTo((ImmutableAndroidInstrumentationTestJVMArgs) another);
+  }
+
+  private boolean equalTo(ImmutableAndroidInstrumentationTestJVMArgs another) {
+    return pathToAdbExecutable.equals(another.pathToAdbExecutable)
+        && Objects.equals(directoryForTestResults, another.directoryForTestResults)
+        && testPackage.equals(another.testPackage)
+        && testRunner.equals(another.testRunner)
+        && targetPackage.equals(another.targetPackage)
+        && ddmlibJarPath.equals(another.ddmlibJarPath)
+        && kxmlJarPath.equals(another.kxmlJarPath)
+        && guavaJarPath.equals(another.guavaJarPath)
+        && debugEnabled == another.debugEnabled
+        && codeCoverageEnabled == another.codeCoverageEnabled
+        && androidToolsCommonJarPath.equals(another.androidToolsCommonJarPath)
+        && Objects.equals(deviceSerial, another.deviceSerial)
+        && Objects.equals(instrumentationApkPath, another.instrumentationApkPath)
+        && Objects.equals(apkUnderTestPath, another.apkUnderTestPath)
+        && Objects.equals(apkUnderTestExopackageLocalDir, another.apkUnderTestExopackageLocalDir)
+        && Objects.equals(testFilter, another.testFilter)
+        && Objects.equals(exopackageLocalDir, another.exopackageLocalDir)
+        && testRunnerClasspath.equals(another.testRunnerClasspath)
+        && environmentOverrides.equals(another.environmentOverrides);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code pathToAdbExecutable}, {@code directoryForTestResults}, {@code testPackage}, {@code testRunner}, {@code targetPackage}, {@code ddmlibJarPath}, {@code kxmlJarPath}, {@code guavaJarPath}, {@code debugEnabled}, {@code codeCoverageEnabled}, {@code androidToolsCommonJarPath}, {@code deviceSerial}, {@code instrumentationApkPath}, {@code apkUnderTestPath}, {@code apkUnderTestExopackageLocalDir}, {@code testFilter}, {@code exopackageLocalDir}, {@code testRunnerClasspath}, {@code environmentOverrides}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + pathToAdbExecutable.hashCode();
+    h += (h << 5) + Objects.hashCode(directoryForTestResults);
+    h += (h << 5) + testPackage.hashCode();
+    h += (h << 5) + testRunner.hashCode();
+    h += (h << 5) + targetPackage.hashCode();
+    h += (h << 5) + ddmlibJarPath.hashCode();
+    h += (h << 5) + kxmlJarPath.hashCode();
+    h += (h << 5) + guavaJarPath.hashCode();
+    h += (h << 5) + Booleans.hashCode(debugEnabled);
+    h += (h << 5) + Booleans.hashCode(codeCoverageEnabled);
+    h += (h << 5) + androidToolsCommonJarPath.hashCode();
+    h += (h << 5) + Objects.hashCode(deviceSerial);
+    h += (h << 5) + Objects.hashCode(instrumentationApkPath);
+    h += (h << 5) + Objects.hashCode(apkUnderTestPath);
+    h += (h << 5) + Objects.hashCode(apkUnderTestExopackageLocalDir);
+    h += (h << 5) + Objects.hashCode(testFilter);
+    h += (h << 5) + Objects.hashCode(exopackageLocalDir);
+    h += (h << 5) + testRunnerClasspath.hashCode();
+    h += (h << 5) + environmentOverrides.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidInstrumentationTestJVMArgs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidInstrumentationTestJVMArgs")
+        .omitNullValues()
+        .add("pathToAdbExecutable", pathToAdbExecutable)
+        .add("directoryForTestResults", directoryForTestResults)
+        .add("testPackage", testPackage)
+        .add("testRunner", testRunner)
+        .add("targetPackage", targetPackage)
+        .add("ddmlibJarPath", ddmlibJarPath)
+        .add("kxmlJarPath", kxmlJarPath)
+        .add("guavaJarPath", guavaJarPath)
+        .add("debugEnabled", debugEnabled)
+        .add("codeCoverageEnabled", codeCoverageEnabled)
+        .add("androidToolsCommonJarPath", androidToolsCommonJarPath)
+        .add("deviceSerial", deviceSerial)
+        .add("instrumentationApkPath", instrumentationApkPath)
+        .add("apkUnderTestPath", apkUnderTestPath)
+        .add("apkUnderTestExopackageLocalDir", apkUnderTestExopackageLocalDir)
+        .add("testFilter", testFilter)
+        .add("exopackageLocalDir", exopackageLocalDir)
+        .add("testRunnerClasspath", testRunnerClasspath)
+        .add("environmentOverrides", environmentOverrides)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link AndroidInstrumentationTestJVMArgs AndroidInstrumentationTestJVMArgs}.
+   * @return A new AndroidInstrumentationTestJVMArgs builder
+   */
+  public static ImmutableAndroidInstrumentationTestJVMArgs.Builder builder() {
+    return new ImmutableAndroidInstrumentationTestJVMArgs.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AndroidInstrumentationTestJVMArgs AndroidInstrumentationTestJVMArgs}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AndroidInstrumentationTestJVMArgs", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_PATH_TO_ADB_EXECUTABLE = 0x1L;
+    private static final long INIT_BIT_TEST_PACKAGE = 0x2L;
+    private static final long INIT_BIT_TEST_RUNNER = 0x4L;
+    private static final long INIT_BIT_TARGET_PACKAGE = 0x8L;
+    private static final long INIT_BIT_DDMLIB_JAR_PATH = 0x10L;
+    private static final long INIT_BIT_KXML_JAR_PATH = 0x20L;
+    private static final long INIT_BIT_GUAVA_JAR_PATH = 0x40L;
+    private static final long INIT_BIT_ANDROID_TOOLS_COMMON_JAR_PATH = 0x80L;
+    private static final long INIT_BIT_TEST_RUNNER_CLASSPATH = 0x100L;
+    private static final long OPT_BIT_DEBUG_ENABLED = 0x1L;
+    private static final long OPT_BIT_CODE_COVERAGE_ENABLED = 0x2L;
+    private long initBits = 0x1ffL;
+    private long optBits;
+
+    private @Nullable String pathToAdbExecutable;
+    private @Nullable Path directoryForTestResults;
+    private @Nullable String testPackage;
+    private @Nullable String testRunner;
+    private @Nullable String targetPackage;
+    private @Nullable String ddmlibJarPath;
+    private @Nullable String kxmlJarPath;
+    private @Nullable String guavaJarPath;
+    private boolean debugEnabled;
+    private boolean codeCoverageEnabled;
+    private @Nullable String androidToolsCommonJarPath;
+    private @Nullable String deviceSerial;
+    private @Nullable Path instrumentationApkPath;
+    private @Nullable Path apkUnderTestPath;
+    private @Nullable Path apkUnderTestExopackageLocalDir;
+    private @Nullable String testFilter;
+    private @Nullable Path exopackageLocalDir;
+    private @Nullable Path testRunnerClasspath;
+    private ImmutableMap.Builder<String, String> environmentOverrides = ImmutableMap.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AndroidInstrumentationTestJVMArgs} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AndroidInstrumentationTestJVMArgs instance) {
+      Objects.requireNonNull(instance, "instance");
+      setPathToAdbExecutable(instance.getPathToAdbExecutable());
+      Optional<Path> directoryForTestResultsOptional = instance.getDirectoryForTestResults();
+      if (directoryForTestResultsOptional.isPresent()) {
+        setDirectoryForTestResults(directoryForTestResultsOptional);
+      }
+      setTestPackage(instance.getTestPackage());
+      setTestRunner(instance.getTestRunner());
+      setTargetPackage(instance.getTargetPackage());
+      setDdmlibJarPath(instance.getDdmlibJarPath());
+      setKxmlJarPath(instance.getKxmlJarPath());
+      setGuavaJarPath(instance.getGuavaJarPath());
+      setDebugEnabled(instance.isDebugEnabled());
+      setCodeCoverageEnabled(instance.isCodeCoverageEnabled());
+      setAndroidToolsCommonJarPath(instance.getAndroidToolsCommonJarPath());
+      Optional<String> deviceSerialOptional = instance.getDeviceSerial();
+      if (deviceSerialOptional.isPresent()) {
+        setDeviceSerial(deviceSerialOptional);
+      }
+      Optional<Path> instrumentationApkPathOptional = instance.getInstrumentationApkPath();
+      if (instrumentationApkPathOptional.isPresent()) {
+        setInstrumentationApkPath(instrumentationApkPathOptional);
+      }
+      Optional<Path> apkUnderTestPathOptional = instance.getApkUnderTestPath();
+      if (apkUnderTestPathOptional.isPresent()) {
+        setApkUnderTestPath(apkUnderTestPathOptional);
+      }
+      Optional<Path> apkUnderTestExopackageLocalDirOptional = instance.getApkUnderTestExopackageLocalDir();
+      if (apkUnderTestExopackageLocalDirOptional.isPresent()) {
+        setApkUnderTestExopackageLocalDir(apkUnderTestExopackageLocalDirOptional);
+      }
+      Optional<String> testFilterOptional = instance.getTestFilter();
+      if (testFilterOptional.isPresent()) {
+        setTestFilter(testFilterOptional);
+      }
+      Optional<Path> exopackageLocalDirOptional = instance.getExopackageLocalDir();
+      if (exopackageLocalDirOptional.isPresent()) {
+        setExopackageLocalDir(exopackageLocalDirOptional);
+      }
+      setTestRunnerClasspath(instance.getTestRunnerClasspath());
+      putAllEnvironmentOverrides(instance.getEnvironmentOverrides());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidInstrumentationTestJVMArgs#getPathToAdbExecutable() pathToAdbExecutable} attribute.
+     * @param pathToAdbExecutable The value for pathToAdbExecutable 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPathToAdbExecutable(String pathToAdbExecutable) {
+      this.pathToAdbExecutable = Objects.requireNonNull(pathToAdbExecutable, "pathToAdbExecutable");
+      initBits &= ~INIT_BIT_PATH_TO_ADB_EXECUTABLE;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidInstrumentationTestJVMArgs#getDirectoryForTestResults() directoryForTestResults} to directoryForTestResults.
+     * @param directoryForTestResults The value for directoryForTestResults
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDirectoryForTestResults(Path directoryForTestResults) {
+      this.directoryForTestResults = Objects.requireNonNull(directoryForTestResults, "directoryForTestResults");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidInstrumentationTestJVMArgs#getDirectoryForTestResults() directoryForTestResults} to directoryForTestResults.
+     * @param directoryForTestResults The value for directoryForTestResults
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDirectoryForTestResults(Optional<? extends Path> directoryForTestResults) {
+      this.directoryForTestResults = directoryForTestResults.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidInstrumentationTestJVMArgs#getTestPackage() testPackage} attribute.
+     * @param testPackage The value for testPackage 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTestPackage(String testPackage) {
+      this.testPackage = Objects.requireNonNull(testPackage, "testPackage");
+      initBits &= ~INIT_BIT_TEST_PACKAGE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidInstrumentationTestJVMArgs#getTestRunner() testRunner} attribute.
+     * @param testRunner The value for testRunner 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTestRunner(String testRunner) {
+      this.testRunner = Objects.requireNonNull(testRunner, "testRunner");
+      initBits &= ~INIT_BIT_TEST_RUNNER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidInstrumentationTestJVMArgs#getTargetPackage() targetPackage} attribute.
+     * @param targetPackage The value for targetPackage 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTargetPackage(String targetPackage) {
+      this.targetPackage = Objects.requireNonNull(targetPackage, "targetPackage");
+      initBits &= ~INIT_BIT_TARGET_PACKAGE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidInstrumentationTestJVMArgs#getDdmlibJarPath() ddmlibJarPath} attribute.
+     * @param ddmlibJarPath The value for ddmlibJarPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDdmlibJarPath(String ddmlibJarPath) {
+      this.ddmlibJarPath = Objects.requireNonNull(ddmlibJarPath, "ddmlibJarPath");
+      initBits &= ~INIT_BIT_DDMLIB_JAR_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidInstrumentationTestJVMArgs#getKxmlJarPath() kxmlJarPath} attribute.
+     * @param kxmlJarPath The value for kxmlJarPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setKxmlJarPath(String kxmlJarPath) {
+      this.kxmlJarPath = Objects.requireNonNull(kxmlJarPath, "kxmlJarPath");
+      initBits &= ~INIT_BIT_KXML_JAR_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidInstrumentationTestJVMArgs#getGuavaJarPath() guavaJarPath} attribute.
+     * @param guavaJarPath The value for guavaJarPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setGuavaJarPath(String guavaJarPath) {
+      this.guavaJarPath = Objects.requireNonNull(guavaJarPath, "guavaJarPath");
+      initBits &= ~INIT_BIT_GUAVA_JAR_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidInstrumentationTestJVMArgs#isDebugEnabled() debugEnabled} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidInstrumentationTestJVMArgs#isDebugEnabled() debugEnabled}.</em>
+     * @param debugEnabled The value for debugEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDebugEnabled(boolean debugEnabled) {
+      this.debugEnabled = debugEnabled;
+      optBits |= OPT_BIT_DEBUG_ENABLED;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidInstrumentationTestJVMArgs#isCodeCoverageEnabled() codeCoverageEnabled} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidInstrumentationTestJVMArgs#isCodeCoverageEnabled() codeCoverageEnabled}.</em>
+     * @param codeCoverageEnabled The value for codeCoverageEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCodeCoverageEnabled(boolean codeCoverageEnabled) {
+      this.codeCoverageEnabled = codeCoverageEnabled;
+      optBits |= OPT_BIT_CODE_COVERAGE_ENABLED;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidInstrumentationTestJVMArgs#getAndroidToolsCommonJarPath() androidToolsCommonJarPath} attribute.
+     * @param androidToolsCommonJarPath The value for androidToolsCommonJarPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAndroidToolsCommonJarPath(String androidToolsCommonJarPath) {
+      this.androidToolsCommonJarPath = Objects.requireNonNull(androidToolsCommonJarPath, "androidToolsCommonJarPath");
+      initBits &= ~INIT_BIT_ANDROID_TOOLS_COMMON_JAR_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidInstrumentationTestJVMArgs#getDeviceSerial() deviceSerial} to deviceSerial.
+     * @param deviceSerial The value for deviceSerial
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDeviceSerial(String deviceSerial) {
+      this.deviceSerial = Objects.requireNonNull(deviceSerial, "deviceSerial");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidInstrumentationTestJVMArgs#getDeviceSerial() deviceSerial} to deviceSerial.
+     * @param deviceSerial The value for deviceSerial
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDeviceSerial(Optional<String> deviceSerial) {
+      this.deviceSerial = deviceSerial.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidInstrumentationTestJVMArgs#getInstrumentationApkPath() instrumentationApkPath} to instrumentationApkPath.
+     * @param instrumentationApkPath The value for instrumentationApkPath
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setInstrumentationApkPath(Path instrumentationApkPath) {
+      this.instrumentationApkPath = Objects.requireNonNull(instrumentationApkPath, "instrumentationApkPath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidInstrumentationTestJVMArgs#getInstrumentationApkPath() instrumentationApkPath} to instrumentationApkPath.
+     * @param instrumentationApkPath The value for instrumentationApkPath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setInstrumentationApkPath(Optional<? extends Path> instrumentationApkPath) {
+      this.instrumentationApkPath = instrumentationApkPath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidInstrumentationTestJVMArgs#getApkUnderTestPath() apkUnderTestPath} to apkUnderTestPath.
+     * @param apkUnderTestPath The value for apkUnderTestPath
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setApkUnderTestPath(Path apkUnderTestPath) {
+      this.apkUnderTestPath = Objects.requireNonNull(apkUnderTestPath, "apkUnderTestPath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidInstrumentationTestJVMArgs#getApkUnderTestPath() apkUnderTestPath} to apkUnderTestPath.
+     * @param apkUnderTestPath The value for apkUnderTestPath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setApkUnderTestPath(Optional<? extends Path> apkUnderTestPath) {
+      this.apkUnderTestPath = apkUnderTestPath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidInstrumentationTestJVMArgs#getApkUnderTestExopackageLocalDir() apkUnderTestExopackageLocalDir} to apkUnderTestExopackageLocalDir.
+     * @param apkUnderTestExopackageLocalDir The value for apkUnderTestExopackageLocalDir
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setApkUnderTestExopackageLocalDir(Path apkUnderTestExopackageLocalDir) {
+      this.apkUnderTestExopackageLocalDir = Objects.requireNonNull(apkUnderTestExopackageLocalDir, "apkUnderTestExopackageLocalDir");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidInstrumentationTestJVMArgs#getApkUnderTestExopackageLocalDir() apkUnderTestExopackageLocalDir} to apkUnderTestExopackageLocalDir.
+     * @param apkUnderTestExopackageLocalDir The value for apkUnderTestExopackageLocalDir
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setApkUnderTestExopackageLocalDir(Optional<? extends Path> apkUnderTestExopackageLocalDir) {
+      this.apkUnderTestExopackageLocalDir = apkUnderTestExopackageLocalDir.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidInstrumentationTestJVMArgs#getTestFilter() testFilter} to testFilter.
+     * @param testFilter The value for testFilter
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTestFilter(String testFilter) {
+      this.testFilter = Objects.requireNonNull(testFilter, "testFilter");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidInstrumentationTestJVMArgs#getTestFilter() testFilter} to testFilter.
+     * @param testFilter The value for testFilter
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTestFilter(Optional<String> testFilter) {
+      this.testFilter = testFilter.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidInstrumentationTestJVMArgs#getExopackageLocalDir() exopackageLocalDir} to exopackageLocalDir.
+     * @param exopackageLocalDir The value for exopackageLocalDir
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExopackageLocalDir(Path exopackageLocalDir) {
+      this.exopackageLocalDir = Objects.requireNonNull(exopackageLocalDir, "exopackageLocalDir");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidInstrumentationTestJVMArgs#getExopackageLocalDir() exopackageLocalDir} to exopackageLocalDir.
+     * @param exopackageLocalDir The value for exopackageLocalDir
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExopackageLocalDir(Optional<? extends Path> exopackageLocalDir) {
+      this.exopackageLocalDir = exopackageLocalDir.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidInstrumentationTestJVMArgs#getTestRunnerClasspath() testRunnerClasspath} attribute.
+     * @param testRunnerClasspath The value for testRunnerClasspath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTestRunnerClasspath(Path testRunnerClasspath) {
+      this.testRunnerClasspath = Objects.requireNonNull(testRunnerClasspath, "testRunnerClasspath");
+      initBits &= ~INIT_BIT_TEST_RUNNER_CLASSPATH;
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidInstrumentationTestJVMArgs#getEnvironmentOverrides() environmentOverrides} map.
+     * @param key The key in the environmentOverrides map
+     * @param value The associated value in the environmentOverrides map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putEnvironmentOverrides(String key, String value) {
+      this.environmentOverrides.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidInstrumentationTestJVMArgs#getEnvironmentOverrides() environmentOverrides} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putEnvironmentOverrides(Map.Entry<String, ? extends String> entry) {
+      this.environmentOverrides.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AndroidInstrumentationTestJVMArgs#getEnvironmentOverrides() environmentOverrides} map. Nulls are not permitted
+     * @param entries The entries that will be added to the environmentOverrides map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setEnvironmentOverrides(Map<String, ? extends String> entries) {
+      this.environmentOverrides = ImmutableMap.builder();
+      return putAllEnvironmentOverrides(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AndroidInstrumentationTestJVMArgs#getEnvironmentOverrides() environmentOverrides} map. Nulls are not permitted
+     * @param entries The entries that will be added to the environmentOverrides map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllEnvironmentOverrides(Map<String, ? extends String> entries) {
+      this.environmentOverrides.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AndroidInstrumentationTestJVMArgs AndroidInstrumentationTestJVMArgs}.
+     * @return An immutable instance of AndroidInstrumentationTestJVMArgs
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AndroidInstrumentationTestJVMArgs build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ImmutableAndroidInstrumentationTestJVMArgs(this);
+    }
+
+    private boolean debugEnabledIsSet() {
+      return (optBits & OPT_BIT_DEBUG_ENABLED) != 0;
+    }
+
+    private boolean codeCoverageEnabledIsSet() {
+      return (optBits & OPT_BIT_CODE_COVERAGE_ENABLED) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_PATH_TO_ADB_EXECUTABLE) != 0) attributes.add("pathToAdbExecutable");
+      if ((initBits & INIT_BIT_TEST_PACKAGE) != 0) attributes.add("testPackage");
+      if ((initBits & INIT_BIT_TEST_RUNNER) != 0) attributes.add("testRunner");
+      if ((initBits & INIT_BIT_TARGET_PACKAGE) != 0) attributes.add("targetPackage");
+      if ((initBits & INIT_BIT_DDMLIB_JAR_PATH) != 0) attributes.add("ddmlibJarPath");
+      if ((initBits & INIT_BIT_KXML_JAR_PATH) != 0) attributes.add("kxmlJarPath");
+      if ((initBits & INIT_BIT_GUAVA_JAR_PATH) != 0) attributes.add("guavaJarPath");
+      if ((initBits & INIT_BIT_ANDROID_TOOLS_COMMON_JAR_PATH) != 0) attributes.add("androidToolsCommonJarPath");
+      if ((initBits & INIT_BIT_TEST_RUNNER_CLASSPATH) != 0) attributes.add("testRunnerClasspath");
+      return "Cannot build AndroidInstrumentationTestJVMArgs, some of required attributes are not set " + attributes;
+    }
+  }
+}
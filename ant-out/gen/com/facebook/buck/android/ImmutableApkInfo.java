@@ -0,0 +1,120 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.android.exopackage.ExopackageInfo;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link HasInstallableApk.ApkInfo}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableApkInfo.of()}.
+ */
+@Generated(from = "HasInstallableApk.ApkInfo", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableApkInfo extends HasInstallableApk.ApkInfo {
+  private final SourcePath manifestPath;
+  private final SourcePath apkPath;
+  private final @Nullable ExopackageInfo exopackageInfo;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableApkInfo(
+      SourcePath manifestPath,
+      SourcePath apkPath,
+      Optional<? extends ExopackageInfo> exopackageInfo) {
+    this.manifestPath = Objects.requireNonNull(manifestPath, "manifestPath");
+    this.apkPath = Objects.requireNonNull(apkPath, "apkPath");
+    this.exopackageInfo = exopackageInfo.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code manifestPath} attribute
+   */
+  @Override
+  public SourcePath getManifestPath() {
+    return manifestPath;
+  }
+
+  /**
+   * @return The value of the {@code apkPath} attribute
+   */
+  @Override
+  public SourcePath getApkPath() {
+    return apkPath;
+  }
+
+  /**
+   * @return The value of the {@code exopackageInfo} attribute
+   */
+  @Override
+  public Optional<ExopackageInfo> getExopackageInfo() {
+    return Optional.ofNullable(exopackageInfo);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableApkInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableApkInfo
+        && equalTo((ImmutableApkInfo) another);
+  }
+
+  private boolean equalTo(ImmutableApkInfo another) {
+    return manifestPath.equals(another.manifestPath)
+        && apkPath.equals(another.apkPath)
+        && Objects.equals(exopackageInfo, another.exopackageInfo);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code manifestPath}, {@code apkPath}, {@code exopackageInfo}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + manifestPath.hashCode();
+    h += (h << 5) + apkPath.hashCode();
+    h += (h << 5) + Objects.hashCode(exopackageInfo);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ApkInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ApkInfo")
+        .omitNullValues()
+        .add("manifestPath", manifestPath)
+        .add("apkPath", apkPath)
+        .add("exopackageInfo", exopackageInfo)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ApkInfo} instance.
+   * @param manifestPath The value for the {@code manifestPath} attribute
+   * @param apkPath The value for the {@code apkPath} attribute
+   * @param exopackageInfo The value for the {@code exopackageInfo} attribute
+   * @return An immutable ApkInfo instance
+   */
+  public static ImmutableApkInfo of(SourcePath manifestPath, SourcePath apkPath, Optional<? extends ExopackageInfo> exopackageInfo) {
+    return new ImmutableApkInfo(manifestPath, apkPath, exopackageInfo);
+  }
+}
@@ -0,0 +1,135 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.android.apkmodule.APKModule;
+import com.facebook.buck.android.toolchain.ndk.TargetCpuType;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CopyNativeLibraries.StrippedObjectDescription}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableStrippedObjectDescription.of()}.
+ */
+@Generated(from = "CopyNativeLibraries.StrippedObjectDescription", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableStrippedObjectDescription
+    extends CopyNativeLibraries.StrippedObjectDescription {
+  private final SourcePath sourcePath;
+  private final String strippedObjectName;
+  private final TargetCpuType targetCpuType;
+  private final APKModule apkModule;
+
+  private ImmutableStrippedObjectDescription(
+      SourcePath sourcePath,
+      String strippedObjectName,
+      TargetCpuType targetCpuType,
+      APKModule apkModule) {
+    this.sourcePath = Objects.requireNonNull(sourcePath, "sourcePath");
+    this.strippedObjectName = Objects.requireNonNull(strippedObjectName, "strippedObjectName");
+    this.targetCpuType = Objects.requireNonNull(targetCpuType, "targetCpuType");
+    this.apkModule = Objects.requireNonNull(apkModule, "apkModule");
+  }
+
+  /**
+   * @return The value of the {@code sourcePath} attribute
+   */
+  @Override
+  public SourcePath getSourcePath() {
+    return sourcePath;
+  }
+
+  /**
+   * @return The value of the {@code strippedObjectName} attribute
+   */
+  @Override
+  public String getStrippedObjectName() {
+    return strippedObjectName;
+  }
+
+  /**
+   * @return The value of the {@code targetCpuType} attribute
+   */
+  @Override
+  public TargetCpuType getTargetCpuType() {
+    return targetCpuType;
+  }
+
+  /**
+   * @return The value of the {@code apkModule} attribute
+   */
+  @Override
+  public APKModule getApkModule() {
+    return apkModule;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableStrippedObjectDescription} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableStrippedObjectDescription
+        && equalTo((ImmutableStrippedObjectDescription) another);
+  }
+
+  private boolean equalTo(ImmutableStrippedObjectDescription another) {
+    return sourcePath.equals(another.sourcePath)
+        && strippedObjectName.equals(another.strippedObjectName)
+        && targetCpuType.equals(another.targetCpuType)
+        && apkModule.equals(another.apkModule);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code sourcePath}, {@code strippedObjectName}, {@code targetCpuType}, {@code apkModule}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + sourcePath.hashCode();
+    h += (h << 5) + strippedObjectName.hashCode();
+    h += (h << 5) + targetCpuType.hashCode();
+    h += (h << 5) + apkModule.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code StrippedObjectDescription} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("StrippedObjectDescription")
+        .omitNullValues()
+        .add("sourcePath", sourcePath)
+        .add("strippedObjectName", strippedObjectName)
+        .add("targetCpuType", targetCpuType)
+        .add("apkModule", apkModule)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code StrippedObjectDescription} instance.
+   * @param sourcePath The value for the {@code sourcePath} attribute
+   * @param strippedObjectName The value for the {@code strippedObjectName} attribute
+   * @param targetCpuType The value for the {@code targetCpuType} attribute
+   * @param apkModule The value for the {@code apkModule} attribute
+   * @return An immutable StrippedObjectDescription instance
+   */
+  public static ImmutableStrippedObjectDescription of(SourcePath sourcePath, String strippedObjectName, TargetCpuType targetCpuType, APKModule apkModule) {
+    return new ImmutableStrippedObjectDescription(sourcePath, strippedObjectName, targetCpuType, apkModule);
+  }
+}
@@ -0,0 +1,103 @@
+package com.facebook.buck.android.exopackage;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ExopackagePathAndHash}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableExopackagePathAndHash.of()}.
+ */
+@Generated(from = "ExopackagePathAndHash", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableExopackagePathAndHash
+    implements ExopackagePathAndHash {
+  private final SourcePath path;
+  private final SourcePath hashPath;
+
+  private ImmutableExopackagePathAndHash(
+      SourcePath path,
+      SourcePath hashPath) {
+    this.path = Objects.requireNonNull(path, "path");
+    this.hashPath = Objects.requireNonNull(hashPath, "hashPath");
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  public SourcePath getPath() {
+    return path;
+  }
+
+  /**
+   * @return The value of the {@code hashPath} attribute
+   */
+  @Override
+  public SourcePath getHashPath() {
+    return hashPath;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableExopackagePathAndHash} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableExopackagePathAndHash
+        && equalTo((ImmutableExopackagePathAndHash) another);
+  }
+
+  private boolean equalTo(ImmutableExopackagePathAndHash another) {
+    return path.equals(another.path)
+        && hashPath.equals(another.hashPath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code path}, {@code hashPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + path.hashCode();
+    h += (h << 5) + hashPath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ExopackagePathAndHash} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ExopackagePathAndHash")
+        .omitNullValues()
+        .add("path", path)
+        .add("hashPath", hashPath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ExopackagePathAndHash} instance.
+   * @param path The value for the {@code path} attribute
+   * @param hashPath The value for the {@code hashPath} attribute
+   * @return An immutable ExopackagePathAndHash instance
+   */
+  public static ImmutableExopackagePathAndHash of(SourcePath path, SourcePath hashPath) {
+    return new ImmutableExopackagePathAndHash(path, hashPath);
+  }
+}
@@ -0,0 +1,103 @@
+package com.facebook.buck.android.exopackage;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ExopackageInfo.NativeLibsInfo}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableNativeLibsInfo.of()}.
+ */
+@Generated(from = "ExopackageInfo.NativeLibsInfo", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableNativeLibsInfo
+    implements ExopackageInfo.NativeLibsInfo {
+  private final SourcePath metadata;
+  private final SourcePath directory;
+
+  private ImmutableNativeLibsInfo(
+      SourcePath metadata,
+      SourcePath directory) {
+    this.metadata = Objects.requireNonNull(metadata, "metadata");
+    this.directory = Objects.requireNonNull(directory, "directory");
+  }
+
+  /**
+   * @return The value of the {@code metadata} attribute
+   */
+  @Override
+  public SourcePath getMetadata() {
+    return metadata;
+  }
+
+  /**
+   * @return The value of the {@code directory} attribute
+   */
+  @Override
+  public SourcePath getDirectory() {
+    return directory;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableNativeLibsInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableNativeLibsInfo
+        && equalTo((ImmutableNativeLibsInfo) another);
+  }
+
+  private boolean equalTo(ImmutableNativeLibsInfo another) {
+    return metadata.equals(another.metadata)
+        && directory.equals(another.directory);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code metadata}, {@code directory}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + metadata.hashCode();
+    h += (h << 5) + directory.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NativeLibsInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NativeLibsInfo")
+        .omitNullValues()
+        .add("metadata", metadata)
+        .add("directory", directory)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code NativeLibsInfo} instance.
+   * @param metadata The value for the {@code metadata} attribute
+   * @param directory The value for the {@code directory} attribute
+   * @return An immutable NativeLibsInfo instance
+   */
+  public static ImmutableNativeLibsInfo of(SourcePath metadata, SourcePath directory) {
+    return new ImmutableNativeLibsInfo(metadata, directory);
+  }
+}
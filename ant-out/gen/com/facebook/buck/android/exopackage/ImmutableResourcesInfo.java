@@ -0,0 +1,95 @@
+package com.facebook.buck.android.exopackage;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ExopackageInfo.ResourcesInfo}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableResourcesInfo.of()}.
+ */
+@Generated(from = "ExopackageInfo.ResourcesInfo", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableResourcesInfo
+    implements ExopackageInfo.ResourcesInfo {
+  private final ImmutableList<ExopackagePathAndHash> resourcesPaths;
+
+  private ImmutableResourcesInfo(Iterable<? extends ExopackagePathAndHash> resourcesPaths) {
+    this.resourcesPaths = ImmutableList.copyOf(resourcesPaths);
+  }
+
+  /**
+   * @return The value of the {@code resourcesPaths} attribute
+   */
+  @Override
+  public ImmutableList<ExopackagePathAndHash> getResourcesPaths() {
+    return resourcesPaths;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableResourcesInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableResourcesInfo
+        && equalTo((ImmutableResourcesInfo) another);
+  }
+
+  private boolean equalTo(ImmutableResourcesInfo another) {
+    return resourcesPaths.equals(another.resourcesPaths);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code resourcesPaths}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + resourcesPaths.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ResourcesInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ResourcesInfo")
+        .omitNullValues()
+        .add("resourcesPaths", resourcesPaths)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ResourcesInfo} instance.
+   * @param resourcesPaths The value for the {@code resourcesPaths} attribute
+   * @return An immutable ResourcesInfo instance
+   */
+  public static ImmutableResourcesInfo of(ImmutableList<ExopackagePathAndHash> resourcesPaths) {
+    return of((Iterable<? extends ExopackagePathAndHash>) resourcesPaths);
+  }
+
+  /**
+   * Construct a new immutable {@code ResourcesInfo} instance.
+   * @param resourcesPaths The value for the {@code resourcesPaths} attribute
+   * @return An immutable ResourcesInfo instance
+   */
+  public static ImmutableResourcesInfo of(Iterable<? extends ExopackagePathAndHash> resourcesPaths) {
+    return new ImmutableResourcesInfo(resourcesPaths);
+  }
+}
@@ -0,0 +1,206 @@
+package com.facebook.buck.android.toolchain;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AndroidBuildToolsLocation}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableAndroidBuildToolsLocation.of()}.
+ */
+@Generated(from = "AndroidBuildToolsLocation", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableAndroidBuildToolsLocation
+    implements AndroidBuildToolsLocation {
+  private final Path buildToolsPath;
+  private transient final Path buildToolsBinPath;
+  private transient final Path aaptPath;
+  private transient final Path aapt2Path;
+
+  private ImmutableAndroidBuildToolsLocation(Path buildToolsPath) {
+    this.buildToolsPath = Objects.requireNonNull(buildToolsPath, "buildToolsPath");
+    this.buildToolsBinPath = initShim.getBuildToolsBinPath();
+    this.aaptPath = initShim.getAaptPath();
+    this.aapt2Path = initShim.getAapt2Path();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "AndroidBuildToolsLocation", generator = "Immutables")
+  private final class InitShim {
+    private byte buildToolsBinPathBuildStage = STAGE_UNINITIALIZED;
+    private Path buildToolsBinPath;
+
+    Path getBuildToolsBinPath() {
+      if (buildToolsBinPathBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (buildToolsBinPathBuildStage == STAGE_UNINITIALIZED) {
+        buildToolsBinPathBuildStage = STAGE_INITIALIZING;
+        this.buildToolsBinPath = Objects.requireNonNull(getBuildToolsBinPathInitialize(), "buildToolsBinPath");
+        buildToolsBinPathBuildStage = STAGE_INITIALIZED;
+      }
+      return this.buildToolsBinPath;
+    }
+
+    private byte aaptPathBuildStage = STAGE_UNINITIALIZED;
+    private Path aaptPath;
+
+    Path getAaptPath() {
+      if (aaptPathBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (aaptPathBuildStage == STAGE_UNINITIALIZED) {
+        aaptPathBuildStage = STAGE_INITIALIZING;
+        this.aaptPath = Objects.requireNonNull(getAaptPathInitialize(), "aaptPath");
+        aaptPathBuildStage = STAGE_INITIALIZED;
+      }
+      return this.aaptPath;
+    }
+
+    private byte aapt2PathBuildStage = STAGE_UNINITIALIZED;
+    private Path aapt2Path;
+
+    Path getAapt2Path() {
+      if (aapt2PathBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (aapt2PathBuildStage == STAGE_UNINITIALIZED) {
+        aapt2PathBuildStage = STAGE_INITIALIZING;
+        this.aapt2Path = Objects.requireNonNull(getAapt2PathInitialize(), "aapt2Path");
+        aapt2PathBuildStage = STAGE_INITIALIZED;
+      }
+      return this.aapt2Path;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (buildToolsBinPathBuildStage == STAGE_INITIALIZING) attributes.add("buildToolsBinPath");
+      if (aaptPathBuildStage == STAGE_INITIALIZING) attributes.add("aaptPath");
+      if (aapt2PathBuildStage == STAGE_INITIALIZING) attributes.add("aapt2Path");
+      return "Cannot build AndroidBuildToolsLocation, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  private Path getBuildToolsBinPathInitialize() {
+    return AndroidBuildToolsLocation.super.getBuildToolsBinPath();
+  }
+
+  private Path getAaptPathInitialize() {
+    return AndroidBuildToolsLocation.super.getAaptPath();
+  }
+
+  private Path getAapt2PathInitialize() {
+    return AndroidBuildToolsLocation.super.getAapt2Path();
+  }
+
+  /**
+   * @return The value of the {@code buildToolsPath} attribute
+   */
+  @Override
+  public Path getBuildToolsPath() {
+    return buildToolsPath;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code buildToolsBinPath} attribute
+   */
+  @Override
+  public Path getBuildToolsBinPath() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getBuildToolsBinPath()
+        : this.buildToolsBinPath;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code aaptPath} attribute
+   */
+  @Override
+  public Path getAaptPath() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getAaptPath()
+        : this.aaptPath;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code aapt2Path} attribute
+   */
+  @Override
+  public Path getAapt2Path() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getAapt2Path()
+        : this.aapt2Path;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableAndroidBuildToolsLocation} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableAndroidBuildToolsLocation
+        && equalTo((ImmutableAndroidBuildToolsLocation) another);
+  }
+
+  private boolean equalTo(ImmutableAndroidBuildToolsLocation another) {
+    return buildToolsPath.equals(another.buildToolsPath)
+        && buildToolsBinPath.equals(another.buildToolsBinPath)
+        && aaptPath.equals(another.aaptPath)
+        && aapt2Path.equals(another.aapt2Path);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildToolsPath}, {@code buildToolsBinPath}, {@code aaptPath}, {@code aapt2Path}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buildToolsPath.hashCode();
+    h += (h << 5) + buildToolsBinPath.hashCode();
+    h += (h << 5) + aaptPath.hashCode();
+    h += (h << 5) + aapt2Path.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidBuildToolsLocation} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidBuildToolsLocation")
+        .omitNullValues()
+        .add("buildToolsPath", buildToolsPath)
+        .add("buildToolsBinPath", buildToolsBinPath)
+        .add("aaptPath", aaptPath)
+        .add("aapt2Path", aapt2Path)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code AndroidBuildToolsLocation} instance.
+   * @param buildToolsPath The value for the {@code buildToolsPath} attribute
+   * @return An immutable AndroidBuildToolsLocation instance
+   */
+  public static ImmutableAndroidBuildToolsLocation of(Path buildToolsPath) {
+    return new ImmutableAndroidBuildToolsLocation(buildToolsPath);
+  }
+}
@@ -0,0 +1,159 @@
+package com.facebook.buck.android.toolchain.ndk;
+
+import com.facebook.buck.io.ExecutableFinder;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AndroidNdk}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableAndroidNdk.of()}.
+ */
+@Generated(from = "AndroidNdk", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableAndroidNdk extends AndroidNdk {
+  private final String ndkVersion;
+  private final Path ndkRootPath;
+  private final boolean shouldEscapeCFlagsInDoubleQuotes;
+  private final ExecutableFinder executableFinder;
+
+  private ImmutableAndroidNdk(
+      String ndkVersion,
+      Path ndkRootPath,
+      boolean shouldEscapeCFlagsInDoubleQuotes,
+      ExecutableFinder executableFinder) {
+    this.ndkVersion = Objects.requireNonNull(ndkVersion, "ndkVersion");
+    this.ndkRootPath = Objects.requireNonNull(ndkRootPath, "ndkRootPath");
+    this.shouldEscapeCFlagsInDoubleQuotes = shouldEscapeCFlagsInDoubleQuotes;
+    this.executableFinder = Objects.requireNonNull(executableFinder, "executableFinder");
+  }
+
+  /**
+   * @return The value of the {@code ndkVersion} attribute
+   */
+  @Override
+  public String getNdkVersion() {
+    return ndkVersion;
+  }
+
+  /**
+   * @return The value of the {@code ndkRootPath} attribute
+   */
+  @Override
+  public Path getNdkRootPath() {
+    return ndkRootPath;
+  }
+
+  /**
+   * @return The value of the {@code shouldEscapeCFlagsInDoubleQuotes} attribute
+   */
+  @Override
+  public boolean shouldEscapeCFlagsInDoubleQuotes() {
+    return shouldEscapeCFlagsInDoubleQuotes;
+  }
+
+  /**
+   * @return The value of the {@code executableFinder} attribute
+   */
+  @Override
+  protected ExecutableFinder getExecutableFinder() {
+    return executableFinder;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableAndroidNdk} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableAndroidNdk
+        && equalTo((ImmutableAndroidNdk) another);
+  }
+
+  private boolean equalTo(ImmutableAndroidNdk another) {
+    return ndkVersion.equals(another.ndkVersion)
+        && ndkRootPath.equals(another.ndkRootPath)
+        && shouldEscapeCFlagsInDoubleQuotes == another.shouldEscapeCFlagsInDoubleQuotes;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code ndkVersion}, {@code ndkRootPath}, {@code shouldEscapeCFlagsInDoubleQuotes}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + ndkVersion.hashCode();
+    h += (h << 5) + ndkRootPath.hashCode();
+    h += (h << 5) + Booleans.hashCode(shouldEscapeCFlagsInDoubleQuotes);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidNdk} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidNdk")
+        .omitNullValues()
+        .add("ndkVersion", ndkVersion)
+        .add("ndkRootPath", ndkRootPath)
+        .add("shouldEscapeCFlagsInDoubleQuotes", shouldEscapeCFlagsInDoubleQuotes)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long NDK_BUILD_EXECUTABLE_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient Path ndkBuildExecutable;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AndroidNdk#getNdkBuildExecutable() ndkBuildExecutable} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code ndkBuildExecutable} attribute
+   */
+  @Override
+  public Path getNdkBuildExecutable() {
+    if ((lazyInitBitmap & NDK_BUILD_EXECUTABLE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & NDK_BUILD_EXECUTABLE_LAZY_INIT_BIT) == 0) {
+          this.ndkBuildExecutable = Objects.requireNonNull(super.getNdkBuildExecutable(), "ndkBuildExecutable");
+          lazyInitBitmap |= NDK_BUILD_EXECUTABLE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return ndkBuildExecutable;
+  }
+
+  /**
+   * Construct a new immutable {@code AndroidNdk} instance.
+   * @param ndkVersion The value for the {@code ndkVersion} attribute
+   * @param ndkRootPath The value for the {@code ndkRootPath} attribute
+   * @param shouldEscapeCFlagsInDoubleQuotes The value for the {@code shouldEscapeCFlagsInDoubleQuotes} attribute
+   * @param executableFinder The value for the {@code executableFinder} attribute
+   * @return An immutable AndroidNdk instance
+   */
+  public static ImmutableAndroidNdk of(String ndkVersion, Path ndkRootPath, boolean shouldEscapeCFlagsInDoubleQuotes, ExecutableFinder executableFinder) {
+    return new ImmutableAndroidNdk(ndkVersion, ndkRootPath, shouldEscapeCFlagsInDoubleQuotes, executableFinder);
+  }
+}
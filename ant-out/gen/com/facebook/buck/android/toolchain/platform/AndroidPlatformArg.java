@@ -0,0 +1,278 @@
+package com.facebook.buck.android.toolchain.platform;
+
+import com.facebook.buck.android.toolchain.ndk.TargetCpuType;
+import com.facebook.buck.core.description.arg.ConstructorArg;
+import com.facebook.buck.core.model.UnconfiguredBuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AndroidPlatformDescription.AbstractAndroidPlatformArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AndroidPlatformArg.builder()}.
+ */
+@Generated(from = "AndroidPlatformDescription.AbstractAndroidPlatformArg", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class AndroidPlatformArg
+    implements AndroidPlatformDescription.AbstractAndroidPlatformArg {
+  private final UnconfiguredBuildTarget basePlatform;
+  private final ImmutableSortedMap<TargetCpuType, UnconfiguredBuildTarget> nativePlatforms;
+  private final String name;
+
+  private AndroidPlatformArg(AndroidPlatformArg.Builder builder) {
+    this.basePlatform = builder.basePlatform;
+    this.nativePlatforms = builder.nativePlatforms.build();
+    this.name = builder.name;
+  }
+
+  /**
+   * @return The value of the {@code basePlatform} attribute
+   */
+  @Override
+  public UnconfiguredBuildTarget getBasePlatform() {
+    return basePlatform;
+  }
+
+  /**
+   * @return The value of the {@code nativePlatforms} attribute
+   */
+  @Override
+  public ImmutableSortedMap<TargetCpuType, UnconfiguredBuildTarget> getNativePlatforms() {
+    return nativePlatforms;
+  }
+
+  /**
+   *Each rule has a name 
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AndroidPlatformArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AndroidPlatformArg
+        && equalTo((AndroidPlatformArg) another);
+  }
+
+  private boolean equalTo(AndroidPlatformArg another) {
+    return basePlatform.equals(another.basePlatform)
+        && nativePlatforms.equals(another.nativePlatforms)
+        && name.equals(another.name);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code basePlatform}, {@code nativePlatforms}, {@code name}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + basePlatform.hashCode();
+    h += (h << 5) + nativePlatforms.hashCode();
+    h += (h << 5) + name.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidPlatformArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidPlatformArg")
+        .omitNullValues()
+        .add("basePlatform", basePlatform)
+        .add("nativePlatforms", nativePlatforms)
+        .add("name", name)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link AndroidPlatformArg AndroidPlatformArg}.
+   * @return A new AndroidPlatformArg builder
+   */
+  public static AndroidPlatformArg.Builder builder() {
+    return new AndroidPlatformArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AndroidPlatformArg AndroidPlatformArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AndroidPlatformDescription.AbstractAndroidPlatformArg", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_BASE_PLATFORM = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable UnconfiguredBuildTarget basePlatform;
+    private ImmutableSortedMap.Builder<TargetCpuType, UnconfiguredBuildTarget> nativePlatforms = ImmutableSortedMap.naturalOrder();
+    private @Nullable String name;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AndroidPlatformArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AndroidPlatformArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAndroidPlatformArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AndroidPlatformDescription.AbstractAndroidPlatformArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.ConstructorArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(ConstructorArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof AndroidPlatformDescription.AbstractAndroidPlatformArg) {
+        AndroidPlatformDescription.AbstractAndroidPlatformArg instance = (AndroidPlatformDescription.AbstractAndroidPlatformArg) object;
+        setBasePlatform(instance.getBasePlatform());
+        putAllNativePlatforms(instance.getNativePlatforms());
+      }
+      if (object instanceof ConstructorArg) {
+        ConstructorArg instance = (ConstructorArg) object;
+        setName(instance.getName());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidPlatformArg#getBasePlatform() basePlatform} attribute.
+     * @param basePlatform The value for basePlatform 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBasePlatform(UnconfiguredBuildTarget basePlatform) {
+      this.basePlatform = Objects.requireNonNull(basePlatform, "basePlatform");
+      initBits &= ~INIT_BIT_BASE_PLATFORM;
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidPlatformArg#getNativePlatforms() nativePlatforms} map.
+     * @param key The key in the nativePlatforms map
+     * @param value The associated value in the nativePlatforms map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putNativePlatforms(TargetCpuType key, UnconfiguredBuildTarget value) {
+      this.nativePlatforms.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidPlatformArg#getNativePlatforms() nativePlatforms} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putNativePlatforms(Map.Entry<? extends TargetCpuType, ? extends UnconfiguredBuildTarget> entry) {
+      this.nativePlatforms.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AndroidPlatformArg#getNativePlatforms() nativePlatforms} map. Nulls are not permitted
+     * @param entries The entries that will be added to the nativePlatforms map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNativePlatforms(Map<? extends TargetCpuType, ? extends UnconfiguredBuildTarget> entries) {
+      this.nativePlatforms = ImmutableSortedMap.naturalOrder();
+      return putAllNativePlatforms(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AndroidPlatformArg#getNativePlatforms() nativePlatforms} map. Nulls are not permitted
+     * @param entries The entries that will be added to the nativePlatforms map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllNativePlatforms(Map<? extends TargetCpuType, ? extends UnconfiguredBuildTarget> entries) {
+      this.nativePlatforms.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidPlatformArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AndroidPlatformArg AndroidPlatformArg}.
+     * @return An immutable instance of AndroidPlatformArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AndroidPlatformArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AndroidPlatformArg(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_BASE_PLATFORM) != 0) attributes.add("basePlatform");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build AndroidPlatformArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
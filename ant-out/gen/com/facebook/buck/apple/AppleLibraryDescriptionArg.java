@@ -0,0 +1,4736 @@
+package com.facebook.buck.apple;
+
+import com.facebook.buck.apple.clang.ModuleMapMode;
+import com.facebook.buck.core.description.arg.BuildRuleArg;
+import com.facebook.buck.core.description.arg.ConstructorArg;
+import com.facebook.buck.core.description.arg.HasContacts;
+import com.facebook.buck.core.description.arg.HasDeclaredDeps;
+import com.facebook.buck.core.description.arg.HasDefaultPlatform;
+import com.facebook.buck.core.description.arg.HasTests;
+import com.facebook.buck.core.linkgroup.CxxLinkGroupMapping;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.Flavor;
+import com.facebook.buck.core.model.UnconfiguredBuildTarget;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.core.sourcepath.SourceWithFlags;
+import com.facebook.buck.cxx.CxxConstructorArg;
+import com.facebook.buck.cxx.CxxDeps;
+import com.facebook.buck.cxx.CxxLibraryDescription;
+import com.facebook.buck.cxx.CxxPreprocessables;
+import com.facebook.buck.cxx.CxxSource;
+import com.facebook.buck.cxx.LinkableCxxConstructorArg;
+import com.facebook.buck.cxx.toolchain.HasSystemFrameworkAndLibraries;
+import com.facebook.buck.cxx.toolchain.linker.Linker;
+import com.facebook.buck.cxx.toolchain.nativelink.NativeLinkableGroup;
+import com.facebook.buck.rules.coercer.FrameworkPath;
+import com.facebook.buck.rules.coercer.PatternMatchedCollection;
+import com.facebook.buck.rules.coercer.SourceSortedSet;
+import com.facebook.buck.rules.macros.StringWithMacros;
+import com.facebook.buck.swift.SwiftCommonArg;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Maps;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AppleLibraryDescription.AbstractAppleLibraryDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AppleLibraryDescriptionArg.builder()}.
+ */
+@Generated(from = "AppleLibraryDescription.AbstractAppleLibraryDescriptionArg", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class AppleLibraryDescriptionArg
+    implements AppleLibraryDescription.AbstractAppleLibraryDescriptionArg {
+  private final @Nullable SourcePath infoPlist;
+  private final ImmutableMap<String, String> infoPlistSubstitutions;
+  private final ImmutableSortedMap<String, ImmutableMap<String, String>> configs;
+  private final @Nullable String headerPathPrefix;
+  private final boolean modular;
+  private final @Nullable ModuleMapMode modulemapMode;
+  private final @Nullable String targetSdkVersion;
+  private final SourceSortedSet exportedHeaders;
+  private final PatternMatchedCollection<SourceSortedSet> exportedPlatformHeaders;
+  private final ImmutableList<StringWithMacros> exportedPreprocessorFlags;
+  private final PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPlatformPreprocessorFlags;
+  private final ImmutableMap<CxxSource.Type, ImmutableList<StringWithMacros>> exportedLangPreprocessorFlags;
+  private final ImmutableMap<CxxSource.Type, PatternMatchedCollection<ImmutableList<StringWithMacros>>> exportedLangPlatformPreprocessorFlags;
+  private final ImmutableList<StringWithMacros> exportedLinkerFlags;
+  private final ImmutableList<StringWithMacros> exportedPostLinkerFlags;
+  private final PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPlatformLinkerFlags;
+  private final PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPostPlatformLinkerFlags;
+  private final ImmutableSortedSet<BuildTarget> exportedDeps;
+  private final PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> exportedPlatformDeps;
+  private final @Nullable Pattern supportedPlatformsRegex;
+  private final @Nullable String soname;
+  private final @Nullable String staticLibraryBasename;
+  private final @Nullable Boolean forceStatic;
+  private final @Nullable Boolean linkWhole;
+  private final @Nullable Boolean canBeAsset;
+  private final @Nullable NativeLinkableGroup.Linkage preferredLinkage;
+  private final @Nullable Boolean xcodePublicHeadersSymlinks;
+  private final @Nullable Boolean xcodePrivateHeadersSymlinks;
+  private final ImmutableList<SourcePath> extraXcodeSources;
+  private final ImmutableList<SourcePath> extraXcodeFiles;
+  private final @Nullable Boolean reexportAllHeaderDependencies;
+  private final @Nullable SourcePath bridgingHeader;
+  private final @Nullable String moduleName;
+  private final ImmutableSortedSet<String> publicIncludeDirectories;
+  private final ImmutableSortedSet<String> publicSystemIncludeDirectories;
+  private transient final CxxDeps exportedCxxDeps;
+  private transient final CxxDeps cxxDeps;
+  private final CxxPreprocessables.IncludeType exportedHeaderStyle;
+  private final @Nullable Boolean supportsMergedLinking;
+  private final @Nullable Linker.LinkableDepType linkStyle;
+  private final @Nullable ImmutableList<CxxLinkGroupMapping> linkGroupMap;
+  private final @Nullable String linkGroup;
+  private final boolean thinLto;
+  private final boolean fatLto;
+  private final ImmutableSortedSet<SourceWithFlags> srcs;
+  private final PatternMatchedCollection<ImmutableSortedSet<SourceWithFlags>> platformSrcs;
+  private final SourceSortedSet headers;
+  private final ImmutableSortedSet<SourcePath> rawHeaders;
+  private final ImmutableSortedSet<String> includeDirectories;
+  private final PatternMatchedCollection<SourceSortedSet> platformHeaders;
+  private final @Nullable SourcePath prefixHeader;
+  private final @Nullable SourcePath precompiledHeader;
+  private final ImmutableList<StringWithMacros> compilerFlags;
+  private final ImmutableMap<CxxSource.Type, ImmutableList<StringWithMacros>> langCompilerFlags;
+  private final ImmutableMap<CxxSource.Type, PatternMatchedCollection<ImmutableList<StringWithMacros>>> langPlatformCompilerFlags;
+  private final PatternMatchedCollection<ImmutableList<StringWithMacros>> platformCompilerFlags;
+  private final ImmutableList<StringWithMacros> preprocessorFlags;
+  private final PatternMatchedCollection<ImmutableList<StringWithMacros>> platformPreprocessorFlags;
+  private final ImmutableMap<CxxSource.Type, ImmutableList<StringWithMacros>> langPreprocessorFlags;
+  private final ImmutableMap<CxxSource.Type, PatternMatchedCollection<ImmutableList<StringWithMacros>>> langPlatformPreprocessorFlags;
+  private final ImmutableList<StringWithMacros> linkerFlags;
+  private final ImmutableList<StringWithMacros> postLinkerFlags;
+  private final ImmutableList<String> linkerExtraOutputs;
+  private final PatternMatchedCollection<ImmutableList<StringWithMacros>> platformLinkerFlags;
+  private final @Nullable String executableName;
+  private final PatternMatchedCollection<ImmutableList<StringWithMacros>> postPlatformLinkerFlags;
+  private final PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+  private final @Nullable String headerNamespace;
+  private final @Nullable Linker.CxxRuntimeType cxxRuntimeType;
+  private final ImmutableMap<String, Flavor> defaults;
+  private transient final ImmutableSortedSet<Flavor> defaultFlavors;
+  private transient final CxxDeps privateCxxDeps;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+  private final ImmutableList<UnconfiguredBuildTarget> compatibleWith;
+  private final String name;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final @Nullable Flavor defaultPlatform;
+  private final ImmutableSortedSet<BuildTarget> tests;
+  private final ImmutableSortedSet<FrameworkPath> frameworks;
+  private final ImmutableSortedSet<FrameworkPath> libraries;
+  private final ImmutableList<StringWithMacros> swiftCompilerFlags;
+  private final @Nullable String swiftVersion;
+  private final ImmutableSortedSet<String> contacts;
+
+  private AppleLibraryDescriptionArg(AppleLibraryDescriptionArg.Builder builder) {
+    this.infoPlist = builder.infoPlist;
+    this.infoPlistSubstitutions = builder.infoPlistSubstitutions.build();
+    this.configs = builder.configs.build();
+    this.headerPathPrefix = builder.headerPathPrefix;
+    this.modulemapMode = builder.modulemapMode;
+    this.targetSdkVersion = builder.targetSdkVersion;
+    this.exportedPreprocessorFlags = builder.exportedPreprocessorFlags.build();
+    this.exportedLangPreprocessorFlags = Maps.immutableEnumMap(builder.exportedLangPreprocessorFlags.build());
+    this.exportedLangPlatformPreprocessorFlags = Maps.immutableEnumMap(builder.exportedLangPlatformPreprocessorFlags.build());
+    this.exportedLinkerFlags = builder.exportedLinkerFlags.build();
+    this.exportedPostLinkerFlags = builder.exportedPostLinkerFlags.build();
+    this.exportedDeps = builder.exportedDeps.build();
+    this.supportedPlatformsRegex = builder.supportedPlatformsRegex;
+    this.soname = builder.soname;
+    this.staticLibraryBasename = builder.staticLibraryBasename;
+    this.forceStatic = builder.forceStatic;
+    this.linkWhole = builder.linkWhole;
+    this.canBeAsset = builder.canBeAsset;
+    this.preferredLinkage = builder.preferredLinkage;
+    this.xcodePublicHeadersSymlinks = builder.xcodePublicHeadersSymlinks;
+    this.xcodePrivateHeadersSymlinks = builder.xcodePrivateHeadersSymlinks;
+    this.extraXcodeSources = builder.extraXcodeSources.build();
+    this.extraXcodeFiles = builder.extraXcodeFiles.build();
+    this.reexportAllHeaderDependencies = builder.reexportAllHeaderDependencies;
+    this.bridgingHeader = builder.bridgingHeader;
+    this.moduleName = builder.moduleName;
+    this.supportsMergedLinking = builder.supportsMergedLinking;
+    this.linkStyle = builder.linkStyle;
+    this.linkGroupMap = builder.linkGroupMap;
+    this.linkGroup = builder.linkGroup;
+    this.srcs = builder.srcs.build();
+    this.prefixHeader = builder.prefixHeader;
+    this.precompiledHeader = builder.precompiledHeader;
+    this.compilerFlags = builder.compilerFlags.build();
+    this.langCompilerFlags = Maps.immutableEnumMap(builder.langCompilerFlags.build());
+    this.langPlatformCompilerFlags = Maps.immutableEnumMap(builder.langPlatformCompilerFlags.build());
+    this.preprocessorFlags = builder.preprocessorFlags.build();
+    this.langPreprocessorFlags = Maps.immutableEnumMap(builder.langPreprocessorFlags.build());
+    this.langPlatformPreprocessorFlags = Maps.immutableEnumMap(builder.langPlatformPreprocessorFlags.build());
+    this.linkerFlags = builder.linkerFlags.build();
+    this.postLinkerFlags = builder.postLinkerFlags.build();
+    this.linkerExtraOutputs = builder.linkerExtraOutputs.build();
+    this.executableName = builder.executableName;
+    this.headerNamespace = builder.headerNamespace;
+    this.cxxRuntimeType = builder.cxxRuntimeType;
+    this.defaults = builder.defaults.build();
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.defaultTargetPlatform = builder.defaultTargetPlatform;
+    this.compatibleWith = builder.compatibleWith.build();
+    this.name = builder.name;
+    this.deps = builder.deps.build();
+    this.defaultPlatform = builder.defaultPlatform;
+    this.tests = builder.tests.build();
+    this.frameworks = builder.frameworks.build();
+    this.libraries = builder.libraries.build();
+    this.swiftCompilerFlags = builder.swiftCompilerFlags.build();
+    this.swiftVersion = builder.swiftVersion;
+    this.contacts = builder.contacts.build();
+    if (builder.modularIsSet()) {
+      initShim.setModular(builder.modular);
+    }
+    if (builder.exportedHeaders != null) {
+      initShim.setExportedHeaders(builder.exportedHeaders);
+    }
+    if (builder.exportedPlatformHeaders != null) {
+      initShim.setExportedPlatformHeaders(builder.exportedPlatformHeaders);
+    }
+    if (builder.exportedPlatformPreprocessorFlags != null) {
+      initShim.setExportedPlatformPreprocessorFlags(builder.exportedPlatformPreprocessorFlags);
+    }
+    if (builder.exportedPlatformLinkerFlags != null) {
+      initShim.setExportedPlatformLinkerFlags(builder.exportedPlatformLinkerFlags);
+    }
+    if (builder.exportedPostPlatformLinkerFlags != null) {
+      initShim.setExportedPostPlatformLinkerFlags(builder.exportedPostPlatformLinkerFlags);
+    }
+    if (builder.exportedPlatformDeps != null) {
+      initShim.setExportedPlatformDeps(builder.exportedPlatformDeps);
+    }
+    if (builder.publicIncludeDirectories != null) {
+      initShim.setPublicIncludeDirectories(builder.publicIncludeDirectories);
+    }
+    if (builder.publicSystemIncludeDirectories != null) {
+      initShim.setPublicSystemIncludeDirectories(builder.publicSystemIncludeDirectories);
+    }
+    if (builder.exportedHeaderStyle != null) {
+      initShim.setExportedHeaderStyle(builder.exportedHeaderStyle);
+    }
+    if (builder.thinLtoIsSet()) {
+      initShim.setThinLto(builder.thinLto);
+    }
+    if (builder.fatLtoIsSet()) {
+      initShim.setFatLto(builder.fatLto);
+    }
+    if (builder.platformSrcs != null) {
+      initShim.setPlatformSrcs(builder.platformSrcs);
+    }
+    if (builder.headers != null) {
+      initShim.setHeaders(builder.headers);
+    }
+    if (builder.rawHeaders != null) {
+      initShim.setRawHeaders(builder.rawHeaders);
+    }
+    if (builder.includeDirectories != null) {
+      initShim.setIncludeDirectories(builder.includeDirectories);
+    }
+    if (builder.platformHeaders != null) {
+      initShim.setPlatformHeaders(builder.platformHeaders);
+    }
+    if (builder.platformCompilerFlags != null) {
+      initShim.setPlatformCompilerFlags(builder.platformCompilerFlags);
+    }
+    if (builder.platformPreprocessorFlags != null) {
+      initShim.setPlatformPreprocessorFlags(builder.platformPreprocessorFlags);
+    }
+    if (builder.platformLinkerFlags != null) {
+      initShim.setPlatformLinkerFlags(builder.platformLinkerFlags);
+    }
+    if (builder.postPlatformLinkerFlags != null) {
+      initShim.setPostPlatformLinkerFlags(builder.postPlatformLinkerFlags);
+    }
+    if (builder.platformDeps != null) {
+      initShim.setPlatformDeps(builder.platformDeps);
+    }
+    this.modular = initShim.isModular();
+    this.exportedHeaders = initShim.getExportedHeaders();
+    this.exportedPlatformHeaders = initShim.getExportedPlatformHeaders();
+    this.exportedPlatformPreprocessorFlags = initShim.getExportedPlatformPreprocessorFlags();
+    this.exportedPlatformLinkerFlags = initShim.getExportedPlatformLinkerFlags();
+    this.exportedPostPlatformLinkerFlags = initShim.getExportedPostPlatformLinkerFlags();
+    this.exportedPlatformDeps = initShim.getExportedPlatformDeps();
+    this.publicIncludeDirectories = initShim.getPublicIncludeDirectories();
+    this.publicSystemIncludeDirectories = initShim.getPublicSystemIncludeDirectories();
+    this.exportedCxxDeps = initShim.getExportedCxxDeps();
+    this.cxxDeps = initShim.getCxxDeps();
+    this.exportedHeaderStyle = initShim.getExportedHeaderStyle();
+    this.thinLto = initShim.getThinLto();
+    this.fatLto = initShim.getFatLto();
+    this.platformSrcs = initShim.getPlatformSrcs();
+    this.headers = initShim.getHeaders();
+    this.rawHeaders = initShim.getRawHeaders();
+    this.includeDirectories = initShim.getIncludeDirectories();
+    this.platformHeaders = initShim.getPlatformHeaders();
+    this.platformCompilerFlags = initShim.getPlatformCompilerFlags();
+    this.platformPreprocessorFlags = initShim.getPlatformPreprocessorFlags();
+    this.platformLinkerFlags = initShim.getPlatformLinkerFlags();
+    this.postPlatformLinkerFlags = initShim.getPostPlatformLinkerFlags();
+    this.platformDeps = initShim.getPlatformDeps();
+    this.defaultFlavors = initShim.getDefaultFlavors();
+    this.privateCxxDeps = initShim.getPrivateCxxDeps();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "AppleLibraryDescription.AbstractAppleLibraryDescriptionArg", generator = "Immutables")
+  private final class InitShim {
+    private byte modularBuildStage = STAGE_UNINITIALIZED;
+    private boolean modular;
+
+    boolean isModular() {
+      if (modularBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (modularBuildStage == STAGE_UNINITIALIZED) {
+        modularBuildStage = STAGE_INITIALIZING;
+        this.modular = isModularInitialize();
+        modularBuildStage = STAGE_INITIALIZED;
+      }
+      return this.modular;
+    }
+
+    void setModular(boolean modular) {
+      this.modular = modular;
+      modularBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte exportedHeadersBuildStage = STAGE_UNINITIALIZED;
+    private SourceSortedSet exportedHeaders;
+
+    SourceSortedSet getExportedHeaders() {
+      if (exportedHeadersBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (exportedHeadersBuildStage == STAGE_UNINITIALIZED) {
+        exportedHeadersBuildStage = STAGE_INITIALIZING;
+        this.exportedHeaders = Objects.requireNonNull(getExportedHeadersInitialize(), "exportedHeaders");
+        exportedHeadersBuildStage = STAGE_INITIALIZED;
+      }
+      return this.exportedHeaders;
+    }
+
+    void setExportedHeaders(SourceSortedSet exportedHeaders) {
+      this.exportedHeaders = exportedHeaders;
+      exportedHeadersBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte exportedPlatformHeadersBuildStage = STAGE_UNINITIALIZED;
+    private PatternMatchedCollection<SourceSortedSet> exportedPlatformHeaders;
+
+    PatternMatchedCollection<SourceSortedSet> getExportedPlatformHeaders() {
+      if (exportedPlatformHeadersBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (exportedPlatformHeadersBuildStage == STAGE_UNINITIALIZED) {
+        exportedPlatformHeadersBuildStage = STAGE_INITIALIZING;
+        this.exportedPlatformHeaders = Objects.requireNonNull(getExportedPlatformHeadersInitialize(), "exportedPlatformHeaders");
+        exportedPlatformHeadersBuildStage = STAGE_INITIALIZED;
+      }
+      return this.exportedPlatformHeaders;
+    }
+
+    void setExportedPlatformHeaders(PatternMatchedCollection<SourceSortedSet> exportedPlatformHeaders) {
+      this.exportedPlatformHeaders = exportedPlatformHeaders;
+      exportedPlatformHeadersBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte exportedPlatformPreprocessorFlagsBuildStage = STAGE_UNINITIALIZED;
+    private PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPlatformPreprocessorFlags;
+
+    PatternMatchedCollection<ImmutableList<StringWithMacros>> getExportedPlatformPreprocessorFlags() {
+      if (exportedPlatformPreprocessorFlagsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (exportedPlatformPreprocessorFlagsBuildStage == STAGE_UNINITIALIZED) {
+        exportedPlatformPreprocessorFlagsBuildStage = STAGE_INITIALIZING;
+        this.exportedPlatformPreprocessorFlags = Objects.requireNonNull(getExportedPlatformPreprocessorFlagsInitialize(), "exportedPlatformPreprocessorFlags");
+        exportedPlatformPreprocessorFlagsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.exportedPlatformPreprocessorFlags;
+    }
+
+    void setExportedPlatformPreprocessorFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPlatformPreprocessorFlags) {
+      this.exportedPlatformPreprocessorFlags = exportedPlatformPreprocessorFlags;
+      exportedPlatformPreprocessorFlagsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte exportedPlatformLinkerFlagsBuildStage = STAGE_UNINITIALIZED;
+    private PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPlatformLinkerFlags;
+
+    PatternMatchedCollection<ImmutableList<StringWithMacros>> getExportedPlatformLinkerFlags() {
+      if (exportedPlatformLinkerFlagsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (exportedPlatformLinkerFlagsBuildStage == STAGE_UNINITIALIZED) {
+        exportedPlatformLinkerFlagsBuildStage = STAGE_INITIALIZING;
+        this.exportedPlatformLinkerFlags = Objects.requireNonNull(getExportedPlatformLinkerFlagsInitialize(), "exportedPlatformLinkerFlags");
+        exportedPlatformLinkerFlagsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.exportedPlatformLinkerFlags;
+    }
+
+    void setExportedPlatformLinkerFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPlatformLinkerFlags) {
+      this.exportedPlatformLinkerFlags = exportedPlatformLinkerFlags;
+      exportedPlatformLinkerFlagsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte exportedPostPlatformLinkerFlagsBuildStage = STAGE_UNINITIALIZED;
+    private PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPostPlatformLinkerFlags;
+
+    PatternMatchedCollection<ImmutableList<StringWithMacros>> getExportedPostPlatformLinkerFlags() {
+      if (exportedPostPlatformLinkerFlagsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (exportedPostPlatformLinkerFlagsBuildStage == STAGE_UNINITIALIZED) {
+        exportedPostPlatformLinkerFlagsBuildStage = STAGE_INITIALIZING;
+        this.exportedPostPlatformLinkerFlags = Objects.requireNonNull(getExportedPostPlatformLinkerFlagsInitialize(), "exportedPostPlatformLinkerFlags");
+        exportedPostPlatformLinkerFlagsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.exportedPostPlatformLinkerFlags;
+    }
+
+    void setExportedPostPlatformLinkerFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPostPlatformLinkerFlags) {
+      this.exportedPostPlatformLinkerFlags = exportedPostPlatformLinkerFlags;
+      exportedPostPlatformLinkerFlagsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte exportedPlatformDepsBuildStage = STAGE_UNINITIALIZED;
+    private PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> exportedPlatformDeps;
+
+    PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getExportedPlatformDeps() {
+      if (exportedPlatformDepsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (exportedPlatformDepsBuildStage == STAGE_UNINITIALIZED) {
+        exportedPlatformDepsBuildStage = STAGE_INITIALIZING;
+        this.exportedPlatformDeps = Objects.requireNonNull(getExportedPlatformDepsInitialize(), "exportedPlatformDeps");
+        exportedPlatformDepsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.exportedPlatformDeps;
+    }
+
+    void setExportedPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> exportedPlatformDeps) {
+      this.exportedPlatformDeps = exportedPlatformDeps;
+      exportedPlatformDepsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte publicIncludeDirectoriesBuildStage = STAGE_UNINITIALIZED;
+    private ImmutableSortedSet<String> publicIncludeDirectories;
+
+    ImmutableSortedSet<String> getPublicIncludeDirectories() {
+      if (publicIncludeDirectoriesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (publicIncludeDirectoriesBuildStage == STAGE_UNINITIALIZED) {
+        publicIncludeDirectoriesBuildStage = STAGE_INITIALIZING;
+        this.publicIncludeDirectories = Objects.requireNonNull(getPublicIncludeDirectoriesInitialize(), "publicIncludeDirectories");
+        publicIncludeDirectoriesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.publicIncludeDirectories;
+    }
+
+    void setPublicIncludeDirectories(ImmutableSortedSet<String> publicIncludeDirectories) {
+      this.publicIncludeDirectories = publicIncludeDirectories;
+      publicIncludeDirectoriesBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte publicSystemIncludeDirectoriesBuildStage = STAGE_UNINITIALIZED;
+    private ImmutableSortedSet<String> publicSystemIncludeDirectories;
+
+    ImmutableSortedSet<String> getPublicSystemIncludeDirectories() {
+      if (publicSystemIncludeDirectoriesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (publicSystemIncludeDirectoriesBuildStage == STAGE_UNINITIALIZED) {
+        publicSystemIncludeDirectoriesBuildStage = STAGE_INITIALIZING;
+        this.publicSystemIncludeDirectories = Objects.requireNonNull(getPublicSystemIncludeDirectoriesInitialize(), "publicSystemIncludeDirectories");
+        publicSystemIncludeDirectoriesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.publicSystemIncludeDirectories;
+    }
+
+    void setPublicSystemIncludeDirectories(ImmutableSortedSet<String> publicSystemIncludeDirectories) {
+      this.publicSystemIncludeDirectories = publicSystemIncludeDirectories;
+      publicSystemIncludeDirectoriesBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte exportedCxxDepsBuildStage = STAGE_UNINITIALIZED;
+    private CxxDeps exportedCxxDeps;
+
+    CxxDeps getExportedCxxDeps() {
+      if (exportedCxxDepsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (exportedCxxDepsBuildStage == STAGE_UNINITIALIZED) {
+        exportedCxxDepsBuildStage = STAGE_INITIALIZING;
+        this.exportedCxxDeps = Objects.requireNonNull(getExportedCxxDepsInitialize(), "exportedCxxDeps");
+        exportedCxxDepsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.exportedCxxDeps;
+    }
+
+    private byte cxxDepsBuildStage = STAGE_UNINITIALIZED;
+    private CxxDeps cxxDeps;
+
+    CxxDeps getCxxDeps() {
+      if (cxxDepsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (cxxDepsBuildStage == STAGE_UNINITIALIZED) {
+        cxxDepsBuildStage = STAGE_INITIALIZING;
+        this.cxxDeps = Objects.requireNonNull(getCxxDepsInitialize(), "cxxDeps");
+        cxxDepsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.cxxDeps;
+    }
+
+    private byte exportedHeaderStyleBuildStage = STAGE_UNINITIALIZED;
+    private CxxPreprocessables.IncludeType exportedHeaderStyle;
+
+    CxxPreprocessables.IncludeType getExportedHeaderStyle() {
+      if (exportedHeaderStyleBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (exportedHeaderStyleBuildStage == STAGE_UNINITIALIZED) {
+        exportedHeaderStyleBuildStage = STAGE_INITIALIZING;
+        this.exportedHeaderStyle = Objects.requireNonNull(getExportedHeaderStyleInitialize(), "exportedHeaderStyle");
+        exportedHeaderStyleBuildStage = STAGE_INITIALIZED;
+      }
+      return this.exportedHeaderStyle;
+    }
+
+    void setExportedHeaderStyle(CxxPreprocessables.IncludeType exportedHeaderStyle) {
+      this.exportedHeaderStyle = exportedHeaderStyle;
+      exportedHeaderStyleBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte thinLtoBuildStage = STAGE_UNINITIALIZED;
+    private boolean thinLto;
+
+    boolean getThinLto() {
+      if (thinLtoBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (thinLtoBuildStage == STAGE_UNINITIALIZED) {
+        thinLtoBuildStage = STAGE_INITIALIZING;
+        this.thinLto = getThinLtoInitialize();
+        thinLtoBuildStage = STAGE_INITIALIZED;
+      }
+      return this.thinLto;
+    }
+
+    void setThinLto(boolean thinLto) {
+      this.thinLto = thinLto;
+      thinLtoBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte fatLtoBuildStage = STAGE_UNINITIALIZED;
+    private boolean fatLto;
+
+    boolean getFatLto() {
+      if (fatLtoBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (fatLtoBuildStage == STAGE_UNINITIALIZED) {
+        fatLtoBuildStage = STAGE_INITIALIZING;
+        this.fatLto = getFatLtoInitialize();
+        fatLtoBuildStage = STAGE_INITIALIZED;
+      }
+      return this.fatLto;
+    }
+
+    void setFatLto(boolean fatLto) {
+      this.fatLto = fatLto;
+      fatLtoBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte platformSrcsBuildStage = STAGE_UNINITIALIZED;
+    private PatternMatchedCollection<ImmutableSortedSet<SourceWithFlags>> platformSrcs;
+
+    PatternMatchedCollection<ImmutableSortedSet<SourceWithFlags>> getPlatformSrcs() {
+      if (platformSrcsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (platformSrcsBuildStage == STAGE_UNINITIALIZED) {
+        platformSrcsBuildStage = STAGE_INITIALIZING;
+        this.platformSrcs = Objects.requireNonNull(getPlatformSrcsInitialize(), "platformSrcs");
+        platformSrcsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.platformSrcs;
+    }
+
+    void setPlatformSrcs(PatternMatchedCollection<ImmutableSortedSet<SourceWithFlags>> platformSrcs) {
+      this.platformSrcs = platformSrcs;
+      platformSrcsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte headersBuildStage = STAGE_UNINITIALIZED;
+    private SourceSortedSet headers;
+
+    SourceSortedSet getHeaders() {
+      if (headersBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (headersBuildStage == STAGE_UNINITIALIZED) {
+        headersBuildStage = STAGE_INITIALIZING;
+        this.headers = Objects.requireNonNull(getHeadersInitialize(), "headers");
+        headersBuildStage = STAGE_INITIALIZED;
+      }
+      return this.headers;
+    }
+
+    void setHeaders(SourceSortedSet headers) {
+      this.headers = headers;
+      headersBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte rawHeadersBuildStage = STAGE_UNINITIALIZED;
+    private ImmutableSortedSet<SourcePath> rawHeaders;
+
+    ImmutableSortedSet<SourcePath> getRawHeaders() {
+      if (rawHeadersBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (rawHeadersBuildStage == STAGE_UNINITIALIZED) {
+        rawHeadersBuildStage = STAGE_INITIALIZING;
+        this.rawHeaders = Objects.requireNonNull(getRawHeadersInitialize(), "rawHeaders");
+        rawHeadersBuildStage = STAGE_INITIALIZED;
+      }
+      return this.rawHeaders;
+    }
+
+    void setRawHeaders(ImmutableSortedSet<SourcePath> rawHeaders) {
+      this.rawHeaders = rawHeaders;
+      rawHeadersBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte includeDirectoriesBuildStage = STAGE_UNINITIALIZED;
+    private ImmutableSortedSet<String> includeDirectories;
+
+    ImmutableSortedSet<String> getIncludeDirectories() {
+      if (includeDirectoriesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (includeDirectoriesBuildStage == STAGE_UNINITIALIZED) {
+        includeDirectoriesBuildStage = STAGE_INITIALIZING;
+        this.includeDirectories = Objects.requireNonNull(getIncludeDirectoriesInitialize(), "includeDirectories");
+        includeDirectoriesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.includeDirectories;
+    }
+
+    void setIncludeDirectories(ImmutableSortedSet<String> includeDirectories) {
+      this.includeDirectories = includeDirectories;
+      includeDirectoriesBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte platformHeadersBuildStage = STAGE_UNINITIALIZED;
+    private PatternMatchedCollection<SourceSortedSet> platformHeaders;
+
+    PatternMatchedCollection<SourceSortedSet> getPlatformHeaders() {
+      if (platformHeadersBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (platformHeadersBuildStage == STAGE_UNINITIALIZED) {
+        platformHeadersBuildStage = STAGE_INITIALIZING;
+        this.platformHeaders = Objects.requireNonNull(getPlatformHeadersInitialize(), "platformHeaders");
+        platformHeadersBuildStage = STAGE_INITIALIZED;
+      }
+      return this.platformHeaders;
+    }
+
+    void setPlatformHeaders(PatternMatchedCollection<SourceSortedSet> platformHeaders) {
+      this.platformHeaders = platformHeaders;
+      platformHeadersBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte platformCompilerFlagsBuildStage = STAGE_UNINITIALIZED;
+    private PatternMatchedCollection<ImmutableList<StringWithMacros>> platformCompilerFlags;
+
+    PatternMatchedCollection<ImmutableList<StringWithMacros>> getPlatformCompilerFlags() {
+      if (platformCompilerFlagsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (platformCompilerFlagsBuildStage == STAGE_UNINITIALIZED) {
+        platformCompilerFlagsBuildStage = STAGE_INITIALIZING;
+        this.platformCompilerFlags = Objects.requireNonNull(getPlatformCompilerFlagsInitialize(), "platformCompilerFlags");
+        platformCompilerFlagsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.platformCompilerFlags;
+    }
+
+    void setPlatformCompilerFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> platformCompilerFlags) {
+      this.platformCompilerFlags = platformCompilerFlags;
+      platformCompilerFlagsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte platformPreprocessorFlagsBuildStage = STAGE_UNINITIALIZED;
+    private PatternMatchedCollection<ImmutableList<StringWithMacros>> platformPreprocessorFlags;
+
+    PatternMatchedCollection<ImmutableList<StringWithMacros>> getPlatformPreprocessorFlags() {
+      if (platformPreprocessorFlagsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (platformPreprocessorFlagsBuildStage == STAGE_UNINITIALIZED) {
+        platformPreprocessorFlagsBuildStage = STAGE_INITIALIZING;
+        this.platformPreprocessorFlags = Objects.requireNonNull(getPlatformPreprocessorFlagsInitialize(), "platformPreprocessorFlags");
+        platformPreprocessorFlagsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.platformPreprocessorFlags;
+    }
+
+    void setPlatformPreprocessorFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> platformPreprocessorFlags) {
+      this.platformPreprocessorFlags = platformPreprocessorFlags;
+      platformPreprocessorFlagsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte platformLinkerFlagsBuildStage = STAGE_UNINITIALIZED;
+    private PatternMatchedCollection<ImmutableList<StringWithMacros>> platformLinkerFlags;
+
+    PatternMatchedCollection<ImmutableList<StringWithMacros>> getPlatformLinkerFlags() {
+      if (platformLinkerFlagsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (platformLinkerFlagsBuildStage == STAGE_UNINITIALIZED) {
+        platformLinkerFlagsBuildStage = STAGE_INITIALIZING;
+        this.platformLinkerFlags = Objects.requireNonNull(getPlatformLinkerFlagsInitialize(), "platformLinkerFlags");
+        platformLinkerFlagsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.platformLinkerFlags;
+    }
+
+    void setPlatformLinkerFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> platformLinkerFlags) {
+      this.platformLinkerFlags = platformLinkerFlags;
+      platformLinkerFlagsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte postPlatformLinkerFlagsBuildStage = STAGE_UNINITIALIZED;
+    private PatternMatchedCollection<ImmutableList<StringWithMacros>> postPlatformLinkerFlags;
+
+    PatternMatchedCollection<ImmutableList<StringWithMacros>> getPostPlatformLinkerFlags() {
+      if (postPlatformLinkerFlagsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (postPlatformLinkerFlagsBuildStage == STAGE_UNINITIALIZED) {
+        postPlatformLinkerFlagsBuildStage = STAGE_INITIALIZING;
+        this.postPlatformLinkerFlags = Objects.requireNonNull(getPostPlatformLinkerFlagsInitialize(), "postPlatformLinkerFlags");
+        postPlatformLinkerFlagsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.postPlatformLinkerFlags;
+    }
+
+    void setPostPlatformLinkerFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> postPlatformLinkerFlags) {
+      this.postPlatformLinkerFlags = postPlatformLinkerFlags;
+      postPlatformLinkerFlagsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte platformDepsBuildStage = STAGE_UNINITIALIZED;
+    private PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+
+    PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getPlatformDeps() {
+      if (platformDepsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (platformDepsBuildStage == STAGE_UNINITIALIZED) {
+        platformDepsBuildStage = STAGE_INITIALIZING;
+        this.platformDeps = Objects.requireNonNull(getPlatformDepsInitialize(), "platformDeps");
+        platformDepsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.platformDeps;
+    }
+
+    void setPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps) {
+      this.platformDeps = platformDeps;
+      platformDepsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte defaultFlavorsBuildStage = STAGE_UNINITIALIZED;
+    private ImmutableSortedSet<Flavor> defaultFlavors;
+
+    ImmutableSortedSet<Flavor> getDefaultFlavors() {
+      if (defaultFlavorsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (defaultFlavorsBuildStage == STAGE_UNINITIALIZED) {
+        defaultFlavorsBuildStage = STAGE_INITIALIZING;
+        this.defaultFlavors = Objects.requireNonNull(getDefaultFlavorsInitialize(), "defaultFlavors");
+        defaultFlavorsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.defaultFlavors;
+    }
+
+    private byte privateCxxDepsBuildStage = STAGE_UNINITIALIZED;
+    private CxxDeps privateCxxDeps;
+
+    CxxDeps getPrivateCxxDeps() {
+      if (privateCxxDepsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (privateCxxDepsBuildStage == STAGE_UNINITIALIZED) {
+        privateCxxDepsBuildStage = STAGE_INITIALIZING;
+        this.privateCxxDeps = Objects.requireNonNull(getPrivateCxxDepsInitialize(), "privateCxxDeps");
+        privateCxxDepsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.privateCxxDeps;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (modularBuildStage == STAGE_INITIALIZING) attributes.add("modular");
+      if (exportedHeadersBuildStage == STAGE_INITIALIZING) attributes.add("exportedHeaders");
+      if (exportedPlatformHeadersBuildStage == STAGE_INITIALIZING) attributes.add("exportedPlatformHeaders");
+      if (exportedPlatformPreprocessorFlagsBuildStage == STAGE_INITIALIZING) attributes.add("exportedPlatformPreprocessorFlags");
+      if (exportedPlatformLinkerFlagsBuildStage == STAGE_INITIALIZING) attributes.add("exportedPlatformLinkerFlags");
+      if (exportedPostPlatformLinkerFlagsBuildStage == STAGE_INITIALIZING) attributes.add("exportedPostPlatformLinkerFlags");
+      if (exportedPlatformDepsBuildStage == STAGE_INITIALIZING) attributes.add("exportedPlatformDeps");
+      if (publicIncludeDirectoriesBuildStage == STAGE_INITIALIZING) attributes.add("publicIncludeDirectories");
+      if (publicSystemIncludeDirectoriesBuildStage == STAGE_INITIALIZING) attributes.add("publicSystemIncludeDirectories");
+      if (exportedCxxDepsBuildStage == STAGE_INITIALIZING) attributes.add("exportedCxxDeps");
+      if (cxxDepsBuildStage == STAGE_INITIALIZING) attributes.add("cxxDeps");
+      if (exportedHeaderStyleBuildStage == STAGE_INITIALIZING) attributes.add("exportedHeaderStyle");
+      if (thinLtoBuildStage == STAGE_INITIALIZING) attributes.add("thinLto");
+      if (fatLtoBuildStage == STAGE_INITIALIZING) attributes.add("fatLto");
+      if (platformSrcsBuildStage == STAGE_INITIALIZING) attributes.add("platformSrcs");
+      if (headersBuildStage == STAGE_INITIALIZING) attributes.add("headers");
+      if (rawHeadersBuildStage == STAGE_INITIALIZING) attributes.add("rawHeaders");
+      if (includeDirectoriesBuildStage == STAGE_INITIALIZING) attributes.add("includeDirectories");
+      if (platformHeadersBuildStage == STAGE_INITIALIZING) attributes.add("platformHeaders");
+      if (platformCompilerFlagsBuildStage == STAGE_INITIALIZING) attributes.add("platformCompilerFlags");
+      if (platformPreprocessorFlagsBuildStage == STAGE_INITIALIZING) attributes.add("platformPreprocessorFlags");
+      if (platformLinkerFlagsBuildStage == STAGE_INITIALIZING) attributes.add("platformLinkerFlags");
+      if (postPlatformLinkerFlagsBuildStage == STAGE_INITIALIZING) attributes.add("postPlatformLinkerFlags");
+      if (platformDepsBuildStage == STAGE_INITIALIZING) attributes.add("platformDeps");
+      if (defaultFlavorsBuildStage == STAGE_INITIALIZING) attributes.add("defaultFlavors");
+      if (privateCxxDepsBuildStage == STAGE_INITIALIZING) attributes.add("privateCxxDeps");
+      return "Cannot build AppleLibraryDescriptionArg, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  private boolean isModularInitialize() {
+    return AppleLibraryDescription.AbstractAppleLibraryDescriptionArg.super.isModular();
+  }
+
+  private SourceSortedSet getExportedHeadersInitialize() {
+    return AppleLibraryDescription.AbstractAppleLibraryDescriptionArg.super.getExportedHeaders();
+  }
+
+  private PatternMatchedCollection<SourceSortedSet> getExportedPlatformHeadersInitialize() {
+    return AppleLibraryDescription.AbstractAppleLibraryDescriptionArg.super.getExportedPlatformHeaders();
+  }
+
+  private PatternMatchedCollection<ImmutableList<StringWithMacros>> getExportedPlatformPreprocessorFlagsInitialize() {
+    return AppleLibraryDescription.AbstractAppleLibraryDescriptionArg.super.getExportedPlatformPreprocessorFlags();
+  }
+
+  private PatternMatchedCollection<ImmutableList<StringWithMacros>> getExportedPlatformLinkerFlagsInitialize() {
+    return AppleLibraryDescription.AbstractAppleLibraryDescriptionArg.super.getExportedPlatformLinkerFlags();
+  }
+
+  private PatternMatchedCollection<ImmutableList<StringWithMacros>> getExportedPostPlatformLinkerFlagsInitialize() {
+    return AppleLibraryDescription.AbstractAppleLibraryDescriptionArg.super.getExportedPostPlatformLinkerFlags();
+  }
+
+  private PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getExportedPlatformDepsInitialize() {
+    return AppleLibraryDescription.AbstractAppleLibraryDescriptionArg.super.getExportedPlatformDeps();
+  }
+
+  private ImmutableSortedSet<String> getPublicIncludeDirectoriesInitialize() {
+    return AppleLibraryDescription.AbstractAppleLibraryDescriptionArg.super.getPublicIncludeDirectories();
+  }
+
+  private ImmutableSortedSet<String> getPublicSystemIncludeDirectoriesInitialize() {
+    return AppleLibraryDescription.AbstractAppleLibraryDescriptionArg.super.getPublicSystemIncludeDirectories();
+  }
+
+  private CxxDeps getExportedCxxDepsInitialize() {
+    return AppleLibraryDescription.AbstractAppleLibraryDescriptionArg.super.getExportedCxxDeps();
+  }
+
+  private CxxDeps getCxxDepsInitialize() {
+    return AppleLibraryDescription.AbstractAppleLibraryDescriptionArg.super.getCxxDeps();
+  }
+
+  private CxxPreprocessables.IncludeType getExportedHeaderStyleInitialize() {
+    return AppleLibraryDescription.AbstractAppleLibraryDescriptionArg.super.getExportedHeaderStyle();
+  }
+
+  private boolean getThinLtoInitialize() {
+    return AppleLibraryDescription.AbstractAppleLibraryDescriptionArg.super.getThinLto();
+  }
+
+  private boolean getFatLtoInitialize() {
+    return AppleLibraryDescription.AbstractAppleLibraryDescriptionArg.super.getFatLto();
+  }
+
+  private PatternMatchedCollection<ImmutableSortedSet<SourceWithFlags>> getPlatformSrcsInitialize() {
+    return AppleLibraryDescription.AbstractAppleLibraryDescriptionArg.super.getPlatformSrcs();
+  }
+
+  private SourceSortedSet getHeadersInitialize() {
+    return AppleLibraryDescription.AbstractAppleLibraryDescriptionArg.super.getHeaders();
+  }
+
+  private ImmutableSortedSet<SourcePath> getRawHeadersInitialize() {
+    return AppleLibraryDescription.AbstractAppleLibraryDescriptionArg.super.getRawHeaders();
+  }
+
+  private ImmutableSortedSet<String> getIncludeDirectoriesInitialize() {
+    return AppleLibraryDescription.AbstractAppleLibraryDescriptionArg.super.getIncludeDirectories();
+  }
+
+  private PatternMatchedCollection<SourceSortedSet> getPlatformHeadersInitialize() {
+    return AppleLibraryDescription.AbstractAppleLibraryDescriptionArg.super.getPlatformHeaders();
+  }
+
+  private PatternMatchedCollection<ImmutableList<StringWithMacros>> getPlatformCompilerFlagsInitialize() {
+    return AppleLibraryDescription.AbstractAppleLibraryDescriptionArg.super.getPlatformCompilerFlags();
+  }
+
+  private PatternMatchedCollection<ImmutableList<StringWithMacros>> getPlatformPreprocessorFlagsInitialize() {
+    return AppleLibraryDescription.AbstractAppleLibraryDescriptionArg.super.getPlatformPreprocessorFlags();
+  }
+
+  private PatternMatchedCollection<ImmutableList<StringWithMacros>> getPlatformLinkerFlagsInitialize() {
+    return AppleLibraryDescription.AbstractAppleLibraryDescriptionArg.super.getPlatformLinkerFlags();
+  }
+
+  private PatternMatchedCollection<ImmutableList<StringWithMacros>> getPostPlatformLinkerFlagsInitialize() {
+    return AppleLibraryDescription.AbstractAppleLibraryDescriptionArg.super.getPostPlatformLinkerFlags();
+  }
+
+  private PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getPlatformDepsInitialize() {
+    return AppleLibraryDescription.AbstractAppleLibraryDescriptionArg.super.getPlatformDeps();
+  }
+
+  private ImmutableSortedSet<Flavor> getDefaultFlavorsInitialize() {
+    return AppleLibraryDescription.AbstractAppleLibraryDescriptionArg.super.getDefaultFlavors();
+  }
+
+  private CxxDeps getPrivateCxxDepsInitialize() {
+    return AppleLibraryDescription.AbstractAppleLibraryDescriptionArg.super.getPrivateCxxDeps();
+  }
+
+  /**
+   * @return The value of the {@code infoPlist} attribute
+   */
+  @Override
+  public Optional<SourcePath> getInfoPlist() {
+    return Optional.ofNullable(infoPlist);
+  }
+
+  /**
+   * @return The value of the {@code infoPlistSubstitutions} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getInfoPlistSubstitutions() {
+    return infoPlistSubstitutions;
+  }
+
+  /**
+   * @return The value of the {@code configs} attribute
+   */
+  @Override
+  public ImmutableSortedMap<String, ImmutableMap<String, String>> getConfigs() {
+    return configs;
+  }
+
+  /**
+   * @return The value of the {@code headerPathPrefix} attribute
+   */
+  @Override
+  public Optional<String> getHeaderPathPrefix() {
+    return Optional.ofNullable(headerPathPrefix);
+  }
+
+  /**
+   * @return The value of the {@code modular} attribute
+   */
+  @Override
+  public boolean isModular() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isModular()
+        : this.modular;
+  }
+
+  /**
+   *A modulemap mode, to override the one specified in .buckconfig. 
+   */
+  @Override
+  public Optional<ModuleMapMode> getModulemapMode() {
+    return Optional.ofNullable(modulemapMode);
+  }
+
+  /**
+   * The minimum OS version for which this target should be built. If set, this will override the
+   * config-level option.
+   */
+  @Override
+  public Optional<String> getTargetSdkVersion() {
+    return Optional.ofNullable(targetSdkVersion);
+  }
+
+  /**
+   * @return The value of the {@code exportedHeaders} attribute
+   */
+  @Override
+  public SourceSortedSet getExportedHeaders() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getExportedHeaders()
+        : this.exportedHeaders;
+  }
+
+  /**
+   * @return The value of the {@code exportedPlatformHeaders} attribute
+   */
+  @Override
+  public PatternMatchedCollection<SourceSortedSet> getExportedPlatformHeaders() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getExportedPlatformHeaders()
+        : this.exportedPlatformHeaders;
+  }
+
+  /**
+   * @return The value of the {@code exportedPreprocessorFlags} attribute
+   */
+  @Override
+  public ImmutableList<StringWithMacros> getExportedPreprocessorFlags() {
+    return exportedPreprocessorFlags;
+  }
+
+  /**
+   * @return The value of the {@code exportedPlatformPreprocessorFlags} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableList<StringWithMacros>> getExportedPlatformPreprocessorFlags() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getExportedPlatformPreprocessorFlags()
+        : this.exportedPlatformPreprocessorFlags;
+  }
+
+  /**
+   * @return The value of the {@code exportedLangPreprocessorFlags} attribute
+   */
+  @Override
+  public ImmutableMap<CxxSource.Type, ImmutableList<StringWithMacros>> getExportedLangPreprocessorFlags() {
+    return exportedLangPreprocessorFlags;
+  }
+
+  /**
+   * @return The value of the {@code exportedLangPlatformPreprocessorFlags} attribute
+   */
+  @Override
+  public ImmutableMap<CxxSource.Type, PatternMatchedCollection<ImmutableList<StringWithMacros>>> getExportedLangPlatformPreprocessorFlags() {
+    return exportedLangPlatformPreprocessorFlags;
+  }
+
+  /**
+   * @return The value of the {@code exportedLinkerFlags} attribute
+   */
+  @Override
+  public ImmutableList<StringWithMacros> getExportedLinkerFlags() {
+    return exportedLinkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code exportedPostLinkerFlags} attribute
+   */
+  @Override
+  public ImmutableList<StringWithMacros> getExportedPostLinkerFlags() {
+    return exportedPostLinkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code exportedPlatformLinkerFlags} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableList<StringWithMacros>> getExportedPlatformLinkerFlags() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getExportedPlatformLinkerFlags()
+        : this.exportedPlatformLinkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code exportedPostPlatformLinkerFlags} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableList<StringWithMacros>> getExportedPostPlatformLinkerFlags() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getExportedPostPlatformLinkerFlags()
+        : this.exportedPostPlatformLinkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code exportedDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getExportedDeps() {
+    return exportedDeps;
+  }
+
+  /**
+   * @return The value of the {@code exportedPlatformDeps} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getExportedPlatformDeps() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getExportedPlatformDeps()
+        : this.exportedPlatformDeps;
+  }
+
+  /**
+   * @return The value of the {@code supportedPlatformsRegex} attribute
+   */
+  @Override
+  public Optional<Pattern> getSupportedPlatformsRegex() {
+    return Optional.ofNullable(supportedPlatformsRegex);
+  }
+
+  /**
+   * @return The value of the {@code soname} attribute
+   */
+  @Override
+  public Optional<String> getSoname() {
+    return Optional.ofNullable(soname);
+  }
+
+  /**
+   * @return The value of the {@code staticLibraryBasename} attribute
+   */
+  @Override
+  public Optional<String> getStaticLibraryBasename() {
+    return Optional.ofNullable(staticLibraryBasename);
+  }
+
+  /**
+   * @return The value of the {@code forceStatic} attribute
+   */
+  @Override
+  public Optional<Boolean> getForceStatic() {
+    return Optional.ofNullable(forceStatic);
+  }
+
+  /**
+   * @return The value of the {@code linkWhole} attribute
+   */
+  @Override
+  public Optional<Boolean> getLinkWhole() {
+    return Optional.ofNullable(linkWhole);
+  }
+
+  /**
+   * @return The value of the {@code canBeAsset} attribute
+   */
+  @Override
+  public Optional<Boolean> getCanBeAsset() {
+    return Optional.ofNullable(canBeAsset);
+  }
+
+  /**
+   * @return The value of the {@code preferredLinkage} attribute
+   */
+  @Override
+  public Optional<NativeLinkableGroup.Linkage> getPreferredLinkage() {
+    return Optional.ofNullable(preferredLinkage);
+  }
+
+  /**
+   * @return The value of the {@code xcodePublicHeadersSymlinks} attribute
+   */
+  @Override
+  public Optional<Boolean> getXcodePublicHeadersSymlinks() {
+    return Optional.ofNullable(xcodePublicHeadersSymlinks);
+  }
+
+  /**
+   * @return The value of the {@code xcodePrivateHeadersSymlinks} attribute
+   */
+  @Override
+  public Optional<Boolean> getXcodePrivateHeadersSymlinks() {
+    return Optional.ofNullable(xcodePrivateHeadersSymlinks);
+  }
+
+  /**
+   * extra_xcode_sources will add the files to the list of files to be compiled in the Xcode
+   * target.
+   */
+  @Override
+  public ImmutableList<SourcePath> getExtraXcodeSources() {
+    return extraXcodeSources;
+  }
+
+  /**
+   * extra_xcode_sources will add the files to the list of files in the project and won't add them
+   * to an Xcode target.
+   */
+  @Override
+  public ImmutableList<SourcePath> getExtraXcodeFiles() {
+    return extraXcodeFiles;
+  }
+
+  /**
+   * Controls whether the headers of dependencies in "deps" is re-exported for compiling targets
+   * that depend on this one.
+   */
+  @Override
+  public Optional<Boolean> isReexportAllHeaderDependencies() {
+    return Optional.ofNullable(reexportAllHeaderDependencies);
+  }
+
+  /**
+   * These fields are passed through to SwiftLibrary for mixed C/Swift targets; they are not used
+   * otherwise.
+   */
+  @Override
+  public Optional<SourcePath> getBridgingHeader() {
+    return Optional.ofNullable(bridgingHeader);
+  }
+
+  /**
+   * @return The value of the {@code moduleName} attribute
+   */
+  @Override
+  public Optional<String> getModuleName() {
+    return Optional.ofNullable(moduleName);
+  }
+
+  /**
+   * A list of include directories to be added to the compile command for compiling this cxx
+   * target and every target that depends on it.
+   * @return a list of public (exported) include paths for this cxx target.
+   */
+  @Override
+  public ImmutableSortedSet<String> getPublicIncludeDirectories() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPublicIncludeDirectories()
+        : this.publicIncludeDirectories;
+  }
+
+  /**
+   * A list of include directories to be added to the compile command for compiling this cxx
+   * target and every target that depends on it.
+   * @return a list of public (exported) include paths for this cxx target.
+   */
+  @Override
+  public ImmutableSortedSet<String> getPublicSystemIncludeDirectories() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPublicSystemIncludeDirectories()
+        : this.publicSystemIncludeDirectories;
+  }
+
+  /**
+   *@return C/C++ deps which are propagated to dependents. 
+   */
+  @Override
+  public CxxDeps getExportedCxxDeps() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getExportedCxxDeps()
+        : this.exportedCxxDeps;
+  }
+
+  /**
+   * Override parent class's deps to include exported deps.
+   * @return the C/C++ deps this rule builds against.
+   */
+  @Override
+  public CxxDeps getCxxDeps() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getCxxDeps()
+        : this.cxxDeps;
+  }
+
+  /**
+   *@return how exported headers from this rule should be included by dependents. 
+   */
+  @Override
+  public CxxPreprocessables.IncludeType getExportedHeaderStyle() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getExportedHeaderStyle()
+        : this.exportedHeaderStyle;
+  }
+
+  /**
+   * @return The value of the {@code supportsMergedLinking} attribute
+   */
+  @Override
+  public Optional<Boolean> getSupportsMergedLinking() {
+    return Optional.ofNullable(supportsMergedLinking);
+  }
+
+  /**
+   * @return The value of the {@code linkStyle} attribute
+   */
+  @Override
+  public Optional<Linker.LinkableDepType> getLinkStyle() {
+    return Optional.ofNullable(linkStyle);
+  }
+
+  /**
+   * Defines the list of link group mappings. Targets' membership in a group is defined by the order
+   * of the list, so if more than one mapping matches a single target, the group would be the one
+   * defined by the first match.
+   */
+  @Override
+  public Optional<ImmutableList<CxxLinkGroupMapping>> getLinkGroupMap() {
+    return Optional.ofNullable(linkGroupMap);
+  }
+
+  /**
+   * Defines the link group. When linking executable code, only static libraries which belong to the
+   * same group would be linked into the executable.
+   */
+  @Override
+  public Optional<String> getLinkGroup() {
+    return Optional.ofNullable(linkGroup);
+  }
+
+  /**
+   * @return The value of the {@code thinLto} attribute
+   */
+  @Override
+  public boolean getThinLto() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getThinLto()
+        : this.thinLto;
+  }
+
+  /**
+   * @return The value of the {@code fatLto} attribute
+   */
+  @Override
+  public boolean getFatLto() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getFatLto()
+        : this.fatLto;
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourceWithFlags> getSrcs() {
+    return srcs;
+  }
+
+  /**
+   * @return The value of the {@code platformSrcs} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableSortedSet<SourceWithFlags>> getPlatformSrcs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPlatformSrcs()
+        : this.platformSrcs;
+  }
+
+  /**
+   * @return The value of the {@code headers} attribute
+   */
+  @Override
+  public SourceSortedSet getHeaders() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getHeaders()
+        : this.headers;
+  }
+
+  /**
+   * Raw headers are headers which are used as they are (via compilation flags). Buck doesn't copy
+   * them or create symlinks for them. They are public (since managed by compilation flags).
+   * @return a list of raw headers
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getRawHeaders() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getRawHeaders()
+        : this.rawHeaders;
+  }
+
+  /**
+   * A list of include directories to be added to the compile command for compiling this cxx target.
+   * @return a list of private include paths for this cxx target.
+   */
+  @Override
+  public ImmutableSortedSet<String> getIncludeDirectories() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getIncludeDirectories()
+        : this.includeDirectories;
+  }
+
+  /**
+   * @return The value of the {@code platformHeaders} attribute
+   */
+  @Override
+  public PatternMatchedCollection<SourceSortedSet> getPlatformHeaders() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPlatformHeaders()
+        : this.platformHeaders;
+  }
+
+  /**
+   * @return The value of the {@code prefixHeader} attribute
+   */
+  @Override
+  public Optional<SourcePath> getPrefixHeader() {
+    return Optional.ofNullable(prefixHeader);
+  }
+
+  /**
+   * @return The value of the {@code precompiledHeader} attribute
+   */
+  @Override
+  public Optional<SourcePath> getPrecompiledHeader() {
+    return Optional.ofNullable(precompiledHeader);
+  }
+
+  /**
+   * @return The value of the {@code compilerFlags} attribute
+   */
+  @Override
+  public ImmutableList<StringWithMacros> getCompilerFlags() {
+    return compilerFlags;
+  }
+
+  /**
+   * @return The value of the {@code langCompilerFlags} attribute
+   */
+  @Override
+  public ImmutableMap<CxxSource.Type, ImmutableList<StringWithMacros>> getLangCompilerFlags() {
+    return langCompilerFlags;
+  }
+
+  /**
+   * @return The value of the {@code langPlatformCompilerFlags} attribute
+   */
+  @Override
+  public ImmutableMap<CxxSource.Type, PatternMatchedCollection<ImmutableList<StringWithMacros>>> getLangPlatformCompilerFlags() {
+    return langPlatformCompilerFlags;
+  }
+
+  /**
+   * @return The value of the {@code platformCompilerFlags} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableList<StringWithMacros>> getPlatformCompilerFlags() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPlatformCompilerFlags()
+        : this.platformCompilerFlags;
+  }
+
+  /**
+   * @return The value of the {@code preprocessorFlags} attribute
+   */
+  @Override
+  public ImmutableList<StringWithMacros> getPreprocessorFlags() {
+    return preprocessorFlags;
+  }
+
+  /**
+   * @return The value of the {@code platformPreprocessorFlags} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableList<StringWithMacros>> getPlatformPreprocessorFlags() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPlatformPreprocessorFlags()
+        : this.platformPreprocessorFlags;
+  }
+
+  /**
+   * @return The value of the {@code langPreprocessorFlags} attribute
+   */
+  @Override
+  public ImmutableMap<CxxSource.Type, ImmutableList<StringWithMacros>> getLangPreprocessorFlags() {
+    return langPreprocessorFlags;
+  }
+
+  /**
+   * @return The value of the {@code langPlatformPreprocessorFlags} attribute
+   */
+  @Override
+  public ImmutableMap<CxxSource.Type, PatternMatchedCollection<ImmutableList<StringWithMacros>>> getLangPlatformPreprocessorFlags() {
+    return langPlatformPreprocessorFlags;
+  }
+
+  /**
+   * @return The value of the {@code linkerFlags} attribute
+   */
+  @Override
+  public ImmutableList<StringWithMacros> getLinkerFlags() {
+    return linkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code postLinkerFlags} attribute
+   */
+  @Override
+  public ImmutableList<StringWithMacros> getPostLinkerFlags() {
+    return postLinkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code linkerExtraOutputs} attribute
+   */
+  @Override
+  public ImmutableList<String> getLinkerExtraOutputs() {
+    return linkerExtraOutputs;
+  }
+
+  /**
+   * @return The value of the {@code platformLinkerFlags} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableList<StringWithMacros>> getPlatformLinkerFlags() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPlatformLinkerFlags()
+        : this.platformLinkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code executableName} attribute
+   */
+  @Override
+  public Optional<String> getExecutableName() {
+    return Optional.ofNullable(executableName);
+  }
+
+  /**
+   * @return The value of the {@code postPlatformLinkerFlags} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableList<StringWithMacros>> getPostPlatformLinkerFlags() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPostPlatformLinkerFlags()
+        : this.postPlatformLinkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code platformDeps} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getPlatformDeps() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPlatformDeps()
+        : this.platformDeps;
+  }
+
+  /**
+   * @return The value of the {@code headerNamespace} attribute
+   */
+  @Override
+  public Optional<String> getHeaderNamespace() {
+    return Optional.ofNullable(headerNamespace);
+  }
+
+  /**
+   * @return The value of the {@code cxxRuntimeType} attribute
+   */
+  @Override
+  public Optional<Linker.CxxRuntimeType> getCxxRuntimeType() {
+    return Optional.ofNullable(cxxRuntimeType);
+  }
+
+  /**
+   * @return The value of the {@code defaults} attribute
+   */
+  @Override
+  public ImmutableMap<String, Flavor> getDefaults() {
+    return defaults;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code defaultFlavors} attribute
+   */
+  @Override
+  public ImmutableSortedSet<Flavor> getDefaultFlavors() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getDefaultFlavors()
+        : this.defaultFlavors;
+  }
+
+  /**
+   *@return C/C++ deps which are *not* propagated to dependents. 
+   */
+  @Override
+  public CxxDeps getPrivateCxxDeps() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPrivateCxxDeps()
+        : this.privateCxxDeps;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * The name of build target default "new" platform: it is used when a platform is not specified
+   * either globally or in a target which used this target as a dependency.
+   * <p>The value is a build target, but we specify it as string, because this function is not
+   * actually called, but the attr is fetched by name from the raw (unconfigured) target node.
+   */
+  @Override
+  public Optional<UnconfiguredBuildTarget> getDefaultTargetPlatform() {
+    return Optional.ofNullable(defaultTargetPlatform);
+  }
+
+  /**
+   *A list of {@code config_setting} a target is compatible with. 
+   */
+  @Override
+  public ImmutableList<UnconfiguredBuildTarget> getCompatibleWith() {
+    return compatibleWith;
+  }
+
+  /**
+   *Each rule has a name 
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return If present, the default platform with which to build this target if none are provided
+   *     on the command line.
+   */
+  @Override
+  public Optional<Flavor> getDefaultPlatform() {
+    return Optional.ofNullable(defaultPlatform);
+  }
+
+  /**
+   *@return A list of tests of this target. 
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getTests() {
+    return tests;
+  }
+
+  /**
+   * @return The value of the {@code frameworks} attribute
+   */
+  @Override
+  public ImmutableSortedSet<FrameworkPath> getFrameworks() {
+    return frameworks;
+  }
+
+  /**
+   * @return The value of the {@code libraries} attribute
+   */
+  @Override
+  public ImmutableSortedSet<FrameworkPath> getLibraries() {
+    return libraries;
+  }
+
+  /**
+   * @return The value of the {@code swiftCompilerFlags} attribute
+   */
+  @Override
+  public ImmutableList<StringWithMacros> getSwiftCompilerFlags() {
+    return swiftCompilerFlags;
+  }
+
+  /**
+   * @return The value of the {@code swiftVersion} attribute
+   */
+  @Override
+  public Optional<String> getSwiftVersion() {
+    return Optional.ofNullable(swiftVersion);
+  }
+
+  /**
+   * @return The value of the {@code contacts} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getContacts() {
+    return contacts;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AppleLibraryDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AppleLibraryDescriptionArg
+        && equalTo((AppleLibraryDescriptionArg) another);
+  }
+
+  private boolean equalTo(AppleLibraryDescriptionArg another) {
+    return Objects.equals(infoPlist, another.infoPlist)
+        && infoPlistSubstitutions.equals(another.infoPlistSubstitutions)
+        && configs.equals(another.configs)
+        && Objects.equals(headerPathPrefix, another.headerPathPrefix)
+        && modular == another.modular
+        && Objects.equals(modulemapMode, another.modulemapMode)
+        && Objects.equals(targetSdkVersion, another.targetSdkVersion)
+        && exportedHeaders.equals(another.exportedHeaders)
+        && exportedPlatformHeaders.equals(another.exportedPlatformHeaders)
+        && exportedPreprocessorFlags.equals(another.exportedPreprocessorFlags)
+        && exportedPlatformPreprocessorFlags.equals(another.exportedPlatformPreprocessorFlags)
+        && exportedLangPreprocessorFlags.equals(another.exportedLangPreprocessorFlags)
+        && exportedLangPlatformPreprocessorFlags.equals(another.exportedLangPlatformPreprocessorFlags)
+        && exportedLinkerFlags.equals(another.exportedLinkerFlags)
+        && exportedPostLinkerFlags.equals(another.exportedPostLinkerFlags)
+        && exportedPlatformLinkerFlags.equals(another.exportedPlatformLinkerFlags)
+        && exportedPostPlatformLinkerFlags.equals(another.exportedPostPlatformLinkerFlags)
+        && exportedDeps.equals(another.exportedDeps)
+        && exportedPlatformDeps.equals(another.exportedPlatformDeps)
+        && Objects.equals(supportedPlatformsRegex, another.supportedPlatformsRegex)
+        && Objects.equals(soname, another.soname)
+        && Objects.equals(staticLibraryBasename, another.staticLibraryBasename)
+        && Objects.equals(forceStatic, another.forceStatic)
+        && Objects.equals(linkWhole, another.linkWhole)
+        && Objects.equals(canBeAsset, another.canBeAsset)
+        && Objects.equals(preferredLinkage, another.preferredLinkage)
+        && Objects.equals(xcodePublicHeadersSymlinks, another.xcodePublicHeadersSymlinks)
+        && Objects.equals(xcodePrivateHeadersSymlinks, another.xcodePrivateHeadersSymlinks)
+        && extraXcodeSources.equals(another.extraXcodeSources)
+        && extraXcodeFiles.equals(another.extraXcodeFiles)
+        && Objects.equals(reexportAllHeaderDependencies, another.reexportAllHeaderDependencies)
+        && Objects.equals(bridgingHeader, another.bridgingHeader)
+        && Objects.equals(moduleName, another.moduleName)
+        && publicIncludeDirectories.equals(another.publicIncludeDirectories)
+        && publicSystemIncludeDirectories.equals(another.publicSystemIncludeDirectories)
+        && exportedCxxDeps.equals(another.exportedCxxDeps)
+        && cxxDeps.equals(another.cxxDeps)
+        && exportedHeaderStyle.equals(another.exportedHeaderStyle)
+        && Objects.equals(supportsMergedLinking, another.supportsMergedLinking)
+        && Objects.equals(linkStyle, another.linkStyle)
+        && Objects.equals(linkGroupMap, another.linkGroupMap)
+        && Objects.equals(linkGroup, another.linkGroup)
+        && thinLto == another.thinLto
+        && fatLto == another.fatLto
+        && srcs.equals(another.srcs)
+        && platformSrcs.equals(another.platformSrcs)
+        && headers.equals(another.headers)
+        && rawHeaders.equals(another.rawHeaders)
+        && includeDirectories.equals(another.includeDirectories)
+        && platformHeaders.equals(another.platformHeaders)
+        && Objects.equals(prefixHeader, another.prefixHeader)
+        && Objects.equals(precompiledHeader, another.precompiledHeader)
+        && compilerFlags.equals(another.compilerFlags)
+        && langCompilerFlags.equals(another.langCompilerFlags)
+        && langPlatformCompilerFlags.equals(another.langPlatformCompilerFlags)
+        && platformCompilerFlags.equals(another.platformCompilerFlags)
+        && preprocessorFlags.equals(another.preprocessorFlags)
+        && platformPreprocessorFlags.equals(another.platformPreprocessorFlags)
+        && langPreprocessorFlags.equals(another.langPreprocessorFlags)
+        && langPlatformPreprocessorFlags.equals(another.langPlatformPreprocessorFlags)
+        && linkerFlags.equals(another.linkerFlags)
+        && postLinkerFlags.equals(another.postLinkerFlags)
+        && linkerExtraOutputs.equals(another.linkerExtraOutputs)
+        && platformLinkerFlags.equals(another.platformLinkerFlags)
+        && Objects.equals(executableName, another.executableName)
+        && postPlatformLinkerFlags.equals(another.postPlatformLinkerFlags)
+        && platformDeps.equals(another.platformDeps)
+        && Objects.equals(headerNamespace, another.headerNamespace)
+        && Objects.equals(cxxRuntimeType, another.cxxRuntimeType)
+        && defaults.equals(another.defaults)
+        && defaultFlavors.equals(another.defaultFlavors)
+        && privateCxxDeps.equals(another.privateCxxDeps)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && Objects.equals(defaultTargetPlatform, another.defaultTargetPlatform)
+        && compatibleWith.equals(another.compatibleWith)
+        && name.equals(another.name)
+        && deps.equals(another.deps)
+        && Objects.equals(defaultPlatform, another.defaultPlatform)
+        && tests.equals(another.tests)
+        && frameworks.equals(another.frameworks)
+        && libraries.equals(another.libraries)
+        && swiftCompilerFlags.equals(another.swiftCompilerFlags)
+        && Objects.equals(swiftVersion, another.swiftVersion)
+        && contacts.equals(another.contacts);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code infoPlist}, {@code infoPlistSubstitutions}, {@code configs}, {@code headerPathPrefix}, {@code modular}, {@code modulemapMode}, {@code targetSdkVersion}, {@code exportedHeaders}, {@code exportedPlatformHeaders}, {@code exportedPreprocessorFlags}, {@code exportedPlatformPreprocessorFlags}, {@code exportedLangPreprocessorFlags}, {@code exportedLangPlatformPreprocessorFlags}, {@code exportedLinkerFlags}, {@code exportedPostLinkerFlags}, {@code exportedPlatformLinkerFlags}, {@code exportedPostPlatformLinkerFlags}, {@code exportedDeps}, {@code exportedPlatformDeps}, {@code supportedPlatformsRegex}, {@code soname}, {@code staticLibraryBasename}, {@code forceStatic}, {@code linkWhole}, {@code canBeAsset}, {@code preferredLinkage}, {@code xcodePublicHeadersSymlinks}, {@code xcodePrivateHeadersSymlinks}, {@code extraXcodeSources}, {@code extraXcodeFiles}, {@code reexportAllHeaderDependencies}, {@code bridgingHeader}, {@code moduleName}, {@code publicIncludeDirectories}, {@code publicSystemIncludeDirectories}, {@code exportedCxxDeps}, {@code cxxDeps}, {@code exportedHeaderStyle}, {@code supportsMergedLinking}, {@code linkStyle}, {@code linkGroupMap}, {@code linkGroup}, {@code thinLto}, {@code fatLto}, {@code srcs}, {@code platformSrcs}, {@code headers}, {@code rawHeaders}, {@code includeDirectories}, {@code platformHeaders}, {@code prefixHeader}, {@code precompiledHeader}, {@code compilerFlags}, {@code langCompilerFlags}, {@code langPlatformCompilerFlags}, {@code platformCompilerFlags}, {@code preprocessorFlags}, {@code platformPreprocessorFlags}, {@code langPreprocessorFlags}, {@code langPlatformPreprocessorFlags}, {@code linkerFlags}, {@code postLinkerFlags}, {@code linkerExtraOutputs}, {@code platformLinkerFlags}, {@code executableName}, {@code postPlatformLinkerFlags}, {@code platformDeps}, {@code headerNamespace}, {@code cxxRuntimeType}, {@code defaults}, {@code defaultFlavors}, {@code privateCxxDeps}, {@code licenses}, {@code labels}, {@code defaultTargetPlatform}, {@code compatibleWith}, {@code name}, {@code deps}, {@code defaultPlatform}, {@code tests}, {@code frameworks}, {@code libraries}, {@code swiftCompilerFlags}, {@code swiftVersion}, {@code contacts}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(infoPlist);
+    h += (h << 5) + infoPlistSubstitutions.hashCode();
+    h += (h << 5) + configs.hashCode();
+    h += (h << 5) + Objects.hashCode(headerPathPrefix);
+    h += (h << 5) + Booleans.hashCode(modular);
+    h += (h << 5) + Objects.hashCode(modulemapMode);
+    h += (h << 5) + Objects.hashCode(targetSdkVersion);
+    h += (h << 5) + exportedHeaders.hashCode();
+    h += (h << 5) + exportedPlatformHeaders.hashCode();
+    h += (h << 5) + exportedPreprocessorFlags.hashCode();
+    h += (h << 5) + exportedPlatformPreprocessorFlags.hashCode();
+    h += (h << 5) + exportedLangPreprocessorFlags.hashCode();
+    h += (h << 5) + exportedLangPlatformPreprocessorFlags.hashCode();
+    h += (h << 5) + exportedLinkerFlags.hashCode();
+    h += (h << 5) + exportedPostLinkerFlags.hashCode();
+    h += (h << 5) + exportedPlatformLinkerFlags.hashCode();
+    h += (h << 5) + exportedPostPlatformLinkerFlags.hashCode();
+    h += (h << 5) + exportedDeps.hashCode();
+    h += (h << 5) + exportedPlatformDeps.hashCode();
+    h += (h << 5) + Objects.hashCode(supportedPlatformsRegex);
+    h += (h << 5) + Objects.hashCode(soname);
+    h += (h << 5) + Objects.hashCode(staticLibraryBasename);
+    h += (h << 5) + Objects.hashCode(forceStatic);
+    h += (h << 5) + Objects.hashCode(linkWhole);
+    h += (h << 5) + Objects.hashCode(canBeAsset);
+    h += (h << 5) + Objects.hashCode(preferredLinkage);
+    h += (h << 5) + Objects.hashCode(xcodePublicHeadersSymlinks);
+    h += (h << 5) + Objects.hashCode(xcodePrivateHeadersSymlinks);
+    h += (h << 5) + extraXcodeSources.hashCode();
+    h += (h << 5) + extraXcodeFiles.hashCode();
+    h += (h << 5) + Objects.hashCode(reexportAllHeaderDependencies);
+    h += (h << 5) + Objects.hashCode(bridgingHeader);
+    h += (h << 5) + Objects.hashCode(moduleName);
+    h += (h << 5) + publicIncludeDirectories.hashCode();
+    h += (h << 5) + publicSystemIncludeDirectories.hashCode();
+    h += (h << 5) + exportedCxxDeps.hashCode();
+    h += (h << 5) + cxxDeps.hashCode();
+    h += (h << 5) + exportedHeaderStyle.hashCode();
+    h += (h << 5) + Objects.hashCode(supportsMergedLinking);
+    h += (h << 5) + Objects.hashCode(linkStyle);
+    h += (h << 5) + Objects.hashCode(linkGroupMap);
+    h += (h << 5) + Objects.hashCode(linkGroup);
+    h += (h << 5) + Booleans.hashCode(thinLto);
+    h += (h << 5) + Booleans.hashCode(fatLto);
+    h += (h << 5) + srcs.hashCode();
+    h += (h << 5) + platformSrcs.hashCode();
+    h += (h << 5) + headers.hashCode();
+    h += (h << 5) + rawHeaders.hashCode();
+    h += (h << 5) + includeDirectories.hashCode();
+    h += (h << 5) + platformHeaders.hashCode();
+    h += (h << 5) + Objects.hashCode(prefixHeader);
+    h += (h << 5) + Objects.hashCode(precompiledHeader);
+    h += (h << 5) + compilerFlags.hashCode();
+    h += (h << 5) + langCompilerFlags.hashCode();
+    h += (h << 5) + langPlatformCompilerFlags.hashCode();
+    h += (h << 5) + platformCompilerFlags.hashCode();
+    h += (h << 5) + preprocessorFlags.hashCode();
+    h += (h << 5) + platformPreprocessorFlags.hashCode();
+    h += (h << 5) + langPreprocessorFlags.hashCode();
+    h += (h << 5) + langPlatformPreprocessorFlags.hashCode();
+    h += (h << 5) + linkerFlags.hashCode();
+    h += (h << 5) + postLinkerFlags.hashCode();
+    h += (h << 5) + linkerExtraOutputs.hashCode();
+    h += (h << 5) + platformLinkerFlags.hashCode();
+    h += (h << 5) + Objects.hashCode(executableName);
+    h += (h << 5) + postPlatformLinkerFlags.hashCode();
+    h += (h << 5) + platformDeps.hashCode();
+    h += (h << 5) + Objects.hashCode(headerNamespace);
+    h += (h << 5) + Objects.hashCode(cxxRuntimeType);
+    h += (h << 5) + defaults.hashCode();
+    h += (h << 5) + defaultFlavors.hashCode();
+    h += (h << 5) + privateCxxDeps.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + Objects.hashCode(defaultTargetPlatform);
+    h += (h << 5) + compatibleWith.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + Objects.hashCode(defaultPlatform);
+    h += (h << 5) + tests.hashCode();
+    h += (h << 5) + frameworks.hashCode();
+    h += (h << 5) + libraries.hashCode();
+    h += (h << 5) + swiftCompilerFlags.hashCode();
+    h += (h << 5) + Objects.hashCode(swiftVersion);
+    h += (h << 5) + contacts.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleLibraryDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleLibraryDescriptionArg")
+        .omitNullValues()
+        .add("infoPlist", infoPlist)
+        .add("infoPlistSubstitutions", infoPlistSubstitutions)
+        .add("configs", configs)
+        .add("headerPathPrefix", headerPathPrefix)
+        .add("modular", modular)
+        .add("modulemapMode", modulemapMode)
+        .add("targetSdkVersion", targetSdkVersion)
+        .add("exportedHeaders", exportedHeaders)
+        .add("exportedPlatformHeaders", exportedPlatformHeaders)
+        .add("exportedPreprocessorFlags", exportedPreprocessorFlags)
+        .add("exportedPlatformPreprocessorFlags", exportedPlatformPreprocessorFlags)
+        .add("exportedLangPreprocessorFlags", exportedLangPreprocessorFlags)
+        .add("exportedLangPlatformPreprocessorFlags", exportedLangPlatformPreprocessorFlags)
+        .add("exportedLinkerFlags", exportedLinkerFlags)
+        .add("exportedPostLinkerFlags", exportedPostLinkerFlags)
+        .add("exportedPlatformLinkerFlags", exportedPlatformLinkerFlags)
+        .add("exportedPostPlatformLinkerFlags", exportedPostPlatformLinkerFlags)
+        .add("exportedDeps", exportedDeps)
+        .add("exportedPlatformDeps", exportedPlatformDeps)
+        .add("supportedPlatformsRegex", supportedPlatformsRegex)
+        .add("soname", soname)
+        .add("staticLibraryBasename", staticLibraryBasename)
+        .add("forceStatic", forceStatic)
+        .add("linkWhole", linkWhole)
+        .add("canBeAsset", canBeAsset)
+        .add("preferredLinkage", preferredLinkage)
+        .add("xcodePublicHeadersSymlinks", xcodePublicHeadersSymlinks)
+        .add("xcodePrivateHeadersSymlinks", xcodePrivateHeadersSymlinks)
+        .add("extraXcodeSources", extraXcodeSources)
+        .add("extraXcodeFiles", extraXcodeFiles)
+        .add("reexportAllHeaderDependencies", reexportAllHeaderDependencies)
+        .add("bridgingHeader", bridgingHeader)
+        .add("moduleName", moduleName)
+        .add("publicIncludeDirectories", publicIncludeDirectories)
+        .add("publicSystemIncludeDirectories", publicSystemIncludeDirectories)
+        .add("exportedCxxDeps", exportedCxxDeps)
+        .add("cxxDeps", cxxDeps)
+        .add("exportedHeaderStyle", exportedHeaderStyle)
+        .add("supportsMergedLinking", supportsMergedLinking)
+        .add("linkStyle", linkStyle)
+        .add("linkGroupMap", linkGroupMap)
+        .add("linkGroup", linkGroup)
+        .add("thinLto", thinLto)
+        .add("fatLto", fatLto)
+        .add("srcs", srcs)
+        .add("platformSrcs", platformSrcs)
+        .add("headers", headers)
+        .add("rawHeaders", rawHeaders)
+        .add("includeDirectories", includeDirectories)
+        .add("platformHeaders", platformHeaders)
+        .add("prefixHeader", prefixHeader)
+        .add("precompiledHeader", precompiledHeader)
+        .add("compilerFlags", compilerFlags)
+        .add("langCompilerFlags", langCompilerFlags)
+        .add("langPlatformCompilerFlags", langPlatformCompilerFlags)
+        .add("platformCompilerFlags", platformCompilerFlags)
+        .add("preprocessorFlags", preprocessorFlags)
+        .add("platformPreprocessorFlags", platformPreprocessorFlags)
+        .add("langPreprocessorFlags", langPreprocessorFlags)
+        .add("langPlatformPreprocessorFlags", langPlatformPreprocessorFlags)
+        .add("linkerFlags", linkerFlags)
+        .add("postLinkerFlags", postLinkerFlags)
+        .add("linkerExtraOutputs", linkerExtraOutputs)
+        .add("platformLinkerFlags", platformLinkerFlags)
+        .add("executableName", executableName)
+        .add("postPlatformLinkerFlags", postPlatformLinkerFlags)
+        .add("platformDeps", platformDeps)
+        .add("headerNamespace", headerNamespace)
+        .add("cxxRuntimeType", cxxRuntimeType)
+        .add("defaults", defaults)
+        .add("defaultFlavors", defaultFlavors)
+        .add("privateCxxDeps", privateCxxDeps)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("defaultTargetPlatform", defaultTargetPlatform)
+        .add("compatibleWith", compatibleWith)
+        .add("name", name)
+        .add("deps", deps)
+        .add("defaultPlatform", defaultPlatform)
+        .add("tests", tests)
+        .add("frameworks", frameworks)
+        .add("libraries", libraries)
+        .add("swiftCompilerFlags", swiftCompilerFlags)
+        .add("swiftVersion", swiftVersion)
+        .add("contacts", contacts)
+        .toString();
+  }
+
+
+  private static AppleLibraryDescriptionArg validate(AppleLibraryDescriptionArg instance) {
+    instance.checkHeadersUsage();
+    instance.checkModularUsage();
+    return instance;
+  }
+
+  /**
+   * Creates a builder for {@link AppleLibraryDescriptionArg AppleLibraryDescriptionArg}.
+   * @return A new AppleLibraryDescriptionArg builder
+   */
+  public static AppleLibraryDescriptionArg.Builder builder() {
+    return new AppleLibraryDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AppleLibraryDescriptionArg AppleLibraryDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AppleLibraryDescription.AbstractAppleLibraryDescriptionArg", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long OPT_BIT_MODULAR = 0x1L;
+    private static final long OPT_BIT_THIN_LTO = 0x2L;
+    private static final long OPT_BIT_FAT_LTO = 0x4L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private @Nullable SourcePath infoPlist;
+    private ImmutableMap.Builder<String, String> infoPlistSubstitutions = ImmutableMap.builder();
+    private ImmutableSortedMap.Builder<String, ImmutableMap<String, String>> configs = ImmutableSortedMap.naturalOrder();
+    private @Nullable String headerPathPrefix;
+    private boolean modular;
+    private @Nullable ModuleMapMode modulemapMode;
+    private @Nullable String targetSdkVersion;
+    private @Nullable SourceSortedSet exportedHeaders;
+    private @Nullable PatternMatchedCollection<SourceSortedSet> exportedPlatformHeaders;
+    private ImmutableList.Builder<StringWithMacros> exportedPreprocessorFlags = ImmutableList.builder();
+    private @Nullable PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPlatformPreprocessorFlags;
+    private ImmutableMap.Builder<CxxSource.Type, ImmutableList<StringWithMacros>> exportedLangPreprocessorFlags = ImmutableMap.builder();
+    private ImmutableMap.Builder<CxxSource.Type, PatternMatchedCollection<ImmutableList<StringWithMacros>>> exportedLangPlatformPreprocessorFlags = ImmutableMap.builder();
+    private ImmutableList.Builder<StringWithMacros> exportedLinkerFlags = ImmutableList.builder();
+    private ImmutableList.Builder<StringWithMacros> exportedPostLinkerFlags = ImmutableList.builder();
+    private @Nullable PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPlatformLinkerFlags;
+    private @Nullable PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPostPlatformLinkerFlags;
+    private ImmutableSortedSet.Builder<BuildTarget> exportedDeps = ImmutableSortedSet.naturalOrder();
+    private @Nullable PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> exportedPlatformDeps;
+    private @Nullable Pattern supportedPlatformsRegex;
+    private @Nullable String soname;
+    private @Nullable String staticLibraryBasename;
+    private @Nullable Boolean forceStatic;
+    private @Nullable Boolean linkWhole;
+    private @Nullable Boolean canBeAsset;
+    private @Nullable NativeLinkableGroup.Linkage preferredLinkage;
+    private @Nullable Boolean xcodePublicHeadersSymlinks;
+    private @Nullable Boolean xcodePrivateHeadersSymlinks;
+    private ImmutableList.Builder<SourcePath> extraXcodeSources = ImmutableList.builder();
+    private ImmutableList.Builder<SourcePath> extraXcodeFiles = ImmutableList.builder();
+    private @Nullable Boolean reexportAllHeaderDependencies;
+    private @Nullable SourcePath bridgingHeader;
+    private @Nullable String moduleName;
+    private @Nullable ImmutableSortedSet<String> publicIncludeDirectories;
+    private @Nullable ImmutableSortedSet<String> publicSystemIncludeDirectories;
+    private @Nullable CxxPreprocessables.IncludeType exportedHeaderStyle;
+    private @Nullable Boolean supportsMergedLinking;
+    private @Nullable Linker.LinkableDepType linkStyle;
+    private @Nullable ImmutableList<CxxLinkGroupMapping> linkGroupMap;
+    private @Nullable String linkGroup;
+    private boolean thinLto;
+    private boolean fatLto;
+    private ImmutableSortedSet.Builder<SourceWithFlags> srcs = ImmutableSortedSet.naturalOrder();
+    private @Nullable PatternMatchedCollection<ImmutableSortedSet<SourceWithFlags>> platformSrcs;
+    private @Nullable SourceSortedSet headers;
+    private @Nullable ImmutableSortedSet<SourcePath> rawHeaders;
+    private @Nullable ImmutableSortedSet<String> includeDirectories;
+    private @Nullable PatternMatchedCollection<SourceSortedSet> platformHeaders;
+    private @Nullable SourcePath prefixHeader;
+    private @Nullable SourcePath precompiledHeader;
+    private ImmutableList.Builder<StringWithMacros> compilerFlags = ImmutableList.builder();
+    private ImmutableMap.Builder<CxxSource.Type, ImmutableList<StringWithMacros>> langCompilerFlags = ImmutableMap.builder();
+    private ImmutableMap.Builder<CxxSource.Type, PatternMatchedCollection<ImmutableList<StringWithMacros>>> langPlatformCompilerFlags = ImmutableMap.builder();
+    private @Nullable PatternMatchedCollection<ImmutableList<StringWithMacros>> platformCompilerFlags;
+    private ImmutableList.Builder<StringWithMacros> preprocessorFlags = ImmutableList.builder();
+    private @Nullable PatternMatchedCollection<ImmutableList<StringWithMacros>> platformPreprocessorFlags;
+    private ImmutableMap.Builder<CxxSource.Type, ImmutableList<StringWithMacros>> langPreprocessorFlags = ImmutableMap.builder();
+    private ImmutableMap.Builder<CxxSource.Type, PatternMatchedCollection<ImmutableList<StringWithMacros>>> langPlatformPreprocessorFlags = ImmutableMap.builder();
+    private ImmutableList.Builder<StringWithMacros> linkerFlags = ImmutableList.builder();
+    private ImmutableList.Builder<StringWithMacros> postLinkerFlags = ImmutableList.builder();
+    private ImmutableList.Builder<String> linkerExtraOutputs = ImmutableList.builder();
+    private @Nullable PatternMatchedCollection<ImmutableList<StringWithMacros>> platformLinkerFlags;
+    private @Nullable String executableName;
+    private @Nullable PatternMatchedCollection<ImmutableList<StringWithMacros>> postPlatformLinkerFlags;
+    private @Nullable PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+    private @Nullable String headerNamespace;
+    private @Nullable Linker.CxxRuntimeType cxxRuntimeType;
+    private ImmutableMap.Builder<String, Flavor> defaults = ImmutableMap.builder();
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+    private ImmutableList.Builder<UnconfiguredBuildTarget> compatibleWith = ImmutableList.builder();
+    private @Nullable String name;
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private @Nullable Flavor defaultPlatform;
+    private ImmutableSortedSet.Builder<BuildTarget> tests = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<FrameworkPath> frameworks = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<FrameworkPath> libraries = ImmutableSortedSet.naturalOrder();
+    private ImmutableList.Builder<StringWithMacros> swiftCompilerFlags = ImmutableList.builder();
+    private @Nullable String swiftVersion;
+    private ImmutableSortedSet.Builder<String> contacts = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.cxx.CxxConstructorArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(CxxConstructorArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasDefaultPlatform} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasDefaultPlatform instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.cxx.toolchain.HasSystemFrameworkAndLibraries} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasSystemFrameworkAndLibraries instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.ConstructorArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(ConstructorArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.cxx.LinkableCxxConstructorArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(LinkableCxxConstructorArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.cxx.CxxLibraryDescription.CommonArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(CxxLibraryDescription.CommonArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasTests} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasTests instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.swift.SwiftCommonArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(SwiftCommonArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.BuildRuleArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(BuildRuleArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasContacts} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasContacts instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AppleLibraryDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AppleLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAppleLibraryDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AppleLibraryDescription.AbstractAppleLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.apple.AppleNativeTargetDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AppleNativeTargetDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+      if (object instanceof CxxConstructorArg) {
+        CxxConstructorArg instance = (CxxConstructorArg) object;
+        setPlatformPreprocessorFlags(instance.getPlatformPreprocessorFlags());
+        addAllCompilerFlags(instance.getCompilerFlags());
+        setPlatformCompilerFlags(instance.getPlatformCompilerFlags());
+        addAllPreprocessorFlags(instance.getPreprocessorFlags());
+        Optional<String> executableNameOptional = instance.getExecutableName();
+        if (executableNameOptional.isPresent()) {
+          setExecutableName(executableNameOptional);
+        }
+        addAllLinkerExtraOutputs(instance.getLinkerExtraOutputs());
+        setRawHeaders(instance.getRawHeaders());
+        Optional<SourcePath> prefixHeaderOptional = instance.getPrefixHeader();
+        if (prefixHeaderOptional.isPresent()) {
+          setPrefixHeader(prefixHeaderOptional);
+        }
+        Optional<Linker.CxxRuntimeType> cxxRuntimeTypeOptional = instance.getCxxRuntimeType();
+        if (cxxRuntimeTypeOptional.isPresent()) {
+          setCxxRuntimeType(cxxRuntimeTypeOptional);
+        }
+        putAllLangPlatformCompilerFlags(instance.getLangPlatformCompilerFlags());
+        putAllLangPreprocessorFlags(instance.getLangPreprocessorFlags());
+        addAllPostLinkerFlags(instance.getPostLinkerFlags());
+        Optional<SourcePath> precompiledHeaderOptional = instance.getPrecompiledHeader();
+        if (precompiledHeaderOptional.isPresent()) {
+          setPrecompiledHeader(precompiledHeaderOptional);
+        }
+        putAllLangCompilerFlags(instance.getLangCompilerFlags());
+        putAllLangPlatformPreprocessorFlags(instance.getLangPlatformPreprocessorFlags());
+        setHeaders(instance.getHeaders());
+        setPlatformSrcs(instance.getPlatformSrcs());
+        setIncludeDirectories(instance.getIncludeDirectories());
+        setPlatformDeps(instance.getPlatformDeps());
+        addAllLinkerFlags(instance.getLinkerFlags());
+        setPostPlatformLinkerFlags(instance.getPostPlatformLinkerFlags());
+        putAllDefaults(instance.getDefaults());
+        setPlatformHeaders(instance.getPlatformHeaders());
+        addAllSrcs(instance.getSrcs());
+        Optional<String> headerNamespaceOptional = instance.getHeaderNamespace();
+        if (headerNamespaceOptional.isPresent()) {
+          setHeaderNamespace(headerNamespaceOptional);
+        }
+        setPlatformLinkerFlags(instance.getPlatformLinkerFlags());
+      }
+      if (object instanceof HasDefaultPlatform) {
+        HasDefaultPlatform instance = (HasDefaultPlatform) object;
+        Optional<Flavor> defaultPlatformOptional = instance.getDefaultPlatform();
+        if (defaultPlatformOptional.isPresent()) {
+          setDefaultPlatform(defaultPlatformOptional);
+        }
+      }
+      if (object instanceof HasSystemFrameworkAndLibraries) {
+        HasSystemFrameworkAndLibraries instance = (HasSystemFrameworkAndLibraries) object;
+        addAllLibraries(instance.getLibraries());
+        addAllFrameworks(instance.getFrameworks());
+      }
+      if (object instanceof ConstructorArg) {
+        ConstructorArg instance = (ConstructorArg) object;
+        setName(instance.getName());
+      }
+      if (object instanceof LinkableCxxConstructorArg) {
+        LinkableCxxConstructorArg instance = (LinkableCxxConstructorArg) object;
+        Optional<Linker.LinkableDepType> linkStyleOptional = instance.getLinkStyle();
+        if (linkStyleOptional.isPresent()) {
+          setLinkStyle(linkStyleOptional);
+        }
+        Optional<String> linkGroupOptional = instance.getLinkGroup();
+        if (linkGroupOptional.isPresent()) {
+          setLinkGroup(linkGroupOptional);
+        }
+        setThinLto(instance.getThinLto());
+        setFatLto(instance.getFatLto());
+        Optional<ImmutableList<CxxLinkGroupMapping>> linkGroupMapOptional = instance.getLinkGroupMap();
+        if (linkGroupMapOptional.isPresent()) {
+          setLinkGroupMap(linkGroupMapOptional);
+        }
+      }
+      if (object instanceof CxxLibraryDescription.CommonArg) {
+        CxxLibraryDescription.CommonArg instance = (CxxLibraryDescription.CommonArg) object;
+        putAllExportedLangPreprocessorFlags(instance.getExportedLangPreprocessorFlags());
+        setExportedPlatformDeps(instance.getExportedPlatformDeps());
+        Optional<String> moduleNameOptional = instance.getModuleName();
+        if (moduleNameOptional.isPresent()) {
+          setModuleName(moduleNameOptional);
+        }
+        setExportedPlatformHeaders(instance.getExportedPlatformHeaders());
+        setPublicIncludeDirectories(instance.getPublicIncludeDirectories());
+        Optional<String> staticLibraryBasenameOptional = instance.getStaticLibraryBasename();
+        if (staticLibraryBasenameOptional.isPresent()) {
+          setStaticLibraryBasename(staticLibraryBasenameOptional);
+        }
+        Optional<Boolean> xcodePrivateHeadersSymlinksOptional = instance.getXcodePrivateHeadersSymlinks();
+        if (xcodePrivateHeadersSymlinksOptional.isPresent()) {
+          setXcodePrivateHeadersSymlinks(xcodePrivateHeadersSymlinksOptional);
+        }
+        addAllExportedPostLinkerFlags(instance.getExportedPostLinkerFlags());
+        addAllExtraXcodeFiles(instance.getExtraXcodeFiles());
+        addAllExtraXcodeSources(instance.getExtraXcodeSources());
+        setExportedHeaderStyle(instance.getExportedHeaderStyle());
+        addAllExportedDeps(instance.getExportedDeps());
+        Optional<NativeLinkableGroup.Linkage> preferredLinkageOptional = instance.getPreferredLinkage();
+        if (preferredLinkageOptional.isPresent()) {
+          setPreferredLinkage(preferredLinkageOptional);
+        }
+        setExportedPlatformPreprocessorFlags(instance.getExportedPlatformPreprocessorFlags());
+        Optional<Boolean> linkWholeOptional = instance.getLinkWhole();
+        if (linkWholeOptional.isPresent()) {
+          setLinkWhole(linkWholeOptional);
+        }
+        Optional<Boolean> reexportAllHeaderDependenciesOptional = instance.isReexportAllHeaderDependencies();
+        if (reexportAllHeaderDependenciesOptional.isPresent()) {
+          setReexportAllHeaderDependencies(reexportAllHeaderDependenciesOptional);
+        }
+        setPublicSystemIncludeDirectories(instance.getPublicSystemIncludeDirectories());
+        setExportedHeaders(instance.getExportedHeaders());
+        addAllExportedLinkerFlags(instance.getExportedLinkerFlags());
+        Optional<Boolean> canBeAssetOptional = instance.getCanBeAsset();
+        if (canBeAssetOptional.isPresent()) {
+          setCanBeAsset(canBeAssetOptional);
+        }
+        setExportedPlatformLinkerFlags(instance.getExportedPlatformLinkerFlags());
+        Optional<String> sonameOptional = instance.getSoname();
+        if (sonameOptional.isPresent()) {
+          setSoname(sonameOptional);
+        }
+        Optional<Boolean> supportsMergedLinkingOptional = instance.getSupportsMergedLinking();
+        if (supportsMergedLinkingOptional.isPresent()) {
+          setSupportsMergedLinking(supportsMergedLinkingOptional);
+        }
+        Optional<Pattern> supportedPlatformsRegexOptional = instance.getSupportedPlatformsRegex();
+        if (supportedPlatformsRegexOptional.isPresent()) {
+          setSupportedPlatformsRegex(supportedPlatformsRegexOptional);
+        }
+        putAllExportedLangPlatformPreprocessorFlags(instance.getExportedLangPlatformPreprocessorFlags());
+        setExportedPostPlatformLinkerFlags(instance.getExportedPostPlatformLinkerFlags());
+        Optional<Boolean> forceStaticOptional = instance.getForceStatic();
+        if (forceStaticOptional.isPresent()) {
+          setForceStatic(forceStaticOptional);
+        }
+        Optional<Boolean> xcodePublicHeadersSymlinksOptional = instance.getXcodePublicHeadersSymlinks();
+        if (xcodePublicHeadersSymlinksOptional.isPresent()) {
+          setXcodePublicHeadersSymlinks(xcodePublicHeadersSymlinksOptional);
+        }
+        addAllExportedPreprocessorFlags(instance.getExportedPreprocessorFlags());
+        Optional<SourcePath> bridgingHeaderOptional = instance.getBridgingHeader();
+        if (bridgingHeaderOptional.isPresent()) {
+          setBridgingHeader(bridgingHeaderOptional);
+        }
+      }
+      if (object instanceof HasTests) {
+        HasTests instance = (HasTests) object;
+        addAllTests(instance.getTests());
+      }
+      if (object instanceof SwiftCommonArg) {
+        SwiftCommonArg instance = (SwiftCommonArg) object;
+        addAllSwiftCompilerFlags(instance.getSwiftCompilerFlags());
+        Optional<String> swiftVersionOptional = instance.getSwiftVersion();
+        if (swiftVersionOptional.isPresent()) {
+          setSwiftVersion(swiftVersionOptional);
+        }
+      }
+      if (object instanceof BuildRuleArg) {
+        BuildRuleArg instance = (BuildRuleArg) object;
+        addAllLicenses(instance.getLicenses());
+        addAllCompatibleWith(instance.getCompatibleWith());
+        addAllLabels(instance.getLabels());
+        Optional<UnconfiguredBuildTarget> defaultTargetPlatformOptional = instance.getDefaultTargetPlatform();
+        if (defaultTargetPlatformOptional.isPresent()) {
+          setDefaultTargetPlatform(defaultTargetPlatformOptional);
+        }
+      }
+      if (object instanceof HasContacts) {
+        HasContacts instance = (HasContacts) object;
+        addAllContacts(instance.getContacts());
+      }
+      if (object instanceof AppleLibraryDescription.AbstractAppleLibraryDescriptionArg) {
+        AppleLibraryDescription.AbstractAppleLibraryDescriptionArg instance = (AppleLibraryDescription.AbstractAppleLibraryDescriptionArg) object;
+        Optional<SourcePath> infoPlistOptional = instance.getInfoPlist();
+        if (infoPlistOptional.isPresent()) {
+          setInfoPlist(infoPlistOptional);
+        }
+        putAllInfoPlistSubstitutions(instance.getInfoPlistSubstitutions());
+      }
+      if (object instanceof AppleNativeTargetDescriptionArg) {
+        AppleNativeTargetDescriptionArg instance = (AppleNativeTargetDescriptionArg) object;
+        Optional<String> headerPathPrefixOptional = instance.getHeaderPathPrefix();
+        if (headerPathPrefixOptional.isPresent()) {
+          setHeaderPathPrefix(headerPathPrefixOptional);
+        }
+        putAllConfigs(instance.getConfigs());
+        setModular(instance.isModular());
+        Optional<String> targetSdkVersionOptional = instance.getTargetSdkVersion();
+        if (targetSdkVersionOptional.isPresent()) {
+          setTargetSdkVersion(targetSdkVersionOptional);
+        }
+        Optional<ModuleMapMode> modulemapModeOptional = instance.getModulemapMode();
+        if (modulemapModeOptional.isPresent()) {
+          setModulemapMode(modulemapModeOptional);
+        }
+      }
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getInfoPlist() infoPlist} to infoPlist.
+     * @param infoPlist The value for infoPlist
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setInfoPlist(SourcePath infoPlist) {
+      this.infoPlist = Objects.requireNonNull(infoPlist, "infoPlist");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getInfoPlist() infoPlist} to infoPlist.
+     * @param infoPlist The value for infoPlist
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setInfoPlist(Optional<? extends SourcePath> infoPlist) {
+      this.infoPlist = infoPlist.orElse(null);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleLibraryDescriptionArg#getInfoPlistSubstitutions() infoPlistSubstitutions} map.
+     * @param key The key in the infoPlistSubstitutions map
+     * @param value The associated value in the infoPlistSubstitutions map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putInfoPlistSubstitutions(String key, String value) {
+      this.infoPlistSubstitutions.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleLibraryDescriptionArg#getInfoPlistSubstitutions() infoPlistSubstitutions} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putInfoPlistSubstitutions(Map.Entry<String, ? extends String> entry) {
+      this.infoPlistSubstitutions.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AppleLibraryDescriptionArg#getInfoPlistSubstitutions() infoPlistSubstitutions} map. Nulls are not permitted
+     * @param entries The entries that will be added to the infoPlistSubstitutions map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setInfoPlistSubstitutions(Map<String, ? extends String> entries) {
+      this.infoPlistSubstitutions = ImmutableMap.builder();
+      return putAllInfoPlistSubstitutions(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AppleLibraryDescriptionArg#getInfoPlistSubstitutions() infoPlistSubstitutions} map. Nulls are not permitted
+     * @param entries The entries that will be added to the infoPlistSubstitutions map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllInfoPlistSubstitutions(Map<String, ? extends String> entries) {
+      this.infoPlistSubstitutions.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleLibraryDescriptionArg#getConfigs() configs} map.
+     * @param key The key in the configs map
+     * @param value The associated value in the configs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putConfigs(String key, ImmutableMap<String, String> value) {
+      this.configs.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleLibraryDescriptionArg#getConfigs() configs} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putConfigs(Map.Entry<String, ? extends ImmutableMap<String, String>> entry) {
+      this.configs.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AppleLibraryDescriptionArg#getConfigs() configs} map. Nulls are not permitted
+     * @param entries The entries that will be added to the configs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setConfigs(Map<String, ? extends ImmutableMap<String, String>> entries) {
+      this.configs = ImmutableSortedMap.naturalOrder();
+      return putAllConfigs(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AppleLibraryDescriptionArg#getConfigs() configs} map. Nulls are not permitted
+     * @param entries The entries that will be added to the configs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllConfigs(Map<String, ? extends ImmutableMap<String, String>> entries) {
+      this.configs.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getHeaderPathPrefix() headerPathPrefix} to headerPathPrefix.
+     * @param headerPathPrefix The value for headerPathPrefix
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHeaderPathPrefix(String headerPathPrefix) {
+      this.headerPathPrefix = Objects.requireNonNull(headerPathPrefix, "headerPathPrefix");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getHeaderPathPrefix() headerPathPrefix} to headerPathPrefix.
+     * @param headerPathPrefix The value for headerPathPrefix
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHeaderPathPrefix(Optional<String> headerPathPrefix) {
+      this.headerPathPrefix = headerPathPrefix.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleLibraryDescriptionArg#isModular() modular} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleLibraryDescriptionArg#isModular() modular}.</em>
+     * @param modular The value for modular 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setModular(boolean modular) {
+      this.modular = modular;
+      optBits |= OPT_BIT_MODULAR;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getModulemapMode() modulemapMode} to modulemapMode.
+     * @param modulemapMode The value for modulemapMode
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setModulemapMode(ModuleMapMode modulemapMode) {
+      this.modulemapMode = Objects.requireNonNull(modulemapMode, "modulemapMode");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getModulemapMode() modulemapMode} to modulemapMode.
+     * @param modulemapMode The value for modulemapMode
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setModulemapMode(Optional<? extends ModuleMapMode> modulemapMode) {
+      this.modulemapMode = modulemapMode.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getTargetSdkVersion() targetSdkVersion} to targetSdkVersion.
+     * @param targetSdkVersion The value for targetSdkVersion
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTargetSdkVersion(String targetSdkVersion) {
+      this.targetSdkVersion = Objects.requireNonNull(targetSdkVersion, "targetSdkVersion");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getTargetSdkVersion() targetSdkVersion} to targetSdkVersion.
+     * @param targetSdkVersion The value for targetSdkVersion
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTargetSdkVersion(Optional<String> targetSdkVersion) {
+      this.targetSdkVersion = targetSdkVersion.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleLibraryDescriptionArg#getExportedHeaders() exportedHeaders} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleLibraryDescriptionArg#getExportedHeaders() exportedHeaders}.</em>
+     * @param exportedHeaders The value for exportedHeaders 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExportedHeaders(SourceSortedSet exportedHeaders) {
+      this.exportedHeaders = Objects.requireNonNull(exportedHeaders, "exportedHeaders");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleLibraryDescriptionArg#getExportedPlatformHeaders() exportedPlatformHeaders} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleLibraryDescriptionArg#getExportedPlatformHeaders() exportedPlatformHeaders}.</em>
+     * @param exportedPlatformHeaders The value for exportedPlatformHeaders 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExportedPlatformHeaders(PatternMatchedCollection<SourceSortedSet> exportedPlatformHeaders) {
+      this.exportedPlatformHeaders = Objects.requireNonNull(exportedPlatformHeaders, "exportedPlatformHeaders");
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleLibraryDescriptionArg#getExportedPreprocessorFlags() exportedPreprocessorFlags} list.
+     * @param element A exportedPreprocessorFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExportedPreprocessorFlags(StringWithMacros element) {
+      this.exportedPreprocessorFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getExportedPreprocessorFlags() exportedPreprocessorFlags} list.
+     * @param elements An array of exportedPreprocessorFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExportedPreprocessorFlags(StringWithMacros... elements) {
+      this.exportedPreprocessorFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleLibraryDescriptionArg#getExportedPreprocessorFlags() exportedPreprocessorFlags} list.
+     * @param elements An iterable of exportedPreprocessorFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExportedPreprocessorFlags(Iterable<? extends StringWithMacros> elements) {
+      this.exportedPreprocessorFlags = ImmutableList.builder();
+      return addAllExportedPreprocessorFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getExportedPreprocessorFlags() exportedPreprocessorFlags} list.
+     * @param elements An iterable of exportedPreprocessorFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllExportedPreprocessorFlags(Iterable<? extends StringWithMacros> elements) {
+      this.exportedPreprocessorFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleLibraryDescriptionArg#getExportedPlatformPreprocessorFlags() exportedPlatformPreprocessorFlags} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleLibraryDescriptionArg#getExportedPlatformPreprocessorFlags() exportedPlatformPreprocessorFlags}.</em>
+     * @param exportedPlatformPreprocessorFlags The value for exportedPlatformPreprocessorFlags 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExportedPlatformPreprocessorFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPlatformPreprocessorFlags) {
+      this.exportedPlatformPreprocessorFlags = Objects.requireNonNull(exportedPlatformPreprocessorFlags, "exportedPlatformPreprocessorFlags");
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleLibraryDescriptionArg#getExportedLangPreprocessorFlags() exportedLangPreprocessorFlags} map.
+     * @param key The key in the exportedLangPreprocessorFlags map
+     * @param value The associated value in the exportedLangPreprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putExportedLangPreprocessorFlags(CxxSource.Type key, ImmutableList<StringWithMacros> value) {
+      this.exportedLangPreprocessorFlags.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleLibraryDescriptionArg#getExportedLangPreprocessorFlags() exportedLangPreprocessorFlags} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putExportedLangPreprocessorFlags(Map.Entry<CxxSource.Type, ? extends ImmutableList<StringWithMacros>> entry) {
+      this.exportedLangPreprocessorFlags.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AppleLibraryDescriptionArg#getExportedLangPreprocessorFlags() exportedLangPreprocessorFlags} map. Nulls are not permitted
+     * @param entries The entries that will be added to the exportedLangPreprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExportedLangPreprocessorFlags(Map<CxxSource.Type, ? extends ImmutableList<StringWithMacros>> entries) {
+      this.exportedLangPreprocessorFlags = ImmutableMap.builder();
+      return putAllExportedLangPreprocessorFlags(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AppleLibraryDescriptionArg#getExportedLangPreprocessorFlags() exportedLangPreprocessorFlags} map. Nulls are not permitted
+     * @param entries The entries that will be added to the exportedLangPreprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllExportedLangPreprocessorFlags(Map<CxxSource.Type, ? extends ImmutableList<StringWithMacros>> entries) {
+      this.exportedLangPreprocessorFlags.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleLibraryDescriptionArg#getExportedLangPlatformPreprocessorFlags() exportedLangPlatformPreprocessorFlags} map.
+     * @param key The key in the exportedLangPlatformPreprocessorFlags map
+     * @param value The associated value in the exportedLangPlatformPreprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putExportedLangPlatformPreprocessorFlags(CxxSource.Type key, PatternMatchedCollection<ImmutableList<StringWithMacros>> value) {
+      this.exportedLangPlatformPreprocessorFlags.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleLibraryDescriptionArg#getExportedLangPlatformPreprocessorFlags() exportedLangPlatformPreprocessorFlags} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putExportedLangPlatformPreprocessorFlags(Map.Entry<CxxSource.Type, ? extends PatternMatchedCollection<ImmutableList<StringWithMacros>>> entry) {
+      this.exportedLangPlatformPreprocessorFlags.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AppleLibraryDescriptionArg#getExportedLangPlatformPreprocessorFlags() exportedLangPlatformPreprocessorFlags} map. Nulls are not permitted
+     * @param entries The entries that will be added to the exportedLangPlatformPreprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExportedLangPlatformPreprocessorFlags(Map<CxxSource.Type, ? extends PatternMatchedCollection<ImmutableList<StringWithMacros>>> entries) {
+      this.exportedLangPlatformPreprocessorFlags = ImmutableMap.builder();
+      return putAllExportedLangPlatformPreprocessorFlags(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AppleLibraryDescriptionArg#getExportedLangPlatformPreprocessorFlags() exportedLangPlatformPreprocessorFlags} map. Nulls are not permitted
+     * @param entries The entries that will be added to the exportedLangPlatformPreprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllExportedLangPlatformPreprocessorFlags(Map<CxxSource.Type, ? extends PatternMatchedCollection<ImmutableList<StringWithMacros>>> entries) {
+      this.exportedLangPlatformPreprocessorFlags.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleLibraryDescriptionArg#getExportedLinkerFlags() exportedLinkerFlags} list.
+     * @param element A exportedLinkerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExportedLinkerFlags(StringWithMacros element) {
+      this.exportedLinkerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getExportedLinkerFlags() exportedLinkerFlags} list.
+     * @param elements An array of exportedLinkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExportedLinkerFlags(StringWithMacros... elements) {
+      this.exportedLinkerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleLibraryDescriptionArg#getExportedLinkerFlags() exportedLinkerFlags} list.
+     * @param elements An iterable of exportedLinkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExportedLinkerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.exportedLinkerFlags = ImmutableList.builder();
+      return addAllExportedLinkerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getExportedLinkerFlags() exportedLinkerFlags} list.
+     * @param elements An iterable of exportedLinkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllExportedLinkerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.exportedLinkerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleLibraryDescriptionArg#getExportedPostLinkerFlags() exportedPostLinkerFlags} list.
+     * @param element A exportedPostLinkerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExportedPostLinkerFlags(StringWithMacros element) {
+      this.exportedPostLinkerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getExportedPostLinkerFlags() exportedPostLinkerFlags} list.
+     * @param elements An array of exportedPostLinkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExportedPostLinkerFlags(StringWithMacros... elements) {
+      this.exportedPostLinkerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleLibraryDescriptionArg#getExportedPostLinkerFlags() exportedPostLinkerFlags} list.
+     * @param elements An iterable of exportedPostLinkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExportedPostLinkerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.exportedPostLinkerFlags = ImmutableList.builder();
+      return addAllExportedPostLinkerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getExportedPostLinkerFlags() exportedPostLinkerFlags} list.
+     * @param elements An iterable of exportedPostLinkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllExportedPostLinkerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.exportedPostLinkerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleLibraryDescriptionArg#getExportedPlatformLinkerFlags() exportedPlatformLinkerFlags} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleLibraryDescriptionArg#getExportedPlatformLinkerFlags() exportedPlatformLinkerFlags}.</em>
+     * @param exportedPlatformLinkerFlags The value for exportedPlatformLinkerFlags 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExportedPlatformLinkerFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPlatformLinkerFlags) {
+      this.exportedPlatformLinkerFlags = Objects.requireNonNull(exportedPlatformLinkerFlags, "exportedPlatformLinkerFlags");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleLibraryDescriptionArg#getExportedPostPlatformLinkerFlags() exportedPostPlatformLinkerFlags} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleLibraryDescriptionArg#getExportedPostPlatformLinkerFlags() exportedPostPlatformLinkerFlags}.</em>
+     * @param exportedPostPlatformLinkerFlags The value for exportedPostPlatformLinkerFlags 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExportedPostPlatformLinkerFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPostPlatformLinkerFlags) {
+      this.exportedPostPlatformLinkerFlags = Objects.requireNonNull(exportedPostPlatformLinkerFlags, "exportedPostPlatformLinkerFlags");
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleLibraryDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param element A exportedDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExportedDeps(BuildTarget element) {
+      this.exportedDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param elements An array of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExportedDeps(BuildTarget... elements) {
+      this.exportedDeps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleLibraryDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param elements An iterable of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExportedDeps(Iterable<? extends BuildTarget> elements) {
+      this.exportedDeps = ImmutableSortedSet.naturalOrder();
+      return addAllExportedDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param elements An iterable of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllExportedDeps(Iterable<? extends BuildTarget> elements) {
+      this.exportedDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleLibraryDescriptionArg#getExportedPlatformDeps() exportedPlatformDeps} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleLibraryDescriptionArg#getExportedPlatformDeps() exportedPlatformDeps}.</em>
+     * @param exportedPlatformDeps The value for exportedPlatformDeps 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExportedPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> exportedPlatformDeps) {
+      this.exportedPlatformDeps = Objects.requireNonNull(exportedPlatformDeps, "exportedPlatformDeps");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getSupportedPlatformsRegex() supportedPlatformsRegex} to supportedPlatformsRegex.
+     * @param supportedPlatformsRegex The value for supportedPlatformsRegex
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSupportedPlatformsRegex(Pattern supportedPlatformsRegex) {
+      this.supportedPlatformsRegex = Objects.requireNonNull(supportedPlatformsRegex, "supportedPlatformsRegex");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getSupportedPlatformsRegex() supportedPlatformsRegex} to supportedPlatformsRegex.
+     * @param supportedPlatformsRegex The value for supportedPlatformsRegex
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSupportedPlatformsRegex(Optional<? extends Pattern> supportedPlatformsRegex) {
+      this.supportedPlatformsRegex = supportedPlatformsRegex.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getSoname() soname} to soname.
+     * @param soname The value for soname
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSoname(String soname) {
+      this.soname = Objects.requireNonNull(soname, "soname");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getSoname() soname} to soname.
+     * @param soname The value for soname
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSoname(Optional<String> soname) {
+      this.soname = soname.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getStaticLibraryBasename() staticLibraryBasename} to staticLibraryBasename.
+     * @param staticLibraryBasename The value for staticLibraryBasename
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStaticLibraryBasename(String staticLibraryBasename) {
+      this.staticLibraryBasename = Objects.requireNonNull(staticLibraryBasename, "staticLibraryBasename");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getStaticLibraryBasename() staticLibraryBasename} to staticLibraryBasename.
+     * @param staticLibraryBasename The value for staticLibraryBasename
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStaticLibraryBasename(Optional<String> staticLibraryBasename) {
+      this.staticLibraryBasename = staticLibraryBasename.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getForceStatic() forceStatic} to forceStatic.
+     * @param forceStatic The value for forceStatic
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setForceStatic(boolean forceStatic) {
+      this.forceStatic = forceStatic;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getForceStatic() forceStatic} to forceStatic.
+     * @param forceStatic The value for forceStatic
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setForceStatic(Optional<Boolean> forceStatic) {
+      this.forceStatic = forceStatic.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getLinkWhole() linkWhole} to linkWhole.
+     * @param linkWhole The value for linkWhole
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLinkWhole(boolean linkWhole) {
+      this.linkWhole = linkWhole;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getLinkWhole() linkWhole} to linkWhole.
+     * @param linkWhole The value for linkWhole
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLinkWhole(Optional<Boolean> linkWhole) {
+      this.linkWhole = linkWhole.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getCanBeAsset() canBeAsset} to canBeAsset.
+     * @param canBeAsset The value for canBeAsset
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCanBeAsset(boolean canBeAsset) {
+      this.canBeAsset = canBeAsset;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getCanBeAsset() canBeAsset} to canBeAsset.
+     * @param canBeAsset The value for canBeAsset
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCanBeAsset(Optional<Boolean> canBeAsset) {
+      this.canBeAsset = canBeAsset.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getPreferredLinkage() preferredLinkage} to preferredLinkage.
+     * @param preferredLinkage The value for preferredLinkage
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPreferredLinkage(NativeLinkableGroup.Linkage preferredLinkage) {
+      this.preferredLinkage = Objects.requireNonNull(preferredLinkage, "preferredLinkage");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getPreferredLinkage() preferredLinkage} to preferredLinkage.
+     * @param preferredLinkage The value for preferredLinkage
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPreferredLinkage(Optional<? extends NativeLinkableGroup.Linkage> preferredLinkage) {
+      this.preferredLinkage = preferredLinkage.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getXcodePublicHeadersSymlinks() xcodePublicHeadersSymlinks} to xcodePublicHeadersSymlinks.
+     * @param xcodePublicHeadersSymlinks The value for xcodePublicHeadersSymlinks
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setXcodePublicHeadersSymlinks(boolean xcodePublicHeadersSymlinks) {
+      this.xcodePublicHeadersSymlinks = xcodePublicHeadersSymlinks;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getXcodePublicHeadersSymlinks() xcodePublicHeadersSymlinks} to xcodePublicHeadersSymlinks.
+     * @param xcodePublicHeadersSymlinks The value for xcodePublicHeadersSymlinks
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setXcodePublicHeadersSymlinks(Optional<Boolean> xcodePublicHeadersSymlinks) {
+      this.xcodePublicHeadersSymlinks = xcodePublicHeadersSymlinks.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getXcodePrivateHeadersSymlinks() xcodePrivateHeadersSymlinks} to xcodePrivateHeadersSymlinks.
+     * @param xcodePrivateHeadersSymlinks The value for xcodePrivateHeadersSymlinks
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setXcodePrivateHeadersSymlinks(boolean xcodePrivateHeadersSymlinks) {
+      this.xcodePrivateHeadersSymlinks = xcodePrivateHeadersSymlinks;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getXcodePrivateHeadersSymlinks() xcodePrivateHeadersSymlinks} to xcodePrivateHeadersSymlinks.
+     * @param xcodePrivateHeadersSymlinks The value for xcodePrivateHeadersSymlinks
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setXcodePrivateHeadersSymlinks(Optional<Boolean> xcodePrivateHeadersSymlinks) {
+      this.xcodePrivateHeadersSymlinks = xcodePrivateHeadersSymlinks.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleLibraryDescriptionArg#getExtraXcodeSources() extraXcodeSources} list.
+     * @param element A extraXcodeSources element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExtraXcodeSources(SourcePath element) {
+      this.extraXcodeSources.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getExtraXcodeSources() extraXcodeSources} list.
+     * @param elements An array of extraXcodeSources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExtraXcodeSources(SourcePath... elements) {
+      this.extraXcodeSources.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleLibraryDescriptionArg#getExtraXcodeSources() extraXcodeSources} list.
+     * @param elements An iterable of extraXcodeSources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExtraXcodeSources(Iterable<? extends SourcePath> elements) {
+      this.extraXcodeSources = ImmutableList.builder();
+      return addAllExtraXcodeSources(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getExtraXcodeSources() extraXcodeSources} list.
+     * @param elements An iterable of extraXcodeSources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllExtraXcodeSources(Iterable<? extends SourcePath> elements) {
+      this.extraXcodeSources.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleLibraryDescriptionArg#getExtraXcodeFiles() extraXcodeFiles} list.
+     * @param element A extraXcodeFiles element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExtraXcodeFiles(SourcePath element) {
+      this.extraXcodeFiles.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getExtraXcodeFiles() extraXcodeFiles} list.
+     * @param elements An array of extraXcodeFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExtraXcodeFiles(SourcePath... elements) {
+      this.extraXcodeFiles.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleLibraryDescriptionArg#getExtraXcodeFiles() extraXcodeFiles} list.
+     * @param elements An iterable of extraXcodeFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExtraXcodeFiles(Iterable<? extends SourcePath> elements) {
+      this.extraXcodeFiles = ImmutableList.builder();
+      return addAllExtraXcodeFiles(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getExtraXcodeFiles() extraXcodeFiles} list.
+     * @param elements An iterable of extraXcodeFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllExtraXcodeFiles(Iterable<? extends SourcePath> elements) {
+      this.extraXcodeFiles.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#isReexportAllHeaderDependencies() reexportAllHeaderDependencies} to reexportAllHeaderDependencies.
+     * @param reexportAllHeaderDependencies The value for reexportAllHeaderDependencies
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setReexportAllHeaderDependencies(boolean reexportAllHeaderDependencies) {
+      this.reexportAllHeaderDependencies = reexportAllHeaderDependencies;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#isReexportAllHeaderDependencies() reexportAllHeaderDependencies} to reexportAllHeaderDependencies.
+     * @param reexportAllHeaderDependencies The value for reexportAllHeaderDependencies
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setReexportAllHeaderDependencies(Optional<Boolean> reexportAllHeaderDependencies) {
+      this.reexportAllHeaderDependencies = reexportAllHeaderDependencies.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getBridgingHeader() bridgingHeader} to bridgingHeader.
+     * @param bridgingHeader The value for bridgingHeader
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBridgingHeader(SourcePath bridgingHeader) {
+      this.bridgingHeader = Objects.requireNonNull(bridgingHeader, "bridgingHeader");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getBridgingHeader() bridgingHeader} to bridgingHeader.
+     * @param bridgingHeader The value for bridgingHeader
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBridgingHeader(Optional<? extends SourcePath> bridgingHeader) {
+      this.bridgingHeader = bridgingHeader.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getModuleName() moduleName} to moduleName.
+     * @param moduleName The value for moduleName
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setModuleName(String moduleName) {
+      this.moduleName = Objects.requireNonNull(moduleName, "moduleName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getModuleName() moduleName} to moduleName.
+     * @param moduleName The value for moduleName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setModuleName(Optional<String> moduleName) {
+      this.moduleName = moduleName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleLibraryDescriptionArg#getPublicIncludeDirectories() publicIncludeDirectories} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleLibraryDescriptionArg#getPublicIncludeDirectories() publicIncludeDirectories}.</em>
+     * @param publicIncludeDirectories The value for publicIncludeDirectories 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPublicIncludeDirectories(ImmutableSortedSet<String> publicIncludeDirectories) {
+      this.publicIncludeDirectories = Objects.requireNonNull(publicIncludeDirectories, "publicIncludeDirectories");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleLibraryDescriptionArg#getPublicSystemIncludeDirectories() publicSystemIncludeDirectories} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleLibraryDescriptionArg#getPublicSystemIncludeDirectories() publicSystemIncludeDirectories}.</em>
+     * @param publicSystemIncludeDirectories The value for publicSystemIncludeDirectories 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPublicSystemIncludeDirectories(ImmutableSortedSet<String> publicSystemIncludeDirectories) {
+      this.publicSystemIncludeDirectories = Objects.requireNonNull(publicSystemIncludeDirectories, "publicSystemIncludeDirectories");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleLibraryDescriptionArg#getExportedHeaderStyle() exportedHeaderStyle} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleLibraryDescriptionArg#getExportedHeaderStyle() exportedHeaderStyle}.</em>
+     * @param exportedHeaderStyle The value for exportedHeaderStyle 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExportedHeaderStyle(CxxPreprocessables.IncludeType exportedHeaderStyle) {
+      this.exportedHeaderStyle = Objects.requireNonNull(exportedHeaderStyle, "exportedHeaderStyle");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getSupportsMergedLinking() supportsMergedLinking} to supportsMergedLinking.
+     * @param supportsMergedLinking The value for supportsMergedLinking
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSupportsMergedLinking(boolean supportsMergedLinking) {
+      this.supportsMergedLinking = supportsMergedLinking;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getSupportsMergedLinking() supportsMergedLinking} to supportsMergedLinking.
+     * @param supportsMergedLinking The value for supportsMergedLinking
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSupportsMergedLinking(Optional<Boolean> supportsMergedLinking) {
+      this.supportsMergedLinking = supportsMergedLinking.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getLinkStyle() linkStyle} to linkStyle.
+     * @param linkStyle The value for linkStyle
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLinkStyle(Linker.LinkableDepType linkStyle) {
+      this.linkStyle = Objects.requireNonNull(linkStyle, "linkStyle");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getLinkStyle() linkStyle} to linkStyle.
+     * @param linkStyle The value for linkStyle
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLinkStyle(Optional<? extends Linker.LinkableDepType> linkStyle) {
+      this.linkStyle = linkStyle.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getLinkGroupMap() linkGroupMap} to linkGroupMap.
+     * @param linkGroupMap The value for linkGroupMap
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLinkGroupMap(ImmutableList<CxxLinkGroupMapping> linkGroupMap) {
+      this.linkGroupMap = Objects.requireNonNull(linkGroupMap, "linkGroupMap");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getLinkGroupMap() linkGroupMap} to linkGroupMap.
+     * @param linkGroupMap The value for linkGroupMap
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLinkGroupMap(Optional<? extends ImmutableList<CxxLinkGroupMapping>> linkGroupMap) {
+      this.linkGroupMap = linkGroupMap.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getLinkGroup() linkGroup} to linkGroup.
+     * @param linkGroup The value for linkGroup
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLinkGroup(String linkGroup) {
+      this.linkGroup = Objects.requireNonNull(linkGroup, "linkGroup");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getLinkGroup() linkGroup} to linkGroup.
+     * @param linkGroup The value for linkGroup
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLinkGroup(Optional<String> linkGroup) {
+      this.linkGroup = linkGroup.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleLibraryDescriptionArg#getThinLto() thinLto} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleLibraryDescriptionArg#getThinLto() thinLto}.</em>
+     * @param thinLto The value for thinLto 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setThinLto(boolean thinLto) {
+      this.thinLto = thinLto;
+      optBits |= OPT_BIT_THIN_LTO;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleLibraryDescriptionArg#getFatLto() fatLto} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleLibraryDescriptionArg#getFatLto() fatLto}.</em>
+     * @param fatLto The value for fatLto 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setFatLto(boolean fatLto) {
+      this.fatLto = fatLto;
+      optBits |= OPT_BIT_FAT_LTO;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleLibraryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param element A srcs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addSrcs(SourceWithFlags element) {
+      this.srcs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An array of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addSrcs(SourceWithFlags... elements) {
+      this.srcs.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleLibraryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSrcs(Iterable<? extends SourceWithFlags> elements) {
+      this.srcs = ImmutableSortedSet.naturalOrder();
+      return addAllSrcs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllSrcs(Iterable<? extends SourceWithFlags> elements) {
+      this.srcs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleLibraryDescriptionArg#getPlatformSrcs() platformSrcs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleLibraryDescriptionArg#getPlatformSrcs() platformSrcs}.</em>
+     * @param platformSrcs The value for platformSrcs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformSrcs(PatternMatchedCollection<ImmutableSortedSet<SourceWithFlags>> platformSrcs) {
+      this.platformSrcs = Objects.requireNonNull(platformSrcs, "platformSrcs");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleLibraryDescriptionArg#getHeaders() headers} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleLibraryDescriptionArg#getHeaders() headers}.</em>
+     * @param headers The value for headers 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHeaders(SourceSortedSet headers) {
+      this.headers = Objects.requireNonNull(headers, "headers");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleLibraryDescriptionArg#getRawHeaders() rawHeaders} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleLibraryDescriptionArg#getRawHeaders() rawHeaders}.</em>
+     * @param rawHeaders The value for rawHeaders 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRawHeaders(ImmutableSortedSet<SourcePath> rawHeaders) {
+      this.rawHeaders = Objects.requireNonNull(rawHeaders, "rawHeaders");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleLibraryDescriptionArg#getIncludeDirectories() includeDirectories} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleLibraryDescriptionArg#getIncludeDirectories() includeDirectories}.</em>
+     * @param includeDirectories The value for includeDirectories 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIncludeDirectories(ImmutableSortedSet<String> includeDirectories) {
+      this.includeDirectories = Objects.requireNonNull(includeDirectories, "includeDirectories");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleLibraryDescriptionArg#getPlatformHeaders() platformHeaders} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleLibraryDescriptionArg#getPlatformHeaders() platformHeaders}.</em>
+     * @param platformHeaders The value for platformHeaders 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformHeaders(PatternMatchedCollection<SourceSortedSet> platformHeaders) {
+      this.platformHeaders = Objects.requireNonNull(platformHeaders, "platformHeaders");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getPrefixHeader() prefixHeader} to prefixHeader.
+     * @param prefixHeader The value for prefixHeader
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPrefixHeader(SourcePath prefixHeader) {
+      this.prefixHeader = Objects.requireNonNull(prefixHeader, "prefixHeader");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getPrefixHeader() prefixHeader} to prefixHeader.
+     * @param prefixHeader The value for prefixHeader
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPrefixHeader(Optional<? extends SourcePath> prefixHeader) {
+      this.prefixHeader = prefixHeader.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getPrecompiledHeader() precompiledHeader} to precompiledHeader.
+     * @param precompiledHeader The value for precompiledHeader
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPrecompiledHeader(SourcePath precompiledHeader) {
+      this.precompiledHeader = Objects.requireNonNull(precompiledHeader, "precompiledHeader");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getPrecompiledHeader() precompiledHeader} to precompiledHeader.
+     * @param precompiledHeader The value for precompiledHeader
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPrecompiledHeader(Optional<? extends SourcePath> precompiledHeader) {
+      this.precompiledHeader = precompiledHeader.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleLibraryDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param element A compilerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompilerFlags(StringWithMacros element) {
+      this.compilerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An array of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompilerFlags(StringWithMacros... elements) {
+      this.compilerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleLibraryDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An iterable of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompilerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.compilerFlags = ImmutableList.builder();
+      return addAllCompilerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getCompilerFlags() compilerFlags} list.
+     * @param elements An iterable of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCompilerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.compilerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleLibraryDescriptionArg#getLangCompilerFlags() langCompilerFlags} map.
+     * @param key The key in the langCompilerFlags map
+     * @param value The associated value in the langCompilerFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putLangCompilerFlags(CxxSource.Type key, ImmutableList<StringWithMacros> value) {
+      this.langCompilerFlags.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleLibraryDescriptionArg#getLangCompilerFlags() langCompilerFlags} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putLangCompilerFlags(Map.Entry<CxxSource.Type, ? extends ImmutableList<StringWithMacros>> entry) {
+      this.langCompilerFlags.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AppleLibraryDescriptionArg#getLangCompilerFlags() langCompilerFlags} map. Nulls are not permitted
+     * @param entries The entries that will be added to the langCompilerFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLangCompilerFlags(Map<CxxSource.Type, ? extends ImmutableList<StringWithMacros>> entries) {
+      this.langCompilerFlags = ImmutableMap.builder();
+      return putAllLangCompilerFlags(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AppleLibraryDescriptionArg#getLangCompilerFlags() langCompilerFlags} map. Nulls are not permitted
+     * @param entries The entries that will be added to the langCompilerFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllLangCompilerFlags(Map<CxxSource.Type, ? extends ImmutableList<StringWithMacros>> entries) {
+      this.langCompilerFlags.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleLibraryDescriptionArg#getLangPlatformCompilerFlags() langPlatformCompilerFlags} map.
+     * @param key The key in the langPlatformCompilerFlags map
+     * @param value The associated value in the langPlatformCompilerFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putLangPlatformCompilerFlags(CxxSource.Type key, PatternMatchedCollection<ImmutableList<StringWithMacros>> value) {
+      this.langPlatformCompilerFlags.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleLibraryDescriptionArg#getLangPlatformCompilerFlags() langPlatformCompilerFlags} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putLangPlatformCompilerFlags(Map.Entry<CxxSource.Type, ? extends PatternMatchedCollection<ImmutableList<StringWithMacros>>> entry) {
+      this.langPlatformCompilerFlags.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AppleLibraryDescriptionArg#getLangPlatformCompilerFlags() langPlatformCompilerFlags} map. Nulls are not permitted
+     * @param entries The entries that will be added to the langPlatformCompilerFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLangPlatformCompilerFlags(Map<CxxSource.Type, ? extends PatternMatchedCollection<ImmutableList<StringWithMacros>>> entries) {
+      this.langPlatformCompilerFlags = ImmutableMap.builder();
+      return putAllLangPlatformCompilerFlags(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AppleLibraryDescriptionArg#getLangPlatformCompilerFlags() langPlatformCompilerFlags} map. Nulls are not permitted
+     * @param entries The entries that will be added to the langPlatformCompilerFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllLangPlatformCompilerFlags(Map<CxxSource.Type, ? extends PatternMatchedCollection<ImmutableList<StringWithMacros>>> entries) {
+      this.langPlatformCompilerFlags.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleLibraryDescriptionArg#getPlatformCompilerFlags() platformCompilerFlags} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleLibraryDescriptionArg#getPlatformCompilerFlags() platformCompilerFlags}.</em>
+     * @param platformCompilerFlags The value for platformCompilerFlags 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformCompilerFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> platformCompilerFlags) {
+      this.platformCompilerFlags = Objects.requireNonNull(platformCompilerFlags, "platformCompilerFlags");
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleLibraryDescriptionArg#getPreprocessorFlags() preprocessorFlags} list.
+     * @param element A preprocessorFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPreprocessorFlags(StringWithMacros element) {
+      this.preprocessorFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getPreprocessorFlags() preprocessorFlags} list.
+     * @param elements An array of preprocessorFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPreprocessorFlags(StringWithMacros... elements) {
+      this.preprocessorFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleLibraryDescriptionArg#getPreprocessorFlags() preprocessorFlags} list.
+     * @param elements An iterable of preprocessorFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPreprocessorFlags(Iterable<? extends StringWithMacros> elements) {
+      this.preprocessorFlags = ImmutableList.builder();
+      return addAllPreprocessorFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getPreprocessorFlags() preprocessorFlags} list.
+     * @param elements An iterable of preprocessorFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllPreprocessorFlags(Iterable<? extends StringWithMacros> elements) {
+      this.preprocessorFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleLibraryDescriptionArg#getPlatformPreprocessorFlags() platformPreprocessorFlags} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleLibraryDescriptionArg#getPlatformPreprocessorFlags() platformPreprocessorFlags}.</em>
+     * @param platformPreprocessorFlags The value for platformPreprocessorFlags 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformPreprocessorFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> platformPreprocessorFlags) {
+      this.platformPreprocessorFlags = Objects.requireNonNull(platformPreprocessorFlags, "platformPreprocessorFlags");
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleLibraryDescriptionArg#getLangPreprocessorFlags() langPreprocessorFlags} map.
+     * @param key The key in the langPreprocessorFlags map
+     * @param value The associated value in the langPreprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putLangPreprocessorFlags(CxxSource.Type key, ImmutableList<StringWithMacros> value) {
+      this.langPreprocessorFlags.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleLibraryDescriptionArg#getLangPreprocessorFlags() langPreprocessorFlags} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putLangPreprocessorFlags(Map.Entry<CxxSource.Type, ? extends ImmutableList<StringWithMacros>> entry) {
+      this.langPreprocessorFlags.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AppleLibraryDescriptionArg#getLangPreprocessorFlags() langPreprocessorFlags} map. Nulls are not permitted
+     * @param entries The entries that will be added to the langPreprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLangPreprocessorFlags(Map<CxxSource.Type, ? extends ImmutableList<StringWithMacros>> entries) {
+      this.langPreprocessorFlags = ImmutableMap.builder();
+      return putAllLangPreprocessorFlags(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AppleLibraryDescriptionArg#getLangPreprocessorFlags() langPreprocessorFlags} map. Nulls are not permitted
+     * @param entries The entries that will be added to the langPreprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllLangPreprocessorFlags(Map<CxxSource.Type, ? extends ImmutableList<StringWithMacros>> entries) {
+      this.langPreprocessorFlags.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleLibraryDescriptionArg#getLangPlatformPreprocessorFlags() langPlatformPreprocessorFlags} map.
+     * @param key The key in the langPlatformPreprocessorFlags map
+     * @param value The associated value in the langPlatformPreprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putLangPlatformPreprocessorFlags(CxxSource.Type key, PatternMatchedCollection<ImmutableList<StringWithMacros>> value) {
+      this.langPlatformPreprocessorFlags.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleLibraryDescriptionArg#getLangPlatformPreprocessorFlags() langPlatformPreprocessorFlags} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putLangPlatformPreprocessorFlags(Map.Entry<CxxSource.Type, ? extends PatternMatchedCollection<ImmutableList<StringWithMacros>>> entry) {
+      this.langPlatformPreprocessorFlags.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AppleLibraryDescriptionArg#getLangPlatformPreprocessorFlags() langPlatformPreprocessorFlags} map. Nulls are not permitted
+     * @param entries The entries that will be added to the langPlatformPreprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLangPlatformPreprocessorFlags(Map<CxxSource.Type, ? extends PatternMatchedCollection<ImmutableList<StringWithMacros>>> entries) {
+      this.langPlatformPreprocessorFlags = ImmutableMap.builder();
+      return putAllLangPlatformPreprocessorFlags(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AppleLibraryDescriptionArg#getLangPlatformPreprocessorFlags() langPlatformPreprocessorFlags} map. Nulls are not permitted
+     * @param entries The entries that will be added to the langPlatformPreprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllLangPlatformPreprocessorFlags(Map<CxxSource.Type, ? extends PatternMatchedCollection<ImmutableList<StringWithMacros>>> entries) {
+      this.langPlatformPreprocessorFlags.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleLibraryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param element A linkerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLinkerFlags(StringWithMacros element) {
+      this.linkerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An array of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLinkerFlags(StringWithMacros... elements) {
+      this.linkerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleLibraryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLinkerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.linkerFlags = ImmutableList.builder();
+      return addAllLinkerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLinkerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.linkerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleLibraryDescriptionArg#getPostLinkerFlags() postLinkerFlags} list.
+     * @param element A postLinkerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPostLinkerFlags(StringWithMacros element) {
+      this.postLinkerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getPostLinkerFlags() postLinkerFlags} list.
+     * @param elements An array of postLinkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPostLinkerFlags(StringWithMacros... elements) {
+      this.postLinkerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleLibraryDescriptionArg#getPostLinkerFlags() postLinkerFlags} list.
+     * @param elements An iterable of postLinkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPostLinkerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.postLinkerFlags = ImmutableList.builder();
+      return addAllPostLinkerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getPostLinkerFlags() postLinkerFlags} list.
+     * @param elements An iterable of postLinkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllPostLinkerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.postLinkerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleLibraryDescriptionArg#getLinkerExtraOutputs() linkerExtraOutputs} list.
+     * @param element A linkerExtraOutputs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLinkerExtraOutputs(String element) {
+      this.linkerExtraOutputs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getLinkerExtraOutputs() linkerExtraOutputs} list.
+     * @param elements An array of linkerExtraOutputs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLinkerExtraOutputs(String... elements) {
+      this.linkerExtraOutputs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleLibraryDescriptionArg#getLinkerExtraOutputs() linkerExtraOutputs} list.
+     * @param elements An iterable of linkerExtraOutputs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLinkerExtraOutputs(Iterable<String> elements) {
+      this.linkerExtraOutputs = ImmutableList.builder();
+      return addAllLinkerExtraOutputs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getLinkerExtraOutputs() linkerExtraOutputs} list.
+     * @param elements An iterable of linkerExtraOutputs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLinkerExtraOutputs(Iterable<String> elements) {
+      this.linkerExtraOutputs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleLibraryDescriptionArg#getPlatformLinkerFlags() platformLinkerFlags} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleLibraryDescriptionArg#getPlatformLinkerFlags() platformLinkerFlags}.</em>
+     * @param platformLinkerFlags The value for platformLinkerFlags 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformLinkerFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> platformLinkerFlags) {
+      this.platformLinkerFlags = Objects.requireNonNull(platformLinkerFlags, "platformLinkerFlags");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getExecutableName() executableName} to executableName.
+     * @param executableName The value for executableName
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExecutableName(String executableName) {
+      this.executableName = Objects.requireNonNull(executableName, "executableName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getExecutableName() executableName} to executableName.
+     * @param executableName The value for executableName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExecutableName(Optional<String> executableName) {
+      this.executableName = executableName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleLibraryDescriptionArg#getPostPlatformLinkerFlags() postPlatformLinkerFlags} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleLibraryDescriptionArg#getPostPlatformLinkerFlags() postPlatformLinkerFlags}.</em>
+     * @param postPlatformLinkerFlags The value for postPlatformLinkerFlags 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPostPlatformLinkerFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> postPlatformLinkerFlags) {
+      this.postPlatformLinkerFlags = Objects.requireNonNull(postPlatformLinkerFlags, "postPlatformLinkerFlags");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleLibraryDescriptionArg#getPlatformDeps() platformDeps} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleLibraryDescriptionArg#getPlatformDeps() platformDeps}.</em>
+     * @param platformDeps The value for platformDeps 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps) {
+      this.platformDeps = Objects.requireNonNull(platformDeps, "platformDeps");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getHeaderNamespace() headerNamespace} to headerNamespace.
+     * @param headerNamespace The value for headerNamespace
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHeaderNamespace(String headerNamespace) {
+      this.headerNamespace = Objects.requireNonNull(headerNamespace, "headerNamespace");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getHeaderNamespace() headerNamespace} to headerNamespace.
+     * @param headerNamespace The value for headerNamespace
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHeaderNamespace(Optional<String> headerNamespace) {
+      this.headerNamespace = headerNamespace.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getCxxRuntimeType() cxxRuntimeType} to cxxRuntimeType.
+     * @param cxxRuntimeType The value for cxxRuntimeType
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCxxRuntimeType(Linker.CxxRuntimeType cxxRuntimeType) {
+      this.cxxRuntimeType = Objects.requireNonNull(cxxRuntimeType, "cxxRuntimeType");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getCxxRuntimeType() cxxRuntimeType} to cxxRuntimeType.
+     * @param cxxRuntimeType The value for cxxRuntimeType
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCxxRuntimeType(Optional<? extends Linker.CxxRuntimeType> cxxRuntimeType) {
+      this.cxxRuntimeType = cxxRuntimeType.orElse(null);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleLibraryDescriptionArg#getDefaults() defaults} map.
+     * @param key The key in the defaults map
+     * @param value The associated value in the defaults map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putDefaults(String key, Flavor value) {
+      this.defaults.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleLibraryDescriptionArg#getDefaults() defaults} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putDefaults(Map.Entry<String, ? extends Flavor> entry) {
+      this.defaults.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AppleLibraryDescriptionArg#getDefaults() defaults} map. Nulls are not permitted
+     * @param entries The entries that will be added to the defaults map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaults(Map<String, ? extends Flavor> entries) {
+      this.defaults = ImmutableMap.builder();
+      return putAllDefaults(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AppleLibraryDescriptionArg#getDefaults() defaults} map. Nulls are not permitted
+     * @param entries The entries that will be added to the defaults map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllDefaults(Map<String, ? extends Flavor> entries) {
+      this.defaults.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(UnconfiguredBuildTarget defaultTargetPlatform) {
+      this.defaultTargetPlatform = Objects.requireNonNull(defaultTargetPlatform, "defaultTargetPlatform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(Optional<? extends UnconfiguredBuildTarget> defaultTargetPlatform) {
+      this.defaultTargetPlatform = defaultTargetPlatform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleLibraryDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param element A compatibleWith element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget element) {
+      this.compatibleWith.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An array of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget... elements) {
+      this.compatibleWith.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleLibraryDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith = ImmutableList.builder();
+      return addAllCompatibleWith(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleLibraryDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getDefaultPlatform() defaultPlatform} to defaultPlatform.
+     * @param defaultPlatform The value for defaultPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultPlatform(Flavor defaultPlatform) {
+      this.defaultPlatform = Objects.requireNonNull(defaultPlatform, "defaultPlatform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getDefaultPlatform() defaultPlatform} to defaultPlatform.
+     * @param defaultPlatform The value for defaultPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultPlatform(Optional<? extends Flavor> defaultPlatform) {
+      this.defaultPlatform = defaultPlatform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleLibraryDescriptionArg#getTests() tests} sortedSet.
+     * @param element A tests element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addTests(BuildTarget element) {
+      this.tests.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An array of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addTests(BuildTarget... elements) {
+      this.tests.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleLibraryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTests(Iterable<? extends BuildTarget> elements) {
+      this.tests = ImmutableSortedSet.naturalOrder();
+      return addAllTests(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllTests(Iterable<? extends BuildTarget> elements) {
+      this.tests.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleLibraryDescriptionArg#getFrameworks() frameworks} sortedSet.
+     * @param element A frameworks element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addFrameworks(FrameworkPath element) {
+      this.frameworks.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getFrameworks() frameworks} sortedSet.
+     * @param elements An array of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addFrameworks(FrameworkPath... elements) {
+      this.frameworks.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleLibraryDescriptionArg#getFrameworks() frameworks} sortedSet.
+     * @param elements An iterable of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setFrameworks(Iterable<? extends FrameworkPath> elements) {
+      this.frameworks = ImmutableSortedSet.naturalOrder();
+      return addAllFrameworks(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getFrameworks() frameworks} sortedSet.
+     * @param elements An iterable of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllFrameworks(Iterable<? extends FrameworkPath> elements) {
+      this.frameworks.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleLibraryDescriptionArg#getLibraries() libraries} sortedSet.
+     * @param element A libraries element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLibraries(FrameworkPath element) {
+      this.libraries.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getLibraries() libraries} sortedSet.
+     * @param elements An array of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLibraries(FrameworkPath... elements) {
+      this.libraries.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleLibraryDescriptionArg#getLibraries() libraries} sortedSet.
+     * @param elements An iterable of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLibraries(Iterable<? extends FrameworkPath> elements) {
+      this.libraries = ImmutableSortedSet.naturalOrder();
+      return addAllLibraries(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getLibraries() libraries} sortedSet.
+     * @param elements An iterable of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLibraries(Iterable<? extends FrameworkPath> elements) {
+      this.libraries.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleLibraryDescriptionArg#getSwiftCompilerFlags() swiftCompilerFlags} list.
+     * @param element A swiftCompilerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addSwiftCompilerFlags(StringWithMacros element) {
+      this.swiftCompilerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getSwiftCompilerFlags() swiftCompilerFlags} list.
+     * @param elements An array of swiftCompilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addSwiftCompilerFlags(StringWithMacros... elements) {
+      this.swiftCompilerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleLibraryDescriptionArg#getSwiftCompilerFlags() swiftCompilerFlags} list.
+     * @param elements An iterable of swiftCompilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSwiftCompilerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.swiftCompilerFlags = ImmutableList.builder();
+      return addAllSwiftCompilerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getSwiftCompilerFlags() swiftCompilerFlags} list.
+     * @param elements An iterable of swiftCompilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllSwiftCompilerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.swiftCompilerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getSwiftVersion() swiftVersion} to swiftVersion.
+     * @param swiftVersion The value for swiftVersion
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSwiftVersion(String swiftVersion) {
+      this.swiftVersion = Objects.requireNonNull(swiftVersion, "swiftVersion");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleLibraryDescriptionArg#getSwiftVersion() swiftVersion} to swiftVersion.
+     * @param swiftVersion The value for swiftVersion
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSwiftVersion(Optional<String> swiftVersion) {
+      this.swiftVersion = swiftVersion.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleLibraryDescriptionArg#getContacts() contacts} sortedSet.
+     * @param element A contacts element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addContacts(String element) {
+      this.contacts.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getContacts() contacts} sortedSet.
+     * @param elements An array of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addContacts(String... elements) {
+      this.contacts.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleLibraryDescriptionArg#getContacts() contacts} sortedSet.
+     * @param elements An iterable of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setContacts(Iterable<String> elements) {
+      this.contacts = ImmutableSortedSet.naturalOrder();
+      return addAllContacts(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleLibraryDescriptionArg#getContacts() contacts} sortedSet.
+     * @param elements An iterable of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllContacts(Iterable<String> elements) {
+      this.contacts.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AppleLibraryDescriptionArg AppleLibraryDescriptionArg}.
+     * @return An immutable instance of AppleLibraryDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AppleLibraryDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return AppleLibraryDescriptionArg.validate(new AppleLibraryDescriptionArg(this));
+    }
+
+    private boolean modularIsSet() {
+      return (optBits & OPT_BIT_MODULAR) != 0;
+    }
+
+    private boolean thinLtoIsSet() {
+      return (optBits & OPT_BIT_THIN_LTO) != 0;
+    }
+
+    private boolean fatLtoIsSet() {
+      return (optBits & OPT_BIT_FAT_LTO) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build AppleLibraryDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
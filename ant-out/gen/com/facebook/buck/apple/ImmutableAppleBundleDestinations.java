@@ -0,0 +1,237 @@
+package com.facebook.buck.apple;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AppleBundleDestinations}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableAppleBundleDestinations.of()}.
+ */
+@Generated(from = "AppleBundleDestinations", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableAppleBundleDestinations extends AppleBundleDestinations {
+  private final Path metadataPath;
+  private final Path resourcesPath;
+  private final Path executablesPath;
+  private final Path appClipsPath;
+  private final Path frameworksPath;
+  private final Path plugInsPath;
+  private final Path watchAppPath;
+  private final Path headersPath;
+  private final Path modulesPath;
+  private final Path xPCServicesPath;
+  private final Path quickLookPath;
+
+  private ImmutableAppleBundleDestinations(
+      Path metadataPath,
+      Path resourcesPath,
+      Path executablesPath,
+      Path appClipsPath,
+      Path frameworksPath,
+      Path plugInsPath,
+      Path watchAppPath,
+      Path headersPath,
+      Path modulesPath,
+      Path xPCServicesPath,
+      Path quickLookPath) {
+    this.metadataPath = Objects.requireNonNull(metadataPath, "metadataPath");
+    this.resourcesPath = Objects.requireNonNull(resourcesPath, "resourcesPath");
+    this.executablesPath = Objects.requireNonNull(executablesPath, "executablesPath");
+    this.appClipsPath = Objects.requireNonNull(appClipsPath, "appClipsPath");
+    this.frameworksPath = Objects.requireNonNull(frameworksPath, "frameworksPath");
+    this.plugInsPath = Objects.requireNonNull(plugInsPath, "plugInsPath");
+    this.watchAppPath = Objects.requireNonNull(watchAppPath, "watchAppPath");
+    this.headersPath = Objects.requireNonNull(headersPath, "headersPath");
+    this.modulesPath = Objects.requireNonNull(modulesPath, "modulesPath");
+    this.xPCServicesPath = Objects.requireNonNull(xPCServicesPath, "xPCServicesPath");
+    this.quickLookPath = Objects.requireNonNull(quickLookPath, "quickLookPath");
+  }
+
+  /**
+   * @return The value of the {@code metadataPath} attribute
+   */
+  @Override
+  public Path getMetadataPath() {
+    return metadataPath;
+  }
+
+  /**
+   * @return The value of the {@code resourcesPath} attribute
+   */
+  @Override
+  public Path getResourcesPath() {
+    return resourcesPath;
+  }
+
+  /**
+   * @return The value of the {@code executablesPath} attribute
+   */
+  @Override
+  public Path getExecutablesPath() {
+    return executablesPath;
+  }
+
+  /**
+   * @return The value of the {@code appClipsPath} attribute
+   */
+  @Override
+  public Path getAppClipsPath() {
+    return appClipsPath;
+  }
+
+  /**
+   * @return The value of the {@code frameworksPath} attribute
+   */
+  @Override
+  public Path getFrameworksPath() {
+    return frameworksPath;
+  }
+
+  /**
+   * @return The value of the {@code plugInsPath} attribute
+   */
+  @Override
+  public Path getPlugInsPath() {
+    return plugInsPath;
+  }
+
+  /**
+   * @return The value of the {@code watchAppPath} attribute
+   */
+  @Override
+  public Path getWatchAppPath() {
+    return watchAppPath;
+  }
+
+  /**
+   * @return The value of the {@code headersPath} attribute
+   */
+  @Override
+  public Path getHeadersPath() {
+    return headersPath;
+  }
+
+  /**
+   * @return The value of the {@code modulesPath} attribute
+   */
+  @Override
+  public Path getModulesPath() {
+    return modulesPath;
+  }
+
+  /**
+   * @return The value of the {@code xPCServicesPath} attribute
+   */
+  @Override
+  public Path getXPCServicesPath() {
+    return xPCServicesPath;
+  }
+
+  /**
+   * @return The value of the {@code quickLookPath} attribute
+   */
+  @Override
+  public Path getQuickLookPath() {
+    return quickLookPath;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableAppleBundleDestinations} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableAppleBundleDestinations
+        && equalTo((ImmutableAppleBundleDestinations) another);
+  }
+
+  private boolean equalTo(ImmutableAppleBundleDestinations another) {
+    return metadataPath.equals(another.metadataPath)
+        && resourcesPath.equals(another.resourcesPath)
+        && executablesPath.equals(another.executablesPath)
+        && appClipsPath.equals(another.appClipsPath)
+        && frameworksPath.equals(another.frameworksPath)
+        && plugInsPath.equals(another.plugInsPath)
+        && watchAppPath.equals(another.watchAppPath)
+        && headersPath.equals(another.headersPath)
+        && modulesPath.equals(another.modulesPath)
+        && xPCServicesPath.equals(another.xPCServicesPath)
+        && quickLookPath.equals(another.quickLookPath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code metadataPath}, {@code resourcesPath}, {@code executablesPath}, {@code appClipsPath}, {@code frameworksPath}, {@code plugInsPath}, {@code watchAppPath}, {@code headersPath}, {@code modulesPath}, {@code xPCServicesPath}, {@code quickLookPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + metadataPath.hashCode();
+    h += (h << 5) + resourcesPath.hashCode();
+    h += (h << 5) + executablesPath.hashCode();
+    h += (h << 5) + appClipsPath.hashCode();
+    h += (h << 5) + frameworksPath.hashCode();
+    h += (h << 5) + plugInsPath.hashCode();
+    h += (h << 5) + watchAppPath.hashCode();
+    h += (h << 5) + headersPath.hashCode();
+    h += (h << 5) + modulesPath.hashCode();
+    h += (h << 5) + xPCServicesPath.hashCode();
+    h += (h << 5) + quickLookPath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleBundleDestinations} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleBundleDestinations")
+        .omitNullValues()
+        .add("metadataPath", metadataPath)
+        .add("resourcesPath", resourcesPath)
+        .add("executablesPath", executablesPath)
+        .add("appClipsPath", appClipsPath)
+        .add("frameworksPath", frameworksPath)
+        .add("plugInsPath", plugInsPath)
+        .add("watchAppPath", watchAppPath)
+        .add("headersPath", headersPath)
+        .add("modulesPath", modulesPath)
+        .add("xPCServicesPath", xPCServicesPath)
+        .add("quickLookPath", quickLookPath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code AppleBundleDestinations} instance.
+   * @param metadataPath The value for the {@code metadataPath} attribute
+   * @param resourcesPath The value for the {@code resourcesPath} attribute
+   * @param executablesPath The value for the {@code executablesPath} attribute
+   * @param appClipsPath The value for the {@code appClipsPath} attribute
+   * @param frameworksPath The value for the {@code frameworksPath} attribute
+   * @param plugInsPath The value for the {@code plugInsPath} attribute
+   * @param watchAppPath The value for the {@code watchAppPath} attribute
+   * @param headersPath The value for the {@code headersPath} attribute
+   * @param modulesPath The value for the {@code modulesPath} attribute
+   * @param xPCServicesPath The value for the {@code xPCServicesPath} attribute
+   * @param quickLookPath The value for the {@code quickLookPath} attribute
+   * @return An immutable AppleBundleDestinations instance
+   */
+  public static ImmutableAppleBundleDestinations of(Path metadataPath, Path resourcesPath, Path executablesPath, Path appClipsPath, Path frameworksPath, Path plugInsPath, Path watchAppPath, Path headersPath, Path modulesPath, Path xPCServicesPath, Path quickLookPath) {
+    return new ImmutableAppleBundleDestinations(metadataPath, resourcesPath, executablesPath, appClipsPath, frameworksPath, plugInsPath, watchAppPath, headersPath, modulesPath, xPCServicesPath, quickLookPath);
+  }
+}
@@ -0,0 +1,173 @@
+package com.facebook.buck.apple;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.core.sourcepath.SourceWithFlags;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link GroupedSource}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableGroupedSource.of()}.
+ */
+@Generated(from = "GroupedSource", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableGroupedSource extends GroupedSource {
+  private final GroupedSource.Type type;
+  private final @Nullable SourceWithFlags sourceWithFlags;
+  private final @Nullable SourcePath sourcePath;
+  private final @Nullable String sourceGroupName;
+  private final @Nullable Path sourceGroupPathRelativeToTarget;
+  private final @Nullable List<GroupedSource> sourceGroup;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableGroupedSource(
+      GroupedSource.Type type,
+      Optional<? extends SourceWithFlags> sourceWithFlags,
+      Optional<? extends SourcePath> sourcePath,
+      Optional<String> sourceGroupName,
+      Optional<? extends Path> sourceGroupPathRelativeToTarget,
+      Optional<? extends List<GroupedSource>> sourceGroup) {
+    this.type = Objects.requireNonNull(type, "type");
+    this.sourceWithFlags = sourceWithFlags.orElse(null);
+    this.sourcePath = sourcePath.orElse(null);
+    this.sourceGroupName = sourceGroupName.orElse(null);
+    this.sourceGroupPathRelativeToTarget = sourceGroupPathRelativeToTarget.orElse(null);
+    this.sourceGroup = sourceGroup.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  protected GroupedSource.Type getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code sourceWithFlags} attribute
+   */
+  @Override
+  protected Optional<SourceWithFlags> getSourceWithFlags() {
+    return Optional.ofNullable(sourceWithFlags);
+  }
+
+  /**
+   * @return The value of the {@code sourcePath} attribute
+   */
+  @Override
+  protected Optional<SourcePath> getSourcePath() {
+    return Optional.ofNullable(sourcePath);
+  }
+
+  /**
+   * @return The value of the {@code sourceGroupName} attribute
+   */
+  @Override
+  protected Optional<String> getSourceGroupName() {
+    return Optional.ofNullable(sourceGroupName);
+  }
+
+  /**
+   * @return The value of the {@code sourceGroupPathRelativeToTarget} attribute
+   */
+  @Override
+  protected Optional<Path> getSourceGroupPathRelativeToTarget() {
+    return Optional.ofNullable(sourceGroupPathRelativeToTarget);
+  }
+
+  /**
+   * @return The value of the {@code sourceGroup} attribute
+   */
+  @Override
+  protected Optional<List<GroupedSource>> getSourceGroup() {
+    return Optional.ofNullable(sourceGroup);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableGroupedSource} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableGroupedSource
+        && equalTo((ImmutableGroupedSource) another);
+  }
+
+  private boolean equalTo(ImmutableGroupedSource another) {
+    return type.equals(another.type)
+        && Objects.equals(sourceWithFlags, another.sourceWithFlags)
+        && Objects.equals(sourcePath, another.sourcePath)
+        && Objects.equals(sourceGroupName, another.sourceGroupName)
+        && Objects.equals(sourceGroupPathRelativeToTarget, another.sourceGroupPathRelativeToTarget)
+        && Objects.equals(sourceGroup, another.sourceGroup);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code sourceWithFlags}, {@code sourcePath}, {@code sourceGroupName}, {@code sourceGroupPathRelativeToTarget}, {@code sourceGroup}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + Objects.hashCode(sourceWithFlags);
+    h += (h << 5) + Objects.hashCode(sourcePath);
+    h += (h << 5) + Objects.hashCode(sourceGroupName);
+    h += (h << 5) + Objects.hashCode(sourceGroupPathRelativeToTarget);
+    h += (h << 5) + Objects.hashCode(sourceGroup);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code GroupedSource} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("GroupedSource")
+        .omitNullValues()
+        .add("type", type)
+        .add("sourceWithFlags", sourceWithFlags)
+        .add("sourcePath", sourcePath)
+        .add("sourceGroupName", sourceGroupName)
+        .add("sourceGroupPathRelativeToTarget", sourceGroupPathRelativeToTarget)
+        .add("sourceGroup", sourceGroup)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code GroupedSource} instance.
+   * @param type The value for the {@code type} attribute
+   * @param sourceWithFlags The value for the {@code sourceWithFlags} attribute
+   * @param sourcePath The value for the {@code sourcePath} attribute
+   * @param sourceGroupName The value for the {@code sourceGroupName} attribute
+   * @param sourceGroupPathRelativeToTarget The value for the {@code sourceGroupPathRelativeToTarget} attribute
+   * @param sourceGroup The value for the {@code sourceGroup} attribute
+   * @return An immutable GroupedSource instance
+   */
+  public static ImmutableGroupedSource of(GroupedSource.Type type, Optional<? extends SourceWithFlags> sourceWithFlags, Optional<? extends SourcePath> sourcePath, Optional<String> sourceGroupName, Optional<? extends Path> sourceGroupPathRelativeToTarget, Optional<? extends List<GroupedSource>> sourceGroup) {
+    return validate(new ImmutableGroupedSource(type, sourceWithFlags, sourcePath, sourceGroupName, sourceGroupPathRelativeToTarget, sourceGroup));
+  }
+
+
+  private static ImmutableGroupedSource validate(ImmutableGroupedSource instance) {
+    instance.check();
+    return instance;
+  }
+}
@@ -0,0 +1,167 @@
+package com.facebook.buck.apple;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractIdbFailureInfo}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableIdbFailureInfo.of()}.
+ */
+@Generated(from = "AbstractIdbFailureInfo", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableIdbFailureInfo implements AbstractIdbFailureInfo {
+  private final String message;
+  private final String file;
+  private final int line;
+
+  private ImmutableIdbFailureInfo(String message, String file, int line) {
+    this.message = Objects.requireNonNull(message, "message");
+    this.file = Objects.requireNonNull(file, "file");
+    this.line = line;
+  }
+
+  /**
+   * @return The value of the {@code message} attribute
+   */
+  @JsonProperty
+  @Override
+  public String getMessage() {
+    return message;
+  }
+
+  /**
+   * @return The value of the {@code file} attribute
+   */
+  @JsonProperty
+  @Override
+  public String getFile() {
+    return file;
+  }
+
+  /**
+   * @return The value of the {@code line} attribute
+   */
+  @JsonProperty
+  @Override
+  public int getLine() {
+    return line;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableIdbFailureInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableIdbFailureInfo
+        && equalTo((ImmutableIdbFailureInfo) another);
+  }
+
+  private boolean equalTo(ImmutableIdbFailureInfo another) {
+    return message.equals(another.message)
+        && file.equals(another.file)
+        && line == another.line;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code message}, {@code file}, {@code line}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + message.hashCode();
+    h += (h << 5) + file.hashCode();
+    h += (h << 5) + line;
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code IdbFailureInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("IdbFailureInfo")
+        .omitNullValues()
+        .add("message", message)
+        .add("file", file)
+        .add("line", line)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "AbstractIdbFailureInfo", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json implements AbstractIdbFailureInfo {
+    @Nullable String message;
+    @Nullable String file;
+    int line;
+    boolean lineIsSet;
+    @JsonProperty
+    public void setMessage(String message) {
+      this.message = message;
+    }
+    @JsonProperty
+    public void setFile(String file) {
+      this.file = file;
+    }
+    @JsonProperty
+    public void setLine(int line) {
+      this.line = line;
+      this.lineIsSet = true;
+    }
+    @Override
+    public String getMessage() { throw new UnsupportedOperationException(); }
+    @Override
+    public String getFile() { throw new UnsupportedOperationException(); }
+    @Override
+    public int getLine() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableIdbFailureInfo fromJson(Json json) {
+    ImmutableIdbFailureInfo instance = ImmutableIdbFailureInfo.of(json.message, json.file, json.line);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code IdbFailureInfo} instance.
+   * @param message The value for the {@code message} attribute
+   * @param file The value for the {@code file} attribute
+   * @param line The value for the {@code line} attribute
+   * @return An immutable IdbFailureInfo instance
+   */
+  public static ImmutableIdbFailureInfo of(String message, String file, int line) {
+    return new ImmutableIdbFailureInfo(message, file, line);
+  }
+}
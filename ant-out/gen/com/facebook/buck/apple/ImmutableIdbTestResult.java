@@ -0,0 +1,307 @@
+package com.facebook.buck.apple;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Arrays;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractIdbTestResult}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableIdbTestResult.of()}.
+ */
+@Generated(from = "AbstractIdbTestResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableIdbTestResult implements AbstractIdbTestResult {
+  private final String bundleName;
+  private final String className;
+  private final String methodName;
+  private final String[] logs;
+  private final Float duration;
+  private final Boolean passed;
+  private final Boolean crashed;
+  private final ImmutableIdbFailureInfo failureInfo;
+  private final String[] activityLogs;
+
+  private ImmutableIdbTestResult(
+      String bundleName,
+      String className,
+      String methodName,
+      String[] logs,
+      Float duration,
+      Boolean passed,
+      Boolean crashed,
+      ImmutableIdbFailureInfo failureInfo,
+      String[] activityLogs) {
+    this.bundleName = Objects.requireNonNull(bundleName, "bundleName");
+    this.className = Objects.requireNonNull(className, "className");
+    this.methodName = Objects.requireNonNull(methodName, "methodName");
+    this.logs = logs.clone();
+    this.duration = Objects.requireNonNull(duration, "duration");
+    this.passed = Objects.requireNonNull(passed, "passed");
+    this.crashed = Objects.requireNonNull(crashed, "crashed");
+    this.failureInfo = Objects.requireNonNull(failureInfo, "failureInfo");
+    this.activityLogs = activityLogs.clone();
+  }
+
+  /**
+   * @return The value of the {@code bundleName} attribute
+   */
+  @JsonProperty
+  @Override
+  public String getBundleName() {
+    return bundleName;
+  }
+
+  /**
+   * @return The value of the {@code className} attribute
+   */
+  @JsonProperty
+  @Override
+  public String getClassName() {
+    return className;
+  }
+
+  /**
+   * @return The value of the {@code methodName} attribute
+   */
+  @JsonProperty
+  @Override
+  public String getMethodName() {
+    return methodName;
+  }
+
+  /**
+   * @return A cloned {@code logs} array
+   */
+  @JsonProperty
+  @Override
+  public String[] getLogs() {
+    return logs.clone();
+  }
+
+  /**
+   * @return The value of the {@code duration} attribute
+   */
+  @JsonProperty
+  @Override
+  public Float getDuration() {
+    return duration;
+  }
+
+  /**
+   * @return The value of the {@code passed} attribute
+   */
+  @JsonProperty
+  @Override
+  public Boolean getPassed() {
+    return passed;
+  }
+
+  /**
+   * @return The value of the {@code crashed} attribute
+   */
+  @JsonProperty
+  @Override
+  public Boolean getCrashed() {
+    return crashed;
+  }
+
+  /**
+   * @return The value of the {@code failureInfo} attribute
+   */
+  @JsonProperty
+  @Override
+  public ImmutableIdbFailureInfo getFailureInfo() {
+    return failureInfo;
+  }
+
+  /**
+   * @return A cloned {@code activityLogs} array
+   */
+  @JsonProperty
+  @Override
+  public String[] getActivityLogs() {
+    return activityLogs.clone();
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableIdbTestResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableIdbTestResult
+        && equalTo((ImmutableIdbTestResult) another);
+  }
+
+  private boolean equalTo(ImmutableIdbTestResult another) {
+    return bundleName.equals(another.bundleName)
+        && className.equals(another.className)
+        && methodName.equals(another.methodName)
+        && Arrays.equals(logs, another.logs)
+        && duration.equals(another.duration)
+        && passed.equals(another.passed)
+        && crashed.equals(another.crashed)
+        && failureInfo.equals(another.failureInfo)
+        && Arrays.equals(activityLogs, another.activityLogs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code bundleName}, {@code className}, {@code methodName}, {@code logs}, {@code duration}, {@code passed}, {@code crashed}, {@code failureInfo}, {@code activityLogs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + bundleName.hashCode();
+    h += (h << 5) + className.hashCode();
+    h += (h << 5) + methodName.hashCode();
+    h += (h << 5) + Arrays.hashCode(logs);
+    h += (h << 5) + duration.hashCode();
+    h += (h << 5) + passed.hashCode();
+    h += (h << 5) + crashed.hashCode();
+    h += (h << 5) + failureInfo.hashCode();
+    h += (h << 5) + Arrays.hashCode(activityLogs);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code IdbTestResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("IdbTestResult")
+        .omitNullValues()
+        .add("bundleName", bundleName)
+        .add("className", className)
+        .add("methodName", methodName)
+        .add("logs", Arrays.toString(logs))
+        .add("duration", duration)
+        .add("passed", passed)
+        .add("crashed", crashed)
+        .add("failureInfo", failureInfo)
+        .add("activityLogs", Arrays.toString(activityLogs))
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "AbstractIdbTestResult", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json implements AbstractIdbTestResult {
+    @Nullable String bundleName;
+    @Nullable String className;
+    @Nullable String methodName;
+    @Nullable String[] logs;
+    @Nullable Float duration;
+    @Nullable Boolean passed;
+    @Nullable Boolean crashed;
+    @Nullable ImmutableIdbFailureInfo failureInfo;
+    @Nullable String[] activityLogs;
+    @JsonProperty
+    public void setBundleName(String bundleName) {
+      this.bundleName = bundleName;
+    }
+    @JsonProperty
+    public void setClassName(String className) {
+      this.className = className;
+    }
+    @JsonProperty
+    public void setMethodName(String methodName) {
+      this.methodName = methodName;
+    }
+    @JsonProperty
+    public void setLogs(String[] logs) {
+      this.logs = logs;
+    }
+    @JsonProperty
+    public void setDuration(Float duration) {
+      this.duration = duration;
+    }
+    @JsonProperty
+    public void setPassed(Boolean passed) {
+      this.passed = passed;
+    }
+    @JsonProperty
+    public void setCrashed(Boolean crashed) {
+      this.crashed = crashed;
+    }
+    @JsonProperty
+    public void setFailureInfo(ImmutableIdbFailureInfo failureInfo) {
+      this.failureInfo = failureInfo;
+    }
+    @JsonProperty
+    public void setActivityLogs(String[] activityLogs) {
+      this.activityLogs = activityLogs;
+    }
+    @Override
+    public String getBundleName() { throw new UnsupportedOperationException(); }
+    @Override
+    public String getClassName() { throw new UnsupportedOperationException(); }
+    @Override
+    public String getMethodName() { throw new UnsupportedOperationException(); }
+    @Override
+    public String[] getLogs() { throw new UnsupportedOperationException(); }
+    @Override
+    public Float getDuration() { throw new UnsupportedOperationException(); }
+    @Override
+    public Boolean getPassed() { throw new UnsupportedOperationException(); }
+    @Override
+    public Boolean getCrashed() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableIdbFailureInfo getFailureInfo() { throw new UnsupportedOperationException(); }
+    @Override
+    public String[] getActivityLogs() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableIdbTestResult fromJson(Json json) {
+    ImmutableIdbTestResult instance = ImmutableIdbTestResult.of(json.bundleName, json.className, json.methodName, json.logs, json.duration, json.passed, json.crashed, json.failureInfo, json.activityLogs);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code IdbTestResult} instance.
+   * @param bundleName The value for the {@code bundleName} attribute
+   * @param className The value for the {@code className} attribute
+   * @param methodName The value for the {@code methodName} attribute
+   * @param logs The value for the {@code logs} attribute
+   * @param duration The value for the {@code duration} attribute
+   * @param passed The value for the {@code passed} attribute
+   * @param crashed The value for the {@code crashed} attribute
+   * @param failureInfo The value for the {@code failureInfo} attribute
+   * @param activityLogs The value for the {@code activityLogs} attribute
+   * @return An immutable IdbTestResult instance
+   */
+  public static ImmutableIdbTestResult of(String bundleName, String className, String methodName, String[] logs, Float duration, Boolean passed, Boolean crashed, ImmutableIdbFailureInfo failureInfo, String[] activityLogs) {
+    return new ImmutableIdbTestResult(bundleName, className, methodName, logs, duration, passed, crashed, failureInfo, activityLogs);
+  }
+}
@@ -0,0 +1,119 @@
+package com.facebook.buck.apple;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link SourcePathWithAppleBundleDestination}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableSourcePathWithAppleBundleDestination.of()}.
+ */
+@Generated(from = "SourcePathWithAppleBundleDestination", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableSourcePathWithAppleBundleDestination
+    extends SourcePathWithAppleBundleDestination {
+  private final SourcePath sourcePath;
+  private final AppleBundleDestination destination;
+  private final boolean codesignOnCopy;
+
+  private ImmutableSourcePathWithAppleBundleDestination(
+      SourcePath sourcePath,
+      AppleBundleDestination destination,
+      boolean codesignOnCopy) {
+    this.sourcePath = Objects.requireNonNull(sourcePath, "sourcePath");
+    this.destination = Objects.requireNonNull(destination, "destination");
+    this.codesignOnCopy = codesignOnCopy;
+  }
+
+  /**
+   * @return The value of the {@code sourcePath} attribute
+   */
+  @Override
+  public SourcePath getSourcePath() {
+    return sourcePath;
+  }
+
+  /**
+   * @return The value of the {@code destination} attribute
+   */
+  @Override
+  public AppleBundleDestination getDestination() {
+    return destination;
+  }
+
+  /**
+   * @return The value of the {@code codesignOnCopy} attribute
+   */
+  @Override
+  public boolean getCodesignOnCopy() {
+    return codesignOnCopy;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableSourcePathWithAppleBundleDestination} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableSourcePathWithAppleBundleDestination
+        && equalTo((ImmutableSourcePathWithAppleBundleDestination) another);
+  }
+
+  private boolean equalTo(ImmutableSourcePathWithAppleBundleDestination another) {
+    return sourcePath.equals(another.sourcePath)
+        && destination.equals(another.destination)
+        && codesignOnCopy == another.codesignOnCopy;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code sourcePath}, {@code destination}, {@code codesignOnCopy}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + sourcePath.hashCode();
+    h += (h << 5) + destination.hashCode();
+    h += (h << 5) + Booleans.hashCode(codesignOnCopy);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SourcePathWithAppleBundleDestination} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SourcePathWithAppleBundleDestination")
+        .omitNullValues()
+        .add("sourcePath", sourcePath)
+        .add("destination", destination)
+        .add("codesignOnCopy", codesignOnCopy)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code SourcePathWithAppleBundleDestination} instance.
+   * @param sourcePath The value for the {@code sourcePath} attribute
+   * @param destination The value for the {@code destination} attribute
+   * @param codesignOnCopy The value for the {@code codesignOnCopy} attribute
+   * @return An immutable SourcePathWithAppleBundleDestination instance
+   */
+  public static ImmutableSourcePathWithAppleBundleDestination of(SourcePath sourcePath, AppleBundleDestination destination, boolean codesignOnCopy) {
+    return new ImmutableSourcePathWithAppleBundleDestination(sourcePath, destination, codesignOnCopy);
+  }
+}
@@ -0,0 +1,116 @@
+package com.facebook.buck.apple.simulator;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AppleSimulator}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableAppleSimulator.of()}.
+ */
+@Generated(from = "AppleSimulator", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableAppleSimulator implements AppleSimulator {
+  private final String name;
+  private final String udid;
+  private final AppleSimulatorState simulatorState;
+
+  private ImmutableAppleSimulator(
+      String name,
+      String udid,
+      AppleSimulatorState simulatorState) {
+    this.name = Objects.requireNonNull(name, "name");
+    this.udid = Objects.requireNonNull(udid, "udid");
+    this.simulatorState = Objects.requireNonNull(simulatorState, "simulatorState");
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code udid} attribute
+   */
+  @Override
+  public String getUdid() {
+    return udid;
+  }
+
+  /**
+   * @return The value of the {@code simulatorState} attribute
+   */
+  @Override
+  public AppleSimulatorState getSimulatorState() {
+    return simulatorState;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableAppleSimulator} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableAppleSimulator
+        && equalTo((ImmutableAppleSimulator) another);
+  }
+
+  private boolean equalTo(ImmutableAppleSimulator another) {
+    return name.equals(another.name)
+        && udid.equals(another.udid)
+        && simulatorState.equals(another.simulatorState);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}, {@code udid}, {@code simulatorState}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + udid.hashCode();
+    h += (h << 5) + simulatorState.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleSimulator} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleSimulator")
+        .omitNullValues()
+        .add("name", name)
+        .add("udid", udid)
+        .add("simulatorState", simulatorState)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code AppleSimulator} instance.
+   * @param name The value for the {@code name} attribute
+   * @param udid The value for the {@code udid} attribute
+   * @param simulatorState The value for the {@code simulatorState} attribute
+   * @return An immutable AppleSimulator instance
+   */
+  public static ImmutableAppleSimulator of(String name, String udid, AppleSimulatorState simulatorState) {
+    return new ImmutableAppleSimulator(name, udid, simulatorState);
+  }
+}
@@ -0,0 +1,783 @@
+package com.facebook.buck.apple.toolchain;
+
+import com.facebook.buck.core.toolchain.tool.Tool;
+import com.facebook.buck.core.toolchain.toolprovider.ToolProvider;
+import com.facebook.buck.cxx.toolchain.CxxPlatform;
+import com.facebook.buck.swift.toolchain.SwiftPlatform;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AppleCxxPlatform}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new AppleCxxPlatform.Builder()}.
+ */
+@Generated(from = "AppleCxxPlatform", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableAppleCxxPlatform extends AppleCxxPlatform {
+  private final CxxPlatform cxxPlatform;
+  private final @Nullable SwiftPlatform swiftPlatform;
+  private final AppleSdk appleSdk;
+  private final AppleSdkPaths appleSdkPaths;
+  private final @Nullable String buildVersion;
+  private final String minVersion;
+  private final Tool actool;
+  private final Tool ibtool;
+  private final Tool momc;
+  private final @Nullable Tool copySceneKitAssets;
+  private final Tool xctest;
+  private final Tool dsymutil;
+  private final Tool libtool;
+  private final Tool lipo;
+  private final @Nullable Path stubBinary;
+  private final Tool lldb;
+  private final ToolProvider codesignProvider;
+  private final @Nullable Tool codesignAllocate;
+  private final @Nullable String xcodeVersion;
+  private final @Nullable String xcodeBuildVersion;
+
+  private ImmutableAppleCxxPlatform(ImmutableAppleCxxPlatform.Builder builder) {
+    this.cxxPlatform = builder.cxxPlatform;
+    this.swiftPlatform = builder.swiftPlatform;
+    this.appleSdk = builder.appleSdk;
+    this.appleSdkPaths = builder.appleSdkPaths;
+    this.buildVersion = builder.buildVersion;
+    this.minVersion = builder.minVersion;
+    this.actool = builder.actool;
+    this.ibtool = builder.ibtool;
+    this.momc = builder.momc;
+    this.copySceneKitAssets = builder.copySceneKitAssets;
+    this.xctest = builder.xctest;
+    this.dsymutil = builder.dsymutil;
+    this.libtool = builder.libtool;
+    this.lipo = builder.lipo;
+    this.stubBinary = builder.stubBinary;
+    this.lldb = builder.lldb;
+    this.codesignProvider = builder.codesignProvider;
+    this.codesignAllocate = builder.codesignAllocate;
+    this.xcodeVersion = builder.xcodeVersion;
+    this.xcodeBuildVersion = builder.xcodeBuildVersion;
+  }
+
+  /**
+   * @return The value of the {@code cxxPlatform} attribute
+   */
+  @Override
+  public CxxPlatform getCxxPlatform() {
+    return cxxPlatform;
+  }
+
+  /**
+   * @return The value of the {@code swiftPlatform} attribute
+   */
+  @Override
+  public Optional<SwiftPlatform> getSwiftPlatform() {
+    return Optional.ofNullable(swiftPlatform);
+  }
+
+  /**
+   * @return The value of the {@code appleSdk} attribute
+   */
+  @Override
+  public AppleSdk getAppleSdk() {
+    return appleSdk;
+  }
+
+  /**
+   * @return The value of the {@code appleSdkPaths} attribute
+   */
+  @Override
+  public AppleSdkPaths getAppleSdkPaths() {
+    return appleSdkPaths;
+  }
+
+  /**
+   * @return The value of the {@code buildVersion} attribute
+   */
+  @Override
+  public Optional<String> getBuildVersion() {
+    return Optional.ofNullable(buildVersion);
+  }
+
+  /**
+   * @return The value of the {@code minVersion} attribute
+   */
+  @Override
+  public String getMinVersion() {
+    return minVersion;
+  }
+
+  /**
+   * @return The value of the {@code actool} attribute
+   */
+  @Override
+  public Tool getActool() {
+    return actool;
+  }
+
+  /**
+   * @return The value of the {@code ibtool} attribute
+   */
+  @Override
+  public Tool getIbtool() {
+    return ibtool;
+  }
+
+  /**
+   * @return The value of the {@code momc} attribute
+   */
+  @Override
+  public Tool getMomc() {
+    return momc;
+  }
+
+  /**
+   * @return The value of the {@code copySceneKitAssets} attribute
+   */
+  @Override
+  public Optional<Tool> getCopySceneKitAssets() {
+    return Optional.ofNullable(copySceneKitAssets);
+  }
+
+  /**
+   * @return The value of the {@code xctest} attribute
+   */
+  @Override
+  public Tool getXctest() {
+    return xctest;
+  }
+
+  /**
+   * @return The value of the {@code dsymutil} attribute
+   */
+  @Override
+  public Tool getDsymutil() {
+    return dsymutil;
+  }
+
+  /**
+   * @return The value of the {@code libtool} attribute
+   */
+  @Override
+  public Tool getLibtool() {
+    return libtool;
+  }
+
+  /**
+   * @return The value of the {@code lipo} attribute
+   */
+  @Override
+  public Tool getLipo() {
+    return lipo;
+  }
+
+  /**
+   * @return The value of the {@code stubBinary} attribute
+   */
+  @Override
+  public Optional<Path> getStubBinary() {
+    return Optional.ofNullable(stubBinary);
+  }
+
+  /**
+   * @return The value of the {@code lldb} attribute
+   */
+  @Override
+  public Tool getLldb() {
+    return lldb;
+  }
+
+  /**
+   * @return The value of the {@code codesignProvider} attribute
+   */
+  @Override
+  public ToolProvider getCodesignProvider() {
+    return codesignProvider;
+  }
+
+  /**
+   * @return The value of the {@code codesignAllocate} attribute
+   */
+  @Override
+  public Optional<Tool> getCodesignAllocate() {
+    return Optional.ofNullable(codesignAllocate);
+  }
+
+  /**
+   * @return The value of the {@code xcodeVersion} attribute
+   */
+  @Override
+  public Optional<String> getXcodeVersion() {
+    return Optional.ofNullable(xcodeVersion);
+  }
+
+  /**
+   * @return The value of the {@code xcodeBuildVersion} attribute
+   */
+  @Override
+  public Optional<String> getXcodeBuildVersion() {
+    return Optional.ofNullable(xcodeBuildVersion);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableAppleCxxPlatform} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableAppleCxxPlatform
+        && equalTo((ImmutableAppleCxxPlatform) another);
+  }
+
+  private boolean equalTo(ImmutableAppleCxxPlatform another) {
+    return cxxPlatform.equals(another.cxxPlatform)
+        && Objects.equals(swiftPlatform, another.swiftPlatform)
+        && appleSdk.equals(another.appleSdk)
+        && appleSdkPaths.equals(another.appleSdkPaths)
+        && Objects.equals(buildVersion, another.buildVersion)
+        && minVersion.equals(another.minVersion)
+        && actool.equals(another.actool)
+        && ibtool.equals(another.ibtool)
+        && momc.equals(another.momc)
+        && Objects.equals(copySceneKitAssets, another.copySceneKitAssets)
+        && xctest.equals(another.xctest)
+        && dsymutil.equals(another.dsymutil)
+        && libtool.equals(another.libtool)
+        && lipo.equals(another.lipo)
+        && Objects.equals(stubBinary, another.stubBinary)
+        && lldb.equals(another.lldb)
+        && codesignProvider.equals(another.codesignProvider)
+        && Objects.equals(codesignAllocate, another.codesignAllocate)
+        && Objects.equals(xcodeVersion, another.xcodeVersion)
+        && Objects.equals(xcodeBuildVersion, another.xcodeBuildVersion);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cxxPlatform}, {@code swiftPlatform}, {@code appleSdk}, {@code appleSdkPaths}, {@code buildVersion}, {@code minVersion}, {@code actool}, {@code ibtool}, {@code momc}, {@code copySceneKitAssets}, {@code xctest}, {@code dsymutil}, {@code libtool}, {@code lipo}, {@code stubBinary}, {@code lldb}, {@code codesignProvider}, {@code codesignAllocate}, {@code xcodeVersion}, {@code xcodeBuildVersion}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + cxxPlatform.hashCode();
+    h += (h << 5) + Objects.hashCode(swiftPlatform);
+    h += (h << 5) + appleSdk.hashCode();
+    h += (h << 5) + appleSdkPaths.hashCode();
+    h += (h << 5) + Objects.hashCode(buildVersion);
+    h += (h << 5) + minVersion.hashCode();
+    h += (h << 5) + actool.hashCode();
+    h += (h << 5) + ibtool.hashCode();
+    h += (h << 5) + momc.hashCode();
+    h += (h << 5) + Objects.hashCode(copySceneKitAssets);
+    h += (h << 5) + xctest.hashCode();
+    h += (h << 5) + dsymutil.hashCode();
+    h += (h << 5) + libtool.hashCode();
+    h += (h << 5) + lipo.hashCode();
+    h += (h << 5) + Objects.hashCode(stubBinary);
+    h += (h << 5) + lldb.hashCode();
+    h += (h << 5) + codesignProvider.hashCode();
+    h += (h << 5) + Objects.hashCode(codesignAllocate);
+    h += (h << 5) + Objects.hashCode(xcodeVersion);
+    h += (h << 5) + Objects.hashCode(xcodeBuildVersion);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleCxxPlatform} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleCxxPlatform")
+        .omitNullValues()
+        .add("cxxPlatform", cxxPlatform)
+        .add("swiftPlatform", swiftPlatform)
+        .add("appleSdk", appleSdk)
+        .add("appleSdkPaths", appleSdkPaths)
+        .add("buildVersion", buildVersion)
+        .add("minVersion", minVersion)
+        .add("actool", actool)
+        .add("ibtool", ibtool)
+        .add("momc", momc)
+        .add("copySceneKitAssets", copySceneKitAssets)
+        .add("xctest", xctest)
+        .add("dsymutil", dsymutil)
+        .add("libtool", libtool)
+        .add("lipo", lipo)
+        .add("stubBinary", stubBinary)
+        .add("lldb", lldb)
+        .add("codesignProvider", codesignProvider)
+        .add("codesignAllocate", codesignAllocate)
+        .add("xcodeVersion", xcodeVersion)
+        .add("xcodeBuildVersion", xcodeBuildVersion)
+        .toString();
+  }
+
+  /**
+   * Builds instances of type {@link AppleCxxPlatform AppleCxxPlatform}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AppleCxxPlatform", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private static final long INIT_BIT_CXX_PLATFORM = 0x1L;
+    private static final long INIT_BIT_APPLE_SDK = 0x2L;
+    private static final long INIT_BIT_APPLE_SDK_PATHS = 0x4L;
+    private static final long INIT_BIT_MIN_VERSION = 0x8L;
+    private static final long INIT_BIT_ACTOOL = 0x10L;
+    private static final long INIT_BIT_IBTOOL = 0x20L;
+    private static final long INIT_BIT_MOMC = 0x40L;
+    private static final long INIT_BIT_XCTEST = 0x80L;
+    private static final long INIT_BIT_DSYMUTIL = 0x100L;
+    private static final long INIT_BIT_LIBTOOL = 0x200L;
+    private static final long INIT_BIT_LIPO = 0x400L;
+    private static final long INIT_BIT_LLDB = 0x800L;
+    private static final long INIT_BIT_CODESIGN_PROVIDER = 0x1000L;
+    private long initBits = 0x1fffL;
+
+    private @Nullable CxxPlatform cxxPlatform;
+    private @Nullable SwiftPlatform swiftPlatform;
+    private @Nullable AppleSdk appleSdk;
+    private @Nullable AppleSdkPaths appleSdkPaths;
+    private @Nullable String buildVersion;
+    private @Nullable String minVersion;
+    private @Nullable Tool actool;
+    private @Nullable Tool ibtool;
+    private @Nullable Tool momc;
+    private @Nullable Tool copySceneKitAssets;
+    private @Nullable Tool xctest;
+    private @Nullable Tool dsymutil;
+    private @Nullable Tool libtool;
+    private @Nullable Tool lipo;
+    private @Nullable Path stubBinary;
+    private @Nullable Tool lldb;
+    private @Nullable ToolProvider codesignProvider;
+    private @Nullable Tool codesignAllocate;
+    private @Nullable String xcodeVersion;
+    private @Nullable String xcodeBuildVersion;
+
+    /**
+     * Creates a builder for {@link AppleCxxPlatform AppleCxxPlatform} instances.
+     */
+    public Builder() {
+      if (!(this instanceof AppleCxxPlatform.Builder)) {
+        throw new UnsupportedOperationException("Use: new AppleCxxPlatform.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AppleCxxPlatform} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleCxxPlatform.Builder from(AppleCxxPlatform instance) {
+      Objects.requireNonNull(instance, "instance");
+      setCxxPlatform(instance.getCxxPlatform());
+      Optional<SwiftPlatform> swiftPlatformOptional = instance.getSwiftPlatform();
+      if (swiftPlatformOptional.isPresent()) {
+        setSwiftPlatform(swiftPlatformOptional);
+      }
+      setAppleSdk(instance.getAppleSdk());
+      setAppleSdkPaths(instance.getAppleSdkPaths());
+      Optional<String> buildVersionOptional = instance.getBuildVersion();
+      if (buildVersionOptional.isPresent()) {
+        setBuildVersion(buildVersionOptional);
+      }
+      setMinVersion(instance.getMinVersion());
+      setActool(instance.getActool());
+      setIbtool(instance.getIbtool());
+      setMomc(instance.getMomc());
+      Optional<Tool> copySceneKitAssetsOptional = instance.getCopySceneKitAssets();
+      if (copySceneKitAssetsOptional.isPresent()) {
+        setCopySceneKitAssets(copySceneKitAssetsOptional);
+      }
+      setXctest(instance.getXctest());
+      setDsymutil(instance.getDsymutil());
+      setLibtool(instance.getLibtool());
+      setLipo(instance.getLipo());
+      Optional<Path> stubBinaryOptional = instance.getStubBinary();
+      if (stubBinaryOptional.isPresent()) {
+        setStubBinary(stubBinaryOptional);
+      }
+      setLldb(instance.getLldb());
+      setCodesignProvider(instance.getCodesignProvider());
+      Optional<Tool> codesignAllocateOptional = instance.getCodesignAllocate();
+      if (codesignAllocateOptional.isPresent()) {
+        setCodesignAllocate(codesignAllocateOptional);
+      }
+      Optional<String> xcodeVersionOptional = instance.getXcodeVersion();
+      if (xcodeVersionOptional.isPresent()) {
+        setXcodeVersion(xcodeVersionOptional);
+      }
+      Optional<String> xcodeBuildVersionOptional = instance.getXcodeBuildVersion();
+      if (xcodeBuildVersionOptional.isPresent()) {
+        setXcodeBuildVersion(xcodeBuildVersionOptional);
+      }
+      return (AppleCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleCxxPlatform#getCxxPlatform() cxxPlatform} attribute.
+     * @param cxxPlatform The value for cxxPlatform 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleCxxPlatform.Builder setCxxPlatform(CxxPlatform cxxPlatform) {
+      this.cxxPlatform = Objects.requireNonNull(cxxPlatform, "cxxPlatform");
+      initBits &= ~INIT_BIT_CXX_PLATFORM;
+      return (AppleCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleCxxPlatform#getSwiftPlatform() swiftPlatform} to swiftPlatform.
+     * @param swiftPlatform The value for swiftPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleCxxPlatform.Builder setSwiftPlatform(SwiftPlatform swiftPlatform) {
+      this.swiftPlatform = Objects.requireNonNull(swiftPlatform, "swiftPlatform");
+      return (AppleCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleCxxPlatform#getSwiftPlatform() swiftPlatform} to swiftPlatform.
+     * @param swiftPlatform The value for swiftPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleCxxPlatform.Builder setSwiftPlatform(Optional<? extends SwiftPlatform> swiftPlatform) {
+      this.swiftPlatform = swiftPlatform.orElse(null);
+      return (AppleCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleCxxPlatform#getAppleSdk() appleSdk} attribute.
+     * @param appleSdk The value for appleSdk 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleCxxPlatform.Builder setAppleSdk(AppleSdk appleSdk) {
+      this.appleSdk = Objects.requireNonNull(appleSdk, "appleSdk");
+      initBits &= ~INIT_BIT_APPLE_SDK;
+      return (AppleCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleCxxPlatform#getAppleSdkPaths() appleSdkPaths} attribute.
+     * @param appleSdkPaths The value for appleSdkPaths 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleCxxPlatform.Builder setAppleSdkPaths(AppleSdkPaths appleSdkPaths) {
+      this.appleSdkPaths = Objects.requireNonNull(appleSdkPaths, "appleSdkPaths");
+      initBits &= ~INIT_BIT_APPLE_SDK_PATHS;
+      return (AppleCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleCxxPlatform#getBuildVersion() buildVersion} to buildVersion.
+     * @param buildVersion The value for buildVersion
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleCxxPlatform.Builder setBuildVersion(String buildVersion) {
+      this.buildVersion = Objects.requireNonNull(buildVersion, "buildVersion");
+      return (AppleCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleCxxPlatform#getBuildVersion() buildVersion} to buildVersion.
+     * @param buildVersion The value for buildVersion
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleCxxPlatform.Builder setBuildVersion(Optional<String> buildVersion) {
+      this.buildVersion = buildVersion.orElse(null);
+      return (AppleCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleCxxPlatform#getMinVersion() minVersion} attribute.
+     * @param minVersion The value for minVersion 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleCxxPlatform.Builder setMinVersion(String minVersion) {
+      this.minVersion = Objects.requireNonNull(minVersion, "minVersion");
+      initBits &= ~INIT_BIT_MIN_VERSION;
+      return (AppleCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleCxxPlatform#getActool() actool} attribute.
+     * @param actool The value for actool 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleCxxPlatform.Builder setActool(Tool actool) {
+      this.actool = Objects.requireNonNull(actool, "actool");
+      initBits &= ~INIT_BIT_ACTOOL;
+      return (AppleCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleCxxPlatform#getIbtool() ibtool} attribute.
+     * @param ibtool The value for ibtool 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleCxxPlatform.Builder setIbtool(Tool ibtool) {
+      this.ibtool = Objects.requireNonNull(ibtool, "ibtool");
+      initBits &= ~INIT_BIT_IBTOOL;
+      return (AppleCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleCxxPlatform#getMomc() momc} attribute.
+     * @param momc The value for momc 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleCxxPlatform.Builder setMomc(Tool momc) {
+      this.momc = Objects.requireNonNull(momc, "momc");
+      initBits &= ~INIT_BIT_MOMC;
+      return (AppleCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleCxxPlatform#getCopySceneKitAssets() copySceneKitAssets} to copySceneKitAssets.
+     * @param copySceneKitAssets The value for copySceneKitAssets
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleCxxPlatform.Builder setCopySceneKitAssets(Tool copySceneKitAssets) {
+      this.copySceneKitAssets = Objects.requireNonNull(copySceneKitAssets, "copySceneKitAssets");
+      return (AppleCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleCxxPlatform#getCopySceneKitAssets() copySceneKitAssets} to copySceneKitAssets.
+     * @param copySceneKitAssets The value for copySceneKitAssets
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleCxxPlatform.Builder setCopySceneKitAssets(Optional<? extends Tool> copySceneKitAssets) {
+      this.copySceneKitAssets = copySceneKitAssets.orElse(null);
+      return (AppleCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleCxxPlatform#getXctest() xctest} attribute.
+     * @param xctest The value for xctest 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleCxxPlatform.Builder setXctest(Tool xctest) {
+      this.xctest = Objects.requireNonNull(xctest, "xctest");
+      initBits &= ~INIT_BIT_XCTEST;
+      return (AppleCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleCxxPlatform#getDsymutil() dsymutil} attribute.
+     * @param dsymutil The value for dsymutil 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleCxxPlatform.Builder setDsymutil(Tool dsymutil) {
+      this.dsymutil = Objects.requireNonNull(dsymutil, "dsymutil");
+      initBits &= ~INIT_BIT_DSYMUTIL;
+      return (AppleCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleCxxPlatform#getLibtool() libtool} attribute.
+     * @param libtool The value for libtool 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleCxxPlatform.Builder setLibtool(Tool libtool) {
+      this.libtool = Objects.requireNonNull(libtool, "libtool");
+      initBits &= ~INIT_BIT_LIBTOOL;
+      return (AppleCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleCxxPlatform#getLipo() lipo} attribute.
+     * @param lipo The value for lipo 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleCxxPlatform.Builder setLipo(Tool lipo) {
+      this.lipo = Objects.requireNonNull(lipo, "lipo");
+      initBits &= ~INIT_BIT_LIPO;
+      return (AppleCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleCxxPlatform#getStubBinary() stubBinary} to stubBinary.
+     * @param stubBinary The value for stubBinary
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleCxxPlatform.Builder setStubBinary(Path stubBinary) {
+      this.stubBinary = Objects.requireNonNull(stubBinary, "stubBinary");
+      return (AppleCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleCxxPlatform#getStubBinary() stubBinary} to stubBinary.
+     * @param stubBinary The value for stubBinary
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleCxxPlatform.Builder setStubBinary(Optional<? extends Path> stubBinary) {
+      this.stubBinary = stubBinary.orElse(null);
+      return (AppleCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleCxxPlatform#getLldb() lldb} attribute.
+     * @param lldb The value for lldb 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleCxxPlatform.Builder setLldb(Tool lldb) {
+      this.lldb = Objects.requireNonNull(lldb, "lldb");
+      initBits &= ~INIT_BIT_LLDB;
+      return (AppleCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleCxxPlatform#getCodesignProvider() codesignProvider} attribute.
+     * @param codesignProvider The value for codesignProvider 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleCxxPlatform.Builder setCodesignProvider(ToolProvider codesignProvider) {
+      this.codesignProvider = Objects.requireNonNull(codesignProvider, "codesignProvider");
+      initBits &= ~INIT_BIT_CODESIGN_PROVIDER;
+      return (AppleCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleCxxPlatform#getCodesignAllocate() codesignAllocate} to codesignAllocate.
+     * @param codesignAllocate The value for codesignAllocate
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleCxxPlatform.Builder setCodesignAllocate(Tool codesignAllocate) {
+      this.codesignAllocate = Objects.requireNonNull(codesignAllocate, "codesignAllocate");
+      return (AppleCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleCxxPlatform#getCodesignAllocate() codesignAllocate} to codesignAllocate.
+     * @param codesignAllocate The value for codesignAllocate
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleCxxPlatform.Builder setCodesignAllocate(Optional<? extends Tool> codesignAllocate) {
+      this.codesignAllocate = codesignAllocate.orElse(null);
+      return (AppleCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleCxxPlatform#getXcodeVersion() xcodeVersion} to xcodeVersion.
+     * @param xcodeVersion The value for xcodeVersion
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleCxxPlatform.Builder setXcodeVersion(String xcodeVersion) {
+      this.xcodeVersion = Objects.requireNonNull(xcodeVersion, "xcodeVersion");
+      return (AppleCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleCxxPlatform#getXcodeVersion() xcodeVersion} to xcodeVersion.
+     * @param xcodeVersion The value for xcodeVersion
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleCxxPlatform.Builder setXcodeVersion(Optional<String> xcodeVersion) {
+      this.xcodeVersion = xcodeVersion.orElse(null);
+      return (AppleCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleCxxPlatform#getXcodeBuildVersion() xcodeBuildVersion} to xcodeBuildVersion.
+     * @param xcodeBuildVersion The value for xcodeBuildVersion
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleCxxPlatform.Builder setXcodeBuildVersion(String xcodeBuildVersion) {
+      this.xcodeBuildVersion = Objects.requireNonNull(xcodeBuildVersion, "xcodeBuildVersion");
+      return (AppleCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleCxxPlatform#getXcodeBuildVersion() xcodeBuildVersion} to xcodeBuildVersion.
+     * @param xcodeBuildVersion The value for xcodeBuildVersion
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AppleCxxPlatform.Builder setXcodeBuildVersion(Optional<String> xcodeBuildVersion) {
+      this.xcodeBuildVersion = xcodeBuildVersion.orElse(null);
+      return (AppleCxxPlatform.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link AppleCxxPlatform AppleCxxPlatform}.
+     * @return An immutable instance of AppleCxxPlatform
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AppleCxxPlatform build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ImmutableAppleCxxPlatform(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_CXX_PLATFORM) != 0) attributes.add("cxxPlatform");
+      if ((initBits & INIT_BIT_APPLE_SDK) != 0) attributes.add("appleSdk");
+      if ((initBits & INIT_BIT_APPLE_SDK_PATHS) != 0) attributes.add("appleSdkPaths");
+      if ((initBits & INIT_BIT_MIN_VERSION) != 0) attributes.add("minVersion");
+      if ((initBits & INIT_BIT_ACTOOL) != 0) attributes.add("actool");
+      if ((initBits & INIT_BIT_IBTOOL) != 0) attributes.add("ibtool");
+      if ((initBits & INIT_BIT_MOMC) != 0) attributes.add("momc");
+      if ((initBits & INIT_BIT_XCTEST) != 0) attributes.add("xctest");
+      if ((initBits & INIT_BIT_DSYMUTIL) != 0) attributes.add("dsymutil");
+      if ((initBits & INIT_BIT_LIBTOOL) != 0) attributes.add("libtool");
+      if ((initBits & INIT_BIT_LIPO) != 0) attributes.add("lipo");
+      if ((initBits & INIT_BIT_LLDB) != 0) attributes.add("lldb");
+      if ((initBits & INIT_BIT_CODESIGN_PROVIDER) != 0) attributes.add("codesignProvider");
+      return "Cannot build AppleCxxPlatform, some of required attributes are not set " + attributes;
+    }
+  }
+}
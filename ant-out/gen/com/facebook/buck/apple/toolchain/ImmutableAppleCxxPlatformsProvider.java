@@ -0,0 +1,88 @@
+package com.facebook.buck.apple.toolchain;
+
+import com.facebook.buck.core.model.FlavorDomain;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AppleCxxPlatformsProvider}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableAppleCxxPlatformsProvider.of()}.
+ */
+@Generated(from = "AppleCxxPlatformsProvider", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableAppleCxxPlatformsProvider
+    extends AppleCxxPlatformsProvider {
+  private final FlavorDomain<UnresolvedAppleCxxPlatform> unresolvedAppleCxxPlatforms;
+
+  private ImmutableAppleCxxPlatformsProvider(
+      FlavorDomain<UnresolvedAppleCxxPlatform> unresolvedAppleCxxPlatforms) {
+    this.unresolvedAppleCxxPlatforms = Objects.requireNonNull(unresolvedAppleCxxPlatforms, "unresolvedAppleCxxPlatforms");
+  }
+
+  /**
+   * @return The value of the {@code unresolvedAppleCxxPlatforms} attribute
+   */
+  @Override
+  public FlavorDomain<UnresolvedAppleCxxPlatform> getUnresolvedAppleCxxPlatforms() {
+    return unresolvedAppleCxxPlatforms;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableAppleCxxPlatformsProvider} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableAppleCxxPlatformsProvider
+        && equalTo((ImmutableAppleCxxPlatformsProvider) another);
+  }
+
+  private boolean equalTo(ImmutableAppleCxxPlatformsProvider another) {
+    return unresolvedAppleCxxPlatforms.equals(another.unresolvedAppleCxxPlatforms);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code unresolvedAppleCxxPlatforms}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + unresolvedAppleCxxPlatforms.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleCxxPlatformsProvider} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleCxxPlatformsProvider")
+        .omitNullValues()
+        .add("unresolvedAppleCxxPlatforms", unresolvedAppleCxxPlatforms)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code AppleCxxPlatformsProvider} instance.
+   * @param unresolvedAppleCxxPlatforms The value for the {@code unresolvedAppleCxxPlatforms} attribute
+   * @return An immutable AppleCxxPlatformsProvider instance
+   */
+  public static ImmutableAppleCxxPlatformsProvider of(FlavorDomain<UnresolvedAppleCxxPlatform> unresolvedAppleCxxPlatforms) {
+    return new ImmutableAppleCxxPlatformsProvider(unresolvedAppleCxxPlatforms);
+  }
+}
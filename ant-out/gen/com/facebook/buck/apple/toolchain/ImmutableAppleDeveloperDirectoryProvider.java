@@ -0,0 +1,87 @@
+package com.facebook.buck.apple.toolchain;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AppleDeveloperDirectoryProvider}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableAppleDeveloperDirectoryProvider.of()}.
+ */
+@Generated(from = "AppleDeveloperDirectoryProvider", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableAppleDeveloperDirectoryProvider
+    implements AppleDeveloperDirectoryProvider {
+  private final Path appleDeveloperDirectory;
+
+  private ImmutableAppleDeveloperDirectoryProvider(Path appleDeveloperDirectory) {
+    this.appleDeveloperDirectory = Objects.requireNonNull(appleDeveloperDirectory, "appleDeveloperDirectory");
+  }
+
+  /**
+   * @return The value of the {@code appleDeveloperDirectory} attribute
+   */
+  @Override
+  public Path getAppleDeveloperDirectory() {
+    return appleDeveloperDirectory;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableAppleDeveloperDirectoryProvider} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableAppleDeveloperDirectoryProvider
+        && equalTo((ImmutableAppleDeveloperDirectoryProvider) another);
+  }
+
+  private boolean equalTo(ImmutableAppleDeveloperDirectoryProvider another) {
+    return appleDeveloperDirectory.equals(another.appleDeveloperDirectory);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code appleDeveloperDirectory}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + appleDeveloperDirectory.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleDeveloperDirectoryProvider} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleDeveloperDirectoryProvider")
+        .omitNullValues()
+        .add("appleDeveloperDirectory", appleDeveloperDirectory)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code AppleDeveloperDirectoryProvider} instance.
+   * @param appleDeveloperDirectory The value for the {@code appleDeveloperDirectory} attribute
+   * @return An immutable AppleDeveloperDirectoryProvider instance
+   */
+  public static ImmutableAppleDeveloperDirectoryProvider of(Path appleDeveloperDirectory) {
+    return new ImmutableAppleDeveloperDirectoryProvider(appleDeveloperDirectory);
+  }
+}
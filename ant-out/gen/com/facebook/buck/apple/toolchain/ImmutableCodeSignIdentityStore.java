@@ -0,0 +1,89 @@
+package com.facebook.buck.apple.toolchain;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.function.Supplier;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CodeSignIdentityStore}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCodeSignIdentityStore.of()}.
+ */
+@Generated(from = "CodeSignIdentityStore", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCodeSignIdentityStore
+    implements CodeSignIdentityStore {
+  private final Supplier<ImmutableList<CodeSignIdentity>> identitiesSupplier;
+
+  private ImmutableCodeSignIdentityStore(
+      Supplier<ImmutableList<CodeSignIdentity>> identitiesSupplier) {
+    this.identitiesSupplier = Objects.requireNonNull(identitiesSupplier, "identitiesSupplier");
+  }
+
+  /**
+   * @return The value of the {@code identitiesSupplier} attribute
+   */
+  @Override
+  public Supplier<ImmutableList<CodeSignIdentity>> getIdentitiesSupplier() {
+    return identitiesSupplier;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCodeSignIdentityStore} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCodeSignIdentityStore
+        && equalTo((ImmutableCodeSignIdentityStore) another);
+  }
+
+  private boolean equalTo(ImmutableCodeSignIdentityStore another) {
+    return identitiesSupplier.equals(another.identitiesSupplier);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code identitiesSupplier}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + identitiesSupplier.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CodeSignIdentityStore} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CodeSignIdentityStore")
+        .omitNullValues()
+        .add("identitiesSupplier", identitiesSupplier)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CodeSignIdentityStore} instance.
+   * @param identitiesSupplier The value for the {@code identitiesSupplier} attribute
+   * @return An immutable CodeSignIdentityStore instance
+   */
+  public static ImmutableCodeSignIdentityStore of(Supplier<ImmutableList<CodeSignIdentity>> identitiesSupplier) {
+    return new ImmutableCodeSignIdentityStore(identitiesSupplier);
+  }
+}
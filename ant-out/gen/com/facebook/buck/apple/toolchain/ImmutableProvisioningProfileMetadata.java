@@ -0,0 +1,438 @@
+package com.facebook.buck.apple.toolchain;
+
+import com.dd.plist.NSObject;
+import com.facebook.buck.util.types.Pair;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.HashCode;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ProvisioningProfileMetadata}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new ProvisioningProfileMetadata.Builder()}.
+ */
+@Generated(from = "ProvisioningProfileMetadata", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableProvisioningProfileMetadata
+    extends ProvisioningProfileMetadata {
+  private final Pair<String, String> appID;
+  private final Date expirationDate;
+  private final String uUID;
+  private final Path profilePath;
+  private final ImmutableList<String> platforms;
+  private final ImmutableMap<String, NSObject> entitlements;
+  private final ImmutableSet<HashCode> developerCertificateFingerprints;
+
+  private ImmutableProvisioningProfileMetadata(ImmutableProvisioningProfileMetadata.Builder builder) {
+    this.appID = builder.appID;
+    this.expirationDate = builder.expirationDate;
+    this.uUID = builder.uUID;
+    this.profilePath = builder.profilePath;
+    this.entitlements = builder.entitlements.build();
+    this.developerCertificateFingerprints = builder.developerCertificateFingerprints.build();
+    this.platforms = builder.platformsIsSet()
+        ? builder.platforms.build()
+        : Objects.requireNonNull(super.getPlatforms(), "platforms");
+  }
+
+  /**
+   * @return The value of the {@code appID} attribute
+   */
+  @Override
+  public Pair<String, String> getAppID() {
+    return appID;
+  }
+
+  /**
+   * @return The value of the {@code expirationDate} attribute
+   */
+  @Override
+  public Date getExpirationDate() {
+    return expirationDate;
+  }
+
+  /**
+   * @return The value of the {@code uUID} attribute
+   */
+  @Override
+  public String getUUID() {
+    return uUID;
+  }
+
+  /**
+   * @return The value of the {@code profilePath} attribute
+   */
+  @Override
+  public Path getProfilePath() {
+    return profilePath;
+  }
+
+  /**
+   * @return The value of the {@code platforms} attribute
+   */
+  @Override
+  public ImmutableList<String> getPlatforms() {
+    return platforms;
+  }
+
+  /**
+   * @return The value of the {@code entitlements} attribute
+   */
+  @Override
+  public ImmutableMap<String, NSObject> getEntitlements() {
+    return entitlements;
+  }
+
+  /**
+   * @return The value of the {@code developerCertificateFingerprints} attribute
+   */
+  @Override
+  public ImmutableSet<HashCode> getDeveloperCertificateFingerprints() {
+    return developerCertificateFingerprints;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableProvisioningProfileMetadata} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableProvisioningProfileMetadata
+        && equalTo((ImmutableProvisioningProfileMetadata) another);
+  }
+
+  private boolean equalTo(ImmutableProvisioningProfileMetadata another) {
+    return appID.equals(another.appID)
+        && expirationDate.equals(another.expirationDate)
+        && uUID.equals(another.uUID)
+        && profilePath.equals(another.profilePath)
+        && platforms.equals(another.platforms)
+        && entitlements.equals(another.entitlements)
+        && developerCertificateFingerprints.equals(another.developerCertificateFingerprints);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code appID}, {@code expirationDate}, {@code uUID}, {@code profilePath}, {@code platforms}, {@code entitlements}, {@code developerCertificateFingerprints}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + appID.hashCode();
+    h += (h << 5) + expirationDate.hashCode();
+    h += (h << 5) + uUID.hashCode();
+    h += (h << 5) + profilePath.hashCode();
+    h += (h << 5) + platforms.hashCode();
+    h += (h << 5) + entitlements.hashCode();
+    h += (h << 5) + developerCertificateFingerprints.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ProvisioningProfileMetadata} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ProvisioningProfileMetadata")
+        .omitNullValues()
+        .add("appID", appID)
+        .add("expirationDate", expirationDate)
+        .add("uUID", uUID)
+        .add("profilePath", profilePath)
+        .add("platforms", platforms)
+        .add("entitlements", entitlements)
+        .add("developerCertificateFingerprints", developerCertificateFingerprints)
+        .toString();
+  }
+
+  /**
+   * Builds instances of type {@link ProvisioningProfileMetadata ProvisioningProfileMetadata}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "ProvisioningProfileMetadata", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private static final long INIT_BIT_APP_I_D = 0x1L;
+    private static final long INIT_BIT_EXPIRATION_DATE = 0x2L;
+    private static final long INIT_BIT_U_U_I_D = 0x4L;
+    private static final long INIT_BIT_PROFILE_PATH = 0x8L;
+    private static final long OPT_BIT_PLATFORMS = 0x1L;
+    private long initBits = 0xfL;
+    private long optBits;
+
+    private @Nullable Pair<String, String> appID;
+    private @Nullable Date expirationDate;
+    private @Nullable String uUID;
+    private @Nullable Path profilePath;
+    private ImmutableList.Builder<String> platforms = ImmutableList.builder();
+    private ImmutableMap.Builder<String, NSObject> entitlements = ImmutableMap.builder();
+    private ImmutableSet.Builder<HashCode> developerCertificateFingerprints = ImmutableSet.builder();
+
+    /**
+     * Creates a builder for {@link ProvisioningProfileMetadata ProvisioningProfileMetadata} instances.
+     */
+    public Builder() {
+      if (!(this instanceof ProvisioningProfileMetadata.Builder)) {
+        throw new UnsupportedOperationException("Use: new ProvisioningProfileMetadata.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ProvisioningProfileMetadata} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProvisioningProfileMetadata.Builder from(ProvisioningProfileMetadata instance) {
+      Objects.requireNonNull(instance, "instance");
+      setAppID(instance.getAppID());
+      setExpirationDate(instance.getExpirationDate());
+      setUUID(instance.getUUID());
+      setProfilePath(instance.getProfilePath());
+      addAllPlatforms(instance.getPlatforms());
+      putAllEntitlements(instance.getEntitlements());
+      addAllDeveloperCertificateFingerprints(instance.getDeveloperCertificateFingerprints());
+      return (ProvisioningProfileMetadata.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ProvisioningProfileMetadata#getAppID() appID} attribute.
+     * @param appID The value for appID 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProvisioningProfileMetadata.Builder setAppID(Pair<String, String> appID) {
+      this.appID = Objects.requireNonNull(appID, "appID");
+      initBits &= ~INIT_BIT_APP_I_D;
+      return (ProvisioningProfileMetadata.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ProvisioningProfileMetadata#getExpirationDate() expirationDate} attribute.
+     * @param expirationDate The value for expirationDate 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProvisioningProfileMetadata.Builder setExpirationDate(Date expirationDate) {
+      this.expirationDate = Objects.requireNonNull(expirationDate, "expirationDate");
+      initBits &= ~INIT_BIT_EXPIRATION_DATE;
+      return (ProvisioningProfileMetadata.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ProvisioningProfileMetadata#getUUID() uUID} attribute.
+     * @param uUID The value for uUID 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProvisioningProfileMetadata.Builder setUUID(String uUID) {
+      this.uUID = Objects.requireNonNull(uUID, "uUID");
+      initBits &= ~INIT_BIT_U_U_I_D;
+      return (ProvisioningProfileMetadata.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ProvisioningProfileMetadata#getProfilePath() profilePath} attribute.
+     * @param profilePath The value for profilePath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProvisioningProfileMetadata.Builder setProfilePath(Path profilePath) {
+      this.profilePath = Objects.requireNonNull(profilePath, "profilePath");
+      initBits &= ~INIT_BIT_PROFILE_PATH;
+      return (ProvisioningProfileMetadata.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link ProvisioningProfileMetadata#getPlatforms() platforms} list.
+     * @param element A platforms element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProvisioningProfileMetadata.Builder addPlatforms(String element) {
+      this.platforms.add(element);
+      optBits |= OPT_BIT_PLATFORMS;
+      return (ProvisioningProfileMetadata.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link ProvisioningProfileMetadata#getPlatforms() platforms} list.
+     * @param elements An array of platforms elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProvisioningProfileMetadata.Builder addPlatforms(String... elements) {
+      this.platforms.add(elements);
+      optBits |= OPT_BIT_PLATFORMS;
+      return (ProvisioningProfileMetadata.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ProvisioningProfileMetadata#getPlatforms() platforms} list.
+     * @param elements An iterable of platforms elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProvisioningProfileMetadata.Builder setPlatforms(Iterable<String> elements) {
+      this.platforms = ImmutableList.builder();
+      return addAllPlatforms(elements);
+    }
+
+    /**
+     * Adds elements to {@link ProvisioningProfileMetadata#getPlatforms() platforms} list.
+     * @param elements An iterable of platforms elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProvisioningProfileMetadata.Builder addAllPlatforms(Iterable<String> elements) {
+      this.platforms.addAll(elements);
+      optBits |= OPT_BIT_PLATFORMS;
+      return (ProvisioningProfileMetadata.Builder) this;
+    }
+
+    /**
+     * Put one entry to the {@link ProvisioningProfileMetadata#getEntitlements() entitlements} map.
+     * @param key The key in the entitlements map
+     * @param value The associated value in the entitlements map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProvisioningProfileMetadata.Builder putEntitlements(String key, NSObject value) {
+      this.entitlements.put(key, value);
+      return (ProvisioningProfileMetadata.Builder) this;
+    }
+
+    /**
+     * Put one entry to the {@link ProvisioningProfileMetadata#getEntitlements() entitlements} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProvisioningProfileMetadata.Builder putEntitlements(Map.Entry<String, ? extends NSObject> entry) {
+      this.entitlements.put(entry);
+      return (ProvisioningProfileMetadata.Builder) this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link ProvisioningProfileMetadata#getEntitlements() entitlements} map. Nulls are not permitted
+     * @param entries The entries that will be added to the entitlements map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProvisioningProfileMetadata.Builder setEntitlements(Map<String, ? extends NSObject> entries) {
+      this.entitlements = ImmutableMap.builder();
+      return putAllEntitlements(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link ProvisioningProfileMetadata#getEntitlements() entitlements} map. Nulls are not permitted
+     * @param entries The entries that will be added to the entitlements map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProvisioningProfileMetadata.Builder putAllEntitlements(Map<String, ? extends NSObject> entries) {
+      this.entitlements.putAll(entries);
+      return (ProvisioningProfileMetadata.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link ProvisioningProfileMetadata#getDeveloperCertificateFingerprints() developerCertificateFingerprints} set.
+     * @param element A developerCertificateFingerprints element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProvisioningProfileMetadata.Builder addDeveloperCertificateFingerprints(HashCode element) {
+      this.developerCertificateFingerprints.add(element);
+      return (ProvisioningProfileMetadata.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link ProvisioningProfileMetadata#getDeveloperCertificateFingerprints() developerCertificateFingerprints} set.
+     * @param elements An array of developerCertificateFingerprints elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProvisioningProfileMetadata.Builder addDeveloperCertificateFingerprints(HashCode... elements) {
+      this.developerCertificateFingerprints.add(elements);
+      return (ProvisioningProfileMetadata.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ProvisioningProfileMetadata#getDeveloperCertificateFingerprints() developerCertificateFingerprints} set.
+     * @param elements An iterable of developerCertificateFingerprints elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProvisioningProfileMetadata.Builder setDeveloperCertificateFingerprints(Iterable<? extends HashCode> elements) {
+      this.developerCertificateFingerprints = ImmutableSet.builder();
+      return addAllDeveloperCertificateFingerprints(elements);
+    }
+
+    /**
+     * Adds elements to {@link ProvisioningProfileMetadata#getDeveloperCertificateFingerprints() developerCertificateFingerprints} set.
+     * @param elements An iterable of developerCertificateFingerprints elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ProvisioningProfileMetadata.Builder addAllDeveloperCertificateFingerprints(Iterable<? extends HashCode> elements) {
+      this.developerCertificateFingerprints.addAll(elements);
+      return (ProvisioningProfileMetadata.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link ProvisioningProfileMetadata ProvisioningProfileMetadata}.
+     * @return An immutable instance of ProvisioningProfileMetadata
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ProvisioningProfileMetadata build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ImmutableProvisioningProfileMetadata(this);
+    }
+
+    private boolean platformsIsSet() {
+      return (optBits & OPT_BIT_PLATFORMS) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_APP_I_D) != 0) attributes.add("appID");
+      if ((initBits & INIT_BIT_EXPIRATION_DATE) != 0) attributes.add("expirationDate");
+      if ((initBits & INIT_BIT_U_U_I_D) != 0) attributes.add("uUID");
+      if ((initBits & INIT_BIT_PROFILE_PATH) != 0) attributes.add("profilePath");
+      return "Cannot build ProvisioningProfileMetadata, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package com.facebook.buck.apple.xcode.xcodeproj;
+
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ProductType}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableProductType.of()}.
+ */
+@Generated(from = "ProductType", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableProductType extends ProductType {
+  private final String identifier;
+
+  private ImmutableProductType(String identifier) {
+    this.identifier = Objects.requireNonNull(identifier, "identifier");
+  }
+
+  /**
+   * @return The value of the {@code identifier} attribute
+   */
+  @Override
+  public String getIdentifier() {
+    return identifier;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableProductType} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableProductType
+        && equalTo((ImmutableProductType) another);
+  }
+
+  private boolean equalTo(ImmutableProductType another) {
+    return identifier.equals(another.identifier);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code identifier}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + identifier.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code ProductType} instance.
+   * @param identifier The value for the {@code identifier} attribute
+   * @return An immutable ProductType instance
+   */
+  public static ImmutableProductType of(String identifier) {
+    return new ImmutableProductType(identifier);
+  }
+}
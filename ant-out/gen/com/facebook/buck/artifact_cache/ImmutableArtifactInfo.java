@@ -0,0 +1,452 @@
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.primitives.Booleans;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ArtifactInfo}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new ArtifactInfo.Builder()}.
+ */
+@Generated(from = "ArtifactInfo", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableArtifactInfo extends ArtifactInfo {
+  private final ImmutableSet<RuleKey> ruleKeys;
+  private final ImmutableMap<String, String> metadata;
+  private final @Nullable BuildTarget buildTarget;
+  private final @Nullable String repository;
+  private final long buildTimeMs;
+  private final boolean manifest;
+
+  private ImmutableArtifactInfo(ImmutableArtifactInfo.Builder builder) {
+    this.ruleKeys = builder.ruleKeys.build();
+    this.metadata = builder.metadata.build();
+    this.buildTarget = builder.buildTarget;
+    this.repository = builder.repository;
+    if (builder.buildTimeMsIsSet()) {
+      initShim.setBuildTimeMs(builder.buildTimeMs);
+    }
+    if (builder.manifestIsSet()) {
+      initShim.setManifest(builder.manifest);
+    }
+    this.buildTimeMs = initShim.getBuildTimeMs();
+    this.manifest = initShim.isManifest();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "ArtifactInfo", generator = "Immutables")
+  private final class InitShim {
+    private byte buildTimeMsBuildStage = STAGE_UNINITIALIZED;
+    private long buildTimeMs;
+
+    long getBuildTimeMs() {
+      if (buildTimeMsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (buildTimeMsBuildStage == STAGE_UNINITIALIZED) {
+        buildTimeMsBuildStage = STAGE_INITIALIZING;
+        this.buildTimeMs = ImmutableArtifactInfo.super.getBuildTimeMs();
+        buildTimeMsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.buildTimeMs;
+    }
+
+    void setBuildTimeMs(long buildTimeMs) {
+      this.buildTimeMs = buildTimeMs;
+      buildTimeMsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte manifestBuildStage = STAGE_UNINITIALIZED;
+    private boolean manifest;
+
+    boolean isManifest() {
+      if (manifestBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (manifestBuildStage == STAGE_UNINITIALIZED) {
+        manifestBuildStage = STAGE_INITIALIZING;
+        this.manifest = ImmutableArtifactInfo.super.isManifest();
+        manifestBuildStage = STAGE_INITIALIZED;
+      }
+      return this.manifest;
+    }
+
+    void setManifest(boolean manifest) {
+      this.manifest = manifest;
+      manifestBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (buildTimeMsBuildStage == STAGE_INITIALIZING) attributes.add("buildTimeMs");
+      if (manifestBuildStage == STAGE_INITIALIZING) attributes.add("manifest");
+      return "Cannot build ArtifactInfo, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code ruleKeys} attribute
+   */
+  @Override
+  public ImmutableSet<RuleKey> getRuleKeys() {
+    return ruleKeys;
+  }
+
+  /**
+   * @return The value of the {@code metadata} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getMetadata() {
+    return metadata;
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public Optional<BuildTarget> getBuildTarget() {
+    return Optional.ofNullable(buildTarget);
+  }
+
+  /**
+   * @return The value of the {@code repository} attribute
+   */
+  @Override
+  public Optional<String> getRepository() {
+    return Optional.ofNullable(repository);
+  }
+
+  /**
+   * @return The value of the {@code buildTimeMs} attribute
+   */
+  @Override
+  public long getBuildTimeMs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getBuildTimeMs()
+        : this.buildTimeMs;
+  }
+
+  /**
+   * @return The value of the {@code manifest} attribute
+   */
+  @Override
+  public boolean isManifest() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isManifest()
+        : this.manifest;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableArtifactInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableArtifactInfo
+        && equalTo((ImmutableArtifactInfo) another);
+  }
+
+  private boolean equalTo(ImmutableArtifactInfo another) {
+    return ruleKeys.equals(another.ruleKeys)
+        && metadata.equals(another.metadata)
+        && Objects.equals(buildTarget, another.buildTarget)
+        && Objects.equals(repository, another.repository)
+        && buildTimeMs == another.buildTimeMs
+        && manifest == another.manifest;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code ruleKeys}, {@code metadata}, {@code buildTarget}, {@code repository}, {@code buildTimeMs}, {@code manifest}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + ruleKeys.hashCode();
+    h += (h << 5) + metadata.hashCode();
+    h += (h << 5) + Objects.hashCode(buildTarget);
+    h += (h << 5) + Objects.hashCode(repository);
+    h += (h << 5) + Longs.hashCode(buildTimeMs);
+    h += (h << 5) + Booleans.hashCode(manifest);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ArtifactInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ArtifactInfo")
+        .omitNullValues()
+        .add("ruleKeys", ruleKeys)
+        .add("metadata", metadata)
+        .add("buildTarget", buildTarget)
+        .add("repository", repository)
+        .add("buildTimeMs", buildTimeMs)
+        .add("manifest", manifest)
+        .toString();
+  }
+
+  /**
+   * Builds instances of type {@link ArtifactInfo ArtifactInfo}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "ArtifactInfo", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private static final long OPT_BIT_BUILD_TIME_MS = 0x1L;
+    private static final long OPT_BIT_MANIFEST = 0x2L;
+    private long optBits;
+
+    private ImmutableSet.Builder<RuleKey> ruleKeys = ImmutableSet.builder();
+    private ImmutableMap.Builder<String, String> metadata = ImmutableMap.builder();
+    private @Nullable BuildTarget buildTarget;
+    private @Nullable String repository;
+    private long buildTimeMs;
+    private boolean manifest;
+
+    /**
+     * Creates a builder for {@link ArtifactInfo ArtifactInfo} instances.
+     */
+    public Builder() {
+      if (!(this instanceof ArtifactInfo.Builder)) {
+        throw new UnsupportedOperationException("Use: new ArtifactInfo.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ArtifactInfo} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ArtifactInfo.Builder from(ArtifactInfo instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllRuleKeys(instance.getRuleKeys());
+      putAllMetadata(instance.getMetadata());
+      Optional<BuildTarget> buildTargetOptional = instance.getBuildTarget();
+      if (buildTargetOptional.isPresent()) {
+        setBuildTarget(buildTargetOptional);
+      }
+      Optional<String> repositoryOptional = instance.getRepository();
+      if (repositoryOptional.isPresent()) {
+        setRepository(repositoryOptional);
+      }
+      setBuildTimeMs(instance.getBuildTimeMs());
+      setManifest(instance.isManifest());
+      return (ArtifactInfo.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link ArtifactInfo#getRuleKeys() ruleKeys} set.
+     * @param element A ruleKeys element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ArtifactInfo.Builder addRuleKeys(RuleKey element) {
+      this.ruleKeys.add(element);
+      return (ArtifactInfo.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link ArtifactInfo#getRuleKeys() ruleKeys} set.
+     * @param elements An array of ruleKeys elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ArtifactInfo.Builder addRuleKeys(RuleKey... elements) {
+      this.ruleKeys.add(elements);
+      return (ArtifactInfo.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ArtifactInfo#getRuleKeys() ruleKeys} set.
+     * @param elements An iterable of ruleKeys elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ArtifactInfo.Builder setRuleKeys(Iterable<? extends RuleKey> elements) {
+      this.ruleKeys = ImmutableSet.builder();
+      return addAllRuleKeys(elements);
+    }
+
+    /**
+     * Adds elements to {@link ArtifactInfo#getRuleKeys() ruleKeys} set.
+     * @param elements An iterable of ruleKeys elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ArtifactInfo.Builder addAllRuleKeys(Iterable<? extends RuleKey> elements) {
+      this.ruleKeys.addAll(elements);
+      return (ArtifactInfo.Builder) this;
+    }
+
+    /**
+     * Put one entry to the {@link ArtifactInfo#getMetadata() metadata} map.
+     * @param key The key in the metadata map
+     * @param value The associated value in the metadata map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ArtifactInfo.Builder putMetadata(String key, String value) {
+      this.metadata.put(key, value);
+      return (ArtifactInfo.Builder) this;
+    }
+
+    /**
+     * Put one entry to the {@link ArtifactInfo#getMetadata() metadata} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ArtifactInfo.Builder putMetadata(Map.Entry<String, ? extends String> entry) {
+      this.metadata.put(entry);
+      return (ArtifactInfo.Builder) this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link ArtifactInfo#getMetadata() metadata} map. Nulls are not permitted
+     * @param entries The entries that will be added to the metadata map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ArtifactInfo.Builder setMetadata(Map<String, ? extends String> entries) {
+      this.metadata = ImmutableMap.builder();
+      return putAllMetadata(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link ArtifactInfo#getMetadata() metadata} map. Nulls are not permitted
+     * @param entries The entries that will be added to the metadata map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ArtifactInfo.Builder putAllMetadata(Map<String, ? extends String> entries) {
+      this.metadata.putAll(entries);
+      return (ArtifactInfo.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ArtifactInfo#getBuildTarget() buildTarget} to buildTarget.
+     * @param buildTarget The value for buildTarget
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ArtifactInfo.Builder setBuildTarget(BuildTarget buildTarget) {
+      this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+      return (ArtifactInfo.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ArtifactInfo#getBuildTarget() buildTarget} to buildTarget.
+     * @param buildTarget The value for buildTarget
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ArtifactInfo.Builder setBuildTarget(Optional<? extends BuildTarget> buildTarget) {
+      this.buildTarget = buildTarget.orElse(null);
+      return (ArtifactInfo.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ArtifactInfo#getRepository() repository} to repository.
+     * @param repository The value for repository
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ArtifactInfo.Builder setRepository(String repository) {
+      this.repository = Objects.requireNonNull(repository, "repository");
+      return (ArtifactInfo.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ArtifactInfo#getRepository() repository} to repository.
+     * @param repository The value for repository
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ArtifactInfo.Builder setRepository(Optional<String> repository) {
+      this.repository = repository.orElse(null);
+      return (ArtifactInfo.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ArtifactInfo#getBuildTimeMs() buildTimeMs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ArtifactInfo#getBuildTimeMs() buildTimeMs}.</em>
+     * @param buildTimeMs The value for buildTimeMs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ArtifactInfo.Builder setBuildTimeMs(long buildTimeMs) {
+      this.buildTimeMs = buildTimeMs;
+      optBits |= OPT_BIT_BUILD_TIME_MS;
+      return (ArtifactInfo.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ArtifactInfo#isManifest() manifest} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ArtifactInfo#isManifest() manifest}.</em>
+     * @param manifest The value for manifest 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ArtifactInfo.Builder setManifest(boolean manifest) {
+      this.manifest = manifest;
+      optBits |= OPT_BIT_MANIFEST;
+      return (ArtifactInfo.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link ArtifactInfo ArtifactInfo}.
+     * @return An immutable instance of ArtifactInfo
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ArtifactInfo build() {
+      return new ImmutableArtifactInfo(this);
+    }
+
+    private boolean buildTimeMsIsSet() {
+      return (optBits & OPT_BIT_BUILD_TIME_MS) != 0;
+    }
+
+    private boolean manifestIsSet() {
+      return (optBits & OPT_BIT_MANIFEST) != 0;
+    }
+  }
+}
@@ -0,0 +1,382 @@
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.HashCode;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link HttpArtifactCacheBinaryProtocol.FetchResponseReadResult}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ImmutableFetchResponseReadResult.builder()}.
+ */
+@Generated(from = "HttpArtifactCacheBinaryProtocol.FetchResponseReadResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableFetchResponseReadResult
+    extends HttpArtifactCacheBinaryProtocol.FetchResponseReadResult {
+  private final ImmutableSet<RuleKey> ruleKeys;
+  private final HashCode expectedHashCode;
+  private final HashCode actualHashCode;
+  private final HashCode artifactOnlyHashCode;
+  private final long responseSizeBytes;
+  private final ImmutableMap<String, String> metadata;
+
+  private ImmutableFetchResponseReadResult(ImmutableFetchResponseReadResult.Builder builder) {
+    this.ruleKeys = builder.ruleKeys.build();
+    this.expectedHashCode = builder.expectedHashCode;
+    this.actualHashCode = builder.actualHashCode;
+    this.artifactOnlyHashCode = builder.artifactOnlyHashCode;
+    this.responseSizeBytes = builder.responseSizeBytes;
+    this.metadata = builder.metadata.build();
+  }
+
+  /**
+   * @return The value of the {@code ruleKeys} attribute
+   */
+  @Override
+  public ImmutableSet<RuleKey> getRuleKeys() {
+    return ruleKeys;
+  }
+
+  /**
+   * @return The value of the {@code expectedHashCode} attribute
+   */
+  @Override
+  public HashCode getExpectedHashCode() {
+    return expectedHashCode;
+  }
+
+  /**
+   * @return The value of the {@code actualHashCode} attribute
+   */
+  @Override
+  public HashCode getActualHashCode() {
+    return actualHashCode;
+  }
+
+  /**
+   * @return The value of the {@code artifactOnlyHashCode} attribute
+   */
+  @Override
+  public HashCode getArtifactOnlyHashCode() {
+    return artifactOnlyHashCode;
+  }
+
+  /**
+   * @return The value of the {@code responseSizeBytes} attribute
+   */
+  @Override
+  public long getResponseSizeBytes() {
+    return responseSizeBytes;
+  }
+
+  /**
+   * @return The value of the {@code metadata} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getMetadata() {
+    return metadata;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableFetchResponseReadResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableFetchResponseReadResult
+        && equalTo((ImmutableFetchResponseReadResult) another);
+  }
+
+  private boolean equalTo(ImmutableFetchResponseReadResult another) {
+    return ruleKeys.equals(another.ruleKeys)
+        && expectedHashCode.equals(another.expectedHashCode)
+        && actualHashCode.equals(another.actualHashCode)
+        && artifactOnlyHashCode.equals(another.artifactOnlyHashCode)
+        && responseSizeBytes == another.responseSizeBytes
+        && metadata.equals(another.metadata);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code ruleKeys}, {@code expectedHashCode}, {@code actualHashCode}, {@code artifactOnlyHashCode}, {@code responseSizeBytes}, {@code metadata}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + ruleKeys.hashCode();
+    h += (h << 5) + expectedHashCode.hashCode();
+    h += (h << 5) + actualHashCode.hashCode();
+    h += (h << 5) + artifactOnlyHashCode.hashCode();
+    h += (h << 5) + Longs.hashCode(responseSizeBytes);
+    h += (h << 5) + metadata.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code FetchResponseReadResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FetchResponseReadResult")
+        .omitNullValues()
+        .add("ruleKeys", ruleKeys)
+        .add("expectedHashCode", expectedHashCode)
+        .add("actualHashCode", actualHashCode)
+        .add("artifactOnlyHashCode", artifactOnlyHashCode)
+        .add("responseSizeBytes", responseSizeBytes)
+        .add("metadata", metadata)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link HttpArtifactCacheBinaryProtocol.FetchResponseReadResult FetchResponseReadResult}.
+   * @return A new FetchResponseReadResult builder
+   */
+  public static ImmutableFetchResponseReadResult.Builder builder() {
+    return new ImmutableFetchResponseReadResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link HttpArtifactCacheBinaryProtocol.FetchResponseReadResult FetchResponseReadResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "HttpArtifactCacheBinaryProtocol.FetchResponseReadResult", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_EXPECTED_HASH_CODE = 0x1L;
+    private static final long INIT_BIT_ACTUAL_HASH_CODE = 0x2L;
+    private static final long INIT_BIT_ARTIFACT_ONLY_HASH_CODE = 0x4L;
+    private static final long INIT_BIT_RESPONSE_SIZE_BYTES = 0x8L;
+    private long initBits = 0xfL;
+
+    private ImmutableSet.Builder<RuleKey> ruleKeys = ImmutableSet.builder();
+    private @Nullable HashCode expectedHashCode;
+    private @Nullable HashCode actualHashCode;
+    private @Nullable HashCode artifactOnlyHashCode;
+    private long responseSizeBytes;
+    private ImmutableMap.Builder<String, String> metadata = ImmutableMap.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.artifact_cache.HttpArtifactCacheBinaryProtocol.MetadataAndPayloadReadResult} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HttpArtifactCacheBinaryProtocol.MetadataAndPayloadReadResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.artifact_cache.HttpArtifactCacheBinaryProtocol.FetchResponseReadResult} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HttpArtifactCacheBinaryProtocol.FetchResponseReadResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof HttpArtifactCacheBinaryProtocol.MetadataAndPayloadReadResult) {
+        HttpArtifactCacheBinaryProtocol.MetadataAndPayloadReadResult instance = (HttpArtifactCacheBinaryProtocol.MetadataAndPayloadReadResult) object;
+        setArtifactOnlyHashCode(instance.getArtifactOnlyHashCode());
+        setExpectedHashCode(instance.getExpectedHashCode());
+        putAllMetadata(instance.getMetadata());
+        setResponseSizeBytes(instance.getResponseSizeBytes());
+        addAllRuleKeys(instance.getRuleKeys());
+        setActualHashCode(instance.getActualHashCode());
+      }
+    }
+
+    /**
+     * Adds one element to {@link HttpArtifactCacheBinaryProtocol.FetchResponseReadResult#getRuleKeys() ruleKeys} set.
+     * @param element A ruleKeys element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addRuleKeys(RuleKey element) {
+      this.ruleKeys.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HttpArtifactCacheBinaryProtocol.FetchResponseReadResult#getRuleKeys() ruleKeys} set.
+     * @param elements An array of ruleKeys elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addRuleKeys(RuleKey... elements) {
+      this.ruleKeys.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HttpArtifactCacheBinaryProtocol.FetchResponseReadResult#getRuleKeys() ruleKeys} set.
+     * @param elements An iterable of ruleKeys elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleKeys(Iterable<? extends RuleKey> elements) {
+      this.ruleKeys = ImmutableSet.builder();
+      return addAllRuleKeys(elements);
+    }
+
+    /**
+     * Adds elements to {@link HttpArtifactCacheBinaryProtocol.FetchResponseReadResult#getRuleKeys() ruleKeys} set.
+     * @param elements An iterable of ruleKeys elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllRuleKeys(Iterable<? extends RuleKey> elements) {
+      this.ruleKeys.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HttpArtifactCacheBinaryProtocol.FetchResponseReadResult#getExpectedHashCode() expectedHashCode} attribute.
+     * @param expectedHashCode The value for expectedHashCode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExpectedHashCode(HashCode expectedHashCode) {
+      this.expectedHashCode = Objects.requireNonNull(expectedHashCode, "expectedHashCode");
+      initBits &= ~INIT_BIT_EXPECTED_HASH_CODE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HttpArtifactCacheBinaryProtocol.FetchResponseReadResult#getActualHashCode() actualHashCode} attribute.
+     * @param actualHashCode The value for actualHashCode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setActualHashCode(HashCode actualHashCode) {
+      this.actualHashCode = Objects.requireNonNull(actualHashCode, "actualHashCode");
+      initBits &= ~INIT_BIT_ACTUAL_HASH_CODE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HttpArtifactCacheBinaryProtocol.FetchResponseReadResult#getArtifactOnlyHashCode() artifactOnlyHashCode} attribute.
+     * @param artifactOnlyHashCode The value for artifactOnlyHashCode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArtifactOnlyHashCode(HashCode artifactOnlyHashCode) {
+      this.artifactOnlyHashCode = Objects.requireNonNull(artifactOnlyHashCode, "artifactOnlyHashCode");
+      initBits &= ~INIT_BIT_ARTIFACT_ONLY_HASH_CODE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HttpArtifactCacheBinaryProtocol.FetchResponseReadResult#getResponseSizeBytes() responseSizeBytes} attribute.
+     * @param responseSizeBytes The value for responseSizeBytes 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResponseSizeBytes(long responseSizeBytes) {
+      this.responseSizeBytes = responseSizeBytes;
+      initBits &= ~INIT_BIT_RESPONSE_SIZE_BYTES;
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link HttpArtifactCacheBinaryProtocol.FetchResponseReadResult#getMetadata() metadata} map.
+     * @param key The key in the metadata map
+     * @param value The associated value in the metadata map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putMetadata(String key, String value) {
+      this.metadata.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link HttpArtifactCacheBinaryProtocol.FetchResponseReadResult#getMetadata() metadata} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putMetadata(Map.Entry<String, ? extends String> entry) {
+      this.metadata.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link HttpArtifactCacheBinaryProtocol.FetchResponseReadResult#getMetadata() metadata} map. Nulls are not permitted
+     * @param entries The entries that will be added to the metadata map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMetadata(Map<String, ? extends String> entries) {
+      this.metadata = ImmutableMap.builder();
+      return putAllMetadata(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link HttpArtifactCacheBinaryProtocol.FetchResponseReadResult#getMetadata() metadata} map. Nulls are not permitted
+     * @param entries The entries that will be added to the metadata map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllMetadata(Map<String, ? extends String> entries) {
+      this.metadata.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link HttpArtifactCacheBinaryProtocol.FetchResponseReadResult FetchResponseReadResult}.
+     * @return An immutable instance of FetchResponseReadResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public HttpArtifactCacheBinaryProtocol.FetchResponseReadResult build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ImmutableFetchResponseReadResult(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_EXPECTED_HASH_CODE) != 0) attributes.add("expectedHashCode");
+      if ((initBits & INIT_BIT_ACTUAL_HASH_CODE) != 0) attributes.add("actualHashCode");
+      if ((initBits & INIT_BIT_ARTIFACT_ONLY_HASH_CODE) != 0) attributes.add("artifactOnlyHashCode");
+      if ((initBits & INIT_BIT_RESPONSE_SIZE_BYTES) != 0) attributes.add("responseSizeBytes");
+      return "Cannot build FetchResponseReadResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
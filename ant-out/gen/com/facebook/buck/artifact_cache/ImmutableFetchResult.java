@@ -0,0 +1,356 @@
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AbstractAsynchronousCache.FetchResult}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ImmutableFetchResult.builder()}.
+ */
+@Generated(from = "AbstractAsynchronousCache.FetchResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableFetchResult
+    implements AbstractAsynchronousCache.FetchResult {
+  private final @Nullable Long responseSizeBytes;
+  private final @Nullable BuildTarget buildTarget;
+  private final @Nullable ImmutableSet<RuleKey> associatedRuleKeys;
+  private final @Nullable Long artifactSizeBytes;
+  private final @Nullable String artifactContentHash;
+  private final CacheResult cacheResult;
+
+  private ImmutableFetchResult(ImmutableFetchResult.Builder builder) {
+    this.responseSizeBytes = builder.responseSizeBytes;
+    this.buildTarget = builder.buildTarget;
+    this.associatedRuleKeys = builder.associatedRuleKeys;
+    this.artifactSizeBytes = builder.artifactSizeBytes;
+    this.artifactContentHash = builder.artifactContentHash;
+    this.cacheResult = builder.cacheResult;
+  }
+
+  /**
+   * @return The value of the {@code responseSizeBytes} attribute
+   */
+  @Override
+  public Optional<Long> getResponseSizeBytes() {
+    return Optional.ofNullable(responseSizeBytes);
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public Optional<BuildTarget> getBuildTarget() {
+    return Optional.ofNullable(buildTarget);
+  }
+
+  /**
+   * @return The value of the {@code associatedRuleKeys} attribute
+   */
+  @Override
+  public Optional<ImmutableSet<RuleKey>> getAssociatedRuleKeys() {
+    return Optional.ofNullable(associatedRuleKeys);
+  }
+
+  /**
+   * @return The value of the {@code artifactSizeBytes} attribute
+   */
+  @Override
+  public Optional<Long> getArtifactSizeBytes() {
+    return Optional.ofNullable(artifactSizeBytes);
+  }
+
+  /**
+   * @return The value of the {@code artifactContentHash} attribute
+   */
+  @Override
+  public Optional<String> getArtifactContentHash() {
+    return Optional.ofNullable(artifactContentHash);
+  }
+
+  /**
+   * @return The value of the {@code cacheResult} attribute
+   */
+  @Override
+  public CacheResult getCacheResult() {
+    return cacheResult;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableFetchResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableFetchResult
+        && equalTo((ImmutableFetchResult) another);
+  }
+
+  private boolean equalTo(ImmutableFetchResult another) {
+    return Objects.equals(responseSizeBytes, another.responseSizeBytes)
+        && Objects.equals(buildTarget, another.buildTarget)
+        && Objects.equals(associatedRuleKeys, another.associatedRuleKeys)
+        && Objects.equals(artifactSizeBytes, another.artifactSizeBytes)
+        && Objects.equals(artifactContentHash, another.artifactContentHash)
+        && cacheResult.equals(another.cacheResult);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code responseSizeBytes}, {@code buildTarget}, {@code associatedRuleKeys}, {@code artifactSizeBytes}, {@code artifactContentHash}, {@code cacheResult}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(responseSizeBytes);
+    h += (h << 5) + Objects.hashCode(buildTarget);
+    h += (h << 5) + Objects.hashCode(associatedRuleKeys);
+    h += (h << 5) + Objects.hashCode(artifactSizeBytes);
+    h += (h << 5) + Objects.hashCode(artifactContentHash);
+    h += (h << 5) + cacheResult.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code FetchResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FetchResult")
+        .omitNullValues()
+        .add("responseSizeBytes", responseSizeBytes)
+        .add("buildTarget", buildTarget)
+        .add("associatedRuleKeys", associatedRuleKeys)
+        .add("artifactSizeBytes", artifactSizeBytes)
+        .add("artifactContentHash", artifactContentHash)
+        .add("cacheResult", cacheResult)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link AbstractAsynchronousCache.FetchResult FetchResult}.
+   * @return A new FetchResult builder
+   */
+  public static ImmutableFetchResult.Builder builder() {
+    return new ImmutableFetchResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AbstractAsynchronousCache.FetchResult FetchResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "AbstractAsynchronousCache.FetchResult", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CACHE_RESULT = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable Long responseSizeBytes;
+    private @Nullable BuildTarget buildTarget;
+    private @Nullable ImmutableSet<RuleKey> associatedRuleKeys;
+    private @Nullable Long artifactSizeBytes;
+    private @Nullable String artifactContentHash;
+    private @Nullable CacheResult cacheResult;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code FetchResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AbstractAsynchronousCache.FetchResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<Long> responseSizeBytesOptional = instance.getResponseSizeBytes();
+      if (responseSizeBytesOptional.isPresent()) {
+        setResponseSizeBytes(responseSizeBytesOptional);
+      }
+      Optional<BuildTarget> buildTargetOptional = instance.getBuildTarget();
+      if (buildTargetOptional.isPresent()) {
+        setBuildTarget(buildTargetOptional);
+      }
+      Optional<ImmutableSet<RuleKey>> associatedRuleKeysOptional = instance.getAssociatedRuleKeys();
+      if (associatedRuleKeysOptional.isPresent()) {
+        setAssociatedRuleKeys(associatedRuleKeysOptional);
+      }
+      Optional<Long> artifactSizeBytesOptional = instance.getArtifactSizeBytes();
+      if (artifactSizeBytesOptional.isPresent()) {
+        setArtifactSizeBytes(artifactSizeBytesOptional);
+      }
+      Optional<String> artifactContentHashOptional = instance.getArtifactContentHash();
+      if (artifactContentHashOptional.isPresent()) {
+        setArtifactContentHash(artifactContentHashOptional);
+      }
+      setCacheResult(instance.getCacheResult());
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.FetchResult#getResponseSizeBytes() responseSizeBytes} to responseSizeBytes.
+     * @param responseSizeBytes The value for responseSizeBytes
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResponseSizeBytes(long responseSizeBytes) {
+      this.responseSizeBytes = responseSizeBytes;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.FetchResult#getResponseSizeBytes() responseSizeBytes} to responseSizeBytes.
+     * @param responseSizeBytes The value for responseSizeBytes
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResponseSizeBytes(Optional<Long> responseSizeBytes) {
+      this.responseSizeBytes = responseSizeBytes.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.FetchResult#getBuildTarget() buildTarget} to buildTarget.
+     * @param buildTarget The value for buildTarget
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildTarget(BuildTarget buildTarget) {
+      this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.FetchResult#getBuildTarget() buildTarget} to buildTarget.
+     * @param buildTarget The value for buildTarget
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildTarget(Optional<? extends BuildTarget> buildTarget) {
+      this.buildTarget = buildTarget.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.FetchResult#getAssociatedRuleKeys() associatedRuleKeys} to associatedRuleKeys.
+     * @param associatedRuleKeys The value for associatedRuleKeys
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAssociatedRuleKeys(ImmutableSet<RuleKey> associatedRuleKeys) {
+      this.associatedRuleKeys = Objects.requireNonNull(associatedRuleKeys, "associatedRuleKeys");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.FetchResult#getAssociatedRuleKeys() associatedRuleKeys} to associatedRuleKeys.
+     * @param associatedRuleKeys The value for associatedRuleKeys
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAssociatedRuleKeys(Optional<? extends ImmutableSet<RuleKey>> associatedRuleKeys) {
+      this.associatedRuleKeys = associatedRuleKeys.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.FetchResult#getArtifactSizeBytes() artifactSizeBytes} to artifactSizeBytes.
+     * @param artifactSizeBytes The value for artifactSizeBytes
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArtifactSizeBytes(long artifactSizeBytes) {
+      this.artifactSizeBytes = artifactSizeBytes;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.FetchResult#getArtifactSizeBytes() artifactSizeBytes} to artifactSizeBytes.
+     * @param artifactSizeBytes The value for artifactSizeBytes
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArtifactSizeBytes(Optional<Long> artifactSizeBytes) {
+      this.artifactSizeBytes = artifactSizeBytes.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.FetchResult#getArtifactContentHash() artifactContentHash} to artifactContentHash.
+     * @param artifactContentHash The value for artifactContentHash
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArtifactContentHash(String artifactContentHash) {
+      this.artifactContentHash = Objects.requireNonNull(artifactContentHash, "artifactContentHash");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.FetchResult#getArtifactContentHash() artifactContentHash} to artifactContentHash.
+     * @param artifactContentHash The value for artifactContentHash
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArtifactContentHash(Optional<String> artifactContentHash) {
+      this.artifactContentHash = artifactContentHash.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAsynchronousCache.FetchResult#getCacheResult() cacheResult} attribute.
+     * @param cacheResult The value for cacheResult 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCacheResult(CacheResult cacheResult) {
+      this.cacheResult = Objects.requireNonNull(cacheResult, "cacheResult");
+      initBits &= ~INIT_BIT_CACHE_RESULT;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AbstractAsynchronousCache.FetchResult FetchResult}.
+     * @return An immutable instance of FetchResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AbstractAsynchronousCache.FetchResult build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ImmutableFetchResult(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_CACHE_RESULT) != 0) attributes.add("cacheResult");
+      return "Cannot build FetchResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,128 @@
+package com.facebook.buck.artifact_cache.config;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Var;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ArtifactCacheEntries}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableArtifactCacheEntries.of()}.
+ */
+@Generated(from = "ArtifactCacheEntries", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableArtifactCacheEntries
+    extends ArtifactCacheEntries {
+  private final ImmutableSet<HttpCacheEntry> httpCacheEntries;
+  private final ImmutableSet<DirCacheEntry> dirCacheEntries;
+  private final ImmutableSet<SQLiteCacheEntry> sQLiteCacheEntries;
+
+  private ImmutableArtifactCacheEntries(
+      Iterable<? extends HttpCacheEntry> httpCacheEntries,
+      Iterable<? extends DirCacheEntry> dirCacheEntries,
+      Iterable<? extends SQLiteCacheEntry> sQLiteCacheEntries) {
+    this.httpCacheEntries = ImmutableSet.copyOf(httpCacheEntries);
+    this.dirCacheEntries = ImmutableSet.copyOf(dirCacheEntries);
+    this.sQLiteCacheEntries = ImmutableSet.copyOf(sQLiteCacheEntries);
+  }
+
+  /**
+   * @return The value of the {@code httpCacheEntries} attribute
+   */
+  @Override
+  public ImmutableSet<HttpCacheEntry> getHttpCacheEntries() {
+    return httpCacheEntries;
+  }
+
+  /**
+   * @return The value of the {@code dirCacheEntries} attribute
+   */
+  @Override
+  public ImmutableSet<DirCacheEntry> getDirCacheEntries() {
+    return dirCacheEntries;
+  }
+
+  /**
+   * @return The value of the {@code sQLiteCacheEntries} attribute
+   */
+  @Override
+  public ImmutableSet<SQLiteCacheEntry> getSQLiteCacheEntries() {
+    return sQLiteCacheEntries;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableArtifactCacheEntries} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableArtifactCacheEntries
+        && equalTo((ImmutableArtifactCacheEntries) another);
+  }
+
+  private boolean equalTo(ImmutableArtifactCacheEntries another) {
+    return httpCacheEntries.equals(another.httpCacheEntries)
+        && dirCacheEntries.equals(another.dirCacheEntries)
+        && sQLiteCacheEntries.equals(another.sQLiteCacheEntries);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code httpCacheEntries}, {@code dirCacheEntries}, {@code sQLiteCacheEntries}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + httpCacheEntries.hashCode();
+    h += (h << 5) + dirCacheEntries.hashCode();
+    h += (h << 5) + sQLiteCacheEntries.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ArtifactCacheEntries} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ArtifactCacheEntries")
+        .omitNullValues()
+        .add("httpCacheEntries", httpCacheEntries)
+        .add("dirCacheEntries", dirCacheEntries)
+        .add("sQLiteCacheEntries", sQLiteCacheEntries)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ArtifactCacheEntries} instance.
+   * @param httpCacheEntries The value for the {@code httpCacheEntries} attribute
+   * @param dirCacheEntries The value for the {@code dirCacheEntries} attribute
+   * @param sQLiteCacheEntries The value for the {@code sQLiteCacheEntries} attribute
+   * @return An immutable ArtifactCacheEntries instance
+   */
+  public static ImmutableArtifactCacheEntries of(ImmutableSet<HttpCacheEntry> httpCacheEntries, ImmutableSet<DirCacheEntry> dirCacheEntries, ImmutableSet<SQLiteCacheEntry> sQLiteCacheEntries) {
+    return of((Iterable<? extends HttpCacheEntry>) httpCacheEntries, (Iterable<? extends DirCacheEntry>) dirCacheEntries, (Iterable<? extends SQLiteCacheEntry>) sQLiteCacheEntries);
+  }
+
+  /**
+   * Construct a new immutable {@code ArtifactCacheEntries} instance.
+   * @param httpCacheEntries The value for the {@code httpCacheEntries} attribute
+   * @param dirCacheEntries The value for the {@code dirCacheEntries} attribute
+   * @param sQLiteCacheEntries The value for the {@code sQLiteCacheEntries} attribute
+   * @return An immutable ArtifactCacheEntries instance
+   */
+  public static ImmutableArtifactCacheEntries of(Iterable<? extends HttpCacheEntry> httpCacheEntries, Iterable<? extends DirCacheEntry> dirCacheEntries, Iterable<? extends SQLiteCacheEntry> sQLiteCacheEntries) {
+    return new ImmutableArtifactCacheEntries(httpCacheEntries, dirCacheEntries, sQLiteCacheEntries);
+  }
+}
@@ -0,0 +1,193 @@
+package com.facebook.buck.cli;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableCollection;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ActionGraphSerializer.ActionGraphData}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableActionGraphData.of()}.
+ */
+@Generated(from = "ActionGraphSerializer.ActionGraphData", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableActionGraphData
+    implements ActionGraphSerializer.ActionGraphData {
+  private final String targetId;
+  private final String ruleType;
+  private final ImmutableCollection<String> buildDeps;
+  private final ImmutableCollection<String> runtimeDeps;
+
+  private ImmutableActionGraphData(
+      String targetId,
+      String ruleType,
+      ImmutableCollection<String> buildDeps,
+      ImmutableCollection<String> runtimeDeps) {
+    this.targetId = Objects.requireNonNull(targetId, "targetId");
+    this.ruleType = Objects.requireNonNull(ruleType, "ruleType");
+    this.buildDeps = Objects.requireNonNull(buildDeps, "buildDeps");
+    this.runtimeDeps = Objects.requireNonNull(runtimeDeps, "runtimeDeps");
+  }
+
+  /**
+   * @return The value of the {@code targetId} attribute
+   */
+  @JsonProperty
+  @Override
+  public String getTargetId() {
+    return targetId;
+  }
+
+  /**
+   * @return The value of the {@code ruleType} attribute
+   */
+  @JsonProperty
+  @Override
+  public String getRuleType() {
+    return ruleType;
+  }
+
+  /**
+   * @return The value of the {@code buildDeps} attribute
+   */
+  @JsonProperty
+  @Override
+  public ImmutableCollection<String> getBuildDeps() {
+    return buildDeps;
+  }
+
+  /**
+   * @return The value of the {@code runtimeDeps} attribute
+   */
+  @JsonProperty
+  @Override
+  public ImmutableCollection<String> getRuntimeDeps() {
+    return runtimeDeps;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableActionGraphData} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableActionGraphData
+        && equalTo((ImmutableActionGraphData) another);
+  }
+
+  private boolean equalTo(ImmutableActionGraphData another) {
+    return targetId.equals(another.targetId)
+        && ruleType.equals(another.ruleType)
+        && buildDeps.equals(another.buildDeps)
+        && runtimeDeps.equals(another.runtimeDeps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code targetId}, {@code ruleType}, {@code buildDeps}, {@code runtimeDeps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + targetId.hashCode();
+    h += (h << 5) + ruleType.hashCode();
+    h += (h << 5) + buildDeps.hashCode();
+    h += (h << 5) + runtimeDeps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ActionGraphData} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ActionGraphData")
+        .omitNullValues()
+        .add("targetId", targetId)
+        .add("ruleType", ruleType)
+        .add("buildDeps", buildDeps)
+        .add("runtimeDeps", runtimeDeps)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "ActionGraphSerializer.ActionGraphData", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json implements ActionGraphSerializer.ActionGraphData {
+    @Nullable String targetId;
+    @Nullable String ruleType;
+    @Nullable ImmutableCollection<String> buildDeps;
+    @Nullable ImmutableCollection<String> runtimeDeps;
+    @JsonProperty
+    public void setTargetId(String targetId) {
+      this.targetId = targetId;
+    }
+    @JsonProperty
+    public void setRuleType(String ruleType) {
+      this.ruleType = ruleType;
+    }
+    @JsonProperty
+    public void setBuildDeps(ImmutableCollection<String> buildDeps) {
+      this.buildDeps = buildDeps;
+    }
+    @JsonProperty
+    public void setRuntimeDeps(ImmutableCollection<String> runtimeDeps) {
+      this.runtimeDeps = runtimeDeps;
+    }
+    @Override
+    public String getTargetId() { throw new UnsupportedOperationException(); }
+    @Override
+    public String getRuleType() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableCollection<String> getBuildDeps() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableCollection<String> getRuntimeDeps() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableActionGraphData fromJson(Json json) {
+    ImmutableActionGraphData instance = ImmutableActionGraphData.of(json.targetId, json.ruleType, json.buildDeps, json.runtimeDeps);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code ActionGraphData} instance.
+   * @param targetId The value for the {@code targetId} attribute
+   * @param ruleType The value for the {@code ruleType} attribute
+   * @param buildDeps The value for the {@code buildDeps} attribute
+   * @param runtimeDeps The value for the {@code runtimeDeps} attribute
+   * @return An immutable ActionGraphData instance
+   */
+  public static ImmutableActionGraphData of(String targetId, String ruleType, ImmutableCollection<String> buildDeps, ImmutableCollection<String> runtimeDeps) {
+    return new ImmutableActionGraphData(targetId, ruleType, buildDeps, runtimeDeps);
+  }
+}
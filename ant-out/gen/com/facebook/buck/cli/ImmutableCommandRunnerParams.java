@@ -0,0 +1,735 @@
+package com.facebook.buck.cli;
+
+import com.facebook.buck.artifact_cache.ArtifactCacheFactory;
+import com.facebook.buck.core.build.engine.cache.manager.BuildInfoStoreManager;
+import com.facebook.buck.core.cell.Cells;
+import com.facebook.buck.core.config.BuckConfig;
+import com.facebook.buck.core.graph.transformation.executor.DepsAwareExecutor;
+import com.facebook.buck.core.graph.transformation.model.ComputeResult;
+import com.facebook.buck.core.model.TargetConfiguration;
+import com.facebook.buck.core.model.TargetConfigurationSerializer;
+import com.facebook.buck.core.model.actiongraph.computation.ActionGraphProvider;
+import com.facebook.buck.core.module.BuckModuleManager;
+import com.facebook.buck.core.parser.buildtargetparser.UnconfiguredBuildTargetViewFactory;
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.facebook.buck.core.rules.knowntypes.provider.KnownRuleTypesProvider;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.httpserver.WebServer;
+import com.facebook.buck.io.ExecutableFinder;
+import com.facebook.buck.io.filesystem.ProjectFilesystemFactory;
+import com.facebook.buck.io.watchman.Watchman;
+import com.facebook.buck.jvm.core.JavaPackageFinder;
+import com.facebook.buck.log.InvocationInfo;
+import com.facebook.buck.parser.Parser;
+import com.facebook.buck.remoteexecution.interfaces.MetadataProvider;
+import com.facebook.buck.rules.coercer.TypeCoercerFactory;
+import com.facebook.buck.rules.keys.RuleKeyCacheRecycler;
+import com.facebook.buck.rules.keys.config.RuleKeyConfiguration;
+import com.facebook.buck.support.state.BuckGlobalState;
+import com.facebook.buck.util.CloseableMemoizedSupplier;
+import com.facebook.buck.util.Console;
+import com.facebook.buck.util.ProcessExecutor;
+import com.facebook.buck.util.ProcessManager;
+import com.facebook.buck.util.cache.impl.StackedFileHashCache;
+import com.facebook.buck.util.concurrent.ExecutorPool;
+import com.facebook.buck.util.environment.BuildEnvironmentDescription;
+import com.facebook.buck.util.environment.Platform;
+import com.facebook.buck.util.timing.Clock;
+import com.facebook.buck.util.versioncontrol.VersionControlStatsGenerator;
+import com.facebook.buck.versions.InstrumentedVersionedTargetGraphCache;
+import com.facebook.buck.worker.WorkerProcessPool;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.errorprone.annotations.Var;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+import org.pf4j.PluginManager;
+
+/**
+ * Immutable implementation of {@link CommandRunnerParams}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCommandRunnerParams.of()}.
+ */
+@Generated(from = "CommandRunnerParams", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCommandRunnerParams extends CommandRunnerParams {
+  private final Console console;
+  private final InputStream stdIn;
+  private final Cells cells;
+  private final Watchman watchman;
+  private final InstrumentedVersionedTargetGraphCache versionedTargetGraphCache;
+  private final ArtifactCacheFactory artifactCacheFactory;
+  private final TypeCoercerFactory typeCoercerFactory;
+  private final UnconfiguredBuildTargetViewFactory unconfiguredBuildTargetFactory;
+  private final @Nullable TargetConfiguration targetConfiguration;
+  private final @Nullable TargetConfiguration hostConfiguration;
+  private final TargetConfigurationSerializer targetConfigurationSerializer;
+  private final Parser parser;
+  private final BuckEventBus buckEventBus;
+  private final Platform platform;
+  private final ImmutableMap<String, String> environment;
+  private final JavaPackageFinder javaPackageFinder;
+  private final Clock clock;
+  private final VersionControlStatsGenerator versionControlStatsGenerator;
+  private final @Nullable ProcessManager processManager;
+  private final @Nullable WebServer webServer;
+  private final ConcurrentMap<String, WorkerProcessPool> persistentWorkerPools;
+  private final BuckConfig buckConfig;
+  private final StackedFileHashCache fileHashCache;
+  private final ImmutableMap<ExecutorPool, ListeningExecutorService> executors;
+  private final ScheduledExecutorService scheduledExecutor;
+  private final BuildEnvironmentDescription buildEnvironmentDescription;
+  private final ActionGraphProvider actionGraphProvider;
+  private final KnownRuleTypesProvider knownRuleTypesProvider;
+  private final BuildInfoStoreManager buildInfoStoreManager;
+  private final @Nullable InvocationInfo invocationInfo;
+  private final @Nullable RuleKeyCacheRecycler<RuleKey> defaultRuleKeyFactoryCacheRecycler;
+  private final ProjectFilesystemFactory projectFilesystemFactory;
+  private final RuleKeyConfiguration ruleKeyConfiguration;
+  private final ProcessExecutor processExecutor;
+  private final ExecutableFinder executableFinder;
+  private final PluginManager pluginManager;
+  private final BuckModuleManager buckModuleManager;
+  private final CloseableMemoizedSupplier<DepsAwareExecutor<? super ComputeResult, ?>> depsAwareExecutorSupplier;
+  private final MetadataProvider metadataProvider;
+  private final BuckGlobalState globalState;
+  private final Path clientWorkingDir;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableCommandRunnerParams(
+      Console console,
+      InputStream stdIn,
+      Cells cells,
+      Watchman watchman,
+      InstrumentedVersionedTargetGraphCache versionedTargetGraphCache,
+      ArtifactCacheFactory artifactCacheFactory,
+      TypeCoercerFactory typeCoercerFactory,
+      UnconfiguredBuildTargetViewFactory unconfiguredBuildTargetFactory,
+      Optional<? extends TargetConfiguration> targetConfiguration,
+      Optional<? extends TargetConfiguration> hostConfiguration,
+      TargetConfigurationSerializer targetConfigurationSerializer,
+      Parser parser,
+      BuckEventBus buckEventBus,
+      Platform platform,
+      Map<String, ? extends String> environment,
+      JavaPackageFinder javaPackageFinder,
+      Clock clock,
+      VersionControlStatsGenerator versionControlStatsGenerator,
+      Optional<? extends ProcessManager> processManager,
+      Optional<? extends WebServer> webServer,
+      ConcurrentMap<String, WorkerProcessPool> persistentWorkerPools,
+      BuckConfig buckConfig,
+      StackedFileHashCache fileHashCache,
+      Map<ExecutorPool, ? extends ListeningExecutorService> executors,
+      ScheduledExecutorService scheduledExecutor,
+      BuildEnvironmentDescription buildEnvironmentDescription,
+      ActionGraphProvider actionGraphProvider,
+      KnownRuleTypesProvider knownRuleTypesProvider,
+      BuildInfoStoreManager buildInfoStoreManager,
+      Optional<? extends InvocationInfo> invocationInfo,
+      Optional<? extends RuleKeyCacheRecycler<RuleKey>> defaultRuleKeyFactoryCacheRecycler,
+      ProjectFilesystemFactory projectFilesystemFactory,
+      RuleKeyConfiguration ruleKeyConfiguration,
+      ProcessExecutor processExecutor,
+      ExecutableFinder executableFinder,
+      PluginManager pluginManager,
+      BuckModuleManager buckModuleManager,
+      CloseableMemoizedSupplier<DepsAwareExecutor<? super ComputeResult, ?>> depsAwareExecutorSupplier,
+      MetadataProvider metadataProvider,
+      BuckGlobalState globalState,
+      Path clientWorkingDir) {
+    this.console = Objects.requireNonNull(console, "console");
+    this.stdIn = Objects.requireNonNull(stdIn, "stdIn");
+    this.cells = Objects.requireNonNull(cells, "cells");
+    this.watchman = Objects.requireNonNull(watchman, "watchman");
+    this.versionedTargetGraphCache = Objects.requireNonNull(versionedTargetGraphCache, "versionedTargetGraphCache");
+    this.artifactCacheFactory = Objects.requireNonNull(artifactCacheFactory, "artifactCacheFactory");
+    this.typeCoercerFactory = Objects.requireNonNull(typeCoercerFactory, "typeCoercerFactory");
+    this.unconfiguredBuildTargetFactory = Objects.requireNonNull(unconfiguredBuildTargetFactory, "unconfiguredBuildTargetFactory");
+    this.targetConfiguration = targetConfiguration.orElse(null);
+    this.hostConfiguration = hostConfiguration.orElse(null);
+    this.targetConfigurationSerializer = Objects.requireNonNull(targetConfigurationSerializer, "targetConfigurationSerializer");
+    this.parser = Objects.requireNonNull(parser, "parser");
+    this.buckEventBus = Objects.requireNonNull(buckEventBus, "buckEventBus");
+    this.platform = Objects.requireNonNull(platform, "platform");
+    this.environment = ImmutableMap.copyOf(environment);
+    this.javaPackageFinder = Objects.requireNonNull(javaPackageFinder, "javaPackageFinder");
+    this.clock = Objects.requireNonNull(clock, "clock");
+    this.versionControlStatsGenerator = Objects.requireNonNull(versionControlStatsGenerator, "versionControlStatsGenerator");
+    this.processManager = processManager.orElse(null);
+    this.webServer = webServer.orElse(null);
+    this.persistentWorkerPools = Objects.requireNonNull(persistentWorkerPools, "persistentWorkerPools");
+    this.buckConfig = Objects.requireNonNull(buckConfig, "buckConfig");
+    this.fileHashCache = Objects.requireNonNull(fileHashCache, "fileHashCache");
+    this.executors = Maps.immutableEnumMap(executors);
+    this.scheduledExecutor = Objects.requireNonNull(scheduledExecutor, "scheduledExecutor");
+    this.buildEnvironmentDescription = Objects.requireNonNull(buildEnvironmentDescription, "buildEnvironmentDescription");
+    this.actionGraphProvider = Objects.requireNonNull(actionGraphProvider, "actionGraphProvider");
+    this.knownRuleTypesProvider = Objects.requireNonNull(knownRuleTypesProvider, "knownRuleTypesProvider");
+    this.buildInfoStoreManager = Objects.requireNonNull(buildInfoStoreManager, "buildInfoStoreManager");
+    this.invocationInfo = invocationInfo.orElse(null);
+    this.defaultRuleKeyFactoryCacheRecycler = defaultRuleKeyFactoryCacheRecycler.orElse(null);
+    this.projectFilesystemFactory = Objects.requireNonNull(projectFilesystemFactory, "projectFilesystemFactory");
+    this.ruleKeyConfiguration = Objects.requireNonNull(ruleKeyConfiguration, "ruleKeyConfiguration");
+    this.processExecutor = Objects.requireNonNull(processExecutor, "processExecutor");
+    this.executableFinder = Objects.requireNonNull(executableFinder, "executableFinder");
+    this.pluginManager = Objects.requireNonNull(pluginManager, "pluginManager");
+    this.buckModuleManager = Objects.requireNonNull(buckModuleManager, "buckModuleManager");
+    this.depsAwareExecutorSupplier = Objects.requireNonNull(depsAwareExecutorSupplier, "depsAwareExecutorSupplier");
+    this.metadataProvider = Objects.requireNonNull(metadataProvider, "metadataProvider");
+    this.globalState = Objects.requireNonNull(globalState, "globalState");
+    this.clientWorkingDir = Objects.requireNonNull(clientWorkingDir, "clientWorkingDir");
+  }
+
+  /**
+   * @return The value of the {@code console} attribute
+   */
+  @Override
+  public Console getConsole() {
+    return console;
+  }
+
+  /**
+   * @return The value of the {@code stdIn} attribute
+   */
+  @Override
+  public InputStream getStdIn() {
+    return stdIn;
+  }
+
+  /**
+   * @return The value of the {@code cells} attribute
+   */
+  @Override
+  public Cells getCells() {
+    return cells;
+  }
+
+  /**
+   * @return The value of the {@code watchman} attribute
+   */
+  @Override
+  public Watchman getWatchman() {
+    return watchman;
+  }
+
+  /**
+   * @return The value of the {@code versionedTargetGraphCache} attribute
+   */
+  @Override
+  public InstrumentedVersionedTargetGraphCache getVersionedTargetGraphCache() {
+    return versionedTargetGraphCache;
+  }
+
+  /**
+   * @return The value of the {@code artifactCacheFactory} attribute
+   */
+  @Override
+  public ArtifactCacheFactory getArtifactCacheFactory() {
+    return artifactCacheFactory;
+  }
+
+  /**
+   * @return The value of the {@code typeCoercerFactory} attribute
+   */
+  @Override
+  public TypeCoercerFactory getTypeCoercerFactory() {
+    return typeCoercerFactory;
+  }
+
+  /**
+   * @return The value of the {@code unconfiguredBuildTargetFactory} attribute
+   */
+  @Override
+  public UnconfiguredBuildTargetViewFactory getUnconfiguredBuildTargetFactory() {
+    return unconfiguredBuildTargetFactory;
+  }
+
+  /**
+   * @return The value of the {@code targetConfiguration} attribute
+   */
+  @Override
+  public Optional<TargetConfiguration> getTargetConfiguration() {
+    return Optional.ofNullable(targetConfiguration);
+  }
+
+  /**
+   * @return The value of the {@code hostConfiguration} attribute
+   */
+  @Override
+  public Optional<TargetConfiguration> getHostConfiguration() {
+    return Optional.ofNullable(hostConfiguration);
+  }
+
+  /**
+   * @return The value of the {@code targetConfigurationSerializer} attribute
+   */
+  @Override
+  public TargetConfigurationSerializer getTargetConfigurationSerializer() {
+    return targetConfigurationSerializer;
+  }
+
+  /**
+   * @return The value of the {@code parser} attribute
+   */
+  @Override
+  public Parser getParser() {
+    return parser;
+  }
+
+  /**
+   * @return The value of the {@code buckEventBus} attribute
+   */
+  @Override
+  public BuckEventBus getBuckEventBus() {
+    return buckEventBus;
+  }
+
+  /**
+   * @return The value of the {@code platform} attribute
+   */
+  @Override
+  public Platform getPlatform() {
+    return platform;
+  }
+
+  /**
+   * @return The value of the {@code environment} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getEnvironment() {
+    return environment;
+  }
+
+  /**
+   * @return The value of the {@code javaPackageFinder} attribute
+   */
+  @Override
+  public JavaPackageFinder getJavaPackageFinder() {
+    return javaPackageFinder;
+  }
+
+  /**
+   * @return The value of the {@code clock} attribute
+   */
+  @Override
+  public Clock getClock() {
+    return clock;
+  }
+
+  /**
+   * @return The value of the {@code versionControlStatsGenerator} attribute
+   */
+  @Override
+  public VersionControlStatsGenerator getVersionControlStatsGenerator() {
+    return versionControlStatsGenerator;
+  }
+
+  /**
+   * @return The value of the {@code processManager} attribute
+   */
+  @Override
+  public Optional<ProcessManager> getProcessManager() {
+    return Optional.ofNullable(processManager);
+  }
+
+  /**
+   * @return The value of the {@code webServer} attribute
+   */
+  @Override
+  public Optional<WebServer> getWebServer() {
+    return Optional.ofNullable(webServer);
+  }
+
+  /**
+   * @return The value of the {@code persistentWorkerPools} attribute
+   */
+  @Override
+  public ConcurrentMap<String, WorkerProcessPool> getPersistentWorkerPools() {
+    return persistentWorkerPools;
+  }
+
+  /**
+   * @return The value of the {@code buckConfig} attribute
+   */
+  @Override
+  public BuckConfig getBuckConfig() {
+    return buckConfig;
+  }
+
+  /**
+   * @return The value of the {@code fileHashCache} attribute
+   */
+  @Override
+  public StackedFileHashCache getFileHashCache() {
+    return fileHashCache;
+  }
+
+  /**
+   * @return The value of the {@code executors} attribute
+   */
+  @Override
+  public ImmutableMap<ExecutorPool, ListeningExecutorService> getExecutors() {
+    return executors;
+  }
+
+  /**
+   * @return The value of the {@code scheduledExecutor} attribute
+   */
+  @Override
+  public ScheduledExecutorService getScheduledExecutor() {
+    return scheduledExecutor;
+  }
+
+  /**
+   * @return The value of the {@code buildEnvironmentDescription} attribute
+   */
+  @Override
+  public BuildEnvironmentDescription getBuildEnvironmentDescription() {
+    return buildEnvironmentDescription;
+  }
+
+  /**
+   * @return The value of the {@code actionGraphProvider} attribute
+   */
+  @Override
+  public ActionGraphProvider getActionGraphProvider() {
+    return actionGraphProvider;
+  }
+
+  /**
+   * @return The value of the {@code knownRuleTypesProvider} attribute
+   */
+  @Override
+  public KnownRuleTypesProvider getKnownRuleTypesProvider() {
+    return knownRuleTypesProvider;
+  }
+
+  /**
+   * @return The value of the {@code buildInfoStoreManager} attribute
+   */
+  @Override
+  public BuildInfoStoreManager getBuildInfoStoreManager() {
+    return buildInfoStoreManager;
+  }
+
+  /**
+   * @return The value of the {@code invocationInfo} attribute
+   */
+  @Override
+  public Optional<InvocationInfo> getInvocationInfo() {
+    return Optional.ofNullable(invocationInfo);
+  }
+
+  /**
+   * @return The value of the {@code defaultRuleKeyFactoryCacheRecycler} attribute
+   */
+  @Override
+  public Optional<RuleKeyCacheRecycler<RuleKey>> getDefaultRuleKeyFactoryCacheRecycler() {
+    return Optional.ofNullable(defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * @return The value of the {@code projectFilesystemFactory} attribute
+   */
+  @Override
+  public ProjectFilesystemFactory getProjectFilesystemFactory() {
+    return projectFilesystemFactory;
+  }
+
+  /**
+   * @return The value of the {@code ruleKeyConfiguration} attribute
+   */
+  @Override
+  public RuleKeyConfiguration getRuleKeyConfiguration() {
+    return ruleKeyConfiguration;
+  }
+
+  /**
+   * @return The value of the {@code processExecutor} attribute
+   */
+  @Override
+  public ProcessExecutor getProcessExecutor() {
+    return processExecutor;
+  }
+
+  /**
+   * @return The value of the {@code executableFinder} attribute
+   */
+  @Override
+  public ExecutableFinder getExecutableFinder() {
+    return executableFinder;
+  }
+
+  /**
+   * @return The value of the {@code pluginManager} attribute
+   */
+  @Override
+  public PluginManager getPluginManager() {
+    return pluginManager;
+  }
+
+  /**
+   * @return The value of the {@code buckModuleManager} attribute
+   */
+  @Override
+  public BuckModuleManager getBuckModuleManager() {
+    return buckModuleManager;
+  }
+
+  /**
+   * @return The value of the {@code depsAwareExecutorSupplier} attribute
+   */
+  @Override
+  public CloseableMemoizedSupplier<DepsAwareExecutor<? super ComputeResult, ?>> getDepsAwareExecutorSupplier() {
+    return depsAwareExecutorSupplier;
+  }
+
+  /**
+   * @return The value of the {@code metadataProvider} attribute
+   */
+  @Override
+  public MetadataProvider getMetadataProvider() {
+    return metadataProvider;
+  }
+
+  /**
+   * @return The value of the {@code globalState} attribute
+   */
+  @Override
+  public BuckGlobalState getGlobalState() {
+    return globalState;
+  }
+
+  /**
+   * @return The value of the {@code clientWorkingDir} attribute
+   */
+  @Override
+  public Path getClientWorkingDir() {
+    return clientWorkingDir;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCommandRunnerParams} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCommandRunnerParams
+        && equalTo((ImmutableCommandRunnerParams) another);
+  }
+
+  private boolean equalTo(ImmutableCommandRunnerParams another) {
+    return console.equals(another.console)
+        && stdIn.equals(another.stdIn)
+        && cells.equals(another.cells)
+        && watchman.equals(another.watchman)
+        && versionedTargetGraphCache.equals(another.versionedTargetGraphCache)
+        && artifactCacheFactory.equals(another.artifactCacheFactory)
+        && typeCoercerFactory.equals(another.typeCoercerFactory)
+        && unconfiguredBuildTargetFactory.equals(another.unconfiguredBuildTargetFactory)
+        && Objects.equals(targetConfiguration, another.targetConfiguration)
+        && Objects.equals(hostConfiguration, another.hostConfiguration)
+        && targetConfigurationSerializer.equals(another.targetConfigurationSerializer)
+        && parser.equals(another.parser)
+        && buckEventBus.equals(another.buckEventBus)
+        && platform.equals(another.platform)
+        && environment.equals(another.environment)
+        && javaPackageFinder.equals(another.javaPackageFinder)
+        && clock.equals(another.clock)
+        && versionControlStatsGenerator.equals(another.versionControlStatsGenerator)
+        && Objects.equals(processManager, another.processManager)
+        && Objects.equals(webServer, another.webServer)
+        && persistentWorkerPools.equals(another.persistentWorkerPools)
+        && buckConfig.equals(another.buckConfig)
+        && fileHashCache.equals(another.fileHashCache)
+        && executors.equals(another.executors)
+        && scheduledExecutor.equals(another.scheduledExecutor)
+        && buildEnvironmentDescription.equals(another.buildEnvironmentDescription)
+        && actionGraphProvider.equals(another.actionGraphProvider)
+        && knownRuleTypesProvider.equals(another.knownRuleTypesProvider)
+        && buildInfoStoreManager.equals(another.buildInfoStoreManager)
+        && Objects.equals(invocationInfo, another.invocationInfo)
+        && Objects.equals(defaultRuleKeyFactoryCacheRecycler, another.defaultRuleKeyFactoryCacheRecycler)
+        && projectFilesystemFactory.equals(another.projectFilesystemFactory)
+        && ruleKeyConfiguration.equals(another.ruleKeyConfiguration)
+        && processExecutor.equals(another.processExecutor)
+        && executableFinder.equals(another.executableFinder)
+        && pluginManager.equals(another.pluginManager)
+        && buckModuleManager.equals(another.buckModuleManager)
+        && depsAwareExecutorSupplier.equals(another.depsAwareExecutorSupplier)
+        && metadataProvider.equals(another.metadataProvider)
+        && globalState.equals(another.globalState)
+        && clientWorkingDir.equals(another.clientWorkingDir);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code console}, {@code stdIn}, {@code cells}, {@code watchman}, {@code versionedTargetGraphCache}, {@code artifactCacheFactory}, {@code typeCoercerFactory}, {@code unconfiguredBuildTargetFactory}, {@code targetConfiguration}, {@code hostConfiguration}, {@code targetConfigurationSerializer}, {@code parser}, {@code buckEventBus}, {@code platform}, {@code environment}, {@code javaPackageFinder}, {@code clock}, {@code versionControlStatsGenerator}, {@code processManager}, {@code webServer}, {@code persistentWorkerPools}, {@code buckConfig}, {@code fileHashCache}, {@code executors}, {@code scheduledExecutor}, {@code buildEnvironmentDescription}, {@code actionGraphProvider}, {@code knownRuleTypesProvider}, {@code buildInfoStoreManager}, {@code invocationInfo}, {@code defaultRuleKeyFactoryCacheRecycler}, {@code projectFilesystemFactory}, {@code ruleKeyConfiguration}, {@code processExecutor}, {@code executableFinder}, {@code pluginManager}, {@code buckModuleManager}, {@code depsAwareExecutorSupplier}, {@code metadataProvider}, {@code globalState}, {@code clientWorkingDir}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + console.hashCode();
+    h += (h << 5) + stdIn.hashCode();
+    h += (h << 5) + cells.hashCode();
+    h += (h << 5) + watchman.hashCode();
+    h += (h << 5) + versionedTargetGraphCache.hashCode();
+    h += (h << 5) + artifactCacheFactory.hashCode();
+    h += (h << 5) + typeCoercerFactory.hashCode();
+    h += (h << 5) + unconfiguredBuildTargetFactory.hashCode();
+    h += (h << 5) + Objects.hashCode(targetConfiguration);
+    h += (h << 5) + Objects.hashCode(hostConfiguration);
+    h += (h << 5) + targetConfigurationSerializer.hashCode();
+    h += (h << 5) + parser.hashCode();
+    h += (h << 5) + buckEventBus.hashCode();
+    h += (h << 5) + platform.hashCode();
+    h += (h << 5) + environment.hashCode();
+    h += (h << 5) + javaPackageFinder.hashCode();
+    h += (h << 5) + clock.hashCode();
+    h += (h << 5) + versionControlStatsGenerator.hashCode();
+    h += (h << 5) + Objects.hashCode(processManager);
+    h += (h << 5) + Objects.hashCode(webServer);
+    h += (h << 5) + persistentWorkerPools.hashCode();
+    h += (h << 5) + buckConfig.hashCode();
+    h += (h << 5) + fileHashCache.hashCode();
+    h += (h << 5) + executors.hashCode();
+    h += (h << 5) + scheduledExecutor.hashCode();
+    h += (h << 5) + buildEnvironmentDescription.hashCode();
+    h += (h << 5) + actionGraphProvider.hashCode();
+    h += (h << 5) + knownRuleTypesProvider.hashCode();
+    h += (h << 5) + buildInfoStoreManager.hashCode();
+    h += (h << 5) + Objects.hashCode(invocationInfo);
+    h += (h << 5) + Objects.hashCode(defaultRuleKeyFactoryCacheRecycler);
+    h += (h << 5) + projectFilesystemFactory.hashCode();
+    h += (h << 5) + ruleKeyConfiguration.hashCode();
+    h += (h << 5) + processExecutor.hashCode();
+    h += (h << 5) + executableFinder.hashCode();
+    h += (h << 5) + pluginManager.hashCode();
+    h += (h << 5) + buckModuleManager.hashCode();
+    h += (h << 5) + depsAwareExecutorSupplier.hashCode();
+    h += (h << 5) + metadataProvider.hashCode();
+    h += (h << 5) + globalState.hashCode();
+    h += (h << 5) + clientWorkingDir.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CommandRunnerParams} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CommandRunnerParams")
+        .omitNullValues()
+        .add("console", console)
+        .add("stdIn", stdIn)
+        .add("cells", cells)
+        .add("watchman", watchman)
+        .add("versionedTargetGraphCache", versionedTargetGraphCache)
+        .add("artifactCacheFactory", artifactCacheFactory)
+        .add("typeCoercerFactory", typeCoercerFactory)
+        .add("unconfiguredBuildTargetFactory", unconfiguredBuildTargetFactory)
+        .add("targetConfiguration", targetConfiguration)
+        .add("hostConfiguration", hostConfiguration)
+        .add("targetConfigurationSerializer", targetConfigurationSerializer)
+        .add("parser", parser)
+        .add("buckEventBus", buckEventBus)
+        .add("platform", platform)
+        .add("environment", environment)
+        .add("javaPackageFinder", javaPackageFinder)
+        .add("clock", clock)
+        .add("versionControlStatsGenerator", versionControlStatsGenerator)
+        .add("processManager", processManager)
+        .add("webServer", webServer)
+        .add("persistentWorkerPools", persistentWorkerPools)
+        .add("buckConfig", buckConfig)
+        .add("fileHashCache", fileHashCache)
+        .add("executors", executors)
+        .add("scheduledExecutor", scheduledExecutor)
+        .add("buildEnvironmentDescription", buildEnvironmentDescription)
+        .add("actionGraphProvider", actionGraphProvider)
+        .add("knownRuleTypesProvider", knownRuleTypesProvider)
+        .add("buildInfoStoreManager", buildInfoStoreManager)
+        .add("invocationInfo", invocationInfo)
+        .add("defaultRuleKeyFactoryCacheRecycler", defaultRuleKeyFactoryCacheRecycler)
+        .add("projectFilesystemFactory", projectFilesystemFactory)
+        .add("ruleKeyConfiguration", ruleKeyConfiguration)
+        .add("processExecutor", processExecutor)
+        .add("executableFinder", executableFinder)
+        .add("pluginManager", pluginManager)
+        .add("buckModuleManager", buckModuleManager)
+        .add("depsAwareExecutorSupplier", depsAwareExecutorSupplier)
+        .add("metadataProvider", metadataProvider)
+        .add("globalState", globalState)
+        .add("clientWorkingDir", clientWorkingDir)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CommandRunnerParams} instance.
+   * @param console The value for the {@code console} attribute
+   * @param stdIn The value for the {@code stdIn} attribute
+   * @param cells The value for the {@code cells} attribute
+   * @param watchman The value for the {@code watchman} attribute
+   * @param versionedTargetGraphCache The value for the {@code versionedTargetGraphCache} attribute
+   * @param artifactCacheFactory The value for the {@code artifactCacheFactory} attribute
+   * @param typeCoercerFactory The value for the {@code typeCoercerFactory} attribute
+   * @param unconfiguredBuildTargetFactory The value for the {@code unconfiguredBuildTargetFactory} attribute
+   * @param targetConfiguration The value for the {@code targetConfiguration} attribute
+   * @param hostConfiguration The value for the {@code hostConfiguration} attribute
+   * @param targetConfigurationSerializer The value for the {@code targetConfigurationSerializer} attribute
+   * @param parser The value for the {@code parser} attribute
+   * @param buckEventBus The value for the {@code buckEventBus} attribute
+   * @param platform The value for the {@code platform} attribute
+   * @param environment The value for the {@code environment} attribute
+   * @param javaPackageFinder The value for the {@code javaPackageFinder} attribute
+   * @param clock The value for the {@code clock} attribute
+   * @param versionControlStatsGenerator The value for the {@code versionControlStatsGenerator} attribute
+   * @param processManager The value for the {@code processManager} attribute
+   * @param webServer The value for the {@code webServer} attribute
+   * @param persistentWorkerPools The value for the {@code persistentWorkerPools} attribute
+   * @param buckConfig The value for the {@code buckConfig} attribute
+   * @param fileHashCache The value for the {@code fileHashCache} attribute
+   * @param executors The value for the {@code executors} attribute
+   * @param scheduledExecutor The value for the {@code scheduledExecutor} attribute
+   * @param buildEnvironmentDescription The value for the {@code buildEnvironmentDescription} attribute
+   * @param actionGraphProvider The value for the {@code actionGraphProvider} attribute
+   * @param knownRuleTypesProvider The value for the {@code knownRuleTypesProvider} attribute
+   * @param buildInfoStoreManager The value for the {@code buildInfoStoreManager} attribute
+   * @param invocationInfo The value for the {@code invocationInfo} attribute
+   * @param defaultRuleKeyFactoryCacheRecycler The value for the {@code defaultRuleKeyFactoryCacheRecycler} attribute
+   * @param projectFilesystemFactory The value for the {@code projectFilesystemFactory} attribute
+   * @param ruleKeyConfiguration The value for the {@code ruleKeyConfiguration} attribute
+   * @param processExecutor The value for the {@code processExecutor} attribute
+   * @param executableFinder The value for the {@code executableFinder} attribute
+   * @param pluginManager The value for the {@code pluginManager} attribute
+   * @param buckModuleManager The value for the {@code buckModuleManager} attribute
+   * @param depsAwareExecutorSupplier The value for the {@code depsAwareExecutorSupplier} attribute
+   * @param metadataProvider The value for the {@code metadataProvider} attribute
+   * @param globalState The value for the {@code globalState} attribute
+   * @param clientWorkingDir The value for the {@code clientWorkingDir} attribute
+   * @return An immutable CommandRunnerParams instance
+   */
+  public static ImmutableCommandRunnerParams of(Console console, InputStream stdIn, Cells cells, Watchman watchman, InstrumentedVersionedTargetGraphCache versionedTargetGraphCache, ArtifactCacheFactory artifactCacheFactory, TypeCoercerFactory typeCoercerFactory, UnconfiguredBuildTargetViewFactory unconfiguredBuildTargetFactory, Optional<? extends TargetConfiguration> targetConfiguration, Optional<? extends TargetConfiguration> hostConfiguration, TargetConfigurationSerializer targetConfigurationSerializer, Parser parser, BuckEventBus buckEventBus, Platform platform, Map<String, ? extends String> environment, JavaPackageFinder javaPackageFinder, Clock clock, VersionControlStatsGenerator versionControlStatsGenerator, Optional<? extends ProcessManager> processManager, Optional<? extends WebServer> webServer, ConcurrentMap<String, WorkerProcessPool> persistentWorkerPools, BuckConfig buckConfig, StackedFileHashCache fileHashCache, Map<ExecutorPool, ? extends ListeningExecutorService> executors, ScheduledExecutorService scheduledExecutor, BuildEnvironmentDescription buildEnvironmentDescription, ActionGraphProvider actionGraphProvider, KnownRuleTypesProvider knownRuleTypesProvider, BuildInfoStoreManager buildInfoStoreManager, Optional<? extends InvocationInfo> invocationInfo, Optional<? extends RuleKeyCacheRecycler<RuleKey>> defaultRuleKeyFactoryCacheRecycler, ProjectFilesystemFactory projectFilesystemFactory, RuleKeyConfiguration ruleKeyConfiguration, ProcessExecutor processExecutor, ExecutableFinder executableFinder, PluginManager pluginManager, BuckModuleManager buckModuleManager, CloseableMemoizedSupplier<DepsAwareExecutor<? super ComputeResult, ?>> depsAwareExecutorSupplier, MetadataProvider metadataProvider, BuckGlobalState globalState, Path clientWorkingDir) {
+    return new ImmutableCommandRunnerParams(console, stdIn, cells, watchman, versionedTargetGraphCache, artifactCacheFactory, typeCoercerFactory, unconfiguredBuildTargetFactory, targetConfiguration, hostConfiguration, targetConfigurationSerializer, parser, buckEventBus, platform, environment, javaPackageFinder, clock, versionControlStatsGenerator, processManager, webServer, persistentWorkerPools, buckConfig, fileHashCache, executors, scheduledExecutor, buildEnvironmentDescription, actionGraphProvider, knownRuleTypesProvider, buildInfoStoreManager, invocationInfo, defaultRuleKeyFactoryCacheRecycler, projectFilesystemFactory, ruleKeyConfiguration, processExecutor, executableFinder, pluginManager, buckModuleManager, depsAwareExecutorSupplier, metadataProvider, globalState, clientWorkingDir);
+  }
+}
@@ -0,0 +1,144 @@
+package com.facebook.buck.cli;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.BuildTargetWithOutputs;
+import com.facebook.buck.core.model.graph.ActionAndTargetGraphs;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuildCommand.GraphsAndBuildTargets}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableGraphsAndBuildTargets.of()}.
+ */
+@Generated(from = "BuildCommand.GraphsAndBuildTargets", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableGraphsAndBuildTargets
+    implements BuildCommand.GraphsAndBuildTargets {
+  private final ActionAndTargetGraphs graphs;
+  private final ImmutableSet<BuildTargetWithOutputs> buildTargetWithOutputs;
+
+  private ImmutableGraphsAndBuildTargets(
+      ActionAndTargetGraphs graphs,
+      Iterable<? extends BuildTargetWithOutputs> buildTargetWithOutputs) {
+    this.graphs = Objects.requireNonNull(graphs, "graphs");
+    this.buildTargetWithOutputs = ImmutableSet.copyOf(buildTargetWithOutputs);
+  }
+
+  /**
+   * @return The value of the {@code graphs} attribute
+   */
+  @Override
+  public ActionAndTargetGraphs getGraphs() {
+    return graphs;
+  }
+
+  /**
+   * @return The value of the {@code buildTargetWithOutputs} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTargetWithOutputs> getBuildTargetWithOutputs() {
+    return buildTargetWithOutputs;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableGraphsAndBuildTargets} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableGraphsAndBuildTargets
+        && equalTo((ImmutableGraphsAndBuildTargets) another);
+  }
+
+  private boolean equalTo(ImmutableGraphsAndBuildTargets another) {
+    return graphs.equals(another.graphs)
+        && buildTargetWithOutputs.equals(another.buildTargetWithOutputs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code graphs}, {@code buildTargetWithOutputs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + graphs.hashCode();
+    h += (h << 5) + buildTargetWithOutputs.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code GraphsAndBuildTargets} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("GraphsAndBuildTargets")
+        .omitNullValues()
+        .add("graphs", graphs)
+        .add("buildTargetWithOutputs", buildTargetWithOutputs)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long BUILD_TARGETS_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableSet<BuildTarget> buildTargets;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link BuildCommand.GraphsAndBuildTargets#getBuildTargets() buildTargets} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code buildTargets} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getBuildTargets() {
+    if ((lazyInitBitmap & BUILD_TARGETS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & BUILD_TARGETS_LAZY_INIT_BIT) == 0) {
+          this.buildTargets = Objects.requireNonNull(BuildCommand.GraphsAndBuildTargets.super.getBuildTargets(), "buildTargets");
+          lazyInitBitmap |= BUILD_TARGETS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return buildTargets;
+  }
+
+  /**
+   * Construct a new immutable {@code GraphsAndBuildTargets} instance.
+   * @param graphs The value for the {@code graphs} attribute
+   * @param buildTargetWithOutputs The value for the {@code buildTargetWithOutputs} attribute
+   * @return An immutable GraphsAndBuildTargets instance
+   */
+  public static ImmutableGraphsAndBuildTargets of(ActionAndTargetGraphs graphs, ImmutableSet<BuildTargetWithOutputs> buildTargetWithOutputs) {
+    return of(graphs, (Iterable<? extends BuildTargetWithOutputs>) buildTargetWithOutputs);
+  }
+
+  /**
+   * Construct a new immutable {@code GraphsAndBuildTargets} instance.
+   * @param graphs The value for the {@code graphs} attribute
+   * @param buildTargetWithOutputs The value for the {@code buildTargetWithOutputs} attribute
+   * @return An immutable GraphsAndBuildTargets instance
+   */
+  public static ImmutableGraphsAndBuildTargets of(ActionAndTargetGraphs graphs, Iterable<? extends BuildTargetWithOutputs> buildTargetWithOutputs) {
+    return new ImmutableGraphsAndBuildTargets(graphs, buildTargetWithOutputs);
+  }
+}
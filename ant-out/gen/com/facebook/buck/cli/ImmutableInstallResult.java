@@ -0,0 +1,101 @@
+package com.facebook.buck.cli;
+
+import com.facebook.buck.util.ExitCode;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link InstallResult}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableInstallResult.of()}.
+ */
+@Generated(from = "InstallResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableInstallResult implements InstallResult {
+  private final ExitCode exitCode;
+  private final @Nullable Long launchedPid;
+
+  private ImmutableInstallResult(ExitCode exitCode, Optional<Long> launchedPid) {
+    this.exitCode = Objects.requireNonNull(exitCode, "exitCode");
+    this.launchedPid = launchedPid.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code exitCode} attribute
+   */
+  @Override
+  public ExitCode getExitCode() {
+    return exitCode;
+  }
+
+  /**
+   * @return The value of the {@code launchedPid} attribute
+   */
+  @Override
+  public Optional<Long> getLaunchedPid() {
+    return Optional.ofNullable(launchedPid);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableInstallResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableInstallResult
+        && equalTo((ImmutableInstallResult) another);
+  }
+
+  private boolean equalTo(ImmutableInstallResult another) {
+    return exitCode.equals(another.exitCode)
+        && Objects.equals(launchedPid, another.launchedPid);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code exitCode}, {@code launchedPid}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + exitCode.hashCode();
+    h += (h << 5) + Objects.hashCode(launchedPid);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code InstallResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("InstallResult")
+        .omitNullValues()
+        .add("exitCode", exitCode)
+        .add("launchedPid", launchedPid)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code InstallResult} instance.
+   * @param exitCode The value for the {@code exitCode} attribute
+   * @param launchedPid The value for the {@code launchedPid} attribute
+   * @return An immutable InstallResult instance
+   */
+  public static ImmutableInstallResult of(ExitCode exitCode, Optional<Long> launchedPid) {
+    return new ImmutableInstallResult(exitCode, launchedPid);
+  }
+}
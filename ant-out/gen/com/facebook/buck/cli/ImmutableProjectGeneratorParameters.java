@@ -0,0 +1,181 @@
+package com.facebook.buck.cli;
+
+import com.facebook.buck.parser.spec.TargetNodeSpec;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.function.Function;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ProjectGeneratorParameters}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableProjectGeneratorParameters.of()}.
+ */
+@Generated(from = "ProjectGeneratorParameters", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableProjectGeneratorParameters
+    extends ProjectGeneratorParameters {
+  private final CommandRunnerParams commandRunnerParams;
+  private final boolean dryRun;
+  private final boolean withTests;
+  private final boolean withoutTests;
+  private final boolean withoutDependenciesTests;
+  private final boolean enableParserProfiling;
+  private final Function<Iterable<String>, ImmutableList<TargetNodeSpec>> argsParser;
+
+  private ImmutableProjectGeneratorParameters(
+      CommandRunnerParams commandRunnerParams,
+      boolean dryRun,
+      boolean withTests,
+      boolean withoutTests,
+      boolean withoutDependenciesTests,
+      boolean enableParserProfiling,
+      Function<Iterable<String>, ImmutableList<TargetNodeSpec>> argsParser) {
+    this.commandRunnerParams = Objects.requireNonNull(commandRunnerParams, "commandRunnerParams");
+    this.dryRun = dryRun;
+    this.withTests = withTests;
+    this.withoutTests = withoutTests;
+    this.withoutDependenciesTests = withoutDependenciesTests;
+    this.enableParserProfiling = enableParserProfiling;
+    this.argsParser = Objects.requireNonNull(argsParser, "argsParser");
+  }
+
+  /**
+   * @return The value of the {@code commandRunnerParams} attribute
+   */
+  @Override
+  public CommandRunnerParams getCommandRunnerParams() {
+    return commandRunnerParams;
+  }
+
+  /**
+   * @return The value of the {@code dryRun} attribute
+   */
+  @Override
+  public boolean isDryRun() {
+    return dryRun;
+  }
+
+  /**
+   * @return The value of the {@code withTests} attribute
+   */
+  @Override
+  public boolean isWithTests() {
+    return withTests;
+  }
+
+  /**
+   * @return The value of the {@code withoutTests} attribute
+   */
+  @Override
+  public boolean isWithoutTests() {
+    return withoutTests;
+  }
+
+  /**
+   * @return The value of the {@code withoutDependenciesTests} attribute
+   */
+  @Override
+  public boolean isWithoutDependenciesTests() {
+    return withoutDependenciesTests;
+  }
+
+  /**
+   * @return The value of the {@code enableParserProfiling} attribute
+   */
+  @Override
+  public boolean getEnableParserProfiling() {
+    return enableParserProfiling;
+  }
+
+  /**
+   * @return The value of the {@code argsParser} attribute
+   */
+  @Override
+  public Function<Iterable<String>, ImmutableList<TargetNodeSpec>> getArgsParser() {
+    return argsParser;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableProjectGeneratorParameters} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableProjectGeneratorParameters
+        && equalTo((ImmutableProjectGeneratorParameters) another);
+  }
+
+  private boolean equalTo(ImmutableProjectGeneratorParameters another) {
+    return commandRunnerParams.equals(another.commandRunnerParams)
+        && dryRun == another.dryRun
+        && withTests == another.withTests
+        && withoutTests == another.withoutTests
+        && withoutDependenciesTests == another.withoutDependenciesTests
+        && enableParserProfiling == another.enableParserProfiling
+        && argsParser.equals(another.argsParser);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code commandRunnerParams}, {@code dryRun}, {@code withTests}, {@code withoutTests}, {@code withoutDependenciesTests}, {@code enableParserProfiling}, {@code argsParser}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + commandRunnerParams.hashCode();
+    h += (h << 5) + Booleans.hashCode(dryRun);
+    h += (h << 5) + Booleans.hashCode(withTests);
+    h += (h << 5) + Booleans.hashCode(withoutTests);
+    h += (h << 5) + Booleans.hashCode(withoutDependenciesTests);
+    h += (h << 5) + Booleans.hashCode(enableParserProfiling);
+    h += (h << 5) + argsParser.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ProjectGeneratorParameters} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ProjectGeneratorParameters")
+        .omitNullValues()
+        .add("commandRunnerParams", commandRunnerParams)
+        .add("dryRun", dryRun)
+        .add("withTests", withTests)
+        .add("withoutTests", withoutTests)
+        .add("withoutDependenciesTests", withoutDependenciesTests)
+        .add("enableParserProfiling", enableParserProfiling)
+        .add("argsParser", argsParser)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ProjectGeneratorParameters} instance.
+   * @param commandRunnerParams The value for the {@code commandRunnerParams} attribute
+   * @param dryRun The value for the {@code dryRun} attribute
+   * @param withTests The value for the {@code withTests} attribute
+   * @param withoutTests The value for the {@code withoutTests} attribute
+   * @param withoutDependenciesTests The value for the {@code withoutDependenciesTests} attribute
+   * @param enableParserProfiling The value for the {@code enableParserProfiling} attribute
+   * @param argsParser The value for the {@code argsParser} attribute
+   * @return An immutable ProjectGeneratorParameters instance
+   */
+  public static ImmutableProjectGeneratorParameters of(CommandRunnerParams commandRunnerParams, boolean dryRun, boolean withTests, boolean withoutTests, boolean withoutDependenciesTests, boolean enableParserProfiling, Function<Iterable<String>, ImmutableList<TargetNodeSpec>> argsParser) {
+    return new ImmutableProjectGeneratorParameters(commandRunnerParams, dryRun, withTests, withoutTests, withoutDependenciesTests, enableParserProfiling, argsParser);
+  }
+}
@@ -0,0 +1,116 @@
+package com.facebook.buck.command.config;
+
+import com.facebook.buck.core.config.BuckConfig;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ConfigIgnoredByDaemon}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableConfigIgnoredByDaemon.of()}.
+ */
+@Generated(from = "ConfigIgnoredByDaemon", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableConfigIgnoredByDaemon
+    extends ConfigIgnoredByDaemon {
+  private final BuckConfig delegate;
+
+  private ImmutableConfigIgnoredByDaemon(BuckConfig delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public BuckConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableConfigIgnoredByDaemon} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableConfigIgnoredByDaemon
+        && equalTo((ImmutableConfigIgnoredByDaemon) another);
+  }
+
+  private boolean equalTo(ImmutableConfigIgnoredByDaemon another) {
+    return delegate.equals(another.delegate);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code delegate}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + delegate.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ConfigIgnoredByDaemon} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ConfigIgnoredByDaemon")
+        .omitNullValues()
+        .add("delegate", delegate)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long RAW_CONFIG_FOR_PARSER_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableMap<String, ImmutableMap<String, String>> rawConfigForParser;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ConfigIgnoredByDaemon#getRawConfigForParser() rawConfigForParser} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code rawConfigForParser} attribute
+   */
+  @Override
+  public ImmutableMap<String, ImmutableMap<String, String>> getRawConfigForParser() {
+    if ((lazyInitBitmap & RAW_CONFIG_FOR_PARSER_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & RAW_CONFIG_FOR_PARSER_LAZY_INIT_BIT) == 0) {
+          this.rawConfigForParser = Objects.requireNonNull(super.getRawConfigForParser(), "rawConfigForParser");
+          lazyInitBitmap |= RAW_CONFIG_FOR_PARSER_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return rawConfigForParser;
+  }
+
+  /**
+   * Construct a new immutable {@code ConfigIgnoredByDaemon} instance.
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable ConfigIgnoredByDaemon instance
+   */
+  public static ImmutableConfigIgnoredByDaemon of(BuckConfig delegate) {
+    return new ImmutableConfigIgnoredByDaemon(delegate);
+  }
+}
@@ -0,0 +1,223 @@
+package com.facebook.buck.core.artifact;
+
+import com.facebook.buck.core.sourcepath.PathSourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.devtools.build.lib.cmdline.Label;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link SourceArtifactImpl}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableSourceArtifactImpl.of()}.
+ */
+@Generated(from = "SourceArtifactImpl", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableSourceArtifactImpl extends SourceArtifactImpl {
+  private final PathSourcePath sourcePath;
+  private transient final int hashCode;
+
+  private ImmutableSourceArtifactImpl(PathSourcePath sourcePath) {
+    this.sourcePath = Objects.requireNonNull(sourcePath, "sourcePath");
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code sourcePath} attribute
+   */
+  @Override
+  public PathSourcePath getSourcePath() {
+    return sourcePath;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableSourceArtifactImpl} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableSourceArtifactImpl
+        && equalTo((ImmutableSourceArtifactImpl) another);
+  }
+
+  private boolean equalTo(ImmutableSourceArtifactImpl another) {
+    if (hashCode != another.hashCode) return false;
+    return sourcePath.equals(another.sourcePath);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code sourcePath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + sourcePath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SourceArtifactImpl} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SourceArtifactImpl")
+        .omitNullValues()
+        .add("sourcePath", sourcePath)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long BASENAME_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient String basename;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link SourceArtifactImpl#getBasename() basename} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code basename} attribute
+   */
+  @Override
+  public String getBasename() {
+    if ((lazyInitBitmap & BASENAME_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & BASENAME_LAZY_INIT_BIT) == 0) {
+          this.basename = Objects.requireNonNull(super.getBasename(), "basename");
+          lazyInitBitmap |= BASENAME_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return basename;
+  }
+
+  private static final long EXTENSION_LAZY_INIT_BIT = 0x2L;
+
+  @SuppressWarnings("Immutable")
+  private transient String extension;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link SourceArtifactImpl#getExtension() extension} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code extension} attribute
+   */
+  @Override
+  public String getExtension() {
+    if ((lazyInitBitmap & EXTENSION_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & EXTENSION_LAZY_INIT_BIT) == 0) {
+          this.extension = Objects.requireNonNull(super.getExtension(), "extension");
+          lazyInitBitmap |= EXTENSION_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return extension;
+  }
+
+  private static final long OWNER_TYPED_LAZY_INIT_BIT = 0x4L;
+
+  @SuppressWarnings("Immutable")
+  private transient Optional<Label> ownerTyped;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link SourceArtifactImpl#getOwnerTyped() ownerTyped} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code ownerTyped} attribute
+   */
+  @Override
+  public Optional<Label> getOwnerTyped() {
+    if ((lazyInitBitmap & OWNER_TYPED_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & OWNER_TYPED_LAZY_INIT_BIT) == 0) {
+          this.ownerTyped = Objects.requireNonNull(super.getOwnerTyped(), "ownerTyped");
+          lazyInitBitmap |= OWNER_TYPED_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return ownerTyped;
+  }
+
+  private static final long SOURCE_LAZY_INIT_BIT = 0x8L;
+
+  @SuppressWarnings("Immutable")
+  private transient boolean source;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link SourceArtifactImpl#isSource() source} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code source} attribute
+   */
+  @Override
+  public boolean isSource() {
+    if ((lazyInitBitmap & SOURCE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & SOURCE_LAZY_INIT_BIT) == 0) {
+          this.source = super.isSource();
+          lazyInitBitmap |= SOURCE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return source;
+  }
+
+  private static final long SHORT_PATH_LAZY_INIT_BIT = 0x10L;
+
+  @SuppressWarnings("Immutable")
+  private transient String shortPath;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link SourceArtifactImpl#getShortPath() shortPath} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code shortPath} attribute
+   */
+  @Override
+  public String getShortPath() {
+    if ((lazyInitBitmap & SHORT_PATH_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & SHORT_PATH_LAZY_INIT_BIT) == 0) {
+          this.shortPath = Objects.requireNonNull(super.getShortPath(), "shortPath");
+          lazyInitBitmap |= SHORT_PATH_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return shortPath;
+  }
+
+  /**
+   * Construct a new immutable {@code SourceArtifactImpl} instance.
+   * @param sourcePath The value for the {@code sourcePath} attribute
+   * @return An immutable SourceArtifactImpl instance
+   */
+  public static ImmutableSourceArtifactImpl of(PathSourcePath sourcePath) {
+    return new ImmutableSourceArtifactImpl(sourcePath);
+  }
+}
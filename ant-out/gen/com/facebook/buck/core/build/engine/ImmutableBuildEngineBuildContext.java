@@ -0,0 +1,169 @@
+package com.facebook.buck.core.build.engine;
+
+import com.facebook.buck.artifact_cache.ArtifactCache;
+import com.facebook.buck.core.build.context.BuildContext;
+import com.facebook.buck.core.model.BuildId;
+import com.facebook.buck.util.timing.Clock;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuildEngineBuildContext}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildEngineBuildContext.of()}.
+ */
+@Generated(from = "BuildEngineBuildContext", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildEngineBuildContext
+    extends BuildEngineBuildContext {
+  private final BuildContext buildContext;
+  private final ArtifactCache artifactCache;
+  private final Clock clock;
+  private final BuildId buildId;
+  private final ImmutableMap<String, String> environment;
+  private final boolean keepGoing;
+
+  private ImmutableBuildEngineBuildContext(
+      BuildContext buildContext,
+      ArtifactCache artifactCache,
+      Clock clock,
+      BuildId buildId,
+      Map<String, ? extends String> environment,
+      boolean keepGoing) {
+    this.buildContext = Objects.requireNonNull(buildContext, "buildContext");
+    this.artifactCache = Objects.requireNonNull(artifactCache, "artifactCache");
+    this.clock = Objects.requireNonNull(clock, "clock");
+    this.buildId = Objects.requireNonNull(buildId, "buildId");
+    this.environment = ImmutableMap.copyOf(environment);
+    this.keepGoing = keepGoing;
+  }
+
+  /**
+   * @return The value of the {@code buildContext} attribute
+   */
+  @Override
+  public BuildContext getBuildContext() {
+    return buildContext;
+  }
+
+  /**
+   * @return The value of the {@code artifactCache} attribute
+   */
+  @Override
+  public ArtifactCache getArtifactCache() {
+    return artifactCache;
+  }
+
+  /**
+   * @return The value of the {@code clock} attribute
+   */
+  @Override
+  public Clock getClock() {
+    return clock;
+  }
+
+  /**
+   * @return The value of the {@code buildId} attribute
+   */
+  @Override
+  public BuildId getBuildId() {
+    return buildId;
+  }
+
+  /**
+   * @return The value of the {@code environment} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getEnvironment() {
+    return environment;
+  }
+
+  /**
+   * @return The value of the {@code keepGoing} attribute
+   */
+  @Override
+  public boolean isKeepGoing() {
+    return keepGoing;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildEngineBuildContext} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildEngineBuildContext
+        && equalTo((ImmutableBuildEngineBuildContext) another);
+  }
+
+  private boolean equalTo(ImmutableBuildEngineBuildContext another) {
+    return buildContext.equals(another.buildContext)
+        && artifactCache.equals(another.artifactCache)
+        && clock.equals(another.clock)
+        && buildId.equals(another.buildId)
+        && environment.equals(another.environment)
+        && keepGoing == another.keepGoing;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildContext}, {@code artifactCache}, {@code clock}, {@code buildId}, {@code environment}, {@code keepGoing}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buildContext.hashCode();
+    h += (h << 5) + artifactCache.hashCode();
+    h += (h << 5) + clock.hashCode();
+    h += (h << 5) + buildId.hashCode();
+    h += (h << 5) + environment.hashCode();
+    h += (h << 5) + Booleans.hashCode(keepGoing);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildEngineBuildContext} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildEngineBuildContext")
+        .omitNullValues()
+        .add("buildContext", buildContext)
+        .add("artifactCache", artifactCache)
+        .add("clock", clock)
+        .add("buildId", buildId)
+        .add("environment", environment)
+        .add("keepGoing", keepGoing)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuildEngineBuildContext} instance.
+   * @param buildContext The value for the {@code buildContext} attribute
+   * @param artifactCache The value for the {@code artifactCache} attribute
+   * @param clock The value for the {@code clock} attribute
+   * @param buildId The value for the {@code buildId} attribute
+   * @param environment The value for the {@code environment} attribute
+   * @param keepGoing The value for the {@code keepGoing} attribute
+   * @return An immutable BuildEngineBuildContext instance
+   */
+  public static ImmutableBuildEngineBuildContext of(BuildContext buildContext, ArtifactCache artifactCache, Clock clock, BuildId buildId, Map<String, ? extends String> environment, boolean keepGoing) {
+    return new ImmutableBuildEngineBuildContext(buildContext, artifactCache, clock, buildId, environment, keepGoing);
+  }
+}
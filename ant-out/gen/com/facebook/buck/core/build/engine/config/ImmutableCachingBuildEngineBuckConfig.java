@@ -0,0 +1,87 @@
+package com.facebook.buck.core.build.engine.config;
+
+import com.facebook.buck.core.config.BuckConfig;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CachingBuildEngineBuckConfig}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCachingBuildEngineBuckConfig.of()}.
+ */
+@Generated(from = "CachingBuildEngineBuckConfig", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCachingBuildEngineBuckConfig
+    extends CachingBuildEngineBuckConfig {
+  private final BuckConfig delegate;
+
+  private ImmutableCachingBuildEngineBuckConfig(BuckConfig delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public BuckConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCachingBuildEngineBuckConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCachingBuildEngineBuckConfig
+        && equalTo((ImmutableCachingBuildEngineBuckConfig) another);
+  }
+
+  private boolean equalTo(ImmutableCachingBuildEngineBuckConfig another) {
+    return delegate.equals(another.delegate);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code delegate}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + delegate.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CachingBuildEngineBuckConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CachingBuildEngineBuckConfig")
+        .omitNullValues()
+        .add("delegate", delegate)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CachingBuildEngineBuckConfig} instance.
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable CachingBuildEngineBuckConfig instance
+   */
+  public static ImmutableCachingBuildEngineBuckConfig of(BuckConfig delegate) {
+    return new ImmutableCachingBuildEngineBuckConfig(delegate);
+  }
+}
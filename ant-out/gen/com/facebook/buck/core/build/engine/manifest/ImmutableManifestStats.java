@@ -0,0 +1,113 @@
+package com.facebook.buck.core.build.engine.manifest;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ManifestStats}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableManifestStats.of()}.
+ */
+@Generated(from = "ManifestStats", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableManifestStats
+    implements ManifestStats {
+  private final int numDepFiles;
+  private final int numHashes;
+  private final int numInputs;
+
+  private ImmutableManifestStats(int numDepFiles, int numHashes, int numInputs) {
+    this.numDepFiles = numDepFiles;
+    this.numHashes = numHashes;
+    this.numInputs = numInputs;
+  }
+
+  /**
+   * @return The value of the {@code numDepFiles} attribute
+   */
+  @Override
+  public int getNumDepFiles() {
+    return numDepFiles;
+  }
+
+  /**
+   * @return The value of the {@code numHashes} attribute
+   */
+  @Override
+  public int getNumHashes() {
+    return numHashes;
+  }
+
+  /**
+   * @return The value of the {@code numInputs} attribute
+   */
+  @Override
+  public int getNumInputs() {
+    return numInputs;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableManifestStats} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableManifestStats
+        && equalTo((ImmutableManifestStats) another);
+  }
+
+  private boolean equalTo(ImmutableManifestStats another) {
+    return numDepFiles == another.numDepFiles
+        && numHashes == another.numHashes
+        && numInputs == another.numInputs;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code numDepFiles}, {@code numHashes}, {@code numInputs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + numDepFiles;
+    h += (h << 5) + numHashes;
+    h += (h << 5) + numInputs;
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ManifestStats} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ManifestStats")
+        .omitNullValues()
+        .add("numDepFiles", numDepFiles)
+        .add("numHashes", numHashes)
+        .add("numInputs", numInputs)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ManifestStats} instance.
+   * @param numDepFiles The value for the {@code numDepFiles} attribute
+   * @param numHashes The value for the {@code numHashes} attribute
+   * @param numInputs The value for the {@code numInputs} attribute
+   * @return An immutable ManifestStats instance
+   */
+  public static ImmutableManifestStats of(int numDepFiles, int numHashes, int numInputs) {
+    return new ImmutableManifestStats(numDepFiles, numHashes, numInputs);
+  }
+}
@@ -0,0 +1,1373 @@
+package com.facebook.buck.core.build.execution.context;
+
+import com.facebook.buck.android.device.TargetDevice;
+import com.facebook.buck.android.exopackage.AndroidDevicesHelper;
+import com.facebook.buck.core.cell.CellPathResolver;
+import com.facebook.buck.core.cell.Cells;
+import com.facebook.buck.core.model.BuildId;
+import com.facebook.buck.core.rulekey.RuleKeyDiagnosticsMode;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.io.filesystem.ProjectFilesystemFactory;
+import com.facebook.buck.jvm.core.JavaPackageFinder;
+import com.facebook.buck.util.Ansi;
+import com.facebook.buck.util.ClassLoaderCache;
+import com.facebook.buck.util.Console;
+import com.facebook.buck.util.ProcessExecutor;
+import com.facebook.buck.util.Verbosity;
+import com.facebook.buck.util.concurrent.ConcurrencyLimit;
+import com.facebook.buck.util.concurrent.ExecutorPool;
+import com.facebook.buck.util.environment.Platform;
+import com.facebook.buck.worker.WorkerProcessPool;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import com.google.common.primitives.Booleans;
+import com.google.common.primitives.Longs;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ExecutionContext}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new ExecutionContext.Builder()}.
+ */
+@Generated(from = "ExecutionContext", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableExecutionContext
+    extends ExecutionContext {
+  private final Console console;
+  private final BuckEventBus buckEventBus;
+  private final Platform platform;
+  private final ImmutableMap<String, String> environment;
+  private final JavaPackageFinder javaPackageFinder;
+  private final ImmutableMap<ExecutorPool, ListeningExecutorService> executors;
+  private final @Nullable TargetDevice targetDevice;
+  private final @Nullable AndroidDevicesHelper androidDevicesHelper;
+  private final @Nullable ConcurrentMap<String, WorkerProcessPool> persistentWorkerPools;
+  private final CellPathResolver cellPathResolver;
+  private final Cells cells;
+  private final Path buildCellRootPath;
+  private final ProcessExecutor processExecutor;
+  private final ProjectFilesystemFactory projectFilesystemFactory;
+  private final long defaultTestTimeoutMillis;
+  private final boolean codeCoverageEnabled;
+  private final boolean inclNoLocationClassesEnabled;
+  private final boolean shouldReportAbsolutePaths;
+  private final boolean debugEnabled;
+  private final RuleKeyDiagnosticsMode ruleKeyDiagnosticsMode;
+  private final boolean truncateFailingCommandEnabled;
+  private final ConcurrentMap<String, WorkerProcessPool> workerProcessPools;
+  private final ConcurrencyLimit concurrencyLimit;
+  private final ClassLoaderCache classLoaderCache;
+  private transient final Verbosity verbosity;
+  private transient final PrintStream stdErr;
+  private transient final PrintStream stdOut;
+  private transient final BuildId buildId;
+  private transient final Ansi ansi;
+
+  private ImmutableExecutionContext(ImmutableExecutionContext.Builder builder) {
+    this.console = builder.console;
+    this.buckEventBus = builder.buckEventBus;
+    this.platform = builder.platform;
+    this.environment = builder.environment.build();
+    this.javaPackageFinder = builder.javaPackageFinder;
+    this.executors = Maps.immutableEnumMap(builder.executors.build());
+    this.targetDevice = builder.targetDevice;
+    this.androidDevicesHelper = builder.androidDevicesHelper;
+    this.persistentWorkerPools = builder.persistentWorkerPools;
+    this.cellPathResolver = builder.cellPathResolver;
+    this.cells = builder.cells;
+    this.buildCellRootPath = builder.buildCellRootPath;
+    this.processExecutor = builder.processExecutor;
+    this.projectFilesystemFactory = builder.projectFilesystemFactory;
+    if (builder.defaultTestTimeoutMillisIsSet()) {
+      initShim.setDefaultTestTimeoutMillis(builder.defaultTestTimeoutMillis);
+    }
+    if (builder.codeCoverageEnabledIsSet()) {
+      initShim.setCodeCoverageEnabled(builder.codeCoverageEnabled);
+    }
+    if (builder.inclNoLocationClassesEnabledIsSet()) {
+      initShim.setInclNoLocationClassesEnabled(builder.inclNoLocationClassesEnabled);
+    }
+    if (builder.shouldReportAbsolutePathsIsSet()) {
+      initShim.setShouldReportAbsolutePaths(builder.shouldReportAbsolutePaths);
+    }
+    if (builder.debugEnabledIsSet()) {
+      initShim.setDebugEnabled(builder.debugEnabled);
+    }
+    if (builder.ruleKeyDiagnosticsMode != null) {
+      initShim.setRuleKeyDiagnosticsMode(builder.ruleKeyDiagnosticsMode);
+    }
+    if (builder.truncateFailingCommandEnabledIsSet()) {
+      initShim.setTruncateFailingCommandEnabled(builder.truncateFailingCommandEnabled);
+    }
+    if (builder.workerProcessPools != null) {
+      initShim.setWorkerProcessPools(builder.workerProcessPools);
+    }
+    if (builder.concurrencyLimit != null) {
+      initShim.setConcurrencyLimit(builder.concurrencyLimit);
+    }
+    if (builder.classLoaderCache != null) {
+      initShim.setClassLoaderCache(builder.classLoaderCache);
+    }
+    this.defaultTestTimeoutMillis = initShim.getDefaultTestTimeoutMillis();
+    this.codeCoverageEnabled = initShim.isCodeCoverageEnabled();
+    this.inclNoLocationClassesEnabled = initShim.isInclNoLocationClassesEnabled();
+    this.shouldReportAbsolutePaths = initShim.shouldReportAbsolutePaths();
+    this.debugEnabled = initShim.isDebugEnabled();
+    this.ruleKeyDiagnosticsMode = initShim.getRuleKeyDiagnosticsMode();
+    this.truncateFailingCommandEnabled = initShim.isTruncateFailingCommandEnabled();
+    this.workerProcessPools = initShim.getWorkerProcessPools();
+    this.concurrencyLimit = initShim.getConcurrencyLimit();
+    this.classLoaderCache = initShim.getClassLoaderCache();
+    this.verbosity = initShim.getVerbosity();
+    this.stdErr = initShim.getStdErr();
+    this.stdOut = initShim.getStdOut();
+    this.buildId = initShim.getBuildId();
+    this.ansi = initShim.getAnsi();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "ExecutionContext", generator = "Immutables")
+  private final class InitShim {
+    private byte defaultTestTimeoutMillisBuildStage = STAGE_UNINITIALIZED;
+    private long defaultTestTimeoutMillis;
+
+    long getDefaultTestTimeoutMillis() {
+      if (defaultTestTimeoutMillisBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (defaultTestTimeoutMillisBuildStage == STAGE_UNINITIALIZED) {
+        defaultTestTimeoutMillisBuildStage = STAGE_INITIALIZING;
+        this.defaultTestTimeoutMillis = ImmutableExecutionContext.super.getDefaultTestTimeoutMillis();
+        defaultTestTimeoutMillisBuildStage = STAGE_INITIALIZED;
+      }
+      return this.defaultTestTimeoutMillis;
+    }
+
+    void setDefaultTestTimeoutMillis(long defaultTestTimeoutMillis) {
+      this.defaultTestTimeoutMillis = defaultTestTimeoutMillis;
+      defaultTestTimeoutMillisBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte codeCoverageEnabledBuildStage = STAGE_UNINITIALIZED;
+    private boolean codeCoverageEnabled;
+
+    boolean isCodeCoverageEnabled() {
+      if (codeCoverageEnabledBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (codeCoverageEnabledBuildStage == STAGE_UNINITIALIZED) {
+        codeCoverageEnabledBuildStage = STAGE_INITIALIZING;
+        this.codeCoverageEnabled = ImmutableExecutionContext.super.isCodeCoverageEnabled();
+        codeCoverageEnabledBuildStage = STAGE_INITIALIZED;
+      }
+      return this.codeCoverageEnabled;
+    }
+
+    void setCodeCoverageEnabled(boolean codeCoverageEnabled) {
+      this.codeCoverageEnabled = codeCoverageEnabled;
+      codeCoverageEnabledBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte inclNoLocationClassesEnabledBuildStage = STAGE_UNINITIALIZED;
+    private boolean inclNoLocationClassesEnabled;
+
+    boolean isInclNoLocationClassesEnabled() {
+      if (inclNoLocationClassesEnabledBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (inclNoLocationClassesEnabledBuildStage == STAGE_UNINITIALIZED) {
+        inclNoLocationClassesEnabledBuildStage = STAGE_INITIALIZING;
+        this.inclNoLocationClassesEnabled = ImmutableExecutionContext.super.isInclNoLocationClassesEnabled();
+        inclNoLocationClassesEnabledBuildStage = STAGE_INITIALIZED;
+      }
+      return this.inclNoLocationClassesEnabled;
+    }
+
+    void setInclNoLocationClassesEnabled(boolean inclNoLocationClassesEnabled) {
+      this.inclNoLocationClassesEnabled = inclNoLocationClassesEnabled;
+      inclNoLocationClassesEnabledBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte shouldReportAbsolutePathsBuildStage = STAGE_UNINITIALIZED;
+    private boolean shouldReportAbsolutePaths;
+
+    boolean shouldReportAbsolutePaths() {
+      if (shouldReportAbsolutePathsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (shouldReportAbsolutePathsBuildStage == STAGE_UNINITIALIZED) {
+        shouldReportAbsolutePathsBuildStage = STAGE_INITIALIZING;
+        this.shouldReportAbsolutePaths = ImmutableExecutionContext.super.shouldReportAbsolutePaths();
+        shouldReportAbsolutePathsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.shouldReportAbsolutePaths;
+    }
+
+    void setShouldReportAbsolutePaths(boolean shouldReportAbsolutePaths) {
+      this.shouldReportAbsolutePaths = shouldReportAbsolutePaths;
+      shouldReportAbsolutePathsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte debugEnabledBuildStage = STAGE_UNINITIALIZED;
+    private boolean debugEnabled;
+
+    boolean isDebugEnabled() {
+      if (debugEnabledBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (debugEnabledBuildStage == STAGE_UNINITIALIZED) {
+        debugEnabledBuildStage = STAGE_INITIALIZING;
+        this.debugEnabled = ImmutableExecutionContext.super.isDebugEnabled();
+        debugEnabledBuildStage = STAGE_INITIALIZED;
+      }
+      return this.debugEnabled;
+    }
+
+    void setDebugEnabled(boolean debugEnabled) {
+      this.debugEnabled = debugEnabled;
+      debugEnabledBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte ruleKeyDiagnosticsModeBuildStage = STAGE_UNINITIALIZED;
+    private RuleKeyDiagnosticsMode ruleKeyDiagnosticsMode;
+
+    RuleKeyDiagnosticsMode getRuleKeyDiagnosticsMode() {
+      if (ruleKeyDiagnosticsModeBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (ruleKeyDiagnosticsModeBuildStage == STAGE_UNINITIALIZED) {
+        ruleKeyDiagnosticsModeBuildStage = STAGE_INITIALIZING;
+        this.ruleKeyDiagnosticsMode = Objects.requireNonNull(ImmutableExecutionContext.super.getRuleKeyDiagnosticsMode(), "ruleKeyDiagnosticsMode");
+        ruleKeyDiagnosticsModeBuildStage = STAGE_INITIALIZED;
+      }
+      return this.ruleKeyDiagnosticsMode;
+    }
+
+    void setRuleKeyDiagnosticsMode(RuleKeyDiagnosticsMode ruleKeyDiagnosticsMode) {
+      this.ruleKeyDiagnosticsMode = ruleKeyDiagnosticsMode;
+      ruleKeyDiagnosticsModeBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte truncateFailingCommandEnabledBuildStage = STAGE_UNINITIALIZED;
+    private boolean truncateFailingCommandEnabled;
+
+    boolean isTruncateFailingCommandEnabled() {
+      if (truncateFailingCommandEnabledBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (truncateFailingCommandEnabledBuildStage == STAGE_UNINITIALIZED) {
+        truncateFailingCommandEnabledBuildStage = STAGE_INITIALIZING;
+        this.truncateFailingCommandEnabled = ImmutableExecutionContext.super.isTruncateFailingCommandEnabled();
+        truncateFailingCommandEnabledBuildStage = STAGE_INITIALIZED;
+      }
+      return this.truncateFailingCommandEnabled;
+    }
+
+    void setTruncateFailingCommandEnabled(boolean truncateFailingCommandEnabled) {
+      this.truncateFailingCommandEnabled = truncateFailingCommandEnabled;
+      truncateFailingCommandEnabledBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte workerProcessPoolsBuildStage = STAGE_UNINITIALIZED;
+    private ConcurrentMap<String, WorkerProcessPool> workerProcessPools;
+
+    ConcurrentMap<String, WorkerProcessPool> getWorkerProcessPools() {
+      if (workerProcessPoolsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (workerProcessPoolsBuildStage == STAGE_UNINITIALIZED) {
+        workerProcessPoolsBuildStage = STAGE_INITIALIZING;
+        this.workerProcessPools = Objects.requireNonNull(ImmutableExecutionContext.super.getWorkerProcessPools(), "workerProcessPools");
+        workerProcessPoolsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.workerProcessPools;
+    }
+
+    void setWorkerProcessPools(ConcurrentMap<String, WorkerProcessPool> workerProcessPools) {
+      this.workerProcessPools = workerProcessPools;
+      workerProcessPoolsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte concurrencyLimitBuildStage = STAGE_UNINITIALIZED;
+    private ConcurrencyLimit concurrencyLimit;
+
+    ConcurrencyLimit getConcurrencyLimit() {
+      if (concurrencyLimitBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (concurrencyLimitBuildStage == STAGE_UNINITIALIZED) {
+        concurrencyLimitBuildStage = STAGE_INITIALIZING;
+        this.concurrencyLimit = Objects.requireNonNull(ImmutableExecutionContext.super.getConcurrencyLimit(), "concurrencyLimit");
+        concurrencyLimitBuildStage = STAGE_INITIALIZED;
+      }
+      return this.concurrencyLimit;
+    }
+
+    void setConcurrencyLimit(ConcurrencyLimit concurrencyLimit) {
+      this.concurrencyLimit = concurrencyLimit;
+      concurrencyLimitBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte classLoaderCacheBuildStage = STAGE_UNINITIALIZED;
+    private ClassLoaderCache classLoaderCache;
+
+    ClassLoaderCache getClassLoaderCache() {
+      if (classLoaderCacheBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (classLoaderCacheBuildStage == STAGE_UNINITIALIZED) {
+        classLoaderCacheBuildStage = STAGE_INITIALIZING;
+        this.classLoaderCache = Objects.requireNonNull(ImmutableExecutionContext.super.getClassLoaderCache(), "classLoaderCache");
+        classLoaderCacheBuildStage = STAGE_INITIALIZED;
+      }
+      return this.classLoaderCache;
+    }
+
+    void setClassLoaderCache(ClassLoaderCache classLoaderCache) {
+      this.classLoaderCache = classLoaderCache;
+      classLoaderCacheBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte verbosityBuildStage = STAGE_UNINITIALIZED;
+    private Verbosity verbosity;
+
+    Verbosity getVerbosity() {
+      if (verbosityBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (verbosityBuildStage == STAGE_UNINITIALIZED) {
+        verbosityBuildStage = STAGE_INITIALIZING;
+        this.verbosity = Objects.requireNonNull(ImmutableExecutionContext.super.getVerbosity(), "verbosity");
+        verbosityBuildStage = STAGE_INITIALIZED;
+      }
+      return this.verbosity;
+    }
+
+    private byte stdErrBuildStage = STAGE_UNINITIALIZED;
+    private PrintStream stdErr;
+
+    PrintStream getStdErr() {
+      if (stdErrBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (stdErrBuildStage == STAGE_UNINITIALIZED) {
+        stdErrBuildStage = STAGE_INITIALIZING;
+        this.stdErr = Objects.requireNonNull(ImmutableExecutionContext.super.getStdErr(), "stdErr");
+        stdErrBuildStage = STAGE_INITIALIZED;
+      }
+      return this.stdErr;
+    }
+
+    private byte stdOutBuildStage = STAGE_UNINITIALIZED;
+    private PrintStream stdOut;
+
+    PrintStream getStdOut() {
+      if (stdOutBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (stdOutBuildStage == STAGE_UNINITIALIZED) {
+        stdOutBuildStage = STAGE_INITIALIZING;
+        this.stdOut = Objects.requireNonNull(ImmutableExecutionContext.super.getStdOut(), "stdOut");
+        stdOutBuildStage = STAGE_INITIALIZED;
+      }
+      return this.stdOut;
+    }
+
+    private byte buildIdBuildStage = STAGE_UNINITIALIZED;
+    private BuildId buildId;
+
+    BuildId getBuildId() {
+      if (buildIdBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (buildIdBuildStage == STAGE_UNINITIALIZED) {
+        buildIdBuildStage = STAGE_INITIALIZING;
+        this.buildId = Objects.requireNonNull(ImmutableExecutionContext.super.getBuildId(), "buildId");
+        buildIdBuildStage = STAGE_INITIALIZED;
+      }
+      return this.buildId;
+    }
+
+    private byte ansiBuildStage = STAGE_UNINITIALIZED;
+    private Ansi ansi;
+
+    Ansi getAnsi() {
+      if (ansiBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (ansiBuildStage == STAGE_UNINITIALIZED) {
+        ansiBuildStage = STAGE_INITIALIZING;
+        this.ansi = Objects.requireNonNull(ImmutableExecutionContext.super.getAnsi(), "ansi");
+        ansiBuildStage = STAGE_INITIALIZED;
+      }
+      return this.ansi;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (defaultTestTimeoutMillisBuildStage == STAGE_INITIALIZING) attributes.add("defaultTestTimeoutMillis");
+      if (codeCoverageEnabledBuildStage == STAGE_INITIALIZING) attributes.add("codeCoverageEnabled");
+      if (inclNoLocationClassesEnabledBuildStage == STAGE_INITIALIZING) attributes.add("inclNoLocationClassesEnabled");
+      if (shouldReportAbsolutePathsBuildStage == STAGE_INITIALIZING) attributes.add("shouldReportAbsolutePaths");
+      if (debugEnabledBuildStage == STAGE_INITIALIZING) attributes.add("debugEnabled");
+      if (ruleKeyDiagnosticsModeBuildStage == STAGE_INITIALIZING) attributes.add("ruleKeyDiagnosticsMode");
+      if (truncateFailingCommandEnabledBuildStage == STAGE_INITIALIZING) attributes.add("truncateFailingCommandEnabled");
+      if (workerProcessPoolsBuildStage == STAGE_INITIALIZING) attributes.add("workerProcessPools");
+      if (concurrencyLimitBuildStage == STAGE_INITIALIZING) attributes.add("concurrencyLimit");
+      if (classLoaderCacheBuildStage == STAGE_INITIALIZING) attributes.add("classLoaderCache");
+      if (verbosityBuildStage == STAGE_INITIALIZING) attributes.add("verbosity");
+      if (stdErrBuildStage == STAGE_INITIALIZING) attributes.add("stdErr");
+      if (stdOutBuildStage == STAGE_INITIALIZING) attributes.add("stdOut");
+      if (buildIdBuildStage == STAGE_INITIALIZING) attributes.add("buildId");
+      if (ansiBuildStage == STAGE_INITIALIZING) attributes.add("ansi");
+      return "Cannot build ExecutionContext, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code console} attribute
+   */
+  @Override
+  public Console getConsole() {
+    return console;
+  }
+
+  /**
+   * @return The value of the {@code buckEventBus} attribute
+   */
+  @Override
+  public BuckEventBus getBuckEventBus() {
+    return buckEventBus;
+  }
+
+  /**
+   * @return The value of the {@code platform} attribute
+   */
+  @Override
+  public Platform getPlatform() {
+    return platform;
+  }
+
+  /**
+   * @return The value of the {@code environment} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getEnvironment() {
+    return environment;
+  }
+
+  /**
+   * @return The value of the {@code javaPackageFinder} attribute
+   */
+  @Override
+  public JavaPackageFinder getJavaPackageFinder() {
+    return javaPackageFinder;
+  }
+
+  /**
+   * @return The value of the {@code executors} attribute
+   */
+  @Override
+  public ImmutableMap<ExecutorPool, ListeningExecutorService> getExecutors() {
+    return executors;
+  }
+
+  /**
+   * @return The value of the {@code targetDevice} attribute
+   */
+  @Override
+  public Optional<TargetDevice> getTargetDevice() {
+    return Optional.ofNullable(targetDevice);
+  }
+
+  /**
+   * @return The value of the {@code androidDevicesHelper} attribute
+   */
+  @Override
+  public Optional<AndroidDevicesHelper> getAndroidDevicesHelper() {
+    return Optional.ofNullable(androidDevicesHelper);
+  }
+
+  /**
+   * @return The value of the {@code persistentWorkerPools} attribute
+   */
+  @Override
+  public Optional<ConcurrentMap<String, WorkerProcessPool>> getPersistentWorkerPools() {
+    return Optional.ofNullable(persistentWorkerPools);
+  }
+
+  /**
+   * @return The value of the {@code cellPathResolver} attribute
+   */
+  @Override
+  public CellPathResolver getCellPathResolver() {
+    return cellPathResolver;
+  }
+
+  /**
+   * @return The value of the {@code cells} attribute
+   */
+  @Override
+  public Cells getCells() {
+    return cells;
+  }
+
+  /**
+   * @return The value of the {@code buildCellRootPath} attribute
+   */
+  @Override
+  public Path getBuildCellRootPath() {
+    return buildCellRootPath;
+  }
+
+  /**
+   * @return The value of the {@code processExecutor} attribute
+   */
+  @Override
+  public ProcessExecutor getProcessExecutor() {
+    return processExecutor;
+  }
+
+  /**
+   * @return The value of the {@code projectFilesystemFactory} attribute
+   */
+  @Override
+  public ProjectFilesystemFactory getProjectFilesystemFactory() {
+    return projectFilesystemFactory;
+  }
+
+  /**
+   * @return The value of the {@code defaultTestTimeoutMillis} attribute
+   */
+  @Override
+  public long getDefaultTestTimeoutMillis() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getDefaultTestTimeoutMillis()
+        : this.defaultTestTimeoutMillis;
+  }
+
+  /**
+   * @return The value of the {@code codeCoverageEnabled} attribute
+   */
+  @Override
+  public boolean isCodeCoverageEnabled() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isCodeCoverageEnabled()
+        : this.codeCoverageEnabled;
+  }
+
+  /**
+   * @return The value of the {@code inclNoLocationClassesEnabled} attribute
+   */
+  @Override
+  public boolean isInclNoLocationClassesEnabled() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isInclNoLocationClassesEnabled()
+        : this.inclNoLocationClassesEnabled;
+  }
+
+  /**
+   * @return The value of the {@code shouldReportAbsolutePaths} attribute
+   */
+  @Override
+  public boolean shouldReportAbsolutePaths() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.shouldReportAbsolutePaths()
+        : this.shouldReportAbsolutePaths;
+  }
+
+  /**
+   * @return The value of the {@code debugEnabled} attribute
+   */
+  @Override
+  public boolean isDebugEnabled() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isDebugEnabled()
+        : this.debugEnabled;
+  }
+
+  /**
+   * @return The value of the {@code ruleKeyDiagnosticsMode} attribute
+   */
+  @Override
+  public RuleKeyDiagnosticsMode getRuleKeyDiagnosticsMode() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getRuleKeyDiagnosticsMode()
+        : this.ruleKeyDiagnosticsMode;
+  }
+
+  /**
+   * @return The value of the {@code truncateFailingCommandEnabled} attribute
+   */
+  @Override
+  public boolean isTruncateFailingCommandEnabled() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isTruncateFailingCommandEnabled()
+        : this.truncateFailingCommandEnabled;
+  }
+
+  /**
+   * @return The value of the {@code workerProcessPools} attribute
+   */
+  @Override
+  public ConcurrentMap<String, WorkerProcessPool> getWorkerProcessPools() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getWorkerProcessPools()
+        : this.workerProcessPools;
+  }
+
+  /**
+   * @return The value of the {@code concurrencyLimit} attribute
+   */
+  @Override
+  public ConcurrencyLimit getConcurrencyLimit() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getConcurrencyLimit()
+        : this.concurrencyLimit;
+  }
+
+  /**
+   * @return The value of the {@code classLoaderCache} attribute
+   */
+  @Override
+  public ClassLoaderCache getClassLoaderCache() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getClassLoaderCache()
+        : this.classLoaderCache;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code verbosity} attribute
+   */
+  @Override
+  public Verbosity getVerbosity() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getVerbosity()
+        : this.verbosity;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code stdErr} attribute
+   */
+  @Override
+  public PrintStream getStdErr() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getStdErr()
+        : this.stdErr;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code stdOut} attribute
+   */
+  @Override
+  public PrintStream getStdOut() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getStdOut()
+        : this.stdOut;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code buildId} attribute
+   */
+  @Override
+  public BuildId getBuildId() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getBuildId()
+        : this.buildId;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code ansi} attribute
+   */
+  @Override
+  public Ansi getAnsi() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getAnsi()
+        : this.ansi;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableExecutionContext} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableExecutionContext
+        && equalTo((ImmutableExecutionContext) another);
+  }
+
+  private boolean equalTo(ImmutableExecutionContext another) {
+    return console.equals(another.console)
+        && buckEventBus.equals(another.buckEventBus)
+        && platform.equals(another.platform)
+        && environment.equals(another.environment)
+        && javaPackageFinder.equals(another.javaPackageFinder)
+        && executors.equals(another.executors)
+        && Objects.equals(targetDevice, another.targetDevice)
+        && Objects.equals(androidDevicesHelper, another.androidDevicesHelper)
+        && Objects.equals(persistentWorkerPools, another.persistentWorkerPools)
+        && cellPathResolver.equals(another.cellPathResolver)
+        && cells.equals(another.cells)
+        && buildCellRootPath.equals(another.buildCellRootPath)
+        && processExecutor.equals(another.processExecutor)
+        && projectFilesystemFactory.equals(another.projectFilesystemFactory)
+        && defaultTestTimeoutMillis == another.defaultTestTimeoutMillis
+        && codeCoverageEnabled == another.codeCoverageEnabled
+        && inclNoLocationClassesEnabled == another.inclNoLocationClassesEnabled
+        && shouldReportAbsolutePaths == another.shouldReportAbsolutePaths
+        && debugEnabled == another.debugEnabled
+        && ruleKeyDiagnosticsMode.equals(another.ruleKeyDiagnosticsMode)
+        && truncateFailingCommandEnabled == another.truncateFailingCommandEnabled
+        && workerProcessPools.equals(another.workerProcessPools)
+        && concurrencyLimit.equals(another.concurrencyLimit)
+        && classLoaderCache.equals(another.classLoaderCache)
+        && verbosity.equals(another.verbosity)
+        && stdErr.equals(another.stdErr)
+        && stdOut.equals(another.stdOut)
+        && buildId.equals(another.buildId)
+        && ansi.equals(another.ansi);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code console}, {@code buckEventBus}, {@code platform}, {@code environment}, {@code javaPackageFinder}, {@code executors}, {@code targetDevice}, {@code androidDevicesHelper}, {@code persistentWorkerPools}, {@code cellPathResolver}, {@code cells}, {@code buildCellRootPath}, {@code processExecutor}, {@code projectFilesystemFactory}, {@code defaultTestTimeoutMillis}, {@code codeCoverageEnabled}, {@code inclNoLocationClassesEnabled}, {@code shouldReportAbsolutePaths}, {@code debugEnabled}, {@code ruleKeyDiagnosticsMode}, {@code truncateFailingCommandEnabled}, {@code workerProcessPools}, {@code concurrencyLimit}, {@code classLoaderCache}, {@code verbosity}, {@code stdErr}, {@code stdOut}, {@code buildId}, {@code ansi}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + console.hashCode();
+    h += (h << 5) + buckEventBus.hashCode();
+    h += (h << 5) + platform.hashCode();
+    h += (h << 5) + environment.hashCode();
+    h += (h << 5) + javaPackageFinder.hashCode();
+    h += (h << 5) + executors.hashCode();
+    h += (h << 5) + Objects.hashCode(targetDevice);
+    h += (h << 5) + Objects.hashCode(androidDevicesHelper);
+    h += (h << 5) + Objects.hashCode(persistentWorkerPools);
+    h += (h << 5) + cellPathResolver.hashCode();
+    h += (h << 5) + cells.hashCode();
+    h += (h << 5) + buildCellRootPath.hashCode();
+    h += (h << 5) + processExecutor.hashCode();
+    h += (h << 5) + projectFilesystemFactory.hashCode();
+    h += (h << 5) + Longs.hashCode(defaultTestTimeoutMillis);
+    h += (h << 5) + Booleans.hashCode(codeCoverageEnabled);
+    h += (h << 5) + Booleans.hashCode(inclNoLocationClassesEnabled);
+    h += (h << 5) + Booleans.hashCode(shouldReportAbsolutePaths);
+    h += (h << 5) + Booleans.hashCode(debugEnabled);
+    h += (h << 5) + ruleKeyDiagnosticsMode.hashCode();
+    h += (h << 5) + Booleans.hashCode(truncateFailingCommandEnabled);
+    h += (h << 5) + workerProcessPools.hashCode();
+    h += (h << 5) + concurrencyLimit.hashCode();
+    h += (h << 5) + classLoaderCache.hashCode();
+    h += (h << 5) + verbosity.hashCode();
+    h += (h << 5) + stdErr.hashCode();
+    h += (h << 5) + stdOut.hashCode();
+    h += (h << 5) + buildId.hashCode();
+    h += (h << 5) + ansi.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ExecutionContext} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ExecutionContext")
+        .omitNullValues()
+        .add("console", console)
+        .add("buckEventBus", buckEventBus)
+        .add("platform", platform)
+        .add("environment", environment)
+        .add("javaPackageFinder", javaPackageFinder)
+        .add("executors", executors)
+        .add("targetDevice", targetDevice)
+        .add("androidDevicesHelper", androidDevicesHelper)
+        .add("persistentWorkerPools", persistentWorkerPools)
+        .add("cellPathResolver", cellPathResolver)
+        .add("cells", cells)
+        .add("buildCellRootPath", buildCellRootPath)
+        .add("processExecutor", processExecutor)
+        .add("projectFilesystemFactory", projectFilesystemFactory)
+        .add("defaultTestTimeoutMillis", defaultTestTimeoutMillis)
+        .add("codeCoverageEnabled", codeCoverageEnabled)
+        .add("inclNoLocationClassesEnabled", inclNoLocationClassesEnabled)
+        .add("shouldReportAbsolutePaths", shouldReportAbsolutePaths)
+        .add("debugEnabled", debugEnabled)
+        .add("ruleKeyDiagnosticsMode", ruleKeyDiagnosticsMode)
+        .add("truncateFailingCommandEnabled", truncateFailingCommandEnabled)
+        .add("workerProcessPools", workerProcessPools)
+        .add("concurrencyLimit", concurrencyLimit)
+        .add("classLoaderCache", classLoaderCache)
+        .add("verbosity", verbosity)
+        .add("stdErr", stdErr)
+        .add("stdOut", stdOut)
+        .add("buildId", buildId)
+        .add("ansi", ansi)
+        .toString();
+  }
+
+  /**
+   * Builds instances of type {@link ExecutionContext ExecutionContext}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "ExecutionContext", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private static final long INIT_BIT_CONSOLE = 0x1L;
+    private static final long INIT_BIT_BUCK_EVENT_BUS = 0x2L;
+    private static final long INIT_BIT_PLATFORM = 0x4L;
+    private static final long INIT_BIT_JAVA_PACKAGE_FINDER = 0x8L;
+    private static final long INIT_BIT_CELL_PATH_RESOLVER = 0x10L;
+    private static final long INIT_BIT_CELLS = 0x20L;
+    private static final long INIT_BIT_BUILD_CELL_ROOT_PATH = 0x40L;
+    private static final long INIT_BIT_PROCESS_EXECUTOR = 0x80L;
+    private static final long INIT_BIT_PROJECT_FILESYSTEM_FACTORY = 0x100L;
+    private static final long OPT_BIT_DEFAULT_TEST_TIMEOUT_MILLIS = 0x1L;
+    private static final long OPT_BIT_CODE_COVERAGE_ENABLED = 0x2L;
+    private static final long OPT_BIT_INCL_NO_LOCATION_CLASSES_ENABLED = 0x4L;
+    private static final long OPT_BIT_SHOULD_REPORT_ABSOLUTE_PATHS = 0x8L;
+    private static final long OPT_BIT_DEBUG_ENABLED = 0x10L;
+    private static final long OPT_BIT_TRUNCATE_FAILING_COMMAND_ENABLED = 0x20L;
+    private long initBits = 0x1ffL;
+    private long optBits;
+
+    private @Nullable Console console;
+    private @Nullable BuckEventBus buckEventBus;
+    private @Nullable Platform platform;
+    private ImmutableMap.Builder<String, String> environment = ImmutableMap.builder();
+    private @Nullable JavaPackageFinder javaPackageFinder;
+    private ImmutableMap.Builder<ExecutorPool, ListeningExecutorService> executors = ImmutableMap.builder();
+    private @Nullable TargetDevice targetDevice;
+    private @Nullable AndroidDevicesHelper androidDevicesHelper;
+    private @Nullable ConcurrentMap<String, WorkerProcessPool> persistentWorkerPools;
+    private @Nullable CellPathResolver cellPathResolver;
+    private @Nullable Cells cells;
+    private @Nullable Path buildCellRootPath;
+    private @Nullable ProcessExecutor processExecutor;
+    private @Nullable ProjectFilesystemFactory projectFilesystemFactory;
+    private long defaultTestTimeoutMillis;
+    private boolean codeCoverageEnabled;
+    private boolean inclNoLocationClassesEnabled;
+    private boolean shouldReportAbsolutePaths;
+    private boolean debugEnabled;
+    private @Nullable RuleKeyDiagnosticsMode ruleKeyDiagnosticsMode;
+    private boolean truncateFailingCommandEnabled;
+    private @Nullable ConcurrentMap<String, WorkerProcessPool> workerProcessPools;
+    private @Nullable ConcurrencyLimit concurrencyLimit;
+    private @Nullable ClassLoaderCache classLoaderCache;
+
+    /**
+     * Creates a builder for {@link ExecutionContext ExecutionContext} instances.
+     */
+    public Builder() {
+      if (!(this instanceof ExecutionContext.Builder)) {
+        throw new UnsupportedOperationException("Use: new ExecutionContext.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ExecutionContext} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder from(ExecutionContext instance) {
+      Objects.requireNonNull(instance, "instance");
+      setConsole(instance.getConsole());
+      setBuckEventBus(instance.getBuckEventBus());
+      setPlatform(instance.getPlatform());
+      putAllEnvironment(instance.getEnvironment());
+      setJavaPackageFinder(instance.getJavaPackageFinder());
+      putAllExecutors(instance.getExecutors());
+      Optional<TargetDevice> targetDeviceOptional = instance.getTargetDevice();
+      if (targetDeviceOptional.isPresent()) {
+        setTargetDevice(targetDeviceOptional);
+      }
+      Optional<AndroidDevicesHelper> androidDevicesHelperOptional = instance.getAndroidDevicesHelper();
+      if (androidDevicesHelperOptional.isPresent()) {
+        setAndroidDevicesHelper(androidDevicesHelperOptional);
+      }
+      Optional<ConcurrentMap<String, WorkerProcessPool>> persistentWorkerPoolsOptional = instance.getPersistentWorkerPools();
+      if (persistentWorkerPoolsOptional.isPresent()) {
+        setPersistentWorkerPools(persistentWorkerPoolsOptional);
+      }
+      setCellPathResolver(instance.getCellPathResolver());
+      setCells(instance.getCells());
+      setBuildCellRootPath(instance.getBuildCellRootPath());
+      setProcessExecutor(instance.getProcessExecutor());
+      setProjectFilesystemFactory(instance.getProjectFilesystemFactory());
+      setDefaultTestTimeoutMillis(instance.getDefaultTestTimeoutMillis());
+      setCodeCoverageEnabled(instance.isCodeCoverageEnabled());
+      setInclNoLocationClassesEnabled(instance.isInclNoLocationClassesEnabled());
+      setShouldReportAbsolutePaths(instance.shouldReportAbsolutePaths());
+      setDebugEnabled(instance.isDebugEnabled());
+      setRuleKeyDiagnosticsMode(instance.getRuleKeyDiagnosticsMode());
+      setTruncateFailingCommandEnabled(instance.isTruncateFailingCommandEnabled());
+      setWorkerProcessPools(instance.getWorkerProcessPools());
+      setConcurrencyLimit(instance.getConcurrencyLimit());
+      setClassLoaderCache(instance.getClassLoaderCache());
+      return (ExecutionContext.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#getConsole() console} attribute.
+     * @param console The value for console 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder setConsole(Console console) {
+      this.console = Objects.requireNonNull(console, "console");
+      initBits &= ~INIT_BIT_CONSOLE;
+      return (ExecutionContext.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#getBuckEventBus() buckEventBus} attribute.
+     * @param buckEventBus The value for buckEventBus 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder setBuckEventBus(BuckEventBus buckEventBus) {
+      this.buckEventBus = Objects.requireNonNull(buckEventBus, "buckEventBus");
+      initBits &= ~INIT_BIT_BUCK_EVENT_BUS;
+      return (ExecutionContext.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#getPlatform() platform} attribute.
+     * @param platform The value for platform 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder setPlatform(Platform platform) {
+      this.platform = Objects.requireNonNull(platform, "platform");
+      initBits &= ~INIT_BIT_PLATFORM;
+      return (ExecutionContext.Builder) this;
+    }
+
+    /**
+     * Put one entry to the {@link ExecutionContext#getEnvironment() environment} map.
+     * @param key The key in the environment map
+     * @param value The associated value in the environment map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder putEnvironment(String key, String value) {
+      this.environment.put(key, value);
+      return (ExecutionContext.Builder) this;
+    }
+
+    /**
+     * Put one entry to the {@link ExecutionContext#getEnvironment() environment} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder putEnvironment(Map.Entry<String, ? extends String> entry) {
+      this.environment.put(entry);
+      return (ExecutionContext.Builder) this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link ExecutionContext#getEnvironment() environment} map. Nulls are not permitted
+     * @param entries The entries that will be added to the environment map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder setEnvironment(Map<String, ? extends String> entries) {
+      this.environment = ImmutableMap.builder();
+      return putAllEnvironment(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link ExecutionContext#getEnvironment() environment} map. Nulls are not permitted
+     * @param entries The entries that will be added to the environment map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder putAllEnvironment(Map<String, ? extends String> entries) {
+      this.environment.putAll(entries);
+      return (ExecutionContext.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#getJavaPackageFinder() javaPackageFinder} attribute.
+     * @param javaPackageFinder The value for javaPackageFinder 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder setJavaPackageFinder(JavaPackageFinder javaPackageFinder) {
+      this.javaPackageFinder = Objects.requireNonNull(javaPackageFinder, "javaPackageFinder");
+      initBits &= ~INIT_BIT_JAVA_PACKAGE_FINDER;
+      return (ExecutionContext.Builder) this;
+    }
+
+    /**
+     * Put one entry to the {@link ExecutionContext#getExecutors() executors} map.
+     * @param key The key in the executors map
+     * @param value The associated value in the executors map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder putExecutors(ExecutorPool key, ListeningExecutorService value) {
+      this.executors.put(key, value);
+      return (ExecutionContext.Builder) this;
+    }
+
+    /**
+     * Put one entry to the {@link ExecutionContext#getExecutors() executors} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder putExecutors(Map.Entry<ExecutorPool, ? extends ListeningExecutorService> entry) {
+      this.executors.put(entry);
+      return (ExecutionContext.Builder) this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link ExecutionContext#getExecutors() executors} map. Nulls are not permitted
+     * @param entries The entries that will be added to the executors map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder setExecutors(Map<ExecutorPool, ? extends ListeningExecutorService> entries) {
+      this.executors = ImmutableMap.builder();
+      return putAllExecutors(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link ExecutionContext#getExecutors() executors} map. Nulls are not permitted
+     * @param entries The entries that will be added to the executors map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder putAllExecutors(Map<ExecutorPool, ? extends ListeningExecutorService> entries) {
+      this.executors.putAll(entries);
+      return (ExecutionContext.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ExecutionContext#getTargetDevice() targetDevice} to targetDevice.
+     * @param targetDevice The value for targetDevice
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder setTargetDevice(TargetDevice targetDevice) {
+      this.targetDevice = Objects.requireNonNull(targetDevice, "targetDevice");
+      return (ExecutionContext.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ExecutionContext#getTargetDevice() targetDevice} to targetDevice.
+     * @param targetDevice The value for targetDevice
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder setTargetDevice(Optional<? extends TargetDevice> targetDevice) {
+      this.targetDevice = targetDevice.orElse(null);
+      return (ExecutionContext.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ExecutionContext#getAndroidDevicesHelper() androidDevicesHelper} to androidDevicesHelper.
+     * @param androidDevicesHelper The value for androidDevicesHelper
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder setAndroidDevicesHelper(AndroidDevicesHelper androidDevicesHelper) {
+      this.androidDevicesHelper = Objects.requireNonNull(androidDevicesHelper, "androidDevicesHelper");
+      return (ExecutionContext.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ExecutionContext#getAndroidDevicesHelper() androidDevicesHelper} to androidDevicesHelper.
+     * @param androidDevicesHelper The value for androidDevicesHelper
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder setAndroidDevicesHelper(Optional<? extends AndroidDevicesHelper> androidDevicesHelper) {
+      this.androidDevicesHelper = androidDevicesHelper.orElse(null);
+      return (ExecutionContext.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ExecutionContext#getPersistentWorkerPools() persistentWorkerPools} to persistentWorkerPools.
+     * @param persistentWorkerPools The value for persistentWorkerPools
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder setPersistentWorkerPools(ConcurrentMap<String, WorkerProcessPool> persistentWorkerPools) {
+      this.persistentWorkerPools = Objects.requireNonNull(persistentWorkerPools, "persistentWorkerPools");
+      return (ExecutionContext.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link ExecutionContext#getPersistentWorkerPools() persistentWorkerPools} to persistentWorkerPools.
+     * @param persistentWorkerPools The value for persistentWorkerPools
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder setPersistentWorkerPools(Optional<? extends ConcurrentMap<String, WorkerProcessPool>> persistentWorkerPools) {
+      this.persistentWorkerPools = persistentWorkerPools.orElse(null);
+      return (ExecutionContext.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#getCellPathResolver() cellPathResolver} attribute.
+     * @param cellPathResolver The value for cellPathResolver 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder setCellPathResolver(CellPathResolver cellPathResolver) {
+      this.cellPathResolver = Objects.requireNonNull(cellPathResolver, "cellPathResolver");
+      initBits &= ~INIT_BIT_CELL_PATH_RESOLVER;
+      return (ExecutionContext.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#getCells() cells} attribute.
+     * @param cells The value for cells 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder setCells(Cells cells) {
+      this.cells = Objects.requireNonNull(cells, "cells");
+      initBits &= ~INIT_BIT_CELLS;
+      return (ExecutionContext.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#getBuildCellRootPath() buildCellRootPath} attribute.
+     * @param buildCellRootPath The value for buildCellRootPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder setBuildCellRootPath(Path buildCellRootPath) {
+      this.buildCellRootPath = Objects.requireNonNull(buildCellRootPath, "buildCellRootPath");
+      initBits &= ~INIT_BIT_BUILD_CELL_ROOT_PATH;
+      return (ExecutionContext.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#getProcessExecutor() processExecutor} attribute.
+     * @param processExecutor The value for processExecutor 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder setProcessExecutor(ProcessExecutor processExecutor) {
+      this.processExecutor = Objects.requireNonNull(processExecutor, "processExecutor");
+      initBits &= ~INIT_BIT_PROCESS_EXECUTOR;
+      return (ExecutionContext.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#getProjectFilesystemFactory() projectFilesystemFactory} attribute.
+     * @param projectFilesystemFactory The value for projectFilesystemFactory 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder setProjectFilesystemFactory(ProjectFilesystemFactory projectFilesystemFactory) {
+      this.projectFilesystemFactory = Objects.requireNonNull(projectFilesystemFactory, "projectFilesystemFactory");
+      initBits &= ~INIT_BIT_PROJECT_FILESYSTEM_FACTORY;
+      return (ExecutionContext.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#getDefaultTestTimeoutMillis() defaultTestTimeoutMillis} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ExecutionContext#getDefaultTestTimeoutMillis() defaultTestTimeoutMillis}.</em>
+     * @param defaultTestTimeoutMillis The value for defaultTestTimeoutMillis 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder setDefaultTestTimeoutMillis(long defaultTestTimeoutMillis) {
+      this.defaultTestTimeoutMillis = defaultTestTimeoutMillis;
+      optBits |= OPT_BIT_DEFAULT_TEST_TIMEOUT_MILLIS;
+      return (ExecutionContext.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#isCodeCoverageEnabled() codeCoverageEnabled} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ExecutionContext#isCodeCoverageEnabled() codeCoverageEnabled}.</em>
+     * @param codeCoverageEnabled The value for codeCoverageEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder setCodeCoverageEnabled(boolean codeCoverageEnabled) {
+      this.codeCoverageEnabled = codeCoverageEnabled;
+      optBits |= OPT_BIT_CODE_COVERAGE_ENABLED;
+      return (ExecutionContext.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#isInclNoLocationClassesEnabled() inclNoLocationClassesEnabled} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ExecutionContext#isInclNoLocationClassesEnabled() inclNoLocationClassesEnabled}.</em>
+     * @param inclNoLocationClassesEnabled The value for inclNoLocationClassesEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder setInclNoLocationClassesEnabled(boolean inclNoLocationClassesEnabled) {
+      this.inclNoLocationClassesEnabled = inclNoLocationClassesEnabled;
+      optBits |= OPT_BIT_INCL_NO_LOCATION_CLASSES_ENABLED;
+      return (ExecutionContext.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#shouldReportAbsolutePaths() shouldReportAbsolutePaths} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ExecutionContext#shouldReportAbsolutePaths() shouldReportAbsolutePaths}.</em>
+     * @param shouldReportAbsolutePaths The value for shouldReportAbsolutePaths 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder setShouldReportAbsolutePaths(boolean shouldReportAbsolutePaths) {
+      this.shouldReportAbsolutePaths = shouldReportAbsolutePaths;
+      optBits |= OPT_BIT_SHOULD_REPORT_ABSOLUTE_PATHS;
+      return (ExecutionContext.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#isDebugEnabled() debugEnabled} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ExecutionContext#isDebugEnabled() debugEnabled}.</em>
+     * @param debugEnabled The value for debugEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder setDebugEnabled(boolean debugEnabled) {
+      this.debugEnabled = debugEnabled;
+      optBits |= OPT_BIT_DEBUG_ENABLED;
+      return (ExecutionContext.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#getRuleKeyDiagnosticsMode() ruleKeyDiagnosticsMode} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ExecutionContext#getRuleKeyDiagnosticsMode() ruleKeyDiagnosticsMode}.</em>
+     * @param ruleKeyDiagnosticsMode The value for ruleKeyDiagnosticsMode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder setRuleKeyDiagnosticsMode(RuleKeyDiagnosticsMode ruleKeyDiagnosticsMode) {
+      this.ruleKeyDiagnosticsMode = Objects.requireNonNull(ruleKeyDiagnosticsMode, "ruleKeyDiagnosticsMode");
+      return (ExecutionContext.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#isTruncateFailingCommandEnabled() truncateFailingCommandEnabled} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ExecutionContext#isTruncateFailingCommandEnabled() truncateFailingCommandEnabled}.</em>
+     * @param truncateFailingCommandEnabled The value for truncateFailingCommandEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder setTruncateFailingCommandEnabled(boolean truncateFailingCommandEnabled) {
+      this.truncateFailingCommandEnabled = truncateFailingCommandEnabled;
+      optBits |= OPT_BIT_TRUNCATE_FAILING_COMMAND_ENABLED;
+      return (ExecutionContext.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#getWorkerProcessPools() workerProcessPools} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ExecutionContext#getWorkerProcessPools() workerProcessPools}.</em>
+     * @param workerProcessPools The value for workerProcessPools 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder setWorkerProcessPools(ConcurrentMap<String, WorkerProcessPool> workerProcessPools) {
+      this.workerProcessPools = Objects.requireNonNull(workerProcessPools, "workerProcessPools");
+      return (ExecutionContext.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#getConcurrencyLimit() concurrencyLimit} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ExecutionContext#getConcurrencyLimit() concurrencyLimit}.</em>
+     * @param concurrencyLimit The value for concurrencyLimit 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder setConcurrencyLimit(ConcurrencyLimit concurrencyLimit) {
+      this.concurrencyLimit = Objects.requireNonNull(concurrencyLimit, "concurrencyLimit");
+      return (ExecutionContext.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ExecutionContext#getClassLoaderCache() classLoaderCache} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ExecutionContext#getClassLoaderCache() classLoaderCache}.</em>
+     * @param classLoaderCache The value for classLoaderCache 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ExecutionContext.Builder setClassLoaderCache(ClassLoaderCache classLoaderCache) {
+      this.classLoaderCache = Objects.requireNonNull(classLoaderCache, "classLoaderCache");
+      return (ExecutionContext.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link ExecutionContext ExecutionContext}.
+     * @return An immutable instance of ExecutionContext
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ExecutionContext build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ImmutableExecutionContext(this);
+    }
+
+    private boolean defaultTestTimeoutMillisIsSet() {
+      return (optBits & OPT_BIT_DEFAULT_TEST_TIMEOUT_MILLIS) != 0;
+    }
+
+    private boolean codeCoverageEnabledIsSet() {
+      return (optBits & OPT_BIT_CODE_COVERAGE_ENABLED) != 0;
+    }
+
+    private boolean inclNoLocationClassesEnabledIsSet() {
+      return (optBits & OPT_BIT_INCL_NO_LOCATION_CLASSES_ENABLED) != 0;
+    }
+
+    private boolean shouldReportAbsolutePathsIsSet() {
+      return (optBits & OPT_BIT_SHOULD_REPORT_ABSOLUTE_PATHS) != 0;
+    }
+
+    private boolean debugEnabledIsSet() {
+      return (optBits & OPT_BIT_DEBUG_ENABLED) != 0;
+    }
+
+    private boolean truncateFailingCommandEnabledIsSet() {
+      return (optBits & OPT_BIT_TRUNCATE_FAILING_COMMAND_ENABLED) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_CONSOLE) != 0) attributes.add("console");
+      if ((initBits & INIT_BIT_BUCK_EVENT_BUS) != 0) attributes.add("buckEventBus");
+      if ((initBits & INIT_BIT_PLATFORM) != 0) attributes.add("platform");
+      if ((initBits & INIT_BIT_JAVA_PACKAGE_FINDER) != 0) attributes.add("javaPackageFinder");
+      if ((initBits & INIT_BIT_CELL_PATH_RESOLVER) != 0) attributes.add("cellPathResolver");
+      if ((initBits & INIT_BIT_CELLS) != 0) attributes.add("cells");
+      if ((initBits & INIT_BIT_BUILD_CELL_ROOT_PATH) != 0) attributes.add("buildCellRootPath");
+      if ((initBits & INIT_BIT_PROCESS_EXECUTOR) != 0) attributes.add("processExecutor");
+      if ((initBits & INIT_BIT_PROJECT_FILESYSTEM_FACTORY) != 0) attributes.add("projectFilesystemFactory");
+      return "Cannot build ExecutionContext, some of required attributes are not set " + attributes;
+    }
+  }
+}
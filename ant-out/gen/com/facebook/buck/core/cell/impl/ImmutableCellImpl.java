@@ -0,0 +1,212 @@
+package com.facebook.buck.core.cell.impl;
+
+import com.facebook.buck.core.cell.CellPathResolver;
+import com.facebook.buck.core.cell.CellProvider;
+import com.facebook.buck.core.cell.NewCellPathResolver;
+import com.facebook.buck.core.cell.name.CanonicalCellName;
+import com.facebook.buck.core.cell.nameresolver.CellNameResolver;
+import com.facebook.buck.core.config.BuckConfig;
+import com.facebook.buck.core.filesystems.AbsPath;
+import com.facebook.buck.core.toolchain.ToolchainProvider;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.ProjectFilesystemView;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CellImpl}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCellImpl.of()}.
+ */
+@Generated(from = "CellImpl", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCellImpl extends CellImpl {
+  private final ImmutableSortedSet<AbsPath> knownRootsOfAllCells;
+  private final CanonicalCellName canonicalName;
+  private final ProjectFilesystem filesystem;
+  private transient final ProjectFilesystemView filesystemViewForSourceFiles;
+  private final BuckConfig buckConfig;
+  private final CellProvider cellProvider;
+  private final ToolchainProvider toolchainProvider;
+  private final CellPathResolver cellPathResolver;
+  private final NewCellPathResolver newCellPathResolver;
+  private final CellNameResolver cellNameResolver;
+
+  private ImmutableCellImpl(
+      ImmutableSortedSet<AbsPath> knownRootsOfAllCells,
+      CanonicalCellName canonicalName,
+      ProjectFilesystem filesystem,
+      BuckConfig buckConfig,
+      CellProvider cellProvider,
+      ToolchainProvider toolchainProvider,
+      CellPathResolver cellPathResolver,
+      NewCellPathResolver newCellPathResolver,
+      CellNameResolver cellNameResolver) {
+    this.knownRootsOfAllCells = Objects.requireNonNull(knownRootsOfAllCells, "knownRootsOfAllCells");
+    this.canonicalName = Objects.requireNonNull(canonicalName, "canonicalName");
+    this.filesystem = Objects.requireNonNull(filesystem, "filesystem");
+    this.buckConfig = Objects.requireNonNull(buckConfig, "buckConfig");
+    this.cellProvider = Objects.requireNonNull(cellProvider, "cellProvider");
+    this.toolchainProvider = Objects.requireNonNull(toolchainProvider, "toolchainProvider");
+    this.cellPathResolver = Objects.requireNonNull(cellPathResolver, "cellPathResolver");
+    this.newCellPathResolver = Objects.requireNonNull(newCellPathResolver, "newCellPathResolver");
+    this.cellNameResolver = Objects.requireNonNull(cellNameResolver, "cellNameResolver");
+    this.filesystemViewForSourceFiles = Objects.requireNonNull(super.getFilesystemViewForSourceFiles(), "filesystemViewForSourceFiles");
+  }
+
+  /**
+   * @return The value of the {@code knownRootsOfAllCells} attribute
+   */
+  @Override
+  public ImmutableSortedSet<AbsPath> getKnownRootsOfAllCells() {
+    return knownRootsOfAllCells;
+  }
+
+  /**
+   * @return The value of the {@code canonicalName} attribute
+   */
+  @Override
+  public CanonicalCellName getCanonicalName() {
+    return canonicalName;
+  }
+
+  /**
+   * @return The value of the {@code filesystem} attribute
+   */
+  @Override
+  public ProjectFilesystem getFilesystem() {
+    return filesystem;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code filesystemViewForSourceFiles} attribute
+   */
+  @Override
+  public ProjectFilesystemView getFilesystemViewForSourceFiles() {
+    return filesystemViewForSourceFiles;
+  }
+
+  /**
+   * @return The value of the {@code buckConfig} attribute
+   */
+  @Override
+  public BuckConfig getBuckConfig() {
+    return buckConfig;
+  }
+
+  /**
+   * @return The value of the {@code cellProvider} attribute
+   */
+  @Override
+  public CellProvider getCellProvider() {
+    return cellProvider;
+  }
+
+  /**
+   * @return The value of the {@code toolchainProvider} attribute
+   */
+  @Override
+  public ToolchainProvider getToolchainProvider() {
+    return toolchainProvider;
+  }
+
+  /**
+   * @return The value of the {@code cellPathResolver} attribute
+   */
+  @Override
+  public CellPathResolver getCellPathResolver() {
+    return cellPathResolver;
+  }
+
+  /**
+   * @return The value of the {@code newCellPathResolver} attribute
+   */
+  @Override
+  public NewCellPathResolver getNewCellPathResolver() {
+    return newCellPathResolver;
+  }
+
+  /**
+   * @return The value of the {@code cellNameResolver} attribute
+   */
+  @Override
+  public CellNameResolver getCellNameResolver() {
+    return cellNameResolver;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCellImpl} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCellImpl
+        && equalTo((ImmutableCellImpl) another);
+  }
+
+  private boolean equalTo(ImmutableCellImpl another) {
+    return buckConfig.equals(another.buckConfig)
+        && cellPathResolver.equals(another.cellPathResolver)
+        && newCellPathResolver.equals(another.newCellPathResolver)
+        && cellNameResolver.equals(another.cellNameResolver);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buckConfig}, {@code cellPathResolver}, {@code newCellPathResolver}, {@code cellNameResolver}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buckConfig.hashCode();
+    h += (h << 5) + cellPathResolver.hashCode();
+    h += (h << 5) + newCellPathResolver.hashCode();
+    h += (h << 5) + cellNameResolver.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CellImpl} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CellImpl")
+        .omitNullValues()
+        .add("buckConfig", buckConfig)
+        .add("cellPathResolver", cellPathResolver)
+        .add("newCellPathResolver", newCellPathResolver)
+        .add("cellNameResolver", cellNameResolver)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CellImpl} instance.
+   * @param knownRootsOfAllCells The value for the {@code knownRootsOfAllCells} attribute
+   * @param canonicalName The value for the {@code canonicalName} attribute
+   * @param filesystem The value for the {@code filesystem} attribute
+   * @param buckConfig The value for the {@code buckConfig} attribute
+   * @param cellProvider The value for the {@code cellProvider} attribute
+   * @param toolchainProvider The value for the {@code toolchainProvider} attribute
+   * @param cellPathResolver The value for the {@code cellPathResolver} attribute
+   * @param newCellPathResolver The value for the {@code newCellPathResolver} attribute
+   * @param cellNameResolver The value for the {@code cellNameResolver} attribute
+   * @return An immutable CellImpl instance
+   */
+  public static ImmutableCellImpl of(ImmutableSortedSet<AbsPath> knownRootsOfAllCells, CanonicalCellName canonicalName, ProjectFilesystem filesystem, BuckConfig buckConfig, CellProvider cellProvider, ToolchainProvider toolchainProvider, CellPathResolver cellPathResolver, NewCellPathResolver newCellPathResolver, CellNameResolver cellNameResolver) {
+    return new ImmutableCellImpl(knownRootsOfAllCells, canonicalName, filesystem, buckConfig, cellProvider, toolchainProvider, cellPathResolver, newCellPathResolver, cellNameResolver);
+  }
+}
@@ -0,0 +1,117 @@
+package com.facebook.buck.core.exceptions.config;
+
+import com.facebook.buck.core.config.BuckConfig;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ErrorHandlingBuckConfig}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableErrorHandlingBuckConfig.of()}.
+ */
+@Generated(from = "ErrorHandlingBuckConfig", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableErrorHandlingBuckConfig
+    extends ErrorHandlingBuckConfig {
+  private final BuckConfig delegate;
+
+  private ImmutableErrorHandlingBuckConfig(BuckConfig delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public BuckConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableErrorHandlingBuckConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableErrorHandlingBuckConfig
+        && equalTo((ImmutableErrorHandlingBuckConfig) another);
+  }
+
+  private boolean equalTo(ImmutableErrorHandlingBuckConfig another) {
+    return delegate.equals(another.delegate);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code delegate}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + delegate.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ErrorHandlingBuckConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ErrorHandlingBuckConfig")
+        .omitNullValues()
+        .add("delegate", delegate)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long ERROR_MESSAGE_AUGMENTATIONS_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient Map<Pattern, String> errorMessageAugmentations;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link ErrorHandlingBuckConfig#getErrorMessageAugmentations() errorMessageAugmentations} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code errorMessageAugmentations} attribute
+   */
+  @Override
+  public Map<Pattern, String> getErrorMessageAugmentations() {
+    if ((lazyInitBitmap & ERROR_MESSAGE_AUGMENTATIONS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ERROR_MESSAGE_AUGMENTATIONS_LAZY_INIT_BIT) == 0) {
+          this.errorMessageAugmentations = Objects.requireNonNull(super.getErrorMessageAugmentations(), "errorMessageAugmentations");
+          lazyInitBitmap |= ERROR_MESSAGE_AUGMENTATIONS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return errorMessageAugmentations;
+  }
+
+  /**
+   * Construct a new immutable {@code ErrorHandlingBuckConfig} instance.
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable ErrorHandlingBuckConfig instance
+   */
+  public static ImmutableErrorHandlingBuckConfig of(BuckConfig delegate) {
+    return new ImmutableErrorHandlingBuckConfig(delegate);
+  }
+}
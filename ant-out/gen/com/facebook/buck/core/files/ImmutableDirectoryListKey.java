@@ -0,0 +1,93 @@
+package com.facebook.buck.core.files;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link DirectoryListKey}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableDirectoryListKey.of()}.
+ */
+@Generated(from = "DirectoryListKey", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableDirectoryListKey extends DirectoryListKey {
+  private final Path path;
+  private transient final int hashCode;
+
+  private ImmutableDirectoryListKey(Path path) {
+    this.path = Objects.requireNonNull(path, "path");
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  public Path getPath() {
+    return path;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableDirectoryListKey} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableDirectoryListKey
+        && equalTo((ImmutableDirectoryListKey) another);
+  }
+
+  private boolean equalTo(ImmutableDirectoryListKey another) {
+    if (hashCode != another.hashCode) return false;
+    return path.equals(another.path);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code path}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + path.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DirectoryListKey} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DirectoryListKey")
+        .omitNullValues()
+        .add("path", path)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code DirectoryListKey} instance.
+   * @param path The value for the {@code path} attribute
+   * @return An immutable DirectoryListKey instance
+   */
+  public static ImmutableDirectoryListKey of(Path path) {
+    return new ImmutableDirectoryListKey(path);
+  }
+}
@@ -0,0 +1,119 @@
+package com.facebook.buck.core.model.actiongraph;
+
+import com.facebook.buck.core.build.action.resolver.BuildEngineActionToBuildRuleResolver;
+import com.facebook.buck.core.rules.ActionGraphBuilder;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ActionGraphAndBuilder}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableActionGraphAndBuilder.of()}.
+ */
+@Generated(from = "ActionGraphAndBuilder", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableActionGraphAndBuilder
+    extends ActionGraphAndBuilder {
+  private final ActionGraph actionGraph;
+  private final ActionGraphBuilder actionGraphBuilder;
+  private final BuildEngineActionToBuildRuleResolver buildEngineActionToBuildRuleResolver;
+
+  private ImmutableActionGraphAndBuilder(
+      ActionGraph actionGraph,
+      ActionGraphBuilder actionGraphBuilder,
+      BuildEngineActionToBuildRuleResolver buildEngineActionToBuildRuleResolver) {
+    this.actionGraph = Objects.requireNonNull(actionGraph, "actionGraph");
+    this.actionGraphBuilder = Objects.requireNonNull(actionGraphBuilder, "actionGraphBuilder");
+    this.buildEngineActionToBuildRuleResolver = Objects.requireNonNull(buildEngineActionToBuildRuleResolver, "buildEngineActionToBuildRuleResolver");
+  }
+
+  /**
+   * @return The value of the {@code actionGraph} attribute
+   */
+  @Override
+  public ActionGraph getActionGraph() {
+    return actionGraph;
+  }
+
+  /**
+   * @return The value of the {@code actionGraphBuilder} attribute
+   */
+  @Override
+  public ActionGraphBuilder getActionGraphBuilder() {
+    return actionGraphBuilder;
+  }
+
+  /**
+   * @return The value of the {@code buildEngineActionToBuildRuleResolver} attribute
+   */
+  @Override
+  public BuildEngineActionToBuildRuleResolver getBuildEngineActionToBuildRuleResolver() {
+    return buildEngineActionToBuildRuleResolver;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableActionGraphAndBuilder} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableActionGraphAndBuilder
+        && equalTo((ImmutableActionGraphAndBuilder) another);
+  }
+
+  private boolean equalTo(ImmutableActionGraphAndBuilder another) {
+    return actionGraph.equals(another.actionGraph)
+        && actionGraphBuilder.equals(another.actionGraphBuilder)
+        && buildEngineActionToBuildRuleResolver.equals(another.buildEngineActionToBuildRuleResolver);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code actionGraph}, {@code actionGraphBuilder}, {@code buildEngineActionToBuildRuleResolver}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + actionGraph.hashCode();
+    h += (h << 5) + actionGraphBuilder.hashCode();
+    h += (h << 5) + buildEngineActionToBuildRuleResolver.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ActionGraphAndBuilder} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ActionGraphAndBuilder")
+        .omitNullValues()
+        .add("actionGraph", actionGraph)
+        .add("actionGraphBuilder", actionGraphBuilder)
+        .add("buildEngineActionToBuildRuleResolver", buildEngineActionToBuildRuleResolver)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ActionGraphAndBuilder} instance.
+   * @param actionGraph The value for the {@code actionGraph} attribute
+   * @param actionGraphBuilder The value for the {@code actionGraphBuilder} attribute
+   * @param buildEngineActionToBuildRuleResolver The value for the {@code buildEngineActionToBuildRuleResolver} attribute
+   * @return An immutable ActionGraphAndBuilder instance
+   */
+  public static ImmutableActionGraphAndBuilder of(ActionGraph actionGraph, ActionGraphBuilder actionGraphBuilder, BuildEngineActionToBuildRuleResolver buildEngineActionToBuildRuleResolver) {
+    return new ImmutableActionGraphAndBuilder(actionGraph, actionGraphBuilder, buildEngineActionToBuildRuleResolver);
+  }
+}
@@ -0,0 +1,93 @@
+package com.facebook.buck.core.model.platform;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ConstraintSetting}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableConstraintSetting.of()}.
+ */
+@Generated(from = "ConstraintSetting", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableConstraintSetting extends ConstraintSetting {
+  private final BuildTarget buildTarget;
+  private transient final int hashCode;
+
+  private ImmutableConstraintSetting(BuildTarget buildTarget) {
+    this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableConstraintSetting} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableConstraintSetting
+        && equalTo((ImmutableConstraintSetting) another);
+  }
+
+  private boolean equalTo(ImmutableConstraintSetting another) {
+    if (hashCode != another.hashCode) return false;
+    return buildTarget.equals(another.buildTarget);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code buildTarget}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buildTarget.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ConstraintSetting} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ConstraintSetting")
+        .omitNullValues()
+        .add("buildTarget", buildTarget)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ConstraintSetting} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @return An immutable ConstraintSetting instance
+   */
+  public static ImmutableConstraintSetting of(BuildTarget buildTarget) {
+    return new ImmutableConstraintSetting(buildTarget);
+  }
+}
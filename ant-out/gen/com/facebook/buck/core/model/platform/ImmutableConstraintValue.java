@@ -0,0 +1,109 @@
+package com.facebook.buck.core.model.platform;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ConstraintValue}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableConstraintValue.of()}.
+ */
+@Generated(from = "ConstraintValue", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableConstraintValue extends ConstraintValue {
+  private final BuildTarget buildTarget;
+  private final ConstraintSetting constraintSetting;
+  private transient final int hashCode;
+
+  private ImmutableConstraintValue(
+      BuildTarget buildTarget,
+      ConstraintSetting constraintSetting) {
+    this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+    this.constraintSetting = Objects.requireNonNull(constraintSetting, "constraintSetting");
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return The value of the {@code constraintSetting} attribute
+   */
+  @Override
+  public ConstraintSetting getConstraintSetting() {
+    return constraintSetting;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableConstraintValue} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableConstraintValue
+        && equalTo((ImmutableConstraintValue) another);
+  }
+
+  private boolean equalTo(ImmutableConstraintValue another) {
+    if (hashCode != another.hashCode) return false;
+    return buildTarget.equals(another.buildTarget)
+        && constraintSetting.equals(another.constraintSetting);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code buildTarget}, {@code constraintSetting}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buildTarget.hashCode();
+    h += (h << 5) + constraintSetting.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ConstraintValue} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ConstraintValue")
+        .omitNullValues()
+        .add("buildTarget", buildTarget)
+        .add("constraintSetting", constraintSetting)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ConstraintValue} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param constraintSetting The value for the {@code constraintSetting} attribute
+   * @return An immutable ConstraintValue instance
+   */
+  public static ImmutableConstraintValue of(BuildTarget buildTarget, ConstraintSetting constraintSetting) {
+    return new ImmutableConstraintValue(buildTarget, constraintSetting);
+  }
+}
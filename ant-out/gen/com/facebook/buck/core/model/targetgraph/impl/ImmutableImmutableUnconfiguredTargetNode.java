@@ -0,0 +1,293 @@
+package com.facebook.buck.core.model.targetgraph.impl;
+
+import com.facebook.buck.core.model.RuleType;
+import com.facebook.buck.core.model.UnconfiguredBuildTarget;
+import com.facebook.buck.rules.visibility.VisibilityPattern;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ImmutableUnconfiguredTargetNode}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableImmutableUnconfiguredTargetNode.of()}.
+ */
+@Generated(from = "ImmutableUnconfiguredTargetNode", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableImmutableUnconfiguredTargetNode
+    extends ImmutableUnconfiguredTargetNode {
+  private final UnconfiguredBuildTarget buildTarget;
+  private final RuleType ruleType;
+  private final ImmutableMap<String, Object> attributes;
+  private final ImmutableSet<VisibilityPattern> visibilityPatterns;
+  private final ImmutableSet<VisibilityPattern> withinViewPatterns;
+  private final @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+  private final ImmutableList<UnconfiguredBuildTarget> compatibleWith;
+  private transient final int hashCode;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableImmutableUnconfiguredTargetNode(
+      UnconfiguredBuildTarget buildTarget,
+      RuleType ruleType,
+      Map<String, ? extends Object> attributes,
+      Iterable<? extends VisibilityPattern> visibilityPatterns,
+      Iterable<? extends VisibilityPattern> withinViewPatterns,
+      Optional<? extends UnconfiguredBuildTarget> defaultTargetPlatform,
+      Iterable<? extends UnconfiguredBuildTarget> compatibleWith) {
+    this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+    this.ruleType = Objects.requireNonNull(ruleType, "ruleType");
+    this.attributes = ImmutableMap.copyOf(attributes);
+    this.visibilityPatterns = ImmutableSet.copyOf(visibilityPatterns);
+    this.withinViewPatterns = ImmutableSet.copyOf(withinViewPatterns);
+    this.defaultTargetPlatform = defaultTargetPlatform.orElse(null);
+    this.compatibleWith = ImmutableList.copyOf(compatibleWith);
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @JsonProperty("buildTarget")
+  @Override
+  public UnconfiguredBuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return The value of the {@code ruleType} attribute
+   */
+  @JsonProperty("ruleType")
+  @Override
+  public RuleType getRuleType() {
+    return ruleType;
+  }
+
+  /**
+   * @return The value of the {@code attributes} attribute
+   */
+  @JsonProperty("attributes")
+  @Override
+  public ImmutableMap<String, Object> getAttributes() {
+    return attributes;
+  }
+
+  /**
+   * @return The value of the {@code visibilityPatterns} attribute
+   */
+  @JsonProperty("visibilityPatterns")
+  @Override
+  public ImmutableSet<VisibilityPattern> getVisibilityPatterns() {
+    return visibilityPatterns;
+  }
+
+  /**
+   * @return The value of the {@code withinViewPatterns} attribute
+   */
+  @JsonProperty("withinViewPatterns")
+  @Override
+  public ImmutableSet<VisibilityPattern> getWithinViewPatterns() {
+    return withinViewPatterns;
+  }
+
+  /**
+   * @return The value of the {@code defaultTargetPlatform} attribute
+   */
+  @JsonProperty("defaultTargetPlatform")
+  @Override
+  public Optional<UnconfiguredBuildTarget> getDefaultTargetPlatform() {
+    return Optional.ofNullable(defaultTargetPlatform);
+  }
+
+  /**
+   * @return The value of the {@code compatibleWith} attribute
+   */
+  @JsonProperty("compatibleWith")
+  @Override
+  public ImmutableList<UnconfiguredBuildTarget> getCompatibleWith() {
+    return compatibleWith;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableImmutableUnconfiguredTargetNode} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableImmutableUnconfiguredTargetNode
+        && equalTo((ImmutableImmutableUnconfiguredTargetNode) another);
+  }
+
+  private boolean equalTo(ImmutableImmutableUnconfiguredTargetNode another) {
+    if (hashCode != another.hashCode) return false;
+    return buildTarget.equals(another.buildTarget)
+        && ruleType.equals(another.ruleType)
+        && attributes.equals(another.attributes)
+        && visibilityPatterns.equals(another.visibilityPatterns)
+        && withinViewPatterns.equals(another.withinViewPatterns)
+        && Objects.equals(defaultTargetPlatform, another.defaultTargetPlatform)
+        && compatibleWith.equals(another.compatibleWith);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code buildTarget}, {@code ruleType}, {@code attributes}, {@code visibilityPatterns}, {@code withinViewPatterns}, {@code defaultTargetPlatform}, {@code compatibleWith}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buildTarget.hashCode();
+    h += (h << 5) + ruleType.hashCode();
+    h += (h << 5) + attributes.hashCode();
+    h += (h << 5) + visibilityPatterns.hashCode();
+    h += (h << 5) + withinViewPatterns.hashCode();
+    h += (h << 5) + Objects.hashCode(defaultTargetPlatform);
+    h += (h << 5) + compatibleWith.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ImmutableUnconfiguredTargetNode} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ImmutableUnconfiguredTargetNode")
+        .omitNullValues()
+        .add("buildTarget", buildTarget)
+        .add("ruleType", ruleType)
+        .add("attributes", attributes)
+        .add("visibilityPatterns", visibilityPatterns)
+        .add("withinViewPatterns", withinViewPatterns)
+        .add("defaultTargetPlatform", defaultTargetPlatform)
+        .add("compatibleWith", compatibleWith)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "ImmutableUnconfiguredTargetNode", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json
+      extends ImmutableUnconfiguredTargetNode {
+    @Nullable UnconfiguredBuildTarget buildTarget;
+    @Nullable RuleType ruleType;
+    @Nullable ImmutableMap<String, Object> attributes = ImmutableMap.of();
+    @Nullable ImmutableSet<VisibilityPattern> visibilityPatterns = ImmutableSet.of();
+    @Nullable ImmutableSet<VisibilityPattern> withinViewPatterns = ImmutableSet.of();
+    @Nullable Optional<UnconfiguredBuildTarget> defaultTargetPlatform = Optional.empty();
+    @Nullable ImmutableList<UnconfiguredBuildTarget> compatibleWith = ImmutableList.of();
+    @JsonProperty("buildTarget")
+    public void setBuildTarget(UnconfiguredBuildTarget buildTarget) {
+      this.buildTarget = buildTarget;
+    }
+    @JsonProperty("ruleType")
+    public void setRuleType(RuleType ruleType) {
+      this.ruleType = ruleType;
+    }
+    @JsonProperty("attributes")
+    public void setAttributes(ImmutableMap<String, Object> attributes) {
+      this.attributes = attributes;
+    }
+    @JsonProperty("visibilityPatterns")
+    public void setVisibilityPatterns(ImmutableSet<VisibilityPattern> visibilityPatterns) {
+      this.visibilityPatterns = visibilityPatterns;
+    }
+    @JsonProperty("withinViewPatterns")
+    public void setWithinViewPatterns(ImmutableSet<VisibilityPattern> withinViewPatterns) {
+      this.withinViewPatterns = withinViewPatterns;
+    }
+    @JsonProperty("defaultTargetPlatform")
+    public void setDefaultTargetPlatform(Optional<UnconfiguredBuildTarget> defaultTargetPlatform) {
+      this.defaultTargetPlatform = defaultTargetPlatform;
+    }
+    @JsonProperty("compatibleWith")
+    public void setCompatibleWith(ImmutableList<UnconfiguredBuildTarget> compatibleWith) {
+      this.compatibleWith = compatibleWith;
+    }
+    @Override
+    public UnconfiguredBuildTarget getBuildTarget() { throw new UnsupportedOperationException(); }
+    @Override
+    public RuleType getRuleType() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableMap<String, Object> getAttributes() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableSet<VisibilityPattern> getVisibilityPatterns() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableSet<VisibilityPattern> getWithinViewPatterns() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<UnconfiguredBuildTarget> getDefaultTargetPlatform() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableList<UnconfiguredBuildTarget> getCompatibleWith() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableImmutableUnconfiguredTargetNode fromJson(Json json) {
+    ImmutableImmutableUnconfiguredTargetNode instance = ImmutableImmutableUnconfiguredTargetNode.of(json.buildTarget, json.ruleType, json.attributes, json.visibilityPatterns, json.withinViewPatterns, json.defaultTargetPlatform, json.compatibleWith);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code ImmutableUnconfiguredTargetNode} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param ruleType The value for the {@code ruleType} attribute
+   * @param attributes The value for the {@code attributes} attribute
+   * @param visibilityPatterns The value for the {@code visibilityPatterns} attribute
+   * @param withinViewPatterns The value for the {@code withinViewPatterns} attribute
+   * @param defaultTargetPlatform The value for the {@code defaultTargetPlatform} attribute
+   * @param compatibleWith The value for the {@code compatibleWith} attribute
+   * @return An immutable ImmutableUnconfiguredTargetNode instance
+   */
+  public static ImmutableImmutableUnconfiguredTargetNode of(UnconfiguredBuildTarget buildTarget, RuleType ruleType, ImmutableMap<String, Object> attributes, ImmutableSet<VisibilityPattern> visibilityPatterns, ImmutableSet<VisibilityPattern> withinViewPatterns, Optional<UnconfiguredBuildTarget> defaultTargetPlatform, ImmutableList<UnconfiguredBuildTarget> compatibleWith) {
+    return of(buildTarget, ruleType, attributes, (Iterable<? extends VisibilityPattern>) visibilityPatterns, (Iterable<? extends VisibilityPattern>) withinViewPatterns, defaultTargetPlatform, (Iterable<? extends UnconfiguredBuildTarget>) compatibleWith);
+  }
+
+  /**
+   * Construct a new immutable {@code ImmutableUnconfiguredTargetNode} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param ruleType The value for the {@code ruleType} attribute
+   * @param attributes The value for the {@code attributes} attribute
+   * @param visibilityPatterns The value for the {@code visibilityPatterns} attribute
+   * @param withinViewPatterns The value for the {@code withinViewPatterns} attribute
+   * @param defaultTargetPlatform The value for the {@code defaultTargetPlatform} attribute
+   * @param compatibleWith The value for the {@code compatibleWith} attribute
+   * @return An immutable ImmutableUnconfiguredTargetNode instance
+   */
+  public static ImmutableImmutableUnconfiguredTargetNode of(UnconfiguredBuildTarget buildTarget, RuleType ruleType, Map<String, ? extends Object> attributes, Iterable<? extends VisibilityPattern> visibilityPatterns, Iterable<? extends VisibilityPattern> withinViewPatterns, Optional<? extends UnconfiguredBuildTarget> defaultTargetPlatform, Iterable<? extends UnconfiguredBuildTarget> compatibleWith) {
+    return new ImmutableImmutableUnconfiguredTargetNode(buildTarget, ruleType, attributes, visibilityPatterns, withinViewPatterns, defaultTargetPlatform, compatibleWith);
+  }
+}
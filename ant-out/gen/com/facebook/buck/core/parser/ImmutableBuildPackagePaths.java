@@ -0,0 +1,87 @@
+package com.facebook.buck.core.parser;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuildPackagePaths}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildPackagePaths.of()}.
+ */
+@Generated(from = "BuildPackagePaths", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildPackagePaths extends BuildPackagePaths {
+  private final ImmutableSortedSet<Path> packageRoots;
+
+  private ImmutableBuildPackagePaths(ImmutableSortedSet<Path> packageRoots) {
+    this.packageRoots = Objects.requireNonNull(packageRoots, "packageRoots");
+  }
+
+  /**
+   * @return The value of the {@code packageRoots} attribute
+   */
+  @Override
+  public ImmutableSortedSet<Path> getPackageRoots() {
+    return packageRoots;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildPackagePaths} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildPackagePaths
+        && equalTo((ImmutableBuildPackagePaths) another);
+  }
+
+  private boolean equalTo(ImmutableBuildPackagePaths another) {
+    return packageRoots.equals(another.packageRoots);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code packageRoots}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + packageRoots.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildPackagePaths} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildPackagePaths")
+        .omitNullValues()
+        .add("packageRoots", packageRoots)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuildPackagePaths} instance.
+   * @param packageRoots The value for the {@code packageRoots} attribute
+   * @return An immutable BuildPackagePaths instance
+   */
+  public static ImmutableBuildPackagePaths of(ImmutableSortedSet<Path> packageRoots) {
+    return new ImmutableBuildPackagePaths(packageRoots);
+  }
+}
@@ -0,0 +1,94 @@
+package com.facebook.buck.core.parser;
+
+import com.facebook.buck.core.parser.buildtargetpattern.BuildTargetPattern;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuildTargetPatternToBuildPackagePathKey}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildTargetPatternToBuildPackagePathKey.of()}.
+ */
+@Generated(from = "BuildTargetPatternToBuildPackagePathKey", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildTargetPatternToBuildPackagePathKey
+    extends BuildTargetPatternToBuildPackagePathKey {
+  private final BuildTargetPattern pattern;
+  private transient final int hashCode;
+
+  private ImmutableBuildTargetPatternToBuildPackagePathKey(BuildTargetPattern pattern) {
+    this.pattern = Objects.requireNonNull(pattern, "pattern");
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code pattern} attribute
+   */
+  @Override
+  public BuildTargetPattern getPattern() {
+    return pattern;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildTargetPatternToBuildPackagePathKey} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildTargetPatternToBuildPackagePathKey
+        && equalTo((ImmutableBuildTargetPatternToBuildPackagePathKey) another);
+  }
+
+  private boolean equalTo(ImmutableBuildTargetPatternToBuildPackagePathKey another) {
+    if (hashCode != another.hashCode) return false;
+    return pattern.equals(another.pattern);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code pattern}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + pattern.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildTargetPatternToBuildPackagePathKey} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildTargetPatternToBuildPackagePathKey")
+        .omitNullValues()
+        .add("pattern", pattern)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuildTargetPatternToBuildPackagePathKey} instance.
+   * @param pattern The value for the {@code pattern} attribute
+   * @return An immutable BuildTargetPatternToBuildPackagePathKey instance
+   */
+  public static ImmutableBuildTargetPatternToBuildPackagePathKey of(BuildTargetPattern pattern) {
+    return new ImmutableBuildTargetPatternToBuildPackagePathKey(pattern);
+  }
+}
@@ -0,0 +1,74 @@
+package com.facebook.buck.core.parser.buildtargetparser;
+
+import com.facebook.buck.core.model.CellRelativePath;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ImmediateDirectoryBuildTargetMatcher}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableImmediateDirectoryBuildTargetMatcher.of()}.
+ */
+@Generated(from = "ImmediateDirectoryBuildTargetMatcher", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableImmediateDirectoryBuildTargetMatcher
+    extends ImmediateDirectoryBuildTargetMatcher {
+  private final CellRelativePath cellRelativeBasePath;
+
+  private ImmutableImmediateDirectoryBuildTargetMatcher(CellRelativePath cellRelativeBasePath) {
+    this.cellRelativeBasePath = Objects.requireNonNull(cellRelativeBasePath, "cellRelativeBasePath");
+  }
+
+  /**
+   * @return The value of the {@code cellRelativeBasePath} attribute
+   */
+  @Override
+  protected CellRelativePath getCellRelativeBasePath() {
+    return cellRelativeBasePath;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableImmediateDirectoryBuildTargetMatcher} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableImmediateDirectoryBuildTargetMatcher
+        && equalTo((ImmutableImmediateDirectoryBuildTargetMatcher) another);
+  }
+
+  private boolean equalTo(ImmutableImmediateDirectoryBuildTargetMatcher another) {
+    return cellRelativeBasePath.equals(another.cellRelativeBasePath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cellRelativeBasePath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + cellRelativeBasePath.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code ImmediateDirectoryBuildTargetMatcher} instance.
+   * @param cellRelativeBasePath The value for the {@code cellRelativeBasePath} attribute
+   * @return An immutable ImmediateDirectoryBuildTargetMatcher instance
+   */
+  public static ImmutableImmediateDirectoryBuildTargetMatcher of(CellRelativePath cellRelativeBasePath) {
+    return new ImmutableImmediateDirectoryBuildTargetMatcher(cellRelativeBasePath);
+  }
+}
@@ -0,0 +1,107 @@
+package com.facebook.buck.core.rules;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.rules.providers.collect.ProviderInfoCollection;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ProviderCreationContext}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableProviderCreationContext.of()}.
+ */
+@Generated(from = "ProviderCreationContext", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableProviderCreationContext
+    implements ProviderCreationContext {
+  private final ImmutableMap<BuildTarget, ProviderInfoCollection> dependencies;
+  private final ProjectFilesystem projectFilesystem;
+
+  private ImmutableProviderCreationContext(
+      Map<? extends BuildTarget, ? extends ProviderInfoCollection> dependencies,
+      ProjectFilesystem projectFilesystem) {
+    this.dependencies = ImmutableMap.copyOf(dependencies);
+    this.projectFilesystem = Objects.requireNonNull(projectFilesystem, "projectFilesystem");
+  }
+
+  /**
+   * @return The value of the {@code dependencies} attribute
+   */
+  @Override
+  public ImmutableMap<BuildTarget, ProviderInfoCollection> dependencies() {
+    return dependencies;
+  }
+
+  /**
+   * @return The value of the {@code projectFilesystem} attribute
+   */
+  @Override
+  public ProjectFilesystem getProjectFilesystem() {
+    return projectFilesystem;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableProviderCreationContext} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableProviderCreationContext
+        && equalTo((ImmutableProviderCreationContext) another);
+  }
+
+  private boolean equalTo(ImmutableProviderCreationContext another) {
+    return dependencies.equals(another.dependencies)
+        && projectFilesystem.equals(another.projectFilesystem);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code dependencies}, {@code projectFilesystem}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + dependencies.hashCode();
+    h += (h << 5) + projectFilesystem.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ProviderCreationContext} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ProviderCreationContext")
+        .omitNullValues()
+        .add("dependencies", dependencies)
+        .add("projectFilesystem", projectFilesystem)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ProviderCreationContext} instance.
+   * @param dependencies The value for the {@code dependencies} attribute
+   * @param projectFilesystem The value for the {@code projectFilesystem} attribute
+   * @return An immutable ProviderCreationContext instance
+   */
+  public static ImmutableProviderCreationContext of(Map<? extends BuildTarget, ? extends ProviderInfoCollection> dependencies, ProjectFilesystem projectFilesystem) {
+    return new ImmutableProviderCreationContext(dependencies, projectFilesystem);
+  }
+}
@@ -0,0 +1,153 @@
+package com.facebook.buck.core.rules.actions;
+
+import com.facebook.buck.core.artifact.ArtifactFilesystem;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.util.ProcessExecutor;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ActionExecutionContext}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableActionExecutionContext.of()}.
+ */
+@Generated(from = "ActionExecutionContext", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableActionExecutionContext
+    extends ActionExecutionContext {
+  private final BuckEventBus buckEventBus;
+  private final ArtifactFilesystem artifactFilesystem;
+  private final ProcessExecutor processExecutor;
+  private final ImmutableMap<String, String> environment;
+  private final Path workingDirectory;
+
+  private ImmutableActionExecutionContext(
+      BuckEventBus buckEventBus,
+      ArtifactFilesystem artifactFilesystem,
+      ProcessExecutor processExecutor,
+      Map<String, ? extends String> environment,
+      Path workingDirectory) {
+    this.buckEventBus = Objects.requireNonNull(buckEventBus, "buckEventBus");
+    this.artifactFilesystem = Objects.requireNonNull(artifactFilesystem, "artifactFilesystem");
+    this.processExecutor = Objects.requireNonNull(processExecutor, "processExecutor");
+    this.environment = ImmutableMap.copyOf(environment);
+    this.workingDirectory = Objects.requireNonNull(workingDirectory, "workingDirectory");
+  }
+
+  /**
+   * @return The value of the {@code buckEventBus} attribute
+   */
+  @Override
+  protected BuckEventBus getBuckEventBus() {
+    return buckEventBus;
+  }
+
+  /**
+   * @return The value of the {@code artifactFilesystem} attribute
+   */
+  @Override
+  public ArtifactFilesystem getArtifactFilesystem() {
+    return artifactFilesystem;
+  }
+
+  /**
+   * @return The value of the {@code processExecutor} attribute
+   */
+  @Override
+  public ProcessExecutor getProcessExecutor() {
+    return processExecutor;
+  }
+
+  /**
+   * @return The value of the {@code environment} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getEnvironment() {
+    return environment;
+  }
+
+  /**
+   * @return The value of the {@code workingDirectory} attribute
+   */
+  @Override
+  public Path getWorkingDirectory() {
+    return workingDirectory;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableActionExecutionContext} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableActionExecutionContext
+        && equalTo((ImmutableActionExecutionContext) another);
+  }
+
+  private boolean equalTo(ImmutableActionExecutionContext another) {
+    return buckEventBus.equals(another.buckEventBus)
+        && artifactFilesystem.equals(another.artifactFilesystem)
+        && processExecutor.equals(another.processExecutor)
+        && environment.equals(another.environment)
+        && workingDirectory.equals(another.workingDirectory);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buckEventBus}, {@code artifactFilesystem}, {@code processExecutor}, {@code environment}, {@code workingDirectory}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buckEventBus.hashCode();
+    h += (h << 5) + artifactFilesystem.hashCode();
+    h += (h << 5) + processExecutor.hashCode();
+    h += (h << 5) + environment.hashCode();
+    h += (h << 5) + workingDirectory.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ActionExecutionContext} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ActionExecutionContext")
+        .omitNullValues()
+        .add("buckEventBus", buckEventBus)
+        .add("artifactFilesystem", artifactFilesystem)
+        .add("processExecutor", processExecutor)
+        .add("environment", environment)
+        .add("workingDirectory", workingDirectory)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ActionExecutionContext} instance.
+   * @param buckEventBus The value for the {@code buckEventBus} attribute
+   * @param artifactFilesystem The value for the {@code artifactFilesystem} attribute
+   * @param processExecutor The value for the {@code processExecutor} attribute
+   * @param environment The value for the {@code environment} attribute
+   * @param workingDirectory The value for the {@code workingDirectory} attribute
+   * @return An immutable ActionExecutionContext instance
+   */
+  public static ImmutableActionExecutionContext of(BuckEventBus buckEventBus, ArtifactFilesystem artifactFilesystem, ProcessExecutor processExecutor, Map<String, ? extends String> environment, Path workingDirectory) {
+    return new ImmutableActionExecutionContext(buckEventBus, artifactFilesystem, processExecutor, environment, workingDirectory);
+  }
+}
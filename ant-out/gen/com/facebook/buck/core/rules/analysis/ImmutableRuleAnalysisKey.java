@@ -0,0 +1,93 @@
+package com.facebook.buck.core.rules.analysis;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link RuleAnalysisKey}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableRuleAnalysisKey.of()}.
+ */
+@Generated(from = "RuleAnalysisKey", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableRuleAnalysisKey extends RuleAnalysisKey {
+  private final BuildTarget buildTarget;
+  private transient final int hashCode;
+
+  private ImmutableRuleAnalysisKey(BuildTarget buildTarget) {
+    this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableRuleAnalysisKey} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableRuleAnalysisKey
+        && equalTo((ImmutableRuleAnalysisKey) another);
+  }
+
+  private boolean equalTo(ImmutableRuleAnalysisKey another) {
+    if (hashCode != another.hashCode) return false;
+    return buildTarget.equals(another.buildTarget);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code buildTarget}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buildTarget.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RuleAnalysisKey} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RuleAnalysisKey")
+        .omitNullValues()
+        .add("buildTarget", buildTarget)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code RuleAnalysisKey} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @return An immutable RuleAnalysisKey instance
+   */
+  public static ImmutableRuleAnalysisKey of(BuildTarget buildTarget) {
+    return new ImmutableRuleAnalysisKey(buildTarget);
+  }
+}
@@ -0,0 +1,104 @@
+package com.facebook.buck.core.rules.analysis.impl;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.rules.providers.collect.ProviderInfoCollection;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link LegacyProviderRuleAnalysisResult}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableLegacyProviderRuleAnalysisResult.of()}.
+ */
+@Generated(from = "LegacyProviderRuleAnalysisResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableLegacyProviderRuleAnalysisResult
+    extends LegacyProviderRuleAnalysisResult {
+  private final BuildTarget buildTarget;
+  private final ProviderInfoCollection providerInfos;
+
+  private ImmutableLegacyProviderRuleAnalysisResult(
+      BuildTarget buildTarget,
+      ProviderInfoCollection providerInfos) {
+    this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+    this.providerInfos = Objects.requireNonNull(providerInfos, "providerInfos");
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return The value of the {@code providerInfos} attribute
+   */
+  @Override
+  public ProviderInfoCollection getProviderInfos() {
+    return providerInfos;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableLegacyProviderRuleAnalysisResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableLegacyProviderRuleAnalysisResult
+        && equalTo((ImmutableLegacyProviderRuleAnalysisResult) another);
+  }
+
+  private boolean equalTo(ImmutableLegacyProviderRuleAnalysisResult another) {
+    return buildTarget.equals(another.buildTarget)
+        && providerInfos.equals(another.providerInfos);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildTarget}, {@code providerInfos}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buildTarget.hashCode();
+    h += (h << 5) + providerInfos.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code LegacyProviderRuleAnalysisResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("LegacyProviderRuleAnalysisResult")
+        .omitNullValues()
+        .add("buildTarget", buildTarget)
+        .add("providerInfos", providerInfos)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code LegacyProviderRuleAnalysisResult} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param providerInfos The value for the {@code providerInfos} attribute
+   * @return An immutable LegacyProviderRuleAnalysisResult instance
+   */
+  public static ImmutableLegacyProviderRuleAnalysisResult of(BuildTarget buildTarget, ProviderInfoCollection providerInfos) {
+    return new ImmutableLegacyProviderRuleAnalysisResult(buildTarget, providerInfos);
+  }
+}
@@ -0,0 +1,122 @@
+package com.facebook.buck.core.rules.analysis.impl;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.rules.analysis.action.ActionAnalysisData;
+import com.facebook.buck.core.rules.providers.collect.ProviderInfoCollection;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link RuleAnalysisResultImpl}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableRuleAnalysisResultImpl.of()}.
+ */
+@Generated(from = "RuleAnalysisResultImpl", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableRuleAnalysisResultImpl
+    extends RuleAnalysisResultImpl {
+  private final BuildTarget buildTarget;
+  private final ProviderInfoCollection providerInfos;
+  private final ImmutableMap<ActionAnalysisData.ID, ActionAnalysisData> registeredActions;
+
+  private ImmutableRuleAnalysisResultImpl(
+      BuildTarget buildTarget,
+      ProviderInfoCollection providerInfos,
+      Map<? extends ActionAnalysisData.ID, ? extends ActionAnalysisData> registeredActions) {
+    this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+    this.providerInfos = Objects.requireNonNull(providerInfos, "providerInfos");
+    this.registeredActions = ImmutableMap.copyOf(registeredActions);
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return The value of the {@code providerInfos} attribute
+   */
+  @Override
+  public ProviderInfoCollection getProviderInfos() {
+    return providerInfos;
+  }
+
+  /**
+   * @return The value of the {@code registeredActions} attribute
+   */
+  @Override
+  public ImmutableMap<ActionAnalysisData.ID, ActionAnalysisData> getRegisteredActions() {
+    return registeredActions;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableRuleAnalysisResultImpl} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableRuleAnalysisResultImpl
+        && equalTo((ImmutableRuleAnalysisResultImpl) another);
+  }
+
+  private boolean equalTo(ImmutableRuleAnalysisResultImpl another) {
+    return buildTarget.equals(another.buildTarget)
+        && providerInfos.equals(another.providerInfos)
+        && registeredActions.equals(another.registeredActions);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildTarget}, {@code providerInfos}, {@code registeredActions}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buildTarget.hashCode();
+    h += (h << 5) + providerInfos.hashCode();
+    h += (h << 5) + registeredActions.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RuleAnalysisResultImpl} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RuleAnalysisResultImpl")
+        .omitNullValues()
+        .add("buildTarget", buildTarget)
+        .add("providerInfos", providerInfos)
+        .add("registeredActions", registeredActions)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code RuleAnalysisResultImpl} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param providerInfos The value for the {@code providerInfos} attribute
+   * @param registeredActions The value for the {@code registeredActions} attribute
+   * @return An immutable RuleAnalysisResultImpl instance
+   */
+  public static ImmutableRuleAnalysisResultImpl of(BuildTarget buildTarget, ProviderInfoCollection providerInfos, Map<? extends ActionAnalysisData.ID, ? extends ActionAnalysisData> registeredActions) {
+    return new ImmutableRuleAnalysisResultImpl(buildTarget, providerInfos, registeredActions);
+  }
+}
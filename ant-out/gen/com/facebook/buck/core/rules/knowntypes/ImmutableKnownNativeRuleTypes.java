@@ -0,0 +1,219 @@
+package com.facebook.buck.core.rules.knowntypes;
+
+import com.facebook.buck.core.description.BaseDescription;
+import com.facebook.buck.core.description.Description;
+import com.facebook.buck.core.model.RuleType;
+import com.facebook.buck.core.rules.config.ConfigurationRuleDescription;
+import com.facebook.buck.core.rules.providers.impl.BuiltInProvider;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link KnownNativeRuleTypes}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableKnownNativeRuleTypes.of()}.
+ */
+@Generated(from = "KnownNativeRuleTypes", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableKnownNativeRuleTypes
+    extends KnownNativeRuleTypes {
+  private final ImmutableList<Description<?>> knownBuildDescriptions;
+  private final ImmutableList<ConfigurationRuleDescription<?, ?>> knownConfigurationDescriptions;
+  private final ImmutableList<BuiltInProvider<?>> perFeatureProviders;
+
+  private ImmutableKnownNativeRuleTypes(
+      Iterable<? extends Description<?>> knownBuildDescriptions,
+      Iterable<? extends ConfigurationRuleDescription<?, ?>> knownConfigurationDescriptions,
+      Iterable<? extends BuiltInProvider<?>> perFeatureProviders) {
+    this.knownBuildDescriptions = ImmutableList.copyOf(knownBuildDescriptions);
+    this.knownConfigurationDescriptions = ImmutableList.copyOf(knownConfigurationDescriptions);
+    this.perFeatureProviders = ImmutableList.copyOf(perFeatureProviders);
+  }
+
+  /**
+   * @return The value of the {@code knownBuildDescriptions} attribute
+   */
+  @Override
+  public ImmutableList<Description<?>> getKnownBuildDescriptions() {
+    return knownBuildDescriptions;
+  }
+
+  /**
+   * @return The value of the {@code knownConfigurationDescriptions} attribute
+   */
+  @Override
+  public ImmutableList<ConfigurationRuleDescription<?, ?>> getKnownConfigurationDescriptions() {
+    return knownConfigurationDescriptions;
+  }
+
+  /**
+   * @return The value of the {@code perFeatureProviders} attribute
+   */
+  @Override
+  public ImmutableList<BuiltInProvider<?>> getPerFeatureProviders() {
+    return perFeatureProviders;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableKnownNativeRuleTypes} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableKnownNativeRuleTypes
+        && equalTo((ImmutableKnownNativeRuleTypes) another);
+  }
+
+  private boolean equalTo(ImmutableKnownNativeRuleTypes another) {
+    return knownBuildDescriptions.equals(another.knownBuildDescriptions)
+        && knownConfigurationDescriptions.equals(another.knownConfigurationDescriptions)
+        && perFeatureProviders.equals(another.perFeatureProviders);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code knownBuildDescriptions}, {@code knownConfigurationDescriptions}, {@code perFeatureProviders}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + knownBuildDescriptions.hashCode();
+    h += (h << 5) + knownConfigurationDescriptions.hashCode();
+    h += (h << 5) + perFeatureProviders.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code KnownNativeRuleTypes} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("KnownNativeRuleTypes")
+        .omitNullValues()
+        .add("knownBuildDescriptions", knownBuildDescriptions)
+        .add("knownConfigurationDescriptions", knownConfigurationDescriptions)
+        .add("perFeatureProviders", perFeatureProviders)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long NATIVE_TYPES_BY_NAME_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableMap<String, RuleType> nativeTypesByName;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link KnownNativeRuleTypes#getNativeTypesByName() nativeTypesByName} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code nativeTypesByName} attribute
+   */
+  @Override
+  public ImmutableMap<String, RuleType> getNativeTypesByName() {
+    if ((lazyInitBitmap & NATIVE_TYPES_BY_NAME_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & NATIVE_TYPES_BY_NAME_LAZY_INIT_BIT) == 0) {
+          this.nativeTypesByName = Objects.requireNonNull(super.getNativeTypesByName(), "nativeTypesByName");
+          lazyInitBitmap |= NATIVE_TYPES_BY_NAME_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return nativeTypesByName;
+  }
+
+  private static final long DESCRIPTIONS_LAZY_INIT_BIT = 0x2L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableList<BaseDescription<?>> descriptions;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link KnownNativeRuleTypes#getDescriptions() descriptions} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code descriptions} attribute
+   */
+  @Override
+  public ImmutableList<BaseDescription<?>> getDescriptions() {
+    if ((lazyInitBitmap & DESCRIPTIONS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & DESCRIPTIONS_LAZY_INIT_BIT) == 0) {
+          this.descriptions = Objects.requireNonNull(super.getDescriptions(), "descriptions");
+          lazyInitBitmap |= DESCRIPTIONS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return descriptions;
+  }
+
+  private static final long DESCRIPTIONS_BY_RULE_LAZY_INIT_BIT = 0x4L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableMap<RuleType, BaseDescription<?>> descriptionsByRule;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link KnownNativeRuleTypes#getDescriptionsByRule() descriptionsByRule} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code descriptionsByRule} attribute
+   */
+  @Override
+  public ImmutableMap<RuleType, BaseDescription<?>> getDescriptionsByRule() {
+    if ((lazyInitBitmap & DESCRIPTIONS_BY_RULE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & DESCRIPTIONS_BY_RULE_LAZY_INIT_BIT) == 0) {
+          this.descriptionsByRule = Objects.requireNonNull(super.getDescriptionsByRule(), "descriptionsByRule");
+          lazyInitBitmap |= DESCRIPTIONS_BY_RULE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return descriptionsByRule;
+  }
+
+  /**
+   * Construct a new immutable {@code KnownNativeRuleTypes} instance.
+   * @param knownBuildDescriptions The value for the {@code knownBuildDescriptions} attribute
+   * @param knownConfigurationDescriptions The value for the {@code knownConfigurationDescriptions} attribute
+   * @param perFeatureProviders The value for the {@code perFeatureProviders} attribute
+   * @return An immutable KnownNativeRuleTypes instance
+   */
+  public static ImmutableKnownNativeRuleTypes of(ImmutableList<Description<?>> knownBuildDescriptions, ImmutableList<ConfigurationRuleDescription<?, ?>> knownConfigurationDescriptions, ImmutableList<BuiltInProvider<?>> perFeatureProviders) {
+    return of((Iterable<? extends Description<?>>) knownBuildDescriptions, (Iterable<? extends ConfigurationRuleDescription<?, ?>>) knownConfigurationDescriptions, (Iterable<? extends BuiltInProvider<?>>) perFeatureProviders);
+  }
+
+  /**
+   * Construct a new immutable {@code KnownNativeRuleTypes} instance.
+   * @param knownBuildDescriptions The value for the {@code knownBuildDescriptions} attribute
+   * @param knownConfigurationDescriptions The value for the {@code knownConfigurationDescriptions} attribute
+   * @param perFeatureProviders The value for the {@code perFeatureProviders} attribute
+   * @return An immutable KnownNativeRuleTypes instance
+   */
+  public static ImmutableKnownNativeRuleTypes of(Iterable<? extends Description<?>> knownBuildDescriptions, Iterable<? extends ConfigurationRuleDescription<?, ?>> knownConfigurationDescriptions, Iterable<? extends BuiltInProvider<?>> perFeatureProviders) {
+    return validate(new ImmutableKnownNativeRuleTypes(knownBuildDescriptions, knownConfigurationDescriptions, perFeatureProviders));
+  }
+
+
+  private static ImmutableKnownNativeRuleTypes validate(ImmutableKnownNativeRuleTypes instance) {
+    instance.check();
+    return instance;
+  }
+}
@@ -0,0 +1,123 @@
+package com.facebook.buck.core.rules.knowntypes;
+
+import com.facebook.buck.core.description.BaseDescription;
+import com.facebook.buck.core.description.arg.ConstructorArg;
+import com.facebook.buck.core.model.RuleType;
+import com.facebook.buck.rules.coercer.DataTransferObjectDescriptor;
+import com.facebook.buck.rules.coercer.TypeCoercerFactory;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.function.Function;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link RuleDescriptor}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableRuleDescriptor.<T>of()}.
+ */
+@Generated(from = "RuleDescriptor", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableRuleDescriptor<T extends ConstructorArg>
+    extends RuleDescriptor<T> {
+  private final RuleType ruleType;
+  private final BaseDescription<T> description;
+  private final Function<TypeCoercerFactory, DataTransferObjectDescriptor<T>> dtoDescriptor;
+
+  private ImmutableRuleDescriptor(
+      RuleType ruleType,
+      BaseDescription<T> description,
+      Function<TypeCoercerFactory, DataTransferObjectDescriptor<T>> dtoDescriptor) {
+    this.ruleType = Objects.requireNonNull(ruleType, "ruleType");
+    this.description = Objects.requireNonNull(description, "description");
+    this.dtoDescriptor = Objects.requireNonNull(dtoDescriptor, "dtoDescriptor");
+  }
+
+  /**
+   * @return The value of the {@code ruleType} attribute
+   */
+  @Override
+  public RuleType getRuleType() {
+    return ruleType;
+  }
+
+  /**
+   * @return The value of the {@code description} attribute
+   */
+  @Override
+  public BaseDescription<T> getDescription() {
+    return description;
+  }
+
+  /**
+   * @return The value of the {@code dtoDescriptor} attribute
+   */
+  @Override
+  public Function<TypeCoercerFactory, DataTransferObjectDescriptor<T>> getDtoDescriptor() {
+    return dtoDescriptor;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableRuleDescriptor} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableRuleDescriptor<?>
+        && equalTo((ImmutableRuleDescriptor<?>) another);
+  }
+
+  private boolean equalTo(ImmutableRuleDescriptor<?> another) {
+    return ruleType.equals(another.ruleType)
+        && description.equals(another.description)
+        && dtoDescriptor.equals(another.dtoDescriptor);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code ruleType}, {@code description}, {@code dtoDescriptor}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + ruleType.hashCode();
+    h += (h << 5) + description.hashCode();
+    h += (h << 5) + dtoDescriptor.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RuleDescriptor} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RuleDescriptor")
+        .omitNullValues()
+        .add("ruleType", ruleType)
+        .add("description", description)
+        .add("dtoDescriptor", dtoDescriptor)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code RuleDescriptor} instance.
+   * @param ruleType The value for the {@code ruleType} attribute
+   * @param description The value for the {@code description} attribute
+   * @param dtoDescriptor The value for the {@code dtoDescriptor} attribute
+   * @return An immutable RuleDescriptor instance
+   */
+  public static <T extends ConstructorArg> ImmutableRuleDescriptor<T> of(RuleType ruleType, BaseDescription<T> description, Function<TypeCoercerFactory, DataTransferObjectDescriptor<T>> dtoDescriptor) {
+    return new ImmutableRuleDescriptor<>(ruleType, description, dtoDescriptor);
+  }
+}
@@ -0,0 +1,308 @@
+package com.facebook.buck.core.rules.platform;
+
+import com.facebook.buck.core.description.arg.ConstructorArg;
+import com.facebook.buck.core.model.UnconfiguredBuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link PlatformDescription.AbstractPlatformArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code PlatformArg.builder()}.
+ */
+@Generated(from = "PlatformDescription.AbstractPlatformArg", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class PlatformArg
+    implements PlatformDescription.AbstractPlatformArg {
+  private final ImmutableSortedSet<UnconfiguredBuildTarget> constraintValues;
+  private final ImmutableSortedSet<UnconfiguredBuildTarget> deps;
+  private final String name;
+
+  private PlatformArg(PlatformArg.Builder builder) {
+    this.constraintValues = builder.constraintValues.build();
+    this.deps = builder.deps.build();
+    this.name = builder.name;
+  }
+
+  /**
+   * @return The value of the {@code constraintValues} attribute
+   */
+  @Override
+  public ImmutableSortedSet<UnconfiguredBuildTarget> getConstraintValues() {
+    return constraintValues;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<UnconfiguredBuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   *Each rule has a name 
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PlatformArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PlatformArg
+        && equalTo((PlatformArg) another);
+  }
+
+  private boolean equalTo(PlatformArg another) {
+    return constraintValues.equals(another.constraintValues)
+        && deps.equals(another.deps)
+        && name.equals(another.name);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code constraintValues}, {@code deps}, {@code name}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + constraintValues.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + name.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PlatformArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PlatformArg")
+        .omitNullValues()
+        .add("constraintValues", constraintValues)
+        .add("deps", deps)
+        .add("name", name)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link PlatformArg PlatformArg}.
+   * @return A new PlatformArg builder
+   */
+  public static PlatformArg.Builder builder() {
+    return new PlatformArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link PlatformArg PlatformArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "PlatformDescription.AbstractPlatformArg", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private ImmutableSortedSet.Builder<UnconfiguredBuildTarget> constraintValues = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<UnconfiguredBuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private @Nullable String name;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code PlatformArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(PlatformArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractPlatformArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(PlatformDescription.AbstractPlatformArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.ConstructorArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(ConstructorArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof PlatformDescription.AbstractPlatformArg) {
+        PlatformDescription.AbstractPlatformArg instance = (PlatformDescription.AbstractPlatformArg) object;
+        addAllConstraintValues(instance.getConstraintValues());
+        addAllDeps(instance.getDeps());
+      }
+      if (object instanceof ConstructorArg) {
+        ConstructorArg instance = (ConstructorArg) object;
+        setName(instance.getName());
+      }
+    }
+
+    /**
+     * Adds one element to {@link PlatformArg#getConstraintValues() constraintValues} sortedSet.
+     * @param element A constraintValues element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addConstraintValues(UnconfiguredBuildTarget element) {
+      this.constraintValues.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PlatformArg#getConstraintValues() constraintValues} sortedSet.
+     * @param elements An array of constraintValues elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addConstraintValues(UnconfiguredBuildTarget... elements) {
+      this.constraintValues.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PlatformArg#getConstraintValues() constraintValues} sortedSet.
+     * @param elements An iterable of constraintValues elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setConstraintValues(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.constraintValues = ImmutableSortedSet.naturalOrder();
+      return addAllConstraintValues(elements);
+    }
+
+    /**
+     * Adds elements to {@link PlatformArg#getConstraintValues() constraintValues} sortedSet.
+     * @param elements An iterable of constraintValues elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllConstraintValues(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.constraintValues.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PlatformArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(UnconfiguredBuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PlatformArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(UnconfiguredBuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PlatformArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDeps(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link PlatformArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllDeps(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PlatformArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link PlatformArg PlatformArg}.
+     * @return An immutable instance of PlatformArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PlatformArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new PlatformArg(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build PlatformArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package com.facebook.buck.core.rules.providers.impl;
+
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuiltInProvider.BuiltInKey}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuiltInKey.<U>of()}.
+ */
+@Generated(from = "BuiltInProvider.BuiltInKey", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuiltInKey<U>
+    extends BuiltInProvider.BuiltInKey<U> {
+  private final Class<?> infoClass;
+  private transient final int hashCode;
+
+  private ImmutableBuiltInKey(Class<?> infoClass) {
+    this.infoClass = Objects.requireNonNull(infoClass, "infoClass");
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code infoClass} attribute
+   */
+  @Override
+  Class<?> getInfoClass() {
+    return infoClass;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuiltInKey} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuiltInKey<?>
+        && equalTo((ImmutableBuiltInKey<?>) another);
+  }
+
+  private boolean equalTo(ImmutableBuiltInKey<?> another) {
+    if (hashCode != another.hashCode) return false;
+    return infoClass.equals(another.infoClass);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code infoClass}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + infoClass.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code BuiltInKey} instance.
+   * @param infoClass The value for the {@code infoClass} attribute
+   * @return An immutable BuiltInKey instance
+   */
+  public static <U> ImmutableBuiltInKey<U> of(Class<?> infoClass) {
+    return new ImmutableBuiltInKey<>(infoClass);
+  }
+}
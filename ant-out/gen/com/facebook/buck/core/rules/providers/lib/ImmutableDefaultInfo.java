@@ -0,0 +1,102 @@
+package com.facebook.buck.core.rules.providers.lib;
+
+import com.facebook.buck.core.artifact.Artifact;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.devtools.build.lib.syntax.SkylarkDict;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Set;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link DefaultInfo}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code new ImmutableDefaultInfo()}.
+ */
+@Generated(from = "DefaultInfo", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class ImmutableDefaultInfo extends DefaultInfo {
+  private final SkylarkDict<String, Set<Artifact>> namedOutputs;
+  private final ImmutableSet<Artifact> defaultOutputs;
+
+  /**
+   * Construct a new immutable {@code DefaultInfo} instance.
+   * @param namedOutputs The value for the {@code namedOutputs} attribute
+   * @param defaultOutputs The value for the {@code defaultOutputs} attribute
+   */
+  public ImmutableDefaultInfo(
+      SkylarkDict<String, Set<Artifact>> namedOutputs,
+      Iterable<? extends Artifact> defaultOutputs) {
+    this.namedOutputs = Objects.requireNonNull(namedOutputs, "namedOutputs");
+    this.defaultOutputs = ImmutableSet.copyOf(defaultOutputs);
+  }
+
+  /**
+   * These are the named outputs of a rule. Named outputs are a mapping of String identifiers to a
+   * set of outputs of the rule that the name maps to.
+   * @return a map of a String, which is the named identifier to a set of outputs.
+   */
+  @Override
+  public SkylarkDict<String, Set<Artifact>> namedOutputs() {
+    return namedOutputs;
+  }
+
+  /**
+   *@return the set of default outputs built by the rule if no output selection is specified. 
+   */
+  @Override
+  public ImmutableSet<Artifact> defaultOutputs() {
+    return defaultOutputs;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableDefaultInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableDefaultInfo
+        && equalTo((ImmutableDefaultInfo) another);
+  }
+
+  private boolean equalTo(ImmutableDefaultInfo another) {
+    return namedOutputs.equals(another.namedOutputs)
+        && defaultOutputs.equals(another.defaultOutputs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code namedOutputs}, {@code defaultOutputs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + namedOutputs.hashCode();
+    h += (h << 5) + defaultOutputs.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DefaultInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DefaultInfo")
+        .omitNullValues()
+        .add("namedOutputs", namedOutputs)
+        .add("defaultOutputs", defaultOutputs)
+        .toString();
+  }
+}
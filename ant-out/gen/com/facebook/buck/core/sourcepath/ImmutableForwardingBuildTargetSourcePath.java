@@ -0,0 +1,86 @@
+package com.facebook.buck.core.sourcepath;
+
+import com.facebook.buck.core.model.BuildTargetWithOutputs;
+import com.google.common.hash.HashCode;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ForwardingBuildTargetSourcePath}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableForwardingBuildTargetSourcePath.of()}.
+ */
+@Generated(from = "ForwardingBuildTargetSourcePath", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableForwardingBuildTargetSourcePath
+    extends ForwardingBuildTargetSourcePath {
+  private final BuildTargetWithOutputs targetWithOutputs;
+  private final SourcePath delegate;
+  private final @Nullable HashCode precomputedHash;
+  private transient final int hashCode;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableForwardingBuildTargetSourcePath(
+      BuildTargetWithOutputs targetWithOutputs,
+      SourcePath delegate,
+      Optional<? extends HashCode> precomputedHash) {
+    this.targetWithOutputs = Objects.requireNonNull(targetWithOutputs, "targetWithOutputs");
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+    this.precomputedHash = precomputedHash.orElse(null);
+    this.hashCode = super.hashCode();
+  }
+
+  /**
+   * @return The value of the {@code targetWithOutputs} attribute
+   */
+  @Override
+  public BuildTargetWithOutputs getTargetWithOutputs() {
+    return targetWithOutputs;
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public SourcePath getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * @return The value of the {@code precomputedHash} attribute
+   */
+  @Override
+  public Optional<HashCode> getPrecomputedHash() {
+    return Optional.ofNullable(precomputedHash);
+  }
+
+  /**
+   * Returns the precomputed-on-construction hash code from the supertype implementation of {@code super.hashCode()}.
+   * @return The hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  /**
+   * Construct a new immutable {@code ForwardingBuildTargetSourcePath} instance.
+   * @param targetWithOutputs The value for the {@code targetWithOutputs} attribute
+   * @param delegate The value for the {@code delegate} attribute
+   * @param precomputedHash The value for the {@code precomputedHash} attribute
+   * @return An immutable ForwardingBuildTargetSourcePath instance
+   */
+  public static ImmutableForwardingBuildTargetSourcePath of(BuildTargetWithOutputs targetWithOutputs, SourcePath delegate, Optional<? extends HashCode> precomputedHash) {
+    return new ImmutableForwardingBuildTargetSourcePath(targetWithOutputs, delegate, precomputedHash);
+  }
+}
@@ -0,0 +1,162 @@
+package com.facebook.buck.core.starlark.rule.attr.impl;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.lang.reflect.Type;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link OutputListAttribute}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableOutputListAttribute.of()}.
+ */
+@Generated(from = "OutputListAttribute", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableOutputListAttribute
+    extends OutputListAttribute {
+  private final Object preCoercionDefaultValue;
+  private final String doc;
+  private final boolean mandatory;
+  private final boolean allowEmpty;
+
+  private ImmutableOutputListAttribute(
+      Object preCoercionDefaultValue,
+      String doc,
+      boolean mandatory,
+      boolean allowEmpty) {
+    this.preCoercionDefaultValue = Objects.requireNonNull(preCoercionDefaultValue, "preCoercionDefaultValue");
+    this.doc = Objects.requireNonNull(doc, "doc");
+    this.mandatory = mandatory;
+    this.allowEmpty = allowEmpty;
+  }
+
+  /**
+   * @return The value of the {@code preCoercionDefaultValue} attribute
+   */
+  @Override
+  public Object getPreCoercionDefaultValue() {
+    return preCoercionDefaultValue;
+  }
+
+  /**
+   * @return The value of the {@code doc} attribute
+   */
+  @Override
+  public String getDoc() {
+    return doc;
+  }
+
+  /**
+   * @return The value of the {@code mandatory} attribute
+   */
+  @Override
+  public boolean getMandatory() {
+    return mandatory;
+  }
+
+  /**
+   * @return The value of the {@code allowEmpty} attribute
+   */
+  @Override
+  public boolean getAllowEmpty() {
+    return allowEmpty;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableOutputListAttribute} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableOutputListAttribute
+        && equalTo((ImmutableOutputListAttribute) another);
+  }
+
+  private boolean equalTo(ImmutableOutputListAttribute another) {
+    return preCoercionDefaultValue.equals(another.preCoercionDefaultValue)
+        && doc.equals(another.doc)
+        && mandatory == another.mandatory
+        && allowEmpty == another.allowEmpty;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code preCoercionDefaultValue}, {@code doc}, {@code mandatory}, {@code allowEmpty}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + preCoercionDefaultValue.hashCode();
+    h += (h << 5) + doc.hashCode();
+    h += (h << 5) + Booleans.hashCode(mandatory);
+    h += (h << 5) + Booleans.hashCode(allowEmpty);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code OutputListAttribute} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("OutputListAttribute")
+        .omitNullValues()
+        .add("preCoercionDefaultValue", preCoercionDefaultValue)
+        .add("doc", doc)
+        .add("mandatory", mandatory)
+        .add("allowEmpty", allowEmpty)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long GENERIC_TYPE_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient Type genericType;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link OutputListAttribute#getGenericType() genericType} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code genericType} attribute
+   */
+  @Override
+  public Type getGenericType() {
+    if ((lazyInitBitmap & GENERIC_TYPE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & GENERIC_TYPE_LAZY_INIT_BIT) == 0) {
+          this.genericType = Objects.requireNonNull(super.getGenericType(), "genericType");
+          lazyInitBitmap |= GENERIC_TYPE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return genericType;
+  }
+
+  /**
+   * Construct a new immutable {@code OutputListAttribute} instance.
+   * @param preCoercionDefaultValue The value for the {@code preCoercionDefaultValue} attribute
+   * @param doc The value for the {@code doc} attribute
+   * @param mandatory The value for the {@code mandatory} attribute
+   * @param allowEmpty The value for the {@code allowEmpty} attribute
+   * @return An immutable OutputListAttribute instance
+   */
+  public static ImmutableOutputListAttribute of(Object preCoercionDefaultValue, String doc, boolean mandatory, boolean allowEmpty) {
+    return new ImmutableOutputListAttribute(preCoercionDefaultValue, doc, mandatory, allowEmpty);
+  }
+}
@@ -0,0 +1,119 @@
+package com.facebook.buck.core.test.rule;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.sourcepath.resolver.SourcePathResolverAdapter;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ExternalRunnerTestProtocol}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableExternalRunnerTestProtocol.of()}.
+ */
+@Generated(from = "ExternalRunnerTestProtocol", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableExternalRunnerTestProtocol
+    extends ExternalRunnerTestProtocol {
+  private final BuildTarget target;
+  private final CoercedTestRunnerSpec specs;
+  private final SourcePathResolverAdapter sourcePathResolver;
+
+  private ImmutableExternalRunnerTestProtocol(
+      BuildTarget target,
+      CoercedTestRunnerSpec specs,
+      SourcePathResolverAdapter sourcePathResolver) {
+    this.target = Objects.requireNonNull(target, "target");
+    this.specs = Objects.requireNonNull(specs, "specs");
+    this.sourcePathResolver = Objects.requireNonNull(sourcePathResolver, "sourcePathResolver");
+  }
+
+  /**
+   * @return The value of the {@code target} attribute
+   */
+  @Override
+  protected BuildTarget getTarget() {
+    return target;
+  }
+
+  /**
+   * @return The value of the {@code specs} attribute
+   */
+  @Override
+  protected CoercedTestRunnerSpec getSpecs() {
+    return specs;
+  }
+
+  /**
+   * @return The value of the {@code sourcePathResolver} attribute
+   */
+  @Override
+  protected SourcePathResolverAdapter getSourcePathResolver() {
+    return sourcePathResolver;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableExternalRunnerTestProtocol} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableExternalRunnerTestProtocol
+        && equalTo((ImmutableExternalRunnerTestProtocol) another);
+  }
+
+  private boolean equalTo(ImmutableExternalRunnerTestProtocol another) {
+    return target.equals(another.target)
+        && specs.equals(another.specs)
+        && sourcePathResolver.equals(another.sourcePathResolver);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code target}, {@code specs}, {@code sourcePathResolver}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + target.hashCode();
+    h += (h << 5) + specs.hashCode();
+    h += (h << 5) + sourcePathResolver.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ExternalRunnerTestProtocol} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ExternalRunnerTestProtocol")
+        .omitNullValues()
+        .add("target", target)
+        .add("specs", specs)
+        .add("sourcePathResolver", sourcePathResolver)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ExternalRunnerTestProtocol} instance.
+   * @param target The value for the {@code target} attribute
+   * @param specs The value for the {@code specs} attribute
+   * @param sourcePathResolver The value for the {@code sourcePathResolver} attribute
+   * @return An immutable ExternalRunnerTestProtocol instance
+   */
+  public static ImmutableExternalRunnerTestProtocol of(BuildTarget target, CoercedTestRunnerSpec specs, SourcePathResolverAdapter sourcePathResolver) {
+    return new ImmutableExternalRunnerTestProtocol(target, specs, sourcePathResolver);
+  }
+}
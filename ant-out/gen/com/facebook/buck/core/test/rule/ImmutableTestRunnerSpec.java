@@ -0,0 +1,91 @@
+package com.facebook.buck.core.test.rule;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link TestRunnerSpec}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableTestRunnerSpec.of()}.
+ */
+@Generated(from = "TestRunnerSpec", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableTestRunnerSpec extends TestRunnerSpec {
+  private final Object data;
+
+  private ImmutableTestRunnerSpec(Object data) {
+    this.data = Objects.requireNonNull(data, "data");
+  }
+
+  /**
+   * @return The value of the {@code data} attribute
+   */
+  @Override
+  public Object getData() {
+    return data;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableTestRunnerSpec} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableTestRunnerSpec
+        && equalTo((ImmutableTestRunnerSpec) another);
+  }
+
+  private boolean equalTo(ImmutableTestRunnerSpec another) {
+    return data.equals(another.data);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code data}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + data.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code TestRunnerSpec} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("TestRunnerSpec")
+        .omitNullValues()
+        .add("data", data)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code TestRunnerSpec} instance.
+   * @param data The value for the {@code data} attribute
+   * @return An immutable TestRunnerSpec instance
+   */
+  public static ImmutableTestRunnerSpec of(Object data) {
+    return validate(new ImmutableTestRunnerSpec(data));
+  }
+
+
+  private static ImmutableTestRunnerSpec validate(ImmutableTestRunnerSpec instance) {
+    instance.check();
+    return instance;
+  }
+}
@@ -0,0 +1,96 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Var;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CxxCompilationDatabaseDependencies}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCxxCompilationDatabaseDependencies.of()}.
+ */
+@Generated(from = "CxxCompilationDatabaseDependencies", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCxxCompilationDatabaseDependencies
+    extends CxxCompilationDatabaseDependencies {
+  private final ImmutableSet<SourcePath> sourcePaths;
+
+  private ImmutableCxxCompilationDatabaseDependencies(Iterable<? extends SourcePath> sourcePaths) {
+    this.sourcePaths = ImmutableSet.copyOf(sourcePaths);
+  }
+
+  /**
+   * @return The value of the {@code sourcePaths} attribute
+   */
+  @Override
+  ImmutableSet<SourcePath> getSourcePaths() {
+    return sourcePaths;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCxxCompilationDatabaseDependencies} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCxxCompilationDatabaseDependencies
+        && equalTo((ImmutableCxxCompilationDatabaseDependencies) another);
+  }
+
+  private boolean equalTo(ImmutableCxxCompilationDatabaseDependencies another) {
+    return sourcePaths.equals(another.sourcePaths);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code sourcePaths}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + sourcePaths.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxCompilationDatabaseDependencies} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxCompilationDatabaseDependencies")
+        .omitNullValues()
+        .add("sourcePaths", sourcePaths)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CxxCompilationDatabaseDependencies} instance.
+   * @param sourcePaths The value for the {@code sourcePaths} attribute
+   * @return An immutable CxxCompilationDatabaseDependencies instance
+   */
+  public static ImmutableCxxCompilationDatabaseDependencies of(ImmutableSet<SourcePath> sourcePaths) {
+    return of((Iterable<? extends SourcePath>) sourcePaths);
+  }
+
+  /**
+   * Construct a new immutable {@code CxxCompilationDatabaseDependencies} instance.
+   * @param sourcePaths The value for the {@code sourcePaths} attribute
+   * @return An immutable CxxCompilationDatabaseDependencies instance
+   */
+  public static ImmutableCxxCompilationDatabaseDependencies of(Iterable<? extends SourcePath> sourcePaths) {
+    return new ImmutableCxxCompilationDatabaseDependencies(sourcePaths);
+  }
+}
@@ -0,0 +1,112 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.rules.coercer.FrameworkPath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Var;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CxxIncludePaths}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCxxIncludePaths.of()}.
+ */
+@Generated(from = "CxxIncludePaths", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCxxIncludePaths extends CxxIncludePaths {
+  private final ImmutableSet<CxxHeaders> iPaths;
+  private final ImmutableSet<FrameworkPath> fPaths;
+
+  private ImmutableCxxIncludePaths(
+      Iterable<? extends CxxHeaders> iPaths,
+      Iterable<? extends FrameworkPath> fPaths) {
+    this.iPaths = ImmutableSet.copyOf(iPaths);
+    this.fPaths = ImmutableSet.copyOf(fPaths);
+  }
+
+  /**
+   * @return The value of the {@code iPaths} attribute
+   */
+  @Override
+  public ImmutableSet<CxxHeaders> getIPaths() {
+    return iPaths;
+  }
+
+  /**
+   * @return The value of the {@code fPaths} attribute
+   */
+  @Override
+  public ImmutableSet<FrameworkPath> getFPaths() {
+    return fPaths;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCxxIncludePaths} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCxxIncludePaths
+        && equalTo((ImmutableCxxIncludePaths) another);
+  }
+
+  private boolean equalTo(ImmutableCxxIncludePaths another) {
+    return iPaths.equals(another.iPaths)
+        && fPaths.equals(another.fPaths);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code iPaths}, {@code fPaths}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + iPaths.hashCode();
+    h += (h << 5) + fPaths.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxIncludePaths} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxIncludePaths")
+        .omitNullValues()
+        .add("iPaths", iPaths)
+        .add("fPaths", fPaths)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CxxIncludePaths} instance.
+   * @param iPaths The value for the {@code iPaths} attribute
+   * @param fPaths The value for the {@code fPaths} attribute
+   * @return An immutable CxxIncludePaths instance
+   */
+  public static ImmutableCxxIncludePaths of(ImmutableSet<CxxHeaders> iPaths, ImmutableSet<FrameworkPath> fPaths) {
+    return of((Iterable<? extends CxxHeaders>) iPaths, (Iterable<? extends FrameworkPath>) fPaths);
+  }
+
+  /**
+   * Construct a new immutable {@code CxxIncludePaths} instance.
+   * @param iPaths The value for the {@code iPaths} attribute
+   * @param fPaths The value for the {@code fPaths} attribute
+   * @return An immutable CxxIncludePaths instance
+   */
+  public static ImmutableCxxIncludePaths of(Iterable<? extends CxxHeaders> iPaths, Iterable<? extends FrameworkPath> fPaths) {
+    return new ImmutableCxxIncludePaths(iPaths, fPaths);
+  }
+}
@@ -0,0 +1,99 @@
+package com.facebook.buck.cxx;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CxxLinkOptions}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCxxLinkOptions.of()}.
+ */
+@Generated(from = "CxxLinkOptions", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCxxLinkOptions extends CxxLinkOptions {
+  private final boolean thinLto;
+  private final boolean fatLto;
+
+  private ImmutableCxxLinkOptions(boolean thinLto, boolean fatLto) {
+    this.thinLto = thinLto;
+    this.fatLto = fatLto;
+  }
+
+  /**
+   * @return The value of the {@code thinLto} attribute
+   */
+  @Override
+  public boolean getThinLto() {
+    return thinLto;
+  }
+
+  /**
+   * @return The value of the {@code fatLto} attribute
+   */
+  @Override
+  public boolean getFatLto() {
+    return fatLto;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCxxLinkOptions} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCxxLinkOptions
+        && equalTo((ImmutableCxxLinkOptions) another);
+  }
+
+  private boolean equalTo(ImmutableCxxLinkOptions another) {
+    return thinLto == another.thinLto
+        && fatLto == another.fatLto;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code thinLto}, {@code fatLto}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Booleans.hashCode(thinLto);
+    h += (h << 5) + Booleans.hashCode(fatLto);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxLinkOptions} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxLinkOptions")
+        .omitNullValues()
+        .add("thinLto", thinLto)
+        .add("fatLto", fatLto)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CxxLinkOptions} instance.
+   * @param thinLto The value for the {@code thinLto} attribute
+   * @param fatLto The value for the {@code fatLto} attribute
+   * @return An immutable CxxLinkOptions instance
+   */
+  public static ImmutableCxxLinkOptions of(boolean thinLto, boolean fatLto) {
+    return new ImmutableCxxLinkOptions(thinLto, fatLto);
+  }
+}
@@ -0,0 +1,120 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CxxLogInfo}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCxxLogInfo.of()}.
+ */
+@Generated(from = "CxxLogInfo", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCxxLogInfo extends CxxLogInfo {
+  private final @Nullable BuildTarget target;
+  private final @Nullable Path sourcePath;
+  private final @Nullable Path outputPath;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableCxxLogInfo(
+      Optional<? extends BuildTarget> target,
+      Optional<? extends Path> sourcePath,
+      Optional<? extends Path> outputPath) {
+    this.target = target.orElse(null);
+    this.sourcePath = sourcePath.orElse(null);
+    this.outputPath = outputPath.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code target} attribute
+   */
+  @Override
+  public Optional<BuildTarget> getTarget() {
+    return Optional.ofNullable(target);
+  }
+
+  /**
+   * @return The value of the {@code sourcePath} attribute
+   */
+  @Override
+  public Optional<Path> getSourcePath() {
+    return Optional.ofNullable(sourcePath);
+  }
+
+  /**
+   * @return The value of the {@code outputPath} attribute
+   */
+  @Override
+  public Optional<Path> getOutputPath() {
+    return Optional.ofNullable(outputPath);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCxxLogInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCxxLogInfo
+        && equalTo((ImmutableCxxLogInfo) another);
+  }
+
+  private boolean equalTo(ImmutableCxxLogInfo another) {
+    return Objects.equals(target, another.target)
+        && Objects.equals(sourcePath, another.sourcePath)
+        && Objects.equals(outputPath, another.outputPath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code target}, {@code sourcePath}, {@code outputPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(target);
+    h += (h << 5) + Objects.hashCode(sourcePath);
+    h += (h << 5) + Objects.hashCode(outputPath);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxLogInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxLogInfo")
+        .omitNullValues()
+        .add("target", target)
+        .add("sourcePath", sourcePath)
+        .add("outputPath", outputPath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CxxLogInfo} instance.
+   * @param target The value for the {@code target} attribute
+   * @param sourcePath The value for the {@code sourcePath} attribute
+   * @param outputPath The value for the {@code outputPath} attribute
+   * @return An immutable CxxLogInfo instance
+   */
+  public static ImmutableCxxLogInfo of(Optional<? extends BuildTarget> target, Optional<? extends Path> sourcePath, Optional<? extends Path> outputPath) {
+    return new ImmutableCxxLogInfo(target, sourcePath, outputPath);
+  }
+}
@@ -0,0 +1,102 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.toolchain.toolprovider.ToolProvider;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ElfSharedLibraryInterfaceFactory}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableElfSharedLibraryInterfaceFactory.of()}.
+ */
+@Generated(from = "ElfSharedLibraryInterfaceFactory", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableElfSharedLibraryInterfaceFactory
+    extends ElfSharedLibraryInterfaceFactory {
+  private final ToolProvider objcopy;
+  private final boolean removeUndefinedSymbols;
+
+  private ImmutableElfSharedLibraryInterfaceFactory(ToolProvider objcopy, boolean removeUndefinedSymbols) {
+    this.objcopy = Objects.requireNonNull(objcopy, "objcopy");
+    this.removeUndefinedSymbols = removeUndefinedSymbols;
+  }
+
+  /**
+   * @return The value of the {@code objcopy} attribute
+   */
+  @Override
+  ToolProvider getObjcopy() {
+    return objcopy;
+  }
+
+  /**
+   * @return The value of the {@code removeUndefinedSymbols} attribute
+   */
+  @Override
+  boolean isRemoveUndefinedSymbols() {
+    return removeUndefinedSymbols;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableElfSharedLibraryInterfaceFactory} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableElfSharedLibraryInterfaceFactory
+        && equalTo((ImmutableElfSharedLibraryInterfaceFactory) another);
+  }
+
+  private boolean equalTo(ImmutableElfSharedLibraryInterfaceFactory another) {
+    return objcopy.equals(another.objcopy)
+        && removeUndefinedSymbols == another.removeUndefinedSymbols;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code objcopy}, {@code removeUndefinedSymbols}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + objcopy.hashCode();
+    h += (h << 5) + Booleans.hashCode(removeUndefinedSymbols);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ElfSharedLibraryInterfaceFactory} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ElfSharedLibraryInterfaceFactory")
+        .omitNullValues()
+        .add("objcopy", objcopy)
+        .add("removeUndefinedSymbols", removeUndefinedSymbols)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ElfSharedLibraryInterfaceFactory} instance.
+   * @param objcopy The value for the {@code objcopy} attribute
+   * @param removeUndefinedSymbols The value for the {@code removeUndefinedSymbols} attribute
+   * @return An immutable ElfSharedLibraryInterfaceFactory instance
+   */
+  public static ImmutableElfSharedLibraryInterfaceFactory of(ToolProvider objcopy, boolean removeUndefinedSymbols) {
+    return new ImmutableElfSharedLibraryInterfaceFactory(objcopy, removeUndefinedSymbols);
+  }
+}
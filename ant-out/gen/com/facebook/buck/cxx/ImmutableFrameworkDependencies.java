@@ -0,0 +1,95 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Var;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link FrameworkDependencies}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableFrameworkDependencies.of()}.
+ */
+@Generated(from = "FrameworkDependencies", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableFrameworkDependencies extends FrameworkDependencies {
+  private final ImmutableSet<SourcePath> sourcePaths;
+
+  private ImmutableFrameworkDependencies(Iterable<? extends SourcePath> sourcePaths) {
+    this.sourcePaths = ImmutableSet.copyOf(sourcePaths);
+  }
+
+  /**
+   * @return The value of the {@code sourcePaths} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getSourcePaths() {
+    return sourcePaths;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableFrameworkDependencies} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableFrameworkDependencies
+        && equalTo((ImmutableFrameworkDependencies) another);
+  }
+
+  private boolean equalTo(ImmutableFrameworkDependencies another) {
+    return sourcePaths.equals(another.sourcePaths);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code sourcePaths}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + sourcePaths.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code FrameworkDependencies} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FrameworkDependencies")
+        .omitNullValues()
+        .add("sourcePaths", sourcePaths)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code FrameworkDependencies} instance.
+   * @param sourcePaths The value for the {@code sourcePaths} attribute
+   * @return An immutable FrameworkDependencies instance
+   */
+  public static ImmutableFrameworkDependencies of(ImmutableSet<SourcePath> sourcePaths) {
+    return of((Iterable<? extends SourcePath>) sourcePaths);
+  }
+
+  /**
+   * Construct a new immutable {@code FrameworkDependencies} instance.
+   * @param sourcePaths The value for the {@code sourcePaths} attribute
+   * @return An immutable FrameworkDependencies instance
+   */
+  public static ImmutableFrameworkDependencies of(Iterable<? extends SourcePath> sourcePaths) {
+    return new ImmutableFrameworkDependencies(sourcePaths);
+  }
+}
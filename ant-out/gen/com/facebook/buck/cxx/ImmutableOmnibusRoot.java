@@ -0,0 +1,86 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link Omnibus.OmnibusRoot}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableOmnibusRoot.of()}.
+ */
+@Generated(from = "Omnibus.OmnibusRoot", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableOmnibusRoot implements Omnibus.OmnibusRoot {
+  private final SourcePath path;
+
+  private ImmutableOmnibusRoot(SourcePath path) {
+    this.path = Objects.requireNonNull(path, "path");
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  public SourcePath getPath() {
+    return path;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableOmnibusRoot} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableOmnibusRoot
+        && equalTo((ImmutableOmnibusRoot) another);
+  }
+
+  private boolean equalTo(ImmutableOmnibusRoot another) {
+    return path.equals(another.path);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code path}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + path.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code OmnibusRoot} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("OmnibusRoot")
+        .omitNullValues()
+        .add("path", path)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code OmnibusRoot} instance.
+   * @param path The value for the {@code path} attribute
+   * @return An immutable OmnibusRoot instance
+   */
+  public static ImmutableOmnibusRoot of(SourcePath path) {
+    return new ImmutableOmnibusRoot(path);
+  }
+}
@@ -0,0 +1,119 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.sourcepath.NonHashableSourcePathContainer;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link PrecompiledHeaderData}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutablePrecompiledHeaderData.of()}.
+ */
+@Generated(from = "PrecompiledHeaderData", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutablePrecompiledHeaderData implements PrecompiledHeaderData {
+  private final NonHashableSourcePathContainer headerContainer;
+  private final SourcePath input;
+  private final boolean precompiled;
+
+  private ImmutablePrecompiledHeaderData(
+      NonHashableSourcePathContainer headerContainer,
+      SourcePath input,
+      boolean precompiled) {
+    this.headerContainer = Objects.requireNonNull(headerContainer, "headerContainer");
+    this.input = Objects.requireNonNull(input, "input");
+    this.precompiled = precompiled;
+  }
+
+  /**
+   * @return The value of the {@code headerContainer} attribute
+   */
+  @Override
+  public NonHashableSourcePathContainer getHeaderContainer() {
+    return headerContainer;
+  }
+
+  /**
+   * @return The value of the {@code input} attribute
+   */
+  @Override
+  public SourcePath getInput() {
+    return input;
+  }
+
+  /**
+   * @return The value of the {@code precompiled} attribute
+   */
+  @Override
+  public boolean isPrecompiled() {
+    return precompiled;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutablePrecompiledHeaderData} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutablePrecompiledHeaderData
+        && equalTo((ImmutablePrecompiledHeaderData) another);
+  }
+
+  private boolean equalTo(ImmutablePrecompiledHeaderData another) {
+    return headerContainer.equals(another.headerContainer)
+        && input.equals(another.input)
+        && precompiled == another.precompiled;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code headerContainer}, {@code input}, {@code precompiled}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + headerContainer.hashCode();
+    h += (h << 5) + input.hashCode();
+    h += (h << 5) + Booleans.hashCode(precompiled);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PrecompiledHeaderData} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PrecompiledHeaderData")
+        .omitNullValues()
+        .add("headerContainer", headerContainer)
+        .add("input", input)
+        .add("precompiled", precompiled)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code PrecompiledHeaderData} instance.
+   * @param headerContainer The value for the {@code headerContainer} attribute
+   * @param input The value for the {@code input} attribute
+   * @param precompiled The value for the {@code precompiled} attribute
+   * @return An immutable PrecompiledHeaderData instance
+   */
+  public static ImmutablePrecompiledHeaderData of(NonHashableSourcePathContainer headerContainer, SourcePath input, boolean precompiled) {
+    return new ImmutablePrecompiledHeaderData(headerContainer, input, precompiled);
+  }
+}
@@ -0,0 +1,110 @@
+package com.facebook.buck.cxx.toolchain.nativelink;
+
+import com.facebook.buck.cxx.toolchain.linker.Linker;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link NativeLinkTargetMode}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableNativeLinkTargetMode.of()}.
+ */
+@Generated(from = "NativeLinkTargetMode", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableNativeLinkTargetMode
+    extends NativeLinkTargetMode {
+  private final Linker.LinkType type;
+  private final @Nullable String libraryName;
+
+  private ImmutableNativeLinkTargetMode(
+      Linker.LinkType type,
+      Optional<String> libraryName) {
+    this.type = Objects.requireNonNull(type, "type");
+    this.libraryName = libraryName.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public Linker.LinkType getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code libraryName} attribute
+   */
+  @Override
+  public Optional<String> getLibraryName() {
+    return Optional.ofNullable(libraryName);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableNativeLinkTargetMode} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableNativeLinkTargetMode
+        && equalTo((ImmutableNativeLinkTargetMode) another);
+  }
+
+  private boolean equalTo(ImmutableNativeLinkTargetMode another) {
+    return type.equals(another.type)
+        && Objects.equals(libraryName, another.libraryName);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code libraryName}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + Objects.hashCode(libraryName);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NativeLinkTargetMode} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NativeLinkTargetMode")
+        .omitNullValues()
+        .add("type", type)
+        .add("libraryName", libraryName)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code NativeLinkTargetMode} instance.
+   * @param type The value for the {@code type} attribute
+   * @param libraryName The value for the {@code libraryName} attribute
+   * @return An immutable NativeLinkTargetMode instance
+   */
+  public static ImmutableNativeLinkTargetMode of(Linker.LinkType type, Optional<String> libraryName) {
+    return validate(new ImmutableNativeLinkTargetMode(type, libraryName));
+  }
+
+
+  private static ImmutableNativeLinkTargetMode validate(ImmutableNativeLinkTargetMode instance) {
+    instance.check();
+    return instance;
+  }
+}
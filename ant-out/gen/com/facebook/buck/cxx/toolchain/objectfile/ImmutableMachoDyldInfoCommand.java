@@ -0,0 +1,251 @@
+package com.facebook.buck.cxx.toolchain.objectfile;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link MachoDyldInfoCommand}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableMachoDyldInfoCommand.of()}.
+ */
+@Generated(from = "MachoDyldInfoCommand", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableMachoDyldInfoCommand
+    extends MachoDyldInfoCommand {
+  private final int command;
+  private final int commandSize;
+  private final int rebaseInfoOffset;
+  private final int rebaseInfoSize;
+  private final int bindInfoOffset;
+  private final int bindInfoSize;
+  private final int weakBindInfoOffset;
+  private final int weakBindInfoSize;
+  private final int lazyBindInfoOffset;
+  private final int lazyBindInfoSize;
+  private final int exportInfoOffset;
+  private final int exportInfoSize;
+
+  private ImmutableMachoDyldInfoCommand(
+      int command,
+      int commandSize,
+      int rebaseInfoOffset,
+      int rebaseInfoSize,
+      int bindInfoOffset,
+      int bindInfoSize,
+      int weakBindInfoOffset,
+      int weakBindInfoSize,
+      int lazyBindInfoOffset,
+      int lazyBindInfoSize,
+      int exportInfoOffset,
+      int exportInfoSize) {
+    this.command = command;
+    this.commandSize = commandSize;
+    this.rebaseInfoOffset = rebaseInfoOffset;
+    this.rebaseInfoSize = rebaseInfoSize;
+    this.bindInfoOffset = bindInfoOffset;
+    this.bindInfoSize = bindInfoSize;
+    this.weakBindInfoOffset = weakBindInfoOffset;
+    this.weakBindInfoSize = weakBindInfoSize;
+    this.lazyBindInfoOffset = lazyBindInfoOffset;
+    this.lazyBindInfoSize = lazyBindInfoSize;
+    this.exportInfoOffset = exportInfoOffset;
+    this.exportInfoSize = exportInfoSize;
+  }
+
+  /**
+   * @return The value of the {@code command} attribute
+   */
+  @Override
+  public int getCommand() {
+    return command;
+  }
+
+  /**
+   * @return The value of the {@code commandSize} attribute
+   */
+  @Override
+  public int getCommandSize() {
+    return commandSize;
+  }
+
+  /**
+   * @return The value of the {@code rebaseInfoOffset} attribute
+   */
+  @Override
+  public int getRebaseInfoOffset() {
+    return rebaseInfoOffset;
+  }
+
+  /**
+   * @return The value of the {@code rebaseInfoSize} attribute
+   */
+  @Override
+  public int getRebaseInfoSize() {
+    return rebaseInfoSize;
+  }
+
+  /**
+   * @return The value of the {@code bindInfoOffset} attribute
+   */
+  @Override
+  public int getBindInfoOffset() {
+    return bindInfoOffset;
+  }
+
+  /**
+   * @return The value of the {@code bindInfoSize} attribute
+   */
+  @Override
+  public int getBindInfoSize() {
+    return bindInfoSize;
+  }
+
+  /**
+   * @return The value of the {@code weakBindInfoOffset} attribute
+   */
+  @Override
+  public int getWeakBindInfoOffset() {
+    return weakBindInfoOffset;
+  }
+
+  /**
+   * @return The value of the {@code weakBindInfoSize} attribute
+   */
+  @Override
+  public int getWeakBindInfoSize() {
+    return weakBindInfoSize;
+  }
+
+  /**
+   * @return The value of the {@code lazyBindInfoOffset} attribute
+   */
+  @Override
+  public int getLazyBindInfoOffset() {
+    return lazyBindInfoOffset;
+  }
+
+  /**
+   * @return The value of the {@code lazyBindInfoSize} attribute
+   */
+  @Override
+  public int getLazyBindInfoSize() {
+    return lazyBindInfoSize;
+  }
+
+  /**
+   * @return The value of the {@code exportInfoOffset} attribute
+   */
+  @Override
+  public int getExportInfoOffset() {
+    return exportInfoOffset;
+  }
+
+  /**
+   * @return The value of the {@code exportInfoSize} attribute
+   */
+  @Override
+  public int getExportInfoSize() {
+    return exportInfoSize;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableMachoDyldInfoCommand} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableMachoDyldInfoCommand
+        && equalTo((ImmutableMachoDyldInfoCommand) another);
+  }
+
+  private boolean equalTo(ImmutableMachoDyldInfoCommand another) {
+    return command == another.command
+        && commandSize == another.commandSize
+        && rebaseInfoOffset == another.rebaseInfoOffset
+        && rebaseInfoSize == another.rebaseInfoSize
+        && bindInfoOffset == another.bindInfoOffset
+        && bindInfoSize == another.bindInfoSize
+        && weakBindInfoOffset == another.weakBindInfoOffset
+        && weakBindInfoSize == another.weakBindInfoSize
+        && lazyBindInfoOffset == another.lazyBindInfoOffset
+        && lazyBindInfoSize == another.lazyBindInfoSize
+        && exportInfoOffset == another.exportInfoOffset
+        && exportInfoSize == another.exportInfoSize;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code command}, {@code commandSize}, {@code rebaseInfoOffset}, {@code rebaseInfoSize}, {@code bindInfoOffset}, {@code bindInfoSize}, {@code weakBindInfoOffset}, {@code weakBindInfoSize}, {@code lazyBindInfoOffset}, {@code lazyBindInfoSize}, {@code exportInfoOffset}, {@code exportInfoSize}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + command;
+    h += (h << 5) + commandSize;
+    h += (h << 5) + rebaseInfoOffset;
+    h += (h << 5) + rebaseInfoSize;
+    h += (h << 5) + bindInfoOffset;
+    h += (h << 5) + bindInfoSize;
+    h += (h << 5) + weakBindInfoOffset;
+    h += (h << 5) + weakBindInfoSize;
+    h += (h << 5) + lazyBindInfoOffset;
+    h += (h << 5) + lazyBindInfoSize;
+    h += (h << 5) + exportInfoOffset;
+    h += (h << 5) + exportInfoSize;
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code MachoDyldInfoCommand} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("MachoDyldInfoCommand")
+        .omitNullValues()
+        .add("command", command)
+        .add("commandSize", commandSize)
+        .add("rebaseInfoOffset", rebaseInfoOffset)
+        .add("rebaseInfoSize", rebaseInfoSize)
+        .add("bindInfoOffset", bindInfoOffset)
+        .add("bindInfoSize", bindInfoSize)
+        .add("weakBindInfoOffset", weakBindInfoOffset)
+        .add("weakBindInfoSize", weakBindInfoSize)
+        .add("lazyBindInfoOffset", lazyBindInfoOffset)
+        .add("lazyBindInfoSize", lazyBindInfoSize)
+        .add("exportInfoOffset", exportInfoOffset)
+        .add("exportInfoSize", exportInfoSize)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code MachoDyldInfoCommand} instance.
+   * @param command The value for the {@code command} attribute
+   * @param commandSize The value for the {@code commandSize} attribute
+   * @param rebaseInfoOffset The value for the {@code rebaseInfoOffset} attribute
+   * @param rebaseInfoSize The value for the {@code rebaseInfoSize} attribute
+   * @param bindInfoOffset The value for the {@code bindInfoOffset} attribute
+   * @param bindInfoSize The value for the {@code bindInfoSize} attribute
+   * @param weakBindInfoOffset The value for the {@code weakBindInfoOffset} attribute
+   * @param weakBindInfoSize The value for the {@code weakBindInfoSize} attribute
+   * @param lazyBindInfoOffset The value for the {@code lazyBindInfoOffset} attribute
+   * @param lazyBindInfoSize The value for the {@code lazyBindInfoSize} attribute
+   * @param exportInfoOffset The value for the {@code exportInfoOffset} attribute
+   * @param exportInfoSize The value for the {@code exportInfoSize} attribute
+   * @return An immutable MachoDyldInfoCommand instance
+   */
+  public static ImmutableMachoDyldInfoCommand of(int command, int commandSize, int rebaseInfoOffset, int rebaseInfoSize, int bindInfoOffset, int bindInfoSize, int weakBindInfoOffset, int weakBindInfoSize, int lazyBindInfoOffset, int lazyBindInfoSize, int exportInfoOffset, int exportInfoSize) {
+    return new ImmutableMachoDyldInfoCommand(command, commandSize, rebaseInfoOffset, rebaseInfoSize, bindInfoOffset, bindInfoSize, weakBindInfoOffset, weakBindInfoSize, lazyBindInfoOffset, lazyBindInfoSize, exportInfoOffset, exportInfoSize);
+  }
+}
@@ -0,0 +1,354 @@
+package com.facebook.buck.doctor;
+
+import com.facebook.buck.doctor.config.DoctorProtocolVersion;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link DefectReporter.DefectSubmitResult}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ImmutableDefectSubmitResult.builder()}.
+ */
+@Generated(from = "DefectReporter.DefectSubmitResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableDefectSubmitResult
+    implements DefectReporter.DefectSubmitResult {
+  private final @Nullable Boolean isRequestSuccessful;
+  private final DoctorProtocolVersion requestProtocol;
+  private final @Nullable String reportSubmitLocation;
+  private final @Nullable String reportSubmitMessage;
+  private final @Nullable String reportSubmitErrorMessage;
+  private final @Nullable String reportId;
+
+  private ImmutableDefectSubmitResult(ImmutableDefectSubmitResult.Builder builder) {
+    this.isRequestSuccessful = builder.isRequestSuccessful;
+    this.requestProtocol = builder.requestProtocol;
+    this.reportSubmitLocation = builder.reportSubmitLocation;
+    this.reportSubmitMessage = builder.reportSubmitMessage;
+    this.reportSubmitErrorMessage = builder.reportSubmitErrorMessage;
+    this.reportId = builder.reportId;
+  }
+
+  /**
+   * @return The value of the {@code isRequestSuccessful} attribute
+   */
+  @Override
+  public Optional<Boolean> getIsRequestSuccessful() {
+    return Optional.ofNullable(isRequestSuccessful);
+  }
+
+  /**
+   * @return The value of the {@code requestProtocol} attribute
+   */
+  @Override
+  public DoctorProtocolVersion getRequestProtocol() {
+    return requestProtocol;
+  }
+
+  /**
+   * @return The value of the {@code reportSubmitLocation} attribute
+   */
+  @Override
+  public Optional<String> getReportSubmitLocation() {
+    return Optional.ofNullable(reportSubmitLocation);
+  }
+
+  /**
+   * @return The value of the {@code reportSubmitMessage} attribute
+   */
+  @Override
+  public Optional<String> getReportSubmitMessage() {
+    return Optional.ofNullable(reportSubmitMessage);
+  }
+
+  /**
+   * @return The value of the {@code reportSubmitErrorMessage} attribute
+   */
+  @Override
+  public Optional<String> getReportSubmitErrorMessage() {
+    return Optional.ofNullable(reportSubmitErrorMessage);
+  }
+
+  /**
+   * @return The value of the {@code reportId} attribute
+   */
+  @Override
+  public Optional<String> getReportId() {
+    return Optional.ofNullable(reportId);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableDefectSubmitResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableDefectSubmitResult
+        && equalTo((ImmutableDefectSubmitResult) another);
+  }
+
+  private boolean equalTo(ImmutableDefectSubmitResult another) {
+    return Objects.equals(isRequestSuccessful, another.isRequestSuccessful)
+        && requestProtocol.equals(another.requestProtocol)
+        && Objects.equals(reportSubmitLocation, another.reportSubmitLocation)
+        && Objects.equals(reportSubmitMessage, another.reportSubmitMessage)
+        && Objects.equals(reportSubmitErrorMessage, another.reportSubmitErrorMessage)
+        && Objects.equals(reportId, another.reportId);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code isRequestSuccessful}, {@code requestProtocol}, {@code reportSubmitLocation}, {@code reportSubmitMessage}, {@code reportSubmitErrorMessage}, {@code reportId}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(isRequestSuccessful);
+    h += (h << 5) + requestProtocol.hashCode();
+    h += (h << 5) + Objects.hashCode(reportSubmitLocation);
+    h += (h << 5) + Objects.hashCode(reportSubmitMessage);
+    h += (h << 5) + Objects.hashCode(reportSubmitErrorMessage);
+    h += (h << 5) + Objects.hashCode(reportId);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DefectSubmitResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DefectSubmitResult")
+        .omitNullValues()
+        .add("isRequestSuccessful", isRequestSuccessful)
+        .add("requestProtocol", requestProtocol)
+        .add("reportSubmitLocation", reportSubmitLocation)
+        .add("reportSubmitMessage", reportSubmitMessage)
+        .add("reportSubmitErrorMessage", reportSubmitErrorMessage)
+        .add("reportId", reportId)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link DefectReporter.DefectSubmitResult DefectSubmitResult}.
+   * @return A new DefectSubmitResult builder
+   */
+  public static ImmutableDefectSubmitResult.Builder builder() {
+    return new ImmutableDefectSubmitResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DefectReporter.DefectSubmitResult DefectSubmitResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "DefectReporter.DefectSubmitResult", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_REQUEST_PROTOCOL = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable Boolean isRequestSuccessful;
+    private @Nullable DoctorProtocolVersion requestProtocol;
+    private @Nullable String reportSubmitLocation;
+    private @Nullable String reportSubmitMessage;
+    private @Nullable String reportSubmitErrorMessage;
+    private @Nullable String reportId;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DefectSubmitResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(DefectReporter.DefectSubmitResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<Boolean> isRequestSuccessfulOptional = instance.getIsRequestSuccessful();
+      if (isRequestSuccessfulOptional.isPresent()) {
+        setIsRequestSuccessful(isRequestSuccessfulOptional);
+      }
+      setRequestProtocol(instance.getRequestProtocol());
+      Optional<String> reportSubmitLocationOptional = instance.getReportSubmitLocation();
+      if (reportSubmitLocationOptional.isPresent()) {
+        setReportSubmitLocation(reportSubmitLocationOptional);
+      }
+      Optional<String> reportSubmitMessageOptional = instance.getReportSubmitMessage();
+      if (reportSubmitMessageOptional.isPresent()) {
+        setReportSubmitMessage(reportSubmitMessageOptional);
+      }
+      Optional<String> reportSubmitErrorMessageOptional = instance.getReportSubmitErrorMessage();
+      if (reportSubmitErrorMessageOptional.isPresent()) {
+        setReportSubmitErrorMessage(reportSubmitErrorMessageOptional);
+      }
+      Optional<String> reportIdOptional = instance.getReportId();
+      if (reportIdOptional.isPresent()) {
+        setReportId(reportIdOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.DefectSubmitResult#getIsRequestSuccessful() isRequestSuccessful} to isRequestSuccessful.
+     * @param isRequestSuccessful The value for isRequestSuccessful
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIsRequestSuccessful(boolean isRequestSuccessful) {
+      this.isRequestSuccessful = isRequestSuccessful;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.DefectSubmitResult#getIsRequestSuccessful() isRequestSuccessful} to isRequestSuccessful.
+     * @param isRequestSuccessful The value for isRequestSuccessful
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIsRequestSuccessful(Optional<Boolean> isRequestSuccessful) {
+      this.isRequestSuccessful = isRequestSuccessful.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DefectReporter.DefectSubmitResult#getRequestProtocol() requestProtocol} attribute.
+     * @param requestProtocol The value for requestProtocol 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRequestProtocol(DoctorProtocolVersion requestProtocol) {
+      this.requestProtocol = Objects.requireNonNull(requestProtocol, "requestProtocol");
+      initBits &= ~INIT_BIT_REQUEST_PROTOCOL;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.DefectSubmitResult#getReportSubmitLocation() reportSubmitLocation} to reportSubmitLocation.
+     * @param reportSubmitLocation The value for reportSubmitLocation
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setReportSubmitLocation(String reportSubmitLocation) {
+      this.reportSubmitLocation = Objects.requireNonNull(reportSubmitLocation, "reportSubmitLocation");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.DefectSubmitResult#getReportSubmitLocation() reportSubmitLocation} to reportSubmitLocation.
+     * @param reportSubmitLocation The value for reportSubmitLocation
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setReportSubmitLocation(Optional<String> reportSubmitLocation) {
+      this.reportSubmitLocation = reportSubmitLocation.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.DefectSubmitResult#getReportSubmitMessage() reportSubmitMessage} to reportSubmitMessage.
+     * @param reportSubmitMessage The value for reportSubmitMessage
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setReportSubmitMessage(String reportSubmitMessage) {
+      this.reportSubmitMessage = Objects.requireNonNull(reportSubmitMessage, "reportSubmitMessage");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.DefectSubmitResult#getReportSubmitMessage() reportSubmitMessage} to reportSubmitMessage.
+     * @param reportSubmitMessage The value for reportSubmitMessage
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setReportSubmitMessage(Optional<String> reportSubmitMessage) {
+      this.reportSubmitMessage = reportSubmitMessage.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.DefectSubmitResult#getReportSubmitErrorMessage() reportSubmitErrorMessage} to reportSubmitErrorMessage.
+     * @param reportSubmitErrorMessage The value for reportSubmitErrorMessage
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setReportSubmitErrorMessage(String reportSubmitErrorMessage) {
+      this.reportSubmitErrorMessage = Objects.requireNonNull(reportSubmitErrorMessage, "reportSubmitErrorMessage");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.DefectSubmitResult#getReportSubmitErrorMessage() reportSubmitErrorMessage} to reportSubmitErrorMessage.
+     * @param reportSubmitErrorMessage The value for reportSubmitErrorMessage
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setReportSubmitErrorMessage(Optional<String> reportSubmitErrorMessage) {
+      this.reportSubmitErrorMessage = reportSubmitErrorMessage.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.DefectSubmitResult#getReportId() reportId} to reportId.
+     * @param reportId The value for reportId
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setReportId(String reportId) {
+      this.reportId = Objects.requireNonNull(reportId, "reportId");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.DefectSubmitResult#getReportId() reportId} to reportId.
+     * @param reportId The value for reportId
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setReportId(Optional<String> reportId) {
+      this.reportId = reportId.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DefectReporter.DefectSubmitResult DefectSubmitResult}.
+     * @return An immutable instance of DefectSubmitResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DefectReporter.DefectSubmitResult build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ImmutableDefectSubmitResult(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_REQUEST_PROTOCOL) != 0) attributes.add("requestProtocol");
+      return "Cannot build DefectSubmitResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
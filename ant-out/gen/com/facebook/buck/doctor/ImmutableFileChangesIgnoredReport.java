@@ -0,0 +1,89 @@
+package com.facebook.buck.doctor;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link DefectReporter.FileChangesIgnoredReport}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableFileChangesIgnoredReport.of()}.
+ */
+@Generated(from = "DefectReporter.FileChangesIgnoredReport", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableFileChangesIgnoredReport
+    implements DefectReporter.FileChangesIgnoredReport {
+  private final @Nullable Path watchmanDiagReport;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableFileChangesIgnoredReport(Optional<? extends Path> watchmanDiagReport) {
+    this.watchmanDiagReport = watchmanDiagReport.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code watchmanDiagReport} attribute
+   */
+  @Override
+  public Optional<Path> getWatchmanDiagReport() {
+    return Optional.ofNullable(watchmanDiagReport);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableFileChangesIgnoredReport} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableFileChangesIgnoredReport
+        && equalTo((ImmutableFileChangesIgnoredReport) another);
+  }
+
+  private boolean equalTo(ImmutableFileChangesIgnoredReport another) {
+    return Objects.equals(watchmanDiagReport, another.watchmanDiagReport);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code watchmanDiagReport}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(watchmanDiagReport);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code FileChangesIgnoredReport} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FileChangesIgnoredReport")
+        .omitNullValues()
+        .add("watchmanDiagReport", watchmanDiagReport)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code FileChangesIgnoredReport} instance.
+   * @param watchmanDiagReport The value for the {@code watchmanDiagReport} attribute
+   * @return An immutable FileChangesIgnoredReport instance
+   */
+  public static ImmutableFileChangesIgnoredReport of(Optional<? extends Path> watchmanDiagReport) {
+    return new ImmutableFileChangesIgnoredReport(watchmanDiagReport);
+  }
+}
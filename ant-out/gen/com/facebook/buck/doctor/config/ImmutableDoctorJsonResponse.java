@@ -0,0 +1,197 @@
+package com.facebook.buck.doctor.config;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link DoctorJsonResponse}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableDoctorJsonResponse.of()}.
+ */
+@Generated(from = "DoctorJsonResponse", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableDoctorJsonResponse implements DoctorJsonResponse {
+  private final boolean requestSuccessful;
+  private final @Nullable String errorMessage;
+  private final @Nullable String rageUrl;
+  private final @Nullable String message;
+
+  private ImmutableDoctorJsonResponse(
+      boolean requestSuccessful,
+      Optional<String> errorMessage,
+      Optional<String> rageUrl,
+      Optional<String> message) {
+    this.requestSuccessful = requestSuccessful;
+    this.errorMessage = errorMessage.orElse(null);
+    this.rageUrl = rageUrl.orElse(null);
+    this.message = message.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code requestSuccessful} attribute
+   */
+  @JsonProperty
+  @Override
+  public boolean getRequestSuccessful() {
+    return requestSuccessful;
+  }
+
+  /**
+   * @return The value of the {@code errorMessage} attribute
+   */
+  @JsonProperty
+  @Override
+  public Optional<String> getErrorMessage() {
+    return Optional.ofNullable(errorMessage);
+  }
+
+  /**
+   * @return The value of the {@code rageUrl} attribute
+   */
+  @JsonProperty
+  @JsonDeserialize
+  @Override
+  public Optional<String> getRageUrl() {
+    return Optional.ofNullable(rageUrl);
+  }
+
+  /**
+   * @return The value of the {@code message} attribute
+   */
+  @JsonProperty
+  @Override
+  public Optional<String> getMessage() {
+    return Optional.ofNullable(message);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableDoctorJsonResponse} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableDoctorJsonResponse
+        && equalTo((ImmutableDoctorJsonResponse) another);
+  }
+
+  private boolean equalTo(ImmutableDoctorJsonResponse another) {
+    return requestSuccessful == another.requestSuccessful
+        && Objects.equals(errorMessage, another.errorMessage)
+        && Objects.equals(rageUrl, another.rageUrl)
+        && Objects.equals(message, another.message);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code requestSuccessful}, {@code errorMessage}, {@code rageUrl}, {@code message}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Booleans.hashCode(requestSuccessful);
+    h += (h << 5) + Objects.hashCode(errorMessage);
+    h += (h << 5) + Objects.hashCode(rageUrl);
+    h += (h << 5) + Objects.hashCode(message);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DoctorJsonResponse} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DoctorJsonResponse")
+        .omitNullValues()
+        .add("requestSuccessful", requestSuccessful)
+        .add("errorMessage", errorMessage)
+        .add("rageUrl", rageUrl)
+        .add("message", message)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "DoctorJsonResponse", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json implements DoctorJsonResponse {
+    boolean requestSuccessful;
+    boolean requestSuccessfulIsSet;
+    @Nullable Optional<String> errorMessage = Optional.empty();
+    @Nullable Optional<String> rageUrl = Optional.empty();
+    @Nullable Optional<String> message = Optional.empty();
+    @JsonProperty
+    public void setRequestSuccessful(boolean requestSuccessful) {
+      this.requestSuccessful = requestSuccessful;
+      this.requestSuccessfulIsSet = true;
+    }
+    @JsonProperty
+    public void setErrorMessage(Optional<String> errorMessage) {
+      this.errorMessage = errorMessage;
+    }
+    @JsonProperty
+    @JsonDeserialize
+    public void setRageUrl(Optional<String> rageUrl) {
+      this.rageUrl = rageUrl;
+    }
+    @JsonProperty
+    public void setMessage(Optional<String> message) {
+      this.message = message;
+    }
+    @Override
+    public boolean getRequestSuccessful() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<String> getErrorMessage() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<String> getRageUrl() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<String> getMessage() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableDoctorJsonResponse fromJson(Json json) {
+    ImmutableDoctorJsonResponse instance = ImmutableDoctorJsonResponse.of(json.requestSuccessful, json.errorMessage, json.rageUrl, json.message);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code DoctorJsonResponse} instance.
+   * @param requestSuccessful The value for the {@code requestSuccessful} attribute
+   * @param errorMessage The value for the {@code errorMessage} attribute
+   * @param rageUrl The value for the {@code rageUrl} attribute
+   * @param message The value for the {@code message} attribute
+   * @return An immutable DoctorJsonResponse instance
+   */
+  public static ImmutableDoctorJsonResponse of(boolean requestSuccessful, Optional<String> errorMessage, Optional<String> rageUrl, Optional<String> message) {
+    return new ImmutableDoctorJsonResponse(requestSuccessful, errorMessage, rageUrl, message);
+  }
+}
@@ -0,0 +1,169 @@
+package com.facebook.buck.doctor.config;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link DoctorSuggestion}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableDoctorSuggestion.of()}.
+ */
+@Generated(from = "DoctorSuggestion", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableDoctorSuggestion implements DoctorSuggestion {
+  private final DoctorSuggestion.StepStatus status;
+  private final @Nullable String area;
+  private final String suggestion;
+
+  private ImmutableDoctorSuggestion(
+      DoctorSuggestion.StepStatus status,
+      Optional<String> area,
+      String suggestion) {
+    this.status = Objects.requireNonNull(status, "status");
+    this.area = area.orElse(null);
+    this.suggestion = Objects.requireNonNull(suggestion, "suggestion");
+  }
+
+  /**
+   * @return The value of the {@code status} attribute
+   */
+  @JsonProperty
+  @Override
+  public DoctorSuggestion.StepStatus getStatus() {
+    return status;
+  }
+
+  /**
+   * @return The value of the {@code area} attribute
+   */
+  @JsonProperty
+  @Override
+  public Optional<String> getArea() {
+    return Optional.ofNullable(area);
+  }
+
+  /**
+   * @return The value of the {@code suggestion} attribute
+   */
+  @JsonProperty
+  @Override
+  public String getSuggestion() {
+    return suggestion;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableDoctorSuggestion} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableDoctorSuggestion
+        && equalTo((ImmutableDoctorSuggestion) another);
+  }
+
+  private boolean equalTo(ImmutableDoctorSuggestion another) {
+    return status.equals(another.status)
+        && Objects.equals(area, another.area)
+        && suggestion.equals(another.suggestion);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code status}, {@code area}, {@code suggestion}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + status.hashCode();
+    h += (h << 5) + Objects.hashCode(area);
+    h += (h << 5) + suggestion.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DoctorSuggestion} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DoctorSuggestion")
+        .omitNullValues()
+        .add("status", status)
+        .add("area", area)
+        .add("suggestion", suggestion)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "DoctorSuggestion", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json implements DoctorSuggestion {
+    @Nullable DoctorSuggestion.StepStatus status;
+    @Nullable Optional<String> area = Optional.empty();
+    @Nullable String suggestion;
+    @JsonProperty
+    public void setStatus(DoctorSuggestion.StepStatus status) {
+      this.status = status;
+    }
+    @JsonProperty
+    public void setArea(Optional<String> area) {
+      this.area = area;
+    }
+    @JsonProperty
+    public void setSuggestion(String suggestion) {
+      this.suggestion = suggestion;
+    }
+    @Override
+    public DoctorSuggestion.StepStatus getStatus() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<String> getArea() { throw new UnsupportedOperationException(); }
+    @Override
+    public String getSuggestion() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableDoctorSuggestion fromJson(Json json) {
+    ImmutableDoctorSuggestion instance = ImmutableDoctorSuggestion.of(json.status, json.area, json.suggestion);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code DoctorSuggestion} instance.
+   * @param status The value for the {@code status} attribute
+   * @param area The value for the {@code area} attribute
+   * @param suggestion The value for the {@code suggestion} attribute
+   * @return An immutable DoctorSuggestion instance
+   */
+  public static ImmutableDoctorSuggestion of(DoctorSuggestion.StepStatus status, Optional<String> area, String suggestion) {
+    return new ImmutableDoctorSuggestion(status, area, suggestion);
+  }
+}
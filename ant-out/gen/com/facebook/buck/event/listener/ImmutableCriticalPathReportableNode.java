@@ -0,0 +1,134 @@
+package com.facebook.buck.event.listener;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CriticalPathReportableNode}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCriticalPathReportableNode.of()}.
+ */
+@Generated(from = "CriticalPathReportableNode", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCriticalPathReportableNode
+    implements CriticalPathReportableNode {
+  private final BuildTarget buildTarget;
+  private final long elapsedTimeMs;
+  private final long eventNanoTime;
+  private final @Nullable String type;
+
+  private ImmutableCriticalPathReportableNode(
+      BuildTarget buildTarget,
+      long elapsedTimeMs,
+      long eventNanoTime,
+      @Nullable String type) {
+    this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+    this.elapsedTimeMs = elapsedTimeMs;
+    this.eventNanoTime = eventNanoTime;
+    this.type = type;
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return The value of the {@code elapsedTimeMs} attribute
+   */
+  @Override
+  public long getElapsedTimeMs() {
+    return elapsedTimeMs;
+  }
+
+  /**
+   * @return The value of the {@code eventNanoTime} attribute
+   */
+  @Override
+  public long getEventNanoTime() {
+    return eventNanoTime;
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public @Nullable String getType() {
+    return type;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCriticalPathReportableNode} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCriticalPathReportableNode
+        && equalTo((ImmutableCriticalPathReportableNode) another);
+  }
+
+  private boolean equalTo(ImmutableCriticalPathReportableNode another) {
+    return buildTarget.equals(another.buildTarget)
+        && elapsedTimeMs == another.elapsedTimeMs
+        && eventNanoTime == another.eventNanoTime
+        && Objects.equals(type, another.type);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildTarget}, {@code elapsedTimeMs}, {@code eventNanoTime}, {@code type}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buildTarget.hashCode();
+    h += (h << 5) + Longs.hashCode(elapsedTimeMs);
+    h += (h << 5) + Longs.hashCode(eventNanoTime);
+    h += (h << 5) + Objects.hashCode(type);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CriticalPathReportableNode} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CriticalPathReportableNode")
+        .omitNullValues()
+        .add("buildTarget", buildTarget)
+        .add("elapsedTimeMs", elapsedTimeMs)
+        .add("eventNanoTime", eventNanoTime)
+        .add("type", type)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CriticalPathReportableNode} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param elapsedTimeMs The value for the {@code elapsedTimeMs} attribute
+   * @param eventNanoTime The value for the {@code eventNanoTime} attribute
+   * @param type The value for the {@code type} attribute
+   * @return An immutable CriticalPathReportableNode instance
+   */
+  public static ImmutableCriticalPathReportableNode of(BuildTarget buildTarget, long elapsedTimeMs, long eventNanoTime, @Nullable String type) {
+    return new ImmutableCriticalPathReportableNode(buildTarget, elapsedTimeMs, eventNanoTime, type);
+  }
+}
@@ -0,0 +1,137 @@
+package com.facebook.buck.event.listener;
+
+import com.facebook.buck.support.build.report.BuildReportFileUploader;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link RuleKeyDiagnosticsListener.RuleKeyDiagnosticsListenerCloseArgs}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableRuleKeyDiagnosticsListenerCloseArgs.of()}.
+ */
+@Generated(from = "RuleKeyDiagnosticsListener.RuleKeyDiagnosticsListenerCloseArgs", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableRuleKeyDiagnosticsListenerCloseArgs
+    extends RuleKeyDiagnosticsListener.RuleKeyDiagnosticsListenerCloseArgs {
+  private final ExecutorService outputExecutor;
+  private final @Nullable BuildReportFileUploader buildReportFileUploader;
+  private final Path ruleDiagGraphFilePath;
+  private final Path ruleDiagKeyFilePath;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableRuleKeyDiagnosticsListenerCloseArgs(
+      ExecutorService outputExecutor,
+      Optional<? extends BuildReportFileUploader> buildReportFileUploader,
+      Path ruleDiagGraphFilePath,
+      Path ruleDiagKeyFilePath) {
+    this.outputExecutor = Objects.requireNonNull(outputExecutor, "outputExecutor");
+    this.buildReportFileUploader = buildReportFileUploader.orElse(null);
+    this.ruleDiagGraphFilePath = Objects.requireNonNull(ruleDiagGraphFilePath, "ruleDiagGraphFilePath");
+    this.ruleDiagKeyFilePath = Objects.requireNonNull(ruleDiagKeyFilePath, "ruleDiagKeyFilePath");
+  }
+
+  /**
+   * @return The value of the {@code outputExecutor} attribute
+   */
+  @Override
+  public ExecutorService getOutputExecutor() {
+    return outputExecutor;
+  }
+
+  /**
+   * @return The value of the {@code buildReportFileUploader} attribute
+   */
+  @Override
+  public Optional<BuildReportFileUploader> getBuildReportFileUploader() {
+    return Optional.ofNullable(buildReportFileUploader);
+  }
+
+  /**
+   * @return The value of the {@code ruleDiagGraphFilePath} attribute
+   */
+  @Override
+  public Path getRuleDiagGraphFilePath() {
+    return ruleDiagGraphFilePath;
+  }
+
+  /**
+   * @return The value of the {@code ruleDiagKeyFilePath} attribute
+   */
+  @Override
+  public Path getRuleDiagKeyFilePath() {
+    return ruleDiagKeyFilePath;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableRuleKeyDiagnosticsListenerCloseArgs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableRuleKeyDiagnosticsListenerCloseArgs
+        && equalTo((ImmutableRuleKeyDiagnosticsListenerCloseArgs) another);
+  }
+
+  private boolean equalTo(ImmutableRuleKeyDiagnosticsListenerCloseArgs another) {
+    return outputExecutor.equals(another.outputExecutor)
+        && Objects.equals(buildReportFileUploader, another.buildReportFileUploader)
+        && ruleDiagGraphFilePath.equals(another.ruleDiagGraphFilePath)
+        && ruleDiagKeyFilePath.equals(another.ruleDiagKeyFilePath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code outputExecutor}, {@code buildReportFileUploader}, {@code ruleDiagGraphFilePath}, {@code ruleDiagKeyFilePath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + outputExecutor.hashCode();
+    h += (h << 5) + Objects.hashCode(buildReportFileUploader);
+    h += (h << 5) + ruleDiagGraphFilePath.hashCode();
+    h += (h << 5) + ruleDiagKeyFilePath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RuleKeyDiagnosticsListenerCloseArgs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RuleKeyDiagnosticsListenerCloseArgs")
+        .omitNullValues()
+        .add("outputExecutor", outputExecutor)
+        .add("buildReportFileUploader", buildReportFileUploader)
+        .add("ruleDiagGraphFilePath", ruleDiagGraphFilePath)
+        .add("ruleDiagKeyFilePath", ruleDiagKeyFilePath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code RuleKeyDiagnosticsListenerCloseArgs} instance.
+   * @param outputExecutor The value for the {@code outputExecutor} attribute
+   * @param buildReportFileUploader The value for the {@code buildReportFileUploader} attribute
+   * @param ruleDiagGraphFilePath The value for the {@code ruleDiagGraphFilePath} attribute
+   * @param ruleDiagKeyFilePath The value for the {@code ruleDiagKeyFilePath} attribute
+   * @return An immutable RuleKeyDiagnosticsListenerCloseArgs instance
+   */
+  public static ImmutableRuleKeyDiagnosticsListenerCloseArgs of(ExecutorService outputExecutor, Optional<? extends BuildReportFileUploader> buildReportFileUploader, Path ruleDiagGraphFilePath, Path ruleDiagKeyFilePath) {
+    return new ImmutableRuleKeyDiagnosticsListenerCloseArgs(outputExecutor, buildReportFileUploader, ruleDiagGraphFilePath, ruleDiagKeyFilePath);
+  }
+}
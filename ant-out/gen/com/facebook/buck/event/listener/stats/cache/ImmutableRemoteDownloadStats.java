@@ -0,0 +1,100 @@
+package com.facebook.buck.event.listener.stats.cache;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.Var;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link NetworkStatsKeeper.RemoteDownloadStats}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableRemoteDownloadStats.of()}.
+ */
+@Generated(from = "NetworkStatsKeeper.RemoteDownloadStats", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableRemoteDownloadStats
+    implements NetworkStatsKeeper.RemoteDownloadStats {
+  private final int artifacts;
+  private final long bytes;
+
+  private ImmutableRemoteDownloadStats(int artifacts, long bytes) {
+    this.artifacts = artifacts;
+    this.bytes = bytes;
+  }
+
+  /**
+   * @return The value of the {@code artifacts} attribute
+   */
+  @Override
+  public int getArtifacts() {
+    return artifacts;
+  }
+
+  /**
+   * @return The value of the {@code bytes} attribute
+   */
+  @Override
+  public long getBytes() {
+    return bytes;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableRemoteDownloadStats} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableRemoteDownloadStats
+        && equalTo((ImmutableRemoteDownloadStats) another);
+  }
+
+  private boolean equalTo(ImmutableRemoteDownloadStats another) {
+    return artifacts == another.artifacts
+        && bytes == another.bytes;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code artifacts}, {@code bytes}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + artifacts;
+    h += (h << 5) + Longs.hashCode(bytes);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RemoteDownloadStats} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RemoteDownloadStats")
+        .omitNullValues()
+        .add("artifacts", artifacts)
+        .add("bytes", bytes)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code RemoteDownloadStats} instance.
+   * @param artifacts The value for the {@code artifacts} attribute
+   * @param bytes The value for the {@code bytes} attribute
+   * @return An immutable RemoteDownloadStats instance
+   */
+  public static ImmutableRemoteDownloadStats of(int artifacts, long bytes) {
+    return new ImmutableRemoteDownloadStats(artifacts, bytes);
+  }
+}
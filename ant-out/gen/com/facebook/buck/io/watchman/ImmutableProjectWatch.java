@@ -0,0 +1,100 @@
+package com.facebook.buck.io.watchman;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ProjectWatch}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableProjectWatch.of()}.
+ */
+@Generated(from = "ProjectWatch", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableProjectWatch implements ProjectWatch {
+  private final String watchRoot;
+  private final @Nullable String projectPrefix;
+
+  private ImmutableProjectWatch(String watchRoot, Optional<String> projectPrefix) {
+    this.watchRoot = Objects.requireNonNull(watchRoot, "watchRoot");
+    this.projectPrefix = projectPrefix.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code watchRoot} attribute
+   */
+  @Override
+  public String getWatchRoot() {
+    return watchRoot;
+  }
+
+  /**
+   * @return The value of the {@code projectPrefix} attribute
+   */
+  @Override
+  public Optional<String> getProjectPrefix() {
+    return Optional.ofNullable(projectPrefix);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableProjectWatch} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableProjectWatch
+        && equalTo((ImmutableProjectWatch) another);
+  }
+
+  private boolean equalTo(ImmutableProjectWatch another) {
+    return watchRoot.equals(another.watchRoot)
+        && Objects.equals(projectPrefix, another.projectPrefix);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code watchRoot}, {@code projectPrefix}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + watchRoot.hashCode();
+    h += (h << 5) + Objects.hashCode(projectPrefix);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ProjectWatch} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ProjectWatch")
+        .omitNullValues()
+        .add("watchRoot", watchRoot)
+        .add("projectPrefix", projectPrefix)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ProjectWatch} instance.
+   * @param watchRoot The value for the {@code watchRoot} attribute
+   * @param projectPrefix The value for the {@code projectPrefix} attribute
+   * @return An immutable ProjectWatch instance
+   */
+  public static ImmutableProjectWatch of(String watchRoot, Optional<String> projectPrefix) {
+    return new ImmutableProjectWatch(watchRoot, projectPrefix);
+  }
+}
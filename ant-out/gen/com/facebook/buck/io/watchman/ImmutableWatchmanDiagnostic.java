@@ -0,0 +1,99 @@
+package com.facebook.buck.io.watchman;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link WatchmanDiagnostic}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableWatchmanDiagnostic.of()}.
+ */
+@Generated(from = "WatchmanDiagnostic", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableWatchmanDiagnostic implements WatchmanDiagnostic {
+  private final WatchmanDiagnostic.Level level;
+  private final String message;
+
+  private ImmutableWatchmanDiagnostic(WatchmanDiagnostic.Level level, String message) {
+    this.level = Objects.requireNonNull(level, "level");
+    this.message = Objects.requireNonNull(message, "message");
+  }
+
+  /**
+   * @return The value of the {@code level} attribute
+   */
+  @Override
+  public WatchmanDiagnostic.Level getLevel() {
+    return level;
+  }
+
+  /**
+   * @return The value of the {@code message} attribute
+   */
+  @Override
+  public String getMessage() {
+    return message;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableWatchmanDiagnostic} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableWatchmanDiagnostic
+        && equalTo((ImmutableWatchmanDiagnostic) another);
+  }
+
+  private boolean equalTo(ImmutableWatchmanDiagnostic another) {
+    return level.equals(another.level)
+        && message.equals(another.message);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code level}, {@code message}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + level.hashCode();
+    h += (h << 5) + message.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code WatchmanDiagnostic} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("WatchmanDiagnostic")
+        .omitNullValues()
+        .add("level", level)
+        .add("message", message)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code WatchmanDiagnostic} instance.
+   * @param level The value for the {@code level} attribute
+   * @param message The value for the {@code message} attribute
+   * @return An immutable WatchmanDiagnostic instance
+   */
+  public static ImmutableWatchmanDiagnostic of(WatchmanDiagnostic.Level level, String message) {
+    return new ImmutableWatchmanDiagnostic(level, message);
+  }
+}
@@ -0,0 +1,133 @@
+package com.facebook.buck.json;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuildFileParseExceptionStackTraceEntry}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildFileParseExceptionStackTraceEntry.of()}.
+ */
+@Generated(from = "BuildFileParseExceptionStackTraceEntry", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildFileParseExceptionStackTraceEntry
+    implements BuildFileParseExceptionStackTraceEntry {
+  private final Path fileName;
+  private final Number lineNumber;
+  private final String functionName;
+  private final String text;
+
+  private ImmutableBuildFileParseExceptionStackTraceEntry(
+      Path fileName,
+      Number lineNumber,
+      String functionName,
+      String text) {
+    this.fileName = Objects.requireNonNull(fileName, "fileName");
+    this.lineNumber = Objects.requireNonNull(lineNumber, "lineNumber");
+    this.functionName = Objects.requireNonNull(functionName, "functionName");
+    this.text = Objects.requireNonNull(text, "text");
+  }
+
+  /**
+   * @return The value of the {@code fileName} attribute
+   */
+  @Override
+  public Path getFileName() {
+    return fileName;
+  }
+
+  /**
+   * @return The value of the {@code lineNumber} attribute
+   */
+  @Override
+  public Number getLineNumber() {
+    return lineNumber;
+  }
+
+  /**
+   * @return The value of the {@code functionName} attribute
+   */
+  @Override
+  public String getFunctionName() {
+    return functionName;
+  }
+
+  /**
+   * @return The value of the {@code text} attribute
+   */
+  @Override
+  public String getText() {
+    return text;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildFileParseExceptionStackTraceEntry} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildFileParseExceptionStackTraceEntry
+        && equalTo((ImmutableBuildFileParseExceptionStackTraceEntry) another);
+  }
+
+  private boolean equalTo(ImmutableBuildFileParseExceptionStackTraceEntry another) {
+    return fileName.equals(another.fileName)
+        && lineNumber.equals(another.lineNumber)
+        && functionName.equals(another.functionName)
+        && text.equals(another.text);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code fileName}, {@code lineNumber}, {@code functionName}, {@code text}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + fileName.hashCode();
+    h += (h << 5) + lineNumber.hashCode();
+    h += (h << 5) + functionName.hashCode();
+    h += (h << 5) + text.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildFileParseExceptionStackTraceEntry} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildFileParseExceptionStackTraceEntry")
+        .omitNullValues()
+        .add("fileName", fileName)
+        .add("lineNumber", lineNumber)
+        .add("functionName", functionName)
+        .add("text", text)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuildFileParseExceptionStackTraceEntry} instance.
+   * @param fileName The value for the {@code fileName} attribute
+   * @param lineNumber The value for the {@code lineNumber} attribute
+   * @param functionName The value for the {@code functionName} attribute
+   * @param text The value for the {@code text} attribute
+   * @return An immutable BuildFileParseExceptionStackTraceEntry instance
+   */
+  public static ImmutableBuildFileParseExceptionStackTraceEntry of(Path fileName, Number lineNumber, String functionName, String text) {
+    return new ImmutableBuildFileParseExceptionStackTraceEntry(fileName, lineNumber, functionName, text);
+  }
+}
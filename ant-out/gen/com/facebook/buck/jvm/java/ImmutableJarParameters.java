@@ -0,0 +1,558 @@
+package com.facebook.buck.jvm.java;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link JarParameters}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new JarParameters.Builder()}.
+ */
+@Generated(from = "JarParameters", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableJarParameters extends JarParameters {
+  private final boolean hashEntries;
+  private final boolean mergeManifests;
+  private final boolean disallowAllDuplicates;
+  private final Path jarPath;
+  private final Predicate<Object> removeEntryPredicate;
+  private final ImmutableSortedSet<Path> entriesToJar;
+  private final @Nullable String mainClass;
+  private final @Nullable Path manifestFile;
+  private final Level duplicatesLogLevel;
+
+  private ImmutableJarParameters(ImmutableJarParameters.Builder builder) {
+    this.jarPath = builder.jarPath;
+    this.entriesToJar = builder.entriesToJar;
+    this.mainClass = builder.mainClass;
+    this.manifestFile = builder.manifestFile;
+    if (builder.hashEntriesIsSet()) {
+      initShim.setHashEntries(builder.hashEntries);
+    }
+    if (builder.mergeManifestsIsSet()) {
+      initShim.setMergeManifests(builder.mergeManifests);
+    }
+    if (builder.disallowAllDuplicatesIsSet()) {
+      initShim.setDisallowAllDuplicates(builder.disallowAllDuplicates);
+    }
+    if (builder.removeEntryPredicate != null) {
+      initShim.setRemoveEntryPredicate(builder.removeEntryPredicate);
+    }
+    if (builder.duplicatesLogLevel != null) {
+      initShim.setDuplicatesLogLevel(builder.duplicatesLogLevel);
+    }
+    this.hashEntries = initShim.getHashEntries();
+    this.mergeManifests = initShim.getMergeManifests();
+    this.disallowAllDuplicates = initShim.getDisallowAllDuplicates();
+    this.removeEntryPredicate = initShim.getRemoveEntryPredicate();
+    this.duplicatesLogLevel = initShim.getDuplicatesLogLevel();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "JarParameters", generator = "Immutables")
+  private final class InitShim {
+    private byte hashEntriesBuildStage = STAGE_UNINITIALIZED;
+    private boolean hashEntries;
+
+    boolean getHashEntries() {
+      if (hashEntriesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (hashEntriesBuildStage == STAGE_UNINITIALIZED) {
+        hashEntriesBuildStage = STAGE_INITIALIZING;
+        this.hashEntries = ImmutableJarParameters.super.getHashEntries();
+        hashEntriesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.hashEntries;
+    }
+
+    void setHashEntries(boolean hashEntries) {
+      this.hashEntries = hashEntries;
+      hashEntriesBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte mergeManifestsBuildStage = STAGE_UNINITIALIZED;
+    private boolean mergeManifests;
+
+    boolean getMergeManifests() {
+      if (mergeManifestsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (mergeManifestsBuildStage == STAGE_UNINITIALIZED) {
+        mergeManifestsBuildStage = STAGE_INITIALIZING;
+        this.mergeManifests = ImmutableJarParameters.super.getMergeManifests();
+        mergeManifestsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.mergeManifests;
+    }
+
+    void setMergeManifests(boolean mergeManifests) {
+      this.mergeManifests = mergeManifests;
+      mergeManifestsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte disallowAllDuplicatesBuildStage = STAGE_UNINITIALIZED;
+    private boolean disallowAllDuplicates;
+
+    boolean getDisallowAllDuplicates() {
+      if (disallowAllDuplicatesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (disallowAllDuplicatesBuildStage == STAGE_UNINITIALIZED) {
+        disallowAllDuplicatesBuildStage = STAGE_INITIALIZING;
+        this.disallowAllDuplicates = ImmutableJarParameters.super.getDisallowAllDuplicates();
+        disallowAllDuplicatesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.disallowAllDuplicates;
+    }
+
+    void setDisallowAllDuplicates(boolean disallowAllDuplicates) {
+      this.disallowAllDuplicates = disallowAllDuplicates;
+      disallowAllDuplicatesBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte removeEntryPredicateBuildStage = STAGE_UNINITIALIZED;
+    private Predicate<Object> removeEntryPredicate;
+
+    Predicate<Object> getRemoveEntryPredicate() {
+      if (removeEntryPredicateBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (removeEntryPredicateBuildStage == STAGE_UNINITIALIZED) {
+        removeEntryPredicateBuildStage = STAGE_INITIALIZING;
+        this.removeEntryPredicate = Objects.requireNonNull(ImmutableJarParameters.super.getRemoveEntryPredicate(), "removeEntryPredicate");
+        removeEntryPredicateBuildStage = STAGE_INITIALIZED;
+      }
+      return this.removeEntryPredicate;
+    }
+
+    void setRemoveEntryPredicate(Predicate<Object> removeEntryPredicate) {
+      this.removeEntryPredicate = removeEntryPredicate;
+      removeEntryPredicateBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte duplicatesLogLevelBuildStage = STAGE_UNINITIALIZED;
+    private Level duplicatesLogLevel;
+
+    Level getDuplicatesLogLevel() {
+      if (duplicatesLogLevelBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (duplicatesLogLevelBuildStage == STAGE_UNINITIALIZED) {
+        duplicatesLogLevelBuildStage = STAGE_INITIALIZING;
+        this.duplicatesLogLevel = Objects.requireNonNull(ImmutableJarParameters.super.getDuplicatesLogLevel(), "duplicatesLogLevel");
+        duplicatesLogLevelBuildStage = STAGE_INITIALIZED;
+      }
+      return this.duplicatesLogLevel;
+    }
+
+    void setDuplicatesLogLevel(Level duplicatesLogLevel) {
+      this.duplicatesLogLevel = duplicatesLogLevel;
+      duplicatesLogLevelBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (hashEntriesBuildStage == STAGE_INITIALIZING) attributes.add("hashEntries");
+      if (mergeManifestsBuildStage == STAGE_INITIALIZING) attributes.add("mergeManifests");
+      if (disallowAllDuplicatesBuildStage == STAGE_INITIALIZING) attributes.add("disallowAllDuplicates");
+      if (removeEntryPredicateBuildStage == STAGE_INITIALIZING) attributes.add("removeEntryPredicate");
+      if (duplicatesLogLevelBuildStage == STAGE_INITIALIZING) attributes.add("duplicatesLogLevel");
+      return "Cannot build JarParameters, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code hashEntries} attribute
+   */
+  @Override
+  public boolean getHashEntries() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getHashEntries()
+        : this.hashEntries;
+  }
+
+  /**
+   * @return The value of the {@code mergeManifests} attribute
+   */
+  @Override
+  public boolean getMergeManifests() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getMergeManifests()
+        : this.mergeManifests;
+  }
+
+  /**
+   * @return The value of the {@code disallowAllDuplicates} attribute
+   */
+  @Override
+  public boolean getDisallowAllDuplicates() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getDisallowAllDuplicates()
+        : this.disallowAllDuplicates;
+  }
+
+  /**
+   * @return The value of the {@code jarPath} attribute
+   */
+  @Override
+  public Path getJarPath() {
+    return jarPath;
+  }
+
+  /**
+   * @return The value of the {@code removeEntryPredicate} attribute
+   */
+  @Override
+  public Predicate<Object> getRemoveEntryPredicate() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getRemoveEntryPredicate()
+        : this.removeEntryPredicate;
+  }
+
+  /**
+   * @return The value of the {@code entriesToJar} attribute
+   */
+  @Override
+  public ImmutableSortedSet<Path> getEntriesToJar() {
+    return entriesToJar;
+  }
+
+  /**
+   * @return The value of the {@code mainClass} attribute
+   */
+  @Override
+  public Optional<String> getMainClass() {
+    return Optional.ofNullable(mainClass);
+  }
+
+  /**
+   * @return The value of the {@code manifestFile} attribute
+   */
+  @Override
+  public Optional<Path> getManifestFile() {
+    return Optional.ofNullable(manifestFile);
+  }
+
+  /**
+   * @return The value of the {@code duplicatesLogLevel} attribute
+   */
+  @Override
+  public Level getDuplicatesLogLevel() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getDuplicatesLogLevel()
+        : this.duplicatesLogLevel;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableJarParameters} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableJarParameters
+        && equalTo((ImmutableJarParameters) another);
+  }
+
+  private boolean equalTo(ImmutableJarParameters another) {
+    return hashEntries == another.hashEntries
+        && mergeManifests == another.mergeManifests
+        && disallowAllDuplicates == another.disallowAllDuplicates
+        && jarPath.equals(another.jarPath)
+        && removeEntryPredicate.equals(another.removeEntryPredicate)
+        && entriesToJar.equals(another.entriesToJar)
+        && Objects.equals(mainClass, another.mainClass)
+        && Objects.equals(manifestFile, another.manifestFile)
+        && duplicatesLogLevel.equals(another.duplicatesLogLevel);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code hashEntries}, {@code mergeManifests}, {@code disallowAllDuplicates}, {@code jarPath}, {@code removeEntryPredicate}, {@code entriesToJar}, {@code mainClass}, {@code manifestFile}, {@code duplicatesLogLevel}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Booleans.hashCode(hashEntries);
+    h += (h << 5) + Booleans.hashCode(mergeManifests);
+    h += (h << 5) + Booleans.hashCode(disallowAllDuplicates);
+    h += (h << 5) + jarPath.hashCode();
+    h += (h << 5) + removeEntryPredicate.hashCode();
+    h += (h << 5) + entriesToJar.hashCode();
+    h += (h << 5) + Objects.hashCode(mainClass);
+    h += (h << 5) + Objects.hashCode(manifestFile);
+    h += (h << 5) + duplicatesLogLevel.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code JarParameters} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JarParameters")
+        .omitNullValues()
+        .add("hashEntries", hashEntries)
+        .add("mergeManifests", mergeManifests)
+        .add("disallowAllDuplicates", disallowAllDuplicates)
+        .add("jarPath", jarPath)
+        .add("removeEntryPredicate", removeEntryPredicate)
+        .add("entriesToJar", entriesToJar)
+        .add("mainClass", mainClass)
+        .add("manifestFile", manifestFile)
+        .add("duplicatesLogLevel", duplicatesLogLevel)
+        .toString();
+  }
+
+  /**
+   * Builds instances of type {@link JarParameters JarParameters}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "JarParameters", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private static final long INIT_BIT_JAR_PATH = 0x1L;
+    private static final long INIT_BIT_ENTRIES_TO_JAR = 0x2L;
+    private static final long OPT_BIT_HASH_ENTRIES = 0x1L;
+    private static final long OPT_BIT_MERGE_MANIFESTS = 0x2L;
+    private static final long OPT_BIT_DISALLOW_ALL_DUPLICATES = 0x4L;
+    private long initBits = 0x3L;
+    private long optBits;
+
+    private boolean hashEntries;
+    private boolean mergeManifests;
+    private boolean disallowAllDuplicates;
+    private @Nullable Path jarPath;
+    private @Nullable Predicate<Object> removeEntryPredicate;
+    private @Nullable ImmutableSortedSet<Path> entriesToJar;
+    private @Nullable String mainClass;
+    private @Nullable Path manifestFile;
+    private @Nullable Level duplicatesLogLevel;
+
+    /**
+     * Creates a builder for {@link JarParameters JarParameters} instances.
+     */
+    public Builder() {
+      if (!(this instanceof JarParameters.Builder)) {
+        throw new UnsupportedOperationException("Use: new JarParameters.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code JarParameters} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JarParameters.Builder from(JarParameters instance) {
+      Objects.requireNonNull(instance, "instance");
+      setHashEntries(instance.getHashEntries());
+      setMergeManifests(instance.getMergeManifests());
+      setDisallowAllDuplicates(instance.getDisallowAllDuplicates());
+      setJarPath(instance.getJarPath());
+      setRemoveEntryPredicate(instance.getRemoveEntryPredicate());
+      setEntriesToJar(instance.getEntriesToJar());
+      Optional<String> mainClassOptional = instance.getMainClass();
+      if (mainClassOptional.isPresent()) {
+        setMainClass(mainClassOptional);
+      }
+      Optional<Path> manifestFileOptional = instance.getManifestFile();
+      if (manifestFileOptional.isPresent()) {
+        setManifestFile(manifestFileOptional);
+      }
+      setDuplicatesLogLevel(instance.getDuplicatesLogLevel());
+      return (JarParameters.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link JarParameters#getHashEntries() hashEntries} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link JarParameters#getHashEntries() hashEntries}.</em>
+     * @param hashEntries The value for hashEntries 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JarParameters.Builder setHashEntries(boolean hashEntries) {
+      this.hashEntries = hashEntries;
+      optBits |= OPT_BIT_HASH_ENTRIES;
+      return (JarParameters.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link JarParameters#getMergeManifests() mergeManifests} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link JarParameters#getMergeManifests() mergeManifests}.</em>
+     * @param mergeManifests The value for mergeManifests 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JarParameters.Builder setMergeManifests(boolean mergeManifests) {
+      this.mergeManifests = mergeManifests;
+      optBits |= OPT_BIT_MERGE_MANIFESTS;
+      return (JarParameters.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link JarParameters#getDisallowAllDuplicates() disallowAllDuplicates} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link JarParameters#getDisallowAllDuplicates() disallowAllDuplicates}.</em>
+     * @param disallowAllDuplicates The value for disallowAllDuplicates 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JarParameters.Builder setDisallowAllDuplicates(boolean disallowAllDuplicates) {
+      this.disallowAllDuplicates = disallowAllDuplicates;
+      optBits |= OPT_BIT_DISALLOW_ALL_DUPLICATES;
+      return (JarParameters.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link JarParameters#getJarPath() jarPath} attribute.
+     * @param jarPath The value for jarPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JarParameters.Builder setJarPath(Path jarPath) {
+      this.jarPath = Objects.requireNonNull(jarPath, "jarPath");
+      initBits &= ~INIT_BIT_JAR_PATH;
+      return (JarParameters.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link JarParameters#getRemoveEntryPredicate() removeEntryPredicate} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link JarParameters#getRemoveEntryPredicate() removeEntryPredicate}.</em>
+     * @param removeEntryPredicate The value for removeEntryPredicate 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JarParameters.Builder setRemoveEntryPredicate(Predicate<Object> removeEntryPredicate) {
+      this.removeEntryPredicate = Objects.requireNonNull(removeEntryPredicate, "removeEntryPredicate");
+      return (JarParameters.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link JarParameters#getEntriesToJar() entriesToJar} attribute.
+     * @param entriesToJar The value for entriesToJar 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JarParameters.Builder setEntriesToJar(ImmutableSortedSet<Path> entriesToJar) {
+      this.entriesToJar = Objects.requireNonNull(entriesToJar, "entriesToJar");
+      initBits &= ~INIT_BIT_ENTRIES_TO_JAR;
+      return (JarParameters.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link JarParameters#getMainClass() mainClass} to mainClass.
+     * @param mainClass The value for mainClass
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JarParameters.Builder setMainClass(String mainClass) {
+      this.mainClass = Objects.requireNonNull(mainClass, "mainClass");
+      return (JarParameters.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link JarParameters#getMainClass() mainClass} to mainClass.
+     * @param mainClass The value for mainClass
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JarParameters.Builder setMainClass(Optional<String> mainClass) {
+      this.mainClass = mainClass.orElse(null);
+      return (JarParameters.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link JarParameters#getManifestFile() manifestFile} to manifestFile.
+     * @param manifestFile The value for manifestFile
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JarParameters.Builder setManifestFile(Path manifestFile) {
+      this.manifestFile = Objects.requireNonNull(manifestFile, "manifestFile");
+      return (JarParameters.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link JarParameters#getManifestFile() manifestFile} to manifestFile.
+     * @param manifestFile The value for manifestFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JarParameters.Builder setManifestFile(Optional<? extends Path> manifestFile) {
+      this.manifestFile = manifestFile.orElse(null);
+      return (JarParameters.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link JarParameters#getDuplicatesLogLevel() duplicatesLogLevel} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link JarParameters#getDuplicatesLogLevel() duplicatesLogLevel}.</em>
+     * @param duplicatesLogLevel The value for duplicatesLogLevel 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JarParameters.Builder setDuplicatesLogLevel(Level duplicatesLogLevel) {
+      this.duplicatesLogLevel = Objects.requireNonNull(duplicatesLogLevel, "duplicatesLogLevel");
+      return (JarParameters.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link JarParameters JarParameters}.
+     * @return An immutable instance of JarParameters
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public JarParameters build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ImmutableJarParameters(this);
+    }
+
+    private boolean hashEntriesIsSet() {
+      return (optBits & OPT_BIT_HASH_ENTRIES) != 0;
+    }
+
+    private boolean mergeManifestsIsSet() {
+      return (optBits & OPT_BIT_MERGE_MANIFESTS) != 0;
+    }
+
+    private boolean disallowAllDuplicatesIsSet() {
+      return (optBits & OPT_BIT_DISALLOW_ALL_DUPLICATES) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_JAR_PATH) != 0) attributes.add("jarPath");
+      if ((initBits & INIT_BIT_ENTRIES_TO_JAR) != 0) attributes.add("entriesToJar");
+      return "Cannot build JarParameters, some of required attributes are not set " + attributes;
+    }
+  }
+}
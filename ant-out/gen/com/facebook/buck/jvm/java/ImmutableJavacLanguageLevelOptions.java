@@ -0,0 +1,230 @@
+package com.facebook.buck.jvm.java;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link JavacLanguageLevelOptions}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new JavacLanguageLevelOptions.Builder()}.
+ */
+@Generated(from = "JavacLanguageLevelOptions", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableJavacLanguageLevelOptions
+    extends JavacLanguageLevelOptions {
+  private final String sourceLevel;
+  private final String targetLevel;
+
+  private ImmutableJavacLanguageLevelOptions(ImmutableJavacLanguageLevelOptions.Builder builder) {
+    if (builder.sourceLevel != null) {
+      initShim.setSourceLevel(builder.sourceLevel);
+    }
+    if (builder.targetLevel != null) {
+      initShim.setTargetLevel(builder.targetLevel);
+    }
+    this.sourceLevel = initShim.getSourceLevel();
+    this.targetLevel = initShim.getTargetLevel();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "JavacLanguageLevelOptions", generator = "Immutables")
+  private final class InitShim {
+    private byte sourceLevelBuildStage = STAGE_UNINITIALIZED;
+    private String sourceLevel;
+
+    String getSourceLevel() {
+      if (sourceLevelBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (sourceLevelBuildStage == STAGE_UNINITIALIZED) {
+        sourceLevelBuildStage = STAGE_INITIALIZING;
+        this.sourceLevel = Objects.requireNonNull(ImmutableJavacLanguageLevelOptions.super.getSourceLevel(), "sourceLevel");
+        sourceLevelBuildStage = STAGE_INITIALIZED;
+      }
+      return this.sourceLevel;
+    }
+
+    void setSourceLevel(String sourceLevel) {
+      this.sourceLevel = sourceLevel;
+      sourceLevelBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte targetLevelBuildStage = STAGE_UNINITIALIZED;
+    private String targetLevel;
+
+    String getTargetLevel() {
+      if (targetLevelBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (targetLevelBuildStage == STAGE_UNINITIALIZED) {
+        targetLevelBuildStage = STAGE_INITIALIZING;
+        this.targetLevel = Objects.requireNonNull(ImmutableJavacLanguageLevelOptions.super.getTargetLevel(), "targetLevel");
+        targetLevelBuildStage = STAGE_INITIALIZED;
+      }
+      return this.targetLevel;
+    }
+
+    void setTargetLevel(String targetLevel) {
+      this.targetLevel = targetLevel;
+      targetLevelBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (sourceLevelBuildStage == STAGE_INITIALIZING) attributes.add("sourceLevel");
+      if (targetLevelBuildStage == STAGE_INITIALIZING) attributes.add("targetLevel");
+      return "Cannot build JavacLanguageLevelOptions, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code sourceLevel} attribute
+   */
+  @Override
+  public String getSourceLevel() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getSourceLevel()
+        : this.sourceLevel;
+  }
+
+  /**
+   * @return The value of the {@code targetLevel} attribute
+   */
+  @Override
+  public String getTargetLevel() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getTargetLevel()
+        : this.targetLevel;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableJavacLanguageLevelOptions} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableJavacLanguageLevelOptions
+        && equalTo((ImmutableJavacLanguageLevelOptions) another);
+  }
+
+  private boolean equalTo(ImmutableJavacLanguageLevelOptions another) {
+    return sourceLevel.equals(another.sourceLevel)
+        && targetLevel.equals(another.targetLevel);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code sourceLevel}, {@code targetLevel}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + sourceLevel.hashCode();
+    h += (h << 5) + targetLevel.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code JavacLanguageLevelOptions} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JavacLanguageLevelOptions")
+        .omitNullValues()
+        .add("sourceLevel", sourceLevel)
+        .add("targetLevel", targetLevel)
+        .toString();
+  }
+
+  /**
+   * Builds instances of type {@link JavacLanguageLevelOptions JavacLanguageLevelOptions}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "JavacLanguageLevelOptions", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private @Nullable String sourceLevel;
+    private @Nullable String targetLevel;
+
+    /**
+     * Creates a builder for {@link JavacLanguageLevelOptions JavacLanguageLevelOptions} instances.
+     */
+    public Builder() {
+      if (!(this instanceof JavacLanguageLevelOptions.Builder)) {
+        throw new UnsupportedOperationException("Use: new JavacLanguageLevelOptions.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code JavacLanguageLevelOptions} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacLanguageLevelOptions.Builder from(JavacLanguageLevelOptions instance) {
+      Objects.requireNonNull(instance, "instance");
+      setSourceLevel(instance.getSourceLevel());
+      setTargetLevel(instance.getTargetLevel());
+      return (JavacLanguageLevelOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link JavacLanguageLevelOptions#getSourceLevel() sourceLevel} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link JavacLanguageLevelOptions#getSourceLevel() sourceLevel}.</em>
+     * @param sourceLevel The value for sourceLevel 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacLanguageLevelOptions.Builder setSourceLevel(String sourceLevel) {
+      this.sourceLevel = Objects.requireNonNull(sourceLevel, "sourceLevel");
+      return (JavacLanguageLevelOptions.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link JavacLanguageLevelOptions#getTargetLevel() targetLevel} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link JavacLanguageLevelOptions#getTargetLevel() targetLevel}.</em>
+     * @param targetLevel The value for targetLevel 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final JavacLanguageLevelOptions.Builder setTargetLevel(String targetLevel) {
+      this.targetLevel = Objects.requireNonNull(targetLevel, "targetLevel");
+      return (JavacLanguageLevelOptions.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link JavacLanguageLevelOptions JavacLanguageLevelOptions}.
+     * @return An immutable instance of JavacLanguageLevelOptions
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public JavacLanguageLevelOptions build() {
+      return new ImmutableJavacLanguageLevelOptions(this);
+    }
+  }
+}
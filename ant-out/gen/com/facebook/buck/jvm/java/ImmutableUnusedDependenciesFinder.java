@@ -0,0 +1,231 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.sourcepath.resolver.SourcePathResolverAdapter;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link UnusedDependenciesFinder}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableUnusedDependenciesFinder.of()}.
+ */
+@Generated(from = "UnusedDependenciesFinder", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableUnusedDependenciesFinder
+    extends UnusedDependenciesFinder {
+  private final BuildTarget buildTarget;
+  private final ProjectFilesystem projectFilesystem;
+  private final Path depFileRelativePath;
+  private final ImmutableList<UnusedDependenciesFinder.DependencyAndExportedDeps> deps;
+  private final ImmutableList<UnusedDependenciesFinder.DependencyAndExportedDeps> providedDeps;
+  private final SourcePathResolverAdapter sourcePathResolver;
+  private final JavaBuckConfig.UnusedDependenciesAction unusedDependenciesAction;
+  private final @Nullable String buildozerPath;
+  private final boolean onlyPrintCommands;
+
+  private ImmutableUnusedDependenciesFinder(
+      BuildTarget buildTarget,
+      ProjectFilesystem projectFilesystem,
+      Path depFileRelativePath,
+      Iterable<? extends UnusedDependenciesFinder.DependencyAndExportedDeps> deps,
+      Iterable<? extends UnusedDependenciesFinder.DependencyAndExportedDeps> providedDeps,
+      SourcePathResolverAdapter sourcePathResolver,
+      JavaBuckConfig.UnusedDependenciesAction unusedDependenciesAction,
+      Optional<String> buildozerPath,
+      boolean onlyPrintCommands) {
+    this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+    this.projectFilesystem = Objects.requireNonNull(projectFilesystem, "projectFilesystem");
+    this.depFileRelativePath = Objects.requireNonNull(depFileRelativePath, "depFileRelativePath");
+    this.deps = ImmutableList.copyOf(deps);
+    this.providedDeps = ImmutableList.copyOf(providedDeps);
+    this.sourcePathResolver = Objects.requireNonNull(sourcePathResolver, "sourcePathResolver");
+    this.unusedDependenciesAction = Objects.requireNonNull(unusedDependenciesAction, "unusedDependenciesAction");
+    this.buildozerPath = buildozerPath.orElse(null);
+    this.onlyPrintCommands = onlyPrintCommands;
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return The value of the {@code projectFilesystem} attribute
+   */
+  @Override
+  public ProjectFilesystem getProjectFilesystem() {
+    return projectFilesystem;
+  }
+
+  /**
+   * @return The value of the {@code depFileRelativePath} attribute
+   */
+  @Override
+  public Path getDepFileRelativePath() {
+    return depFileRelativePath;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableList<UnusedDependenciesFinder.DependencyAndExportedDeps> getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code providedDeps} attribute
+   */
+  @Override
+  public ImmutableList<UnusedDependenciesFinder.DependencyAndExportedDeps> getProvidedDeps() {
+    return providedDeps;
+  }
+
+  /**
+   * @return The value of the {@code sourcePathResolver} attribute
+   */
+  @Override
+  public SourcePathResolverAdapter getSourcePathResolver() {
+    return sourcePathResolver;
+  }
+
+  /**
+   * @return The value of the {@code unusedDependenciesAction} attribute
+   */
+  @Override
+  public JavaBuckConfig.UnusedDependenciesAction getUnusedDependenciesAction() {
+    return unusedDependenciesAction;
+  }
+
+  /**
+   * @return The value of the {@code buildozerPath} attribute
+   */
+  @Override
+  public Optional<String> getBuildozerPath() {
+    return Optional.ofNullable(buildozerPath);
+  }
+
+  /**
+   * @return The value of the {@code onlyPrintCommands} attribute
+   */
+  @Override
+  public boolean isOnlyPrintCommands() {
+    return onlyPrintCommands;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableUnusedDependenciesFinder} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableUnusedDependenciesFinder
+        && equalTo((ImmutableUnusedDependenciesFinder) another);
+  }
+
+  private boolean equalTo(ImmutableUnusedDependenciesFinder another) {
+    return buildTarget.equals(another.buildTarget)
+        && projectFilesystem.equals(another.projectFilesystem)
+        && depFileRelativePath.equals(another.depFileRelativePath)
+        && deps.equals(another.deps)
+        && providedDeps.equals(another.providedDeps)
+        && sourcePathResolver.equals(another.sourcePathResolver)
+        && unusedDependenciesAction.equals(another.unusedDependenciesAction)
+        && Objects.equals(buildozerPath, another.buildozerPath)
+        && onlyPrintCommands == another.onlyPrintCommands;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildTarget}, {@code projectFilesystem}, {@code depFileRelativePath}, {@code deps}, {@code providedDeps}, {@code sourcePathResolver}, {@code unusedDependenciesAction}, {@code buildozerPath}, {@code onlyPrintCommands}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + buildTarget.hashCode();
+    h += (h << 5) + projectFilesystem.hashCode();
+    h += (h << 5) + depFileRelativePath.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + providedDeps.hashCode();
+    h += (h << 5) + sourcePathResolver.hashCode();
+    h += (h << 5) + unusedDependenciesAction.hashCode();
+    h += (h << 5) + Objects.hashCode(buildozerPath);
+    h += (h << 5) + Booleans.hashCode(onlyPrintCommands);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code UnusedDependenciesFinder} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("UnusedDependenciesFinder")
+        .omitNullValues()
+        .add("buildTarget", buildTarget)
+        .add("projectFilesystem", projectFilesystem)
+        .add("depFileRelativePath", depFileRelativePath)
+        .add("deps", deps)
+        .add("providedDeps", providedDeps)
+        .add("sourcePathResolver", sourcePathResolver)
+        .add("unusedDependenciesAction", unusedDependenciesAction)
+        .add("buildozerPath", buildozerPath)
+        .add("onlyPrintCommands", onlyPrintCommands)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code UnusedDependenciesFinder} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param projectFilesystem The value for the {@code projectFilesystem} attribute
+   * @param depFileRelativePath The value for the {@code depFileRelativePath} attribute
+   * @param deps The value for the {@code deps} attribute
+   * @param providedDeps The value for the {@code providedDeps} attribute
+   * @param sourcePathResolver The value for the {@code sourcePathResolver} attribute
+   * @param unusedDependenciesAction The value for the {@code unusedDependenciesAction} attribute
+   * @param buildozerPath The value for the {@code buildozerPath} attribute
+   * @param onlyPrintCommands The value for the {@code onlyPrintCommands} attribute
+   * @return An immutable UnusedDependenciesFinder instance
+   */
+  public static ImmutableUnusedDependenciesFinder of(BuildTarget buildTarget, ProjectFilesystem projectFilesystem, Path depFileRelativePath, ImmutableList<UnusedDependenciesFinder.DependencyAndExportedDeps> deps, ImmutableList<UnusedDependenciesFinder.DependencyAndExportedDeps> providedDeps, SourcePathResolverAdapter sourcePathResolver, JavaBuckConfig.UnusedDependenciesAction unusedDependenciesAction, Optional<String> buildozerPath, boolean onlyPrintCommands) {
+    return of(buildTarget, projectFilesystem, depFileRelativePath, (Iterable<? extends UnusedDependenciesFinder.DependencyAndExportedDeps>) deps, (Iterable<? extends UnusedDependenciesFinder.DependencyAndExportedDeps>) providedDeps, sourcePathResolver, unusedDependenciesAction, buildozerPath, onlyPrintCommands);
+  }
+
+  /**
+   * Construct a new immutable {@code UnusedDependenciesFinder} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param projectFilesystem The value for the {@code projectFilesystem} attribute
+   * @param depFileRelativePath The value for the {@code depFileRelativePath} attribute
+   * @param deps The value for the {@code deps} attribute
+   * @param providedDeps The value for the {@code providedDeps} attribute
+   * @param sourcePathResolver The value for the {@code sourcePathResolver} attribute
+   * @param unusedDependenciesAction The value for the {@code unusedDependenciesAction} attribute
+   * @param buildozerPath The value for the {@code buildozerPath} attribute
+   * @param onlyPrintCommands The value for the {@code onlyPrintCommands} attribute
+   * @return An immutable UnusedDependenciesFinder instance
+   */
+  public static ImmutableUnusedDependenciesFinder of(BuildTarget buildTarget, ProjectFilesystem projectFilesystem, Path depFileRelativePath, Iterable<? extends UnusedDependenciesFinder.DependencyAndExportedDeps> deps, Iterable<? extends UnusedDependenciesFinder.DependencyAndExportedDeps> providedDeps, SourcePathResolverAdapter sourcePathResolver, JavaBuckConfig.UnusedDependenciesAction unusedDependenciesAction, Optional<String> buildozerPath, boolean onlyPrintCommands) {
+    return new ImmutableUnusedDependenciesFinder(buildTarget, projectFilesystem, depFileRelativePath, deps, providedDeps, sourcePathResolver, unusedDependenciesAction, buildozerPath, onlyPrintCommands);
+  }
+}
@@ -0,0 +1,985 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.core.description.arg.BuildRuleArg;
+import com.facebook.buck.core.description.arg.ConstructorArg;
+import com.facebook.buck.core.description.arg.HasDeclaredDeps;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.UnconfiguredBuildTarget;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code PrebuiltJarDescriptionArg.builder()}.
+ */
+@Generated(from = "PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class PrebuiltJarDescriptionArg
+    implements PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg {
+  private final SourcePath binaryJar;
+  private final @Nullable SourcePath sourceJar;
+  private final @Nullable SourcePath gwtJar;
+  private final @Nullable String javadocUrl;
+  private final @Nullable String mavenCoords;
+  private final boolean provided;
+  private final boolean requiredForSourceOnlyAbi;
+  private final boolean generateAbi;
+  private final boolean neverMarkAsUnusedDependency;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+  private final ImmutableList<UnconfiguredBuildTarget> compatibleWith;
+  private final String name;
+  private final ImmutableSortedSet<BuildTarget> deps;
+
+  private PrebuiltJarDescriptionArg(PrebuiltJarDescriptionArg.Builder builder) {
+    this.binaryJar = builder.binaryJar;
+    this.sourceJar = builder.sourceJar;
+    this.gwtJar = builder.gwtJar;
+    this.javadocUrl = builder.javadocUrl;
+    this.mavenCoords = builder.mavenCoords;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.defaultTargetPlatform = builder.defaultTargetPlatform;
+    this.compatibleWith = builder.compatibleWith.build();
+    this.name = builder.name;
+    this.deps = builder.deps.build();
+    if (builder.providedIsSet()) {
+      initShim.setProvided(builder.provided);
+    }
+    if (builder.requiredForSourceOnlyAbiIsSet()) {
+      initShim.setRequiredForSourceOnlyAbi(builder.requiredForSourceOnlyAbi);
+    }
+    if (builder.generateAbiIsSet()) {
+      initShim.setGenerateAbi(builder.generateAbi);
+    }
+    if (builder.neverMarkAsUnusedDependencyIsSet()) {
+      initShim.setNeverMarkAsUnusedDependency(builder.neverMarkAsUnusedDependency);
+    }
+    this.provided = initShim.getProvided();
+    this.requiredForSourceOnlyAbi = initShim.getRequiredForSourceOnlyAbi();
+    this.generateAbi = initShim.getGenerateAbi();
+    this.neverMarkAsUnusedDependency = initShim.getNeverMarkAsUnusedDependency();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg", generator = "Immutables")
+  private final class InitShim {
+    private byte providedBuildStage = STAGE_UNINITIALIZED;
+    private boolean provided;
+
+    boolean getProvided() {
+      if (providedBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (providedBuildStage == STAGE_UNINITIALIZED) {
+        providedBuildStage = STAGE_INITIALIZING;
+        this.provided = getProvidedInitialize();
+        providedBuildStage = STAGE_INITIALIZED;
+      }
+      return this.provided;
+    }
+
+    void setProvided(boolean provided) {
+      this.provided = provided;
+      providedBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte requiredForSourceOnlyAbiBuildStage = STAGE_UNINITIALIZED;
+    private boolean requiredForSourceOnlyAbi;
+
+    boolean getRequiredForSourceOnlyAbi() {
+      if (requiredForSourceOnlyAbiBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (requiredForSourceOnlyAbiBuildStage == STAGE_UNINITIALIZED) {
+        requiredForSourceOnlyAbiBuildStage = STAGE_INITIALIZING;
+        this.requiredForSourceOnlyAbi = getRequiredForSourceOnlyAbiInitialize();
+        requiredForSourceOnlyAbiBuildStage = STAGE_INITIALIZED;
+      }
+      return this.requiredForSourceOnlyAbi;
+    }
+
+    void setRequiredForSourceOnlyAbi(boolean requiredForSourceOnlyAbi) {
+      this.requiredForSourceOnlyAbi = requiredForSourceOnlyAbi;
+      requiredForSourceOnlyAbiBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte generateAbiBuildStage = STAGE_UNINITIALIZED;
+    private boolean generateAbi;
+
+    boolean getGenerateAbi() {
+      if (generateAbiBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (generateAbiBuildStage == STAGE_UNINITIALIZED) {
+        generateAbiBuildStage = STAGE_INITIALIZING;
+        this.generateAbi = getGenerateAbiInitialize();
+        generateAbiBuildStage = STAGE_INITIALIZED;
+      }
+      return this.generateAbi;
+    }
+
+    void setGenerateAbi(boolean generateAbi) {
+      this.generateAbi = generateAbi;
+      generateAbiBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte neverMarkAsUnusedDependencyBuildStage = STAGE_UNINITIALIZED;
+    private boolean neverMarkAsUnusedDependency;
+
+    boolean getNeverMarkAsUnusedDependency() {
+      if (neverMarkAsUnusedDependencyBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (neverMarkAsUnusedDependencyBuildStage == STAGE_UNINITIALIZED) {
+        neverMarkAsUnusedDependencyBuildStage = STAGE_INITIALIZING;
+        this.neverMarkAsUnusedDependency = getNeverMarkAsUnusedDependencyInitialize();
+        neverMarkAsUnusedDependencyBuildStage = STAGE_INITIALIZED;
+      }
+      return this.neverMarkAsUnusedDependency;
+    }
+
+    void setNeverMarkAsUnusedDependency(boolean neverMarkAsUnusedDependency) {
+      this.neverMarkAsUnusedDependency = neverMarkAsUnusedDependency;
+      neverMarkAsUnusedDependencyBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (providedBuildStage == STAGE_INITIALIZING) attributes.add("provided");
+      if (requiredForSourceOnlyAbiBuildStage == STAGE_INITIALIZING) attributes.add("requiredForSourceOnlyAbi");
+      if (generateAbiBuildStage == STAGE_INITIALIZING) attributes.add("generateAbi");
+      if (neverMarkAsUnusedDependencyBuildStage == STAGE_INITIALIZING) attributes.add("neverMarkAsUnusedDependency");
+      return "Cannot build PrebuiltJarDescriptionArg, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  private boolean getProvidedInitialize() {
+    return PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg.super.getProvided();
+  }
+
+  private boolean getRequiredForSourceOnlyAbiInitialize() {
+    return PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg.super.getRequiredForSourceOnlyAbi();
+  }
+
+  private boolean getGenerateAbiInitialize() {
+    return PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg.super.getGenerateAbi();
+  }
+
+  private boolean getNeverMarkAsUnusedDependencyInitialize() {
+    return PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg.super.getNeverMarkAsUnusedDependency();
+  }
+
+  /**
+   * @return The value of the {@code binaryJar} attribute
+   */
+  @Override
+  public SourcePath getBinaryJar() {
+    return binaryJar;
+  }
+
+  /**
+   * @return The value of the {@code sourceJar} attribute
+   */
+  @Override
+  public Optional<SourcePath> getSourceJar() {
+    return Optional.ofNullable(sourceJar);
+  }
+
+  /**
+   * @return The value of the {@code gwtJar} attribute
+   */
+  @Override
+  public Optional<SourcePath> getGwtJar() {
+    return Optional.ofNullable(gwtJar);
+  }
+
+  /**
+   * @return The value of the {@code javadocUrl} attribute
+   */
+  @Override
+  public Optional<String> getJavadocUrl() {
+    return Optional.ofNullable(javadocUrl);
+  }
+
+  /**
+   * @return The value of the {@code mavenCoords} attribute
+   */
+  @Override
+  public Optional<String> getMavenCoords() {
+    return Optional.ofNullable(mavenCoords);
+  }
+
+  /**
+   * @return The value of the {@code provided} attribute
+   */
+  @Override
+  public boolean getProvided() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getProvided()
+        : this.provided;
+  }
+
+  /**
+   * @return The value of the {@code requiredForSourceOnlyAbi} attribute
+   */
+  @Override
+  public boolean getRequiredForSourceOnlyAbi() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getRequiredForSourceOnlyAbi()
+        : this.requiredForSourceOnlyAbi;
+  }
+
+  /**
+   * @return The value of the {@code generateAbi} attribute
+   */
+  @Override
+  public boolean getGenerateAbi() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getGenerateAbi()
+        : this.generateAbi;
+  }
+
+  /**
+   * @return The value of the {@code neverMarkAsUnusedDependency} attribute
+   */
+  @Override
+  public boolean getNeverMarkAsUnusedDependency() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getNeverMarkAsUnusedDependency()
+        : this.neverMarkAsUnusedDependency;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * The name of build target default "new" platform: it is used when a platform is not specified
+   * either globally or in a target which used this target as a dependency.
+   * <p>The value is a build target, but we specify it as string, because this function is not
+   * actually called, but the attr is fetched by name from the raw (unconfigured) target node.
+   */
+  @Override
+  public Optional<UnconfiguredBuildTarget> getDefaultTargetPlatform() {
+    return Optional.ofNullable(defaultTargetPlatform);
+  }
+
+  /**
+   *A list of {@code config_setting} a target is compatible with. 
+   */
+  @Override
+  public ImmutableList<UnconfiguredBuildTarget> getCompatibleWith() {
+    return compatibleWith;
+  }
+
+  /**
+   *Each rule has a name 
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PrebuiltJarDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PrebuiltJarDescriptionArg
+        && equalTo((PrebuiltJarDescriptionArg) another);
+  }
+
+  private boolean equalTo(PrebuiltJarDescriptionArg another) {
+    return binaryJar.equals(another.binaryJar)
+        && Objects.equals(sourceJar, another.sourceJar)
+        && Objects.equals(gwtJar, another.gwtJar)
+        && Objects.equals(javadocUrl, another.javadocUrl)
+        && Objects.equals(mavenCoords, another.mavenCoords)
+        && provided == another.provided
+        && requiredForSourceOnlyAbi == another.requiredForSourceOnlyAbi
+        && generateAbi == another.generateAbi
+        && neverMarkAsUnusedDependency == another.neverMarkAsUnusedDependency
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && Objects.equals(defaultTargetPlatform, another.defaultTargetPlatform)
+        && compatibleWith.equals(another.compatibleWith)
+        && name.equals(another.name)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code binaryJar}, {@code sourceJar}, {@code gwtJar}, {@code javadocUrl}, {@code mavenCoords}, {@code provided}, {@code requiredForSourceOnlyAbi}, {@code generateAbi}, {@code neverMarkAsUnusedDependency}, {@code licenses}, {@code labels}, {@code defaultTargetPlatform}, {@code compatibleWith}, {@code name}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + binaryJar.hashCode();
+    h += (h << 5) + Objects.hashCode(sourceJar);
+    h += (h << 5) + Objects.hashCode(gwtJar);
+    h += (h << 5) + Objects.hashCode(javadocUrl);
+    h += (h << 5) + Objects.hashCode(mavenCoords);
+    h += (h << 5) + Booleans.hashCode(provided);
+    h += (h << 5) + Booleans.hashCode(requiredForSourceOnlyAbi);
+    h += (h << 5) + Booleans.hashCode(generateAbi);
+    h += (h << 5) + Booleans.hashCode(neverMarkAsUnusedDependency);
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + Objects.hashCode(defaultTargetPlatform);
+    h += (h << 5) + compatibleWith.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PrebuiltJarDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PrebuiltJarDescriptionArg")
+        .omitNullValues()
+        .add("binaryJar", binaryJar)
+        .add("sourceJar", sourceJar)
+        .add("gwtJar", gwtJar)
+        .add("javadocUrl", javadocUrl)
+        .add("mavenCoords", mavenCoords)
+        .add("provided", provided)
+        .add("requiredForSourceOnlyAbi", requiredForSourceOnlyAbi)
+        .add("generateAbi", generateAbi)
+        .add("neverMarkAsUnusedDependency", neverMarkAsUnusedDependency)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("defaultTargetPlatform", defaultTargetPlatform)
+        .add("compatibleWith", compatibleWith)
+        .add("name", name)
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link PrebuiltJarDescriptionArg PrebuiltJarDescriptionArg}.
+   * @return A new PrebuiltJarDescriptionArg builder
+   */
+  public static PrebuiltJarDescriptionArg.Builder builder() {
+    return new PrebuiltJarDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link PrebuiltJarDescriptionArg PrebuiltJarDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_BINARY_JAR = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private static final long OPT_BIT_PROVIDED = 0x1L;
+    private static final long OPT_BIT_REQUIRED_FOR_SOURCE_ONLY_ABI = 0x2L;
+    private static final long OPT_BIT_GENERATE_ABI = 0x4L;
+    private static final long OPT_BIT_NEVER_MARK_AS_UNUSED_DEPENDENCY = 0x8L;
+    private long initBits = 0x3L;
+    private long optBits;
+
+    private @Nullable SourcePath binaryJar;
+    private @Nullable SourcePath sourceJar;
+    private @Nullable SourcePath gwtJar;
+    private @Nullable String javadocUrl;
+    private @Nullable String mavenCoords;
+    private boolean provided;
+    private boolean requiredForSourceOnlyAbi;
+    private boolean generateAbi;
+    private boolean neverMarkAsUnusedDependency;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+    private ImmutableList.Builder<UnconfiguredBuildTarget> compatibleWith = ImmutableList.builder();
+    private @Nullable String name;
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.BuildRuleArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(BuildRuleArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.ConstructorArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(ConstructorArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code PrebuiltJarDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(PrebuiltJarDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractPrebuiltJarDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.jvm.java.MaybeRequiredForSourceOnlyAbiArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(MaybeRequiredForSourceOnlyAbiArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      @Var long bits = 0;
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+      if (object instanceof BuildRuleArg) {
+        BuildRuleArg instance = (BuildRuleArg) object;
+        addAllLicenses(instance.getLicenses());
+        addAllCompatibleWith(instance.getCompatibleWith());
+        addAllLabels(instance.getLabels());
+        Optional<UnconfiguredBuildTarget> defaultTargetPlatformOptional = instance.getDefaultTargetPlatform();
+        if (defaultTargetPlatformOptional.isPresent()) {
+          setDefaultTargetPlatform(defaultTargetPlatformOptional);
+        }
+      }
+      if (object instanceof ConstructorArg) {
+        ConstructorArg instance = (ConstructorArg) object;
+        setName(instance.getName());
+      }
+      if (object instanceof PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg) {
+        PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg instance = (PrebuiltJarDescription.AbstractPrebuiltJarDescriptionArg) object;
+        Optional<String> mavenCoordsOptional = instance.getMavenCoords();
+        if (mavenCoordsOptional.isPresent()) {
+          setMavenCoords(mavenCoordsOptional);
+        }
+        Optional<SourcePath> gwtJarOptional = instance.getGwtJar();
+        if (gwtJarOptional.isPresent()) {
+          setGwtJar(gwtJarOptional);
+        }
+        Optional<SourcePath> sourceJarOptional = instance.getSourceJar();
+        if (sourceJarOptional.isPresent()) {
+          setSourceJar(sourceJarOptional);
+        }
+        Optional<String> javadocUrlOptional = instance.getJavadocUrl();
+        if (javadocUrlOptional.isPresent()) {
+          setJavadocUrl(javadocUrlOptional);
+        }
+        setProvided(instance.getProvided());
+        setNeverMarkAsUnusedDependency(instance.getNeverMarkAsUnusedDependency());
+        setGenerateAbi(instance.getGenerateAbi());
+        setBinaryJar(instance.getBinaryJar());
+        if ((bits & 0x1L) == 0) {
+          setRequiredForSourceOnlyAbi(instance.getRequiredForSourceOnlyAbi());
+          bits |= 0x1L;
+        }
+      }
+      if (object instanceof MaybeRequiredForSourceOnlyAbiArg) {
+        MaybeRequiredForSourceOnlyAbiArg instance = (MaybeRequiredForSourceOnlyAbiArg) object;
+        if ((bits & 0x1L) == 0) {
+          setRequiredForSourceOnlyAbi(instance.getRequiredForSourceOnlyAbi());
+          bits |= 0x1L;
+        }
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link PrebuiltJarDescriptionArg#getBinaryJar() binaryJar} attribute.
+     * @param binaryJar The value for binaryJar 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBinaryJar(SourcePath binaryJar) {
+      this.binaryJar = Objects.requireNonNull(binaryJar, "binaryJar");
+      initBits &= ~INIT_BIT_BINARY_JAR;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltJarDescriptionArg#getSourceJar() sourceJar} to sourceJar.
+     * @param sourceJar The value for sourceJar
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSourceJar(SourcePath sourceJar) {
+      this.sourceJar = Objects.requireNonNull(sourceJar, "sourceJar");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltJarDescriptionArg#getSourceJar() sourceJar} to sourceJar.
+     * @param sourceJar The value for sourceJar
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSourceJar(Optional<? extends SourcePath> sourceJar) {
+      this.sourceJar = sourceJar.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltJarDescriptionArg#getGwtJar() gwtJar} to gwtJar.
+     * @param gwtJar The value for gwtJar
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setGwtJar(SourcePath gwtJar) {
+      this.gwtJar = Objects.requireNonNull(gwtJar, "gwtJar");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltJarDescriptionArg#getGwtJar() gwtJar} to gwtJar.
+     * @param gwtJar The value for gwtJar
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setGwtJar(Optional<? extends SourcePath> gwtJar) {
+      this.gwtJar = gwtJar.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltJarDescriptionArg#getJavadocUrl() javadocUrl} to javadocUrl.
+     * @param javadocUrl The value for javadocUrl
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJavadocUrl(String javadocUrl) {
+      this.javadocUrl = Objects.requireNonNull(javadocUrl, "javadocUrl");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltJarDescriptionArg#getJavadocUrl() javadocUrl} to javadocUrl.
+     * @param javadocUrl The value for javadocUrl
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJavadocUrl(Optional<String> javadocUrl) {
+      this.javadocUrl = javadocUrl.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltJarDescriptionArg#getMavenCoords() mavenCoords} to mavenCoords.
+     * @param mavenCoords The value for mavenCoords
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMavenCoords(String mavenCoords) {
+      this.mavenCoords = Objects.requireNonNull(mavenCoords, "mavenCoords");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltJarDescriptionArg#getMavenCoords() mavenCoords} to mavenCoords.
+     * @param mavenCoords The value for mavenCoords
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMavenCoords(Optional<String> mavenCoords) {
+      this.mavenCoords = mavenCoords.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PrebuiltJarDescriptionArg#getProvided() provided} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltJarDescriptionArg#getProvided() provided}.</em>
+     * @param provided The value for provided 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProvided(boolean provided) {
+      this.provided = provided;
+      optBits |= OPT_BIT_PROVIDED;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PrebuiltJarDescriptionArg#getRequiredForSourceOnlyAbi() requiredForSourceOnlyAbi} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltJarDescriptionArg#getRequiredForSourceOnlyAbi() requiredForSourceOnlyAbi}.</em>
+     * @param requiredForSourceOnlyAbi The value for requiredForSourceOnlyAbi 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRequiredForSourceOnlyAbi(boolean requiredForSourceOnlyAbi) {
+      this.requiredForSourceOnlyAbi = requiredForSourceOnlyAbi;
+      optBits |= OPT_BIT_REQUIRED_FOR_SOURCE_ONLY_ABI;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PrebuiltJarDescriptionArg#getGenerateAbi() generateAbi} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltJarDescriptionArg#getGenerateAbi() generateAbi}.</em>
+     * @param generateAbi The value for generateAbi 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setGenerateAbi(boolean generateAbi) {
+      this.generateAbi = generateAbi;
+      optBits |= OPT_BIT_GENERATE_ABI;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PrebuiltJarDescriptionArg#getNeverMarkAsUnusedDependency() neverMarkAsUnusedDependency} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltJarDescriptionArg#getNeverMarkAsUnusedDependency() neverMarkAsUnusedDependency}.</em>
+     * @param neverMarkAsUnusedDependency The value for neverMarkAsUnusedDependency 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNeverMarkAsUnusedDependency(boolean neverMarkAsUnusedDependency) {
+      this.neverMarkAsUnusedDependency = neverMarkAsUnusedDependency;
+      optBits |= OPT_BIT_NEVER_MARK_AS_UNUSED_DEPENDENCY;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltJarDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltJarDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltJarDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltJarDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltJarDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltJarDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltJarDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltJarDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltJarDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(UnconfiguredBuildTarget defaultTargetPlatform) {
+      this.defaultTargetPlatform = Objects.requireNonNull(defaultTargetPlatform, "defaultTargetPlatform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltJarDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(Optional<? extends UnconfiguredBuildTarget> defaultTargetPlatform) {
+      this.defaultTargetPlatform = defaultTargetPlatform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltJarDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param element A compatibleWith element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget element) {
+      this.compatibleWith.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltJarDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An array of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget... elements) {
+      this.compatibleWith.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltJarDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith = ImmutableList.builder();
+      return addAllCompatibleWith(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltJarDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PrebuiltJarDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltJarDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltJarDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltJarDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltJarDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link PrebuiltJarDescriptionArg PrebuiltJarDescriptionArg}.
+     * @return An immutable instance of PrebuiltJarDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PrebuiltJarDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new PrebuiltJarDescriptionArg(this);
+    }
+
+    private boolean providedIsSet() {
+      return (optBits & OPT_BIT_PROVIDED) != 0;
+    }
+
+    private boolean requiredForSourceOnlyAbiIsSet() {
+      return (optBits & OPT_BIT_REQUIRED_FOR_SOURCE_ONLY_ABI) != 0;
+    }
+
+    private boolean generateAbiIsSet() {
+      return (optBits & OPT_BIT_GENERATE_ABI) != 0;
+    }
+
+    private boolean neverMarkAsUnusedDependencyIsSet() {
+      return (optBits & OPT_BIT_NEVER_MARK_AS_UNUSED_DEPENDENCY) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_BINARY_JAR) != 0) attributes.add("binaryJar");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build PrebuiltJarDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
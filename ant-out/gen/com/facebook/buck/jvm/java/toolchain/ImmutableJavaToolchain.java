@@ -0,0 +1,86 @@
+package com.facebook.buck.jvm.java.toolchain;
+
+import com.facebook.buck.jvm.java.JavacProvider;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link JavaToolchain}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableJavaToolchain.of()}.
+ */
+@Generated(from = "JavaToolchain", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableJavaToolchain implements JavaToolchain {
+  private final JavacProvider javacProvider;
+
+  private ImmutableJavaToolchain(JavacProvider javacProvider) {
+    this.javacProvider = Objects.requireNonNull(javacProvider, "javacProvider");
+  }
+
+  /**
+   * @return The value of the {@code javacProvider} attribute
+   */
+  @Override
+  public JavacProvider getJavacProvider() {
+    return javacProvider;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableJavaToolchain} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableJavaToolchain
+        && equalTo((ImmutableJavaToolchain) another);
+  }
+
+  private boolean equalTo(ImmutableJavaToolchain another) {
+    return javacProvider.equals(another.javacProvider);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code javacProvider}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + javacProvider.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code JavaToolchain} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JavaToolchain")
+        .omitNullValues()
+        .add("javacProvider", javacProvider)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code JavaToolchain} instance.
+   * @param javacProvider The value for the {@code javacProvider} attribute
+   * @return An immutable JavaToolchain instance
+   */
+  public static ImmutableJavaToolchain of(JavacProvider javacProvider) {
+    return new ImmutableJavaToolchain(javacProvider);
+  }
+}
@@ -0,0 +1,3385 @@
+package com.facebook.buck.jvm.kotlin;
+
+import com.facebook.buck.core.description.arg.BuildRuleArg;
+import com.facebook.buck.core.description.arg.ConstructorArg;
+import com.facebook.buck.core.description.arg.HasDeclaredDeps;
+import com.facebook.buck.core.description.arg.HasProvidedDeps;
+import com.facebook.buck.core.description.arg.HasSrcs;
+import com.facebook.buck.core.description.arg.HasTests;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.UnconfiguredBuildTarget;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.jvm.java.BuiltInJavac;
+import com.facebook.buck.jvm.java.CompileAgainstLibraryType;
+import com.facebook.buck.jvm.java.JavaBuckConfig;
+import com.facebook.buck.jvm.java.JavaLibraryDescription;
+import com.facebook.buck.jvm.java.JvmLibraryArg;
+import com.facebook.buck.jvm.java.MaybeRequiredForSourceOnlyAbiArg;
+import com.facebook.buck.jvm.java.abi.AbiGenerationMode;
+import com.facebook.buck.util.types.Either;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link KotlinLibraryDescription.AbstractKotlinLibraryDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code KotlinLibraryDescriptionArg.builder()}.
+ */
+@Generated(from = "KotlinLibraryDescription.AbstractKotlinLibraryDescriptionArg", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class KotlinLibraryDescriptionArg
+    implements KotlinLibraryDescription.AbstractKotlinLibraryDescriptionArg {
+  private final ImmutableList<String> freeCompilerArgs;
+  private final boolean allWarningsAsErrors;
+  private final boolean suppressWarnings;
+  private final boolean verbose;
+  private final boolean includeRuntime;
+  private final String jvmTarget;
+  private final @Nullable String jdkHome;
+  private final boolean noJdk;
+  private final boolean noStdlib;
+  private final boolean noReflect;
+  private final boolean javaParameters;
+  private final @Nullable String apiVersion;
+  private final @Nullable String languageVersion;
+  private final @Nullable KotlinLibraryDescription.AnnotationProcessingTool annotationProcessingTool;
+  private final ImmutableSortedSet<BuildTarget> friendPaths;
+  private final ImmutableMap<String, String> kaptApOptions;
+  private final ImmutableList<SourcePath> kotlincPlugins;
+  private final ImmutableSortedSet<SourcePath> resources;
+  private final @Nullable SourcePath proguardConfig;
+  private final ImmutableList<String> postprocessClassesCommands;
+  private final @Nullable Path resourcesRoot;
+  private final @Nullable SourcePath unbundledResourcesRoot;
+  private final @Nullable SourcePath manifestFile;
+  private final @Nullable String mavenCoords;
+  private final @Nullable SourcePath mavenPomTemplate;
+  private final ImmutableSortedSet<BuildTarget> exportedDeps;
+  private final ImmutableSortedSet<BuildTarget> sourceOnlyAbiDeps;
+  private final ImmutableSortedSet<BuildTarget> runtimeDeps;
+  private final @Nullable String source;
+  private final @Nullable String target;
+  private final @Nullable String javaVersion;
+  private final @Nullable SourcePath javac;
+  private final @Nullable SourcePath javacJar;
+  private final @Nullable String compilerClassName;
+  private final @Nullable Either<BuiltInJavac, SourcePath> compiler;
+  private final ImmutableList<String> extraArguments;
+  private final ImmutableSet<Pattern> removeClasses;
+  private final ImmutableSortedSet<BuildTarget> annotationProcessorDeps;
+  private final ImmutableList<String> annotationProcessorParams;
+  private final ImmutableList<String> javaPluginParams;
+  private final ImmutableSet<String> annotationProcessors;
+  private final @Nullable Boolean annotationProcessorOnly;
+  private final ImmutableList<BuildTarget> plugins;
+  private final @Nullable AbiGenerationMode abiGenerationMode;
+  private final @Nullable CompileAgainstLibraryType compileAgainst;
+  private final @Nullable JavaBuckConfig.SourceAbiVerificationMode sourceAbiVerificationMode;
+  private final @Nullable JavaBuckConfig.UnusedDependenciesAction onUnusedDependencies;
+  private final @Nullable Boolean neverMarkAsUnusedDependency;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+  private final ImmutableList<UnconfiguredBuildTarget> compatibleWith;
+  private final String name;
+  private final boolean requiredForSourceOnlyAbi;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final ImmutableSortedSet<BuildTarget> providedDeps;
+  private final ImmutableSortedSet<BuildTarget> exportedProvidedDeps;
+  private final ImmutableSortedSet<SourcePath> srcs;
+  private final ImmutableSortedSet<BuildTarget> tests;
+
+  private KotlinLibraryDescriptionArg(KotlinLibraryDescriptionArg.Builder builder) {
+    this.freeCompilerArgs = builder.freeCompilerArgs.build();
+    this.jdkHome = builder.jdkHome;
+    this.apiVersion = builder.apiVersion;
+    this.languageVersion = builder.languageVersion;
+    this.annotationProcessingTool = builder.annotationProcessingTool;
+    this.friendPaths = builder.friendPaths.build();
+    this.kaptApOptions = builder.kaptApOptions.build();
+    this.kotlincPlugins = builder.kotlincPlugins.build();
+    this.resources = builder.resources.build();
+    this.proguardConfig = builder.proguardConfig;
+    this.postprocessClassesCommands = builder.postprocessClassesCommands.build();
+    this.resourcesRoot = builder.resourcesRoot;
+    this.unbundledResourcesRoot = builder.unbundledResourcesRoot;
+    this.manifestFile = builder.manifestFile;
+    this.mavenCoords = builder.mavenCoords;
+    this.mavenPomTemplate = builder.mavenPomTemplate;
+    this.exportedDeps = builder.exportedDeps.build();
+    this.sourceOnlyAbiDeps = builder.sourceOnlyAbiDeps.build();
+    this.runtimeDeps = builder.runtimeDeps.build();
+    this.source = builder.source;
+    this.target = builder.target;
+    this.javaVersion = builder.javaVersion;
+    this.javac = builder.javac;
+    this.javacJar = builder.javacJar;
+    this.compilerClassName = builder.compilerClassName;
+    this.compiler = builder.compiler;
+    this.extraArguments = builder.extraArguments.build();
+    this.removeClasses = builder.removeClasses.build();
+    this.annotationProcessorDeps = builder.annotationProcessorDeps.build();
+    this.annotationProcessorParams = builder.annotationProcessorParams.build();
+    this.javaPluginParams = builder.javaPluginParams.build();
+    this.annotationProcessors = builder.annotationProcessors.build();
+    this.annotationProcessorOnly = builder.annotationProcessorOnly;
+    this.plugins = builder.plugins.build();
+    this.abiGenerationMode = builder.abiGenerationMode;
+    this.compileAgainst = builder.compileAgainst;
+    this.sourceAbiVerificationMode = builder.sourceAbiVerificationMode;
+    this.onUnusedDependencies = builder.onUnusedDependencies;
+    this.neverMarkAsUnusedDependency = builder.neverMarkAsUnusedDependency;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.defaultTargetPlatform = builder.defaultTargetPlatform;
+    this.compatibleWith = builder.compatibleWith.build();
+    this.name = builder.name;
+    this.deps = builder.deps.build();
+    this.providedDeps = builder.providedDeps.build();
+    this.exportedProvidedDeps = builder.exportedProvidedDeps.build();
+    this.srcs = builder.srcs.build();
+    this.tests = builder.tests.build();
+    if (builder.allWarningsAsErrorsIsSet()) {
+      initShim.setAllWarningsAsErrors(builder.allWarningsAsErrors);
+    }
+    if (builder.suppressWarningsIsSet()) {
+      initShim.setSuppressWarnings(builder.suppressWarnings);
+    }
+    if (builder.verboseIsSet()) {
+      initShim.setVerbose(builder.verbose);
+    }
+    if (builder.includeRuntimeIsSet()) {
+      initShim.setIncludeRuntime(builder.includeRuntime);
+    }
+    if (builder.jvmTarget != null) {
+      initShim.setJvmTarget(builder.jvmTarget);
+    }
+    if (builder.noJdkIsSet()) {
+      initShim.setNoJdk(builder.noJdk);
+    }
+    if (builder.noStdlibIsSet()) {
+      initShim.setNoStdlib(builder.noStdlib);
+    }
+    if (builder.noReflectIsSet()) {
+      initShim.setNoReflect(builder.noReflect);
+    }
+    if (builder.javaParametersIsSet()) {
+      initShim.setJavaParameters(builder.javaParameters);
+    }
+    if (builder.requiredForSourceOnlyAbiIsSet()) {
+      initShim.setRequiredForSourceOnlyAbi(builder.requiredForSourceOnlyAbi);
+    }
+    this.allWarningsAsErrors = initShim.getAllWarningsAsErrors();
+    this.suppressWarnings = initShim.getSuppressWarnings();
+    this.verbose = initShim.getVerbose();
+    this.includeRuntime = initShim.getIncludeRuntime();
+    this.jvmTarget = initShim.getJvmTarget();
+    this.noJdk = initShim.getNoJdk();
+    this.noStdlib = initShim.getNoStdlib();
+    this.noReflect = initShim.getNoReflect();
+    this.javaParameters = initShim.getJavaParameters();
+    this.requiredForSourceOnlyAbi = initShim.getRequiredForSourceOnlyAbi();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "KotlinLibraryDescription.AbstractKotlinLibraryDescriptionArg", generator = "Immutables")
+  private final class InitShim {
+    private byte allWarningsAsErrorsBuildStage = STAGE_UNINITIALIZED;
+    private boolean allWarningsAsErrors;
+
+    boolean getAllWarningsAsErrors() {
+      if (allWarningsAsErrorsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (allWarningsAsErrorsBuildStage == STAGE_UNINITIALIZED) {
+        allWarningsAsErrorsBuildStage = STAGE_INITIALIZING;
+        this.allWarningsAsErrors = getAllWarningsAsErrorsInitialize();
+        allWarningsAsErrorsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.allWarningsAsErrors;
+    }
+
+    void setAllWarningsAsErrors(boolean allWarningsAsErrors) {
+      this.allWarningsAsErrors = allWarningsAsErrors;
+      allWarningsAsErrorsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte suppressWarningsBuildStage = STAGE_UNINITIALIZED;
+    private boolean suppressWarnings;
+
+    boolean getSuppressWarnings() {
+      if (suppressWarningsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (suppressWarningsBuildStage == STAGE_UNINITIALIZED) {
+        suppressWarningsBuildStage = STAGE_INITIALIZING;
+        this.suppressWarnings = getSuppressWarningsInitialize();
+        suppressWarningsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.suppressWarnings;
+    }
+
+    void setSuppressWarnings(boolean suppressWarnings) {
+      this.suppressWarnings = suppressWarnings;
+      suppressWarningsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte verboseBuildStage = STAGE_UNINITIALIZED;
+    private boolean verbose;
+
+    boolean getVerbose() {
+      if (verboseBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (verboseBuildStage == STAGE_UNINITIALIZED) {
+        verboseBuildStage = STAGE_INITIALIZING;
+        this.verbose = getVerboseInitialize();
+        verboseBuildStage = STAGE_INITIALIZED;
+      }
+      return this.verbose;
+    }
+
+    void setVerbose(boolean verbose) {
+      this.verbose = verbose;
+      verboseBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte includeRuntimeBuildStage = STAGE_UNINITIALIZED;
+    private boolean includeRuntime;
+
+    boolean getIncludeRuntime() {
+      if (includeRuntimeBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (includeRuntimeBuildStage == STAGE_UNINITIALIZED) {
+        includeRuntimeBuildStage = STAGE_INITIALIZING;
+        this.includeRuntime = getIncludeRuntimeInitialize();
+        includeRuntimeBuildStage = STAGE_INITIALIZED;
+      }
+      return this.includeRuntime;
+    }
+
+    void setIncludeRuntime(boolean includeRuntime) {
+      this.includeRuntime = includeRuntime;
+      includeRuntimeBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte jvmTargetBuildStage = STAGE_UNINITIALIZED;
+    private String jvmTarget;
+
+    String getJvmTarget() {
+      if (jvmTargetBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (jvmTargetBuildStage == STAGE_UNINITIALIZED) {
+        jvmTargetBuildStage = STAGE_INITIALIZING;
+        this.jvmTarget = Objects.requireNonNull(getJvmTargetInitialize(), "jvmTarget");
+        jvmTargetBuildStage = STAGE_INITIALIZED;
+      }
+      return this.jvmTarget;
+    }
+
+    void setJvmTarget(String jvmTarget) {
+      this.jvmTarget = jvmTarget;
+      jvmTargetBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte noJdkBuildStage = STAGE_UNINITIALIZED;
+    private boolean noJdk;
+
+    boolean getNoJdk() {
+      if (noJdkBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (noJdkBuildStage == STAGE_UNINITIALIZED) {
+        noJdkBuildStage = STAGE_INITIALIZING;
+        this.noJdk = getNoJdkInitialize();
+        noJdkBuildStage = STAGE_INITIALIZED;
+      }
+      return this.noJdk;
+    }
+
+    void setNoJdk(boolean noJdk) {
+      this.noJdk = noJdk;
+      noJdkBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte noStdlibBuildStage = STAGE_UNINITIALIZED;
+    private boolean noStdlib;
+
+    boolean getNoStdlib() {
+      if (noStdlibBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (noStdlibBuildStage == STAGE_UNINITIALIZED) {
+        noStdlibBuildStage = STAGE_INITIALIZING;
+        this.noStdlib = getNoStdlibInitialize();
+        noStdlibBuildStage = STAGE_INITIALIZED;
+      }
+      return this.noStdlib;
+    }
+
+    void setNoStdlib(boolean noStdlib) {
+      this.noStdlib = noStdlib;
+      noStdlibBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte noReflectBuildStage = STAGE_UNINITIALIZED;
+    private boolean noReflect;
+
+    boolean getNoReflect() {
+      if (noReflectBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (noReflectBuildStage == STAGE_UNINITIALIZED) {
+        noReflectBuildStage = STAGE_INITIALIZING;
+        this.noReflect = getNoReflectInitialize();
+        noReflectBuildStage = STAGE_INITIALIZED;
+      }
+      return this.noReflect;
+    }
+
+    void setNoReflect(boolean noReflect) {
+      this.noReflect = noReflect;
+      noReflectBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte javaParametersBuildStage = STAGE_UNINITIALIZED;
+    private boolean javaParameters;
+
+    boolean getJavaParameters() {
+      if (javaParametersBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (javaParametersBuildStage == STAGE_UNINITIALIZED) {
+        javaParametersBuildStage = STAGE_INITIALIZING;
+        this.javaParameters = getJavaParametersInitialize();
+        javaParametersBuildStage = STAGE_INITIALIZED;
+      }
+      return this.javaParameters;
+    }
+
+    void setJavaParameters(boolean javaParameters) {
+      this.javaParameters = javaParameters;
+      javaParametersBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte requiredForSourceOnlyAbiBuildStage = STAGE_UNINITIALIZED;
+    private boolean requiredForSourceOnlyAbi;
+
+    boolean getRequiredForSourceOnlyAbi() {
+      if (requiredForSourceOnlyAbiBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (requiredForSourceOnlyAbiBuildStage == STAGE_UNINITIALIZED) {
+        requiredForSourceOnlyAbiBuildStage = STAGE_INITIALIZING;
+        this.requiredForSourceOnlyAbi = getRequiredForSourceOnlyAbiInitialize();
+        requiredForSourceOnlyAbiBuildStage = STAGE_INITIALIZED;
+      }
+      return this.requiredForSourceOnlyAbi;
+    }
+
+    void setRequiredForSourceOnlyAbi(boolean requiredForSourceOnlyAbi) {
+      this.requiredForSourceOnlyAbi = requiredForSourceOnlyAbi;
+      requiredForSourceOnlyAbiBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (allWarningsAsErrorsBuildStage == STAGE_INITIALIZING) attributes.add("allWarningsAsErrors");
+      if (suppressWarningsBuildStage == STAGE_INITIALIZING) attributes.add("suppressWarnings");
+      if (verboseBuildStage == STAGE_INITIALIZING) attributes.add("verbose");
+      if (includeRuntimeBuildStage == STAGE_INITIALIZING) attributes.add("includeRuntime");
+      if (jvmTargetBuildStage == STAGE_INITIALIZING) attributes.add("jvmTarget");
+      if (noJdkBuildStage == STAGE_INITIALIZING) attributes.add("noJdk");
+      if (noStdlibBuildStage == STAGE_INITIALIZING) attributes.add("noStdlib");
+      if (noReflectBuildStage == STAGE_INITIALIZING) attributes.add("noReflect");
+      if (javaParametersBuildStage == STAGE_INITIALIZING) attributes.add("javaParameters");
+      if (requiredForSourceOnlyAbiBuildStage == STAGE_INITIALIZING) attributes.add("requiredForSourceOnlyAbi");
+      return "Cannot build KotlinLibraryDescriptionArg, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  private boolean getAllWarningsAsErrorsInitialize() {
+    return KotlinLibraryDescription.AbstractKotlinLibraryDescriptionArg.super.getAllWarningsAsErrors();
+  }
+
+  private boolean getSuppressWarningsInitialize() {
+    return KotlinLibraryDescription.AbstractKotlinLibraryDescriptionArg.super.getSuppressWarnings();
+  }
+
+  private boolean getVerboseInitialize() {
+    return KotlinLibraryDescription.AbstractKotlinLibraryDescriptionArg.super.getVerbose();
+  }
+
+  private boolean getIncludeRuntimeInitialize() {
+    return KotlinLibraryDescription.AbstractKotlinLibraryDescriptionArg.super.getIncludeRuntime();
+  }
+
+  private String getJvmTargetInitialize() {
+    return KotlinLibraryDescription.AbstractKotlinLibraryDescriptionArg.super.getJvmTarget();
+  }
+
+  private boolean getNoJdkInitialize() {
+    return KotlinLibraryDescription.AbstractKotlinLibraryDescriptionArg.super.getNoJdk();
+  }
+
+  private boolean getNoStdlibInitialize() {
+    return KotlinLibraryDescription.AbstractKotlinLibraryDescriptionArg.super.getNoStdlib();
+  }
+
+  private boolean getNoReflectInitialize() {
+    return KotlinLibraryDescription.AbstractKotlinLibraryDescriptionArg.super.getNoReflect();
+  }
+
+  private boolean getJavaParametersInitialize() {
+    return KotlinLibraryDescription.AbstractKotlinLibraryDescriptionArg.super.getJavaParameters();
+  }
+
+  private boolean getRequiredForSourceOnlyAbiInitialize() {
+    return KotlinLibraryDescription.AbstractKotlinLibraryDescriptionArg.super.getRequiredForSourceOnlyAbi();
+  }
+
+  /**
+   * A list of additional compiler arguments.
+   */
+  @Override
+  public ImmutableList<String> getFreeCompilerArgs() {
+    return freeCompilerArgs;
+  }
+
+  /**
+   * Report an error if there are any warnings.
+   */
+  @Override
+  public boolean getAllWarningsAsErrors() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getAllWarningsAsErrors()
+        : this.allWarningsAsErrors;
+  }
+
+  /**
+   * Generate no warnings.
+   */
+  @Override
+  public boolean getSuppressWarnings() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getSuppressWarnings()
+        : this.suppressWarnings;
+  }
+
+  /**
+   * Enable verbose logging output.
+   */
+  @Override
+  public boolean getVerbose() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getVerbose()
+        : this.verbose;
+  }
+
+  /**
+   * Include Kotlin runtime in to resulting .jar
+   */
+  @Override
+  public boolean getIncludeRuntime() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getIncludeRuntime()
+        : this.includeRuntime;
+  }
+
+  /**
+   * Target version of the generated JVM bytecode (1.6 or 1.8), default is 1.6
+   * Possible values: "1.6", "1.8"
+   */
+  @Override
+  public String getJvmTarget() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getJvmTarget()
+        : this.jvmTarget;
+  }
+
+  /**
+   * Path to JDK home directory to include into classpath, if differs from default JAVA_HOME
+   */
+  @Override
+  public Optional<String> getJdkHome() {
+    return Optional.ofNullable(jdkHome);
+  }
+
+  /**
+   * Don't include Java runtime into classpath.
+   */
+  @Override
+  public boolean getNoJdk() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getNoJdk()
+        : this.noJdk;
+  }
+
+  /**
+   * Don't include kotlin-stdlib.jar or kotlin-reflect.jar into classpath.
+   */
+  @Override
+  public boolean getNoStdlib() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getNoStdlib()
+        : this.noStdlib;
+  }
+
+  /**
+   * Don't include kotlin-reflect.jar into classpath.
+   */
+  @Override
+  public boolean getNoReflect() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getNoReflect()
+        : this.noReflect;
+  }
+
+  /**
+   * Generate metadata for Java 1.8 reflection on method parameters.
+   */
+  @Override
+  public boolean getJavaParameters() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getJavaParameters()
+        : this.javaParameters;
+  }
+
+  /**
+   * Allow to use declarations only from the specified version of bundled libraries.
+   * Possible values: "1.0", "1.1", "1.2", "1.3", "1.4".
+   */
+  @Override
+  public Optional<String> getApiVersion() {
+    return Optional.ofNullable(apiVersion);
+  }
+
+  /**
+   * Provide source compatibility with specified language version.
+   * Possible values: "1.0", "1.1", "1.2", "1.3", "1.4".
+   */
+  @Override
+  public Optional<String> getLanguageVersion() {
+    return Optional.ofNullable(languageVersion);
+  }
+
+  /**
+   * @return The value of the {@code annotationProcessingTool} attribute
+   */
+  @Override
+  public Optional<KotlinLibraryDescription.AnnotationProcessingTool> getAnnotationProcessingTool() {
+    return Optional.ofNullable(annotationProcessingTool);
+  }
+
+  /**
+   * @return The value of the {@code friendPaths} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getFriendPaths() {
+    return friendPaths;
+  }
+
+  /**
+   * @return The value of the {@code kaptApOptions} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getKaptApOptions() {
+    return kaptApOptions;
+  }
+
+  /**
+   * @return The value of the {@code kotlincPlugins} attribute
+   */
+  @Override
+  public ImmutableList<SourcePath> getKotlincPlugins() {
+    return kotlincPlugins;
+  }
+
+  /**
+   * @return The value of the {@code resources} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getResources() {
+    return resources;
+  }
+
+  /**
+   * @return The value of the {@code proguardConfig} attribute
+   */
+  @Override
+  public Optional<SourcePath> getProguardConfig() {
+    return Optional.ofNullable(proguardConfig);
+  }
+
+  /**
+   * @return The value of the {@code postprocessClassesCommands} attribute
+   */
+  @Override
+  public ImmutableList<String> getPostprocessClassesCommands() {
+    return postprocessClassesCommands;
+  }
+
+  /**
+   * @return The value of the {@code resourcesRoot} attribute
+   */
+  @Override
+  public Optional<Path> getResourcesRoot() {
+    return Optional.ofNullable(resourcesRoot);
+  }
+
+  /**
+   * @return The value of the {@code unbundledResourcesRoot} attribute
+   */
+  @Override
+  public Optional<SourcePath> getUnbundledResourcesRoot() {
+    return Optional.ofNullable(unbundledResourcesRoot);
+  }
+
+  /**
+   * @return The value of the {@code manifestFile} attribute
+   */
+  @Override
+  public Optional<SourcePath> getManifestFile() {
+    return Optional.ofNullable(manifestFile);
+  }
+
+  /**
+   * @return The value of the {@code mavenCoords} attribute
+   */
+  @Override
+  public Optional<String> getMavenCoords() {
+    return Optional.ofNullable(mavenCoords);
+  }
+
+  /**
+   * @return The value of the {@code mavenPomTemplate} attribute
+   */
+  @Override
+  public Optional<SourcePath> getMavenPomTemplate() {
+    return Optional.ofNullable(mavenPomTemplate);
+  }
+
+  /**
+   * @return The value of the {@code exportedDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getExportedDeps() {
+    return exportedDeps;
+  }
+
+  /**
+   * @return The value of the {@code sourceOnlyAbiDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getSourceOnlyAbiDeps() {
+    return sourceOnlyAbiDeps;
+  }
+
+  /**
+   * @return The value of the {@code runtimeDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getRuntimeDeps() {
+    return runtimeDeps;
+  }
+
+  /**
+   * @return The value of the {@code source} attribute
+   */
+  @Override
+  public Optional<String> getSource() {
+    return Optional.ofNullable(source);
+  }
+
+  /**
+   * @return The value of the {@code target} attribute
+   */
+  @Override
+  public Optional<String> getTarget() {
+    return Optional.ofNullable(target);
+  }
+
+  /**
+   * @return The value of the {@code javaVersion} attribute
+   */
+  @Override
+  public Optional<String> getJavaVersion() {
+    return Optional.ofNullable(javaVersion);
+  }
+
+  /**
+   * @return The value of the {@code javac} attribute
+   */
+  @Override
+  public Optional<SourcePath> getJavac() {
+    return Optional.ofNullable(javac);
+  }
+
+  /**
+   * @return The value of the {@code javacJar} attribute
+   */
+  @Override
+  public Optional<SourcePath> getJavacJar() {
+    return Optional.ofNullable(javacJar);
+  }
+
+  /**
+   * @return The value of the {@code compilerClassName} attribute
+   */
+  @Override
+  public Optional<String> getCompilerClassName() {
+    return Optional.ofNullable(compilerClassName);
+  }
+
+  /**
+   * @return The value of the {@code compiler} attribute
+   */
+  @Override
+  public Optional<Either<BuiltInJavac, SourcePath>> getCompiler() {
+    return Optional.ofNullable(compiler);
+  }
+
+  /**
+   * @return The value of the {@code extraArguments} attribute
+   */
+  @Override
+  public ImmutableList<String> getExtraArguments() {
+    return extraArguments;
+  }
+
+  /**
+   * @return The value of the {@code removeClasses} attribute
+   */
+  @Override
+  public ImmutableSet<Pattern> getRemoveClasses() {
+    return removeClasses;
+  }
+
+  /**
+   * @return The value of the {@code annotationProcessorDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getAnnotationProcessorDeps() {
+    return annotationProcessorDeps;
+  }
+
+  /**
+   * @return The value of the {@code annotationProcessorParams} attribute
+   */
+  @Override
+  public ImmutableList<String> getAnnotationProcessorParams() {
+    return annotationProcessorParams;
+  }
+
+  /**
+   * @return The value of the {@code javaPluginParams} attribute
+   */
+  @Override
+  public ImmutableList<String> getJavaPluginParams() {
+    return javaPluginParams;
+  }
+
+  /**
+   * @return The value of the {@code annotationProcessors} attribute
+   */
+  @Override
+  public ImmutableSet<String> getAnnotationProcessors() {
+    return annotationProcessors;
+  }
+
+  /**
+   * @return The value of the {@code annotationProcessorOnly} attribute
+   */
+  @Override
+  public Optional<Boolean> getAnnotationProcessorOnly() {
+    return Optional.ofNullable(annotationProcessorOnly);
+  }
+
+  /**
+   * @return The value of the {@code plugins} attribute
+   */
+  @Override
+  public ImmutableList<BuildTarget> getPlugins() {
+    return plugins;
+  }
+
+  /**
+   * @return The value of the {@code abiGenerationMode} attribute
+   */
+  @Override
+  public Optional<AbiGenerationMode> getAbiGenerationMode() {
+    return Optional.ofNullable(abiGenerationMode);
+  }
+
+  /**
+   * @return The value of the {@code compileAgainst} attribute
+   */
+  @Override
+  public Optional<CompileAgainstLibraryType> getCompileAgainst() {
+    return Optional.ofNullable(compileAgainst);
+  }
+
+  /**
+   * @return The value of the {@code sourceAbiVerificationMode} attribute
+   */
+  @Override
+  public Optional<JavaBuckConfig.SourceAbiVerificationMode> getSourceAbiVerificationMode() {
+    return Optional.ofNullable(sourceAbiVerificationMode);
+  }
+
+  /**
+   * @return The value of the {@code onUnusedDependencies} attribute
+   */
+  @Override
+  public Optional<JavaBuckConfig.UnusedDependenciesAction> getOnUnusedDependencies() {
+    return Optional.ofNullable(onUnusedDependencies);
+  }
+
+  /**
+   * @return The value of the {@code neverMarkAsUnusedDependency} attribute
+   */
+  @Override
+  public Optional<Boolean> getNeverMarkAsUnusedDependency() {
+    return Optional.ofNullable(neverMarkAsUnusedDependency);
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * The name of build target default "new" platform: it is used when a platform is not specified
+   * either globally or in a target which used this target as a dependency.
+   * <p>The value is a build target, but we specify it as string, because this function is not
+   * actually called, but the attr is fetched by name from the raw (unconfigured) target node.
+   */
+  @Override
+  public Optional<UnconfiguredBuildTarget> getDefaultTargetPlatform() {
+    return Optional.ofNullable(defaultTargetPlatform);
+  }
+
+  /**
+   *A list of {@code config_setting} a target is compatible with. 
+   */
+  @Override
+  public ImmutableList<UnconfiguredBuildTarget> getCompatibleWith() {
+    return compatibleWith;
+  }
+
+  /**
+   *Each rule has a name 
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code requiredForSourceOnlyAbi} attribute
+   */
+  @Override
+  public boolean getRequiredForSourceOnlyAbi() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getRequiredForSourceOnlyAbi()
+        : this.requiredForSourceOnlyAbi;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code providedDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getProvidedDeps() {
+    return providedDeps;
+  }
+
+  /**
+   * @return The value of the {@code exportedProvidedDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getExportedProvidedDeps() {
+    return exportedProvidedDeps;
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getSrcs() {
+    return srcs;
+  }
+
+  /**
+   *@return A list of tests of this target. 
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getTests() {
+    return tests;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code KotlinLibraryDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof KotlinLibraryDescriptionArg
+        && equalTo((KotlinLibraryDescriptionArg) another);
+  }
+
+  private boolean equalTo(KotlinLibraryDescriptionArg another) {
+    return freeCompilerArgs.equals(another.freeCompilerArgs)
+        && allWarningsAsErrors == another.allWarningsAsErrors
+        && suppressWarnings == another.suppressWarnings
+        && verbose == another.verbose
+        && includeRuntime == another.includeRuntime
+        && jvmTarget.equals(another.jvmTarget)
+        && Objects.equals(jdkHome, another.jdkHome)
+        && noJdk == another.noJdk
+        && noStdlib == another.noStdlib
+        && noReflect == another.noReflect
+        && javaParameters == another.javaParameters
+        && Objects.equals(apiVersion, another.apiVersion)
+        && Objects.equals(languageVersion, another.languageVersion)
+        && Objects.equals(annotationProcessingTool, another.annotationProcessingTool)
+        && friendPaths.equals(another.friendPaths)
+        && kaptApOptions.equals(another.kaptApOptions)
+        && kotlincPlugins.equals(another.kotlincPlugins)
+        && resources.equals(another.resources)
+        && Objects.equals(proguardConfig, another.proguardConfig)
+        && postprocessClassesCommands.equals(another.postprocessClassesCommands)
+        && Objects.equals(resourcesRoot, another.resourcesRoot)
+        && Objects.equals(unbundledResourcesRoot, another.unbundledResourcesRoot)
+        && Objects.equals(manifestFile, another.manifestFile)
+        && Objects.equals(mavenCoords, another.mavenCoords)
+        && Objects.equals(mavenPomTemplate, another.mavenPomTemplate)
+        && exportedDeps.equals(another.exportedDeps)
+        && sourceOnlyAbiDeps.equals(another.sourceOnlyAbiDeps)
+        && runtimeDeps.equals(another.runtimeDeps)
+        && Objects.equals(source, another.source)
+        && Objects.equals(target, another.target)
+        && Objects.equals(javaVersion, another.javaVersion)
+        && Objects.equals(javac, another.javac)
+        && Objects.equals(javacJar, another.javacJar)
+        && Objects.equals(compilerClassName, another.compilerClassName)
+        && Objects.equals(compiler, another.compiler)
+        && extraArguments.equals(another.extraArguments)
+        && removeClasses.equals(another.removeClasses)
+        && annotationProcessorDeps.equals(another.annotationProcessorDeps)
+        && annotationProcessorParams.equals(another.annotationProcessorParams)
+        && javaPluginParams.equals(another.javaPluginParams)
+        && annotationProcessors.equals(another.annotationProcessors)
+        && Objects.equals(annotationProcessorOnly, another.annotationProcessorOnly)
+        && plugins.equals(another.plugins)
+        && Objects.equals(abiGenerationMode, another.abiGenerationMode)
+        && Objects.equals(compileAgainst, another.compileAgainst)
+        && Objects.equals(sourceAbiVerificationMode, another.sourceAbiVerificationMode)
+        && Objects.equals(onUnusedDependencies, another.onUnusedDependencies)
+        && Objects.equals(neverMarkAsUnusedDependency, another.neverMarkAsUnusedDependency)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && Objects.equals(defaultTargetPlatform, another.defaultTargetPlatform)
+        && compatibleWith.equals(another.compatibleWith)
+        && name.equals(another.name)
+        && requiredForSourceOnlyAbi == another.requiredForSourceOnlyAbi
+        && deps.equals(another.deps)
+        && providedDeps.equals(another.providedDeps)
+        && exportedProvidedDeps.equals(another.exportedProvidedDeps)
+        && srcs.equals(another.srcs)
+        && tests.equals(another.tests);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code freeCompilerArgs}, {@code allWarningsAsErrors}, {@code suppressWarnings}, {@code verbose}, {@code includeRuntime}, {@code jvmTarget}, {@code jdkHome}, {@code noJdk}, {@code noStdlib}, {@code noReflect}, {@code javaParameters}, {@code apiVersion}, {@code languageVersion}, {@code annotationProcessingTool}, {@code friendPaths}, {@code kaptApOptions}, {@code kotlincPlugins}, {@code resources}, {@code proguardConfig}, {@code postprocessClassesCommands}, {@code resourcesRoot}, {@code unbundledResourcesRoot}, {@code manifestFile}, {@code mavenCoords}, {@code mavenPomTemplate}, {@code exportedDeps}, {@code sourceOnlyAbiDeps}, {@code runtimeDeps}, {@code source}, {@code target}, {@code javaVersion}, {@code javac}, {@code javacJar}, {@code compilerClassName}, {@code compiler}, {@code extraArguments}, {@code removeClasses}, {@code annotationProcessorDeps}, {@code annotationProcessorParams}, {@code javaPluginParams}, {@code annotationProcessors}, {@code annotationProcessorOnly}, {@code plugins}, {@code abiGenerationMode}, {@code compileAgainst}, {@code sourceAbiVerificationMode}, {@code onUnusedDependencies}, {@code neverMarkAsUnusedDependency}, {@code licenses}, {@code labels}, {@code defaultTargetPlatform}, {@code compatibleWith}, {@code name}, {@code requiredForSourceOnlyAbi}, {@code deps}, {@code providedDeps}, {@code exportedProvidedDeps}, {@code srcs}, {@code tests}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + freeCompilerArgs.hashCode();
+    h += (h << 5) + Booleans.hashCode(allWarningsAsErrors);
+    h += (h << 5) + Booleans.hashCode(suppressWarnings);
+    h += (h << 5) + Booleans.hashCode(verbose);
+    h += (h << 5) + Booleans.hashCode(includeRuntime);
+    h += (h << 5) + jvmTarget.hashCode();
+    h += (h << 5) + Objects.hashCode(jdkHome);
+    h += (h << 5) + Booleans.hashCode(noJdk);
+    h += (h << 5) + Booleans.hashCode(noStdlib);
+    h += (h << 5) + Booleans.hashCode(noReflect);
+    h += (h << 5) + Booleans.hashCode(javaParameters);
+    h += (h << 5) + Objects.hashCode(apiVersion);
+    h += (h << 5) + Objects.hashCode(languageVersion);
+    h += (h << 5) + Objects.hashCode(annotationProcessingTool);
+    h += (h << 5) + friendPaths.hashCode();
+    h += (h << 5) + kaptApOptions.hashCode();
+    h += (h << 5) + kotlincPlugins.hashCode();
+    h += (h << 5) + resources.hashCode();
+    h += (h << 5) + Objects.hashCode(proguardConfig);
+    h += (h << 5) + postprocessClassesCommands.hashCode();
+    h += (h << 5) + Objects.hashCode(resourcesRoot);
+    h += (h << 5) + Objects.hashCode(unbundledResourcesRoot);
+    h += (h << 5) + Objects.hashCode(manifestFile);
+    h += (h << 5) + Objects.hashCode(mavenCoords);
+    h += (h << 5) + Objects.hashCode(mavenPomTemplate);
+    h += (h << 5) + exportedDeps.hashCode();
+    h += (h << 5) + sourceOnlyAbiDeps.hashCode();
+    h += (h << 5) + runtimeDeps.hashCode();
+    h += (h << 5) + Objects.hashCode(source);
+    h += (h << 5) + Objects.hashCode(target);
+    h += (h << 5) + Objects.hashCode(javaVersion);
+    h += (h << 5) + Objects.hashCode(javac);
+    h += (h << 5) + Objects.hashCode(javacJar);
+    h += (h << 5) + Objects.hashCode(compilerClassName);
+    h += (h << 5) + Objects.hashCode(compiler);
+    h += (h << 5) + extraArguments.hashCode();
+    h += (h << 5) + removeClasses.hashCode();
+    h += (h << 5) + annotationProcessorDeps.hashCode();
+    h += (h << 5) + annotationProcessorParams.hashCode();
+    h += (h << 5) + javaPluginParams.hashCode();
+    h += (h << 5) + annotationProcessors.hashCode();
+    h += (h << 5) + Objects.hashCode(annotationProcessorOnly);
+    h += (h << 5) + plugins.hashCode();
+    h += (h << 5) + Objects.hashCode(abiGenerationMode);
+    h += (h << 5) + Objects.hashCode(compileAgainst);
+    h += (h << 5) + Objects.hashCode(sourceAbiVerificationMode);
+    h += (h << 5) + Objects.hashCode(onUnusedDependencies);
+    h += (h << 5) + Objects.hashCode(neverMarkAsUnusedDependency);
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + Objects.hashCode(defaultTargetPlatform);
+    h += (h << 5) + compatibleWith.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + Booleans.hashCode(requiredForSourceOnlyAbi);
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + providedDeps.hashCode();
+    h += (h << 5) + exportedProvidedDeps.hashCode();
+    h += (h << 5) + srcs.hashCode();
+    h += (h << 5) + tests.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code KotlinLibraryDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("KotlinLibraryDescriptionArg")
+        .omitNullValues()
+        .add("freeCompilerArgs", freeCompilerArgs)
+        .add("allWarningsAsErrors", allWarningsAsErrors)
+        .add("suppressWarnings", suppressWarnings)
+        .add("verbose", verbose)
+        .add("includeRuntime", includeRuntime)
+        .add("jvmTarget", jvmTarget)
+        .add("jdkHome", jdkHome)
+        .add("noJdk", noJdk)
+        .add("noStdlib", noStdlib)
+        .add("noReflect", noReflect)
+        .add("javaParameters", javaParameters)
+        .add("apiVersion", apiVersion)
+        .add("languageVersion", languageVersion)
+        .add("annotationProcessingTool", annotationProcessingTool)
+        .add("friendPaths", friendPaths)
+        .add("kaptApOptions", kaptApOptions)
+        .add("kotlincPlugins", kotlincPlugins)
+        .add("resources", resources)
+        .add("proguardConfig", proguardConfig)
+        .add("postprocessClassesCommands", postprocessClassesCommands)
+        .add("resourcesRoot", resourcesRoot)
+        .add("unbundledResourcesRoot", unbundledResourcesRoot)
+        .add("manifestFile", manifestFile)
+        .add("mavenCoords", mavenCoords)
+        .add("mavenPomTemplate", mavenPomTemplate)
+        .add("exportedDeps", exportedDeps)
+        .add("sourceOnlyAbiDeps", sourceOnlyAbiDeps)
+        .add("runtimeDeps", runtimeDeps)
+        .add("source", source)
+        .add("target", target)
+        .add("javaVersion", javaVersion)
+        .add("javac", javac)
+        .add("javacJar", javacJar)
+        .add("compilerClassName", compilerClassName)
+        .add("compiler", compiler)
+        .add("extraArguments", extraArguments)
+        .add("removeClasses", removeClasses)
+        .add("annotationProcessorDeps", annotationProcessorDeps)
+        .add("annotationProcessorParams", annotationProcessorParams)
+        .add("javaPluginParams", javaPluginParams)
+        .add("annotationProcessors", annotationProcessors)
+        .add("annotationProcessorOnly", annotationProcessorOnly)
+        .add("plugins", plugins)
+        .add("abiGenerationMode", abiGenerationMode)
+        .add("compileAgainst", compileAgainst)
+        .add("sourceAbiVerificationMode", sourceAbiVerificationMode)
+        .add("onUnusedDependencies", onUnusedDependencies)
+        .add("neverMarkAsUnusedDependency", neverMarkAsUnusedDependency)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("defaultTargetPlatform", defaultTargetPlatform)
+        .add("compatibleWith", compatibleWith)
+        .add("name", name)
+        .add("requiredForSourceOnlyAbi", requiredForSourceOnlyAbi)
+        .add("deps", deps)
+        .add("providedDeps", providedDeps)
+        .add("exportedProvidedDeps", exportedProvidedDeps)
+        .add("srcs", srcs)
+        .add("tests", tests)
+        .toString();
+  }
+
+
+  private static KotlinLibraryDescriptionArg validate(KotlinLibraryDescriptionArg instance) {
+    instance.verify();
+    return instance;
+  }
+
+  /**
+   * Creates a builder for {@link KotlinLibraryDescriptionArg KotlinLibraryDescriptionArg}.
+   * @return A new KotlinLibraryDescriptionArg builder
+   */
+  public static KotlinLibraryDescriptionArg.Builder builder() {
+    return new KotlinLibraryDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link KotlinLibraryDescriptionArg KotlinLibraryDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "KotlinLibraryDescription.AbstractKotlinLibraryDescriptionArg", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long OPT_BIT_ALL_WARNINGS_AS_ERRORS = 0x1L;
+    private static final long OPT_BIT_SUPPRESS_WARNINGS = 0x2L;
+    private static final long OPT_BIT_VERBOSE = 0x4L;
+    private static final long OPT_BIT_INCLUDE_RUNTIME = 0x8L;
+    private static final long OPT_BIT_NO_JDK = 0x10L;
+    private static final long OPT_BIT_NO_STDLIB = 0x20L;
+    private static final long OPT_BIT_NO_REFLECT = 0x40L;
+    private static final long OPT_BIT_JAVA_PARAMETERS = 0x80L;
+    private static final long OPT_BIT_REQUIRED_FOR_SOURCE_ONLY_ABI = 0x100L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private ImmutableList.Builder<String> freeCompilerArgs = ImmutableList.builder();
+    private boolean allWarningsAsErrors;
+    private boolean suppressWarnings;
+    private boolean verbose;
+    private boolean includeRuntime;
+    private @Nullable String jvmTarget;
+    private @Nullable String jdkHome;
+    private boolean noJdk;
+    private boolean noStdlib;
+    private boolean noReflect;
+    private boolean javaParameters;
+    private @Nullable String apiVersion;
+    private @Nullable String languageVersion;
+    private @Nullable KotlinLibraryDescription.AnnotationProcessingTool annotationProcessingTool;
+    private ImmutableSortedSet.Builder<BuildTarget> friendPaths = ImmutableSortedSet.naturalOrder();
+    private ImmutableMap.Builder<String, String> kaptApOptions = ImmutableMap.builder();
+    private ImmutableList.Builder<SourcePath> kotlincPlugins = ImmutableList.builder();
+    private ImmutableSortedSet.Builder<SourcePath> resources = ImmutableSortedSet.naturalOrder();
+    private @Nullable SourcePath proguardConfig;
+    private ImmutableList.Builder<String> postprocessClassesCommands = ImmutableList.builder();
+    private @Nullable Path resourcesRoot;
+    private @Nullable SourcePath unbundledResourcesRoot;
+    private @Nullable SourcePath manifestFile;
+    private @Nullable String mavenCoords;
+    private @Nullable SourcePath mavenPomTemplate;
+    private ImmutableSortedSet.Builder<BuildTarget> exportedDeps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> sourceOnlyAbiDeps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> runtimeDeps = ImmutableSortedSet.naturalOrder();
+    private @Nullable String source;
+    private @Nullable String target;
+    private @Nullable String javaVersion;
+    private @Nullable SourcePath javac;
+    private @Nullable SourcePath javacJar;
+    private @Nullable String compilerClassName;
+    private @Nullable Either<BuiltInJavac, SourcePath> compiler;
+    private ImmutableList.Builder<String> extraArguments = ImmutableList.builder();
+    private ImmutableSet.Builder<Pattern> removeClasses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<BuildTarget> annotationProcessorDeps = ImmutableSortedSet.naturalOrder();
+    private ImmutableList.Builder<String> annotationProcessorParams = ImmutableList.builder();
+    private ImmutableList.Builder<String> javaPluginParams = ImmutableList.builder();
+    private ImmutableSet.Builder<String> annotationProcessors = ImmutableSet.builder();
+    private @Nullable Boolean annotationProcessorOnly;
+    private ImmutableList.Builder<BuildTarget> plugins = ImmutableList.builder();
+    private @Nullable AbiGenerationMode abiGenerationMode;
+    private @Nullable CompileAgainstLibraryType compileAgainst;
+    private @Nullable JavaBuckConfig.SourceAbiVerificationMode sourceAbiVerificationMode;
+    private @Nullable JavaBuckConfig.UnusedDependenciesAction onUnusedDependencies;
+    private @Nullable Boolean neverMarkAsUnusedDependency;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+    private ImmutableList.Builder<UnconfiguredBuildTarget> compatibleWith = ImmutableList.builder();
+    private @Nullable String name;
+    private boolean requiredForSourceOnlyAbi;
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> providedDeps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> exportedProvidedDeps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<SourcePath> srcs = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> tests = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasProvidedDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasProvidedDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.jvm.java.JavaLibraryDescription.CoreArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(JavaLibraryDescription.CoreArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasTests} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasTests instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.jvm.java.JvmLibraryArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(JvmLibraryArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.BuildRuleArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(BuildRuleArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasSrcs} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasSrcs instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.ConstructorArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(ConstructorArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.jvm.kotlin.KotlinLibraryDescription.CoreArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(KotlinLibraryDescription.CoreArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.jvm.java.MaybeRequiredForSourceOnlyAbiArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(MaybeRequiredForSourceOnlyAbiArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code KotlinLibraryDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(KotlinLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractKotlinLibraryDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(KotlinLibraryDescription.AbstractKotlinLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+      if (object instanceof HasProvidedDeps) {
+        HasProvidedDeps instance = (HasProvidedDeps) object;
+        addAllProvidedDeps(instance.getProvidedDeps());
+        addAllExportedProvidedDeps(instance.getExportedProvidedDeps());
+      }
+      if (object instanceof JavaLibraryDescription.CoreArg) {
+        JavaLibraryDescription.CoreArg instance = (JavaLibraryDescription.CoreArg) object;
+        Optional<SourcePath> unbundledResourcesRootOptional = instance.getUnbundledResourcesRoot();
+        if (unbundledResourcesRootOptional.isPresent()) {
+          setUnbundledResourcesRoot(unbundledResourcesRootOptional);
+        }
+        Optional<String> mavenCoordsOptional = instance.getMavenCoords();
+        if (mavenCoordsOptional.isPresent()) {
+          setMavenCoords(mavenCoordsOptional);
+        }
+        Optional<SourcePath> manifestFileOptional = instance.getManifestFile();
+        if (manifestFileOptional.isPresent()) {
+          setManifestFile(manifestFileOptional);
+        }
+        addAllSourceOnlyAbiDeps(instance.getSourceOnlyAbiDeps());
+        Optional<SourcePath> mavenPomTemplateOptional = instance.getMavenPomTemplate();
+        if (mavenPomTemplateOptional.isPresent()) {
+          setMavenPomTemplate(mavenPomTemplateOptional);
+        }
+        addAllPostprocessClassesCommands(instance.getPostprocessClassesCommands());
+        Optional<Path> resourcesRootOptional = instance.getResourcesRoot();
+        if (resourcesRootOptional.isPresent()) {
+          setResourcesRoot(resourcesRootOptional);
+        }
+        addAllResources(instance.getResources());
+        addAllRuntimeDeps(instance.getRuntimeDeps());
+        addAllExportedDeps(instance.getExportedDeps());
+        Optional<SourcePath> proguardConfigOptional = instance.getProguardConfig();
+        if (proguardConfigOptional.isPresent()) {
+          setProguardConfig(proguardConfigOptional);
+        }
+      }
+      if (object instanceof HasTests) {
+        HasTests instance = (HasTests) object;
+        addAllTests(instance.getTests());
+      }
+      if (object instanceof JvmLibraryArg) {
+        JvmLibraryArg instance = (JvmLibraryArg) object;
+        addAllRemoveClasses(instance.getRemoveClasses());
+        addAllJavaPluginParams(instance.getJavaPluginParams());
+        Optional<SourcePath> javacOptional = instance.getJavac();
+        if (javacOptional.isPresent()) {
+          setJavac(javacOptional);
+        }
+        addAllAnnotationProcessorParams(instance.getAnnotationProcessorParams());
+        Optional<SourcePath> javacJarOptional = instance.getJavacJar();
+        if (javacJarOptional.isPresent()) {
+          setJavacJar(javacJarOptional);
+        }
+        Optional<JavaBuckConfig.SourceAbiVerificationMode> sourceAbiVerificationModeOptional = instance.getSourceAbiVerificationMode();
+        if (sourceAbiVerificationModeOptional.isPresent()) {
+          setSourceAbiVerificationMode(sourceAbiVerificationModeOptional);
+        }
+        addAllPlugins(instance.getPlugins());
+        Optional<String> javaVersionOptional = instance.getJavaVersion();
+        if (javaVersionOptional.isPresent()) {
+          setJavaVersion(javaVersionOptional);
+        }
+        addAllAnnotationProcessorDeps(instance.getAnnotationProcessorDeps());
+        Optional<Boolean> annotationProcessorOnlyOptional = instance.getAnnotationProcessorOnly();
+        if (annotationProcessorOnlyOptional.isPresent()) {
+          setAnnotationProcessorOnly(annotationProcessorOnlyOptional);
+        }
+        Optional<String> sourceOptional = instance.getSource();
+        if (sourceOptional.isPresent()) {
+          setSource(sourceOptional);
+        }
+        addAllAnnotationProcessors(instance.getAnnotationProcessors());
+        Optional<AbiGenerationMode> abiGenerationModeOptional = instance.getAbiGenerationMode();
+        if (abiGenerationModeOptional.isPresent()) {
+          setAbiGenerationMode(abiGenerationModeOptional);
+        }
+        Optional<String> targetOptional = instance.getTarget();
+        if (targetOptional.isPresent()) {
+          setTarget(targetOptional);
+        }
+        addAllExtraArguments(instance.getExtraArguments());
+        Optional<CompileAgainstLibraryType> compileAgainstOptional = instance.getCompileAgainst();
+        if (compileAgainstOptional.isPresent()) {
+          setCompileAgainst(compileAgainstOptional);
+        }
+        Optional<JavaBuckConfig.UnusedDependenciesAction> onUnusedDependenciesOptional = instance.getOnUnusedDependencies();
+        if (onUnusedDependenciesOptional.isPresent()) {
+          setOnUnusedDependencies(onUnusedDependenciesOptional);
+        }
+        Optional<Boolean> neverMarkAsUnusedDependencyOptional = instance.getNeverMarkAsUnusedDependency();
+        if (neverMarkAsUnusedDependencyOptional.isPresent()) {
+          setNeverMarkAsUnusedDependency(neverMarkAsUnusedDependencyOptional);
+        }
+        Optional<String> compilerClassNameOptional = instance.getCompilerClassName();
+        if (compilerClassNameOptional.isPresent()) {
+          setCompilerClassName(compilerClassNameOptional);
+        }
+        Optional<Either<BuiltInJavac, SourcePath>> compilerOptional = instance.getCompiler();
+        if (compilerOptional.isPresent()) {
+          setCompiler(compilerOptional);
+        }
+      }
+      if (object instanceof BuildRuleArg) {
+        BuildRuleArg instance = (BuildRuleArg) object;
+        addAllLicenses(instance.getLicenses());
+        addAllCompatibleWith(instance.getCompatibleWith());
+        addAllLabels(instance.getLabels());
+        Optional<UnconfiguredBuildTarget> defaultTargetPlatformOptional = instance.getDefaultTargetPlatform();
+        if (defaultTargetPlatformOptional.isPresent()) {
+          setDefaultTargetPlatform(defaultTargetPlatformOptional);
+        }
+      }
+      if (object instanceof HasSrcs) {
+        HasSrcs instance = (HasSrcs) object;
+        addAllSrcs(instance.getSrcs());
+      }
+      if (object instanceof ConstructorArg) {
+        ConstructorArg instance = (ConstructorArg) object;
+        setName(instance.getName());
+      }
+      if (object instanceof KotlinLibraryDescription.CoreArg) {
+        KotlinLibraryDescription.CoreArg instance = (KotlinLibraryDescription.CoreArg) object;
+        setJavaParameters(instance.getJavaParameters());
+        Optional<String> languageVersionOptional = instance.getLanguageVersion();
+        if (languageVersionOptional.isPresent()) {
+          setLanguageVersion(languageVersionOptional);
+        }
+        addAllKotlincPlugins(instance.getKotlincPlugins());
+        setSuppressWarnings(instance.getSuppressWarnings());
+        setNoStdlib(instance.getNoStdlib());
+        Optional<KotlinLibraryDescription.AnnotationProcessingTool> annotationProcessingToolOptional = instance.getAnnotationProcessingTool();
+        if (annotationProcessingToolOptional.isPresent()) {
+          setAnnotationProcessingTool(annotationProcessingToolOptional);
+        }
+        setNoReflect(instance.getNoReflect());
+        Optional<String> jdkHomeOptional = instance.getJdkHome();
+        if (jdkHomeOptional.isPresent()) {
+          setJdkHome(jdkHomeOptional);
+        }
+        setVerbose(instance.getVerbose());
+        setIncludeRuntime(instance.getIncludeRuntime());
+        setNoJdk(instance.getNoJdk());
+        Optional<String> apiVersionOptional = instance.getApiVersion();
+        if (apiVersionOptional.isPresent()) {
+          setApiVersion(apiVersionOptional);
+        }
+        addAllFriendPaths(instance.getFriendPaths());
+        addAllFreeCompilerArgs(instance.getFreeCompilerArgs());
+        setJvmTarget(instance.getJvmTarget());
+        setAllWarningsAsErrors(instance.getAllWarningsAsErrors());
+        putAllKaptApOptions(instance.getKaptApOptions());
+      }
+      if (object instanceof MaybeRequiredForSourceOnlyAbiArg) {
+        MaybeRequiredForSourceOnlyAbiArg instance = (MaybeRequiredForSourceOnlyAbiArg) object;
+        setRequiredForSourceOnlyAbi(instance.getRequiredForSourceOnlyAbi());
+      }
+    }
+
+    /**
+     * Adds one element to {@link KotlinLibraryDescriptionArg#getFreeCompilerArgs() freeCompilerArgs} list.
+     * @param element A freeCompilerArgs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addFreeCompilerArgs(String element) {
+      this.freeCompilerArgs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getFreeCompilerArgs() freeCompilerArgs} list.
+     * @param elements An array of freeCompilerArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addFreeCompilerArgs(String... elements) {
+      this.freeCompilerArgs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link KotlinLibraryDescriptionArg#getFreeCompilerArgs() freeCompilerArgs} list.
+     * @param elements An iterable of freeCompilerArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setFreeCompilerArgs(Iterable<String> elements) {
+      this.freeCompilerArgs = ImmutableList.builder();
+      return addAllFreeCompilerArgs(elements);
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getFreeCompilerArgs() freeCompilerArgs} list.
+     * @param elements An iterable of freeCompilerArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllFreeCompilerArgs(Iterable<String> elements) {
+      this.freeCompilerArgs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link KotlinLibraryDescriptionArg#getAllWarningsAsErrors() allWarningsAsErrors} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link KotlinLibraryDescriptionArg#getAllWarningsAsErrors() allWarningsAsErrors}.</em>
+     * @param allWarningsAsErrors The value for allWarningsAsErrors 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAllWarningsAsErrors(boolean allWarningsAsErrors) {
+      this.allWarningsAsErrors = allWarningsAsErrors;
+      optBits |= OPT_BIT_ALL_WARNINGS_AS_ERRORS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link KotlinLibraryDescriptionArg#getSuppressWarnings() suppressWarnings} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link KotlinLibraryDescriptionArg#getSuppressWarnings() suppressWarnings}.</em>
+     * @param suppressWarnings The value for suppressWarnings 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSuppressWarnings(boolean suppressWarnings) {
+      this.suppressWarnings = suppressWarnings;
+      optBits |= OPT_BIT_SUPPRESS_WARNINGS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link KotlinLibraryDescriptionArg#getVerbose() verbose} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link KotlinLibraryDescriptionArg#getVerbose() verbose}.</em>
+     * @param verbose The value for verbose 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVerbose(boolean verbose) {
+      this.verbose = verbose;
+      optBits |= OPT_BIT_VERBOSE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link KotlinLibraryDescriptionArg#getIncludeRuntime() includeRuntime} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link KotlinLibraryDescriptionArg#getIncludeRuntime() includeRuntime}.</em>
+     * @param includeRuntime The value for includeRuntime 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIncludeRuntime(boolean includeRuntime) {
+      this.includeRuntime = includeRuntime;
+      optBits |= OPT_BIT_INCLUDE_RUNTIME;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link KotlinLibraryDescriptionArg#getJvmTarget() jvmTarget} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link KotlinLibraryDescriptionArg#getJvmTarget() jvmTarget}.</em>
+     * @param jvmTarget The value for jvmTarget 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJvmTarget(String jvmTarget) {
+      this.jvmTarget = Objects.requireNonNull(jvmTarget, "jvmTarget");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getJdkHome() jdkHome} to jdkHome.
+     * @param jdkHome The value for jdkHome
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJdkHome(String jdkHome) {
+      this.jdkHome = Objects.requireNonNull(jdkHome, "jdkHome");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getJdkHome() jdkHome} to jdkHome.
+     * @param jdkHome The value for jdkHome
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJdkHome(Optional<String> jdkHome) {
+      this.jdkHome = jdkHome.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link KotlinLibraryDescriptionArg#getNoJdk() noJdk} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link KotlinLibraryDescriptionArg#getNoJdk() noJdk}.</em>
+     * @param noJdk The value for noJdk 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNoJdk(boolean noJdk) {
+      this.noJdk = noJdk;
+      optBits |= OPT_BIT_NO_JDK;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link KotlinLibraryDescriptionArg#getNoStdlib() noStdlib} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link KotlinLibraryDescriptionArg#getNoStdlib() noStdlib}.</em>
+     * @param noStdlib The value for noStdlib 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNoStdlib(boolean noStdlib) {
+      this.noStdlib = noStdlib;
+      optBits |= OPT_BIT_NO_STDLIB;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link KotlinLibraryDescriptionArg#getNoReflect() noReflect} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link KotlinLibraryDescriptionArg#getNoReflect() noReflect}.</em>
+     * @param noReflect The value for noReflect 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNoReflect(boolean noReflect) {
+      this.noReflect = noReflect;
+      optBits |= OPT_BIT_NO_REFLECT;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link KotlinLibraryDescriptionArg#getJavaParameters() javaParameters} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link KotlinLibraryDescriptionArg#getJavaParameters() javaParameters}.</em>
+     * @param javaParameters The value for javaParameters 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJavaParameters(boolean javaParameters) {
+      this.javaParameters = javaParameters;
+      optBits |= OPT_BIT_JAVA_PARAMETERS;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getApiVersion() apiVersion} to apiVersion.
+     * @param apiVersion The value for apiVersion
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setApiVersion(String apiVersion) {
+      this.apiVersion = Objects.requireNonNull(apiVersion, "apiVersion");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getApiVersion() apiVersion} to apiVersion.
+     * @param apiVersion The value for apiVersion
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setApiVersion(Optional<String> apiVersion) {
+      this.apiVersion = apiVersion.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getLanguageVersion() languageVersion} to languageVersion.
+     * @param languageVersion The value for languageVersion
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLanguageVersion(String languageVersion) {
+      this.languageVersion = Objects.requireNonNull(languageVersion, "languageVersion");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getLanguageVersion() languageVersion} to languageVersion.
+     * @param languageVersion The value for languageVersion
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLanguageVersion(Optional<String> languageVersion) {
+      this.languageVersion = languageVersion.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getAnnotationProcessingTool() annotationProcessingTool} to annotationProcessingTool.
+     * @param annotationProcessingTool The value for annotationProcessingTool
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAnnotationProcessingTool(KotlinLibraryDescription.AnnotationProcessingTool annotationProcessingTool) {
+      this.annotationProcessingTool = Objects.requireNonNull(annotationProcessingTool, "annotationProcessingTool");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getAnnotationProcessingTool() annotationProcessingTool} to annotationProcessingTool.
+     * @param annotationProcessingTool The value for annotationProcessingTool
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAnnotationProcessingTool(Optional<? extends KotlinLibraryDescription.AnnotationProcessingTool> annotationProcessingTool) {
+      this.annotationProcessingTool = annotationProcessingTool.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link KotlinLibraryDescriptionArg#getFriendPaths() friendPaths} sortedSet.
+     * @param element A friendPaths element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addFriendPaths(BuildTarget element) {
+      this.friendPaths.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getFriendPaths() friendPaths} sortedSet.
+     * @param elements An array of friendPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addFriendPaths(BuildTarget... elements) {
+      this.friendPaths.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link KotlinLibraryDescriptionArg#getFriendPaths() friendPaths} sortedSet.
+     * @param elements An iterable of friendPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setFriendPaths(Iterable<? extends BuildTarget> elements) {
+      this.friendPaths = ImmutableSortedSet.naturalOrder();
+      return addAllFriendPaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getFriendPaths() friendPaths} sortedSet.
+     * @param elements An iterable of friendPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllFriendPaths(Iterable<? extends BuildTarget> elements) {
+      this.friendPaths.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link KotlinLibraryDescriptionArg#getKaptApOptions() kaptApOptions} map.
+     * @param key The key in the kaptApOptions map
+     * @param value The associated value in the kaptApOptions map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putKaptApOptions(String key, String value) {
+      this.kaptApOptions.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link KotlinLibraryDescriptionArg#getKaptApOptions() kaptApOptions} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putKaptApOptions(Map.Entry<String, ? extends String> entry) {
+      this.kaptApOptions.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link KotlinLibraryDescriptionArg#getKaptApOptions() kaptApOptions} map. Nulls are not permitted
+     * @param entries The entries that will be added to the kaptApOptions map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setKaptApOptions(Map<String, ? extends String> entries) {
+      this.kaptApOptions = ImmutableMap.builder();
+      return putAllKaptApOptions(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link KotlinLibraryDescriptionArg#getKaptApOptions() kaptApOptions} map. Nulls are not permitted
+     * @param entries The entries that will be added to the kaptApOptions map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllKaptApOptions(Map<String, ? extends String> entries) {
+      this.kaptApOptions.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link KotlinLibraryDescriptionArg#getKotlincPlugins() kotlincPlugins} list.
+     * @param element A kotlincPlugins element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addKotlincPlugins(SourcePath element) {
+      this.kotlincPlugins.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getKotlincPlugins() kotlincPlugins} list.
+     * @param elements An array of kotlincPlugins elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addKotlincPlugins(SourcePath... elements) {
+      this.kotlincPlugins.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link KotlinLibraryDescriptionArg#getKotlincPlugins() kotlincPlugins} list.
+     * @param elements An iterable of kotlincPlugins elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setKotlincPlugins(Iterable<? extends SourcePath> elements) {
+      this.kotlincPlugins = ImmutableList.builder();
+      return addAllKotlincPlugins(elements);
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getKotlincPlugins() kotlincPlugins} list.
+     * @param elements An iterable of kotlincPlugins elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllKotlincPlugins(Iterable<? extends SourcePath> elements) {
+      this.kotlincPlugins.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link KotlinLibraryDescriptionArg#getResources() resources} sortedSet.
+     * @param element A resources element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addResources(SourcePath element) {
+      this.resources.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getResources() resources} sortedSet.
+     * @param elements An array of resources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addResources(SourcePath... elements) {
+      this.resources.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link KotlinLibraryDescriptionArg#getResources() resources} sortedSet.
+     * @param elements An iterable of resources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResources(Iterable<? extends SourcePath> elements) {
+      this.resources = ImmutableSortedSet.naturalOrder();
+      return addAllResources(elements);
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getResources() resources} sortedSet.
+     * @param elements An iterable of resources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllResources(Iterable<? extends SourcePath> elements) {
+      this.resources.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getProguardConfig() proguardConfig} to proguardConfig.
+     * @param proguardConfig The value for proguardConfig
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProguardConfig(SourcePath proguardConfig) {
+      this.proguardConfig = Objects.requireNonNull(proguardConfig, "proguardConfig");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getProguardConfig() proguardConfig} to proguardConfig.
+     * @param proguardConfig The value for proguardConfig
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProguardConfig(Optional<? extends SourcePath> proguardConfig) {
+      this.proguardConfig = proguardConfig.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link KotlinLibraryDescriptionArg#getPostprocessClassesCommands() postprocessClassesCommands} list.
+     * @param element A postprocessClassesCommands element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPostprocessClassesCommands(String element) {
+      this.postprocessClassesCommands.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getPostprocessClassesCommands() postprocessClassesCommands} list.
+     * @param elements An array of postprocessClassesCommands elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPostprocessClassesCommands(String... elements) {
+      this.postprocessClassesCommands.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link KotlinLibraryDescriptionArg#getPostprocessClassesCommands() postprocessClassesCommands} list.
+     * @param elements An iterable of postprocessClassesCommands elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPostprocessClassesCommands(Iterable<String> elements) {
+      this.postprocessClassesCommands = ImmutableList.builder();
+      return addAllPostprocessClassesCommands(elements);
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getPostprocessClassesCommands() postprocessClassesCommands} list.
+     * @param elements An iterable of postprocessClassesCommands elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllPostprocessClassesCommands(Iterable<String> elements) {
+      this.postprocessClassesCommands.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getResourcesRoot() resourcesRoot} to resourcesRoot.
+     * @param resourcesRoot The value for resourcesRoot
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResourcesRoot(Path resourcesRoot) {
+      this.resourcesRoot = Objects.requireNonNull(resourcesRoot, "resourcesRoot");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getResourcesRoot() resourcesRoot} to resourcesRoot.
+     * @param resourcesRoot The value for resourcesRoot
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResourcesRoot(Optional<? extends Path> resourcesRoot) {
+      this.resourcesRoot = resourcesRoot.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getUnbundledResourcesRoot() unbundledResourcesRoot} to unbundledResourcesRoot.
+     * @param unbundledResourcesRoot The value for unbundledResourcesRoot
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setUnbundledResourcesRoot(SourcePath unbundledResourcesRoot) {
+      this.unbundledResourcesRoot = Objects.requireNonNull(unbundledResourcesRoot, "unbundledResourcesRoot");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getUnbundledResourcesRoot() unbundledResourcesRoot} to unbundledResourcesRoot.
+     * @param unbundledResourcesRoot The value for unbundledResourcesRoot
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setUnbundledResourcesRoot(Optional<? extends SourcePath> unbundledResourcesRoot) {
+      this.unbundledResourcesRoot = unbundledResourcesRoot.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getManifestFile() manifestFile} to manifestFile.
+     * @param manifestFile The value for manifestFile
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setManifestFile(SourcePath manifestFile) {
+      this.manifestFile = Objects.requireNonNull(manifestFile, "manifestFile");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getManifestFile() manifestFile} to manifestFile.
+     * @param manifestFile The value for manifestFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setManifestFile(Optional<? extends SourcePath> manifestFile) {
+      this.manifestFile = manifestFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getMavenCoords() mavenCoords} to mavenCoords.
+     * @param mavenCoords The value for mavenCoords
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMavenCoords(String mavenCoords) {
+      this.mavenCoords = Objects.requireNonNull(mavenCoords, "mavenCoords");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getMavenCoords() mavenCoords} to mavenCoords.
+     * @param mavenCoords The value for mavenCoords
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMavenCoords(Optional<String> mavenCoords) {
+      this.mavenCoords = mavenCoords.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getMavenPomTemplate() mavenPomTemplate} to mavenPomTemplate.
+     * @param mavenPomTemplate The value for mavenPomTemplate
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMavenPomTemplate(SourcePath mavenPomTemplate) {
+      this.mavenPomTemplate = Objects.requireNonNull(mavenPomTemplate, "mavenPomTemplate");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getMavenPomTemplate() mavenPomTemplate} to mavenPomTemplate.
+     * @param mavenPomTemplate The value for mavenPomTemplate
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMavenPomTemplate(Optional<? extends SourcePath> mavenPomTemplate) {
+      this.mavenPomTemplate = mavenPomTemplate.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link KotlinLibraryDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param element A exportedDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExportedDeps(BuildTarget element) {
+      this.exportedDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param elements An array of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExportedDeps(BuildTarget... elements) {
+      this.exportedDeps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link KotlinLibraryDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param elements An iterable of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExportedDeps(Iterable<? extends BuildTarget> elements) {
+      this.exportedDeps = ImmutableSortedSet.naturalOrder();
+      return addAllExportedDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param elements An iterable of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllExportedDeps(Iterable<? extends BuildTarget> elements) {
+      this.exportedDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link KotlinLibraryDescriptionArg#getSourceOnlyAbiDeps() sourceOnlyAbiDeps} sortedSet.
+     * @param element A sourceOnlyAbiDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addSourceOnlyAbiDeps(BuildTarget element) {
+      this.sourceOnlyAbiDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getSourceOnlyAbiDeps() sourceOnlyAbiDeps} sortedSet.
+     * @param elements An array of sourceOnlyAbiDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addSourceOnlyAbiDeps(BuildTarget... elements) {
+      this.sourceOnlyAbiDeps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link KotlinLibraryDescriptionArg#getSourceOnlyAbiDeps() sourceOnlyAbiDeps} sortedSet.
+     * @param elements An iterable of sourceOnlyAbiDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSourceOnlyAbiDeps(Iterable<? extends BuildTarget> elements) {
+      this.sourceOnlyAbiDeps = ImmutableSortedSet.naturalOrder();
+      return addAllSourceOnlyAbiDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getSourceOnlyAbiDeps() sourceOnlyAbiDeps} sortedSet.
+     * @param elements An iterable of sourceOnlyAbiDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllSourceOnlyAbiDeps(Iterable<? extends BuildTarget> elements) {
+      this.sourceOnlyAbiDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link KotlinLibraryDescriptionArg#getRuntimeDeps() runtimeDeps} sortedSet.
+     * @param element A runtimeDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addRuntimeDeps(BuildTarget element) {
+      this.runtimeDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getRuntimeDeps() runtimeDeps} sortedSet.
+     * @param elements An array of runtimeDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addRuntimeDeps(BuildTarget... elements) {
+      this.runtimeDeps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link KotlinLibraryDescriptionArg#getRuntimeDeps() runtimeDeps} sortedSet.
+     * @param elements An iterable of runtimeDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuntimeDeps(Iterable<? extends BuildTarget> elements) {
+      this.runtimeDeps = ImmutableSortedSet.naturalOrder();
+      return addAllRuntimeDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getRuntimeDeps() runtimeDeps} sortedSet.
+     * @param elements An iterable of runtimeDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllRuntimeDeps(Iterable<? extends BuildTarget> elements) {
+      this.runtimeDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getSource() source} to source.
+     * @param source The value for source
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSource(String source) {
+      this.source = Objects.requireNonNull(source, "source");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getSource() source} to source.
+     * @param source The value for source
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSource(Optional<String> source) {
+      this.source = source.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getTarget() target} to target.
+     * @param target The value for target
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTarget(String target) {
+      this.target = Objects.requireNonNull(target, "target");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getTarget() target} to target.
+     * @param target The value for target
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTarget(Optional<String> target) {
+      this.target = target.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getJavaVersion() javaVersion} to javaVersion.
+     * @param javaVersion The value for javaVersion
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJavaVersion(String javaVersion) {
+      this.javaVersion = Objects.requireNonNull(javaVersion, "javaVersion");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getJavaVersion() javaVersion} to javaVersion.
+     * @param javaVersion The value for javaVersion
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJavaVersion(Optional<String> javaVersion) {
+      this.javaVersion = javaVersion.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getJavac() javac} to javac.
+     * @param javac The value for javac
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJavac(SourcePath javac) {
+      this.javac = Objects.requireNonNull(javac, "javac");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getJavac() javac} to javac.
+     * @param javac The value for javac
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJavac(Optional<? extends SourcePath> javac) {
+      this.javac = javac.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getJavacJar() javacJar} to javacJar.
+     * @param javacJar The value for javacJar
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJavacJar(SourcePath javacJar) {
+      this.javacJar = Objects.requireNonNull(javacJar, "javacJar");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getJavacJar() javacJar} to javacJar.
+     * @param javacJar The value for javacJar
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJavacJar(Optional<? extends SourcePath> javacJar) {
+      this.javacJar = javacJar.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getCompilerClassName() compilerClassName} to compilerClassName.
+     * @param compilerClassName The value for compilerClassName
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompilerClassName(String compilerClassName) {
+      this.compilerClassName = Objects.requireNonNull(compilerClassName, "compilerClassName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getCompilerClassName() compilerClassName} to compilerClassName.
+     * @param compilerClassName The value for compilerClassName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompilerClassName(Optional<String> compilerClassName) {
+      this.compilerClassName = compilerClassName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getCompiler() compiler} to compiler.
+     * @param compiler The value for compiler
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompiler(Either<BuiltInJavac, SourcePath> compiler) {
+      this.compiler = Objects.requireNonNull(compiler, "compiler");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getCompiler() compiler} to compiler.
+     * @param compiler The value for compiler
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompiler(Optional<? extends Either<BuiltInJavac, SourcePath>> compiler) {
+      this.compiler = compiler.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link KotlinLibraryDescriptionArg#getExtraArguments() extraArguments} list.
+     * @param element A extraArguments element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExtraArguments(String element) {
+      this.extraArguments.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getExtraArguments() extraArguments} list.
+     * @param elements An array of extraArguments elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExtraArguments(String... elements) {
+      this.extraArguments.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link KotlinLibraryDescriptionArg#getExtraArguments() extraArguments} list.
+     * @param elements An iterable of extraArguments elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExtraArguments(Iterable<String> elements) {
+      this.extraArguments = ImmutableList.builder();
+      return addAllExtraArguments(elements);
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getExtraArguments() extraArguments} list.
+     * @param elements An iterable of extraArguments elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllExtraArguments(Iterable<String> elements) {
+      this.extraArguments.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link KotlinLibraryDescriptionArg#getRemoveClasses() removeClasses} set.
+     * @param element A removeClasses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addRemoveClasses(Pattern element) {
+      this.removeClasses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getRemoveClasses() removeClasses} set.
+     * @param elements An array of removeClasses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addRemoveClasses(Pattern... elements) {
+      this.removeClasses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link KotlinLibraryDescriptionArg#getRemoveClasses() removeClasses} set.
+     * @param elements An iterable of removeClasses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRemoveClasses(Iterable<? extends Pattern> elements) {
+      this.removeClasses = ImmutableSet.builder();
+      return addAllRemoveClasses(elements);
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getRemoveClasses() removeClasses} set.
+     * @param elements An iterable of removeClasses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllRemoveClasses(Iterable<? extends Pattern> elements) {
+      this.removeClasses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link KotlinLibraryDescriptionArg#getAnnotationProcessorDeps() annotationProcessorDeps} sortedSet.
+     * @param element A annotationProcessorDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAnnotationProcessorDeps(BuildTarget element) {
+      this.annotationProcessorDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getAnnotationProcessorDeps() annotationProcessorDeps} sortedSet.
+     * @param elements An array of annotationProcessorDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAnnotationProcessorDeps(BuildTarget... elements) {
+      this.annotationProcessorDeps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link KotlinLibraryDescriptionArg#getAnnotationProcessorDeps() annotationProcessorDeps} sortedSet.
+     * @param elements An iterable of annotationProcessorDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAnnotationProcessorDeps(Iterable<? extends BuildTarget> elements) {
+      this.annotationProcessorDeps = ImmutableSortedSet.naturalOrder();
+      return addAllAnnotationProcessorDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getAnnotationProcessorDeps() annotationProcessorDeps} sortedSet.
+     * @param elements An iterable of annotationProcessorDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllAnnotationProcessorDeps(Iterable<? extends BuildTarget> elements) {
+      this.annotationProcessorDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link KotlinLibraryDescriptionArg#getAnnotationProcessorParams() annotationProcessorParams} list.
+     * @param element A annotationProcessorParams element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAnnotationProcessorParams(String element) {
+      this.annotationProcessorParams.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getAnnotationProcessorParams() annotationProcessorParams} list.
+     * @param elements An array of annotationProcessorParams elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAnnotationProcessorParams(String... elements) {
+      this.annotationProcessorParams.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link KotlinLibraryDescriptionArg#getAnnotationProcessorParams() annotationProcessorParams} list.
+     * @param elements An iterable of annotationProcessorParams elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAnnotationProcessorParams(Iterable<String> elements) {
+      this.annotationProcessorParams = ImmutableList.builder();
+      return addAllAnnotationProcessorParams(elements);
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getAnnotationProcessorParams() annotationProcessorParams} list.
+     * @param elements An iterable of annotationProcessorParams elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllAnnotationProcessorParams(Iterable<String> elements) {
+      this.annotationProcessorParams.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link KotlinLibraryDescriptionArg#getJavaPluginParams() javaPluginParams} list.
+     * @param element A javaPluginParams element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addJavaPluginParams(String element) {
+      this.javaPluginParams.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getJavaPluginParams() javaPluginParams} list.
+     * @param elements An array of javaPluginParams elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addJavaPluginParams(String... elements) {
+      this.javaPluginParams.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link KotlinLibraryDescriptionArg#getJavaPluginParams() javaPluginParams} list.
+     * @param elements An iterable of javaPluginParams elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJavaPluginParams(Iterable<String> elements) {
+      this.javaPluginParams = ImmutableList.builder();
+      return addAllJavaPluginParams(elements);
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getJavaPluginParams() javaPluginParams} list.
+     * @param elements An iterable of javaPluginParams elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllJavaPluginParams(Iterable<String> elements) {
+      this.javaPluginParams.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link KotlinLibraryDescriptionArg#getAnnotationProcessors() annotationProcessors} set.
+     * @param element A annotationProcessors element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAnnotationProcessors(String element) {
+      this.annotationProcessors.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getAnnotationProcessors() annotationProcessors} set.
+     * @param elements An array of annotationProcessors elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAnnotationProcessors(String... elements) {
+      this.annotationProcessors.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link KotlinLibraryDescriptionArg#getAnnotationProcessors() annotationProcessors} set.
+     * @param elements An iterable of annotationProcessors elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAnnotationProcessors(Iterable<String> elements) {
+      this.annotationProcessors = ImmutableSet.builder();
+      return addAllAnnotationProcessors(elements);
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getAnnotationProcessors() annotationProcessors} set.
+     * @param elements An iterable of annotationProcessors elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllAnnotationProcessors(Iterable<String> elements) {
+      this.annotationProcessors.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getAnnotationProcessorOnly() annotationProcessorOnly} to annotationProcessorOnly.
+     * @param annotationProcessorOnly The value for annotationProcessorOnly
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAnnotationProcessorOnly(boolean annotationProcessorOnly) {
+      this.annotationProcessorOnly = annotationProcessorOnly;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getAnnotationProcessorOnly() annotationProcessorOnly} to annotationProcessorOnly.
+     * @param annotationProcessorOnly The value for annotationProcessorOnly
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAnnotationProcessorOnly(Optional<Boolean> annotationProcessorOnly) {
+      this.annotationProcessorOnly = annotationProcessorOnly.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link KotlinLibraryDescriptionArg#getPlugins() plugins} list.
+     * @param element A plugins element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPlugins(BuildTarget element) {
+      this.plugins.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getPlugins() plugins} list.
+     * @param elements An array of plugins elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPlugins(BuildTarget... elements) {
+      this.plugins.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link KotlinLibraryDescriptionArg#getPlugins() plugins} list.
+     * @param elements An iterable of plugins elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlugins(Iterable<? extends BuildTarget> elements) {
+      this.plugins = ImmutableList.builder();
+      return addAllPlugins(elements);
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getPlugins() plugins} list.
+     * @param elements An iterable of plugins elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllPlugins(Iterable<? extends BuildTarget> elements) {
+      this.plugins.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getAbiGenerationMode() abiGenerationMode} to abiGenerationMode.
+     * @param abiGenerationMode The value for abiGenerationMode
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAbiGenerationMode(AbiGenerationMode abiGenerationMode) {
+      this.abiGenerationMode = Objects.requireNonNull(abiGenerationMode, "abiGenerationMode");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getAbiGenerationMode() abiGenerationMode} to abiGenerationMode.
+     * @param abiGenerationMode The value for abiGenerationMode
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAbiGenerationMode(Optional<? extends AbiGenerationMode> abiGenerationMode) {
+      this.abiGenerationMode = abiGenerationMode.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getCompileAgainst() compileAgainst} to compileAgainst.
+     * @param compileAgainst The value for compileAgainst
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompileAgainst(CompileAgainstLibraryType compileAgainst) {
+      this.compileAgainst = Objects.requireNonNull(compileAgainst, "compileAgainst");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getCompileAgainst() compileAgainst} to compileAgainst.
+     * @param compileAgainst The value for compileAgainst
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompileAgainst(Optional<? extends CompileAgainstLibraryType> compileAgainst) {
+      this.compileAgainst = compileAgainst.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getSourceAbiVerificationMode() sourceAbiVerificationMode} to sourceAbiVerificationMode.
+     * @param sourceAbiVerificationMode The value for sourceAbiVerificationMode
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSourceAbiVerificationMode(JavaBuckConfig.SourceAbiVerificationMode sourceAbiVerificationMode) {
+      this.sourceAbiVerificationMode = Objects.requireNonNull(sourceAbiVerificationMode, "sourceAbiVerificationMode");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getSourceAbiVerificationMode() sourceAbiVerificationMode} to sourceAbiVerificationMode.
+     * @param sourceAbiVerificationMode The value for sourceAbiVerificationMode
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSourceAbiVerificationMode(Optional<? extends JavaBuckConfig.SourceAbiVerificationMode> sourceAbiVerificationMode) {
+      this.sourceAbiVerificationMode = sourceAbiVerificationMode.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getOnUnusedDependencies() onUnusedDependencies} to onUnusedDependencies.
+     * @param onUnusedDependencies The value for onUnusedDependencies
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOnUnusedDependencies(JavaBuckConfig.UnusedDependenciesAction onUnusedDependencies) {
+      this.onUnusedDependencies = Objects.requireNonNull(onUnusedDependencies, "onUnusedDependencies");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getOnUnusedDependencies() onUnusedDependencies} to onUnusedDependencies.
+     * @param onUnusedDependencies The value for onUnusedDependencies
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOnUnusedDependencies(Optional<? extends JavaBuckConfig.UnusedDependenciesAction> onUnusedDependencies) {
+      this.onUnusedDependencies = onUnusedDependencies.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getNeverMarkAsUnusedDependency() neverMarkAsUnusedDependency} to neverMarkAsUnusedDependency.
+     * @param neverMarkAsUnusedDependency The value for neverMarkAsUnusedDependency
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNeverMarkAsUnusedDependency(boolean neverMarkAsUnusedDependency) {
+      this.neverMarkAsUnusedDependency = neverMarkAsUnusedDependency;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getNeverMarkAsUnusedDependency() neverMarkAsUnusedDependency} to neverMarkAsUnusedDependency.
+     * @param neverMarkAsUnusedDependency The value for neverMarkAsUnusedDependency
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNeverMarkAsUnusedDependency(Optional<Boolean> neverMarkAsUnusedDependency) {
+      this.neverMarkAsUnusedDependency = neverMarkAsUnusedDependency.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link KotlinLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link KotlinLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link KotlinLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link KotlinLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(UnconfiguredBuildTarget defaultTargetPlatform) {
+      this.defaultTargetPlatform = Objects.requireNonNull(defaultTargetPlatform, "defaultTargetPlatform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link KotlinLibraryDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(Optional<? extends UnconfiguredBuildTarget> defaultTargetPlatform) {
+      this.defaultTargetPlatform = defaultTargetPlatform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link KotlinLibraryDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param element A compatibleWith element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget element) {
+      this.compatibleWith.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An array of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget... elements) {
+      this.compatibleWith.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link KotlinLibraryDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith = ImmutableList.builder();
+      return addAllCompatibleWith(elements);
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link KotlinLibraryDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link KotlinLibraryDescriptionArg#getRequiredForSourceOnlyAbi() requiredForSourceOnlyAbi} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link KotlinLibraryDescriptionArg#getRequiredForSourceOnlyAbi() requiredForSourceOnlyAbi}.</em>
+     * @param requiredForSourceOnlyAbi The value for requiredForSourceOnlyAbi 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRequiredForSourceOnlyAbi(boolean requiredForSourceOnlyAbi) {
+      this.requiredForSourceOnlyAbi = requiredForSourceOnlyAbi;
+      optBits |= OPT_BIT_REQUIRED_FOR_SOURCE_ONLY_ABI;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link KotlinLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link KotlinLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link KotlinLibraryDescriptionArg#getProvidedDeps() providedDeps} sortedSet.
+     * @param element A providedDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addProvidedDeps(BuildTarget element) {
+      this.providedDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getProvidedDeps() providedDeps} sortedSet.
+     * @param elements An array of providedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addProvidedDeps(BuildTarget... elements) {
+      this.providedDeps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link KotlinLibraryDescriptionArg#getProvidedDeps() providedDeps} sortedSet.
+     * @param elements An iterable of providedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProvidedDeps(Iterable<? extends BuildTarget> elements) {
+      this.providedDeps = ImmutableSortedSet.naturalOrder();
+      return addAllProvidedDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getProvidedDeps() providedDeps} sortedSet.
+     * @param elements An iterable of providedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllProvidedDeps(Iterable<? extends BuildTarget> elements) {
+      this.providedDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link KotlinLibraryDescriptionArg#getExportedProvidedDeps() exportedProvidedDeps} sortedSet.
+     * @param element A exportedProvidedDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExportedProvidedDeps(BuildTarget element) {
+      this.exportedProvidedDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getExportedProvidedDeps() exportedProvidedDeps} sortedSet.
+     * @param elements An array of exportedProvidedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExportedProvidedDeps(BuildTarget... elements) {
+      this.exportedProvidedDeps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link KotlinLibraryDescriptionArg#getExportedProvidedDeps() exportedProvidedDeps} sortedSet.
+     * @param elements An iterable of exportedProvidedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExportedProvidedDeps(Iterable<? extends BuildTarget> elements) {
+      this.exportedProvidedDeps = ImmutableSortedSet.naturalOrder();
+      return addAllExportedProvidedDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getExportedProvidedDeps() exportedProvidedDeps} sortedSet.
+     * @param elements An iterable of exportedProvidedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllExportedProvidedDeps(Iterable<? extends BuildTarget> elements) {
+      this.exportedProvidedDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link KotlinLibraryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param element A srcs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addSrcs(SourcePath element) {
+      this.srcs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An array of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addSrcs(SourcePath... elements) {
+      this.srcs.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link KotlinLibraryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs = ImmutableSortedSet.naturalOrder();
+      return addAllSrcs(elements);
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link KotlinLibraryDescriptionArg#getTests() tests} sortedSet.
+     * @param element A tests element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addTests(BuildTarget element) {
+      this.tests.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An array of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addTests(BuildTarget... elements) {
+      this.tests.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link KotlinLibraryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTests(Iterable<? extends BuildTarget> elements) {
+      this.tests = ImmutableSortedSet.naturalOrder();
+      return addAllTests(elements);
+    }
+
+    /**
+     * Adds elements to {@link KotlinLibraryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllTests(Iterable<? extends BuildTarget> elements) {
+      this.tests.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link KotlinLibraryDescriptionArg KotlinLibraryDescriptionArg}.
+     * @return An immutable instance of KotlinLibraryDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public KotlinLibraryDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return KotlinLibraryDescriptionArg.validate(new KotlinLibraryDescriptionArg(this));
+    }
+
+    private boolean allWarningsAsErrorsIsSet() {
+      return (optBits & OPT_BIT_ALL_WARNINGS_AS_ERRORS) != 0;
+    }
+
+    private boolean suppressWarningsIsSet() {
+      return (optBits & OPT_BIT_SUPPRESS_WARNINGS) != 0;
+    }
+
+    private boolean verboseIsSet() {
+      return (optBits & OPT_BIT_VERBOSE) != 0;
+    }
+
+    private boolean includeRuntimeIsSet() {
+      return (optBits & OPT_BIT_INCLUDE_RUNTIME) != 0;
+    }
+
+    private boolean noJdkIsSet() {
+      return (optBits & OPT_BIT_NO_JDK) != 0;
+    }
+
+    private boolean noStdlibIsSet() {
+      return (optBits & OPT_BIT_NO_STDLIB) != 0;
+    }
+
+    private boolean noReflectIsSet() {
+      return (optBits & OPT_BIT_NO_REFLECT) != 0;
+    }
+
+    private boolean javaParametersIsSet() {
+      return (optBits & OPT_BIT_JAVA_PARAMETERS) != 0;
+    }
+
+    private boolean requiredForSourceOnlyAbiIsSet() {
+      return (optBits & OPT_BIT_REQUIRED_FOR_SOURCE_ONLY_ABI) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build KotlinLibraryDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,697 @@
+package com.facebook.buck.log;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link PerfTimesStats}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new PerfTimesStats.Builder()}.
+ */
+@Generated(from = "PerfTimesStats", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutablePerfTimesStats extends PerfTimesStats {
+  private final Long pythonTimeMs;
+  private final Long initTimeMs;
+  private final Long processingTimeMs;
+  private final Long parseTimeMs;
+  private final Long actionGraphTimeMs;
+  private final Long rulekeyTimeMs;
+  private final Long totalRulekeyTimeMs;
+  private final Long fetchTimeMs;
+  private final Long buildTimeMs;
+  private final Long installTimeMs;
+  private final Long projectTimeMs;
+
+  private ImmutablePerfTimesStats(ImmutablePerfTimesStats.Builder builder) {
+    if (builder.pythonTimeMs != null) {
+      initShim.setPythonTimeMs(builder.pythonTimeMs);
+    }
+    if (builder.initTimeMs != null) {
+      initShim.setInitTimeMs(builder.initTimeMs);
+    }
+    if (builder.processingTimeMs != null) {
+      initShim.setProcessingTimeMs(builder.processingTimeMs);
+    }
+    if (builder.parseTimeMs != null) {
+      initShim.setParseTimeMs(builder.parseTimeMs);
+    }
+    if (builder.actionGraphTimeMs != null) {
+      initShim.setActionGraphTimeMs(builder.actionGraphTimeMs);
+    }
+    if (builder.rulekeyTimeMs != null) {
+      initShim.setRulekeyTimeMs(builder.rulekeyTimeMs);
+    }
+    if (builder.totalRulekeyTimeMs != null) {
+      initShim.setTotalRulekeyTimeMs(builder.totalRulekeyTimeMs);
+    }
+    if (builder.fetchTimeMs != null) {
+      initShim.setFetchTimeMs(builder.fetchTimeMs);
+    }
+    if (builder.buildTimeMs != null) {
+      initShim.setBuildTimeMs(builder.buildTimeMs);
+    }
+    if (builder.installTimeMs != null) {
+      initShim.setInstallTimeMs(builder.installTimeMs);
+    }
+    if (builder.projectTimeMs != null) {
+      initShim.setProjectTimeMs(builder.projectTimeMs);
+    }
+    this.pythonTimeMs = initShim.getPythonTimeMs();
+    this.initTimeMs = initShim.getInitTimeMs();
+    this.processingTimeMs = initShim.getProcessingTimeMs();
+    this.parseTimeMs = initShim.getParseTimeMs();
+    this.actionGraphTimeMs = initShim.getActionGraphTimeMs();
+    this.rulekeyTimeMs = initShim.getRulekeyTimeMs();
+    this.totalRulekeyTimeMs = initShim.getTotalRulekeyTimeMs();
+    this.fetchTimeMs = initShim.getFetchTimeMs();
+    this.buildTimeMs = initShim.getBuildTimeMs();
+    this.installTimeMs = initShim.getInstallTimeMs();
+    this.projectTimeMs = initShim.getProjectTimeMs();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "PerfTimesStats", generator = "Immutables")
+  private final class InitShim {
+    private byte pythonTimeMsBuildStage = STAGE_UNINITIALIZED;
+    private Long pythonTimeMs;
+
+    Long getPythonTimeMs() {
+      if (pythonTimeMsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (pythonTimeMsBuildStage == STAGE_UNINITIALIZED) {
+        pythonTimeMsBuildStage = STAGE_INITIALIZING;
+        this.pythonTimeMs = Objects.requireNonNull(ImmutablePerfTimesStats.super.getPythonTimeMs(), "pythonTimeMs");
+        pythonTimeMsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.pythonTimeMs;
+    }
+
+    void setPythonTimeMs(Long pythonTimeMs) {
+      this.pythonTimeMs = pythonTimeMs;
+      pythonTimeMsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte initTimeMsBuildStage = STAGE_UNINITIALIZED;
+    private Long initTimeMs;
+
+    Long getInitTimeMs() {
+      if (initTimeMsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (initTimeMsBuildStage == STAGE_UNINITIALIZED) {
+        initTimeMsBuildStage = STAGE_INITIALIZING;
+        this.initTimeMs = Objects.requireNonNull(ImmutablePerfTimesStats.super.getInitTimeMs(), "initTimeMs");
+        initTimeMsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.initTimeMs;
+    }
+
+    void setInitTimeMs(Long initTimeMs) {
+      this.initTimeMs = initTimeMs;
+      initTimeMsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte processingTimeMsBuildStage = STAGE_UNINITIALIZED;
+    private Long processingTimeMs;
+
+    Long getProcessingTimeMs() {
+      if (processingTimeMsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (processingTimeMsBuildStage == STAGE_UNINITIALIZED) {
+        processingTimeMsBuildStage = STAGE_INITIALIZING;
+        this.processingTimeMs = Objects.requireNonNull(ImmutablePerfTimesStats.super.getProcessingTimeMs(), "processingTimeMs");
+        processingTimeMsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.processingTimeMs;
+    }
+
+    void setProcessingTimeMs(Long processingTimeMs) {
+      this.processingTimeMs = processingTimeMs;
+      processingTimeMsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte parseTimeMsBuildStage = STAGE_UNINITIALIZED;
+    private Long parseTimeMs;
+
+    Long getParseTimeMs() {
+      if (parseTimeMsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (parseTimeMsBuildStage == STAGE_UNINITIALIZED) {
+        parseTimeMsBuildStage = STAGE_INITIALIZING;
+        this.parseTimeMs = Objects.requireNonNull(ImmutablePerfTimesStats.super.getParseTimeMs(), "parseTimeMs");
+        parseTimeMsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.parseTimeMs;
+    }
+
+    void setParseTimeMs(Long parseTimeMs) {
+      this.parseTimeMs = parseTimeMs;
+      parseTimeMsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte actionGraphTimeMsBuildStage = STAGE_UNINITIALIZED;
+    private Long actionGraphTimeMs;
+
+    Long getActionGraphTimeMs() {
+      if (actionGraphTimeMsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (actionGraphTimeMsBuildStage == STAGE_UNINITIALIZED) {
+        actionGraphTimeMsBuildStage = STAGE_INITIALIZING;
+        this.actionGraphTimeMs = Objects.requireNonNull(ImmutablePerfTimesStats.super.getActionGraphTimeMs(), "actionGraphTimeMs");
+        actionGraphTimeMsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.actionGraphTimeMs;
+    }
+
+    void setActionGraphTimeMs(Long actionGraphTimeMs) {
+      this.actionGraphTimeMs = actionGraphTimeMs;
+      actionGraphTimeMsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte rulekeyTimeMsBuildStage = STAGE_UNINITIALIZED;
+    private Long rulekeyTimeMs;
+
+    Long getRulekeyTimeMs() {
+      if (rulekeyTimeMsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (rulekeyTimeMsBuildStage == STAGE_UNINITIALIZED) {
+        rulekeyTimeMsBuildStage = STAGE_INITIALIZING;
+        this.rulekeyTimeMs = Objects.requireNonNull(ImmutablePerfTimesStats.super.getRulekeyTimeMs(), "rulekeyTimeMs");
+        rulekeyTimeMsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.rulekeyTimeMs;
+    }
+
+    void setRulekeyTimeMs(Long rulekeyTimeMs) {
+      this.rulekeyTimeMs = rulekeyTimeMs;
+      rulekeyTimeMsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte totalRulekeyTimeMsBuildStage = STAGE_UNINITIALIZED;
+    private Long totalRulekeyTimeMs;
+
+    Long getTotalRulekeyTimeMs() {
+      if (totalRulekeyTimeMsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (totalRulekeyTimeMsBuildStage == STAGE_UNINITIALIZED) {
+        totalRulekeyTimeMsBuildStage = STAGE_INITIALIZING;
+        this.totalRulekeyTimeMs = Objects.requireNonNull(ImmutablePerfTimesStats.super.getTotalRulekeyTimeMs(), "totalRulekeyTimeMs");
+        totalRulekeyTimeMsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.totalRulekeyTimeMs;
+    }
+
+    void setTotalRulekeyTimeMs(Long totalRulekeyTimeMs) {
+      this.totalRulekeyTimeMs = totalRulekeyTimeMs;
+      totalRulekeyTimeMsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte fetchTimeMsBuildStage = STAGE_UNINITIALIZED;
+    private Long fetchTimeMs;
+
+    Long getFetchTimeMs() {
+      if (fetchTimeMsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (fetchTimeMsBuildStage == STAGE_UNINITIALIZED) {
+        fetchTimeMsBuildStage = STAGE_INITIALIZING;
+        this.fetchTimeMs = Objects.requireNonNull(ImmutablePerfTimesStats.super.getFetchTimeMs(), "fetchTimeMs");
+        fetchTimeMsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.fetchTimeMs;
+    }
+
+    void setFetchTimeMs(Long fetchTimeMs) {
+      this.fetchTimeMs = fetchTimeMs;
+      fetchTimeMsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte buildTimeMsBuildStage = STAGE_UNINITIALIZED;
+    private Long buildTimeMs;
+
+    Long getBuildTimeMs() {
+      if (buildTimeMsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (buildTimeMsBuildStage == STAGE_UNINITIALIZED) {
+        buildTimeMsBuildStage = STAGE_INITIALIZING;
+        this.buildTimeMs = Objects.requireNonNull(ImmutablePerfTimesStats.super.getBuildTimeMs(), "buildTimeMs");
+        buildTimeMsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.buildTimeMs;
+    }
+
+    void setBuildTimeMs(Long buildTimeMs) {
+      this.buildTimeMs = buildTimeMs;
+      buildTimeMsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte installTimeMsBuildStage = STAGE_UNINITIALIZED;
+    private Long installTimeMs;
+
+    Long getInstallTimeMs() {
+      if (installTimeMsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (installTimeMsBuildStage == STAGE_UNINITIALIZED) {
+        installTimeMsBuildStage = STAGE_INITIALIZING;
+        this.installTimeMs = Objects.requireNonNull(ImmutablePerfTimesStats.super.getInstallTimeMs(), "installTimeMs");
+        installTimeMsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.installTimeMs;
+    }
+
+    void setInstallTimeMs(Long installTimeMs) {
+      this.installTimeMs = installTimeMs;
+      installTimeMsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte projectTimeMsBuildStage = STAGE_UNINITIALIZED;
+    private Long projectTimeMs;
+
+    Long getProjectTimeMs() {
+      if (projectTimeMsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (projectTimeMsBuildStage == STAGE_UNINITIALIZED) {
+        projectTimeMsBuildStage = STAGE_INITIALIZING;
+        this.projectTimeMs = Objects.requireNonNull(ImmutablePerfTimesStats.super.getProjectTimeMs(), "projectTimeMs");
+        projectTimeMsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.projectTimeMs;
+    }
+
+    void setProjectTimeMs(Long projectTimeMs) {
+      this.projectTimeMs = projectTimeMs;
+      projectTimeMsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (pythonTimeMsBuildStage == STAGE_INITIALIZING) attributes.add("pythonTimeMs");
+      if (initTimeMsBuildStage == STAGE_INITIALIZING) attributes.add("initTimeMs");
+      if (processingTimeMsBuildStage == STAGE_INITIALIZING) attributes.add("processingTimeMs");
+      if (parseTimeMsBuildStage == STAGE_INITIALIZING) attributes.add("parseTimeMs");
+      if (actionGraphTimeMsBuildStage == STAGE_INITIALIZING) attributes.add("actionGraphTimeMs");
+      if (rulekeyTimeMsBuildStage == STAGE_INITIALIZING) attributes.add("rulekeyTimeMs");
+      if (totalRulekeyTimeMsBuildStage == STAGE_INITIALIZING) attributes.add("totalRulekeyTimeMs");
+      if (fetchTimeMsBuildStage == STAGE_INITIALIZING) attributes.add("fetchTimeMs");
+      if (buildTimeMsBuildStage == STAGE_INITIALIZING) attributes.add("buildTimeMs");
+      if (installTimeMsBuildStage == STAGE_INITIALIZING) attributes.add("installTimeMs");
+      if (projectTimeMsBuildStage == STAGE_INITIALIZING) attributes.add("projectTimeMs");
+      return "Cannot build PerfTimesStats, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code pythonTimeMs} attribute
+   */
+  @Override
+  public Long getPythonTimeMs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPythonTimeMs()
+        : this.pythonTimeMs;
+  }
+
+  /**
+   * @return The value of the {@code initTimeMs} attribute
+   */
+  @Override
+  public Long getInitTimeMs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getInitTimeMs()
+        : this.initTimeMs;
+  }
+
+  /**
+   * @return The value of the {@code processingTimeMs} attribute
+   */
+  @Override
+  public Long getProcessingTimeMs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getProcessingTimeMs()
+        : this.processingTimeMs;
+  }
+
+  /**
+   * @return The value of the {@code parseTimeMs} attribute
+   */
+  @Override
+  public Long getParseTimeMs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getParseTimeMs()
+        : this.parseTimeMs;
+  }
+
+  /**
+   * @return The value of the {@code actionGraphTimeMs} attribute
+   */
+  @Override
+  public Long getActionGraphTimeMs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getActionGraphTimeMs()
+        : this.actionGraphTimeMs;
+  }
+
+  /**
+   * @return The value of the {@code rulekeyTimeMs} attribute
+   */
+  @Override
+  public Long getRulekeyTimeMs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getRulekeyTimeMs()
+        : this.rulekeyTimeMs;
+  }
+
+  /**
+   * @return The value of the {@code totalRulekeyTimeMs} attribute
+   */
+  @Override
+  public Long getTotalRulekeyTimeMs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getTotalRulekeyTimeMs()
+        : this.totalRulekeyTimeMs;
+  }
+
+  /**
+   * @return The value of the {@code fetchTimeMs} attribute
+   */
+  @Override
+  public Long getFetchTimeMs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getFetchTimeMs()
+        : this.fetchTimeMs;
+  }
+
+  /**
+   * @return The value of the {@code buildTimeMs} attribute
+   */
+  @Override
+  public Long getBuildTimeMs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getBuildTimeMs()
+        : this.buildTimeMs;
+  }
+
+  /**
+   * @return The value of the {@code installTimeMs} attribute
+   */
+  @Override
+  public Long getInstallTimeMs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getInstallTimeMs()
+        : this.installTimeMs;
+  }
+
+  /**
+   * @return The value of the {@code projectTimeMs} attribute
+   */
+  @Override
+  public Long getProjectTimeMs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getProjectTimeMs()
+        : this.projectTimeMs;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutablePerfTimesStats} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutablePerfTimesStats
+        && equalTo((ImmutablePerfTimesStats) another);
+  }
+
+  private boolean equalTo(ImmutablePerfTimesStats another) {
+    return pythonTimeMs.equals(another.pythonTimeMs)
+        && initTimeMs.equals(another.initTimeMs)
+        && processingTimeMs.equals(another.processingTimeMs)
+        && parseTimeMs.equals(another.parseTimeMs)
+        && actionGraphTimeMs.equals(another.actionGraphTimeMs)
+        && rulekeyTimeMs.equals(another.rulekeyTimeMs)
+        && totalRulekeyTimeMs.equals(another.totalRulekeyTimeMs)
+        && fetchTimeMs.equals(another.fetchTimeMs)
+        && buildTimeMs.equals(another.buildTimeMs)
+        && installTimeMs.equals(another.installTimeMs)
+        && projectTimeMs.equals(another.projectTimeMs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code pythonTimeMs}, {@code initTimeMs}, {@code processingTimeMs}, {@code parseTimeMs}, {@code actionGraphTimeMs}, {@code rulekeyTimeMs}, {@code totalRulekeyTimeMs}, {@code fetchTimeMs}, {@code buildTimeMs}, {@code installTimeMs}, {@code projectTimeMs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + pythonTimeMs.hashCode();
+    h += (h << 5) + initTimeMs.hashCode();
+    h += (h << 5) + processingTimeMs.hashCode();
+    h += (h << 5) + parseTimeMs.hashCode();
+    h += (h << 5) + actionGraphTimeMs.hashCode();
+    h += (h << 5) + rulekeyTimeMs.hashCode();
+    h += (h << 5) + totalRulekeyTimeMs.hashCode();
+    h += (h << 5) + fetchTimeMs.hashCode();
+    h += (h << 5) + buildTimeMs.hashCode();
+    h += (h << 5) + installTimeMs.hashCode();
+    h += (h << 5) + projectTimeMs.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PerfTimesStats} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PerfTimesStats")
+        .omitNullValues()
+        .add("pythonTimeMs", pythonTimeMs)
+        .add("initTimeMs", initTimeMs)
+        .add("processingTimeMs", processingTimeMs)
+        .add("parseTimeMs", parseTimeMs)
+        .add("actionGraphTimeMs", actionGraphTimeMs)
+        .add("rulekeyTimeMs", rulekeyTimeMs)
+        .add("totalRulekeyTimeMs", totalRulekeyTimeMs)
+        .add("fetchTimeMs", fetchTimeMs)
+        .add("buildTimeMs", buildTimeMs)
+        .add("installTimeMs", installTimeMs)
+        .add("projectTimeMs", projectTimeMs)
+        .toString();
+  }
+
+  /**
+   * Builds instances of type {@link PerfTimesStats PerfTimesStats}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "PerfTimesStats", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private @Nullable Long pythonTimeMs;
+    private @Nullable Long initTimeMs;
+    private @Nullable Long processingTimeMs;
+    private @Nullable Long parseTimeMs;
+    private @Nullable Long actionGraphTimeMs;
+    private @Nullable Long rulekeyTimeMs;
+    private @Nullable Long totalRulekeyTimeMs;
+    private @Nullable Long fetchTimeMs;
+    private @Nullable Long buildTimeMs;
+    private @Nullable Long installTimeMs;
+    private @Nullable Long projectTimeMs;
+
+    /**
+     * Creates a builder for {@link PerfTimesStats PerfTimesStats} instances.
+     */
+    public Builder() {
+      if (!(this instanceof PerfTimesStats.Builder)) {
+        throw new UnsupportedOperationException("Use: new PerfTimesStats.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code PerfTimesStats} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final PerfTimesStats.Builder from(PerfTimesStats instance) {
+      Objects.requireNonNull(instance, "instance");
+      setPythonTimeMs(instance.getPythonTimeMs());
+      setInitTimeMs(instance.getInitTimeMs());
+      setProcessingTimeMs(instance.getProcessingTimeMs());
+      setParseTimeMs(instance.getParseTimeMs());
+      setActionGraphTimeMs(instance.getActionGraphTimeMs());
+      setRulekeyTimeMs(instance.getRulekeyTimeMs());
+      setTotalRulekeyTimeMs(instance.getTotalRulekeyTimeMs());
+      setFetchTimeMs(instance.getFetchTimeMs());
+      setBuildTimeMs(instance.getBuildTimeMs());
+      setInstallTimeMs(instance.getInstallTimeMs());
+      setProjectTimeMs(instance.getProjectTimeMs());
+      return (PerfTimesStats.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link PerfTimesStats#getPythonTimeMs() pythonTimeMs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PerfTimesStats#getPythonTimeMs() pythonTimeMs}.</em>
+     * @param pythonTimeMs The value for pythonTimeMs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final PerfTimesStats.Builder setPythonTimeMs(Long pythonTimeMs) {
+      this.pythonTimeMs = Objects.requireNonNull(pythonTimeMs, "pythonTimeMs");
+      return (PerfTimesStats.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link PerfTimesStats#getInitTimeMs() initTimeMs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PerfTimesStats#getInitTimeMs() initTimeMs}.</em>
+     * @param initTimeMs The value for initTimeMs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final PerfTimesStats.Builder setInitTimeMs(Long initTimeMs) {
+      this.initTimeMs = Objects.requireNonNull(initTimeMs, "initTimeMs");
+      return (PerfTimesStats.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link PerfTimesStats#getProcessingTimeMs() processingTimeMs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PerfTimesStats#getProcessingTimeMs() processingTimeMs}.</em>
+     * @param processingTimeMs The value for processingTimeMs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final PerfTimesStats.Builder setProcessingTimeMs(Long processingTimeMs) {
+      this.processingTimeMs = Objects.requireNonNull(processingTimeMs, "processingTimeMs");
+      return (PerfTimesStats.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link PerfTimesStats#getParseTimeMs() parseTimeMs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PerfTimesStats#getParseTimeMs() parseTimeMs}.</em>
+     * @param parseTimeMs The value for parseTimeMs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final PerfTimesStats.Builder setParseTimeMs(Long parseTimeMs) {
+      this.parseTimeMs = Objects.requireNonNull(parseTimeMs, "parseTimeMs");
+      return (PerfTimesStats.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link PerfTimesStats#getActionGraphTimeMs() actionGraphTimeMs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PerfTimesStats#getActionGraphTimeMs() actionGraphTimeMs}.</em>
+     * @param actionGraphTimeMs The value for actionGraphTimeMs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final PerfTimesStats.Builder setActionGraphTimeMs(Long actionGraphTimeMs) {
+      this.actionGraphTimeMs = Objects.requireNonNull(actionGraphTimeMs, "actionGraphTimeMs");
+      return (PerfTimesStats.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link PerfTimesStats#getRulekeyTimeMs() rulekeyTimeMs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PerfTimesStats#getRulekeyTimeMs() rulekeyTimeMs}.</em>
+     * @param rulekeyTimeMs The value for rulekeyTimeMs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final PerfTimesStats.Builder setRulekeyTimeMs(Long rulekeyTimeMs) {
+      this.rulekeyTimeMs = Objects.requireNonNull(rulekeyTimeMs, "rulekeyTimeMs");
+      return (PerfTimesStats.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link PerfTimesStats#getTotalRulekeyTimeMs() totalRulekeyTimeMs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PerfTimesStats#getTotalRulekeyTimeMs() totalRulekeyTimeMs}.</em>
+     * @param totalRulekeyTimeMs The value for totalRulekeyTimeMs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final PerfTimesStats.Builder setTotalRulekeyTimeMs(Long totalRulekeyTimeMs) {
+      this.totalRulekeyTimeMs = Objects.requireNonNull(totalRulekeyTimeMs, "totalRulekeyTimeMs");
+      return (PerfTimesStats.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link PerfTimesStats#getFetchTimeMs() fetchTimeMs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PerfTimesStats#getFetchTimeMs() fetchTimeMs}.</em>
+     * @param fetchTimeMs The value for fetchTimeMs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final PerfTimesStats.Builder setFetchTimeMs(Long fetchTimeMs) {
+      this.fetchTimeMs = Objects.requireNonNull(fetchTimeMs, "fetchTimeMs");
+      return (PerfTimesStats.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link PerfTimesStats#getBuildTimeMs() buildTimeMs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PerfTimesStats#getBuildTimeMs() buildTimeMs}.</em>
+     * @param buildTimeMs The value for buildTimeMs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final PerfTimesStats.Builder setBuildTimeMs(Long buildTimeMs) {
+      this.buildTimeMs = Objects.requireNonNull(buildTimeMs, "buildTimeMs");
+      return (PerfTimesStats.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link PerfTimesStats#getInstallTimeMs() installTimeMs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PerfTimesStats#getInstallTimeMs() installTimeMs}.</em>
+     * @param installTimeMs The value for installTimeMs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final PerfTimesStats.Builder setInstallTimeMs(Long installTimeMs) {
+      this.installTimeMs = Objects.requireNonNull(installTimeMs, "installTimeMs");
+      return (PerfTimesStats.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link PerfTimesStats#getProjectTimeMs() projectTimeMs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PerfTimesStats#getProjectTimeMs() projectTimeMs}.</em>
+     * @param projectTimeMs The value for projectTimeMs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final PerfTimesStats.Builder setProjectTimeMs(Long projectTimeMs) {
+      this.projectTimeMs = Objects.requireNonNull(projectTimeMs, "projectTimeMs");
+      return (PerfTimesStats.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link PerfTimesStats PerfTimesStats}.
+     * @return An immutable instance of PerfTimesStats
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PerfTimesStats build() {
+      return new ImmutablePerfTimesStats(this);
+    }
+  }
+}
@@ -0,0 +1,534 @@
+package com.facebook.buck.parser;
+
+import com.facebook.buck.core.cell.Cell;
+import com.facebook.buck.parser.config.ParserConfig;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ParsingContext}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new ParsingContext.Builder()}.
+ */
+@Generated(from = "ParsingContext", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableParsingContext extends ParsingContext {
+  private final Cell cell;
+  private final ListeningExecutorService executor;
+  private final boolean profilingEnabled;
+  private final SpeculativeParsing speculativeParsing;
+  private final boolean excludeUnsupportedTargets;
+  private final ParserConfig.ApplyDefaultFlavorsMode applyDefaultFlavorsMode;
+  private final boolean enableTargetCompatibilityChecks;
+  private final boolean useUnconfiguredSelectorResolver;
+
+  private ImmutableParsingContext(ImmutableParsingContext.Builder builder) {
+    this.cell = builder.cell;
+    this.executor = builder.executor;
+    if (builder.profilingEnabledIsSet()) {
+      initShim.setProfilingEnabled(builder.profilingEnabled);
+    }
+    if (builder.speculativeParsing != null) {
+      initShim.setSpeculativeParsing(builder.speculativeParsing);
+    }
+    if (builder.excludeUnsupportedTargetsIsSet()) {
+      initShim.setExcludeUnsupportedTargets(builder.excludeUnsupportedTargets);
+    }
+    if (builder.applyDefaultFlavorsMode != null) {
+      initShim.setApplyDefaultFlavorsMode(builder.applyDefaultFlavorsMode);
+    }
+    if (builder.enableTargetCompatibilityChecksIsSet()) {
+      initShim.setEnableTargetCompatibilityChecks(builder.enableTargetCompatibilityChecks);
+    }
+    if (builder.useUnconfiguredSelectorResolverIsSet()) {
+      initShim.setUseUnconfiguredSelectorResolver(builder.useUnconfiguredSelectorResolver);
+    }
+    this.profilingEnabled = initShim.isProfilingEnabled();
+    this.speculativeParsing = initShim.getSpeculativeParsing();
+    this.excludeUnsupportedTargets = initShim.excludeUnsupportedTargets();
+    this.applyDefaultFlavorsMode = initShim.getApplyDefaultFlavorsMode();
+    this.enableTargetCompatibilityChecks = initShim.enableTargetCompatibilityChecks();
+    this.useUnconfiguredSelectorResolver = initShim.useUnconfiguredSelectorResolver();
+    this.initShim = null;
+  }
+
+  private static final byte STAGE_INITIALIZING = -1;
+  private static final byte STAGE_UNINITIALIZED = 0;
+  private static final byte STAGE_INITIALIZED = 1;
+  @SuppressWarnings("Immutable")
+  private transient volatile InitShim initShim = new InitShim();
+
+  @Generated(from = "ParsingContext", generator = "Immutables")
+  private final class InitShim {
+    private byte profilingEnabledBuildStage = STAGE_UNINITIALIZED;
+    private boolean profilingEnabled;
+
+    boolean isProfilingEnabled() {
+      if (profilingEnabledBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (profilingEnabledBuildStage == STAGE_UNINITIALIZED) {
+        profilingEnabledBuildStage = STAGE_INITIALIZING;
+        this.profilingEnabled = ImmutableParsingContext.super.isProfilingEnabled();
+        profilingEnabledBuildStage = STAGE_INITIALIZED;
+      }
+      return this.profilingEnabled;
+    }
+
+    void setProfilingEnabled(boolean profilingEnabled) {
+      this.profilingEnabled = profilingEnabled;
+      profilingEnabledBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte speculativeParsingBuildStage = STAGE_UNINITIALIZED;
+    private SpeculativeParsing speculativeParsing;
+
+    SpeculativeParsing getSpeculativeParsing() {
+      if (speculativeParsingBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (speculativeParsingBuildStage == STAGE_UNINITIALIZED) {
+        speculativeParsingBuildStage = STAGE_INITIALIZING;
+        this.speculativeParsing = Objects.requireNonNull(ImmutableParsingContext.super.getSpeculativeParsing(), "speculativeParsing");
+        speculativeParsingBuildStage = STAGE_INITIALIZED;
+      }
+      return this.speculativeParsing;
+    }
+
+    void setSpeculativeParsing(SpeculativeParsing speculativeParsing) {
+      this.speculativeParsing = speculativeParsing;
+      speculativeParsingBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte excludeUnsupportedTargetsBuildStage = STAGE_UNINITIALIZED;
+    private boolean excludeUnsupportedTargets;
+
+    boolean excludeUnsupportedTargets() {
+      if (excludeUnsupportedTargetsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (excludeUnsupportedTargetsBuildStage == STAGE_UNINITIALIZED) {
+        excludeUnsupportedTargetsBuildStage = STAGE_INITIALIZING;
+        this.excludeUnsupportedTargets = ImmutableParsingContext.super.excludeUnsupportedTargets();
+        excludeUnsupportedTargetsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.excludeUnsupportedTargets;
+    }
+
+    void setExcludeUnsupportedTargets(boolean excludeUnsupportedTargets) {
+      this.excludeUnsupportedTargets = excludeUnsupportedTargets;
+      excludeUnsupportedTargetsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte applyDefaultFlavorsModeBuildStage = STAGE_UNINITIALIZED;
+    private ParserConfig.ApplyDefaultFlavorsMode applyDefaultFlavorsMode;
+
+    ParserConfig.ApplyDefaultFlavorsMode getApplyDefaultFlavorsMode() {
+      if (applyDefaultFlavorsModeBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (applyDefaultFlavorsModeBuildStage == STAGE_UNINITIALIZED) {
+        applyDefaultFlavorsModeBuildStage = STAGE_INITIALIZING;
+        this.applyDefaultFlavorsMode = Objects.requireNonNull(ImmutableParsingContext.super.getApplyDefaultFlavorsMode(), "applyDefaultFlavorsMode");
+        applyDefaultFlavorsModeBuildStage = STAGE_INITIALIZED;
+      }
+      return this.applyDefaultFlavorsMode;
+    }
+
+    void setApplyDefaultFlavorsMode(ParserConfig.ApplyDefaultFlavorsMode applyDefaultFlavorsMode) {
+      this.applyDefaultFlavorsMode = applyDefaultFlavorsMode;
+      applyDefaultFlavorsModeBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte enableTargetCompatibilityChecksBuildStage = STAGE_UNINITIALIZED;
+    private boolean enableTargetCompatibilityChecks;
+
+    boolean enableTargetCompatibilityChecks() {
+      if (enableTargetCompatibilityChecksBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (enableTargetCompatibilityChecksBuildStage == STAGE_UNINITIALIZED) {
+        enableTargetCompatibilityChecksBuildStage = STAGE_INITIALIZING;
+        this.enableTargetCompatibilityChecks = ImmutableParsingContext.super.enableTargetCompatibilityChecks();
+        enableTargetCompatibilityChecksBuildStage = STAGE_INITIALIZED;
+      }
+      return this.enableTargetCompatibilityChecks;
+    }
+
+    void setEnableTargetCompatibilityChecks(boolean enableTargetCompatibilityChecks) {
+      this.enableTargetCompatibilityChecks = enableTargetCompatibilityChecks;
+      enableTargetCompatibilityChecksBuildStage = STAGE_INITIALIZED;
+    }
+
+    private byte useUnconfiguredSelectorResolverBuildStage = STAGE_UNINITIALIZED;
+    private boolean useUnconfiguredSelectorResolver;
+
+    boolean useUnconfiguredSelectorResolver() {
+      if (useUnconfiguredSelectorResolverBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (useUnconfiguredSelectorResolverBuildStage == STAGE_UNINITIALIZED) {
+        useUnconfiguredSelectorResolverBuildStage = STAGE_INITIALIZING;
+        this.useUnconfiguredSelectorResolver = ImmutableParsingContext.super.useUnconfiguredSelectorResolver();
+        useUnconfiguredSelectorResolverBuildStage = STAGE_INITIALIZED;
+      }
+      return this.useUnconfiguredSelectorResolver;
+    }
+
+    void setUseUnconfiguredSelectorResolver(boolean useUnconfiguredSelectorResolver) {
+      this.useUnconfiguredSelectorResolver = useUnconfiguredSelectorResolver;
+      useUnconfiguredSelectorResolverBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      List<String> attributes = new ArrayList<>();
+      if (profilingEnabledBuildStage == STAGE_INITIALIZING) attributes.add("profilingEnabled");
+      if (speculativeParsingBuildStage == STAGE_INITIALIZING) attributes.add("speculativeParsing");
+      if (excludeUnsupportedTargetsBuildStage == STAGE_INITIALIZING) attributes.add("excludeUnsupportedTargets");
+      if (applyDefaultFlavorsModeBuildStage == STAGE_INITIALIZING) attributes.add("applyDefaultFlavorsMode");
+      if (enableTargetCompatibilityChecksBuildStage == STAGE_INITIALIZING) attributes.add("enableTargetCompatibilityChecks");
+      if (useUnconfiguredSelectorResolverBuildStage == STAGE_INITIALIZING) attributes.add("useUnconfiguredSelectorResolver");
+      return "Cannot build ParsingContext, attribute initializers form cycle " + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code cell} attribute
+   */
+  @Override
+  public Cell getCell() {
+    return cell;
+  }
+
+  /**
+   * @return The value of the {@code executor} attribute
+   */
+  @Override
+  public ListeningExecutorService getExecutor() {
+    return executor;
+  }
+
+  /**
+   * @return The value of the {@code profilingEnabled} attribute
+   */
+  @Override
+  public boolean isProfilingEnabled() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isProfilingEnabled()
+        : this.profilingEnabled;
+  }
+
+  /**
+   * @return The value of the {@code speculativeParsing} attribute
+   */
+  @Override
+  public SpeculativeParsing getSpeculativeParsing() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getSpeculativeParsing()
+        : this.speculativeParsing;
+  }
+
+  /**
+   * @return The value of the {@code excludeUnsupportedTargets} attribute
+   */
+  @Override
+  public boolean excludeUnsupportedTargets() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.excludeUnsupportedTargets()
+        : this.excludeUnsupportedTargets;
+  }
+
+  /**
+   * @return The value of the {@code applyDefaultFlavorsMode} attribute
+   */
+  @Override
+  public ParserConfig.ApplyDefaultFlavorsMode getApplyDefaultFlavorsMode() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getApplyDefaultFlavorsMode()
+        : this.applyDefaultFlavorsMode;
+  }
+
+  /**
+   * @return The value of the {@code enableTargetCompatibilityChecks} attribute
+   */
+  @Override
+  public boolean enableTargetCompatibilityChecks() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.enableTargetCompatibilityChecks()
+        : this.enableTargetCompatibilityChecks;
+  }
+
+  /**
+   * @return The value of the {@code useUnconfiguredSelectorResolver} attribute
+   */
+  @Override
+  public boolean useUnconfiguredSelectorResolver() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.useUnconfiguredSelectorResolver()
+        : this.useUnconfiguredSelectorResolver;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableParsingContext} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableParsingContext
+        && equalTo((ImmutableParsingContext) another);
+  }
+
+  private boolean equalTo(ImmutableParsingContext another) {
+    return cell.equals(another.cell)
+        && executor.equals(another.executor)
+        && profilingEnabled == another.profilingEnabled
+        && speculativeParsing.equals(another.speculativeParsing)
+        && excludeUnsupportedTargets == another.excludeUnsupportedTargets
+        && applyDefaultFlavorsMode.equals(another.applyDefaultFlavorsMode)
+        && enableTargetCompatibilityChecks == another.enableTargetCompatibilityChecks
+        && useUnconfiguredSelectorResolver == another.useUnconfiguredSelectorResolver;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cell}, {@code executor}, {@code profilingEnabled}, {@code speculativeParsing}, {@code excludeUnsupportedTargets}, {@code applyDefaultFlavorsMode}, {@code enableTargetCompatibilityChecks}, {@code useUnconfiguredSelectorResolver}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + cell.hashCode();
+    h += (h << 5) + executor.hashCode();
+    h += (h << 5) + Booleans.hashCode(profilingEnabled);
+    h += (h << 5) + speculativeParsing.hashCode();
+    h += (h << 5) + Booleans.hashCode(excludeUnsupportedTargets);
+    h += (h << 5) + applyDefaultFlavorsMode.hashCode();
+    h += (h << 5) + Booleans.hashCode(enableTargetCompatibilityChecks);
+    h += (h << 5) + Booleans.hashCode(useUnconfiguredSelectorResolver);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ParsingContext} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ParsingContext")
+        .omitNullValues()
+        .add("cell", cell)
+        .add("executor", executor)
+        .add("profilingEnabled", profilingEnabled)
+        .add("speculativeParsing", speculativeParsing)
+        .add("excludeUnsupportedTargets", excludeUnsupportedTargets)
+        .add("applyDefaultFlavorsMode", applyDefaultFlavorsMode)
+        .add("enableTargetCompatibilityChecks", enableTargetCompatibilityChecks)
+        .add("useUnconfiguredSelectorResolver", useUnconfiguredSelectorResolver)
+        .toString();
+  }
+
+  /**
+   * Builds instances of type {@link ParsingContext ParsingContext}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "ParsingContext", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private static final long INIT_BIT_CELL = 0x1L;
+    private static final long INIT_BIT_EXECUTOR = 0x2L;
+    private static final long OPT_BIT_PROFILING_ENABLED = 0x1L;
+    private static final long OPT_BIT_EXCLUDE_UNSUPPORTED_TARGETS = 0x2L;
+    private static final long OPT_BIT_ENABLE_TARGET_COMPATIBILITY_CHECKS = 0x4L;
+    private static final long OPT_BIT_USE_UNCONFIGURED_SELECTOR_RESOLVER = 0x8L;
+    private long initBits = 0x3L;
+    private long optBits;
+
+    private @Nullable Cell cell;
+    private @Nullable ListeningExecutorService executor;
+    private boolean profilingEnabled;
+    private @Nullable SpeculativeParsing speculativeParsing;
+    private boolean excludeUnsupportedTargets;
+    private @Nullable ParserConfig.ApplyDefaultFlavorsMode applyDefaultFlavorsMode;
+    private boolean enableTargetCompatibilityChecks;
+    private boolean useUnconfiguredSelectorResolver;
+
+    /**
+     * Creates a builder for {@link ParsingContext ParsingContext} instances.
+     */
+    public Builder() {
+      if (!(this instanceof ParsingContext.Builder)) {
+        throw new UnsupportedOperationException("Use: new ParsingContext.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ParsingContext} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ParsingContext.Builder from(ParsingContext instance) {
+      Objects.requireNonNull(instance, "instance");
+      setCell(instance.getCell());
+      setExecutor(instance.getExecutor());
+      setProfilingEnabled(instance.isProfilingEnabled());
+      setSpeculativeParsing(instance.getSpeculativeParsing());
+      setExcludeUnsupportedTargets(instance.excludeUnsupportedTargets());
+      setApplyDefaultFlavorsMode(instance.getApplyDefaultFlavorsMode());
+      setEnableTargetCompatibilityChecks(instance.enableTargetCompatibilityChecks());
+      setUseUnconfiguredSelectorResolver(instance.useUnconfiguredSelectorResolver());
+      return (ParsingContext.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ParsingContext#getCell() cell} attribute.
+     * @param cell The value for cell 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ParsingContext.Builder setCell(Cell cell) {
+      this.cell = Objects.requireNonNull(cell, "cell");
+      initBits &= ~INIT_BIT_CELL;
+      return (ParsingContext.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ParsingContext#getExecutor() executor} attribute.
+     * @param executor The value for executor 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ParsingContext.Builder setExecutor(ListeningExecutorService executor) {
+      this.executor = Objects.requireNonNull(executor, "executor");
+      initBits &= ~INIT_BIT_EXECUTOR;
+      return (ParsingContext.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ParsingContext#isProfilingEnabled() profilingEnabled} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ParsingContext#isProfilingEnabled() profilingEnabled}.</em>
+     * @param profilingEnabled The value for profilingEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ParsingContext.Builder setProfilingEnabled(boolean profilingEnabled) {
+      this.profilingEnabled = profilingEnabled;
+      optBits |= OPT_BIT_PROFILING_ENABLED;
+      return (ParsingContext.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ParsingContext#getSpeculativeParsing() speculativeParsing} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ParsingContext#getSpeculativeParsing() speculativeParsing}.</em>
+     * @param speculativeParsing The value for speculativeParsing 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ParsingContext.Builder setSpeculativeParsing(SpeculativeParsing speculativeParsing) {
+      this.speculativeParsing = Objects.requireNonNull(speculativeParsing, "speculativeParsing");
+      return (ParsingContext.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ParsingContext#excludeUnsupportedTargets() excludeUnsupportedTargets} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ParsingContext#excludeUnsupportedTargets() excludeUnsupportedTargets}.</em>
+     * @param excludeUnsupportedTargets The value for excludeUnsupportedTargets 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ParsingContext.Builder setExcludeUnsupportedTargets(boolean excludeUnsupportedTargets) {
+      this.excludeUnsupportedTargets = excludeUnsupportedTargets;
+      optBits |= OPT_BIT_EXCLUDE_UNSUPPORTED_TARGETS;
+      return (ParsingContext.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ParsingContext#getApplyDefaultFlavorsMode() applyDefaultFlavorsMode} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ParsingContext#getApplyDefaultFlavorsMode() applyDefaultFlavorsMode}.</em>
+     * @param applyDefaultFlavorsMode The value for applyDefaultFlavorsMode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ParsingContext.Builder setApplyDefaultFlavorsMode(ParserConfig.ApplyDefaultFlavorsMode applyDefaultFlavorsMode) {
+      this.applyDefaultFlavorsMode = Objects.requireNonNull(applyDefaultFlavorsMode, "applyDefaultFlavorsMode");
+      return (ParsingContext.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ParsingContext#enableTargetCompatibilityChecks() enableTargetCompatibilityChecks} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ParsingContext#enableTargetCompatibilityChecks() enableTargetCompatibilityChecks}.</em>
+     * @param enableTargetCompatibilityChecks The value for enableTargetCompatibilityChecks 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ParsingContext.Builder setEnableTargetCompatibilityChecks(boolean enableTargetCompatibilityChecks) {
+      this.enableTargetCompatibilityChecks = enableTargetCompatibilityChecks;
+      optBits |= OPT_BIT_ENABLE_TARGET_COMPATIBILITY_CHECKS;
+      return (ParsingContext.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link ParsingContext#useUnconfiguredSelectorResolver() useUnconfiguredSelectorResolver} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ParsingContext#useUnconfiguredSelectorResolver() useUnconfiguredSelectorResolver}.</em>
+     * @param useUnconfiguredSelectorResolver The value for useUnconfiguredSelectorResolver 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final ParsingContext.Builder setUseUnconfiguredSelectorResolver(boolean useUnconfiguredSelectorResolver) {
+      this.useUnconfiguredSelectorResolver = useUnconfiguredSelectorResolver;
+      optBits |= OPT_BIT_USE_UNCONFIGURED_SELECTOR_RESOLVER;
+      return (ParsingContext.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link ParsingContext ParsingContext}.
+     * @return An immutable instance of ParsingContext
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ParsingContext build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ImmutableParsingContext(this);
+    }
+
+    private boolean profilingEnabledIsSet() {
+      return (optBits & OPT_BIT_PROFILING_ENABLED) != 0;
+    }
+
+    private boolean excludeUnsupportedTargetsIsSet() {
+      return (optBits & OPT_BIT_EXCLUDE_UNSUPPORTED_TARGETS) != 0;
+    }
+
+    private boolean enableTargetCompatibilityChecksIsSet() {
+      return (optBits & OPT_BIT_ENABLE_TARGET_COMPATIBILITY_CHECKS) != 0;
+    }
+
+    private boolean useUnconfiguredSelectorResolverIsSet() {
+      return (optBits & OPT_BIT_USE_UNCONFIGURED_SELECTOR_RESOLVER) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_CELL) != 0) attributes.add("cell");
+      if ((initBits & INIT_BIT_EXECUTOR) != 0) attributes.add("executor");
+      return "Cannot build ParsingContext, some of required attributes are not set " + attributes;
+    }
+  }
+}
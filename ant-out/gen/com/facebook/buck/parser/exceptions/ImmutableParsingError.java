@@ -0,0 +1,154 @@
+package com.facebook.buck.parser.exceptions;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ParsingError}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableParsingError.of()}.
+ */
+@Generated(from = "ParsingError", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableParsingError extends ParsingError {
+  private final String message;
+  private final ImmutableList<String> stackTrace;
+
+  private ImmutableParsingError(String message, Iterable<String> stackTrace) {
+    this.message = Objects.requireNonNull(message, "message");
+    this.stackTrace = ImmutableList.copyOf(stackTrace);
+  }
+
+  /**
+   * @return The value of the {@code message} attribute
+   */
+  @JsonProperty("message")
+  @Override
+  public String getMessage() {
+    return message;
+  }
+
+  /**
+   * @return The value of the {@code stackTrace} attribute
+   */
+  @JsonProperty("stacktrace")
+  @Override
+  public ImmutableList<String> getStackTrace() {
+    return stackTrace;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableParsingError} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableParsingError
+        && equalTo((ImmutableParsingError) another);
+  }
+
+  private boolean equalTo(ImmutableParsingError another) {
+    return message.equals(another.message)
+        && stackTrace.equals(another.stackTrace);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code message}, {@code stackTrace}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + message.hashCode();
+    h += (h << 5) + stackTrace.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ParsingError} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ParsingError")
+        .omitNullValues()
+        .add("message", message)
+        .add("stackTrace", stackTrace)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "ParsingError", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends ParsingError {
+    @Nullable String message;
+    @Nullable ImmutableList<String> stackTrace = ImmutableList.of();
+    @JsonProperty("message")
+    public void setMessage(String message) {
+      this.message = message;
+    }
+    @JsonProperty("stacktrace")
+    public void setStackTrace(ImmutableList<String> stackTrace) {
+      this.stackTrace = stackTrace;
+    }
+    @Override
+    public String getMessage() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableList<String> getStackTrace() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableParsingError fromJson(Json json) {
+    ImmutableParsingError instance = ImmutableParsingError.of(json.message, json.stackTrace);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code ParsingError} instance.
+   * @param message The value for the {@code message} attribute
+   * @param stackTrace The value for the {@code stackTrace} attribute
+   * @return An immutable ParsingError instance
+   */
+  public static ImmutableParsingError of(String message, ImmutableList<String> stackTrace) {
+    return of(message, (Iterable<String>) stackTrace);
+  }
+
+  /**
+   * Construct a new immutable {@code ParsingError} instance.
+   * @param message The value for the {@code message} attribute
+   * @param stackTrace The value for the {@code stackTrace} attribute
+   * @return An immutable ParsingError instance
+   */
+  public static ImmutableParsingError of(String message, Iterable<String> stackTrace) {
+    return new ImmutableParsingError(message, stackTrace);
+  }
+}
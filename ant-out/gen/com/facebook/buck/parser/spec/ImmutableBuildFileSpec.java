@@ -0,0 +1,101 @@
+package com.facebook.buck.parser.spec;
+
+import com.facebook.buck.core.model.CellRelativePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuildFileSpec}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildFileSpec.of()}.
+ */
+@Generated(from = "BuildFileSpec", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildFileSpec extends BuildFileSpec {
+  private final CellRelativePath cellRelativeBaseName;
+  private final boolean recursive;
+
+  private ImmutableBuildFileSpec(CellRelativePath cellRelativeBaseName, boolean recursive) {
+    this.cellRelativeBaseName = Objects.requireNonNull(cellRelativeBaseName, "cellRelativeBaseName");
+    this.recursive = recursive;
+  }
+
+  /**
+   * @return The value of the {@code cellRelativeBaseName} attribute
+   */
+  @Override
+  public CellRelativePath getCellRelativeBaseName() {
+    return cellRelativeBaseName;
+  }
+
+  /**
+   * @return The value of the {@code recursive} attribute
+   */
+  @Override
+  public boolean isRecursive() {
+    return recursive;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildFileSpec} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildFileSpec
+        && equalTo((ImmutableBuildFileSpec) another);
+  }
+
+  private boolean equalTo(ImmutableBuildFileSpec another) {
+    return cellRelativeBaseName.equals(another.cellRelativeBaseName)
+        && recursive == another.recursive;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cellRelativeBaseName}, {@code recursive}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + cellRelativeBaseName.hashCode();
+    h += (h << 5) + Booleans.hashCode(recursive);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildFileSpec} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildFileSpec")
+        .omitNullValues()
+        .add("cellRelativeBaseName", cellRelativeBaseName)
+        .add("recursive", recursive)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuildFileSpec} instance.
+   * @param cellRelativeBaseName The value for the {@code cellRelativeBaseName} attribute
+   * @param recursive The value for the {@code recursive} attribute
+   * @return An immutable BuildFileSpec instance
+   */
+  public static ImmutableBuildFileSpec of(CellRelativePath cellRelativeBaseName, boolean recursive) {
+    return new ImmutableBuildFileSpec(cellRelativeBaseName, recursive);
+  }
+}
@@ -0,0 +1,100 @@
+package com.facebook.buck.parser.targetnode;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuildPackagePathToUnconfiguredTargetNodePackageKey}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildPackagePathToUnconfiguredTargetNodePackageKey.of()}.
+ */
+@Generated(from = "BuildPackagePathToUnconfiguredTargetNodePackageKey", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildPackagePathToUnconfiguredTargetNodePackageKey
+    extends BuildPackagePathToUnconfiguredTargetNodePackageKey {
+  private final Path path;
+  private transient final int hashCode;
+
+  private ImmutableBuildPackagePathToUnconfiguredTargetNodePackageKey(Path path) {
+    this.path = Objects.requireNonNull(path, "path");
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  public Path getPath() {
+    return path;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildPackagePathToUnconfiguredTargetNodePackageKey} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildPackagePathToUnconfiguredTargetNodePackageKey
+        && equalTo((ImmutableBuildPackagePathToUnconfiguredTargetNodePackageKey) another);
+  }
+
+  private boolean equalTo(ImmutableBuildPackagePathToUnconfiguredTargetNodePackageKey another) {
+    if (hashCode != another.hashCode) return false;
+    return path.equals(another.path);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code path}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + path.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildPackagePathToUnconfiguredTargetNodePackageKey} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildPackagePathToUnconfiguredTargetNodePackageKey")
+        .omitNullValues()
+        .add("path", path)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuildPackagePathToUnconfiguredTargetNodePackageKey} instance.
+   * @param path The value for the {@code path} attribute
+   * @return An immutable BuildPackagePathToUnconfiguredTargetNodePackageKey instance
+   */
+  public static ImmutableBuildPackagePathToUnconfiguredTargetNodePackageKey of(Path path) {
+    return validate(new ImmutableBuildPackagePathToUnconfiguredTargetNodePackageKey(path));
+  }
+
+
+  private static ImmutableBuildPackagePathToUnconfiguredTargetNodePackageKey validate(ImmutableBuildPackagePathToUnconfiguredTargetNodePackageKey instance) {
+    instance.check();
+    return instance;
+  }
+}
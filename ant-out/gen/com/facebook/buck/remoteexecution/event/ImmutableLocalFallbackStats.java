@@ -0,0 +1,208 @@
+package com.facebook.buck.remoteexecution.event;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link LocalFallbackStats}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new LocalFallbackStats.Builder()}.
+ */
+@Generated(from = "LocalFallbackStats", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableLocalFallbackStats
+    implements LocalFallbackStats {
+  private final int totalExecutedRules;
+  private final int locallyExecutedRules;
+  private final int locallySuccessfulRules;
+
+  private ImmutableLocalFallbackStats(ImmutableLocalFallbackStats.Builder builder) {
+    this.totalExecutedRules = builder.totalExecutedRules;
+    this.locallyExecutedRules = builder.locallyExecutedRules;
+    this.locallySuccessfulRules = builder.locallySuccessfulRules;
+  }
+
+  /**
+   * @return The value of the {@code totalExecutedRules} attribute
+   */
+  @Override
+  public int getTotalExecutedRules() {
+    return totalExecutedRules;
+  }
+
+  /**
+   * @return The value of the {@code locallyExecutedRules} attribute
+   */
+  @Override
+  public int getLocallyExecutedRules() {
+    return locallyExecutedRules;
+  }
+
+  /**
+   * @return The value of the {@code locallySuccessfulRules} attribute
+   */
+  @Override
+  public int getLocallySuccessfulRules() {
+    return locallySuccessfulRules;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableLocalFallbackStats} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableLocalFallbackStats
+        && equalTo((ImmutableLocalFallbackStats) another);
+  }
+
+  private boolean equalTo(ImmutableLocalFallbackStats another) {
+    return totalExecutedRules == another.totalExecutedRules
+        && locallyExecutedRules == another.locallyExecutedRules
+        && locallySuccessfulRules == another.locallySuccessfulRules;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code totalExecutedRules}, {@code locallyExecutedRules}, {@code locallySuccessfulRules}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + totalExecutedRules;
+    h += (h << 5) + locallyExecutedRules;
+    h += (h << 5) + locallySuccessfulRules;
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code LocalFallbackStats} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("LocalFallbackStats")
+        .omitNullValues()
+        .add("totalExecutedRules", totalExecutedRules)
+        .add("locallyExecutedRules", locallyExecutedRules)
+        .add("locallySuccessfulRules", locallySuccessfulRules)
+        .toString();
+  }
+
+  /**
+   * Builds instances of type {@link LocalFallbackStats LocalFallbackStats}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "LocalFallbackStats", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private static final long INIT_BIT_TOTAL_EXECUTED_RULES = 0x1L;
+    private static final long INIT_BIT_LOCALLY_EXECUTED_RULES = 0x2L;
+    private static final long INIT_BIT_LOCALLY_SUCCESSFUL_RULES = 0x4L;
+    private long initBits = 0x7L;
+
+    private int totalExecutedRules;
+    private int locallyExecutedRules;
+    private int locallySuccessfulRules;
+
+    /**
+     * Creates a builder for {@link LocalFallbackStats LocalFallbackStats} instances.
+     */
+    public Builder() {
+      if (!(this instanceof LocalFallbackStats.Builder)) {
+        throw new UnsupportedOperationException("Use: new LocalFallbackStats.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code LocalFallbackStats} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final LocalFallbackStats.Builder from(LocalFallbackStats instance) {
+      Objects.requireNonNull(instance, "instance");
+      setTotalExecutedRules(instance.getTotalExecutedRules());
+      setLocallyExecutedRules(instance.getLocallyExecutedRules());
+      setLocallySuccessfulRules(instance.getLocallySuccessfulRules());
+      return (LocalFallbackStats.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link LocalFallbackStats#getTotalExecutedRules() totalExecutedRules} attribute.
+     * @param totalExecutedRules The value for totalExecutedRules 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final LocalFallbackStats.Builder setTotalExecutedRules(int totalExecutedRules) {
+      this.totalExecutedRules = totalExecutedRules;
+      initBits &= ~INIT_BIT_TOTAL_EXECUTED_RULES;
+      return (LocalFallbackStats.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link LocalFallbackStats#getLocallyExecutedRules() locallyExecutedRules} attribute.
+     * @param locallyExecutedRules The value for locallyExecutedRules 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final LocalFallbackStats.Builder setLocallyExecutedRules(int locallyExecutedRules) {
+      this.locallyExecutedRules = locallyExecutedRules;
+      initBits &= ~INIT_BIT_LOCALLY_EXECUTED_RULES;
+      return (LocalFallbackStats.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link LocalFallbackStats#getLocallySuccessfulRules() locallySuccessfulRules} attribute.
+     * @param locallySuccessfulRules The value for locallySuccessfulRules 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final LocalFallbackStats.Builder setLocallySuccessfulRules(int locallySuccessfulRules) {
+      this.locallySuccessfulRules = locallySuccessfulRules;
+      initBits &= ~INIT_BIT_LOCALLY_SUCCESSFUL_RULES;
+      return (LocalFallbackStats.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link LocalFallbackStats LocalFallbackStats}.
+     * @return An immutable instance of LocalFallbackStats
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public LocalFallbackStats build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ImmutableLocalFallbackStats(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_TOTAL_EXECUTED_RULES) != 0) attributes.add("totalExecutedRules");
+      if ((initBits & INIT_BIT_LOCALLY_EXECUTED_RULES) != 0) attributes.add("locallyExecutedRules");
+      if ((initBits & INIT_BIT_LOCALLY_SUCCESSFUL_RULES) != 0) attributes.add("locallySuccessfulRules");
+      return "Cannot build LocalFallbackStats, some of required attributes are not set " + attributes;
+    }
+  }
+}
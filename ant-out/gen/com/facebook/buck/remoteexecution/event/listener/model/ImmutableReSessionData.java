@@ -0,0 +1,119 @@
+package com.facebook.buck.remoteexecution.event.listener.model;
+
+import com.facebook.buck.remoteexecution.proto.RESessionID;
+import com.facebook.buck.rules.modern.config.ModernBuildRuleBuildStrategy;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ReSessionData}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableReSessionData.of()}.
+ */
+@Generated(from = "ReSessionData", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableReSessionData
+    implements ReSessionData {
+  private final RESessionID reSessionId;
+  private final String reSessionLabel;
+  private final ModernBuildRuleBuildStrategy strategy;
+
+  private ImmutableReSessionData(
+      RESessionID reSessionId,
+      String reSessionLabel,
+      ModernBuildRuleBuildStrategy strategy) {
+    this.reSessionId = Objects.requireNonNull(reSessionId, "reSessionId");
+    this.reSessionLabel = Objects.requireNonNull(reSessionLabel, "reSessionLabel");
+    this.strategy = Objects.requireNonNull(strategy, "strategy");
+  }
+
+  /**
+   * @return The value of the {@code reSessionId} attribute
+   */
+  @Override
+  public RESessionID getReSessionId() {
+    return reSessionId;
+  }
+
+  /**
+   * @return The value of the {@code reSessionLabel} attribute
+   */
+  @Override
+  public String getReSessionLabel() {
+    return reSessionLabel;
+  }
+
+  /**
+   * @return The value of the {@code strategy} attribute
+   */
+  @Override
+  public ModernBuildRuleBuildStrategy getStrategy() {
+    return strategy;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableReSessionData} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableReSessionData
+        && equalTo((ImmutableReSessionData) another);
+  }
+
+  private boolean equalTo(ImmutableReSessionData another) {
+    return reSessionId.equals(another.reSessionId)
+        && reSessionLabel.equals(another.reSessionLabel)
+        && strategy.equals(another.strategy);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code reSessionId}, {@code reSessionLabel}, {@code strategy}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + reSessionId.hashCode();
+    h += (h << 5) + reSessionLabel.hashCode();
+    h += (h << 5) + strategy.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ReSessionData} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ReSessionData")
+        .omitNullValues()
+        .add("reSessionId", reSessionId)
+        .add("reSessionLabel", reSessionLabel)
+        .add("strategy", strategy)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ReSessionData} instance.
+   * @param reSessionId The value for the {@code reSessionId} attribute
+   * @param reSessionLabel The value for the {@code reSessionLabel} attribute
+   * @param strategy The value for the {@code strategy} attribute
+   * @return An immutable ReSessionData instance
+   */
+  public static ImmutableReSessionData of(RESessionID reSessionId, String reSessionLabel, ModernBuildRuleBuildStrategy strategy) {
+    return new ImmutableReSessionData(reSessionId, reSessionLabel, strategy);
+  }
+}
@@ -0,0 +1,101 @@
+package com.facebook.buck.remoteexecution.grpc;
+
+import build.bazel.remote.execution.v2.Digest;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link GrpcRemoteExecutionClients.ParsedReadResource}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableParsedReadResource.of()}.
+ */
+@Generated(from = "GrpcRemoteExecutionClients.ParsedReadResource", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableParsedReadResource
+    implements GrpcRemoteExecutionClients.ParsedReadResource {
+  private final String instanceName;
+  private final Digest digest;
+
+  private ImmutableParsedReadResource(String instanceName, Digest digest) {
+    this.instanceName = Objects.requireNonNull(instanceName, "instanceName");
+    this.digest = Objects.requireNonNull(digest, "digest");
+  }
+
+  /**
+   * @return The value of the {@code instanceName} attribute
+   */
+  @Override
+  public String getInstanceName() {
+    return instanceName;
+  }
+
+  /**
+   * @return The value of the {@code digest} attribute
+   */
+  @Override
+  public Digest getDigest() {
+    return digest;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableParsedReadResource} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableParsedReadResource
+        && equalTo((ImmutableParsedReadResource) another);
+  }
+
+  private boolean equalTo(ImmutableParsedReadResource another) {
+    return instanceName.equals(another.instanceName)
+        && digest.equals(another.digest);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code instanceName}, {@code digest}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + instanceName.hashCode();
+    h += (h << 5) + digest.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ParsedReadResource} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ParsedReadResource")
+        .omitNullValues()
+        .add("instanceName", instanceName)
+        .add("digest", digest)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ParsedReadResource} instance.
+   * @param instanceName The value for the {@code instanceName} attribute
+   * @param digest The value for the {@code digest} attribute
+   * @return An immutable ParsedReadResource instance
+   */
+  public static ImmutableParsedReadResource of(String instanceName, Digest digest) {
+    return new ImmutableParsedReadResource(instanceName, digest);
+  }
+}
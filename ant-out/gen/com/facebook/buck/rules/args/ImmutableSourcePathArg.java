@@ -0,0 +1,86 @@
+package com.facebook.buck.rules.args;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link SourcePathArg}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableSourcePathArg.of()}.
+ */
+@Generated(from = "SourcePathArg", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableSourcePathArg extends SourcePathArg {
+  private final SourcePath path;
+
+  private ImmutableSourcePathArg(SourcePath path) {
+    this.path = Objects.requireNonNull(path, "path");
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  public SourcePath getPath() {
+    return path;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableSourcePathArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableSourcePathArg
+        && equalTo((ImmutableSourcePathArg) another);
+  }
+
+  private boolean equalTo(ImmutableSourcePathArg another) {
+    return path.equals(another.path);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code path}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + path.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SourcePathArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SourcePathArg")
+        .omitNullValues()
+        .add("path", path)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code SourcePathArg} instance.
+   * @param path The value for the {@code path} attribute
+   * @return An immutable SourcePathArg instance
+   */
+  public static ImmutableSourcePathArg of(SourcePath path) {
+    return new ImmutableSourcePathArg(path);
+  }
+}
@@ -0,0 +1,85 @@
+package com.facebook.buck.rules.args;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link StringArg}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableStringArg.of()}.
+ */
+@Generated(from = "StringArg", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableStringArg extends StringArg {
+  private final String arg;
+
+  private ImmutableStringArg(String arg) {
+    this.arg = Objects.requireNonNull(arg, "arg");
+  }
+
+  /**
+   * @return The value of the {@code arg} attribute
+   */
+  @Override
+  public String getArg() {
+    return arg;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableStringArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableStringArg
+        && equalTo((ImmutableStringArg) another);
+  }
+
+  private boolean equalTo(ImmutableStringArg another) {
+    return arg.equals(another.arg);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code arg}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + arg.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code StringArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("StringArg")
+        .omitNullValues()
+        .add("arg", arg)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code StringArg} instance.
+   * @param arg The value for the {@code arg} attribute
+   * @return An immutable StringArg instance
+   */
+  public static ImmutableStringArg of(String arg) {
+    return new ImmutableStringArg(arg);
+  }
+}
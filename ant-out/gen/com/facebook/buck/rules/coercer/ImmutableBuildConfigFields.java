@@ -0,0 +1,161 @@
+package com.facebook.buck.rules.coercer;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link BuildConfigFields}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildConfigFields.of()}.
+ */
+@Generated(from = "BuildConfigFields", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildConfigFields extends BuildConfigFields {
+  private final ImmutableMap<String, BuildConfigFields.Field> nameToField;
+
+  private ImmutableBuildConfigFields(
+      Map<String, ? extends BuildConfigFields.Field> nameToField) {
+    this.nameToField = ImmutableMap.copyOf(nameToField);
+  }
+
+  /**
+   * @return The value of the {@code nameToField} attribute
+   */
+  @Override
+  public ImmutableMap<String, BuildConfigFields.Field> getNameToField() {
+    return nameToField;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildConfigFields} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildConfigFields
+        && equalTo((ImmutableBuildConfigFields) another);
+  }
+
+  private boolean equalTo(ImmutableBuildConfigFields another) {
+    return nameToField.equals(another.nameToField);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code nameToField}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + nameToField.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code BuildConfigFields} instance.
+   * @param nameToField The value for the {@code nameToField} attribute
+   * @return An immutable BuildConfigFields instance
+   */
+  public static ImmutableBuildConfigFields of(Map<String, ? extends BuildConfigFields.Field> nameToField) {
+    return new ImmutableBuildConfigFields(nameToField);
+  }
+
+  /**
+   * Immutable implementation of {@link BuildConfigFields.Field}.
+   * <p>
+   * Use the static factory method to create immutable instances:
+   * {@code ImmutableBuildConfigFields.Field.of()}.
+   */
+  @Generated(from = "BuildConfigFields.Field", generator = "Immutables")
+  @Immutable
+  @CheckReturnValue
+  static final class Field extends BuildConfigFields.Field {
+    private final String type;
+    private final String name;
+    private final String value;
+
+    private Field(String type, String name, String value) {
+      this.type = Objects.requireNonNull(type, "type");
+      this.name = Objects.requireNonNull(name, "name");
+      this.value = Objects.requireNonNull(value, "value");
+    }
+
+    /**
+     * @return The value of the {@code type} attribute
+     */
+    @Override
+    public String getType() {
+      return type;
+    }
+
+    /**
+     * @return The value of the {@code name} attribute
+     */
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * @return The value of the {@code value} attribute
+     */
+    @Override
+    public String getValue() {
+      return value;
+    }
+
+    /**
+     * This instance is equal to all instances of {@code Field} that have equal attribute values.
+     * @return {@code true} if {@code this} is equal to {@code another} instance
+     */
+    @Override
+    public boolean equals(@Nullable Object another) {
+      if (this == another) return true;
+      return another instanceof ImmutableBuildConfigFields.Field
+          && equalTo((ImmutableBuildConfigFields.Field) another);
+    }
+
+    private boolean equalTo(ImmutableBuildConfigFields.Field another) {
+      return type.equals(another.type)
+          && name.equals(another.name)
+          && value.equals(another.value);
+    }
+
+    /**
+     * Computes a hash code from attributes: {@code type}, {@code name}, {@code value}.
+     * @return hashCode value
+     */
+    @Override
+    public int hashCode() {
+      @Var int h = 5381;
+      h += (h << 5) + type.hashCode();
+      h += (h << 5) + name.hashCode();
+      h += (h << 5) + value.hashCode();
+      return h;
+    }
+
+    /**
+     * Construct a new immutable {@code Field} instance.
+     * @param type The value for the {@code type} attribute
+     * @param name The value for the {@code name} attribute
+     * @param value The value for the {@code value} attribute
+     * @return An immutable Field instance
+     */
+    public static ImmutableBuildConfigFields.Field of(String type, String name, String value) {
+      return new ImmutableBuildConfigFields.Field(type, name, value);
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package com.facebook.buck.rules.coercer;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link NeededCoverageSpec}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableNeededCoverageSpec.of()}.
+ */
+@Generated(from = "NeededCoverageSpec", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableNeededCoverageSpec extends NeededCoverageSpec {
+  private final int neededCoverageRatioPercentage;
+  private final BuildTarget buildTarget;
+  private final @Nullable String pathName;
+
+  private ImmutableNeededCoverageSpec(
+      int neededCoverageRatioPercentage,
+      BuildTarget buildTarget,
+      Optional<String> pathName) {
+    this.neededCoverageRatioPercentage = neededCoverageRatioPercentage;
+    this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+    this.pathName = pathName.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code neededCoverageRatioPercentage} attribute
+   */
+  @Override
+  public int getNeededCoverageRatioPercentage() {
+    return neededCoverageRatioPercentage;
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return The value of the {@code pathName} attribute
+   */
+  @Override
+  public Optional<String> getPathName() {
+    return Optional.ofNullable(pathName);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableNeededCoverageSpec} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableNeededCoverageSpec
+        && equalTo((ImmutableNeededCoverageSpec) another);
+  }
+
+  private boolean equalTo(ImmutableNeededCoverageSpec another) {
+    return neededCoverageRatioPercentage == another.neededCoverageRatioPercentage
+        && buildTarget.equals(another.buildTarget)
+        && Objects.equals(pathName, another.pathName);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code neededCoverageRatioPercentage}, {@code buildTarget}, {@code pathName}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + neededCoverageRatioPercentage;
+    h += (h << 5) + buildTarget.hashCode();
+    h += (h << 5) + Objects.hashCode(pathName);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NeededCoverageSpec} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NeededCoverageSpec")
+        .omitNullValues()
+        .add("neededCoverageRatioPercentage", neededCoverageRatioPercentage)
+        .add("buildTarget", buildTarget)
+        .add("pathName", pathName)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code NeededCoverageSpec} instance.
+   * @param neededCoverageRatioPercentage The value for the {@code neededCoverageRatioPercentage} attribute
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param pathName The value for the {@code pathName} attribute
+   * @return An immutable NeededCoverageSpec instance
+   */
+  public static ImmutableNeededCoverageSpec of(int neededCoverageRatioPercentage, BuildTarget buildTarget, Optional<String> pathName) {
+    return new ImmutableNeededCoverageSpec(neededCoverageRatioPercentage, buildTarget, pathName);
+  }
+}
@@ -0,0 +1,127 @@
+package com.facebook.buck.rules.coercer;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link SourceSortedSet}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableSourceSortedSet.of()}.
+ */
+@Generated(from = "SourceSortedSet", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableSourceSortedSet extends SourceSortedSet {
+  private final SourceSortedSet.Type type;
+  private final @Nullable ImmutableSortedSet<SourcePath> unnamedSources;
+  private final @Nullable ImmutableSortedMap<String, SourcePath> namedSources;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableSourceSortedSet(
+      SourceSortedSet.Type type,
+      Optional<? extends ImmutableSortedSet<SourcePath>> unnamedSources,
+      Optional<? extends ImmutableSortedMap<String, SourcePath>> namedSources) {
+    this.type = Objects.requireNonNull(type, "type");
+    this.unnamedSources = unnamedSources.orElse(null);
+    this.namedSources = namedSources.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public SourceSortedSet.Type getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code unnamedSources} attribute
+   */
+  @Override
+  public Optional<ImmutableSortedSet<SourcePath>> getUnnamedSources() {
+    return Optional.ofNullable(unnamedSources);
+  }
+
+  /**
+   * @return The value of the {@code namedSources} attribute
+   */
+  @Override
+  public Optional<ImmutableSortedMap<String, SourcePath>> getNamedSources() {
+    return Optional.ofNullable(namedSources);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableSourceSortedSet} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableSourceSortedSet
+        && equalTo((ImmutableSourceSortedSet) another);
+  }
+
+  private boolean equalTo(ImmutableSourceSortedSet another) {
+    return type.equals(another.type)
+        && Objects.equals(unnamedSources, another.unnamedSources)
+        && Objects.equals(namedSources, another.namedSources);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code unnamedSources}, {@code namedSources}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + Objects.hashCode(unnamedSources);
+    h += (h << 5) + Objects.hashCode(namedSources);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SourceSortedSet} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SourceSortedSet")
+        .omitNullValues()
+        .add("type", type)
+        .add("unnamedSources", unnamedSources)
+        .add("namedSources", namedSources)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code SourceSortedSet} instance.
+   * @param type The value for the {@code type} attribute
+   * @param unnamedSources The value for the {@code unnamedSources} attribute
+   * @param namedSources The value for the {@code namedSources} attribute
+   * @return An immutable SourceSortedSet instance
+   */
+  public static ImmutableSourceSortedSet of(SourceSortedSet.Type type, Optional<? extends ImmutableSortedSet<SourcePath>> unnamedSources, Optional<? extends ImmutableSortedMap<String, SourcePath>> namedSources) {
+    return validate(new ImmutableSourceSortedSet(type, unnamedSources, namedSources));
+  }
+
+
+  private static ImmutableSourceSortedSet validate(ImmutableSourceSortedSet instance) {
+    instance.check();
+    return instance;
+  }
+}
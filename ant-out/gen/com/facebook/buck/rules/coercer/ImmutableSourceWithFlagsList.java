@@ -0,0 +1,127 @@
+package com.facebook.buck.rules.coercer;
+
+import com.facebook.buck.core.sourcepath.SourceWithFlags;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link SourceWithFlagsList}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableSourceWithFlagsList.of()}.
+ */
+@Generated(from = "SourceWithFlagsList", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableSourceWithFlagsList extends SourceWithFlagsList {
+  private final SourceWithFlagsList.Type type;
+  private final @Nullable ImmutableSortedSet<SourceWithFlags> unnamedSources;
+  private final @Nullable ImmutableSortedMap<String, SourceWithFlags> namedSources;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableSourceWithFlagsList(
+      SourceWithFlagsList.Type type,
+      Optional<? extends ImmutableSortedSet<SourceWithFlags>> unnamedSources,
+      Optional<? extends ImmutableSortedMap<String, SourceWithFlags>> namedSources) {
+    this.type = Objects.requireNonNull(type, "type");
+    this.unnamedSources = unnamedSources.orElse(null);
+    this.namedSources = namedSources.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public SourceWithFlagsList.Type getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code unnamedSources} attribute
+   */
+  @Override
+  public Optional<ImmutableSortedSet<SourceWithFlags>> getUnnamedSources() {
+    return Optional.ofNullable(unnamedSources);
+  }
+
+  /**
+   * @return The value of the {@code namedSources} attribute
+   */
+  @Override
+  public Optional<ImmutableSortedMap<String, SourceWithFlags>> getNamedSources() {
+    return Optional.ofNullable(namedSources);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableSourceWithFlagsList} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableSourceWithFlagsList
+        && equalTo((ImmutableSourceWithFlagsList) another);
+  }
+
+  private boolean equalTo(ImmutableSourceWithFlagsList another) {
+    return type.equals(another.type)
+        && Objects.equals(unnamedSources, another.unnamedSources)
+        && Objects.equals(namedSources, another.namedSources);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code unnamedSources}, {@code namedSources}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + Objects.hashCode(unnamedSources);
+    h += (h << 5) + Objects.hashCode(namedSources);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SourceWithFlagsList} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SourceWithFlagsList")
+        .omitNullValues()
+        .add("type", type)
+        .add("unnamedSources", unnamedSources)
+        .add("namedSources", namedSources)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code SourceWithFlagsList} instance.
+   * @param type The value for the {@code type} attribute
+   * @param unnamedSources The value for the {@code unnamedSources} attribute
+   * @param namedSources The value for the {@code namedSources} attribute
+   * @return An immutable SourceWithFlagsList instance
+   */
+  public static ImmutableSourceWithFlagsList of(SourceWithFlagsList.Type type, Optional<? extends ImmutableSortedSet<SourceWithFlags>> unnamedSources, Optional<? extends ImmutableSortedMap<String, SourceWithFlags>> namedSources) {
+    return validate(new ImmutableSourceWithFlagsList(type, unnamedSources, namedSources));
+  }
+
+
+  private static ImmutableSourceWithFlagsList validate(ImmutableSourceWithFlagsList instance) {
+    instance.check();
+    return instance;
+  }
+}
@@ -0,0 +1,63 @@
+package com.facebook.buck.rules.macros;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CcFlagsMacro}.
+ * <p>
+ * Use the static factory method to get the default singleton instance:
+ * {@code ImmutableCcFlagsMacro.of()}.
+ */
+@Generated(from = "CcFlagsMacro", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCcFlagsMacro implements CcFlagsMacro {
+
+  private ImmutableCcFlagsMacro() {}
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCcFlagsMacro} that have equal attribute values.
+   * As instances of the {@code ImmutableCcFlagsMacro} class are interned, the {@code equals} method is implemented
+   * as an efficient reference equality check.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another;
+  }
+
+  /**
+   * Returns a constant hash code value.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return -1997580356;
+  }
+
+  /**
+   * Prints the immutable value {@code CcFlagsMacro}.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return "CcFlagsMacro{}";
+  }
+
+  private static final ImmutableCcFlagsMacro INSTANCE = new ImmutableCcFlagsMacro();
+
+  /**
+   * Returns the default immutable singleton value of {@code CcFlagsMacro}
+   * @return An immutable instance of CcFlagsMacro
+   */
+  public static ImmutableCcFlagsMacro of() {
+    return INSTANCE;
+  }
+}
@@ -0,0 +1,63 @@
+package com.facebook.buck.rules.macros;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link CcMacro}.
+ * <p>
+ * Use the static factory method to get the default singleton instance:
+ * {@code ImmutableCcMacro.of()}.
+ */
+@Generated(from = "CcMacro", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCcMacro implements CcMacro {
+
+  private ImmutableCcMacro() {}
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCcMacro} that have equal attribute values.
+   * As instances of the {@code ImmutableCcMacro} class are interned, the {@code equals} method is implemented
+   * as an efficient reference equality check.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another;
+  }
+
+  /**
+   * Returns a constant hash code value.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return -716730669;
+  }
+
+  /**
+   * Prints the immutable value {@code CcMacro}.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return "CcMacro{}";
+  }
+
+  private static final ImmutableCcMacro INSTANCE = new ImmutableCcMacro();
+
+  /**
+   * Returns the default immutable singleton value of {@code CcMacro}
+   * @return An immutable instance of CcMacro
+   */
+  public static ImmutableCcMacro of() {
+    return INSTANCE;
+  }
+}
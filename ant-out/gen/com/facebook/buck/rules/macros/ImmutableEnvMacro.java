@@ -0,0 +1,85 @@
+package com.facebook.buck.rules.macros;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link EnvMacro}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableEnvMacro.of()}.
+ */
+@Generated(from = "EnvMacro", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableEnvMacro implements EnvMacro {
+  private final String var;
+
+  private ImmutableEnvMacro(String var) {
+    this.var = Objects.requireNonNull(var, "var");
+  }
+
+  /**
+   * @return The value of the {@code var} attribute
+   */
+  @Override
+  public String getVar() {
+    return var;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableEnvMacro} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableEnvMacro
+        && equalTo((ImmutableEnvMacro) another);
+  }
+
+  private boolean equalTo(ImmutableEnvMacro another) {
+    return var.equals(another.var);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code var}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + var.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code EnvMacro} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("EnvMacro")
+        .omitNullValues()
+        .add("var", var)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code EnvMacro} instance.
+   * @param var The value for the {@code var} attribute
+   * @return An immutable EnvMacro instance
+   */
+  public static ImmutableEnvMacro of(String var) {
+    return new ImmutableEnvMacro(var);
+  }
+}
@@ -0,0 +1,117 @@
+package com.facebook.buck.rules.macros;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link LdflagsSharedFilterMacro}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableLdflagsSharedFilterMacro.of()}.
+ */
+@Generated(from = "LdflagsSharedFilterMacro", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableLdflagsSharedFilterMacro
+    extends LdflagsSharedFilterMacro {
+  private final @Nullable Pattern filter;
+  private final ImmutableList<BuildTarget> targets;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableLdflagsSharedFilterMacro(
+      Optional<? extends Pattern> filter,
+      Iterable<? extends BuildTarget> targets) {
+    this.filter = filter.orElse(null);
+    this.targets = ImmutableList.copyOf(targets);
+  }
+
+  /**
+   * @return The value of the {@code filter} attribute
+   */
+  @Override
+  public Optional<Pattern> getFilter() {
+    return Optional.ofNullable(filter);
+  }
+
+  /**
+   * @return The value of the {@code targets} attribute
+   */
+  @Override
+  public ImmutableList<BuildTarget> getTargets() {
+    return targets;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableLdflagsSharedFilterMacro} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableLdflagsSharedFilterMacro
+        && equalTo((ImmutableLdflagsSharedFilterMacro) another);
+  }
+
+  private boolean equalTo(ImmutableLdflagsSharedFilterMacro another) {
+    return Objects.equals(filter, another.filter)
+        && targets.equals(another.targets);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code filter}, {@code targets}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Objects.hashCode(filter);
+    h += (h << 5) + targets.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code LdflagsSharedFilterMacro} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("LdflagsSharedFilterMacro")
+        .omitNullValues()
+        .add("filter", filter)
+        .add("targets", targets)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code LdflagsSharedFilterMacro} instance.
+   * @param filter The value for the {@code filter} attribute
+   * @param targets The value for the {@code targets} attribute
+   * @return An immutable LdflagsSharedFilterMacro instance
+   */
+  public static ImmutableLdflagsSharedFilterMacro of(Optional<Pattern> filter, ImmutableList<BuildTarget> targets) {
+    return of(filter, (Iterable<? extends BuildTarget>) targets);
+  }
+
+  /**
+   * Construct a new immutable {@code LdflagsSharedFilterMacro} instance.
+   * @param filter The value for the {@code filter} attribute
+   * @param targets The value for the {@code targets} attribute
+   * @return An immutable LdflagsSharedFilterMacro instance
+   */
+  public static ImmutableLdflagsSharedFilterMacro of(Optional<? extends Pattern> filter, Iterable<? extends BuildTarget> targets) {
+    return new ImmutableLdflagsSharedFilterMacro(filter, targets);
+  }
+}
@@ -0,0 +1,86 @@
+package com.facebook.buck.rules.macros;
+
+import com.facebook.buck.rules.query.Query;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link QueryTargetsMacro}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableQueryTargetsMacro.of()}.
+ */
+@Generated(from = "QueryTargetsMacro", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableQueryTargetsMacro extends QueryTargetsMacro {
+  private final Query query;
+
+  private ImmutableQueryTargetsMacro(Query query) {
+    this.query = Objects.requireNonNull(query, "query");
+  }
+
+  /**
+   * @return The value of the {@code query} attribute
+   */
+  @Override
+  public Query getQuery() {
+    return query;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableQueryTargetsMacro} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableQueryTargetsMacro
+        && equalTo((ImmutableQueryTargetsMacro) another);
+  }
+
+  private boolean equalTo(ImmutableQueryTargetsMacro another) {
+    return query.equals(another.query);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code query}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + query.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code QueryTargetsMacro} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("QueryTargetsMacro")
+        .omitNullValues()
+        .add("query", query)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code QueryTargetsMacro} instance.
+   * @param query The value for the {@code query} attribute
+   * @return An immutable QueryTargetsMacro instance
+   */
+  public static ImmutableQueryTargetsMacro of(Query query) {
+    return new ImmutableQueryTargetsMacro(query);
+  }
+}
@@ -0,0 +1,149 @@
+package com.facebook.buck.rules.modern.builders;
+
+import com.facebook.buck.remoteexecution.UploadDataSupplier;
+import com.facebook.buck.remoteexecution.interfaces.Protocol;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link RemoteExecutionActionInfo}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableRemoteExecutionActionInfo.of()}.
+ */
+@Generated(from = "RemoteExecutionActionInfo", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableRemoteExecutionActionInfo
+    extends RemoteExecutionActionInfo {
+  private final Protocol.Digest actionDigest;
+  private final ImmutableList<UploadDataSupplier> requiredData;
+  private final long totalInputSize;
+  private final java.lang.Iterable<? extends Path> outputs;
+
+  private ImmutableRemoteExecutionActionInfo(
+      Protocol.Digest actionDigest,
+      Iterable<? extends UploadDataSupplier> requiredData,
+      long totalInputSize,
+      java.lang.Iterable<? extends Path> outputs) {
+    this.actionDigest = Objects.requireNonNull(actionDigest, "actionDigest");
+    this.requiredData = ImmutableList.copyOf(requiredData);
+    this.totalInputSize = totalInputSize;
+    this.outputs = Objects.requireNonNull(outputs, "outputs");
+  }
+
+  /**
+   * @return The value of the {@code actionDigest} attribute
+   */
+  @Override
+  public Protocol.Digest getActionDigest() {
+    return actionDigest;
+  }
+
+  /**
+   * @return The value of the {@code requiredData} attribute
+   */
+  @Override
+  public ImmutableList<UploadDataSupplier> getRequiredData() {
+    return requiredData;
+  }
+
+  /**
+   * @return The value of the {@code totalInputSize} attribute
+   */
+  @Override
+  public long getTotalInputSize() {
+    return totalInputSize;
+  }
+
+  /**
+   * @return The value of the {@code outputs} attribute
+   */
+  @Override
+  public java.lang.Iterable<? extends Path> getOutputs() {
+    return outputs;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableRemoteExecutionActionInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableRemoteExecutionActionInfo
+        && equalTo((ImmutableRemoteExecutionActionInfo) another);
+  }
+
+  private boolean equalTo(ImmutableRemoteExecutionActionInfo another) {
+    return actionDigest.equals(another.actionDigest)
+        && requiredData.equals(another.requiredData)
+        && totalInputSize == another.totalInputSize
+        && outputs.equals(another.outputs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code actionDigest}, {@code requiredData}, {@code totalInputSize}, {@code outputs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + actionDigest.hashCode();
+    h += (h << 5) + requiredData.hashCode();
+    h += (h << 5) + Longs.hashCode(totalInputSize);
+    h += (h << 5) + outputs.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RemoteExecutionActionInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RemoteExecutionActionInfo")
+        .omitNullValues()
+        .add("actionDigest", actionDigest)
+        .add("requiredData", requiredData)
+        .add("totalInputSize", totalInputSize)
+        .add("outputs", outputs)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code RemoteExecutionActionInfo} instance.
+   * @param actionDigest The value for the {@code actionDigest} attribute
+   * @param requiredData The value for the {@code requiredData} attribute
+   * @param totalInputSize The value for the {@code totalInputSize} attribute
+   * @param outputs The value for the {@code outputs} attribute
+   * @return An immutable RemoteExecutionActionInfo instance
+   */
+  public static ImmutableRemoteExecutionActionInfo of(Protocol.Digest actionDigest, ImmutableList<UploadDataSupplier> requiredData, long totalInputSize, java.lang.Iterable<? extends Path> outputs) {
+    return of(actionDigest, (Iterable<? extends UploadDataSupplier>) requiredData, totalInputSize, outputs);
+  }
+
+  /**
+   * Construct a new immutable {@code RemoteExecutionActionInfo} instance.
+   * @param actionDigest The value for the {@code actionDigest} attribute
+   * @param requiredData The value for the {@code requiredData} attribute
+   * @param totalInputSize The value for the {@code totalInputSize} attribute
+   * @param outputs The value for the {@code outputs} attribute
+   * @return An immutable RemoteExecutionActionInfo instance
+   */
+  public static ImmutableRemoteExecutionActionInfo of(Protocol.Digest actionDigest, Iterable<? extends UploadDataSupplier> requiredData, long totalInputSize, java.lang.Iterable<? extends Path> outputs) {
+    return new ImmutableRemoteExecutionActionInfo(actionDigest, requiredData, totalInputSize, outputs);
+  }
+}
@@ -0,0 +1,100 @@
+package com.facebook.buck.rules.modern.config;
+
+import com.facebook.buck.core.config.BuckConfig;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ModernBuildRuleConfig}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableModernBuildRuleConfig.of()}.
+ */
+@Generated(from = "ModernBuildRuleConfig", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableModernBuildRuleConfig
+    extends ModernBuildRuleConfig {
+  private transient final ModernBuildRuleStrategyConfig defaultStrategyConfig;
+  private final BuckConfig delegate;
+
+  private ImmutableModernBuildRuleConfig(BuckConfig delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+    this.defaultStrategyConfig = Objects.requireNonNull(super.getDefaultStrategyConfig(), "defaultStrategyConfig");
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code defaultStrategyConfig} attribute
+   */
+  @Override
+  public ModernBuildRuleStrategyConfig getDefaultStrategyConfig() {
+    return defaultStrategyConfig;
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public BuckConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableModernBuildRuleConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableModernBuildRuleConfig
+        && equalTo((ImmutableModernBuildRuleConfig) another);
+  }
+
+  private boolean equalTo(ImmutableModernBuildRuleConfig another) {
+    return defaultStrategyConfig.equals(another.defaultStrategyConfig)
+        && delegate.equals(another.delegate);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code defaultStrategyConfig}, {@code delegate}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + defaultStrategyConfig.hashCode();
+    h += (h << 5) + delegate.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ModernBuildRuleConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ModernBuildRuleConfig")
+        .omitNullValues()
+        .add("defaultStrategyConfig", defaultStrategyConfig)
+        .add("delegate", delegate)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ModernBuildRuleConfig} instance.
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable ModernBuildRuleConfig instance
+   */
+  public static ImmutableModernBuildRuleConfig of(BuckConfig delegate) {
+    return new ImmutableModernBuildRuleConfig(delegate);
+  }
+}
@@ -0,0 +1,350 @@
+package com.facebook.buck.sandbox;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link SandboxProperties}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new SandboxProperties.Builder()}.
+ */
+@Generated(from = "SandboxProperties", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableSandboxProperties extends SandboxProperties {
+  private final ImmutableSet<String> deniedToReadPaths;
+  private final ImmutableSet<String> allowedToReadPaths;
+  private final ImmutableSet<String> allowedToReadMetadataPaths;
+  private final ImmutableSet<String> allowedToWritePaths;
+
+  private ImmutableSandboxProperties(ImmutableSandboxProperties.Builder builder) {
+    this.deniedToReadPaths = builder.deniedToReadPaths.build();
+    this.allowedToReadPaths = builder.allowedToReadPaths.build();
+    this.allowedToReadMetadataPaths = builder.allowedToReadMetadataPaths.build();
+    this.allowedToWritePaths = builder.allowedToWritePaths.build();
+  }
+
+  /**
+   * @return The value of the {@code deniedToReadPaths} attribute
+   */
+  @Override
+  public ImmutableSet<String> getDeniedToReadPaths() {
+    return deniedToReadPaths;
+  }
+
+  /**
+   * @return The value of the {@code allowedToReadPaths} attribute
+   */
+  @Override
+  public ImmutableSet<String> getAllowedToReadPaths() {
+    return allowedToReadPaths;
+  }
+
+  /**
+   * @return The value of the {@code allowedToReadMetadataPaths} attribute
+   */
+  @Override
+  public ImmutableSet<String> getAllowedToReadMetadataPaths() {
+    return allowedToReadMetadataPaths;
+  }
+
+  /**
+   * @return The value of the {@code allowedToWritePaths} attribute
+   */
+  @Override
+  public ImmutableSet<String> getAllowedToWritePaths() {
+    return allowedToWritePaths;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableSandboxProperties} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableSandboxProperties
+        && equalTo((ImmutableSandboxProperties) another);
+  }
+
+  private boolean equalTo(ImmutableSandboxProperties another) {
+    return deniedToReadPaths.equals(another.deniedToReadPaths)
+        && allowedToReadPaths.equals(another.allowedToReadPaths)
+        && allowedToReadMetadataPaths.equals(another.allowedToReadMetadataPaths)
+        && allowedToWritePaths.equals(another.allowedToWritePaths);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code deniedToReadPaths}, {@code allowedToReadPaths}, {@code allowedToReadMetadataPaths}, {@code allowedToWritePaths}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + deniedToReadPaths.hashCode();
+    h += (h << 5) + allowedToReadPaths.hashCode();
+    h += (h << 5) + allowedToReadMetadataPaths.hashCode();
+    h += (h << 5) + allowedToWritePaths.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SandboxProperties} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SandboxProperties")
+        .omitNullValues()
+        .add("deniedToReadPaths", deniedToReadPaths)
+        .add("allowedToReadPaths", allowedToReadPaths)
+        .add("allowedToReadMetadataPaths", allowedToReadMetadataPaths)
+        .add("allowedToWritePaths", allowedToWritePaths)
+        .toString();
+  }
+
+  /**
+   * Builds instances of type {@link SandboxProperties SandboxProperties}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "SandboxProperties", generator = "Immutables")
+  @NotThreadSafe
+  public static class Builder {
+    private ImmutableSet.Builder<String> deniedToReadPaths = ImmutableSet.builder();
+    private ImmutableSet.Builder<String> allowedToReadPaths = ImmutableSet.builder();
+    private ImmutableSet.Builder<String> allowedToReadMetadataPaths = ImmutableSet.builder();
+    private ImmutableSet.Builder<String> allowedToWritePaths = ImmutableSet.builder();
+
+    /**
+     * Creates a builder for {@link SandboxProperties SandboxProperties} instances.
+     */
+    public Builder() {
+      if (!(this instanceof SandboxProperties.Builder)) {
+        throw new UnsupportedOperationException("Use: new SandboxProperties.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code SandboxProperties} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SandboxProperties.Builder from(SandboxProperties instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllDeniedToReadPaths(instance.getDeniedToReadPaths());
+      addAllAllowedToReadPaths(instance.getAllowedToReadPaths());
+      addAllAllowedToReadMetadataPaths(instance.getAllowedToReadMetadataPaths());
+      addAllAllowedToWritePaths(instance.getAllowedToWritePaths());
+      return (SandboxProperties.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link SandboxProperties#getDeniedToReadPaths() deniedToReadPaths} set.
+     * @param element A deniedToReadPaths element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SandboxProperties.Builder addDeniedToReadPaths(String element) {
+      this.deniedToReadPaths.add(element);
+      return (SandboxProperties.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link SandboxProperties#getDeniedToReadPaths() deniedToReadPaths} set.
+     * @param elements An array of deniedToReadPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SandboxProperties.Builder addDeniedToReadPaths(String... elements) {
+      this.deniedToReadPaths.add(elements);
+      return (SandboxProperties.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link SandboxProperties#getDeniedToReadPaths() deniedToReadPaths} set.
+     * @param elements An iterable of deniedToReadPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SandboxProperties.Builder setDeniedToReadPaths(Iterable<String> elements) {
+      this.deniedToReadPaths = ImmutableSet.builder();
+      return addAllDeniedToReadPaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link SandboxProperties#getDeniedToReadPaths() deniedToReadPaths} set.
+     * @param elements An iterable of deniedToReadPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SandboxProperties.Builder addAllDeniedToReadPaths(Iterable<String> elements) {
+      this.deniedToReadPaths.addAll(elements);
+      return (SandboxProperties.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link SandboxProperties#getAllowedToReadPaths() allowedToReadPaths} set.
+     * @param element A allowedToReadPaths element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SandboxProperties.Builder addAllowedToReadPaths(String element) {
+      this.allowedToReadPaths.add(element);
+      return (SandboxProperties.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link SandboxProperties#getAllowedToReadPaths() allowedToReadPaths} set.
+     * @param elements An array of allowedToReadPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SandboxProperties.Builder addAllowedToReadPaths(String... elements) {
+      this.allowedToReadPaths.add(elements);
+      return (SandboxProperties.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link SandboxProperties#getAllowedToReadPaths() allowedToReadPaths} set.
+     * @param elements An iterable of allowedToReadPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SandboxProperties.Builder setAllowedToReadPaths(Iterable<String> elements) {
+      this.allowedToReadPaths = ImmutableSet.builder();
+      return addAllAllowedToReadPaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link SandboxProperties#getAllowedToReadPaths() allowedToReadPaths} set.
+     * @param elements An iterable of allowedToReadPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SandboxProperties.Builder addAllAllowedToReadPaths(Iterable<String> elements) {
+      this.allowedToReadPaths.addAll(elements);
+      return (SandboxProperties.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link SandboxProperties#getAllowedToReadMetadataPaths() allowedToReadMetadataPaths} set.
+     * @param element A allowedToReadMetadataPaths element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SandboxProperties.Builder addAllowedToReadMetadataPaths(String element) {
+      this.allowedToReadMetadataPaths.add(element);
+      return (SandboxProperties.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link SandboxProperties#getAllowedToReadMetadataPaths() allowedToReadMetadataPaths} set.
+     * @param elements An array of allowedToReadMetadataPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SandboxProperties.Builder addAllowedToReadMetadataPaths(String... elements) {
+      this.allowedToReadMetadataPaths.add(elements);
+      return (SandboxProperties.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link SandboxProperties#getAllowedToReadMetadataPaths() allowedToReadMetadataPaths} set.
+     * @param elements An iterable of allowedToReadMetadataPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SandboxProperties.Builder setAllowedToReadMetadataPaths(Iterable<String> elements) {
+      this.allowedToReadMetadataPaths = ImmutableSet.builder();
+      return addAllAllowedToReadMetadataPaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link SandboxProperties#getAllowedToReadMetadataPaths() allowedToReadMetadataPaths} set.
+     * @param elements An iterable of allowedToReadMetadataPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SandboxProperties.Builder addAllAllowedToReadMetadataPaths(Iterable<String> elements) {
+      this.allowedToReadMetadataPaths.addAll(elements);
+      return (SandboxProperties.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link SandboxProperties#getAllowedToWritePaths() allowedToWritePaths} set.
+     * @param element A allowedToWritePaths element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SandboxProperties.Builder addAllowedToWritePaths(String element) {
+      this.allowedToWritePaths.add(element);
+      return (SandboxProperties.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link SandboxProperties#getAllowedToWritePaths() allowedToWritePaths} set.
+     * @param elements An array of allowedToWritePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SandboxProperties.Builder addAllowedToWritePaths(String... elements) {
+      this.allowedToWritePaths.add(elements);
+      return (SandboxProperties.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link SandboxProperties#getAllowedToWritePaths() allowedToWritePaths} set.
+     * @param elements An iterable of allowedToWritePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SandboxProperties.Builder setAllowedToWritePaths(Iterable<String> elements) {
+      this.allowedToWritePaths = ImmutableSet.builder();
+      return addAllAllowedToWritePaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link SandboxProperties#getAllowedToWritePaths() allowedToWritePaths} set.
+     * @param elements An iterable of allowedToWritePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final SandboxProperties.Builder addAllAllowedToWritePaths(Iterable<String> elements) {
+      this.allowedToWritePaths.addAll(elements);
+      return (SandboxProperties.Builder) this;
+    }
+
+    /**
+     * Builds a new {@link SandboxProperties SandboxProperties}.
+     * @return An immutable instance of SandboxProperties
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public SandboxProperties build() {
+      return new ImmutableSandboxProperties(this);
+    }
+  }
+}
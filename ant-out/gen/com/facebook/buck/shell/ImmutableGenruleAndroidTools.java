@@ -0,0 +1,165 @@
+package com.facebook.buck.shell;
+
+import com.facebook.buck.core.toolchain.tool.Tool;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link GenruleAndroidTools}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableGenruleAndroidTools.of()}.
+ */
+@Generated(from = "GenruleAndroidTools", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableGenruleAndroidTools extends GenruleAndroidTools {
+  private final Path androidSdkLocation;
+  private final Path androidPathToDx;
+  private final Path androidPathToZipalign;
+  private final Tool aaptTool;
+  private final Tool aapt2Tool;
+  private final @Nullable Path androidNdkLocation;
+
+  @SuppressWarnings("unchecked") // safe covariant cast
+  private ImmutableGenruleAndroidTools(
+      Path androidSdkLocation,
+      Path androidPathToDx,
+      Path androidPathToZipalign,
+      Tool aaptTool,
+      Tool aapt2Tool,
+      Optional<? extends Path> androidNdkLocation) {
+    this.androidSdkLocation = Objects.requireNonNull(androidSdkLocation, "androidSdkLocation");
+    this.androidPathToDx = Objects.requireNonNull(androidPathToDx, "androidPathToDx");
+    this.androidPathToZipalign = Objects.requireNonNull(androidPathToZipalign, "androidPathToZipalign");
+    this.aaptTool = Objects.requireNonNull(aaptTool, "aaptTool");
+    this.aapt2Tool = Objects.requireNonNull(aapt2Tool, "aapt2Tool");
+    this.androidNdkLocation = androidNdkLocation.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code androidSdkLocation} attribute
+   */
+  @Override
+  public Path getAndroidSdkLocation() {
+    return androidSdkLocation;
+  }
+
+  /**
+   * @return The value of the {@code androidPathToDx} attribute
+   */
+  @Override
+  public Path getAndroidPathToDx() {
+    return androidPathToDx;
+  }
+
+  /**
+   * @return The value of the {@code androidPathToZipalign} attribute
+   */
+  @Override
+  public Path getAndroidPathToZipalign() {
+    return androidPathToZipalign;
+  }
+
+  /**
+   * @return The value of the {@code aaptTool} attribute
+   */
+  @Override
+  public Tool getAaptTool() {
+    return aaptTool;
+  }
+
+  /**
+   * @return The value of the {@code aapt2Tool} attribute
+   */
+  @Override
+  public Tool getAapt2Tool() {
+    return aapt2Tool;
+  }
+
+  /**
+   * @return The value of the {@code androidNdkLocation} attribute
+   */
+  @Override
+  public Optional<Path> getAndroidNdkLocation() {
+    return Optional.ofNullable(androidNdkLocation);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableGenruleAndroidTools} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableGenruleAndroidTools
+        && equalTo((ImmutableGenruleAndroidTools) another);
+  }
+
+  private boolean equalTo(ImmutableGenruleAndroidTools another) {
+    return androidSdkLocation.equals(another.androidSdkLocation)
+        && androidPathToDx.equals(another.androidPathToDx)
+        && androidPathToZipalign.equals(another.androidPathToZipalign)
+        && aaptTool.equals(another.aaptTool)
+        && aapt2Tool.equals(another.aapt2Tool)
+        && Objects.equals(androidNdkLocation, another.androidNdkLocation);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code androidSdkLocation}, {@code androidPathToDx}, {@code androidPathToZipalign}, {@code aaptTool}, {@code aapt2Tool}, {@code androidNdkLocation}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + androidSdkLocation.hashCode();
+    h += (h << 5) + androidPathToDx.hashCode();
+    h += (h << 5) + androidPathToZipalign.hashCode();
+    h += (h << 5) + aaptTool.hashCode();
+    h += (h << 5) + aapt2Tool.hashCode();
+    h += (h << 5) + Objects.hashCode(androidNdkLocation);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code GenruleAndroidTools} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("GenruleAndroidTools")
+        .omitNullValues()
+        .add("androidSdkLocation", androidSdkLocation)
+        .add("androidPathToDx", androidPathToDx)
+        .add("androidPathToZipalign", androidPathToZipalign)
+        .add("aaptTool", aaptTool)
+        .add("aapt2Tool", aapt2Tool)
+        .add("androidNdkLocation", androidNdkLocation)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code GenruleAndroidTools} instance.
+   * @param androidSdkLocation The value for the {@code androidSdkLocation} attribute
+   * @param androidPathToDx The value for the {@code androidPathToDx} attribute
+   * @param androidPathToZipalign The value for the {@code androidPathToZipalign} attribute
+   * @param aaptTool The value for the {@code aaptTool} attribute
+   * @param aapt2Tool The value for the {@code aapt2Tool} attribute
+   * @param androidNdkLocation The value for the {@code androidNdkLocation} attribute
+   * @return An immutable GenruleAndroidTools instance
+   */
+  public static ImmutableGenruleAndroidTools of(Path androidSdkLocation, Path androidPathToDx, Path androidPathToZipalign, Tool aaptTool, Tool aapt2Tool, Optional<? extends Path> androidNdkLocation) {
+    return new ImmutableGenruleAndroidTools(androidSdkLocation, androidPathToDx, androidPathToZipalign, aaptTool, aapt2Tool, androidNdkLocation);
+  }
+}
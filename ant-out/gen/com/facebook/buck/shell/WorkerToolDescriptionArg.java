@@ -0,0 +1,725 @@
+package com.facebook.buck.shell;
+
+import com.facebook.buck.core.description.arg.BuildRuleArg;
+import com.facebook.buck.core.description.arg.ConstructorArg;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.UnconfiguredBuildTarget;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.rules.macros.StringWithMacros;
+import com.facebook.buck.util.types.Either;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link WorkerToolDescription.AbstractWorkerToolDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code WorkerToolDescriptionArg.builder()}.
+ */
+@Generated(from = "WorkerToolDescription.AbstractWorkerToolDescriptionArg", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+public final class WorkerToolDescriptionArg
+    implements WorkerToolDescription.AbstractWorkerToolDescriptionArg {
+  private final ImmutableMap<String, StringWithMacros> env;
+  private final Either<StringWithMacros, ImmutableList<StringWithMacros>> args;
+  private final @Nullable BuildTarget exe;
+  private final @Nullable Integer maxWorkers;
+  private final @Nullable Integer maxWorkersPerThreadPercent;
+  private final @Nullable Boolean persistent;
+  private final @Nullable Boolean soloAsync;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+  private final ImmutableList<UnconfiguredBuildTarget> compatibleWith;
+  private final String name;
+
+  private WorkerToolDescriptionArg(WorkerToolDescriptionArg.Builder builder) {
+    this.env = builder.env.build();
+    this.exe = builder.exe;
+    this.maxWorkers = builder.maxWorkers;
+    this.maxWorkersPerThreadPercent = builder.maxWorkersPerThreadPercent;
+    this.persistent = builder.persistent;
+    this.soloAsync = builder.soloAsync;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.defaultTargetPlatform = builder.defaultTargetPlatform;
+    this.compatibleWith = builder.compatibleWith.build();
+    this.name = builder.name;
+    this.args = builder.args != null
+        ? builder.args
+        : Objects.requireNonNull(WorkerToolDescription.AbstractWorkerToolDescriptionArg.super.getArgs(), "args");
+  }
+
+  /**
+   * @return The value of the {@code env} attribute
+   */
+  @Override
+  public ImmutableMap<String, StringWithMacros> getEnv() {
+    return env;
+  }
+
+  /**
+   * @return The value of the {@code args} attribute
+   */
+  @Override
+  public Either<StringWithMacros, ImmutableList<StringWithMacros>> getArgs() {
+    return args;
+  }
+
+  /**
+   * @return The value of the {@code exe} attribute
+   */
+  @Override
+  public Optional<BuildTarget> getExe() {
+    return Optional.ofNullable(exe);
+  }
+
+  /**
+   * @return The value of the {@code maxWorkers} attribute
+   */
+  @Override
+  public Optional<Integer> getMaxWorkers() {
+    return Optional.ofNullable(maxWorkers);
+  }
+
+  /**
+   * @return The value of the {@code maxWorkersPerThreadPercent} attribute
+   */
+  @Override
+  public Optional<Integer> getMaxWorkersPerThreadPercent() {
+    return Optional.ofNullable(maxWorkersPerThreadPercent);
+  }
+
+  /**
+   * @return The value of the {@code persistent} attribute
+   */
+  @Override
+  public Optional<Boolean> getPersistent() {
+    return Optional.ofNullable(persistent);
+  }
+
+  /**
+   * @return The value of the {@code soloAsync} attribute
+   */
+  @Override
+  public Optional<Boolean> getSoloAsync() {
+    return Optional.ofNullable(soloAsync);
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * The name of build target default "new" platform: it is used when a platform is not specified
+   * either globally or in a target which used this target as a dependency.
+   * <p>The value is a build target, but we specify it as string, because this function is not
+   * actually called, but the attr is fetched by name from the raw (unconfigured) target node.
+   */
+  @Override
+  public Optional<UnconfiguredBuildTarget> getDefaultTargetPlatform() {
+    return Optional.ofNullable(defaultTargetPlatform);
+  }
+
+  /**
+   *A list of {@code config_setting} a target is compatible with. 
+   */
+  @Override
+  public ImmutableList<UnconfiguredBuildTarget> getCompatibleWith() {
+    return compatibleWith;
+  }
+
+  /**
+   *Each rule has a name 
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code WorkerToolDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof WorkerToolDescriptionArg
+        && equalTo((WorkerToolDescriptionArg) another);
+  }
+
+  private boolean equalTo(WorkerToolDescriptionArg another) {
+    return env.equals(another.env)
+        && args.equals(another.args)
+        && Objects.equals(exe, another.exe)
+        && Objects.equals(maxWorkers, another.maxWorkers)
+        && Objects.equals(maxWorkersPerThreadPercent, another.maxWorkersPerThreadPercent)
+        && Objects.equals(persistent, another.persistent)
+        && Objects.equals(soloAsync, another.soloAsync)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && Objects.equals(defaultTargetPlatform, another.defaultTargetPlatform)
+        && compatibleWith.equals(another.compatibleWith)
+        && name.equals(another.name);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code env}, {@code args}, {@code exe}, {@code maxWorkers}, {@code maxWorkersPerThreadPercent}, {@code persistent}, {@code soloAsync}, {@code licenses}, {@code labels}, {@code defaultTargetPlatform}, {@code compatibleWith}, {@code name}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + env.hashCode();
+    h += (h << 5) + args.hashCode();
+    h += (h << 5) + Objects.hashCode(exe);
+    h += (h << 5) + Objects.hashCode(maxWorkers);
+    h += (h << 5) + Objects.hashCode(maxWorkersPerThreadPercent);
+    h += (h << 5) + Objects.hashCode(persistent);
+    h += (h << 5) + Objects.hashCode(soloAsync);
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + Objects.hashCode(defaultTargetPlatform);
+    h += (h << 5) + compatibleWith.hashCode();
+    h += (h << 5) + name.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code WorkerToolDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("WorkerToolDescriptionArg")
+        .omitNullValues()
+        .add("env", env)
+        .add("args", args)
+        .add("exe", exe)
+        .add("maxWorkers", maxWorkers)
+        .add("maxWorkersPerThreadPercent", maxWorkersPerThreadPercent)
+        .add("persistent", persistent)
+        .add("soloAsync", soloAsync)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("defaultTargetPlatform", defaultTargetPlatform)
+        .add("compatibleWith", compatibleWith)
+        .add("name", name)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link WorkerToolDescriptionArg WorkerToolDescriptionArg}.
+   * @return A new WorkerToolDescriptionArg builder
+   */
+  public static WorkerToolDescriptionArg.Builder builder() {
+    return new WorkerToolDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link WorkerToolDescriptionArg WorkerToolDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "WorkerToolDescription.AbstractWorkerToolDescriptionArg", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private ImmutableMap.Builder<String, StringWithMacros> env = ImmutableMap.builder();
+    private @Nullable Either<StringWithMacros, ImmutableList<StringWithMacros>> args;
+    private @Nullable BuildTarget exe;
+    private @Nullable Integer maxWorkers;
+    private @Nullable Integer maxWorkersPerThreadPercent;
+    private @Nullable Boolean persistent;
+    private @Nullable Boolean soloAsync;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private @Nullable UnconfiguredBuildTarget defaultTargetPlatform;
+    private ImmutableList.Builder<UnconfiguredBuildTarget> compatibleWith = ImmutableList.builder();
+    private @Nullable String name;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code WorkerToolDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(WorkerToolDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractWorkerToolDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(WorkerToolDescription.AbstractWorkerToolDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.BuildRuleArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(BuildRuleArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.ConstructorArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(ConstructorArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof WorkerToolDescription.AbstractWorkerToolDescriptionArg) {
+        WorkerToolDescription.AbstractWorkerToolDescriptionArg instance = (WorkerToolDescription.AbstractWorkerToolDescriptionArg) object;
+        setArgs(instance.getArgs());
+        Optional<Integer> maxWorkersOptional = instance.getMaxWorkers();
+        if (maxWorkersOptional.isPresent()) {
+          setMaxWorkers(maxWorkersOptional);
+        }
+        Optional<BuildTarget> exeOptional = instance.getExe();
+        if (exeOptional.isPresent()) {
+          setExe(exeOptional);
+        }
+        Optional<Boolean> soloAsyncOptional = instance.getSoloAsync();
+        if (soloAsyncOptional.isPresent()) {
+          setSoloAsync(soloAsyncOptional);
+        }
+        putAllEnv(instance.getEnv());
+        Optional<Boolean> persistentOptional = instance.getPersistent();
+        if (persistentOptional.isPresent()) {
+          setPersistent(persistentOptional);
+        }
+        Optional<Integer> maxWorkersPerThreadPercentOptional = instance.getMaxWorkersPerThreadPercent();
+        if (maxWorkersPerThreadPercentOptional.isPresent()) {
+          setMaxWorkersPerThreadPercent(maxWorkersPerThreadPercentOptional);
+        }
+      }
+      if (object instanceof BuildRuleArg) {
+        BuildRuleArg instance = (BuildRuleArg) object;
+        addAllLicenses(instance.getLicenses());
+        addAllCompatibleWith(instance.getCompatibleWith());
+        addAllLabels(instance.getLabels());
+        Optional<UnconfiguredBuildTarget> defaultTargetPlatformOptional = instance.getDefaultTargetPlatform();
+        if (defaultTargetPlatformOptional.isPresent()) {
+          setDefaultTargetPlatform(defaultTargetPlatformOptional);
+        }
+      }
+      if (object instanceof ConstructorArg) {
+        ConstructorArg instance = (ConstructorArg) object;
+        setName(instance.getName());
+      }
+    }
+
+    /**
+     * Put one entry to the {@link WorkerToolDescriptionArg#getEnv() env} map.
+     * @param key The key in the env map
+     * @param value The associated value in the env map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putEnv(String key, StringWithMacros value) {
+      this.env.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link WorkerToolDescriptionArg#getEnv() env} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putEnv(Map.Entry<String, ? extends StringWithMacros> entry) {
+      this.env.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link WorkerToolDescriptionArg#getEnv() env} map. Nulls are not permitted
+     * @param entries The entries that will be added to the env map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setEnv(Map<String, ? extends StringWithMacros> entries) {
+      this.env = ImmutableMap.builder();
+      return putAllEnv(entries);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link WorkerToolDescriptionArg#getEnv() env} map. Nulls are not permitted
+     * @param entries The entries that will be added to the env map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllEnv(Map<String, ? extends StringWithMacros> entries) {
+      this.env.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link WorkerToolDescriptionArg#getArgs() args} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link WorkerToolDescriptionArg#getArgs() args}.</em>
+     * @param args The value for args 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArgs(Either<StringWithMacros, ImmutableList<StringWithMacros>> args) {
+      this.args = Objects.requireNonNull(args, "args");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link WorkerToolDescriptionArg#getExe() exe} to exe.
+     * @param exe The value for exe
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExe(BuildTarget exe) {
+      this.exe = Objects.requireNonNull(exe, "exe");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link WorkerToolDescriptionArg#getExe() exe} to exe.
+     * @param exe The value for exe
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExe(Optional<? extends BuildTarget> exe) {
+      this.exe = exe.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link WorkerToolDescriptionArg#getMaxWorkers() maxWorkers} to maxWorkers.
+     * @param maxWorkers The value for maxWorkers
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMaxWorkers(int maxWorkers) {
+      this.maxWorkers = maxWorkers;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link WorkerToolDescriptionArg#getMaxWorkers() maxWorkers} to maxWorkers.
+     * @param maxWorkers The value for maxWorkers
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMaxWorkers(Optional<Integer> maxWorkers) {
+      this.maxWorkers = maxWorkers.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link WorkerToolDescriptionArg#getMaxWorkersPerThreadPercent() maxWorkersPerThreadPercent} to maxWorkersPerThreadPercent.
+     * @param maxWorkersPerThreadPercent The value for maxWorkersPerThreadPercent
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMaxWorkersPerThreadPercent(int maxWorkersPerThreadPercent) {
+      this.maxWorkersPerThreadPercent = maxWorkersPerThreadPercent;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link WorkerToolDescriptionArg#getMaxWorkersPerThreadPercent() maxWorkersPerThreadPercent} to maxWorkersPerThreadPercent.
+     * @param maxWorkersPerThreadPercent The value for maxWorkersPerThreadPercent
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMaxWorkersPerThreadPercent(Optional<Integer> maxWorkersPerThreadPercent) {
+      this.maxWorkersPerThreadPercent = maxWorkersPerThreadPercent.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link WorkerToolDescriptionArg#getPersistent() persistent} to persistent.
+     * @param persistent The value for persistent
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPersistent(boolean persistent) {
+      this.persistent = persistent;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link WorkerToolDescriptionArg#getPersistent() persistent} to persistent.
+     * @param persistent The value for persistent
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPersistent(Optional<Boolean> persistent) {
+      this.persistent = persistent.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link WorkerToolDescriptionArg#getSoloAsync() soloAsync} to soloAsync.
+     * @param soloAsync The value for soloAsync
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSoloAsync(boolean soloAsync) {
+      this.soloAsync = soloAsync;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link WorkerToolDescriptionArg#getSoloAsync() soloAsync} to soloAsync.
+     * @param soloAsync The value for soloAsync
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSoloAsync(Optional<Boolean> soloAsync) {
+      this.soloAsync = soloAsync.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link WorkerToolDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link WorkerToolDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link WorkerToolDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link WorkerToolDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link WorkerToolDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link WorkerToolDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link WorkerToolDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link WorkerToolDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link WorkerToolDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(UnconfiguredBuildTarget defaultTargetPlatform) {
+      this.defaultTargetPlatform = Objects.requireNonNull(defaultTargetPlatform, "defaultTargetPlatform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link WorkerToolDescriptionArg#getDefaultTargetPlatform() defaultTargetPlatform} to defaultTargetPlatform.
+     * @param defaultTargetPlatform The value for defaultTargetPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultTargetPlatform(Optional<? extends UnconfiguredBuildTarget> defaultTargetPlatform) {
+      this.defaultTargetPlatform = defaultTargetPlatform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link WorkerToolDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param element A compatibleWith element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget element) {
+      this.compatibleWith.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link WorkerToolDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An array of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCompatibleWith(UnconfiguredBuildTarget... elements) {
+      this.compatibleWith.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link WorkerToolDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith = ImmutableList.builder();
+      return addAllCompatibleWith(elements);
+    }
+
+    /**
+     * Adds elements to {@link WorkerToolDescriptionArg#getCompatibleWith() compatibleWith} list.
+     * @param elements An iterable of compatibleWith elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCompatibleWith(Iterable<? extends UnconfiguredBuildTarget> elements) {
+      this.compatibleWith.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link WorkerToolDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link WorkerToolDescriptionArg WorkerToolDescriptionArg}.
+     * @return An immutable instance of WorkerToolDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public WorkerToolDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new WorkerToolDescriptionArg(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build WorkerToolDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
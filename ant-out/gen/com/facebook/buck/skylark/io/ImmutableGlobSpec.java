@@ -0,0 +1,172 @@
+package com.facebook.buck.skylark.io;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.Var;
+import java.util.Collection;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link GlobSpec}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableGlobSpec.of()}.
+ */
+@Generated(from = "GlobSpec", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableGlobSpec extends GlobSpec {
+  private final Collection<String> include;
+  private final Collection<String> exclude;
+  private final boolean excludeDirectories;
+
+  private ImmutableGlobSpec(
+      Collection<String> include,
+      Collection<String> exclude,
+      boolean excludeDirectories) {
+    this.include = Objects.requireNonNull(include, "include");
+    this.exclude = Objects.requireNonNull(exclude, "exclude");
+    this.excludeDirectories = excludeDirectories;
+  }
+
+  /**
+   * @return The value of the {@code include} attribute
+   */
+  @JsonProperty("include")
+  @Override
+  public Collection<String> getInclude() {
+    return include;
+  }
+
+  /**
+   * @return The value of the {@code exclude} attribute
+   */
+  @JsonProperty("exclude")
+  @Override
+  public Collection<String> getExclude() {
+    return exclude;
+  }
+
+  /**
+   * @return The value of the {@code excludeDirectories} attribute
+   */
+  @JsonProperty("includeDirectories")
+  @Override
+  public boolean getExcludeDirectories() {
+    return excludeDirectories;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableGlobSpec} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableGlobSpec
+        && equalTo((ImmutableGlobSpec) another);
+  }
+
+  private boolean equalTo(ImmutableGlobSpec another) {
+    return include.equals(another.include)
+        && exclude.equals(another.exclude)
+        && excludeDirectories == another.excludeDirectories;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code include}, {@code exclude}, {@code excludeDirectories}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + include.hashCode();
+    h += (h << 5) + exclude.hashCode();
+    h += (h << 5) + Booleans.hashCode(excludeDirectories);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code GlobSpec} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("GlobSpec")
+        .omitNullValues()
+        .add("include", include)
+        .add("exclude", exclude)
+        .add("excludeDirectories", excludeDirectories)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "GlobSpec", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends GlobSpec {
+    @Nullable Collection<String> include;
+    @Nullable Collection<String> exclude;
+    boolean excludeDirectories;
+    boolean excludeDirectoriesIsSet;
+    @JsonProperty("include")
+    public void setInclude(Collection<String> include) {
+      this.include = include;
+    }
+    @JsonProperty("exclude")
+    public void setExclude(Collection<String> exclude) {
+      this.exclude = exclude;
+    }
+    @JsonProperty("includeDirectories")
+    public void setExcludeDirectories(boolean excludeDirectories) {
+      this.excludeDirectories = excludeDirectories;
+      this.excludeDirectoriesIsSet = true;
+    }
+    @Override
+    public Collection<String> getInclude() { throw new UnsupportedOperationException(); }
+    @Override
+    public Collection<String> getExclude() { throw new UnsupportedOperationException(); }
+    @Override
+    public boolean getExcludeDirectories() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableGlobSpec fromJson(Json json) {
+    ImmutableGlobSpec instance = ImmutableGlobSpec.of(json.include, json.exclude, json.excludeDirectories);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code GlobSpec} instance.
+   * @param include The value for the {@code include} attribute
+   * @param exclude The value for the {@code exclude} attribute
+   * @param excludeDirectories The value for the {@code excludeDirectories} attribute
+   * @return An immutable GlobSpec instance
+   */
+  public static ImmutableGlobSpec of(Collection<String> include, Collection<String> exclude, boolean excludeDirectories) {
+    return new ImmutableGlobSpec(include, exclude, excludeDirectories);
+  }
+}
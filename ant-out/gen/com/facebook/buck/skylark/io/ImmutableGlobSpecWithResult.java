@@ -0,0 +1,155 @@
+package com.facebook.buck.skylark.io;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.Set;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link GlobSpecWithResult}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableGlobSpecWithResult.of()}.
+ */
+@Generated(from = "GlobSpecWithResult", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableGlobSpecWithResult extends GlobSpecWithResult {
+  private final GlobSpec globSpec;
+  private final ImmutableSet<String> filePaths;
+
+  private ImmutableGlobSpecWithResult(GlobSpec globSpec, Iterable<String> filePaths) {
+    this.globSpec = Objects.requireNonNull(globSpec, "globSpec");
+    this.filePaths = ImmutableSet.copyOf(filePaths);
+  }
+
+  /**
+   * @return The value of the {@code globSpec} attribute
+   */
+  @JsonProperty("globSpec")
+  @Override
+  public GlobSpec getGlobSpec() {
+    return globSpec;
+  }
+
+  /**
+   * @return The value of the {@code filePaths} attribute
+   */
+  @JsonProperty("filePaths")
+  @Override
+  public ImmutableSet<String> getFilePaths() {
+    return filePaths;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableGlobSpecWithResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableGlobSpecWithResult
+        && equalTo((ImmutableGlobSpecWithResult) another);
+  }
+
+  private boolean equalTo(ImmutableGlobSpecWithResult another) {
+    return globSpec.equals(another.globSpec)
+        && filePaths.equals(another.filePaths);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code globSpec}, {@code filePaths}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + globSpec.hashCode();
+    h += (h << 5) + filePaths.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code GlobSpecWithResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("GlobSpecWithResult")
+        .omitNullValues()
+        .add("globSpec", globSpec)
+        .add("filePaths", filePaths)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Generated(from = "GlobSpecWithResult", generator = "Immutables")
+  @Deprecated
+  @SuppressWarnings("Immutable")
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends GlobSpecWithResult {
+    @Nullable GlobSpec globSpec;
+    @Nullable Set<String> filePaths = ImmutableSet.of();
+    @JsonProperty("globSpec")
+    public void setGlobSpec(GlobSpec globSpec) {
+      this.globSpec = globSpec;
+    }
+    @JsonProperty("filePaths")
+    public void setFilePaths(Set<String> filePaths) {
+      this.filePaths = filePaths;
+    }
+    @Override
+    public GlobSpec getGlobSpec() { throw new UnsupportedOperationException(); }
+    @Override
+    public Set<String> getFilePaths() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableGlobSpecWithResult fromJson(Json json) {
+    ImmutableGlobSpecWithResult instance = ImmutableGlobSpecWithResult.of(json.globSpec, json.filePaths);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code GlobSpecWithResult} instance.
+   * @param globSpec The value for the {@code globSpec} attribute
+   * @param filePaths The value for the {@code filePaths} attribute
+   * @return An immutable GlobSpecWithResult instance
+   */
+  public static ImmutableGlobSpecWithResult of(GlobSpec globSpec, Set<String> filePaths) {
+    return of(globSpec, (Iterable<String>) filePaths);
+  }
+
+  /**
+   * Construct a new immutable {@code GlobSpecWithResult} instance.
+   * @param globSpec The value for the {@code globSpec} attribute
+   * @param filePaths The value for the {@code filePaths} attribute
+   * @return An immutable GlobSpecWithResult instance
+   */
+  public static ImmutableGlobSpecWithResult of(GlobSpec globSpec, Iterable<String> filePaths) {
+    return new ImmutableGlobSpecWithResult(globSpec, filePaths);
+  }
+}
@@ -0,0 +1,162 @@
+package com.facebook.buck.skylark.parser;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.devtools.build.lib.syntax.Environment;
+import com.google.devtools.build.lib.vfs.Path;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ExtensionData}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableExtensionData.of()}.
+ */
+@Generated(from = "ExtensionData", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableExtensionData extends ExtensionData {
+  private final Environment.Extension extension;
+  private final Path path;
+  private final ImmutableSet<ExtensionData> dependencies;
+  private final String importString;
+  private final ImmutableSet<String> loadTransitiveClosure;
+
+  private ImmutableExtensionData(
+      Environment.Extension extension,
+      Path path,
+      Iterable<? extends ExtensionData> dependencies,
+      String importString,
+      Iterable<String> loadTransitiveClosure) {
+    this.extension = Objects.requireNonNull(extension, "extension");
+    this.path = Objects.requireNonNull(path, "path");
+    this.dependencies = ImmutableSet.copyOf(dependencies);
+    this.importString = Objects.requireNonNull(importString, "importString");
+    this.loadTransitiveClosure = ImmutableSet.copyOf(loadTransitiveClosure);
+  }
+
+  /**
+   * @return The value of the {@code extension} attribute
+   */
+  @Override
+  public Environment.Extension getExtension() {
+    return extension;
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  public Path getPath() {
+    return path;
+  }
+
+  /**
+   * @return The value of the {@code dependencies} attribute
+   */
+  @Override
+  public ImmutableSet<ExtensionData> getDependencies() {
+    return dependencies;
+  }
+
+  /**
+   * @return The value of the {@code importString} attribute
+   */
+  @Override
+  public String getImportString() {
+    return importString;
+  }
+
+  /**
+   * @return The value of the {@code loadTransitiveClosure} attribute
+   */
+  @Override
+  public ImmutableSet<String> getLoadTransitiveClosure() {
+    return loadTransitiveClosure;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableExtensionData} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableExtensionData
+        && equalTo((ImmutableExtensionData) another);
+  }
+
+  private boolean equalTo(ImmutableExtensionData another) {
+    return extension.equals(another.extension)
+        && path.equals(another.path)
+        && dependencies.equals(another.dependencies)
+        && importString.equals(another.importString)
+        && loadTransitiveClosure.equals(another.loadTransitiveClosure);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code extension}, {@code path}, {@code dependencies}, {@code importString}, {@code loadTransitiveClosure}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + extension.hashCode();
+    h += (h << 5) + path.hashCode();
+    h += (h << 5) + dependencies.hashCode();
+    h += (h << 5) + importString.hashCode();
+    h += (h << 5) + loadTransitiveClosure.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ExtensionData} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ExtensionData")
+        .omitNullValues()
+        .add("extension", extension)
+        .add("path", path)
+        .add("dependencies", dependencies)
+        .add("importString", importString)
+        .add("loadTransitiveClosure", loadTransitiveClosure)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ExtensionData} instance.
+   * @param extension The value for the {@code extension} attribute
+   * @param path The value for the {@code path} attribute
+   * @param dependencies The value for the {@code dependencies} attribute
+   * @param importString The value for the {@code importString} attribute
+   * @param loadTransitiveClosure The value for the {@code loadTransitiveClosure} attribute
+   * @return An immutable ExtensionData instance
+   */
+  public static ImmutableExtensionData of(Environment.Extension extension, Path path, ImmutableSet<ExtensionData> dependencies, String importString, ImmutableSet<String> loadTransitiveClosure) {
+    return of(extension, path, (Iterable<? extends ExtensionData>) dependencies, importString, (Iterable<String>) loadTransitiveClosure);
+  }
+
+  /**
+   * Construct a new immutable {@code ExtensionData} instance.
+   * @param extension The value for the {@code extension} attribute
+   * @param path The value for the {@code path} attribute
+   * @param dependencies The value for the {@code dependencies} attribute
+   * @param importString The value for the {@code importString} attribute
+   * @param loadTransitiveClosure The value for the {@code loadTransitiveClosure} attribute
+   * @return An immutable ExtensionData instance
+   */
+  public static ImmutableExtensionData of(Environment.Extension extension, Path path, Iterable<? extends ExtensionData> dependencies, String importString, Iterable<String> loadTransitiveClosure) {
+    return new ImmutableExtensionData(extension, path, dependencies, importString, loadTransitiveClosure);
+  }
+}
@@ -0,0 +1,129 @@
+package com.facebook.buck.skylark.parser;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.devtools.build.lib.vfs.Path;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link IncludesData}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableIncludesData.of()}.
+ */
+@Generated(from = "IncludesData", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableIncludesData extends IncludesData {
+  private final Path path;
+  private final ImmutableSet<IncludesData> dependencies;
+  private final ImmutableSet<String> loadTransitiveClosure;
+
+  private ImmutableIncludesData(
+      Path path,
+      Iterable<? extends IncludesData> dependencies,
+      Iterable<String> loadTransitiveClosure) {
+    this.path = Objects.requireNonNull(path, "path");
+    this.dependencies = ImmutableSet.copyOf(dependencies);
+    this.loadTransitiveClosure = ImmutableSet.copyOf(loadTransitiveClosure);
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  public Path getPath() {
+    return path;
+  }
+
+  /**
+   * @return The value of the {@code dependencies} attribute
+   */
+  @Override
+  public ImmutableSet<IncludesData> getDependencies() {
+    return dependencies;
+  }
+
+  /**
+   * @return The value of the {@code loadTransitiveClosure} attribute
+   */
+  @Override
+  public ImmutableSet<String> getLoadTransitiveClosure() {
+    return loadTransitiveClosure;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableIncludesData} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableIncludesData
+        && equalTo((ImmutableIncludesData) another);
+  }
+
+  private boolean equalTo(ImmutableIncludesData another) {
+    return path.equals(another.path)
+        && dependencies.equals(another.dependencies)
+        && loadTransitiveClosure.equals(another.loadTransitiveClosure);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code path}, {@code dependencies}, {@code loadTransitiveClosure}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + path.hashCode();
+    h += (h << 5) + dependencies.hashCode();
+    h += (h << 5) + loadTransitiveClosure.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code IncludesData} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("IncludesData")
+        .omitNullValues()
+        .add("path", path)
+        .add("dependencies", dependencies)
+        .add("loadTransitiveClosure", loadTransitiveClosure)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code IncludesData} instance.
+   * @param path The value for the {@code path} attribute
+   * @param dependencies The value for the {@code dependencies} attribute
+   * @param loadTransitiveClosure The value for the {@code loadTransitiveClosure} attribute
+   * @return An immutable IncludesData instance
+   */
+  public static ImmutableIncludesData of(Path path, ImmutableSet<IncludesData> dependencies, ImmutableSet<String> loadTransitiveClosure) {
+    return of(path, (Iterable<? extends IncludesData>) dependencies, (Iterable<String>) loadTransitiveClosure);
+  }
+
+  /**
+   * Construct a new immutable {@code IncludesData} instance.
+   * @param path The value for the {@code path} attribute
+   * @param dependencies The value for the {@code dependencies} attribute
+   * @param loadTransitiveClosure The value for the {@code loadTransitiveClosure} attribute
+   * @return An immutable IncludesData instance
+   */
+  public static ImmutableIncludesData of(Path path, Iterable<? extends IncludesData> dependencies, Iterable<String> loadTransitiveClosure) {
+    return new ImmutableIncludesData(path, dependencies, loadTransitiveClosure);
+  }
+}
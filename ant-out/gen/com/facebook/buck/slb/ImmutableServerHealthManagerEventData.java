@@ -0,0 +1,251 @@
+package com.facebook.buck.slb;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Var;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ServerHealthManagerEvent.ServerHealthManagerEventData}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ImmutableServerHealthManagerEventData.builder()}.
+ */
+@Generated(from = "ServerHealthManagerEvent.ServerHealthManagerEventData", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableServerHealthManagerEventData
+    extends ServerHealthManagerEvent.ServerHealthManagerEventData {
+  private final boolean noHealthyServersAvailable;
+  private final ImmutableList<ServerHealthManagerEvent.PerServerData> perServerData;
+  private final String serverPoolName;
+
+  private ImmutableServerHealthManagerEventData(ImmutableServerHealthManagerEventData.Builder builder) {
+    this.perServerData = builder.perServerData.build();
+    this.serverPoolName = builder.serverPoolName;
+    this.noHealthyServersAvailable = builder.noHealthyServersAvailableIsSet()
+        ? builder.noHealthyServersAvailable
+        : super.noHealthyServersAvailable();
+  }
+
+  /**
+   * @return The value of the {@code noHealthyServersAvailable} attribute
+   */
+  @Override
+  public boolean noHealthyServersAvailable() {
+    return noHealthyServersAvailable;
+  }
+
+  /**
+   * @return The value of the {@code perServerData} attribute
+   */
+  @Override
+  public ImmutableList<ServerHealthManagerEvent.PerServerData> getPerServerData() {
+    return perServerData;
+  }
+
+  /**
+   * @return The value of the {@code serverPoolName} attribute
+   */
+  @Override
+  public String getServerPoolName() {
+    return serverPoolName;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableServerHealthManagerEventData} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableServerHealthManagerEventData
+        && equalTo((ImmutableServerHealthManagerEventData) another);
+  }
+
+  private boolean equalTo(ImmutableServerHealthManagerEventData another) {
+    return noHealthyServersAvailable == another.noHealthyServersAvailable
+        && perServerData.equals(another.perServerData)
+        && serverPoolName.equals(another.serverPoolName);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code noHealthyServersAvailable}, {@code perServerData}, {@code serverPoolName}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Booleans.hashCode(noHealthyServersAvailable);
+    h += (h << 5) + perServerData.hashCode();
+    h += (h << 5) + serverPoolName.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ServerHealthManagerEventData} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ServerHealthManagerEventData")
+        .omitNullValues()
+        .add("noHealthyServersAvailable", noHealthyServersAvailable)
+        .add("perServerData", perServerData)
+        .add("serverPoolName", serverPoolName)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link ServerHealthManagerEvent.ServerHealthManagerEventData ServerHealthManagerEventData}.
+   * @return A new ServerHealthManagerEventData builder
+   */
+  public static ImmutableServerHealthManagerEventData.Builder builder() {
+    return new ImmutableServerHealthManagerEventData.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ServerHealthManagerEvent.ServerHealthManagerEventData ServerHealthManagerEventData}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @Generated(from = "ServerHealthManagerEvent.ServerHealthManagerEventData", generator = "Immutables")
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_SERVER_POOL_NAME = 0x1L;
+    private static final long OPT_BIT_NO_HEALTHY_SERVERS_AVAILABLE = 0x1L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private boolean noHealthyServersAvailable;
+    private ImmutableList.Builder<ServerHealthManagerEvent.PerServerData> perServerData = ImmutableList.builder();
+    private @Nullable String serverPoolName;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ServerHealthManagerEventData} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(ServerHealthManagerEvent.ServerHealthManagerEventData instance) {
+      Objects.requireNonNull(instance, "instance");
+      setNoHealthyServersAvailable(instance.noHealthyServersAvailable());
+      addAllPerServerData(instance.getPerServerData());
+      setServerPoolName(instance.getServerPoolName());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ServerHealthManagerEvent.ServerHealthManagerEventData#noHealthyServersAvailable() noHealthyServersAvailable} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ServerHealthManagerEvent.ServerHealthManagerEventData#noHealthyServersAvailable() noHealthyServersAvailable}.</em>
+     * @param noHealthyServersAvailable The value for noHealthyServersAvailable 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNoHealthyServersAvailable(boolean noHealthyServersAvailable) {
+      this.noHealthyServersAvailable = noHealthyServersAvailable;
+      optBits |= OPT_BIT_NO_HEALTHY_SERVERS_AVAILABLE;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ServerHealthManagerEvent.ServerHealthManagerEventData#getPerServerData() perServerData} list.
+     * @param element A perServerData element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPerServerData(ServerHealthManagerEvent.PerServerData element) {
+      this.perServerData.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ServerHealthManagerEvent.ServerHealthManagerEventData#getPerServerData() perServerData} list.
+     * @param elements An array of perServerData elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPerServerData(ServerHealthManagerEvent.PerServerData... elements) {
+      this.perServerData.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ServerHealthManagerEvent.ServerHealthManagerEventData#getPerServerData() perServerData} list.
+     * @param elements An iterable of perServerData elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPerServerData(Iterable<? extends ServerHealthManagerEvent.PerServerData> elements) {
+      this.perServerData = ImmutableList.builder();
+      return addAllPerServerData(elements);
+    }
+
+    /**
+     * Adds elements to {@link ServerHealthManagerEvent.ServerHealthManagerEventData#getPerServerData() perServerData} list.
+     * @param elements An iterable of perServerData elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllPerServerData(Iterable<? extends ServerHealthManagerEvent.PerServerData> elements) {
+      this.perServerData.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ServerHealthManagerEvent.ServerHealthManagerEventData#getServerPoolName() serverPoolName} attribute.
+     * @param serverPoolName The value for serverPoolName 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setServerPoolName(String serverPoolName) {
+      this.serverPoolName = Objects.requireNonNull(serverPoolName, "serverPoolName");
+      initBits &= ~INIT_BIT_SERVER_POOL_NAME;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ServerHealthManagerEvent.ServerHealthManagerEventData ServerHealthManagerEventData}.
+     * @return An immutable instance of ServerHealthManagerEventData
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ServerHealthManagerEvent.ServerHealthManagerEventData build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ImmutableServerHealthManagerEventData(this);
+    }
+
+    private boolean noHealthyServersAvailableIsSet() {
+      return (optBits & OPT_BIT_NO_HEALTHY_SERVERS_AVAILABLE) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = new ArrayList<>();
+      if ((initBits & INIT_BIT_SERVER_POOL_NAME) != 0) attributes.add("serverPoolName");
+      return "Cannot build ServerHealthManagerEventData, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package com.facebook.buck.support.cli.config;
+
+import com.facebook.buck.core.config.BuckConfig;
+import com.facebook.buck.core.model.UnconfiguredBuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link AliasConfig}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableAliasConfig.of()}.
+ */
+@Generated(from = "AliasConfig", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableAliasConfig extends AliasConfig {
+  private final BuckConfig delegate;
+
+  private ImmutableAliasConfig(BuckConfig delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public BuckConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableAliasConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableAliasConfig
+        && equalTo((ImmutableAliasConfig) another);
+  }
+
+  private boolean equalTo(ImmutableAliasConfig another) {
+    return delegate.equals(another.delegate);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code delegate}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + delegate.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AliasConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AliasConfig")
+        .omitNullValues()
+        .add("delegate", delegate)
+        .toString();
+  }
+
+  @SuppressWarnings("Immutable")
+  private transient volatile long lazyInitBitmap;
+
+  private static final long ALIASES_LAZY_INIT_BIT = 0x1L;
+
+  @SuppressWarnings("Immutable")
+  private transient ImmutableSetMultimap<String, UnconfiguredBuildTarget> aliases;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AliasConfig#getAliases() aliases} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code aliases} attribute
+   */
+  @Override
+  public ImmutableSetMultimap<String, UnconfiguredBuildTarget> getAliases() {
+    if ((lazyInitBitmap & ALIASES_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ALIASES_LAZY_INIT_BIT) == 0) {
+          this.aliases = Objects.requireNonNull(super.getAliases(), "aliases");
+          lazyInitBitmap |= ALIASES_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return aliases;
+  }
+
+  /**
+   * Construct a new immutable {@code AliasConfig} instance.
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable AliasConfig instance
+   */
+  public static ImmutableAliasConfig of(BuckConfig delegate) {
+    return new ImmutableAliasConfig(delegate);
+  }
+}
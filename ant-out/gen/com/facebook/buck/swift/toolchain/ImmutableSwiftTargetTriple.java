@@ -0,0 +1,146 @@
+package com.facebook.buck.swift.toolchain;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link SwiftTargetTriple}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableSwiftTargetTriple.of()}.
+ */
+@Generated(from = "SwiftTargetTriple", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableSwiftTargetTriple extends SwiftTargetTriple {
+  private final String architecture;
+  private final String vendor;
+  private final String platformName;
+  private final String targetSdkVersion;
+  private final Boolean isSimulator;
+
+  private ImmutableSwiftTargetTriple(
+      String architecture,
+      String vendor,
+      String platformName,
+      String targetSdkVersion,
+      Boolean isSimulator) {
+    this.architecture = Objects.requireNonNull(architecture, "architecture");
+    this.vendor = Objects.requireNonNull(vendor, "vendor");
+    this.platformName = Objects.requireNonNull(platformName, "platformName");
+    this.targetSdkVersion = Objects.requireNonNull(targetSdkVersion, "targetSdkVersion");
+    this.isSimulator = Objects.requireNonNull(isSimulator, "isSimulator");
+  }
+
+  /**
+   * @return The value of the {@code architecture} attribute
+   */
+  @Override
+  public String getArchitecture() {
+    return architecture;
+  }
+
+  /**
+   * @return The value of the {@code vendor} attribute
+   */
+  @Override
+  public String getVendor() {
+    return vendor;
+  }
+
+  /**
+   * @return The value of the {@code platformName} attribute
+   */
+  @Override
+  public String getPlatformName() {
+    return platformName;
+  }
+
+  /**
+   * @return The value of the {@code targetSdkVersion} attribute
+   */
+  @Override
+  public String getTargetSdkVersion() {
+    return targetSdkVersion;
+  }
+
+  /**
+   * @return The value of the {@code isSimulator} attribute
+   */
+  @Override
+  public Boolean getIsSimulator() {
+    return isSimulator;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableSwiftTargetTriple} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableSwiftTargetTriple
+        && equalTo((ImmutableSwiftTargetTriple) another);
+  }
+
+  private boolean equalTo(ImmutableSwiftTargetTriple another) {
+    return architecture.equals(another.architecture)
+        && vendor.equals(another.vendor)
+        && platformName.equals(another.platformName)
+        && targetSdkVersion.equals(another.targetSdkVersion)
+        && isSimulator.equals(another.isSimulator);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code architecture}, {@code vendor}, {@code platformName}, {@code targetSdkVersion}, {@code isSimulator}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + architecture.hashCode();
+    h += (h << 5) + vendor.hashCode();
+    h += (h << 5) + platformName.hashCode();
+    h += (h << 5) + targetSdkVersion.hashCode();
+    h += (h << 5) + isSimulator.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SwiftTargetTriple} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SwiftTargetTriple")
+        .omitNullValues()
+        .add("architecture", architecture)
+        .add("vendor", vendor)
+        .add("platformName", platformName)
+        .add("targetSdkVersion", targetSdkVersion)
+        .add("isSimulator", isSimulator)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code SwiftTargetTriple} instance.
+   * @param architecture The value for the {@code architecture} attribute
+   * @param vendor The value for the {@code vendor} attribute
+   * @param platformName The value for the {@code platformName} attribute
+   * @param targetSdkVersion The value for the {@code targetSdkVersion} attribute
+   * @param isSimulator The value for the {@code isSimulator} attribute
+   * @return An immutable SwiftTargetTriple instance
+   */
+  public static ImmutableSwiftTargetTriple of(String architecture, String vendor, String platformName, String targetSdkVersion, Boolean isSimulator) {
+    return new ImmutableSwiftTargetTriple(architecture, vendor, platformName, targetSdkVersion, isSimulator);
+  }
+}
@@ -0,0 +1,115 @@
+package com.facebook.buck.test;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import java.util.logging.Level;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link TestStatusMessage}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableTestStatusMessage.of()}.
+ */
+@Generated(from = "TestStatusMessage", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableTestStatusMessage implements TestStatusMessage {
+  private final String message;
+  private final Level level;
+  private final long timestampMillis;
+
+  private ImmutableTestStatusMessage(String message, Level level, long timestampMillis) {
+    this.message = Objects.requireNonNull(message, "message");
+    this.level = Objects.requireNonNull(level, "level");
+    this.timestampMillis = timestampMillis;
+  }
+
+  /**
+   * @return The value of the {@code message} attribute
+   */
+  @Override
+  public String getMessage() {
+    return message;
+  }
+
+  /**
+   * @return The value of the {@code level} attribute
+   */
+  @Override
+  public Level getLevel() {
+    return level;
+  }
+
+  /**
+   * @return The value of the {@code timestampMillis} attribute
+   */
+  @Override
+  public long getTimestampMillis() {
+    return timestampMillis;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableTestStatusMessage} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableTestStatusMessage
+        && equalTo((ImmutableTestStatusMessage) another);
+  }
+
+  private boolean equalTo(ImmutableTestStatusMessage another) {
+    return message.equals(another.message)
+        && level.equals(another.level)
+        && timestampMillis == another.timestampMillis;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code message}, {@code level}, {@code timestampMillis}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + message.hashCode();
+    h += (h << 5) + level.hashCode();
+    h += (h << 5) + Longs.hashCode(timestampMillis);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code TestStatusMessage} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("TestStatusMessage")
+        .omitNullValues()
+        .add("message", message)
+        .add("level", level)
+        .add("timestampMillis", timestampMillis)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code TestStatusMessage} instance.
+   * @param message The value for the {@code message} attribute
+   * @param level The value for the {@code level} attribute
+   * @param timestampMillis The value for the {@code timestampMillis} attribute
+   * @return An immutable TestStatusMessage instance
+   */
+  public static ImmutableTestStatusMessage of(String message, Level level, long timestampMillis) {
+    return new ImmutableTestStatusMessage(message, level, timestampMillis);
+  }
+}
@@ -0,0 +1,207 @@
+package com.facebook.buck.util;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.Var;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ProcessResourceConsumption}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableProcessResourceConsumption.of()}.
+ */
+@Generated(from = "ProcessResourceConsumption", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableProcessResourceConsumption
+    extends ProcessResourceConsumption {
+  private final long memResident;
+  private final long memSize;
+  private final long cpuReal;
+  private final long cpuUser;
+  private final long cpuSys;
+  private final long cpuTotal;
+  private final long ioBytesRead;
+  private final long ioBytesWritten;
+  private final long ioTotal;
+
+  private ImmutableProcessResourceConsumption(
+      long memResident,
+      long memSize,
+      long cpuReal,
+      long cpuUser,
+      long cpuSys,
+      long cpuTotal,
+      long ioBytesRead,
+      long ioBytesWritten,
+      long ioTotal) {
+    this.memResident = memResident;
+    this.memSize = memSize;
+    this.cpuReal = cpuReal;
+    this.cpuUser = cpuUser;
+    this.cpuSys = cpuSys;
+    this.cpuTotal = cpuTotal;
+    this.ioBytesRead = ioBytesRead;
+    this.ioBytesWritten = ioBytesWritten;
+    this.ioTotal = ioTotal;
+  }
+
+  /**
+   * @return The value of the {@code memResident} attribute
+   */
+  @Override
+  public long getMemResident() {
+    return memResident;
+  }
+
+  /**
+   * @return The value of the {@code memSize} attribute
+   */
+  @Override
+  public long getMemSize() {
+    return memSize;
+  }
+
+  /**
+   * @return The value of the {@code cpuReal} attribute
+   */
+  @Override
+  public long getCpuReal() {
+    return cpuReal;
+  }
+
+  /**
+   * @return The value of the {@code cpuUser} attribute
+   */
+  @Override
+  public long getCpuUser() {
+    return cpuUser;
+  }
+
+  /**
+   * @return The value of the {@code cpuSys} attribute
+   */
+  @Override
+  public long getCpuSys() {
+    return cpuSys;
+  }
+
+  /**
+   * @return The value of the {@code cpuTotal} attribute
+   */
+  @Override
+  public long getCpuTotal() {
+    return cpuTotal;
+  }
+
+  /**
+   * @return The value of the {@code ioBytesRead} attribute
+   */
+  @Override
+  public long getIoBytesRead() {
+    return ioBytesRead;
+  }
+
+  /**
+   * @return The value of the {@code ioBytesWritten} attribute
+   */
+  @Override
+  public long getIoBytesWritten() {
+    return ioBytesWritten;
+  }
+
+  /**
+   * @return The value of the {@code ioTotal} attribute
+   */
+  @Override
+  public long getIoTotal() {
+    return ioTotal;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableProcessResourceConsumption} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableProcessResourceConsumption
+        && equalTo((ImmutableProcessResourceConsumption) another);
+  }
+
+  private boolean equalTo(ImmutableProcessResourceConsumption another) {
+    return memResident == another.memResident
+        && memSize == another.memSize
+        && cpuReal == another.cpuReal
+        && cpuUser == another.cpuUser
+        && cpuSys == another.cpuSys
+        && cpuTotal == another.cpuTotal
+        && ioBytesRead == another.ioBytesRead
+        && ioBytesWritten == another.ioBytesWritten
+        && ioTotal == another.ioTotal;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code memResident}, {@code memSize}, {@code cpuReal}, {@code cpuUser}, {@code cpuSys}, {@code cpuTotal}, {@code ioBytesRead}, {@code ioBytesWritten}, {@code ioTotal}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Longs.hashCode(memResident);
+    h += (h << 5) + Longs.hashCode(memSize);
+    h += (h << 5) + Longs.hashCode(cpuReal);
+    h += (h << 5) + Longs.hashCode(cpuUser);
+    h += (h << 5) + Longs.hashCode(cpuSys);
+    h += (h << 5) + Longs.hashCode(cpuTotal);
+    h += (h << 5) + Longs.hashCode(ioBytesRead);
+    h += (h << 5) + Longs.hashCode(ioBytesWritten);
+    h += (h << 5) + Longs.hashCode(ioTotal);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ProcessResourceConsumption} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ProcessResourceConsumption")
+        .omitNullValues()
+        .add("memResident", memResident)
+        .add("memSize", memSize)
+        .add("cpuReal", cpuReal)
+        .add("cpuUser", cpuUser)
+        .add("cpuSys", cpuSys)
+        .add("cpuTotal", cpuTotal)
+        .add("ioBytesRead", ioBytesRead)
+        .add("ioBytesWritten", ioBytesWritten)
+        .add("ioTotal", ioTotal)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ProcessResourceConsumption} instance.
+   * @param memResident The value for the {@code memResident} attribute
+   * @param memSize The value for the {@code memSize} attribute
+   * @param cpuReal The value for the {@code cpuReal} attribute
+   * @param cpuUser The value for the {@code cpuUser} attribute
+   * @param cpuSys The value for the {@code cpuSys} attribute
+   * @param cpuTotal The value for the {@code cpuTotal} attribute
+   * @param ioBytesRead The value for the {@code ioBytesRead} attribute
+   * @param ioBytesWritten The value for the {@code ioBytesWritten} attribute
+   * @param ioTotal The value for the {@code ioTotal} attribute
+   * @return An immutable ProcessResourceConsumption instance
+   */
+  public static ImmutableProcessResourceConsumption of(long memResident, long memSize, long cpuReal, long cpuUser, long cpuSys, long cpuTotal, long ioBytesRead, long ioBytesWritten, long ioTotal) {
+    return new ImmutableProcessResourceConsumption(memResident, memSize, cpuReal, cpuUser, cpuSys, cpuTotal, ioBytesRead, ioBytesWritten, ioTotal);
+  }
+}
@@ -0,0 +1,104 @@
+package com.facebook.buck.util.concurrent;
+
+import com.facebook.buck.util.types.Unit;
+import com.google.common.base.MoreObjects;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ListeningSemaphoreArrayPendingItem}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableListeningSemaphoreArrayPendingItem.of()}.
+ */
+@Generated(from = "ListeningSemaphoreArrayPendingItem", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableListeningSemaphoreArrayPendingItem
+    implements ListeningSemaphoreArrayPendingItem {
+  private final SettableFuture<Unit> future;
+  private final ResourceAmounts resources;
+
+  private ImmutableListeningSemaphoreArrayPendingItem(
+      SettableFuture<Unit> future,
+      ResourceAmounts resources) {
+    this.future = Objects.requireNonNull(future, "future");
+    this.resources = Objects.requireNonNull(resources, "resources");
+  }
+
+  /**
+   * @return The value of the {@code future} attribute
+   */
+  @Override
+  public SettableFuture<Unit> getFuture() {
+    return future;
+  }
+
+  /**
+   * @return The value of the {@code resources} attribute
+   */
+  @Override
+  public ResourceAmounts getResources() {
+    return resources;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableListeningSemaphoreArrayPendingItem} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableListeningSemaphoreArrayPendingItem
+        && equalTo((ImmutableListeningSemaphoreArrayPendingItem) another);
+  }
+
+  private boolean equalTo(ImmutableListeningSemaphoreArrayPendingItem another) {
+    return future.equals(another.future)
+        && resources.equals(another.resources);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code future}, {@code resources}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + future.hashCode();
+    h += (h << 5) + resources.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ListeningSemaphoreArrayPendingItem} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ListeningSemaphoreArrayPendingItem")
+        .omitNullValues()
+        .add("future", future)
+        .add("resources", resources)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ListeningSemaphoreArrayPendingItem} instance.
+   * @param future The value for the {@code future} attribute
+   * @param resources The value for the {@code resources} attribute
+   * @return An immutable ListeningSemaphoreArrayPendingItem instance
+   */
+  public static ImmutableListeningSemaphoreArrayPendingItem of(SettableFuture<Unit> future, ResourceAmounts resources) {
+    return new ImmutableListeningSemaphoreArrayPendingItem(future, resources);
+  }
+}
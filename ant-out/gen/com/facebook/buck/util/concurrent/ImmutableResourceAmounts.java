@@ -0,0 +1,126 @@
+package com.facebook.buck.util.concurrent;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ResourceAmounts}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableResourceAmounts.of()}.
+ */
+@Generated(from = "ResourceAmounts", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableResourceAmounts extends ResourceAmounts {
+  private final int cpu;
+  private final int memory;
+  private final int diskIO;
+  private final int networkIO;
+
+  private ImmutableResourceAmounts(int cpu, int memory, int diskIO, int networkIO) {
+    this.cpu = cpu;
+    this.memory = memory;
+    this.diskIO = diskIO;
+    this.networkIO = networkIO;
+  }
+
+  /**
+   * @return The value of the {@code cpu} attribute
+   */
+  @Override
+  public int getCpu() {
+    return cpu;
+  }
+
+  /**
+   * @return The value of the {@code memory} attribute
+   */
+  @Override
+  public int getMemory() {
+    return memory;
+  }
+
+  /**
+   * @return The value of the {@code diskIO} attribute
+   */
+  @Override
+  public int getDiskIO() {
+    return diskIO;
+  }
+
+  /**
+   * @return The value of the {@code networkIO} attribute
+   */
+  @Override
+  public int getNetworkIO() {
+    return networkIO;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableResourceAmounts} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableResourceAmounts
+        && equalTo((ImmutableResourceAmounts) another);
+  }
+
+  private boolean equalTo(ImmutableResourceAmounts another) {
+    return cpu == another.cpu
+        && memory == another.memory
+        && diskIO == another.diskIO
+        && networkIO == another.networkIO;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cpu}, {@code memory}, {@code diskIO}, {@code networkIO}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + cpu;
+    h += (h << 5) + memory;
+    h += (h << 5) + diskIO;
+    h += (h << 5) + networkIO;
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ResourceAmounts} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ResourceAmounts")
+        .omitNullValues()
+        .add("cpu", cpu)
+        .add("memory", memory)
+        .add("diskIO", diskIO)
+        .add("networkIO", networkIO)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ResourceAmounts} instance.
+   * @param cpu The value for the {@code cpu} attribute
+   * @param memory The value for the {@code memory} attribute
+   * @param diskIO The value for the {@code diskIO} attribute
+   * @param networkIO The value for the {@code networkIO} attribute
+   * @return An immutable ResourceAmounts instance
+   */
+  public static ImmutableResourceAmounts of(int cpu, int memory, int diskIO, int networkIO) {
+    return new ImmutableResourceAmounts(cpu, memory, diskIO, networkIO);
+  }
+}
@@ -0,0 +1,109 @@
+package com.facebook.buck.util.i18n;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.Var;
+import java.util.Locale;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link NumberFormatterCacheKey}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableNumberFormatterCacheKey.of()}.
+ */
+@Generated(from = "NumberFormatterCacheKey", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableNumberFormatterCacheKey
+    implements NumberFormatterCacheKey {
+  private final long threadId;
+  private final Locale locale;
+  private transient final int hashCode;
+
+  private ImmutableNumberFormatterCacheKey(long threadId, Locale locale) {
+    this.threadId = threadId;
+    this.locale = Objects.requireNonNull(locale, "locale");
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code threadId} attribute
+   */
+  @Override
+  public long getThreadId() {
+    return threadId;
+  }
+
+  /**
+   * @return The value of the {@code locale} attribute
+   */
+  @Override
+  public Locale getLocale() {
+    return locale;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableNumberFormatterCacheKey} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableNumberFormatterCacheKey
+        && equalTo((ImmutableNumberFormatterCacheKey) another);
+  }
+
+  private boolean equalTo(ImmutableNumberFormatterCacheKey another) {
+    if (hashCode != another.hashCode) return false;
+    return threadId == another.threadId
+        && locale.equals(another.locale);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code threadId}, {@code locale}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + Longs.hashCode(threadId);
+    h += (h << 5) + locale.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NumberFormatterCacheKey} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NumberFormatterCacheKey")
+        .omitNullValues()
+        .add("threadId", threadId)
+        .add("locale", locale)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code NumberFormatterCacheKey} instance.
+   * @param threadId The value for the {@code threadId} attribute
+   * @param locale The value for the {@code locale} attribute
+   * @return An immutable NumberFormatterCacheKey instance
+   */
+  public static ImmutableNumberFormatterCacheKey of(long threadId, Locale locale) {
+    return new ImmutableNumberFormatterCacheKey(threadId, locale);
+  }
+}
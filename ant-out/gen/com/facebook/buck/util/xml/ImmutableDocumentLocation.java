@@ -0,0 +1,99 @@
+package com.facebook.buck.util.xml;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link DocumentLocation}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableDocumentLocation.of()}.
+ */
+@Generated(from = "DocumentLocation", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableDocumentLocation implements DocumentLocation {
+  private final Integer lineNumber;
+  private final Integer columnNumber;
+
+  private ImmutableDocumentLocation(Integer lineNumber, Integer columnNumber) {
+    this.lineNumber = Objects.requireNonNull(lineNumber, "lineNumber");
+    this.columnNumber = Objects.requireNonNull(columnNumber, "columnNumber");
+  }
+
+  /**
+   * @return The value of the {@code lineNumber} attribute
+   */
+  @Override
+  public Integer getLineNumber() {
+    return lineNumber;
+  }
+
+  /**
+   * @return The value of the {@code columnNumber} attribute
+   */
+  @Override
+  public Integer getColumnNumber() {
+    return columnNumber;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableDocumentLocation} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableDocumentLocation
+        && equalTo((ImmutableDocumentLocation) another);
+  }
+
+  private boolean equalTo(ImmutableDocumentLocation another) {
+    return lineNumber.equals(another.lineNumber)
+        && columnNumber.equals(another.columnNumber);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code lineNumber}, {@code columnNumber}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + lineNumber.hashCode();
+    h += (h << 5) + columnNumber.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DocumentLocation} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DocumentLocation")
+        .omitNullValues()
+        .add("lineNumber", lineNumber)
+        .add("columnNumber", columnNumber)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code DocumentLocation} instance.
+   * @param lineNumber The value for the {@code lineNumber} attribute
+   * @param columnNumber The value for the {@code columnNumber} attribute
+   * @return An immutable DocumentLocation instance
+   */
+  public static ImmutableDocumentLocation of(Integer lineNumber, Integer columnNumber) {
+    return new ImmutableDocumentLocation(lineNumber, columnNumber);
+  }
+}
@@ -0,0 +1,95 @@
+package com.facebook.buck.util.zip.collect;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Var;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ZipEntrySourceCollection}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableZipEntrySourceCollection.of()}.
+ */
+@Generated(from = "ZipEntrySourceCollection", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableZipEntrySourceCollection
+    implements ZipEntrySourceCollection {
+  private final ImmutableList<ZipEntrySource> sources;
+
+  private ImmutableZipEntrySourceCollection(Iterable<? extends ZipEntrySource> sources) {
+    this.sources = ImmutableList.copyOf(sources);
+  }
+
+  /**
+   * @return The value of the {@code sources} attribute
+   */
+  @Override
+  public ImmutableList<ZipEntrySource> getSources() {
+    return sources;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableZipEntrySourceCollection} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableZipEntrySourceCollection
+        && equalTo((ImmutableZipEntrySourceCollection) another);
+  }
+
+  private boolean equalTo(ImmutableZipEntrySourceCollection another) {
+    return sources.equals(another.sources);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code sources}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + sources.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ZipEntrySourceCollection} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ZipEntrySourceCollection")
+        .omitNullValues()
+        .add("sources", sources)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ZipEntrySourceCollection} instance.
+   * @param sources The value for the {@code sources} attribute
+   * @return An immutable ZipEntrySourceCollection instance
+   */
+  public static ImmutableZipEntrySourceCollection of(ImmutableList<ZipEntrySource> sources) {
+    return of((Iterable<? extends ZipEntrySource>) sources);
+  }
+
+  /**
+   * Construct a new immutable {@code ZipEntrySourceCollection} instance.
+   * @param sources The value for the {@code sources} attribute
+   * @return An immutable ZipEntrySourceCollection instance
+   */
+  public static ImmutableZipEntrySourceCollection of(Iterable<? extends ZipEntrySource> sources) {
+    return new ImmutableZipEntrySourceCollection(sources);
+  }
+}
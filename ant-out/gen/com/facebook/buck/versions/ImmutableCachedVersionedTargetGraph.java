@@ -0,0 +1,103 @@
+package com.facebook.buck.versions;
+
+import com.facebook.buck.core.model.targetgraph.TargetGraphCreationResult;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link VersionedTargetGraphCache.CachedVersionedTargetGraph}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCachedVersionedTargetGraph.of()}.
+ */
+@Generated(from = "VersionedTargetGraphCache.CachedVersionedTargetGraph", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableCachedVersionedTargetGraph
+    implements VersionedTargetGraphCache.CachedVersionedTargetGraph {
+  private final VersionedTargetGraphCache.VersionedTargetGraphInputs inputs;
+  private final TargetGraphCreationResult targetGraphCreationResult;
+
+  private ImmutableCachedVersionedTargetGraph(
+      VersionedTargetGraphCache.VersionedTargetGraphInputs inputs,
+      TargetGraphCreationResult targetGraphCreationResult) {
+    this.inputs = Objects.requireNonNull(inputs, "inputs");
+    this.targetGraphCreationResult = Objects.requireNonNull(targetGraphCreationResult, "targetGraphCreationResult");
+  }
+
+  /**
+   * @return The value of the {@code inputs} attribute
+   */
+  @Override
+  public VersionedTargetGraphCache.VersionedTargetGraphInputs getInputs() {
+    return inputs;
+  }
+
+  /**
+   * @return The value of the {@code targetGraphCreationResult} attribute
+   */
+  @Override
+  public TargetGraphCreationResult getTargetGraphCreationResult() {
+    return targetGraphCreationResult;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCachedVersionedTargetGraph} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCachedVersionedTargetGraph
+        && equalTo((ImmutableCachedVersionedTargetGraph) another);
+  }
+
+  private boolean equalTo(ImmutableCachedVersionedTargetGraph another) {
+    return inputs.equals(another.inputs)
+        && targetGraphCreationResult.equals(another.targetGraphCreationResult);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code inputs}, {@code targetGraphCreationResult}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + inputs.hashCode();
+    h += (h << 5) + targetGraphCreationResult.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CachedVersionedTargetGraph} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CachedVersionedTargetGraph")
+        .omitNullValues()
+        .add("inputs", inputs)
+        .add("targetGraphCreationResult", targetGraphCreationResult)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CachedVersionedTargetGraph} instance.
+   * @param inputs The value for the {@code inputs} attribute
+   * @param targetGraphCreationResult The value for the {@code targetGraphCreationResult} attribute
+   * @return An immutable CachedVersionedTargetGraph instance
+   */
+  public static ImmutableCachedVersionedTargetGraph of(VersionedTargetGraphCache.VersionedTargetGraphInputs inputs, TargetGraphCreationResult targetGraphCreationResult) {
+    return new ImmutableCachedVersionedTargetGraph(inputs, targetGraphCreationResult);
+  }
+}
@@ -0,0 +1,85 @@
+package com.facebook.buck.versions;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link ExactConstraint}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableExactConstraint.of()}.
+ */
+@Generated(from = "ExactConstraint", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableExactConstraint extends ExactConstraint {
+  private final Version version;
+
+  private ImmutableExactConstraint(Version version) {
+    this.version = Objects.requireNonNull(version, "version");
+  }
+
+  /**
+   * @return The value of the {@code version} attribute
+   */
+  @Override
+  protected Version getVersion() {
+    return version;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableExactConstraint} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableExactConstraint
+        && equalTo((ImmutableExactConstraint) another);
+  }
+
+  private boolean equalTo(ImmutableExactConstraint another) {
+    return version.equals(another.version);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code version}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + version.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ExactConstraint} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ExactConstraint")
+        .omitNullValues()
+        .add("version", version)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ExactConstraint} instance.
+   * @param version The value for the {@code version} attribute
+   * @return An immutable ExactConstraint instance
+   */
+  public static ImmutableExactConstraint of(Version version) {
+    return new ImmutableExactConstraint(version);
+  }
+}
@@ -0,0 +1,105 @@
+package com.facebook.buck.versions;
+
+import com.facebook.buck.core.model.targetgraph.TargetGraphCreationResult;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link VersionedTargetGraphCache.VersionedTargetGraphInputs}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableVersionedTargetGraphInputs.of()}.
+ */
+@Generated(from = "VersionedTargetGraphCache.VersionedTargetGraphInputs", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableVersionedTargetGraphInputs
+    implements VersionedTargetGraphCache.VersionedTargetGraphInputs {
+  private final TargetGraphCreationResult targetGraphCreationResult;
+  private final ImmutableMap<String, VersionUniverse> versionUniverses;
+
+  private ImmutableVersionedTargetGraphInputs(
+      TargetGraphCreationResult targetGraphCreationResult,
+      Map<String, ? extends VersionUniverse> versionUniverses) {
+    this.targetGraphCreationResult = Objects.requireNonNull(targetGraphCreationResult, "targetGraphCreationResult");
+    this.versionUniverses = ImmutableMap.copyOf(versionUniverses);
+  }
+
+  /**
+   * @return The value of the {@code targetGraphCreationResult} attribute
+   */
+  @Override
+  public TargetGraphCreationResult getTargetGraphCreationResult() {
+    return targetGraphCreationResult;
+  }
+
+  /**
+   * @return The value of the {@code versionUniverses} attribute
+   */
+  @Override
+  public ImmutableMap<String, VersionUniverse> getVersionUniverses() {
+    return versionUniverses;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableVersionedTargetGraphInputs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableVersionedTargetGraphInputs
+        && equalTo((ImmutableVersionedTargetGraphInputs) another);
+  }
+
+  private boolean equalTo(ImmutableVersionedTargetGraphInputs another) {
+    return targetGraphCreationResult.equals(another.targetGraphCreationResult)
+        && versionUniverses.equals(another.versionUniverses);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code targetGraphCreationResult}, {@code versionUniverses}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + targetGraphCreationResult.hashCode();
+    h += (h << 5) + versionUniverses.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code VersionedTargetGraphInputs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("VersionedTargetGraphInputs")
+        .omitNullValues()
+        .add("targetGraphCreationResult", targetGraphCreationResult)
+        .add("versionUniverses", versionUniverses)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code VersionedTargetGraphInputs} instance.
+   * @param targetGraphCreationResult The value for the {@code targetGraphCreationResult} attribute
+   * @param versionUniverses The value for the {@code versionUniverses} attribute
+   * @return An immutable VersionedTargetGraphInputs instance
+   */
+  public static ImmutableVersionedTargetGraphInputs of(TargetGraphCreationResult targetGraphCreationResult, Map<String, ? extends VersionUniverse> versionUniverses) {
+    return new ImmutableVersionedTargetGraphInputs(targetGraphCreationResult, versionUniverses);
+  }
+}
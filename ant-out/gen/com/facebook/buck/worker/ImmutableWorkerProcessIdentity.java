@@ -0,0 +1,100 @@
+package com.facebook.buck.worker;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.hash.HashCode;
+import com.google.errorprone.annotations.Var;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.immutables.value.Generated;
+
+/**
+ * Immutable implementation of {@link WorkerProcessIdentity}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableWorkerProcessIdentity.of()}.
+ */
+@Generated(from = "WorkerProcessIdentity", generator = "Immutables")
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@javax.annotation.Generated("org.immutables.processor.ProxyProcessor")
+@Immutable
+@CheckReturnValue
+final class ImmutableWorkerProcessIdentity implements WorkerProcessIdentity {
+  private final String persistentWorkerKey;
+  private final HashCode workerHash;
+
+  private ImmutableWorkerProcessIdentity(String persistentWorkerKey, HashCode workerHash) {
+    this.persistentWorkerKey = Objects.requireNonNull(persistentWorkerKey, "persistentWorkerKey");
+    this.workerHash = Objects.requireNonNull(workerHash, "workerHash");
+  }
+
+  /**
+   * @return The value of the {@code persistentWorkerKey} attribute
+   */
+  @Override
+  public String getPersistentWorkerKey() {
+    return persistentWorkerKey;
+  }
+
+  /**
+   * @return The value of the {@code workerHash} attribute
+   */
+  @Override
+  public HashCode getWorkerHash() {
+    return workerHash;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableWorkerProcessIdentity} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableWorkerProcessIdentity
+        && equalTo((ImmutableWorkerProcessIdentity) another);
+  }
+
+  private boolean equalTo(ImmutableWorkerProcessIdentity another) {
+    return persistentWorkerKey.equals(another.persistentWorkerKey)
+        && workerHash.equals(another.workerHash);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code persistentWorkerKey}, {@code workerHash}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    @Var int h = 5381;
+    h += (h << 5) + persistentWorkerKey.hashCode();
+    h += (h << 5) + workerHash.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code WorkerProcessIdentity} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("WorkerProcessIdentity")
+        .omitNullValues()
+        .add("persistentWorkerKey", persistentWorkerKey)
+        .add("workerHash", workerHash)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code WorkerProcessIdentity} instance.
+   * @param persistentWorkerKey The value for the {@code persistentWorkerKey} attribute
+   * @param workerHash The value for the {@code workerHash} attribute
+   * @return An immutable WorkerProcessIdentity instance
+   */
+  public static ImmutableWorkerProcessIdentity of(String persistentWorkerKey, HashCode workerHash) {
+    return new ImmutableWorkerProcessIdentity(persistentWorkerKey, workerHash);
+  }
+}
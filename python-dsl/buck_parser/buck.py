@@ -47,8 +47,8 @@ from typing import (
 )
 
 import pywatchman
-from pywatchman import WatchmanError
-from six import PY3, iteritems, itervalues, string_types
+from pywatchman import WatchmanError, bser
+from six import PY3, integer_types, iteritems, itervalues, string_types
 
 # Python 2.6, 2.7, use iterator filter from Python 3
 from six.moves import builtins, filter
@@ -1954,6 +1954,18 @@ class BuildFileProcessor(object):
 
         return values
 
+    def preload_implicit_includes(self):
+        # type: () -> None
+        """Evaluate implicit includes before the first build file that needs them.
+
+        Failures are not reported here, as they are reported for each build file.
+        """
+        for include in self._implicit_includes:
+            try:
+                self._process_include(self._resolve_include(include), True)
+            except Exception:
+                return
+
 
 class InvalidSignatureError(Exception):
     pass
@@ -1989,6 +2001,27 @@ def format_exception_info(exception_info):
     return formatted
 
 
+def encode_diagnostics(diagnostics):
+    # type: (List[Diagnostic]) -> List[Dict[str, object]]
+    encoded_diagnostics = []
+    for d in diagnostics:
+        encoded = {"message": d.message, "level": d.level, "source": d.source}
+        if d.exception:
+            encoded["exception"] = format_exception_info(d.exception)
+        encoded_diagnostics.append(encoded)
+    return encoded_diagnostics
+
+
+def encode_encoding_failure(e):
+    # type: (Exception) -> Dict[str, object]
+    return {
+        "message": str(e),
+        "level": "fatal",
+        "source": "parse",
+        "exception": format_exception_info(sys.exc_info()),
+    }
+
+
 def encode_result(values, diagnostics, profile):
     # type: (List[Dict[str, object]], List[Diagnostic], Optional[str]) -> str
     result = {
@@ -1998,13 +2031,7 @@ def encode_result(values, diagnostics, profile):
     }
     json_encoder = BuckJSONEncoder()
     if diagnostics:
-        encoded_diagnostics = []
-        for d in diagnostics:
-            encoded = {"message": d.message, "level": d.level, "source": d.source}
-            if d.exception:
-                encoded["exception"] = format_exception_info(d.exception)
-            encoded_diagnostics.append(encoded)
-        result["diagnostics"] = encoded_diagnostics
+        result["diagnostics"] = encode_diagnostics(diagnostics)
     if profile is not None:
         result["profile"] = profile
     try:
@@ -2014,18 +2041,72 @@ def encode_result(values, diagnostics, profile):
         result["values"] = []
         if "diagnostics" not in result:
             result["diagnostics"] = []
-        result["diagnostics"].append(
-            {
-                "message": str(e),
-                "level": "fatal",
-                "source": "parse",
-                "exception": format_exception_info(sys.exc_info()),
-            }
-        )
+        result["diagnostics"].append(encode_encoding_failure(e))
         return json_encoder.encode(result)
 
 
-def process_with_diagnostics(build_file_query, build_file_processor, to_parent):
+def to_bser_value(obj):
+    """Converts a value to dicts, lists and primitives that BSER can encode.
+
+    Values are converted the same way BuckJSONEncoder converts them to JSON.
+    """
+    if obj is None or isinstance(obj, (bool, float) + integer_types + string_types):
+        return obj
+    if isinstance(obj, SelectorValue):
+        return {
+            "@type": "SelectorValue",
+            "conditions": to_bser_value(obj.conditions()),
+            "no_match_error": obj.no_match_message(),
+        }
+    if isinstance(obj, SelectorList):
+        return {"@type": "SelectorList", "items": to_bser_value(obj.items())}
+    if isinstance(obj, collections.Mapping) and isinstance(obj, collections.Sized):
+        return {k: to_bser_value(v) for k, v in iteritems(obj)}
+    if isinstance(obj, collections.Iterable) and isinstance(obj, collections.Sized):
+        return [to_bser_value(v) for v in obj]
+    raise TypeError("{!r} is not BSER serializable".format(obj))
+
+
+def java_process_send_result_bser(to_parent, values, diagnostics, profile):
+    """Sends a result to the Java process as a stream of BSER PDUs.
+
+    Each value is written as a separate {"value": ...} PDU as soon as it's encoded, so the Java
+    process can decode it while the following values are still being encoded. A last PDU holds
+    the diagnostics, the profile and the time spent encoding the values.
+    """
+    encoded_diagnostics = encode_diagnostics(diagnostics)
+    encode_time = 0.0
+    for value in values:
+        start_time = time.time()
+        try:
+            data = bser.dumps(
+                {
+                    "value": {
+                        k: to_bser_value(v)
+                        for k, v in iteritems(value)
+                        if v is not None
+                    }
+                }
+            )
+        except Exception as e:
+            # The Java process drops the values it already got when it sees a fatal diagnostic.
+            encoded_diagnostics.append(encode_encoding_failure(e))
+            break
+        encode_time += time.time() - start_time
+        to_parent.write(data)
+    trailer = {
+        "diagnostics": encoded_diagnostics,
+        "encode_nanos": int(encode_time * 1e9),
+    }
+    if profile is not None:
+        trailer["profile"] = profile
+    to_parent.write(bser.dumps(trailer))
+    to_parent.flush()
+
+
+def process_with_diagnostics(
+    build_file_query, build_file_processor, to_parent, use_bser=False
+):
     start_time = time.time()
     build_file = build_file_query.get("buildFile")
     watch_root = build_file_query.get("watchRoot")
@@ -2066,14 +2147,19 @@ def process_with_diagnostics(build_file_query, build_file_processor, to_parent):
             )
         raise
     finally:
-        java_process_send_result(to_parent, values, diagnostics, None)
+        java_process_send_result(to_parent, values, diagnostics, None, use_bser)
 
     end_time = time.time()
     return end_time - start_time
 
 
-def java_process_send_result(to_parent, values, diagnostics, profile_result):
+def java_process_send_result(
+    to_parent, values, diagnostics, profile_result, use_bser=False
+):
     """Sends result to the Java process"""
+    if use_bser:
+        java_process_send_result_bser(to_parent, values, diagnostics, profile_result)
+        return
     data = encode_result(values, diagnostics, profile_result)
     if PY3:
         # in Python 3 write expects bytes instead of string
@@ -2228,6 +2314,16 @@ def main():
         action="store_true",
         help="Allow user defined rules' primitives in build files.",
     )
+    parser.add_option(
+        "--use_bser",
+        action="store_true",
+        help="Read queries and write results as BSER instead of JSON.",
+    )
+    parser.add_option(
+        "--preload_includes",
+        action="store_true",
+        help="Evaluate implicit includes before reading the first query.",
+    )
     (options, args) = parser.parse_args()
 
     # Even though project_root is absolute path, it may not be concise. For
@@ -2303,6 +2399,9 @@ def main():
     # installed.
     with build_file_processor.with_env_interceptors():
         with build_file_processor.with_builtins(builtins.__dict__):
+            if options.preload_includes:
+                build_file_processor.preload_implicit_includes()
+
             processed_build_file = []
 
             profiler = None
@@ -2318,7 +2417,7 @@ def main():
                     "projectPrefix": project_root,
                 }
                 duration = process_with_diagnostics(
-                    query, build_file_processor, to_parent
+                    query, build_file_processor, to_parent, options.use_bser
                 )
                 processed_build_file.append(
                     {"buildFile": build_file, "duration": duration}
@@ -2330,15 +2429,17 @@ def main():
             # and File Objects (for line in sys.stdin) which is not
             # influenced by this option. To work around this, you will
             # want to use file.readline() inside a while 1: loop.
-            for line in wait_and_read_build_file_query():
-                if line == "":
-                    break
-                build_file_query = json.loads(line)
+            for build_file_query in wait_and_read_build_file_query(
+                options.use_bser
+            ):
                 if build_file_query.get("command") == "report_profile":
                     report_profile(options, to_parent, processed_build_file, profiler)
                 else:
                     duration = process_with_diagnostics(
-                        build_file_query, build_file_processor, to_parent
+                        build_file_query,
+                        build_file_processor,
+                        to_parent,
+                        options.use_bser,
                     )
                     processed_build_file.append(
                         {
@@ -2363,7 +2464,7 @@ def wait_build_file_query():
     _select([sys.stdin], [], [])
 
 
-def wait_and_read_build_file_query():
+def wait_and_read_build_file_query(use_bser=False):
     def default_wait():
         return
 
@@ -2373,12 +2474,38 @@ def wait_and_read_build_file_query():
         # Since select.select() is not supported on Windows, we currently don't have
         # a reliable way to measure it on this platform. Then, we skip it.
         wait = wait_build_file_query
+    stdin_bytes = sys.stdin.buffer if PY3 else sys.stdin
     while True:
         wait()
-        line = sys.stdin.readline()
-        if not line:
-            return
-        yield line
+        if use_bser:
+            # Queries are single PDUs, so nothing is left buffered past the one we read.
+            query = read_bser_pdu(stdin_bytes)
+            if query is None:
+                return
+            yield query
+        else:
+            line = sys.stdin.readline()
+            if not line:
+                return
+            yield json.loads(line)
+
+
+# Sizes of the BSER integer types that can encode the length of a PDU.
+_BSER_INT_SIZES = {b"\x03": 1, b"\x04": 2, b"\x05": 4, b"\x06": 8}
+
+
+def read_bser_pdu(stream):
+    """Reads a single BSER PDU from a binary stream, or returns None at the end of it."""
+    # The PDU starts with a two byte magic and the length, encoded as a BSER integer.
+    header = stream.read(3)
+    if len(header) < 3:
+        return None
+    length_size = _BSER_INT_SIZES.get(header[2:3])
+    if length_size is None:
+        raise ValueError("Invalid BSER header")
+    header += stream.read(length_size)
+    body = stream.read(bser.pdu_len(header) - len(header))
+    return bser.loads(header + body, value_encoding="utf-8")
 
 
 def report_profile(options, to_parent, processed_build_file, profiler):
@@ -2406,13 +2533,15 @@ def report_profile(options, to_parent, processed_build_file, profiler):
             extra_result += "\n\n"
             profile_result = extra_result + profile_result
             profile_result += Tracer.get_all_traces_and_reset()
-            java_process_send_result(to_parent, [], [], profile_result)
+            java_process_send_result(
+                to_parent, [], [], profile_result, options.use_bser
+            )
         except Exception:
             trace = traceback.format_exc()
             print(str(trace))
             raise
     else:
-        java_process_send_result(to_parent, [], [], None)
+        java_process_send_result(to_parent, [], [], None, options.use_bser)
 
 
 def make_glob(pat):
@@ -35,6 +35,7 @@ from .buck import (
     IncludeContext,
     add_rule,
     process_with_diagnostics,
+    read_bser_pdu,
 )
 
 
@@ -356,6 +357,44 @@ class BuckTest(unittest.TestCase):
             build_file.root, build_file.prefix, build_file.path, [], None
         )
 
+    def test_preloaded_implicit_includes_are_reused(self):
+        implicit_inc = ProjectFile(
+            self.project_root, path="implicit", contents=("FOO = 1",)
+        )
+        build_file = ProjectFile(self.project_root, path="BUCK", contents=("FOO",))
+        self.write_files(implicit_inc, build_file)
+        build_file_processor = self.create_build_file_processor(
+            includes=[implicit_inc.name]
+        )
+        build_file_processor.preload_implicit_includes()
+
+        # The build file still sees the include once it's gone, as it was already evaluated.
+        os.remove(os.path.join(self.project_root, implicit_inc.path))
+        build_file_processor.process(
+            build_file.root, build_file.prefix, build_file.path, [], None
+        )
+
+    def test_failing_implicit_includes_are_reported_for_build_files(self):
+        implicit_inc = ProjectFile(
+            self.project_root, path="implicit", contents=("FOO = BAR",)
+        )
+        build_file = ProjectFile(self.project_root, path="BUCK", contents=("FOO",))
+        self.write_files(implicit_inc, build_file)
+        build_file_processor = self.create_build_file_processor(
+            includes=[implicit_inc.name]
+        )
+        build_file_processor.preload_implicit_includes()
+
+        self.assertRaises(
+            NameError,
+            build_file_processor.process,
+            build_file.root,
+            build_file.prefix,
+            build_file.path,
+            [],
+            None,
+        )
+
     def test_all_list_is_respected(self):
         """
         Verify that the `__all__` list in included files can be used to narrow
@@ -1588,6 +1627,69 @@ class BuckTest(unittest.TestCase):
         self.assertEqual("fatal", decoded_result["diagnostics"][0]["level"])
         self.assertEqual("parse", decoded_result["diagnostics"][0]["source"])
 
+    def test_bser_encoding_streams_values(self):
+        build_file_processor = self.create_build_file_processor(extra_funcs=[foo_rule])
+        fake_stdout = BytesIO()
+        build_file = ProjectFile(
+            self.project_root,
+            path="BUCK",
+            contents=(
+                'foo_rule(name="foo", srcs=["Foo.java"])',
+                'foo_rule(name="bar", srcs=select({"//:c": ["Bar.java"]}))',
+            ),
+        )
+        self.write_file(build_file)
+        with build_file_processor.with_builtins(builtins.__dict__):
+            process_with_diagnostics(
+                {
+                    "buildFile": self.build_file_name,
+                    "watchRoot": "",
+                    "projectPrefix": self.project_root,
+                },
+                build_file_processor,
+                fake_stdout,
+                use_bser=True,
+            )
+        result = BytesIO(fake_stdout.getvalue())
+        decoded_pdus = []
+        while True:
+            pdu = read_bser_pdu(result)
+            if pdu is None:
+                break
+            decoded_pdus.append(pdu)
+        values = [pdu["value"] for pdu in decoded_pdus if "value" in pdu]
+        trailer = decoded_pdus[-1]
+        self.assertEqual(["foo", "bar"], [v.get("name") for v in values[:2]])
+        self.assertNotIn("some_optional", values[0])
+        self.assertEqual(["Foo.java"], values[0]["srcs"])
+        self.assertEqual("SelectorList", values[1]["srcs"]["@type"])
+        self.assertEqual([], trailer["diagnostics"])
+        self.assertIn("encode_nanos", trailer)
+
+    def test_bser_encoding_failure(self):
+        build_file_processor = self.create_build_file_processor(extra_funcs=[foo_rule])
+        fake_stdout = BytesIO()
+        build_file = ProjectFile(
+            self.project_root,
+            path="BUCK",
+            contents=("foo_rule(", '  name="foo",' "  srcs=[object()],", ")"),
+        )
+        self.write_file(build_file)
+        with build_file_processor.with_builtins(builtins.__dict__):
+            process_with_diagnostics(
+                {
+                    "buildFile": self.build_file_name,
+                    "watchRoot": "",
+                    "projectPrefix": self.project_root,
+                },
+                build_file_processor,
+                fake_stdout,
+                use_bser=True,
+            )
+        trailer = read_bser_pdu(BytesIO(fake_stdout.getvalue()))
+        self.assertEqual("fatal", trailer["diagnostics"][0]["level"])
+        self.assertEqual("parse", trailer["diagnostics"][0]["source"])
+
     def test_explicitly_loaded_values_are_available(self):
         defs_file = ProjectFile(
             root=self.project_root,
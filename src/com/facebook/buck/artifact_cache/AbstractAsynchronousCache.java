@@ -48,12 +48,18 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nullable;
 
 public abstract class AbstractAsynchronousCache implements ArtifactCache {
   private static final Logger LOG = Logger.get(AbstractAsynchronousCache.class);
   private static final int MAX_CONSECUTIVE_MULTI_FETCH_ERRORS = 3;
+  // How long a single multiFetch or multiContains request should take.
+  private static final long TARGET_BATCH_MILLIS = 1000;
+  // Artifacts expected to be at least this large are fetched in a request of their own.
+  private static final long LARGE_ARTIFACT_BYTES = 16 * 1024 * 1024;
+  private static final long MAX_BATCH_BYTES = 64 * 1024 * 1024;
   private final String name;
   private final CacheReadMode cacheReadMode;
 
@@ -76,6 +82,8 @@ public abstract class AbstractAsynchronousCache implements ArtifactCache {
   // less disruptive.
   private volatile boolean enableMultiFetch = true;
   private final AtomicInteger consecutiveMultiFetchErrorCount = new AtomicInteger();
+  private final AdaptiveBatchSizer fetchBatchSizer = new AdaptiveBatchSizer(TARGET_BATCH_MILLIS);
+  private final AdaptiveBatchSizer checkBatchSizer = new AdaptiveBatchSizer(TARGET_BATCH_MILLIS);
   private volatile boolean markAllFetchRequestsAsSkipped = false;
 
   public AbstractAsynchronousCache(
@@ -124,8 +132,9 @@ public abstract class AbstractAsynchronousCache implements ArtifactCache {
       throws IOException;
 
   /**
-   * Used to compute the number of keys to include in every multiFetchRequest. If < 1, fetch will be
-   * used instead of multifetch.
+   * Used to compute the maximum number of keys to include in every multiFetchRequest. If < 1, fetch
+   * will be used instead of multifetch. Batches are made smaller than this when requests for
+   * previous ones took long.
    */
   @SuppressWarnings("unused")
   protected int getMultiFetchBatchSize(int pendingRequestsSize) {
@@ -138,8 +147,10 @@ public abstract class AbstractAsynchronousCache implements ArtifactCache {
 
   private void doMultiCheck(ImmutableMap<RuleKey, ClaimedFetchRequest> ruleKeyToRequest) {
     try {
+      long startNanos = System.nanoTime();
       ImmutableMap<RuleKey, CacheResult> ruleKeyToResult =
           multiContainsImpl(ruleKeyToRequest.keySet()).getCacheResults();
+      checkBatchSizer.recordBatch(ruleKeyToRequest.size(), System.nanoTime() - startNanos);
       for (Map.Entry<RuleKey, CacheResult> result : ruleKeyToResult.entrySet()) {
         CacheResult cacheResult = result.getValue();
         ClaimedFetchRequest claimedFetchRequest = ruleKeyToRequest.get(result.getKey());
@@ -182,13 +193,19 @@ public abstract class AbstractAsynchronousCache implements ArtifactCache {
                 .collect(ImmutableList.toImmutableList()),
             requests.stream()
                 .map(r -> r.getRequest().getRuleKey())
-                .collect(ImmutableList.toImmutableList()))) {
+                .collect(ImmutableList.toImmutableList()),
+            requests.stream()
+                .mapToLong(r -> r.getRequest().getQueueWaitMillis())
+                .max()
+                .orElse(0))) {
       try {
+        long startNanos = System.nanoTime();
         MultiFetchResult result =
             multiFetchImpl(
                 requests.stream()
                     .map(ClaimedFetchRequest::getRequest)
                     .collect(ImmutableList.toImmutableList()));
+        fetchBatchSizer.recordBatch(requests.size(), System.nanoTime() - startNanos);
         Preconditions.checkState(result.getResults().size() == requests.size());
         // MultiFetch must return a non-skipped result for at least one of the requested keys.
         Preconditions.checkState(
@@ -204,6 +221,7 @@ public abstract class AbstractAsynchronousCache implements ArtifactCache {
             thisRequest.reschedule();
           } else {
             requestEvents.finished(i, thisResult);
+            recordFetchedArtifact(thisRequest.getRequest(), thisResult);
             thisRequest.setResult(thisResult.getCacheResult());
           }
         }
@@ -256,10 +274,14 @@ public abstract class AbstractAsynchronousCache implements ArtifactCache {
   private void doFetch(FetchRequest request) {
     CacheResult result;
     CacheEventListener.FetchRequestEvents requestEvents =
-        eventListener.fetchStarted(request.getBuildTarget(), request.getRuleKey());
+        eventListener.fetchStarted(
+            request.getBuildTarget(), request.getRuleKey(), request.getQueueWaitMillis());
     try {
+      // Single fetches aren't recorded as batches, as they include artifacts fetched on their own
+      // because they are large.
       FetchResult fetchResult =
           fetchImpl(request.getBuildTarget(), request.getRuleKey(), request.getOutput());
+      recordFetchedArtifact(request, fetchResult);
       result = fetchResult.getCacheResult();
       requestEvents.finished(fetchResult);
     } catch (IOException e) {
@@ -272,6 +294,22 @@ public abstract class AbstractAsynchronousCache implements ArtifactCache {
     request.future.set(result);
   }
 
+  private void recordFetchedArtifact(FetchRequest request, FetchResult result) {
+    if (result.getCacheResult().getType().isSuccess()
+        && result.getArtifactSizeBytes().isPresent()) {
+      fetchBatchSizer.recordArtifact(
+          request.getBuildTarget() != null
+              ? request.getBuildTarget()
+              : result.getBuildTarget().orElse(null),
+          result.getArtifactSizeBytes().get());
+    }
+  }
+
+  private boolean isLargeArtifact(ClaimedFetchRequest request) {
+    return fetchBatchSizer.estimateArtifactBytes(request.getRequest().getBuildTarget())
+        >= LARGE_ARTIFACT_BYTES;
+  }
+
   private static void skipPendingRequest(ClaimedFetchRequest request) {
     if (request != null) {
       String ruleKey = request.getRequest().getRuleKey().toString();
@@ -283,7 +321,7 @@ public abstract class AbstractAsynchronousCache implements ArtifactCache {
   }
 
   private void skipAllPendingRequests() {
-    ImmutableList<ClaimedFetchRequest> requests = getCheckRequests();
+    ImmutableList<ClaimedFetchRequest> requests = getAllCheckRequests();
     requests.forEach(AbstractAsynchronousCache::skipPendingRequest);
 
     while (true) {
@@ -300,7 +338,7 @@ public abstract class AbstractAsynchronousCache implements ArtifactCache {
   }
 
   private void cancelAllPendingRequests(Exception e) {
-    ImmutableList<ClaimedFetchRequest> requests = getCheckRequests();
+    ImmutableList<ClaimedFetchRequest> requests = getAllCheckRequests();
     requests.forEach(r -> cancelRequest(r, e));
 
     while (true) {
@@ -360,20 +398,39 @@ public abstract class AbstractAsynchronousCache implements ArtifactCache {
       int multiFetchLimit =
           enableMultiFetch ? getMultiFetchBatchSize(pendingFetchRequests.size()) : 0;
       if (multiFetchLimit > 0) {
+        multiFetchLimit = fetchBatchSizer.getBatchSize(multiFetchLimit);
         ImmutableList.Builder<ClaimedFetchRequest> requestsBuilder = ImmutableList.builder();
         try {
-          for (int i = 0; i < multiFetchLimit; i++) {
+          ClaimedFetchRequest first = getFetchRequest();
+          if (first == null) {
+            return;
+          }
+          if (isLargeArtifact(first)) {
+            // Fetch it on its own so that it doesn't hold up other artifacts.
+            try (ClaimedFetchRequest request = first) {
+              doFetch(request.getRequest());
+            }
+            return;
+          }
+          requestsBuilder.add(first);
+          long batchBytes =
+              fetchBatchSizer.estimateArtifactBytes(first.getRequest().getBuildTarget());
+          for (int i = 1; i < multiFetchLimit; i++) {
             ClaimedFetchRequest request = getFetchRequest();
             if (request == null) {
               break;
             }
+            long artifactBytes =
+                fetchBatchSizer.estimateArtifactBytes(request.getRequest().getBuildTarget());
+            if (isLargeArtifact(request) || batchBytes + artifactBytes > MAX_BATCH_BYTES) {
+              // Leave it for another request.
+              request.reschedule();
+              break;
+            }
+            batchBytes += artifactBytes;
             requestsBuilder.add(request);
           }
-          ImmutableList<ClaimedFetchRequest> requests = requestsBuilder.build();
-          if (requests.isEmpty()) {
-            return;
-          }
-          doMultiFetch(requests);
+          doMultiFetch(requestsBuilder.build());
         } finally {
           requestsBuilder.build().forEach(ClaimedFetchRequest::close);
         }
@@ -434,22 +491,42 @@ public abstract class AbstractAsynchronousCache implements ArtifactCache {
   @Nullable
   private ClaimedFetchRequest getFetchRequest() {
     FetchRequest request = pendingFetchRequests.poll();
+    // Requests cancelled by their callers before being sent (e.g. speculative fetches that turned
+    // out not to be needed) are dropped.
+    while (request != null && request.future.isCancelled()) {
+      request = pendingFetchRequests.poll();
+    }
     if (request == null) {
       return null;
     }
     return new ClaimedFetchRequest(request);
   }
 
+  /** Claims the next batch of pending check requests, sized by {@link #checkBatchSizer}. */
   private ImmutableList<ClaimedFetchRequest> getCheckRequests() {
-    int numberOfCheckRequests = pendingCheckRequests.size();
-    ArrayList<FetchRequest> pendingCheckRequestsRequests = new ArrayList<>(numberOfCheckRequests);
-    ArrayList<ClaimedFetchRequest> claimedCheckRequest = new ArrayList<>(numberOfCheckRequests);
-    pendingCheckRequests.drainTo(pendingCheckRequestsRequests);
+    return claimCheckRequests(
+        checkBatchSizer.getBatchSize(Math.max(1, pendingCheckRequests.size())));
+  }
+
+  /**
+   * Claims all pending check requests, e.g. to skip or cancel them, without counting them as a
+   * batch.
+   */
+  private ImmutableList<ClaimedFetchRequest> getAllCheckRequests() {
+    return claimCheckRequests(Integer.MAX_VALUE);
+  }
+
+  private ImmutableList<ClaimedFetchRequest> claimCheckRequests(int maxRequests) {
+    ArrayList<FetchRequest> pendingCheckRequestsRequests = new ArrayList<>();
+    pendingCheckRequests.drainTo(pendingCheckRequestsRequests, maxRequests);
+    ImmutableList.Builder<ClaimedFetchRequest> claimedCheckRequests =
+        ImmutableList.builderWithExpectedSize(pendingCheckRequestsRequests.size());
     for (FetchRequest pendingCheckRequestsRequest : pendingCheckRequestsRequests) {
-      claimedCheckRequest.add(new ClaimedFetchRequest(pendingCheckRequestsRequest));
+      if (!pendingCheckRequestsRequest.future.isCancelled()) {
+        claimedCheckRequests.add(new ClaimedFetchRequest(pendingCheckRequestsRequest));
+      }
     }
-
-    return ImmutableList.copyOf(claimedCheckRequest);
+    return claimedCheckRequests.build();
   }
 
   @SuppressWarnings("CheckReturnValue")
@@ -658,7 +735,7 @@ public abstract class AbstractAsynchronousCache implements ArtifactCache {
 
     void fetchScheduled(RuleKey ruleKey);
 
-    FetchRequestEvents fetchStarted(BuildTarget target, RuleKey ruleKey);
+    FetchRequestEvents fetchStarted(BuildTarget target, RuleKey ruleKey, long queueWaitMillis);
 
     interface FetchRequestEvents {
       void finished(FetchResult result);
@@ -667,7 +744,7 @@ public abstract class AbstractAsynchronousCache implements ArtifactCache {
     }
 
     MultiFetchRequestEvents multiFetchStarted(
-        ImmutableList<BuildTarget> targets, ImmutableList<RuleKey> keys);
+        ImmutableList<BuildTarget> targets, ImmutableList<RuleKey> keys, long queueWaitMillis);
 
     interface MultiFetchRequestEvents extends Scope {
       void skipped(int keyIndex);
@@ -693,6 +770,7 @@ public abstract class AbstractAsynchronousCache implements ArtifactCache {
     private final RuleKey ruleKey;
     private final LazyPath output;
     private final SettableFuture<CacheResult> future;
+    private final long requestedNanos = System.nanoTime();
 
     @VisibleForTesting
     protected FetchRequest(
@@ -718,6 +796,10 @@ public abstract class AbstractAsynchronousCache implements ArtifactCache {
     public LazyPath getOutput() {
       return output;
     }
+
+    private long getQueueWaitMillis() {
+      return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - requestedNanos);
+    }
   }
 
   /** Return type used by the implementations of this abstract class. */
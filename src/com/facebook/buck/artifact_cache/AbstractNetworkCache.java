@@ -108,11 +108,14 @@ public abstract class AbstractNetworkCache extends AbstractAsynchronousCache {
     }
 
     @Override
-    public FetchRequestEvents fetchStarted(@Nullable BuildTarget target, RuleKey ruleKey) {
+    public FetchRequestEvents fetchStarted(
+        @Nullable BuildTarget target, RuleKey ruleKey, long queueWaitMillis) {
       HttpArtifactCacheEvent.Started startedEvent =
           HttpArtifactCacheEvent.newFetchStartedEvent(target, ruleKey);
       HttpArtifactCacheEvent.Finished.Builder eventBuilder =
-          HttpArtifactCacheEvent.newFinishedEventBuilder(startedEvent);
+          HttpArtifactCacheEvent.newFinishedEventBuilder(startedEvent)
+              .setBatchSize(1)
+              .setQueueWaitMillis(queueWaitMillis);
       eventBuilder.getFetchBuilder().setRequestedRuleKey(ruleKey);
       dispatcher.post(startedEvent);
       return new FetchRequestEvents() {
@@ -142,13 +145,17 @@ public abstract class AbstractNetworkCache extends AbstractAsynchronousCache {
 
     @Override
     public MultiFetchRequestEvents multiFetchStarted(
-        ImmutableList<BuildTarget> targets, ImmutableList<RuleKey> ruleKeys) {
+        ImmutableList<BuildTarget> targets,
+        ImmutableList<RuleKey> ruleKeys,
+        long queueWaitMillis) {
       Joiner ruleKeysStr = Joiner.on(", ");
       LOG.debug("multiFetchStarted for <%s>.", ruleKeysStr.join(ruleKeys));
       HttpArtifactCacheEvent.MultiFetchStarted startedEvent =
           HttpArtifactCacheEvent.newMultiFetchStartedEvent(targets, ruleKeys);
       HttpArtifactCacheEvent.Finished.Builder eventBuilder =
-          HttpArtifactCacheEvent.newFinishedEventBuilder(startedEvent);
+          HttpArtifactCacheEvent.newFinishedEventBuilder(startedEvent)
+              .setBatchSize(ruleKeys.size())
+              .setQueueWaitMillis(queueWaitMillis);
       dispatcher.post(startedEvent);
       return new MultiFetchRequestEvents() {
         long artifactSizeBytes = 0L;
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+
+/**
+ * Sizes the batches of keys sent in a single request to a cache from how long previous requests
+ * took, so that the keys of a batch take about {@code targetBatchMillis} on top of the request's
+ * round trip: batches grow while requests are dominated by their round trip, and shrink once they
+ * are dominated by the payload.
+ *
+ * <p>The time of a request is modelled as a fixed round trip plus a cost per key, which are told
+ * apart by fitting a line to the times of recent requests with different numbers of keys. Batches
+ * are sized from the cost per key alone, so a slow round trip makes batches larger rather than
+ * smaller. When recent batches were all about the same size, every few batches is made larger to
+ * keep the fit possible.
+ *
+ * <p>Also remembers the size of the artifacts fetched for each build target, which is usually
+ * about the same from one build to the next, so that large artifacts can be fetched on their own
+ * instead of holding up the rest of a batch.
+ */
+class AdaptiveBatchSizer {
+  // Weight of the latest request in the averages.
+  private static final double SMOOTHING = 0.2;
+  // Sizes of recent batches must vary at least this much (as a variance) to fit the cost per key.
+  private static final double MIN_KEYS_VARIANCE = 0.01;
+  // One in this many batches is doubled in size, so that batch sizes keep varying.
+  private static final int PROBE_INTERVAL = 8;
+
+  // Shared by all caches, so that the sizes are remembered across builds in the daemon.
+  private static final Cache<BuildTarget, Long> ARTIFACT_SIZES =
+      CacheBuilder.newBuilder().maximumSize(100_000).build();
+
+  private final long targetBatchNanos;
+
+  private final Object lock = new Object();
+  // Exponentially weighted sums over the requests so far, for the least squares fit of the time of
+  // a request against its number of keys.
+  private double weights;
+  private double sumKeys;
+  private double sumNanos;
+  private double sumKeysSquared;
+  private double sumKeysNanos;
+  // The fitted cost per key, or -1 until it could be fitted.
+  private double nanosPerKey = -1;
+  private int batches;
+  // Average over the artifacts so far, or -1 before the first one.
+  private double bytesPerArtifact = -1;
+
+  AdaptiveBatchSizer(long targetBatchMillis) {
+    this.targetBatchNanos = TimeUnit.MILLISECONDS.toNanos(targetBatchMillis);
+  }
+
+  /** Returns how many keys to send in the next request, at most {@code limit}. */
+  int getBatchSize(int limit) {
+    double nanosPerKey;
+    boolean probe;
+    synchronized (lock) {
+      nanosPerKey = this.nanosPerKey;
+      probe = ++batches % PROBE_INTERVAL == 0;
+    }
+    if (nanosPerKey <= 0 || limit <= 1) {
+      return limit;
+    }
+    int size = (int) Math.max(1, Math.min(limit, targetBatchNanos / nanosPerKey));
+    return probe ? Math.min(limit, size * 2) : size;
+  }
+
+  /** Records that a request for {@code keys} keys took {@code nanos}. */
+  void recordBatch(int keys, long nanos) {
+    if (keys <= 0) {
+      return;
+    }
+    synchronized (lock) {
+      double decay = 1 - SMOOTHING;
+      weights = weights * decay + 1;
+      sumKeys = sumKeys * decay + keys;
+      sumNanos = sumNanos * decay + nanos;
+      sumKeysSquared = sumKeysSquared * decay + (double) keys * keys;
+      sumKeysNanos = sumKeysNanos * decay + (double) keys * nanos;
+
+      double meanKeys = sumKeys / weights;
+      double keysVariance = sumKeysSquared / weights - meanKeys * meanKeys;
+      if (keysVariance >= MIN_KEYS_VARIANCE) {
+        double covariance = sumKeysNanos / weights - meanKeys * (sumNanos / weights);
+        // Noise can make the slope negative when the cost per key is negligible.
+        nanosPerKey = Math.max(0, covariance / keysVariance);
+      }
+    }
+  }
+
+  /** Records the size of an artifact fetched for {@code target}. */
+  void recordArtifact(@Nullable BuildTarget target, long sizeBytes) {
+    if (target != null) {
+      ARTIFACT_SIZES.put(target, sizeBytes);
+    }
+    synchronized (lock) {
+      bytesPerArtifact = average(bytesPerArtifact, sizeBytes);
+    }
+  }
+
+  /**
+   * Returns the expected size of the artifact of {@code target}: its size the last time it was
+   * fetched if known, or the average size of the artifacts fetched so far.
+   */
+  long estimateArtifactBytes(@Nullable BuildTarget target) {
+    Long size = target == null ? null : ARTIFACT_SIZES.getIfPresent(target);
+    if (size != null) {
+      return size;
+    }
+    synchronized (lock) {
+      return (long) Math.max(0, bytesPerArtifact);
+    }
+  }
+
+  private static double average(double average, double value) {
+    return average < 0 ? value : average + SMOOTHING * (value - average);
+  }
+}
@@ -97,6 +97,7 @@ public class ArtifactCaches implements ArtifactCacheFactory, AutoCloseable {
   private final String producerId;
   private final String producerHostname;
   private final Optional<ClientCertificateHandler> clientCertificateHandler;
+  private final DaemonicArtifactCacheState daemonicState;
 
   /** {@link TaskAction} implementation for {@link ArtifactCaches}. */
   static class ArtifactCachesCloseAction implements TaskAction<List<ArtifactCache>> {
@@ -143,6 +144,7 @@ public class ArtifactCaches implements ArtifactCacheFactory, AutoCloseable {
    * @param producerId free-form identifier of a user or machine uploading artifacts, can be used on
    *     cache server side for monitoring
    * @param clientCertificateHandler container for client certificate information
+   * @param daemonicState cache state shared by the commands run in the same daemon
    */
   public ArtifactCaches(
       ArtifactCacheBuckConfig buckConfig,
@@ -157,7 +159,8 @@ public class ArtifactCaches implements ArtifactCacheFactory, AutoCloseable {
       TaskManagerCommandScope managerScope,
       String producerId,
       String producerHostname,
-      Optional<ClientCertificateHandler> clientCertificateHandler) {
+      Optional<ClientCertificateHandler> clientCertificateHandler,
+      DaemonicArtifactCacheState daemonicState) {
     this.buckConfig = buckConfig;
     this.buckEventBus = buckEventBus;
     this.unconfiguredBuildTargetFactory = unconfiguredBuildTargetFactory;
@@ -171,6 +174,7 @@ public class ArtifactCaches implements ArtifactCacheFactory, AutoCloseable {
     this.producerId = producerId;
     this.producerHostname = producerHostname;
     this.clientCertificateHandler = clientCertificateHandler;
+    this.daemonicState = daemonicState;
   }
 
   private static Request.Builder addHeadersToBuilder(
@@ -220,7 +224,8 @@ public class ArtifactCaches implements ArtifactCacheFactory, AutoCloseable {
             cacheTypeBlacklist,
             producerId,
             producerHostname,
-            clientCertificateHandler);
+            clientCertificateHandler,
+            daemonicState);
 
     artifactCaches.add(artifactCache);
 
@@ -243,7 +248,8 @@ public class ArtifactCaches implements ArtifactCacheFactory, AutoCloseable {
         managerScope,
         producerId,
         producerHostname,
-        clientCertificateHandler);
+        clientCertificateHandler,
+        daemonicState);
   }
 
   /**
@@ -284,13 +290,22 @@ public class ArtifactCaches implements ArtifactCacheFactory, AutoCloseable {
       ImmutableSet<CacheType> cacheTypeBlacklist,
       String producerId,
       String producerHostname,
-      Optional<ClientCertificateHandler> clientCertificateHandler) {
+      Optional<ClientCertificateHandler> clientCertificateHandler,
+      DaemonicArtifactCacheState daemonicState) {
     ImmutableSet<ArtifactCacheMode> modes = buckConfig.getArtifactCacheModes();
     if (modes.isEmpty()) {
       return new NoopArtifactCache();
     }
     ArtifactCacheEntries cacheEntries = buckConfig.getCacheEntries();
     ImmutableList.Builder<ArtifactCache> builder = ImmutableList.builder();
+    ImmutableMap.Builder<ArtifactCache, RemoteRuleKeyFilter> ruleKeyFilters =
+        ImmutableMap.builder();
+    if (modes.contains(ArtifactCacheMode.memory)
+        && !cacheTypeBlacklist.contains(ArtifactCacheMode.memory.getCacheType())) {
+      // The memory cache goes in front of the others, wherever it is listed, and is shared by all
+      // the commands run in the daemon.
+      builder.add(daemonicState.getMemoryCache(buckConfig));
+    }
     for (ArtifactCacheMode mode : modes) {
       if (cacheTypeBlacklist.contains(mode.getCacheType())) {
         continue;
@@ -298,6 +313,7 @@ public class ArtifactCaches implements ArtifactCacheFactory, AutoCloseable {
 
       switch (mode) {
         case unknown:
+        case memory:
           break;
         case dir:
           initializeDirCaches(
@@ -321,6 +337,8 @@ public class ArtifactCaches implements ArtifactCacheFactory, AutoCloseable {
               httpWriteExecutorService,
               httpFetchExecutorService,
               builder,
+              ruleKeyFilters,
+              daemonicState,
               HttpArtifactCache::new,
               mode,
               clientCertificateHandler);
@@ -350,6 +368,8 @@ public class ArtifactCaches implements ArtifactCacheFactory, AutoCloseable {
               httpWriteExecutorService,
               httpFetchExecutorService,
               builder,
+              ruleKeyFilters,
+              daemonicState,
               (args) ->
                   new ThriftArtifactCache(
                       args,
@@ -366,13 +386,14 @@ public class ArtifactCaches implements ArtifactCacheFactory, AutoCloseable {
       }
     }
     ImmutableList<ArtifactCache> artifactCaches = builder.build();
+    ImmutableMap<ArtifactCache, RemoteRuleKeyFilter> filters = ruleKeyFilters.build();
     ArtifactCache result;
 
-    if (artifactCaches.size() == 1) {
+    if (artifactCaches.size() == 1 && filters.isEmpty()) {
       // Don't bother wrapping a single artifact cache
       result = artifactCaches.get(0);
     } else {
-      result = new MultiArtifactCache(artifactCaches);
+      result = new MultiArtifactCache(artifactCaches, filters);
     }
 
     // Always support reading two-level cache stores (in case we performed any in the past).
@@ -419,6 +440,8 @@ public class ArtifactCaches implements ArtifactCacheFactory, AutoCloseable {
       ListeningExecutorService httpWriteExecutorService,
       ListeningExecutorService httpFetchExecutorService,
       ImmutableList.Builder<ArtifactCache> builder,
+      ImmutableMap.Builder<ArtifactCache, RemoteRuleKeyFilter> ruleKeyFilters,
+      DaemonicArtifactCacheState daemonicState,
       NetworkCacheFactory factory,
       ArtifactCacheMode cacheMode,
       Optional<ClientCertificateHandler> clientCertificateHandler) {
@@ -444,6 +467,8 @@ public class ArtifactCaches implements ArtifactCacheFactory, AutoCloseable {
               httpWriteExecutorService,
               httpFetchExecutorService,
               buckConfig,
+              ruleKeyFilters,
+              daemonicState,
               factory,
               cacheMode,
               clientCertificateHandler));
@@ -514,11 +539,13 @@ public class ArtifactCaches implements ArtifactCacheFactory, AutoCloseable {
       ListeningExecutorService httpWriteExecutorService,
       ListeningExecutorService httpFetchExecutorService,
       ArtifactCacheBuckConfig config,
+      ImmutableMap.Builder<ArtifactCache, RemoteRuleKeyFilter> ruleKeyFilters,
+      DaemonicArtifactCacheState daemonicState,
       NetworkCacheFactory factory,
       ArtifactCacheMode cacheMode,
       Optional<ClientCertificateHandler> clientCertificateHandler) {
-    ArtifactCache cache =
-        createHttpArtifactCache(
+    NetworkCacheArgs args =
+        createNetworkCacheArgs(
             cacheDescription,
             hostToReportToRemote,
             buckEventBus,
@@ -528,13 +555,29 @@ public class ArtifactCaches implements ArtifactCacheFactory, AutoCloseable {
             httpWriteExecutorService,
             httpFetchExecutorService,
             config,
-            factory,
             cacheMode,
             clientCertificateHandler);
-    return new RetryingCacheDecorator(cacheMode, cache, config.getMaxFetchRetries(), buckEventBus);
+    ArtifactCache cache =
+        new RetryingCacheDecorator(
+            cacheMode, factory.newInstance(args), config.getMaxFetchRetries(), buckEventBus);
+    config
+        .getRuleKeyFilterEndpoint()
+        .ifPresent(
+            endpoint -> {
+              // The filter is kept by the daemon, and refreshed through this command's client.
+              RemoteRuleKeyFilter ruleKeyFilter =
+                  daemonicState.getRuleKeyFilter(
+                      cacheDescription.getUrl() + endpoint,
+                      endpoint,
+                      cacheMode,
+                      config.getRuleKeyFilterRefreshSeconds());
+              ruleKeyFilter.attach(args.getFetchClient(), buckEventBus);
+              ruleKeyFilters.put(cache, ruleKeyFilter);
+            });
+    return cache;
   }
 
-  private static ArtifactCache createHttpArtifactCache(
+  private static NetworkCacheArgs createNetworkCacheArgs(
       HttpCacheEntry cacheDescription,
       String hostToReportToRemote,
       BuckEventBus buckEventBus,
@@ -544,7 +587,6 @@ public class ArtifactCaches implements ArtifactCacheFactory, AutoCloseable {
       ListeningExecutorService httpWriteExecutorService,
       ListeningExecutorService httpFetchExecutorService,
       ArtifactCacheBuckConfig config,
-      NetworkCacheFactory factory,
       ArtifactCacheMode cacheMode,
       Optional<ClientCertificateHandler> clientCertificateHandler) {
 
@@ -673,25 +715,24 @@ public class ArtifactCaches implements ArtifactCacheFactory, AutoCloseable {
             "Unknown HttpLoadBalancer type: " + config.getLoadBalancingType());
     }
 
-    return factory.newInstance(
-        ImmutableNetworkCacheArgs.builder()
-            .setCacheName(cacheMode.name())
-            .setCacheMode(cacheMode)
-            .setRepository(config.getRepository())
-            .setScheduleType(config.getScheduleType())
-            .setFetchClient(fetchService)
-            .setStoreClient(storeService)
-            .setCacheReadMode(cacheDescription.getCacheReadMode())
-            .setUnconfiguredBuildTargetFactory(unconfiguredBuildTargetFactory)
-            .setTargetConfigurationSerializer(targetConfigurationSerializer)
-            .setProjectFilesystem(projectFilesystem)
-            .setBuckEventBus(buckEventBus)
-            .setHttpWriteExecutorService(httpWriteExecutorService)
-            .setHttpFetchExecutorService(httpFetchExecutorService)
-            .setErrorTextTemplate(cacheDescription.getErrorMessageFormat())
-            .setErrorTextLimit(cacheDescription.getErrorMessageLimit())
-            .setMaxStoreSizeBytes(cacheDescription.getMaxStoreSize())
-            .build());
+    return ImmutableNetworkCacheArgs.builder()
+        .setCacheName(cacheMode.name())
+        .setCacheMode(cacheMode)
+        .setRepository(config.getRepository())
+        .setScheduleType(config.getScheduleType())
+        .setFetchClient(fetchService)
+        .setStoreClient(storeService)
+        .setCacheReadMode(cacheDescription.getCacheReadMode())
+        .setUnconfiguredBuildTargetFactory(unconfiguredBuildTargetFactory)
+        .setTargetConfigurationSerializer(targetConfigurationSerializer)
+        .setProjectFilesystem(projectFilesystem)
+        .setBuckEventBus(buckEventBus)
+        .setHttpWriteExecutorService(httpWriteExecutorService)
+        .setHttpFetchExecutorService(httpFetchExecutorService)
+        .setErrorTextTemplate(cacheDescription.getErrorMessageFormat())
+        .setErrorTextLimit(cacheDescription.getErrorMessageLimit())
+        .setMaxStoreSizeBytes(cacheDescription.getMaxStoreSize())
+        .build();
   }
 
   private static ArtifactCache createSQLiteArtifactCache(
@@ -32,6 +32,7 @@ import com.facebook.buck.util.ErrorLogger;
 import com.facebook.buck.util.NamedTemporaryFile;
 import com.facebook.buck.util.ObjectFileCommonModificationDate;
 import com.facebook.buck.util.types.Unit;
+import com.github.luben.zstd.ZstdOutputStream;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Joiner;
 import com.google.common.base.Throwables;
@@ -42,17 +43,22 @@ import com.google.common.io.ByteStreams;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.SortedSet;
+import javax.annotation.Nullable;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
-import org.apache.commons.compress.compressors.zstandard.ZstdCompressorOutputStream;
 
 /**
  * ArtifactUploader contains the logic of how to take a list of artifact paths and metadata and
@@ -61,7 +67,21 @@ import org.apache.commons.compress.compressors.zstandard.ZstdCompressorOutputStr
 public class ArtifactUploader {
   private static final Logger LOG = Logger.get(ArtifactUploader.class);
 
-  /** As method name says */
+  /**
+   * Artifacts whose contents add up to at least this many bytes are compressed by several zstd
+   * worker threads, so that large outputs don't hold up the end of the build.
+   */
+  private static final long MULTITHREADED_COMPRESSION_THRESHOLD_BYTES = 64 * 1024 * 1024;
+
+  private static final int MAX_COMPRESSION_WORKERS = 4;
+
+  /**
+   * As method name says
+   *
+   * @param contentAddressedFileThreshold if present, files of at least this many bytes are stored
+   *     as {@link ContentAddressedFiles} rather than in the archive.
+   * @param zstdDictionaries the dictionaries to compress the archive with, by rule type.
+   */
   public static ListenableFuture<Unit> performUploadToArtifactCache(
       ImmutableSet<RuleKey> ruleKeys,
       ArtifactCache artifactCache,
@@ -69,29 +89,63 @@ public class ArtifactUploader {
       ImmutableMap<String, String> buildMetadata,
       SortedSet<Path> pathsToIncludeInArchive,
       BuildRule buildRule,
-      long buildTimeMs) {
+      long buildTimeMs,
+      Optional<Long> contentAddressedFileThreshold,
+      ZstdDictionaries zstdDictionaries) {
     ProjectFilesystem projectFilesystem = buildRule.getProjectFilesystem();
+    Optional<String> dictionaryId =
+        zstdDictionaries
+            .getIdForRuleType(buildRule.getType())
+            .filter(id -> zstdDictionaries.getLocally(id).isPresent());
+    ContentAddressedFiles contentAddressedFiles;
+    ImmutableMap<String, String> metadata;
     NamedTemporaryFile archive;
     try {
+      contentAddressedFiles =
+          contentAddressedFileThreshold.isPresent()
+              ? collectContentAddressedFiles(
+                  buildRule, pathsToIncludeInArchive, contentAddressedFileThreshold.get())
+              : ContentAddressedFiles.none();
+      metadata =
+          getMetadata(
+              buildMetadata, contentAddressedFiles, zstdDictionaries, buildRule, dictionaryId);
       archive =
           getTemporaryArtifactArchive(
-              buildRule, projectFilesystem, ruleKeys, eventBus, pathsToIncludeInArchive);
-    } catch (BuckUncheckedExecutionException e) {
+              buildRule,
+              projectFilesystem,
+              ruleKeys,
+              eventBus,
+              contentAddressedFiles.getPathsToArchive(pathsToIncludeInArchive),
+              dictionaryId,
+              dictionaryId.flatMap(zstdDictionaries::getLocally).orElse(null));
+    } catch (BuckUncheckedExecutionException | IOException e) {
       LOG.error(e.getMessage());
       LOG.debug(e.toString() + "\n" + Throwables.getStackTraceAsString(e));
       return Futures.immediateFuture(null);
     }
 
-    // Store the artifact, including any additional metadata.
+    // Store the artifact, including any additional metadata. Content addressed files and the
+    // dictionary go first, so that other builders never find an artifact they can't extract yet.
+    ListenableFuture<List<Unit>> dependenciesFuture =
+        Futures.allAsList(
+            storeContentAddressedFiles(artifactCache, contentAddressedFiles, buildRule, buildTimeMs),
+            dictionaryId.isPresent()
+                ? zstdDictionaries.store(
+                    artifactCache, buildRule.getBuildTarget(), dictionaryId.get(), buildTimeMs)
+                : Futures.immediateFuture(Unit.UNIT));
     ListenableFuture<Unit> storeFuture =
-        artifactCache.store(
-            ArtifactInfo.builder()
-                .setRuleKeys(ruleKeys)
-                .setMetadata(buildMetadata)
-                .setBuildTarget(buildRule.getBuildTarget())
-                .setBuildTimeMs(buildTimeMs)
-                .build(),
-            BorrowablePath.borrowablePath(archive.get()));
+        Futures.transformAsync(
+            dependenciesFuture,
+            ignored ->
+                artifactCache.store(
+                    ArtifactInfo.builder()
+                        .setRuleKeys(ruleKeys)
+                        .setMetadata(metadata)
+                        .setBuildTarget(buildRule.getBuildTarget())
+                        .setBuildTimeMs(buildTimeMs)
+                        .build(),
+                    BorrowablePath.borrowablePath(archive.get())),
+            MoreExecutors.directExecutor());
     Futures.addCallback(
         storeFuture,
         new FutureCallback<Unit>() {
@@ -159,12 +213,102 @@ public class ArtifactUploader {
     return storeFuture;
   }
 
+  private static ImmutableMap<String, String> getMetadata(
+      ImmutableMap<String, String> buildMetadata,
+      ContentAddressedFiles contentAddressedFiles,
+      ZstdDictionaries zstdDictionaries,
+      BuildRule buildRule,
+      Optional<String> dictionaryId)
+      throws IOException {
+    ImmutableMap<String, String> metadata =
+        contentAddressedFiles.isEmpty()
+            ? buildMetadata
+            : contentAddressedFiles.addToMetadata(buildMetadata);
+    if (!zstdDictionaries.isEnabled()) {
+      return metadata;
+    }
+    // The rule type is recorded so that dictionaries can be trained on artifacts of each type.
+    ImmutableMap.Builder<String, String> builder =
+        ImmutableMap.<String, String>builder()
+            .putAll(metadata)
+            .put(ZstdDictionaries.RULE_TYPE_METADATA_KEY, buildRule.getType());
+    dictionaryId.ifPresent(id -> builder.put(ZstdDictionaries.METADATA_KEY, id));
+    return builder.build();
+  }
+
+  private static ContentAddressedFiles collectContentAddressedFiles(
+      BuildRule buildRule, SortedSet<Path> pathsToIncludeInArchive, long threshold) {
+    try {
+      return ContentAddressedFiles.collect(
+          buildRule.getProjectFilesystem(), pathsToIncludeInArchive, threshold);
+    } catch (IOException e) {
+      throw new BuckUncheckedExecutionException(
+          e, "When hashing content addressed files of %s.", buildRule.getBuildTarget());
+    }
+  }
+
+  /** Stores the content addressed files which the cache doesn't have yet. */
+  private static ListenableFuture<Unit> storeContentAddressedFiles(
+      ArtifactCache artifactCache,
+      ContentAddressedFiles contentAddressedFiles,
+      BuildRule buildRule,
+      long buildTimeMs) {
+    if (contentAddressedFiles.isEmpty()) {
+      return Futures.immediateFuture(null);
+    }
+    ImmutableMap<RuleKey, Path> pathsByKey =
+        contentAddressedFiles.getHashes().entrySet().stream()
+            .collect(
+                ImmutableMap.toImmutableMap(
+                    entry -> ContentAddressedFiles.getContentKey(entry.getValue()),
+                    Map.Entry::getKey,
+                    (first, second) -> first));
+
+    // Contains is best-effort, so anything we can't tell is in the cache is stored again.
+    ListenableFuture<ImmutableMap<RuleKey, CacheResult>> containsFuture;
+    try {
+      containsFuture =
+          Futures.catching(
+              artifactCache.multiContainsAsync(pathsByKey.keySet()),
+              Exception.class,
+              e -> ImmutableMap.of(),
+              MoreExecutors.directExecutor());
+    } catch (UnsupportedOperationException e) {
+      containsFuture = Futures.immediateFuture(ImmutableMap.of());
+    }
+    return Futures.transformAsync(
+        containsFuture,
+        containsResults -> {
+          List<ListenableFuture<Unit>> stores = new ArrayList<>();
+          for (Map.Entry<RuleKey, Path> entry : pathsByKey.entrySet()) {
+            CacheResult result = containsResults.get(entry.getKey());
+            if (result != null && result.getType() == CacheResultType.CONTAINS) {
+              continue;
+            }
+            stores.add(
+                artifactCache.store(
+                    ArtifactInfo.builder()
+                        .addRuleKeys(entry.getKey())
+                        .setBuildTarget(buildRule.getBuildTarget())
+                        .setBuildTimeMs(buildTimeMs)
+                        .build(),
+                    BorrowablePath.notBorrowablePath(
+                        buildRule.getProjectFilesystem().resolve(entry.getValue()))));
+          }
+          return Futures.transform(
+              Futures.allAsList(stores), ignored -> Unit.UNIT, MoreExecutors.directExecutor());
+        },
+        MoreExecutors.directExecutor());
+  }
+
   private static NamedTemporaryFile getTemporaryArtifactArchive(
       BuildRule buildRule,
       ProjectFilesystem projectFilesystem,
       ImmutableSet<RuleKey> ruleKeys,
       BuckEventBus eventBus,
-      SortedSet<Path> pathsToIncludeInArchive) {
+      SortedSet<Path> pathsToIncludeInArchive,
+      Optional<String> dictionaryId,
+      @Nullable byte[] dictionary) {
     ArtifactCompressionEvent.Started started =
         ArtifactCompressionEvent.started(
             ArtifactCompressionEvent.Operation.COMPRESS, ruleKeys, buildRule);
@@ -176,7 +320,8 @@ public class ArtifactUploader {
         new CloseableHolder<>(
             new NamedTemporaryFile(
                 "buck_artifact_" + MostFiles.sanitize(buildTarget.getShortName()), ".tar.zst"))) {
-      fullSize = compress(projectFilesystem, pathsToIncludeInArchive, archive.get().get());
+      fullSize =
+          compress(projectFilesystem, pathsToIncludeInArchive, archive.get().get(), dictionary);
       compressedSize = Files.size(archive.get().get());
       return archive.release();
     } catch (IOException e) {
@@ -187,7 +332,8 @@ public class ArtifactUploader {
           Joiner.on('\n').join(ImmutableSortedSet.copyOf(pathsToIncludeInArchive)));
     } finally {
       eventBus.post(
-          ArtifactCompressionEvent.finished(started, fullSize, compressedSize, buildRule));
+          ArtifactCompressionEvent.finished(
+              started, fullSize, compressedSize, buildRule, dictionaryId));
     }
   }
 
@@ -196,13 +342,77 @@ public class ArtifactUploader {
   static long compress(
       ProjectFilesystem projectFilesystem, Collection<Path> pathsToIncludeInArchive, Path out)
       throws IOException {
+    return compress(projectFilesystem, pathsToIncludeInArchive, out, null);
+  }
+
+  /**
+   * Archive and compress 'pathsToIncludeInArchive' into 'out', using tar+zstandard with the given
+   * dictionary, if any.
+   */
+  @VisibleForTesting
+  static long compress(
+      ProjectFilesystem projectFilesystem,
+      Collection<Path> pathsToIncludeInArchive,
+      Path out,
+      @Nullable byte[] dictionary)
+      throws IOException {
+    long[] fileSizes = new long[pathsToIncludeInArchive.size()];
     long fullSize = 0L;
+    int i = 0;
+    for (Path path : pathsToIncludeInArchive) {
+      fileSizes[i] = projectFilesystem.isDirectory(path) ? -1 : projectFilesystem.getFileSize(path);
+      fullSize += Math.max(fileSizes[i], 0);
+      i++;
+    }
+    compress(
+        projectFilesystem,
+        pathsToIncludeInArchive,
+        fileSizes,
+        out,
+        getCompressionWorkers(fullSize, Runtime.getRuntime().availableProcessors()),
+        dictionary);
+    return fullSize;
+  }
+
+  /**
+   * @return the number of zstd worker threads to compress an artifact of {@code fullSize} bytes
+   *     with, where 0 compresses on the calling thread.
+   */
+  @VisibleForTesting
+  static int getCompressionWorkers(long fullSize, int availableProcessors) {
+    if (fullSize < MULTITHREADED_COMPRESSION_THRESHOLD_BYTES || availableProcessors < 2) {
+      return 0;
+    }
+    return Math.min(MAX_COMPRESSION_WORKERS, availableProcessors / 2);
+  }
+
+  /**
+   * Archive and compress 'pathsToIncludeInArchive' into 'out', where 'fileSizes' holds the size of
+   * each path, or -1 for directories.
+   */
+  @VisibleForTesting
+  static void compress(
+      ProjectFilesystem projectFilesystem,
+      Collection<Path> pathsToIncludeInArchive,
+      long[] fileSizes,
+      Path out,
+      int compressionWorkers,
+      @Nullable byte[] dictionary)
+      throws IOException {
     try (OutputStream o = new BufferedOutputStream(Files.newOutputStream(out));
-        OutputStream z = new ZstdCompressorOutputStream(o);
+        ZstdOutputStream z = new ZstdOutputStream(o);
         TarArchiveOutputStream archive = new TarArchiveOutputStream(z)) {
+      if (compressionWorkers > 0) {
+        z.setWorkers(compressionWorkers);
+      }
+      if (dictionary != null) {
+        z.setDict(dictionary);
+      }
       archive.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+      int i = 0;
       for (Path path : pathsToIncludeInArchive) {
-        boolean isRegularFile = !projectFilesystem.isDirectory(path);
+        long fileSize = fileSizes[i++];
+        boolean isRegularFile = fileSize >= 0;
 
         // Add a file entry.
         TarArchiveEntry e = new TarArchiveEntry(path.toString() + (isRegularFile ? "" : "/"));
@@ -212,9 +422,7 @@ public class ArtifactUploader {
         e.setModTime((long) ObjectFileCommonModificationDate.COMMON_MODIFICATION_TIME_STAMP * 1000);
 
         if (isRegularFile) {
-          long pathSize = projectFilesystem.getFileSize(path);
-          e.setSize(pathSize);
-          fullSize += pathSize;
+          e.setSize(fileSize);
           archive.putArchiveEntry(e);
           try (InputStream input = projectFilesystem.newFileInputStream(path)) {
             ByteStreams.copy(input, archive);
@@ -226,7 +434,5 @@ public class ArtifactUploader {
       }
       archive.finish();
     }
-
-    return fullSize;
   }
 }
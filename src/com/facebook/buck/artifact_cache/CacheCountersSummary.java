@@ -67,6 +67,18 @@ public abstract class CacheCountersSummary {
   @JsonView(JsonViews.MachineReadableLog.class)
   public abstract AtomicInteger getFailureUploadCount();
 
+  /** Lookups of remote caches skipped because their rule key filter didn't contain the key. */
+  @JsonView(JsonViews.MachineReadableLog.class)
+  public abstract int getTotalRuleKeyFilterSkips();
+
+  /** Lookups of remote caches that missed although their rule key filter contained the key. */
+  @JsonView(JsonViews.MachineReadableLog.class)
+  public abstract int getTotalRuleKeyFilterFalsePositives();
+
+  /** Share of the lookups of keys absent from remote caches that their filters didn't skip. */
+  @JsonView(JsonViews.MachineReadableLog.class)
+  public abstract double getRuleKeyFilterFalsePositiveRate();
+
   public static CacheCountersSummary of(
       Map<ArtifactCacheMode, ? extends AtomicInteger> cacheHitsPerMode,
       Map<ArtifactCacheMode, ? extends AtomicInteger> cacheErrorsPerMode,
@@ -78,7 +90,10 @@ public abstract class CacheCountersSummary {
       long totalCacheBytes,
       int totalCacheLocalKeyUnchangedHits,
       AtomicInteger successUploadCount,
-      AtomicInteger failureUploadCount) {
+      AtomicInteger failureUploadCount,
+      int totalRuleKeyFilterSkips,
+      int totalRuleKeyFilterFalsePositives) {
+    int ruleKeyFilterNegatives = totalRuleKeyFilterSkips + totalRuleKeyFilterFalsePositives;
     return ImmutableCacheCountersSummary.of(
         cacheHitsPerMode,
         cacheErrorsPerMode,
@@ -90,6 +105,11 @@ public abstract class CacheCountersSummary {
         totalCacheBytes,
         totalCacheLocalKeyUnchangedHits,
         successUploadCount,
-        failureUploadCount);
+        failureUploadCount,
+        totalRuleKeyFilterSkips,
+        totalRuleKeyFilterFalsePositives,
+        ruleKeyFilterNegatives == 0
+            ? 0
+            : (double) totalRuleKeyFilterFalsePositives / ruleKeyFilterNegatives);
   }
 }
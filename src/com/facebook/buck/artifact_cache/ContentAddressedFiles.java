@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.facebook.buck.io.file.MorePosixFilePermissions;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.util.json.ObjectMappers;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.hash.HashCode;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.SortedSet;
+
+/**
+ * Large files in the outputs of a rule which are stored in the cache on their own, keyed by the
+ * hash of their contents, rather than inside the artifact of the rule. A file that appears in the
+ * outputs of many rules is then only uploaded once, and isn't downloaded at all when an identical
+ * copy is already on disk.
+ *
+ * <p>The artifact of the rule lists these files in its metadata, along with the directories that
+ * contain them. The artifact leaves out the entries for those directories, since extracting a
+ * directory entry cleans out any files in it which aren't part of the artifact.
+ */
+public class ContentAddressedFiles {
+
+  /** Metadata key under which the artifact of a rule lists its content addressed files. */
+  public static final String METADATA_KEY = "CONTENT_ADDRESSED_FILES";
+
+  /**
+   * Appended to the hash of a file to get its key in the cache, so that it can't collide with the
+   * keys {@link TwoLevelArtifactCacheDecorator} stores whole artifacts under.
+   */
+  private static final String CONTENT_KEY_SUFFIX = "2c01";
+
+  private static final String FILES = "files";
+  private static final String EXECUTABLES = "executables";
+  private static final String DIRECTORIES = "directories";
+
+  private static final ContentAddressedFiles NONE =
+      new ContentAddressedFiles(
+          ImmutableSortedMap.of(), ImmutableSortedSet.of(), ImmutableSortedSet.of());
+
+  private final ImmutableSortedMap<Path, HashCode> hashes;
+  private final ImmutableSortedSet<Path> executables;
+  private final ImmutableSortedSet<Path> directories;
+
+  private ContentAddressedFiles(
+      ImmutableSortedMap<Path, HashCode> hashes,
+      ImmutableSortedSet<Path> executables,
+      ImmutableSortedSet<Path> directories) {
+    this.hashes = hashes;
+    this.executables = executables;
+    this.directories = directories;
+  }
+
+  public static ContentAddressedFiles none() {
+    return NONE;
+  }
+
+  /**
+   * Picks the files among the paths of an artifact which are at least {@code minimumFileSize}
+   * bytes, and hashes them.
+   */
+  public static ContentAddressedFiles collect(
+      ProjectFilesystem filesystem, SortedSet<Path> pathsInArtifact, long minimumFileSize)
+      throws IOException {
+    ImmutableSortedMap.Builder<Path, HashCode> hashes = ImmutableSortedMap.naturalOrder();
+    ImmutableSortedSet.Builder<Path> executables = ImmutableSortedSet.naturalOrder();
+    ImmutableSortedSet.Builder<Path> directories = ImmutableSortedSet.naturalOrder();
+    for (Path path : pathsInArtifact) {
+      if (filesystem.isDirectory(path) || filesystem.getFileSize(path) < minimumFileSize) {
+        continue;
+      }
+      hashes.put(path, filesystem.computeSha1(path).asHashCode());
+      if (MorePosixFilePermissions.fromMode(filesystem.getPosixFileMode(path))
+          .contains(PosixFilePermission.OWNER_EXECUTE)) {
+        executables.add(path);
+      }
+      for (Path parent = path.getParent(); parent != null; parent = parent.getParent()) {
+        if (pathsInArtifact.contains(parent)) {
+          directories.add(parent);
+        }
+      }
+    }
+    return new ContentAddressedFiles(hashes.build(), executables.build(), directories.build());
+  }
+
+  /** Reads the content addressed files listed in the metadata of an artifact, if any. */
+  public static ContentAddressedFiles fromMetadata(Map<String, String> metadata)
+      throws IOException {
+    String json = metadata.get(METADATA_KEY);
+    if (json == null) {
+      return NONE;
+    }
+    JsonNode root = ObjectMappers.readValue(json, JsonNode.class);
+    ImmutableSortedMap.Builder<Path, HashCode> hashes = ImmutableSortedMap.naturalOrder();
+    Iterator<Map.Entry<String, JsonNode>> files = root.get(FILES).fields();
+    while (files.hasNext()) {
+      Map.Entry<String, JsonNode> file = files.next();
+      hashes.put(Paths.get(file.getKey()), HashCode.fromString(file.getValue().asText()));
+    }
+    return new ContentAddressedFiles(
+        hashes.build(), readPaths(root.get(EXECUTABLES)), readPaths(root.get(DIRECTORIES)));
+  }
+
+  private static ImmutableSortedSet<Path> readPaths(JsonNode paths) {
+    ImmutableSortedSet.Builder<Path> builder = ImmutableSortedSet.naturalOrder();
+    for (JsonNode path : paths) {
+      builder.add(Paths.get(path.asText()));
+    }
+    return builder.build();
+  }
+
+  /** @return {@code metadata} without the list of content addressed files. */
+  public static ImmutableMap<String, String> removeFromMetadata(Map<String, String> metadata) {
+    ImmutableMap.Builder<String, String> builder = ImmutableMap.builder();
+    for (Map.Entry<String, String> entry : metadata.entrySet()) {
+      if (!entry.getKey().equals(METADATA_KEY)) {
+        builder.put(entry);
+      }
+    }
+    return builder.build();
+  }
+
+  /** @return the key a file with the given hash is stored under in the cache. */
+  public static RuleKey getContentKey(HashCode hash) {
+    return new RuleKey(hash + CONTENT_KEY_SUFFIX);
+  }
+
+  public boolean isEmpty() {
+    return hashes.isEmpty();
+  }
+
+  /** @return the hash of the contents of each file, by path. */
+  public ImmutableSortedMap<Path, HashCode> getHashes() {
+    return hashes;
+  }
+
+  public boolean isExecutable(Path path) {
+    return executables.contains(path);
+  }
+
+  /** @return the directories of the artifact which contain content addressed files. */
+  public ImmutableSortedSet<Path> getDirectories() {
+    return directories;
+  }
+
+  /** @return the paths of an artifact which still go into its archive. */
+  public ImmutableSortedSet<Path> getPathsToArchive(SortedSet<Path> pathsInArtifact) {
+    ImmutableSortedSet.Builder<Path> builder = ImmutableSortedSet.naturalOrder();
+    for (Path path : pathsInArtifact) {
+      if (!hashes.containsKey(path) && !directories.contains(path)) {
+        builder.add(path);
+      }
+    }
+    return builder.build();
+  }
+
+  /** @return {@code metadata} with these files listed in it. */
+  public ImmutableMap<String, String> addToMetadata(Map<String, String> metadata)
+      throws IOException {
+    ImmutableSortedMap.Builder<String, String> files = ImmutableSortedMap.naturalOrder();
+    for (Map.Entry<Path, HashCode> entry : hashes.entrySet()) {
+      files.put(entry.getKey().toString(), entry.getValue().toString());
+    }
+    String json =
+        ObjectMappers.WRITER.writeValueAsString(
+            ImmutableMap.of(
+                FILES,
+                files.build(),
+                EXECUTABLES,
+                executables.stream().map(Path::toString).toArray(String[]::new),
+                DIRECTORIES,
+                directories.stream().map(Path::toString).toArray(String[]::new)));
+    return ImmutableMap.<String, String>builder()
+        .putAll(removeFromMetadata(metadata))
+        .put(METADATA_KEY, json)
+        .build();
+  }
+}
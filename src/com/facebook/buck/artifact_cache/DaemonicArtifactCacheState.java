@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.artifact_cache.config.ArtifactCacheBuckConfig;
+import com.facebook.buck.artifact_cache.config.ArtifactCacheMode;
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
+/**
+ * Parts of the artifact caches which outlive a single command, so that repeated builds in the
+ * daemon benefit from them. {@link ArtifactCaches} are created for every command and share this
+ * state, which is dropped with the rest of the daemon's state.
+ */
+public class DaemonicArtifactCacheState implements Closeable {
+
+  @GuardedBy("this")
+  @Nullable
+  private MemoryArtifactCache memoryCache;
+
+  /** Rule key filters of the remote caches, by the URL they are downloaded from. */
+  @GuardedBy("this")
+  private final Map<String, RemoteRuleKeyFilter> ruleKeyFilters = new HashMap<>();
+
+  /**
+   * @return the in-memory cache tier, which is only created again if its configured sizes change.
+   */
+  synchronized MemoryArtifactCache getMemoryCache(ArtifactCacheBuckConfig buckConfig) {
+    long maxSizeBytes = buckConfig.getMemoryCacheMaxSize();
+    long maxArtifactSizeBytes = buckConfig.getMemoryCacheMaxArtifactSize();
+    if (memoryCache == null
+        || memoryCache.getMaxSizeBytes() != maxSizeBytes
+        || memoryCache.getMaxArtifactSizeBytes() != maxArtifactSizeBytes) {
+      if (memoryCache != null) {
+        memoryCache.invalidateAll();
+      }
+      memoryCache =
+          new MemoryArtifactCache(
+              ArtifactCacheMode.memory.name(), maxSizeBytes, maxArtifactSizeBytes);
+    }
+    return memoryCache;
+  }
+
+  /**
+   * @return the rule key filter downloaded from {@code url}, which is only created again if its
+   *     cache mode or refresh period change.
+   */
+  synchronized RemoteRuleKeyFilter getRuleKeyFilter(
+      String url, String endpoint, ArtifactCacheMode cacheMode, long refreshSeconds) {
+    RemoteRuleKeyFilter ruleKeyFilter = ruleKeyFilters.get(url);
+    if (ruleKeyFilter == null
+        || ruleKeyFilter.getCacheMode() != cacheMode
+        || ruleKeyFilter.getRefreshSeconds() != refreshSeconds) {
+      if (ruleKeyFilter != null) {
+        ruleKeyFilter.close();
+      }
+      ruleKeyFilter = new RemoteRuleKeyFilter(endpoint, cacheMode, refreshSeconds);
+      ruleKeyFilters.put(url, ruleKeyFilter);
+    }
+    return ruleKeyFilter;
+  }
+
+  @Override
+  public synchronized void close() {
+    if (memoryCache != null) {
+      memoryCache.invalidateAll();
+      memoryCache = null;
+    }
+    ruleKeyFilters.values().forEach(RemoteRuleKeyFilter::close);
+    ruleKeyFilters.clear();
+  }
+}
@@ -52,6 +52,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 import javax.annotation.Nullable;
 
 public class DirArtifactCache implements ArtifactCache {
@@ -64,7 +65,10 @@ public class DirArtifactCache implements ArtifactCache {
   private static final float STORED_TO_MAX_BYTES_RATIO_TRIM_TRIGGER = 0.5f;
   // How much of the max size to leave if we decide to delete old files.
   private static final float MAX_BYTES_TRIM_RATIO = 2 / 3f;
+  // How many entries to evict at a time, so that fetches and stores aren't held up for long.
+  private static final int EVICTION_BATCH_SIZE = 1000;
   private static final String TMP_EXTENSION = ".tmp";
+  static final String METADATA_EXTENSION = ".metadata";
 
   private final String name;
   private final ProjectFilesystem filesystem;
@@ -73,6 +77,7 @@ public class DirArtifactCache implements ArtifactCache {
   private final CacheReadMode cacheReadMode;
   private final ListeningExecutorService storeExecutorService;
   private long bytesSinceLastDeleteOldFiles;
+  @Nullable private volatile Optional<DirArtifactCacheIndex> index;
 
   public DirArtifactCache(
       String name,
@@ -94,6 +99,40 @@ public class DirArtifactCache implements ArtifactCache {
     if (!filesystem.isDirectory(cacheDir)) {
       filesystem.mkdirs(cacheDir);
     }
+
+    if (cacheReadMode.isWritable() && !maxCacheSizeBytes.isPresent()) {
+      // Stores won't be recorded in the index, so it has to be rebuilt if it's needed again.
+      DirArtifactCacheIndex.discard(getIndexKey());
+    }
+  }
+
+  /**
+   * @return the index of the entries in the cache, if the cache evicts entries and no other process
+   *     keeps the index. Otherwise, old files are found by walking the cache directory.
+   */
+  private Optional<DirArtifactCacheIndex> getIndex() {
+    Optional<DirArtifactCacheIndex> result = index;
+    if (result == null) {
+      synchronized (this) {
+        result = index;
+        if (result == null) {
+          result =
+              cacheReadMode.isWritable() && maxCacheSizeBytes.isPresent()
+                  ? DirArtifactCacheIndex.get(getIndexKey(), this::getAllFilesInCache)
+                  : Optional.empty();
+          index = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  private Path getIndexKey() {
+    return filesystem.resolve(cacheDir).toAbsolutePath().normalize();
+  }
+
+  private String getIndexEntry(RuleKey ruleKey) {
+    return cacheDir.relativize(getPathForRuleKey(ruleKey, Optional.empty())).toString();
   }
 
   @Override
@@ -111,29 +150,17 @@ public class DirArtifactCache implements ArtifactCache {
     CacheResult result;
     try {
       // First, build up the metadata from the metadata file.
-      ImmutableMap.Builder<String, String> metadata;
-      try (DataInputStream in =
-          new DataInputStream(
-              filesystem.newFileInputStream(
-                  getPathForRuleKey(ruleKey, Optional.of(".metadata"))))) {
-        int sz = in.readInt();
-        metadata = ImmutableMap.builderWithExpectedSize(sz);
-        for (int i = 0; i < sz; i++) {
-          String key = in.readUTF();
-          int valSize = in.readInt();
-          byte[] val = new byte[valSize];
-          ByteStreams.readFully(in, val);
-          metadata.put(key, new String(val, Charsets.UTF_8));
-        }
-      }
+      ImmutableMap<String, String> metadata =
+          readMetadata(filesystem, getPathForRuleKey(ruleKey, Optional.of(METADATA_EXTENSION)));
 
       // Now copy the artifact out.
       filesystem.copyFile(getPathForRuleKey(ruleKey, Optional.empty()), output.get());
 
-      result =
-          CacheResult.hit(name, CACHE_MODE, metadata.build(), filesystem.getFileSize(output.get()));
+      result = CacheResult.hit(name, CACHE_MODE, metadata, filesystem.getFileSize(output.get()));
+      getIndex().ifPresent(index -> index.recordAccess(getIndexEntry(ruleKey)));
     } catch (NoSuchFileException e) {
       result = CacheResult.miss();
+      getIndex().ifPresent(index -> index.remove(getIndexEntry(ruleKey)));
     } catch (IOException e) {
       LOG.warn(e, "Artifact fetch(%s, %s) error", ruleKey, output);
       result =
@@ -162,19 +189,23 @@ public class DirArtifactCache implements ArtifactCache {
   }
 
   private void storeSynchronously(ArtifactInfo info, BorrowablePath output) {
+    Optional<DirArtifactCacheIndex> index = getIndex();
     try {
       Optional<Path> borrowedAndStoredArtifactPath = Optional.empty();
       for (RuleKey ruleKey : info.getRuleKeys()) {
         Path artifactPath = getPathForRuleKey(ruleKey, Optional.empty());
-        Path metadataPath = getPathForRuleKey(ruleKey, Optional.of(".metadata"));
+        Path metadataPath = getPathForRuleKey(ruleKey, Optional.of(METADATA_EXTENSION));
 
         if (filesystem.exists(artifactPath) && filesystem.exists(metadataPath)) {
+          index.ifPresent(i -> i.recordAccess(getIndexEntry(ruleKey)));
           continue;
         }
 
         filesystem.mkdirs(getParentDirForRuleKey(ruleKey));
 
-        if (!output.canBorrow()) {
+        if (output.canLink()) {
+          linkOrCopy(output.getPath(), artifactPath);
+        } else if (!output.canBorrow()) {
           filesystem.copyFile(output.getPath(), artifactPath);
         } else {
           // This branch means that we are apparently the only users of the `output`, so instead
@@ -187,7 +218,7 @@ public class DirArtifactCache implements ArtifactCache {
             filesystem.copyFile(borrowedAndStoredArtifactPath.get(), artifactPath);
           }
         }
-        bytesSinceLastDeleteOldFiles += filesystem.getFileSize(artifactPath);
+        long sizeBytes = filesystem.getFileSize(artifactPath);
 
         // Now, write the meta data artifact.
         Path tmp = filesystem.createTempFile(getPreparedTempFolder(), "metadata", TMP_EXTENSION);
@@ -202,17 +233,29 @@ public class DirArtifactCache implements ArtifactCache {
             }
           }
           filesystem.move(tmp, metadataPath, StandardCopyOption.REPLACE_EXISTING);
-          bytesSinceLastDeleteOldFiles += filesystem.getFileSize(metadataPath);
+          sizeBytes += filesystem.getFileSize(metadataPath);
         } finally {
           filesystem.deleteFileAtPathIfExists(tmp);
         }
+
+        if (index.isPresent()) {
+          index.get().add(getIndexEntry(ruleKey), sizeBytes);
+        } else {
+          bytesSinceLastDeleteOldFiles += sizeBytes;
+          if (maxCacheSizeBytes.isPresent()) {
+            // Let the process keeping the index know, so that it accounts for this store.
+            DirArtifactCacheIndex.recordUnindexedStore(getIndexKey(), sizeBytes);
+          }
+        }
       }
 
     } catch (IOException e) {
       LOG.warn(e, "Artifact store(%s, %s) error", info.getRuleKeys(), output);
     }
 
-    if (maxCacheSizeBytes.isPresent()
+    if (index.isPresent()) {
+      evictIfFull(index.get());
+    } else if (maxCacheSizeBytes.isPresent()
         && bytesSinceLastDeleteOldFiles
             > (maxCacheSizeBytes.get() * STORED_TO_MAX_BYTES_RATIO_TRIM_TRIGGER)) {
       bytesSinceLastDeleteOldFiles = 0L;
@@ -220,6 +263,67 @@ public class DirArtifactCache implements ArtifactCache {
     }
   }
 
+  /**
+   * Hard links the artifact into the cache rather than copying it, which saves reading it back when
+   * it was just fetched from another cache. Falls back to copying across file systems.
+   */
+  private void linkOrCopy(Path source, Path artifactPath) throws IOException {
+    Path target = filesystem.resolve(artifactPath);
+    try {
+      Files.deleteIfExists(target);
+      Files.createLink(target, source);
+    } catch (IOException | UnsupportedOperationException e) {
+      LOG.verbose(e, "Failed to link %s to %s, copying instead.", artifactPath, source);
+      filesystem.copyFile(source, artifactPath);
+    }
+  }
+
+  /**
+   * Evicts the least recently used entries in the background once the cache grows larger than its
+   * max size, until it's back under the trim ratio of its max size.
+   */
+  private void evictIfFull(DirArtifactCacheIndex index) {
+    long maxBytes = maxCacheSizeBytes.get();
+    if (index.getTotalBytes() <= maxBytes || !index.startEviction()) {
+      return;
+    }
+    long targetBytes = (long) (maxBytes * MAX_BYTES_TRIM_RATIO);
+    try {
+      storeExecutorService.execute(
+          () -> {
+            try {
+              evict(index, targetBytes);
+            } finally {
+              index.finishEviction();
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      index.finishEviction();
+    }
+  }
+
+  private void evict(DirArtifactCacheIndex index, long targetBytes) {
+    index.addUnindexedStores(getIndexKey(), this::getAllFilesInCache);
+    while (true) {
+      ImmutableList<String> entries =
+          index.removeLeastRecentlyUsed(targetBytes, EVICTION_BATCH_SIZE);
+      if (entries.isEmpty()) {
+        return;
+      }
+      for (String entry : entries) {
+        Path artifactPath = cacheDir.resolve(entry);
+        try {
+          filesystem.deleteFileAtPathIfExists(
+              artifactPath.resolveSibling(artifactPath.getFileName() + METADATA_EXTENSION));
+          filesystem.deleteFileAtPathIfExists(artifactPath);
+        } catch (IOException e) {
+          LOG.warn(e, "Failed to evict %s from the cache.", artifactPath);
+        }
+      }
+      LOG.debug("Evicted %d entries from the cache in %s.", entries.size(), cacheDir);
+    }
+  }
+
   @Override
   public ListenableFuture<ImmutableMap<RuleKey, CacheResult>> multiContainsAsync(
       ImmutableSet<RuleKey> ruleKeys) {
@@ -231,7 +335,7 @@ public class DirArtifactCache implements ArtifactCache {
 
     for (RuleKey ruleKey : ruleKeys) {
       Path artifactPath = getPathForRuleKey(ruleKey, Optional.empty());
-      Path metadataPath = getPathForRuleKey(ruleKey, Optional.of(".metadata"));
+      Path metadataPath = getPathForRuleKey(ruleKey, Optional.of(METADATA_EXTENSION));
 
       boolean contains = filesystem.exists(artifactPath) && filesystem.exists(metadataPath);
       results.put(ruleKey, contains ? CacheResult.contains(name, CACHE_MODE) : CacheResult.miss());
@@ -245,11 +349,12 @@ public class DirArtifactCache implements ArtifactCache {
 
   private void deleteSync(RuleKey ruleKey) {
     Path artifactPath = getPathForRuleKey(ruleKey, Optional.empty());
-    Path metadataPath = getPathForRuleKey(ruleKey, Optional.of(".metadata"));
+    Path metadataPath = getPathForRuleKey(ruleKey, Optional.of(METADATA_EXTENSION));
 
     try {
       filesystem.deleteFileAtPathIfExists(metadataPath);
       filesystem.deleteFileAtPathIfExists(artifactPath);
+      getIndex().ifPresent(index -> index.remove(getIndexEntry(ruleKey)));
     } catch (IOException e) {
       String message =
           String.format("Failed to delete artifact for rule key [%s] from local cache", ruleKey);
@@ -266,6 +371,23 @@ public class DirArtifactCache implements ArtifactCache {
     return Futures.immediateFuture(CacheDeleteResult.of(cacheNames));
   }
 
+  /** Reads the metadata of an artifact from the file it was stored to next to the artifact. */
+  static ImmutableMap<String, String> readMetadata(ProjectFilesystem filesystem, Path metadataPath)
+      throws IOException {
+    try (DataInputStream in = new DataInputStream(filesystem.newFileInputStream(metadataPath))) {
+      int sz = in.readInt();
+      ImmutableMap.Builder<String, String> metadata = ImmutableMap.builderWithExpectedSize(sz);
+      for (int i = 0; i < sz; i++) {
+        String key = in.readUTF();
+        int valSize = in.readInt();
+        byte[] val = new byte[valSize];
+        ByteStreams.readFully(in, val);
+        metadata.put(key, new String(val, Charsets.UTF_8));
+      }
+      return metadata.build();
+    }
+  }
+
   private Path getPathToTempFolder() {
     return cacheDir.resolve("tmp");
   }
@@ -309,13 +431,20 @@ public class DirArtifactCache implements ArtifactCache {
 
   @Override
   public void close() {
-    // Do a cache clean up on exit only if cache was written to.
-    if (bytesSinceLastDeleteOldFiles > 0) {
+    Optional<DirArtifactCacheIndex> index = this.index;
+    if (index != null && index.isPresent()) {
+      // The index is kept open for the other caches of this process that use the same directory.
+      index.get().flush();
+    } else if (bytesSinceLastDeleteOldFiles > 0) {
+      // Do a cache clean up on exit only if cache was written to.
       deleteOldFiles();
     }
   }
 
-  /** Deletes files that haven't been accessed recently from the directory cache. */
+  /**
+   * Deletes files that haven't been accessed recently from the directory cache, by walking it. This
+   * is only done when the cache can't keep an index of its entries.
+   */
   @VisibleForTesting
   void deleteOldFiles() {
     if (!maxCacheSizeBytes.isPresent()) {
@@ -335,7 +464,8 @@ public class DirArtifactCache implements ArtifactCache {
   @VisibleForTesting
   List<Path> getAllFilesInCache() {
     List<Path> allFiles = new ArrayList<>();
-    Path tempFolderPath = getPathToTempFolder();
+    Path tempFolderPath = filesystem.resolve(getPathToTempFolder());
+    Path indexFolderPath = filesystem.resolve(cacheDir.resolve(DirArtifactCacheIndex.DIRECTORY));
     try {
       Files.walkFileTree(
           filesystem.resolve(cacheDir),
@@ -346,8 +476,9 @@ public class DirArtifactCache implements ArtifactCache {
             @Override
             public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs)
                 throws IOException {
-              // do not work with files in temp folder as they will be moved later
-              if (dir.equals(tempFolderPath)) {
+              // do not work with files in temp folder as they will be moved later, nor with the
+              // files of the index
+              if (dir.equals(tempFolderPath) || dir.equals(indexFolderPath)) {
                 return FileVisitResult.SKIP_SUBTREE;
               }
               return super.preVisitDirectory(dir, attrs);
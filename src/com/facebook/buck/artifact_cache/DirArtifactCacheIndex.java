@@ -0,0 +1,570 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.io.file.MostFiles;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.ByteStreams;
+import com.google.common.primitives.Longs;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+
+/**
+ * The entries of a {@link DirArtifactCache} and their sizes, from the least to the most recently
+ * used. It lets the cache evict its least recently used entries without walking the whole cache
+ * directory, and without relying on file access times, which many filesystems don't keep.
+ *
+ * <p>The index is persisted as a journal of the changes made to it, which is compacted once it
+ * grows much larger than the index. When there's no journal yet, the index is built once from the
+ * files in the cache, ordered by their access times. Only one process can keep the index of a cache
+ * at a time, so the caches of a process that use the same directory share their index.
+ *
+ * <p>Other processes that store to the cache append the sizes of their stores to a separate file,
+ * which counts towards the size of the cache. Before evicting, the process keeping the index adds
+ * the files missing from it, which it finds by walking the cache.
+ */
+class DirArtifactCacheIndex {
+  private static final Logger LOG = Logger.get(DirArtifactCacheIndex.class);
+
+  /** The directory in the cache the index is kept in. */
+  static final String DIRECTORY = "index";
+
+  private static final String JOURNAL = "journal";
+  private static final String LOCK = "lock";
+  private static final String UNINDEXED = "unindexed";
+  private static final int MAGIC = 0x44414349;
+  private static final int FORMAT_VERSION = 1;
+
+  private static final byte ADD = 0;
+  private static final byte ACCESS = 1;
+  private static final byte REMOVE = 2;
+
+  /** The journal isn't compacted until it has at least this many records. */
+  @VisibleForTesting static final int MIN_RECORDS_TO_COMPACT = 10000;
+
+  private static final Map<Path, DirArtifactCacheIndex> INDICES = new HashMap<>();
+
+  private final Path directory;
+  private final FileChannel lockChannel;
+  private final FileLock lock;
+  private final LinkedHashMap<String, Long> sizes = new LinkedHashMap<>(16, 0.75f, true);
+  /** Entries used since their last record was written, from least to most recently used. */
+  private final LinkedHashSet<String> pendingAccesses = new LinkedHashSet<>();
+
+  private final AtomicBoolean evicting = new AtomicBoolean();
+  @Nullable private DataOutputStream journal;
+  private long totalBytes;
+  private int records;
+
+  /** How much of the file of unindexed stores was read, and the size of the stores read so far. */
+  private long unindexedOffset;
+
+  private long unindexedBytes;
+
+  private DirArtifactCacheIndex(Path directory, FileChannel lockChannel, FileLock lock) {
+    this.directory = directory;
+    this.lockChannel = lockChannel;
+    this.lock = lock;
+  }
+
+  /**
+   * Gets the index of the cache in {@code cacheDir}, loading it from its journal, or building it
+   * from {@code filesInCache} if there's none.
+   *
+   * @return the index, or nothing if another process keeps the index of the cache.
+   */
+  static synchronized Optional<DirArtifactCacheIndex> get(
+      Path cacheDir, Supplier<List<Path>> filesInCache) {
+    DirArtifactCacheIndex index = INDICES.get(cacheDir);
+    if (index != null && Files.exists(index.getJournalPath())) {
+      return Optional.of(index);
+    }
+    if (index != null) {
+      // The cache was deleted from under us, so start over with whatever is there now.
+      index.close();
+      INDICES.remove(cacheDir);
+    }
+    try {
+      index = open(cacheDir, filesInCache);
+    } catch (IOException e) {
+      LOG.warn(e, "Failed to open the index of the cache in %s.", cacheDir);
+      return Optional.empty();
+    }
+    if (index == null) {
+      LOG.info("The index of the cache in %s is kept by another process.", cacheDir);
+      return Optional.empty();
+    }
+    INDICES.put(cacheDir, index);
+    return Optional.of(index);
+  }
+
+  /**
+   * Deletes the index of the cache in {@code cacheDir}, for caches which stop keeping it up to
+   * date, so that it's built again from the files in the cache when it's next needed.
+   */
+  static synchronized void discard(Path cacheDir) throws IOException {
+    DirArtifactCacheIndex index = INDICES.remove(cacheDir);
+    if (index != null) {
+      index.close();
+    }
+    Path directory = cacheDir.resolve(DIRECTORY);
+    if (index != null || Files.exists(directory.resolve(JOURNAL))) {
+      MostFiles.deleteRecursivelyIfExists(directory);
+    }
+  }
+
+  /** Closes the index of the cache in {@code cacheDir}, so that it's loaded again when needed. */
+  @VisibleForTesting
+  static synchronized void unload(Path cacheDir) {
+    DirArtifactCacheIndex index = INDICES.remove(cacheDir);
+    if (index != null) {
+      index.close();
+    }
+  }
+
+  @Nullable
+  private static DirArtifactCacheIndex open(Path cacheDir, Supplier<List<Path>> filesInCache)
+      throws IOException {
+    Path directory = cacheDir.resolve(DIRECTORY);
+    Files.createDirectories(directory);
+    FileChannel lockChannel =
+        FileChannel.open(
+            directory.resolve(LOCK), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+    FileLock lock;
+    try {
+      lock = lockChannel.tryLock();
+    } catch (OverlappingFileLockException e) {
+      // The same directory is used by another cache in this process, through a different path.
+      lock = null;
+    } catch (IOException e) {
+      lockChannel.close();
+      throw e;
+    }
+    if (lock == null) {
+      lockChannel.close();
+      return null;
+    }
+
+    DirArtifactCacheIndex index = new DirArtifactCacheIndex(directory, lockChannel, lock);
+    try {
+      if (!index.replayJournal()) {
+        index.build(cacheDir, filesInCache.get());
+      }
+      index.compact();
+    } catch (IOException e) {
+      index.close();
+      throw e;
+    }
+    return index;
+  }
+
+  /**
+   * Loads the index from its journal, ignoring a partially written record at its end.
+   *
+   * @return whether there was a journal to load.
+   */
+  private boolean replayJournal() throws IOException {
+    Path journalPath = getJournalPath();
+    if (!Files.exists(journalPath)) {
+      return false;
+    }
+    try (DataInputStream in =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(journalPath)))) {
+      if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+        LOG.info("Ignoring the journal of an unsupported format in %s.", directory);
+        sizes.clear();
+        totalBytes = 0;
+        return false;
+      }
+      while (true) {
+        byte type;
+        try {
+          type = in.readByte();
+        } catch (EOFException e) {
+          break;
+        }
+        String entry = in.readUTF();
+        switch (type) {
+          case ADD:
+            applyAdd(entry, in.readLong());
+            break;
+          case ACCESS:
+            sizes.get(entry);
+            break;
+          case REMOVE:
+            applyRemove(entry);
+            break;
+          default:
+            throw new IOException(String.format("Unknown record type %d.", type));
+        }
+        records++;
+      }
+    } catch (EOFException e) {
+      LOG.info("Ignoring a partially written record at the end of the journal in %s.", directory);
+    } catch (IOException e) {
+      LOG.warn(e, "Rebuilding the unreadable index in %s.", directory);
+      sizes.clear();
+      totalBytes = 0;
+      return false;
+    }
+    return true;
+  }
+
+  /** Builds the index from the files in the cache, ordered by their access times. */
+  private void build(Path cacheDir, List<Path> filesInCache) {
+    LOG.info(
+        "Building the index of the cache in %s from its %d files.", cacheDir, filesInCache.size());
+    scan(cacheDir, filesInCache).forEach(this::applyAdd);
+  }
+
+  /** @return the sizes of the entries the files belong to, ordered by their access times. */
+  private static LinkedHashMap<String, Long> scan(Path cacheDir, List<Path> filesInCache) {
+    Map<String, Long> sizesByEntry = new HashMap<>();
+    Map<String, Long> lastAccessByEntry = new HashMap<>();
+    for (Path file : filesInCache) {
+      BasicFileAttributes attributes;
+      try {
+        attributes = Files.readAttributes(file, BasicFileAttributes.class);
+      } catch (IOException e) {
+        continue;
+      }
+      String entry = getEntry(cacheDir.relativize(file));
+      sizesByEntry.merge(entry, attributes.size(), Long::sum);
+      lastAccessByEntry.merge(entry, attributes.lastAccessTime().toMillis(), Math::max);
+    }
+    List<String> entries = new ArrayList<>(sizesByEntry.keySet());
+    entries.sort(Comparator.comparing(lastAccessByEntry::get));
+    LinkedHashMap<String, Long> result = new LinkedHashMap<>();
+    for (String entry : entries) {
+      result.put(entry, sizesByEntry.get(entry));
+    }
+    return result;
+  }
+
+  /**
+   * Records a store to the cache in {@code cacheDir} made while another process keeps its index, so
+   * that the store counts towards the size of the cache.
+   */
+  static void recordUnindexedStore(Path cacheDir, long sizeBytes) {
+    Path path = cacheDir.resolve(DIRECTORY).resolve(UNINDEXED);
+    try {
+      // A single small append, so that concurrent appends from other processes don't interleave.
+      Files.write(
+          path, Longs.toByteArray(sizeBytes), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    } catch (IOException e) {
+      LOG.debug(e, "Failed to record a store to the cache in %s.", cacheDir);
+    }
+  }
+
+  /**
+   * Adds the files stored by other processes to the index, by walking the cache. Nothing is done if
+   * no other process stored to the cache since the last time.
+   */
+  void addUnindexedStores(Path cacheDir, Supplier<List<Path>> filesInCache) {
+    Path claimed = directory.resolve(UNINDEXED + ".claimed");
+    synchronized (this) {
+      try {
+        // Stores recorded from now on go to a new file, and are picked up next time.
+        Files.move(getUnindexedPath(), claimed, StandardCopyOption.REPLACE_EXISTING);
+      } catch (NoSuchFileException e) {
+        return;
+      } catch (IOException e) {
+        LOG.warn(e, "Failed to claim the stores of other processes in %s.", directory);
+        return;
+      }
+      unindexedOffset = 0;
+      unindexedBytes = 0;
+    }
+    // Entries stored by this process while the cache is walked are already in the index, so only
+    // missing entries are added.
+    LinkedHashMap<String, Long> scanned = scan(cacheDir, filesInCache.get());
+    synchronized (this) {
+      int added = 0;
+      for (Map.Entry<String, Long> entry : scanned.entrySet()) {
+        if (!sizes.containsKey(entry.getKey())) {
+          applyAdd(entry.getKey(), entry.getValue());
+          append(ADD, entry.getKey(), entry.getValue());
+          added++;
+        }
+      }
+      LOG.debug("Added %d entries stored by other processes to the index in %s.", added, directory);
+      flush();
+    }
+    try {
+      Files.deleteIfExists(claimed);
+    } catch (IOException e) {
+      LOG.warn(e, "Failed to delete %s.", claimed);
+    }
+  }
+
+  /** @return the entry a file in the cache belongs to, which is the path of its artifact. */
+  private static String getEntry(Path relativePath) {
+    String path = relativePath.toString();
+    return path.endsWith(DirArtifactCache.METADATA_EXTENSION)
+        ? path.substring(0, path.length() - DirArtifactCache.METADATA_EXTENSION.length())
+        : path;
+  }
+
+  /** Records that the entry for the artifact at {@code entry} was stored, with its size. */
+  synchronized void add(String entry, long sizeBytes) {
+    applyAdd(entry, sizeBytes);
+    append(ADD, entry, sizeBytes);
+    flush();
+  }
+
+  /** Records that the entry was used, so that it's evicted after the entries that weren't. */
+  synchronized void recordAccess(String entry) {
+    if (sizes.get(entry) != null) {
+      // Accesses are only written out when the index is flushed, once for each entry used since,
+      // as losing some is harmless.
+      pendingAccesses.remove(entry);
+      pendingAccesses.add(entry);
+    }
+  }
+
+  /** Records that the entry was removed from the cache. */
+  synchronized void remove(String entry) {
+    if (applyRemove(entry)) {
+      append(REMOVE, entry, 0);
+      flush();
+    }
+  }
+
+  /** @return the total size of the entries in the cache, including unindexed stores. */
+  synchronized long getTotalBytes() {
+    readUnindexedStores();
+    return totalBytes + unindexedBytes;
+  }
+
+  /** Adds up the sizes of the stores other processes recorded since the file was last read. */
+  private void readUnindexedStores() {
+    Path path = getUnindexedPath();
+    long size;
+    try {
+      size = Files.size(path);
+    } catch (IOException e) {
+      size = 0;
+    }
+    if (size < unindexedOffset) {
+      // The file was replaced since, e.g. because the cache was deleted.
+      unindexedOffset = 0;
+      unindexedBytes = 0;
+    }
+    long end = size - (size - unindexedOffset) % Long.BYTES;
+    if (end == unindexedOffset) {
+      return;
+    }
+    try (DataInputStream in =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+      ByteStreams.skipFully(in, unindexedOffset);
+      while (unindexedOffset < end) {
+        unindexedBytes += in.readLong();
+        unindexedOffset += Long.BYTES;
+      }
+    } catch (IOException e) {
+      LOG.debug(e, "Failed to read the stores of other processes in %s.", directory);
+    }
+  }
+
+  @VisibleForTesting
+  synchronized ImmutableList<String> getEntries() {
+    return ImmutableList.copyOf(sizes.keySet());
+  }
+
+  /**
+   * Removes up to {@code maxEntries} of the least recently used entries, for as long as the total
+   * size of the entries in the cache is larger than {@code targetBytes}.
+   *
+   * @return the removed entries, whose files the caller should delete.
+   */
+  synchronized ImmutableList<String> removeLeastRecentlyUsed(long targetBytes, int maxEntries) {
+    ImmutableList.Builder<String> removed = ImmutableList.builder();
+    Iterator<Map.Entry<String, Long>> iterator = sizes.entrySet().iterator();
+    for (int i = 0; i < maxEntries && totalBytes > targetBytes && iterator.hasNext(); i++) {
+      Map.Entry<String, Long> entry = iterator.next();
+      iterator.remove();
+      totalBytes -= entry.getValue();
+      append(REMOVE, entry.getKey(), 0);
+      removed.add(entry.getKey());
+    }
+    flush();
+    return removed.build();
+  }
+
+  /** @return whether the caller should evict entries, which only one caller does at a time. */
+  boolean startEviction() {
+    return evicting.compareAndSet(false, true);
+  }
+
+  void finishEviction() {
+    evicting.set(false);
+  }
+
+  /** Writes out the changes made to the index. */
+  synchronized void flush() {
+    if (journal == null) {
+      return;
+    }
+    for (String entry : pendingAccesses) {
+      append(ACCESS, entry, 0);
+    }
+    pendingAccesses.clear();
+    try {
+      journal.flush();
+    } catch (IOException e) {
+      abandonJournal(e);
+      return;
+    }
+    if (records >= MIN_RECORDS_TO_COMPACT && records > 2 * sizes.size()) {
+      try {
+        compact();
+      } catch (IOException e) {
+        abandonJournal(e);
+      }
+    }
+  }
+
+  private void applyAdd(String entry, long sizeBytes) {
+    pendingAccesses.remove(entry);
+    Long previousSize = sizes.put(entry, sizeBytes);
+    totalBytes += sizeBytes - (previousSize == null ? 0 : previousSize);
+  }
+
+  private boolean applyRemove(String entry) {
+    pendingAccesses.remove(entry);
+    Long size = sizes.remove(entry);
+    if (size == null) {
+      return false;
+    }
+    totalBytes -= size;
+    return true;
+  }
+
+  private void append(byte type, String entry, long sizeBytes) {
+    if (journal == null) {
+      return;
+    }
+    try {
+      journal.writeByte(type);
+      journal.writeUTF(entry);
+      if (type == ADD) {
+        journal.writeLong(sizeBytes);
+      }
+      records++;
+    } catch (IOException e) {
+      abandonJournal(e);
+    }
+  }
+
+  /** Rewrites the journal with a single record for each entry, from least to most recently used. */
+  private void compact() throws IOException {
+    closeJournal();
+    Path tmp = Files.createTempFile(directory, JOURNAL, ".tmp");
+    try {
+      try (DataOutputStream out =
+          new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        for (Map.Entry<String, Long> entry : sizes.entrySet()) {
+          out.writeByte(ADD);
+          out.writeUTF(entry.getKey());
+          out.writeLong(entry.getValue());
+        }
+      }
+      Files.move(tmp, getJournalPath(), StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+    records = sizes.size();
+    pendingAccesses.clear();
+    journal =
+        new DataOutputStream(
+            new BufferedOutputStream(
+                Files.newOutputStream(getJournalPath(), StandardOpenOption.APPEND)));
+  }
+
+  /**
+   * Stops writing to a journal that can't be written to, and deletes it, so that the index is built
+   * again from the files in the cache when it's next loaded.
+   */
+  private void abandonJournal(IOException e) {
+    LOG.warn(e, "Failed to write the journal in %s, no longer persisting the index.", directory);
+    closeJournal();
+    try {
+      Files.deleteIfExists(getJournalPath());
+    } catch (IOException deleteException) {
+      LOG.warn(deleteException, "Failed to delete the journal in %s.", directory);
+    }
+  }
+
+  private void closeJournal() {
+    if (journal == null) {
+      return;
+    }
+    try {
+      journal.close();
+    } catch (IOException e) {
+      LOG.warn(e, "Failed to close the journal in %s.", directory);
+    }
+    journal = null;
+  }
+
+  private synchronized void close() {
+    closeJournal();
+    try {
+      lock.release();
+      lockChannel.close();
+    } catch (IOException e) {
+      LOG.warn(e, "Failed to release the lock of the index in %s.", directory);
+    }
+  }
+
+  private Path getJournalPath() {
+    return directory.resolve(JOURNAL);
+  }
+
+  private Path getUnindexedPath() {
+    return directory.resolve(UNINDEXED);
+  }
+}
@@ -94,18 +94,26 @@ public final class HttpArtifactCache extends AbstractNetworkCache {
           return resultBuilder.setCacheResult(CacheResult.error(getName(), getMode(), msg)).build();
         }
 
-        // Setup a temporary file, which sits next to the destination, to write to and
-        // make sure all parent dirs exist.
-        Path file = output.get();
-        getProjectFilesystem().createParentDirs(file);
-        Path temp =
-            getProjectFilesystem()
-                .createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
-
+        // Streamed payloads are consumed as they're received, and never written to a file.
+        @Nullable Path temp = null;
         HttpArtifactCacheBinaryProtocol.FetchResponseReadResult fetchedData;
-        try (OutputStream tempFileOutputStream = getProjectFilesystem().newFileOutputStream(temp)) {
+        if (output instanceof StreamingLazyPath) {
           fetchedData =
-              HttpArtifactCacheBinaryProtocol.readFetchResponse(input, tempFileOutputStream);
+              HttpArtifactCacheBinaryProtocol.readFetchResponse(
+                  input, (StreamingLazyPath) output);
+        } else {
+          // Setup a temporary file, which sits next to the destination, to write to and
+          // make sure all parent dirs exist.
+          Path file = output.get();
+          getProjectFilesystem().createParentDirs(file);
+          temp =
+              getProjectFilesystem()
+                  .createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+          try (OutputStream tempFileOutputStream =
+              getProjectFilesystem().newFileOutputStream(temp)) {
+            fetchedData =
+                HttpArtifactCacheBinaryProtocol.readFetchResponse(input, tempFileOutputStream);
+          }
         }
 
         resultBuilder
@@ -129,12 +137,18 @@ public final class HttpArtifactCache extends AbstractNetworkCache {
         if (!fetchedData.getExpectedHashCode().equals(fetchedData.getActualHashCode())) {
           String msg = "artifact had invalid checksum";
           reportFailureWithFormatKey("fetch(%s, %s): %s", response.requestUrl(), ruleKey, msg);
-          getProjectFilesystem().deleteFileAtPath(temp);
+          if (temp != null) {
+            getProjectFilesystem().deleteFileAtPath(temp);
+          }
           return resultBuilder.setCacheResult(CacheResult.error(getName(), getMode(), msg)).build();
         }
 
         // Finally, move the temp file into it's final place.
-        getProjectFilesystem().move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        if (temp != null) {
+          getProjectFilesystem().move(temp, output.get(), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+          ((StreamingLazyPath) output).markConsumed();
+        }
 
         LOG.info("fetch(%s, %s): cache hit", response.requestUrl(), ruleKey);
         return resultBuilder
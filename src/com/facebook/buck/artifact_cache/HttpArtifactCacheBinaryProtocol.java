@@ -52,9 +52,20 @@ public class HttpArtifactCacheBinaryProtocol {
 
   public static FetchResponseReadResult readFetchResponse(
       DataInputStream input, OutputStream payloadSink) throws IOException {
+    return readFetchResponse(input, payload -> ByteStreams.copy(payload, payloadSink));
+  }
+
+  /** Reads a fetch response, handing the payload to the given output as it's received. */
+  public static FetchResponseReadResult readFetchResponse(
+      DataInputStream input, StreamingLazyPath output) throws IOException {
+    return readFetchResponse(input, output::consumeFully);
+  }
+
+  private static FetchResponseReadResult readFetchResponse(
+      DataInputStream input, PayloadReader payloadReader) throws IOException {
 
     MetadataAndPayloadReadResultInternal resultInternal =
-        readMetadataAndPayload(input, payloadSink);
+        readMetadataAndPayload(input, payloadReader);
 
     ImmutableFetchResponseReadResult.Builder result =
         ImmutableFetchResponseReadResult.builder().from(resultInternal);
@@ -80,6 +91,11 @@ public class HttpArtifactCacheBinaryProtocol {
 
   public static MetadataAndPayloadReadResultInternal readMetadataAndPayload(
       DataInputStream input, OutputStream payloadSink) throws IOException {
+    return readMetadataAndPayload(input, payload -> ByteStreams.copy(payload, payloadSink));
+  }
+
+  private static MetadataAndPayloadReadResultInternal readMetadataAndPayload(
+      DataInputStream input, PayloadReader payloadReader) throws IOException {
     // Read the size of a the metadata, and use that to build a input stream to read and
     // process the rest of it.
     int metadataSize = input.readInt();
@@ -124,12 +140,12 @@ public class HttpArtifactCacheBinaryProtocol {
       result.setExpectedHashCode(HashCode.fromBytes(hashCodeBytes));
     }
 
-    // The remaining data is the payload, which we write to the created file, and also include
-    // in our verification checksum.
+    // The remaining data is the payload, which we hand to the reader, and also include in our
+    // verification checksum.
     Hasher artifactOnlyHasher = HASH_FUNCTION.newHasher();
     try (InputStream payload =
         new HasherInputStream(artifactOnlyHasher, new HasherInputStream(hasher, input))) {
-      result.setResponseSizeBytes(ByteStreams.copy(payload, payloadSink));
+      result.setResponseSizeBytes(payloadReader.read(payload));
       result.setArtifactOnlyHashCode(artifactOnlyHasher.hash());
     }
 
@@ -192,6 +208,12 @@ public class HttpArtifactCacheBinaryProtocol {
     return bytes;
   }
 
+  /** Reads the payload of an artifact, and returns its size. */
+  @FunctionalInterface
+  private interface PayloadReader {
+    long read(InputStream payload) throws IOException;
+  }
+
   public static class StoreRequest {
     private final ByteSource payloadSource;
     private final byte[] rawKeys;
@@ -159,6 +159,13 @@ public abstract class HttpArtifactCacheEvent extends ArtifactCacheEvent {
     @JsonProperty("request_duration_millis")
     private long requestDurationMillis;
 
+    // Number of keys requested together with this one, and how long they waited to be requested.
+    @JsonProperty("batch_size")
+    private int batchSize;
+
+    @JsonProperty("queue_wait_millis")
+    private long queueWaitMillis = -1;
+
     public Finished(
         Started event, Optional<BuildTarget> target, HttpArtifactCacheEventFetchData data) {
       super(
@@ -196,6 +203,16 @@ public abstract class HttpArtifactCacheEvent extends ArtifactCacheEvent {
       return requestDurationMillis;
     }
 
+    /** Number of keys fetched in the same request, or 0 if this isn't a fetch. */
+    public int getBatchSize() {
+      return batchSize;
+    }
+
+    /** How long the fetch waited to be sent after it was requested, or -1 if unknown. */
+    public long getQueueWaitMillis() {
+      return queueWaitMillis;
+    }
+
     public HttpArtifactCacheEventFetchData getFetchData() {
       Preconditions.checkState(fetchData.isPresent());
       return fetchData.get();
@@ -231,6 +248,8 @@ public abstract class HttpArtifactCacheEvent extends ArtifactCacheEvent {
       private HttpArtifactCacheEventFetchData.Builder fetchDataBuilder;
       private HttpArtifactCacheEventStoreData.Builder storeDataBuilder;
       private Optional<BuildTarget> target;
+      private int batchSize;
+      private long queueWaitMillis = -1;
 
       private Builder(Started event) {
         this.startedEvent = event;
@@ -240,17 +259,31 @@ public abstract class HttpArtifactCacheEvent extends ArtifactCacheEvent {
       }
 
       public HttpArtifactCacheEvent.Finished build() {
+        HttpArtifactCacheEvent.Finished finished;
         if (startedEvent.getOperation() == Operation.FETCH) {
           RuleKey requestsRuleKey =
               Objects.requireNonNull(Iterables.getFirst(startedEvent.getRuleKeys(), null));
           fetchDataBuilder.setRequestedRuleKey(requestsRuleKey);
-          return new HttpArtifactCacheEvent.Finished(
-              startedEvent, target, fetchDataBuilder.build());
+          finished =
+              new HttpArtifactCacheEvent.Finished(startedEvent, target, fetchDataBuilder.build());
         } else {
           storeDataBuilder.setRuleKeys(startedEvent.getRuleKeys());
           storeDataBuilder.setStoreType(startedEvent.getStoreType());
-          return new HttpArtifactCacheEvent.Finished(startedEvent, storeDataBuilder.build());
+          finished = new HttpArtifactCacheEvent.Finished(startedEvent, storeDataBuilder.build());
         }
+        finished.batchSize = batchSize;
+        finished.queueWaitMillis = queueWaitMillis;
+        return finished;
+      }
+
+      public Builder setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+      }
+
+      public Builder setQueueWaitMillis(long queueWaitMillis) {
+        this.queueWaitMillis = queueWaitMillis;
+        return this;
       }
 
       public HttpArtifactCacheEventFetchData.Builder getFetchBuilder() {
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.artifact_cache.config.ArtifactCacheMode;
+import com.facebook.buck.artifact_cache.config.CacheReadMode;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.io.file.BorrowablePath;
+import com.facebook.buck.io.file.LazyPath;
+import com.facebook.buck.util.types.Unit;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * Bounded cache of small artifacts held in direct buffers, meant to sit in front of the dir and
+ * network caches so that artifacts fetched repeatedly during a daemon's lifetime don't go to disk
+ * or over the network each time.
+ *
+ * <p>Entries are weighed by their size in bytes, and the least recently used ones are evicted once
+ * the total exceeds the limit. Artifacts larger than the per-artifact limit are never held.
+ *
+ * <p>The daemon holds a single instance in {@link DaemonicArtifactCacheState}, which the caches of
+ * every command share, so closing it at the end of a command keeps its entries.
+ */
+public class MemoryArtifactCache implements ArtifactCache {
+  private static final Logger LOG = Logger.get(MemoryArtifactCache.class);
+
+  private static final ArtifactCacheMode CACHE_MODE = ArtifactCacheMode.memory;
+
+  private final String name;
+  private final long maxSizeBytes;
+  private final long maxArtifactSizeBytes;
+  private final Cache<RuleKey, Entry> entries;
+
+  public MemoryArtifactCache(String name, long maxSizeBytes, long maxArtifactSizeBytes) {
+    Preconditions.checkArgument(
+        maxArtifactSizeBytes <= Integer.MAX_VALUE,
+        "Artifacts held in memory can't be larger than %s bytes.",
+        Integer.MAX_VALUE);
+    this.name = name;
+    this.maxSizeBytes = maxSizeBytes;
+    this.maxArtifactSizeBytes = maxArtifactSizeBytes;
+    this.entries =
+        CacheBuilder.newBuilder()
+            .maximumWeight(maxSizeBytes)
+            .weigher((RuleKey ruleKey, Entry entry) -> entry.contents.remaining())
+            .build();
+  }
+
+  @Override
+  public ListenableFuture<CacheResult> fetchAsync(
+      @Nullable BuildTarget target, RuleKey ruleKey, LazyPath output) {
+    Entry entry = entries.getIfPresent(ruleKey);
+    if (entry == null) {
+      return Futures.immediateFuture(CacheResult.miss());
+    }
+
+    ByteBuffer contents = entry.contents.duplicate();
+    try (FileChannel channel =
+        FileChannel.open(
+            output.get(),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (contents.hasRemaining()) {
+        channel.write(contents);
+      }
+    } catch (IOException e) {
+      LOG.warn(e, "Artifact fetch(%s, %s) error", ruleKey, output);
+      return Futures.immediateFuture(
+          CacheResult.error(
+              name, CACHE_MODE, String.format("%s: %s", e.getClass(), e.getMessage())));
+    }
+    return Futures.immediateFuture(
+        CacheResult.hit(name, CACHE_MODE, entry.metadata, entry.contents.remaining()));
+  }
+
+  @Override
+  public void skipPendingAndFutureAsyncFetches() {
+    // Fetches are served synchronously, so there's nothing pending to skip.
+  }
+
+  @Override
+  public ListenableFuture<Unit> store(ArtifactInfo info, BorrowablePath output) {
+    Path path = output.getPath();
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size > maxArtifactSizeBytes) {
+        return Futures.immediateFuture(Unit.UNIT);
+      }
+      ByteBuffer contents = ByteBuffer.allocateDirect((int) size);
+      while (contents.hasRemaining()) {
+        if (channel.read(contents) < 0) {
+          break;
+        }
+      }
+      contents.flip();
+
+      Entry entry = new Entry(contents.asReadOnlyBuffer(), info.getMetadata());
+      for (RuleKey ruleKey : info.getRuleKeys()) {
+        entries.put(ruleKey, entry);
+      }
+    } catch (IOException e) {
+      LOG.warn(e, "Artifact store(%s, %s) error", info.getRuleKeys(), path);
+    }
+    return Futures.immediateFuture(Unit.UNIT);
+  }
+
+  @Override
+  public ListenableFuture<ImmutableMap<RuleKey, CacheResult>> multiContainsAsync(
+      ImmutableSet<RuleKey> ruleKeys) {
+    return Futures.immediateFuture(
+        Maps.toMap(
+            ruleKeys,
+            ruleKey ->
+                entries.getIfPresent(ruleKey) == null
+                    ? CacheResult.miss()
+                    : CacheResult.contains(name, CACHE_MODE)));
+  }
+
+  @Override
+  public ListenableFuture<CacheDeleteResult> deleteAsync(List<RuleKey> ruleKeys) {
+    entries.invalidateAll(ruleKeys);
+    return Futures.immediateFuture(CacheDeleteResult.of(ImmutableList.of(name)));
+  }
+
+  @Override
+  public CacheReadMode getCacheReadMode() {
+    return CacheReadMode.READWRITE;
+  }
+
+  long getMaxSizeBytes() {
+    return maxSizeBytes;
+  }
+
+  long getMaxArtifactSizeBytes() {
+    return maxArtifactSizeBytes;
+  }
+
+  /** Drops all entries, once the daemon's state is dropped. */
+  void invalidateAll() {
+    entries.invalidateAll();
+  }
+
+  @Override
+  public void close() {
+    // The entries are kept for the next commands in the daemon.
+  }
+
+  /** Contents and metadata of an artifact. Entries stored under several keys share the buffer. */
+  private static class Entry {
+    private final ByteBuffer contents;
+    private final ImmutableMap<String, String> metadata;
+
+    private Entry(ByteBuffer contents, ImmutableMap<String, String> metadata) {
+      this.contents = contents;
+      this.metadata = metadata;
+    }
+  }
+}
@@ -45,15 +45,26 @@ import javax.annotation.Nullable;
  * MultiArtifactCache encapsulates a set of ArtifactCache instances such that fetch() succeeds if
  * any of the ArtifactCaches contain the desired artifact, and store() applies to all
  * ArtifactCaches.
+ *
+ * <p>Caches that have a {@link RemoteRuleKeyFilter} are only asked for the keys their filter might
+ * contain.
  */
 public class MultiArtifactCache implements ArtifactCache {
 
   private final ImmutableList<ArtifactCache> artifactCaches;
   private final ImmutableList<ArtifactCache> writableArtifactCaches;
   private final boolean isStoreSupported;
+  private final ImmutableMap<ArtifactCache, RemoteRuleKeyFilter> ruleKeyFilters;
 
   public MultiArtifactCache(ImmutableList<ArtifactCache> artifactCaches) {
+    this(artifactCaches, ImmutableMap.of());
+  }
+
+  MultiArtifactCache(
+      ImmutableList<ArtifactCache> artifactCaches,
+      ImmutableMap<ArtifactCache, RemoteRuleKeyFilter> ruleKeyFilters) {
     this.artifactCaches = artifactCaches;
+    this.ruleKeyFilters = ruleKeyFilters;
     this.writableArtifactCaches =
         artifactCaches.stream()
             .filter(c -> c.getCacheReadMode().equals(CacheReadMode.READWRITE))
@@ -71,8 +82,12 @@ public class MultiArtifactCache implements ArtifactCache {
       @Nullable BuildTarget target, RuleKey ruleKey, LazyPath output) {
     ListenableFuture<CacheResult> cacheResult = Futures.immediateFuture(CacheResult.miss());
     AtomicReference<ArtifactCache> lastCache = new AtomicReference<>();
+    // Artifacts fetched after a writable cache missed are propagated to it, so they're needed as
+    // files.
+    LazyPath cacheOutput = output;
 
     for (ArtifactCache artifactCache : artifactCaches) {
+      LazyPath outputForCache = cacheOutput;
       cacheResult =
           Futures.transformAsync(
               cacheResult,
@@ -82,9 +97,12 @@ public class MultiArtifactCache implements ArtifactCache {
                 }
 
                 lastCache.set(artifactCache);
-                return artifactCache.fetchAsync(target, ruleKey, output);
+                return fetchFromCache(artifactCache, target, ruleKey, outputForCache);
               },
               MoreExecutors.directExecutor());
+      if (cacheOutput == output && artifactCache.getCacheReadMode().isWritable()) {
+        cacheOutput = StreamingLazyPath.withoutStreaming(output);
+      }
     }
 
     // Propagate the artifact to previous writable caches.
@@ -115,7 +133,28 @@ public class MultiArtifactCache implements ArtifactCache {
                     .setMetadata(result.getMetadata())
                     .setBuildTarget(Optional.ofNullable(target))
                     .build(),
-                BorrowablePath.notBorrowablePath(output.getUnchecked()));
+                // The fetched file is only read from here on, so the caches can link to it.
+                BorrowablePath.linkablePath(output.getUnchecked()));
+          }
+          return result;
+        },
+        MoreExecutors.directExecutor());
+  }
+
+  private ListenableFuture<CacheResult> fetchFromCache(
+      ArtifactCache artifactCache, @Nullable BuildTarget target, RuleKey ruleKey, LazyPath output) {
+    RemoteRuleKeyFilter ruleKeyFilter = ruleKeyFilters.get(artifactCache);
+    if (ruleKeyFilter == null) {
+      return artifactCache.fetchAsync(target, ruleKey, output);
+    }
+    if (!ruleKeyFilter.mightContain(ruleKey)) {
+      return Futures.immediateFuture(CacheResult.miss());
+    }
+    return Futures.transform(
+        artifactCache.fetchAsync(target, ruleKey, output),
+        result -> {
+          if (result.getType() == CacheResultType.MISS) {
+            ruleKeyFilter.recordMiss(ruleKey);
           }
           return result;
         },
@@ -132,7 +171,7 @@ public class MultiArtifactCache implements ArtifactCache {
   private static ListenableFuture<Unit> storeToCaches(
       ImmutableList<ArtifactCache> caches, ArtifactInfo info, BorrowablePath output) {
     // TODO(cjhopman): support BorrowablePath with multiple writable caches.
-    if (caches.size() != 1) {
+    if (caches.size() != 1 && output.canBorrow()) {
       output = BorrowablePath.notBorrowablePath(output.getPath());
     }
     List<ListenableFuture<Unit>> storeFutures = Lists.newArrayListWithExpectedSize(caches.size());
@@ -188,6 +227,7 @@ public class MultiArtifactCache implements ArtifactCache {
         Futures.immediateFuture(initialResults);
 
     for (ArtifactCache nextCache : artifactCaches) {
+      RemoteRuleKeyFilter ruleKeyFilter = ruleKeyFilters.get(nextCache);
       cacheResultFuture =
           Futures.transformAsync(
               cacheResultFuture,
@@ -196,6 +236,7 @@ public class MultiArtifactCache implements ArtifactCache {
                     mergedResults.entrySet().stream()
                         .filter(e -> !e.getValue().getType().isSuccess())
                         .map(Map.Entry::getKey)
+                        .filter(key -> ruleKeyFilter == null || ruleKeyFilter.mightContain(key))
                         .collect(ImmutableSet.toImmutableSet());
 
                 if (missingKeys.isEmpty()) {
@@ -207,6 +248,14 @@ public class MultiArtifactCache implements ArtifactCache {
                 return Futures.transform(
                     more,
                     results -> {
+                      if (ruleKeyFilter != null) {
+                        results.forEach(
+                            (key, result) -> {
+                              if (result.getType() == CacheResultType.MISS) {
+                                ruleKeyFilter.recordMiss(key);
+                              }
+                            });
+                      }
                       mergedResults.putAll(results);
                       return mergedResults;
                     },
@@ -246,6 +295,8 @@ public class MultiArtifactCache implements ArtifactCache {
 
   @Override
   public void close() {
+    // The filters outlive the command, and are only closed along with the daemon's state.
+    ruleKeyFilters.values().forEach(RemoteRuleKeyFilter::detach);
     Optional<RuntimeException> throwable = Optional.empty();
     for (ArtifactCache artifactCache : artifactCaches) {
       try {
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.artifact_cache.config.ArtifactCacheMode;
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.slb.HttpResponse;
+import com.facebook.buck.slb.HttpService;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnel;
+import com.google.common.hash.Funnels;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+import okhttp3.Request;
+
+/**
+ * Bloom filter of the rule keys a remote cache contains, downloaded from the cache and refreshed
+ * periodically, so that lookups of keys the cache doesn't have don't cost a round trip.
+ *
+ * <p>The filter is served as a Guava {@link BloomFilter} of the hex rule keys, in the format
+ * written by {@link BloomFilter#writeTo}. Until it is downloaded, or when it can't be, every lookup
+ * goes to the cache. Keys stored after the filter was built are missed until the next refresh.
+ *
+ * <p>Filters are kept for the lifetime of the daemon in {@link DaemonicArtifactCacheState}, so that
+ * each command doesn't download them again. A command {@link #attach attaches} to a filter with
+ * the HTTP client it is refreshed through while the command runs, and {@link #detach detaches}
+ * when done, which reports what the filter did for the command in a single {@link
+ * RuleKeyFilterEvent}.
+ */
+class RemoteRuleKeyFilter implements AutoCloseable {
+  private static final Logger LOG = Logger.get(RemoteRuleKeyFilter.class);
+
+  static final Funnel<CharSequence> FUNNEL = Funnels.stringFunnel(StandardCharsets.UTF_8);
+
+  private final String endpoint;
+  private final ArtifactCacheMode cacheMode;
+  private final long refreshNanos;
+  private final ExecutorService refreshExecutor;
+  private final AtomicBoolean refreshing = new AtomicBoolean();
+  private final AtomicInteger skipped = new AtomicInteger();
+  private final AtomicInteger falsePositives = new AtomicInteger();
+
+  @Nullable private volatile BloomFilter<CharSequence> filter;
+  @Nullable private volatile HttpService fetchService;
+  @Nullable private volatile BuckEventBus buckEventBus;
+  private volatile long lastRefreshNanos;
+  private volatile boolean refreshAttempted;
+
+  RemoteRuleKeyFilter(String endpoint, ArtifactCacheMode cacheMode, long refreshSeconds) {
+    this.endpoint = endpoint;
+    this.cacheMode = cacheMode;
+    this.refreshNanos = TimeUnit.SECONDS.toNanos(refreshSeconds);
+    this.refreshExecutor =
+        Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setNameFormat("rule-key-filter-%d").setDaemon(true).build());
+  }
+
+  ArtifactCacheMode getCacheMode() {
+    return cacheMode;
+  }
+
+  long getRefreshSeconds() {
+    return TimeUnit.NANOSECONDS.toSeconds(refreshNanos);
+  }
+
+  /**
+   * Uses the filter for a command, refreshing it in the background through {@code fetchService}
+   * if it's missing or out of date.
+   */
+  void attach(HttpService fetchService, BuckEventBus buckEventBus) {
+    this.fetchService = fetchService;
+    this.buckEventBus = buckEventBus;
+    refreshInBackgroundIfNeeded(filter == null);
+  }
+
+  /**
+   * Reports what the filter did for the command that used it, and stops refreshing it until the
+   * next command.
+   */
+  void detach() {
+    BuckEventBus buckEventBus = this.buckEventBus;
+    this.fetchService = null;
+    this.buckEventBus = null;
+    int skipped = this.skipped.getAndSet(0);
+    int falsePositives = this.falsePositives.getAndSet(0);
+    if (buckEventBus != null && (skipped > 0 || falsePositives > 0)) {
+      buckEventBus.post(new RuleKeyFilterEvent(cacheMode, skipped, falsePositives));
+    }
+  }
+
+  /**
+   * @return false if the cache definitely doesn't contain {@code ruleKey}, in which case the lookup
+   *     is counted as skipped.
+   */
+  boolean mightContain(RuleKey ruleKey) {
+    refreshInBackgroundIfNeeded(false);
+    BloomFilter<CharSequence> filter = this.filter;
+    if (filter == null || filter.mightContain(ruleKey.toString())) {
+      return true;
+    }
+    skipped.incrementAndGet();
+    return false;
+  }
+
+  /** Records that the cache missed {@code ruleKey} though {@link #mightContain} let it through. */
+  void recordMiss(RuleKey ruleKey) {
+    if (filter != null) {
+      falsePositives.incrementAndGet();
+    }
+  }
+
+  void refresh(HttpService fetchService) throws IOException {
+    try (HttpResponse response = fetchService.makeRequest(endpoint, new Request.Builder().get())) {
+      if (response.statusCode() != 200) {
+        throw new IOException(
+            String.format(
+                "Failed to fetch the rule key filter with HTTP status code [%d:%s] from [%s].",
+                response.statusCode(), response.statusMessage(), response.requestUrl()));
+      }
+      filter = BloomFilter.readFrom(response.getBody(), FUNNEL);
+    }
+  }
+
+  private void refreshInBackgroundIfNeeded(boolean force) {
+    HttpService fetchService = this.fetchService;
+    if (fetchService == null
+        || (!force && refreshAttempted && System.nanoTime() - lastRefreshNanos < refreshNanos)
+        || !refreshing.compareAndSet(false, true)) {
+      return;
+    }
+    refreshAttempted = true;
+    lastRefreshNanos = System.nanoTime();
+    try {
+      refreshExecutor.execute(
+          () -> {
+            try {
+              refreshOrLog(fetchService);
+            } finally {
+              refreshing.set(false);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      refreshing.set(false);
+    }
+  }
+
+  private void refreshOrLog(HttpService fetchService) {
+    try {
+      refresh(fetchService);
+    } catch (IOException | RuntimeException e) {
+      LOG.warn(e, "Failed to refresh the rule key filter of the %s cache.", cacheMode);
+      // Rather than skip keys that may have been stored since the last refresh.
+      filter = null;
+    }
+  }
+
+  @Override
+  public void close() {
+    refreshExecutor.shutdownNow();
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.artifact_cache.config.ArtifactCacheMode;
+import com.facebook.buck.event.AbstractBuckEvent;
+import com.facebook.buck.event.EventKey;
+
+/**
+ * Posted once a command is done with the rule key filter of a remote cache, with the number of
+ * lookups the filter saved, and the number it let through that missed anyway, from which listeners
+ * derive the false positive rate of the filter.
+ */
+public class RuleKeyFilterEvent extends AbstractBuckEvent {
+
+  private final ArtifactCacheMode cacheMode;
+  private final int skipped;
+  private final int falsePositives;
+
+  public RuleKeyFilterEvent(ArtifactCacheMode cacheMode, int skipped, int falsePositives) {
+    super(EventKey.unique());
+    this.cacheMode = cacheMode;
+    this.skipped = skipped;
+    this.falsePositives = falsePositives;
+  }
+
+  public ArtifactCacheMode getCacheMode() {
+    return cacheMode;
+  }
+
+  /** @return the number of keys that weren't in the filter, which the cache wasn't asked for. */
+  public int getSkipped() {
+    return skipped;
+  }
+
+  /** @return the number of keys that were in the filter, but which the cache didn't have. */
+  public int getFalsePositives() {
+    return falsePositives;
+  }
+
+  @Override
+  protected String getValueString() {
+    return String.format("%s skipped %d false positives %d", cacheMode, skipped, falsePositives);
+  }
+
+  @Override
+  public String getEventName() {
+    return "RuleKeyFilter";
+  }
+}
@@ -44,6 +44,7 @@ import com.google.common.io.ByteStreams;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
@@ -60,12 +61,22 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import javax.annotation.Nullable;
 import org.sqlite.BusyHandler;
 import org.sqlite.SQLiteConfig;
@@ -87,6 +98,11 @@ public class SQLiteArtifactCache implements ArtifactCache {
   private static final String TMP_EXTENSION = ".tmp";
   private static final long DEFAULT_MAX_INLINED_BYTES = 40;
   private static final Duration DEFAULT_EVICTION_TIME = Duration.ofDays(7);
+  // How often buffered writes are committed to the database.
+  private static final long FLUSH_INTERVAL_MILLIS = 100;
+  // How many buffered writes to allow before the writing thread commits them itself.
+  private static final int MAX_PENDING_WRITES = 10000;
+  private static final int MAX_READERS = 16;
 
   private final String name;
   private final ProjectFilesystem filesystem;
@@ -136,7 +152,7 @@ public class SQLiteArtifactCache implements ArtifactCache {
           String.format("Cache path [%s] already exists and is not a directory.", cacheDir));
     }
 
-    this.db = new ConnectionInfo(cacheDir);
+    this.db = new ConnectionInfo(filesystem, cacheDir);
   }
 
   @Override
@@ -470,6 +486,7 @@ public class SQLiteArtifactCache implements ArtifactCache {
   @VisibleForTesting
   void insertMetadata(RuleKey ruleKey, ImmutableMap<String, String> metadata, Timestamp time)
       throws IOException, SQLException {
+    db.flush();
     PreparedStatement stmt =
         db.connection.prepareStatement(
             "INSERT INTO metadata (rulekey, data, accessed) VALUES (?, ?, ?)");
@@ -483,6 +500,7 @@ public class SQLiteArtifactCache implements ArtifactCache {
   void insertContent(RuleKey contentHash, BorrowablePath file, Timestamp time)
       throws IOException, SQLException {
     long size = filesystem.getFileSize(file.getPath());
+    db.flush();
     PreparedStatement stmt =
         db.connection.prepareStatement(
             "INSERT INTO content (sha1, artifact, filepath, size, accessed, created) "
@@ -502,6 +520,7 @@ public class SQLiteArtifactCache implements ArtifactCache {
 
   @VisibleForTesting
   ImmutableList<RuleKey> directoryFileContentHashes() throws SQLException {
+    db.flush();
     ImmutableList.Builder<RuleKey> keys = ImmutableList.builder();
     try (ResultSet rs =
         db.connection
@@ -516,6 +535,7 @@ public class SQLiteArtifactCache implements ArtifactCache {
 
   @VisibleForTesting
   ImmutableList<RuleKey> inlinedArtifactContentHashes() throws SQLException {
+    db.flush();
     ImmutableList.Builder<RuleKey> keys = ImmutableList.builder();
     try (ResultSet rs =
         db.connection
@@ -530,6 +550,7 @@ public class SQLiteArtifactCache implements ArtifactCache {
 
   @VisibleForTesting
   ImmutableList<RuleKey> metadataRuleKeys() throws SQLException {
+    db.flush();
     ImmutableList.Builder<RuleKey> keys = ImmutableList.builder();
     try (ResultSet rs =
         db.connection.createStatement().executeQuery("SELECT rulekey FROM metadata")) {
@@ -540,12 +561,20 @@ public class SQLiteArtifactCache implements ArtifactCache {
     return keys.build();
   }
 
+  /**
+   * Connections to the database of the cache.
+   *
+   * <p>Writes, including updates of access times, are buffered and committed together by a
+   * background thread, since SQLite only allows one writer at a time and committing each of them
+   * separately serializes the build threads on its write lock. Reads check the buffered writes
+   * before the database, and go through a pool of connections which, with the database in WAL
+   * mode, don't wait for the writer.
+   */
   private static class ConnectionInfo {
+    private final ProjectFilesystem filesystem;
+    private final String url;
     private final Connection connection;
 
-    private final PreparedStatement fetchMetadata;
-    private final PreparedStatement fetchContent;
-
     private final PreparedStatement updateMetadataTime;
     private final PreparedStatement updateContentTime;
 
@@ -561,13 +590,20 @@ public class SQLiteArtifactCache implements ArtifactCache {
 
     private final PreparedStatement contentSize;
 
-    private ConnectionInfo(Path cacheDir) throws SQLException {
-      // date format must be set to match CURRENT_TIMESTAMP
-      Properties properties = new SQLiteConfig().toProperties();
-      properties.setProperty(
-          SQLiteConfig.Pragma.DATE_STRING_FORMAT.pragmaName, "yyyy-MM-dd HH:mm:ss");
-      connection =
-          DriverManager.getConnection("jdbc:sqlite:" + cacheDir.resolve("dircache.db"), properties);
+    private final BlockingQueue<Reader> idleReaders = new LinkedBlockingQueue<>();
+    private final AtomicInteger readerCount = new AtomicInteger();
+    private final int maxReaders;
+
+    private final Object pendingLock = new Object();
+    // Writes which haven't been committed yet, and the ones being committed.
+    private Writes pending = new Writes();
+    private Writes committing = new Writes();
+    private final ScheduledExecutorService flushExecutor;
+
+    private ConnectionInfo(ProjectFilesystem filesystem, Path cacheDir) throws SQLException {
+      this.filesystem = filesystem;
+      url = "jdbc:sqlite:" + cacheDir.resolve("dircache.db");
+      connection = DriverManager.getConnection(url, getProperties(new SQLiteConfig()));
       connection.createStatement().executeUpdate("PRAGMA SYNCHRONOUS = OFF");
       connection.createStatement().executeUpdate("PRAGMA JOURNAL_MODE = WAL");
 
@@ -603,11 +639,6 @@ public class SQLiteArtifactCache implements ArtifactCache {
                   + "OR artifact ISNULL AND filepath NOT NULL)) "
                   + "WITHOUT ROWID");
 
-      fetchMetadata = connection.prepareStatement("SELECT data FROM metadata WHERE rulekey = ?");
-      fetchContent =
-          connection.prepareStatement(
-              "SELECT artifact, filepath, size FROM content WHERE sha1 = ?");
-
       updateMetadataTime =
           connection.prepareStatement(
               "UPDATE metadata SET accessed = CURRENT_TIMESTAMP WHERE rulekey = ?");
@@ -617,12 +648,14 @@ public class SQLiteArtifactCache implements ArtifactCache {
 
       storeMetadata =
           connection.prepareStatement("REPLACE INTO metadata (rulekey, data) VALUES (?, ?)");
+      // Content may have been stored by another process since it was found to be missing, and
+      // a conflict would fail the whole batch.
       storeArtifact =
           connection.prepareStatement(
-              "INSERT INTO content (sha1, artifact, size) VALUES (?, ?, ?)");
+              "INSERT OR REPLACE INTO content (sha1, artifact, size) VALUES (?, ?, ?)");
       storeFilepath =
           connection.prepareStatement(
-              "INSERT INTO content (sha1, filepath, size) VALUES (?, ?, ?)");
+              "INSERT OR REPLACE INTO content (sha1, filepath, size) VALUES (?, ?, ?)");
 
       selectContentByTime =
           connection.prepareStatement(
@@ -637,117 +670,325 @@ public class SQLiteArtifactCache implements ArtifactCache {
       contentSize = connection.prepareStatement("SELECT sum(size) FROM content");
 
       BusyHandler.setHandler(connection, new RetryBusyHandler());
+
+      maxReaders = Math.min(Runtime.getRuntime().availableProcessors(), MAX_READERS);
+      flushExecutor =
+          Executors.newSingleThreadScheduledExecutor(
+              new ThreadFactoryBuilder()
+                  .setNameFormat("sqlite-cache-flush-%d")
+                  .setDaemon(true)
+                  .build());
+      flushExecutor.scheduleWithFixedDelay(
+          this::flushOrLog, FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private static Properties getProperties(SQLiteConfig config) {
+      // date format must be set to match CURRENT_TIMESTAMP
+      Properties properties = config.toProperties();
+      properties.setProperty(
+          SQLiteConfig.Pragma.DATE_STRING_FORMAT.pragmaName, "yyyy-MM-dd HH:mm:ss");
+      return properties;
+    }
+
+    private Optional<byte[]> selectMetadata(RuleKey ruleKey) throws SQLException {
+      synchronized (pendingLock) {
+        for (Writes writes : ImmutableList.of(pending, committing)) {
+          byte[] metadata = writes.metadata.get(ruleKey);
+          if (metadata != null) {
+            return Optional.of(metadata);
+          }
+        }
+      }
+      Reader reader = acquireReader();
+      try {
+        reader.fetchMetadata.setBytes(1, getBytes(ruleKey));
+        try (ResultSet rs = reader.fetchMetadata.executeQuery()) {
+          return rs.next() ? Optional.of(rs.getBytes(1)) : Optional.empty();
+        }
+      } finally {
+        idleReaders.add(reader);
+      }
     }
 
-    private synchronized Optional<byte[]> selectMetadata(RuleKey ruleKey) throws SQLException {
-      fetchMetadata.setBytes(1, getBytes(ruleKey));
-      ResultSet rs = fetchMetadata.executeQuery();
-      return rs.next() ? Optional.of(rs.getBytes(1)) : Optional.empty();
+    private Optional<Content> selectContent(RuleKey contentHash) throws SQLException {
+      synchronized (pendingLock) {
+        for (Writes writes : ImmutableList.of(pending, committing)) {
+          Content content = writes.content.get(contentHash);
+          if (content != null) {
+            return Optional.of(content);
+          } else if (writes.deletedContent.contains(contentHash)) {
+            return Optional.empty();
+          }
+        }
+      }
+      Reader reader = acquireReader();
+      try {
+        reader.fetchContent.setBytes(1, getBytes(contentHash));
+        try (ResultSet rs = reader.fetchContent.executeQuery()) {
+          return rs.next()
+              ? Optional.of(new Content(rs.getBytes(1), rs.getString(2), rs.getLong(3)))
+              : Optional.empty();
+        }
+      } finally {
+        idleReaders.add(reader);
+      }
     }
 
-    private synchronized Optional<Content> selectContent(RuleKey contentHash) throws SQLException {
-      fetchContent.setBytes(1, getBytes(contentHash));
-      ResultSet rs = fetchContent.executeQuery();
-      return rs.next()
-          ? Optional.of(new Content(rs.getBytes(1), rs.getString(2), rs.getLong(3)))
-          : Optional.empty();
+    private Reader acquireReader() throws SQLException {
+      Reader reader = idleReaders.poll();
+      if (reader != null) {
+        return reader;
+      }
+      if (readerCount.incrementAndGet() <= maxReaders) {
+        try {
+          return new Reader(url);
+        } catch (SQLException e) {
+          readerCount.decrementAndGet();
+          throw e;
+        }
+      }
+      readerCount.decrementAndGet();
+      try {
+        return idleReaders.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new SQLException(e);
+      }
     }
 
-    private synchronized void accessMetadata(RuleKey ruleKey) throws SQLException {
-      updateMetadataTime.setBytes(1, getBytes(ruleKey));
-      updateMetadataTime.executeUpdate();
+    private void accessMetadata(RuleKey ruleKey) throws SQLException {
+      write(writes -> writes.accessedMetadata.add(ruleKey));
     }
 
-    private synchronized void accessContent(RuleKey contentHash) throws SQLException {
-      updateContentTime.setBytes(1, getBytes(contentHash));
-      updateContentTime.executeUpdate();
+    private void accessContent(RuleKey contentHash) throws SQLException {
+      write(writes -> writes.accessedContent.add(contentHash));
     }
 
-    private synchronized void storeMetadata(ImmutableSet<RuleKey> ruleKeys, byte[] metadata)
+    private void storeMetadata(ImmutableSet<RuleKey> ruleKeys, byte[] metadata)
         throws SQLException {
-      for (RuleKey ruleKey : ruleKeys) {
-        storeMetadata.setBytes(1, getBytes(ruleKey));
-        storeMetadata.setBytes(2, metadata);
-        storeMetadata.addBatch();
-      }
-      storeMetadata.executeBatch();
+      write(
+          writes -> {
+            for (RuleKey ruleKey : ruleKeys) {
+              writes.metadata.put(ruleKey, metadata);
+            }
+          });
     }
 
-    private synchronized void storeArtifact(Iterable<RuleKey> hashes, byte[] artifact, long size)
+    private void storeArtifact(Iterable<RuleKey> hashes, byte[] artifact, long size)
         throws SQLException {
-      for (RuleKey contentHash : hashes) {
-        storeArtifact.setBytes(1, getBytes(contentHash));
-        storeArtifact.setBytes(2, artifact);
-        storeArtifact.setLong(3, size);
-        storeArtifact.addBatch();
-      }
-      storeArtifact.executeBatch();
+      storeContent(hashes, new Content(artifact, null, size));
     }
 
-    private synchronized void storeFilepath(Iterable<RuleKey> ruleKeys, String filepath, long size)
+    private void storeFilepath(Iterable<RuleKey> hashes, String filepath, long size)
         throws SQLException {
-      for (RuleKey ruleKey : ruleKeys) {
-        storeFilepath.setBytes(1, getBytes(ruleKey));
-        storeFilepath.setString(2, filepath);
-        storeFilepath.setLong(3, size);
-        storeFilepath.addBatch();
-      }
-      storeFilepath.executeBatch();
+      storeContent(hashes, new Content(null, filepath, size));
+    }
+
+    private void storeContent(Iterable<RuleKey> hashes, Content content) throws SQLException {
+      write(
+          writes -> {
+            for (RuleKey contentHash : hashes) {
+              writes.deletedContent.remove(contentHash);
+              writes.content.put(contentHash, content);
+            }
+          });
     }
 
-    private synchronized int deleteMetadata(Timestamp evictionCutoff) throws SQLException {
-      deleteMetadataBeforeCutoff.setTimestamp(1, evictionCutoff);
-      return deleteMetadataBeforeCutoff.executeUpdate();
+    private void deleteContent(RuleKey contentHash) throws SQLException {
+      write(
+          writes -> {
+            writes.content.remove(contentHash);
+            writes.deletedContent.add(contentHash);
+          });
     }
 
-    private synchronized int deleteContent(Timestamp evictionCutoff) throws SQLException {
-      deleteContentBeforeCutoff.setTimestamp(1, evictionCutoff);
-      return deleteContentBeforeCutoff.executeUpdate();
+    /**
+     * Buffers a write, committing the buffered writes right away if there are so many of them that
+     * the background thread isn't keeping up.
+     */
+    private void write(Consumer<Writes> write) throws SQLException {
+      boolean flush;
+      synchronized (pendingLock) {
+        write.accept(pending);
+        flush = pending.size() >= MAX_PENDING_WRITES;
+      }
+      if (flush) {
+        flush();
+      }
     }
 
-    private synchronized void deleteContent(RuleKey contentHash) throws SQLException {
-      deleteContentForHash.setBytes(1, getBytes(contentHash));
-      deleteContentForHash.executeUpdate();
+    /** Commits the buffered writes in a single transaction. */
+    private void flush() throws SQLException {
+      synchronized (connection) {
+        Writes writes;
+        synchronized (pendingLock) {
+          if (pending.size() == 0) {
+            return;
+          }
+          writes = pending;
+          committing = writes;
+          pending = new Writes();
+        }
+        try {
+          commit(writes);
+        } catch (SQLException e) {
+          // Writes which failed to commit are dropped, which only loses entries of the cache.
+          deleteUncommittedFiles(writes);
+          throw e;
+        } finally {
+          synchronized (pendingLock) {
+            committing = new Writes();
+          }
+        }
+      }
     }
 
-    private synchronized long totalSize() throws SQLException {
-      ResultSet rs = contentSize.executeQuery();
-      if (!rs.next()) {
-        throw new SQLException("Query failed: total size of artifacts");
+    /**
+     * Deletes the files of artifacts whose rows failed to commit, as nothing refers to them, unless
+     * they were stored again in the meantime.
+     */
+    private void deleteUncommittedFiles(Writes writes) {
+      Set<String> storedAgain = new HashSet<>();
+      synchronized (pendingLock) {
+        for (Content content : pending.content.values()) {
+          storedAgain.add(content.filepath);
+        }
+      }
+      for (Content content : writes.content.values()) {
+        if (content.filepath == null || storedAgain.contains(content.filepath)) {
+          continue;
+        }
+        try {
+          filesystem.deleteFileAtPathIfExists(filesystem.resolve(content.filepath));
+        } catch (IOException e) {
+          LOG.warn(e, "Failed to delete uncommitted artifact [%s].", content.filepath);
+        }
       }
+    }
 
-      return rs.getLong(1);
+    private void flushOrLog() {
+      try {
+        flush();
+      } catch (SQLException e) {
+        LOG.warn(e, "Failed to commit writes to the SQLite cache.");
+      }
     }
 
-    private synchronized Pair<Iterable<String>, Timestamp> getContentToEvict(long minToDelete)
-        throws SQLException {
-      ImmutableList.Builder<String> filepaths = ImmutableList.builder();
-      long deleted = 0;
-
-      ResultSet artifacts = selectContentByTime.executeQuery();
-      while (deleted < minToDelete && artifacts.next()) {
-        String filepath = artifacts.getString(1);
-        long sizeBytes = artifacts.getLong(2);
-
-        // from database constraint, exactly one of filepath/artifact is null
-        if (Objects.nonNull(filepath)) {
-          LOG.verbose("Deleting path [%s] of total size [%d] bytes.", filepath, sizeBytes);
-          filepaths.add(filepath);
-        } else {
-          LOG.verbose("Deleting inlined artifact of size [%d] bytes.", sizeBytes);
+    private void commit(Writes writes) throws SQLException {
+      connection.setAutoCommit(false);
+      try {
+        for (RuleKey contentHash : writes.deletedContent) {
+          deleteContentForHash.setBytes(1, getBytes(contentHash));
+          deleteContentForHash.addBatch();
+        }
+        deleteContentForHash.executeBatch();
+
+        for (Map.Entry<RuleKey, byte[]> entry : writes.metadata.entrySet()) {
+          storeMetadata.setBytes(1, getBytes(entry.getKey()));
+          storeMetadata.setBytes(2, entry.getValue());
+          storeMetadata.addBatch();
+        }
+        storeMetadata.executeBatch();
+
+        for (Map.Entry<RuleKey, Content> entry : writes.content.entrySet()) {
+          Content content = entry.getValue();
+          // from database constraint, exactly one of filepath/artifact is null
+          PreparedStatement statement = content.artifact != null ? storeArtifact : storeFilepath;
+          statement.setBytes(1, getBytes(entry.getKey()));
+          if (content.artifact != null) {
+            statement.setBytes(2, content.artifact);
+          } else {
+            statement.setString(2, content.filepath);
+          }
+          statement.setLong(3, content.size);
+          statement.addBatch();
+        }
+        storeArtifact.executeBatch();
+        storeFilepath.executeBatch();
+
+        for (RuleKey ruleKey : writes.accessedMetadata) {
+          updateMetadataTime.setBytes(1, getBytes(ruleKey));
+          updateMetadataTime.addBatch();
         }
+        updateMetadataTime.executeBatch();
 
-        deleted += sizeBytes;
+        for (RuleKey contentHash : writes.accessedContent) {
+          updateContentTime.setBytes(1, getBytes(contentHash));
+          updateContentTime.addBatch();
+        }
+        updateContentTime.executeBatch();
+
+        connection.commit();
+      } catch (SQLException e) {
+        connection.rollback();
+        throw e;
+      } finally {
+        connection.setAutoCommit(true);
+      }
+    }
+
+    private int deleteMetadata(Timestamp evictionCutoff) throws SQLException {
+      synchronized (connection) {
+        flush();
+        deleteMetadataBeforeCutoff.setTimestamp(1, evictionCutoff);
+        return deleteMetadataBeforeCutoff.executeUpdate();
       }
+    }
+
+    private int deleteContent(Timestamp evictionCutoff) throws SQLException {
+      synchronized (connection) {
+        flush();
+        deleteContentBeforeCutoff.setTimestamp(1, evictionCutoff);
+        return deleteContentBeforeCutoff.executeUpdate();
+      }
+    }
+
+    private long totalSize() throws SQLException {
+      synchronized (connection) {
+        flush();
+        try (ResultSet rs = contentSize.executeQuery()) {
+          if (!rs.next()) {
+            throw new SQLException("Query failed: total size of artifacts");
+          }
 
-      Timestamp evictionCutoff;
-      if (artifacts.next()) {
-        evictionCutoff = artifacts.getTimestamp(3);
-      } else {
-        evictionCutoff = Timestamp.from(Instant.now());
+          return rs.getLong(1);
+        }
       }
+    }
 
-      return new Pair<>(filepaths.build(), evictionCutoff);
+    private Pair<Iterable<String>, Timestamp> getContentToEvict(long minToDelete)
+        throws SQLException {
+      synchronized (connection) {
+        flush();
+        ImmutableList.Builder<String> filepaths = ImmutableList.builder();
+        long deleted = 0;
+
+        try (ResultSet artifacts = selectContentByTime.executeQuery()) {
+          while (deleted < minToDelete && artifacts.next()) {
+            String filepath = artifacts.getString(1);
+            long sizeBytes = artifacts.getLong(2);
+
+            // from database constraint, exactly one of filepath/artifact is null
+            if (Objects.nonNull(filepath)) {
+              LOG.verbose("Deleting path [%s] of total size [%d] bytes.", filepath, sizeBytes);
+              filepaths.add(filepath);
+            } else {
+              LOG.verbose("Deleting inlined artifact of size [%d] bytes.", sizeBytes);
+            }
+
+            deleted += sizeBytes;
+          }
+
+          Timestamp evictionCutoff;
+          if (artifacts.next()) {
+            evictionCutoff = artifacts.getTimestamp(3);
+          } else {
+            evictionCutoff = Timestamp.from(Instant.now());
+          }
+
+          return new Pair<>(filepaths.build(), evictionCutoff);
+        }
+      }
     }
 
     private static byte[] getBytes(RuleKey ruleKey) {
@@ -755,7 +996,21 @@ public class SQLiteArtifactCache implements ArtifactCache {
     }
 
     private void close() {
+      flushExecutor.shutdown();
       try {
+        flushExecutor.awaitTermination(1, TimeUnit.MINUTES);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      try {
+        flush();
+      } catch (SQLException e) {
+        LOG.warn(e, "Failed to commit writes to the SQLite cache.");
+      }
+      try {
+        for (Reader reader : idleReaders) {
+          reader.connection.close();
+        }
         connection.close();
       } catch (SQLException e) {
         throw new RuntimeException(e);
@@ -763,6 +1018,41 @@ public class SQLiteArtifactCache implements ArtifactCache {
     }
   }
 
+  /** A read-only connection to the database of the cache. */
+  private static class Reader {
+    private final Connection connection;
+    private final PreparedStatement fetchMetadata;
+    private final PreparedStatement fetchContent;
+
+    private Reader(String url) throws SQLException {
+      SQLiteConfig config = new SQLiteConfig();
+      config.setReadOnly(true);
+      connection = DriverManager.getConnection(url, ConnectionInfo.getProperties(config));
+      fetchMetadata = connection.prepareStatement("SELECT data FROM metadata WHERE rulekey = ?");
+      fetchContent =
+          connection.prepareStatement(
+              "SELECT artifact, filepath, size FROM content WHERE sha1 = ?");
+      BusyHandler.setHandler(connection, new RetryBusyHandler());
+    }
+  }
+
+  /** Writes to the database which haven't been committed yet. */
+  private static class Writes {
+    private final Map<RuleKey, byte[]> metadata = new HashMap<>();
+    private final Map<RuleKey, Content> content = new HashMap<>();
+    private final Set<RuleKey> deletedContent = new HashSet<>();
+    private final Set<RuleKey> accessedMetadata = new HashSet<>();
+    private final Set<RuleKey> accessedContent = new HashSet<>();
+
+    private int size() {
+      return metadata.size()
+          + content.size()
+          + deletedContent.size()
+          + accessedMetadata.size()
+          + accessedContent.size();
+    }
+  }
+
   private static class Content {
     private final byte[] artifact;
     private final String filepath;
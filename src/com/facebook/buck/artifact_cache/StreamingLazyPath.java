@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.io.file.LazyPath;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * A {@link LazyPath} to fetch an artifact to, which can also consume the payload of the artifact
+ * while it is being received.
+ *
+ * <p>Caches which read artifacts from the network hand the payload to {@link #consume} instead of
+ * writing it to a temporary file first. Other caches, and decorators which need the artifact as a
+ * file (e.g. to store it to another cache), use it as a regular {@link LazyPath}.
+ */
+public abstract class StreamingLazyPath extends LazyPath {
+
+  private volatile boolean consumed = false;
+
+  /**
+   * Consumes the payload of a fetched artifact. Caches verify the payload only once it has been
+   * consumed, so anything done with it must be undone unless the fetch turns out to be a hit. May
+   * be called more than once if a fetch is retried.
+   */
+  protected abstract void consume(InputStream payload) throws IOException;
+
+  /**
+   * Passes a payload to {@link #consume}, and reads whatever it left unread, so that the whole
+   * payload is still covered by the checksums computed by the cache.
+   *
+   * @return the size of the payload
+   */
+  final long consumeFully(InputStream payload) throws IOException {
+    consumed = false;
+    CountingInputStream countingPayload = new CountingInputStream(payload);
+    consume(
+        new FilterInputStream(countingPayload) {
+          @Override
+          public void close() {
+            // The rest of the payload still has to be read.
+          }
+        });
+    ByteStreams.exhaust(countingPayload);
+    return countingPayload.getCount();
+  }
+
+  /** Called by caches once the payload they handed to {@link #consume} turned out to be a hit. */
+  final void markConsumed() {
+    consumed = true;
+  }
+
+  /**
+   * @return whether the artifact of the last successful fetch was consumed as a stream, rather than
+   *     written to the path.
+   */
+  public final boolean wasConsumed() {
+    return consumed;
+  }
+
+  /**
+   * @return a {@link LazyPath} to the same path which caches always write the artifact to, for
+   *     callers which need the fetched artifact as a file.
+   */
+  static LazyPath withoutStreaming(LazyPath output) {
+    if (!(output instanceof StreamingLazyPath)) {
+      return output;
+    }
+    return new LazyPath() {
+      @Override
+      protected Path create() throws IOException {
+        return output.get();
+      }
+    };
+  }
+}
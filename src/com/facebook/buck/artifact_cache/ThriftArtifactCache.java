@@ -183,16 +183,14 @@ public class ThriftArtifactCache extends AbstractNetworkCache {
         }
 
         LOG.verbose("Got artifact.  Attempting to read payload.");
-        Path tmp = createTempFileForDownload();
+        PayloadReader payloadReader = new PayloadReader(response);
+        @Nullable Path tmp = null;
         ThriftArtifactCacheProtocol.Response.ReadPayloadInfo readResult;
-        try (OutputStream tmpFile = getProjectFilesystem().newFileOutputStream(tmp)) {
-          try {
-            readResult = response.readPayload(tmpFile);
-          } catch (IOException e) {
-            LOG.debug(e, "encountered an exception while receiving the payload for %s", ruleKey);
-            throw e;
-          }
-          LOG.verbose("Successfully read payload: %d bytes.", readResult.getBytesRead());
+        if (canStreamPayload(fetchResponse.getMetadata(), output)) {
+          readResult = payloadReader.readNextPayload((StreamingLazyPath) output, ruleKey);
+        } else {
+          tmp = createTempFileForDownload();
+          readResult = payloadReader.readNextPayload(tmp, ruleKey);
         }
 
         if (!fetchResponse.isSetMetadata()) {
@@ -258,7 +256,11 @@ public class ThriftArtifactCache extends AbstractNetworkCache {
         }
 
         // This makes sure we don't have 'half downloaded files' in the dir cache.
-        getProjectFilesystem().move(tmp, output.get(), StandardCopyOption.REPLACE_EXISTING);
+        if (tmp != null) {
+          getProjectFilesystem().move(tmp, output.get(), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+          ((StreamingLazyPath) output).markConsumed();
+        }
         return resultBuilder
             .setCacheResult(
                 CacheResult.hit(
@@ -594,13 +596,17 @@ public class ThriftArtifactCache extends AbstractNetworkCache {
     }
 
     LOG.verbose("Got artifact.  Attempting to read payload.");
-    Path tmp = createTempFileForDownload();
 
     // Always read payload even if information is missing to ensure that we associate payloads
     // with the correct result.
-    @SuppressWarnings("PMD.PrematureDeclaration")
-    ThriftArtifactCacheProtocol.Response.ReadPayloadInfo readResult =
-        payloadReader.readNextPayload(tmp, ruleKey);
+    @Nullable Path tmp = null;
+    ThriftArtifactCacheProtocol.Response.ReadPayloadInfo readResult;
+    if (canStreamPayload(fetchResponse.getMetadata(), output)) {
+      readResult = payloadReader.readNextPayload((StreamingLazyPath) output, ruleKey);
+    } else {
+      tmp = createTempFileForDownload();
+      readResult = payloadReader.readNextPayload(tmp, ruleKey);
+    }
 
     if (!fetchResponse.isSetMetadata()) {
       String msg =
@@ -673,7 +679,11 @@ public class ThriftArtifactCache extends AbstractNetworkCache {
     }
 
     // This makes sure we don't have 'half downloaded files' in the dir cache.
-    getProjectFilesystem().move(tmp, output.get(), StandardCopyOption.REPLACE_EXISTING);
+    if (tmp != null) {
+      getProjectFilesystem().move(tmp, output.get(), StandardCopyOption.REPLACE_EXISTING);
+    } else {
+      ((StreamingLazyPath) output).markConsumed();
+    }
     builder.setCacheResult(
         CacheResult.hit(
             getName(),
@@ -682,6 +692,16 @@ public class ThriftArtifactCache extends AbstractNetworkCache {
             readResult.getBytesRead()));
   }
 
+  /**
+   * Payloads are only handed to streaming outputs when they can be verified once they have been
+   * consumed, otherwise they're downloaded to a temporary file first.
+   */
+  private static boolean canStreamPayload(@Nullable ArtifactMetadata metadata, LazyPath output) {
+    return output instanceof StreamingLazyPath
+        && metadata != null
+        && metadata.isSetArtifactPayloadMd5();
+  }
+
   private TargetConfiguration getTargetConfigurationFromMetadata(
       ArtifactMetadata artifactMetadata) {
     if (Strings.isNullOrEmpty(artifactMetadata.getConfiguration())) {
@@ -945,5 +965,18 @@ public class ThriftArtifactCache extends AbstractNetworkCache {
         return result;
       }
     }
+
+    ThriftArtifactCacheProtocol.Response.ReadPayloadInfo readNextPayload(
+        StreamingLazyPath output, RuleKey ruleKey) throws IOException {
+      ThriftArtifactCacheProtocol.Response.ReadPayloadInfo result;
+      try {
+        result = response.readPayload(output);
+      } catch (IOException e) {
+        LOG.debug(e, "Encountered an exception while receiving the payload for %s", ruleKey);
+        throw e;
+      }
+      LOG.verbose("Successfully streamed payload: %d bytes.", result.getBytesRead());
+      return result;
+    }
   }
 }
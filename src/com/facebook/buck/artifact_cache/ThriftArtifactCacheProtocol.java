@@ -26,6 +26,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
 import com.google.common.hash.HashingOutputStream;
 import com.google.common.io.ByteSource;
 import com.google.common.io.ByteStreams;
@@ -182,16 +183,7 @@ public class ThriftArtifactCacheProtocol {
     }
 
     public ReadPayloadInfo readPayload(OutputStream outStream) throws IOException {
-      assertTrue(
-          nextPayloadToBeRead < thriftData.getPayloadsSize(),
-          "Trying to download payload index=[%s] but the thriftData only contains [%s] payloads.",
-          nextPayloadToBeRead,
-          thriftData.getPayloadsSize());
-
-      long payloadSizeBytes =
-          assertNotNull(thriftData.getPayloads(), "Payloads[] cannot be null.")
-              .get(nextPayloadToBeRead)
-              .getSizeBytes();
+      long payloadSizeBytes = getNextPayloadSizeBytes();
       try (HashingOutputStream wrappedOutputStream =
           new HashingOutputStream(MD5_HASH_FUNCTION, outStream)) {
         copyExactly(responseStream, wrappedOutputStream, payloadSizeBytes);
@@ -200,6 +192,37 @@ public class ThriftArtifactCacheProtocol {
       }
     }
 
+    /** Reads the next payload, handing it to the given output as it's received. */
+    public ReadPayloadInfo readPayload(StreamingLazyPath output) throws IOException {
+      long payloadSizeBytes = getNextPayloadSizeBytes();
+      HashingInputStream payload =
+          new HashingInputStream(
+              MD5_HASH_FUNCTION, ByteStreams.limit(responseStream, payloadSizeBytes));
+      long bytesRead = output.consumeFully(payload);
+      if (bytesRead < payloadSizeBytes) {
+        String msg =
+            String.format(
+                "InputStream was missing [%d] bytes. Expected to read a total of [%d] bytes.",
+                payloadSizeBytes - bytesRead, payloadSizeBytes);
+        LOG.error(msg);
+        throw new IOException(msg);
+      }
+      ++nextPayloadToBeRead;
+      return new ReadPayloadInfo(payloadSizeBytes, payload.hash().toString());
+    }
+
+    private long getNextPayloadSizeBytes() throws ProtocolException {
+      assertTrue(
+          nextPayloadToBeRead < thriftData.getPayloadsSize(),
+          "Trying to download payload index=[%s] but the thriftData only contains [%s] payloads.",
+          nextPayloadToBeRead,
+          thriftData.getPayloadsSize());
+
+      return assertNotNull(thriftData.getPayloads(), "Payloads[] cannot be null.")
+          .get(nextPayloadToBeRead)
+          .getSizeBytes();
+    }
+
     @Override
     public void close() throws IOException {
       responseStream.close();
@@ -123,8 +123,9 @@ public class TwoLevelArtifactCacheDecorator implements ArtifactCache, CacheDecor
   @Override
   public ListenableFuture<CacheResult> fetchAsync(
       @Nullable BuildTarget target, RuleKey ruleKey, LazyPath output) {
+    // The first level might only hold the content hash of the artifact, so it's never streamed.
     return Futures.transformAsync(
-        delegate.fetchAsync(target, ruleKey, output),
+        delegate.fetchAsync(target, ruleKey, StreamingLazyPath.withoutStreaming(output)),
         (CacheResult fetchResult) -> {
           if (!fetchResult.getType().isSuccess()) {
             LOG.verbose("Missed first-level lookup.");
@@ -0,0 +1,319 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.io.file.BorrowablePath;
+import com.facebook.buck.io.file.LazyPath;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.util.json.ObjectMappers;
+import com.facebook.buck.util.types.Unit;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.github.luben.zstd.Zstd;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+import javax.annotation.Nullable;
+
+/**
+ * Zstandard dictionaries trained on the artifacts of each rule type. Most artifacts are small, and
+ * zstd on its own has too little data in each of them to learn from, so a dictionary trained on
+ * artifacts of the same rule type compresses them much better.
+ *
+ * <p>A dictionary is identified by the sha1 of its contents. An artifact compressed with one
+ * records its id in its metadata, and the dictionary itself is stored in the cache under a key
+ * derived from its id, so that every builder can fetch it to extract the artifact. Local copies are
+ * kept under buck-out, along with an index of the dictionary to compress each rule type with.
+ */
+public class ZstdDictionaries {
+  private static final Logger LOG = Logger.get(ZstdDictionaries.class);
+
+  /** Metadata key of the id of the dictionary an artifact was compressed with. */
+  public static final String METADATA_KEY = "ZSTD_DICTIONARY";
+
+  /** Metadata key of the type of the rule an artifact is for, which dictionaries are trained by. */
+  public static final String RULE_TYPE_METADATA_KEY = "RULE_TYPE";
+
+  /**
+   * Appended to the id of a dictionary to get its key in the cache, so that it can't collide with
+   * the keys of artifacts or of {@link ContentAddressedFiles}.
+   */
+  private static final String CONTENT_KEY_SUFFIX = "2c02";
+
+  private static final String DICTIONARY_EXTENSION = ".zdict";
+  private static final String INDEX_FILE = "index.json";
+  private static final int MAX_FRAME_HEADER_SIZE = 18;
+
+  private final ProjectFilesystem filesystem;
+  private final boolean enabled;
+  private final ImmutableSortedMap<String, String> idsByRuleType;
+  private final ConcurrentMap<String, byte[]> dictionaries = new ConcurrentHashMap<>();
+  private final ConcurrentMap<Long, String> idsByZstdId = new ConcurrentHashMap<>();
+  private final Set<String> storedIds = ConcurrentHashMap.newKeySet();
+
+  private ZstdDictionaries(
+      ProjectFilesystem filesystem,
+      boolean enabled,
+      ImmutableSortedMap<String, String> idsByRuleType) {
+    this.filesystem = filesystem;
+    this.enabled = enabled;
+    this.idsByRuleType = idsByRuleType;
+  }
+
+  /**
+   * Loads the index of the dictionaries in {@code filesystem}. Artifacts compressed with
+   * dictionaries can always be extracted, but new artifacts are only compressed with them when
+   * {@code enabled}.
+   */
+  public static ZstdDictionaries load(ProjectFilesystem filesystem, boolean enabled) {
+    ImmutableSortedMap<String, String> idsByRuleType = ImmutableSortedMap.of();
+    if (enabled) {
+      try {
+        idsByRuleType = readIndex(filesystem);
+      } catch (IOException e) {
+        LOG.warn(e, "Failed to read the index of zstd dictionaries, not using any.");
+      }
+    }
+    return new ZstdDictionaries(filesystem, enabled, idsByRuleType);
+  }
+
+  public static Path getDirectory(ProjectFilesystem filesystem) {
+    return filesystem.getBuckPaths().getBuckOut().resolve("zstd_dictionaries");
+  }
+
+  public static RuleKey getContentKey(String id) {
+    return new RuleKey(id + CONTENT_KEY_SUFFIX);
+  }
+
+  /** @return whether new artifacts are compressed with dictionaries. */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /** @return the id of the dictionary to compress artifacts of the given rule type with. */
+  public Optional<String> getIdForRuleType(String ruleType) {
+    return Optional.ofNullable(idsByRuleType.get(ruleType));
+  }
+
+  /** @return the dictionary with the given id, if there's a copy of it on disk. */
+  public Optional<byte[]> getLocally(String id) {
+    byte[] dictionary = dictionaries.get(id);
+    if (dictionary != null) {
+      return Optional.of(dictionary);
+    }
+    try {
+      dictionary = Files.readAllBytes(filesystem.resolve(getPath(id)));
+    } catch (NoSuchFileException e) {
+      return Optional.empty();
+    } catch (IOException e) {
+      LOG.warn(e, "Failed to read zstd dictionary %s.", id);
+      return Optional.empty();
+    }
+    remember(id, dictionary);
+    return Optional.of(dictionary);
+  }
+
+  /**
+   * Reads the zstd id of the dictionary the frame at the start of {@code compressed} was compressed
+   * with, leaving the stream where it was.
+   *
+   * @return the zstd id, or 0 if the frame wasn't compressed with a dictionary.
+   */
+  public static long peekZstdId(BufferedInputStream compressed) throws IOException {
+    byte[] header = new byte[MAX_FRAME_HEADER_SIZE];
+    compressed.mark(header.length);
+    int read = ByteStreams.read(compressed, header, 0, header.length);
+    compressed.reset();
+    return Zstd.getDictIdFromFrame(Arrays.copyOf(header, read));
+  }
+
+  /**
+   * @return the id of the dictionary which zstd identifies with {@code zstdId} in the frames
+   *     compressed with it, if there's a copy of it on disk.
+   */
+  public Optional<String> getIdByZstdId(long zstdId) {
+    if (!idsByZstdId.containsKey(zstdId)) {
+      // Dictionaries are few and small, so just load the ones we haven't seen yet.
+      try (Stream<Path> paths = Files.list(filesystem.resolve(getDirectory(filesystem)))) {
+        paths
+            .map(path -> path.getFileName().toString())
+            .filter(name -> name.endsWith(DICTIONARY_EXTENSION))
+            .map(name -> name.substring(0, name.length() - DICTIONARY_EXTENSION.length()))
+            .filter(id -> !dictionaries.containsKey(id))
+            .forEach(this::getLocally);
+      } catch (NoSuchFileException e) {
+        return Optional.empty();
+      } catch (IOException e) {
+        LOG.warn(e, "Failed to list zstd dictionaries.");
+        return Optional.empty();
+      }
+    }
+    return Optional.ofNullable(idsByZstdId.get(zstdId));
+  }
+
+  /**
+   * Gets the dictionary with the given id from disk, or otherwise from the cache, keeping a copy of
+   * it on disk.
+   *
+   * @return the dictionary, or nothing if neither has it.
+   */
+  public ListenableFuture<Optional<byte[]>> fetch(
+      ArtifactCache artifactCache, @Nullable BuildTarget target, String id) {
+    Optional<byte[]> local = getLocally(id);
+    if (local.isPresent()) {
+      return Futures.immediateFuture(local);
+    }
+    Path tmp;
+    try {
+      tmp = Files.createTempFile("buck_zstd_dictionary_", DICTIONARY_EXTENSION);
+    } catch (IOException e) {
+      return Futures.immediateFailedFuture(e);
+    }
+    return Futures.transform(
+        artifactCache.fetchAsync(target, getContentKey(id), LazyPath.ofInstance(tmp)),
+        result -> {
+          try {
+            if (!result.getType().isSuccess()) {
+              return Optional.empty();
+            }
+            byte[] dictionary = Files.readAllBytes(tmp);
+            if (!getId(dictionary).equals(id)) {
+              LOG.warn("Zstd dictionary fetched for %s doesn't match its id.", id);
+              return Optional.empty();
+            }
+            write(id, dictionary);
+            return Optional.of(dictionary);
+          } catch (IOException e) {
+            LOG.warn(e, "Failed to fetch zstd dictionary %s.", id);
+            return Optional.empty();
+          } finally {
+            try {
+              Files.deleteIfExists(tmp);
+            } catch (IOException e) {
+              LOG.debug(e, "Failed to delete %s.", tmp);
+            }
+          }
+        },
+        MoreExecutors.directExecutor());
+  }
+
+  /**
+   * Stores the dictionary with the given id in the cache, unless it was already stored, so that
+   * other builders can extract the artifacts compressed with it.
+   */
+  public ListenableFuture<Unit> store(
+      ArtifactCache artifactCache, BuildTarget target, String id, long buildTimeMs) {
+    if (!storedIds.add(id)) {
+      return Futures.immediateFuture(Unit.UNIT);
+    }
+    return artifactCache.store(
+        ArtifactInfo.builder()
+            .addRuleKeys(getContentKey(id))
+            .setBuildTarget(target)
+            .setBuildTimeMs(buildTimeMs)
+            .build(),
+        BorrowablePath.notBorrowablePath(filesystem.resolve(getPath(id))));
+  }
+
+  /**
+   * Writes newly trained dictionaries to disk, and makes them the ones to compress artifacts of
+   * their rule types with from the next build on.
+   *
+   * @return the ids of the dictionaries, by rule type.
+   */
+  public ImmutableMap<String, String> save(Map<String, byte[]> dictionariesByRuleType)
+      throws IOException {
+    ImmutableMap.Builder<String, String> ids = ImmutableMap.builder();
+    for (Map.Entry<String, byte[]> entry : dictionariesByRuleType.entrySet()) {
+      String id = getId(entry.getValue());
+      write(id, entry.getValue());
+      ids.put(entry.getKey(), id);
+    }
+    Map<String, String> index = new TreeMap<>(readIndex(filesystem));
+    index.putAll(ids.build());
+    filesystem.mkdirs(getDirectory(filesystem));
+    Path tmp = filesystem.createTempFile(getDirectory(filesystem), "index", ".tmp");
+    try {
+      filesystem.writeBytesToPath(ObjectMappers.WRITER.writeValueAsBytes(index), tmp);
+      filesystem.move(tmp, getIndexPath(filesystem), StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      filesystem.deleteFileAtPathIfExists(tmp);
+    }
+    return ids.build();
+  }
+
+  private static ImmutableSortedMap<String, String> readIndex(ProjectFilesystem filesystem)
+      throws IOException {
+    Path index = filesystem.resolve(getIndexPath(filesystem));
+    if (!Files.exists(index)) {
+      return ImmutableSortedMap.of();
+    }
+    return ImmutableSortedMap.copyOf(
+        ObjectMappers.<Map<String, String>>readValue(
+            index, new TypeReference<Map<String, String>>() {}));
+  }
+
+  private static Path getIndexPath(ProjectFilesystem filesystem) {
+    return getDirectory(filesystem).resolve(INDEX_FILE);
+  }
+
+  private Path getPath(String id) {
+    return getDirectory(filesystem).resolve(id + DICTIONARY_EXTENSION);
+  }
+
+  private static String getId(byte[] dictionary) {
+    return Hashing.sha1().hashBytes(dictionary).toString();
+  }
+
+  private void write(String id, byte[] dictionary) throws IOException {
+    Path directory = getDirectory(filesystem);
+    filesystem.mkdirs(directory);
+    Path tmp = filesystem.createTempFile(directory, id, ".tmp");
+    try {
+      filesystem.writeBytesToPath(dictionary, tmp);
+      filesystem.move(tmp, getPath(id), StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      filesystem.deleteFileAtPathIfExists(tmp);
+    }
+    remember(id, dictionary);
+  }
+
+  private void remember(String id, byte[] dictionary) {
+    dictionaries.put(id, dictionary);
+    idsByZstdId.put(Zstd.getDictIdFromDict(dictionary), id);
+  }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.github.luben.zstd.ZstdDictTrainer;
+import com.github.luben.zstd.ZstdInputStream;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.io.ByteStreams;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.Nullable;
+
+/**
+ * Trains {@link ZstdDictionaries} for each rule type on the artifacts of that type which are in a
+ * local directory cache.
+ */
+public class ZstdDictionaryTrainer {
+  private static final Logger LOG = Logger.get(ZstdDictionaryTrainer.class);
+
+  /** Artifacts larger than this have enough data for zstd on their own, so aren't sampled. */
+  @VisibleForTesting static final int MAX_SAMPLE_SIZE = 256 * 1024;
+
+  /** zstd can't train a useful dictionary on fewer samples than this. */
+  @VisibleForTesting static final int MIN_SAMPLES = 16;
+
+  private static final long MAX_SAMPLES_SIZE_PER_RULE_TYPE = 8 * 1024 * 1024;
+
+  /** The default size of dictionaries trained by the zstd command line tool. */
+  private static final int DICTIONARY_SIZE = 112640;
+
+  private final Map<String, List<byte[]>> samplesByRuleType = new TreeMap<>();
+  private final Map<String, Long> samplesSizeByRuleType = new TreeMap<>();
+
+  /** Adds the decompressed contents of an artifact of the given rule type as a sample. */
+  public void addSample(String ruleType, byte[] sample) {
+    long samplesSize = samplesSizeByRuleType.getOrDefault(ruleType, 0L) + sample.length;
+    if (sample.length > MAX_SAMPLE_SIZE || samplesSize > MAX_SAMPLES_SIZE_PER_RULE_TYPE) {
+      return;
+    }
+    samplesByRuleType.computeIfAbsent(ruleType, key -> new ArrayList<>()).add(sample);
+    samplesSizeByRuleType.put(ruleType, samplesSize);
+  }
+
+  /**
+   * Adds a sample for each artifact in a directory cache which records its rule type and is small
+   * enough.
+   *
+   * @param dictionaries used to decompress artifacts that were compressed with a dictionary.
+   */
+  public void addSamplesFromDirCache(
+      ProjectFilesystem filesystem, Path cacheDir, ZstdDictionaries dictionaries)
+      throws IOException {
+    Path root = filesystem.resolve(cacheDir);
+    List<Path> metadataPaths;
+    try (Stream<Path> paths = Files.walk(root)) {
+      metadataPaths =
+          paths
+              .filter(path -> path.toString().endsWith(DirArtifactCache.METADATA_EXTENSION))
+              .filter(path -> !root.relativize(path).startsWith("tmp"))
+              .collect(Collectors.toList());
+    }
+    for (Path metadataPath : metadataPaths) {
+      String metadataFile = metadataPath.getFileName().toString();
+      Path artifact =
+          metadataPath.resolveSibling(
+              metadataFile.substring(
+                  0, metadataFile.length() - DirArtifactCache.METADATA_EXTENSION.length()));
+      try {
+        Map<String, String> metadata = DirArtifactCache.readMetadata(filesystem, metadataPath);
+        String ruleType = metadata.get(ZstdDictionaries.RULE_TYPE_METADATA_KEY);
+        // An artifact never compresses to more than its size, so large ones can be skipped early.
+        if (ruleType == null || Files.size(artifact) > MAX_SAMPLE_SIZE) {
+          continue;
+        }
+        byte[] dictionary = null;
+        String dictionaryId = metadata.get(ZstdDictionaries.METADATA_KEY);
+        if (dictionaryId != null) {
+          Optional<byte[]> localDictionary = dictionaries.getLocally(dictionaryId);
+          if (!localDictionary.isPresent()) {
+            continue;
+          }
+          dictionary = localDictionary.get();
+        }
+        Optional<byte[]> sample = readSample(artifact, dictionary);
+        if (sample.isPresent()) {
+          addSample(ruleType, sample.get());
+        }
+      } catch (IOException e) {
+        LOG.debug(e, "Not sampling artifact %s.", artifact);
+      }
+    }
+  }
+
+  private static Optional<byte[]> readSample(Path artifact, @Nullable byte[] dictionary)
+      throws IOException {
+    try (ZstdInputStream zstd =
+        new ZstdInputStream(new BufferedInputStream(Files.newInputStream(artifact)))) {
+      if (dictionary != null) {
+        zstd.setDict(dictionary);
+      }
+      byte[] contents = ByteStreams.toByteArray(ByteStreams.limit(zstd, MAX_SAMPLE_SIZE + 1));
+      return contents.length > MAX_SAMPLE_SIZE ? Optional.empty() : Optional.of(contents);
+    }
+  }
+
+  /** @return the number of samples of each rule type. */
+  public ImmutableSortedMap<String, Integer> getSampleCounts() {
+    return samplesByRuleType.entrySet().stream()
+        .collect(
+            ImmutableSortedMap.toImmutableSortedMap(
+                String::compareTo, Map.Entry::getKey, entry -> entry.getValue().size()));
+  }
+
+  /**
+   * Trains a dictionary for each rule type with enough samples.
+   *
+   * @return the dictionaries, by rule type.
+   */
+  public ImmutableSortedMap<String, byte[]> train() {
+    ImmutableSortedMap.Builder<String, byte[]> dictionaries = ImmutableSortedMap.naturalOrder();
+    for (Map.Entry<String, List<byte[]>> entry : samplesByRuleType.entrySet()) {
+      if (entry.getValue().size() < MIN_SAMPLES) {
+        continue;
+      }
+      ZstdDictTrainer trainer =
+          new ZstdDictTrainer(
+              Math.toIntExact(samplesSizeByRuleType.get(entry.getKey())), DICTIONARY_SIZE);
+      for (byte[] sample : entry.getValue()) {
+        trainer.addSample(sample);
+      }
+      try {
+        dictionaries.put(entry.getKey(), trainer.trainSamples());
+      } catch (RuntimeException e) {
+        // zstd fails to train on samples that have too little in common.
+        LOG.warn(e, "Failed to train a zstd dictionary for %s.", entry.getKey());
+      }
+    }
+    return dictionaries.build();
+  }
+}
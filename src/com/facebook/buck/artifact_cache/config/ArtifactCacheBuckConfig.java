@@ -127,6 +127,13 @@ public class ArtifactCacheBuckConfig implements ConfigView<BuckConfig> {
   private static final long TWO_LEVEL_CACHING_MIN_SIZE_DEFAULT = 20 * 1024L;
 
   private static final String HYBRID_THRIFT_ENDPOINT = "hybrid_thrift_endpoint";
+  private static final String RULE_KEY_FILTER_ENDPOINT = "rule_key_filter_endpoint";
+  private static final String RULE_KEY_FILTER_REFRESH_SECONDS = "rule_key_filter_refresh_seconds";
+  private static final long DEFAULT_RULE_KEY_FILTER_REFRESH_SECONDS = 600;
+  private static final String MEMORY_MAX_SIZE_FIELD = "memory_max_size";
+  private static final long DEFAULT_MEMORY_MAX_SIZE = 64 * 1024 * 1024L;
+  private static final String MEMORY_MAX_ARTIFACT_SIZE_FIELD = "memory_max_artifact_size";
+  private static final long DEFAULT_MEMORY_MAX_ARTIFACT_SIZE = 256 * 1024L;
   private static final String REPOSITORY = "repository";
   private static final String DEFAULT_REPOSITORY = "";
 
@@ -205,6 +212,36 @@ public class ArtifactCacheBuckConfig implements ConfigView<BuckConfig> {
     return buckConfig.getValue(CACHE_SECTION_NAME, HYBRID_THRIFT_ENDPOINT);
   }
 
+  /**
+   * @return path on the remote caches of a Bloom filter of the rule keys they contain, used to skip
+   *     lookups of keys they don't have.
+   */
+  public Optional<String> getRuleKeyFilterEndpoint() {
+    return buckConfig.getValue(CACHE_SECTION_NAME, RULE_KEY_FILTER_ENDPOINT);
+  }
+
+  public long getRuleKeyFilterRefreshSeconds() {
+    return buckConfig
+        .getLong(CACHE_SECTION_NAME, RULE_KEY_FILTER_REFRESH_SECONDS)
+        .orElse(DEFAULT_RULE_KEY_FILTER_REFRESH_SECONDS);
+  }
+
+  /** @return total size of the artifacts the in-memory cache holds before it evicts any. */
+  public long getMemoryCacheMaxSize() {
+    return buckConfig
+        .getValue(CACHE_SECTION_NAME, MEMORY_MAX_SIZE_FIELD)
+        .map(SizeUnit::parseBytes)
+        .orElse(DEFAULT_MEMORY_MAX_SIZE);
+  }
+
+  /** @return size of the largest artifact the in-memory cache holds. */
+  public long getMemoryCacheMaxArtifactSize() {
+    return buckConfig
+        .getValue(CACHE_SECTION_NAME, MEMORY_MAX_ARTIFACT_SIZE_FIELD)
+        .map(SizeUnit::parseBytes)
+        .orElse(DEFAULT_MEMORY_MAX_ARTIFACT_SIZE);
+  }
+
   public Boolean getEnableWriteToCas() {
     return buckConfig.getBooleanValue(
         CACHE_SECTION_NAME, ENABLE_WRITE_TO_CAS, DEFAULT_ENABLE_WRITE_TO_CAS);
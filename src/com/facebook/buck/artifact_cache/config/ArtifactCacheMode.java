@@ -18,6 +18,7 @@ package com.facebook.buck.artifact_cache.config;
 
 public enum ArtifactCacheMode {
   unknown(CacheType.local),
+  memory(CacheType.local),
   dir(CacheType.local),
   http(CacheType.remote),
   sqlite(CacheType.local),
@@ -53,6 +53,7 @@ public class BuckCommand extends AbstractContainerCommand {
     @SubCommand(name = "server", impl = ServerCommand.class),
     @SubCommand(name = "targets", impl = TargetsCommand.class),
     @SubCommand(name = "test", impl = TestCommand.class),
+    @SubCommand(name = "train-cache-dictionaries", impl = TrainCacheDictionariesCommand.class),
     @SubCommand(name = "uninstall", impl = UninstallCommand.class),
     @SubCommand(name = "uquery-dont-use", impl = UnconfiguredQueryCommand.class),
     @SubCommand(name = "verify-caches", impl = VerifyCachesCommand.class),
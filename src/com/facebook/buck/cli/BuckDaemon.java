@@ -109,6 +109,8 @@ public final class BuckDaemon {
     instance = new BuckDaemon(server, Paths.get(socketPath));
     try {
       server.run();
+      // Give the daemon state a chance to persist anything that should outlive this daemon.
+      MainRunner.resetBuckGlobalState();
     } catch (RuntimeException e) {
       // server.run() might throw (for example, if this process loses the race with another
       // process to become the daemon for a given Buck root). Letting the exception go would
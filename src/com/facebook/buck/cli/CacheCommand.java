@@ -21,6 +21,7 @@ import com.facebook.buck.artifact_cache.CacheCountersSummary;
 import com.facebook.buck.artifact_cache.CacheCountersSummaryEvent;
 import com.facebook.buck.artifact_cache.CacheResult;
 import com.facebook.buck.artifact_cache.CacheResultType;
+import com.facebook.buck.artifact_cache.ZstdDictionaries;
 import com.facebook.buck.artifact_cache.config.ArtifactCacheMode;
 import com.facebook.buck.core.build.engine.buildinfo.BuildInfo;
 import com.facebook.buck.core.build.event.BuildEvent;
@@ -40,6 +41,8 @@ import com.facebook.buck.util.json.ObjectMappers;
 import com.facebook.buck.util.types.Pair;
 import com.facebook.buck.util.unarchive.ArchiveFormat;
 import com.facebook.buck.util.unarchive.ExistingFileMode;
+import com.facebook.buck.util.unarchive.Unarchiver;
+import com.facebook.buck.util.unarchive.Untar;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
@@ -154,6 +157,8 @@ public class CacheCommand extends AbstractCommand {
             .collect(ImmutableList.toImmutableList());
 
     Path tmpDir = Files.createTempDirectory("buck-cache-command");
+    ZstdDictionaries zstdDictionaries =
+        ZstdDictionaries.load(params.getCells().getRootCell().getFilesystem(), false);
 
     BuildEvent.Started started = BuildEvent.started(getArguments());
 
@@ -173,7 +178,12 @@ public class CacheCommand extends AbstractCommand {
         futures.add(
             executor.submit(
                 new ArtifactRunner(
-                    params.getProjectFilesystemFactory(), null, ruleKey, tmpDir, cache)));
+                    params.getProjectFilesystemFactory(),
+                    null,
+                    ruleKey,
+                    tmpDir,
+                    cache,
+                    zstdDictionaries)));
       }
 
       for (Pair<BuildTarget, RuleKey> targetRuleKeyPair : pairedRuleKeys) {
@@ -184,7 +194,8 @@ public class CacheCommand extends AbstractCommand {
                     targetRuleKeyPair.getFirst(),
                     targetRuleKeyPair.getSecond(),
                     tmpDir,
-                    cache)));
+                    cache,
+                    zstdDictionaries)));
       }
 
       // Wait for all executions to complete or fail.
@@ -291,7 +302,9 @@ public class CacheCommand extends AbstractCommand {
                     cacheBytes,
                     localKeyUnchanged,
                     new AtomicInteger(0),
-                    new AtomicInteger(0))));
+                    new AtomicInteger(0),
+                    0,
+                    0)));
 
     ExitCode exitCode = (totalRuns == goodRuns) ? ExitCode.SUCCESS : ExitCode.BUILD_ERROR;
     params.getBuckEventBus().post(BuildEvent.finished(started, exitCode));
@@ -351,6 +364,7 @@ public class CacheCommand extends AbstractCommand {
       RuleKey ruleKey,
       Path artifact,
       CacheResult success,
+      Optional<byte[]> zstdDictionary,
       StringBuilder resultString)
       throws InterruptedException {
 
@@ -359,12 +373,14 @@ public class CacheCommand extends AbstractCommand {
     if (metadata.containsKey(BuildInfo.MetadataKey.TARGET)) {
       buckTarget = success.metadata().get().get(BuildInfo.MetadataKey.TARGET);
     }
+    Unarchiver unarchiver =
+        zstdDictionary.isPresent()
+            ? Untar.zstdUnarchiver(zstdDictionary.get())
+            : ArchiveFormat.TAR_ZSTD.getUnarchiver();
     ImmutableList<Path> paths;
     try {
       paths =
-          ArchiveFormat.TAR_ZSTD
-              .getUnarchiver()
-              .extractArchive(
+          unarchiver.extractArchive(
                   projectFilesystemFactory,
                   artifact.toAbsolutePath(),
                   tmpDir,
@@ -433,6 +449,7 @@ public class CacheCommand extends AbstractCommand {
     String cacheResult;
     StringBuilder resultString;
     ArtifactCache cache;
+    ZstdDictionaries zstdDictionaries;
     boolean completed;
     long artifactSize;
 
@@ -441,12 +458,14 @@ public class CacheCommand extends AbstractCommand {
         @Nullable BuildTarget buildTarget,
         RuleKey ruleKey,
         Path tmpDir,
-        ArtifactCache cache) {
+        ArtifactCache cache,
+        ZstdDictionaries zstdDictionaries) {
       this.projectFilesystemFactory = projectFilesystemFactory;
       this.buildTarget = buildTarget;
       this.ruleKey = ruleKey;
       this.tmpDir = tmpDir;
       this.cache = cache;
+      this.zstdDictionaries = zstdDictionaries;
       this.artifact = tmpDir.resolve(ruleKey.toString());
       this.statusString = "Created";
       this.cacheResult = "Unknown";
@@ -488,13 +507,24 @@ public class CacheCommand extends AbstractCommand {
         resultString.append(String.format("%s !success\n", ruleKey));
       } else {
         statusString = "Extracting";
-        if (extractArtifact(
+        Optional<byte[]> zstdDictionary = Optional.empty();
+        String zstdDictionaryId = metadata.get(ZstdDictionaries.METADATA_KEY);
+        if (zstdDictionaryId != null) {
+          zstdDictionary =
+              Futures.getUnchecked(zstdDictionaries.fetch(cache, buildTarget, zstdDictionaryId));
+        }
+        if (zstdDictionaryId != null && !zstdDictionary.isPresent()) {
+          statusString = "FAILED Extracting";
+          resultString.append(
+              String.format("%s !(Missing zstd dictionary %s)\n", ruleKey, zstdDictionaryId));
+        } else if (extractArtifact(
             projectFilesystemFactory,
             outputPath.get(),
             tmpDir,
             ruleKey,
             artifact,
             success,
+            zstdDictionary,
             this.resultString)) {
           this.completed = true;
           statusString = "SUCCESS";
@@ -1180,7 +1180,8 @@ public final class MainRunner {
                     managerScope,
                     getArtifactProducerId(executionEnvironment),
                     executionEnvironment.getHostname(),
-                    ClientCertificateHandler.fromConfiguration(cacheBuckConfig));
+                    ClientCertificateHandler.fromConfiguration(cacheBuckConfig),
+                    buckGlobalState.getDaemonicArtifactCacheState());
 
             // Once command completes it should be safe to not wait for executors and other stateful
             // objects to terminate and release semaphore right away. It will help to retry
@@ -19,6 +19,7 @@ package com.facebook.buck.cli;
 import com.facebook.buck.android.device.TargetDevice;
 import com.facebook.buck.android.device.TargetDeviceOptions;
 import com.facebook.buck.android.exopackage.AndroidDevicesHelperFactory;
+import com.facebook.buck.artifact_cache.ZstdDictionaries;
 import com.facebook.buck.command.Build;
 import com.facebook.buck.command.config.BuildBuckConfig;
 import com.facebook.buck.core.build.context.BuildContext;
@@ -614,6 +615,10 @@ public class TestCommand extends BuildCommand {
                     cachingBuildEngineBuckConfig.getBuildDepFiles(),
                     cachingBuildEngineBuckConfig.getBuildMaxDepFileCacheEntries(),
                     cachingBuildEngineBuckConfig.getBuildArtifactCacheSizeLimit(),
+                    cachingBuildEngineBuckConfig.getContentAddressedFileThreshold(),
+                    ZstdDictionaries.load(
+                        params.getCells().getRootCell().getFilesystem(),
+                        cachingBuildEngineBuckConfig.getZstdDictionariesEnabled()),
                     actionGraphAndBuilder.getActionGraphBuilder(),
                     actionGraphAndBuilder.getBuildEngineActionToBuildRuleResolver(),
                     params.getTargetConfigurationSerializer(),
@@ -628,7 +633,10 @@ public class TestCommand extends BuildCommand {
                             .getBuckConfig()
                             .getView(BuildBuckConfig.class)
                             .getBuildInputRuleKeyFileSizeLimit(),
-                        ruleKeyCacheScope.getCache()));
+                        ruleKeyCacheScope.getCache()),
+                    cachingBuildEngineBuckConfig.getRuleSchedulingOrder(),
+                    params.getGlobalState().getBuildRuleDurationHistory(),
+                    cachingBuildEngineBuckConfig.getMaxSpeculativeCacheFetches());
             Build build =
                 new Build(
                     actionGraphAndBuilder.getActionGraphBuilder(),
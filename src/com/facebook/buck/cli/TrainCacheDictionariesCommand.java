@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.cli;
+
+import com.facebook.buck.artifact_cache.ZstdDictionaries;
+import com.facebook.buck.artifact_cache.ZstdDictionaryTrainer;
+import com.facebook.buck.artifact_cache.config.ArtifactCacheBuckConfig;
+import com.facebook.buck.artifact_cache.config.DirCacheEntry;
+import com.facebook.buck.core.cell.Cell;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.util.ExitCode;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedMap;
+import java.io.PrintStream;
+import java.util.Map;
+
+/**
+ * Trains a zstd dictionary per rule type from the artifacts in the local directory caches, for use
+ * when {@code build.zstd_dictionaries} is enabled.
+ */
+public class TrainCacheDictionariesCommand extends AbstractCommand {
+
+  @Override
+  public ExitCode runWithoutHelp(CommandRunnerParams params) throws Exception {
+    Cell cell = params.getCells().getRootCell();
+    ProjectFilesystem filesystem = cell.getFilesystem();
+    ZstdDictionaries dictionaries = ZstdDictionaries.load(filesystem, true);
+
+    ZstdDictionaryTrainer trainer = new ZstdDictionaryTrainer();
+    for (DirCacheEntry dirCacheEntry :
+        ArtifactCacheBuckConfig.of(cell.getBuckConfig()).getCacheEntries().getDirCacheEntries()) {
+      if (filesystem.exists(dirCacheEntry.getCacheDir())) {
+        trainer.addSamplesFromDirCache(filesystem, dirCacheEntry.getCacheDir(), dictionaries);
+      }
+    }
+
+    ImmutableSortedMap<String, byte[]> trained = trainer.train();
+    if (trained.isEmpty()) {
+      params
+          .getConsole()
+          .printErrorText(
+              "Not enough samples to train any dictionary. Build with "
+                  + "build.zstd_dictionaries enabled to record the rule types of artifacts.");
+      return ExitCode.NOTHING_TO_DO;
+    }
+
+    ImmutableMap<String, String> ids = dictionaries.save(trained);
+    ImmutableSortedMap<String, Integer> sampleCounts = trainer.getSampleCounts();
+    PrintStream stdOut = params.getConsole().getStdOut();
+    for (Map.Entry<String, String> entry : ids.entrySet()) {
+      stdOut.println(
+          String.format(
+              "%s: %s (%d samples)",
+              entry.getKey(), entry.getValue(), sampleCounts.get(entry.getKey())));
+    }
+    params
+        .getConsole()
+        .printSuccess(
+            String.format(
+                "Trained %d dictionaries into %s.",
+                ids.size(), ZstdDictionaries.getDirectory(filesystem)));
+    return ExitCode.SUCCESS;
+  }
+
+  @Override
+  public boolean isReadOnly() {
+    return false;
+  }
+
+  @Override
+  public String getShortDescription() {
+    return "Train zstd dictionaries from the artifacts in the local cache";
+  }
+}
@@ -16,6 +16,7 @@
 
 package com.facebook.buck.command;
 
+import com.facebook.buck.artifact_cache.ZstdDictionaries;
 import com.facebook.buck.command.config.BuildBuckConfig;
 import com.facebook.buck.core.build.engine.config.CachingBuildEngineBuckConfig;
 import com.facebook.buck.core.build.engine.delegate.CachingBuildEngineDelegate;
@@ -161,6 +162,10 @@ public class BuildExecutor {
         engineConfig.getBuildDepFiles(),
         engineConfig.getBuildMaxDepFileCacheEntries(),
         engineConfig.getBuildArtifactCacheSizeLimit(),
+        engineConfig.getContentAddressedFileThreshold(),
+        ZstdDictionaries.load(
+            args.getCells().getRootCell().getFilesystem(),
+            engineConfig.getZstdDictionariesEnabled()),
         actionGraphAndBuilder.getActionGraphBuilder(),
         actionGraphAndBuilder.getBuildEngineActionToBuildRuleResolver(),
         targetConfigurationSerializer,
@@ -173,7 +178,10 @@ public class BuildExecutor {
             actionGraphAndBuilder.getActionGraphBuilder(),
             args.getBuckConfig().getView(BuildBuckConfig.class).getBuildInputRuleKeyFileSizeLimit(),
             ruleKeyCacheScope.getCache(),
-            ruleKeyLogger));
+            ruleKeyLogger),
+        engineConfig.getRuleSchedulingOrder(),
+        args.getBuildRuleDurationHistory(),
+        engineConfig.getMaxSpeculativeCacheFetches());
   }
 
   public Build getBuild() {
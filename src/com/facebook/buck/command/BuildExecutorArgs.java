@@ -18,6 +18,7 @@ package com.facebook.buck.command;
 
 import com.facebook.buck.artifact_cache.ArtifactCacheFactory;
 import com.facebook.buck.core.build.engine.cache.manager.BuildInfoStoreManager;
+import com.facebook.buck.core.build.stats.BuildRuleDurationHistory;
 import com.facebook.buck.core.cell.Cells;
 import com.facebook.buck.core.config.BuckConfig;
 import com.facebook.buck.core.util.immutables.BuckStyleValue;
@@ -55,6 +56,8 @@ public abstract class BuildExecutorArgs {
 
   public abstract RuleKeyConfiguration getRuleKeyConfiguration();
 
+  public abstract BuildRuleDurationHistory getBuildRuleDurationHistory();
+
   public BuckConfig getBuckConfig() {
     return getCells().getRootCell().getBuckConfig();
   }
@@ -69,7 +72,8 @@ public abstract class BuildExecutorArgs {
       ProjectFilesystemFactory projectFilesystemFactory,
       BuildInfoStoreManager buildInfoStoreManager,
       ArtifactCacheFactory artifactCacheFactory,
-      RuleKeyConfiguration ruleKeyConfiguration) {
+      RuleKeyConfiguration ruleKeyConfiguration,
+      BuildRuleDurationHistory buildRuleDurationHistory) {
     return ImmutableBuildExecutorArgs.of(
         console,
         buckEventBus,
@@ -80,6 +84,7 @@ public abstract class BuildExecutorArgs {
         projectFilesystemFactory,
         buildInfoStoreManager,
         artifactCacheFactory,
-        ruleKeyConfiguration);
+        ruleKeyConfiguration,
+        buildRuleDurationHistory);
   }
 }
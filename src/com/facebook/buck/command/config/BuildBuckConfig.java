@@ -91,6 +91,15 @@ public abstract class BuildBuckConfig implements ConfigView<BuckConfig> {
         .orElse(Long.MAX_VALUE);
   }
 
+  /**
+   * Whether default rule keys computed by the daemon should be written to disk when the daemon
+   * shuts down, and reused by the next daemon for rules whose inputs are unchanged.
+   */
+  @Value.Lazy
+  public boolean isPersistentRuleKeyCacheEnabled() {
+    return getDelegate().getBooleanValue(BUILD_SECTION, "persistent_rule_key_cache", false);
+  }
+
   @Value.Lazy
   public int getDefaultMaximumNumberOfThreads() {
     return getDefaultMaximumNumberOfThreads(Runtime.getRuntime().availableProcessors());
@@ -251,6 +260,15 @@ public abstract class BuildBuckConfig implements ConfigView<BuckConfig> {
         .orElse(FileHashCacheMode.DEFAULT);
   }
 
+  /**
+   * Whether the daemon should write the hashes of source files to disk when it shuts down, so the
+   * next daemon only rehashes files which changed in the meantime.
+   */
+  @Value.Lazy
+  public boolean isPersistentFileHashCacheEnabled() {
+    return getDelegate().getBooleanValue("build", "persistent_file_hash_cache", false);
+  }
+
   @Value.Lazy
   public boolean shouldBuckOutIncludeTargetConfigHash() {
     return getDelegate()
@@ -19,6 +19,9 @@ package com.facebook.buck.core.build.engine.cache.manager;
 import com.facebook.buck.artifact_cache.ArtifactCache;
 import com.facebook.buck.artifact_cache.CacheResult;
 import com.facebook.buck.artifact_cache.CacheResultType;
+import com.facebook.buck.artifact_cache.ContentAddressedFiles;
+import com.facebook.buck.artifact_cache.StreamingLazyPath;
+import com.facebook.buck.artifact_cache.ZstdDictionaries;
 import com.facebook.buck.artifact_cache.config.ArtifactCacheMode;
 import com.facebook.buck.core.build.engine.buildinfo.BuildInfo;
 import com.facebook.buck.core.build.engine.buildinfo.BuildInfoStore;
@@ -32,20 +35,37 @@ import com.facebook.buck.io.file.LazyPath;
 import com.facebook.buck.io.file.MostFiles;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.util.Scope;
+import com.facebook.buck.util.cache.FileHashCache;
 import com.facebook.buck.util.concurrent.WeightedListeningExecutorService;
 import com.facebook.buck.util.stream.RichStream;
 import com.facebook.buck.util.unarchive.ArchiveFormat;
 import com.facebook.buck.util.unarchive.ExistingFileMode;
+import com.facebook.buck.util.unarchive.Unarchiver;
+import com.facebook.buck.util.unarchive.Untar;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.hash.HashCode;
+import com.google.common.io.CountingInputStream;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.function.LongSupplier;
+import javax.annotation.Nullable;
 
 public class BuildCacheArtifactFetcher {
 
@@ -58,6 +78,8 @@ public class BuildCacheArtifactFetcher {
   private final BuckEventBus eventBus;
   private final BuildInfoStoreManager buildInfoStoreManager;
   private final OnDiskBuildInfo onDiskBuildInfo;
+  private final FileHashCache fileHashCache;
+  private final ZstdDictionaries zstdDictionaries;
 
   public BuildCacheArtifactFetcher(
       BuildRule rule,
@@ -66,7 +88,9 @@ public class BuildCacheArtifactFetcher {
       OnOutputsWillChange onOutputsWillChange,
       BuckEventBus eventBus,
       BuildInfoStoreManager buildInfoStoreManager,
-      OnDiskBuildInfo onDiskBuildInfo) {
+      OnDiskBuildInfo onDiskBuildInfo,
+      FileHashCache fileHashCache,
+      ZstdDictionaries zstdDictionaries) {
     this.rule = rule;
     this.buildRuleScopeManager = buildRuleScopeManager;
     this.executorService = executorService;
@@ -74,6 +98,8 @@ public class BuildCacheArtifactFetcher {
     this.eventBus = eventBus;
     this.buildInfoStoreManager = buildInfoStoreManager;
     this.onDiskBuildInfo = onDiskBuildInfo;
+    this.fileHashCache = fileHashCache;
+    this.zstdDictionaries = zstdDictionaries;
   }
 
   private Scope buildRuleScope() {
@@ -121,24 +147,11 @@ public class BuildCacheArtifactFetcher {
       return Futures.immediateFuture(CacheResult.ignored());
     }
 
-    // Create a temp file whose extension must be ".zip" for Filesystems.newFileSystem() to infer
-    // that we are creating a zip-based FileSystem.
-    LazyPath lazyZipPath =
-        new LazyPath() {
-          @Override
-          protected Path create() throws IOException {
-            return Files.createTempFile(
-                "buck_artifact_" + MostFiles.sanitize(rule.getBuildTarget().getShortName()),
-                ".zip");
-          }
-        };
+    ArtifactOutput output = new ArtifactOutput(ruleKey, filesystem);
 
-    // TODO(mbolin): Change ArtifactCache.fetch() so that it returns a File instead of takes one.
-    // Then we could download directly from the remote cache into the on-disk cache and unzip it
-    // from there.
     return convertErrorToSoftError(
         Futures.transformAsync(
-            fetch(artifactCache, ruleKey, lazyZipPath),
+            fetch(artifactCache, ruleKey, output),
             cacheResult -> {
               try (Scope ignored = buildRuleScope()) {
                 // Verify that the rule key we used to fetch the artifact is one of the rule keys
@@ -157,8 +170,8 @@ public class BuildCacheArtifactFetcher {
                   }
                 }
 
-                return Futures.immediateFuture(
-                    extractArtifactFromCacheResult(ruleKey, lazyZipPath, filesystem, cacheResult));
+                return extractArtifactFromCacheResult(
+                    ruleKey, output, artifactCache, filesystem, cacheResult);
               }
             },
             executorService),
@@ -206,83 +219,375 @@ public class BuildCacheArtifactFetcher {
     HashCode.fromString(ruleKeyValue);
   }
 
-  private CacheResult extractArtifactFromCacheResult(
-      RuleKey ruleKey, LazyPath lazyZipPath, ProjectFilesystem filesystem, CacheResult cacheResult)
+  private ListenableFuture<CacheResult> extractArtifactFromCacheResult(
+      RuleKey ruleKey,
+      ArtifactOutput output,
+      ArtifactCache artifactCache,
+      ProjectFilesystem filesystem,
+      CacheResult cacheResult)
       throws IOException {
 
     // We only unpack artifacts from hits.
     if (!cacheResult.getType().isSuccess()) {
       LOG.debug("Cache miss for '%s' with rulekey '%s'", rule, ruleKey);
-      return cacheResult;
+      if (output.extractionStarted) {
+        // An artifact was extracted while it was received, but turned out to be unusable.
+        onOutputsWillChange.call();
+      }
+      return Futures.immediateFuture(cacheResult);
     }
-    onOutputsWillChange.call();
 
     Preconditions.checkState(cacheResult.metadata().isPresent());
     Preconditions.checkArgument(cacheResult.getType() == CacheResultType.HIT);
     LOG.debug("Fetched '%s' from cache with rulekey '%s'", rule, ruleKey);
+    Preconditions.checkState(
+        cacheResult.getMetadata().containsKey(BuildInfo.MetadataKey.ORIGIN_BUILD_ID),
+        "Cache artifact for rulekey %s is missing metadata %s.",
+        ruleKey,
+        BuildInfo.MetadataKey.ORIGIN_BUILD_ID);
+
+    String dictionaryId = cacheResult.getMetadata().get(ZstdDictionaries.METADATA_KEY);
+    if (output.wasExtracted() || dictionaryId == null) {
+      return extractFetchedArtifact(
+          ruleKey, output, artifactCache, filesystem, cacheResult, Optional.empty());
+    }
+    return Futures.transformAsync(
+        zstdDictionaries.fetch(artifactCache, rule.getBuildTarget(), dictionaryId),
+        dictionary -> {
+          try (Scope ignored = buildRuleScope()) {
+            if (!dictionary.isPresent()) {
+              // The artifact can't be extracted without its dictionary, so build the rule instead.
+              LOG.warn("Failed to get zstd dictionary %s for '%s'.", dictionaryId, rule);
+              Files.deleteIfExists(output.getUnchecked());
+              return Futures.immediateFuture(CacheResult.miss());
+            }
+            return extractFetchedArtifact(
+                ruleKey, output, artifactCache, filesystem, cacheResult, dictionary);
+          }
+        },
+        executorService);
+  }
+
+  private ListenableFuture<CacheResult> extractFetchedArtifact(
+      RuleKey ruleKey,
+      ArtifactOutput output,
+      ArtifactCache artifactCache,
+      ProjectFilesystem filesystem,
+      CacheResult cacheResult,
+      Optional<byte[]> dictionary)
+      throws IOException {
+    ImmutableSet<Path> extractedFiles;
+    if (output.wasExtracted()) {
+      // The artifact was already extracted while it was received. A file may still have been
+      // fetched to the path, e.g. the first level of a two-level cache.
+      if (output.created) {
+        Files.deleteIfExists(output.getUnchecked());
+      }
+      extractedFiles = Objects.requireNonNull(output.extractedFiles);
+    } else {
+      onOutputsWillChange.call();
+
+      // It should be fine to get the path straight away, since cache already did it's job.
+      Path zipPath = output.getUnchecked();
+
+      // We unzip the file in the root of the project directory.
+      // Ideally, the following would work:
+      //
+      // Path pathToZip = Paths.get(zipPath.getAbsolutePath());
+      // FileSystem fs = FileSystems.newFileSystem(pathToZip, /* loader */ null);
+      // Path root = Iterables.getOnlyElement(fs.getRootDirectories());
+      // MostFiles.copyRecursively(root, projectRoot);
+      //
+      // Unfortunately, this does not appear to work, in practice, because MostFiles fails when
+      // trying to resolve a Path for a zip entry against a file Path on disk.
+      long compressedSize = filesystem.getFileSize(zipPath);
+      Unarchiver unarchiver =
+          dictionary.isPresent()
+              ? Untar.zstdUnarchiver(dictionary.get())
+              : ArchiveFormat.TAR_ZSTD.getUnarchiver();
+      extractedFiles =
+          extractArtifact(
+              ruleKey,
+              () ->
+                  unarchiver.extractArchive(
+                      zipPath.toAbsolutePath(),
+                      filesystem,
+                      ExistingFileMode.OVERWRITE_AND_CLEAN_DIRECTORIES),
+              () -> compressedSize,
+              Optional.ofNullable(cacheResult.getMetadata().get(ZstdDictionaries.METADATA_KEY)));
+
+      // We only delete the ZIP file when it has been unzipped successfully. Otherwise, we leave it
+      // around for debugging purposes.
+      Files.delete(zipPath);
+    }
+
+    ContentAddressedFiles contentAddressedFiles =
+        ContentAddressedFiles.fromMetadata(cacheResult.getMetadata());
+    if (contentAddressedFiles.isEmpty()) {
+      return Futures.immediateFuture(finishExtraction(ruleKey, extractedFiles, cacheResult));
+    }
+    return Futures.transformAsync(
+        fetchContentAddressedFiles(artifactCache, filesystem, contentAddressedFiles),
+        fetchedFiles -> {
+          try (Scope ignored = buildRuleScope()) {
+            if (!placeContentAddressedFiles(
+                filesystem, contentAddressedFiles, extractedFiles, fetchedFiles)) {
+              // The artifact is unusable without all of its files, so build the rule instead.
+              onOutputsWillChange.call();
+              return Futures.immediateFuture(CacheResult.miss());
+            }
+            return Futures.immediateFuture(finishExtraction(ruleKey, extractedFiles, cacheResult));
+          }
+        },
+        executorService);
+  }
+
+  private CacheResult finishExtraction(
+      RuleKey ruleKey, ImmutableSet<Path> extractedFiles, CacheResult cacheResult)
+      throws IOException {
+    try {
+      onDiskBuildInfo.validateArtifact(extractedFiles);
+    } catch (IOException e) {
+      throw extractionFailure(ruleKey, e);
+    }
+
+    // TODO(cjhopman): This should probably record metadata with the buildInfoRecorder, not
+    // directly into the buildInfoStore.
+    // Also write out the build metadata.
+    BuildInfoStore buildInfoStore = buildInfoStoreManager.get(rule.getProjectFilesystem());
+    buildInfoStore.updateMetadata(
+        rule.getBuildTarget(),
+        ContentAddressedFiles.removeFromMetadata(cacheResult.getMetadata()));
+
+    return cacheResult;
+  }
+
+  /**
+   * Fetches the content addressed files of an artifact to temporary files, except for those which
+   * are already on disk.
+   *
+   * @return the temporary file each fetched file was written to, or nothing for files which
+   *     couldn't be fetched.
+   */
+  private ListenableFuture<Map<Path, Optional<Path>>> fetchContentAddressedFiles(
+      ArtifactCache artifactCache,
+      ProjectFilesystem filesystem,
+      ContentAddressedFiles contentAddressedFiles)
+      throws IOException {
+    Map<Path, ListenableFuture<Optional<Path>>> fetches = new LinkedHashMap<>();
+    for (Map.Entry<Path, HashCode> entry : contentAddressedFiles.getHashes().entrySet()) {
+      if (isOnDisk(filesystem, entry.getKey(), entry.getValue())) {
+        continue;
+      }
+      Path tmp =
+          Files.createTempFile(
+              "buck_artifact_file_", MostFiles.sanitize(entry.getKey().getFileName().toString()));
+      fetches.put(
+          entry.getKey(),
+          Futures.transform(
+              artifactCache.fetchAsync(
+                  rule.getBuildTarget(),
+                  ContentAddressedFiles.getContentKey(entry.getValue()),
+                  LazyPath.ofInstance(tmp)),
+              result -> result.getType().isSuccess() ? Optional.of(tmp) : Optional.empty(),
+              MoreExecutors.directExecutor()));
+    }
+    return Futures.whenAllComplete(fetches.values())
+        .call(
+            () -> {
+              Map<Path, Optional<Path>> fetched = new LinkedHashMap<>();
+              for (Map.Entry<Path, ListenableFuture<Optional<Path>>> entry : fetches.entrySet()) {
+                try {
+                  fetched.put(entry.getKey(), Futures.getDone(entry.getValue()));
+                } catch (ExecutionException e) {
+                  LOG.warn(e, "Failed to fetch content addressed file %s.", entry.getKey());
+                  fetched.put(entry.getKey(), Optional.empty());
+                }
+              }
+              return fetched;
+            },
+            MoreExecutors.directExecutor());
+  }
+
+  private boolean isOnDisk(ProjectFilesystem filesystem, Path path, HashCode hash) {
+    if (!filesystem.isFile(path, LinkOption.NOFOLLOW_LINKS)) {
+      return false;
+    }
+    try {
+      return hash.equals(fileHashCache.get(filesystem.resolve(path)));
+    } catch (IOException e) {
+      LOG.debug(e, "Failed to hash %s.", path);
+      return false;
+    }
+  }
 
-    // It should be fine to get the path straight away, since cache already did it's job.
-    Path zipPath = lazyZipPath.getUnchecked();
-
-    // We unzip the file in the root of the project directory.
-    // Ideally, the following would work:
-    //
-    // Path pathToZip = Paths.get(zipPath.getAbsolutePath());
-    // FileSystem fs = FileSystems.newFileSystem(pathToZip, /* loader */ null);
-    // Path root = Iterables.getOnlyElement(fs.getRootDirectories());
-    // MostFiles.copyRecursively(root, projectRoot);
-    //
-    // Unfortunately, this does not appear to work, in practice, because MostFiles fails when trying
-    // to resolve a Path for a zip entry against a file Path on disk.
+  /**
+   * Moves fetched content addressed files into place, and cleans the files the artifact doesn't
+   * have out of the directories containing them, which extracting the artifact left alone.
+   *
+   * @return whether all of the files are in place.
+   */
+  private boolean placeContentAddressedFiles(
+      ProjectFilesystem filesystem,
+      ContentAddressedFiles contentAddressedFiles,
+      ImmutableSet<Path> extractedFiles,
+      Map<Path, Optional<Path>> fetchedFiles)
+      throws IOException {
+    boolean complete = true;
+    for (Map.Entry<Path, Optional<Path>> entry : fetchedFiles.entrySet()) {
+      Path path = entry.getKey();
+      if (!entry.getValue().isPresent()) {
+        complete = false;
+        continue;
+      }
+      Path tmp = entry.getValue().get();
+      HashCode expected = contentAddressedFiles.getHashes().get(path);
+      if (!complete || !filesystem.computeSha1(tmp).asHashCode().equals(expected)) {
+        LOG.warn("Content addressed file %s doesn't match its hash %s.", path, expected);
+        complete = false;
+        Files.deleteIfExists(tmp);
+        continue;
+      }
+      Path destination = filesystem.resolve(path);
+      filesystem.mkdirs(path.getParent());
+      Files.move(tmp, destination, StandardCopyOption.REPLACE_EXISTING);
+      fileHashCache.invalidate(destination);
+    }
+    if (!complete) {
+      for (Optional<Path> tmp : fetchedFiles.values()) {
+        if (tmp.isPresent()) {
+          Files.deleteIfExists(tmp.get());
+        }
+      }
+      return false;
+    }
+
+    for (Path path : contentAddressedFiles.getHashes().keySet()) {
+      if (contentAddressedFiles.isExecutable(path)) {
+        MostFiles.makeExecutable(filesystem.resolve(path));
+      }
+    }
+    for (Path directory : contentAddressedFiles.getDirectories()) {
+      for (Path file :
+          filesystem.asView().getFilesUnderPath(directory, EnumSet.noneOf(FileVisitOption.class))) {
+        if (!extractedFiles.contains(file)
+            && !contentAddressedFiles.getHashes().containsKey(file)) {
+          filesystem.deleteRecursivelyIfExists(file);
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Extracts an artifact on top of the outputs of the rule, which must have been cleared out
+   * already, since the artifact includes files that will be stored in the metadata directory.
+   */
+  private ImmutableSet<Path> extractArtifact(
+      RuleKey ruleKey,
+      ArtifactExtraction extraction,
+      LongSupplier compressedSize,
+      Optional<String> dictionaryId)
+      throws IOException {
     ArtifactCompressionEvent.Started started =
         ArtifactCompressionEvent.started(
             ArtifactCompressionEvent.Operation.DECOMPRESS, ImmutableSet.of(ruleKey), rule);
     eventBus.post(started);
-    long compressedSize = filesystem.getFileSize(zipPath);
     long fullSize = 0L;
     try {
-      // First, clear out the pre-existing metadata directory.  We have to do this *before*
-      // unpacking the zipped artifact, as it includes files that will be stored in the metadata
-      // directory.
-      BuildInfoStore buildInfoStore = buildInfoStoreManager.get(rule.getProjectFilesystem());
-
-      Preconditions.checkState(
-          cacheResult.getMetadata().containsKey(BuildInfo.MetadataKey.ORIGIN_BUILD_ID),
-          "Cache artifact for rulekey %s is missing metadata %s.",
-          ruleKey,
-          BuildInfo.MetadataKey.ORIGIN_BUILD_ID);
-
-      ImmutableSet<Path> extractedFiles =
-          ArchiveFormat.TAR_ZSTD
-              .getUnarchiver()
-              .extractArchive(
-                  zipPath.toAbsolutePath(),
-                  filesystem,
-                  ExistingFileMode.OVERWRITE_AND_CLEAN_DIRECTORIES);
-
-      onDiskBuildInfo.validateArtifact(extractedFiles);
+      ImmutableSet<Path> extractedFiles = extraction.extract();
       fullSize =
           Long.parseLong(onDiskBuildInfo.getValue(BuildInfo.MetadataKey.OUTPUT_SIZE).getLeft());
-
-      // We only delete the ZIP file when it has been unzipped successfully. Otherwise, we leave it
-      // around for debugging purposes.
-      Files.delete(zipPath);
-
-      // TODO(cjhopman): This should probably record metadata with the buildInfoRecorder, not
-      // directly into the buildInfoStore.
-      // Also write out the build metadata.
-      buildInfoStore.updateMetadata(rule.getBuildTarget(), cacheResult.getMetadata());
+      return extractedFiles;
     } catch (IOException e) {
-      throw new IOException(
-          String.format(
-              "%s extracting artifact for Rule Key: %s. Suggested fix: try `buck clean`",
-              e.getMessage(), ruleKey),
-          e.getCause());
+      throw extractionFailure(ruleKey, e);
     } finally {
-      eventBus.post(ArtifactCompressionEvent.finished(started, fullSize, compressedSize, rule));
+      eventBus.post(
+          ArtifactCompressionEvent.finished(
+              started, fullSize, compressedSize.getAsLong(), rule, dictionaryId));
     }
+  }
 
-    return cacheResult;
+  private static IOException extractionFailure(RuleKey ruleKey, IOException e) {
+    return new IOException(
+        String.format(
+            "%s extracting artifact for Rule Key: %s. Suggested fix: try `buck clean`",
+            e.getMessage(), ruleKey),
+        e.getCause());
+  }
+
+  @FunctionalInterface
+  private interface ArtifactExtraction {
+    ImmutableSet<Path> extract() throws IOException;
+  }
+
+  /**
+   * The output of a fetch, which network caches stream artifacts into, so that they're extracted
+   * while they are received instead of being written to a temporary file first.
+   */
+  private class ArtifactOutput extends StreamingLazyPath {
+    private final RuleKey ruleKey;
+    private final ProjectFilesystem filesystem;
+    private volatile boolean created = false;
+    private volatile boolean extractionStarted = false;
+    @Nullable private volatile ImmutableSet<Path> extractedFiles;
+
+    /** @return whether the artifact was extracted while it was received. */
+    boolean wasExtracted() {
+      return wasConsumed() && extractedFiles != null;
+    }
+
+    ArtifactOutput(RuleKey ruleKey, ProjectFilesystem filesystem) {
+      this.ruleKey = ruleKey;
+      this.filesystem = filesystem;
+    }
+
+    @Override
+    protected Path create() throws IOException {
+      // Create a temp file whose extension must be ".zip" for Filesystems.newFileSystem() to infer
+      // that we are creating a zip-based FileSystem. It is created under buck-out, so that a
+      // prefetched artifact can be renamed into place.
+      Path path =
+          filesystem.resolve(
+              filesystem.createTempFile(
+                  "buck_artifact_" + MostFiles.sanitize(rule.getBuildTarget().getShortName()),
+                  ".zip"));
+      created = true;
+      return path;
+    }
+
+    @Override
+    protected void consume(InputStream payload) throws IOException {
+      try (Scope ignored = buildRuleScope()) {
+        extractedFiles = null;
+        BufferedInputStream bufferedPayload = new BufferedInputStream(payload);
+        long zstdId = ZstdDictionaries.peekZstdId(bufferedPayload);
+        Optional<String> dictionaryId =
+            zstdId == 0 ? Optional.empty() : zstdDictionaries.getIdByZstdId(zstdId);
+        Optional<byte[]> dictionary = dictionaryId.flatMap(zstdDictionaries::getLocally);
+        if (zstdId != 0 && !dictionary.isPresent()) {
+          // The dictionary has to be fetched before the artifact can be extracted, so receive the
+          // artifact into the file instead, to be extracted from there.
+          Files.copy(bufferedPayload, get(), StandardCopyOption.REPLACE_EXISTING);
+          return;
+        }
+        extractionStarted = true;
+        onOutputsWillChange.call();
+        CountingInputStream compressedPayload = new CountingInputStream(bufferedPayload);
+        Untar unarchiver =
+            dictionary.isPresent() ? Untar.zstdUnarchiver(dictionary.get()) : Untar.zstdUnarchiver();
+        extractedFiles =
+            extractArtifact(
+                ruleKey,
+                () ->
+                    unarchiver.extractArchive(
+                        compressedPayload,
+                        filesystem,
+                        ExistingFileMode.OVERWRITE_AND_CLEAN_DIRECTORIES),
+                compressedPayload::getCount,
+                dictionaryId);
+      }
+    }
   }
 
   @FunctionalInterface
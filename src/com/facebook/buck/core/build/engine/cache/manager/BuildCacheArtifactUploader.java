@@ -18,6 +18,7 @@ package com.facebook.buck.core.build.engine.cache.manager;
 
 import com.facebook.buck.artifact_cache.ArtifactCache;
 import com.facebook.buck.artifact_cache.ArtifactUploader;
+import com.facebook.buck.artifact_cache.ZstdDictionaries;
 import com.facebook.buck.core.build.engine.BuildRuleSuccessType;
 import com.facebook.buck.core.build.engine.buildinfo.BuildInfo;
 import com.facebook.buck.core.build.engine.buildinfo.OnDiskBuildInfo;
@@ -46,6 +47,8 @@ public class BuildCacheArtifactUploader {
   private final BuckEventBus eventBus;
   private final ArtifactCache artifactCache;
   private final Optional<Long> artifactCacheSizeLimit;
+  private final Optional<Long> contentAddressedFileThreshold;
+  private final ZstdDictionaries zstdDictionaries;
 
   public BuildCacheArtifactUploader(
       RuleKey defaultKey,
@@ -55,7 +58,9 @@ public class BuildCacheArtifactUploader {
       ManifestRuleKeyManager manifestRuleKeyManager,
       BuckEventBus eventBus,
       ArtifactCache artifactCache,
-      Optional<Long> artifactCacheSizeLimit) {
+      Optional<Long> artifactCacheSizeLimit,
+      Optional<Long> contentAddressedFileThreshold,
+      ZstdDictionaries zstdDictionaries) {
     this.defaultKey = defaultKey;
     this.inputBasedKey = inputBasedKey;
     this.onDiskBuildInfo = onDiskBuildInfo;
@@ -64,6 +69,8 @@ public class BuildCacheArtifactUploader {
     this.eventBus = eventBus;
     this.artifactCache = artifactCache;
     this.artifactCacheSizeLimit = artifactCacheSizeLimit;
+    this.contentAddressedFileThreshold = contentAddressedFileThreshold;
+    this.zstdDictionaries = zstdDictionaries;
   }
 
   /**
@@ -119,7 +126,9 @@ public class BuildCacheArtifactUploader {
         onDiskBuildInfo.getMetadataForArtifact(),
         onDiskBuildInfo.getPathsForArtifact(),
         rule,
-        buildTimeMs);
+        buildTimeMs,
+        contentAddressedFileThreshold,
+        zstdDictionaries);
   }
 
   /** @return whether we should upload the given rules artifacts to cache. */
@@ -18,6 +18,7 @@ package com.facebook.buck.core.build.engine.config;
 
 import com.facebook.buck.core.build.engine.type.BuildType;
 import com.facebook.buck.core.build.engine.type.DepFiles;
+import com.facebook.buck.core.build.engine.type.RuleSchedulingOrder;
 import com.facebook.buck.core.config.BuckConfig;
 import com.facebook.buck.core.config.ConfigView;
 import com.facebook.buck.core.resources.ResourcesConfig;
@@ -41,6 +42,21 @@ public abstract class CachingBuildEngineBuckConfig implements ConfigView<BuckCon
     return getDelegate().getEnum("build", "depfiles", DepFiles.class).orElse(DepFiles.CACHE);
   }
 
+  /** @return the order in which the build engine dispatches the dependencies of a rule. */
+  public RuleSchedulingOrder getRuleSchedulingOrder() {
+    return getDelegate()
+        .getEnum("build", "rule_scheduling_order", RuleSchedulingOrder.class)
+        .orElse(RuleSchedulingOrder.RANDOM);
+  }
+
+  /**
+   * @return the maximum number of artifacts to fetch from the cache ahead of the rules that need
+   *     them, or 0 to only fetch artifacts when rules are built.
+   */
+  public int getMaxSpeculativeCacheFetches() {
+    return getDelegate().getInteger("build", "max_speculative_cache_fetches").orElse(0);
+  }
+
   /**
    * @return whether to log to console build rule failures as they happen, including rule name and
    *     error text. If false, then depending on keepGoing/verbosity settings, failures may not
@@ -63,6 +79,22 @@ public abstract class CachingBuildEngineBuckConfig implements ConfigView<BuckCon
     return getDelegate().getLong("build", "artifact_cache_size_limit");
   }
 
+  /**
+   * @return the size, in bytes, from which files in the outputs of a rule are stored in the cache
+   *     on their own, keyed by their contents, rather than in the artifact of the rule.
+   */
+  public Optional<Long> getContentAddressedFileThreshold() {
+    return getDelegate().getLong("build", "content_addressed_file_threshold");
+  }
+
+  /**
+   * @return whether artifacts are compressed with the zstd dictionaries trained for their rule
+   *     types, and record their rule types for training.
+   */
+  public boolean getZstdDictionariesEnabled() {
+    return getDelegate().getBooleanValue("build", "zstd_dictionaries", false);
+  }
+
   public ResourceAwareSchedulingInfo getResourceAwareSchedulingInfo() {
     ResourcesConfig resourcesConfig = getDelegate().getView(ResourcesConfig.class);
     return ResourceAwareSchedulingInfo.of(
@@ -18,6 +18,7 @@ package com.facebook.buck.core.build.engine.impl;
 
 import com.facebook.buck.artifact_cache.ArtifactCache;
 import com.facebook.buck.artifact_cache.CacheResult;
+import com.facebook.buck.artifact_cache.ZstdDictionaries;
 import com.facebook.buck.core.build.action.resolver.BuildEngineActionToBuildRuleResolver;
 import com.facebook.buck.core.build.buildable.context.BuildableContext;
 import com.facebook.buck.core.build.engine.BuildEngine;
@@ -35,8 +36,11 @@ import com.facebook.buck.core.build.engine.config.ResourceAwareSchedulingInfo;
 import com.facebook.buck.core.build.engine.delegate.CachingBuildEngineDelegate;
 import com.facebook.buck.core.build.engine.type.BuildType;
 import com.facebook.buck.core.build.engine.type.DepFiles;
+import com.facebook.buck.core.build.engine.type.RuleSchedulingOrder;
+import com.facebook.buck.core.build.event.BuildEvent;
 import com.facebook.buck.core.build.event.BuildRuleEvent;
 import com.facebook.buck.core.build.execution.context.ExecutionContext;
+import com.facebook.buck.core.build.stats.BuildRuleDurationHistory;
 import com.facebook.buck.core.build.stats.BuildRuleDurationTracker;
 import com.facebook.buck.core.model.BuildTarget;
 import com.facebook.buck.core.model.TargetConfigurationSerializer;
@@ -62,6 +66,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
@@ -127,6 +132,8 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
   private final BuildRuleResolver resolver;
   private final TargetConfigurationSerializer targetConfigurationSerializer;
   private final Optional<Long> artifactCacheSizeLimit;
+  private final Optional<Long> contentAddressedFileThreshold;
+  private final ZstdDictionaries zstdDictionaries;
   private final FileHashCache fileHashCache;
   @VisibleForTesting final RuleKeyFactories ruleKeyFactories;
   private final ResourceAwareSchedulingInfo resourceAwareSchedulingInfo;
@@ -134,6 +141,8 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
   private final RuleDepsCache ruleDeps;
   private final Optional<UnskippedBuildEngineActionTracker> unskippedRulesTracker;
   private final BuildRuleDurationTracker buildRuleDurationTracker = new BuildRuleDurationTracker();
+  private final BuildRuleDurationHistory buildRuleDurationHistory;
+  private final Optional<CriticalPathEstimator> criticalPathEstimator;
   private final RuleKeyDiagnostics<RuleKey, String> defaultRuleKeyDiagnostics;
   private final BuildRulePipelinesRunner pipelinesRunner = new BuildRulePipelinesRunner();
   private final ParallelRuleKeyCalculator<RuleKey> ruleKeyCalculator;
@@ -144,6 +153,10 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
 
   private final Optional<BuildRuleStrategy> customBuildRuleStrategy;
 
+  private final int maxSpeculativeCacheFetches;
+  private final ConcurrentMap<ArtifactCache, SpeculativeCachePrefetcher> cachePrefetchers =
+      new ConcurrentHashMap<>();
+
   public CachingBuildEngine(
       CachingBuildEngineDelegate cachingBuildEngineDelegate,
       Optional<BuildRuleStrategy> customBuildRuleStrategy,
@@ -152,13 +165,18 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
       DepFiles depFiles,
       long maxDepFileCacheEntries,
       Optional<Long> artifactCacheSizeLimit,
+      Optional<Long> contentAddressedFileThreshold,
+      ZstdDictionaries zstdDictionaries,
       BuildRuleResolver resolver,
       BuildEngineActionToBuildRuleResolver actionToBuildRuleResolver,
       TargetConfigurationSerializer targetConfigurationSerializer,
       BuildInfoStoreManager buildInfoStoreManager,
       ResourceAwareSchedulingInfo resourceAwareSchedulingInfo,
       boolean consoleLogBuildFailuresInline,
-      RuleKeyFactories ruleKeyFactories) {
+      RuleKeyFactories ruleKeyFactories,
+      RuleSchedulingOrder ruleSchedulingOrder,
+      BuildRuleDurationHistory buildRuleDurationHistory,
+      int maxSpeculativeCacheFetches) {
     this(
         cachingBuildEngineDelegate,
         customBuildRuleStrategy,
@@ -167,6 +185,8 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
         depFiles,
         maxDepFileCacheEntries,
         artifactCacheSizeLimit,
+        contentAddressedFileThreshold,
+        zstdDictionaries,
         resolver,
         buildInfoStoreManager,
         actionToBuildRuleResolver,
@@ -182,7 +202,10 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
                 ruleKeyFactories
                     .getDefaultRuleKeyFactory()
                     .buildForDiagnostics(appendable, new StringRuleKeyHasher())),
-        consoleLogBuildFailuresInline);
+        consoleLogBuildFailuresInline,
+        ruleSchedulingOrder,
+        buildRuleDurationHistory,
+        maxSpeculativeCacheFetches);
   }
 
   /** This constructor MUST ONLY BE USED FOR TESTS. */
@@ -195,6 +218,8 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
       DepFiles depFiles,
       long maxDepFileCacheEntries,
       Optional<Long> artifactCacheSizeLimit,
+      Optional<Long> contentAddressedFileThreshold,
+      ZstdDictionaries zstdDictionaries,
       BuildRuleResolver resolver,
       BuildInfoStoreManager buildInfoStoreManager,
       BuildEngineActionToBuildRuleResolver actionToBuildRuleResolver,
@@ -202,7 +227,10 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
       RuleKeyFactories ruleKeyFactories,
       ResourceAwareSchedulingInfo resourceAwareSchedulingInfo,
       RuleKeyDiagnostics<RuleKey, String> defaultRuleKeyDiagnostics,
-      boolean consoleLogBuildFailuresInline) {
+      boolean consoleLogBuildFailuresInline,
+      RuleSchedulingOrder ruleSchedulingOrder,
+      BuildRuleDurationHistory buildRuleDurationHistory,
+      int maxSpeculativeCacheFetches) {
     this.cachingBuildEngineDelegate = cachingBuildEngineDelegate;
     this.customBuildRuleStrategy = customBuildRuleStrategy;
 
@@ -211,6 +239,8 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
     this.depFiles = depFiles;
     this.maxDepFileCacheEntries = maxDepFileCacheEntries;
     this.artifactCacheSizeLimit = artifactCacheSizeLimit;
+    this.contentAddressedFileThreshold = contentAddressedFileThreshold;
+    this.zstdDictionaries = zstdDictionaries;
     this.resolver = resolver;
     this.targetConfigurationSerializer = targetConfigurationSerializer;
 
@@ -224,6 +254,12 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
     this.defaultRuleKeyDiagnostics = defaultRuleKeyDiagnostics;
     this.consoleLogBuildFailuresInline = consoleLogBuildFailuresInline;
     this.asyncCallbacks = new ConcurrentLinkedQueue<>();
+    this.buildRuleDurationHistory = buildRuleDurationHistory;
+    this.maxSpeculativeCacheFetches = maxSpeculativeCacheFetches;
+    this.criticalPathEstimator =
+        ruleSchedulingOrder == RuleSchedulingOrder.CRITICAL_PATH
+            ? Optional.of(new CriticalPathEstimator(ruleDeps, buildRuleDurationHistory))
+            : Optional.empty();
     this.ruleKeyCalculator =
         new ParallelRuleKeyCalculator<>(
             serviceByAdjustingDefaultWeightsTo(RULE_KEY_COMPUTATION_RESOURCE_AMOUNTS),
@@ -245,6 +281,7 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
       }
       terminateBuildWithFailure(new CancellationException("Cancelling due to engine shutdown."));
       Futures.allAsList(asyncCallbacks).get();
+      cachePrefetchers.values().forEach(SpeculativeCachePrefetcher::close);
     } catch (InterruptedException e) {
       e.printStackTrace();
     } catch (IOException | ExecutionException e) {
@@ -310,12 +347,19 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
       BuildRule rule, BuildEngineBuildContext buildContext, ExecutionContext executionContext) {
     List<ListenableFuture<BuildResult>> depResults =
         new ArrayList<>(SortedSets.sizeEstimate(rule.getBuildDeps()));
-    for (BuildRule dep : shuffled(rule.getBuildDeps())) {
+    for (BuildRule dep : orderedForScheduling(rule.getBuildDeps())) {
       depResults.add(getBuildRuleResultWithRuntimeDeps(dep, buildContext, executionContext));
     }
     return Futures.allAsList(depResults);
   }
 
+  private List<BuildRule> orderedForScheduling(Iterable<BuildRule> rules) {
+    if (criticalPathEstimator.isPresent()) {
+      return criticalPathEstimator.get().sortLongestFirst(rules);
+    }
+    return shuffled(rules);
+  }
+
   private static List<BuildRule> shuffled(Iterable<BuildRule> rules) {
     ArrayList<BuildRule> rulesList = Lists.newArrayList(rules);
     Collections.shuffle(rulesList);
@@ -444,11 +488,68 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
     // Keep track of all jobs that run asynchronously with respect to the build dep chain.  We want
     // to make sure we wait for these before calling yielding the final build result.
     registerTopLevelRule(rule, buildContext.getEventBus());
+    criticalPathEstimator.ifPresent(
+        estimator ->
+            buildContext
+                .getEventBus()
+                .post(
+                    BuildEvent.criticalPathEstimated(
+                        rule.getBuildTarget(),
+                        estimator.getEstimatedCriticalPathMillis(rule),
+                        buildRuleDurationHistory.size())));
+    BuildEngineBuildContext ruleBuildContext =
+        maxSpeculativeCacheFetches > 0
+            ? startSpeculativeCacheFetches(rule, buildContext)
+            : buildContext;
     ListenableFuture<BuildResult> resultFuture =
-        getBuildRuleResultWithRuntimeDeps(rule, buildContext, executionContext);
+        getBuildRuleResultWithRuntimeDeps(rule, ruleBuildContext, executionContext);
     return BuildEngine.BuildEngineResult.of(resultFuture);
   }
 
+  /**
+   * Starts prefetching the rule and its deps from the cache once its rule key is known.
+   *
+   * @return the build context to build the rule with, which fetches through the prefetcher
+   */
+  private BuildEngineBuildContext startSpeculativeCacheFetches(
+      BuildRule rule, BuildEngineBuildContext buildContext) {
+    SpeculativeCachePrefetcher prefetcher =
+        cachePrefetchers.computeIfAbsent(
+            buildContext.getArtifactCache(),
+            artifactCache ->
+                new SpeculativeCachePrefetcher(
+                    artifactCache,
+                    ruleDeps,
+                    dep -> Futures.getUnchecked(calculateRuleKey(dep, buildContext)),
+                    (dep, ruleKey) -> isBuiltLocally(dep, ruleKey, buildContext),
+                    buildMode == BuildType.SHALLOW,
+                    maxSpeculativeCacheFetches,
+                    serviceByAdjustingDefaultWeightsTo(SCHEDULING_MORE_WORK_RESOURCE_AMOUNTS)));
+    Futures.addCallback(
+        calculateRuleKey(rule, buildContext),
+        new FutureCallback<RuleKey>() {
+          @Override
+          public void onSuccess(RuleKey result) {
+            prefetcher.prefetch(rule);
+          }
+
+          @Override
+          public void onFailure(Throwable t) {}
+        },
+        serviceByAdjustingDefaultWeightsTo(SCHEDULING_MORE_WORK_RESOURCE_AMOUNTS));
+    return buildContext.withArtifactCache(prefetcher);
+  }
+
+  private boolean isBuiltLocally(
+      BuildRule rule, RuleKey ruleKey, BuildEngineBuildContext buildContext) {
+    OnDiskBuildInfo onDiskBuildInfo =
+        buildContext.createOnDiskBuildInfoFor(
+            rule.getBuildTarget(),
+            rule.getProjectFilesystem(),
+            buildInfoStoreManager.get(rule.getProjectFilesystem()));
+    return ruleKey.equals(onDiskBuildInfo.getRuleKey(BuildInfo.MetadataKey.RULE_KEY).orElse(null));
+  }
+
   @Nullable
   @Override
   public BuildResult getBuildRuleResult(BuildTarget buildTarget)
@@ -484,6 +585,8 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
         new CachingBuildRuleBuilder(
             new DefaultBuildRuleBuilderDelegate(this, buildContext),
             artifactCacheSizeLimit,
+            contentAddressedFileThreshold,
+            zstdDictionaries,
             buildInfoStoreManager,
             buildMode,
             buildRuleDurationTracker,
@@ -524,10 +627,38 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
               removed != null, "rule builder must be removed once: %s", rule.getBuildTarget());
         },
         MoreExecutors.directExecutor());
+    Futures.addCallback(
+        future,
+        new FutureCallback<BuildResult>() {
+          @Override
+          public void onSuccess(BuildResult result) {
+            recordDurationIfBuiltLocally(result);
+          }
+
+          @Override
+          public void onFailure(Throwable t) {}
+        },
+        MoreExecutors.directExecutor());
 
     return future;
   }
 
+  /**
+   * Remembers how long locally built rules took, so that later builds in this daemon can estimate
+   * their critical path. Rules fetched from cache keep their previous estimate, since the time it
+   * took to fetch them says nothing about how long they take to build.
+   */
+  private void recordDurationIfBuiltLocally(BuildResult result) {
+    if (!result.isSuccess() || result.getSuccess() != BuildRuleSuccessType.BUILT_LOCALLY) {
+      return;
+    }
+    BuildTarget target = result.getRule().getBuildTarget();
+    buildRuleDurationTracker
+        .getDuration(target)
+        .ifPresent(
+            duration -> buildRuleDurationHistory.record(target, duration.getWallMillisDuration()));
+  }
+
   public static class DefaultBuildRuleBuilderDelegate
       implements CachingBuildRuleBuilder.BuildRuleBuilderDelegate {
     private final CachingBuildEngine cachingBuildEngine;
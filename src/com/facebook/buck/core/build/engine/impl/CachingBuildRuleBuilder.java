@@ -21,6 +21,7 @@ import com.facebook.buck.artifact_cache.CacheResult;
 import com.facebook.buck.artifact_cache.CacheResultType;
 import com.facebook.buck.artifact_cache.RuleKeyCacheResult;
 import com.facebook.buck.artifact_cache.RuleKeyCacheResultEvent;
+import com.facebook.buck.artifact_cache.ZstdDictionaries;
 import com.facebook.buck.core.build.buildable.context.BuildableContext;
 import com.facebook.buck.core.build.context.BuildContext;
 import com.facebook.buck.core.build.engine.BuildEngineBuildContext;
@@ -192,6 +193,8 @@ class CachingBuildRuleBuilder {
   public CachingBuildRuleBuilder(
       BuildRuleBuilderDelegate buildRuleBuilderDelegate,
       Optional<Long> artifactCacheSizeLimit,
+      Optional<Long> contentAddressedFileThreshold,
+      ZstdDictionaries zstdDictionaries,
       BuildInfoStoreManager buildInfoStoreManager,
       BuildType buildMode,
       BuildRuleDurationTracker buildRuleDurationTracker,
@@ -268,7 +271,9 @@ class CachingBuildRuleBuilder {
             this::onOutputsWillChange,
             eventBus,
             buildInfoStoreManager,
-            onDiskBuildInfo);
+            onDiskBuildInfo,
+            fileHashCache,
+            zstdDictionaries);
     inputBasedRuleKeyManager =
         new InputBasedRuleKeyManager(
             eventBus,
@@ -305,7 +310,9 @@ class CachingBuildRuleBuilder {
             manifestRuleKeyManager,
             eventBus,
             artifactCache,
-            artifactCacheSizeLimit);
+            artifactCacheSizeLimit,
+            contentAddressedFileThreshold,
+            zstdDictionaries);
     this.customBuildRuleStrategy = customBuildRuleStrategy;
   }
 
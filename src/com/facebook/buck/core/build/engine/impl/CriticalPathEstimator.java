@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.core.build.engine.impl;
+
+import com.facebook.buck.core.build.engine.RuleDepsCache;
+import com.facebook.buck.core.build.stats.BuildRuleDurationHistory;
+import com.facebook.buck.core.rules.BuildRule;
+import com.google.common.collect.Lists;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Estimates, for each rule, the length of the longest chain of work that has to finish before the
+ * rule itself is done, based on durations observed in previous builds.
+ *
+ * <p>The build engine walks the graph top-down, so dispatching the dependency with the longest
+ * remaining critical path first lets long chains start early instead of ending up on the tail of
+ * the build.
+ */
+class CriticalPathEstimator {
+
+  /**
+   * Duration assumed for rules that were never built locally. Keeping it non-zero means that, in
+   * the absence of any history, deeper subtrees are still scheduled first.
+   */
+  private static final long UNKNOWN_RULE_DURATION_MILLIS = 1;
+
+  private final RuleDepsCache ruleDeps;
+  private final BuildRuleDurationHistory durationHistory;
+  private final ConcurrentMap<BuildRule, Long> estimates = new ConcurrentHashMap<>();
+
+  CriticalPathEstimator(RuleDepsCache ruleDeps, BuildRuleDurationHistory durationHistory) {
+    this.ruleDeps = ruleDeps;
+    this.durationHistory = durationHistory;
+  }
+
+  /** @return the given rules ordered by decreasing estimated remaining critical path. */
+  List<BuildRule> sortLongestFirst(Iterable<BuildRule> rules) {
+    List<BuildRule> sorted = Lists.newArrayList(rules);
+    sorted.sort(Comparator.comparingLong(this::getEstimatedCriticalPathMillis).reversed());
+    return sorted;
+  }
+
+  /**
+   * @return the estimated time it takes to build the given rule once nothing in its transitive
+   *     closure has been built yet.
+   */
+  long getEstimatedCriticalPathMillis(BuildRule rule) {
+    Long estimate = estimates.get(rule);
+    if (estimate != null) {
+      return estimate;
+    }
+
+    // Graphs can be deep enough to overflow the stack, so do an explicit post-order walk.
+    Deque<BuildRule> stack = new ArrayDeque<>();
+    stack.push(rule);
+    while (!stack.isEmpty()) {
+      BuildRule current = stack.peek();
+      if (estimates.containsKey(current)) {
+        stack.pop();
+        continue;
+      }
+      boolean depsEstimated = true;
+      long longestDep = 0;
+      for (BuildRule dep : ruleDeps.get(current)) {
+        Long depEstimate = estimates.get(dep);
+        if (depEstimate == null) {
+          depsEstimated = false;
+          stack.push(dep);
+        } else {
+          longestDep = Math.max(longestDep, depEstimate);
+        }
+      }
+      if (depsEstimated) {
+        stack.pop();
+        estimates.put(current, getDurationMillis(current) + longestDep);
+      }
+    }
+    return estimates.get(rule);
+  }
+
+  private long getDurationMillis(BuildRule rule) {
+    return durationHistory
+        .getWallMillisDuration(rule.getBuildTarget())
+        .orElse(UNKNOWN_RULE_DURATION_MILLIS);
+  }
+}
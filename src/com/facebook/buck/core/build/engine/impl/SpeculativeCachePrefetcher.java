@@ -0,0 +1,466 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.core.build.engine.impl;
+
+import com.facebook.buck.artifact_cache.ArtifactCache;
+import com.facebook.buck.artifact_cache.ArtifactInfo;
+import com.facebook.buck.artifact_cache.CacheDecorator;
+import com.facebook.buck.artifact_cache.CacheDeleteResult;
+import com.facebook.buck.artifact_cache.CacheResult;
+import com.facebook.buck.artifact_cache.config.CacheReadMode;
+import com.facebook.buck.core.build.engine.RuleDepsCache;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.facebook.buck.core.rules.BuildRule;
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.io.file.BorrowablePath;
+import com.facebook.buck.io.file.LazyPath;
+import com.facebook.buck.io.file.MostFiles;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.util.types.Pair;
+import com.facebook.buck.util.types.Unit;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.SortedSet;
+import java.util.concurrent.Executor;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+/**
+ * Fetches the artifacts of rules from the cache ahead of the build frontier, so that the latency of
+ * cache requests isn't paid once per level of every chain of dependencies.
+ *
+ * <p>Once the default rule key of a top-level rule is known, so are the keys of all its transitive
+ * deps. Rules are then fetched top-down, breadth-first, with a bounded number of fetches in
+ * flight, which the underlying cache batches into multi-fetch requests. When only the outputs of
+ * top-level rules need to be materialized, a rule that hits (or is already built locally) doesn't
+ * need its build deps, so fetches for rules that nothing needs anymore are skipped or cancelled.
+ *
+ * <p>Build rules fetch through this cache as a decorator of the build's cache: a fetch for a rule
+ * key that was prefetched claims the prefetched result instead of issuing another request.
+ *
+ * <p>Every fetch of the build goes through this class, so rule keys are calculated, and local
+ * outputs are checked, without holding its lock.
+ */
+final class SpeculativeCachePrefetcher implements ArtifactCache, CacheDecorator {
+
+  private static final Logger LOG = Logger.get(SpeculativeCachePrefetcher.class);
+
+  private final ArtifactCache delegate;
+  private final RuleDepsCache ruleDeps;
+  private final Function<BuildRule, RuleKey> ruleKeys;
+  private final BiPredicate<BuildRule, RuleKey> isBuiltLocally;
+  private final boolean skipDepsOfHits;
+  private final int maxFetchesInFlight;
+  private final Executor executor;
+
+  private final Map<BuildTarget, Prefetch> prefetches = new HashMap<>();
+  private final Queue<Prefetch> toFetch = new ArrayDeque<>();
+  private int fetchesInFlight = 0;
+  private boolean closed = false;
+
+  /**
+   * @param ruleKeys returns the default rule key of a rule, only called for transitive deps of
+   *     top-level rules whose key has been calculated
+   * @param isBuiltLocally whether the outputs of a rule with the given key are already on disk
+   * @param skipDepsOfHits whether the build deps of rules that hit don't need to be materialized
+   * @param executor used to process fetch results
+   */
+  SpeculativeCachePrefetcher(
+      ArtifactCache delegate,
+      RuleDepsCache ruleDeps,
+      Function<BuildRule, RuleKey> ruleKeys,
+      BiPredicate<BuildRule, RuleKey> isBuiltLocally,
+      boolean skipDepsOfHits,
+      int maxFetchesInFlight,
+      Executor executor) {
+    Preconditions.checkArgument(maxFetchesInFlight > 0);
+    this.delegate = delegate;
+    this.ruleDeps = ruleDeps;
+    this.ruleKeys = ruleKeys;
+    this.isBuiltLocally = isBuiltLocally;
+    this.skipDepsOfHits = skipDepsOfHits;
+    this.maxFetchesInFlight = maxFetchesInFlight;
+    this.executor = executor;
+  }
+
+  /**
+   * Starts prefetching the given top-level rule and its transitive deps. Must only be called once
+   * the default rule key of the rule has been calculated.
+   */
+  void prefetch(BuildRule topLevelRule) {
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      Prefetch top = getOrAddPrefetch(topLevelRule);
+      // Top-level rules are always needed.
+      top.requiringEdges++;
+    }
+    fetchMore();
+  }
+
+  /** Registers a rule, and the transitive deps of the rule, in breadth-first order. */
+  private Prefetch getOrAddPrefetch(BuildRule rule) {
+    Prefetch existing = prefetches.get(rule.getBuildTarget());
+    if (existing != null) {
+      return existing;
+    }
+    Prefetch first = new Prefetch(rule);
+    prefetches.put(rule.getBuildTarget(), first);
+    toFetch.add(first);
+
+    Queue<Prefetch> toExplore = new ArrayDeque<>();
+    toExplore.add(first);
+    while (!toExplore.isEmpty()) {
+      Prefetch prefetch = toExplore.remove();
+      for (BuildRule dep : ruleDeps.get(prefetch.rule)) {
+        Prefetch depPrefetch = prefetches.get(dep.getBuildTarget());
+        if (depPrefetch == null) {
+          depPrefetch = new Prefetch(dep);
+          prefetches.put(dep.getBuildTarget(), depPrefetch);
+          toFetch.add(depPrefetch);
+          toExplore.add(depPrefetch);
+        }
+        depPrefetch.requiringEdges++;
+      }
+    }
+    return first;
+  }
+
+  /** Issues fetches for pending rules until {@code maxFetchesInFlight} are in flight. */
+  private void fetchMore() {
+    while (true) {
+      Prefetch prefetch;
+      synchronized (this) {
+        prefetch = startNextPrefetch();
+        if (prefetch == null) {
+          return;
+        }
+      }
+
+      // The rule key and the outputs on disk are checked without holding the lock, as this may
+      // calculate rule keys and read build metadata.
+      RuleKey ruleKey = prefetch.rule.isCacheable() ? getRuleKey(prefetch) : null;
+      boolean builtLocally = ruleKey != null && isBuiltLocally.test(prefetch.rule, ruleKey);
+
+      synchronized (this) {
+        if (prefetch.state != State.STARTING || closed) {
+          // Claimed by the build or skipped in the meantime.
+          fetchesInFlight--;
+        } else if (ruleKey == null) {
+          // The rule will be built locally, so its deps are needed.
+          prefetch.state = State.DONE;
+          fetchesInFlight--;
+        } else if (builtLocally) {
+          prefetch.state = State.DONE;
+          fetchesInFlight--;
+          releaseBuildDeps(prefetch);
+        } else {
+          prefetch.state = State.FETCHING;
+          ListenableFuture<CacheResult> result =
+              delegate.fetchAsync(prefetch.rule.getBuildTarget(), ruleKey, prefetch.output);
+          prefetch.result = result;
+          result.addListener(() -> onFetchFinished(prefetch), executor);
+        }
+      }
+    }
+  }
+
+  /**
+   * Takes the next pending rule off the queue, counting it as in flight while its rule key is
+   * checked.
+   */
+  @Nullable
+  private Prefetch startNextPrefetch() {
+    while (!closed && fetchesInFlight < maxFetchesInFlight && !toFetch.isEmpty()) {
+      Prefetch prefetch = toFetch.remove();
+      if (prefetch.state == State.PENDING) {
+        prefetch.state = State.STARTING;
+        fetchesInFlight++;
+        return prefetch;
+      }
+    }
+    return null;
+  }
+
+  private void onFetchFinished(Prefetch prefetch) {
+    synchronized (this) {
+      fetchesInFlight--;
+      if (prefetch.state == State.FETCHING) {
+        prefetch.state = State.DONE;
+      }
+      if (prefetch.state != State.SKIPPED && isHit(Objects.requireNonNull(prefetch.result))) {
+        releaseBuildDeps(prefetch);
+      }
+    }
+    fetchMore();
+  }
+
+  private synchronized void onClaimedFetchFinished(
+      Prefetch prefetch, ListenableFuture<CacheResult> result) {
+    if (!closed && isHit(result)) {
+      releaseBuildDeps(prefetch);
+    }
+  }
+
+  private static boolean isHit(ListenableFuture<CacheResult> result) {
+    try {
+      return Futures.getUnchecked(result).getType().isSuccess();
+    } catch (RuntimeException e) {
+      return false;
+    }
+  }
+
+  /** Called once a rule is known not to need its build deps. */
+  private void releaseBuildDeps(Prefetch prefetch) {
+    if (!skipDepsOfHits || prefetch.releasedBuildDeps) {
+      return;
+    }
+    prefetch.releasedBuildDeps = true;
+    SortedSet<BuildRule> runtimeDeps = ruleDeps.getRuntimeDeps(prefetch.rule);
+    for (BuildRule dep : ruleDeps.get(prefetch.rule)) {
+      if (!runtimeDeps.contains(dep)) {
+        release(Objects.requireNonNull(prefetches.get(dep.getBuildTarget())));
+      }
+    }
+  }
+
+  /** Drops an edge requiring the given rule, and skips the rule once nothing requires it. */
+  private void release(Prefetch prefetch) {
+    prefetch.requiringEdges--;
+    if (prefetch.requiringEdges > 0
+        || prefetch.state == State.CLAIMED
+        || prefetch.state == State.SKIPPED) {
+      return;
+    }
+    if (prefetch.state == State.FETCHING) {
+      // Fetches that haven't been sent yet are dropped by the cache.
+      Objects.requireNonNull(prefetch.result).cancel(false);
+    }
+    prefetch.state = State.SKIPPED;
+    SortedSet<BuildRule> runtimeDeps = ruleDeps.getRuntimeDeps(prefetch.rule);
+    for (BuildRule dep : ruleDeps.get(prefetch.rule)) {
+      if (!prefetch.releasedBuildDeps || runtimeDeps.contains(dep)) {
+        release(Objects.requireNonNull(prefetches.get(dep.getBuildTarget())));
+      }
+    }
+    prefetch.releasedBuildDeps = true;
+  }
+
+  @Override
+  public ListenableFuture<CacheResult> fetchAsync(
+      @Nullable BuildTarget target, RuleKey ruleKey, LazyPath output) {
+    Prefetch prefetch;
+    synchronized (this) {
+      prefetch = target == null ? null : prefetches.get(target);
+    }
+    if (prefetch == null || !ruleKey.equals(getRuleKey(prefetch))) {
+      return delegate.fetchAsync(target, ruleKey, output);
+    }
+    boolean claimedBeforePrefetch;
+    ListenableFuture<CacheResult> prefetched;
+    synchronized (this) {
+      claimedBeforePrefetch = prefetch.state == State.PENDING || prefetch.state == State.STARTING;
+      prefetched = claim(prefetch);
+    }
+
+    if (prefetched == null) {
+      ListenableFuture<CacheResult> result = delegate.fetchAsync(target, ruleKey, output);
+      if (claimedBeforePrefetch) {
+        // The rule hasn't been prefetched yet, so let this fetch release its deps instead.
+        result.addListener(() -> onClaimedFetchFinished(prefetch, result), executor);
+      }
+      return result;
+    }
+    return Futures.transformAsync(
+        prefetched,
+        result -> {
+          if (!result.getType().isSuccess()) {
+            return Futures.immediateFuture(result);
+          }
+          try {
+            Files.move(
+                prefetch.output.getUnchecked(),
+                output.get(),
+                StandardCopyOption.REPLACE_EXISTING);
+          } catch (IOException e) {
+            LOG.warn(e, "Failed to use prefetched artifact for %s, fetching it again.", target);
+            return delegate.fetchAsync(target, ruleKey, output);
+          }
+          return Futures.immediateFuture(result);
+        },
+        MoreExecutors.directExecutor());
+  }
+
+  /**
+   * Claims a rule for a fetch issued by the build, so that it isn't prefetched anymore.
+   *
+   * @return the result of prefetching the given rule key, if it was prefetched and not claimed yet
+   */
+  @Nullable
+  private ListenableFuture<CacheResult> claim(Prefetch prefetch) {
+    if (prefetch.state == State.PENDING || prefetch.state == State.STARTING) {
+      prefetch.state = State.CLAIMED;
+      return null;
+    }
+    ListenableFuture<CacheResult> result = prefetch.result;
+    if (result == null
+        || result.isCancelled()
+        || (prefetch.state != State.FETCHING && prefetch.state != State.DONE)) {
+      return null;
+    }
+    prefetch.state = State.CLAIMED;
+    return result;
+  }
+
+  /** Calculates the rule key of a rule at most once, unless two threads race to do so. */
+  private RuleKey getRuleKey(Prefetch prefetch) {
+    RuleKey ruleKey = prefetch.ruleKey;
+    if (ruleKey == null) {
+      ruleKey = ruleKeys.apply(prefetch.rule);
+      prefetch.ruleKey = ruleKey;
+    }
+    return ruleKey;
+  }
+
+  @Override
+  public void skipPendingAndFutureAsyncFetches() {
+    delegate.skipPendingAndFutureAsyncFetches();
+  }
+
+  @Override
+  public ArtifactCache getDelegate() {
+    return delegate;
+  }
+
+  @Override
+  public ListenableFuture<Unit> store(ArtifactInfo info, BorrowablePath output) {
+    return delegate.store(info, output);
+  }
+
+  @Override
+  public ListenableFuture<Unit> store(ImmutableList<Pair<ArtifactInfo, BorrowablePath>> artifacts) {
+    return delegate.store(artifacts);
+  }
+
+  @Override
+  public ListenableFuture<ImmutableMap<RuleKey, CacheResult>> multiContainsAsync(
+      ImmutableSet<RuleKey> ruleKeys) {
+    return delegate.multiContainsAsync(ruleKeys);
+  }
+
+  @Override
+  public ListenableFuture<CacheDeleteResult> deleteAsync(List<RuleKey> ruleKeys) {
+    return delegate.deleteAsync(ruleKeys);
+  }
+
+  @Override
+  public CacheReadMode getCacheReadMode() {
+    return delegate.getCacheReadMode();
+  }
+
+  /**
+   * Cancels outstanding prefetches and deletes the artifacts that were prefetched but never used.
+   * The delegate is owned by the build, and isn't closed.
+   */
+  @Override
+  public synchronized void close() {
+    closed = true;
+    int unused = 0;
+    for (Prefetch prefetch : prefetches.values()) {
+      if (prefetch.state == State.CLAIMED || prefetch.result == null) {
+        continue;
+      }
+      prefetch.result.cancel(false);
+      Path path = prefetch.createdPath;
+      if (path != null) {
+        unused++;
+        try {
+          Files.deleteIfExists(path);
+        } catch (IOException e) {
+          LOG.warn(e, "Failed to delete prefetched artifact %s", path);
+        }
+      }
+    }
+    LOG.debug("Prefetched %d rules, %d artifacts were never used.", prefetches.size(), unused);
+    prefetches.clear();
+    toFetch.clear();
+  }
+
+  private enum State {
+    /** Waiting for a fetch to be issued. */
+    PENDING,
+    /** Counted as in flight while its rule key and local outputs are checked. */
+    STARTING,
+    /** Fetch in flight. */
+    FETCHING,
+    /** Fetched, or found not to need a fetch. */
+    DONE,
+    /** Not needed by the build anymore. */
+    SKIPPED,
+    /** Fetched (or about to be fetched) by the build itself. */
+    CLAIMED,
+  }
+
+  private static class Prefetch {
+    private final BuildRule rule;
+    private final LazyPath output;
+    private State state = State.PENDING;
+    private int requiringEdges = 0;
+    private boolean releasedBuildDeps = false;
+    @Nullable private volatile RuleKey ruleKey;
+    @Nullable private ListenableFuture<CacheResult> result;
+    @Nullable private volatile Path createdPath;
+
+    Prefetch(BuildRule rule) {
+      this.rule = rule;
+      this.output =
+          new LazyPath() {
+            @Override
+            protected Path create() throws IOException {
+              // Staged under buck-out, so that handing the artifact to the build is a rename.
+              ProjectFilesystem filesystem = rule.getProjectFilesystem();
+              Path path =
+                  filesystem.resolve(
+                      filesystem.createTempFile(
+                          "buck_prefetch_"
+                              + MostFiles.sanitize(rule.getBuildTarget().getShortName()),
+                          ".artifact"));
+              createdPath = path;
+              return path;
+            }
+          };
+    }
+  }
+}
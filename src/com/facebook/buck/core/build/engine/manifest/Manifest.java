@@ -40,6 +40,9 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.NoSuchFileException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -47,11 +50,25 @@ import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+/**
+ * Maps the hashes of the inputs a rule actually used to the dep file {@link RuleKey} they produced.
+ *
+ * <p>The hashes of each entry are kept sorted by hash index, and entries are kept sorted
+ * lexicographically by their hashes. Since hash indices are assigned in the order hashes are first
+ * seen, the hashes most entries share come first, and entries recorded against the same versions of
+ * those inputs end up next to each other. A lookup computes the on disk hash of each input at most
+ * once, and when an entry doesn't match it skips all the following entries that share the hash
+ * that didn't match. The serialized format stores each entry as the length of the prefix it shares
+ * with the previous entry followed by the rest of its hashes.
+ */
 public class Manifest {
 
   private static final Logger LOG = Logger.get(Manifest.class);
 
-  private static final int VERSION = 0;
+  private static final int VERSION = 1;
+
+  private static final Comparator<Pair<RuleKey, int[]>> ENTRY_COMPARATOR =
+      (first, second) -> compareHashIndices(first.getSecond(), second.getSecond());
 
   private final RuleKey key;
 
@@ -99,7 +116,9 @@ public class Manifest {
     hashIndices = new HashMap<>(numberOfHashes);
     for (int index = 0; index < numberOfHashes; index++) {
       int inputIndex = input.readInt();
-      HashCode inputHash = HashCode.fromString(input.readUTF());
+      byte[] hashBytes = new byte[input.readUnsignedByte()];
+      input.readFully(hashBytes);
+      HashCode inputHash = HashCode.fromBytes(hashBytes);
       hashes.add(new Pair<>(inputIndex, inputHash));
       hashIndices.put(inputHash, index);
     }
@@ -107,15 +126,23 @@ public class Manifest {
     int numberOfEntries = input.readInt();
     LOG.verbose("%s: loading %d dep file rule key entries", this.key, numberOfEntries);
     entries = new ArrayList<>(numberOfEntries);
+    int[] previousEntryHashes = new int[0];
     for (int entryIndex = 0; entryIndex < numberOfEntries; entryIndex++) {
-      int numberOfEntryHashes = input.readInt();
-      int[] entryHashes = new int[numberOfEntryHashes];
-      for (int hashIndex = 0; hashIndex < numberOfEntryHashes; hashIndex++) {
+      int sharedPrefixLength = input.readInt();
+      Preconditions.checkState(
+          sharedPrefixLength <= previousEntryHashes.length,
+          "invalid shared prefix length: %s > %s",
+          sharedPrefixLength,
+          previousEntryHashes.length);
+      int[] entryHashes = new int[sharedPrefixLength + input.readInt()];
+      System.arraycopy(previousEntryHashes, 0, entryHashes, 0, sharedPrefixLength);
+      for (int hashIndex = sharedPrefixLength; hashIndex < entryHashes.length; hashIndex++) {
         entryHashes[hashIndex] = input.readInt();
       }
       RuleKey key = new RuleKey(input.readUTF());
       LOG.verbose("%s: loaded entry for dep file rule key %s", this.key, key);
       entries.add(new Pair<>(key, entryHashes));
+      previousEntryHashes = entryHashes;
     }
   }
 
@@ -179,33 +206,6 @@ public class Manifest {
         resolver.getRelativePath(archivePath.getArchiveSourcePath()), archivePath.getMemberPath());
   }
 
-  private boolean hashesMatch(
-      FileHashLoader fileHashLoader,
-      SourcePathResolverAdapter resolver,
-      ImmutableListMultimap<String, SourcePath> universe,
-      int[] hashIndices)
-      throws IOException {
-    for (int hashIndex : hashIndices) {
-      Pair<Integer, HashCode> hashEntry = hashes.get(hashIndex);
-      String input = inputs.get(hashEntry.getFirst());
-      ImmutableList<SourcePath> candidates = universe.get(input);
-      if (candidates.isEmpty()) {
-        return false;
-      }
-      HashCode onDiskHeaderHash;
-      try {
-        onDiskHeaderHash = hashSourcePathGroup(fileHashLoader, resolver, candidates);
-      } catch (NoSuchFileException e) {
-        return false;
-      }
-      HashCode inputHash = hashEntry.getSecond();
-      if (!inputHash.equals(onDiskHeaderHash)) {
-        return false;
-      }
-    }
-    return true;
-  }
-
   /**
    * @return the {@link RuleKey} of the entry that matches the on disk hashes provided by {@code
    *     fileHashLoader}.
@@ -215,31 +215,112 @@ public class Manifest {
       SourcePathResolverAdapter resolver,
       ImmutableSet<SourcePath> universe)
       throws IOException {
-    // Create a set of all paths we care about.
-    ImmutableSet.Builder<String> interestingPathsBuilder = new ImmutableSet.Builder<>();
-    for (Pair<?, int[]> entry : entries) {
-      for (int hashIndex : entry.getSecond()) {
-        interestingPathsBuilder.add(inputs.get(hashes.get(hashIndex).getFirst()));
-      }
-    }
-    ImmutableSet<String> interestingPaths = interestingPathsBuilder.build();
-
     // Create a multimap from paths we care about to SourcePaths that maps to them.
     ImmutableListMultimap<String, SourcePath> mappedUniverse =
         index(
             universe,
             path -> sourcePathToManifestHeader(path, resolver),
-            interestingPaths::contains);
-
-    // Find a matching entry.
+            inputIndices::containsKey);
+    HashMatcher matcher = new HashMatcher(fileHashLoader, resolver, mappedUniverse);
+
+    // Find a matching entry. Entries are sorted, so when an entry doesn't match, the following
+    // entries sharing the prefix of hashes up to and including the mismatching one are skipped,
+    // and the hashes they share with the last checked entry aren't checked again.
+    int[] previousEntryHashes = new int[0];
+    int matchingPrefixLength = 0;
+    int mismatchPosition = 0;
     for (Pair<RuleKey, int[]> entry : entries) {
-      if (hashesMatch(fileHashLoader, resolver, mappedUniverse, entry.getSecond())) {
+      int[] entryHashes = entry.getSecond();
+      int sharedPrefixLength =
+          getSharedPrefixLength(previousEntryHashes, entryHashes, mismatchPosition + 1);
+      previousEntryHashes = entryHashes;
+      if (sharedPrefixLength > mismatchPosition) {
+        continue;
+      }
+
+      int position = Math.min(sharedPrefixLength, matchingPrefixLength);
+      while (position < entryHashes.length && matcher.matches(entryHashes[position])) {
+        position++;
+      }
+      if (position == entryHashes.length) {
         return Optional.of(entry.getFirst());
       }
+      matchingPrefixLength = position;
+      mismatchPosition = position;
     }
     return Optional.empty();
   }
 
+  private static int compareHashIndices(int[] first, int[] second) {
+    int sharedPrefixLength = getSharedPrefixLength(first, second, first.length);
+    if (sharedPrefixLength < first.length && sharedPrefixLength < second.length) {
+      return Integer.compare(first[sharedPrefixLength], second[sharedPrefixLength]);
+    }
+    return Integer.compare(first.length, second.length);
+  }
+
+  /** @return the length of the common prefix of both arrays, up to {@code maxLength}. */
+  private static int getSharedPrefixLength(int[] first, int[] second, int maxLength) {
+    int limit = Math.min(maxLength, Math.min(first.length, second.length));
+    int length = 0;
+    while (length < limit && first[length] == second[length]) {
+      length++;
+    }
+    return length;
+  }
+
+  /**
+   * Compares hashes stored in the manifest against the on disk hashes of their inputs, hashing each
+   * input at most once and comparing each stored hash at most once.
+   */
+  private class HashMatcher {
+    private static final byte UNKNOWN = 0;
+    private static final byte MATCHES = 1;
+    private static final byte DIFFERS = 2;
+
+    private final FileHashLoader fileHashLoader;
+    private final SourcePathResolverAdapter resolver;
+    private final ImmutableListMultimap<String, SourcePath> universe;
+    private final byte[] hashStates = new byte[hashes.size()];
+    private final Optional<?>[] onDiskHashes = new Optional<?>[inputs.size()];
+
+    private HashMatcher(
+        FileHashLoader fileHashLoader,
+        SourcePathResolverAdapter resolver,
+        ImmutableListMultimap<String, SourcePath> universe) {
+      this.fileHashLoader = fileHashLoader;
+      this.resolver = resolver;
+      this.universe = universe;
+    }
+
+    private boolean matches(int hashIndex) throws IOException {
+      if (hashStates[hashIndex] == UNKNOWN) {
+        Pair<Integer, HashCode> hashEntry = hashes.get(hashIndex);
+        hashStates[hashIndex] =
+            getOnDiskHash(hashEntry.getFirst()).equals(Optional.of(hashEntry.getSecond()))
+                ? MATCHES
+                : DIFFERS;
+      }
+      return hashStates[hashIndex] == MATCHES;
+    }
+
+    private Optional<?> getOnDiskHash(int inputIndex) throws IOException {
+      if (onDiskHashes[inputIndex] == null) {
+        ImmutableList<SourcePath> candidates = universe.get(inputs.get(inputIndex));
+        Optional<HashCode> onDiskHash = Optional.empty();
+        if (!candidates.isEmpty()) {
+          try {
+            onDiskHash = Optional.of(hashSourcePathGroup(fileHashLoader, resolver, candidates));
+          } catch (NoSuchFileException e) {
+            // A missing input doesn't match any hash.
+          }
+        }
+        onDiskHashes[inputIndex] = onDiskHash;
+      }
+      return onDiskHashes[inputIndex];
+    }
+  }
+
   private static String sourcePathToManifestHeader(
       SourcePath input, SourcePathResolverAdapter resolver) {
     return sourcePathToManifestPathKey(input, resolver).toString();
@@ -286,7 +367,16 @@ public class Manifest {
       hashIndices[index++] =
           addHash(relativePath.toString(), hashSourcePathGroup(fileHashLoader, resolver, paths));
     }
-    entries.add(new Pair<>(key, hashIndices));
+    addEntry(key, hashIndices);
+  }
+
+  /** Adds an entry, keeping entries and the hashes of each entry sorted. */
+  @VisibleForTesting
+  void addEntry(RuleKey key, int[] hashIndices) {
+    Arrays.sort(hashIndices);
+    Pair<RuleKey, int[]> entry = new Pair<>(key, hashIndices);
+    int position = Collections.binarySearch(entries, entry, ENTRY_COMPARATOR);
+    entries.add(position < 0 ? -position - 1 : position, entry);
   }
 
   /** Serializes the manifest to the given {@link OutputStream}. */
@@ -305,16 +395,24 @@ public class Manifest {
     output.writeInt(hashes.size());
     for (Pair<Integer, HashCode> hash : hashes) {
       output.writeInt(hash.getFirst());
-      output.writeUTF(hash.getSecond().toString());
+      byte[] hashBytes = hash.getSecond().asBytes();
+      output.writeByte(hashBytes.length);
+      output.write(hashBytes);
     }
 
     output.writeInt(entries.size());
+    int[] previousEntryHashes = new int[0];
     for (Pair<RuleKey, int[]> entry : entries) {
-      output.writeInt(entry.getSecond().length);
-      for (int hashIndex : entry.getSecond()) {
-        output.writeInt(hashIndex);
+      int[] entryHashes = entry.getSecond();
+      int sharedPrefixLength =
+          getSharedPrefixLength(previousEntryHashes, entryHashes, entryHashes.length);
+      output.writeInt(sharedPrefixLength);
+      output.writeInt(entryHashes.length - sharedPrefixLength);
+      for (int hashIndex = sharedPrefixLength; hashIndex < entryHashes.length; hashIndex++) {
+        output.writeInt(entryHashes[hashIndex]);
       }
       output.writeUTF(entry.getFirst().toString());
+      previousEntryHashes = entryHashes;
     }
   }
 
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.core.build.engine.type;
+
+/** The order in which the build engine dispatches the dependencies of a rule. */
+public enum RuleSchedulingOrder {
+
+  // Dispatch dependencies in random order. This spreads contention evenly but knows nothing about
+  // how long each subtree is going to take.
+  RANDOM,
+
+  // Dispatch dependencies with the longest estimated remaining critical path first, using rule
+  // durations observed in previous builds, so that long dependency chains start as early as
+  // possible.
+  CRITICAL_PATH,
+}
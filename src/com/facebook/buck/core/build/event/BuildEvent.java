@@ -49,6 +49,11 @@ public abstract class BuildEvent extends AbstractBuckEvent implements WorkAdvanc
     return new UnskippedRuleCountUpdated(ruleCount);
   }
 
+  public static CriticalPathEstimated criticalPathEstimated(
+      BuildTarget buildTarget, long estimatedCriticalPathMillis, int rulesWithHistory) {
+    return new CriticalPathEstimated(buildTarget, estimatedCriticalPathMillis, rulesWithHistory);
+  }
+
   public static BuildReport buildReport(String buildReportJson) {
     return new BuildReport(buildReportJson);
   }
@@ -201,6 +206,58 @@ public abstract class BuildEvent extends AbstractBuckEvent implements WorkAdvanc
     }
   }
 
+  /**
+   * Posted when the build engine schedules rules by critical path, with the critical path length
+   * it estimated for a top-level target from durations observed in previous builds.
+   */
+  public static class CriticalPathEstimated extends BuildEvent {
+
+    private final BuildTarget buildTarget;
+    private final long estimatedCriticalPathMillis;
+    private final int rulesWithHistory;
+
+    protected CriticalPathEstimated(
+        BuildTarget buildTarget, long estimatedCriticalPathMillis, int rulesWithHistory) {
+      super(EventKey.unique());
+      this.buildTarget = buildTarget;
+      this.estimatedCriticalPathMillis = estimatedCriticalPathMillis;
+      this.rulesWithHistory = rulesWithHistory;
+    }
+
+    public BuildTarget getBuildTarget() {
+      return buildTarget;
+    }
+
+    public long getEstimatedCriticalPathMillis() {
+      return estimatedCriticalPathMillis;
+    }
+
+    /** @return the number of rules known to the duration history the estimate is based on. */
+    public int getRulesWithHistory() {
+      return rulesWithHistory;
+    }
+
+    @Override
+    public String getEventName() {
+      return "CriticalPathEstimated";
+    }
+
+    @Override
+    protected String getValueString() {
+      return String.format("%s: %d ms", buildTarget, estimatedCriticalPathMillis);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return this == o;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(this);
+    }
+  }
+
   /** Event used to post build reports */
   public static class BuildReport extends BuildEvent {
 
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.core.build.stats;
+
+import com.facebook.buck.core.model.BuildTarget;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Remembers how long build rules took to build locally in previous builds.
+ *
+ * <p>Unlike {@link BuildRuleDurationTracker}, which lives for a single build, an instance of this
+ * class is kept in the daemon state so that the build engine can use durations observed by earlier
+ * commands to estimate the critical path of the next build.
+ */
+@ThreadSafe
+public class BuildRuleDurationHistory {
+
+  private final ConcurrentMap<BuildTarget, Long> wallMillisDurations = new ConcurrentHashMap<>();
+
+  /** Records the wall time it took to build the given target locally. */
+  public void record(BuildTarget target, long wallMillisDuration) {
+    wallMillisDurations.put(target, wallMillisDuration);
+  }
+
+  /** @return the last recorded wall time for the given target, if it was ever built locally. */
+  public OptionalLong getWallMillisDuration(BuildTarget target) {
+    Long duration = wallMillisDurations.get(target);
+    return duration == null ? OptionalLong.empty() : OptionalLong.of(duration);
+  }
+
+  /** @return the number of targets with a recorded duration. */
+  public int size() {
+    return wallMillisDurations.size();
+  }
+}
@@ -20,6 +20,7 @@ import com.facebook.buck.core.model.BuildTarget;
 import com.facebook.buck.core.rules.BuildRule;
 import com.facebook.buck.util.timing.ClockDuration;
 import com.google.common.annotations.VisibleForTesting;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import javax.annotation.concurrent.GuardedBy;
@@ -57,6 +58,15 @@ public class BuildRuleDurationTracker {
         .doEnding(wallMillisTime, nanoTime, threadUserNanoDuration);
   }
 
+  /**
+   * @return the duration accumulated by all finished phases of the given rule, or empty if no work
+   *     has been tracked for it.
+   */
+  public Optional<ClockDuration> getDuration(BuildTarget target) {
+    DurationHolder holder = durations.get(target);
+    return holder == null ? Optional.empty() : Optional.of(holder.getAccumulatedDuration());
+  }
+
   @ThreadSafe
   private static class DurationHolder {
     // intervals can be nested so we need to keep the nesting count
@@ -90,6 +100,10 @@ public class BuildRuleDurationTracker {
       threadUserNanoDuration = initialDuration.getThreadUserNanoDuration();
     }
 
+    public synchronized ClockDuration getAccumulatedDuration() {
+      return new ClockDuration(wallMillisDuration, nanoDuration, threadUserNanoDuration);
+    }
+
     public synchronized ClockDuration getDurationAt(long wallMillisTime, long nanoTime) {
       return new ClockDuration(
           wallMillisDuration + wallMillisTime - wallMillisStarted,
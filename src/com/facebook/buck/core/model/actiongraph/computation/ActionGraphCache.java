@@ -24,7 +24,13 @@ import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import javax.annotation.Nullable;
 
-/** Contains cached action graphs. */
+/**
+ * Contains cached action graphs.
+ *
+ * <p>Besides serving exact hits, the cached action graphs are the donors for incremental action
+ * graph generation: a new action graph reuses the build rules of unchanged subgraphs from any of
+ * them, so switching between a few top-level targets doesn't rebuild the subgraphs they share.
+ */
 public class ActionGraphCache {
 
   private final Cache<TargetGraph, ActionGraphAndBuilder> previousActionGraphs;
@@ -32,7 +38,12 @@ public class ActionGraphCache {
 
   public ActionGraphCache(int maxEntries) {
     previousActionGraphs = CacheBuilder.newBuilder().maximumSize(maxEntries).build();
-    incrementalActionGraphGenerator = new IncrementalActionGraphGenerator();
+    // Always keep at least the last action graph around for incremental generation, even if
+    // nothing is cached. Action graphs the generator retires have their builders invalidated, so
+    // they must not be served from the cache anymore.
+    incrementalActionGraphGenerator =
+        new IncrementalActionGraphGenerator(
+            Math.max(1, maxEntries), previousActionGraphs::invalidate);
   }
 
   public void invalidateCache() {
@@ -41,7 +52,11 @@ public class ActionGraphCache {
 
   @Nullable
   public ActionGraphAndBuilder getIfPresent(TargetGraph targetGraph) {
-    return previousActionGraphs.getIfPresent(targetGraph);
+    ActionGraphAndBuilder actionGraphAndBuilder = previousActionGraphs.getIfPresent(targetGraph);
+    if (actionGraphAndBuilder != null) {
+      incrementalActionGraphGenerator.activate(targetGraph);
+    }
+    return actionGraphAndBuilder;
   }
 
   public boolean isEmpty() {
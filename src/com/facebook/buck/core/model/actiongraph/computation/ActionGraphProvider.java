@@ -210,17 +210,12 @@ public class ActionGraphProvider {
         transformer,
         targetGraph,
         incrementalActionGraphMode,
-        graphBuilder -> {
-          // Any previously cached action graphs are no longer valid, as we may use build rules
-          // from those graphs to construct a new graph incrementally, and update those build
-          // rules to use a new BuildRuleResolver.
-          actionGraphCache.invalidateCache();
-
-          // Populate the new build rule graphBuilder with all of the usable rules from the last
-          // build rule graphBuilder for incremental action graph generation.
-          actionGraphCache.populateActionGraphBuilderWithCachedRules(
-              eventBus, targetGraph, graphBuilder);
-        });
+        // Populate the new build rule graphBuilder with all of the usable rules from the cached
+        // build rule graphBuilders for incremental action graph generation. Cached action graphs
+        // whose builders get retired by doing so are dropped from the cache.
+        graphBuilder ->
+            actionGraphCache.populateActionGraphBuilderWithCachedRules(
+                eventBus, targetGraph, graphBuilder));
   }
 
   private static Map<BuildRule, RuleKey> getRuleKeysFromBuildRules(
@@ -25,194 +25,242 @@ import com.facebook.buck.core.model.targetgraph.TargetGraph;
 import com.facebook.buck.core.model.targetgraph.TargetNode;
 import com.facebook.buck.core.rules.ActionGraphBuilder;
 import com.facebook.buck.core.rules.BuildRule;
+import com.facebook.buck.core.util.graph.AbstractBottomUpTraversal;
 import com.facebook.buck.core.util.log.Logger;
 import com.facebook.buck.event.ActionGraphEvent;
 import com.facebook.buck.event.BuckEventBus;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import javax.annotation.Nullable;
+import java.util.function.Consumer;
 
 /**
- * Provides a way to incrementally construct a new {@link ActionGraphBuilder} from a previous one.
+ * Provides a way to incrementally construct a new {@link ActionGraphBuilder} from previous ones.
  *
- * <p>This works by grabbing all the build rules from the previous {@link ActionGraphBuilder} with
- * unflavored targets that were not invalidated when doing a target graph walk to check for changes.
+ * <p>This keeps the target graphs and {@link ActionGraphBuilder}s of the last few generated action
+ * graphs. For every node of a new target graph, a hash of the node and all of its transitive deps
+ * is computed, in the same way {@link
+ * com.facebook.buck.core.model.targetgraph.impl.TargetGraphHashing} hashes target graphs. The build
+ * rules of an unflavored target are then grabbed from the most recent previous graph in which the
+ * subgraphs of all nodes with that unflavored target are unchanged, so that switching between a
+ * few top-level targets reuses the subgraphs they share.
  */
 public class IncrementalActionGraphGenerator {
   private static final Logger LOG = Logger.get(IncrementalActionGraphGenerator.class);
 
-  @Nullable private ActionGraphBuilder lastActionGraphBuilder;
-  @Nullable private TargetGraph lastTargetGraph;
+  private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+  private final int maxGenerations;
+  private final Consumer<TargetGraph> onRetired;
+
+  /** Previous generations, from least to most recently used. */
+  private final LinkedHashMap<TargetGraph, Generation> generations = new LinkedHashMap<>();
+
+  public IncrementalActionGraphGenerator() {
+    this(1, targetGraph -> {});
+  }
+
+  /**
+   * @param maxGenerations the number of previous action graphs whose build rules may be reused.
+   * @param onRetired called with the target graph of a previous action graph whose {@link
+   *     ActionGraphBuilder} was retired and invalidated, and which must no longer be used.
+   */
+  public IncrementalActionGraphGenerator(int maxGenerations, Consumer<TargetGraph> onRetired) {
+    Preconditions.checkArgument(maxGenerations > 0, "maxGenerations must be positive");
+    this.maxGenerations = maxGenerations;
+    this.onRetired = onRetired;
+  }
 
   /**
    * Populates the given {@link ActionGraphBuilder} with the rules from the previously used {@link
-   * ActionGraphBuilder} that are deemed usable after checking for invalidations with a target graph
-   * walk.
+   * ActionGraphBuilder}s that are deemed usable after comparing the subgraph hashes of the new
+   * target graph with theirs.
    */
   public void populateActionGraphBuilderWithCachedRules(
       BuckEventBus eventBus, TargetGraph targetGraph, ActionGraphBuilder graphBuilder) {
+    Map<BuildTarget, HashCode> subgraphHashes = hashSubgraphs(targetGraph);
     int reusedRuleCount = 0;
-    if (lastActionGraphBuilder != null) {
-      Objects.requireNonNull(lastTargetGraph);
-
-      // We first walk the new target graph to find new nodes. A new node will invalidate all nodes
-      // with the same unflavored target.
-      Set<UnflavoredBuildTarget> unflavoredTargetsForNewNodes =
-          findUnflavoredTargetsForNewNodes(targetGraph);
+    if (!generations.isEmpty()) {
+      Map<UnflavoredBuildTarget, List<TargetNode<?>>> nodesByUnflavoredTarget =
+          groupByUnflavoredTarget(targetGraph);
 
-      // We figure out which build rules we can reuse from the last action graph by performing an
-      // invalidation walk over the new target graph.
-      Set<UnflavoredBuildTarget> invalidUnflavoredTargets = new HashSet<>();
-      Set<UnflavoredBuildTarget> allUnflavoredTargetsInNewGraph = new HashSet<>();
-      invalidateChangedTargets(
-          targetGraph,
-          allUnflavoredTargetsInNewGraph,
-          invalidUnflavoredTargets,
-          unflavoredTargetsForNewNodes);
-
-      // Now we can load in all build rules whose unflavored targets weren't invalidated for
-      // incremental action graph generation.
-      reusedRuleCount =
-          addValidRulesToActionGraphBuilder(
-              graphBuilder, allUnflavoredTargetsInNewGraph, invalidUnflavoredTargets);
-
-      // Invalidate the previous {@see ActionGraphBuilder}, which we no longer need, to make sure
-      // nobody unexpectedly accesses it after this point.
-      lastActionGraphBuilder.invalidate();
+      // Try the most recently used generations first, as they are the most likely to match.
+      Map<UnflavoredBuildTarget, Generation> assignedDonors = new HashMap<>();
+      for (Generation donor : Lists.reverse(new ArrayList<>(generations.values()))) {
+        Set<UnflavoredBuildTarget> reusableUnflavoredTargets =
+            findReusableUnflavoredTargets(
+                targetGraph, subgraphHashes, nodesByUnflavoredTarget, assignedDonors, donor);
+        if (!reusableUnflavoredTargets.isEmpty()) {
+          reusedRuleCount +=
+              addValidRulesToActionGraphBuilder(graphBuilder, reusableUnflavoredTargets, donor);
+          for (UnflavoredBuildTarget unflavoredTarget : reusableUnflavoredTargets) {
+            assignedDonors.put(unflavoredTarget, donor);
+          }
+        }
+      }
     }
 
-    lastTargetGraph = targetGraph;
-    lastActionGraphBuilder = graphBuilder;
-    eventBus.post(new ActionGraphEvent.IncrementalLoad(reusedRuleCount));
-  }
-
-  private Set<UnflavoredBuildTarget> findUnflavoredTargetsForNewNodes(TargetGraph targetGraph) {
-    ImmutableSet.Builder<UnflavoredBuildTarget> unflavoredTargetsForNewNodes =
-        new ImmutableSet.Builder<>();
-    Set<BuildTarget> explored = new HashSet<>();
-    for (TargetNode<?> root : targetGraph.getNodesWithNoIncomingEdges()) {
-      findUnflavoredTargetsForNewNodes(root, targetGraph, explored, unflavoredTargetsForNewNodes);
+    Generation previous = generations.remove(targetGraph);
+    generations.put(targetGraph, new Generation(targetGraph, graphBuilder, subgraphHashes));
+    if (previous != null) {
+      retire(previous);
+    }
+    // Invalidate the previous {@see ActionGraphBuilder}s we no longer keep, to make sure nobody
+    // unexpectedly accesses them after this point.
+    Iterator<Generation> eldest = generations.values().iterator();
+    while (generations.size() > maxGenerations) {
+      Generation generation = eldest.next();
+      eldest.remove();
+      retire(generation);
     }
-    return unflavoredTargetsForNewNodes.build();
+    eventBus.post(new ActionGraphEvent.IncrementalLoad(reusedRuleCount));
   }
 
-  private void findUnflavoredTargetsForNewNodes(
-      TargetNode<?> node,
-      TargetGraph targetGraph,
-      Set<BuildTarget> explored,
-      ImmutableSet.Builder<UnflavoredBuildTarget> unflavoredTargetsForNewNodes) {
-    if (explored.contains(node.getBuildTarget())) {
+  /**
+   * Marks the previous action graph for the given target graph as the most recently used one, e.g.
+   * when it's served from a cache, and points its build rules, which may be shared with other
+   * previous action graphs, back to its {@link ActionGraphBuilder}.
+   */
+  public void activate(TargetGraph targetGraph) {
+    Generation generation = generations.get(targetGraph);
+    if (generation == null || generation == Iterables.getLast(generations.values())) {
       return;
     }
-    explored.add(node.getBuildTarget());
-
-    if (!lastTargetGraph.getExactOptional(node.getBuildTarget()).isPresent()) {
-      unflavoredTargetsForNewNodes.add(node.getBuildTarget().getUnflavoredBuildTarget());
-    }
-
-    for (TargetNode<?> child : targetGraph.getOutgoingNodesFor(node)) {
-      findUnflavoredTargetsForNewNodes(child, targetGraph, explored, unflavoredTargetsForNewNodes);
+    generations.remove(targetGraph);
+    generations.put(targetGraph, generation);
+    for (BuildRule buildRule : generation.graphBuilder.getSuccessfullyConstructedBuildRules()) {
+      buildRule.updateBuildRuleResolver(generation.graphBuilder);
     }
   }
 
-  private int addValidRulesToActionGraphBuilder(
-      ActionGraphBuilder graphBuilder,
-      Set<UnflavoredBuildTarget> allUnflavoredTargetsInNewGraph,
-      Set<UnflavoredBuildTarget> invalidUnflavoredTargets) {
-    int totalRuleCount = 0;
-    int reusedRuleCount = 0;
-    for (BuildRule buildRule :
-        Objects.requireNonNull(lastActionGraphBuilder).getSuccessfullyConstructedBuildRules()) {
-      UnflavoredBuildTarget unflavoredTarget =
-          buildRule.getBuildTarget().getUnflavoredBuildTarget();
-      if (!invalidUnflavoredTargets.contains(unflavoredTarget)
-          && allUnflavoredTargetsInNewGraph.contains(unflavoredTarget)) {
-        graphBuilder.addToIndex(buildRule);
+  private void retire(Generation generation) {
+    generation.graphBuilder.invalidate();
+    onRetired.accept(generation.targetGraph);
+  }
 
-        // Update build rule resolvers for all reused rules. Build rules may use build rule
-        // resolvers to locate and construct other build rules during construction. Furthermore, if
-        // we didn't update them, we'd leak previous action graphs.
-        buildRule.updateBuildRuleResolver(graphBuilder);
+  /**
+   * Hashes every node of the target graph together with the hashes of its deps, so that the hash of
+   * a node changes if the node or anything in its subgraph changes. Deps are hashed first by a
+   * bottom-up traversal, which doesn't recurse, so deep graphs can't overflow the stack.
+   */
+  private static Map<BuildTarget, HashCode> hashSubgraphs(TargetGraph targetGraph) {
+    Map<BuildTarget, HashCode> subgraphHashes = new HashMap<>(targetGraph.getSize());
+    List<HashCode> childHashes = new ArrayList<>();
+    new AbstractBottomUpTraversal<TargetNode<?>, RuntimeException>(targetGraph) {
+      @Override
+      public void visit(TargetNode<?> node) {
+        childHashes.clear();
+        for (TargetNode<?> child : targetGraph.getOutgoingNodesView(node)) {
+          childHashes.add(Objects.requireNonNull(subgraphHashes.get(child.getBuildTarget())));
+        }
 
-        reusedRuleCount++;
+        // Nodes are compared by value, so their (precomputed) hash codes stand in for their
+        // contents.
+        Hasher hasher = HASH_FUNCTION.newHasher();
+        hasher.putInt(node.hashCode());
+        if (!childHashes.isEmpty()) {
+          hasher.putBytes(Hashing.combineUnordered(childHashes).asBytes());
+        }
+        subgraphHashes.put(node.getBuildTarget(), hasher.hash());
       }
-      totalRuleCount++;
-    }
-
-    LOG.debug("reused %d of %d build rules", reusedRuleCount, totalRuleCount);
-    return reusedRuleCount;
+    }.traverse();
+    return subgraphHashes;
   }
 
-  private void invalidateChangedTargets(
-      TargetGraph targetGraph,
-      Set<UnflavoredBuildTarget> allUnflavoredTargetsInNewGraph,
-      Set<UnflavoredBuildTarget> invalidUnflavoredTargets,
-      Set<UnflavoredBuildTarget> unflavoredTargetsForNewNodes) {
-    Map<BuildTarget, Boolean> explored = new HashMap<>();
-    for (TargetNode<?> root : targetGraph.getNodesWithNoIncomingEdges()) {
-      invalidateChangedTargets(
-          root,
-          targetGraph,
-          explored,
-          allUnflavoredTargetsInNewGraph,
-          invalidUnflavoredTargets,
-          unflavoredTargetsForNewNodes);
+  private static Map<UnflavoredBuildTarget, List<TargetNode<?>>> groupByUnflavoredTarget(
+      TargetGraph targetGraph) {
+    Map<UnflavoredBuildTarget, List<TargetNode<?>>> nodesByUnflavoredTarget = new HashMap<>();
+    for (TargetNode<?> node : targetGraph.getNodes()) {
+      nodesByUnflavoredTarget
+          .computeIfAbsent(
+              node.getBuildTarget().getUnflavoredBuildTarget(), target -> new ArrayList<>(1))
+          .add(node);
     }
+    return nodesByUnflavoredTarget;
   }
 
-  private boolean invalidateChangedTargets(
-      TargetNode<?> node,
+  /**
+   * Finds the unflavored targets whose build rules can all be taken from the given previous
+   * generation: all nodes with the unflavored target must be unchanged there, and the build rules
+   * of all their deps must be the ones taken for the new action graph, since build rules reference
+   * each other.
+   */
+  private static Set<UnflavoredBuildTarget> findReusableUnflavoredTargets(
       TargetGraph targetGraph,
-      Map<BuildTarget, Boolean> explored,
-      Set<UnflavoredBuildTarget> allUnflavoredTargetsInNewGraph,
-      Set<UnflavoredBuildTarget> invalidUnflavoredTargets,
-      Set<UnflavoredBuildTarget> unflavoredTargetsForNewNodes) {
-    if (explored.containsKey(node.getBuildTarget())) {
-      return explored.get(node.getBuildTarget());
-    }
-
-    allUnflavoredTargetsInNewGraph.add(node.getBuildTarget().getUnflavoredBuildTarget());
-
-    // Recursively check if any node in a child subgraph causes invalidation of its parent chain.
-    boolean ancestorInvalidated = false;
-    for (TargetNode<?> child : targetGraph.getOutgoingNodesFor(node)) {
-      // Note: We can't short circuit here since we need to also make sure things inside child
-      // subgraphs get properly invalidated in turn.
-      ancestorInvalidated |=
-          invalidateChangedTargets(
-              child,
-              targetGraph,
-              explored,
-              allUnflavoredTargetsInNewGraph,
-              invalidUnflavoredTargets,
-              unflavoredTargetsForNewNodes);
+      Map<BuildTarget, HashCode> subgraphHashes,
+      Map<UnflavoredBuildTarget, List<TargetNode<?>>> nodesByUnflavoredTarget,
+      Map<UnflavoredBuildTarget, Generation> assignedDonors,
+      Generation donor) {
+    Set<UnflavoredBuildTarget> reusable = new HashSet<>();
+    Deque<UnflavoredBuildTarget> invalidated = new ArrayDeque<>();
+    for (Map.Entry<UnflavoredBuildTarget, List<TargetNode<?>>> entry :
+        nodesByUnflavoredTarget.entrySet()) {
+      Generation assignedDonor = assignedDonors.get(entry.getKey());
+      if (assignedDonor == null) {
+        if (entry.getValue().stream()
+            .allMatch(node -> isUnchangedIn(donor, node, subgraphHashes))) {
+          reusable.add(entry.getKey());
+          continue;
+        }
+      } else if (entry.getValue().stream()
+          .allMatch(node -> hasSameBuildRule(donor, assignedDonor, node.getBuildTarget()))) {
+        // Already taken from a more recent generation, which reused the same build rules from this
+        // one (or the other way around), so parents from this generation can still be reused.
+        continue;
+      }
+      invalidated.add(entry.getKey());
     }
 
-    boolean invalidateParent = false;
-    if (ancestorInvalidated || shouldInvalidateParentChain(node, unflavoredTargetsForNewNodes)) {
-      if (LOG.isVerboseEnabled()) {
-        LOG.verbose("invalidating target %s", node.getBuildTarget().toString());
+    // Invalidate the parent chains of everything we can't take from this generation, as ancestors
+    // might generate their subgraphs differently given the change.
+    while (!invalidated.isEmpty()) {
+      for (TargetNode<?> node : nodesByUnflavoredTarget.get(invalidated.pop())) {
+        for (TargetNode<?> parent : targetGraph.getIncomingNodesView(node)) {
+          UnflavoredBuildTarget parentTarget = parent.getBuildTarget().getUnflavoredBuildTarget();
+          if (reusable.remove(parentTarget)) {
+            if (LOG.isVerboseEnabled()) {
+              LOG.verbose("invalidating target %s due to a changed dep", parentTarget);
+            }
+            invalidated.add(parentTarget);
+          }
+        }
       }
-      invalidateParent = true;
-
-      // This node is invalid. We can't load any of its flavors from cache.
-      invalidUnflavoredTargets.add(node.getBuildTarget().getUnflavoredBuildTarget());
     }
+    return reusable;
+  }
 
-    explored.put(node.getBuildTarget(), invalidateParent);
-    return invalidateParent;
+  private static boolean hasSameBuildRule(
+      Generation generation, Generation otherGeneration, BuildTarget buildTarget) {
+    if (buildTarget.getTargetConfiguration() == ConfigurationForConfigurationTargets.INSTANCE) {
+      return true;
+    }
+    // Build rules are equal if their targets are, so compare the instances.
+    Optional<BuildRule> buildRule = generation.graphBuilder.getRuleOptional(buildTarget);
+    return buildRule.isPresent()
+        && buildRule.get() == otherGeneration.graphBuilder.getRuleOptional(buildTarget).orElse(null);
   }
 
-  private boolean shouldInvalidateParentChain(
-      TargetNode<?> targetNode, Set<UnflavoredBuildTarget> unflavoredTargetsForNewNodes) {
-    if (unflavoredTargetsForNewNodes.contains(
-        targetNode.getBuildTarget().getUnflavoredBuildTarget())) {
+  private static boolean isUnchangedIn(
+      Generation donor, TargetNode<?> targetNode, Map<BuildTarget, HashCode> subgraphHashes) {
+    BuildTarget buildTarget = targetNode.getBuildTarget();
+    Optional<TargetNode<?>> previousTargetNode = donor.targetGraph.getExactOptional(buildTarget);
+    if (!previousTargetNode.isPresent()) {
       // If this node wasn't present in the previous graph, we need to invalidate, as flavored
       // versions of rules might be reconstructed differently. Furthermore, there are cases where a
       // flavored version of a node without the unflavored version shows up in the new target graph,
@@ -222,38 +270,29 @@ public class IncrementalActionGraphGenerator {
       if (LOG.isVerboseEnabled()) {
         LOG.verbose(
             "target %s caused invalidation due to a new node with the same unflavored target",
-            targetNode.getBuildTarget().toString());
+            buildTarget);
       }
-      return true;
+      return false;
     }
 
-    if (lastTargetGraph != null) {
-      Optional<TargetNode<?>> previousTargetNode =
-          lastTargetGraph.getExactOptional(targetNode.getBuildTarget());
-      if (previousTargetNode.isPresent()) {
-        if (targetNode.getBuildTarget().getTargetConfiguration()
-            != ConfigurationForConfigurationTargets.INSTANCE) {
-          // Config nodes don't appear on action graphs
-          Preconditions.checkState(
-              lastActionGraphBuilder.getRuleOptional(targetNode.getBuildTarget()).isPresent(),
-              "Target not found in previous action graph: %s",
-              targetNode.getBuildTarget());
-        }
-        // If the target node has changed, then invalidate parent chains, as ancestors might
-        // generate their subgraphs differently given the change.
-        if (!targetNode.equals(previousTargetNode.get())) {
-          if (LOG.isVerboseEnabled()) {
-            LOG.verbose(
-                "target %s caused invalidation due to target node change",
-                targetNode.getBuildTarget().toString());
-          }
-          return true;
-        }
-      } else {
-        Preconditions.checkState(
-            unflavoredTargetsForNewNodes.contains(
-                targetNode.getBuildTarget().getUnflavoredBuildTarget()));
+    // If the target node or anything in its subgraph has changed, then invalidate parent chains,
+    // as ancestors might generate their subgraphs differently given the change. The hashes are only
+    // a quick check; the nodes themselves are compared for equality, and the deps are checked by
+    // the parent chain invalidation.
+    if (!subgraphHashes.get(buildTarget).equals(donor.subgraphHashes.get(buildTarget))
+        || !targetNode.equals(previousTargetNode.get())) {
+      if (LOG.isVerboseEnabled()) {
+        LOG.verbose("target %s caused invalidation due to target node change", buildTarget);
       }
+      return false;
+    }
+
+    if (buildTarget.getTargetConfiguration() != ConfigurationForConfigurationTargets.INSTANCE
+        && !donor.graphBuilder.getRuleOptional(buildTarget).isPresent()) {
+      // Config nodes don't appear on action graphs, but every other node should, unless the
+      // previous action graph failed to construct.
+      LOG.debug("target %s not found in previous action graph", buildTarget);
+      return false;
     }
 
     // Incremental caching is only supported for {@link Description}s known to
@@ -264,12 +303,51 @@ public class IncrementalActionGraphGenerator {
     if ((description instanceof Description<?>)
         && !((Description<?>) description).producesCacheableSubgraph()) {
       if (LOG.isVerboseEnabled()) {
-        LOG.verbose(
-            "target %s caused invalidation due to not being cacheable",
-            targetNode.getBuildTarget().toString());
+        LOG.verbose("target %s caused invalidation due to not being cacheable", buildTarget);
       }
-      return true;
+      return false;
+    }
+    return true;
+  }
+
+  private static int addValidRulesToActionGraphBuilder(
+      ActionGraphBuilder graphBuilder,
+      Set<UnflavoredBuildTarget> reusableUnflavoredTargets,
+      Generation donor) {
+    int totalRuleCount = 0;
+    int reusedRuleCount = 0;
+    for (BuildRule buildRule : donor.graphBuilder.getSuccessfullyConstructedBuildRules()) {
+      if (reusableUnflavoredTargets.contains(
+          buildRule.getBuildTarget().getUnflavoredBuildTarget())) {
+        graphBuilder.addToIndex(buildRule);
+
+        // Update build rule resolvers for all reused rules. Build rules may use build rule
+        // resolvers to locate and construct other build rules during construction. Furthermore, if
+        // we didn't update them, we'd leak previous action graphs.
+        buildRule.updateBuildRuleResolver(graphBuilder);
+
+        reusedRuleCount++;
+      }
+      totalRuleCount++;
+    }
+
+    LOG.debug("reused %d of %d build rules", reusedRuleCount, totalRuleCount);
+    return reusedRuleCount;
+  }
+
+  /** A previously generated action graph and the target graph it was generated from. */
+  private static class Generation {
+    private final TargetGraph targetGraph;
+    private final ActionGraphBuilder graphBuilder;
+    private final Map<BuildTarget, HashCode> subgraphHashes;
+
+    Generation(
+        TargetGraph targetGraph,
+        ActionGraphBuilder graphBuilder,
+        Map<BuildTarget, HashCode> subgraphHashes) {
+      this.targetGraph = targetGraph;
+      this.graphBuilder = graphBuilder;
+      this.subgraphHashes = subgraphHashes;
     }
-    return false;
   }
 }
@@ -87,7 +87,7 @@ public class ParallelActionGraphFactory implements ActionGraphFactoryDelegate {
         // If we're loading this node from cache, we don't need to wait on our children, as the
         // entire subgraph will be loaded from cache.
         List<ListenableFuture<BuildRule>> depFutures =
-            targetGraph.getOutgoingNodesFor(node).stream()
+            targetGraph.getOutgoingNodesView(node).stream()
                 .filter(dep -> dep.getRuleType().isBuildRule())
                 .map(dep -> Objects.requireNonNull(futures.get(dep.getBuildTarget())))
                 .collect(ImmutableList.toImmutableList());
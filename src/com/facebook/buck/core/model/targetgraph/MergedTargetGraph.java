@@ -21,7 +21,6 @@ import com.facebook.buck.core.util.graph.DirectedAcyclicGraph;
 import com.facebook.buck.core.util.graph.MutableDirectedGraph;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
-import java.util.Map;
 
 /**
  * Target graph version where node is a set of all nodes with the same {@link
@@ -56,20 +55,22 @@ public class MergedTargetGraph extends DirectedAcyclicGraph<MergedTargetNode> {
       graph.addNode(node);
     }
 
-    for (Map.Entry<TargetNode<?>, TargetNode<?>> edge : targetGraph.getOutgoingEdges().entries()) {
-      TargetNode<?> source = edge.getKey();
-      TargetNode<?> sink = edge.getValue();
+    for (TargetNode<?> source : targetGraph.getNodes()) {
       MergedTargetNode mergedSource =
           Preconditions.checkNotNull(
               index.get(source.getBuildTarget().getUnflavoredBuildTarget()),
               "node must exist in index: %s",
               source.getBuildTarget().getUnflavoredBuildTarget());
-      MergedTargetNode mergedSink =
-          Preconditions.checkNotNull(
-              index.get(sink.getBuildTarget().getUnflavoredBuildTarget()),
-              "node must exist in index: %s",
-              sink.getBuildTarget().getUnflavoredBuildTarget());
-      graph.addEdge(mergedSource, mergedSink);
+      targetGraph.forEachOutgoingNode(
+          source,
+          sink -> {
+            MergedTargetNode mergedSink =
+                Preconditions.checkNotNull(
+                    index.get(sink.getBuildTarget().getUnflavoredBuildTarget()),
+                    "node must exist in index: %s",
+                    sink.getBuildTarget().getUnflavoredBuildTarget());
+            graph.addEdge(mergedSource, mergedSink);
+          });
     }
 
     return new MergedTargetGraph(graph, index);
@@ -50,9 +50,9 @@ public class TargetGraph extends DirectedAcyclicGraph<TargetNode<?>> {
   }
 
   private void verifyVisibilityIntegrity() {
-    for (TargetNode<?> node : getNodes()) {
-      for (TargetNode<?> dep : getOutgoingNodesFor(node)) {
-        dep.isVisibleToOrThrow(node);
+    for (int node = 0; node < getNodeCount(); node++) {
+      for (int i = 0; i < getOutgoingNodeCount(node); i++) {
+        getNode(getOutgoingNodeIndex(node, i)).isVisibleToOrThrow(getNode(node));
       }
     }
   }
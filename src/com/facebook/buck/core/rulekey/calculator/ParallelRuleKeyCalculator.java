@@ -21,6 +21,7 @@ import com.facebook.buck.core.exceptions.BuckUncheckedExecutionException;
 import com.facebook.buck.core.model.BuildTarget;
 import com.facebook.buck.core.rulekey.RuleKey;
 import com.facebook.buck.core.rules.BuildRule;
+import com.facebook.buck.core.util.log.Logger;
 import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.rules.keys.RuleKeyFactory;
 import com.facebook.buck.util.Scope;
@@ -41,6 +42,8 @@ import javax.annotation.Nonnull;
 /** Calculates {@link RuleKey}, bottom-up, using tree parallelism. */
 public class ParallelRuleKeyCalculator<T> {
 
+  private static final Logger LOG = Logger.get(ParallelRuleKeyCalculator.class);
+
   private final ListeningExecutorService service;
   private final RuleKeyFactory<T> ruleKeyFactory;
   private final RuleDepsCache ruleDepsCache;
@@ -94,6 +97,9 @@ public class ParallelRuleKeyCalculator<T> {
         Futures.transformAsync(
             Futures.immediateFuture(ruleDepsCache.get(rule)),
             (@Nonnull SortedSet<BuildRule> deps) -> {
+              // Start hashing this rule's inputs in the background while its deps' keys are
+              // being computed, so that `build` below mostly finds them already cached.
+              prefetchInputs(rule);
               List<ListenableFuture<T>> depKeys1 =
                   new ArrayList<>(SortedSets.sizeEstimate(rule.getBuildDeps()));
               for (BuildRule dep : deps) {
@@ -121,6 +127,15 @@ public class ParallelRuleKeyCalculator<T> {
     return future;
   }
 
+  private void prefetchInputs(BuildRule rule) {
+    try {
+      ruleKeyFactory.prefetchInputs(rule);
+    } catch (RuntimeException e) {
+      // Prefetching is only a hint, and any real problem will resurface when building the key.
+      LOG.verbose(e, "Failed to prefetch inputs of %s", rule);
+    }
+  }
+
   public Set<BuildTarget> getAllKnownTargets() {
     return ruleKeys.keySet();
   }
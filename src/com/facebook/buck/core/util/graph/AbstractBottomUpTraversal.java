@@ -16,6 +16,7 @@
 
 package com.facebook.buck.core.util.graph;
 
+import java.util.BitSet;
 import java.util.function.Predicate;
 
 /**
@@ -42,6 +43,11 @@ public abstract class AbstractBottomUpTraversal<T, E extends Throwable> {
    * @throws E
    */
   public final void traverse(Predicate<T> shouldExploreChildren) throws E {
+    if (graph instanceof DirectedAcyclicGraph) {
+      traverseCompact((DirectedAcyclicGraph<T>) graph, shouldExploreChildren);
+      return;
+    }
+
     Iterable<T> roots = graph.getNodesWithNoIncomingEdges();
     GraphTraversable<T> graphTraversable = node -> graph.getOutgoingNodesFor(node).iterator();
     try {
@@ -56,5 +62,53 @@ public abstract class AbstractBottomUpTraversal<T, E extends Throwable> {
     }
   }
 
+  /**
+   * Same order as the {@link AcyclicDepthFirstPostOrderTraversal} in {@link #traverse(Predicate)},
+   * but walks the graph's edge arrays with an explicit stack instead of hashing nodes. The graph is
+   * known to be acyclic, so there's no need to check for cycles.
+   */
+  private void traverseCompact(DirectedAcyclicGraph<T> dag, Predicate<T> shouldExploreChildren)
+      throws E {
+    int nodeCount = dag.getNodeCount();
+    BitSet explored = new BitSet(nodeCount);
+    int[] postOrder = new int[nodeCount];
+    int postOrderCount = 0;
+    int[] stack = new int[nodeCount];
+    int[] nextChild = new int[nodeCount];
+    int[] childCount = new int[nodeCount];
+
+    for (int root = 0; root < nodeCount; root++) {
+      if (dag.getIncomingNodeCount(root) != 0 || explored.get(root)) {
+        continue;
+      }
+      int depth = 0;
+      stack[depth++] = root;
+      childCount[root] = countChildrenToExplore(dag, root, shouldExploreChildren);
+      while (depth > 0) {
+        int node = stack[depth - 1];
+        if (nextChild[node] < childCount[node]) {
+          int child = dag.getOutgoingNodeIndex(node, nextChild[node]++);
+          if (!explored.get(child)) {
+            stack[depth++] = child;
+            childCount[child] = countChildrenToExplore(dag, child, shouldExploreChildren);
+          }
+        } else {
+          depth--;
+          explored.set(node);
+          postOrder[postOrderCount++] = node;
+        }
+      }
+    }
+
+    for (int i = 0; i < postOrderCount; i++) {
+      visit(dag.getNode(postOrder[i]));
+    }
+  }
+
+  private static <T> int countChildrenToExplore(
+      DirectedAcyclicGraph<T> dag, int node, Predicate<T> shouldExploreChildren) {
+    return shouldExploreChildren.test(dag.getNode(node)) ? dag.getOutgoingNodeCount(node) : 0;
+  }
+
   public abstract void visit(T node) throws E;
 }
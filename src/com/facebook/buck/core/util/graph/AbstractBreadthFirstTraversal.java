@@ -16,6 +16,12 @@
 
 package com.facebook.buck.core.util.graph;
 
+import com.google.common.collect.Iterables;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
 /** Performs a breadth-first traversal of dependencies of a graph node. */
 public abstract class AbstractBreadthFirstTraversal<Node>
     extends AbstractBreadthFirstThrowingTraversal<Node, RuntimeException> {
@@ -48,4 +54,51 @@ public abstract class AbstractBreadthFirstTraversal<Node>
       Iterable<? extends Node> initialNodes, Visitor<Node, RuntimeException> visitor) {
     new StaticBreadthFirstTraversal<>(initialNodes, visitor).start();
   }
+
+  /**
+   * Traverse the outgoing edges of a {@link DirectedAcyclicGraph} breadth-first, tracking explored
+   * nodes by their index in the graph instead of in a hash set, and without allocating a collection
+   * of dependencies per node.
+   *
+   * @param visitor called once for each reached node, returns whether to traverse its outgoing
+   *     edges
+   */
+  public static <Node> void traverse(
+      DirectedAcyclicGraph<Node> graph,
+      Iterable<? extends Node> initialNodes,
+      Predicate<? super Node> visitor) {
+    // Initial nodes that aren't in the graph (e.g. flavored copies of nodes) have no edges. They
+    // are queued as negative numbers, so that all initial nodes are visited in order.
+    List<Node> nodesNotInGraph = new ArrayList<>();
+    int[] toExplore = new int[graph.getNodeCount() + Iterables.size(initialNodes)];
+    int queued = 0;
+    BitSet explored = new BitSet(graph.getNodeCount());
+    for (Node node : initialNodes) {
+      int index = graph.getIndex(node);
+      if (index >= 0) {
+        if (!explored.get(index)) {
+          explored.set(index);
+          toExplore[queued++] = index;
+        }
+      } else if (!nodesNotInGraph.contains(node)) {
+        nodesNotInGraph.add(node);
+        toExplore[queued++] = -nodesNotInGraph.size();
+      }
+    }
+
+    for (int visited = 0; visited < queued; visited++) {
+      int index = toExplore[visited];
+      if (index < 0) {
+        visitor.test(nodesNotInGraph.get(-index - 1));
+      } else if (visitor.test(graph.getNode(index))) {
+        for (int i = 0; i < graph.getOutgoingNodeCount(index); i++) {
+          int dep = graph.getOutgoingNodeIndex(index, i);
+          if (!explored.get(dep)) {
+            explored.set(dep);
+            toExplore[queued++] = dep;
+          }
+        }
+      }
+    }
+  }
 }
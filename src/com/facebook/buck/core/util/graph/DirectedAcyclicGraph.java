@@ -17,42 +17,254 @@
 package com.facebook.buck.core.util.graph;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSetMultimap;
-import com.google.common.collect.Sets;
-import java.util.Objects;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
 
+/**
+ * An immutable, acyclic directed graph.
+ *
+ * <p>Nodes are numbered by their position in {@link #getNodes()}, and edges are stored in
+ * compressed sparse row form: for each direction, one array holds the node indexes of all edge
+ * ends, grouped by node, and another holds the offset of each node's group. Compared to maps of
+ * node sets, this takes a few bytes per edge instead of a few dozen, which matters for target
+ * graphs with hundreds of thousands of nodes, and lets traversals walk plain arrays. The {@link
+ * ImmutableSet}s returned by {@link #getOutgoingNodesFor(Object)} and {@link
+ * #getIncomingNodesFor(Object)} are built on each call, so code that looks up edges often should
+ * use the views returned by {@link #getOutgoingNodesView(Object)} and {@link
+ * #getIncomingNodesView(Object)}, or the index-based accessors, e.g. {@link
+ * #getOutgoingNodeIndex(int, int)}, which avoid even those.
+ */
 public class DirectedAcyclicGraph<T> implements TraversableGraph<T> {
 
   private final ImmutableSet<T> nodes;
-  private final ImmutableSetMultimap<T, T> outgoingEdges;
-  private final ImmutableSetMultimap<T, T> incomingEdges;
+  private final ImmutableList<T> nodeList;
+
+  /**
+   * Open addressing hash table from nodes to their indexes. Each slot holds the index of a node
+   * plus one, or zero if empty.
+   */
+  private final int[] indexTable;
+
+  private final int[] outgoingOffsets;
+  private final int[] outgoingEdges;
+  private final int[] incomingOffsets;
+  private final int[] incomingEdges;
+
+  @Nullable private volatile ImmutableSetMultimap<T, T> outgoingEdgesMultimap;
 
   public DirectedAcyclicGraph(MutableDirectedGraph<T> graph) {
     Preconditions.checkState(graph.isAcyclic(), "Graph must by acyclic");
     this.nodes = graph.createImmutableCopyOfNodes();
-    this.outgoingEdges = graph.createImmutableCopyOfOutgoingEdges();
-    this.incomingEdges = graph.createImmutableCopyOfIncomingEdges();
+    this.nodeList = nodes.asList();
+    this.indexTable = new int[Math.max(2, Integer.highestOneBit(Math.max(1, nodes.size())) << 2)];
+    for (int i = 0; i < nodeList.size(); i++) {
+      int slot = slotFor(nodeList.get(i));
+      while (indexTable[slot] != 0) {
+        slot = (slot + 1) & (indexTable.length - 1);
+      }
+      indexTable[slot] = i + 1;
+    }
+
+    int edgeCount = graph.getEdgeCount();
+    this.outgoingOffsets = new int[nodeList.size() + 1];
+    this.outgoingEdges = new int[edgeCount];
+    this.incomingOffsets = new int[nodeList.size() + 1];
+    this.incomingEdges = new int[edgeCount];
+    int outgoing = 0;
+    int incoming = 0;
+    for (int i = 0; i < nodeList.size(); i++) {
+      T node = nodeList.get(i);
+      outgoingOffsets[i] = outgoing;
+      for (T sink : graph.getOutgoingNodesFor(node)) {
+        outgoingEdges[outgoing++] = getIndex(sink);
+      }
+      incomingOffsets[i] = incoming;
+      for (T source : graph.getIncomingNodesFor(node)) {
+        incomingEdges[incoming++] = getIndex(source);
+      }
+    }
+    outgoingOffsets[nodeList.size()] = outgoing;
+    incomingOffsets[nodeList.size()] = incoming;
   }
 
+  private int slotFor(Object node) {
+    int hash = node.hashCode() * 0x9E3779B9;
+    return (hash ^ (hash >>> 16)) & (indexTable.length - 1);
+  }
+
+  /** @return the number of nodes in this graph. */
+  public int getNodeCount() {
+    return nodeList.size();
+  }
+
+  /** @return the index of the given node, or -1 if it's not in this graph. */
+  public int getIndex(Object node) {
+    int mask = indexTable.length - 1;
+    for (int slot = slotFor(node); indexTable[slot] != 0; slot = (slot + 1) & mask) {
+      int index = indexTable[slot] - 1;
+      if (nodeList.get(index).equals(node)) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  /** @return the node with the given index. */
+  public T getNode(int index) {
+    return nodeList.get(index);
+  }
+
+  /** @return the number of outgoing edges of the node with the given index. */
+  public int getOutgoingNodeCount(int index) {
+    return outgoingOffsets[index + 1] - outgoingOffsets[index];
+  }
+
+  /** @return the index of the {@code i}th sink of the outgoing edges of the given node. */
+  public int getOutgoingNodeIndex(int index, int i) {
+    return outgoingEdges[outgoingOffsets[index] + i];
+  }
+
+  /** @return the number of incoming edges of the node with the given index. */
+  public int getIncomingNodeCount(int index) {
+    return incomingOffsets[index + 1] - incomingOffsets[index];
+  }
+
+  /** @return the index of the {@code i}th source of the incoming edges of the given node. */
+  public int getIncomingNodeIndex(int index, int i) {
+    return incomingEdges[incomingOffsets[index] + i];
+  }
+
+  /** @return the sinks of the outgoing edges of {@code source}, copied from the edge array. */
   @Override
   public ImmutableSet<T> getOutgoingNodesFor(T source) {
-    return outgoingEdges.get(source);
+    return ImmutableSet.copyOf(getOutgoingNodesView(source));
   }
 
+  /** @return the sources of the incoming edges of {@code sink}, copied from the edge array. */
   @Override
   public ImmutableSet<T> getIncomingNodesFor(T sink) {
-    return incomingEdges.get(sink);
+    return ImmutableSet.copyOf(getIncomingNodesView(sink));
+  }
+
+  /** @return an unmodifiable view of the sinks of the outgoing edges of {@code source}. */
+  public Set<T> getOutgoingNodesView(T source) {
+    return toNodes(outgoingOffsets, outgoingEdges, getIndex(source));
+  }
+
+  /** @return an unmodifiable view of the sources of the incoming edges of {@code sink}. */
+  public Set<T> getIncomingNodesView(T sink) {
+    return toNodes(incomingOffsets, incomingEdges, getIndex(sink));
+  }
+
+  /**
+   * Runs {@code consumer} on the sinks of the outgoing edges of {@code source}, without allocating
+   * a collection of them. Can be used as a {@link ForEachSuccessorFunction}.
+   */
+  public void forEachOutgoingNode(T source, Consumer<? super T> consumer) {
+    forEachNode(outgoingOffsets, outgoingEdges, getIndex(source), consumer);
+  }
+
+  /**
+   * Runs {@code consumer} on the sources of the incoming edges of {@code sink}, without allocating
+   * a collection of them. Can be used as a {@link ForEachSuccessorFunction}.
+   */
+  public void forEachIncomingNode(T sink, Consumer<? super T> consumer) {
+    forEachNode(incomingOffsets, incomingEdges, getIndex(sink), consumer);
+  }
+
+  private Set<T> toNodes(int[] offsets, int[] edges, int index) {
+    if (index < 0 || offsets[index] == offsets[index + 1]) {
+      return ImmutableSet.of();
+    }
+    return new NodeSet(edges, offsets[index], offsets[index + 1]);
+  }
+
+  /** The nodes whose indexes are stored in a range of one of the edge arrays. */
+  private class NodeSet extends AbstractSet<T> {
+    private final int[] edges;
+    private final int start;
+    private final int end;
+
+    private NodeSet(int[] edges, int start, int end) {
+      this.edges = edges;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    public int size() {
+      return end - start;
+    }
+
+    @Override
+    public boolean contains(Object node) {
+      int index = node == null ? -1 : getIndex(node);
+      if (index < 0) {
+        return false;
+      }
+      for (int i = start; i < end; i++) {
+        if (edges[i] == index) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+      return new Iterator<T>() {
+        private int next = start;
+
+        @Override
+        public boolean hasNext() {
+          return next < end;
+        }
+
+        @Override
+        public T next() {
+          if (!hasNext()) {
+            throw new NoSuchElementException();
+          }
+          return nodeList.get(edges[next++]);
+        }
+      };
+    }
+  }
+
+  private void forEachNode(int[] offsets, int[] edges, int index, Consumer<? super T> consumer) {
+    if (index < 0) {
+      return;
+    }
+    for (int i = offsets[index]; i < offsets[index + 1]; i++) {
+      consumer.accept(nodeList.get(edges[i]));
+    }
   }
 
   @Override
   public ImmutableSet<T> getNodesWithNoOutgoingEdges() {
-    return ImmutableSet.copyOf(Sets.difference(nodes, outgoingEdges.keySet()));
+    return getNodesWithNoEdges(outgoingOffsets);
   }
 
   @Override
   public ImmutableSet<T> getNodesWithNoIncomingEdges() {
-    return ImmutableSet.copyOf(Sets.difference(nodes, incomingEdges.keySet()));
+    return getNodesWithNoEdges(incomingOffsets);
+  }
+
+  private ImmutableSet<T> getNodesWithNoEdges(int[] offsets) {
+    ImmutableSet.Builder<T> builder = ImmutableSet.builder();
+    for (int i = 0; i < nodeList.size(); i++) {
+      if (offsets[i] == offsets[i + 1]) {
+        builder.add(nodeList.get(i));
+      }
+    }
+    return builder.build();
   }
 
   @Override
@@ -60,8 +272,24 @@ public class DirectedAcyclicGraph<T> implements TraversableGraph<T> {
     return nodes;
   }
 
+  /**
+   * @return a multimap of all edges, from source to sink nodes, built on the first call and kept
+   *     afterwards. Traversals should use {@link #forEachOutgoingNode(Object, Consumer)} instead.
+   */
   public ImmutableSetMultimap<T, T> getOutgoingEdges() {
-    return outgoingEdges;
+    ImmutableSetMultimap<T, T> result = outgoingEdgesMultimap;
+    if (result == null) {
+      ImmutableSetMultimap.Builder<T, T> builder = ImmutableSetMultimap.builder();
+      for (int i = 0; i < nodeList.size(); i++) {
+        for (int e = outgoingOffsets[i]; e < outgoingOffsets[i + 1]; e++) {
+          builder.put(nodeList.get(i), nodeList.get(outgoingEdges[e]));
+        }
+      }
+      result = builder.build();
+      // Racing callers build equal multimaps, so it doesn't matter which one is kept.
+      outgoingEdgesMultimap = result;
+    }
+    return result;
   }
 
   @Override
@@ -71,13 +299,31 @@ public class DirectedAcyclicGraph<T> implements TraversableGraph<T> {
     }
 
     DirectedAcyclicGraph<?> that = (DirectedAcyclicGraph<?>) other;
-    return Objects.equals(this.nodes, that.nodes)
-        && Objects.equals(this.outgoingEdges, that.outgoingEdges)
-        && Objects.equals(this.incomingEdges, that.incomingEdges);
+    if (!nodes.equals(that.nodes) || outgoingEdges.length != that.outgoingEdges.length) {
+      return false;
+    }
+    // Nodes may be numbered differently in the other graph, so compare edges by node.
+    for (int i = 0; i < nodeList.size(); i++) {
+      int thatIndex = that.getIndex(nodeList.get(i));
+      if (getOutgoingNodeCount(i) != that.getOutgoingNodeCount(thatIndex)
+          || !toNodes(outgoingOffsets, outgoingEdges, i)
+              .equals(that.toNodes(that.outgoingOffsets, that.outgoingEdges, thatIndex))) {
+        return false;
+      }
+    }
+    return true;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(nodes, outgoingEdges, incomingEdges);
+    // Order independent, like the hash code of a set of edges.
+    int edgesHashCode = 0;
+    for (int i = 0; i < nodeList.size(); i++) {
+      int sourceHashCode = nodeList.get(i).hashCode();
+      for (int e = outgoingOffsets[i]; e < outgoingOffsets[i + 1]; e++) {
+        edgesHashCode += sourceHashCode ^ nodeList.get(outgoingEdges[e]).hashCode();
+      }
+    }
+    return 31 * nodes.hashCode() + edgesHashCode;
   }
 }
@@ -44,6 +44,9 @@ public class TopologicalSort {
 
   /** Returns a topologically sorted list of the nodes in the graph. */
   public static <T> ImmutableList<T> sort(TraversableGraph<T> graph) {
+    if (graph instanceof DirectedAcyclicGraph) {
+      return sortCompact((DirectedAcyclicGraph<T>) graph);
+    }
     return sortImpl(graph, LinkedHashSet::new);
   }
 
@@ -96,6 +99,40 @@ public class TopologicalSort {
     return sortImpl(graph, levelSetFactory);
   }
 
+  /**
+   * Same as {@link #sortImpl} with insertion ordered levels, but walks the graph's edge arrays
+   * instead of hashing nodes. Appending each level to a single FIFO queue yields the same order as
+   * exploring the graph level by level.
+   */
+  private static <T> ImmutableList<T> sortCompact(DirectedAcyclicGraph<T> graph) {
+    int nodeCount = graph.getNodeCount();
+    int[] effectiveOutDegrees = new int[nodeCount];
+    int[] sorted = new int[nodeCount];
+    int sortedCount = 0;
+    for (int node = 0; node < nodeCount; node++) {
+      effectiveOutDegrees[node] = graph.getOutgoingNodeCount(node);
+      if (effectiveOutDegrees[node] == 0) {
+        sorted[sortedCount++] = node;
+      }
+    }
+
+    for (int explored = 0; explored < sortedCount; explored++) {
+      int node = sorted[explored];
+      for (int i = 0; i < graph.getIncomingNodeCount(node); i++) {
+        int exploreCandidate = graph.getIncomingNodeIndex(node, i);
+        if (--effectiveOutDegrees[exploreCandidate] == 0) {
+          sorted[sortedCount++] = exploreCandidate;
+        }
+      }
+    }
+
+    ImmutableList.Builder<T> toReturn = ImmutableList.builderWithExpectedSize(sortedCount);
+    for (int i = 0; i < sortedCount; i++) {
+      toReturn.add(graph.getNode(sorted[i]));
+    }
+    return toReturn.build();
+  }
+
   // TODO(cjhopman): The implementations here aren't great and should be improved and migrated to
   // GraphTraversables (probably).
   private static <T> ImmutableList<T> sortImpl(
@@ -35,7 +35,6 @@ import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.ImmutableList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -241,41 +240,37 @@ public class LinkableListFilterFactory {
   private static ImmutableList<BuildTarget> findBuildTargetsMatchingLabelPattern(
       TargetGraph targetGraph, CxxLinkGroupMappingTarget mappingTarget, Pattern regex) {
     ImmutableList.Builder<BuildTarget> allTargets = ImmutableList.builder();
-    TargetNode<?> initialTargetNode = targetGraph.get(mappingTarget.getBuildTarget());
-
-    AbstractBreadthFirstTraversal<TargetNode<?>> treeTraversal =
-        new AbstractBreadthFirstTraversal<TargetNode<?>>(initialTargetNode) {
-          @Override
-          public Iterable<TargetNode<?>> visit(TargetNode<?> node) {
-            if (shouldSkipTraversingNode(node)) {
-              return Collections.emptySet();
-            }
+    AbstractBreadthFirstTraversal.traverse(
+        targetGraph,
+        ImmutableList.of(targetGraph.get(mappingTarget.getBuildTarget())),
+        node -> {
+          if (shouldSkipTraversingNode(node)) {
+            return false;
+          }
 
-            boolean matchesRegex = false;
-            if (node.getConstructorArg() instanceof BuildRuleArg) {
-              BuildRuleArg buildRuleArg = (BuildRuleArg) node.getConstructorArg();
-              for (String label : buildRuleArg.getLabels()) {
-                matchesRegex = regex.matcher(label).matches();
-                if (matchesRegex) {
-                  break;
-                }
+          boolean matchesRegex = false;
+          if (node.getConstructorArg() instanceof BuildRuleArg) {
+            BuildRuleArg buildRuleArg = (BuildRuleArg) node.getConstructorArg();
+            for (String label : buildRuleArg.getLabels()) {
+              matchesRegex = regex.matcher(label).matches();
+              if (matchesRegex) {
+                break;
               }
             }
+          }
 
-            if (matchesRegex) {
-              allTargets.add(node.getBuildTarget());
-              if (mappingTarget.getTraversal() == CxxLinkGroupMappingTarget.Traversal.TREE) {
-                // We can stop traversing the tree at this point because we've added the
-                // build target to the set of all targets that will be traversed by the
-                // algorithm that applies the link groups.
-                return Collections.emptySet();
-              }
+          if (matchesRegex) {
+            allTargets.add(node.getBuildTarget());
+            if (mappingTarget.getTraversal() == CxxLinkGroupMappingTarget.Traversal.TREE) {
+              // We can stop traversing the tree at this point because we've added the
+              // build target to the set of all targets that will be traversed by the
+              // algorithm that applies the link groups.
+              return false;
             }
-
-            return targetGraph.getOutgoingNodesFor(node);
           }
-        };
-    treeTraversal.start();
+
+          return true;
+        });
 
     return allTargets.build();
   }
@@ -292,22 +287,14 @@ public class LinkableListFilterFactory {
       BuildTarget buildTarget) {
     switch (traversal) {
       case TREE:
-        TargetNode<?> initialTargetNode = targetGraph.get(buildTarget);
-        AbstractBreadthFirstTraversal<TargetNode<?>> treeTraversal =
-            new AbstractBreadthFirstTraversal<TargetNode<?>>(initialTargetNode) {
-
-              @Override
-              public Iterable<TargetNode<?>> visit(TargetNode<?> node) {
-                addBuildTargetToLinkGroup(
-                    node.getBuildTarget(), currentLinkGroup, buildTargetToLinkGroupMap);
-                if (shouldSkipTraversingNode(node)) {
-                  return Collections.emptySet();
-                } else {
-                  return targetGraph.getOutgoingNodesFor(node);
-                }
-              }
-            };
-        treeTraversal.start();
+        AbstractBreadthFirstTraversal.traverse(
+            targetGraph,
+            ImmutableList.of(targetGraph.get(buildTarget)),
+            node -> {
+              addBuildTargetToLinkGroup(
+                  node.getBuildTarget(), currentLinkGroup, buildTargetToLinkGroupMap);
+              return !shouldSkipTraversingNode(node);
+            });
         break;
 
       case NODE:
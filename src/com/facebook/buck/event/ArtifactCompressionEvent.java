@@ -24,6 +24,7 @@ import com.fasterxml.jackson.annotation.JsonView;
 import com.google.common.base.CaseFormat;
 import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableSet;
+import java.util.Optional;
 
 /** Event for artifact compression / decompression */
 public abstract class ArtifactCompressionEvent extends AbstractBuckEvent
@@ -75,7 +76,20 @@ public abstract class ArtifactCompressionEvent extends AbstractBuckEvent
   /** Create a new Finished event for corresponding Started event */
   public static Finished finished(
       Started started, long fullSize, long compressedSize, HasNameAndType rule) {
-    return new Finished(started, fullSize, compressedSize, rule);
+    return finished(started, fullSize, compressedSize, rule, Optional.empty());
+  }
+
+  /**
+   * Create a new Finished event for corresponding Started event, for an artifact compressed with
+   * the zstd dictionary with the given id.
+   */
+  public static Finished finished(
+      Started started,
+      long fullSize,
+      long compressedSize,
+      HasNameAndType rule,
+      Optional<String> zstdDictionary) {
+    return new Finished(started, fullSize, compressedSize, rule, zstdDictionary);
   }
 
   /** Event for when a artifact starts compression/decompression */
@@ -94,11 +108,17 @@ public abstract class ArtifactCompressionEvent extends AbstractBuckEvent
 
   /** Event for when a artifact finishes compression/decompression */
   public static class Finished extends ArtifactCompressionEvent {
-    protected Finished(Started started, long fullSize, long compressedSize, HasNameAndType rule) {
+    protected Finished(
+        Started started,
+        long fullSize,
+        long compressedSize,
+        HasNameAndType rule,
+        Optional<String> zstdDictionary) {
       super(started.getEventKey(), started.getOperation(), started.getRuleKeys(), rule);
       startedTimeStamp = started.getTimestampMillis();
       this.fullSize = fullSize;
       this.compressedSize = compressedSize;
+      this.zstdDictionary = zstdDictionary;
     }
 
     private final long startedTimeStamp;
@@ -109,6 +129,10 @@ public abstract class ArtifactCompressionEvent extends AbstractBuckEvent
     @JsonView(JsonViews.MachineReadableLog.class)
     public final long compressedSize;
 
+    /** The id of the zstd dictionary the artifact was compressed with, if any. */
+    @JsonView(JsonViews.MachineReadableLog.class)
+    public final Optional<String> zstdDictionary;
+
     /** Returns the timestamp of corresponding started event */
     public long getStartedTimeStamp() {
       return startedTimeStamp;
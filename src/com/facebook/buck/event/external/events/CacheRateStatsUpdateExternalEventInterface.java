@@ -39,6 +39,12 @@ public interface CacheRateStatsUpdateExternalEventInterface extends BuckEventExt
    */
   int getCacheHitCount();
 
+  /** @return number of cache hits served by the in-memory cache, out of all cache hits. */
+  int getMemoryCacheHitCount();
+
+  /** @return rate of cache requests served by the in-memory cache, in percent. */
+  double getMemoryCacheHitRate();
+
   /** @return number of rules that have been processed. */
   int getUpdatedRulesCount();
 }
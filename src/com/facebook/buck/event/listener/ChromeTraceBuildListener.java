@@ -518,17 +518,15 @@ public class ChromeTraceBuildListener implements BuckEventListener {
         "buck",
         "parse_file",
         ChromeTraceEvent.Phase.END,
-        ImmutableMap.of(
-            "path",
-            finished.getBuckFilePath().toString(),
-            "num_rules",
-            Integer.toString(finished.getNumRules()),
-            "processed_bytes",
-            Long.toString(finished.getProcessedBytes()),
-            "python_profile",
-            finished.getProfile().orElse(""),
-            "parser",
-            finished.getParserClass().getSimpleName()),
+        ImmutableMap.<String, String>builder()
+            .put("path", finished.getBuckFilePath().toString())
+            .put("num_rules", Integer.toString(finished.getNumRules()))
+            .put("processed_bytes", Long.toString(finished.getProcessedBytes()))
+            .put("python_profile", finished.getProfile().orElse(""))
+            .put("parser", finished.getParserClass().getSimpleName())
+            .put("encode_millis", Long.toString(finished.getEncodeNanos() / 1_000_000))
+            .put("decode_millis", Long.toString(finished.getDecodeNanos() / 1_000_000))
+            .build(),
         finished);
   }
 
@@ -668,12 +666,12 @@ public class ChromeTraceBuildListener implements BuckEventListener {
 
   @Subscribe
   public void artifactCompressionFinished(ArtifactCompressionEvent.Finished finished) {
-    writeArtifactCompressionEvent(
-        finished,
-        ChromeTraceEvent.Phase.END,
+    ImmutableMap.Builder<String, String> args =
         ImmutableMap.<String, String>builder()
             .put("full_size", Long.toString(finished.fullSize))
-            .put("compressed_size", Long.toString(finished.compressedSize)));
+            .put("compressed_size", Long.toString(finished.compressedSize));
+    finished.zstdDictionary.ifPresent(id -> args.put("zstd_dictionary", id));
+    writeArtifactCompressionEvent(finished, ChromeTraceEvent.Phase.END, args);
   }
 
   public void writeArtifactCompressionEvent(
@@ -28,6 +28,7 @@ import com.facebook.buck.artifact_cache.CacheCountersSummary;
 import com.facebook.buck.artifact_cache.CacheResult;
 import com.facebook.buck.artifact_cache.CacheResultType;
 import com.facebook.buck.artifact_cache.HttpArtifactCacheEvent;
+import com.facebook.buck.artifact_cache.RuleKeyFilterEvent;
 import com.facebook.buck.artifact_cache.config.ArtifactCacheMode;
 import com.facebook.buck.core.build.event.BuildEvent;
 import com.facebook.buck.core.build.event.BuildRuleEvent;
@@ -105,6 +106,8 @@ public class MachineReadableLoggerListener implements BuckEventListener {
   private AtomicInteger cacheMisses = new AtomicInteger(0);
   private AtomicInteger cacheIgnores = new AtomicInteger(0);
   private AtomicInteger localKeyUnchangedHits = new AtomicInteger(0);
+  private AtomicInteger ruleKeyFilterSkips = new AtomicInteger(0);
+  private AtomicInteger ruleKeyFilterFalsePositives = new AtomicInteger(0);
 
   @Nullable private PerfTimesStats latestPerfTimesStats;
 
@@ -287,6 +290,12 @@ public class MachineReadableLoggerListener implements BuckEventListener {
     }
   }
 
+  @Subscribe
+  public void ruleKeyFilter(RuleKeyFilterEvent event) {
+    ruleKeyFilterSkips.addAndGet(event.getSkipped());
+    ruleKeyFilterFalsePositives.addAndGet(event.getFalsePositives());
+  }
+
   @Subscribe
   public void garbageCollection(GCCollectionEvent event) {
     writeToLog(event.getEventName(), event);
@@ -387,7 +396,9 @@ public class MachineReadableLoggerListener implements BuckEventListener {
                     cacheModeBytes.values().stream().mapToLong(AtomicLong::get).sum(),
                     localKeyUnchangedHits.get(),
                     cacheUploadSuccessCount,
-                    cacheUploadFailureCount));
+                    cacheUploadFailureCount,
+                    ruleKeyFilterSkips.get(),
+                    ruleKeyFilterFalsePositives.get()));
 
             outputStream.write(
                 String.format(
@@ -18,6 +18,7 @@ package com.facebook.buck.event.listener.stats.cache;
 
 import com.facebook.buck.artifact_cache.CacheResult;
 import com.facebook.buck.artifact_cache.CacheResultType;
+import com.facebook.buck.artifact_cache.config.ArtifactCacheMode;
 import com.facebook.buck.core.build.engine.BuildRuleStatus;
 import com.facebook.buck.core.build.event.BuildEvent;
 import com.facebook.buck.core.build.event.BuildRuleEvent;
@@ -26,6 +27,7 @@ import com.facebook.buck.event.EventKey;
 import com.facebook.buck.event.external.events.CacheRateStatsUpdateExternalEventInterface;
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableCollection;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -44,6 +46,8 @@ public class CacheRateStatsKeeper {
   private final AtomicInteger cacheMisses = new AtomicInteger(0);
   private final AtomicInteger cacheErrors = new AtomicInteger(0);
   private final AtomicInteger cacheHits = new AtomicInteger(0);
+  // Counts the cache hits served by the in-memory cache, which are also counted as hits.
+  private final AtomicInteger memoryCacheHits = new AtomicInteger(0);
   private final AtomicInteger cacheIgnores = new AtomicInteger(0);
   private final AtomicInteger cacheLocalKeyUnchangedHits = new AtomicInteger(0);
   private final AtomicInteger ruleCount = new AtomicInteger(0);
@@ -63,6 +67,9 @@ public class CacheRateStatsKeeper {
         break;
       case HIT:
         cacheHits.incrementAndGet();
+        if (cacheResult.cacheMode().equals(Optional.of(ArtifactCacheMode.memory))) {
+          memoryCacheHits.incrementAndGet();
+        }
         break;
       case IGNORED:
         cacheIgnores.incrementAndGet();
@@ -94,6 +101,7 @@ public class CacheRateStatsKeeper {
     int cacheMisses = 0;
     int cacheErrors = 0;
     int cacheHits = 0;
+    int memoryCacheHits = 0;
     int totalRuleCount = 0;
     int updatedRuleCount = 0;
 
@@ -101,17 +109,23 @@ public class CacheRateStatsKeeper {
       cacheMisses += stats.getCacheMissCount();
       cacheErrors += stats.getCacheErrorCount();
       cacheHits += stats.getCacheHitCount();
+      memoryCacheHits += stats.getMemoryCacheHitCount();
       totalRuleCount += stats.getTotalRulesCount();
       updatedRuleCount += stats.getUpdatedRulesCount();
     }
 
     return new CacheRateStatsUpdateEvent(
-        cacheMisses, cacheErrors, cacheHits, totalRuleCount, updatedRuleCount);
+        cacheMisses, cacheErrors, cacheHits, memoryCacheHits, totalRuleCount, updatedRuleCount);
   }
 
   public CacheRateStatsUpdateEvent getStats() {
     return new CacheRateStatsUpdateEvent(
-        cacheMisses.get(), cacheErrors.get(), cacheHits.get(), ruleCount.get(), updated.get());
+        cacheMisses.get(),
+        cacheErrors.get(),
+        cacheHits.get(),
+        memoryCacheHits.get(),
+        ruleCount.get(),
+        updated.get());
   }
 
   public static class CacheRateStatsUpdateEvent extends AbstractBuckEvent
@@ -120,15 +134,27 @@ public class CacheRateStatsKeeper {
     private final int cacheMissCount;
     private final int cacheErrorCount;
     private final int cacheHitCount;
+    private final int memoryCacheHitCount;
     private final int ruleCount;
     private final int updated;
 
     public CacheRateStatsUpdateEvent(
         int cacheMissCount, int cacheErrorCount, int cacheHitCount, int ruleCount, int updated) {
+      this(cacheMissCount, cacheErrorCount, cacheHitCount, 0, ruleCount, updated);
+    }
+
+    public CacheRateStatsUpdateEvent(
+        int cacheMissCount,
+        int cacheErrorCount,
+        int cacheHitCount,
+        int memoryCacheHitCount,
+        int ruleCount,
+        int updated) {
       super(EventKey.unique());
       this.cacheMissCount = cacheMissCount;
       this.cacheErrorCount = cacheErrorCount;
       this.cacheHitCount = cacheHitCount;
+      this.memoryCacheHitCount = memoryCacheHitCount;
       this.ruleCount = ruleCount;
       this.updated = updated;
     }
@@ -143,6 +169,8 @@ public class CacheRateStatsKeeper {
           .add("cacheErrorCount", cacheErrorCount)
           .add("cacheErrorRate", getCacheErrorRate())
           .add("cacheHitCount", cacheHitCount)
+          .add("memoryCacheHitCount", memoryCacheHitCount)
+          .add("memoryCacheHitRate", getMemoryCacheHitRate())
           .toString();
     }
 
@@ -173,6 +201,17 @@ public class CacheRateStatsKeeper {
       return cacheHitCount;
     }
 
+    @Override
+    public int getMemoryCacheHitCount() {
+      return memoryCacheHitCount;
+    }
+
+    @Override
+    public double getMemoryCacheHitRate() {
+      int cacheRequestsCount = cacheHitCount + cacheMissCount + cacheErrorCount;
+      return cacheRequestsCount == 0 ? 0 : 100 * (double) memoryCacheHitCount / cacheRequestsCount;
+    }
+
     @Override
     public int getUpdatedRulesCount() {
       return updated;
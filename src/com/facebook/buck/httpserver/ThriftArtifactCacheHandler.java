@@ -0,0 +1,564 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.httpserver;
+
+import com.facebook.buck.artifact_cache.ArtifactCache;
+import com.facebook.buck.artifact_cache.ArtifactInfo;
+import com.facebook.buck.artifact_cache.CacheResult;
+import com.facebook.buck.artifact_cache.CacheResultType;
+import com.facebook.buck.artifact_cache.ThriftArtifactCache;
+import com.facebook.buck.artifact_cache.ThriftArtifactCacheProtocol;
+import com.facebook.buck.artifact_cache.thrift.ArtifactMetadata;
+import com.facebook.buck.artifact_cache.thrift.BuckCacheFetchResponse;
+import com.facebook.buck.artifact_cache.thrift.BuckCacheMultiContainsResponse;
+import com.facebook.buck.artifact_cache.thrift.BuckCacheMultiFetchResponse;
+import com.facebook.buck.artifact_cache.thrift.BuckCacheRequest;
+import com.facebook.buck.artifact_cache.thrift.BuckCacheRequestType;
+import com.facebook.buck.artifact_cache.thrift.BuckCacheResponse;
+import com.facebook.buck.artifact_cache.thrift.BuckCacheStoreRequest;
+import com.facebook.buck.artifact_cache.thrift.BuckCacheStoreResponse;
+import com.facebook.buck.artifact_cache.thrift.ContainsResult;
+import com.facebook.buck.artifact_cache.thrift.ContainsResultType;
+import com.facebook.buck.artifact_cache.thrift.FetchResult;
+import com.facebook.buck.artifact_cache.thrift.FetchResultType;
+import com.facebook.buck.artifact_cache.thrift.PayloadInfo;
+import com.facebook.buck.core.build.engine.buildinfo.BuildInfo;
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.io.file.BorrowablePath;
+import com.facebook.buck.io.file.LazyPath;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.slb.ThriftUtil;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteSource;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.AsyncContext;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.server.HttpOutput;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+
+/**
+ * Serves the local cache over the hybrid thrift/binary protocol of {@link ThriftArtifactCache}, so
+ * that machines close to each other can share the artifacts one of them downloaded. Clients point
+ * {@code cache.hybrid_thrift_endpoint} at this handler, and can use multiFetch and multi_check.
+ *
+ * <p>Requests don't hold on to a server thread while the cache works on them: they are suspended
+ * while the cache fetches, checks or stores artifacts, and checksums are computed by threads of
+ * the handler. Fetch responses are written with non-blocking I/O from memory-mapped files, so the
+ * payloads are never copied into the heap. The payloads of stores are still read by the server
+ * thread as they are received.
+ */
+public class ThriftArtifactCacheHandler extends AbstractHandler {
+  private static final Logger LOG = Logger.get(ThriftArtifactCacheHandler.class);
+
+  // Threads checksumming payloads, which are idle most of the time.
+  private static final int CHECKSUM_THREADS = 4;
+
+  private final ProjectFilesystem projectFilesystem;
+  private final ListeningExecutorService checksumExecutor;
+  private volatile Optional<ArtifactCache> artifactCache;
+
+  public ThriftArtifactCacheHandler(ProjectFilesystem projectFilesystem) {
+    this.artifactCache = Optional.empty();
+    this.projectFilesystem = projectFilesystem;
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            CHECKSUM_THREADS,
+            CHECKSUM_THREADS,
+            1,
+            TimeUnit.MINUTES,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder()
+                .setNameFormat("thrift-cache-handler-%d")
+                .setDaemon(true)
+                .build());
+    executor.allowCoreThreadTimeOut(true);
+    this.checksumExecutor = MoreExecutors.listeningDecorator(executor);
+  }
+
+  public void setArtifactCache(Optional<ArtifactCache> artifactCache) {
+    this.artifactCache = artifactCache;
+  }
+
+  @Override
+  public void handle(
+      String target, Request baseRequest, HttpServletRequest request, HttpServletResponse response)
+      throws IOException {
+    baseRequest.setHandled(true);
+    Optional<ArtifactCache> cache = artifactCache;
+    if (!cache.isPresent()) {
+      response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+      response.getWriter().write("Serving local cache is disabled for this instance.");
+      return;
+    }
+    if (!baseRequest.getMethod().equals("POST")) {
+      response.setStatus(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
+      return;
+    }
+
+    DataInputStream input = new DataInputStream(request.getInputStream());
+    BuckCacheRequest cacheRequest = new BuckCacheRequest();
+    try {
+      byte[] thriftData = new byte[input.readInt()];
+      input.readFully(thriftData);
+      ThriftUtil.deserialize(ThriftArtifactCache.PROTOCOL, thriftData, cacheRequest);
+    } catch (IOException e) {
+      LOG.warn(e, "Failed to read cache request.");
+      response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+      return;
+    }
+
+    try {
+      switch (cacheRequest.getType()) {
+        case FETCH:
+          fetch(
+              cache.get(),
+              cacheRequest.getType(),
+              ImmutableList.of(toRuleKey(cacheRequest.getFetchRequest().getRuleKey())),
+              request,
+              response);
+          return;
+        case MULTI_FETCH:
+          fetch(
+              cache.get(),
+              cacheRequest.getType(),
+              cacheRequest.getMultiFetchRequest().getRuleKeys().stream()
+                  .map(ThriftArtifactCacheHandler::toRuleKey)
+                  .collect(ImmutableList.toImmutableList()),
+              request,
+              response);
+          return;
+        case CONTAINS:
+          respondWhenDone(
+              cacheRequest.getType(),
+              multiContains(
+                  cache.get(),
+                  cacheRequest.getMultiContainsRequest().getRuleKeys().stream()
+                      .map(ThriftArtifactCacheHandler::toRuleKey)
+                      .collect(ImmutableSet.toImmutableSet())),
+              request,
+              response);
+          return;
+        case STORE:
+          respondWhenDone(
+              cacheRequest.getType(), store(cache.get(), cacheRequest, input), request, response);
+          return;
+          // $CASES-OMITTED$
+        default:
+          writeResponse(
+              response,
+              newResponse(cacheRequest.getType())
+                  .setWasSuccessful(false)
+                  .setErrorMessage(
+                      String.format("Request type %s is not supported.", cacheRequest.getType())));
+      }
+    } catch (RuntimeException | IOException e) {
+      LOG.error(e, "Exception when handling cache request %s", cacheRequest.getType());
+      if (!response.isCommitted()) {
+        response.reset();
+        writeResponse(
+            response,
+            newResponse(cacheRequest.getType())
+                .setWasSuccessful(false)
+                .setErrorMessage(e.getClass().getName() + ": " + e.getMessage()));
+      }
+    }
+  }
+
+  /** Suspends the request until {@code cacheResponse} is done, and then responds with it. */
+  private static void respondWhenDone(
+      BuckCacheRequestType type,
+      ListenableFuture<BuckCacheResponse> cacheResponse,
+      HttpServletRequest request,
+      HttpServletResponse response) {
+    AsyncContext asyncContext = request.startAsync();
+    asyncContext.setTimeout(0);
+    Futures.addCallback(
+        cacheResponse,
+        new FutureCallback<BuckCacheResponse>() {
+          @Override
+          public void onSuccess(BuckCacheResponse result) {
+            try {
+              writeResponse(response, result);
+            } catch (IOException e) {
+              LOG.warn(e, "Failed to send cache response.");
+            } finally {
+              asyncContext.complete();
+            }
+          }
+
+          @Override
+          public void onFailure(Throwable t) {
+            LOG.error(t, "Exception when handling cache request %s", type);
+            try {
+              writeResponse(
+                  response,
+                  newResponse(type)
+                      .setWasSuccessful(false)
+                      .setErrorMessage(t.getClass().getName() + ": " + t.getMessage()));
+            } catch (IOException e) {
+              LOG.warn(e, "Failed to send cache response.");
+            } finally {
+              asyncContext.complete();
+            }
+          }
+        },
+        MoreExecutors.directExecutor());
+  }
+
+  private void fetch(
+      ArtifactCache cache,
+      BuckCacheRequestType type,
+      ImmutableList<RuleKey> ruleKeys,
+      HttpServletRequest request,
+      HttpServletResponse response)
+      throws IOException {
+    List<Path> outputs = new ArrayList<>(ruleKeys.size());
+    List<ListenableFuture<CacheResult>> results = new ArrayList<>(ruleKeys.size());
+    projectFilesystem.mkdirs(projectFilesystem.getBuckPaths().getScratchDir());
+    for (RuleKey ruleKey : ruleKeys) {
+      Path output =
+          projectFilesystem.createTempFile(
+              projectFilesystem.getBuckPaths().getScratchDir(), "outgoing_rulekey", ".tmp");
+      outputs.add(output);
+      results.add(cache.fetchAsync(null, ruleKey, LazyPath.ofInstance(output)));
+    }
+
+    AsyncContext asyncContext = request.startAsync();
+    asyncContext.setTimeout(0);
+    Futures.addCallback(
+        Futures.allAsList(results),
+        new FutureCallback<List<CacheResult>>() {
+          @Override
+          public void onSuccess(List<CacheResult> fetchResults) {
+            try {
+              writeFetchResponse(type, ruleKeys, fetchResults, outputs, response, asyncContext);
+            } catch (IOException | RuntimeException e) {
+              onFailure(e);
+            }
+          }
+
+          @Override
+          public void onFailure(Throwable t) {
+            LOG.error(t, "Failed to fetch %s", ruleKeys);
+            deleteAll(outputs);
+            response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            asyncContext.complete();
+          }
+        },
+        // Responses are checksummed off the threads of the served cache.
+        checksumExecutor);
+  }
+
+  private void writeFetchResponse(
+      BuckCacheRequestType type,
+      ImmutableList<RuleKey> ruleKeys,
+      List<CacheResult> fetchResults,
+      List<Path> outputs,
+      HttpServletResponse response,
+      AsyncContext asyncContext)
+      throws IOException {
+    BuckCacheResponse cacheResponse = newResponse(type).setWasSuccessful(true);
+    List<ByteBuffer> payloads = new ArrayList<>();
+    List<FetchResult> multiFetchResults = new ArrayList<>();
+    for (int i = 0; i < ruleKeys.size(); i++) {
+      CacheResult result = fetchResults.get(i);
+      FetchResult fetchResult = new FetchResult();
+      if (result.getType() == CacheResultType.HIT) {
+        ByteBuffer payload = map(outputs.get(i));
+        payloads.add(payload);
+        cacheResponse.addToPayloads(new PayloadInfo().setSizeBytes(payload.remaining()));
+        fetchResult
+            .setResultType(FetchResultType.HIT)
+            .setMetadata(toMetadata(ruleKeys.get(i), result, payload));
+      } else if (result.getType() == CacheResultType.MISS) {
+        fetchResult.setResultType(FetchResultType.MISS);
+      } else {
+        fetchResult.setResultType(FetchResultType.ERROR);
+      }
+      multiFetchResults.add(fetchResult);
+    }
+    // The payloads stay valid once their files are gone.
+    deleteAll(outputs);
+
+    if (type == BuckCacheRequestType.FETCH) {
+      FetchResult result = multiFetchResults.get(0);
+      if (result.getResultType() == FetchResultType.ERROR) {
+        CacheResult error = fetchResults.get(0);
+        cacheResponse
+            .setWasSuccessful(false)
+            .setErrorMessage(error.cacheError().orElse(error.getType().toString()));
+      } else {
+        cacheResponse.setFetchResponse(
+            new BuckCacheFetchResponse()
+                .setArtifactExists(result.getResultType() == FetchResultType.HIT)
+                .setMetadata(result.getMetadata()));
+      }
+    } else {
+      cacheResponse.setMultiFetchResponse(
+          new BuckCacheMultiFetchResponse().setResults(multiFetchResults));
+    }
+
+    Queue<ByteBuffer> buffers = new ArrayDeque<>(payloads.size() + 1);
+    buffers.add(ByteBuffer.wrap(serialize(cacheResponse)));
+    buffers.addAll(payloads);
+    response.setStatus(HttpServletResponse.SC_OK);
+    response.setContentType(ThriftArtifactCache.HYBRID_THRIFT_STREAM_CONTENT_TYPE.toString());
+    response.setContentLengthLong(buffers.stream().mapToLong(ByteBuffer::remaining).sum());
+    ServletOutputStream output = response.getOutputStream();
+    output.setWriteListener(new BufferWriter((HttpOutput) output, buffers, asyncContext));
+  }
+
+  /** Writes buffers to the response as fast as the client reads them, without blocking. */
+  private static class BufferWriter implements WriteListener {
+    private final HttpOutput output;
+    private final Queue<ByteBuffer> buffers;
+    private final AsyncContext asyncContext;
+
+    private BufferWriter(HttpOutput output, Queue<ByteBuffer> buffers, AsyncContext asyncContext) {
+      this.output = output;
+      this.buffers = buffers;
+      this.asyncContext = asyncContext;
+    }
+
+    @Override
+    public void onWritePossible() throws IOException {
+      while (output.isReady()) {
+        ByteBuffer buffer = buffers.poll();
+        if (buffer == null) {
+          asyncContext.complete();
+          return;
+        }
+        output.write(buffer);
+      }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      LOG.warn(t, "Failed to send cache response.");
+      asyncContext.complete();
+    }
+  }
+
+  private static ListenableFuture<BuckCacheResponse> multiContains(
+      ArtifactCache cache, ImmutableSet<RuleKey> ruleKeys) {
+    return Futures.transform(
+        cache.multiContainsAsync(ruleKeys),
+        results -> toMultiContainsResponse(ruleKeys, results),
+        MoreExecutors.directExecutor());
+  }
+
+  private static BuckCacheResponse toMultiContainsResponse(
+      ImmutableSet<RuleKey> ruleKeys, ImmutableMap<RuleKey, CacheResult> results) {
+    List<ContainsResult> containsResults = new ArrayList<>(ruleKeys.size());
+    for (RuleKey ruleKey : ruleKeys) {
+      CacheResult result = results.get(ruleKey);
+      ContainsResultType resultType;
+      if (result != null && result.getType().isSuccess()) {
+        resultType = ContainsResultType.CONTAINS;
+      } else if (result != null && result.getType() == CacheResultType.MISS) {
+        resultType = ContainsResultType.DOES_NOT_CONTAIN;
+      } else {
+        resultType = ContainsResultType.UNKNOWN_DUE_TO_TRANSIENT_ERRORS;
+      }
+      containsResults.add(new ContainsResult().setResultType(resultType));
+    }
+    return newResponse(BuckCacheRequestType.CONTAINS)
+        .setWasSuccessful(true)
+        .setMultiContainsResponse(new BuckCacheMultiContainsResponse().setResults(containsResults));
+  }
+
+  /**
+   * Reads the payload of a store request, and then checks and stores it without holding on to the
+   * server thread.
+   */
+  private ListenableFuture<BuckCacheResponse> store(
+      ArtifactCache cache, BuckCacheRequest cacheRequest, InputStream input) throws IOException {
+    BuckCacheResponse response = newResponse(BuckCacheRequestType.STORE);
+    if (!cache.getCacheReadMode().isWritable()) {
+      return Futures.immediateFuture(
+          response.setWasSuccessful(false).setErrorMessage("The served cache is read-only."));
+    }
+    if (cacheRequest.getPayloadsSize() != 1) {
+      return Futures.immediateFuture(
+          response
+              .setWasSuccessful(false)
+              .setErrorMessage("Store requests must have exactly one payload."));
+    }
+
+    BuckCacheStoreRequest storeRequest = cacheRequest.getStoreRequest();
+    ArtifactMetadata metadata = storeRequest.getMetadata();
+    long sizeBytes = cacheRequest.getPayloads().get(0).getSizeBytes();
+    projectFilesystem.mkdirs(projectFilesystem.getBuckPaths().getScratchDir());
+    Path temp =
+        projectFilesystem.createTempFile(
+            projectFilesystem.getBuckPaths().getScratchDir(), "incoming_upload", ".tmp");
+    ListenableFuture<BuckCacheResponse> stored;
+    try {
+      try (OutputStream output = projectFilesystem.newFileOutputStream(temp)) {
+        long copied = ByteStreams.copy(ByteStreams.limit(input, sizeBytes), output);
+        if (copied < sizeBytes) {
+          throw new IOException(
+              String.format("Expected a payload of [%d] bytes but got [%d].", sizeBytes, copied));
+        }
+      }
+      stored =
+          Futures.transformAsync(
+              checksumExecutor.submit(() -> checksumMatches(metadata, temp)),
+              checksumMatches -> {
+                if (!checksumMatches) {
+                  return Futures.immediateFuture(
+                      response.setWasSuccessful(false).setErrorMessage("Checksum mismatch."));
+                }
+                return Futures.transform(
+                    cache.store(toArtifactInfo(metadata), BorrowablePath.borrowablePath(temp)),
+                    unit ->
+                        response
+                            .setWasSuccessful(true)
+                            .setStoreResponse(new BuckCacheStoreResponse()),
+                    MoreExecutors.directExecutor());
+              },
+              checksumExecutor);
+    } catch (IOException | RuntimeException e) {
+      projectFilesystem.deleteFileAtPathIfExists(temp);
+      throw e;
+    }
+    stored.addListener(() -> deleteAll(ImmutableList.of(temp)), MoreExecutors.directExecutor());
+    return stored;
+  }
+
+  private boolean checksumMatches(ArtifactMetadata metadata, Path artifact) throws IOException {
+    return !metadata.isSetArtifactPayloadMd5()
+        || metadata
+            .getArtifactPayloadMd5()
+            .equals(
+                ThriftArtifactCacheProtocol.computeMd5Hash(
+                    new ByteSource() {
+                      @Override
+                      public InputStream openStream() throws IOException {
+                        return projectFilesystem.newFileInputStream(artifact);
+                      }
+                    }));
+  }
+
+  private static ArtifactInfo toArtifactInfo(ArtifactMetadata metadata) {
+    return ArtifactInfo.builder()
+        .setRuleKeys(
+            metadata.getRuleKeys().stream()
+                .map(ThriftArtifactCacheHandler::toRuleKey)
+                .collect(ImmutableSet.toImmutableSet()))
+        .setMetadata(
+            metadata.isSetMetadata()
+                ? ImmutableMap.copyOf(metadata.getMetadata())
+                : ImmutableMap.of())
+        .setBuildTimeMs(metadata.getBuildTimeMs())
+        .build();
+  }
+
+  private static ArtifactMetadata toMetadata(
+      RuleKey ruleKey, CacheResult result, ByteBuffer payload) {
+    ImmutableMap<String, String> metadata = result.getMetadata();
+    // Multi-fetch clients refuse payloads without a hash, which is also what lets them detect
+    // artifacts corrupted on the way. It is computed from the mapped payload, so that the artifact
+    // is only read once.
+    return new ArtifactMetadata()
+        .setRuleKeys(ImmutableList.of(toThriftRuleKey(ruleKey)))
+        .setMetadata(metadata)
+        .setBuildTarget(metadata.get(BuildInfo.MetadataKey.TARGET))
+        .setConfiguration(metadata.get(BuildInfo.MetadataKey.CONFIGURATION))
+        .setSizeBytes(result.getArtifactSizeBytes())
+        .setArtifactPayloadMd5(Hashing.md5().hashBytes(payload.duplicate()).toString());
+  }
+
+  private ByteBuffer map(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(projectFilesystem.resolve(path))) {
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+  }
+
+  private void deleteAll(List<Path> paths) {
+    for (Path path : paths) {
+      try {
+        projectFilesystem.deleteFileAtPathIfExists(path);
+      } catch (IOException e) {
+        LOG.warn(e, "Failed to delete %s", path);
+      }
+    }
+  }
+
+  private static void writeResponse(HttpServletResponse response, BuckCacheResponse cacheResponse)
+      throws IOException {
+    byte[] serialized = serialize(cacheResponse);
+    response.setStatus(HttpServletResponse.SC_OK);
+    response.setContentType(ThriftArtifactCache.HYBRID_THRIFT_STREAM_CONTENT_TYPE.toString());
+    response.setContentLength(serialized.length);
+    response.getOutputStream().write(serialized);
+  }
+
+  private static byte[] serialize(BuckCacheResponse cacheResponse) throws IOException {
+    byte[] thriftData = ThriftUtil.serialize(ThriftArtifactCache.PROTOCOL, cacheResponse);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(Integer.BYTES + thriftData.length);
+    try (DataOutputStream output = new DataOutputStream(bytes)) {
+      output.writeInt(thriftData.length);
+      output.write(thriftData);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static BuckCacheResponse newResponse(BuckCacheRequestType type) {
+    return new BuckCacheResponse().setType(type);
+  }
+
+  private static RuleKey toRuleKey(com.facebook.buck.artifact_cache.thrift.RuleKey ruleKey) {
+    return new RuleKey(ruleKey.getHashString());
+  }
+
+  private static com.facebook.buck.artifact_cache.thrift.RuleKey toThriftRuleKey(RuleKey ruleKey) {
+    return new com.facebook.buck.artifact_cache.thrift.RuleKey()
+        .setHashString(ruleKey.getHashCode().toString());
+  }
+}
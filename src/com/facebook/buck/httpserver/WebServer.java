@@ -57,6 +57,7 @@ public class WebServer {
 
   private static final String INDEX_CONTEXT_PATH = "/";
   private static final String ARTIFACTS_CONTEXT_PATH = "/artifacts";
+  private static final String HYBRID_THRIFT_CONTEXT_PATH = "/hybrid_thrift";
   private static final String STATIC_CONTEXT_PATH = "/static";
   private static final String TRACE_CONTEXT_PATH = "/trace";
   private static final String TRACES_CONTEXT_PATH = "/traces";
@@ -68,6 +69,7 @@ public class WebServer {
   private final Server server;
   private final StreamingWebSocketServlet streamingWebSocketServlet;
   private final ArtifactCacheHandler artifactCacheHandler;
+  private final ThriftArtifactCacheHandler thriftArtifactCacheHandler;
 
   /**
    * @param port If 0, then an <a href="http://en.wikipedia.org/wiki/Ephemeral_port">ephemeral
@@ -79,6 +81,7 @@ public class WebServer {
     this.server = new Server(port);
     this.streamingWebSocketServlet = new StreamingWebSocketServlet();
     this.artifactCacheHandler = new ArtifactCacheHandler(projectFilesystem);
+    this.thriftArtifactCacheHandler = new ThriftArtifactCacheHandler(projectFilesystem);
   }
 
   /** @return The port that web server is listening on. */
@@ -105,6 +108,7 @@ public class WebServer {
   public synchronized void updateAndStartIfNeeded(Optional<ArtifactCache> artifactCache)
       throws WebServerException {
     artifactCacheHandler.setArtifactCache(artifactCache);
+    thriftArtifactCacheHandler.setArtifactCache(artifactCache);
 
     if (server.isStarted()) {
       return;
@@ -151,6 +155,7 @@ public class WebServer {
         TRACES_CONTEXT_PATH, new TemplateHandler(new TracesHandlerDelegate(buildTraces)));
     contextPathToHandler.put(TRACE_DATA_CONTEXT_PATH, new TraceDataHandler(buildTraces));
     contextPathToHandler.put(ARTIFACTS_CONTEXT_PATH, artifactCacheHandler);
+    contextPathToHandler.put(HYBRID_THRIFT_CONTEXT_PATH, thriftArtifactCacheHandler);
 
     ImmutableList.Builder<ContextHandler> handlers = ImmutableList.builder();
     for (Map.Entry<String, Handler> entry : contextPathToHandler.entrySet()) {
@@ -158,6 +163,10 @@ public class WebServer {
       Handler handler = entry.getValue();
       ContextHandler contextHandler = new ContextHandler(contextPath);
       contextHandler.setHandler(handler);
+      if (handler == thriftArtifactCacheHandler) {
+        // Clients post to the endpoint itself, and would lose their request when redirected.
+        contextHandler.setAllowNullPathInfo(true);
+      }
       handlers.add(contextHandler);
     }
 
@@ -29,6 +29,12 @@ public class BorrowablePath {
 
     /** You can borrow the path's contents. */
     BORROWABLE,
+
+    /**
+     * You should NOT borrow the path, but its contents won't be modified in place, so you can share
+     * them by hard linking the path instead of copying it.
+     */
+    LINKABLE,
   }
 
   private final Behaviour behaviour;
@@ -42,6 +48,10 @@ public class BorrowablePath {
     return new BorrowablePath(path, Behaviour.NOT_BORROWABLE);
   }
 
+  public static BorrowablePath linkablePath(Path path) {
+    return new BorrowablePath(path, Behaviour.LINKABLE);
+  }
+
   private BorrowablePath(Path path, Behaviour behaviour) {
     this.path = path;
     this.behaviour = behaviour;
@@ -55,6 +65,11 @@ public class BorrowablePath {
     return behaviour == Behaviour.BORROWABLE;
   }
 
+  /** @return true if you can hard link the path instead of copying its contents. */
+  public boolean canLink() {
+    return behaviour == Behaviour.LINKABLE;
+  }
+
   /** @return referenced path. */
   public Path getPath() {
     return path;
@@ -20,13 +20,16 @@ import com.facebook.buck.io.filesystem.ProjectFilesystemDelegate;
 import com.facebook.buck.util.sha1.Sha1HashCode;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
-import com.google.common.io.ByteSource;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 /**
  * Default implementation of {@link ProjectFilesystemDelegate} that talks to the filesystem via
@@ -34,6 +37,13 @@ import java.nio.file.Path;
  */
 public final class DefaultProjectFilesystemDelegate implements ProjectFilesystemDelegate {
 
+  private static final int HASHING_BUFFER_SIZE = 1024 * 1024;
+
+  // Direct buffers are only freed when they are garbage collected, so rather than keeping one for
+  // every thread that ever hashed a file, at most one per processor is kept around for reuse.
+  private static final BlockingQueue<ByteBuffer> HASHING_BUFFERS =
+      new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+
   private final Path root;
 
   public DefaultProjectFilesystemDelegate(Path root) {
@@ -49,19 +59,27 @@ public final class DefaultProjectFilesystemDelegate implements ProjectFilesystem
   public Sha1HashCode computeSha1(Path pathRelativeToProjectRootOrJustAbsolute) throws IOException {
     Path fileToHash = getPathForRelativePath(pathRelativeToProjectRootOrJustAbsolute);
     try {
-      // Normally, we would just use `Files.hash(fileToHash.toFile(), Hashing.sha1())`, but if
-      // fileToHash is backed by Jimfs, its toFile() method throws an UnsupportedOperationException.
-      // Creating the input stream via java.nio.file.Files.newInputStream() avoids this issue.
-      ByteSource source =
-          new ByteSource() {
-            @Override
-            public InputStream openStream() throws IOException {
-              // No need to wrap with BufferedInputStream because ByteSource uses
-              // ByteStreams.copy(), which already buffers.
-              return Files.newInputStream(fileToHash);
-            }
-          };
-      HashCode hashCode = source.hash(Hashing.sha1());
+      // Read through a large, pooled direct buffer rather than a stream: the channel can then
+      // read straight into native memory without an intermediate copy, and big inputs (prebuilt
+      // jars, resources) take far fewer syscalls than with ByteStreams' 8k buffer. Opening the
+      // channel via java.nio.file.Files keeps this working for Jimfs-backed paths.
+      Hasher hasher = Hashing.sha1().newHasher();
+      ByteBuffer buffer = HASHING_BUFFERS.poll();
+      if (buffer == null) {
+        buffer = ByteBuffer.allocateDirect(HASHING_BUFFER_SIZE);
+      }
+      try (SeekableByteChannel channel = Files.newByteChannel(fileToHash)) {
+        buffer.clear();
+        while (channel.read(buffer) != -1) {
+          buffer.flip();
+          hasher.putBytes(buffer);
+          buffer.clear();
+        }
+      } finally {
+        // Dropped if the pool is full.
+        HASHING_BUFFERS.offer(buffer);
+      }
+      HashCode hashCode = hasher.hash();
 
       return Sha1HashCode.fromHashCode(hashCode);
 
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.json;
+
+import com.facebook.buck.util.ImmutableMapWithNullValues;
+import com.facebook.buck.util.bser.BserDeserializer;
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Reads the output of {@code buck.py} when it talks BSER rather than JSON.
+ *
+ * <p>{@code buck.py} writes each value of a result as a separate {@code {"value": ...}} PDU as soon
+ * as it's encoded, followed by a PDU holding the diagnostics, the profile and the time it spent
+ * encoding the values. Values are decoded like {@link BuildFilePythonResultDeserializer} decodes
+ * JSON: integers as {@link Long}s, lists as {@link ImmutableList}s and maps as {@link
+ * ImmutableMapWithNullValues}.
+ */
+public final class BuildFilePythonResultBserReader {
+  private final InputStream inputStream;
+  private final BserDeserializer deserializer =
+      new BserDeserializer(
+          BserDeserializer.KeyOrdering.UNSORTED, BserDeserializer.ValueTypes.IMMUTABLE);
+
+  private long encodeNanos;
+  private long decodeNanos;
+
+  public BuildFilePythonResultBserReader(InputStream inputStream) {
+    this.inputStream = inputStream;
+  }
+
+  /**
+   * Reads the next result from {@code buck.py}.
+   *
+   * @param valueConverter applied to each value as soon as it's decoded, while {@code buck.py} is
+   *     still encoding the following ones.
+   * @return the result, holding the converted values.
+   */
+  @SuppressWarnings("unchecked")
+  public BuildFilePythonResult readResult(
+      Function<Map<String, Object>, Map<String, Object>> valueConverter) throws IOException {
+    ImmutableList.Builder<Map<String, Object>> values = ImmutableList.builder();
+    decodeNanos = 0;
+    while (true) {
+      ByteBuffer pdu = deserializer.readBserBuffer(inputStream);
+      long startNanos = System.nanoTime();
+      Map<String, Object> message;
+      try {
+        message = (Map<String, Object>) deserializer.deserializeBserValue(pdu);
+      } catch (ClassCastException e) {
+        throw new IOException("Expected a BSER object from buck.py", e);
+      }
+      if (message == null) {
+        throw new IOException("Expected a BSER object from buck.py, got null");
+      }
+
+      Object value = message.get("value");
+      if (value != null) {
+        values.add(valueConverter.apply((Map<String, Object>) value));
+        decodeNanos += System.nanoTime() - startNanos;
+        continue;
+      }
+
+      decodeNanos += System.nanoTime() - startNanos;
+      Number encodeNanosValue = (Number) message.get("encode_nanos");
+      encodeNanos = encodeNanosValue == null ? 0 : encodeNanosValue.longValue();
+      List<Map<String, Object>> diagnostics =
+          (List<Map<String, Object>>) message.get("diagnostics");
+      return BuildFilePythonResult.of(
+          values.build(),
+          diagnostics == null ? ImmutableList.of() : ImmutableList.copyOf(diagnostics),
+          Optional.ofNullable((String) message.get("profile")));
+    }
+  }
+
+  /** @return time {@code buck.py} spent encoding the values of the last result read. */
+  public long getEncodeNanos() {
+    return encodeNanos;
+  }
+
+  /**
+   * @return time spent decoding and converting the values of the last result read, not counting
+   *     the time spent waiting for {@code buck.py}.
+   */
+  public long getDecodeNanos() {
+    return decodeNanos;
+  }
+}
@@ -235,6 +235,20 @@ class DaemonicCellState {
     }
   }
 
+  /** @return all build file manifests currently cached for this cell. */
+  ImmutableMap<AbsPath, BuildFileManifest> getBuildFileManifests() {
+    try (AutoCloseableLock readLock = cachesLock.readLock()) {
+      ImmutableMap.Builder<AbsPath, BuildFileManifest> builder = ImmutableMap.builder();
+      for (AbsPath buildFile : allBuildFileManifests.keySet()) {
+        BuildFileManifest manifest = allBuildFileManifests.getIfPresent(buildFile);
+        if (manifest != null) {
+          builder.put(buildFile, manifest);
+        }
+      }
+      return builder.build();
+    }
+  }
+
   BuildFileManifest putBuildFileManifestIfNotPresent(
       AbsPath buildFile,
       BuildFileManifest buildFileManifest,
@@ -41,6 +41,8 @@ import com.facebook.buck.parser.api.PackageFileManifest;
 import com.facebook.buck.parser.config.ParserConfig;
 import com.facebook.buck.parser.exceptions.BuildFileParseException;
 import com.facebook.buck.parser.exceptions.BuildTargetException;
+import com.facebook.buck.skylark.io.impl.GlobResultCache;
+import com.facebook.buck.skylark.parser.SkylarkExtensionCache;
 import com.facebook.buck.util.concurrent.AutoCloseableLock;
 import com.facebook.buck.util.concurrent.AutoCloseableReadWriteLock;
 import com.google.common.annotations.VisibleForTesting;
@@ -359,6 +361,15 @@ public class DaemonicParserState {
 
   private final LoadingCache<Cell, BuildFileTree> buildFileTrees;
 
+  /** {@code buck.py} processes kept alive across commands. */
+  private final PythonDslProcessPool pythonDslProcessPool;
+
+  /** Extension files evaluated by Skylark parsers across commands. */
+  private final SkylarkExtensionCache skylarkExtensionCache;
+
+  /** Results of globs performed by Skylark parsers across commands. */
+  private final GlobResultCache globResultCache;
+
   /**
    * The default includes used by the previous run of the parser in each cell (the key is the cell's
    * root path). If this value changes, then we need to invalidate all the caches.
@@ -370,6 +381,14 @@ public class DaemonicParserState {
   private final AutoCloseableReadWriteLock cellStateLock;
 
   public DaemonicParserState(int parsingThreads) {
+    this(parsingThreads, ParserConfig.DEFAULT_PYTHON_DSL_PROCESS_MAX_MEMORY_MB * 1024 * 1024);
+  }
+
+  /**
+   * @param pythonDslProcessMaxMemoryBytes resident memory above which {@code buck.py} processes
+   *     are shut down rather than kept for later commands.
+   */
+  public DaemonicParserState(int parsingThreads, long pythonDslProcessMaxMemoryBytes) {
     this.parsingThreads = parsingThreads;
     this.cacheInvalidatedByEnvironmentVariableChangeCounter =
         new TagSetCounter(
@@ -404,6 +423,13 @@ public class DaemonicParserState {
                         cell.getBuckConfigView(ParserConfig.class).getBuildFileName());
                   }
                 });
+    // Enough idle processes for two cells to stay warm, e.g. the root cell and another one most
+    // builds depend on, without keeping around processes for every cell a command ever touched.
+    this.pythonDslProcessPool =
+        new PythonDslProcessPool(
+            parsingThreads, 2 * parsingThreads, pythonDslProcessMaxMemoryBytes);
+    this.skylarkExtensionCache = new SkylarkExtensionCache();
+    this.globResultCache = new GlobResultCache();
     this.cachedIncludes = new ConcurrentHashMap<>();
     this.cellPathToDaemonicState =
         new ConcurrentHashMap<>(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR, parsingThreads);
@@ -419,6 +445,18 @@ public class DaemonicParserState {
     return buildFileTrees;
   }
 
+  public PythonDslProcessPool getPythonDslProcessPool() {
+    return pythonDslProcessPool;
+  }
+
+  public SkylarkExtensionCache getSkylarkExtensionCache() {
+    return skylarkExtensionCache;
+  }
+
+  public GlobResultCache getGlobResultCache() {
+    return globResultCache;
+  }
+
   /** Type-safe accessor to one of state caches */
   static final class CacheType<K, T> {
     private final Function<DaemonicParserState, DaemonicCacheView<K, T>> getCacheView;
@@ -494,16 +532,33 @@ public class DaemonicParserState {
     RelPath path = event.getPath();
     AbsPath fullPath = event.getCellPath().resolve(event.getPath());
 
+    // Idle buck.py processes may hold on to the previous contents of the file.
+    pythonDslProcessPool.invalidatePath(fullPath);
+    // Extensions that load the file, directly or not, have to be evaluated again. Build files that
+    // load them are invalidated below through the includes recorded for each of them.
+    skylarkExtensionCache.invalidatePath(fullPath);
+    // A changed build file may perform different globs, so the ones it performed before can't tell
+    // whether added files affect it anymore.
+    try (AutoCloseableLock readLock = cellStateLock.readLock()) {
+      for (DaemonicCellState state : cellPathToDaemonicState.values()) {
+        if (isBuildFile(state.getCell(), fullPath)) {
+          globResultCache.invalidatePackage(fullPath.getParent());
+        }
+      }
+    }
+
     // We only care about creation and deletion events because modified should result in a
     // rule key change.  For parsing, these are the only events we need to care about.
     if (isPathCreateOrDeleteEvent(event)) {
+      globResultCache.invalidatePath(fullPath);
       try (AutoCloseableLock readLock = cellStateLock.readLock()) {
         for (DaemonicCellState state : cellPathToDaemonicState.values()) {
           try {
             Cell cell = state.getCell();
             BuildFileTree buildFiles = buildFileTrees.get(cell);
 
-            if (fullPath.endsWith(cell.getBuckConfigView(ParserConfig.class).getBuildFileName())) {
+            boolean isBuildFile = isBuildFile(cell, fullPath);
+            if (isBuildFile) {
               LOG.debug(
                   "Build file %s changed, invalidating build file tree for cell %s",
                   fullPath, cell);
@@ -514,7 +569,12 @@ public class DaemonicParserState {
             // Added or removed files can affect globs, so invalidate the package build file
             // "containing" {@code path} unless its filename matches a temp file pattern.
             if (!cell.getFilesystem().isIgnored(path)) {
-              invalidateContainingBuildFile(state, cell, buildFiles, path);
+              invalidateContainingBuildFile(
+                  state,
+                  cell,
+                  buildFiles,
+                  path,
+                  event.getKind() == Kind.CREATE && !isBuildFile);
             } else {
               LOG.debug(
                   "Not invalidating the owning build file of %s because it is a temporary file.",
@@ -575,7 +635,11 @@ public class DaemonicParserState {
    *     to find and invalidate.
    */
   private void invalidateContainingBuildFile(
-      DaemonicCellState state, Cell cell, BuildFileTree buildFiles, RelPath path) {
+      DaemonicCellState state,
+      Cell cell,
+      BuildFileTree buildFiles,
+      RelPath path,
+      boolean pathAdded) {
     LOG.verbose("Invalidating rules dependent on change to %s in cell %s", path, cell);
     Set<RelPath> packageBuildFiles = new HashSet<>();
 
@@ -600,6 +664,14 @@ public class DaemonicParserState {
       }
     }
 
+    if (pathAdded) {
+      // Packages can only depend on the absence of a file through their globs, so an added file
+      // doesn't affect packages whose glob results are all known to be unchanged. Removed files
+      // may still be referenced explicitly.
+      packageBuildFiles.removeIf(
+          basePath -> globResultCache.hasAllGlobsOf(cell.getRoot().resolve(basePath)));
+    }
+
     if (packageBuildFiles.isEmpty()) {
       LOG.debug("%s is not owned by any build file.  Not invalidating anything.", path);
       return;
@@ -634,6 +706,10 @@ public class DaemonicParserState {
     rulesInvalidatedByWatchEventsCounter.inc(invalidatedNodes);
   }
 
+  private static boolean isBuildFile(Cell cell, AbsPath path) {
+    return path.endsWith(cell.getBuckConfigView(ParserConfig.class).getBuildFileName());
+  }
+
   public static boolean isPathCreateOrDeleteEvent(WatchmanPathEvent event) {
     return event.getKind() == Kind.CREATE || event.getKind() == Kind.DELETE;
   }
@@ -709,6 +785,8 @@ public class DaemonicParserState {
     try (AutoCloseableLock writeLock = cellStateLock.writeLock()) {
       boolean invalidated = cellPathToDaemonicState.containsKey(cell.getRoot());
       cellPathToDaemonicState.remove(cell.getRoot());
+      // Glob results aren't kept per cell, but this is rare enough to drop all of them.
+      globResultCache.invalidateAll();
       if (invalidated) {
         LOG.debug("Cell cache data invalidated.");
       } else {
@@ -726,6 +804,9 @@ public class DaemonicParserState {
       cellPathToDaemonicState.clear();
       buildFileTrees.invalidateAll();
       configurationBuildFiles.clear();
+      pythonDslProcessPool.invalidateAll();
+      skylarkExtensionCache.invalidateAll();
+      globResultCache.invalidateAll();
       if (invalidated) {
         LOG.debug("Cache data invalidated.");
       } else {
@@ -735,6 +816,17 @@ public class DaemonicParserState {
     }
   }
 
+  /** @return all build file manifests currently cached by this daemon, across all cells. */
+  public ImmutableMap<AbsPath, BuildFileManifest> getBuildFileManifests() {
+    try (AutoCloseableLock readLock = cellStateLock.readLock()) {
+      ImmutableMap.Builder<AbsPath, BuildFileManifest> builder = ImmutableMap.builder();
+      for (DaemonicCellState state : cellPathToDaemonicState.values()) {
+        builder.putAll(state.getBuildFileManifests());
+      }
+      return builder.build();
+    }
+  }
+
   public ImmutableList<Counter> getCounters() {
     return ImmutableList.of(
         cacheInvalidatedByEnvironmentVariableChangeCounter,
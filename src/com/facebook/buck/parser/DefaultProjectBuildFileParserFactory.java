@@ -34,6 +34,9 @@ import com.facebook.buck.json.TargetCountVerificationParserDecorator;
 import com.facebook.buck.parser.api.ProjectBuildFileParser;
 import com.facebook.buck.parser.api.Syntax;
 import com.facebook.buck.parser.api.UserDefinedRuleLoader;
+import com.facebook.buck.parser.cache.CachingProjectBuildFileParserDecorator;
+import com.facebook.buck.parser.cache.LocalParserCacheStorage;
+import com.facebook.buck.parser.cache.ParserCacheConfig;
 import com.facebook.buck.parser.config.ParserConfig;
 import com.facebook.buck.parser.config.ParserConfig.SkylarkGlobHandler;
 import com.facebook.buck.parser.decorators.EventReportingProjectBuildFileParser;
@@ -42,11 +45,13 @@ import com.facebook.buck.parser.options.UserDefinedRulesState;
 import com.facebook.buck.rules.coercer.TypeCoercerFactory;
 import com.facebook.buck.skylark.function.SkylarkBuildModule;
 import com.facebook.buck.skylark.io.GlobberFactory;
+import com.facebook.buck.skylark.io.impl.GlobResultCache;
 import com.facebook.buck.skylark.io.impl.HybridGlobberFactory;
 import com.facebook.buck.skylark.io.impl.NativeGlobber;
 import com.facebook.buck.skylark.io.impl.SyncCookieState;
 import com.facebook.buck.skylark.parser.BuckGlobals;
 import com.facebook.buck.skylark.parser.RuleFunctionFactory;
+import com.facebook.buck.skylark.parser.SkylarkExtensionCache;
 import com.facebook.buck.skylark.parser.SkylarkProjectBuildFileParser;
 import com.facebook.buck.util.Console;
 import com.facebook.buck.util.DefaultProcessExecutor;
@@ -68,6 +73,9 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
   private final KnownRuleTypesProvider knownRuleTypesProvider;
   private final boolean enableProfiling;
   private final Optional<AtomicLong> processedBytes;
+  private final Optional<PythonDslProcessPool> pythonDslProcessPool;
+  private final Optional<SkylarkExtensionCache> skylarkExtensionCache;
+  private final Optional<GlobResultCache> globResultCache;
 
   public DefaultProjectBuildFileParserFactory(
       TypeCoercerFactory typeCoercerFactory,
@@ -75,13 +83,38 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
       ParserPythonInterpreterProvider pythonInterpreterProvider,
       KnownRuleTypesProvider knownRuleTypesProvider,
       boolean enableProfiling,
-      Optional<AtomicLong> processedBytes) {
+      Optional<AtomicLong> processedBytes,
+      Optional<PythonDslProcessPool> pythonDslProcessPool,
+      Optional<SkylarkExtensionCache> skylarkExtensionCache,
+      Optional<GlobResultCache> globResultCache) {
     this.typeCoercerFactory = typeCoercerFactory;
     this.console = console;
     this.pythonInterpreterProvider = pythonInterpreterProvider;
     this.knownRuleTypesProvider = knownRuleTypesProvider;
     this.enableProfiling = enableProfiling;
     this.processedBytes = processedBytes;
+    this.pythonDslProcessPool = pythonDslProcessPool;
+    this.skylarkExtensionCache = skylarkExtensionCache;
+    this.globResultCache = globResultCache;
+  }
+
+  public DefaultProjectBuildFileParserFactory(
+      TypeCoercerFactory typeCoercerFactory,
+      Console console,
+      ParserPythonInterpreterProvider pythonInterpreterProvider,
+      KnownRuleTypesProvider knownRuleTypesProvider,
+      boolean enableProfiling,
+      Optional<AtomicLong> processedBytes) {
+    this(
+        typeCoercerFactory,
+        console,
+        pythonInterpreterProvider,
+        knownRuleTypesProvider,
+        enableProfiling,
+        processedBytes,
+        Optional.empty(),
+        Optional.empty(),
+        Optional.empty());
   }
 
   public DefaultProjectBuildFileParserFactory(
@@ -158,6 +191,7 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
             .setImplicitNativeRulesState(parserConfig.getImplicitNativeRulesState())
             .setUserDefinedRulesState(parserConfig.getUserDefinedRulesState())
             .setWarnAboutDeprecatedSyntax(parserConfig.isWarnAboutDeprecatedSyntax())
+            .setPythonDslProtocol(parserConfig.getPythonDslProtocol())
             .setPackageImplicitIncludes(parserConfig.getPackageImplicitIncludes())
             .build();
     return EventReportingProjectBuildFileParser.of(
@@ -201,7 +235,9 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
               knownRuleTypesProvider.getUserDefinedRuleTypes(cell),
               eventBus,
               buildFileParserOptions,
-              parserConfig.getSkylarkGlobHandler());
+              parserConfig.getSkylarkGlobHandler(),
+              skylarkExtensionCache,
+              globResultCache);
       Optional<UserDefinedRuleLoader> udrLoader = Optional.empty();
       if (parserConfig.getUserDefinedRulesState() == UserDefinedRulesState.ENABLED) {
         udrLoader = Optional.of(skylark);
@@ -215,6 +251,7 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
                       typeCoercerFactory,
                       console,
                       eventBus,
+                      parserConfig,
                       buildFileParserOptions,
                       threadSafe,
                       udrLoader),
@@ -231,7 +268,9 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
                   knownRuleTypesProvider.getUserDefinedRuleTypes(cell),
                   eventBus,
                   buildFileParserOptions,
-                  parserConfig.getSkylarkGlobHandler());
+                  parserConfig.getSkylarkGlobHandler(),
+                  skylarkExtensionCache,
+                  globResultCache);
           break;
         case PYTHON_DSL:
           parser =
@@ -240,6 +279,7 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
                   typeCoercerFactory,
                   console,
                   eventBus,
+                  parserConfig,
                   buildFileParserOptions,
                   threadSafe,
                   Optional.empty());
@@ -253,6 +293,16 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
       }
     }
 
+    ParserCacheConfig parserCacheConfig = cell.getBuckConfig().getView(ParserCacheConfig.class);
+    if (parserCacheConfig.isPersistentCacheEnabled()) {
+      parser =
+          CachingProjectBuildFileParserDecorator.of(
+              parser,
+              LocalParserCacheStorage.of(parserCacheConfig.getPersistentCacheDir()),
+              buildFileParserOptions,
+              cell.getBuckConfig().getEnvironment());
+    }
+
     parser = createTargetCountingWrapper(parser, parserConfig.getParserTargetThreshold(), eventBus);
 
     return parser;
@@ -263,9 +313,12 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
       TypeCoercerFactory typeCoercerFactory,
       Console console,
       BuckEventBus eventBus,
+      ParserConfig parserConfig,
       ProjectBuildFileParserOptions buildFileParserOptions,
       boolean threadSafe,
       Optional<UserDefinedRuleLoader> udrLoader) {
+    Optional<PythonDslProcessPool> processPool =
+        pythonDslProcessPool.filter(pool -> parserConfig.isPythonDslProcessPoolEnabled());
     Supplier<ProjectBuildFileParser> parserSupplier =
         () ->
             new PythonDslProjectBuildFileParser(
@@ -275,7 +328,8 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
                 eventBus,
                 new DefaultProcessExecutor(console),
                 processedBytes,
-                udrLoader);
+                udrLoader,
+                processPool);
     if (!threadSafe) {
       return parserSupplier.get();
     }
@@ -288,10 +342,13 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
       KnownUserDefinedRuleTypes knownUserDefinedRuleTypes,
       BuckEventBus eventBus,
       ProjectBuildFileParserOptions buildFileParserOptions,
-      SkylarkGlobHandler skylarkGlobHandler) {
+      SkylarkGlobHandler skylarkGlobHandler,
+      Optional<SkylarkExtensionCache> skylarkExtensionCache,
+      Optional<GlobResultCache> globResultCache) {
     GlobberFactory globberFactory;
     try {
-      globberFactory = getSkylarkGlobberFactory(buildFileParserOptions, skylarkGlobHandler);
+      globberFactory =
+          getSkylarkGlobberFactory(buildFileParserOptions, skylarkGlobHandler, globResultCache);
     } catch (IOException e) {
       throw new RuntimeException(
           "Watchman glob handler was requested, but Watchman client cannot be created", e);
@@ -336,7 +393,8 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
               SkylarkFilesystem.using(cell.getFilesystem()),
               buckGlobals,
               eventHandler,
-              globberFactory);
+              globberFactory,
+              skylarkExtensionCache);
 
       // All built-ins should have already been discovered. Freezing improves performance by
       // avoiding synchronization during query operations. This operation is idempotent, so it's
@@ -355,16 +413,25 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
   }
 
   private static GlobberFactory getSkylarkGlobberFactory(
-      ProjectBuildFileParserOptions buildFileParserOptions, SkylarkGlobHandler skylarkGlobHandler)
+      ProjectBuildFileParserOptions buildFileParserOptions,
+      SkylarkGlobHandler skylarkGlobHandler,
+      Optional<GlobResultCache> globResultCache)
       throws IOException {
+    if (buildFileParserOptions.getWatchman() == WatchmanFactory.NULL_WATCHMAN) {
+      return NativeGlobber::create;
+    }
     SyncCookieState syncCookieState = new SyncCookieState();
-    return skylarkGlobHandler == SkylarkGlobHandler.JAVA
-            || buildFileParserOptions.getWatchman() == WatchmanFactory.NULL_WATCHMAN
-        ? NativeGlobber::create
-        : HybridGlobberFactory.using(
-            buildFileParserOptions.getWatchman().createClient(),
-            syncCookieState,
-            buildFileParserOptions.getProjectRoot().getPath(),
-            buildFileParserOptions.getWatchman().getProjectWatches());
+    GlobberFactory globberFactory =
+        skylarkGlobHandler == SkylarkGlobHandler.JAVA
+            ? NativeGlobber::create
+            : HybridGlobberFactory.using(
+                buildFileParserOptions.getWatchman().createClient(),
+                syncCookieState,
+                buildFileParserOptions.getProjectRoot().getPath(),
+                buildFileParserOptions.getWatchman().getProjectWatches());
+    // Cached glob results are only evicted when Watchman reports changes.
+    return globResultCache.isPresent()
+        ? globResultCache.get().wrap(globberFactory)
+        : globberFactory;
   }
 }
@@ -47,6 +47,7 @@ import com.facebook.buck.parser.detector.TargetConfigurationDetector;
 import com.facebook.buck.parser.detector.TargetConfigurationDetectorFactory;
 import com.facebook.buck.rules.coercer.ConstructorArgMarshaller;
 import com.facebook.buck.rules.coercer.TypeCoercerFactory;
+import com.facebook.buck.util.Console;
 import com.facebook.buck.util.concurrent.CommandThreadFactory;
 import com.facebook.buck.util.concurrent.ConcurrencyLimit;
 import com.facebook.buck.util.concurrent.MostExecutors;
@@ -113,10 +114,14 @@ public class PerBuildStateFactory {
     DefaultProjectBuildFileParserFactory projectBuildFileParserFactory =
         new DefaultProjectBuildFileParserFactory(
             typeCoercerFactory,
+            Console.createNullConsole(),
             parserPythonInterpreterProvider,
+            knownRuleTypesProvider,
             parsingContext.isProfilingEnabled(),
             parseProcessedBytes,
-            knownRuleTypesProvider);
+            Optional.of(daemonicParserState.getPythonDslProcessPool()),
+            Optional.of(daemonicParserState.getSkylarkExtensionCache()),
+            Optional.of(daemonicParserState.getGlobResultCache()));
     ProjectBuildFileParserPool projectBuildFileParserPool =
         new ProjectBuildFileParserPool(
             numParsingThreads, // Max parsers to create per cell.
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.parser;
+
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.util.InputStreamConsumer;
+import com.facebook.buck.util.ProcessExecutor;
+import com.facebook.buck.util.ProcessHelper;
+import com.facebook.buck.util.ProcessResourceConsumption;
+import com.facebook.buck.util.Threads;
+import com.facebook.buck.util.types.Unit;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A running {@code buck.py} interpreter, together with the program it runs and the thread that
+ * consumes its stderr.
+ *
+ * <p>This outlives the {@link PythonDslProjectBuildFileParser} that launched it when it's handed to
+ * a {@link PythonDslProcessPool}, so that a later parser can pick it up without paying for the
+ * interpreter startup again. Whichever parser currently owns the process gets its stderr through
+ * {@link #setStderrHandler(InputStreamConsumer.Handler)}.
+ */
+final class PythonDslParserProcess {
+  private static final Logger LOG = Logger.get(PythonDslParserProcess.class);
+
+  private static final InputStreamConsumer.Handler IDLE_STDERR_HANDLER =
+      line -> LOG.debug("Output from idle buck.py process: %s", line);
+
+  private final ProcessExecutor processExecutor;
+  private final ProcessExecutor.LaunchedProcess process;
+  private final BuckPythonProgram program;
+  private final AtomicReference<InputStreamConsumer.Handler> stderrHandler;
+  private final FutureTask<Unit> stderrConsumerTerminationFuture;
+  private final Thread stderrConsumerThread;
+
+  /** Build files and the files they loaded, as reported back by buck.py. */
+  private final Set<String> loadedFiles;
+
+  /**
+   * Whether a request was answered without the files it loaded, e.g. because it failed. Those
+   * files, like the default includes the process may have preloaded, are then unknown.
+   */
+  private volatile boolean loadedFilesUnknown;
+
+  private volatile boolean loadedFilesRecorded;
+
+  private PythonDslParserProcess(
+      ProcessExecutor processExecutor,
+      ProcessExecutor.LaunchedProcess process,
+      BuckPythonProgram program,
+      InputStreamConsumer.Handler stderrHandler) {
+    this.processExecutor = processExecutor;
+    this.process = process;
+    this.program = program;
+    this.stderrHandler = new AtomicReference<>(stderrHandler);
+    this.stderrConsumerTerminationFuture =
+        new FutureTask<>(
+            new InputStreamConsumer(
+                process.getStderr(), line -> this.stderrHandler.get().handleLine(line)));
+    this.stderrConsumerThread =
+        Threads.namedThread(
+            PythonDslProjectBuildFileParser.class.getSimpleName(),
+            stderrConsumerTerminationFuture);
+    this.loadedFiles = ConcurrentHashMap.newKeySet();
+  }
+
+  /**
+   * Wraps a freshly launched {@code buck.py} process and starts consuming its stderr.
+   *
+   * @param program the program the process runs. It's deleted once the process has exited.
+   */
+  static PythonDslParserProcess of(
+      ProcessExecutor processExecutor,
+      ProcessExecutor.LaunchedProcess process,
+      BuckPythonProgram program,
+      InputStreamConsumer.Handler stderrHandler) {
+    PythonDslParserProcess parserProcess =
+        new PythonDslParserProcess(processExecutor, process, program, stderrHandler);
+    parserProcess.stderrConsumerThread.start();
+    return parserProcess;
+  }
+
+  ProcessExecutor.LaunchedProcess getLaunchedProcess() {
+    return process;
+  }
+
+  Path getBuckPyPath() {
+    return program.getExecutablePath();
+  }
+
+  boolean isAlive() {
+    return process.isAlive();
+  }
+
+  /** Routes the lines the process writes to stderr to {@code handler} from now on. */
+  void setStderrHandler(InputStreamConsumer.Handler handler) {
+    stderrHandler.set(handler);
+  }
+
+  /** Routes stderr to the debug log while the process isn't owned by any parser. */
+  void detachStderrHandler() {
+    stderrHandler.set(IDLE_STDERR_HANDLER);
+  }
+
+  /** Records files evaluated by the process, which it keeps cached for later requests. */
+  void addLoadedFiles(Collection<String> files) {
+    loadedFiles.addAll(files);
+    loadedFilesRecorded = true;
+  }
+
+  /** Notes that the process answered a request without reporting the files it loaded. */
+  void markLoadedFilesUnknown() {
+    loadedFilesUnknown = true;
+  }
+
+  /**
+   * @return whether {@link #hasLoaded(String)} covers every file the process may have cached,
+   *     which is only known once it reported the files loaded by a build file and by all the
+   *     requests before.
+   */
+  boolean knowsLoadedFiles() {
+    return loadedFilesRecorded && !loadedFilesUnknown;
+  }
+
+  /** @return whether the process may have cached the contents of {@code file}. */
+  boolean hasLoaded(String file) {
+    return loadedFiles.contains(file);
+  }
+
+  /** @return resident memory of the process, if it can be determined on this platform. */
+  OptionalLong getResidentMemoryBytes() {
+    if (!(process instanceof ProcessExecutor.LaunchedProcessImpl)) {
+      return OptionalLong.empty();
+    }
+    ProcessHelper processHelper = ProcessHelper.getInstance();
+    Long pid = processHelper.getPid(((ProcessExecutor.LaunchedProcessImpl) process).process);
+    if (pid == null) {
+      return OptionalLong.empty();
+    }
+    ProcessResourceConsumption resources = processHelper.getProcessResourceConsumption(pid);
+    return resources == null
+        ? OptionalLong.empty()
+        : OptionalLong.of(resources.getMemResident());
+  }
+
+  /**
+   * Lets the process terminate gracefully by closing its stdin, waits for it to exit and deletes
+   * the program it was running.
+   */
+  @SuppressWarnings("PMD.EmptyCatchBlock")
+  void shutdown() throws InterruptedException, IOException {
+    try {
+      LOG.debug("Closing buck.py process stdin");
+      process.getStdin().close();
+    } catch (IOException e) {
+      // Safe to ignore since we've already flushed everything we wanted
+      // to write.
+    }
+
+    stderrConsumerThread.join();
+    try {
+      stderrConsumerTerminationFuture.get();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      } else {
+        throw new RuntimeException(e);
+      }
+    }
+
+    LOG.debug("Waiting for process %s to exit...", process);
+    ProcessExecutor.Result result = processExecutor.waitForLaunchedProcess(process);
+    LOG.debug("Process %s exited with status code %d", process, result.getExitCode());
+
+    try {
+      program.close();
+    } catch (IOException e) {
+      // Eat any exceptions from deleting the temporary buck.py file.
+    }
+  }
+}
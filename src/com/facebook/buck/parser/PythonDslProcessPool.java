@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.parser;
+
+import com.facebook.buck.core.filesystems.AbsPath;
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.io.watchman.WatchmanFactory;
+import com.facebook.buck.parser.options.ProjectBuildFileParserOptions;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Keeps {@code buck.py} processes alive across commands, so that a command that only has to parse
+ * a few build files doesn't pay for starting interpreters and evaluating default includes again.
+ *
+ * <p>Processes are keyed by everything that is passed to them at startup, so they are only handed
+ * to parsers that would have launched an identical process. At most {@code maxIdleProcessesPerKey}
+ * idle processes are kept per key, which is the number of parsers a command may use concurrently
+ * for a single cell, and at most {@code maxIdleProcesses} overall, dropping the processes of the
+ * keys released least recently first. Processes using more than {@code maxResidentMemoryBytes} of
+ * memory when they are returned are shut down rather than kept.
+ *
+ * <p>{@code buck.py} caches the files it loads for as long as it runs, so processes that have
+ * loaded a file that changed are shut down through {@link #invalidatePath(AbsPath)}. Processes
+ * which can't tell what they loaded, e.g. because a request failed, are not kept.
+ */
+@ThreadSafe
+public class PythonDslProcessPool implements AutoCloseable {
+  private static final Logger LOG = Logger.get(PythonDslProcessPool.class);
+
+  private final int maxIdleProcessesPerKey;
+  private final int maxIdleProcesses;
+  private final long maxResidentMemoryBytes;
+
+  /** Idle processes per key, from the key released least recently to the most recent one. */
+  @GuardedBy("this")
+  private final Map<Object, Deque<PythonDslParserProcess>> idleProcesses;
+
+  @GuardedBy("this")
+  private int idleProcessCount;
+
+  @GuardedBy("this")
+  private final Set<PythonDslParserProcess> processesInUse;
+
+  /** Processes in use that loaded a file which has changed since, and can't be kept afterwards. */
+  @GuardedBy("this")
+  private final Set<PythonDslParserProcess> staleProcesses;
+
+  @GuardedBy("this")
+  private boolean closed;
+
+  public PythonDslProcessPool(
+      int maxIdleProcessesPerKey, int maxIdleProcesses, long maxResidentMemoryBytes) {
+    Preconditions.checkArgument(maxIdleProcessesPerKey > 0);
+    Preconditions.checkArgument(maxIdleProcesses >= maxIdleProcessesPerKey);
+    this.maxIdleProcessesPerKey = maxIdleProcessesPerKey;
+    this.maxIdleProcesses = maxIdleProcesses;
+    this.maxResidentMemoryBytes = maxResidentMemoryBytes;
+    this.idleProcesses = new LinkedHashMap<>();
+    this.processesInUse = new HashSet<>();
+    this.staleProcesses = new HashSet<>();
+  }
+
+  /**
+   * @return an idle process that was started with the given options and environment, if there is
+   *     one. The caller owns the process until it's passed back to {@link #release}.
+   */
+  Optional<PythonDslParserProcess> take(
+      ProjectBuildFileParserOptions options, ImmutableMap<String, String> environment) {
+    Object key = createKey(options, environment);
+    ImmutableList.Builder<PythonDslParserProcess> deadProcesses = ImmutableList.builder();
+    Optional<PythonDslParserProcess> taken = Optional.empty();
+    synchronized (this) {
+      Deque<PythonDslParserProcess> processes = idleProcesses.get(key);
+      while (processes != null && !processes.isEmpty()) {
+        PythonDslParserProcess process = processes.pop();
+        idleProcessCount--;
+        if (process.isAlive()) {
+          processesInUse.add(process);
+          taken = Optional.of(process);
+          break;
+        }
+        deadProcesses.add(process);
+      }
+    }
+    deadProcesses.build().forEach(PythonDslProcessPool::shutdownQuietly);
+    return taken;
+  }
+
+  /** Tracks a process a parser launched itself, so that it can be released to the pool later. */
+  synchronized void addProcessInUse(PythonDslParserProcess process) {
+    processesInUse.add(process);
+  }
+
+  /** Stops tracking a process that its parser shut down. */
+  synchronized void removeProcessInUse(PythonDslParserProcess process) {
+    processesInUse.remove(process);
+    staleProcesses.remove(process);
+  }
+
+  /**
+   * Hands a process back to the pool once a parser is done with it. The process is shut down
+   * instead if it can't be reused.
+   *
+   * <p>Callers must have read the responses to all requests they sent to the process.
+   */
+  void release(
+      ProjectBuildFileParserOptions options,
+      ImmutableMap<String, String> environment,
+      PythonDslParserProcess process) {
+    process.detachStderrHandler();
+    boolean reusable =
+        process.isAlive() && process.knowsLoadedFiles() && !exceedsMemoryLimit(process);
+    Object key = createKey(options, environment);
+    ImmutableList.Builder<PythonDslParserProcess> processesToShutdown = ImmutableList.builder();
+    synchronized (this) {
+      processesInUse.remove(process);
+      boolean stale = staleProcesses.remove(process);
+      // Re-inserting the key makes it the most recently released one.
+      Deque<PythonDslParserProcess> processes = idleProcesses.remove(key);
+      if (processes == null) {
+        processes = new ArrayDeque<>();
+      }
+      idleProcesses.put(key, processes);
+      if (closed || stale || !reusable || processes.size() >= maxIdleProcessesPerKey) {
+        processesToShutdown.add(process);
+      } else {
+        processes.push(process);
+        idleProcessCount++;
+        evictIdleProcesses(processesToShutdown);
+      }
+    }
+    processesToShutdown.build().forEach(PythonDslProcessPool::shutdownQuietly);
+  }
+
+  /**
+   * Drops the oldest idle processes of the keys released least recently until at most {@code
+   * maxIdleProcesses} are left.
+   */
+  @GuardedBy("this")
+  private void evictIdleProcesses(ImmutableList.Builder<PythonDslParserProcess> evicted) {
+    Iterator<Deque<PythonDslParserProcess>> iterator = idleProcesses.values().iterator();
+    while (idleProcessCount > maxIdleProcesses && iterator.hasNext()) {
+      Deque<PythonDslParserProcess> processes = iterator.next();
+      while (idleProcessCount > maxIdleProcesses && !processes.isEmpty()) {
+        evicted.add(processes.removeLast());
+        idleProcessCount--;
+      }
+      if (processes.isEmpty()) {
+        iterator.remove();
+      }
+    }
+  }
+
+  /** Shuts down processes that may have cached the contents of {@code path}. */
+  public void invalidatePath(AbsPath path) {
+    String file = path.toString();
+    ImmutableList<PythonDslParserProcess> invalidated;
+    synchronized (this) {
+      ImmutableList.Builder<PythonDslParserProcess> builder = ImmutableList.builder();
+      for (Deque<PythonDslParserProcess> processes : idleProcesses.values()) {
+        Iterator<PythonDslParserProcess> iterator = processes.iterator();
+        while (iterator.hasNext()) {
+          PythonDslParserProcess process = iterator.next();
+          if (process.hasLoaded(file)) {
+            iterator.remove();
+            idleProcessCount--;
+            builder.add(process);
+          }
+        }
+      }
+      invalidated = builder.build();
+      for (PythonDslParserProcess process : processesInUse) {
+        if (process.hasLoaded(file)) {
+          staleProcesses.add(process);
+        }
+      }
+    }
+    if (!invalidated.isEmpty()) {
+      LOG.debug("Shutting down %d buck.py processes that loaded %s", invalidated.size(), path);
+    }
+    invalidated.forEach(PythonDslProcessPool::shutdownQuietly);
+  }
+
+  /** Shuts down all idle processes, and makes sure processes in use aren't kept afterwards. */
+  public void invalidateAll() {
+    ImmutableList<PythonDslParserProcess> invalidated;
+    synchronized (this) {
+      invalidated = removeAllIdleProcesses();
+      staleProcesses.addAll(processesInUse);
+    }
+    invalidated.forEach(PythonDslProcessPool::shutdownQuietly);
+  }
+
+  @Override
+  public void close() {
+    ImmutableList<PythonDslParserProcess> processes;
+    synchronized (this) {
+      closed = true;
+      processes = removeAllIdleProcesses();
+    }
+    processes.forEach(PythonDslProcessPool::shutdownQuietly);
+  }
+
+  @GuardedBy("this")
+  private ImmutableList<PythonDslParserProcess> removeAllIdleProcesses() {
+    ImmutableList.Builder<PythonDslParserProcess> removed = ImmutableList.builder();
+    idleProcesses.values().forEach(removed::addAll);
+    idleProcesses.clear();
+    idleProcessCount = 0;
+    return removed.build();
+  }
+
+  /**
+   * The {@link com.facebook.buck.io.watchman.Watchman} instance is created for each command, so
+   * only the socket path that is passed to {@code buck.py} is used to tell processes apart.
+   */
+  private static Object createKey(
+      ProjectBuildFileParserOptions options, ImmutableMap<String, String> environment) {
+    Optional<Path> watchmanTransportPath = options.getWatchman().getTransportPath();
+    return ImmutableList.of(
+        ProjectBuildFileParserOptions.builder()
+            .from(options)
+            .setWatchman(WatchmanFactory.NULL_WATCHMAN)
+            .build(),
+        watchmanTransportPath.map(Objects::toString).orElse(""),
+        environment);
+  }
+
+  private boolean exceedsMemoryLimit(PythonDslParserProcess process) {
+    OptionalLong residentMemoryBytes = process.getResidentMemoryBytes();
+    if (residentMemoryBytes.isPresent() && residentMemoryBytes.getAsLong() > maxResidentMemoryBytes) {
+      LOG.debug(
+          "Not keeping buck.py process using %d bytes of memory", residentMemoryBytes.getAsLong());
+      return true;
+    }
+    return false;
+  }
+
+  private static void shutdownQuietly(PythonDslParserProcess process) {
+    try {
+      process.shutdown();
+    } catch (IOException e) {
+      LOG.debug(e, "Failed to shut down buck.py process");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
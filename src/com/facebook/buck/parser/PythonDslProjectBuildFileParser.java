@@ -16,7 +16,6 @@
 
 package com.facebook.buck.parser;
 
-import com.facebook.buck.core.description.BaseDescription;
 import com.facebook.buck.core.filesystems.AbsPath;
 import com.facebook.buck.core.util.log.Logger;
 import com.facebook.buck.event.BuckEventBus;
@@ -30,6 +29,7 @@ import com.facebook.buck.io.watchman.WatchmanDiagnosticEvent;
 import com.facebook.buck.json.BuildFileParseExceptionData;
 import com.facebook.buck.json.BuildFileParseExceptionStackTraceEntry;
 import com.facebook.buck.json.BuildFilePythonResult;
+import com.facebook.buck.json.BuildFilePythonResultBserReader;
 import com.facebook.buck.json.BuildFileSyntaxError;
 import com.facebook.buck.parser.api.BuildFileManifest;
 import com.facebook.buck.parser.api.ProjectBuildFileParser;
@@ -37,9 +37,11 @@ import com.facebook.buck.parser.api.UserDefinedRuleLoader;
 import com.facebook.buck.parser.events.ParseBuckFileEvent;
 import com.facebook.buck.parser.events.ParseBuckProfilerReportEvent;
 import com.facebook.buck.parser.exceptions.BuildFileParseException;
+import com.facebook.buck.parser.implicit.ImplicitInclude;
 import com.facebook.buck.parser.implicit.PackageImplicitIncludesFinder;
 import com.facebook.buck.parser.options.ImplicitNativeRulesState;
 import com.facebook.buck.parser.options.ProjectBuildFileParserOptions;
+import com.facebook.buck.parser.options.PythonDslProtocol;
 import com.facebook.buck.parser.options.UserDefinedRulesState;
 import com.facebook.buck.parser.syntax.ListWithSelects;
 import com.facebook.buck.parser.syntax.SelectorValue;
@@ -50,10 +52,9 @@ import com.facebook.buck.util.MoreSuppliers;
 import com.facebook.buck.util.MoreThrowables;
 import com.facebook.buck.util.ProcessExecutor;
 import com.facebook.buck.util.ProcessExecutorParams;
-import com.facebook.buck.util.Threads;
+import com.facebook.buck.util.bser.BserSerializer;
 import com.facebook.buck.util.concurrent.AssertScopeExclusiveAccess;
 import com.facebook.buck.util.json.ObjectMappers;
-import com.facebook.buck.util.types.Unit;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.google.common.annotations.VisibleForTesting;
@@ -66,6 +67,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.google.common.io.CountingInputStream;
 import com.google.devtools.build.lib.syntax.Runtime;
 import java.io.BufferedOutputStream;
@@ -80,8 +82,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.FutureTask;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -101,17 +101,20 @@ public class PythonDslProjectBuildFileParser implements ProjectBuildFileParser {
 
   private static final Logger LOG = Logger.get(PythonDslProjectBuildFileParser.class);
 
+  private static final BserSerializer BSER_SERIALIZER = new BserSerializer();
+
   private final ImmutableMap<String, String> environment;
   private final PackageImplicitIncludesFinder packageImplicitIncludeFinder;
 
-  @Nullable private BuckPythonProgram buckPythonProgram;
   private Supplier<Path> rawConfigJson;
   private Supplier<Path> ignorePathsJson;
 
+  @Nullable private PythonDslParserProcess parserProcess;
   @Nullable private ProcessExecutor.LaunchedProcess buckPyProcess;
   @Nullable private ParserInputStream buckPyProcessInput;
   @Nullable private JsonGenerator buckPyProcessJsonGenerator;
   @Nullable private JsonParser buckPyProcessJsonParser;
+  @Nullable private BuildFilePythonResultBserReader buckPyProcessBserReader;
 
   private final ProjectBuildFileParserOptions options;
   private final TypeCoercerFactory typeCoercerFactory;
@@ -120,12 +123,11 @@ public class PythonDslProjectBuildFileParser implements ProjectBuildFileParser {
   private final AssertScopeExclusiveAccess assertSingleThreadedParsing;
   private final Optional<AtomicLong> processedBytes;
   private final Optional<UserDefinedRuleLoader> userDefinedRulesParser;
+  private final Optional<PythonDslProcessPool> processPool;
 
   private boolean isInitialized;
   private boolean isClosed;
-
-  @Nullable private FutureTask<Unit> stderrConsumerTerminationFuture;
-  @Nullable private Thread stderrConsumerThread;
+  private boolean isResponsePending;
 
   private AtomicReference<Path> currentBuildFile = new AtomicReference<Path>();
 
@@ -137,9 +139,34 @@ public class PythonDslProjectBuildFileParser implements ProjectBuildFileParser {
       ProcessExecutor processExecutor,
       Optional<AtomicLong> processedBytes,
       Optional<UserDefinedRuleLoader> userDefinedRulesParser) {
+    this(
+        options,
+        typeCoercerFactory,
+        environment,
+        buckEventBus,
+        processExecutor,
+        processedBytes,
+        userDefinedRulesParser,
+        Optional.empty());
+  }
+
+  /**
+   * @param processPool where to look for a {@code buck.py} process before launching one, and where
+   *     to leave it once this parser is closed. Processes aren't pooled while profiling, since
+   *     profiles would carry over from earlier commands.
+   */
+  public PythonDslProjectBuildFileParser(
+      ProjectBuildFileParserOptions options,
+      TypeCoercerFactory typeCoercerFactory,
+      ImmutableMap<String, String> environment,
+      BuckEventBus buckEventBus,
+      ProcessExecutor processExecutor,
+      Optional<AtomicLong> processedBytes,
+      Optional<UserDefinedRuleLoader> userDefinedRulesParser,
+      Optional<PythonDslProcessPool> processPool) {
     this.processedBytes = processedBytes;
     this.userDefinedRulesParser = userDefinedRulesParser;
-    this.buckPythonProgram = null;
+    this.processPool = processPool.filter(pool -> !options.getEnableProfiling());
     this.options = options;
     this.typeCoercerFactory = typeCoercerFactory;
     this.environment = environment;
@@ -209,88 +236,106 @@ public class PythonDslProjectBuildFileParser implements ProjectBuildFileParser {
     }
   }
 
-  /** Initialize the parser, starting buck.py. */
+  /** Initialize the parser, starting buck.py unless an idle process can be reused. */
   private void init() throws IOException {
     try (SimplePerfEvent.Scope scope =
         SimplePerfEvent.scope(buckEventBus, SimplePerfEvent.PerfEventId.of("ParserInit"))) {
 
-      ImmutableMap.Builder<String, String> pythonEnvironmentBuilder =
-          ImmutableMap.builderWithExpectedSize(environment.size());
-      // Strip out PYTHONPATH. buck.py manually sets this to include only nailgun. We don't want
-      // to inject nailgun into the parser's PYTHONPATH, so strip that value out.
-      // If we wanted to pass on some environmental PYTHONPATH, we would have to do some actual
-      // merging of this and the BuckConfig's python module search path.
-      // Also ignore PYTHONHASHSEED environment variable passed by clients since Buck manages it to
-      // prevent non-determinism.
-      pythonEnvironmentBuilder.putAll(
-          Maps.filterKeys(
-              environment,
-              k -> !PYTHONPATH_ENV_VAR_NAME.equals(k) && !PYTHON_HASH_SEED_ENV_VAR_NAME.equals(k)));
-      // set Python hash seed to a fixed number to make parsing reproducible
-      pythonEnvironmentBuilder.put(PYTHON_HASH_SEED_ENV_VAR_NAME, PYTHON_HASH_SEED_VALUE);
-
-      if (options.getPythonModuleSearchPath().isPresent()) {
-        pythonEnvironmentBuilder.put(
-            PYTHONPATH_ENV_VAR_NAME, options.getPythonModuleSearchPath().get());
+      AtomicInteger numberOfLines = new AtomicInteger(0);
+      AtomicReference<Path> lastPath = new AtomicReference<Path>();
+      InputStreamConsumer.Handler stderrHandler =
+          line -> {
+            Path path = currentBuildFile.get();
+            if (!Objects.equals(path, lastPath.get())) {
+              numberOfLines.set(0);
+              lastPath.set(path);
+            }
+            int count = numberOfLines.getAndIncrement();
+            if (count == 0) {
+              buckEventBus.post(ConsoleEvent.warning("WARNING: Output when parsing %s:", path));
+            }
+            buckEventBus.post(ConsoleEvent.warning("| %s", line));
+          };
+
+      Optional<PythonDslParserProcess> pooledProcess =
+          processPool.flatMap(pool -> pool.take(options, environment));
+      PythonDslParserProcess process;
+      if (pooledProcess.isPresent()) {
+        process = pooledProcess.get();
+        process.setStderrHandler(stderrHandler);
+        LOG.debug("Reusing process %s", process.getLaunchedProcess());
+      } else {
+        process = launchProcess(stderrHandler);
+        processPool.ifPresent(pool -> pool.addProcessInUse(process));
       }
-
-      ImmutableMap<String, String> pythonEnvironment = pythonEnvironmentBuilder.build();
-
-      ProcessExecutorParams params =
-          ProcessExecutorParams.builder()
-              .setCommand(buildArgs())
-              .setEnvironment(pythonEnvironment)
-              .build();
-
-      LOG.debug(
-          "Starting buck.py command: %s environment: %s",
-          params.getCommand(), params.getEnvironment());
-      buckPyProcess = processExecutor.launchProcess(params);
-      LOG.debug("Started process %s successfully", buckPyProcess);
+      parserProcess = process;
+      buckPyProcess = process.getLaunchedProcess();
       buckPyProcessInput =
-          createParserInputStream(
-              Objects.requireNonNull(buckPyProcess).getStdout(), processedBytes.isPresent());
-      buckPyProcessJsonGenerator = ObjectMappers.createGenerator(buckPyProcess.getStdin());
+          createParserInputStream(buckPyProcess.getStdout(), processedBytes.isPresent());
+      if (options.getPythonDslProtocol() == PythonDslProtocol.BSER) {
+        buckPyProcessBserReader =
+            new BuildFilePythonResultBserReader(buckPyProcessInput.getInputStream());
+      } else {
+        buckPyProcessJsonGenerator = ObjectMappers.createGenerator(buckPyProcess.getStdin());
+
+        // Explicitly use Reader instead of InputStream because in case if InputStream is provided
+        // Jackson tries to detect encoding be reading first bytes; because the process may not
+        // output anything at this moment yet this can hang indefinitely.
+        buckPyProcessJsonParser =
+            ObjectMappers.createParser(
+                new InputStreamReader(buckPyProcessInput.getInputStream(), Charsets.UTF_8));
+      }
+    }
+  }
 
-      // Explicitly use Reader instead of InputStream because in case if InputStream is provided
-      // Jackson tries to detect encoding be reading first bytes; because the process may not
-      // output anything at this moment yet this can hang indefinitely.
-      buckPyProcessJsonParser =
-          ObjectMappers.createParser(
-              new InputStreamReader(
-                  Objects.requireNonNull(buckPyProcessInput).getInputStream(), Charsets.UTF_8));
+  private PythonDslParserProcess launchProcess(InputStreamConsumer.Handler stderrHandler)
+      throws IOException {
+    ImmutableMap.Builder<String, String> pythonEnvironmentBuilder =
+        ImmutableMap.builderWithExpectedSize(environment.size());
+    // Strip out PYTHONPATH. buck.py manually sets this to include only nailgun. We don't want
+    // to inject nailgun into the parser's PYTHONPATH, so strip that value out.
+    // If we wanted to pass on some environmental PYTHONPATH, we would have to do some actual
+    // merging of this and the BuckConfig's python module search path.
+    // Also ignore PYTHONHASHSEED environment variable passed by clients since Buck manages it to
+    // prevent non-determinism.
+    pythonEnvironmentBuilder.putAll(
+        Maps.filterKeys(
+            environment,
+            k -> !PYTHONPATH_ENV_VAR_NAME.equals(k) && !PYTHON_HASH_SEED_ENV_VAR_NAME.equals(k)));
+    // set Python hash seed to a fixed number to make parsing reproducible
+    pythonEnvironmentBuilder.put(PYTHON_HASH_SEED_ENV_VAR_NAME, PYTHON_HASH_SEED_VALUE);
+
+    if (options.getPythonModuleSearchPath().isPresent()) {
+      pythonEnvironmentBuilder.put(
+          PYTHONPATH_ENV_VAR_NAME, options.getPythonModuleSearchPath().get());
+    }
 
-      InputStream stderr = buckPyProcess.getStderr();
+    ImmutableMap<String, String> pythonEnvironment = pythonEnvironmentBuilder.build();
+
+    BuckPythonProgram buckPythonProgram =
+        BuckPythonProgram.newInstance(
+            typeCoercerFactory, options.getDescriptions(), !options.getEnableProfiling());
+    ProcessExecutorParams params =
+        ProcessExecutorParams.builder()
+            .setCommand(buildArgs(buckPythonProgram.getExecutablePath()))
+            .setEnvironment(pythonEnvironment)
+            .build();
+
+    LOG.debug(
+        "Starting buck.py command: %s environment: %s",
+        params.getCommand(), params.getEnvironment());
+    ProcessExecutor.LaunchedProcess process;
+    try {
+      process = processExecutor.launchProcess(params);
+    } catch (IOException e) {
+      buckPythonProgram.close();
+      throw e;
+    }
+    LOG.debug("Started process %s successfully", process);
+    return PythonDslParserProcess.of(processExecutor, process, buckPythonProgram, stderrHandler);
+  }
 
-      AtomicInteger numberOfLines = new AtomicInteger(0);
-      AtomicReference<Path> lastPath = new AtomicReference<Path>();
-      InputStreamConsumer stderrConsumer =
-          new InputStreamConsumer(
-              stderr,
-              (InputStreamConsumer.Handler)
-                  line -> {
-                    Path path = currentBuildFile.get();
-                    if (!Objects.equals(path, lastPath.get())) {
-                      numberOfLines.set(0);
-                      lastPath.set(path);
-                    }
-                    int count = numberOfLines.getAndIncrement();
-                    if (count == 0) {
-                      buckEventBus.post(
-                          ConsoleEvent.warning("WARNING: Output when parsing %s:", path));
-                    }
-                    buckEventBus.post(ConsoleEvent.warning("| %s", line));
-                  });
-      stderrConsumerTerminationFuture = new FutureTask<>(stderrConsumer);
-      stderrConsumerThread =
-          Threads.namedThread(
-              PythonDslProjectBuildFileParser.class.getSimpleName(),
-              stderrConsumerTerminationFuture);
-      stderrConsumerThread.start();
-    }
-  }
-
-  private ImmutableList<String> buildArgs() throws IOException {
+  private ImmutableList<String> buildArgs(Path buckPyPath) {
     // Invoking buck.py and read JSON-formatted build rules from its stdout.
     ImmutableList.Builder<String> argBuilder = ImmutableList.builder();
 
@@ -300,7 +345,7 @@ public class PythonDslProjectBuildFileParser implements ProjectBuildFileParser {
     // produced.
     argBuilder.add("-u");
 
-    argBuilder.add(getPathToBuckPy(options.getDescriptions()).toString());
+    argBuilder.add(buckPyPath.toString());
 
     if (options.getEnableProfiling()) {
       argBuilder.add("--profile");
@@ -377,6 +422,16 @@ public class PythonDslProjectBuildFileParser implements ProjectBuildFileParser {
       argBuilder.add("--enable_user_defined_rules");
     }
 
+    if (options.getPythonDslProtocol() == PythonDslProtocol.BSER) {
+      argBuilder.add("--use_bser");
+    }
+
+    // Pooled processes are reused by later commands, so have them evaluate the default includes
+    // while they would otherwise wait for the first build file.
+    if (processPool.isPresent()) {
+      argBuilder.add("--preload_includes");
+    }
+
     return argBuilder.build();
   }
 
@@ -435,6 +490,8 @@ public class PythonDslProjectBuildFileParser implements ProjectBuildFileParser {
     Objects.requireNonNull(buckPyProcess);
     Objects.requireNonNull(buckPyProcessInput);
     long alreadyReadBytes = buckPyProcessInput.getCount();
+    PythonDslParserProcess process = Objects.requireNonNull(parserProcess);
+    boolean loadedFilesRecorded = false;
 
     ParseBuckFileEvent.Started parseBuckFileStarted =
         ParseBuckFileEvent.started(
@@ -443,6 +500,8 @@ public class PythonDslProjectBuildFileParser implements ProjectBuildFileParser {
 
     ImmutableList<Map<String, Object>> values = ImmutableList.of();
     Optional<String> profile = Optional.empty();
+    long encodeNanos = 0;
+    long decodeNanos = 0;
     try (AssertScopeExclusiveAccess.Scope scope = assertSingleThreadedParsing.scope()) {
       AbsPath cellPath = options.getProjectRoot();
       String watchRoot = cellPath.toString();
@@ -455,11 +514,11 @@ public class PythonDslProjectBuildFileParser implements ProjectBuildFileParser {
         }
       }
       currentBuildFile.set(buildFile);
-      Path buckPyPath = getPathToBuckPy(options.getDescriptions());
+      Path buckPyPath = process.getBuckPyPath();
       BuildFilePythonResult resultObject;
       try {
         resultObject =
-          performJsonRequest(
+          performRequest(
             ImmutableMap.of(
               "buildFile",
               buildFile.toString(),
@@ -473,6 +532,10 @@ public class PythonDslProjectBuildFileParser implements ProjectBuildFileParser {
         throw BuildFileParseException.createForBuildFileParseError(
           buildFile, createParseException(buildFile, buckPyPath.getParent(), iae.getMessage(), null));
       }
+      if (buckPyProcessBserReader != null) {
+        encodeNanos = buckPyProcessBserReader.getEncodeNanos();
+        decodeNanos = buckPyProcessBserReader.getDecodeNanos();
+      }
       handleDiagnostics(
           buildFile, buckPyPath.getParent(), resultObject.getDiagnostics(), buckEventBus);
       values = resultObject.getValues();
@@ -494,12 +557,22 @@ public class PythonDslProjectBuildFileParser implements ProjectBuildFileParser {
             ImmutableList.of(),
             ImmutableList.of());
       }
-      return toBuildFileManifest(values);
+      BuildFileManifest manifest = toBuildFileManifest(values);
+      // buck.py keeps the files loaded by build files cached, but not the build files themselves.
+      process.addLoadedFiles(
+          Sets.difference(manifest.getIncludes(), ImmutableSet.of(buildFile.toString())));
+      loadedFilesRecorded = true;
+      return manifest;
     } finally {
+      if (!loadedFilesRecorded) {
+        // The request may still have loaded files that buck.py keeps cached.
+        process.markLoadedFilesUnknown();
+      }
       long parsedBytes = buckPyProcessInput.getCount() - alreadyReadBytes;
       processedBytes.ifPresent(processedBytes -> processedBytes.addAndGet(parsedBytes));
       buckEventBus.post(
-          ParseBuckFileEvent.finished(parseBuckFileStarted, values.size(), parsedBytes, profile));
+          ParseBuckFileEvent.finished(
+              parseBuckFileStarted, values.size(), parsedBytes, profile, encodeNanos, decodeNanos));
     }
   }
 
@@ -537,8 +610,9 @@ public class PythonDslProjectBuildFileParser implements ProjectBuildFileParser {
       ImmutableList<Map<String, Object>> targets) {
     ImmutableMap.Builder<String, ImmutableMap<String, Object>> builder =
         ImmutableMap.builderWithExpectedSize(targets.size());
+    // Values were converted to ImmutableMaps as they were read, so this doesn't copy them.
     targets.forEach(
-        target -> builder.put((String) target.get("name"), convertSelectableAttributes(target)));
+        target -> builder.put((String) target.get("name"), ImmutableMap.copyOf(target)));
     return builder.build();
   }
 
@@ -616,6 +690,80 @@ public class PythonDslProjectBuildFileParser implements ProjectBuildFileParser {
     }
   }
 
+  /**
+   * Sends a request to buck.py and reads its result, with selectable attributes of the values
+   * converted.
+   */
+  private BuildFilePythonResult performRequest(ImmutableMap<String, Object> request)
+      throws IOException {
+    // If reading the response fails part way, what's left of it would be read as the response to
+    // the next request, so the process can't be handed to another parser.
+    isResponsePending = true;
+    BuildFilePythonResult result;
+    if (buckPyProcessBserReader != null) {
+      result = performBserRequest(request);
+    } else {
+      BuildFilePythonResult jsonResult = performJsonRequest(request);
+      result =
+          BuildFilePythonResult.of(
+              jsonResult.getValues().stream()
+                  .map(PythonDslProjectBuildFileParser::convertSelectableAttributes)
+                  .collect(ImmutableList.toImmutableList()),
+              jsonResult.getDiagnostics(),
+              jsonResult.getProfile());
+    }
+    isResponsePending = false;
+    return result;
+  }
+
+  private BuildFilePythonResult performBserRequest(ImmutableMap<String, Object> request)
+      throws IOException {
+    Objects.requireNonNull(buckPyProcess);
+    Objects.requireNonNull(buckPyProcessBserReader);
+    try {
+      BSER_SERIALIZER.serializeToStream(toBserRequest(request), buckPyProcess.getStdin());
+      buckPyProcess.getStdin().flush();
+    } catch (IOException e) {
+      // https://issues.apache.org/jira/browse/EXEC-101 -- Java 8 throws
+      // IOException if the child process exited before writing/flushing
+      LOG.debug(e, "Swallowing exception on flush");
+    }
+
+    if (LOG.isVerboseEnabled()) {
+      LOG.verbose(
+          "Parsing output of buck.py for %s...", request.getOrDefault("buildFile", "[unknown]"));
+    }
+    // Values are converted as they arrive, while buck.py is still encoding the following ones.
+    return buckPyProcessBserReader.readResult(
+        PythonDslProjectBuildFileParser::convertSelectableAttributes);
+  }
+
+  /**
+   * Converts request values that Jackson knows how to write, but {@link BserSerializer} doesn't,
+   * to what buck.py expects.
+   */
+  private static ImmutableMap<String, Object> toBserRequest(ImmutableMap<String, Object> request) {
+    ImmutableMap.Builder<String, Object> bserRequest =
+        ImmutableMap.builderWithExpectedSize(request.size());
+    request.forEach(
+        (key, value) -> {
+          if (value instanceof Optional) {
+            if (!((Optional<?>) value).isPresent()) {
+              return;
+            }
+            value = ((Optional<?>) value).get();
+          }
+          if (value instanceof ImplicitInclude) {
+            ImplicitInclude include = (ImplicitInclude) value;
+            value =
+                ImmutableMap.of(
+                    "load_path", include.getImportString(), "load_symbols", include.getSymbols());
+          }
+          bserRequest.put(key, value);
+        });
+    return bserRequest.build();
+  }
+
   private BuildFilePythonResult performJsonRequest(ImmutableMap<String, Object> request)
       throws IOException {
     Objects.requireNonNull(request);
@@ -849,7 +997,7 @@ public class PythonDslProjectBuildFileParser implements ProjectBuildFileParser {
   @Override
   public void reportProfile() throws IOException {
     BuildFilePythonResult resultObject =
-        performJsonRequest(ImmutableMap.of("command", "report_profile"));
+        performRequest(ImmutableMap.of("command", "report_profile"));
     Optional<String> profile = resultObject.getProfile();
     if (profile.isPresent()) {
       LOG.debug("buck parser profiler trace available");
@@ -877,19 +1025,39 @@ public class PythonDslProjectBuildFileParser implements ProjectBuildFileParser {
     }
 
     try {
-      shutdown();
+      if (processPool.isPresent() && isInitialized && !isResponsePending) {
+        releaseProcess(processPool.get());
+      } else {
+        shutdown();
+      }
     } finally {
       isClosed = true;
     }
   }
 
+  /**
+   * Leaves the buck.py process running in {@code pool} for a later parser. Streams are dropped
+   * rather than closed, since closing them would close the process' stdin and stdout.
+   */
+  private void releaseProcess(PythonDslProcessPool pool) {
+    buckPyProcessJsonGenerator = null;
+    buckPyProcessJsonParser = null;
+    buckPyProcessBserReader = null;
+    buckPyProcessInput = null;
+    buckPyProcess = null;
+    pool.release(options, environment, Objects.requireNonNull(parserProcess));
+    parserProcess = null;
+    isInitialized = false;
+  }
+
+  @SuppressWarnings("PMD.EmptyCatchBlock")
   private void shutdown() throws InterruptedException, IOException {
     if (!isInitialized) {
       return;
     }
 
     // Check isInitialized implications (to avoid Eradicate warnings).
-    Objects.requireNonNull(buckPyProcess);
+    Objects.requireNonNull(parserProcess);
 
     // Allow buck.py to terminate gracefully.
     if (buckPyProcessJsonGenerator != null) {
@@ -915,48 +1083,19 @@ public class PythonDslProjectBuildFileParser implements ProjectBuildFileParser {
       }
     }
 
-    if (stderrConsumerThread != null) {
-      stderrConsumerThread.join();
-      stderrConsumerThread = null;
-      try {
-        Objects.requireNonNull(stderrConsumerTerminationFuture).get();
-      } catch (ExecutionException e) {
-        Throwable cause = e.getCause();
-        if (cause instanceof IOException) {
-          throw (IOException) cause;
-        } else {
-          throw new RuntimeException(e);
-        }
-      }
-      stderrConsumerTerminationFuture = null;
-    }
-
-    LOG.debug("Waiting for process %s to exit...", buckPyProcess);
-    ProcessExecutor.Result result = processExecutor.waitForLaunchedProcess(buckPyProcess);
-    LOG.debug("Process %s exited with status code %d", buckPyProcess, result.getExitCode());
+    buckPyProcessBserReader = null;
+    buckPyProcessInput = null;
+    buckPyProcess = null;
 
     try {
-      synchronized (this) {
-        if (buckPythonProgram != null) {
-          buckPythonProgram.close();
-          buckPythonProgram = null;
-        }
-      }
-    } catch (IOException e) {
-      // Eat any exceptions from deleting the temporary buck.py file.
-    }
-
-    isInitialized = false;
-  }
-
-  private synchronized Path getPathToBuckPy(ImmutableSet<BaseDescription<?>> descriptions)
-      throws IOException {
-    if (buckPythonProgram == null) {
-      buckPythonProgram =
-          BuckPythonProgram.newInstance(
-              typeCoercerFactory, descriptions, !options.getEnableProfiling());
+      // Closes stdin if it's still open, and waits for the process to exit.
+      parserProcess.shutdown();
+    } finally {
+      processPool.ifPresent(pool -> pool.removeProcessInUse(Objects.requireNonNull(parserProcess)));
+      parserProcess = null;
+      isResponsePending = false;
+      isInitialized = false;
     }
-    return buckPythonProgram.getExecutablePath();
   }
 
   private static ParserInputStream createParserInputStream(
@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.parser.cache;
+
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.parser.api.BuildFileManifest;
+import com.facebook.buck.parser.api.ForwardingProjectBuildFileParserDecorator;
+import com.facebook.buck.parser.api.ProjectBuildFileParser;
+import com.facebook.buck.parser.cache.binary.BuildFileManifestSerializer;
+import com.facebook.buck.parser.exceptions.BuildFileParseException;
+import com.facebook.buck.parser.options.ProjectBuildFileParserOptions;
+import com.facebook.buck.rules.keys.config.impl.BuckVersion;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.MoreFiles;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decorator for {@link ProjectBuildFileParser} that keeps parsed build files in a {@link
+ * ParserCacheStorage}, so that unchanged build files aren't evaluated again by new Buck daemons,
+ * by {@code --no-buckd} runs or, when the storage is shared, by other checkouts at the same path.
+ *
+ * <p>An entry is stored per build file and parser configuration, and is only used if the build
+ * file, every file it loaded, the configuration options and environment variables it read and the
+ * results of the globs it evaluated are all unchanged. Parsers that can't check glob results, like
+ * the Python DSL one, can't tell whether new files match their globs, so their results aren't
+ * cached.
+ */
+public class CachingProjectBuildFileParserDecorator
+    extends ForwardingProjectBuildFileParserDecorator {
+  private static final Logger LOG = Logger.get(CachingProjectBuildFileParserDecorator.class);
+
+  private static final int ENTRY_MAGIC = 0x42465043; // "BFPC"
+  private static final int ENTRY_VERSION = 1;
+  private static final HashFunction HASH_FUNCTION = Hashing.sha1();
+
+  private final ParserCacheStorage storage;
+  private final HashCode parserFingerprint;
+  private final ImmutableMap<String, ImmutableMap<String, String>> rawConfig;
+  private final ImmutableMap<String, String> environment;
+
+  /**
+   * Loaded files are shared by most build files, so they are hashed once per parser rather than
+   * once per build file. Files changing in the middle of a parse make it inconsistent anyway.
+   */
+  private final ConcurrentHashMap<Path, Optional<HashCode>> loadedFileHashes =
+      new ConcurrentHashMap<>();
+
+  private CachingProjectBuildFileParserDecorator(
+      ProjectBuildFileParser delegate,
+      ParserCacheStorage storage,
+      HashCode parserFingerprint,
+      ImmutableMap<String, ImmutableMap<String, String>> rawConfig,
+      ImmutableMap<String, String> environment) {
+    super(delegate);
+    this.storage = storage;
+    this.parserFingerprint = parserFingerprint;
+    this.rawConfig = rawConfig;
+    this.environment = environment;
+  }
+
+  /**
+   * Static factory method for producing instances of {@link
+   * CachingProjectBuildFileParserDecorator}.
+   *
+   * @param delegate the parser to parse build files that aren't cached.
+   * @param storage the storage of the cache entries.
+   * @param options the options {@code delegate} was created with.
+   * @param environment the environment variables of the parse.
+   */
+  public static CachingProjectBuildFileParserDecorator of(
+      ProjectBuildFileParser delegate,
+      ParserCacheStorage storage,
+      ProjectBuildFileParserOptions options,
+      ImmutableMap<String, String> environment) {
+    return new CachingProjectBuildFileParserDecorator(
+        delegate, storage, getParserFingerprint(options), options.getRawConfig(), environment);
+  }
+
+  /** Fingerprints the options that affect parse results, other than the config and includes. */
+  private static HashCode getParserFingerprint(ProjectBuildFileParserOptions options) {
+    Hasher hasher =
+        HASH_FUNCTION
+            .newHasher()
+            .putInt(ENTRY_VERSION)
+            .putString(BuckVersion.getVersion(), StandardCharsets.UTF_8)
+            .putString(options.getProjectRoot().toString(), StandardCharsets.UTF_8)
+            .putString(options.getCellName(), StandardCharsets.UTF_8)
+            .putString(options.getCellRoots().toString(), StandardCharsets.UTF_8)
+            .putString(options.getBuildFileName(), StandardCharsets.UTF_8)
+            .putBoolean(options.getAllowEmptyGlobs())
+            .putString(options.getDefaultIncludes().toString(), StandardCharsets.UTF_8)
+            .putString(options.getPackageImplicitIncludes().toString(), StandardCharsets.UTF_8)
+            .putString(options.getBuildFileImportWhitelist().toString(), StandardCharsets.UTF_8)
+            .putString(options.getImplicitNativeRulesState().name(), StandardCharsets.UTF_8)
+            .putString(options.getUserDefinedRulesState().name(), StandardCharsets.UTF_8)
+            .putBoolean(options.isWarnAboutDeprecatedSyntax());
+    options.getDescriptions().stream()
+        .map(description -> description.getClass().getName())
+        .sorted()
+        .forEach(name -> hasher.putString(name, StandardCharsets.UTF_8));
+    return hasher.hash();
+  }
+
+  @Override
+  public BuildFileManifest getManifest(Path buildFile)
+      throws BuildFileParseException, InterruptedException, IOException {
+    HashCode key =
+        HASH_FUNCTION
+            .newHasher()
+            .putBytes(parserFingerprint.asBytes())
+            .putString(buildFile.toString(), StandardCharsets.UTF_8)
+            .hash();
+    Optional<HashCode> buildFileHash = hashFile(buildFile);
+    if (!buildFileHash.isPresent()) {
+      // Let the delegate report the missing build file.
+      return delegate.getManifest(buildFile);
+    }
+
+    Optional<BuildFileManifest> cachedManifest =
+        getCachedManifest(buildFile, key, buildFileHash.get());
+    if (cachedManifest.isPresent()) {
+      LOG.verbose("Got the manifest of %s from the parser cache.", buildFile);
+      return cachedManifest.get();
+    }
+
+    BuildFileManifest manifest = delegate.getManifest(buildFile);
+    storeManifest(buildFile, key, buildFileHash.get(), manifest);
+    return manifest;
+  }
+
+  private Optional<BuildFileManifest> getCachedManifest(
+      Path buildFile, HashCode key, HashCode buildFileHash)
+      throws IOException, InterruptedException {
+    Optional<ByteBuffer> entry;
+    try {
+      entry = storage.getEntry(key);
+    } catch (ParserCacheException e) {
+      LOG.warn(e, "Failed to get the manifest of %s from the parser cache.", buildFile);
+      return Optional.empty();
+    }
+    if (!entry.isPresent()) {
+      return Optional.empty();
+    }
+
+    ByteBuffer buffer = entry.get();
+    BuildFileManifest manifest;
+    try {
+      if (buffer.getInt() != ENTRY_MAGIC
+          || buffer.getInt() != ENTRY_VERSION
+          || !readHash(buffer).equals(buildFileHash)) {
+        return Optional.empty();
+      }
+      int loadedFileCount = buffer.getInt();
+      for (int i = 0; i < loadedFileCount; i++) {
+        Path loadedFile = Paths.get(readString(buffer));
+        HashCode loadedFileHash = readHash(buffer);
+        if (!hashLoadedFile(loadedFile).equals(Optional.of(loadedFileHash))) {
+          return Optional.empty();
+        }
+      }
+      manifest = BuildFileManifestSerializer.deserialize(buffer);
+    } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+      LOG.warn(e, "Ignoring a malformed parser cache entry for %s.", buildFile);
+      return Optional.empty();
+    }
+
+    if (!configAndEnvironmentMatch(manifest)
+        || (!manifest.getGlobManifest().isEmpty()
+            && !delegate.globResultsMatchCurrentState(buildFile, manifest.getGlobManifest()))) {
+      return Optional.empty();
+    }
+    return Optional.of(manifest);
+  }
+
+  private boolean configAndEnvironmentMatch(BuildFileManifest manifest) {
+    for (Map.Entry<String, Object> section : manifest.getConfigs().entrySet()) {
+      if (!(section.getValue() instanceof Map)) {
+        return false;
+      }
+      ImmutableMap<String, String> currentSection =
+          rawConfig.getOrDefault(section.getKey(), ImmutableMap.of());
+      for (Map.Entry<?, ?> option : ((Map<?, ?>) section.getValue()).entrySet()) {
+        // The Skylark parser records the values read as optionals, the Python DSL one as values.
+        Object value = option.getValue();
+        Optional<?> readValue =
+            value instanceof Optional ? (Optional<?>) value : Optional.of(value);
+        if (!readValue.equals(Optional.ofNullable(currentSection.get(option.getKey())))) {
+          return false;
+        }
+      }
+    }
+
+    if (manifest.getEnv().isPresent()) {
+      for (Map.Entry<String, Optional<String>> variable : manifest.getEnv().get().entrySet()) {
+        if (!variable.getValue().equals(Optional.ofNullable(environment.get(variable.getKey())))) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  private void storeManifest(
+      Path buildFile, HashCode key, HashCode buildFileHash, BuildFileManifest manifest)
+      throws IOException, InterruptedException {
+    if (!canCheckGlobResults(buildFile)) {
+      return;
+    }
+
+    byte[] entry;
+    try {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      DataOutputStream out = new DataOutputStream(bytes);
+      out.writeInt(ENTRY_MAGIC);
+      out.writeInt(ENTRY_VERSION);
+      writeBytes(out, buildFileHash.asBytes());
+      out.writeInt(manifest.getIncludes().size());
+      for (String loadedFile : manifest.getIncludes()) {
+        Optional<HashCode> loadedFileHash = hashLoadedFile(Paths.get(loadedFile));
+        if (!loadedFileHash.isPresent()) {
+          return;
+        }
+        writeBytes(out, loadedFile.getBytes(StandardCharsets.UTF_8));
+        writeBytes(out, loadedFileHash.get().asBytes());
+      }
+      out.write(BuildFileManifestSerializer.serialize(manifest));
+      out.flush();
+      entry = bytes.toByteArray();
+    } catch (IOException e) {
+      LOG.debug(e, "Not caching the manifest of %s.", buildFile);
+      return;
+    }
+
+    try {
+      storage.storeEntry(key, entry);
+    } catch (ParserCacheException e) {
+      LOG.warn(e, "Failed to store the manifest of %s in the parser cache.", buildFile);
+    }
+  }
+
+  /** @return whether the delegate can tell if the glob results of {@code buildFile} are stale. */
+  private boolean canCheckGlobResults(Path buildFile) throws IOException, InterruptedException {
+    try {
+      delegate.globResultsMatchCurrentState(buildFile, ImmutableList.of());
+      return true;
+    } catch (UnsupportedOperationException e) {
+      return false;
+    }
+  }
+
+  private Optional<HashCode> hashLoadedFile(Path path) {
+    return loadedFileHashes.computeIfAbsent(
+        path,
+        p -> {
+          try {
+            return hashFile(p);
+          } catch (IOException e) {
+            LOG.debug(e, "Failed to hash %s.", p);
+            return Optional.empty();
+          }
+        });
+  }
+
+  private static Optional<HashCode> hashFile(Path path) throws IOException {
+    try {
+      return Optional.of(MoreFiles.asByteSource(path).hash(HASH_FUNCTION));
+    } catch (NoSuchFileException e) {
+      return Optional.empty();
+    }
+  }
+
+  private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static byte[] readBytes(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.getInt()];
+    buffer.get(bytes);
+    return bytes;
+  }
+
+  private static HashCode readHash(ByteBuffer buffer) {
+    return HashCode.fromBytes(readBytes(buffer));
+  }
+
+  private static String readString(ByteBuffer buffer) {
+    return new String(readBytes(buffer), StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.parser.cache;
+
+import com.google.common.hash.HashCode;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import javax.annotation.Nullable;
+
+/**
+ * {@link ParserCacheStorage} backed by a directory, which may be shared by several Buck processes.
+ *
+ * <p>Entries are written to a temporary file and moved in place, so that readers never see a
+ * partial entry, and are read by memory mapping them.
+ */
+public class LocalParserCacheStorage implements ParserCacheStorage {
+
+  private static final String TMP_EXTENSION = ".tmp";
+
+  private final Path cacheDir;
+
+  private LocalParserCacheStorage(Path cacheDir) {
+    this.cacheDir = cacheDir;
+  }
+
+  /** @param cacheDir the absolute path of the directory to store entries in. */
+  public static LocalParserCacheStorage of(Path cacheDir) {
+    return new LocalParserCacheStorage(cacheDir);
+  }
+
+  private Path getPathForKey(HashCode key) {
+    String name = key.toString();
+    // Fan out, so that large repositories don't end up with a single huge directory.
+    return cacheDir.resolve(name.substring(0, 2)).resolve(name);
+  }
+
+  @Override
+  @SuppressWarnings("PMD.EmptyCatchBlock")
+  public void storeEntry(HashCode key, byte[] entry) throws ParserCacheException {
+    Path path = getPathForKey(key);
+    @Nullable Path tmp = null;
+    try {
+      Files.createDirectories(path.getParent());
+      tmp = Files.createTempFile(path.getParent(), path.getFileName().toString(), TMP_EXTENSION);
+      Files.write(tmp, entry);
+      Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new ParserCacheException(e, "Failed to store the parser cache entry %s.", key);
+    } finally {
+      if (tmp != null) {
+        try {
+          Files.deleteIfExists(tmp);
+        } catch (IOException e) {
+          // The entry is stored either way, and a leftover temp file is harmless.
+        }
+      }
+    }
+  }
+
+  @Override
+  public Optional<ByteBuffer> getEntry(HashCode key) throws ParserCacheException {
+    try (FileChannel channel = FileChannel.open(getPathForKey(key), StandardOpenOption.READ)) {
+      return Optional.of(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    } catch (NoSuchFileException e) {
+      return Optional.empty();
+    } catch (IOException e) {
+      throw new ParserCacheException(e, "Failed to read the parser cache entry %s.", key);
+    }
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.parser.cache;
+
+import com.facebook.buck.core.config.BuckConfig;
+import com.facebook.buck.core.config.ConfigView;
+import com.facebook.buck.core.util.immutables.BuckStyleValue;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import java.nio.file.Path;
+import org.immutables.value.Value;
+
+/** Configuration of the persistent cache of parsed build files. */
+@BuckStyleValue
+public abstract class ParserCacheConfig implements ConfigView<BuckConfig> {
+
+  private static final String PARSER_SECTION_NAME = "parser";
+  private static final String PERSISTENT_CACHE_ENABLED = "persistent_cache_enabled";
+  private static final String PERSISTENT_CACHE_DIR = "persistent_cache_dir";
+
+  @Override
+  public abstract BuckConfig getDelegate();
+
+  public static ParserCacheConfig of(BuckConfig delegate) {
+    return ImmutableParserCacheConfig.of(delegate);
+  }
+
+  /** @return whether parsed build files are cached across Buck processes. */
+  @Value.Lazy
+  public boolean isPersistentCacheEnabled() {
+    return getDelegate().getBooleanValue(PARSER_SECTION_NAME, PERSISTENT_CACHE_ENABLED, false);
+  }
+
+  /**
+   * @return the absolute path of the directory that holds the persistent cache. It defaults to a
+   *     directory in buck-out, but can be shared by several checkouts at the same path, like CI
+   *     agents.
+   */
+  @Value.Lazy
+  public Path getPersistentCacheDir() {
+    ProjectFilesystem filesystem = getDelegate().getFilesystem();
+    return getDelegate()
+        .getValue(PARSER_SECTION_NAME, PERSISTENT_CACHE_DIR)
+        .map(filesystem::resolve)
+        .orElseGet(
+            () ->
+                filesystem.resolve(
+                    filesystem.getBuckPaths().getCacheDir().resolve(PARSER_SECTION_NAME)));
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.parser.cache;
+
+import com.google.common.hash.HashCode;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+/** Stores the serialized cache entries of parsed build files, keyed by a fingerprint. */
+public interface ParserCacheStorage {
+
+  /**
+   * Stores a cache entry, replacing any entry previously stored under the same key.
+   *
+   * @param key the fingerprint the entry is stored under.
+   * @param entry the serialized entry.
+   */
+  void storeEntry(HashCode key, byte[] entry) throws ParserCacheException;
+
+  /**
+   * Gets a cache entry.
+   *
+   * @param key the fingerprint the entry is stored under.
+   * @return the serialized entry, if one is stored. The buffer may be memory mapped, so it is only
+   *     meant to be read once.
+   */
+  Optional<ByteBuffer> getEntry(HashCode key) throws ParserCacheException;
+}
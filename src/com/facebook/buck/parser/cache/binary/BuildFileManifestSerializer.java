@@ -0,0 +1,431 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.parser.cache.binary;
+
+import com.facebook.buck.parser.api.BuildFileManifest;
+import com.facebook.buck.parser.exceptions.ParsingError;
+import com.facebook.buck.parser.syntax.ListWithSelects;
+import com.facebook.buck.parser.syntax.SelectorValue;
+import com.facebook.buck.skylark.io.GlobSpec;
+import com.facebook.buck.skylark.io.GlobSpecWithResult;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Ordering;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import javax.annotation.Nullable;
+
+/**
+ * Serializes the {@link BuildFileManifest} to a compact binary form that can be stored on disk and
+ * read back from a memory mapped file.
+ *
+ * <p>The format is a header, a table of all the distinct strings of the manifest, and the manifest
+ * values, each prefixed with a one byte tag. Strings are referred to by their index in the table,
+ * so that attribute names and labels repeated across targets are stored and decoded once. Lengths,
+ * indices and integers are variable length encoded.
+ */
+public class BuildFileManifestSerializer {
+
+  private static final int MAGIC = 0x42464d00; // "BFM\0"
+  private static final int VERSION = 1;
+
+  private static final byte TRUE = 1;
+  private static final byte FALSE = 2;
+  private static final byte INT = 3;
+  private static final byte LONG = 4;
+  private static final byte DOUBLE = 5;
+  private static final byte STRING = 6;
+  private static final byte LIST = 7;
+  private static final byte SET = 8;
+  private static final byte SORTED_SET = 9;
+  private static final byte MAP = 10;
+  private static final byte SORTED_MAP = 11;
+  private static final byte OPTIONAL_EMPTY = 12;
+  private static final byte OPTIONAL = 13;
+  private static final byte LIST_WITH_SELECTS = 14;
+  private static final byte SELECTOR_VALUE = 15;
+  private static final byte GLOB_SPEC_WITH_RESULT = 16;
+  private static final byte PARSING_ERROR = 17;
+
+  private BuildFileManifestSerializer() {}
+
+  /**
+   * Serializes an instance of {@link BuildFileManifest} to a byte array.
+   *
+   * @param buildFileManifest the instance of {@link BuildFileManifest} to be serialized.
+   * @return a byte array with the serialized manifest.
+   * @throws IOException if the manifest holds a value this format can't represent.
+   */
+  public static byte[] serialize(BuildFileManifest buildFileManifest) throws IOException {
+    Writer writer = new Writer();
+    writer.writeValue(buildFileManifest.getTargets());
+    writer.writeValue(buildFileManifest.getIncludes());
+    writer.writeValue(buildFileManifest.getConfigs());
+    writer.writeValue(buildFileManifest.getEnv());
+    writer.writeValue(buildFileManifest.getGlobManifest());
+    writer.writeValue(buildFileManifest.getErrors());
+    return writer.toByteArray();
+  }
+
+  /**
+   * Deserializes an instance of {@link BuildFileManifest} from a buffer, starting at its position.
+   *
+   * @param buffer the buffer, possibly memory mapped, holding the manifest to be deserialized.
+   * @return a new instance of {@link BuildFileManifest} serialized from the {@code buffer}.
+   * @throws IOException if the buffer doesn't hold a manifest in this format.
+   */
+  @SuppressWarnings("unchecked")
+  public static BuildFileManifest deserialize(ByteBuffer buffer) throws IOException {
+    try {
+      Reader reader = new Reader(buffer);
+      return BuildFileManifest.of(
+          (ImmutableMap<String, ImmutableMap<String, Object>>) reader.readValue(),
+          (ImmutableSortedSet<String>) reader.readValue(),
+          (ImmutableMap<String, Object>) reader.readValue(),
+          (Optional<ImmutableMap<String, Optional<String>>>) reader.readValue(),
+          (ImmutableList<GlobSpecWithResult>) reader.readValue(),
+          (ImmutableList<ParsingError>) reader.readValue());
+    } catch (BufferUnderflowException | ClassCastException | IllegalArgumentException e) {
+      throw new IOException("Malformed build file manifest", e);
+    }
+  }
+
+  /** Writes values to a body buffer while collecting the strings they refer to. */
+  private static class Writer {
+    private final Map<String, Integer> strings = new LinkedHashMap<>();
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+    private final DataOutputStream out = new DataOutputStream(body);
+
+    byte[] toByteArray() throws IOException {
+      ByteArrayOutputStream result = new ByteArrayOutputStream(body.size() + strings.size() * 16);
+      DataOutputStream resultOut = new DataOutputStream(result);
+      resultOut.writeInt(MAGIC);
+      resultOut.writeInt(VERSION);
+      writeVarInt(resultOut, strings.size());
+      for (String string : strings.keySet()) {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(resultOut, bytes.length);
+        resultOut.write(bytes);
+      }
+      body.writeTo(resultOut);
+      resultOut.flush();
+      return result.toByteArray();
+    }
+
+    void writeValue(@Nullable Object value) throws IOException {
+      if (value == null) {
+        // Immutable collections can't hold them, so they can't be read back.
+        throw new IOException("Cannot serialize null values");
+      } else if (value instanceof Boolean) {
+        out.writeByte((Boolean) value ? TRUE : FALSE);
+      } else if (value instanceof Integer) {
+        out.writeByte(INT);
+        writeVarLong(out, (Integer) value);
+      } else if (value instanceof Long) {
+        out.writeByte(LONG);
+        writeVarLong(out, (Long) value);
+      } else if (value instanceof Double) {
+        out.writeByte(DOUBLE);
+        out.writeDouble((Double) value);
+      } else if (value instanceof String) {
+        out.writeByte(STRING);
+        writeString((String) value);
+      } else if (value instanceof List) {
+        out.writeByte(LIST);
+        writeElements((List<?>) value);
+      } else if (value instanceof SortedSet) {
+        checkNaturalOrdering(((SortedSet<?>) value).comparator());
+        out.writeByte(SORTED_SET);
+        writeElements((SortedSet<?>) value);
+      } else if (value instanceof Set) {
+        out.writeByte(SET);
+        writeElements((Set<?>) value);
+      } else if (value instanceof SortedMap) {
+        checkNaturalOrdering(((SortedMap<?, ?>) value).comparator());
+        out.writeByte(SORTED_MAP);
+        writeEntries((SortedMap<?, ?>) value);
+      } else if (value instanceof Map) {
+        out.writeByte(MAP);
+        writeEntries((Map<?, ?>) value);
+      } else if (value instanceof Optional) {
+        Optional<?> optional = (Optional<?>) value;
+        if (optional.isPresent()) {
+          out.writeByte(OPTIONAL);
+          writeValue(optional.get());
+        } else {
+          out.writeByte(OPTIONAL_EMPTY);
+        }
+      } else if (value instanceof ListWithSelects) {
+        ListWithSelects listWithSelects = (ListWithSelects) value;
+        out.writeByte(LIST_WITH_SELECTS);
+        writeString(listWithSelects.getType().getName());
+        writeElements(listWithSelects.getElements());
+      } else if (value instanceof SelectorValue) {
+        SelectorValue selectorValue = (SelectorValue) value;
+        out.writeByte(SELECTOR_VALUE);
+        writeString(selectorValue.getNoMatchError());
+        writeEntries(selectorValue.getDictionary());
+      } else if (value instanceof GlobSpecWithResult) {
+        GlobSpecWithResult globSpecWithResult = (GlobSpecWithResult) value;
+        GlobSpec globSpec = globSpecWithResult.getGlobSpec();
+        out.writeByte(GLOB_SPEC_WITH_RESULT);
+        writeElements(globSpec.getInclude());
+        writeElements(globSpec.getExclude());
+        out.writeBoolean(globSpec.getExcludeDirectories());
+        writeElements(globSpecWithResult.getFilePaths());
+      } else if (value instanceof ParsingError) {
+        ParsingError parsingError = (ParsingError) value;
+        out.writeByte(PARSING_ERROR);
+        writeString(parsingError.getMessage());
+        writeElements(parsingError.getStackTrace());
+      } else {
+        throw new IOException(
+            String.format("Cannot serialize a value of type %s", value.getClass().getName()));
+      }
+    }
+
+    private void writeElements(Collection<?> elements) throws IOException {
+      writeVarInt(out, elements.size());
+      for (Object element : elements) {
+        writeValue(element);
+      }
+    }
+
+    private void writeEntries(Map<?, ?> entries) throws IOException {
+      writeVarInt(out, entries.size());
+      for (Map.Entry<?, ?> entry : entries.entrySet()) {
+        writeValue(entry.getKey());
+        writeValue(entry.getValue());
+      }
+    }
+
+    private void writeString(String string) throws IOException {
+      Integer index = strings.get(string);
+      if (index == null) {
+        index = strings.size();
+        strings.put(string, index);
+      }
+      writeVarInt(out, index);
+    }
+
+    private static void checkNaturalOrdering(@Nullable Object comparator) throws IOException {
+      if (comparator != null && !comparator.equals(Ordering.natural())) {
+        throw new IOException("Cannot serialize a sorted collection with a custom comparator");
+      }
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+      while ((value & ~0x7f) != 0) {
+        out.writeByte((value & 0x7f) | 0x80);
+        value >>>= 7;
+      }
+      out.writeByte(value);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+      // Zig-zag encoded, so that small negative values stay short.
+      long zigZag = (value << 1) ^ (value >> 63);
+      while ((zigZag & ~0x7fL) != 0) {
+        out.writeByte((int) ((zigZag & 0x7f) | 0x80));
+        zigZag >>>= 7;
+      }
+      out.writeByte((int) zigZag);
+    }
+  }
+
+  /** Reads values from a buffer, after decoding its string table. */
+  private static class Reader {
+    private final ByteBuffer buffer;
+    private final String[] strings;
+
+    Reader(ByteBuffer buffer) throws IOException {
+      this.buffer = buffer;
+      if (buffer.getInt() != MAGIC) {
+        throw new IOException("Not a serialized build file manifest");
+      }
+      int version = buffer.getInt();
+      if (version != VERSION) {
+        throw new IOException(
+            String.format("Unsupported build file manifest format version %d", version));
+      }
+      strings = new String[readVarInt()];
+      for (int i = 0; i < strings.length; i++) {
+        byte[] bytes = new byte[readVarInt()];
+        buffer.get(bytes);
+        strings[i] = new String(bytes, StandardCharsets.UTF_8);
+      }
+    }
+
+    Object readValue() throws IOException {
+      byte tag = buffer.get();
+      switch (tag) {
+        case TRUE:
+          return true;
+        case FALSE:
+          return false;
+        case INT:
+          return (int) readVarLong();
+        case LONG:
+          return readVarLong();
+        case DOUBLE:
+          return buffer.getDouble();
+        case STRING:
+          return readString();
+        case LIST:
+          return readList();
+        case SET:
+          {
+            int size = readVarInt();
+            ImmutableSet.Builder<Object> builder = ImmutableSet.builderWithExpectedSize(size);
+            for (int i = 0; i < size; i++) {
+              builder.add(readValue());
+            }
+            return builder.build();
+          }
+        case SORTED_SET:
+          {
+            int size = readVarInt();
+            ImmutableSortedSet.Builder<Comparable<?>> builder = ImmutableSortedSet.naturalOrder();
+            for (int i = 0; i < size; i++) {
+              builder.add((Comparable<?>) readValue());
+            }
+            return builder.build();
+          }
+        case MAP:
+          return readMap();
+        case SORTED_MAP:
+          {
+            int size = readVarInt();
+            ImmutableSortedMap.Builder<Comparable<?>, Object> builder =
+                ImmutableSortedMap.naturalOrder();
+            for (int i = 0; i < size; i++) {
+              builder.put((Comparable<?>) readValue(), readValue());
+            }
+            return builder.build();
+          }
+        case OPTIONAL_EMPTY:
+          return Optional.empty();
+        case OPTIONAL:
+          return Optional.of(readValue());
+        case LIST_WITH_SELECTS:
+          {
+            String typeName = readString();
+            Class<?> type;
+            try {
+              type = Class.forName(typeName);
+            } catch (ClassNotFoundException e) {
+              throw new IOException(String.format("Unknown selector list type %s", typeName), e);
+            }
+            return ListWithSelects.of(readList(), type);
+          }
+        case SELECTOR_VALUE:
+          {
+            String noMatchError = readString();
+            @SuppressWarnings("unchecked")
+            ImmutableMap<String, Object> dictionary =
+                (ImmutableMap<String, Object>) (ImmutableMap<?, ?>) readMap();
+            return SelectorValue.of(dictionary, noMatchError);
+          }
+        case GLOB_SPEC_WITH_RESULT:
+          {
+            @SuppressWarnings("unchecked")
+            ImmutableList<String> include = (ImmutableList<String>) (ImmutableList<?>) readList();
+            @SuppressWarnings("unchecked")
+            ImmutableList<String> exclude = (ImmutableList<String>) (ImmutableList<?>) readList();
+            boolean excludeDirectories = buffer.get() != 0;
+            @SuppressWarnings("unchecked")
+            ImmutableList<String> filePaths = (ImmutableList<String>) (ImmutableList<?>) readList();
+            return GlobSpecWithResult.of(
+                GlobSpec.of(include, exclude, excludeDirectories), ImmutableSet.copyOf(filePaths));
+          }
+        case PARSING_ERROR:
+          {
+            String message = readString();
+            @SuppressWarnings("unchecked")
+            ImmutableList<String> stackTrace =
+                (ImmutableList<String>) (ImmutableList<?>) readList();
+            return ParsingError.of(message, stackTrace);
+          }
+        default:
+          throw new IOException(String.format("Unknown value tag %d", tag));
+      }
+    }
+
+    private ImmutableList<Object> readList() throws IOException {
+      int size = readVarInt();
+      ImmutableList.Builder<Object> builder = ImmutableList.builderWithExpectedSize(size);
+      for (int i = 0; i < size; i++) {
+        builder.add(readValue());
+      }
+      return builder.build();
+    }
+
+    private ImmutableMap<Object, Object> readMap() throws IOException {
+      int size = readVarInt();
+      ImmutableMap.Builder<Object, Object> builder = ImmutableMap.builderWithExpectedSize(size);
+      for (int i = 0; i < size; i++) {
+        builder.put(readValue(), readValue());
+      }
+      return builder.build();
+    }
+
+    private String readString() throws IOException {
+      int index = readVarInt();
+      if (index < 0 || index >= strings.length) {
+        throw new IOException(String.format("String index %d out of range", index));
+      }
+      return strings[index];
+    }
+
+    private int readVarInt() {
+      int value = 0;
+      for (int shift = 0; ; shift += 7) {
+        byte b = buffer.get();
+        value |= (b & 0x7f) << shift;
+        if ((b & 0x80) == 0) {
+          return value;
+        }
+      }
+    }
+
+    private long readVarLong() {
+      long zigZag = 0;
+      for (int shift = 0; ; shift += 7) {
+        byte b = buffer.get();
+        zigZag |= (long) (b & 0x7f) << shift;
+        if ((b & 0x80) == 0) {
+          return (zigZag >>> 1) ^ -(zigZag & 1);
+        }
+      }
+    }
+  }
+}
@@ -32,6 +32,7 @@ import com.facebook.buck.parser.api.Syntax;
 import com.facebook.buck.parser.exceptions.MissingBuildFileException;
 import com.facebook.buck.parser.implicit.ImplicitInclude;
 import com.facebook.buck.parser.options.ImplicitNativeRulesState;
+import com.facebook.buck.parser.options.PythonDslProtocol;
 import com.facebook.buck.parser.options.UserDefinedRulesState;
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
@@ -51,6 +52,8 @@ public abstract class ParserConfig implements ConfigView<BuckConfig> {
   public static final String INCLUDES_PROPERTY_NAME = "includes";
   public static final String PACKAGE_INCLUDES_PROPERTY_NAME = "package_includes";
 
+  public static final long DEFAULT_PYTHON_DSL_PROCESS_MAX_MEMORY_MB = 1024L;
+
   private static final long NUM_PARSING_THREADS_DEFAULT = 1L;
   private static final int TARGET_PARSER_THRESHOLD = 100000;
 
@@ -282,6 +285,36 @@ public abstract class ParserConfig implements ConfigView<BuckConfig> {
     return getDelegate().getBooleanValue("parser", "warn_about_deprecated_syntax", true);
   }
 
+  /** @return the encoding used to talk to the Python DSL parser process. */
+  @Value.Lazy
+  public PythonDslProtocol getPythonDslProtocol() {
+    return getDelegate()
+        .getEnum("parser", "python_dsl_protocol", PythonDslProtocol.class)
+        .orElse(PythonDslProtocol.JSON);
+  }
+
+  /**
+   * @return whether Python DSL parser processes should be kept alive by the daemon once a command
+   *     is done with them, so that later commands don't pay for starting them again.
+   */
+  @Value.Lazy
+  public boolean isPythonDslProcessPoolEnabled() {
+    return getDelegate().getBooleanValue("parser", "python_dsl_process_pool_enabled", false);
+  }
+
+  /**
+   * @return resident memory, in bytes, above which a Python DSL parser process is shut down instead
+   *     of being kept for later commands.
+   */
+  @Value.Lazy
+  public long getPythonDslProcessMaxMemoryBytes() {
+    return getDelegate()
+            .getLong("parser", "python_dsl_process_max_memory_mb")
+            .orElse(DEFAULT_PYTHON_DSL_PROCESS_MAX_MEMORY_MB)
+        * 1024
+        * 1024;
+  }
+
   /** @return the type of the glob handler used by the Skylark parser. */
   @Value.Lazy
   public SkylarkGlobHandler getSkylarkGlobHandler() {
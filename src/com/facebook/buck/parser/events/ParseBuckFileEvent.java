@@ -74,7 +74,28 @@ public abstract class ParseBuckFileEvent extends AbstractBuckEvent implements Wo
    */
   public static Finished finished(
       Started started, int rulesCount, long processedBytes, Optional<String> profile) {
-    return new Finished(started, rulesCount, processedBytes, profile);
+    return finished(started, rulesCount, processedBytes, profile, 0, 0);
+  }
+
+  /**
+   * Create an event when parsing of build file finishes
+   *
+   * @param started Event created when corresponding build file parsing was started
+   * @param rulesCount Total number of rules parsed from this build file
+   * @param processedBytes Total number of bytes read while parsing this build file, if applicable
+   * @param profile This is the value of getProfile() from PythonDSL parser result.
+   * @param encodeNanos Time the parser process spent encoding the rules, or 0 if not measured
+   * @param decodeNanos Time spent decoding the rules sent by the parser process, or 0 if not
+   *     measured
+   */
+  public static Finished finished(
+      Started started,
+      int rulesCount,
+      long processedBytes,
+      Optional<String> profile,
+      long encodeNanos,
+      long decodeNanos) {
+    return new Finished(started, rulesCount, processedBytes, profile, encodeNanos, decodeNanos);
   }
 
   /** The event raised when build file parsing is started */
@@ -104,14 +125,23 @@ public abstract class ParseBuckFileEvent extends AbstractBuckEvent implements Wo
     private final long processedBytes;
     private final Optional<String> profile;
     private final ParserKind parserKind;
+    private final long encodeNanos;
+    private final long decodeNanos;
 
     protected Finished(
-        Started started, int rulesCount, long processedBytes, Optional<String> profile) {
+        Started started,
+        int rulesCount,
+        long processedBytes,
+        Optional<String> profile,
+        long encodeNanos,
+        long decodeNanos) {
       super(started.getEventKey(), started.getBuckFilePath(), started.getParserClass());
       this.rulesCount = rulesCount;
       this.processedBytes = processedBytes;
       this.profile = profile;
       this.parserKind = started.getParserKind();
+      this.encodeNanos = encodeNanos;
+      this.decodeNanos = decodeNanos;
     }
 
     @Override
@@ -138,6 +168,16 @@ public abstract class ParseBuckFileEvent extends AbstractBuckEvent implements Wo
       return parserKind;
     }
 
+    /** @return Time the parser process spent encoding the rules, or 0 if not measured */
+    public long getEncodeNanos() {
+      return encodeNanos;
+    }
+
+    /** @return Time spent decoding the rules sent by the parser process, or 0 if not measured */
+    public long getDecodeNanos() {
+      return decodeNanos;
+    }
+
     @Override
     public boolean equals(Object o) {
       if (!super.equals(o)) {
@@ -105,6 +105,11 @@ public abstract class ProjectBuildFileParserOptions {
     return true;
   }
 
+  @Value.Default
+  public PythonDslProtocol getPythonDslProtocol() {
+    return PythonDslProtocol.JSON;
+  }
+
   public static Builder builder() {
     return new Builder();
   }
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.parser.options;
+
+/** The encoding of the requests and results exchanged with the Python DSL parser process. */
+public enum PythonDslProtocol {
+  /** Newline-delimited JSON requests, and a JSON object per result. */
+  JSON,
+  /**
+   * BSER requests, and a BSER PDU per target followed by one with the diagnostics, so targets can
+   * be decoded while the rest are still being encoded.
+   */
+  BSER,
+}
@@ -19,17 +19,29 @@ package com.facebook.buck.rules.keys;
 import com.facebook.buck.core.build.action.BuildEngineAction;
 import com.facebook.buck.core.rulekey.AddsToRuleKey;
 import com.facebook.buck.core.util.log.Logger;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.LoadingCache;
-import com.google.common.collect.ImmutableCollection;
-import java.util.concurrent.ConcurrentHashMap;
+import com.google.common.collect.ImmutableList;
 
 public final class AlterRuleKeys {
   private static final Logger LOG = Logger.get(AlterRuleKeys.class);
-  private static final LoadingCache<Class<?>, ImmutableCollection<AlterRuleKey>> cache =
-      CacheBuilder.newBuilder().build(new ReflectiveAlterKeyLoader());
-  private static final ConcurrentHashMap<Class<?>, String> pseudoNameCache =
-      new ConcurrentHashMap<>();
+  private static final ReflectiveAlterKeyLoader LOADER = new ReflectiveAlterKeyLoader();
+
+  /**
+   * Everything needed to add an instance of a class to a rule key, computed once per class. A
+   * {@link ClassValue} lookup is much cheaper than a cache keyed by class, and resolving the name
+   * here keeps the {@link Class#isAnonymousClass()} check (which parses the class name) off the
+   * hot path.
+   */
+  private static final ClassValue<ClassInfo> CLASS_INFO =
+      new ClassValue<ClassInfo>() {
+        @Override
+        protected ClassInfo computeValue(Class<?> clazz) {
+          String className = clazz.getName();
+          if (clazz.isAnonymousClass() || clazz.isSynthetic()) {
+            className = getPseudoClassName(clazz);
+          }
+          return new ClassInfo(className, LOADER.load(clazz));
+        }
+      };
 
   public static void amendKey(AbstractRuleKeyBuilder<?> sink, BuildEngineAction action) {
     amendKey(sink, (Object) action);
@@ -48,14 +60,12 @@ public final class AlterRuleKeys {
   }
 
   private static void amendKey(AbstractRuleKeyBuilder<?> sink, Object appendable) {
-    Class<?> clazz = appendable.getClass();
-    String className = clazz.getName();
-    if (clazz.isAnonymousClass() || clazz.isSynthetic()) {
-      className = pseudoNameCache.computeIfAbsent(clazz, AlterRuleKeys::getPseudoClassName);
-    }
-    sink.setReflectively(".class", className);
-    for (AlterRuleKey alterRuleKey : cache.getUnchecked(clazz)) {
-      alterRuleKey.amendKey(sink, appendable);
+    ClassInfo classInfo = CLASS_INFO.get(appendable.getClass());
+    sink.setReflectively(".class", classInfo.className);
+    ImmutableList<AlterRuleKey> alterRuleKeys = classInfo.alterRuleKeys;
+    // Indexed loop to avoid allocating an iterator for every object added to a rule key.
+    for (int i = 0; i < alterRuleKeys.size(); i++) {
+      alterRuleKeys.get(i).amendKey(sink, appendable);
     }
   }
 
@@ -75,4 +85,14 @@ public final class AlterRuleKeys {
         clazz.getName(), pseudoName);
     return pseudoName;
   }
+
+  private static class ClassInfo {
+    private final String className;
+    private final ImmutableList<AlterRuleKey> alterRuleKeys;
+
+    private ClassInfo(String className, ImmutableList<AlterRuleKey> alterRuleKeys) {
+      this.className = className;
+      this.alterRuleKeys = alterRuleKeys;
+    }
+  }
 }
@@ -28,11 +28,14 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -64,13 +67,16 @@ public class DefaultRuleKeyCache<V> implements TrackableRuleKeyCache<V> {
   private final ConcurrentHashMap<RuleKeyInput, Stream.Builder<Object>> inputsIndex =
       new ConcurrentHashMap<>();
 
-  private <K> V calculateNode(K node, Function<K, RuleKeyResult<V>> create) {
+  private <K> V calculateNode(
+      K node, Function<K, RuleKeyResult<V>> create, Node<Object, V> cacheNode) {
     Preconditions.checkArgument(
         node instanceof BuildEngineAction || node instanceof AddsToRuleKey,
         "%s must be one of either a `BuildEngineAction` or `AddsToRuleKey`",
         node.getClass());
 
     RuleKeyResult<V> result = create.apply(node);
+    cacheNode.deps = result.deps;
+    cacheNode.inputs = result.inputs;
     for (Object dependency : result.deps) {
       cache.compute(
           new IdentityWrapper<>(dependency),
@@ -109,7 +115,9 @@ public class DefaultRuleKeyCache<V> implements TrackableRuleKeyCache<V> {
                   }
                   if (value.value == null) {
                     request.recordMiss();
-                    value.value = MoreSuppliers.memoize(() -> calculateNode(node, create));
+                    Node<Object, V> cacheNode = value;
+                    value.value =
+                        MoreSuppliers.memoize(() -> calculateNode(node, create, cacheNode));
                     request.recordLoadSuccess();
                   } else {
                     request.recordHit();
@@ -250,6 +258,61 @@ public class DefaultRuleKeyCache<V> implements TrackableRuleKeyCache<V> {
     return builder.build();
   }
 
+  /**
+   * Returns every cached build rule along with the build rules and inputs its rule key was computed
+   * from. Dependencies on {@link AddsToRuleKey} values are flattened, so the result only refers to
+   * build rules and inputs.
+   */
+  @Override
+  public ImmutableList<Map.Entry<BuildRule, RuleKeyResult<V>>> getCachedBuildRuleResults() {
+    ImmutableList.Builder<Map.Entry<BuildRule, RuleKeyResult<V>>> builder =
+        ImmutableList.builder();
+    cache.forEach(
+        (key, value) -> {
+          if (!(key.delegate instanceof BuildRule)) {
+            return;
+          }
+          Supplier<V> supplier = value.value;
+          if (supplier == null || value.deps == null) {
+            return;
+          }
+          Set<BuildRule> deps = new LinkedHashSet<>();
+          Set<RuleKeyInput> inputs = new LinkedHashSet<>();
+          if (collectBuildRuleDependencies(value, deps, inputs)) {
+            builder.add(
+                new AbstractMap.SimpleEntry<>(
+                    (BuildRule) key.delegate,
+                    new RuleKeyResult<>(
+                        supplier.get(), ImmutableList.copyOf(deps), ImmutableList.copyOf(inputs))));
+          }
+        });
+    return builder.build();
+  }
+
+  /**
+   * Collects the build rules and inputs the given node depends on, looking through any {@link
+   * AddsToRuleKey} values in between.
+   *
+   * @return false if some of the dependencies have been invalidated in the meantime.
+   */
+  private boolean collectBuildRuleDependencies(
+      Node<Object, V> node, Set<BuildRule> deps, Set<RuleKeyInput> inputs) {
+    Iterables.addAll(inputs, Objects.requireNonNull(node.inputs));
+    for (Object dep : Objects.requireNonNull(node.deps)) {
+      if (dep instanceof BuildRule) {
+        deps.add((BuildRule) dep);
+        continue;
+      }
+      Node<Object, V> depNode = cache.get(new IdentityWrapper<>(dep));
+      if (depNode == null
+          || depNode.deps == null
+          || !collectBuildRuleDependencies(depNode, deps, inputs)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   private static final class Node<T, V> {
     /**
      * Accumulator of nodes that depends on this one. Used to invalidate those nodes when this node
@@ -267,6 +330,11 @@ public class DefaultRuleKeyCache<V> implements TrackableRuleKeyCache<V> {
      */
     @Nullable private volatile Supplier<V> value;
 
+    /** The dependencies and inputs the cached value was computed from, once it is computed. */
+    @Nullable private volatile Iterable<?> deps;
+
+    @Nullable private volatile Iterable<RuleKeyInput> inputs;
+
     public Node() {
       this.dependents = Stream.builder();
       this.value = null;
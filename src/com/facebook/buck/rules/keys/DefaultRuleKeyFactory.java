@@ -17,6 +17,7 @@
 package com.facebook.buck.rules.keys;
 
 import com.facebook.buck.core.build.action.BuildEngineAction;
+import com.facebook.buck.core.exceptions.BuckUncheckedExecutionException;
 import com.facebook.buck.core.rulekey.AddsToRuleKey;
 import com.facebook.buck.core.rulekey.RuleKey;
 import com.facebook.buck.core.rules.BuildRule;
@@ -27,13 +28,25 @@ import com.facebook.buck.core.sourcepath.BuildTargetSourcePath;
 import com.facebook.buck.core.sourcepath.PathSourcePath;
 import com.facebook.buck.core.sourcepath.SourcePath;
 import com.facebook.buck.log.thrift.ThriftRuleKeyLogger;
+import com.facebook.buck.rules.keys.RuleKeyScopedHasher.ContainerScope;
 import com.facebook.buck.rules.keys.hasher.RuleKeyHasher;
+import com.facebook.buck.rules.keys.hasher.RuleKeyHasher.Container;
+import com.facebook.buck.rules.keys.hasher.RuleKeyHasher.Wrapper;
+import com.facebook.buck.util.Scope;
 import com.facebook.buck.util.cache.NoOpCacheStatsTracker;
 import com.facebook.buck.util.hashing.FileHashLoader;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.hash.HashCode;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import javax.annotation.Nullable;
@@ -47,6 +60,13 @@ public class DefaultRuleKeyFactory implements RuleKeyFactoryWithDiagnostics<Rule
   private final RuleKeyCache<RuleKey> ruleKeyCache;
   private final Optional<ThriftRuleKeyLogger> ruleKeyLogger;
 
+  /**
+   * Fields walked by {@link #prefetchInputs}, by the action or appendable they were walked for.
+   * The next key built for it replays them instead of walking its fields again.
+   */
+  private final Map<Object, FieldsRecording> recordings =
+      Collections.synchronizedMap(new IdentityHashMap<>());
+
   public DefaultRuleKeyFactory(
       RuleKeyFieldLoader ruleKeyFieldLoader,
       FileHashLoader hashLoader,
@@ -117,17 +137,78 @@ public class DefaultRuleKeyFactory implements RuleKeyFactoryWithDiagnostics<Rule
   public RuleKey build(BuildEngineAction action) {
     return ruleKeyCache.get(
         action,
-        rule ->
-            newPopulatedBuilder(rule, RuleKeyBuilder.createDefaultHasher(ruleKeyLogger))
-                .buildResult(RuleKey::new));
+        rule -> {
+          FieldsRecording recording = recordings.remove(rule);
+          if (recording == null) {
+            return newPopulatedBuilder(rule, RuleKeyBuilder.createDefaultHasher(ruleKeyLogger))
+                .buildResult(RuleKey::new);
+          }
+          return buildFromRecording(recording);
+        });
+  }
+
+  /**
+   * Walks the fields of the action, and of the appendables it references, recording them for
+   * {@link #build} while collecting the files whose hashes it will read. Build rule and action deps
+   * are skipped since they contribute their keys rather than file hashes.
+   */
+  @Override
+  public void prefetchInputs(BuildEngineAction action) {
+    ImmutableList.Builder<Path> inputs = ImmutableList.builder();
+    FieldsRecorder recorder = new FieldsRecorder(inputs);
+    ruleKeyFieldLoader.setFields(recorder, action, RuleKeyType.DEFAULT);
+    if (action instanceof BuildRule) {
+      addDepsToRuleKey((BuildRule) action, recorder);
+    }
+    FieldsRecording actionRecording = recorder.build();
+
+    Deque<AddsToRuleKey> appendables = new ArrayDeque<>(actionRecording.getAppendables());
+    while (!appendables.isEmpty()) {
+      AddsToRuleKey appendable = appendables.pop();
+      if (recordings.containsKey(appendable)) {
+        continue;
+      }
+      FieldsRecorder appendableRecorder = new FieldsRecorder(inputs);
+      AlterRuleKeys.amendKey(appendableRecorder, appendable);
+      FieldsRecording appendableRecording = appendableRecorder.build();
+      recordings.putIfAbsent(appendable, appendableRecording);
+      appendables.addAll(appendableRecording.getAppendables());
+    }
+    recordings.put(action, actionRecording);
+
+    ImmutableList<Path> paths = inputs.build();
+    if (!paths.isEmpty()) {
+      hashLoader.prefetch(paths);
+    }
   }
 
   private RuleKey buildAppendableKey(AddsToRuleKey appendable) {
     return ruleKeyCache.get(
         appendable,
-        app ->
-            newPopulatedBuilder(app, RuleKeyBuilder.createDefaultHasher(ruleKeyLogger))
-                .buildResult(RuleKey::new));
+        app -> {
+          FieldsRecording recording = recordings.remove(app);
+          if (recording == null) {
+            return newPopulatedBuilder(app, RuleKeyBuilder.createDefaultHasher(ruleKeyLogger))
+                .buildResult(RuleKey::new);
+          }
+          return buildFromRecording(recording);
+        });
+  }
+
+  private RuleKeyResult<RuleKey> buildFromRecording(FieldsRecording recording) {
+    Builder<HashCode> builder = new Builder<>(RuleKeyBuilder.createDefaultHasher(ruleKeyLogger));
+    recording.replay(builder);
+    RuleKeyResult<RuleKey> result = builder.buildResult(RuleKey::new);
+    // Appendables whose keys were already cached weren't replayed, so drop their recordings (and
+    // those of the appendables they reference) rather than keeping them for the whole build.
+    Deque<AddsToRuleKey> appendables = new ArrayDeque<>(recording.getAppendables());
+    while (!appendables.isEmpty()) {
+      FieldsRecording unused = recordings.remove(appendables.pop());
+      if (unused != null) {
+        appendables.addAll(unused.getAppendables());
+      }
+    }
+    return result;
   }
 
   @Override
@@ -158,6 +239,223 @@ public class DefaultRuleKeyFactory implements RuleKeyFactoryWithDiagnostics<Rule
     }
   }
 
+  /** What {@link AbstractRuleKeyBuilder} passed to a {@link FieldsRecorder}, in order. */
+  private enum EventType {
+    KEY_SCOPE,
+    PATH_KEY_SCOPE,
+    WRAPPER_SCOPE,
+    CONTAINER_SCOPE,
+    ELEMENT_SCOPE,
+    CLOSE_SCOPE,
+    SINGLE_VALUE,
+    ACTION,
+    BUILD_RULE,
+    ADDS_TO_RULE_KEY,
+    SOURCE_PATH,
+    NON_HASHING_SOURCE_PATH,
+  }
+
+  private static final class Event {
+    private final EventType type;
+    @Nullable private final Object value;
+
+    private Event(EventType type, @Nullable Object value) {
+      this.type = type;
+      this.value = value;
+    }
+  }
+
+  /** The fields of an action or appendable, as walked by {@link AbstractRuleKeyBuilder}. */
+  private static final class FieldsRecording {
+    private final ImmutableList<Event> events;
+
+    private FieldsRecording(ImmutableList<Event> events) {
+      this.events = events;
+    }
+
+    private ImmutableList<AddsToRuleKey> getAppendables() {
+      ImmutableList.Builder<AddsToRuleKey> appendables = ImmutableList.builder();
+      for (Event event : events) {
+        if (event.type == EventType.ADDS_TO_RULE_KEY) {
+          appendables.add((AddsToRuleKey) Objects.requireNonNull(event.value));
+        }
+      }
+      return appendables.build();
+    }
+
+    /** Adds the recorded fields to {@code builder}, as if it had walked them itself. */
+    private void replay(Builder<?> builder) {
+      Deque<Scope> scopes = new ArrayDeque<>();
+      @Nullable String key = null;
+      for (Event event : events) {
+        Object value = event.value;
+        switch (event.type) {
+          case KEY_SCOPE:
+            key = (String) Objects.requireNonNull(value);
+            scopes.push(builder.scopedHasher.keyScope(key));
+            break;
+          case PATH_KEY_SCOPE:
+            key = String.valueOf(value);
+            scopes.push(builder.scopedHasher.pathKeyScope((Path) Objects.requireNonNull(value)));
+            break;
+          case WRAPPER_SCOPE:
+            scopes.push(builder.scopedHasher.wrapperScope((Wrapper) Objects.requireNonNull(value)));
+            break;
+          case CONTAINER_SCOPE:
+            scopes.push(
+                builder.scopedHasher.containerScope((Container) Objects.requireNonNull(value)));
+            break;
+          case ELEMENT_SCOPE:
+            scopes.push(((ContainerScope) Objects.requireNonNull(scopes.peek())).elementScope());
+            break;
+          case CLOSE_SCOPE:
+            scopes.pop().close();
+            break;
+          case SINGLE_VALUE:
+            builder.setSingleValue(value);
+            break;
+          case ACTION:
+            builder.setAction((Action) Objects.requireNonNull(value));
+            break;
+          case BUILD_RULE:
+            builder.setBuildRule((BuildRule) Objects.requireNonNull(value));
+            break;
+          case ADDS_TO_RULE_KEY:
+            builder.setAddsToRuleKey((AddsToRuleKey) Objects.requireNonNull(value));
+            break;
+          case SOURCE_PATH:
+            try {
+              builder.setSourcePath((SourcePath) Objects.requireNonNull(value));
+            } catch (IOException e) {
+              throw new BuckUncheckedExecutionException(e, "When adding %s", key);
+            }
+            break;
+          case NON_HASHING_SOURCE_PATH:
+            builder.setNonHashingSourcePath((SourcePath) Objects.requireNonNull(value));
+            break;
+        }
+      }
+      Preconditions.checkState(scopes.isEmpty());
+    }
+  }
+
+  /**
+   * Records the fields walked by {@link AbstractRuleKeyBuilder} without hashing anything, and
+   * collects the files whose hashes {@link Builder} would read for them. Appendables aren't walked
+   * into, as {@link Builder} adds their keys, which are recorded separately.
+   */
+  private static class FieldsRecorder extends AbstractRuleKeyBuilder<FieldsRecording> {
+
+    private final ImmutableList.Builder<Event> events;
+    private final ImmutableList.Builder<Path> inputs;
+
+    public FieldsRecorder(ImmutableList.Builder<Path> inputs) {
+      this(ImmutableList.builder(), inputs);
+    }
+
+    private FieldsRecorder(
+        ImmutableList.Builder<Event> events, ImmutableList.Builder<Path> inputs) {
+      super(new RecordingScopedHasher(events));
+      this.events = events;
+      this.inputs = inputs;
+    }
+
+    @Override
+    protected AbstractRuleKeyBuilder<FieldsRecording> setSingleValue(@Nullable Object val) {
+      events.add(new Event(EventType.SINGLE_VALUE, val));
+      return this;
+    }
+
+    @Override
+    protected AbstractRuleKeyBuilder<FieldsRecording> setAction(Action action) {
+      events.add(new Event(EventType.ACTION, action));
+      return this;
+    }
+
+    @Override
+    protected AbstractRuleKeyBuilder<FieldsRecording> setBuildRule(BuildRule rule) {
+      events.add(new Event(EventType.BUILD_RULE, rule));
+      return this;
+    }
+
+    @Override
+    protected AbstractRuleKeyBuilder<FieldsRecording> setAddsToRuleKey(AddsToRuleKey appendable) {
+      events.add(new Event(EventType.ADDS_TO_RULE_KEY, appendable));
+      return this;
+    }
+
+    @Override
+    protected AbstractRuleKeyBuilder<FieldsRecording> setSourcePath(SourcePath sourcePath) {
+      events.add(new Event(EventType.SOURCE_PATH, sourcePath));
+      addInput(sourcePath);
+      return this;
+    }
+
+    @Override
+    protected AbstractRuleKeyBuilder<FieldsRecording> setNonHashingSourcePath(
+        SourcePath sourcePath) {
+      events.add(new Event(EventType.NON_HASHING_SOURCE_PATH, sourcePath));
+      addInput(sourcePath);
+      return this;
+    }
+
+    private void addInput(SourcePath sourcePath) {
+      PathSourcePath.from(sourcePath)
+          .ifPresent(path -> inputs.add(path.getFilesystem().resolve(path.getRelativePath())));
+    }
+
+    @Override
+    public FieldsRecording build() {
+      return new FieldsRecording(events.build());
+    }
+  }
+
+  private static class RecordingScopedHasher implements RuleKeyScopedHasher {
+    private final ImmutableList.Builder<Event> events;
+    private final Scope closeScope;
+
+    private RecordingScopedHasher(ImmutableList.Builder<Event> events) {
+      this.events = events;
+      this.closeScope = () -> events.add(new Event(EventType.CLOSE_SCOPE, null));
+    }
+
+    private Scope open(EventType type, @Nullable Object value) {
+      events.add(new Event(type, value));
+      return closeScope;
+    }
+
+    @Override
+    public Scope keyScope(String key) {
+      return open(EventType.KEY_SCOPE, key);
+    }
+
+    @Override
+    public Scope pathKeyScope(Path key) {
+      return open(EventType.PATH_KEY_SCOPE, key);
+    }
+
+    @Override
+    public Scope wrapperScope(Wrapper wrapper) {
+      return open(EventType.WRAPPER_SCOPE, wrapper);
+    }
+
+    @Override
+    public ContainerScope containerScope(Container container) {
+      events.add(new Event(EventType.CONTAINER_SCOPE, container));
+      return new ContainerScope() {
+        @Override
+        public Scope elementScope() {
+          return open(EventType.ELEMENT_SCOPE, null);
+        }
+
+        @Override
+        public void close() {
+          closeScope.close();
+        }
+      };
+    }
+  }
+
   public class Builder<RULE_KEY> extends RuleKeyBuilder<RULE_KEY> {
 
     private final ImmutableList.Builder<Object> deps = ImmutableList.builder();
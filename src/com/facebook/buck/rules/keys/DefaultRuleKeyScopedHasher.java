@@ -20,6 +20,7 @@ import com.facebook.buck.rules.keys.hasher.CountingRuleKeyHasher;
 import com.facebook.buck.rules.keys.hasher.RuleKeyHasher;
 import com.facebook.buck.util.Scope;
 import java.nio.file.Path;
+import java.util.Arrays;
 
 /**
  * A wrapper of {@link RuleKeyHasher} that provides scoped hashing facilities.
@@ -31,6 +32,17 @@ import java.nio.file.Path;
 public class DefaultRuleKeyScopedHasher<HASH> implements RuleKeyScopedHasher {
   private final CountingRuleKeyHasher<HASH> hasher;
 
+  // Scopes are always closed in the reverse order they were opened (they're only used with
+  // try-with-resources), so rather than allocating a closure for every key, wrapper and element,
+  // their state lives on a stack and they're all closed by the same `Scope` instance.
+  private long[] scopeStartCounts = new long[16];
+  private Object[] scopeOwners = new Object[16];
+  private int scopeDepth = 0;
+  private final Scope popScope = this::popScope;
+
+  private DefaultContainerScope[] containerScopes = new DefaultContainerScope[8];
+  private int containerDepth = 0;
+
   DefaultRuleKeyScopedHasher(CountingRuleKeyHasher<HASH> hasher) {
     this.hasher = hasher;
   }
@@ -42,34 +54,19 @@ public class DefaultRuleKeyScopedHasher<HASH> implements RuleKeyScopedHasher {
   /** Hashes the key iff non-empty (i.e. if anything gets hashed during its scope). */
   @Override
   public Scope keyScope(String key) {
-    long hasherCount = hasher.getCount();
-    return () -> {
-      if (hasher.getCount() > hasherCount) {
-        hasher.putKey(key);
-      }
-    };
+    return pushScope(key);
   }
 
   /** Hashes the key iff non-empty (i.e. if anything gets hashed during its scope). */
   @Override
   public Scope pathKeyScope(Path key) {
-    long hasherCount = hasher.getCount();
-    return () -> {
-      if (hasher.getCount() > hasherCount) {
-        hasher.putKeyPath(key);
-      }
-    };
+    return pushScope(key);
   }
 
   /** Hashes the wrapper iff non-empty (i.e. if any element gets hashed during its scope). */
   @Override
   public Scope wrapperScope(RuleKeyHasher.Wrapper wrapper) {
-    long hasherCount = hasher.getCount();
-    return () -> {
-      if (hasher.getCount() > hasherCount) {
-        hasher.putWrapper(wrapper);
-      }
-    };
+    return pushScope(wrapper);
   }
 
   /**
@@ -79,36 +76,78 @@ public class DefaultRuleKeyScopedHasher<HASH> implements RuleKeyScopedHasher {
    */
   @Override
   public ContainerScope containerScope(RuleKeyHasher.Container container) {
-    return new DefaultContainerScope(hasher, container);
+    if (containerDepth == containerScopes.length) {
+      containerScopes = Arrays.copyOf(containerScopes, containerDepth * 2);
+    }
+    DefaultContainerScope scope = containerScopes[containerDepth];
+    if (scope == null) {
+      scope = new DefaultContainerScope(this, container);
+      containerScopes[containerDepth] = scope;
+    } else {
+      scope.container = container;
+      scope.elementCount = 0;
+    }
+    containerDepth++;
+    return scope;
+  }
+
+  /**
+   * Opens a scope whose {@code owner} (a key, path key, wrapper or container) gets hashed when the
+   * scope is closed, iff anything was hashed in between.
+   */
+  private Scope pushScope(Object owner) {
+    if (scopeDepth == scopeOwners.length) {
+      scopeOwners = Arrays.copyOf(scopeOwners, scopeDepth * 2);
+      scopeStartCounts = Arrays.copyOf(scopeStartCounts, scopeDepth * 2);
+    }
+    scopeStartCounts[scopeDepth] = hasher.getCount();
+    scopeOwners[scopeDepth] = owner;
+    scopeDepth++;
+    return popScope;
+  }
+
+  private void popScope() {
+    scopeDepth--;
+    Object owner = scopeOwners[scopeDepth];
+    scopeOwners[scopeDepth] = null;
+    if (hasher.getCount() <= scopeStartCounts[scopeDepth]) {
+      return;
+    }
+    if (owner instanceof String) {
+      hasher.putKey((String) owner);
+    } else if (owner instanceof Path) {
+      hasher.putKeyPath((Path) owner);
+    } else if (owner instanceof RuleKeyHasher.Wrapper) {
+      hasher.putWrapper((RuleKeyHasher.Wrapper) owner);
+    } else {
+      ((DefaultContainerScope) owner).elementCount++;
+    }
   }
 
+  /** A container scope, reused for every container opened at the same nesting depth. */
   public static class DefaultContainerScope implements ContainerScope {
-    private final CountingRuleKeyHasher<?> hasher;
-    private final RuleKeyHasher.Container container;
+    private final DefaultRuleKeyScopedHasher<?> scopedHasher;
+    private RuleKeyHasher.Container container;
     private int elementCount = 0;
 
     private DefaultContainerScope(
-        CountingRuleKeyHasher<?> hasher, RuleKeyHasher.Container container) {
-      this.hasher = hasher;
+        DefaultRuleKeyScopedHasher<?> scopedHasher, RuleKeyHasher.Container container) {
+      this.scopedHasher = scopedHasher;
       this.container = container;
     }
 
     /** Increases element count if anything gets hashed during the element scope. */
     @Override
     public Scope elementScope() {
-      long hasherCount = hasher.getCount();
-      return () -> {
-        if (hasher.getCount() > hasherCount) {
-          elementCount++;
-        }
-      };
+      return scopedHasher.pushScope(this);
     }
 
     /** Hashes the container iff non-empty (i.e. if any element gets hashed during this scope). */
     @Override
     public void close() {
+      scopedHasher.containerDepth--;
       if (elementCount > 0) {
-        hasher.putContainer(container, elementCount);
+        scopedHasher.hasher.putContainer(container, elementCount);
       }
     }
   }
@@ -0,0 +1,388 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.rules.keys;
+
+import com.facebook.buck.core.build.action.BuildEngineAction;
+import com.facebook.buck.core.rulekey.AddsToRuleKey;
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.facebook.buck.core.rules.BuildRule;
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.util.MoreSuppliers;
+import com.facebook.buck.util.cache.CacheStatsTracker;
+import com.facebook.buck.util.cache.ProjectFileHashCache;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.HashCode;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link TrackableRuleKeyCache} for default rule keys which survives daemon restarts.
+ *
+ * <p>Keys computed by the wrapped cache are written to a {@link RuleKeyCacheSnapshot} when the
+ * daemon shuts down. A new daemon lazily loads that snapshot and answers cache misses from it, as
+ * long as the key is still valid:
+ *
+ * <ul>
+ *   <li>the buck version and configuration of all cells are unchanged,
+ *   <li>every build file parsed by both daemons produced the same targets,
+ *   <li>all inputs of the rule, and of the rules it depends on, still have the same hashes.
+ * </ul>
+ *
+ * <p>The second check is the persistent counterpart of {@link RuleKeyCacheRecycler} only reusing
+ * its cache with the same action graph: if the parse results of all involved build files are
+ * unchanged, the rules are created from the same target nodes.
+ */
+public class PersistedRuleKeyCache implements TrackableRuleKeyCache<RuleKey> {
+
+  private static final Logger LOG = Logger.get(PersistedRuleKeyCache.class);
+
+  private final TrackableRuleKeyCache<RuleKey> delegate;
+  private final Path snapshotPath;
+  private final HashCode settingsFingerprint;
+  private final ImmutableMap<Path, ProjectFileHashCache> hashCachesByRoot;
+  private final Supplier<Optional<ImmutableMap<Path, HashCode>>> buildFileHashesSupplier;
+  private final Supplier<Optional<RuleKeyCacheSnapshot>> snapshot;
+
+  /** Whether the entries of the snapshot are still valid, keyed by build target. */
+  private final ConcurrentMap<String, Boolean> validatedEntries = new ConcurrentHashMap<>();
+
+  /**
+   * Hashes of the build files the rules in the wrapped cache were created from, captured the first
+   * time the cache is used after being invalidated. Any file change may be a change to a build
+   * file, which makes the daemon create new rules, so they are captured again after every change.
+   */
+  @Nullable private volatile Optional<ImmutableMap<Path, HashCode>> buildFileHashes = null;
+
+  @Nullable private volatile Boolean buildFilesUnchanged = null;
+
+  /**
+   * @param delegate the cache holding the keys computed or reused by this daemon.
+   * @param snapshotPath where the snapshot is read from and written to.
+   * @param settingsFingerprint a hash of all settings which, if changed, invalidate every key.
+   * @param watchedHashCaches file hash caches which are kept up to date by watchman. Only keys for
+   *     which all inputs come from these caches are persisted.
+   * @param buildFileHashesSupplier provides the hashes of the parse results of all build files
+   *     currently known to the parser, or nothing if they can't be hashed.
+   */
+  public PersistedRuleKeyCache(
+      TrackableRuleKeyCache<RuleKey> delegate,
+      Path snapshotPath,
+      HashCode settingsFingerprint,
+      ImmutableList<? extends ProjectFileHashCache> watchedHashCaches,
+      Supplier<Optional<ImmutableMap<Path, HashCode>>> buildFileHashesSupplier) {
+    this.delegate = delegate;
+    this.snapshotPath = snapshotPath;
+    this.settingsFingerprint = settingsFingerprint;
+    ImmutableMap.Builder<Path, ProjectFileHashCache> hashCachesByRoot = ImmutableMap.builder();
+    for (ProjectFileHashCache hashCache : watchedHashCaches) {
+      hashCachesByRoot.put(hashCache.getFilesystem().getRootPath().getPath(), hashCache);
+    }
+    this.hashCachesByRoot = hashCachesByRoot.build();
+    this.buildFileHashesSupplier = buildFileHashesSupplier;
+    this.snapshot = MoreSuppliers.memoize(this::loadSnapshot);
+  }
+
+  private Optional<RuleKeyCacheSnapshot> loadSnapshot() {
+    if (!Files.exists(snapshotPath)) {
+      return Optional.empty();
+    }
+    RuleKeyCacheSnapshot loaded;
+    try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(snapshotPath))) {
+      loaded = RuleKeyCacheSnapshot.readFrom(inputStream);
+    } catch (IOException e) {
+      LOG.warn(e, "Failed to load rule key cache snapshot from %s", snapshotPath);
+      return Optional.empty();
+    }
+    if (!loaded.getSettingsFingerprint().equals(settingsFingerprint)) {
+      LOG.debug("Ignoring rule key cache snapshot due to settings change");
+      return Optional.empty();
+    }
+    LOG.debug("Loaded %d rule keys from %s", loaded.getEntries().size(), snapshotPath);
+    return Optional.of(loaded);
+  }
+
+  private Optional<ImmutableMap<Path, HashCode>> getBuildFileHashes() {
+    Optional<ImmutableMap<Path, HashCode>> hashes = buildFileHashes;
+    if (hashes == null) {
+      hashes = buildFileHashesSupplier.get();
+      buildFileHashes = hashes;
+    }
+    return hashes;
+  }
+
+  private boolean areBuildFilesUnchanged(RuleKeyCacheSnapshot snapshot) {
+    Boolean unchanged = buildFilesUnchanged;
+    if (unchanged == null) {
+      unchanged =
+          getBuildFileHashes()
+              .map(
+                  current ->
+                      current.entrySet().stream()
+                          .allMatch(
+                              entry -> {
+                                HashCode previous =
+                                    snapshot.getBuildFileHashes().get(entry.getKey());
+                                return previous == null || previous.equals(entry.getValue());
+                              }))
+              .orElse(false);
+      buildFilesUnchanged = unchanged;
+    }
+    return unchanged;
+  }
+
+  /**
+   * Validates the entry of {@code target} and of everything it depends on. The deps are validated
+   * before their dependents without recursing, as dependency chains can be very deep.
+   */
+  private boolean isValid(RuleKeyCacheSnapshot snapshot, String target) {
+    Deque<String> stack = new ArrayDeque<>();
+    Set<String> expanded = new HashSet<>();
+    stack.push(target);
+    while (!stack.isEmpty()) {
+      String current = stack.peek();
+      if (validatedEntries.containsKey(current)) {
+        stack.pop();
+        continue;
+      }
+      RuleKeyCacheSnapshot.Entry entry = snapshot.getEntries().get(current);
+      if (expanded.add(current)) {
+        if (entry == null || !areInputsUnchanged(entry)) {
+          validatedEntries.put(current, false);
+          stack.pop();
+        } else {
+          for (String dep : entry.getDeps()) {
+            if (!validatedEntries.containsKey(dep)) {
+              stack.push(dep);
+            }
+          }
+        }
+        continue;
+      }
+      stack.pop();
+      boolean valid = true;
+      for (String dep : Objects.requireNonNull(entry).getDeps()) {
+        valid &= validatedEntries.getOrDefault(dep, false);
+      }
+      validatedEntries.put(current, valid);
+    }
+    return validatedEntries.getOrDefault(target, false);
+  }
+
+  private boolean areInputsUnchanged(RuleKeyCacheSnapshot.Entry entry) {
+    for (RuleKeyCacheSnapshot.Input input : entry.getInputs()) {
+      ProjectFileHashCache hashCache = hashCachesByRoot.get(input.getFilesystemRoot());
+      if (hashCache == null) {
+        return false;
+      }
+      try {
+        if (!hashCache.get(input.getPath()).equals(input.getHashCode())) {
+          return false;
+        }
+      } catch (IOException e) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private Optional<RuleKeyResult<RuleKey>> lookupPersisted(BuildEngineAction action) {
+    // Capture the build files the rules are created from even if there is nothing to reuse, as
+    // they are needed to write the next snapshot.
+    getBuildFileHashes();
+    Optional<RuleKeyCacheSnapshot> loaded = snapshot.get();
+    if (!loaded.isPresent() || !(action instanceof BuildRule)) {
+      return Optional.empty();
+    }
+    BuildRule rule = (BuildRule) action;
+    String target = rule.getBuildTarget().toStringWithConfiguration();
+    RuleKeyCacheSnapshot.Entry entry = loaded.get().getEntries().get(target);
+    if (entry == null || !areBuildFilesUnchanged(loaded.get()) || !isValid(loaded.get(), target)) {
+      return Optional.empty();
+    }
+
+    Map<String, BuildRule> buildDeps = new HashMap<>();
+    for (BuildRule dep : rule.getBuildDeps()) {
+      buildDeps.put(dep.getBuildTarget().toStringWithConfiguration(), dep);
+    }
+    ImmutableList.Builder<BuildRule> deps = ImmutableList.builder();
+    for (String dep : entry.getDeps()) {
+      BuildRule depRule = buildDeps.get(dep);
+      if (depRule == null) {
+        return Optional.empty();
+      }
+      deps.add(depRule);
+    }
+    ImmutableList.Builder<RuleKeyInput> inputs = ImmutableList.builder();
+    for (RuleKeyCacheSnapshot.Input input : entry.getInputs()) {
+      ProjectFilesystem filesystem =
+          Objects.requireNonNull(hashCachesByRoot.get(input.getFilesystemRoot())).getFilesystem();
+      inputs.add(ImmutableRuleKeyInput.of(filesystem, input.getPath()));
+    }
+    return Optional.of(new RuleKeyResult<>(entry.getRuleKey(), deps.build(), inputs.build()));
+  }
+
+  @Nullable
+  @Override
+  public RuleKey get(BuildEngineAction action, CacheStatsTracker statsTracker) {
+    return delegate.get(action, statsTracker);
+  }
+
+  @Override
+  public RuleKey get(
+      BuildEngineAction rule,
+      Function<? super BuildEngineAction, RuleKeyResult<RuleKey>> create,
+      CacheStatsTracker statsTracker) {
+    return delegate.get(
+        rule,
+        action -> lookupPersisted(action).orElseGet(() -> create.apply(action)),
+        statsTracker);
+  }
+
+  @Override
+  public RuleKey get(
+      AddsToRuleKey appendable,
+      Function<? super AddsToRuleKey, RuleKeyResult<RuleKey>> create,
+      CacheStatsTracker statsTracker) {
+    return delegate.get(appendable, create, statsTracker);
+  }
+
+  @Override
+  public void invalidateInputs(Iterable<RuleKeyInput> inputs, CacheStatsTracker statsTracker) {
+    validatedEntries.clear();
+    invalidateBuildFileHashes();
+    delegate.invalidateInputs(inputs, statsTracker);
+  }
+
+  @Override
+  public void invalidateAllExceptFilesystems(
+      ImmutableSet<ProjectFilesystem> filesystems, CacheStatsTracker statsTracker) {
+    validatedEntries.clear();
+    delegate.invalidateAllExceptFilesystems(filesystems, statsTracker);
+  }
+
+  @Override
+  public void invalidateFilesystem(ProjectFilesystem filesystem, CacheStatsTracker statsTracker) {
+    validatedEntries.clear();
+    invalidateBuildFileHashes();
+    delegate.invalidateFilesystem(filesystem, statsTracker);
+  }
+
+  @Override
+  public void invalidateAll(CacheStatsTracker statsTracker) {
+    validatedEntries.clear();
+    invalidateBuildFileHashes();
+    delegate.invalidateAll(statsTracker);
+  }
+
+  private void invalidateBuildFileHashes() {
+    buildFileHashes = null;
+    buildFilesUnchanged = null;
+  }
+
+  @Override
+  public ImmutableList<Map.Entry<BuildRule, RuleKey>> getCachedBuildRules() {
+    return delegate.getCachedBuildRules();
+  }
+
+  @Override
+  public ImmutableList<Map.Entry<BuildRule, RuleKeyResult<RuleKey>>> getCachedBuildRuleResults() {
+    return delegate.getCachedBuildRuleResults();
+  }
+
+  /**
+   * Writes all keys currently held by the wrapped cache to the snapshot file, replacing any
+   * previous snapshot. Keys depending on files which aren't watched are left out.
+   */
+  public void writeSnapshot() throws IOException {
+    Optional<ImmutableMap<Path, HashCode>> hashes = buildFileHashes;
+    if (hashes == null || !hashes.isPresent()) {
+      Files.deleteIfExists(snapshotPath);
+      return;
+    }
+
+    ImmutableMap.Builder<String, RuleKeyCacheSnapshot.Entry> entries = ImmutableMap.builder();
+    for (Map.Entry<BuildRule, RuleKeyResult<RuleKey>> cached :
+        delegate.getCachedBuildRuleResults()) {
+      toSnapshotEntry(cached.getValue())
+          .ifPresent(
+              entry ->
+                  entries.put(cached.getKey().getBuildTarget().toStringWithConfiguration(), entry));
+    }
+    RuleKeyCacheSnapshot snapshotToWrite =
+        new RuleKeyCacheSnapshot(settingsFingerprint, hashes.get(), entries.build());
+
+    Files.createDirectories(snapshotPath.getParent());
+    Path tempPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+    try {
+      try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(tempPath))) {
+        snapshotToWrite.writeTo(outputStream);
+      }
+      Files.move(
+          tempPath,
+          snapshotPath,
+          StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tempPath);
+    }
+    LOG.debug("Wrote %d rule keys to %s", snapshotToWrite.getEntries().size(), snapshotPath);
+  }
+
+  private Optional<RuleKeyCacheSnapshot.Entry> toSnapshotEntry(RuleKeyResult<RuleKey> result) {
+    ImmutableList.Builder<String> deps = ImmutableList.builder();
+    for (Object dep : result.deps) {
+      deps.add(((BuildRule) dep).getBuildTarget().toStringWithConfiguration());
+    }
+    ImmutableList.Builder<RuleKeyCacheSnapshot.Input> inputs = ImmutableList.builder();
+    for (RuleKeyInput input : result.inputs) {
+      Path root = input.getFilesystem().getRootPath().getPath();
+      ProjectFileHashCache hashCache = hashCachesByRoot.get(root);
+      if (hashCache == null || !hashCache.willGet(input.getPath())) {
+        return Optional.empty();
+      }
+      try {
+        inputs.add(
+            new RuleKeyCacheSnapshot.Input(root, input.getPath(), hashCache.get(input.getPath())));
+      } catch (IOException e) {
+        return Optional.empty();
+      }
+    }
+    return Optional.of(new RuleKeyCacheSnapshot.Entry(result.result, deps.build(), inputs.build()));
+  }
+}
@@ -28,8 +28,6 @@ import com.facebook.buck.core.util.immutables.BuckStyleValue;
 import com.facebook.buck.core.util.immutables.BuckStyleValueWithBuilder;
 import com.facebook.buck.core.util.immutables.RuleArg;
 import com.google.common.base.Preconditions;
-import com.google.common.cache.CacheLoader;
-import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSortedMap;
 import java.lang.reflect.Field;
@@ -43,7 +41,7 @@ import java.util.List;
 import java.util.Queue;
 import java.util.stream.Stream;
 
-class ReflectiveAlterKeyLoader extends CacheLoader<Class<?>, ImmutableCollection<AlterRuleKey>> {
+class ReflectiveAlterKeyLoader {
   private static final Comparator<ValueExtractor> COMPARATOR =
       (o1, o2) -> {
         String name1 = o1.getFullyQualifiedName();
@@ -51,9 +49,8 @@ class ReflectiveAlterKeyLoader extends CacheLoader<Class<?>, ImmutableCollection
         return name1.compareTo(name2);
       };
 
-  @Override
   @SuppressWarnings("unchecked")
-  public ImmutableCollection<AlterRuleKey> load(Class<?> key) {
+  public ImmutableList<AlterRuleKey> load(Class<?> key) {
     ImmutableList.Builder<AlterRuleKey> builder = ImmutableList.builder();
     List<Class<?>> superClasses = new ArrayList<>();
 
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.rules.keys;
+
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.HashCode;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Default rule keys computed by a daemon, along with everything needed to decide whether they are
+ * still valid in a later process: the inputs and file hashes each key was computed from, the rules
+ * it depends on, and hashes of the parse results of the build files the rules were created from.
+ *
+ * <p>The snapshot is stored in a compact binary format where every string is written once into a
+ * string table and referred to by index afterwards.
+ */
+public class RuleKeyCacheSnapshot {
+
+  private static final int MAGIC = 0x524b4353;
+  private static final int FORMAT_VERSION = 1;
+
+  private final HashCode settingsFingerprint;
+  private final ImmutableMap<String, Entry> entries;
+  private final ImmutableMap<Path, HashCode> buildFileHashes;
+
+  public RuleKeyCacheSnapshot(
+      HashCode settingsFingerprint,
+      ImmutableMap<Path, HashCode> buildFileHashes,
+      ImmutableMap<String, Entry> entries) {
+    this.settingsFingerprint = settingsFingerprint;
+    this.buildFileHashes = buildFileHashes;
+    this.entries = entries;
+  }
+
+  /** @return a fingerprint of all settings which, if changed, invalidate the whole snapshot. */
+  public HashCode getSettingsFingerprint() {
+    return settingsFingerprint;
+  }
+
+  /** @return the snapshot entries keyed by the string form of their build targets. */
+  public ImmutableMap<String, Entry> getEntries() {
+    return entries;
+  }
+
+  /** @return hashes of the parse results of all build files known when the snapshot was taken. */
+  public ImmutableMap<Path, HashCode> getBuildFileHashes() {
+    return buildFileHashes;
+  }
+
+  /** The rule key of a single build rule. */
+  public static class Entry {
+    private final RuleKey ruleKey;
+    private final ImmutableList<String> deps;
+    private final ImmutableList<Input> inputs;
+
+    public Entry(RuleKey ruleKey, ImmutableList<String> deps, ImmutableList<Input> inputs) {
+      this.ruleKey = ruleKey;
+      this.deps = deps;
+      this.inputs = inputs;
+    }
+
+    public RuleKey getRuleKey() {
+      return ruleKey;
+    }
+
+    /** @return the build targets of the rules whose rule keys this rule key was computed from. */
+    public ImmutableList<String> getDeps() {
+      return deps;
+    }
+
+    public ImmutableList<Input> getInputs() {
+      return inputs;
+    }
+  }
+
+  /** A file the rule key was computed from, and its hash at the time. */
+  public static class Input {
+    private final Path filesystemRoot;
+    private final Path path;
+    private final HashCode hashCode;
+
+    public Input(Path filesystemRoot, Path path, HashCode hashCode) {
+      this.filesystemRoot = filesystemRoot;
+      this.path = path;
+      this.hashCode = hashCode;
+    }
+
+    public Path getFilesystemRoot() {
+      return filesystemRoot;
+    }
+
+    /** @return the path of the input, relative to its filesystem root. */
+    public Path getPath() {
+      return path;
+    }
+
+    public HashCode getHashCode() {
+      return hashCode;
+    }
+  }
+
+  /** Writes this snapshot to the given stream. */
+  public void writeTo(OutputStream outputStream) throws IOException {
+    StringTable strings = new StringTable();
+    buildFileHashes.keySet().forEach(path -> strings.add(path.toString()));
+    for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+      strings.add(entry.getKey());
+      entry.getValue().deps.forEach(strings::add);
+      for (Input input : entry.getValue().inputs) {
+        strings.add(input.filesystemRoot.toString());
+        strings.add(input.path.toString());
+      }
+    }
+
+    DataOutputStream out = new DataOutputStream(outputStream);
+    out.writeInt(MAGIC);
+    out.writeInt(FORMAT_VERSION);
+    writeBytes(out, settingsFingerprint.asBytes());
+
+    out.writeInt(strings.values.size());
+    for (String value : strings.values) {
+      out.writeUTF(value);
+    }
+
+    out.writeInt(buildFileHashes.size());
+    for (Map.Entry<Path, HashCode> buildFile : buildFileHashes.entrySet()) {
+      out.writeInt(strings.indexOf(buildFile.getKey().toString()));
+      writeBytes(out, buildFile.getValue().asBytes());
+    }
+
+    out.writeInt(entries.size());
+    for (Map.Entry<String, Entry> mapEntry : entries.entrySet()) {
+      Entry entry = mapEntry.getValue();
+      out.writeInt(strings.indexOf(mapEntry.getKey()));
+      writeBytes(out, entry.ruleKey.getHashCode().asBytes());
+      out.writeInt(entry.deps.size());
+      for (String dep : entry.deps) {
+        out.writeInt(strings.indexOf(dep));
+      }
+      out.writeInt(entry.inputs.size());
+      for (Input input : entry.inputs) {
+        out.writeInt(strings.indexOf(input.filesystemRoot.toString()));
+        out.writeInt(strings.indexOf(input.path.toString()));
+        writeBytes(out, input.hashCode.asBytes());
+      }
+    }
+    out.flush();
+  }
+
+  /**
+   * Reads a snapshot previously written by {@link #writeTo(OutputStream)}.
+   *
+   * @throws IOException if the stream is not a snapshot in the current format.
+   */
+  public static RuleKeyCacheSnapshot readFrom(InputStream inputStream) throws IOException {
+    DataInputStream in = new DataInputStream(inputStream);
+    if (in.readInt() != MAGIC) {
+      throw new IOException("Not a rule key cache snapshot.");
+    }
+    int version = in.readInt();
+    if (version != FORMAT_VERSION) {
+      throw new IOException(
+          String.format("Unsupported rule key cache snapshot version %d.", version));
+    }
+    HashCode settingsFingerprint = HashCode.fromBytes(readBytes(in));
+
+    int stringCount = in.readInt();
+    List<String> strings = new ArrayList<>(stringCount);
+    for (int i = 0; i < stringCount; i++) {
+      strings.add(in.readUTF());
+    }
+
+    int buildFileCount = in.readInt();
+    ImmutableMap.Builder<Path, HashCode> buildFileHashes =
+        ImmutableMap.builderWithExpectedSize(buildFileCount);
+    for (int i = 0; i < buildFileCount; i++) {
+      buildFileHashes.put(Paths.get(strings.get(in.readInt())), HashCode.fromBytes(readBytes(in)));
+    }
+
+    int entryCount = in.readInt();
+    ImmutableMap.Builder<String, Entry> entries = ImmutableMap.builderWithExpectedSize(entryCount);
+    for (int i = 0; i < entryCount; i++) {
+      String target = strings.get(in.readInt());
+      RuleKey ruleKey = new RuleKey(HashCode.fromBytes(readBytes(in)));
+      int depCount = in.readInt();
+      ImmutableList.Builder<String> deps = ImmutableList.builderWithExpectedSize(depCount);
+      for (int j = 0; j < depCount; j++) {
+        deps.add(strings.get(in.readInt()));
+      }
+      int inputCount = in.readInt();
+      ImmutableList.Builder<Input> inputs = ImmutableList.builderWithExpectedSize(inputCount);
+      for (int j = 0; j < inputCount; j++) {
+        Path filesystemRoot = Paths.get(strings.get(in.readInt()));
+        Path path = Paths.get(strings.get(in.readInt()));
+        inputs.add(new Input(filesystemRoot, path, HashCode.fromBytes(readBytes(in))));
+      }
+      entries.put(target, new Entry(ruleKey, deps.build(), inputs.build()));
+    }
+
+    return new RuleKeyCacheSnapshot(
+        settingsFingerprint, buildFileHashes.build(), entries.build());
+  }
+
+  private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+    out.writeByte(bytes.length);
+    out.write(bytes);
+  }
+
+  private static byte[] readBytes(DataInputStream in) throws IOException {
+    byte[] bytes = new byte[in.readUnsignedByte()];
+    in.readFully(bytes);
+    return bytes;
+  }
+
+  private static class StringTable {
+    private final List<String> values = new ArrayList<>();
+    private final Map<String, Integer> indices = new HashMap<>();
+
+    void add(String value) {
+      indices.computeIfAbsent(
+          value,
+          key -> {
+            values.add(key);
+            return values.size() - 1;
+          });
+    }
+
+    int indexOf(String value) {
+      return indices.get(value);
+    }
+  }
+}
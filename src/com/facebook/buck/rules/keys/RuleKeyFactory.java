@@ -43,6 +43,14 @@ public interface RuleKeyFactory<RULE_KEY> {
     return null;
   }
 
+  /**
+   * Hints that {@link #build} will soon be called for the given {@link BuildEngineAction}, so that
+   * the hashes of the files it reads directly can be loaded ahead of time (e.g. while the keys of
+   * its dependencies are still being computed). This never affects the resulting key.
+   */
+  @SuppressWarnings("unused")
+  default void prefetchInputs(BuildEngineAction action) {}
+
   default Optional<Long> getInputSizeLimit() {
     return Optional.empty();
   }
@@ -57,4 +57,10 @@ public interface TrackableRuleKeyCache<V> {
   void invalidateAll(CacheStatsTracker statsTracker);
 
   ImmutableList<Map.Entry<BuildRule, V>> getCachedBuildRules();
+
+  /**
+   * @return every cached build rule along with the build rules and inputs its value was computed
+   *     from.
+   */
+  ImmutableList<Map.Entry<BuildRule, RuleKeyResult<V>>> getCachedBuildRuleResults();
 }
@@ -26,6 +26,8 @@ import javax.annotation.Nullable;
 public class ValueMethodValueExtractor implements ValueExtractor {
   private static final Pattern GET_PATTERN = Pattern.compile("get[A-Z].*");
   private static final Pattern IS_PATTERN = Pattern.compile("is[A-Z].*");
+  // Passed explicitly so that each call doesn't allocate an empty varargs array.
+  private static final Object[] NO_ARGS = new Object[0];
 
   private final Method method;
   private final String name;
@@ -64,7 +66,7 @@ public class ValueMethodValueExtractor implements ValueExtractor {
   @Nullable
   public Object getValue(Object obj) {
     try {
-      return method.invoke(obj);
+      return method.invoke(obj, NO_ARGS);
     } catch (IllegalAccessException | InvocationTargetException e) {
       throw new RuntimeException(e);
     }
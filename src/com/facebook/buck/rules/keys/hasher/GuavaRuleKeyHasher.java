@@ -26,7 +26,6 @@ import com.facebook.buck.io.file.FastPaths;
 import com.facebook.buck.util.sha1.Sha1HashCode;
 import com.google.common.hash.HashCode;
 import com.google.common.hash.Hasher;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.regex.Pattern;
 
@@ -35,19 +34,77 @@ public class GuavaRuleKeyHasher implements RuleKeyHasher<HashCode> {
 
   private final Hasher hasher;
 
+  /**
+   * Scratch space for encoding strings and copying hashes, so that feeding them to {@link #hasher}
+   * doesn't allocate a fresh array each time. Grown on demand; a hasher is only ever used by one
+   * thread.
+   */
+  private byte[] scratch = new byte[256];
+
   public GuavaRuleKeyHasher(Hasher hasher) {
     this.hasher = hasher;
   }
 
   private GuavaRuleKeyHasher putBytes(byte type, byte[] bytes) {
-    hasher.putBytes(bytes);
-    hasher.putInt(bytes.length);
+    return putBytes(type, bytes, bytes.length);
+  }
+
+  private GuavaRuleKeyHasher putBytes(byte type, byte[] bytes, int length) {
+    hasher.putBytes(bytes, 0, length);
+    hasher.putInt(length);
     hasher.putByte(type);
     return this;
   }
 
+  private GuavaRuleKeyHasher putHashCode(byte type, HashCode hash) {
+    int length = hash.bits() / Byte.SIZE;
+    byte[] buffer = scratch(length);
+    hash.writeBytesTo(buffer, 0, length);
+    return putBytes(type, buffer, length);
+  }
+
+  /**
+   * Feeds the UTF-8 encoding of {@code val}, as produced by {@code val.getBytes(UTF_8)}, without
+   * materializing it as a new array.
+   */
   private GuavaRuleKeyHasher putStringified(byte type, String val) {
-    return putBytes(type, val.getBytes(StandardCharsets.UTF_8));
+    int length = val.length();
+    // Worst case is 3 bytes per char (a surrogate pair takes 4 bytes for 2 chars).
+    byte[] buffer = scratch(length * 3);
+    int pos = 0;
+    for (int i = 0; i < length; i++) {
+      char c = val.charAt(i);
+      if (c < 0x80) {
+        buffer[pos++] = (byte) c;
+      } else if (c < 0x800) {
+        buffer[pos++] = (byte) (0xc0 | (c >> 6));
+        buffer[pos++] = (byte) (0x80 | (c & 0x3f));
+      } else if (Character.isSurrogate(c)) {
+        int codePoint = Character.codePointAt(val, i);
+        if (codePoint == c) {
+          // An unpaired surrogate, which String.getBytes() replaces with '?'.
+          buffer[pos++] = (byte) '?';
+        } else {
+          buffer[pos++] = (byte) (0xf0 | (codePoint >> 18));
+          buffer[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+          buffer[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+          buffer[pos++] = (byte) (0x80 | (codePoint & 0x3f));
+          i++;
+        }
+      } else {
+        buffer[pos++] = (byte) (0xe0 | (c >> 12));
+        buffer[pos++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+        buffer[pos++] = (byte) (0x80 | (c & 0x3f));
+      }
+    }
+    return putBytes(type, buffer, pos);
+  }
+
+  private byte[] scratch(int minLength) {
+    if (scratch.length < minLength) {
+      scratch = new byte[Math.max(minLength, scratch.length * 2)];
+    }
+    return scratch;
   }
 
   private GuavaRuleKeyHasher putPathFast(byte type, Path path) {
@@ -139,7 +196,7 @@ public class GuavaRuleKeyHasher implements RuleKeyHasher<HashCode> {
   @Override
   public GuavaRuleKeyHasher putPath(Path path, HashCode hash) {
     this.putPathFast(RuleKeyHasherTypes.PATH, path);
-    this.putBytes(RuleKeyHasherTypes.PATH, hash.asBytes());
+    this.putHashCode(RuleKeyHasherTypes.PATH, hash);
     return this;
   }
 
@@ -148,7 +205,7 @@ public class GuavaRuleKeyHasher implements RuleKeyHasher<HashCode> {
       Path relativeArchivePath, Path archiveMemberPath, HashCode hash) {
     putPathFast(RuleKeyHasherTypes.ARCHIVE_MEMBER_PATH, relativeArchivePath);
     putPathFast(RuleKeyHasherTypes.ARCHIVE_MEMBER_PATH, archiveMemberPath);
-    this.putBytes(RuleKeyHasherTypes.ARCHIVE_MEMBER_PATH, hash.asBytes());
+    this.putHashCode(RuleKeyHasherTypes.ARCHIVE_MEMBER_PATH, hash);
     return this;
   }
 
@@ -159,7 +216,7 @@ public class GuavaRuleKeyHasher implements RuleKeyHasher<HashCode> {
 
   @Override
   public GuavaRuleKeyHasher putRuleKey(RuleKey ruleKey) {
-    return this.putBytes(RuleKeyHasherTypes.RULE_KEY, ruleKey.getHashCode().asBytes());
+    return this.putHashCode(RuleKeyHasherTypes.RULE_KEY, ruleKey.getHashCode());
   }
 
   @Override
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.skylark.io.impl;
+
+import com.facebook.buck.core.filesystems.AbsPath;
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.io.pathformat.PathFormatter;
+import com.facebook.buck.skylark.io.GlobSpec;
+import com.facebook.buck.skylark.io.Globber;
+import com.facebook.buck.skylark.io.GlobberFactory;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.devtools.build.lib.vfs.UnixGlob;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Keeps the results of {@code glob} invocations for as long as the daemon runs, so that packages
+ * that are parsed again don't have to query Watchman or walk the file system for globs whose
+ * results can't have changed.
+ *
+ * <p>Results are kept per package directory and {@link GlobSpec}, and are evicted when Watchman
+ * reports that a path they could match was added or removed. Like the rest of the daemon's parser
+ * state, this relies on Watchman events being processed before build files are parsed, so it must
+ * not be used without Watchman.
+ *
+ * <p>The cache also tracks whether it holds every glob performed by the last parse of a package,
+ * which tells the packages whose glob results may have changed apart from those that are not
+ * affected by an added file.
+ */
+@ThreadSafe
+public class GlobResultCache {
+  private static final Logger LOG = Logger.get(GlobResultCache.class);
+
+  /** Package directory to the globs performed in it. */
+  @GuardedBy("this")
+  private final Map<String, PackageGlobs> packages = new HashMap<>();
+
+  /** Incremented on every invalidation, to avoid caching results computed concurrently. */
+  @GuardedBy("this")
+  private long generation;
+
+  /** Globs performed in a single package. */
+  private static class PackageGlobs {
+    private final Map<GlobSpec, ImmutableSet<String>> results = new HashMap<>();
+
+    /** Whether {@link #results} includes all globs performed by the last parse of the package. */
+    private boolean complete;
+  }
+
+  /**
+   * @return a factory for globbers that answer from this cache and only use globbers created by
+   *     {@code delegate} for globs that are not cached.
+   */
+  public GlobberFactory wrap(GlobberFactory delegate) {
+    return basePath -> {
+      String packageDirectory = basePath.getPathString();
+      synchronized (this) {
+        // Every parse of a package performs all of its globs through a new globber, so once it is
+        // done the cache knows about every glob that the package's manifest depends on.
+        packages.computeIfAbsent(packageDirectory, d -> new PackageGlobs()).complete = true;
+      }
+      return new CachedGlobber(
+          packageDirectory, Suppliers.memoize(() -> delegate.create(basePath)));
+    };
+  }
+
+  /**
+   * Evicts the glob results that may change because {@code path} was added or removed. Packages
+   * that performed such globs are no longer reported by {@link #hasAllGlobsOf(AbsPath)}.
+   */
+  public synchronized void invalidatePath(AbsPath path) {
+    generation++;
+    for (AbsPath directory = path.getParent();
+        directory != null;
+        directory = directory.getParent()) {
+      PackageGlobs globs = packages.get(directory.toString());
+      if (globs == null) {
+        continue;
+      }
+      String relativePath =
+          PathFormatter.pathWithUnixSeparators(directory.relativize(path).getPath());
+      if (globs
+          .results
+          .entrySet()
+          .removeIf(entry -> mayChange(entry.getKey(), entry.getValue(), relativePath))) {
+        LOG.verbose("Change to %s affects globs in %s", path, directory);
+        globs.complete = false;
+      }
+    }
+  }
+
+  /**
+   * @return whether all globs performed by the last parse of the package in {@code
+   *     packageDirectory} are cached and none of them may have changed since, which means that
+   *     paths added or removed in the meantime don't affect the package.
+   */
+  public synchronized boolean hasAllGlobsOf(AbsPath packageDirectory) {
+    PackageGlobs globs = packages.get(packageDirectory.toString());
+    return globs != null && globs.complete;
+  }
+
+  /**
+   * Forgets the globs of the package in {@code packageDirectory}, which is necessary when its build
+   * file changes since it may perform different globs or be parsed by a different parser.
+   */
+  public synchronized void invalidatePackage(AbsPath packageDirectory) {
+    generation++;
+    packages.remove(packageDirectory.toString());
+  }
+
+  /** Drops all cached glob results. */
+  public synchronized void invalidateAll() {
+    generation++;
+    packages.clear();
+  }
+
+  /**
+   * @return whether adding or removing {@code relativePath} may change the result of {@code spec}.
+   *     This errs on the side of reporting a change, as Watchman matches patterns slightly
+   *     differently from {@link UnixGlob}, for example case-insensitively on some platforms.
+   */
+  private static boolean mayChange(GlobSpec spec, Set<String> result, String relativePath) {
+    // A removed directory takes everything beneath it out of the result.
+    String directoryPrefix = relativePath + "/";
+    for (String resultPath : result) {
+      if (resultPath.equals(relativePath) || resultPath.startsWith(directoryPrefix)) {
+        return true;
+      }
+    }
+    // An added file may also add the directories leading to it.
+    ImmutableList.Builder<String> candidates = ImmutableList.builder();
+    candidates.add(relativePath);
+    if (!spec.getExcludeDirectories()) {
+      for (int i = relativePath.indexOf('/'); i != -1; i = relativePath.indexOf('/', i + 1)) {
+        candidates.add(relativePath.substring(0, i));
+      }
+    }
+    for (String candidate : candidates.build()) {
+      if (matchesAny(lowerCase(spec.getInclude()), candidate.toLowerCase(Locale.ROOT))
+          && !matchesAny(spec.getExclude(), candidate)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static ImmutableList<String> lowerCase(Collection<String> patterns) {
+    return patterns.stream()
+        .map(pattern -> pattern.toLowerCase(Locale.ROOT))
+        .collect(ImmutableList.toImmutableList());
+  }
+
+  private static boolean matchesAny(Collection<String> patterns, String path) {
+    if (patterns.isEmpty()) {
+      return false;
+    }
+    Set<String> paths = new HashSet<>();
+    paths.add(path);
+    UnixGlob.removeExcludes(paths, patterns);
+    return paths.isEmpty();
+  }
+
+  /** Answers globs of a single package from the cache. */
+  private class CachedGlobber implements Globber {
+    private final String packageDirectory;
+    private final Supplier<Globber> delegate;
+
+    private CachedGlobber(String packageDirectory, Supplier<Globber> delegate) {
+      this.packageDirectory = packageDirectory;
+      this.delegate = delegate;
+    }
+
+    @Override
+    public Set<String> run(
+        Collection<String> include, Collection<String> exclude, boolean excludeDirectories)
+        throws IOException, InterruptedException {
+      GlobSpec spec =
+          GlobSpec.of(
+              ImmutableList.copyOf(include), ImmutableList.copyOf(exclude), excludeDirectories);
+      long generationBeforeGlob;
+      synchronized (GlobResultCache.this) {
+        @Nullable PackageGlobs globs = packages.get(packageDirectory);
+        @Nullable ImmutableSet<String> cached = globs == null ? null : globs.results.get(spec);
+        if (cached != null) {
+          return cached;
+        }
+        generationBeforeGlob = generation;
+      }
+      ImmutableSet<String> result =
+          ImmutableSet.copyOf(delegate.get().run(include, exclude, excludeDirectories));
+      synchronized (GlobResultCache.this) {
+        // Files may have been added or removed while globbing, in which case the result may
+        // already be stale.
+        PackageGlobs globs = packages.computeIfAbsent(packageDirectory, d -> new PackageGlobs());
+        if (generation == generationBeforeGlob) {
+          globs.results.put(spec, result);
+        } else {
+          globs.complete = false;
+        }
+      }
+      return result;
+    }
+  }
+}
@@ -18,6 +18,7 @@ package com.facebook.buck.skylark.parser;
 
 import com.facebook.buck.core.filesystems.AbsPath;
 import com.facebook.buck.core.starlark.compatible.BuckStarlark;
+import com.facebook.buck.core.starlark.knowntypes.KnownUserDefinedRuleTypes;
 import com.facebook.buck.core.starlark.rule.SkylarkUserDefinedRule;
 import com.facebook.buck.core.util.immutables.BuckStyleValue;
 import com.facebook.buck.io.pathformat.PathFormatter;
@@ -43,6 +44,9 @@ import com.google.common.collect.ImmutableMap.Builder;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Iterables;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
 import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.google.devtools.build.lib.cmdline.Label;
 import com.google.devtools.build.lib.cmdline.PackageIdentifier;
@@ -71,9 +75,11 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.ArrayDeque;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.immutables.value.Value;
@@ -81,6 +87,8 @@ import org.immutables.value.Value;
 /** Abstract parser for files written using Skylark syntax. */
 abstract class AbstractSkylarkFileParser<T extends FileManifest> implements FileParser<T> {
 
+  private static final HashFunction EXTENSION_HASH_FUNCTION = Hashing.murmur3_128();
+
   protected final FileSystem fileSystem;
 
   protected final ProjectBuildFileParserOptions options;
@@ -92,18 +100,27 @@ abstract class AbstractSkylarkFileParser<T extends FileManifest> implements File
   private final LoadingCache<LoadImport, IncludesData> includesDataCache;
   private final PackageImplicitIncludesFinder packageImplicitIncludeFinder;
 
+  /** Evaluated extensions shared with parsers created for other commands. */
+  protected final Optional<SkylarkExtensionCache> sharedExtensionCache;
+
+  /** Content hashes of extension files read by this parser, keyed by path. */
+  private final Map<String, HashCode> extensionContentHashes;
+
   AbstractSkylarkFileParser(
       ProjectBuildFileParserOptions options,
       FileSystem fileSystem,
       BuckGlobals buckGlobals,
-      EventHandler eventHandler) {
+      EventHandler eventHandler,
+      Optional<SkylarkExtensionCache> sharedExtensionCache) {
     this.options = options;
     this.fileSystem = fileSystem;
     this.eventHandler = eventHandler;
     this.buckGlobals = buckGlobals;
+    this.sharedExtensionCache = sharedExtensionCache;
 
     this.astCache = CacheBuilder.newBuilder().build();
     this.extensionDataCache = CacheBuilder.newBuilder().build();
+    this.extensionContentHashes = new ConcurrentHashMap<>();
 
     this.includesDataCache =
         CacheBuilder.newBuilder()
@@ -307,9 +324,14 @@ abstract class AbstractSkylarkFileParser<T extends FileManifest> implements File
   @VisibleForTesting
   protected BuildFileAST readSkylarkAST(
       com.google.devtools.build.lib.vfs.Path path, FileKind fileKind) throws IOException {
+    byte[] content = FileSystemUtils.readContent(path);
+    if (fileKind == FileKind.BZL && sharedExtensionCache.isPresent()) {
+      // Remember what the extension looked like when it was parsed, so that its evaluation can be
+      // reused as long as the file doesn't change.
+      extensionContentHashes.put(path.toString(), EXTENSION_HASH_FUNCTION.hashBytes(content));
+    }
     ParserInputSource input =
-        ParserInputSource.create(
-            FileSystemUtils.readContent(path, StandardCharsets.UTF_8), path.asFragment());
+        ParserInputSource.create(new String(content, StandardCharsets.UTF_8), path.asFragment());
     switch (fileKind) {
       case BUCK:
         return BuildFileAST.parseBuildFile(input, eventHandler);
@@ -735,6 +757,9 @@ abstract class AbstractSkylarkFileParser<T extends FileManifest> implements File
       ExtensionLoadState load = work.peek();
       extension =
           lookupExtensionForImport(load.getPath(), load.getSkylarkImport().getImportString());
+      if (extension == null && !load.haveAST()) {
+        extension = lookupSharedExtension(load);
+      }
 
       if (extension != null) {
         // It's possible that some lower level dependencies already loaded
@@ -756,6 +781,9 @@ abstract class AbstractSkylarkFileParser<T extends FileManifest> implements File
         work.removeFirst();
         extension = buildExtensionData(load);
         extensionDataCache.put(load.getPath(), extension);
+        if (sharedExtensionCache.isPresent()) {
+          sharedExtensionCache.get().put(options, extension, getContentHashes(extension));
+        }
       }
     }
 
@@ -763,6 +791,80 @@ abstract class AbstractSkylarkFileParser<T extends FileManifest> implements File
     return extension;
   }
 
+  /**
+   * Looks up an extension evaluated by another parser that is still up to date, and makes it
+   * available to this parser.
+   *
+   * @return {@link ExtensionData} suitable for the requested extension load, or null if it has to
+   *     be evaluated.
+   */
+  private @Nullable ExtensionData lookupSharedExtension(ExtensionLoadState load) {
+    if (!sharedExtensionCache.isPresent()) {
+      return null;
+    }
+    ExtensionData extension;
+    try {
+      extension =
+          sharedExtensionCache.get().get(options, load.getPath().toString(), this::getContentHash);
+    } catch (IOException e) {
+      // One of the files the extension was evaluated from can't be read anymore. Evaluating the
+      // extension again reports the problem with more context.
+      return null;
+    }
+    if (extension == null) {
+      return null;
+    }
+    registerUserDefinedRules(extension, new HashSet<>());
+    extensionDataCache.put(load.getPath(), extension);
+    return extension.withImportString(load.getSkylarkImport().getImportString());
+  }
+
+  /**
+   * Registers the user defined rules exported by a reused extension and its dependencies, which
+   * normally happens while they are evaluated.
+   */
+  private void registerUserDefinedRules(ExtensionData extension, Set<String> visited) {
+    if (!visited.add(extension.getPath().toString())) {
+      return;
+    }
+    KnownUserDefinedRuleTypes knownUserDefinedRuleTypes =
+        buckGlobals.getKnownUserDefinedRuleTypes();
+    for (Object value : extension.getExtension().getBindings().values()) {
+      if (value instanceof SkylarkUserDefinedRule
+          && ((SkylarkUserDefinedRule) value).isExported()) {
+        knownUserDefinedRuleTypes.addRule((SkylarkUserDefinedRule) value);
+      }
+    }
+    for (ExtensionData dependency : extension.getDependencies()) {
+      registerUserDefinedRules(dependency, visited);
+    }
+  }
+
+  /** @return content hashes of all files loaded to evaluate {@code extension}. */
+  private ImmutableMap<String, HashCode> getContentHashes(ExtensionData extension)
+      throws IOException {
+    ImmutableMap.Builder<String, HashCode> contentHashes =
+        ImmutableMap.builderWithExpectedSize(extension.getLoadTransitiveClosure().size());
+    for (String path : extension.getLoadTransitiveClosure()) {
+      contentHashes.put(path, getContentHash(path));
+    }
+    return contentHashes.build();
+  }
+
+  /**
+   * @return the content hash of an extension file. Files are only hashed once per parser, like
+   *     they are only parsed once.
+   */
+  private HashCode getContentHash(String path) throws IOException {
+    HashCode hash = extensionContentHashes.get(path);
+    if (hash == null) {
+      hash =
+          EXTENSION_HASH_FUNCTION.hashBytes(FileSystemUtils.readContent(fileSystem.getPath(path)));
+      extensionContentHashes.put(path, hash);
+    }
+    return hash;
+  }
+
   /**
    * @return The path to a Skylark extension. For example, for {@code load("//pkg:foo.bzl", "foo")}
    *     import it would return {@code /path/to/repo/pkg/foo.bzl} and for {@code
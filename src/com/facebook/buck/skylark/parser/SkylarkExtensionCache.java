@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.skylark.parser;
+
+import com.facebook.buck.core.filesystems.AbsPath;
+import com.facebook.buck.core.util.immutables.BuckStyleValue;
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.parser.options.ProjectBuildFileParserOptions;
+import com.facebook.buck.util.function.ThrowingFunction;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.HashCode;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Keeps evaluated extension files around for as long as the daemon runs, so that a command that
+ * parses build files doesn't have to evaluate the extensions they load again unless one of them
+ * has changed.
+ *
+ * <p>Every entry remembers the content hash of each file that was loaded to evaluate it, and is
+ * only handed out if all of those files still have the same contents. Extensions are also dropped
+ * eagerly through {@link #invalidatePath(AbsPath)}, which follows a reverse dependency index from
+ * each extension file to the extensions that load it.
+ */
+@ThreadSafe
+public class SkylarkExtensionCache {
+  private static final Logger LOG = Logger.get(SkylarkExtensionCache.class);
+
+  /** Extension path to the extension evaluated for each parser configuration. */
+  @GuardedBy("this")
+  private final Map<String, Map<Object, CachedExtension>> extensions = new HashMap<>();
+
+  /** Extension path to the paths of the cached extensions that load it directly. */
+  @GuardedBy("this")
+  private final Map<String, Set<String>> dependents = new HashMap<>();
+
+  /**
+   * @param contentHasher computes the current content hash of a file.
+   * @return the extension evaluated from {@code path} by a parser with the same {@code options},
+   *     if none of the files loaded to evaluate it have changed since.
+   */
+  @Nullable
+  ExtensionData get(
+      ProjectBuildFileParserOptions options,
+      String path,
+      ThrowingFunction<String, HashCode, IOException> contentHasher)
+      throws IOException {
+    CachedExtension cachedExtension;
+    synchronized (this) {
+      Map<Object, CachedExtension> cachedByKey = extensions.get(path);
+      cachedExtension = cachedByKey == null ? null : cachedByKey.get(createKey(options));
+    }
+    if (cachedExtension == null) {
+      return null;
+    }
+    for (Map.Entry<String, HashCode> entry : cachedExtension.getContentHashes().entrySet()) {
+      if (!entry.getValue().equals(contentHasher.apply(entry.getKey()))) {
+        LOG.verbose("Not reusing %s since %s has changed", path, entry.getKey());
+        return null;
+      }
+    }
+    return cachedExtension.getExtensionData();
+  }
+
+  /**
+   * Stores an evaluated extension.
+   *
+   * @param contentHashes the content hashes of all files in the load transitive closure of {@code
+   *     extensionData}, as they were when it was evaluated.
+   */
+  synchronized void put(
+      ProjectBuildFileParserOptions options,
+      ExtensionData extensionData,
+      ImmutableMap<String, HashCode> contentHashes) {
+    String path = extensionData.getPath().toString();
+    extensions
+        .computeIfAbsent(path, p -> new HashMap<>())
+        .put(createKey(options), ImmutableCachedExtension.of(extensionData, contentHashes));
+    for (ExtensionData dependency : extensionData.getDependencies()) {
+      dependents
+          .computeIfAbsent(dependency.getPath().toString(), p -> new HashSet<>())
+          .add(path);
+    }
+  }
+
+  /** Drops the extension at {@code path} and all extensions that transitively load it. */
+  public void invalidatePath(AbsPath path) {
+    int invalidated = 0;
+    synchronized (this) {
+      Queue<String> work = new ArrayDeque<>();
+      Set<String> visited = new HashSet<>();
+      work.add(path.toString());
+      while (!work.isEmpty()) {
+        String current = work.remove();
+        if (!visited.add(current)) {
+          continue;
+        }
+        if (extensions.remove(current) != null) {
+          invalidated++;
+        }
+        Set<String> currentDependents = dependents.remove(current);
+        if (currentDependents != null) {
+          work.addAll(currentDependents);
+        }
+      }
+    }
+    if (invalidated > 0) {
+      LOG.debug("Invalidated %d extensions that depend on %s", invalidated, path);
+    }
+  }
+
+  /** Drops all cached extensions. */
+  public synchronized void invalidateAll() {
+    extensions.clear();
+    dependents.clear();
+  }
+
+  /**
+   * Extensions are evaluated against the globals of the cell they are loaded from, so they are
+   * only shared between parsers for the same cell.
+   */
+  private static Object createKey(ProjectBuildFileParserOptions options) {
+    return ImmutableList.of(
+        options.getProjectRoot(), options.getCellName(), options.getUserDefinedRulesState());
+  }
+
+  /** An evaluated extension and the contents it was evaluated from. */
+  @BuckStyleValue
+  abstract static class CachedExtension {
+    abstract ExtensionData getExtensionData();
+
+    abstract ImmutableMap<String, HashCode> getContentHashes();
+  }
+}
@@ -16,6 +16,8 @@
 
 package com.facebook.buck.support.state;
 
+import com.facebook.buck.artifact_cache.DaemonicArtifactCacheState;
+import com.facebook.buck.core.build.stats.BuildRuleDurationHistory;
 import com.facebook.buck.core.cell.Cell;
 import com.facebook.buck.core.files.DirectoryListCache;
 import com.facebook.buck.core.files.FileTreeCache;
@@ -33,6 +35,7 @@ import com.facebook.buck.io.watchman.WatchmanWatcher;
 import com.facebook.buck.parser.DaemonicParserState;
 import com.facebook.buck.parser.manifest.BuildFileManifestCache;
 import com.facebook.buck.rules.coercer.TypeCoercerFactory;
+import com.facebook.buck.rules.keys.PersistedRuleKeyCache;
 import com.facebook.buck.rules.keys.RuleKeyCacheRecycler;
 import com.facebook.buck.util.cache.ProjectFileHashCache;
 import com.facebook.buck.util.cache.impl.WatchedFileHashCache;
@@ -76,7 +79,10 @@ public final class BuckGlobalState implements Closeable {
   private final ConcurrentMap<String, WorkerProcessPool> persistentWorkerPools;
   private final VersionedTargetGraphCache versionedTargetGraphCache;
   private final ActionGraphCache actionGraphCache;
+  private final BuildRuleDurationHistory buildRuleDurationHistory;
   private final RuleKeyCacheRecycler<RuleKey> defaultRuleKeyFactoryCacheRecycler;
+  private final Optional<PersistedRuleKeyCache> persistedRuleKeyCache;
+  private final DaemonicArtifactCacheState daemonicArtifactCacheState;
   private final ImmutableMap<AbsPath, WatchmanCursor> cursor;
   private final KnownRuleTypesProvider knownRuleTypesProvider;
   private final Clock clock;
@@ -96,7 +102,10 @@ public final class BuckGlobalState implements Closeable {
       ConcurrentMap<String, WorkerProcessPool> persistentWorkerPools,
       VersionedTargetGraphCache versionedTargetGraphCache,
       ActionGraphCache actionGraphCache,
+      BuildRuleDurationHistory buildRuleDurationHistory,
       RuleKeyCacheRecycler<RuleKey> defaultRuleKeyFactoryCacheRecycler,
+      Optional<PersistedRuleKeyCache> persistedRuleKeyCache,
+      DaemonicArtifactCacheState daemonicArtifactCacheState,
       ImmutableMap<AbsPath, WatchmanCursor> cursor,
       KnownRuleTypesProvider knownRuleTypesProvider,
       Clock clock,
@@ -113,7 +122,10 @@ public final class BuckGlobalState implements Closeable {
     this.persistentWorkerPools = persistentWorkerPools;
     this.versionedTargetGraphCache = versionedTargetGraphCache;
     this.actionGraphCache = actionGraphCache;
+    this.buildRuleDurationHistory = buildRuleDurationHistory;
     this.defaultRuleKeyFactoryCacheRecycler = defaultRuleKeyFactoryCacheRecycler;
+    this.persistedRuleKeyCache = persistedRuleKeyCache;
+    this.daemonicArtifactCacheState = daemonicArtifactCacheState;
     this.cursor = cursor;
     this.knownRuleTypesProvider = knownRuleTypesProvider;
     this.clock = clock;
@@ -142,6 +154,11 @@ public final class BuckGlobalState implements Closeable {
     return actionGraphCache;
   }
 
+  /** @return local build durations of rules observed by previous commands in this daemon */
+  public BuildRuleDurationHistory getBuildRuleDurationHistory() {
+    return buildRuleDurationHistory;
+  }
+
   public ImmutableList<ProjectFileHashCache> getFileHashCaches() {
     return hashCaches;
   }
@@ -176,6 +193,11 @@ public final class BuckGlobalState implements Closeable {
     return persistentWorkerPools;
   }
 
+  /** @return the parts of the artifact caches shared by the commands run in this daemon */
+  public DaemonicArtifactCacheState getDaemonicArtifactCacheState() {
+    return daemonicArtifactCacheState;
+  }
+
   public RuleKeyCacheRecycler<RuleKey> getDefaultRuleKeyFactoryCacheRecycler() {
     return defaultRuleKeyFactoryCacheRecycler;
   }
@@ -247,7 +269,34 @@ public final class BuckGlobalState implements Closeable {
   @Override
   public void close() {
     shutdownPersistentWorkerPools();
+    daemonicParserState.getPythonDslProcessPool().close();
     shutdownWebServer();
+    writePersistedRuleKeyCache();
+    writeFileHashCacheSnapshots();
+    daemonicArtifactCacheState.close();
+  }
+
+  private void writeFileHashCacheSnapshots() {
+    for (ProjectFileHashCache hashCache : hashCaches) {
+      if (hashCache instanceof WatchedFileHashCache) {
+        try {
+          ((WatchedFileHashCache) hashCache).writeSnapshot();
+        } catch (IOException e) {
+          LOG.warn(e, "Failed to write the file hash cache snapshot.");
+        }
+      }
+    }
+  }
+
+  private void writePersistedRuleKeyCache() {
+    if (!persistedRuleKeyCache.isPresent()) {
+      return;
+    }
+    try {
+      persistedRuleKeyCache.get().writeSnapshot();
+    } catch (IOException e) {
+      LOG.warn(e, "Failed to write the persistent rule key cache.");
+    }
   }
 
   private void shutdownPersistentWorkerPools() {
@@ -18,8 +18,10 @@ package com.facebook.buck.support.state;
 
 import com.facebook.buck.artifact_cache.ArtifactCache;
 import com.facebook.buck.artifact_cache.ArtifactCaches;
+import com.facebook.buck.artifact_cache.DaemonicArtifactCacheState;
 import com.facebook.buck.artifact_cache.config.ArtifactCacheBuckConfig;
 import com.facebook.buck.command.config.BuildBuckConfig;
+import com.facebook.buck.core.build.stats.BuildRuleDurationHistory;
 import com.facebook.buck.core.cell.Cell;
 import com.facebook.buck.core.cell.CellProvider;
 import com.facebook.buck.core.cell.Cells;
@@ -39,13 +41,18 @@ import com.facebook.buck.io.watchman.Watchman;
 import com.facebook.buck.io.watchman.WatchmanCursor;
 import com.facebook.buck.io.watchman.WatchmanFactory;
 import com.facebook.buck.io.watchman.WatchmanWatcher;
+import com.facebook.buck.json.JsonObjectHashing;
 import com.facebook.buck.parser.DaemonicParserState;
+import com.facebook.buck.parser.api.BuildFileManifest;
 import com.facebook.buck.parser.config.ParserConfig;
 import com.facebook.buck.parser.manifest.BuildFileManifestCache;
 import com.facebook.buck.rules.coercer.DefaultTypeCoercerFactory;
 import com.facebook.buck.rules.coercer.TypeCoercerFactory;
 import com.facebook.buck.rules.keys.DefaultRuleKeyCache;
+import com.facebook.buck.rules.keys.PersistedRuleKeyCache;
 import com.facebook.buck.rules.keys.RuleKeyCacheRecycler;
+import com.facebook.buck.rules.keys.TrackableRuleKeyCache;
+import com.facebook.buck.rules.keys.config.impl.BuckVersion;
 import com.facebook.buck.util.cache.ProjectFileHashCache;
 import com.facebook.buck.util.cache.impl.DefaultFileHashCache;
 import com.facebook.buck.util.cache.impl.WatchedFileHashCache;
@@ -59,7 +66,12 @@ import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.eventbus.EventBus;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.concurrent.ConcurrentHashMap;
@@ -70,6 +82,9 @@ public class BuckGlobalStateFactory {
 
   private static final Logger LOG = Logger.get(BuckGlobalStateFactory.class);
 
+  private static final String RULE_KEY_CACHE_SNAPSHOT_NAME = "rule_key_cache.bin";
+  private static final String FILE_HASH_CACHE_SNAPSHOT_NAME = "file_hash_cache.bin";
+
   /** @return a new instance of {@link BuckGlobalState} for execution of buck */
   public static BuckGlobalState create(
       Cells rootCell,
@@ -88,11 +103,19 @@ public class BuckGlobalStateFactory {
     // Setup the stacked file hash cache from all cells.
     ImmutableList.Builder<ProjectFileHashCache> hashCachesBuilder =
         ImmutableList.builderWithExpectedSize(allCells.size() + 1);
+    ImmutableList.Builder<WatchedFileHashCache> watchedHashCachesBuilder =
+        ImmutableList.builderWithExpectedSize(allCells.size());
     for (Cell subCell : allCells) {
+      Optional<Path> snapshotPath =
+          buildBuckConfig.isPersistentFileHashCacheEnabled()
+              ? Optional.of(getScratchPath(subCell.getFilesystem(), FILE_HASH_CACHE_SNAPSHOT_NAME))
+              : Optional.empty();
       WatchedFileHashCache watchedCache =
-          new WatchedFileHashCache(subCell.getFilesystem(), buildBuckConfig.getFileHashCacheMode());
+          new WatchedFileHashCache(
+              subCell.getFilesystem(), buildBuckConfig.getFileHashCacheMode(), snapshotPath);
       fileEventBus.register(watchedCache);
       hashCachesBuilder.add(watchedCache);
+      watchedHashCachesBuilder.add(watchedCache);
     }
     hashCachesBuilder.add(
         DefaultFileHashCache.createBuckOutFileHashCache(
@@ -114,14 +137,27 @@ public class BuckGlobalStateFactory {
     TypeCoercerFactory typeCoercerFactory = new DefaultTypeCoercerFactory();
     ParserConfig parserConfig = rootCell.getRootCell().getBuckConfig().getView(ParserConfig.class);
     DaemonicParserState daemonicParserState =
-        new DaemonicParserState(parserConfig.getNumParsingThreads());
+        new DaemonicParserState(
+            parserConfig.getNumParsingThreads(), parserConfig.getPythonDslProcessMaxMemoryBytes());
     fileEventBus.register(daemonicParserState);
 
-    // Build the the rule key cache recycler.
+    // Build the the rule key cache recycler, optionally backed by the keys of the previous daemon.
+    Optional<PersistedRuleKeyCache> persistedRuleKeyCache = Optional.empty();
+    TrackableRuleKeyCache<RuleKey> defaultRuleKeyCache = new DefaultRuleKeyCache<>();
+    if (buildBuckConfig.isPersistentRuleKeyCacheEnabled()) {
+      persistedRuleKeyCache =
+          Optional.of(
+              createPersistedRuleKeyCache(
+                  rootCell,
+                  defaultRuleKeyCache,
+                  watchedHashCachesBuilder.build(),
+                  daemonicParserState));
+      defaultRuleKeyCache = persistedRuleKeyCache.get();
+    }
     RuleKeyCacheRecycler<RuleKey> defaultRuleKeyFactoryCacheRecycler =
         RuleKeyCacheRecycler.createAndRegister(
             fileEventBus,
-            new DefaultRuleKeyCache<>(),
+            defaultRuleKeyCache,
             RichStream.from(allCells).map(Cell::getFilesystem).toImmutableSet());
 
     Optional<WebServer> webServer;
@@ -172,13 +208,67 @@ public class BuckGlobalStateFactory {
         persistentWorkerPools,
         versionedTargetGraphCache,
         actionGraphCache,
+        new BuildRuleDurationHistory(),
         defaultRuleKeyFactoryCacheRecycler,
+        persistedRuleKeyCache,
+        new DaemonicArtifactCacheState(),
         cursor,
         knownRuleTypesProvider,
         clock,
         watchman != WatchmanFactory.NULL_WATCHMAN);
   }
 
+  /**
+   * Create a {@link PersistedRuleKeyCache} storing its snapshot in the scratch directory of the
+   * root cell. The snapshot is discarded if the buck version or the configuration of any cell
+   * changes.
+   */
+  private static PersistedRuleKeyCache createPersistedRuleKeyCache(
+      Cells rootCell,
+      TrackableRuleKeyCache<RuleKey> delegate,
+      ImmutableList<WatchedFileHashCache> watchedHashCaches,
+      DaemonicParserState daemonicParserState) {
+    Hasher settingsHasher = Hashing.sha1().newHasher();
+    settingsHasher.putString(BuckVersion.getVersion(), StandardCharsets.UTF_8);
+    for (Cell cell : rootCell.getAllCells()) {
+      settingsHasher.putString(cell.getRoot().toString(), StandardCharsets.UTF_8);
+      settingsHasher.putBytes(
+          cell.getBuckConfig().getConfig().getOrderIndependentHashCode().asBytes());
+    }
+    return new PersistedRuleKeyCache(
+        delegate,
+        getScratchPath(rootCell.getRootCell().getFilesystem(), RULE_KEY_CACHE_SNAPSHOT_NAME),
+        settingsHasher.hash(),
+        watchedHashCaches,
+        () -> hashBuildFileManifests(daemonicParserState));
+  }
+
+  /** @return the absolute path of a file in the scratch directory of the given filesystem. */
+  private static Path getScratchPath(ProjectFilesystem filesystem, String name) {
+    return filesystem.resolve(filesystem.getBuckPaths().getScratchDir().resolve(name));
+  }
+
+  /**
+   * Hash the targets of all build files currently cached by the parser, so rule keys can be reused
+   * across daemons only for rules created from the same target nodes.
+   */
+  private static Optional<ImmutableMap<Path, HashCode>> hashBuildFileManifests(
+      DaemonicParserState daemonicParserState) {
+    ImmutableMap.Builder<Path, HashCode> hashes = ImmutableMap.builder();
+    for (Map.Entry<AbsPath, BuildFileManifest> entry :
+        daemonicParserState.getBuildFileManifests().entrySet()) {
+      Hasher hasher = Hashing.sha1().newHasher();
+      try {
+        JsonObjectHashing.hashJsonObject(hasher, entry.getValue().getTargets());
+      } catch (RuntimeException e) {
+        LOG.debug(e, "Not reusing persisted rule keys, failed to hash %s", entry.getKey());
+        return Optional.empty();
+      }
+      hashes.put(entry.getKey().getPath(), hasher.hash());
+    }
+    return Optional.of(hashes.build());
+  }
+
   /** Create a number of instances of {@link DirectoryListCache}, one per each cell */
   private static LoadingCache<Path, DirectoryListCache> createDirectoryListCachePerCellMap(
       EventBus fileEventBus) {
@@ -32,6 +32,7 @@ import static com.facebook.buck.util.bser.BserConstants.BSER_TRUE;
 
 import com.facebook.buck.util.ImmutableMapWithNullValues;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.google.common.io.ByteStreams;
 import java.io.IOException;
 import java.io.InputStream;
@@ -61,6 +62,16 @@ public class BserDeserializer {
     SORTED
   }
 
+  public enum ValueTypes {
+    /** Integers keep the width they were encoded with and arrays are decoded as {@link List}s. */
+    NATIVE,
+    /**
+     * Integers are decoded as {@link Long}s and arrays as {@link ImmutableList}s, the way JSON is
+     * decoded, so arrays can't hold {@code null}s.
+     */
+    IMMUTABLE
+  }
+
   /** Exception thrown when BSER parser unexpectedly reaches the end of the input stream. */
   public static class BserEofException extends IOException {
     public BserEofException(String message) {
@@ -73,6 +84,7 @@ public class BserDeserializer {
   }
 
   private final KeyOrdering keyOrdering;
+  private final ValueTypes valueTypes;
   private final CharsetDecoder utf8Decoder;
 
   /**
@@ -81,7 +93,12 @@ public class BserDeserializer {
    * the same order with which they were encoded.
    */
   public BserDeserializer(KeyOrdering keyOrdering) {
+    this(keyOrdering, ValueTypes.NATIVE);
+  }
+
+  public BserDeserializer(KeyOrdering keyOrdering, ValueTypes valueTypes) {
     this.keyOrdering = keyOrdering;
+    this.valueTypes = valueTypes;
     this.utf8Decoder =
         StandardCharsets.UTF_8.newDecoder().onMalformedInput(CodingErrorAction.REPORT);
   }
@@ -100,14 +117,31 @@ public class BserDeserializer {
    */
   @Nullable
   public Object deserializeBserValue(InputStream inputStream) throws IOException {
+    return deserializeBserValue(readBserBuffer(inputStream));
+  }
+
+  /**
+   * Deserializes a BSER-encoded value read by {@link #readBserBuffer(InputStream)}.
+   *
+   * @return either a {@link String}, {@link Number}, {@link List}, {@link Map}, or {@code null},
+   *     depending on the type of the top-level encoded object.
+   */
+  @Nullable
+  public Object deserializeBserValue(ByteBuffer bserBuffer) throws IOException {
     try {
-      return deserializeRecursive(readBserBuffer(inputStream));
+      return deserializeRecursive(bserBuffer);
     } catch (BufferUnderflowException e) {
       throw new BserEofException("Prematurely reached end of BSER buffer", e);
     }
   }
 
-  private ByteBuffer readBserBuffer(InputStream inputStream) throws IOException {
+  /**
+   * Reads the next BSER PDU from the stream without decoding it, so callers can tell the time spent
+   * waiting for the stream apart from the time spent in {@link #deserializeBserValue(ByteBuffer)}.
+   *
+   * @return the encoded value of the PDU, without its header.
+   */
+  public ByteBuffer readBserBuffer(InputStream inputStream) throws IOException {
     ByteBuffer sniffBuffer = ByteBuffer.allocate(SNIFF_BUFFER_SIZE).order(ByteOrder.nativeOrder());
     Preconditions.checkState(sniffBuffer.hasArray());
 
@@ -158,7 +192,7 @@ public class BserDeserializer {
     int remainingBytesRead = ByteStreams.read(inputStream, bserBuffer.array(), 0, bytesRemaining);
 
     if (remainingBytesRead < bytesRemaining) {
-      throw new IOException(
+      throw new BserEofException(
           String.format(
               "Invalid BSER header (expected %d bytes, got %d bytes)",
               bytesRemaining, remainingBytesRead));
@@ -168,7 +202,7 @@ public class BserDeserializer {
   }
 
   private int deserializeIntLen(ByteBuffer buffer, byte type) throws IOException {
-    long value = deserializeNumber(buffer, type).longValue();
+    long value = deserializeLong(buffer, type);
     if (value > Integer.MAX_VALUE) {
       throw new IOException(
           String.format("BSER length out of range (%d > %d)", value, Integer.MAX_VALUE));
@@ -179,6 +213,24 @@ public class BserDeserializer {
   }
 
   private Number deserializeNumber(ByteBuffer buffer, byte type) throws IOException {
+    if (valueTypes == ValueTypes.IMMUTABLE) {
+      return deserializeLong(buffer, type);
+    }
+    switch (type) {
+      case BSER_INT8:
+        return buffer.get();
+      case BSER_INT16:
+        return buffer.getShort();
+      case BSER_INT32:
+        return buffer.getInt();
+      case BSER_INT64:
+        return buffer.getLong();
+      default:
+        throw new IOException(String.format("Invalid BSER number encoding %d", type));
+    }
+  }
+
+  private static long deserializeLong(ByteBuffer buffer, byte type) throws IOException {
     switch (type) {
       case BSER_INT8:
         return buffer.get();
@@ -196,6 +248,12 @@ public class BserDeserializer {
   private String deserializeString(ByteBuffer buffer) throws IOException {
     byte intType = buffer.get();
     int len = deserializeIntLen(buffer, intType);
+    if (len > buffer.remaining()) {
+      throw new BserEofException(
+          String.format(
+              "BSER string length out of range (%d > %d bytes remaining)",
+              len, buffer.remaining()));
+    }
 
     // We use a CharsetDecoder here instead of String(byte[], Charset)
     // because we want it to throw an exception for any non-UTF-8 input.
@@ -216,6 +274,9 @@ public class BserDeserializer {
   private List<Object> deserializeArray(ByteBuffer buffer) throws IOException {
     byte intType = buffer.get();
     int numItems = deserializeIntLen(buffer, intType);
+    if (valueTypes == ValueTypes.IMMUTABLE) {
+      return deserializeImmutableList(buffer, numItems);
+    }
     if (numItems == 0) {
       return Collections.emptyList();
     }
@@ -226,6 +287,22 @@ public class BserDeserializer {
     return list;
   }
 
+  private ImmutableList<Object> deserializeImmutableList(ByteBuffer buffer, int numItems)
+      throws IOException {
+    ImmutableList.Builder<Object> builder = ImmutableList.builderWithExpectedSize(numItems);
+    for (int i = 0; i < numItems; i++) {
+      Object element = deserializeRecursive(buffer);
+      if (element == null) {
+        // null elements can't be added to ImmutableList, an NPE will be thrown.
+        // Throw a meaningful exception here instead, like the JSON deserializer does.
+        throw new IllegalArgumentException(
+            String.format("null value can't be added to %s", builder.build()));
+      }
+      builder.add(element);
+    }
+    return builder.build();
+  }
+
   private Map<String, Object> deserializeObject(ByteBuffer buffer) throws IOException {
     byte intType = buffer.get();
     int numItems = deserializeIntLen(buffer, intType);
@@ -20,15 +20,18 @@ import com.facebook.buck.core.cell.name.CanonicalCellName;
 import com.facebook.buck.core.filesystems.AbsPath;
 import com.facebook.buck.core.filesystems.RelPath;
 import com.facebook.buck.core.io.ArchiveMemberPath;
+import com.facebook.buck.core.util.log.Logger;
 import com.facebook.buck.event.AbstractBuckEvent;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.io.filesystem.ProjectFilesystemFactory;
+import com.facebook.buck.util.MoreSuppliers;
 import com.facebook.buck.util.cache.FileHashCache;
 import com.facebook.buck.util.cache.FileHashCacheEngine;
 import com.facebook.buck.util.cache.FileHashCacheMode;
 import com.facebook.buck.util.cache.HashCodeAndFileType;
 import com.facebook.buck.util.cache.JarHashCodeAndFileType;
 import com.facebook.buck.util.cache.ProjectFileHashCache;
+import com.facebook.buck.util.concurrent.MostExecutors;
 import com.facebook.buck.util.hashing.PathHashing;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
@@ -36,6 +39,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.hash.HashCode;
 import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
 import java.nio.file.FileSystems;
 import java.nio.file.Path;
@@ -44,14 +48,37 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 public class DefaultFileHashCache implements ProjectFileHashCache {
 
+  private static final Logger LOG = Logger.get(DefaultFileHashCache.class);
+
   private static final boolean SHOULD_CHECK_IGNORED_PATHS =
       Boolean.getBoolean("buck.DefaultFileHashCache.check_ignored_paths");
 
+  /**
+   * Threads used to read files for {@link #prefetch}. Hashing is bound by disk rather than CPU, so
+   * this is kept small and shared by all caches in the process.
+   */
+  private static final int PREFETCH_THREADS =
+      Integer.getInteger("buck.DefaultFileHashCache.prefetch_threads", 4);
+
+  private static final Supplier<ExecutorService> PREFETCH_EXECUTOR =
+      MoreSuppliers.memoize(
+          () ->
+              MostExecutors.newMultiThreadExecutor(
+                  new ThreadFactoryBuilder()
+                      .setNameFormat("file-hash-prefetch-%d")
+                      .setDaemon(true)
+                      .build(),
+                  PREFETCH_THREADS));
+
   private final ProjectFilesystem projectFilesystem;
   private final Predicate<Path> ignoredPredicate;
 
@@ -211,7 +238,8 @@ public class DefaultFileHashCache implements ProjectFileHashCache {
     return HashCodeAndFileType.ofFile(getFileHashCode(path));
   }
 
-  private HashCode getFileHashCode(Path path) throws IOException {
+  /** @return the hash of the contents of the given file, relative to the project root. */
+  protected HashCode getFileHashCode(Path path) throws IOException {
     return projectFilesystem.computeSha1(path).asHashCode();
   }
 
@@ -267,6 +295,59 @@ public class DefaultFileHashCache implements ProjectFileHashCache {
     return fileHashCacheEngine.get(relativePath);
   }
 
+  /**
+   * Loads the hashes of the given paths on a bounded pool of I/O threads. Callers that {@link #get}
+   * a path while it is being prefetched wait for (or race with) that load, and failures are left
+   * for {@link #get} to report.
+   */
+  @Override
+  public void prefetch(Iterable<Path> relativePaths) {
+    if (PREFETCH_THREADS <= 0) {
+      return;
+    }
+    for (Path relativePath : relativePaths) {
+      Preconditions.checkArgument(!relativePath.isAbsolute());
+      if (fileHashCacheEngine.getIfPresent(relativePath) != null || isIgnored(relativePath)) {
+        continue;
+      }
+      PREFETCH_EXECUTOR
+          .get()
+          .execute(
+              () -> {
+                try {
+                  get(relativePath);
+                } catch (IOException | RuntimeException e) {
+                  LOG.verbose(e, "Failed to prefetch hash of %s", relativePath);
+                }
+              });
+    }
+  }
+
+  /**
+   * Waits for the prefetches requested so far to finish, by occupying every prefetch thread at
+   * once: that can only happen once the tasks queued before have all run.
+   */
+  @VisibleForTesting
+  static void waitForPrefetches() throws InterruptedException, BrokenBarrierException {
+    if (PREFETCH_THREADS <= 0) {
+      return;
+    }
+    CyclicBarrier allThreadsIdle = new CyclicBarrier(PREFETCH_THREADS + 1);
+    for (int i = 0; i < PREFETCH_THREADS; i++) {
+      PREFETCH_EXECUTOR
+          .get()
+          .execute(
+              () -> {
+                try {
+                  allThreadsIdle.await();
+                } catch (InterruptedException | BrokenBarrierException e) {
+                  Thread.currentThread().interrupt();
+                }
+              });
+    }
+    allThreadsIdle.await();
+  }
+
   @Override
   public long getSize(Path relativePath) throws IOException {
     Preconditions.checkArgument(!relativePath.isAbsolute());
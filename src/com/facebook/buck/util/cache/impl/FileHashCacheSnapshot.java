@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.util.cache.impl;
+
+import com.google.common.hash.HashCode;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * A memory-mapped, read-only table of file hashes written by a previous daemon, keyed by path
+ * relative to the project root. Each hash is stored with the modification time, size and file key
+ * (inode) the file had when it was hashed, so it can be reused only for files which are unchanged.
+ *
+ * <p>The file starts with a header and a table of record offsets sorted by path, so lookups are a
+ * binary search over the mapped file. Records are only checked for consistency when the file is
+ * mapped, so that a truncated or corrupt snapshot is rejected up front rather than failing lookups.
+ */
+public final class FileHashCacheSnapshot {
+
+  private static final int MAGIC = 0x46484353;
+  private static final int FORMAT_VERSION = 1;
+  private static final int HEADER_SIZE = 3 * Integer.BYTES;
+
+  private final ByteBuffer buffer;
+  private final int count;
+
+  private FileHashCacheSnapshot(ByteBuffer buffer, int count) {
+    this.buffer = buffer;
+    this.count = count;
+  }
+
+  /** The state of a file at the time it was hashed. */
+  public static final class Entry {
+    private final long modifiedTimeNanos;
+    private final long size;
+    private final String fileKey;
+    private final HashCode hashCode;
+
+    public Entry(long modifiedTimeNanos, long size, String fileKey, HashCode hashCode) {
+      this.modifiedTimeNanos = modifiedTimeNanos;
+      this.size = size;
+      this.fileKey = fileKey;
+      this.hashCode = hashCode;
+    }
+
+    /** @return an entry for a file with the given attributes and hash. */
+    public static Entry of(BasicFileAttributes attributes, HashCode hashCode) {
+      return new Entry(
+          attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS),
+          attributes.size(),
+          Objects.toString(attributes.fileKey(), ""),
+          hashCode);
+    }
+
+    public long getModifiedTimeNanos() {
+      return modifiedTimeNanos;
+    }
+
+    public long getSize() {
+      return size;
+    }
+
+    /** @return the file key (inode on unix) of the file, or an empty string if not supported. */
+    public String getFileKey() {
+      return fileKey;
+    }
+
+    public HashCode getHashCode() {
+      return hashCode;
+    }
+
+    /** @return whether a file with the given attributes is the file this entry was hashed from. */
+    public boolean matches(BasicFileAttributes attributes) {
+      return modifiedTimeNanos == attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS)
+          && size == attributes.size()
+          && fileKey.equals(Objects.toString(attributes.fileKey(), ""));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Entry)) {
+        return false;
+      }
+      Entry that = (Entry) o;
+      return modifiedTimeNanos == that.modifiedTimeNanos
+          && size == that.size
+          && fileKey.equals(that.fileKey)
+          && hashCode.equals(that.hashCode);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(modifiedTimeNanos, size, fileKey, hashCode);
+    }
+  }
+
+  /** @return the number of files in the snapshot. */
+  public int size() {
+    return count;
+  }
+
+  /** @return the entry recorded for the given path, relative to the project root. */
+  public Optional<Entry> get(Path relativePath) {
+    byte[] key = relativePath.toString().getBytes(StandardCharsets.UTF_8);
+    ByteBuffer view = buffer.duplicate();
+    int low = 0;
+    int high = count - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      view.position(view.getInt(HEADER_SIZE + mid * Integer.BYTES));
+      byte[] path = new byte[view.getShort() & 0xFFFF];
+      view.get(path);
+      int comparison = compareUnsigned(path, key);
+      if (comparison < 0) {
+        low = mid + 1;
+      } else if (comparison > 0) {
+        high = mid - 1;
+      } else {
+        return Optional.of(readEntry(view));
+      }
+    }
+    return Optional.empty();
+  }
+
+  /** Calls the given consumer with every path, relative to the project root, and its entry. */
+  public void forEach(BiConsumer<String, Entry> consumer) {
+    ByteBuffer view = buffer.duplicate();
+    for (int i = 0; i < count; i++) {
+      view.position(view.getInt(HEADER_SIZE + i * Integer.BYTES));
+      byte[] path = new byte[view.getShort() & 0xFFFF];
+      view.get(path);
+      consumer.accept(new String(path, StandardCharsets.UTF_8), readEntry(view));
+    }
+  }
+
+  private static Entry readEntry(ByteBuffer view) {
+    long modifiedTimeNanos = view.getLong();
+    long size = view.getLong();
+    byte[] fileKey = new byte[view.getShort() & 0xFFFF];
+    view.get(fileKey);
+    byte[] hash = new byte[view.get() & 0xFF];
+    view.get(hash);
+    return new Entry(
+        modifiedTimeNanos,
+        size,
+        new String(fileKey, StandardCharsets.UTF_8),
+        HashCode.fromBytes(hash));
+  }
+
+  /**
+   * Maps a snapshot previously written by {@link #write(Path, Map)}.
+   *
+   * @return the snapshot, or nothing if the file doesn't exist.
+   * @throws IOException if the file is not a complete snapshot in the current format.
+   */
+  public static Optional<FileHashCacheSnapshot> open(Path file) throws IOException {
+    if (!Files.isRegularFile(file)) {
+      return Optional.empty();
+    }
+    MappedByteBuffer buffer;
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+      throw new IOException(String.format("%s is not a file hash cache snapshot.", file));
+    }
+    int version = buffer.getInt(Integer.BYTES);
+    if (version != FORMAT_VERSION) {
+      throw new IOException(
+          String.format("Unsupported file hash cache snapshot version %d in %s.", version, file));
+    }
+    int count = buffer.getInt(2 * Integer.BYTES);
+    if (count < 0 || HEADER_SIZE + (long) count * Integer.BYTES > buffer.limit()) {
+      throw new IOException(String.format("%s is truncated.", file));
+    }
+    validateRecords(file, buffer, count);
+    return Optional.of(new FileHashCacheSnapshot(buffer, count));
+  }
+
+  /**
+   * Checks that the offset table points at consecutive records sorted by path which end exactly at
+   * the end of the file, so that lookups never read past a record or out of the mapped file.
+   */
+  private static void validateRecords(Path file, ByteBuffer buffer, int count) throws IOException {
+    ByteBuffer view = buffer.duplicate();
+    view.position(HEADER_SIZE + count * Integer.BYTES);
+    byte[] previousPath = null;
+    try {
+      for (int i = 0; i < count; i++) {
+        if (view.getInt(HEADER_SIZE + i * Integer.BYTES) != view.position()) {
+          throw new IOException(String.format("%s has an inconsistent record table.", file));
+        }
+        byte[] path = new byte[view.getShort() & 0xFFFF];
+        view.get(path);
+        if (previousPath != null && compareUnsigned(previousPath, path) >= 0) {
+          throw new IOException(String.format("%s is not sorted by path.", file));
+        }
+        previousPath = path;
+        readEntry(view);
+      }
+    } catch (BufferUnderflowException | IllegalArgumentException e) {
+      // IllegalArgumentException is thrown by HashCode.fromBytes() for an empty hash.
+      throw new IOException(String.format("%s is truncated.", file), e);
+    }
+    if (view.hasRemaining()) {
+      throw new IOException(String.format("%s has trailing data.", file));
+    }
+  }
+
+  /** Writes the given entries, keyed by relative path, to a new snapshot replacing {@code file}. */
+  public static void write(Path file, Map<Path, Entry> entries) throws IOException {
+    TreeMap<byte[], Entry> sorted = new TreeMap<>(FileHashCacheSnapshot::compareUnsigned);
+    for (Map.Entry<Path, Entry> entry : entries.entrySet()) {
+      byte[] path = entry.getKey().toString().getBytes(StandardCharsets.UTF_8);
+      if (path.length <= 0xFFFF) {
+        sorted.put(path, entry.getValue());
+      }
+    }
+
+    Files.createDirectories(file.getParent());
+    Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+    try {
+      try (OutputStream outputStream = Files.newOutputStream(tempFile);
+          DataOutputStream out = new DataOutputStream(new BufferedOutputStream(outputStream))) {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(sorted.size());
+        int offset = HEADER_SIZE + sorted.size() * Integer.BYTES;
+        for (Map.Entry<byte[], Entry> entry : sorted.entrySet()) {
+          out.writeInt(offset);
+          offset += recordSize(entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<byte[], Entry> entry : sorted.entrySet()) {
+          Entry value = entry.getValue();
+          byte[] fileKey = value.fileKey.getBytes(StandardCharsets.UTF_8);
+          byte[] hash = value.hashCode.asBytes();
+          out.writeShort(entry.getKey().length);
+          out.write(entry.getKey());
+          out.writeLong(value.modifiedTimeNanos);
+          out.writeLong(value.size);
+          out.writeShort(fileKey.length);
+          out.write(fileKey);
+          out.writeByte(hash.length);
+          out.write(hash);
+        }
+      }
+      Files.move(
+          tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tempFile);
+    }
+  }
+
+  private static int recordSize(byte[] path, Entry entry) {
+    return Short.BYTES
+        + path.length
+        + 2 * Long.BYTES
+        + Short.BYTES
+        + entry.fileKey.getBytes(StandardCharsets.UTF_8).length
+        + Byte.BYTES
+        + entry.hashCode.bits() / Byte.SIZE;
+  }
+
+  private static int compareUnsigned(byte[] left, byte[] right) {
+    int length = Math.min(left.length, right.length);
+    for (int i = 0; i < length; i++) {
+      int comparison = (left[i] & 0xFF) - (right[i] & 0xFF);
+      if (comparison != 0) {
+        return comparison;
+      }
+    }
+    return left.length - right.length;
+  }
+}
@@ -27,7 +27,10 @@ import com.google.common.hash.HashCode;
 import java.io.IOException;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
@@ -147,6 +150,20 @@ public class StackedFileHashCache implements FileHashCache {
     return found.get().getFirst().get(found.get().getSecond());
   }
 
+  @Override
+  public void prefetch(Iterable<Path> paths) {
+    Map<ProjectFileHashCache, List<Path>> pathsByCache = new LinkedHashMap<>();
+    for (Path path : paths) {
+      lookup(path)
+          .ifPresent(
+              found ->
+                  pathsByCache
+                      .computeIfAbsent(found.getFirst(), cache -> new ArrayList<>())
+                      .add(found.getSecond()));
+    }
+    pathsByCache.forEach(ProjectFileHashCache::prefetch);
+  }
+
   @Override
   public long getSize(Path path) throws IOException {
     Optional<Pair<ProjectFileHashCache, Path>> found = lookup(path);
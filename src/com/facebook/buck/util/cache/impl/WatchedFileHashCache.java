@@ -21,17 +21,152 @@ import com.facebook.buck.core.util.log.Logger;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.io.watchman.WatchmanOverflowEvent;
 import com.facebook.buck.io.watchman.WatchmanPathEvent;
+import com.facebook.buck.util.MoreSuppliers;
 import com.facebook.buck.util.cache.FileHashCacheMode;
 import com.google.common.eventbus.Subscribe;
+import com.google.common.hash.HashCode;
+import java.io.IOException;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 public class WatchedFileHashCache extends DefaultFileHashCache {
 
   private static final Logger LOG = Logger.get(WatchedFileHashCache.class);
 
+  /**
+   * Files modified this recently before being hashed are not persisted, as a later modification
+   * might not change their modification time on filesystems with coarse timestamps.
+   */
+  private static final long RACY_MODIFICATION_WINDOW_MILLIS = TimeUnit.SECONDS.toMillis(2);
+
+  private final Optional<Path> snapshotPath;
+  private final Supplier<Optional<FileHashCacheSnapshot>> snapshot;
+
+  /** The state of every file hashed by this cache, keyed by path relative to the project root. */
+  private final ConcurrentMap<Path, FileHashCacheSnapshot.Entry> hashedFiles =
+      new ConcurrentHashMap<>();
+
+  /** Paths changed since the snapshot was loaded, which must not be carried over from it. */
+  private final Set<Path> changedPaths = ConcurrentHashMap.newKeySet();
+
+  private volatile boolean snapshotOutdated = false;
+
   public WatchedFileHashCache(
       ProjectFilesystem projectFilesystem, FileHashCacheMode fileHashCacheMode) {
+    this(projectFilesystem, fileHashCacheMode, Optional.empty());
+  }
+
+  /**
+   * @param snapshotPath where to load file hashes computed by a previous daemon from, and where to
+   *     write them for the next one on {@link #writeSnapshot()}.
+   */
+  public WatchedFileHashCache(
+      ProjectFilesystem projectFilesystem,
+      FileHashCacheMode fileHashCacheMode,
+      Optional<Path> snapshotPath) {
     super(projectFilesystem, getDefaultPathPredicate(projectFilesystem), fileHashCacheMode);
+    this.snapshotPath = snapshotPath;
+    this.snapshot = MoreSuppliers.memoize(this::loadSnapshot);
+  }
+
+  private Optional<FileHashCacheSnapshot> loadSnapshot() {
+    if (!snapshotPath.isPresent()) {
+      return Optional.empty();
+    }
+    try {
+      Optional<FileHashCacheSnapshot> loaded = FileHashCacheSnapshot.open(snapshotPath.get());
+      loaded.ifPresent(
+          value -> LOG.debug("Loaded %d file hashes from %s", value.size(), snapshotPath.get()));
+      return loaded;
+    } catch (IOException e) {
+      LOG.warn(e, "Failed to load file hash cache snapshot from %s", snapshotPath.get());
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Reuses the hash recorded in the snapshot if the file still has the same modification time, size
+   * and file key, so only files changed since the snapshot was written are read.
+   */
+  @Override
+  protected HashCode getFileHashCode(Path path) throws IOException {
+    if (!snapshotPath.isPresent()) {
+      return super.getFileHashCode(path);
+    }
+    BasicFileAttributes attributes =
+        getFilesystem().readAttributes(path, BasicFileAttributes.class);
+    Optional<FileHashCacheSnapshot.Entry> previous =
+        snapshotOutdated || changedPaths.contains(path)
+            ? Optional.empty()
+            : snapshot.get().flatMap(value -> value.get(path));
+    HashCode hashCode;
+    if (previous.isPresent() && previous.get().matches(attributes)) {
+      hashCode = previous.get().getHashCode();
+    } else {
+      hashCode = super.getFileHashCode(path);
+    }
+    if (attributes.lastModifiedTime().toMillis()
+        < System.currentTimeMillis() - RACY_MODIFICATION_WINDOW_MILLIS) {
+      hashedFiles.put(path, FileHashCacheSnapshot.Entry.of(attributes, hashCode));
+    }
+    return hashCode;
+  }
+
+  /**
+   * Writes the hashes of all files hashed by this cache, along with the still valid hashes of the
+   * loaded snapshot, to the snapshot file.
+   */
+  public void writeSnapshot() throws IOException {
+    if (!snapshotPath.isPresent()) {
+      return;
+    }
+    Map<Path, FileHashCacheSnapshot.Entry> entries = new HashMap<>();
+    if (!snapshotOutdated) {
+      snapshot
+          .get()
+          .ifPresent(
+              previous ->
+                  previous.forEach(
+                      (path, entry) -> {
+                        Path relativePath = getFilesystem().getPath(path);
+                        if (!changedPaths.contains(relativePath)) {
+                          entries.put(relativePath, entry);
+                        }
+                      }));
+    }
+    entries.putAll(hashedFiles);
+    FileHashCacheSnapshot.write(snapshotPath.get(), entries);
+    LOG.debug("Wrote %d file hashes to %s", entries.size(), snapshotPath.get());
+  }
+
+  @Override
+  public void invalidate(Path relativePath) {
+    forgetPath(relativePath);
+    super.invalidate(relativePath);
+  }
+
+  @Override
+  public void invalidateAll() {
+    forgetAll();
+    super.invalidateAll();
+  }
+
+  private void forgetPath(Path relativePath) {
+    hashedFiles.remove(relativePath);
+    changedPaths.add(relativePath);
+  }
+
+  private void forgetAll() {
+    hashedFiles.clear();
+    snapshotOutdated = true;
   }
 
   /**
@@ -44,6 +179,7 @@ public class WatchedFileHashCache extends DefaultFileHashCache {
     // Path event, remove the path from the cache as it has been changed, added or deleted.
     RelPath path = event.getPath().normalize();
     LOG.verbose("Invalidating %s", path);
+    forgetPath(path.getPath());
     fileHashCacheEngine.invalidateWithParents(path.getPath());
   }
 
@@ -53,4 +53,12 @@ public interface FileHashLoader {
   default long getSize(ProjectFilesystem filesystem, Path path) throws IOException {
     return getSize(filesystem.resolve(path));
   }
+
+  /**
+   * Hint that the hashes of the given absolute {@link Path}s will be requested soon, so that
+   * implementations can start reading them in the background. Subsequent calls to {@link
+   * #get(Path)} return the same results whether or not the prefetch has finished.
+   */
+  @SuppressWarnings("unused")
+  default void prefetch(Iterable<Path> paths) {}
 }
@@ -41,7 +41,13 @@ public class PathHashing {
     Preconditions.checkArgument(
         !root.equals(EMPTY_PATH), "Path to hash (%s) must not be empty", root);
     ImmutableSet.Builder<Path> children = ImmutableSet.builder();
-    for (Path path : ImmutableSortedSet.copyOf(projectFilesystem.getFilesUnderPath(root))) {
+    ImmutableSortedSet<Path> files =
+        ImmutableSortedSet.copyOf(projectFilesystem.getFilesUnderPath(root));
+    // Let the loader read the files in parallel while we walk them in order below.
+    if (files.size() > 1) {
+      fileHashLoader.prefetch(files);
+    }
+    for (Path path : files) {
       FastPaths.hashPathFast(hasher, path);
       if (!root.equals(path)) {
         children.add(root.relativize(path));
@@ -32,4 +32,11 @@ public interface ProjectFileHashLoader {
   long getSize(Path path) throws IOException;
 
   Optional<HashCode> getIfPresent(Path path);
+
+  /**
+   * Hint that the hashes of the given relative {@link Path}s will be requested soon, so that
+   * implementations can start reading them in the background.
+   */
+  @SuppressWarnings("unused")
+  default void prefetch(Iterable<Path> paths) {}
 }
@@ -22,12 +22,15 @@ import com.facebook.buck.io.file.MostFiles;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.util.PatternsMatcher;
 import com.facebook.buck.util.environment.Platform;
+import com.github.luben.zstd.ZstdInputStream;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.io.ByteStreams;
 import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
@@ -43,6 +46,7 @@ import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import javax.annotation.Nullable;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.compressors.CompressorException;
@@ -52,9 +56,15 @@ import org.apache.commons.compress.compressors.CompressorStreamFactory;
 public class Untar extends Unarchiver {
 
   private final Optional<String> compressorType;
+  @Nullable private final byte[] zstdDictionary;
 
   private Untar(Optional<String> compressorType) {
+    this(compressorType, null);
+  }
+
+  private Untar(Optional<String> compressorType, @Nullable byte[] zstdDictionary) {
     this.compressorType = compressorType;
+    this.zstdDictionary = zstdDictionary;
   }
 
   public static Untar tarUnarchiver() {
@@ -77,6 +87,11 @@ public class Untar extends Unarchiver {
     return new Untar(Optional.of(CompressorStreamFactory.ZSTANDARD));
   }
 
+  /** @return an unarchiver for .tar.zst archives compressed with the given zstd dictionary. */
+  public static Untar zstdUnarchiver(byte[] dictionary) {
+    return new Untar(Optional.of(CompressorStreamFactory.ZSTANDARD), dictionary);
+  }
+
   @Override
   public ImmutableSet<Path> extractArchive(
       Path archiveFile,
@@ -106,6 +121,58 @@ public class Untar extends Unarchiver {
       PatternsMatcher entriesToExclude,
       boolean writeSymlinksAfterCreatingFiles)
       throws IOException {
+    try (InputStream inputStream = Files.newInputStream(archiveFile)) {
+      return extractArchive(
+          inputStream,
+          archiveFile.toString(),
+          filesystem,
+          filesystemRelativePath,
+          stripPath,
+          existingFileMode,
+          entriesToExclude,
+          writeSymlinksAfterCreatingFiles);
+    }
+  }
+
+  /**
+   * Extracts an archive as it is read from a stream into the root of the filesystem, without
+   * having to write it to a file first.
+   *
+   * @param archive The contents of the archive. The stream is not closed.
+   * @param filesystem The filesystem that will be extracted into
+   * @param existingFileMode How to handle existing files
+   * @return A list of paths to files that were created (not directories)
+   * @throws IOException If the archive could not be extracted for any reason
+   */
+  public ImmutableSet<Path> extractArchive(
+      InputStream archive, ProjectFilesystem filesystem, ExistingFileMode existingFileMode)
+      throws IOException {
+    return extractArchive(
+        new FilterInputStream(archive) {
+          @Override
+          public void close() {
+            // Leave the stream to the caller.
+          }
+        },
+        "<stream>",
+        filesystem,
+        filesystem.getPath(""),
+        Optional.empty(),
+        existingFileMode,
+        PatternsMatcher.NONE,
+        Platform.detect() == Platform.WINDOWS);
+  }
+
+  private ImmutableSet<Path> extractArchive(
+      InputStream archive,
+      String archiveName,
+      ProjectFilesystem filesystem,
+      Path filesystemRelativePath,
+      Optional<Path> stripPath,
+      ExistingFileMode existingFileMode,
+      PatternsMatcher entriesToExclude,
+      boolean writeSymlinksAfterCreatingFiles)
+      throws IOException {
 
     ImmutableSet.Builder<Path> paths = ImmutableSet.builder();
     HashSet<Path> dirsToTidy = new HashSet<>();
@@ -117,7 +184,7 @@ public class Untar extends Unarchiver {
     // all files are extracted, and /then/ try to do the links
     Map<Path, Path> windowsSymlinkMap = new HashMap<>();
 
-    try (TarArchiveInputStream archiveStream = getArchiveInputStream(archiveFile)) {
+    try (TarArchiveInputStream archiveStream = getArchiveInputStream(archive)) {
       TarArchiveEntry entry;
       while ((entry = archiveStream.getNextTarEntry()) != null) {
         String entryName = entry.getName();
@@ -158,7 +225,7 @@ public class Untar extends Unarchiver {
       writeWindowsSymlinks(creator, windowsSymlinkMap);
     } catch (CompressorException e) {
       throw new IOException(
-          String.format("Could not get decompressor for archive at %s", archiveFile), e);
+          String.format("Could not get decompressor for archive at %s", archiveName), e);
     }
 
     setDirectoryModificationTimes(filesystem, dirCreationTimes);
@@ -171,10 +238,15 @@ public class Untar extends Unarchiver {
     return filePaths;
   }
 
-  private TarArchiveInputStream getArchiveInputStream(Path tarFile)
+  private TarArchiveInputStream getArchiveInputStream(InputStream archive)
       throws IOException, CompressorException {
-    BufferedInputStream inputStream = new BufferedInputStream(Files.newInputStream(tarFile));
-    if (compressorType.isPresent()) {
+    BufferedInputStream inputStream = new BufferedInputStream(archive);
+    if (zstdDictionary != null) {
+      // Compressor streams created by the factory can't be given a dictionary.
+      ZstdInputStream zstdInputStream = new ZstdInputStream(inputStream);
+      zstdInputStream.setDict(zstdDictionary);
+      return new TarArchiveInputStream(zstdInputStream);
+    } else if (compressorType.isPresent()) {
       return new TarArchiveInputStream(
           new CompressorStreamFactory()
               .createCompressorInputStream(compressorType.get(), inputStream));
@@ -24,6 +24,7 @@ import com.facebook.buck.artifact_cache.AbstractAsynchronousCache.CacheEventList
 import com.facebook.buck.artifact_cache.config.ArtifactCacheMode;
 import com.facebook.buck.artifact_cache.config.CacheReadMode;
 import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.BuildTargetFactory;
 import com.facebook.buck.core.rulekey.RuleKey;
 import com.facebook.buck.io.file.LazyPath;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
@@ -216,6 +217,90 @@ public class AbstractAsynchronousCacheTest {
     }
   }
 
+  @Test
+  public void testLargeArtifactsAreFetchedOnTheirOwn() throws Exception {
+    ExplicitRunExecutorService service = new ExplicitRunExecutorService();
+    ProjectFilesystem filesystem = new FakeProjectFilesystem();
+
+    List<ImmutableList<RuleKey>> requestedRuleKeys = new ArrayList<>();
+    List<ImmutableSet<RuleKey>> checkedRuleKeys = new ArrayList<>();
+
+    BuildTarget largeTarget = BuildTargetFactory.newInstance("//async_cache_test:large");
+    new AdaptiveBatchSizer(1000).recordArtifact(largeTarget, 32 * 1024 * 1024);
+    RuleKey largeKey = new RuleKey(HashCode.fromInt(100));
+
+    try (AbstractAsynchronousCache cache =
+        new RequestedKeyRecordingAsynchronousCache(
+            service, filesystem, requestedRuleKeys, checkedRuleKeys, 10, 1, false)) {
+
+      List<ListenableFuture<CacheResult>> results = new ArrayList<>();
+      for (int i = 0; i < 5; i++) {
+        if (i == 1) {
+          results.add(
+              cache.fetchAsync(
+                  largeTarget, largeKey, LazyPath.ofInstance(filesystem.getPath("large"))));
+        }
+        results.add(
+            cache.fetchAsync(
+                null,
+                new RuleKey(HashCode.fromInt(i)),
+                LazyPath.ofInstance(filesystem.getPath("path" + i))));
+      }
+
+      service.run();
+
+      for (ListenableFuture<CacheResult> future : results) {
+        assertTrue(future.isDone());
+        assertTrue(future.get().getType().isSuccess());
+      }
+      // The large artifact was left out of the batches it was queued with, and fetched alone.
+      assertTrue(requestedRuleKeys.contains(ImmutableList.of(largeKey)));
+      for (ImmutableList<RuleKey> keys : requestedRuleKeys) {
+        assertTrue(keys.size() == 1 || !keys.contains(largeKey));
+      }
+    }
+  }
+
+  @Test
+  public void testMultiFetchBatchesAreLimitedInBytes() throws Exception {
+    ExplicitRunExecutorService service = new ExplicitRunExecutorService();
+    ProjectFilesystem filesystem = new FakeProjectFilesystem();
+
+    List<ImmutableList<RuleKey>> requestedRuleKeys = new ArrayList<>();
+    List<ImmutableSet<RuleKey>> checkedRuleKeys = new ArrayList<>();
+
+    AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(1000);
+    try (AbstractAsynchronousCache cache =
+        new RequestedKeyRecordingAsynchronousCache(
+            service, filesystem, requestedRuleKeys, checkedRuleKeys, 10, 1, false)) {
+
+      List<ListenableFuture<CacheResult>> results = new ArrayList<>();
+      List<RuleKey> keys = new ArrayList<>();
+      for (int i = 0; i < 10; i++) {
+        // Too small to be fetched on their own, but only 6 of them fit in a batch.
+        BuildTarget target = BuildTargetFactory.newInstance("//async_cache_test:medium" + i);
+        sizer.recordArtifact(target, 10 * 1024 * 1024);
+        RuleKey key = new RuleKey(HashCode.fromInt(i));
+        keys.add(key);
+        results.add(
+            cache.fetchAsync(target, key, LazyPath.ofInstance(filesystem.getPath("path" + i))));
+      }
+
+      service.run();
+
+      for (ListenableFuture<CacheResult> future : results) {
+        assertTrue(future.isDone());
+        assertTrue(future.get().getType().isSuccess());
+      }
+      // The 7th request didn't fit in the first batch, so it was rescheduled even though the
+      // batch could have held 10 keys.
+      MoreAsserts.assertIterablesEquals(keys.subList(0, 6), requestedRuleKeys.get(0));
+      for (ImmutableList<RuleKey> requested : requestedRuleKeys) {
+        assertTrue(requested.size() <= 6);
+      }
+    }
+  }
+
   private static class NoOpEventListener implements AbstractAsynchronousCache.CacheEventListener {
     @Override
     public AbstractAsynchronousCache.StoreEvents storeScheduled(
@@ -234,7 +319,8 @@ public class AbstractAsynchronousCacheTest {
     public void fetchScheduled(RuleKey ruleKey) {}
 
     @Override
-    public CacheEventListener.FetchRequestEvents fetchStarted(BuildTarget target, RuleKey ruleKey) {
+    public CacheEventListener.FetchRequestEvents fetchStarted(
+        BuildTarget target, RuleKey ruleKey, long queueWaitMillis) {
       return new FetchRequestEvents() {
         @Override
         public void finished(AbstractAsynchronousCache.FetchResult result) {}
@@ -246,7 +332,7 @@ public class AbstractAsynchronousCacheTest {
 
     @Override
     public CacheEventListener.MultiFetchRequestEvents multiFetchStarted(
-        ImmutableList<BuildTarget> targets, ImmutableList<RuleKey> keys) {
+        ImmutableList<BuildTarget> targets, ImmutableList<RuleKey> keys, long queueWaitMillis) {
       return new MultiFetchRequestEvents() {
         @Override
         public void skipped(int keyIndex) {}
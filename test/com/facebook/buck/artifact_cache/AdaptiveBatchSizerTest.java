@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import static org.junit.Assert.assertEquals;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.BuildTargetFactory;
+import com.google.common.collect.ImmutableSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class AdaptiveBatchSizerTest {
+  @Test
+  public void batchSizeIsTheLimitUntilARequestIsRecorded() {
+    AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(1000);
+    assertEquals(100, sizer.getBatchSize(100));
+  }
+
+  @Test
+  public void batchSizeIsTheLimitUntilBatchesOfDifferentSizesAreRecorded() {
+    AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(1000);
+    sizer.recordBatch(10, TimeUnit.MILLISECONDS.toNanos(2000));
+    sizer.recordBatch(10, TimeUnit.MILLISECONDS.toNanos(2000));
+    assertEquals(100, sizer.getBatchSize(100));
+  }
+
+  @Test
+  public void batchSizeShrinksWhenRequestsAreSlowPerKey() {
+    AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(1000);
+    // 100ms round trip and 180ms per key.
+    sizer.recordBatch(10, TimeUnit.MILLISECONDS.toNanos(1900));
+    sizer.recordBatch(20, TimeUnit.MILLISECONDS.toNanos(3700));
+    assertEquals(5, sizer.getBatchSize(100));
+  }
+
+  @Test
+  public void slowRoundTripDoesNotShrinkBatches() {
+    AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(1000);
+    // 1s round trip and 1ms per key.
+    sizer.recordBatch(1, TimeUnit.MILLISECONDS.toNanos(1001));
+    sizer.recordBatch(2, TimeUnit.MILLISECONDS.toNanos(1002));
+    sizer.recordBatch(5, TimeUnit.MILLISECONDS.toNanos(1005));
+    assertEquals(100, sizer.getBatchSize(100));
+  }
+
+  @Test
+  public void batchSizeGrowsBackToTheLimitWhenRequestsAreFast() {
+    AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(1000);
+    sizer.recordBatch(10, TimeUnit.MILLISECONDS.toNanos(1900));
+    sizer.recordBatch(20, TimeUnit.MILLISECONDS.toNanos(3700));
+    for (int i = 0; i < 100; i++) {
+      sizer.recordBatch(5, TimeUnit.MILLISECONDS.toNanos(10));
+      sizer.recordBatch(10, TimeUnit.MILLISECONDS.toNanos(11));
+    }
+    assertEquals(100, sizer.getBatchSize(100));
+  }
+
+  @Test
+  public void batchSizeIsAtLeastOne() {
+    AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(1000);
+    sizer.recordBatch(1, TimeUnit.MINUTES.toNanos(1));
+    sizer.recordBatch(2, TimeUnit.MINUTES.toNanos(2));
+    assertEquals(1, sizer.getBatchSize(100));
+  }
+
+  @Test
+  public void someBatchesAreLargerToKeepBatchSizesVarying() {
+    AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(1000);
+    sizer.recordBatch(1, TimeUnit.MILLISECONDS.toNanos(2000));
+    sizer.recordBatch(2, TimeUnit.MILLISECONDS.toNanos(4000));
+    Set<Integer> sizes = new HashSet<>();
+    for (int i = 0; i < 8; i++) {
+      sizes.add(sizer.getBatchSize(100));
+    }
+    assertEquals(ImmutableSet.of(1, 2), sizes);
+  }
+
+  @Test
+  public void artifactSizesAreRememberedPerTarget() {
+    AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(1000);
+    BuildTarget target = BuildTargetFactory.newInstance("//adaptive_batch_sizer:large");
+    sizer.recordArtifact(target, 1000);
+    sizer.recordArtifact(null, 10);
+
+    assertEquals(1000, sizer.estimateArtifactBytes(target));
+    assertEquals(1000, new AdaptiveBatchSizer(1000).estimateArtifactBytes(target));
+  }
+
+  @Test
+  public void unknownArtifactsAreExpectedToBeOfAverageSize() {
+    AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(1000);
+    assertEquals(0, sizer.estimateArtifactBytes(null));
+    sizer.recordArtifact(null, 100);
+    sizer.recordArtifact(null, 200);
+    assertEquals(120, sizer.estimateArtifactBytes(null));
+  }
+}
@@ -670,7 +670,8 @@ public class ArtifactCachesIntegrationTest {
         managerScope,
         "test://",
         "myhostname",
-        clientCertificateHandler);
+        clientCertificateHandler,
+        new DaemonicArtifactCacheState());
   }
 
   class NotFoundHandler extends AbstractHandler {
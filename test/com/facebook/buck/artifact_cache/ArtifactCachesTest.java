@@ -253,6 +253,30 @@ public class ArtifactCachesTest {
     managerScope.close();
   }
 
+  @Test
+  public void testMemoryCacheOutlivesTheCommand() throws Exception {
+    ArtifactCacheBuckConfig cacheConfig =
+        ArtifactCacheBuckConfigTest.createFromText("[cache]", "mode = memory");
+    ProjectFilesystem projectFilesystem = new FakeProjectFilesystem();
+    BuckEventBus buckEventBus = BuckEventBusForTests.newInstance();
+    DaemonicArtifactCacheState daemonicState = new DaemonicArtifactCacheState();
+
+    ArtifactCaches firstCaches =
+        newArtifactCache(
+            cacheConfig, projectFilesystem, buckEventBus, Optional.empty(), daemonicState);
+    ArtifactCache firstCache = stripDecorators(firstCaches.newInstance());
+    assertThat(firstCache, Matchers.instanceOf(MemoryArtifactCache.class));
+    firstCaches.close();
+
+    ArtifactCache secondCache =
+        stripDecorators(
+            newArtifactCache(
+                    cacheConfig, projectFilesystem, buckEventBus, Optional.empty(), daemonicState)
+                .newInstance());
+    assertThat(secondCache, Matchers.sameInstance(firstCache));
+    managerScope.close();
+  }
+
   private static ArtifactCache stripDecorators(ArtifactCache artifactCache) {
     if (artifactCache instanceof LoggingArtifactCacheDecorator) {
       LoggingArtifactCacheDecorator cacheDecorator = (LoggingArtifactCacheDecorator) artifactCache;
@@ -275,6 +299,16 @@ public class ArtifactCachesTest {
       ProjectFilesystem projectFilesystem,
       BuckEventBus buckEventBus,
       Optional<String> wifiSsid) {
+    return newArtifactCache(
+        cacheConfig, projectFilesystem, buckEventBus, wifiSsid, new DaemonicArtifactCacheState());
+  }
+
+  private ArtifactCaches newArtifactCache(
+      ArtifactCacheBuckConfig cacheConfig,
+      ProjectFilesystem projectFilesystem,
+      BuckEventBus buckEventBus,
+      Optional<String> wifiSsid,
+      DaemonicArtifactCacheState daemonicState) {
     CellPathResolver cellPathResolver = TestCellPathResolver.get(projectFilesystem);
     return new ArtifactCaches(
         cacheConfig,
@@ -290,6 +324,7 @@ public class ArtifactCachesTest {
         managerScope,
         "test://",
         "hostname",
-        ClientCertificateHandler.fromConfiguration(cacheConfig));
+        ClientCertificateHandler.fromConfiguration(cacheConfig),
+        daemonicState);
   }
 }
@@ -23,6 +23,7 @@ import com.facebook.buck.core.model.BuildTargetFactory;
 import com.facebook.buck.core.rulekey.RuleKey;
 import com.facebook.buck.core.rules.impl.FakeBuildRule;
 import com.facebook.buck.event.BuckEventBusForTests;
+import com.facebook.buck.io.filesystem.impl.FakeProjectFilesystem;
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
@@ -53,7 +54,9 @@ public class ArtifactUploaderIntegrationTest {
         ImmutableMap.of(),
         ImmutableSortedSet.of(),
         new FakeBuildRule(BUILD_TARGET, ImmutableSortedSet.of()),
-        1000);
+        1000,
+        Optional.empty(),
+        ZstdDictionaries.load(new FakeProjectFilesystem(), false));
 
     assertTrue(
         cacheDir
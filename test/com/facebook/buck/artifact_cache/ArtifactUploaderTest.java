@@ -22,6 +22,7 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import com.facebook.buck.artifact_cache.config.ArtifactCacheMode;
 import com.facebook.buck.artifact_cache.config.CacheReadMode;
 import com.facebook.buck.core.filesystems.AbsPath;
 import com.facebook.buck.core.model.BuildTarget;
@@ -40,6 +41,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.io.ByteStreams;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import java.io.IOException;
@@ -48,7 +50,10 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.attribute.PosixFilePermission;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.compressors.CompressorException;
@@ -133,11 +138,91 @@ public class ArtifactUploaderTest {
         ImmutableMap.of("metadata", "metadata", "build-metadata", "build-metadata"),
         ImmutableSortedSet.of(dir, file, dirFile, metadataFile),
         new FakeBuildRule(BUILD_TARGET, filesystem, TestBuildRuleParams.create()),
-        1000);
+        1000,
+        Optional.empty(),
+        ZstdDictionaries.load(filesystem, false));
 
     assertTrue(stored.get());
   }
 
+  @Test
+  public void testPerformUploadStoresLargeFilesByContent() throws Exception {
+    FakeProjectFilesystem filesystem = new FakeProjectFilesystem();
+
+    Path dir = Paths.get("out");
+    Path large = dir.resolve("large");
+    Path small = dir.resolve("small");
+    Path shared = Paths.get("shared");
+    filesystem.mkdirs(dir);
+    filesystem.writeContentsToPath("large contents", large);
+    filesystem.writeContentsToPath("s", small);
+    filesystem.writeContentsToPath("shared contents", shared);
+    RuleKey largeKey =
+        ContentAddressedFiles.getContentKey(filesystem.computeSha1(large).asHashCode());
+    RuleKey sharedKey =
+        ContentAddressedFiles.getContentKey(filesystem.computeSha1(shared).asHashCode());
+
+    List<ArtifactInfo> stores = new ArrayList<>();
+    AtomicReference<ImmutableSet<String>> archivedPaths = new AtomicReference<>();
+    ArtifactCache cache =
+        new NoopArtifactCache() {
+          @Override
+          public CacheReadMode getCacheReadMode() {
+            return CacheReadMode.READWRITE;
+          }
+
+          @Override
+          public ListenableFuture<ImmutableMap<RuleKey, CacheResult>> multiContainsAsync(
+              ImmutableSet<RuleKey> ruleKeys) {
+            assertEquals(ImmutableSet.of(largeKey, sharedKey), ruleKeys);
+            return Futures.immediateFuture(
+                ImmutableMap.of(
+                    largeKey,
+                    CacheResult.miss(),
+                    sharedKey,
+                    CacheResult.contains("cache", ArtifactCacheMode.dir)));
+          }
+
+          @Override
+          public ListenableFuture<Unit> store(ArtifactInfo info, BorrowablePath output) {
+            stores.add(info);
+            if (info.getRuleKeys().contains(new RuleKey("aa"))) {
+              try {
+                archivedPaths.set(TarInspector.readTarZst(output.getPath()).keySet());
+              } catch (IOException | CompressorException e) {
+                fail(e.getMessage());
+              }
+            }
+            return Futures.immediateFuture(Unit.UNIT);
+          }
+        };
+
+    ArtifactUploader.performUploadToArtifactCache(
+        ImmutableSet.of(new RuleKey("aa")),
+        cache,
+        BuckEventBusForTests.newInstance(),
+        ImmutableMap.of("build-metadata", "build-metadata"),
+        ImmutableSortedSet.of(dir, large, small, shared),
+        new FakeBuildRule(BUILD_TARGET, filesystem, TestBuildRuleParams.create()),
+        1000,
+        Optional.of(10L),
+        ZstdDictionaries.load(filesystem, false));
+
+    // Only the file the cache doesn't have is stored on its own, before the artifact.
+    assertEquals(2, stores.size());
+    assertEquals(ImmutableSet.of(largeKey), stores.get(0).getRuleKeys());
+    assertEquals(ImmutableSet.of(new RuleKey("aa")), stores.get(1).getRuleKeys());
+
+    // The archive leaves out both large files and the directory containing one of them.
+    assertEquals(ImmutableSet.of("out/small"), archivedPaths.get());
+    ContentAddressedFiles contentAddressedFiles =
+        ContentAddressedFiles.fromMetadata(stores.get(1).getMetadata());
+    assertEquals(
+        ImmutableSet.of(large, shared), contentAddressedFiles.getHashes().keySet());
+    assertEquals(ImmutableSet.of(dir), contentAddressedFiles.getDirectories());
+    assertEquals("build-metadata", stores.get(1).getMetadata().get("build-metadata"));
+  }
+
   /** compressSavesExecutableBit asserts that compress()-ing an executable file stores the x bit. */
   @Test
   public void compressSavesExecutableBit() throws Exception {
@@ -170,4 +255,47 @@ public class ArtifactUploaderTest {
               .contains(PosixFilePermission.OWNER_EXECUTE));
     }
   }
+
+  @Test
+  public void onlyLargeArtifactsAreCompressedWithWorkers() {
+    assertEquals(0, ArtifactUploader.getCompressionWorkers(1024, 16));
+    assertEquals(0, ArtifactUploader.getCompressionWorkers(1024L * 1024 * 1024, 1));
+    assertEquals(1, ArtifactUploader.getCompressionWorkers(1024L * 1024 * 1024, 2));
+    assertEquals(4, ArtifactUploader.getCompressionWorkers(1024L * 1024 * 1024, 16));
+  }
+
+  @Test
+  public void compressWithWorkersProducesReadableArchive() throws Exception {
+    ProjectFilesystem fs = FakeProjectFilesystem.createJavaOnlyFilesystem("/");
+
+    AbsPath out = fs.getRootPath().resolve("out");
+    AbsPath dir = fs.getRootPath().resolve("dir");
+    AbsPath file = dir.resolve("file");
+    fs.mkdirs(dir.getPath());
+    byte[] contents = new byte[4 * 1024 * 1024];
+    for (int i = 0; i < contents.length; i++) {
+      contents[i] = (byte) (i % 251);
+    }
+    Files.write(file.getPath(), contents);
+
+    ArtifactUploader.compress(
+        fs,
+        ImmutableList.of(dir.getPath(), file.getPath()),
+        new long[] {-1, contents.length},
+        out.getPath(),
+        2,
+        null);
+
+    try (TarArchiveInputStream fin =
+        new TarArchiveInputStream(
+            new ZstdCompressorInputStream(Files.newInputStream(out.getPath())))) {
+      TarArchiveEntry entry = fin.getNextTarEntry();
+      assertTrue(entry.isDirectory());
+      entry = fin.getNextTarEntry();
+      assertEquals(contents.length, entry.getSize());
+      byte[] read = new byte[contents.length];
+      ByteStreams.readFully(fin, read);
+      assertArrayEquals(contents, read);
+    }
+  }
 }
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class DirArtifactCacheIndexTest {
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  private Path cacheDir;
+
+  @Before
+  public void setUp() throws IOException {
+    cacheDir = tmp.newFolder("cache");
+  }
+
+  @After
+  public void tearDown() {
+    DirArtifactCacheIndex.unload(cacheDir);
+  }
+
+  private DirArtifactCacheIndex getIndex() {
+    return DirArtifactCacheIndex.get(cacheDir, ImmutableList::of).get();
+  }
+
+  private Path getJournal() {
+    return cacheDir.resolve(DirArtifactCacheIndex.DIRECTORY).resolve("journal");
+  }
+
+  @Test
+  public void indexIsSharedWithinTheProcess() {
+    assertSame(getIndex(), getIndex());
+  }
+
+  @Test
+  public void indexIsReloadedFromItsJournal() {
+    DirArtifactCacheIndex index = getIndex();
+    index.add("a", 1);
+    index.add("b", 2);
+    index.add("c", 4);
+    index.recordAccess("a");
+    index.remove("b");
+    index.flush();
+    DirArtifactCacheIndex.unload(cacheDir);
+
+    index = getIndex();
+    assertEquals(ImmutableList.of("c", "a"), index.getEntries());
+    assertEquals(5, index.getTotalBytes());
+  }
+
+  @Test
+  public void partiallyWrittenRecordsAreIgnored() throws IOException {
+    DirArtifactCacheIndex index = getIndex();
+    index.add("a", 1);
+    index.add("b", 2);
+    DirArtifactCacheIndex.unload(cacheDir);
+    Files.write(getJournal(), new byte[] {0, 0, 5, 'c'}, StandardOpenOption.APPEND);
+
+    index = getIndex();
+    assertEquals(ImmutableList.of("a", "b"), index.getEntries());
+    index.add("c", 4);
+    DirArtifactCacheIndex.unload(cacheDir);
+
+    assertEquals(ImmutableList.of("a", "b", "c"), getIndex().getEntries());
+  }
+
+  @Test
+  public void journalIsCompactedOnceItOutgrowsTheIndex() throws IOException {
+    DirArtifactCacheIndex index = getIndex();
+    index.add("a", 1);
+    long compactedSize = Files.size(getJournal());
+    // Along with the record written when "a" was first added, the last one reaches the minimum.
+    for (int i = 0; i < DirArtifactCacheIndex.MIN_RECORDS_TO_COMPACT - 1; i++) {
+      index.add("a", 1);
+    }
+    index.flush();
+
+    assertEquals(compactedSize, Files.size(getJournal()));
+    DirArtifactCacheIndex.unload(cacheDir);
+    assertEquals(ImmutableList.of("a"), getIndex().getEntries());
+  }
+
+  @Test
+  public void repeatedAccessesAreWrittenOnce() throws IOException {
+    DirArtifactCacheIndex index = getIndex();
+    index.add("a", 1);
+    index.add("b", 2);
+    index.flush();
+    long sizeBeforeAccesses = Files.size(getJournal());
+    for (int i = 0; i < 100; i++) {
+      index.recordAccess("a");
+    }
+    assertEquals(sizeBeforeAccesses, Files.size(getJournal()));
+    index.flush();
+
+    // A single record: its type, the entry as modified UTF-8 with its length, and no size.
+    assertEquals(sizeBeforeAccesses + 4, Files.size(getJournal()));
+    DirArtifactCacheIndex.unload(cacheDir);
+    assertEquals(ImmutableList.of("b", "a"), getIndex().getEntries());
+  }
+
+  @Test
+  public void storesOfOtherProcessesAreCountedAndAddedToTheIndex() throws IOException {
+    Path x = writeFile("aa/aa/x", 2, 2000);
+    Path y = writeFile("bb/bb/y", 5, 1000);
+    DirArtifactCacheIndex index =
+        DirArtifactCacheIndex.get(cacheDir, () -> ImmutableList.of(x)).get();
+    assertEquals(2, index.getTotalBytes());
+
+    DirArtifactCacheIndex.recordUnindexedStore(cacheDir, 5);
+    assertEquals(7, index.getTotalBytes());
+
+    index.addUnindexedStores(cacheDir, () -> ImmutableList.of(x, y));
+    assertEquals(
+        ImmutableList.of(cacheDir.relativize(x).toString(), cacheDir.relativize(y).toString()),
+        index.getEntries());
+    assertEquals(7, index.getTotalBytes());
+
+    DirArtifactCacheIndex.recordUnindexedStore(cacheDir, 3);
+    assertEquals(10, index.getTotalBytes());
+  }
+
+  @Test
+  public void indexIsBuiltFromTheFilesInTheCacheWhenThereIsNoJournal() throws IOException {
+    Path x = writeFile("aa/aa/x", 2, 2000);
+    Path xMetadata = writeFile("aa/aa/x.metadata", 3, 0);
+    Path y = writeFile("bb/bb/y", 5, 1000);
+    List<Path> files = ImmutableList.of(x, xMetadata, y);
+
+    DirArtifactCacheIndex index = DirArtifactCacheIndex.get(cacheDir, () -> files).get();
+    assertEquals(
+        ImmutableList.of(
+            cacheDir.relativize(y).toString(), cacheDir.relativize(x).toString()),
+        index.getEntries());
+    assertEquals(10, index.getTotalBytes());
+    assertTrue(Files.exists(getJournal()));
+  }
+
+  @Test
+  public void leastRecentlyUsedEntriesAreRemovedInBatches() {
+    DirArtifactCacheIndex index = getIndex();
+    index.add("a", 1);
+    index.add("b", 2);
+    index.add("c", 4);
+    index.add("d", 8);
+    index.recordAccess("a");
+
+    assertEquals(ImmutableList.of("b"), index.removeLeastRecentlyUsed(9, 1));
+    assertEquals(ImmutableList.of("c"), index.removeLeastRecentlyUsed(9, 10));
+    assertEquals(ImmutableList.of(), index.removeLeastRecentlyUsed(9, 10));
+    assertEquals(ImmutableList.of("d", "a"), index.getEntries());
+    assertEquals(9, index.getTotalBytes());
+  }
+
+  @Test
+  public void discardedIndexIsRebuilt() throws IOException {
+    DirArtifactCacheIndex index = getIndex();
+    index.add("a", 1);
+    DirArtifactCacheIndex.discard(cacheDir);
+
+    assertEquals(ImmutableList.of(), getIndex().getEntries());
+  }
+
+  private Path writeFile(String path, int size, long lastAccessMillis) throws IOException {
+    Path file = cacheDir.resolve(path);
+    Files.createDirectories(file.getParent());
+    Files.write(file, new byte[size]);
+    Files.setAttribute(file, "lastAccessTime", FileTime.fromMillis(lastAccessMillis));
+    return file;
+  }
+}
@@ -85,6 +85,7 @@ public class DirArtifactCacheTest {
     if (dirArtifactCache != null) {
       dirArtifactCache.close();
     }
+    DirArtifactCacheIndex.unload(cacheDir);
   }
 
   @Test
@@ -545,6 +546,32 @@ public class DirArtifactCacheTest {
     assertThat(Files.exists(fileY), Matchers.is(true));
   }
 
+  @Test
+  public void testCacheStoresLinkablePathsByLinking() throws IOException {
+    Path fileX = tmpDir.newFile("x");
+    Files.write(fileX, "x".getBytes(UTF_8));
+    RuleKey ruleKeyX = new RuleKey("aaaa");
+
+    dirArtifactCache = newDirArtifactCache(Optional.empty(), CacheReadMode.READWRITE);
+    dirArtifactCache.store(
+        ArtifactInfo.builder().addRuleKeys(ruleKeyX).build(), BorrowablePath.linkablePath(fileX));
+
+    Path cachedX =
+        projectFilesystem.resolve(
+            DirArtifactCacheTestUtil.getPathForRuleKey(
+                dirArtifactCache, ruleKeyX, Optional.empty()));
+    assertThat(Files.exists(fileX), Matchers.is(true));
+    assertTrue(Files.isSameFile(fileX, cachedX));
+
+    Path output = tmpDir.newFile("output");
+    assertEquals(
+        CacheResultType.HIT,
+        Futures.getUnchecked(
+                dirArtifactCache.fetchAsync(null, ruleKeyX, LazyPath.ofInstance(output)))
+            .getType());
+    assertEquals("x", new String(Files.readAllBytes(output), UTF_8));
+  }
+
   @Test
   public void testNoStoreMisses() throws IOException {
     Path fileX = tmpDir.newFile("x");
@@ -826,6 +853,70 @@ public class DirArtifactCacheTest {
             .getType());
   }
 
+  @Test
+  public void testDeleteLeastRecentlyUsedAfterStoreIfFull() throws IOException {
+    // A 1-byte entry with no metadata takes 5 bytes to store, so the fourth entry takes the cache
+    // over its max size, and it trims down to 2/3 of it (12 bytes) by evicting the two least
+    // recently used.
+    dirArtifactCache =
+        newDirArtifactCache(/* maxCacheSizeBytes */ Optional.of(18L), CacheReadMode.READWRITE);
+
+    RuleKey ruleKeyW = storeOneByteArtifact("aaaa");
+    RuleKey ruleKeyX = storeOneByteArtifact("bbbb");
+    RuleKey ruleKeyY = storeOneByteArtifact("cccc");
+    assertEquals(CacheResultType.HIT, fetch(ruleKeyW));
+
+    // Access times are not used to find the least recently used entries.
+    Files.setAttribute(
+        dirArtifactCache.getPathForRuleKey(ruleKeyW, Optional.empty()),
+        "lastAccessTime",
+        FileTime.fromMillis(0));
+
+    RuleKey ruleKeyZ = storeOneByteArtifact("dddd");
+
+    assertEquals(CacheResultType.HIT, fetch(ruleKeyW));
+    assertEquals(CacheResultType.MISS, fetch(ruleKeyX));
+    assertEquals(CacheResultType.MISS, fetch(ruleKeyY));
+    assertEquals(CacheResultType.HIT, fetch(ruleKeyZ));
+    assertEquals(4, dirArtifactCache.getAllFilesInCache().size());
+  }
+
+  @Test
+  public void testLeastRecentlyUsedOrderIsPersisted() throws IOException {
+    dirArtifactCache =
+        newDirArtifactCache(/* maxCacheSizeBytes */ Optional.of(18L), CacheReadMode.READWRITE);
+    RuleKey ruleKeyW = storeOneByteArtifact("aaaa");
+    RuleKey ruleKeyX = storeOneByteArtifact("bbbb");
+    RuleKey ruleKeyY = storeOneByteArtifact("cccc");
+    assertEquals(CacheResultType.HIT, fetch(ruleKeyW));
+    dirArtifactCache.close();
+    DirArtifactCacheIndex.unload(cacheDir);
+
+    dirArtifactCache =
+        newDirArtifactCache(/* maxCacheSizeBytes */ Optional.of(18L), CacheReadMode.READWRITE);
+    RuleKey ruleKeyZ = storeOneByteArtifact("dddd");
+
+    assertEquals(CacheResultType.HIT, fetch(ruleKeyW));
+    assertEquals(CacheResultType.MISS, fetch(ruleKeyX));
+    assertEquals(CacheResultType.MISS, fetch(ruleKeyY));
+    assertEquals(CacheResultType.HIT, fetch(ruleKeyZ));
+  }
+
+  private RuleKey storeOneByteArtifact(String ruleKey) throws IOException {
+    Path file = tmpDir.newFile();
+    Files.write(file, "x".getBytes(UTF_8));
+    RuleKey key = new RuleKey(ruleKey);
+    dirArtifactCache.store(
+        ArtifactInfo.builder().addRuleKeys(key).build(), BorrowablePath.notBorrowablePath(file));
+    return key;
+  }
+
+  private CacheResultType fetch(RuleKey ruleKey) throws IOException {
+    return Futures.getUnchecked(
+            dirArtifactCache.fetchAsync(null, ruleKey, LazyPath.ofInstance(tmpDir.newFile())))
+        .getType();
+  }
+
   @Test
   public void testCacheStoreMultipleKeys() throws IOException {
     Path fileX = tmpDir.newFile("x");
@@ -18,6 +18,7 @@ package com.facebook.buck.artifact_cache;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -330,6 +331,76 @@ public class HttpArtifactCacheTest {
     cache.close();
   }
 
+  @Test
+  public void testFetchStreamsPayload() throws Exception {
+    Path output = Paths.get("output/file");
+    String data = "test";
+    RuleKey ruleKey = new RuleKey("00000000000000000000000000000000");
+    FakeProjectFilesystem filesystem = new FakeProjectFilesystem();
+    List<Response> responseList = new ArrayList<>();
+    argsBuilder.setProjectFilesystem(filesystem);
+    argsBuilder.setFetchClient(
+        withMakeRequest(
+            (path, requestBuilder) -> {
+              Request request = requestBuilder.url(SERVER + path).build();
+              Response response =
+                  new Response.Builder()
+                      .request(request)
+                      .protocol(Protocol.HTTP_1_1)
+                      .code(HttpURLConnection.HTTP_OK)
+                      .body(
+                          createResponseBody(
+                              ImmutableSet.of(ruleKey),
+                              ImmutableMap.of(),
+                              ByteSource.wrap(data.getBytes(Charsets.UTF_8)),
+                              data))
+                      .message("")
+                      .build();
+              responseList.add(response);
+              return new OkHttpResponseWrapper(response);
+            }));
+
+    HttpArtifactCache cache = new HttpArtifactCache(argsBuilder.build());
+    RecordingStreamingLazyPath streamingOutput = new RecordingStreamingLazyPath(output, 2);
+    CacheResult result = Futures.getUnchecked(cache.fetchAsync(null, ruleKey, streamingOutput));
+    assertEquals(result.cacheError().orElse(""), CacheResultType.HIT, result.getType());
+    assertTrue(streamingOutput.wasConsumed());
+    assertEquals("te", new String(streamingOutput.getConsumedBytes(), Charsets.UTF_8));
+    assertEquals(Optional.empty(), filesystem.readFileIfItExists(output));
+    assertTrue("response wasn't fully read!", responseList.get(0).body().source().exhausted());
+    cache.close();
+  }
+
+  @Test
+  public void testFetchStreamedPayloadWithBadChecksum() throws Exception {
+    RuleKey ruleKey = new RuleKey("00000000000000000000000000000000");
+    argsBuilder.setFetchClient(
+        withMakeRequest(
+            (path, requestBuilder) -> {
+              Request request = requestBuilder.url(SERVER + path).build();
+              return new OkHttpResponseWrapper(
+                  new Response.Builder()
+                      .request(request)
+                      .protocol(Protocol.HTTP_1_1)
+                      .code(HttpURLConnection.HTTP_OK)
+                      .body(
+                          createResponseBody(
+                              ImmutableSet.of(ruleKey),
+                              ImmutableMap.of(),
+                              ByteSource.wrap(new byte[0]),
+                              "data"))
+                      .message("")
+                      .build());
+            }));
+    HttpArtifactCache cache = new HttpArtifactCache(argsBuilder.build());
+    RecordingStreamingLazyPath streamingOutput =
+        new RecordingStreamingLazyPath(Paths.get("output/file"), 100);
+    CacheResult result = Futures.getUnchecked(cache.fetchAsync(null, ruleKey, streamingOutput));
+    assertEquals(CacheResultType.ERROR, result.getType());
+    assertFalse(streamingOutput.wasConsumed());
+    cache.close();
+  }
+
   @Test
   public void testFetchExtraPayload() throws Exception {
     FakeProjectFilesystem filesystem = new FakeProjectFilesystem();
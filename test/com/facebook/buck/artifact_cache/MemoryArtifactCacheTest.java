@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+
+import com.facebook.buck.artifact_cache.config.ArtifactCacheMode;
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.facebook.buck.io.file.BorrowablePath;
+import com.facebook.buck.io.file.LazyPath;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.Futures;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class MemoryArtifactCacheTest {
+  @Rule public TemporaryPaths tmpDir = new TemporaryPaths();
+
+  @Test
+  public void testStoreAndFetchHit() throws IOException {
+    MemoryArtifactCache cache = new MemoryArtifactCache("memory", 1024, 16);
+    RuleKey ruleKey = new RuleKey("aaaa");
+    cache.store(
+        ArtifactInfo.builder()
+            .addRuleKeys(ruleKey)
+            .setMetadata(ImmutableMap.of("key", "value"))
+            .build(),
+        BorrowablePath.notBorrowablePath(writeFile("contents")));
+
+    Path output = tmpDir.newFile();
+    CacheResult result =
+        Futures.getUnchecked(cache.fetchAsync(null, ruleKey, LazyPath.ofInstance(output)));
+
+    assertEquals(CacheResultType.HIT, result.getType());
+    assertEquals(Optional.of(ArtifactCacheMode.memory), result.cacheMode());
+    assertEquals(ImmutableMap.of("key", "value"), result.getMetadata());
+    assertEquals(8L, result.getArtifactSizeBytes());
+    assertEquals("contents", new String(Files.readAllBytes(output), UTF_8));
+
+    // The buffer is reusable for later fetches.
+    Path otherOutput = tmpDir.newFile();
+    Futures.getUnchecked(cache.fetchAsync(null, ruleKey, LazyPath.ofInstance(otherOutput)));
+    assertEquals("contents", new String(Files.readAllBytes(otherOutput), UTF_8));
+  }
+
+  @Test
+  public void testLargeArtifactsAreNotStored() throws IOException {
+    MemoryArtifactCache cache = new MemoryArtifactCache("memory", 1024, 4);
+    RuleKey ruleKey = new RuleKey("aaaa");
+    cache.store(
+        ArtifactInfo.builder().addRuleKeys(ruleKey).build(),
+        BorrowablePath.notBorrowablePath(writeFile("contents")));
+
+    assertEquals(
+        CacheResultType.MISS,
+        Futures.getUnchecked(cache.fetchAsync(null, ruleKey, LazyPath.ofInstance(tmpDir.newFile())))
+            .getType());
+  }
+
+  @Test
+  public void testEvictsOnceFull() throws IOException {
+    MemoryArtifactCache cache = new MemoryArtifactCache("memory", 10, 10);
+    RuleKey first = new RuleKey("aaaa");
+    RuleKey second = new RuleKey("bbbb");
+    cache.store(
+        ArtifactInfo.builder().addRuleKeys(first).build(),
+        BorrowablePath.notBorrowablePath(writeFile("123456")));
+    cache.store(
+        ArtifactInfo.builder().addRuleKeys(second).build(),
+        BorrowablePath.notBorrowablePath(writeFile("654321")));
+
+    assertEquals(
+        ImmutableMap.of(first, CacheResultType.MISS, second, CacheResultType.CONTAINS),
+        ImmutableMap.copyOf(
+            Futures.getUnchecked(cache.multiContainsAsync(ImmutableSet.of(first, second)))
+                .entrySet().stream()
+                .collect(
+                    ImmutableMap.toImmutableMap(
+                        entry -> entry.getKey(), entry -> entry.getValue().getType()))));
+  }
+
+  @Test
+  public void testDelete() throws IOException {
+    MemoryArtifactCache cache = new MemoryArtifactCache("memory", 1024, 16);
+    RuleKey ruleKey = new RuleKey("aaaa");
+    cache.store(
+        ArtifactInfo.builder().addRuleKeys(ruleKey).build(),
+        BorrowablePath.notBorrowablePath(writeFile("contents")));
+
+    assertEquals(
+        ImmutableList.of("memory"),
+        Futures.getUnchecked(cache.deleteAsync(ImmutableList.of(ruleKey))).getCacheNames());
+    assertEquals(
+        CacheResultType.MISS,
+        Futures.getUnchecked(cache.fetchAsync(null, ruleKey, LazyPath.ofInstance(tmpDir.newFile())))
+            .getType());
+  }
+
+  private Path writeFile(String contents) throws IOException {
+    Path file = tmpDir.newFile();
+    Files.write(file, contents.getBytes(UTF_8));
+    return file;
+  }
+}
@@ -17,17 +17,24 @@
 package com.facebook.buck.artifact_cache;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 import com.facebook.buck.artifact_cache.config.ArtifactCacheMode;
 import com.facebook.buck.artifact_cache.config.CacheReadMode;
 import com.facebook.buck.core.model.BuildTarget;
 import com.facebook.buck.core.rulekey.RuleKey;
+import com.facebook.buck.event.BuckEvent;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.event.BuckEventBusForTests;
+import com.facebook.buck.event.FakeBuckEventListener;
 import com.facebook.buck.io.file.BorrowablePath;
 import com.facebook.buck.io.file.LazyPath;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.slb.HttpResponse;
 import com.facebook.buck.testutil.TemporaryPaths;
 import com.facebook.buck.util.types.Unit;
 import com.google.common.collect.ImmutableList;
@@ -35,11 +42,16 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Maps;
+import com.google.common.hash.BloomFilter;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -105,6 +117,50 @@ public class MultiArtifactCacheTest {
     multiArtifactCache.close();
   }
 
+  @Test
+  public void testOnlyStreamsToCachesBeforeWritableCaches() {
+    List<LazyPath> readOnlyOutputs = new ArrayList<>();
+    List<LazyPath> writableOutputs = new ArrayList<>();
+    List<LazyPath> lastOutputs = new ArrayList<>();
+    MultiArtifactCache multiArtifactCache =
+        new MultiArtifactCache(
+            ImmutableList.of(
+                new OutputRecordingArtifactCache(CacheReadMode.READONLY, readOnlyOutputs),
+                new OutputRecordingArtifactCache(CacheReadMode.READWRITE, writableOutputs),
+                new OutputRecordingArtifactCache(CacheReadMode.READONLY, lastOutputs)));
+
+    StreamingLazyPath output = new RecordingStreamingLazyPath(tmp.getRoot().resolve("out"), 0);
+    Futures.getUnchecked(multiArtifactCache.fetchAsync(null, dummyRuleKey, output));
+
+    assertSame(output, Iterables.getOnlyElement(readOnlyOutputs));
+    assertSame(output, Iterables.getOnlyElement(writableOutputs));
+    // The artifact would be stored to the writable cache, so it's needed as a file.
+    assertFalse(Iterables.getOnlyElement(lastOutputs) instanceof StreamingLazyPath);
+  }
+
+  /** A cache which records the outputs it was asked to fetch to, and always misses. */
+  private static class OutputRecordingArtifactCache extends NoopArtifactCache {
+    private final CacheReadMode cacheReadMode;
+    private final List<LazyPath> outputs;
+
+    OutputRecordingArtifactCache(CacheReadMode cacheReadMode, List<LazyPath> outputs) {
+      this.cacheReadMode = cacheReadMode;
+      this.outputs = outputs;
+    }
+
+    @Override
+    public ListenableFuture<CacheResult> fetchAsync(
+        BuildTarget target, RuleKey ruleKey, LazyPath output) {
+      outputs.add(output);
+      return Futures.immediateFuture(CacheResult.miss());
+    }
+
+    @Override
+    public CacheReadMode getCacheReadMode() {
+      return cacheReadMode;
+    }
+  }
+
   @Test
   public void testCacheMultiContains() throws IOException {
     DummyArtifactCache dummyArtifactCache1 = new DummyArtifactCache();
@@ -429,4 +485,158 @@ public class MultiArtifactCacheTest {
 
     multiArtifactCache.close();
   }
+
+  private static RemoteRuleKeyFilter createRuleKeyFilter(
+      BuckEventBus eventBus, RuleKey... ruleKeys) throws IOException {
+    BloomFilter<CharSequence> filter = BloomFilter.create(RemoteRuleKeyFilter.FUNNEL, 100);
+    for (RuleKey ruleKey : ruleKeys) {
+      filter.put(ruleKey.toString());
+    }
+    ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+    filter.writeTo(serialized);
+
+    RemoteRuleKeyFilter ruleKeyFilter =
+        new RemoteRuleKeyFilter("/rule_key_filter", ArtifactCacheMode.http, 3600);
+    TestHttpService fetchService =
+        new TestHttpService(() -> new InMemoryHttpResponse(serialized.toByteArray()));
+    ruleKeyFilter.attach(fetchService, eventBus);
+    ruleKeyFilter.refresh(fetchService);
+    return ruleKeyFilter;
+  }
+
+  private static ImmutableList<RuleKeyFilterEvent> getRuleKeyFilterEvents(
+      FakeBuckEventListener listener) {
+    ImmutableList.Builder<RuleKeyFilterEvent> events = ImmutableList.builder();
+    for (BuckEvent event : listener.getEvents()) {
+      if (event instanceof RuleKeyFilterEvent) {
+        events.add((RuleKeyFilterEvent) event);
+      }
+    }
+    return events.build();
+  }
+
+  @Test
+  public void cachesAreNotAskedForKeysMissingFromTheirRuleKeyFilter() throws IOException {
+    BuckEventBus eventBus = BuckEventBusForTests.newInstance();
+    FakeBuckEventListener listener = new FakeBuckEventListener();
+    eventBus.register(listener);
+
+    DummyArtifactCache dummyArtifactCache = new DummyArtifactCache();
+    dummyArtifactCache.store(
+        ArtifactInfo.builder().addRuleKeys(dummyRuleKey2).build(),
+        BorrowablePath.notBorrowablePath(dummyFile.get()));
+    RemoteRuleKeyFilter ruleKeyFilter = createRuleKeyFilter(eventBus, dummyRuleKey);
+    MultiArtifactCache multiArtifactCache =
+        new MultiArtifactCache(
+            ImmutableList.of(dummyArtifactCache),
+            ImmutableMap.of(dummyArtifactCache, ruleKeyFilter));
+
+    assertEquals(
+        CacheResultType.MISS,
+        Futures.getUnchecked(multiArtifactCache.fetchAsync(null, dummyRuleKey2, dummyFile))
+            .getType());
+    assertEquals(
+        CacheResultType.MISS,
+        Futures.getUnchecked(
+                multiArtifactCache.multiContainsAsync(ImmutableSet.of(dummyRuleKey2)))
+            .get(dummyRuleKey2)
+            .getType());
+
+    dummyArtifactCache.store(
+        ArtifactInfo.builder().addRuleKeys(dummyRuleKey).build(),
+        BorrowablePath.notBorrowablePath(dummyFile.get()));
+    assertEquals(
+        CacheResultType.HIT,
+        Futures.getUnchecked(multiArtifactCache.fetchAsync(null, dummyRuleKey, dummyFile))
+            .getType());
+
+    // Skipped lookups are reported together once the command is done with the filter.
+    assertEquals(ImmutableList.of(), getRuleKeyFilterEvents(listener));
+    multiArtifactCache.close();
+    eventBus.waitEvents(1000);
+    ImmutableList<RuleKeyFilterEvent> events = getRuleKeyFilterEvents(listener);
+    assertEquals(1, events.size());
+    assertEquals(2, events.get(0).getSkipped());
+    assertEquals(0, events.get(0).getFalsePositives());
+    ruleKeyFilter.close();
+  }
+
+  @Test
+  public void missesOfKeysInTheRuleKeyFilterAreFalsePositives() throws IOException {
+    BuckEventBus eventBus = BuckEventBusForTests.newInstance();
+    FakeBuckEventListener listener = new FakeBuckEventListener();
+    eventBus.register(listener);
+
+    DummyArtifactCache dummyArtifactCache = new DummyArtifactCache();
+    RemoteRuleKeyFilter ruleKeyFilter = createRuleKeyFilter(eventBus, dummyRuleKey);
+    MultiArtifactCache multiArtifactCache =
+        new MultiArtifactCache(
+            ImmutableList.of(dummyArtifactCache),
+            ImmutableMap.of(dummyArtifactCache, ruleKeyFilter));
+
+    assertEquals(
+        CacheResultType.MISS,
+        Futures.getUnchecked(multiArtifactCache.fetchAsync(null, dummyRuleKey, dummyFile))
+            .getType());
+
+    multiArtifactCache.close();
+    eventBus.waitEvents(1000);
+    ImmutableList<RuleKeyFilterEvent> events = getRuleKeyFilterEvents(listener);
+    assertEquals(1, events.size());
+    assertEquals(0, events.get(0).getSkipped());
+    assertEquals(1, events.get(0).getFalsePositives());
+    ruleKeyFilter.close();
+  }
+
+  @Test
+  public void ruleKeyFilterOutlivesTheCommand() throws IOException {
+    BuckEventBus eventBus = BuckEventBusForTests.newInstance();
+    RemoteRuleKeyFilter ruleKeyFilter = createRuleKeyFilter(eventBus, dummyRuleKey);
+    DummyArtifactCache dummyArtifactCache = new DummyArtifactCache();
+    new MultiArtifactCache(
+            ImmutableList.of(dummyArtifactCache),
+            ImmutableMap.of(dummyArtifactCache, ruleKeyFilter))
+        .close();
+
+    // The next command uses the filter downloaded before, without waiting for a refresh.
+    assertFalse(ruleKeyFilter.mightContain(dummyRuleKey2));
+    assertTrue(ruleKeyFilter.mightContain(dummyRuleKey));
+    ruleKeyFilter.close();
+  }
+
+  private static class InMemoryHttpResponse implements HttpResponse {
+    private final byte[] body;
+
+    private InMemoryHttpResponse(byte[] body) {
+      this.body = body;
+    }
+
+    @Override
+    public int statusCode() {
+      return 200;
+    }
+
+    @Override
+    public String statusMessage() {
+      return "OK";
+    }
+
+    @Override
+    public long contentLength() {
+      return body.length;
+    }
+
+    @Override
+    public InputStream getBody() {
+      return new ByteArrayInputStream(body);
+    }
+
+    @Override
+    public String requestUrl() {
+      return "/rule_key_filter";
+    }
+
+    @Override
+    public void close() {}
+  }
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * A {@link StreamingLazyPath} which records the start of the payloads it consumes, and leaves the
+ * rest unread.
+ */
+class RecordingStreamingLazyPath extends StreamingLazyPath {
+  private final Path path;
+  private final int bytesToRead;
+  private byte[] consumedBytes = new byte[0];
+
+  RecordingStreamingLazyPath(Path path, int bytesToRead) {
+    this.path = path;
+    this.bytesToRead = bytesToRead;
+  }
+
+  @Override
+  protected Path create() {
+    return path;
+  }
+
+  @Override
+  protected void consume(InputStream payload) throws IOException {
+    consumedBytes = ByteStreams.toByteArray(ByteStreams.limit(payload, bytesToRead));
+    payload.close();
+  }
+
+  byte[] getConsumedBytes() {
+    return consumedBytes;
+  }
+}
@@ -25,42 +25,58 @@ import com.facebook.buck.io.file.LazyPath;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.io.filesystem.TestProjectFilesystems;
 import com.facebook.buck.testutil.TemporaryPaths;
-import com.google.caliper.AfterExperiment;
-import com.google.caliper.BeforeExperiment;
-import com.google.caliper.Benchmark;
-import com.google.caliper.Param;
 import com.google.common.hash.HashCode;
 import com.google.common.util.concurrent.Futures;
-import com.google.common.util.concurrent.ListeningExecutorService;
-import com.google.common.util.concurrent.MoreExecutors;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
-import java.util.concurrent.Executors;
-import org.junit.After;
-import org.junit.Before;
-import org.junit.Ignore;
-import org.junit.Rule;
-import org.junit.Test;
-
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Measures storing and fetching metadata and artifacts in a {@link SQLiteArtifactCache}. This
+ * lives next to the cache rather than in the benchmarks module because the cache can only be
+ * created from within its package.
+ *
+ * <p>The {@code concurrent*} benchmarks measure the throughput of single operations from several
+ * build threads at once, which is how the cache is used during a build.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
 public class SQLiteArtifactCacheBenchmark {
-  @Rule public TemporaryPaths tmpDir = new TemporaryPaths();
 
   @Param({"1000", "10000", "100000"})
-  private int opCount = 100;
+  public int opCount;
 
-  @Param({"5", "10"})
-  private int threadCount = 2;
-
-  private static final Random random = new Random(12345);
   private static final long MAX_INLINED_BYTES = 1024;
+  private static final int THREADS = 8;
+
+  private final TemporaryPaths tmpDir = new TemporaryPaths();
 
-  private ProjectFilesystem filesystem;
   private List<RuleKey> ruleKeys;
   private List<RuleKey> contentHashes;
   private List<ArtifactInfo> metadataInfo;
@@ -72,36 +88,36 @@ public class SQLiteArtifactCacheBenchmark {
   private Path cacheDir;
   private LazyPath output;
   private SQLiteArtifactCache artifactCache;
-  private ListeningExecutorService executor;
 
-  @Before
-  public void setUp() throws IOException, SQLException {
-    filesystem = TestProjectFilesystems.createProjectFilesystem(tmpDir.getRoot());
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    tmpDir.before();
+    ProjectFilesystem filesystem = TestProjectFilesystems.createProjectFilesystem(tmpDir.getRoot());
 
     emptyFile = tmpDir.newFile(".empty");
     inlinedFile = tmpDir.newFile(".inlined");
     largeFile = tmpDir.newFile(".large");
     Files.write(inlinedFile, new byte[] {'a', 'r', 't', 'i', 'f', 'a', 'c', 't'});
-    for (int i = 0; i < MAX_INLINED_BYTES; i++) {
-      Files.write(largeFile, new byte[] {'b', 'i', 'g'});
-    }
+    Files.write(largeFile, new byte[(int) MAX_INLINED_BYTES * 3]);
 
     cacheDir = tmpDir.newFolder();
     output = LazyPath.ofInstance(cacheDir.resolve(".output"));
-
-    setUpBenchmark();
-  }
-
-  @BeforeExperiment
-  private void setUpBenchmark() throws IOException, SQLException {
-    artifactCache = cache(Optional.of(1024 * 1024 * 1024L));
+    artifactCache =
+        new SQLiteArtifactCache(
+            "sqlite",
+            filesystem,
+            cacheDir,
+            BuckEventBusForTests.newInstance(),
+            Optional.of(1024 * 1024 * 1024L),
+            Optional.of(MAX_INLINED_BYTES),
+            CacheReadMode.READWRITE);
+
+    Random random = new Random(12345);
     byte[] randomRuleKey = new byte[16];
-
     ruleKeys = new ArrayList<>(opCount);
     contentHashes = new ArrayList<>(opCount);
     metadataInfo = new ArrayList<>(opCount);
     contentInfo = new ArrayList<>(opCount);
-
     for (int i = 0; i < opCount; i++) {
       random.nextBytes(randomRuleKey);
       RuleKey ruleKey = new RuleKey(HashCode.fromBytes(randomRuleKey));
@@ -119,77 +135,107 @@ public class SQLiteArtifactCacheBenchmark {
       contentHashes.add(contentHash);
       contentInfo.add(ArtifactInfo.builder().addRuleKeys(contentHash).build());
     }
+
+    // Populate the cache so that the fetch benchmarks hit.
+    storeMetadata();
+    storeArtifacts();
   }
 
-  @After
-  @AfterExperiment
+  @TearDown(Level.Trial)
   public void tearDown() {
     artifactCache.close();
-    executor.shutdown();
-  }
-
-  private SQLiteArtifactCache cache(Optional<Long> maxCacheSizeBytes)
-      throws IOException, SQLException {
-    return new SQLiteArtifactCache(
-        "sqlite",
-        filesystem,
-        cacheDir,
-        BuckEventBusForTests.newInstance(),
-        maxCacheSizeBytes,
-        Optional.of(MAX_INLINED_BYTES),
-        CacheReadMode.READWRITE);
-  }
-
-  @Ignore
-  @Test
-  public void testSingleThreaded() {
-    executor = MoreExecutors.newDirectExecutorService();
-    runAllBenchmarks();
+    tmpDir.after();
   }
 
-  @Ignore
-  @Test
-  public void testMultiThreaded() {
-    executor = MoreExecutors.listeningDecorator(Executors.newFixedThreadPool(threadCount));
-    runAllBenchmarks();
+  @Benchmark
+  public void storeMetadata() {
+    for (ArtifactInfo info : metadataInfo) {
+      Futures.getUnchecked(
+          artifactCache.store(info, BorrowablePath.notBorrowablePath(emptyFile)));
+    }
   }
 
-  private void runAllBenchmarks() {
-    benchMetadataStore();
-    benchMetadataFetch();
-    benchArtifactStore();
-    benchArtifactFetch();
+  @Benchmark
+  public void fetchMetadata(Blackhole blackhole) {
+    for (RuleKey key : ruleKeys) {
+      blackhole.consume(Futures.getUnchecked(artifactCache.fetchAsync(null, key, output)));
+    }
   }
 
   @Benchmark
-  private void benchMetadataStore() {
-    for (ArtifactInfo info : metadataInfo) {
-      artifactCache.store(info, BorrowablePath.notBorrowablePath(emptyFile));
+  public void storeArtifacts() {
+    for (int i = 0; i < contentInfo.size(); i++) {
+      // Half of the artifacts are small enough to be inlined in the database.
+      Path content = i % 2 == 0 ? inlinedFile : largeFile;
+      Futures.getUnchecked(
+          artifactCache.store(contentInfo.get(i), BorrowablePath.notBorrowablePath(content)));
     }
   }
 
   @Benchmark
-  private void benchMetadataFetch() {
-    for (RuleKey key : ruleKeys) {
-      Futures.getUnchecked(artifactCache.fetchAsync(null, key, output));
+  public void fetchArtifacts(Blackhole blackhole) {
+    for (RuleKey key : contentHashes) {
+      blackhole.consume(Futures.getUnchecked(artifactCache.fetchAsync(null, key, output)));
     }
   }
 
-  @Benchmark
-  private void benchArtifactStore() {
-    for (int i = 0; i < contentInfo.size() / 2; i++) {
-      artifactCache.store(contentInfo.get(i), BorrowablePath.notBorrowablePath(inlinedFile));
+  /** The state of each thread running one of the multi-threaded benchmarks. */
+  @State(Scope.Thread)
+  public static class ThreadState {
+    private LazyPath output;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp(SQLiteArtifactCacheBenchmark benchmark) throws IOException {
+      output = LazyPath.ofInstance(Files.createTempFile(benchmark.cacheDir, "output", null));
+      // Start each thread at a different entry so that they don't all contend on the same keys.
+      next = (int) Thread.currentThread().getId() * 7919;
     }
 
-    for (int i = contentInfo.size() / 2; i < contentInfo.size(); i++) {
-      artifactCache.store(contentInfo.get(i), BorrowablePath.notBorrowablePath(largeFile));
+    private int nextIndex(int size) {
+      return Math.floorMod(next++, size);
     }
   }
 
   @Benchmark
-  private void benchArtifactFetch() {
-    for (RuleKey key : ruleKeys) {
-      Futures.getUnchecked(artifactCache.fetchAsync(null, key, output));
+  @BenchmarkMode(Mode.Throughput)
+  @Threads(THREADS)
+  public void concurrentFetch(ThreadState state, Blackhole blackhole) {
+    int i = state.nextIndex(opCount);
+    blackhole.consume(
+        Futures.getUnchecked(artifactCache.fetchAsync(null, ruleKeys.get(i), state.output)));
+    blackhole.consume(
+        Futures.getUnchecked(
+            artifactCache.fetchAsync(null, contentHashes.get(i), state.output)));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @Threads(THREADS)
+  public void concurrentStore(ThreadState state) {
+    int i = state.nextIndex(opCount);
+    Futures.getUnchecked(
+        artifactCache.store(metadataInfo.get(i), BorrowablePath.notBorrowablePath(emptyFile)));
+    Futures.getUnchecked(
+        artifactCache.store(contentInfo.get(i), BorrowablePath.notBorrowablePath(inlinedFile)));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @Threads(THREADS)
+  public void concurrentFetchAndStore(ThreadState state, Blackhole blackhole) {
+    // Builds mostly fetch, and store what they miss.
+    int i = state.nextIndex(opCount);
+    if (i % 4 == 0) {
+      Futures.getUnchecked(
+          artifactCache.store(metadataInfo.get(i), BorrowablePath.notBorrowablePath(emptyFile)));
+    } else {
+      blackhole.consume(
+          Futures.getUnchecked(artifactCache.fetchAsync(null, ruleKeys.get(i), state.output)));
     }
   }
+
+  public static void main(String[] args) throws IOException, RunnerException {
+    Main.main(new String[] {SQLiteArtifactCacheBenchmark.class.getName()});
+  }
 }
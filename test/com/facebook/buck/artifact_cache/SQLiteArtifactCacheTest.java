@@ -42,6 +42,8 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.Duration;
@@ -271,6 +273,52 @@ public class SQLiteArtifactCacheTest {
     assertFalse(Files.exists(fileB));
   }
 
+  @Test
+  public void testStoresAreCommittedOnClose() throws IOException, SQLException {
+    artifactCache = cache(Optional.empty());
+
+    writeInlinedArtifact(fileA);
+    artifactCache.store(
+        ArtifactInfo.builder()
+            .addRuleKeys(ruleKeyA)
+            .putMetadata(METADATA_KEY, contentHashA.toString())
+            .build(),
+        BorrowablePath.notBorrowablePath(emptyFile));
+    artifactCache.store(artifactInfoA, BorrowablePath.notBorrowablePath(fileA));
+    assertEquals(
+        CacheResultType.HIT,
+        Futures.getUnchecked(artifactCache.fetchAsync(null, ruleKeyA, output)).getType());
+    artifactCache.close();
+
+    artifactCache = cache(Optional.empty());
+    assertEquals(
+        CacheResultType.HIT,
+        Futures.getUnchecked(artifactCache.fetchAsync(null, ruleKeyA, output)).getType());
+    assertEquals(
+        CacheResultType.HIT,
+        Futures.getUnchecked(artifactCache.fetchAsync(null, contentHashA, output)).getType());
+  }
+
+  @Test
+  public void testFilesOfUncommittedStoresAreDeleted() throws Exception {
+    artifactCache = cache(Optional.empty());
+
+    writeFileArtifact(fileA);
+    artifactCache.store(artifactInfoA, BorrowablePath.notBorrowablePath(fileA));
+    Path artifact = filesystem.resolve(artifactCache.getArtifactPath(contentHashA));
+    assertTrue(Files.exists(artifact));
+
+    // Make the commit of the buffered store fail.
+    try (Connection connection =
+        DriverManager.getConnection("jdbc:sqlite:" + cacheDir.resolve("dircache.db"))) {
+      connection.createStatement().executeUpdate("DROP TABLE content");
+    }
+    artifactCache.close();
+    artifactCache = null;
+
+    assertFalse(Files.exists(artifact));
+  }
+
   @Test
   public void testDeleteMetadata() throws Exception {
     artifactCache = cache(Optional.of(0L));
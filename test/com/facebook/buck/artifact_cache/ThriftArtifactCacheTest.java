@@ -22,6 +22,7 @@ import static com.facebook.buck.artifact_cache.thrift.ContainsResultType.UNKNOWN
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 import com.facebook.buck.artifact_cache.config.ArtifactCacheMode;
 import com.facebook.buck.artifact_cache.config.CacheReadMode;
@@ -378,6 +379,105 @@ public class ThriftArtifactCacheTest {
     assertEquals(1, fetchClient.getCallsCount());
   }
 
+  @Test
+  public void testMultiFetchStreamsPayloads() throws IOException {
+    AtomicReference<BuckCacheResponse> responseRef = new AtomicReference<>();
+    String payload0 = "streamed payload0";
+    String payload1 = "payload1";
+    byte[] payloadBytes0 = payload0.getBytes(Charsets.UTF_8);
+    byte[] payloadBytes1 = payload1.getBytes(Charsets.UTF_8);
+    HttpService storeClient = new TestHttpService();
+    TestHttpService fetchClient =
+        new TestHttpService(
+            () -> new InMemoryThriftResponse(responseRef.get(), payloadBytes0, payloadBytes1));
+    ProjectFilesystem filesystem =
+        TestProjectFilesystems.createProjectFilesystem(tempPaths.getRoot());
+    ListeningExecutorService service = MoreExecutors.newDirectExecutorService();
+    CellPathResolver cellPathResolver = TestCellPathResolver.get(filesystem);
+    NetworkCacheArgs networkArgs =
+        ImmutableNetworkCacheArgs.builder()
+            .setCacheName("default_cache_name")
+            .setRepository("default_repository")
+            .setCacheReadMode(CacheReadMode.READONLY)
+            .setCacheMode(ArtifactCacheMode.thrift_over_http)
+            .setScheduleType("default_schedule_type")
+            .setTargetConfigurationSerializer(
+                TargetConfigurationSerializerForTests.create(cellPathResolver))
+            .setUnconfiguredBuildTargetFactory(
+                target ->
+                    new ParsingUnconfiguredBuildTargetViewFactory()
+                        .create(target, cellPathResolver.getCellNameResolver()))
+            .setProjectFilesystem(filesystem)
+            .setFetchClient(fetchClient)
+            .setStoreClient(storeClient)
+            .setBuckEventBus(BuckEventBusForTests.newInstance())
+            .setHttpWriteExecutorService(service)
+            .setHttpFetchExecutorService(service)
+            .setErrorTextTemplate("my super error msg")
+            .setErrorTextLimit(100)
+            .build();
+
+    // The first payload is only partially read by its output, the second one is written to a file.
+    Path output0 = filesystem.getPath("output0");
+    Path output1 = filesystem.getPath("output1");
+    RecordingStreamingLazyPath streamingOutput0 = new RecordingStreamingLazyPath(output0, 8);
+
+    SettableFuture<CacheResult> future = SettableFuture.create();
+    com.facebook.buck.core.rulekey.RuleKey key0 =
+        new com.facebook.buck.core.rulekey.RuleKey(HashCode.fromInt(0));
+    com.facebook.buck.core.rulekey.RuleKey key1 =
+        new com.facebook.buck.core.rulekey.RuleKey(HashCode.fromInt(1));
+    ImmutableList<AbstractAsynchronousCache.FetchRequest> requests =
+        ImmutableList.of(
+            new AbstractAsynchronousCache.FetchRequest(null, key0, streamingOutput0, future),
+            new AbstractAsynchronousCache.FetchRequest(
+                null, key1, LazyPath.ofInstance(output1), future));
+
+    ArtifactMetadata metadata0 = new ArtifactMetadata();
+    metadata0.addToRuleKeys(new RuleKey().setHashString(key0.getHashCode().toString()));
+    metadata0.setArtifactPayloadMd5(Hashing.md5().hashBytes(payloadBytes0).toString());
+    metadata0.setMetadata(ImmutableMap.of());
+    ArtifactMetadata metadata1 = new ArtifactMetadata();
+    metadata1.addToRuleKeys(new RuleKey().setHashString(key1.getHashCode().toString()));
+    metadata1.setArtifactPayloadMd5(Hashing.md5().hashBytes(payloadBytes1).toString());
+    metadata1.setMetadata(ImmutableMap.of());
+
+    BuckCacheMultiFetchResponse multiFetchResponse = new BuckCacheMultiFetchResponse();
+    multiFetchResponse.addToResults(
+        new FetchResult().setResultType(FetchResultType.HIT).setMetadata(metadata0));
+    multiFetchResponse.addToResults(
+        new FetchResult().setResultType(FetchResultType.HIT).setMetadata(metadata1));
+    responseRef.set(
+        new BuckCacheResponse()
+            .setWasSuccessful(true)
+            .setType(BuckCacheRequestType.MULTI_FETCH)
+            .setMultiFetchResponse(multiFetchResponse)
+            .setPayloads(
+                ImmutableList.of(
+                    new PayloadInfo().setSizeBytes(payloadBytes0.length),
+                    new PayloadInfo().setSizeBytes(payloadBytes1.length))));
+
+    try (ThriftArtifactCache cache =
+        new ThriftArtifactCache(
+            networkArgs,
+            "/nice_as_well",
+            new BuildId("aabb"),
+            0,
+            0,
+            false,
+            "test://",
+            "hostname")) {
+      AbstractAsynchronousCache.MultiFetchResult result = cache.multiFetchImpl(requests);
+      assertEquals(CacheResultType.HIT, result.getResults().get(0).getCacheResult().getType());
+      assertEquals(CacheResultType.HIT, result.getResults().get(1).getCacheResult().getType());
+
+      assertTrue(streamingOutput0.wasConsumed());
+      assertEquals("streamed", new String(streamingOutput0.getConsumedBytes(), Charsets.UTF_8));
+      assertFalse(filesystem.exists(output0));
+      assertEquals(payload1, filesystem.readFileIfItExists(output1).get());
+    }
+  }
+
   @Test
   public void testMultiContains() throws IOException {
     AtomicReference<BuckCacheResponse> responseRef = new AtomicReference<>();
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.BuildTargetFactory;
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.facebook.buck.core.rules.TestBuildRuleParams;
+import com.facebook.buck.core.rules.impl.FakeBuildRule;
+import com.facebook.buck.event.BuckEventBusForTests;
+import com.facebook.buck.io.file.LazyPath;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.facebook.buck.util.unarchive.ExistingFileMode;
+import com.facebook.buck.util.unarchive.Untar;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import java.io.BufferedInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class ZstdDictionariesTest {
+  private static final BuildTarget BUILD_TARGET = BuildTargetFactory.newInstance("//foo:bar");
+
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  private ProjectFilesystem filesystem;
+
+  @Before
+  public void setUp() {
+    filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+  }
+
+  /** Trains a dictionary on samples made of identifiers drawn from a small vocabulary. */
+  static byte[] trainDictionary() {
+    ZstdDictionaryTrainer trainer = new ZstdDictionaryTrainer();
+    Random random = new Random(42);
+    for (int i = 0; i < 200; i++) {
+      trainer.addSample("java_library", generateSample(random));
+    }
+    return trainer.train().get("java_library");
+  }
+
+  static byte[] generateSample(Random random) {
+    StringBuilder builder = new StringBuilder();
+    while (builder.length() < 2048) {
+      builder.append("com/example/pkg").append(random.nextInt(50)).append("/Class");
+      builder.append(random.nextInt(1000)).append(random.nextBoolean() ? ';' : '(');
+    }
+    return builder.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Test
+  public void savedDictionariesAreUsedForTheirRuleTypeWhenEnabled() throws Exception {
+    byte[] dictionary = trainDictionary();
+    ImmutableMap<String, String> ids =
+        ZstdDictionaries.load(filesystem, true).save(ImmutableMap.of("java_library", dictionary));
+    String id = ids.get("java_library");
+
+    ZstdDictionaries enabled = ZstdDictionaries.load(filesystem, true);
+    assertEquals(Optional.of(id), enabled.getIdForRuleType("java_library"));
+    assertEquals(Optional.empty(), enabled.getIdForRuleType("genrule"));
+    assertArrayEquals(dictionary, enabled.getLocally(id).get());
+
+    ZstdDictionaries disabled = ZstdDictionaries.load(filesystem, false);
+    assertEquals(Optional.empty(), disabled.getIdForRuleType("java_library"));
+    assertArrayEquals(dictionary, disabled.getLocally(id).get());
+  }
+
+  @Test
+  public void savingKeepsTheDictionariesOfOtherRuleTypes() throws Exception {
+    byte[] dictionary = trainDictionary();
+    ZstdDictionaries.load(filesystem, true).save(ImmutableMap.of("java_library", dictionary));
+    ZstdDictionaries.load(filesystem, true).save(ImmutableMap.of("genrule", dictionary));
+
+    ZstdDictionaries dictionaries = ZstdDictionaries.load(filesystem, true);
+    assertTrue(dictionaries.getIdForRuleType("java_library").isPresent());
+    assertEquals(
+        dictionaries.getIdForRuleType("java_library"), dictionaries.getIdForRuleType("genrule"));
+  }
+
+  @Test
+  public void dictionaryIsIdentifiedFromTheCompressedArtifact() throws Exception {
+    byte[] dictionary = trainDictionary();
+    String id =
+        ZstdDictionaries.load(filesystem, true)
+            .save(ImmutableMap.of("java_library", dictionary))
+            .get("java_library");
+
+    Path file = Paths.get("file");
+    byte[] contents = generateSample(new Random(7));
+    filesystem.writeBytesToPath(contents, file);
+    Path archive = tmp.getRoot().resolve("archive");
+    ArtifactUploader.compress(filesystem, ImmutableList.of(file), archive, dictionary);
+
+    ZstdDictionaries dictionaries = ZstdDictionaries.load(filesystem, false);
+    try (BufferedInputStream compressed =
+        new BufferedInputStream(Files.newInputStream(archive))) {
+      long zstdId = ZstdDictionaries.peekZstdId(compressed);
+      assertEquals(Optional.of(id), dictionaries.getIdByZstdId(zstdId));
+    }
+
+    ProjectFilesystem output =
+        TestProjectFilesystems.createProjectFilesystem(tmp.newFolder("output"));
+    Untar.zstdUnarchiver(dictionary).extractArchive(archive, output, ExistingFileMode.OVERWRITE);
+    assertArrayEquals(contents, Files.readAllBytes(output.resolve(file)));
+  }
+
+  @Test
+  public void framesWithoutADictionaryHaveNoZstdId() throws Exception {
+    Path file = Paths.get("file");
+    filesystem.writeContentsToPath("contents", file);
+    Path archive = tmp.getRoot().resolve("archive");
+    ArtifactUploader.compress(filesystem, ImmutableList.of(file), archive);
+
+    try (BufferedInputStream compressed =
+        new BufferedInputStream(Files.newInputStream(archive))) {
+      assertEquals(0, ZstdDictionaries.peekZstdId(compressed));
+    }
+  }
+
+  @Test
+  public void dictionariesAreFetchedFromTheCacheAndKeptOnDisk() throws Exception {
+    byte[] dictionary = trainDictionary();
+    ZstdDictionaries uploader = ZstdDictionaries.load(filesystem, true);
+    String id = uploader.save(ImmutableMap.of("java_library", dictionary)).get("java_library");
+    InMemoryArtifactCache cache = new InMemoryArtifactCache();
+    uploader.store(cache, BUILD_TARGET, id, 0).get();
+    // Storing is only done once per dictionary.
+    uploader.store(cache, BUILD_TARGET, id, 0).get();
+    assertEquals(1, cache.getArtifactCount());
+    assertTrue(cache.hasArtifact(ZstdDictionaries.getContentKey(id)));
+
+    ProjectFilesystem otherFilesystem =
+        TestProjectFilesystems.createProjectFilesystem(tmp.newFolder("other"));
+    ZstdDictionaries fetcher = ZstdDictionaries.load(otherFilesystem, false);
+    assertFalse(fetcher.getLocally(id).isPresent());
+    assertArrayEquals(dictionary, fetcher.fetch(cache, BUILD_TARGET, id).get().get());
+    assertArrayEquals(
+        dictionary, ZstdDictionaries.load(otherFilesystem, false).getLocally(id).get());
+  }
+
+  @Test
+  public void fetchedDictionariesMustMatchTheirId() throws Exception {
+    byte[] dictionary = trainDictionary();
+    String id =
+        ZstdDictionaries.load(filesystem, true)
+            .save(ImmutableMap.of("java_library", dictionary))
+            .get("java_library");
+    InMemoryArtifactCache cache = new InMemoryArtifactCache();
+    cache.store(
+        ArtifactInfo.builder().addRuleKeys(ZstdDictionaries.getContentKey(id)).build(),
+        "not the dictionary".getBytes(StandardCharsets.UTF_8));
+
+    ZstdDictionaries fetcher =
+        ZstdDictionaries.load(
+            TestProjectFilesystems.createProjectFilesystem(tmp.newFolder("other")), false);
+    assertEquals(Optional.empty(), fetcher.fetch(cache, BUILD_TARGET, id).get());
+    assertEquals(Optional.empty(), fetcher.fetch(new InMemoryArtifactCache(), null, id).get());
+  }
+
+  @Test
+  public void artifactsAreCompressedWithTheDictionaryOfTheirRuleType() throws Exception {
+    FakeBuildRule rule = new FakeBuildRule(BUILD_TARGET, filesystem, TestBuildRuleParams.create());
+    byte[] dictionary = trainDictionary();
+    String id =
+        ZstdDictionaries.load(filesystem, true)
+            .save(ImmutableMap.of(rule.getType(), dictionary))
+            .get(rule.getType());
+
+    Path file = Paths.get("file");
+    byte[] contents = generateSample(new Random(7));
+    filesystem.writeBytesToPath(contents, file);
+    InMemoryArtifactCache cache = new InMemoryArtifactCache();
+    ArtifactUploader.performUploadToArtifactCache(
+            ImmutableSet.of(new RuleKey("aa")),
+            cache,
+            BuckEventBusForTests.newInstance(),
+            ImmutableMap.of(),
+            ImmutableSortedSet.of(file),
+            rule,
+            1000,
+            Optional.empty(),
+            ZstdDictionaries.load(filesystem, true))
+        .get();
+
+    assertTrue(cache.hasArtifact(ZstdDictionaries.getContentKey(id)));
+    Path artifact = tmp.getRoot().resolve("artifact");
+    CacheResult result =
+        cache.fetchAsync(BUILD_TARGET, new RuleKey("aa"), LazyPath.ofInstance(artifact)).get();
+    assertEquals(id, result.getMetadata().get(ZstdDictionaries.METADATA_KEY));
+    assertEquals(
+        rule.getType(), result.getMetadata().get(ZstdDictionaries.RULE_TYPE_METADATA_KEY));
+
+    ProjectFilesystem output =
+        TestProjectFilesystems.createProjectFilesystem(tmp.newFolder("output"));
+    Untar.zstdUnarchiver(dictionary).extractArchive(artifact, output, ExistingFileMode.OVERWRITE);
+    assertArrayEquals(contents, Files.readAllBytes(output.resolve(file)));
+  }
+
+  @Test
+  public void artifactsAreNotCompressedWithDictionariesWhenDisabled() throws Exception {
+    FakeBuildRule rule = new FakeBuildRule(BUILD_TARGET, filesystem, TestBuildRuleParams.create());
+    ZstdDictionaries.load(filesystem, true)
+        .save(ImmutableMap.of(rule.getType(), trainDictionary()));
+
+    Path file = Paths.get("file");
+    filesystem.writeContentsToPath("contents", file);
+    InMemoryArtifactCache cache = new InMemoryArtifactCache();
+    ArtifactUploader.performUploadToArtifactCache(
+            ImmutableSet.of(new RuleKey("aa")),
+            cache,
+            BuckEventBusForTests.newInstance(),
+            ImmutableMap.of(),
+            ImmutableSortedSet.of(file),
+            rule,
+            1000,
+            Optional.empty(),
+            ZstdDictionaries.load(filesystem, false))
+        .get();
+
+    assertEquals(1, cache.getArtifactCount());
+    CacheResult result =
+        cache
+            .fetchAsync(
+                BUILD_TARGET,
+                new RuleKey("aa"),
+                LazyPath.ofInstance(tmp.getRoot().resolve("artifact")))
+            .get();
+    assertFalse(result.getMetadata().containsKey(ZstdDictionaries.METADATA_KEY));
+    assertFalse(result.getMetadata().containsKey(ZstdDictionaries.RULE_TYPE_METADATA_KEY));
+  }
+
+  @Test
+  public void tooFewSamplesTrainNoDictionary() {
+    ZstdDictionaryTrainer trainer = new ZstdDictionaryTrainer();
+    Random random = new Random(42);
+    for (int i = 0; i < ZstdDictionaryTrainer.MIN_SAMPLES - 1; i++) {
+      trainer.addSample("java_library", generateSample(random));
+    }
+    trainer.addSample("genrule", new byte[ZstdDictionaryTrainer.MAX_SAMPLE_SIZE + 1]);
+
+    assertEquals(
+        ImmutableSortedMap.of("java_library", ZstdDictionaryTrainer.MIN_SAMPLES - 1),
+        trainer.getSampleCounts());
+    assertTrue(trainer.train().isEmpty());
+  }
+}
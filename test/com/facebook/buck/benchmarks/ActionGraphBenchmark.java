@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.benchmarks;
+
+import com.facebook.buck.core.model.actiongraph.ActionGraphAndBuilder;
+import com.facebook.buck.core.model.actiongraph.computation.ActionGraphProvider;
+import com.facebook.buck.core.model.actiongraph.computation.ActionGraphProviderBuilder;
+import com.facebook.buck.core.model.targetgraph.TargetGraphCreationResult;
+import com.facebook.buck.core.model.targetgraph.TestTargetGraphCreationResultFactory;
+import com.facebook.buck.io.filesystem.impl.FakeProjectFilesystem;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures creating a fresh action graph from the target graph of a synthetic repository. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ActionGraphBenchmark {
+
+  @Param({"1000", "10000"})
+  public int ruleCount;
+
+  private ActionGraphProvider actionGraphProvider;
+  private TargetGraphCreationResult targetGraphCreationResult;
+
+  @Setup
+  public void setUp() {
+    SyntheticRepo repo = SyntheticRepo.of(ruleCount);
+    targetGraphCreationResult =
+        TestTargetGraphCreationResultFactory.create(
+            repo.createTargetGraph(new FakeProjectFilesystem()));
+    actionGraphProvider = new ActionGraphProviderBuilder().build();
+  }
+
+  @Benchmark
+  public ActionGraphAndBuilder createActionGraph() {
+    return actionGraphProvider.getFreshActionGraph(targetGraphCreationResult);
+  }
+}
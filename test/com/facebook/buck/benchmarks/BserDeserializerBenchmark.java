@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.benchmarks;
+
+import com.facebook.buck.util.bser.BserDeserializer;
+import com.facebook.buck.util.bser.BserSerializer;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures decoding watchman responses for the files of a synthetic repository: a query result
+ * with a map of fields per file, and a glob result with names only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class BserDeserializerBenchmark {
+
+  @Param({"1000", "25000"})
+  public int ruleCount;
+
+  @Param({"UNSORTED", "SORTED"})
+  public BserDeserializer.KeyOrdering keyOrdering;
+
+  private BserDeserializer deserializer;
+  private byte[] queryResponse;
+  private byte[] globResponse;
+
+  @Setup
+  public void setUp() throws IOException {
+    ImmutableList<Path> srcs = SyntheticRepo.of(ruleCount).getAllSrcs();
+
+    ImmutableList.Builder<Object> files = ImmutableList.builder();
+    ImmutableList.Builder<Object> names = ImmutableList.builder();
+    for (int i = 0; i < srcs.size(); i++) {
+      String name = srcs.get(i).toString();
+      files.add(
+          ImmutableMap.of(
+              "name", name, "exists", true, "new", i % 7 == 0, "type", "f", "size", 100L + i));
+      names.add(name);
+    }
+
+    queryResponse =
+        serialize(
+            ImmutableMap.of(
+                "version", "4.9.0",
+                "clock", "c:1234567890:12345:1:42",
+                "is_fresh_instance", false,
+                "files", files.build()));
+    globResponse =
+        serialize(
+            ImmutableMap.of(
+                "version", "4.9.0", "clock", "c:1234567890:12345:1:42", "files", names.build()));
+    deserializer = new BserDeserializer(keyOrdering);
+  }
+
+  @Benchmark
+  public Object decodeQueryResponse() throws IOException {
+    return deserializer.deserializeBserValue(new ByteArrayInputStream(queryResponse));
+  }
+
+  @Benchmark
+  public Object decodeGlobResponse() throws IOException {
+    return deserializer.deserializeBserValue(new ByteArrayInputStream(globResponse));
+  }
+
+  private static byte[] serialize(Object value) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    new BserSerializer().serializeToStream(value, output);
+    return output.toByteArray();
+  }
+}
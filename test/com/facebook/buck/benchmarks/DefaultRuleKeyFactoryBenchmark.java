@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.benchmarks;
+
+import com.facebook.buck.core.build.buildable.context.BuildableContext;
+import com.facebook.buck.core.build.context.BuildContext;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.rulekey.AddToRuleKey;
+import com.facebook.buck.core.rules.BuildRule;
+import com.facebook.buck.core.rules.SourcePathRuleFinder;
+import com.facebook.buck.core.rules.impl.AbstractBuildRule;
+import com.facebook.buck.core.rules.resolver.impl.TestActionGraphBuilder;
+import com.facebook.buck.core.sourcepath.FakeSourcePath;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.impl.FakeProjectFilesystem;
+import com.facebook.buck.rules.keys.DefaultRuleKeyFactory;
+import com.facebook.buck.rules.keys.TestDefaultRuleKeyFactory;
+import com.facebook.buck.step.Step;
+import com.facebook.buck.util.hashing.FileHashLoader;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures computing the default rule key of every rule in a large synthetic action graph, with a
+ * cold rule key cache. Run with {@code -prof gc} to track allocation per rule key.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DefaultRuleKeyFactoryBenchmark {
+
+  @Param({"100000"})
+  public int ruleCount;
+
+  private static final int RULES_PER_PACKAGE = 100;
+  private static final int SRCS_PER_RULE = 8;
+  private static final int MAX_DEPS_PER_RULE = 4;
+
+  private SourcePathRuleFinder ruleFinder;
+  private FileHashLoader hashLoader;
+  private ImmutableList<BuildRule> rules;
+
+  @Setup
+  public void setUp() {
+    ProjectFilesystem filesystem = new FakeProjectFilesystem();
+    ruleFinder = new TestActionGraphBuilder();
+    hashLoader = new ConstantFileHashLoader(Hashing.sha1().hashInt(42));
+
+    SyntheticRepo repo =
+        SyntheticRepo.of(ruleCount, RULES_PER_PACKAGE, SRCS_PER_RULE, MAX_DEPS_PER_RULE, 42);
+    List<BuildRule> created = new ArrayList<>(ruleCount);
+    for (int i = 0; i < ruleCount; i++) {
+      ImmutableSortedSet.Builder<BuildRule> deps = ImmutableSortedSet.naturalOrder();
+      for (int dep : repo.getDeps(i)) {
+        deps.add(created.get(dep));
+      }
+      ImmutableSortedSet.Builder<SourcePath> srcs = ImmutableSortedSet.naturalOrder();
+      for (Path src : repo.getSrcs(i)) {
+        srcs.add(FakeSourcePath.of(filesystem, src));
+      }
+      created.add(
+          new SyntheticRule(
+              repo.getBuildTarget(i),
+              filesystem,
+              deps.build(),
+              srcs.build(),
+              ImmutableList.of("-g", "-Xlint:all", "-DRULE=" + i),
+              i % 3 == 0 ? Optional.of("com.example.Main" + i) : Optional.empty(),
+              i));
+    }
+    rules = ImmutableList.copyOf(created);
+  }
+
+  @Benchmark
+  public void buildAllRuleKeys(Blackhole blackhole) {
+    // A new factory per invocation, so that every key is computed rather than served from the
+    // factory's rule key cache (deps are still looked up from it, as in a real build).
+    DefaultRuleKeyFactory factory = new TestDefaultRuleKeyFactory(hashLoader, ruleFinder);
+    for (BuildRule rule : rules) {
+      blackhole.consume(factory.build(rule));
+    }
+  }
+
+  /** Returns the same hash for every file, so the benchmark measures rule key building only. */
+  private static class ConstantFileHashLoader implements FileHashLoader {
+    private final HashCode hashCode;
+
+    ConstantFileHashLoader(HashCode hashCode) {
+      this.hashCode = hashCode;
+    }
+
+    @Override
+    public HashCode get(Path path) {
+      return hashCode;
+    }
+
+    @Override
+    public long getSize(Path path) {
+      return 0;
+    }
+
+    @Override
+    public HashCode getForArchiveMember(Path relativeArchivePath, Path memberPath) {
+      return hashCode;
+    }
+
+    @Override
+    public HashCode get(ProjectFilesystem filesystem, Path path) {
+      return hashCode;
+    }
+  }
+
+  /** A rule with a typical mix of rule key fields: sources, flags, an optional and a primitive. */
+  @SuppressWarnings("unused")
+  private static class SyntheticRule extends AbstractBuildRule {
+    private final ImmutableSortedSet<BuildRule> buildDeps;
+
+    @AddToRuleKey private final ImmutableSortedSet<SourcePath> srcs;
+    @AddToRuleKey private final ImmutableList<String> flags;
+    @AddToRuleKey private final Optional<String> mainClass;
+    @AddToRuleKey private final int version;
+
+    SyntheticRule(
+        BuildTarget buildTarget,
+        ProjectFilesystem projectFilesystem,
+        ImmutableSortedSet<BuildRule> buildDeps,
+        ImmutableSortedSet<SourcePath> srcs,
+        ImmutableList<String> flags,
+        Optional<String> mainClass,
+        int version) {
+      super(buildTarget, projectFilesystem);
+      this.buildDeps = buildDeps;
+      this.srcs = srcs;
+      this.flags = flags;
+      this.mainClass = mainClass;
+      this.version = version;
+    }
+
+    @Override
+    public ImmutableSortedSet<BuildRule> getBuildDeps() {
+      return buildDeps;
+    }
+
+    @Override
+    public ImmutableList<Step> getBuildSteps(
+        BuildContext context, BuildableContext buildableContext) {
+      throw new UnsupportedOperationException("getBuildSteps");
+    }
+
+    @Nullable
+    @Override
+    public SourcePath getSourcePathToOutput() {
+      return null;
+    }
+  }
+}
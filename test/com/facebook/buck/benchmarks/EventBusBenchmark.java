@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.benchmarks;
+
+import com.facebook.buck.core.model.BuildId;
+import com.facebook.buck.event.BuckEvent;
+import com.facebook.buck.event.ConsoleEvent;
+import com.facebook.buck.event.DefaultBuckEventBus;
+import com.facebook.buck.util.timing.DefaultClock;
+import com.google.common.base.Preconditions;
+import com.google.common.eventbus.Subscribe;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures posting events to a {@link DefaultBuckEventBus} with a number of registered listeners,
+ * until every event has been delivered to every listener.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class EventBusBenchmark {
+
+  @Param({"10000"})
+  public int eventCount;
+
+  @Param({"1", "10", "30"})
+  public int listenerCount;
+
+  @Param({"true", "false"})
+  public boolean async;
+
+  private final AtomicLong delivered = new AtomicLong();
+  private DefaultBuckEventBus eventBus;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    eventBus =
+        new DefaultBuckEventBus(
+            new DefaultClock(),
+            async,
+            new BuildId("benchmark"),
+            DefaultBuckEventBus.DEFAULT_SHUTDOWN_TIMEOUT_MS);
+    for (int i = 0; i < listenerCount; i++) {
+      eventBus.register(new Listener(delivered));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    eventBus.close();
+  }
+
+  @Benchmark
+  public long postEvents() {
+    delivered.set(0);
+    for (int i = 0; i < eventCount; i++) {
+      eventBus.post(ConsoleEvent.fine("event"));
+    }
+    Preconditions.checkState(eventBus.waitEvents(TimeUnit.MINUTES.toMillis(1)));
+    return delivered.get();
+  }
+
+  /**
+   * A listener subscribed both to a specific event type and to all events, like most of the
+   * listeners registered in a real build.
+   */
+  public static class Listener {
+    private final AtomicLong delivered;
+
+    Listener(AtomicLong delivered) {
+      this.delivered = delivered;
+    }
+
+    @Subscribe
+    public void onConsoleEvent(ConsoleEvent event) {
+      delivered.incrementAndGet();
+    }
+
+    @Subscribe
+    public void onAnyEvent(BuckEvent event) {
+      delivered.incrementAndGet();
+    }
+  }
+}
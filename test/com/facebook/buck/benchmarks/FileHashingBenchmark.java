@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.benchmarks;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.facebook.buck.util.cache.FileHashCacheMode;
+import com.facebook.buck.util.cache.impl.DefaultFileHashCache;
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.HashCode;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures hashing the sources of a synthetic repository with a cold {@link DefaultFileHashCache},
+ * both file by file and as a single directory hash.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class FileHashingBenchmark {
+
+  @Param({"1000", "10000"})
+  public int ruleCount;
+
+  @Param({"LOADING_CACHE", "PREFIX_TREE", "LIMITED_PREFIX_TREE"})
+  public FileHashCacheMode fileHashCacheMode;
+
+  private final TemporaryPaths tempDir = new TemporaryPaths();
+
+  private ProjectFilesystem filesystem;
+  private ImmutableList<Path> srcs;
+  private DefaultFileHashCache cache;
+
+  @Setup(Level.Trial)
+  public void setUpRepo() throws Exception {
+    tempDir.before();
+    SyntheticRepo repo = SyntheticRepo.of(ruleCount);
+    repo.writeTo(tempDir.getRoot());
+    filesystem = TestProjectFilesystems.createProjectFilesystem(tempDir.getRoot());
+    srcs = repo.getAllSrcs();
+  }
+
+  @Setup(Level.Invocation)
+  public void setUpCache() {
+    cache = DefaultFileHashCache.createDefaultFileHashCache(filesystem, fileHashCacheMode);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    tempDir.after();
+  }
+
+  @Benchmark
+  public void hashFiles(Blackhole blackhole) throws IOException {
+    for (Path src : srcs) {
+      blackhole.consume(cache.get(src));
+    }
+  }
+
+  @Benchmark
+  public HashCode hashDirectory() throws IOException {
+    return cache.get(Paths.get("java"));
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.benchmarks;
+
+import com.facebook.buck.core.build.engine.manifest.Manifest;
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.facebook.buck.core.rules.resolver.impl.TestActionGraphBuilder;
+import com.facebook.buck.core.sourcepath.FakeSourcePath;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.core.sourcepath.resolver.SourcePathResolverAdapter;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.impl.FakeProjectFilesystem;
+import com.facebook.buck.testutil.FakeFileHashCache;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures looking up a dep file rule key in a {@link Manifest}, as done for every rule that
+ * supports input-based manifests. Only the last entry of the manifest matches the on disk hashes,
+ * so a lookup has to reject every other entry first.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ManifestBenchmark {
+
+  @Param({"10", "100", "1000"})
+  public int entryCount;
+
+  @Param({"1000"})
+  public int headerCount;
+
+  @Param({"100"})
+  public int inputsPerEntry;
+
+  private SourcePathResolverAdapter resolver;
+  private ImmutableSet<SourcePath> universe;
+  private FakeFileHashCache onDiskHashes;
+  private Manifest manifest;
+  private byte[] serializedManifest;
+  private RuleKey expectedKey;
+
+  @Setup
+  public void setUp() throws IOException {
+    ProjectFilesystem filesystem = new FakeProjectFilesystem();
+    resolver = new TestActionGraphBuilder().getSourcePathResolver();
+    Random random = new Random(42);
+
+    ImmutableList.Builder<SourcePath> headers = ImmutableList.builder();
+    Map<Path, HashCode> hashes = new HashMap<>();
+    for (int i = 0; i < headerCount; i++) {
+      SourcePath header = FakeSourcePath.of(filesystem, "include/dir" + (i % 10) + "/h" + i + ".h");
+      headers.add(header);
+      hashes.put(resolver.getAbsolutePath(header), Hashing.sha1().hashInt(i));
+    }
+    List<SourcePath> headerList = headers.build();
+    universe = ImmutableSet.copyOf(headerList);
+    onDiskHashes = new FakeFileHashCache(hashes);
+
+    manifest = new Manifest(new RuleKey("aa"));
+    for (int entry = 0; entry < entryCount; entry++) {
+      ImmutableSet.Builder<SourcePath> inputs = ImmutableSet.builder();
+      for (int i = 0; i < inputsPerEntry; i++) {
+        inputs.add(headerList.get(random.nextInt(headerCount)));
+      }
+      ImmutableSet<SourcePath> entryInputs = inputs.build();
+      Map<Path, HashCode> entryHashes = new HashMap<>(hashes);
+      if (entry < entryCount - 1) {
+        // Every entry but the last one was recorded with a different version of one of its
+        // inputs, so it will not match.
+        SourcePath stale = entryInputs.asList().get(random.nextInt(entryInputs.size()));
+        entryHashes.put(resolver.getAbsolutePath(stale), Hashing.sha1().hashInt(-entry - 1));
+      }
+      RuleKey key = new RuleKey(Hashing.sha1().hashInt(entry));
+      manifest.addEntry(new FakeFileHashCache(entryHashes), key, resolver, universe, entryInputs);
+      expectedKey = key;
+    }
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    manifest.serialize(output);
+    serializedManifest = output.toByteArray();
+
+    Preconditions.checkState(
+        lookup().equals(Optional.of(expectedKey)), "Expected the last entry to match.");
+  }
+
+  @Benchmark
+  public Optional<RuleKey> lookup() throws IOException {
+    return manifest.lookup(onDiskHashes, resolver, universe);
+  }
+
+  @Benchmark
+  public Optional<RuleKey> deserializeAndLookup() throws IOException {
+    return new Manifest(new ByteArrayInputStream(serializedManifest))
+        .lookup(onDiskHashes, resolver, universe);
+  }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.benchmarks;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.BuildTargetFactory;
+import com.facebook.buck.core.model.targetgraph.TargetGraph;
+import com.facebook.buck.core.model.targetgraph.TargetGraphFactory;
+import com.facebook.buck.core.model.targetgraph.TargetNode;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.jvm.java.JavaLibraryBuilder;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * A seeded, deterministic layout of a synthetic repository: {@code java_library} rules grouped into
+ * packages, each with a few sources and random deps on rules created before it, so that the graph
+ * is acyclic and creation order is a topological order.
+ *
+ * <p>The same layout can be written to disk as BUCK files and sources (for parsing and file
+ * hashing) or turned into an in-memory {@link TargetGraph} (for action graph creation), so that
+ * benchmarks of different phases measure the same shape of repository.
+ */
+public class SyntheticRepo {
+
+  private static final int DEFAULT_RULES_PER_PACKAGE = 10;
+  private static final int DEFAULT_SRCS_PER_RULE = 4;
+  private static final int DEFAULT_MAX_DEPS_PER_RULE = 4;
+  private static final long DEFAULT_SEED = 42;
+
+  private final int ruleCount;
+  private final int rulesPerPackage;
+  private final int srcsPerRule;
+  private final ImmutableList<ImmutableSortedSet<Integer>> deps;
+
+  private SyntheticRepo(
+      int ruleCount, int rulesPerPackage, int srcsPerRule, int maxDepsPerRule, long seed) {
+    Preconditions.checkArgument(ruleCount > 0, "ruleCount must be positive");
+    this.ruleCount = ruleCount;
+    this.rulesPerPackage = rulesPerPackage;
+    this.srcsPerRule = srcsPerRule;
+
+    Random random = new Random(seed);
+    ImmutableList.Builder<ImmutableSortedSet<Integer>> depsBuilder =
+        ImmutableList.builderWithExpectedSize(ruleCount);
+    for (int i = 0; i < ruleCount; i++) {
+      ImmutableSortedSet.Builder<Integer> ruleDeps = ImmutableSortedSet.naturalOrder();
+      for (int d = 0; d < Math.min(i, maxDepsPerRule); d++) {
+        ruleDeps.add(random.nextInt(i));
+      }
+      depsBuilder.add(ruleDeps.build());
+    }
+    this.deps = depsBuilder.build();
+  }
+
+  /** @return a repository of {@code ruleCount} rules with the default shape and seed. */
+  public static SyntheticRepo of(int ruleCount) {
+    return new SyntheticRepo(
+        ruleCount,
+        DEFAULT_RULES_PER_PACKAGE,
+        DEFAULT_SRCS_PER_RULE,
+        DEFAULT_MAX_DEPS_PER_RULE,
+        DEFAULT_SEED);
+  }
+
+  /** @return a repository of {@code ruleCount} rules with a custom shape. */
+  public static SyntheticRepo of(
+      int ruleCount, int rulesPerPackage, int srcsPerRule, int maxDepsPerRule, long seed) {
+    return new SyntheticRepo(ruleCount, rulesPerPackage, srcsPerRule, maxDepsPerRule, seed);
+  }
+
+  public int getRuleCount() {
+    return ruleCount;
+  }
+
+  public int getPackageCount() {
+    return (ruleCount + rulesPerPackage - 1) / rulesPerPackage;
+  }
+
+  /** @return the package directory, relative to the repository root, of the given rule. */
+  public Path getPackagePath(int rule) {
+    return Paths.get("java", "pkg" + (rule / rulesPerPackage));
+  }
+
+  public BuildTarget getBuildTarget(int rule) {
+    return BuildTargetFactory.newInstance(
+        "//" + getPackagePath(rule).toString().replace('\\', '/') + ":lib" + rule);
+  }
+
+  /** @return the sources of the given rule, relative to the repository root. */
+  public ImmutableList<Path> getSrcs(int rule) {
+    ImmutableList.Builder<Path> srcs = ImmutableList.builderWithExpectedSize(srcsPerRule);
+    for (int s = 0; s < srcsPerRule; s++) {
+      srcs.add(getPackagePath(rule).resolve(getClassName(rule, s) + ".java"));
+    }
+    return srcs.build();
+  }
+
+  /** @return the indices of the rules the given rule depends on, all smaller than {@code rule}. */
+  public ImmutableSortedSet<Integer> getDeps(int rule) {
+    return deps.get(rule);
+  }
+
+  /** @return every source file in the repository, relative to the repository root. */
+  public ImmutableList<Path> getAllSrcs() {
+    ImmutableList.Builder<Path> srcs = ImmutableList.builder();
+    for (int i = 0; i < ruleCount; i++) {
+      srcs.addAll(getSrcs(i));
+    }
+    return srcs.build();
+  }
+
+  /** Writes a BUCK file per package and a small Java class per source under {@code root}. */
+  public void writeTo(Path root) throws IOException {
+    for (int pkg = 0; pkg < getPackageCount(); pkg++) {
+      int first = pkg * rulesPerPackage;
+      int last = Math.min(first + rulesPerPackage, ruleCount);
+      Path packageDir = root.resolve(getPackagePath(first));
+      Files.createDirectories(packageDir);
+
+      StringBuilder buckFile = new StringBuilder();
+      for (int i = first; i < last; i++) {
+        buckFile
+            .append("java_library(\n")
+            .append("    name = 'lib")
+            .append(i)
+            .append("',\n")
+            .append("    srcs = [")
+            .append(
+                getSrcs(i).stream()
+                    .map(src -> "'" + src.getFileName() + "'")
+                    .collect(Collectors.joining(", ")))
+            .append("],\n")
+            .append("    deps = [")
+            .append(
+                getDeps(i).stream()
+                    .map(dep -> "'" + getBuildTarget(dep).getFullyQualifiedName() + "'")
+                    .collect(Collectors.joining(", ")))
+            .append("],\n")
+            .append("    visibility = ['PUBLIC'],\n")
+            .append(")\n\n");
+
+        for (int s = 0; s < srcsPerRule; s++) {
+          Files.write(
+              packageDir.resolve(getClassName(i, s) + ".java"),
+              String.format(
+                      "package pkg%d;%n%npublic class %s {%n  public int value() { return %d; }%n}%n",
+                      pkg, getClassName(i, s), i * srcsPerRule + s)
+                  .getBytes(StandardCharsets.UTF_8));
+        }
+      }
+      Files.write(packageDir.resolve("BUCK"), buckFile.toString().getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  /** @return a target graph with a {@code java_library} node per rule. */
+  public TargetGraph createTargetGraph(ProjectFilesystem filesystem) {
+    List<TargetNode<?>> nodes = new ArrayList<>(ruleCount);
+    for (int i = 0; i < ruleCount; i++) {
+      JavaLibraryBuilder builder = JavaLibraryBuilder.createBuilder(getBuildTarget(i), filesystem);
+      for (Path src : getSrcs(i)) {
+        builder.addSrc(src);
+      }
+      for (int dep : getDeps(i)) {
+        builder.addDep(getBuildTarget(dep));
+      }
+      nodes.add(builder.build());
+    }
+    return TargetGraphFactory.newInstance(nodes);
+  }
+
+  private static String getClassName(int rule, int src) {
+    return "Class" + rule + "_" + src;
+  }
+}
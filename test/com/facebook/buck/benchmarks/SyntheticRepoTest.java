@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.benchmarks;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.core.model.targetgraph.TargetGraph;
+import com.facebook.buck.core.model.targetgraph.TargetNode;
+import com.facebook.buck.io.filesystem.impl.FakeProjectFilesystem;
+import com.facebook.buck.testutil.TemporaryPaths;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class SyntheticRepoTest {
+
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  @Test
+  public void depsOnlyPointToEarlierRules() {
+    SyntheticRepo repo = SyntheticRepo.of(500);
+    for (int i = 0; i < repo.getRuleCount(); i++) {
+      for (int dep : repo.getDeps(i)) {
+        assertTrue(dep < i);
+      }
+    }
+  }
+
+  @Test
+  public void layoutIsDeterministic() {
+    SyntheticRepo first = SyntheticRepo.of(200);
+    SyntheticRepo second = SyntheticRepo.of(200);
+    for (int i = 0; i < first.getRuleCount(); i++) {
+      assertEquals(first.getBuildTarget(i), second.getBuildTarget(i));
+      assertEquals(first.getDeps(i), second.getDeps(i));
+      assertEquals(first.getSrcs(i), second.getSrcs(i));
+    }
+  }
+
+  @Test
+  public void writesBuildFilesAndSources() throws IOException {
+    SyntheticRepo repo = SyntheticRepo.of(25);
+    repo.writeTo(tmp.getRoot());
+
+    assertEquals(3, repo.getPackageCount());
+    for (Path src : repo.getAllSrcs()) {
+      assertTrue(Files.isRegularFile(tmp.getRoot().resolve(src)));
+    }
+    String buckFile =
+        new String(
+            Files.readAllBytes(tmp.getRoot().resolve(repo.getPackagePath(24)).resolve("BUCK")),
+            StandardCharsets.UTF_8);
+    assertTrue(buckFile.contains("name = 'lib24'"));
+    for (int dep : repo.getDeps(24)) {
+      assertTrue(buckFile.contains("'" + repo.getBuildTarget(dep).getFullyQualifiedName() + "'"));
+    }
+  }
+
+  @Test
+  public void targetGraphMatchesLayout() {
+    SyntheticRepo repo = SyntheticRepo.of(100);
+    TargetGraph targetGraph = repo.createTargetGraph(new FakeProjectFilesystem());
+
+    assertEquals(repo.getRuleCount(), targetGraph.getNodes().size());
+    for (int i = 0; i < repo.getRuleCount(); i++) {
+      TargetNode<?> node = targetGraph.get(repo.getBuildTarget(i));
+      assertEquals(repo.getDeps(i).size(), targetGraph.getOutgoingNodesFor(node).size());
+    }
+  }
+}
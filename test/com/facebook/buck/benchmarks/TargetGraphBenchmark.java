@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.benchmarks;
+
+import com.facebook.buck.core.cell.Cells;
+import com.facebook.buck.core.cell.TestCellBuilder;
+import com.facebook.buck.core.config.BuckConfig;
+import com.facebook.buck.core.config.FakeBuckConfig;
+import com.facebook.buck.core.graph.transformation.executor.DepsAwareExecutor;
+import com.facebook.buck.core.graph.transformation.executor.impl.DefaultDepsAwareExecutor;
+import com.facebook.buck.core.graph.transformation.model.ComputeResult;
+import com.facebook.buck.core.model.CellRelativePath;
+import com.facebook.buck.core.model.targetgraph.TargetGraphCreationResult;
+import com.facebook.buck.core.path.ForwardRelativePath;
+import com.facebook.buck.core.plugin.impl.BuckPluginManagerFactory;
+import com.facebook.buck.core.rules.knowntypes.TestKnownRuleTypesProvider;
+import com.facebook.buck.core.rules.knowntypes.provider.KnownRuleTypesProvider;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.parser.Parser;
+import com.facebook.buck.parser.ParsingContext;
+import com.facebook.buck.parser.SpeculativeParsing;
+import com.facebook.buck.parser.TestParserFactory;
+import com.facebook.buck.parser.spec.BuildFileSpec;
+import com.facebook.buck.parser.spec.TargetNodePredicateSpec;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures parsing a synthetic repository from scratch and building its target graph. A fresh
+ * {@link Parser} is created for every invocation so that no parse state is reused.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class TargetGraphBenchmark {
+
+  @Param({"100", "1000"})
+  public int ruleCount;
+
+  @Param({"1", "4"})
+  public int threadCount;
+
+  @Param({"PYTHON_DSL", "SKYLARK"})
+  public String syntax;
+
+  private final TemporaryPaths tempDir = new TemporaryPaths();
+
+  private Cells cells;
+  private KnownRuleTypesProvider knownRuleTypesProvider;
+  private ListeningExecutorService executorService;
+  private DepsAwareExecutor<? super ComputeResult, ?> depsAwareExecutor;
+  private Parser parser;
+
+  @Setup(Level.Trial)
+  public void setUpRepo() throws Exception {
+    tempDir.before();
+    SyntheticRepo.of(ruleCount).writeTo(tempDir.getRoot());
+    ProjectFilesystem filesystem = TestProjectFilesystems.createProjectFilesystem(tempDir.getRoot());
+
+    ImmutableMap.Builder<String, ImmutableMap<String, String>> sections = ImmutableMap.builder();
+    sections.put("parser", ImmutableMap.of("default_build_file_syntax", syntax));
+    if (threadCount > 1) {
+      sections.put(
+          "project",
+          ImmutableMap.of(
+              "parallel_parsing", "true", "parsing_threads", Integer.toString(threadCount)));
+    }
+    BuckConfig config =
+        FakeBuckConfig.builder().setFilesystem(filesystem).setSections(sections.build()).build();
+
+    cells = new TestCellBuilder().setFilesystem(filesystem).setBuckConfig(config).build();
+    knownRuleTypesProvider =
+        TestKnownRuleTypesProvider.create(BuckPluginManagerFactory.createPluginManager());
+    executorService = MoreExecutors.listeningDecorator(Executors.newFixedThreadPool(threadCount));
+    depsAwareExecutor = DefaultDepsAwareExecutor.of(threadCount);
+  }
+
+  @Setup(Level.Invocation)
+  public void setUpParser() {
+    parser = TestParserFactory.create(depsAwareExecutor, cells.getRootCell(), knownRuleTypesProvider);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    depsAwareExecutor.close();
+    executorService.shutdown();
+    tempDir.after();
+  }
+
+  @Benchmark
+  public TargetGraphCreationResult parseAndBuildTargetGraph() throws Exception {
+    return parser.buildTargetGraphWithTopLevelConfigurationTargets(
+        ParsingContext.builder(cells.getRootCell(), executorService)
+            .setSpeculativeParsing(SpeculativeParsing.ENABLED)
+            .build(),
+        ImmutableList.of(
+            TargetNodePredicateSpec.of(
+                BuildFileSpec.fromRecursivePath(
+                    CellRelativePath.of(
+                        cells.getRootCell().getCanonicalName(), ForwardRelativePath.of(""))))),
+        Optional.empty());
+  }
+}
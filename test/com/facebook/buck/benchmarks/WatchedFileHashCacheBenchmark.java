@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.benchmarks;
+
+import com.facebook.buck.core.filesystems.AbsPath;
+import com.facebook.buck.core.filesystems.RelPath;
+import com.facebook.buck.io.filesystem.impl.FakeProjectFilesystem;
+import com.facebook.buck.io.watchman.WatchmanEvent.Kind;
+import com.facebook.buck.io.watchman.WatchmanPathEvent;
+import com.facebook.buck.util.cache.FileHashCacheMode;
+import com.facebook.buck.util.cache.impl.WatchedFileHashCache;
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures populating a {@link WatchedFileHashCache} and invalidating its entries through watchman
+ * events, over a random tree of files and directories.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class WatchedFileHashCacheBenchmark {
+
+  @Param({"10000", "100000", "250000"})
+  public int leavesCount;
+
+  private FakeProjectFilesystem projectFilesystem;
+  private ImmutableList<Path> leaves;
+  private ImmutableList<HashCode> hashes;
+  private ImmutableList<WatchmanPathEvent> events;
+  private WatchedFileHashCache emptyCache;
+  private WatchedFileHashCache populatedCache;
+
+  @Setup(Level.Trial)
+  public void setUpTree() {
+    Random random = new Random(123);
+    List<String> folders = new ArrayList<>();
+    folders.add("");
+    List<String> leafNames = new ArrayList<>(leavesCount);
+    while (leafNames.size() < leavesCount) {
+      String path = folders.get(random.nextInt(folders.size()));
+      // create a folder? 25% chance of doing so.
+      if (random.nextInt(4) == 0) {
+        path += generateRandomString(random) + "/";
+        // is it a leaf?
+        if (random.nextBoolean()) {
+          leafNames.add(path);
+        }
+        folders.add(path);
+      } else {
+        // it's a file.
+        path += generateRandomString(random) + ".txt";
+        leafNames.add(path);
+      }
+    }
+
+    projectFilesystem = new FakeProjectFilesystem();
+    ImmutableList.Builder<Path> leavesBuilder = ImmutableList.builder();
+    ImmutableList.Builder<HashCode> hashesBuilder = ImmutableList.builder();
+    ImmutableList.Builder<WatchmanPathEvent> eventsBuilder = ImmutableList.builder();
+    for (String leaf : leafNames) {
+      Path path = Paths.get(leaf);
+      leavesBuilder.add(path);
+      hashesBuilder.add(Hashing.sha1().hashBytes(leaf.getBytes(StandardCharsets.UTF_8)));
+      eventsBuilder.add(
+          WatchmanPathEvent.of(
+              AbsPath.of(projectFilesystem.resolve(path)), Kind.CREATE, RelPath.of(path)));
+    }
+    leaves = leavesBuilder.build();
+    hashes = hashesBuilder.build();
+    events = eventsBuilder.build();
+  }
+
+  @Setup(Level.Invocation)
+  public void setUpCaches() {
+    emptyCache = new WatchedFileHashCache(projectFilesystem, FileHashCacheMode.DEFAULT);
+    populatedCache = new WatchedFileHashCache(projectFilesystem, FileHashCacheMode.DEFAULT);
+    addEntries(populatedCache);
+  }
+
+  @Benchmark
+  public WatchedFileHashCache addMultipleEntries() {
+    addEntries(emptyCache);
+    return emptyCache;
+  }
+
+  @Benchmark
+  public WatchedFileHashCache invalidateMultipleEntries() {
+    for (WatchmanPathEvent event : events) {
+      populatedCache.onFileSystemChange(event);
+    }
+    return populatedCache;
+  }
+
+  private void addEntries(WatchedFileHashCache cache) {
+    for (int i = 0; i < leaves.size(); i++) {
+      cache.set(leaves.get(i), hashes.get(i));
+    }
+  }
+
+  private static String generateRandomString(Random random) {
+    StringBuilder sb = new StringBuilder();
+    int length = random.nextInt(10) + 3; // min 3, max 12
+    for (int i = 0; i < length; i++) {
+      sb.append((char) (random.nextInt(26) + 97)); // min 'a', max 'z'
+    }
+    return sb.toString();
+  }
+}
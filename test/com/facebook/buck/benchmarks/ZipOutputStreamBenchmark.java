@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.benchmarks;
+
+import com.facebook.buck.util.zip.CustomZipEntry;
+import com.facebook.buck.util.zip.CustomZipOutputStream;
+import com.facebook.buck.util.zip.ZipCompressionLevel;
+import com.facebook.buck.util.zip.ZipOutputStreams;
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures writing a jar of the compiled classes of a synthetic repository with {@link
+ * CustomZipOutputStream}, at different compression levels.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ZipOutputStreamBenchmark {
+
+  @Param({"1000"})
+  public int ruleCount;
+
+  @Param({"2048"})
+  public int entrySize;
+
+  @Param({"NONE", "MIN", "DEFAULT"})
+  public ZipCompressionLevel compressionLevel;
+
+  private ImmutableList<String> names;
+  private ImmutableList<byte[]> contents;
+  private long[] crcs;
+
+  @Setup
+  public void setUp() {
+    ImmutableList<Path> srcs = SyntheticRepo.of(ruleCount).getAllSrcs();
+    Random random = new Random(42);
+    ImmutableList.Builder<String> namesBuilder = ImmutableList.builder();
+    ImmutableList.Builder<byte[]> contentsBuilder = ImmutableList.builder();
+    crcs = new long[srcs.size()];
+    for (int i = 0; i < srcs.size(); i++) {
+      String src = srcs.get(i).toString().replace('\\', '/');
+      namesBuilder.add(src.substring(0, src.length() - ".java".length()) + ".class");
+      byte[] content = generateContent(random);
+      contentsBuilder.add(content);
+      CRC32 crc = new CRC32();
+      crc.update(content);
+      crcs[i] = crc.getValue();
+    }
+    names = namesBuilder.build();
+    contents = contentsBuilder.build();
+  }
+
+  @Benchmark
+  public void writeJar() throws IOException {
+    try (CustomZipOutputStream zip =
+        ZipOutputStreams.newOutputStream(ByteStreams.nullOutputStream())) {
+      for (int i = 0; i < names.size(); i++) {
+        byte[] content = contents.get(i);
+        CustomZipEntry entry = new CustomZipEntry(names.get(i));
+        entry.setFakeTime();
+        entry.setCompressionLevel(compressionLevel.getValue());
+        if (compressionLevel == ZipCompressionLevel.NONE) {
+          entry.setSize(content.length);
+          entry.setCompressedSize(content.length);
+          entry.setCrc(crcs[i]);
+        }
+        zip.putNextEntry(entry);
+        zip.write(content);
+        zip.closeEntry();
+      }
+    }
+  }
+
+  /** Generates compressible content, made of identifiers drawn from a small vocabulary. */
+  private byte[] generateContent(Random random) {
+    StringBuilder builder = new StringBuilder(entrySize);
+    while (builder.length() < entrySize) {
+      builder.append("com/example/pkg").append(random.nextInt(50)).append("/Class");
+      builder.append(random.nextInt(1000)).append(random.nextBoolean() ? ';' : '(');
+    }
+    builder.setLength(entrySize);
+    return builder.toString().getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -39,6 +39,8 @@ public class BuildCacheArtifactFetcherTest {
           null,
           null,
           null,
+          null,
+          null,
           null);
 
   @Test
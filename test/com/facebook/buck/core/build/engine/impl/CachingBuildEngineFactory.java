@@ -16,6 +16,7 @@
 
 package com.facebook.buck.core.build.engine.impl;
 
+import com.facebook.buck.artifact_cache.ZstdDictionaries;
 import com.facebook.buck.core.build.action.resolver.BuildEngineActionToBuildRuleResolver;
 import com.facebook.buck.core.build.engine.cache.manager.BuildInfoStoreManager;
 import com.facebook.buck.core.build.engine.config.ResourceAwareSchedulingInfo;
@@ -23,6 +24,8 @@ import com.facebook.buck.core.build.engine.delegate.CachingBuildEngineDelegate;
 import com.facebook.buck.core.build.engine.delegate.LocalCachingBuildEngineDelegate;
 import com.facebook.buck.core.build.engine.type.BuildType;
 import com.facebook.buck.core.build.engine.type.DepFiles;
+import com.facebook.buck.core.build.engine.type.RuleSchedulingOrder;
+import com.facebook.buck.core.build.stats.BuildRuleDurationHistory;
 import com.facebook.buck.core.cell.TestCellPathResolver;
 import com.facebook.buck.core.model.TargetConfigurationSerializer;
 import com.facebook.buck.core.model.TargetConfigurationSerializerForTests;
@@ -49,6 +52,9 @@ public class CachingBuildEngineFactory {
   private DepFiles depFiles = DepFiles.ENABLED;
   private long maxDepFileCacheEntries = 256L;
   private Optional<Long> artifactCacheSizeLimit = Optional.empty();
+  private Optional<Long> contentAddressedFileThreshold = Optional.empty();
+  private ZstdDictionaries zstdDictionaries =
+      ZstdDictionaries.load(new FakeProjectFilesystem(), false);
   private long inputFileSizeLimit = Long.MAX_VALUE;
   private Optional<RuleKeyFactories> ruleKeyFactories = Optional.empty();
   private CachingBuildEngineDelegate cachingBuildEngineDelegate;
@@ -60,6 +66,9 @@ public class CachingBuildEngineFactory {
   private boolean logBuildRuleFailuresInline = true;
   private BuildInfoStoreManager buildInfoStoreManager;
   private Optional<BuildRuleStrategy> customBuildRuleStrategy = Optional.empty();
+  private RuleSchedulingOrder ruleSchedulingOrder = RuleSchedulingOrder.RANDOM;
+  private BuildRuleDurationHistory buildRuleDurationHistory = new BuildRuleDurationHistory();
+  private int maxSpeculativeCacheFetches = 0;
 
   public CachingBuildEngineFactory(
       BuildRuleResolver buildRuleResolver,
@@ -93,6 +102,17 @@ public class CachingBuildEngineFactory {
     return this;
   }
 
+  public CachingBuildEngineFactory setContentAddressedFileThreshold(
+      Optional<Long> contentAddressedFileThreshold) {
+    this.contentAddressedFileThreshold = contentAddressedFileThreshold;
+    return this;
+  }
+
+  public CachingBuildEngineFactory setZstdDictionaries(ZstdDictionaries zstdDictionaries) {
+    this.zstdDictionaries = zstdDictionaries;
+    return this;
+  }
+
   public CachingBuildEngineFactory setCachingBuildEngineDelegate(
       CachingBuildEngineDelegate cachingBuildEngineDelegate) {
     this.cachingBuildEngineDelegate = cachingBuildEngineDelegate;
@@ -132,6 +152,22 @@ public class CachingBuildEngineFactory {
     return this;
   }
 
+  public CachingBuildEngineFactory setRuleSchedulingOrder(RuleSchedulingOrder ruleSchedulingOrder) {
+    this.ruleSchedulingOrder = ruleSchedulingOrder;
+    return this;
+  }
+
+  public CachingBuildEngineFactory setBuildRuleDurationHistory(
+      BuildRuleDurationHistory buildRuleDurationHistory) {
+    this.buildRuleDurationHistory = buildRuleDurationHistory;
+    return this;
+  }
+
+  public CachingBuildEngineFactory setMaxSpeculativeCacheFetches(int maxSpeculativeCacheFetches) {
+    this.maxSpeculativeCacheFetches = maxSpeculativeCacheFetches;
+    return this;
+  }
+
   public CachingBuildEngine build() {
     TargetConfigurationSerializer targetConfigurationSerializer =
         TargetConfigurationSerializerForTests.create(
@@ -145,6 +181,8 @@ public class CachingBuildEngineFactory {
           depFiles,
           maxDepFileCacheEntries,
           artifactCacheSizeLimit,
+          contentAddressedFileThreshold,
+          zstdDictionaries,
           buildRuleResolver,
           buildInfoStoreManager,
           actionToBuildRuleResolver,
@@ -152,7 +190,10 @@ public class CachingBuildEngineFactory {
           ruleKeyFactories.get(),
           resourceAwareSchedulingInfo,
           RuleKeyDiagnostics.nop(),
-          logBuildRuleFailuresInline);
+          logBuildRuleFailuresInline,
+          ruleSchedulingOrder,
+          buildRuleDurationHistory,
+          maxSpeculativeCacheFetches);
     }
 
     return new CachingBuildEngine(
@@ -163,6 +204,8 @@ public class CachingBuildEngineFactory {
         depFiles,
         maxDepFileCacheEntries,
         artifactCacheSizeLimit,
+        contentAddressedFileThreshold,
+        zstdDictionaries,
         buildRuleResolver,
         actionToBuildRuleResolver,
         targetConfigurationSerializer,
@@ -174,7 +217,10 @@ public class CachingBuildEngineFactory {
             cachingBuildEngineDelegate.getFileHashCache(),
             buildRuleResolver,
             inputFileSizeLimit,
-            new TrackedRuleKeyCache<>(new DefaultRuleKeyCache<>(), new NoOpCacheStatsTracker())));
+            new TrackedRuleKeyCache<>(new DefaultRuleKeyCache<>(), new NoOpCacheStatsTracker())),
+        ruleSchedulingOrder,
+        buildRuleDurationHistory,
+        maxSpeculativeCacheFetches);
   }
 
   private static WeightedListeningExecutorService toWeighted(ListeningExecutorService service) {
@@ -40,8 +40,11 @@ import com.facebook.buck.artifact_cache.ArtifactInfo;
 import com.facebook.buck.artifact_cache.CacheDeleteResult;
 import com.facebook.buck.artifact_cache.CacheResult;
 import com.facebook.buck.artifact_cache.CacheResultType;
+import com.facebook.buck.artifact_cache.ContentAddressedFiles;
 import com.facebook.buck.artifact_cache.InMemoryArtifactCache;
 import com.facebook.buck.artifact_cache.NoopArtifactCache;
+import com.facebook.buck.artifact_cache.ZstdDictionaries;
+import com.facebook.buck.artifact_cache.ZstdDictionaryTrainer;
 import com.facebook.buck.artifact_cache.config.ArtifactCacheMode;
 import com.facebook.buck.artifact_cache.config.CacheReadMode;
 import com.facebook.buck.cli.CommandThreadManager;
@@ -165,14 +168,17 @@ import com.facebook.buck.util.types.Unit;
 import com.facebook.buck.util.zip.ZipConstants;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
 import com.google.common.base.Throwables;
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Sets;
 import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
 import com.google.common.util.concurrent.AbstractListeningExecutorService;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
@@ -185,6 +191,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -197,6 +204,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.Random;
 import java.util.SortedSet;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Exchanger;
@@ -1688,6 +1696,190 @@ public class CachingBuildEngineTest {
         assertTrue(fakeFileHashCache.contains(filesystem.resolve(output)));
       }
     }
+
+    @Test
+    public void contentAddressedFilesAreFetchedWithTheArtifact() throws Exception {
+      BuildTarget target = BuildTargetFactory.newInstance("//:rule");
+      Path output = filesystem.getPath("output/path");
+      String contents = Strings.repeat("large output ", 200);
+      BuildRule rule = new WriteFile(target, filesystem, contents, output, /* executable */ false);
+      RuleKey contentKey =
+          ContentAddressedFiles.getContentKey(
+              Hashing.sha1().hashString(contents, StandardCharsets.UTF_8));
+
+      // Run an initial build to seed the cache, which stores the output on its own.
+      try (CachingBuildEngine cachingBuildEngine =
+          cachingBuildEngineFactory()
+              .setContentAddressedFileThreshold(Optional.of(1024L))
+              .build()) {
+        BuildResult result =
+            cachingBuildEngine
+                .build(buildContext, TestExecutionContext.newInstance(), rule)
+                .getResult()
+                .get();
+        assertEquals(BuildRuleSuccessType.BUILT_LOCALLY, result.getSuccess());
+        assertTrue(cache.hasArtifact(contentKey));
+
+        // Clear the file system.
+        filesystem.deleteRecursivelyIfExists(Paths.get(""));
+        buildInfoStore.deleteMetadata(target);
+      }
+
+      try (CachingBuildEngine cachingBuildEngine = cachingBuildEngineFactory().build()) {
+        BuildResult result =
+            cachingBuildEngine
+                .build(buildContext, TestExecutionContext.newInstance(), rule)
+                .getResult()
+                .get();
+        assertEquals(BuildRuleSuccessType.FETCHED_FROM_CACHE, result.getSuccess());
+        assertEquals(Optional.of(contents), filesystem.readFileIfItExists(output));
+        assertFalse(
+            buildInfoStore
+                .readMetadata(target, ContentAddressedFiles.METADATA_KEY)
+                .isPresent());
+      }
+    }
+
+    @Test
+    public void contentAddressedFilesAlreadyOnDiskAreNotFetched() throws Exception {
+      BuildTarget target = BuildTargetFactory.newInstance("//:rule");
+      Path output = filesystem.getPath("output/path");
+      String contents = Strings.repeat("large output ", 200);
+      BuildRule rule = new WriteFile(target, filesystem, contents, output, /* executable */ false);
+      RuleKey contentKey =
+          ContentAddressedFiles.getContentKey(
+              Hashing.sha1().hashString(contents, StandardCharsets.UTF_8));
+
+      try (CachingBuildEngine cachingBuildEngine =
+          cachingBuildEngineFactory()
+              .setContentAddressedFileThreshold(Optional.of(1024L))
+              .build()) {
+        BuildResult result =
+            cachingBuildEngine
+                .build(buildContext, TestExecutionContext.newInstance(), rule)
+                .getResult()
+                .get();
+        assertEquals(BuildRuleSuccessType.BUILT_LOCALLY, result.getSuccess());
+
+        // Keep the output, but drop everything else, and the output from the cache.
+        filesystem.deleteRecursivelyIfExists(filesystem.getBuckPaths().getBuckOut());
+        buildInfoStore.deleteMetadata(target);
+        cache.deleteAsync(ImmutableList.of(contentKey)).get();
+      }
+
+      try (CachingBuildEngine cachingBuildEngine = cachingBuildEngineFactory().build()) {
+        BuildResult result =
+            cachingBuildEngine
+                .build(buildContext, TestExecutionContext.newInstance(), rule)
+                .getResult()
+                .get();
+        assertEquals(BuildRuleSuccessType.FETCHED_FROM_CACHE, result.getSuccess());
+        assertEquals(Optional.of(contents), filesystem.readFileIfItExists(output));
+      }
+    }
+
+    @Test
+    public void dictionariesAreFetchedToExtractArtifactsCompressedWithThem() throws Exception {
+      BuildTarget target = BuildTargetFactory.newInstance("//:rule");
+      Path output = filesystem.getPath("output/path");
+      String contents = generateSample(new Random(7));
+      BuildRule rule = new WriteFile(target, filesystem, contents, output, /* executable */ false);
+      String dictionaryId =
+          ZstdDictionaries.load(filesystem, true)
+              .save(ImmutableMap.of(rule.getType(), trainDictionary()))
+              .get(rule.getType());
+
+      try (CachingBuildEngine cachingBuildEngine =
+          cachingBuildEngineFactory()
+              .setZstdDictionaries(ZstdDictionaries.load(filesystem, true))
+              .build()) {
+        BuildResult result =
+            cachingBuildEngine
+                .build(buildContext, TestExecutionContext.newInstance(), rule)
+                .getResult()
+                .get();
+        assertEquals(BuildRuleSuccessType.BUILT_LOCALLY, result.getSuccess());
+        assertTrue(cache.hasArtifact(ZstdDictionaries.getContentKey(dictionaryId)));
+
+        // Clear the file system, including the local copy of the dictionary.
+        filesystem.deleteRecursivelyIfExists(Paths.get(""));
+        buildInfoStore.deleteMetadata(target);
+      }
+
+      try (CachingBuildEngine cachingBuildEngine =
+          cachingBuildEngineFactory()
+              .setZstdDictionaries(ZstdDictionaries.load(filesystem, false))
+              .build()) {
+        BuildResult result =
+            cachingBuildEngine
+                .build(buildContext, TestExecutionContext.newInstance(), rule)
+                .getResult()
+                .get();
+        assertEquals(BuildRuleSuccessType.FETCHED_FROM_CACHE, result.getSuccess());
+        assertEquals(Optional.of(contents), filesystem.readFileIfItExists(output));
+        assertTrue(ZstdDictionaries.load(filesystem, false).getLocally(dictionaryId).isPresent());
+      }
+    }
+
+    @Test
+    public void artifactsWhoseDictionaryIsMissingAreBuiltLocally() throws Exception {
+      BuildTarget target = BuildTargetFactory.newInstance("//:rule");
+      Path output = filesystem.getPath("output/path");
+      String contents = generateSample(new Random(7));
+      BuildRule rule = new WriteFile(target, filesystem, contents, output, /* executable */ false);
+      String dictionaryId =
+          ZstdDictionaries.load(filesystem, true)
+              .save(ImmutableMap.of(rule.getType(), trainDictionary()))
+              .get(rule.getType());
+
+      try (CachingBuildEngine cachingBuildEngine =
+          cachingBuildEngineFactory()
+              .setZstdDictionaries(ZstdDictionaries.load(filesystem, true))
+              .build()) {
+        BuildResult result =
+            cachingBuildEngine
+                .build(buildContext, TestExecutionContext.newInstance(), rule)
+                .getResult()
+                .get();
+        assertEquals(BuildRuleSuccessType.BUILT_LOCALLY, result.getSuccess());
+
+        filesystem.deleteRecursivelyIfExists(Paths.get(""));
+        buildInfoStore.deleteMetadata(target);
+        cache.deleteAsync(ImmutableList.of(ZstdDictionaries.getContentKey(dictionaryId))).get();
+      }
+
+      try (CachingBuildEngine cachingBuildEngine =
+          cachingBuildEngineFactory()
+              .setZstdDictionaries(ZstdDictionaries.load(filesystem, false))
+              .build()) {
+        BuildResult result =
+            cachingBuildEngine
+                .build(buildContext, TestExecutionContext.newInstance(), rule)
+                .getResult()
+                .get();
+        assertEquals(BuildRuleSuccessType.BUILT_LOCALLY, result.getSuccess());
+        assertEquals(Optional.of(contents), filesystem.readFileIfItExists(output));
+      }
+    }
+
+    private static byte[] trainDictionary() {
+      ZstdDictionaryTrainer trainer = new ZstdDictionaryTrainer();
+      Random random = new Random(42);
+      for (int i = 0; i < 200; i++) {
+        trainer.addSample("write_file", generateSample(random).getBytes(StandardCharsets.UTF_8));
+      }
+      return Iterables.getOnlyElement(trainer.train().values());
+    }
+
+    /** Generates small outputs made of identifiers drawn from a small vocabulary. */
+    private static String generateSample(Random random) {
+      StringBuilder builder = new StringBuilder();
+      while (builder.length() < 2048) {
+        builder.append("com/example/pkg").append(random.nextInt(50)).append("/Class");
+        builder.append(random.nextInt(1000)).append(random.nextBoolean() ? ';' : '(');
+      }
+      return builder.toString();
+    }
   }
 
   public static class InputBasedRuleKeyTests extends CommonFixture {
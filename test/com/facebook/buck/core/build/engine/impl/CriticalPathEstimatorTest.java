@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.core.build.engine.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import com.facebook.buck.core.build.action.resolver.BuildEngineActionToBuildRuleResolver;
+import com.facebook.buck.core.build.stats.BuildRuleDurationHistory;
+import com.facebook.buck.core.model.BuildTargetFactory;
+import com.facebook.buck.core.rules.ActionGraphBuilder;
+import com.facebook.buck.core.rules.BuildRule;
+import com.facebook.buck.core.rules.impl.FakeBuildRule;
+import com.facebook.buck.core.rules.resolver.impl.TestActionGraphBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CriticalPathEstimatorTest {
+
+  private BuildRuleDurationHistory history;
+  private CriticalPathEstimator estimator;
+
+  private BuildRule ruleA;
+  private BuildRule ruleB;
+  private BuildRule ruleC;
+  private BuildRule ruleD;
+  private BuildRule ruleE;
+
+  // Visualisation of the action graph (rules depend on rules below them):
+  //
+  //     a
+  //    / \
+  //   b   c
+  //   |   |
+  //   d   e
+
+  @Before
+  public void setUp() {
+    ActionGraphBuilder graphBuilder = new TestActionGraphBuilder();
+    history = new BuildRuleDurationHistory();
+    estimator =
+        new CriticalPathEstimator(
+            new DefaultRuleDepsCache(graphBuilder, new BuildEngineActionToBuildRuleResolver()),
+            history);
+    ruleE = graphBuilder.addToIndex(createRule("//:e"));
+    ruleD = graphBuilder.addToIndex(createRule("//:d"));
+    ruleC = graphBuilder.addToIndex(createRule("//:c", ruleE));
+    ruleB = graphBuilder.addToIndex(createRule("//:b", ruleD));
+    ruleA = graphBuilder.addToIndex(createRule("//:a", ruleB, ruleC));
+  }
+
+  @Test
+  public void estimateIsLongestChainOfRecordedDurations() {
+    history.record(ruleA.getBuildTarget(), 10);
+    history.record(ruleB.getBuildTarget(), 100);
+    history.record(ruleC.getBuildTarget(), 20);
+    history.record(ruleD.getBuildTarget(), 5);
+    history.record(ruleE.getBuildTarget(), 500);
+
+    assertEquals(105, estimator.getEstimatedCriticalPathMillis(ruleB));
+    assertEquals(520, estimator.getEstimatedCriticalPathMillis(ruleC));
+    assertEquals(530, estimator.getEstimatedCriticalPathMillis(ruleA));
+  }
+
+  @Test
+  public void longestRemainingCriticalPathIsScheduledFirst() {
+    history.record(ruleB.getBuildTarget(), 100);
+    history.record(ruleE.getBuildTarget(), 500);
+
+    assertEquals(
+        ImmutableList.of(ruleC, ruleB), estimator.sortLongestFirst(ImmutableList.of(ruleB, ruleC)));
+  }
+
+  @Test
+  public void rulesWithoutHistoryAreEstimatedByDepth() {
+    assertEquals(1, estimator.getEstimatedCriticalPathMillis(ruleE));
+    assertEquals(3, estimator.getEstimatedCriticalPathMillis(ruleA));
+  }
+
+  private BuildRule createRule(String buildTarget, BuildRule... deps) {
+    return new FakeBuildRule(
+        BuildTargetFactory.newInstance(buildTarget), ImmutableSortedSet.copyOf(deps));
+  }
+}
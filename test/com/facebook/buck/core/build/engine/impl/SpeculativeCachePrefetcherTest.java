@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.core.build.engine.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.artifact_cache.CacheResult;
+import com.facebook.buck.artifact_cache.NoopArtifactCache;
+import com.facebook.buck.artifact_cache.config.ArtifactCacheMode;
+import com.facebook.buck.core.build.action.resolver.BuildEngineActionToBuildRuleResolver;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.facebook.buck.core.rules.ActionGraphBuilder;
+import com.facebook.buck.core.rules.BuildRule;
+import com.facebook.buck.core.rules.impl.FakeBuildRule;
+import com.facebook.buck.core.rules.resolver.impl.TestActionGraphBuilder;
+import com.facebook.buck.io.file.LazyPath;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class SpeculativeCachePrefetcherTest {
+
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  private ProjectFilesystem filesystem;
+  private ActionGraphBuilder graphBuilder;
+  private FakeCache cache;
+
+  private BuildRule ruleA;
+  private BuildRule ruleB;
+  private BuildRule ruleC;
+  private BuildRule ruleD;
+
+  // Visualisation of the action graph (rules depend on rules below them):
+  //
+  //     a
+  //     |
+  //     b
+  //    / \
+  //   c   d
+
+  @Before
+  public void setUp() {
+    filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    graphBuilder = new TestActionGraphBuilder();
+    cache = new FakeCache();
+    ruleD = graphBuilder.addToIndex(new FakeBuildRule("//:d", filesystem));
+    ruleC = graphBuilder.addToIndex(new FakeBuildRule("//:c", filesystem));
+    ruleB = graphBuilder.addToIndex(new FakeBuildRule("//:b", filesystem, ruleC, ruleD));
+    ruleA = graphBuilder.addToIndex(new FakeBuildRule("//:a", filesystem, ruleB));
+  }
+
+  @Test
+  public void missesFetchDepsBreadthFirst() throws Exception {
+    SpeculativeCachePrefetcher prefetcher = createPrefetcher(true, 1);
+    prefetcher.prefetch(ruleA);
+    assertEquals(targetsOf(ruleA), cache.getFetchedTargets());
+
+    cache.miss(ruleA);
+    assertEquals(targetsOf(ruleA, ruleB), cache.getFetchedTargets());
+
+    cache.miss(ruleB);
+    assertEquals(targetsOf(ruleA, ruleB, ruleC), cache.getFetchedTargets());
+
+    cache.miss(ruleC);
+    assertEquals(targetsOf(ruleA, ruleB, ruleC, ruleD), cache.getFetchedTargets());
+  }
+
+  @Test
+  public void hitOfTopLevelRuleSkipsItsDeps() throws Exception {
+    SpeculativeCachePrefetcher prefetcher = createPrefetcher(true, 1);
+    prefetcher.prefetch(ruleA);
+    cache.hit(ruleA);
+    assertEquals(targetsOf(ruleA), cache.getFetchedTargets());
+  }
+
+  @Test
+  public void hitCancelsFetchesOfDepsNothingElseNeeds() throws Exception {
+    SpeculativeCachePrefetcher prefetcher = createPrefetcher(true, 10);
+    prefetcher.prefetch(ruleA);
+    assertEquals(targetsOf(ruleA, ruleB, ruleC, ruleD), cache.getFetchedTargets());
+
+    cache.hit(ruleA);
+    assertFalse(cache.getResult(ruleA).isCancelled());
+    assertTrue(cache.getResult(ruleB).isCancelled());
+    assertTrue(cache.getResult(ruleC).isCancelled());
+    assertTrue(cache.getResult(ruleD).isCancelled());
+  }
+
+  @Test
+  public void depsOfHitsAreFetchedWhenAllRulesAreNeeded() throws Exception {
+    SpeculativeCachePrefetcher prefetcher = createPrefetcher(false, 1);
+    prefetcher.prefetch(ruleA);
+    cache.hit(ruleA);
+    cache.hit(ruleB);
+    cache.hit(ruleC);
+    assertEquals(targetsOf(ruleA, ruleB, ruleC, ruleD), cache.getFetchedTargets());
+  }
+
+  @Test
+  public void rulesBuiltLocallyAreNotFetched() {
+    SpeculativeCachePrefetcher prefetcher =
+        new SpeculativeCachePrefetcher(
+            cache,
+            new DefaultRuleDepsCache(graphBuilder, new BuildEngineActionToBuildRuleResolver()),
+            SpeculativeCachePrefetcherTest::getRuleKey,
+            (rule, ruleKey) -> rule == ruleA,
+            true,
+            10,
+            MoreExecutors.directExecutor());
+    prefetcher.prefetch(ruleA);
+    assertTrue(cache.getFetchedTargets().isEmpty());
+  }
+
+  @Test
+  public void ruleKeysAndLocalOutputsAreCheckedWithoutHoldingLock() {
+    SpeculativeCachePrefetcher[] prefetcher = new SpeculativeCachePrefetcher[1];
+    List<Boolean> heldLock = new ArrayList<>();
+    prefetcher[0] =
+        new SpeculativeCachePrefetcher(
+            cache,
+            new DefaultRuleDepsCache(graphBuilder, new BuildEngineActionToBuildRuleResolver()),
+            rule -> {
+              heldLock.add(Thread.holdsLock(prefetcher[0]));
+              return getRuleKey(rule);
+            },
+            (rule, ruleKey) -> {
+              heldLock.add(Thread.holdsLock(prefetcher[0]));
+              return false;
+            },
+            true,
+            10,
+            MoreExecutors.directExecutor());
+    prefetcher[0].prefetch(ruleA);
+    prefetcher[0].fetchAsync(
+        ruleA.getBuildTarget(),
+        getRuleKey(ruleA),
+        LazyPath.ofInstance(tmp.getRoot().resolve("a.artifact")));
+
+    assertEquals(targetsOf(ruleA, ruleB, ruleC, ruleD), cache.getFetchedTargets());
+    assertFalse(heldLock.isEmpty());
+    assertFalse(heldLock.contains(true));
+  }
+
+  @Test
+  public void artifactsArePrefetchedIntoBuckOut() throws Exception {
+    SpeculativeCachePrefetcher prefetcher = createPrefetcher(true, 10);
+    prefetcher.prefetch(ruleA);
+    Path prefetched = cache.hit(ruleB);
+    assertTrue(prefetched.startsWith(filesystem.resolve(filesystem.getBuckPaths().getTmpDir())));
+  }
+
+  @Test
+  public void fetchOfPrefetchedRuleReusesPrefetchedArtifact() throws Exception {
+    SpeculativeCachePrefetcher prefetcher = createPrefetcher(true, 10);
+    prefetcher.prefetch(ruleA);
+    cache.hit(ruleB);
+
+    Path output = tmp.getRoot().resolve("b.artifact");
+    CacheResult result =
+        prefetcher
+            .fetchAsync(ruleB.getBuildTarget(), getRuleKey(ruleB), LazyPath.ofInstance(output))
+            .get();
+    assertTrue(result.getType().isSuccess());
+    assertEquals("//:b", new String(Files.readAllBytes(output), StandardCharsets.UTF_8));
+    assertEquals(targetsOf(ruleA, ruleB, ruleC, ruleD), cache.getFetchedTargets());
+  }
+
+  @Test
+  public void fetchOfRuleNotPrefetchedYetIsForwarded() {
+    SpeculativeCachePrefetcher prefetcher = createPrefetcher(true, 1);
+    prefetcher.prefetch(ruleA);
+    prefetcher.fetchAsync(
+        ruleB.getBuildTarget(),
+        getRuleKey(ruleB),
+        LazyPath.ofInstance(tmp.getRoot().resolve("b.artifact")));
+    assertEquals(targetsOf(ruleA, ruleB), cache.getFetchedTargets());
+
+    // The rule was claimed by the build, so it isn't prefetched again.
+    cache.miss(ruleA);
+    assertEquals(targetsOf(ruleA, ruleB, ruleC), cache.getFetchedTargets());
+  }
+
+  @Test
+  public void fetchWithOtherRuleKeyIsForwarded() throws Exception {
+    SpeculativeCachePrefetcher prefetcher = createPrefetcher(true, 10);
+    prefetcher.prefetch(ruleA);
+    cache.hit(ruleA);
+
+    RuleKey otherKey = new RuleKey(Hashing.sha1().hashString("other", StandardCharsets.UTF_8));
+    prefetcher.fetchAsync(
+        ruleA.getBuildTarget(), otherKey, LazyPath.ofInstance(tmp.getRoot().resolve("a")));
+    assertEquals(5, cache.getFetchedTargets().size());
+    assertFalse(cache.getResult(ruleA).isCancelled());
+  }
+
+  @Test
+  public void closeDeletesUnusedArtifacts() throws Exception {
+    SpeculativeCachePrefetcher prefetcher = createPrefetcher(false, 10);
+    prefetcher.prefetch(ruleA);
+    Path prefetched = cache.hit(ruleC);
+    assertTrue(Files.exists(prefetched));
+
+    prefetcher.close();
+    assertFalse(Files.exists(prefetched));
+    assertTrue(cache.getResult(ruleD).isCancelled());
+  }
+
+  private SpeculativeCachePrefetcher createPrefetcher(
+      boolean skipDepsOfHits, int maxFetchesInFlight) {
+    return new SpeculativeCachePrefetcher(
+        cache,
+        new DefaultRuleDepsCache(graphBuilder, new BuildEngineActionToBuildRuleResolver()),
+        SpeculativeCachePrefetcherTest::getRuleKey,
+        (rule, ruleKey) -> false,
+        skipDepsOfHits,
+        maxFetchesInFlight,
+        MoreExecutors.directExecutor());
+  }
+
+  private static ImmutableList<BuildTarget> targetsOf(BuildRule... rules) {
+    return Stream.of(rules).map(BuildRule::getBuildTarget).collect(ImmutableList.toImmutableList());
+  }
+
+  private static RuleKey getRuleKey(BuildRule rule) {
+    return new RuleKey(
+        Hashing.sha1()
+            .hashString(rule.getBuildTarget().getFullyQualifiedName(), StandardCharsets.UTF_8));
+  }
+
+  /** Records fetches, and completes them only when told to. */
+  private static class FakeCache extends NoopArtifactCache {
+    private final List<BuildTarget> fetched = new ArrayList<>();
+    private final Map<BuildTarget, SettableFuture<CacheResult>> results = new LinkedHashMap<>();
+    private final Map<BuildTarget, LazyPath> outputs = new LinkedHashMap<>();
+
+    @Override
+    public ListenableFuture<CacheResult> fetchAsync(
+        BuildTarget target, RuleKey ruleKey, LazyPath output) {
+      SettableFuture<CacheResult> result = SettableFuture.create();
+      fetched.add(target);
+      results.put(target, result);
+      outputs.put(target, output);
+      return result;
+    }
+
+    List<BuildTarget> getFetchedTargets() {
+      return fetched;
+    }
+
+    SettableFuture<CacheResult> getResult(BuildRule rule) {
+      return results.get(rule.getBuildTarget());
+    }
+
+    Path hit(BuildRule rule) throws IOException {
+      Path output = outputs.get(rule.getBuildTarget()).get();
+      Files.write(
+          output,
+          rule.getBuildTarget().getFullyQualifiedName().getBytes(StandardCharsets.UTF_8));
+      getResult(rule).set(CacheResult.hit("fake", ArtifactCacheMode.dir));
+      return output;
+    }
+
+    void miss(BuildRule rule) {
+      getResult(rule).set(CacheResult.miss());
+    }
+  }
+}
@@ -38,11 +38,13 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.hash.HashCode;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import org.hamcrest.Matchers;
 import org.junit.Test;
@@ -293,6 +295,80 @@ public class ManifestTest {
         Matchers.equalTo(Optional.of(key2)));
   }
 
+  @Test
+  public void serializeEntriesSharingHashes() throws IOException {
+    ImmutableMap<RuleKey, ImmutableMap<String, HashCode>> entries =
+        ImmutableMap.of(
+            new RuleKey("aa"),
+            ImmutableMap.of("foo.h", HashCode.fromInt(1), "bar.h", HashCode.fromInt(2)),
+            new RuleKey("bb"),
+            ImmutableMap.of("foo.h", HashCode.fromInt(1), "bar.h", HashCode.fromInt(3)),
+            new RuleKey("dd"),
+            ImmutableMap.of("foo.h", HashCode.fromInt(1)),
+            new RuleKey("ee"),
+            ImmutableMap.of("baz.h", HashCode.fromLong(4)));
+    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    ManifestUtil.fromMap(new RuleKey("cc"), entries).serialize(byteArrayOutputStream);
+    Manifest deserialized =
+        new Manifest(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()));
+    assertThat(ManifestUtil.toMap(deserialized), Matchers.equalTo(entries));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void deserializeRejectsOtherVersions() throws IOException {
+    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    DataOutputStream output = new DataOutputStream(byteArrayOutputStream);
+    output.writeInt(0);
+    output.writeUTF("cc");
+    new Manifest(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()));
+  }
+
+  @Test
+  public void lookupSkipsEntriesSharingMismatchingHash() throws IOException {
+    SourcePath common = FakeSourcePath.of("common.h");
+    SourcePath first = FakeSourcePath.of("first.h");
+    SourcePath second = FakeSourcePath.of("second.h");
+    String commonPath = RESOLVER.getRelativePath(common).toString();
+    String firstPath = RESOLVER.getRelativePath(first).toString();
+    String secondPath = RESOLVER.getRelativePath(second).toString();
+    RuleKey key = new RuleKey("dd");
+    Manifest manifest =
+        ManifestUtil.fromMap(
+            new RuleKey("cc"),
+            ImmutableMap.of(
+                new RuleKey("aa"),
+                ImmutableMap.of(commonPath, HashCode.fromInt(1), firstPath, HashCode.fromInt(11)),
+                new RuleKey("bb"),
+                ImmutableMap.of(commonPath, HashCode.fromInt(1), secondPath, HashCode.fromInt(21)),
+                key,
+                ImmutableMap.of(commonPath, HashCode.fromInt(2), secondPath, HashCode.fromInt(22)),
+                new RuleKey("ee"),
+                ImmutableMap.of(commonPath, HashCode.fromInt(3))));
+
+    Map<Path, Integer> hashedPaths = new HashMap<>();
+    FileHashLoader fileHashLoader =
+        new FakeFileHashCache(
+            ImmutableMap.of(
+                RESOLVER.getAbsolutePath(common), HashCode.fromInt(2),
+                RESOLVER.getAbsolutePath(first), HashCode.fromInt(11),
+                RESOLVER.getAbsolutePath(second), HashCode.fromInt(22))) {
+          @Override
+          public HashCode get(Path path) throws IOException {
+            hashedPaths.merge(path, 1, Integer::sum);
+            return super.get(path);
+          }
+        };
+
+    assertThat(
+        manifest.lookup(fileHashLoader, RESOLVER, ImmutableSet.of(common, first, second)),
+        Matchers.equalTo(Optional.of(key)));
+    assertThat(
+        hashedPaths,
+        Matchers.equalTo(
+            ImmutableMap.of(
+                RESOLVER.getAbsolutePath(common), 1, RESOLVER.getAbsolutePath(second), 1)));
+  }
+
   @Test
   public void size() {
     assertThat(new Manifest(new RuleKey("cc")).size(), Matchers.equalTo(0));
@@ -178,6 +178,32 @@ public class ActionGraphProviderTest {
     runAndCheckExpectedHitMissCount(cache, runList);
   }
 
+  @Test
+  public void hitOnMultiEntryCacheWithIncrementalActionGraph() {
+    ActionGraphProvider cache =
+        new ActionGraphProviderBuilder()
+            .withMaxEntries(2)
+            .withEventBus(eventBus)
+            .withIncrementalActionGraphMode(IncrementalActionGraphMode.ENABLED)
+            .withCheckActionGraphs()
+            .build();
+
+    // List of (graph to run, (expected hit count, expected miss count))
+    ArrayList<Pair<TargetGraph, Pair<Integer, Integer>>> runList = new ArrayList<>();
+
+    runList.add(new Pair<>(targetGraph1, new Pair<>(0, 1)));
+    // Generating graph 2 reuses the rules of graph 1, but graph 1 is still cached.
+    runList.add(new Pair<>(targetGraph2, new Pair<>(0, 2)));
+    runList.add(new Pair<>(targetGraph1, new Pair<>(1, 2)));
+    runList.add(new Pair<>(targetGraph2, new Pair<>(2, 2)));
+    // Generating the empty graph evicts graph 1, the least recently used one.
+    runList.add(new Pair<>(TargetGraph.EMPTY, new Pair<>(2, 3)));
+    runList.add(new Pair<>(targetGraph2, new Pair<>(3, 3)));
+    runList.add(new Pair<>(targetGraph1, new Pair<>(3, 4)));
+
+    runAndCheckExpectedHitMissCount(cache, runList);
+  }
+
   @Test
   public void testLruEvictionOrder() {
     ActionGraphProvider cache =
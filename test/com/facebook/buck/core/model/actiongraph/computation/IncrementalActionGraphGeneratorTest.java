@@ -46,8 +46,12 @@ import com.facebook.buck.event.BuckEvent;
 import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.event.BuckEventBusForTests;
 import com.facebook.buck.util.timing.IncrementingFakeClock;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.eventbus.Subscribe;
 import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -613,6 +617,106 @@ public class IncrementalActionGraphGeneratorTest {
     assertEquals(1, ((ActionGraphEvent.IncrementalLoad) event).getReusedNodeCount());
   }
 
+  @Test
+  public void switchingBetweenTargetGraphsReusesSharedSubgraphs() {
+    List<TargetGraph> retiredTargetGraphs = new ArrayList<>();
+    generator = new IncrementalActionGraphGenerator(2, retiredTargetGraphs::add);
+
+    TargetNode<?> libNode = createTargetNode("lib");
+    TargetNode<?> app1Node = createTargetNode("app1", libNode);
+    TargetNode<?> app2Node = createTargetNode("app2", libNode);
+
+    setUpTargetGraphAndResolver(app1Node, libNode);
+    TargetGraph app1TargetGraph = targetGraph;
+    generator.populateActionGraphBuilderWithCachedRules(eventBus, targetGraph, graphBuilder);
+    BuildRule libBuildRule = graphBuilder.requireRule(libNode.getBuildTarget());
+    BuildRule app1BuildRule = graphBuilder.requireRule(app1Node.getBuildTarget());
+    ActionGraphBuilder app1GraphBuilder = graphBuilder;
+
+    setUpTargetGraphAndResolver(app2Node, libNode);
+    generator.populateActionGraphBuilderWithCachedRules(eventBus, targetGraph, graphBuilder);
+    graphBuilder.requireRule(app2Node.getBuildTarget());
+
+    assertSame(libBuildRule, graphBuilder.getRule(libNode.getBuildTarget()));
+    // The first action graph is kept around, and so is still usable.
+    assertSame(app1BuildRule, app1GraphBuilder.getRule(app1Node.getBuildTarget()));
+    assertTrue(retiredTargetGraphs.isEmpty());
+
+    setUpTargetGraphAndResolver(app1Node, libNode);
+    generator.populateActionGraphBuilderWithCachedRules(eventBus, targetGraph, graphBuilder);
+    graphBuilder.requireRule(app1Node.getBuildTarget());
+
+    assertSame(libBuildRule, graphBuilder.getRule(libNode.getBuildTarget()));
+    assertSame(app1BuildRule, graphBuilder.getRule(app1Node.getBuildTarget()));
+    assertEquals(ImmutableList.of(app1TargetGraph), retiredTargetGraphs);
+  }
+
+  @Test
+  public void leastRecentlyUsedTargetGraphRetired() {
+    List<TargetGraph> retiredTargetGraphs = new ArrayList<>();
+    generator = new IncrementalActionGraphGenerator(2, retiredTargetGraphs::add);
+
+    setUpTargetGraphAndResolver(createTargetNode("test1"));
+    TargetGraph firstTargetGraph = targetGraph;
+    generator.populateActionGraphBuilderWithCachedRules(eventBus, targetGraph, graphBuilder);
+    setUpTargetGraphAndResolver(createTargetNode("test2"));
+    TargetGraph secondTargetGraph = targetGraph;
+    generator.populateActionGraphBuilderWithCachedRules(eventBus, targetGraph, graphBuilder);
+
+    // Using the first target graph again makes the second one the least recently used.
+    generator.activate(firstTargetGraph);
+    setUpTargetGraphAndResolver(createTargetNode("test3"));
+    generator.populateActionGraphBuilderWithCachedRules(eventBus, targetGraph, graphBuilder);
+
+    assertEquals(ImmutableList.of(secondTargetGraph), retiredTargetGraphs);
+  }
+
+  @Test
+  public void activatedTargetGraphRulesUseItsRuleResolver() {
+    generator = new IncrementalActionGraphGenerator(2, targetGraph -> {});
+
+    TargetNode<?> libNode = createTargetNode("lib");
+    setUpTargetGraphAndResolver(createTargetNode("app1", libNode), libNode);
+    TargetGraph app1TargetGraph = targetGraph;
+    ActionGraphBuilder app1GraphBuilder = graphBuilder;
+    generator.populateActionGraphBuilderWithCachedRules(eventBus, targetGraph, graphBuilder);
+    FakeBuildRule libBuildRule = (FakeBuildRule) graphBuilder.requireRule(libNode.getBuildTarget());
+
+    setUpTargetGraphAndResolver(createTargetNode("app2", libNode), libNode);
+    generator.populateActionGraphBuilderWithCachedRules(eventBus, targetGraph, graphBuilder);
+    graphBuilder.requireRule(libNode.getBuildTarget());
+    assertSame(graphBuilder, libBuildRule.getRuleResolver());
+
+    generator.activate(app1TargetGraph);
+    assertSame(app1GraphBuilder, libBuildRule.getRuleResolver());
+  }
+
+  @Test
+  public void rulesNotMixedFromDifferentTargetGraphs() {
+    generator = new IncrementalActionGraphGenerator(2, targetGraph -> {});
+
+    TargetNode<?> childNode = createTargetNode("child");
+    TargetNode<?> parentNode = createTargetNode("parent", childNode);
+    setUpTargetGraphAndResolver(parentNode, childNode);
+    generator.populateActionGraphBuilderWithCachedRules(eventBus, targetGraph, graphBuilder);
+    BuildRule originalParentBuildRule = graphBuilder.requireRule(parentNode.getBuildTarget());
+
+    // A new flavored node rebuilds all rules of the child, without the parent.
+    setUpTargetGraphAndResolver(childNode, createTargetNode("child#flavor"));
+    generator.populateActionGraphBuilderWithCachedRules(eventBus, targetGraph, graphBuilder);
+    BuildRule newChildBuildRule = graphBuilder.requireRule(childNode.getBuildTarget());
+
+    // The child is taken from the most recent graph, so the parent, which references the child
+    // rule of the first graph, must be rebuilt.
+    setUpTargetGraphAndResolver(parentNode, childNode);
+    generator.populateActionGraphBuilderWithCachedRules(eventBus, targetGraph, graphBuilder);
+    BuildRule parentBuildRule = graphBuilder.requireRule(parentNode.getBuildTarget());
+
+    assertSame(newChildBuildRule, graphBuilder.getRule(childNode.getBuildTarget()));
+    assertNotSame(originalParentBuildRule, parentBuildRule);
+    assertEquals(ImmutableSortedSet.of(newChildBuildRule), parentBuildRule.getBuildDeps());
+  }
+
   private FakeTargetNodeBuilder createTargetNodeBuilder(String name) {
     BuildTarget buildTarget = BuildTargetFactory.newInstance("//test:" + name);
     return FakeTargetNodeBuilder.newBuilder(new FakeDescription(), buildTarget);
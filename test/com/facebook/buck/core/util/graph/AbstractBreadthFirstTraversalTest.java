@@ -109,6 +109,46 @@ public class AbstractBreadthFirstTraversalTest {
         nodeTraversalOrder);
   }
 
+  @Test
+  public void testTraversesDirectedAcyclicGraph() {
+    // The dependency graph is built as follows:
+    //
+    //           A
+    //         /   \
+    //       B       C
+    //     /   \   /
+    //    D      E
+    //
+    MutableDirectedGraph<String> mutableGraph = new MutableDirectedGraph<>();
+    mutableGraph.addEdge("A", "B");
+    mutableGraph.addEdge("A", "C");
+    mutableGraph.addEdge("B", "D");
+    mutableGraph.addEdge("B", "E");
+    mutableGraph.addEdge("C", "E");
+    DirectedAcyclicGraph<String> graph = new DirectedAcyclicGraph<>(mutableGraph);
+
+    List<String> nodeTraversalOrder = new ArrayList<>();
+    AbstractBreadthFirstTraversal.traverse(
+        graph,
+        ImmutableList.of("A", "Z"),
+        node -> {
+          nodeTraversalOrder.add(node);
+          return true;
+        });
+    assertEquals(ImmutableList.of("A", "Z", "B", "C", "D", "E"), nodeTraversalOrder);
+
+    // Nodes are visited once, and only nodes whose edges were followed are reached.
+    nodeTraversalOrder.clear();
+    AbstractBreadthFirstTraversal.traverse(
+        graph,
+        ImmutableList.of("A", "B"),
+        node -> {
+          nodeTraversalOrder.add(node);
+          return !node.equals("B");
+        });
+    assertEquals(ImmutableList.of("A", "B", "C", "E"), nodeTraversalOrder);
+  }
+
   private static class FakeNode implements Comparable<FakeNode> {
     protected String name;
     protected ImmutableSortedSet<FakeNode> deps;
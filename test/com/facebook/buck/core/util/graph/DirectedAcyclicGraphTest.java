@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.core.util.graph;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+
+public class DirectedAcyclicGraphTest {
+
+  //       A
+  //     /   \
+  //    C     B
+  //     \   /
+  //       D
+  private MutableDirectedGraph<String> makeMutableGraph() {
+    MutableDirectedGraph<String> graph = new MutableDirectedGraph<>();
+    graph.addNode("D");
+    graph.addNode("A");
+    graph.addEdge("A", "C");
+    graph.addEdge("A", "B");
+    graph.addEdge("C", "D");
+    graph.addEdge("B", "D");
+    return graph;
+  }
+
+  @Test
+  public void edgesMatchMutableGraph() {
+    MutableDirectedGraph<String> mutableGraph = makeMutableGraph();
+    DirectedAcyclicGraph<String> graph = new DirectedAcyclicGraph<>(mutableGraph);
+
+    assertEquals(mutableGraph.getNodes(), graph.getNodes());
+    for (String node : mutableGraph.getNodes()) {
+      assertEquals(
+          ImmutableList.copyOf(mutableGraph.getOutgoingNodesFor(node)),
+          graph.getOutgoingNodesFor(node).asList());
+      assertEquals(
+          ImmutableList.copyOf(mutableGraph.getIncomingNodesFor(node)),
+          graph.getIncomingNodesFor(node).asList());
+    }
+    assertEquals(ImmutableSet.of("A"), graph.getNodesWithNoIncomingEdges());
+    assertEquals(ImmutableSet.of("D"), graph.getNodesWithNoOutgoingEdges());
+    assertEquals(
+        ImmutableSetMultimap.of("A", "C", "A", "B", "C", "D", "B", "D"),
+        graph.getOutgoingEdges());
+    assertSame(graph.getOutgoingEdges(), graph.getOutgoingEdges());
+  }
+
+  @Test
+  public void indexAccessorsAgreeWithNodes() {
+    DirectedAcyclicGraph<String> graph = new DirectedAcyclicGraph<>(makeMutableGraph());
+
+    assertEquals(4, graph.getNodeCount());
+    assertEquals(-1, graph.getIndex("E"));
+    for (int index = 0; index < graph.getNodeCount(); index++) {
+      String node = graph.getNode(index);
+      assertEquals(index, graph.getIndex(node));
+
+      List<String> outgoing = new ArrayList<>();
+      for (int i = 0; i < graph.getOutgoingNodeCount(index); i++) {
+        outgoing.add(graph.getNode(graph.getOutgoingNodeIndex(index, i)));
+      }
+      assertEquals(graph.getOutgoingNodesFor(node).asList(), outgoing);
+
+      List<String> incoming = new ArrayList<>();
+      graph.forEachIncomingNode(node, incoming::add);
+      assertEquals(graph.getIncomingNodesFor(node).asList(), incoming);
+    }
+  }
+
+  @Test
+  public void nodeSetsAreViewsOfEdges() {
+    DirectedAcyclicGraph<String> graph = new DirectedAcyclicGraph<>(makeMutableGraph());
+
+    Set<String> outgoing = graph.getOutgoingNodesView("A");
+    assertEquals(ImmutableSet.of("B", "C"), outgoing);
+    assertEquals(outgoing.hashCode(), ImmutableSet.of("B", "C").hashCode());
+    assertTrue(outgoing.contains("C"));
+    assertFalse(outgoing.contains("D"));
+    assertFalse(outgoing.contains("E"));
+    assertFalse(outgoing.contains(null));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void nodeSetsAreUnmodifiable() {
+    DirectedAcyclicGraph<String> graph = new DirectedAcyclicGraph<>(makeMutableGraph());
+
+    graph.getIncomingNodesView("D").remove("B");
+  }
+
+  @Test
+  public void unknownNodesHaveNoEdges() {
+    DirectedAcyclicGraph<String> graph = new DirectedAcyclicGraph<>(makeMutableGraph());
+
+    assertTrue(graph.getOutgoingNodesFor("E").isEmpty());
+    assertTrue(graph.getIncomingNodesFor("E").isEmpty());
+  }
+
+  @Test
+  public void equalityIgnoresInsertionOrder() {
+    MutableDirectedGraph<String> reordered = new MutableDirectedGraph<>();
+    reordered.addEdge("B", "D");
+    reordered.addEdge("C", "D");
+    reordered.addEdge("A", "B");
+    reordered.addEdge("A", "C");
+
+    DirectedAcyclicGraph<String> graph = new DirectedAcyclicGraph<>(makeMutableGraph());
+    DirectedAcyclicGraph<String> other = new DirectedAcyclicGraph<>(reordered);
+    assertEquals(graph, other);
+    assertEquals(graph.hashCode(), other.hashCode());
+
+    reordered.removeEdge("A", "C");
+    assertNotEquals(graph, new DirectedAcyclicGraph<>(reordered));
+  }
+}
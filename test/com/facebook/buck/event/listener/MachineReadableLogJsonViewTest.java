@@ -218,7 +218,9 @@ public class MachineReadableLogJsonViewTest {
             3L,
             0,
             new AtomicInteger(2),
-            new AtomicInteger(0));
+            new AtomicInteger(0),
+            1,
+            3);
 
     assertJsonEquals(
         WRITER.writeValueAsString(summary),
@@ -228,7 +230,9 @@ public class MachineReadableLogJsonViewTest {
             + "\"totalCacheHits\":3,\"totalCacheErrors\":3,"
             + "\"totalCacheMisses\":0,\"totalCacheIgnores\":5,\"totalCacheBytes\":3,\""
             + "totalCacheLocalKeyUnchangedHits\":0,"
-            + "\"successUploadCount\":2,\"failureUploadCount\":0}");
+            + "\"successUploadCount\":2,\"failureUploadCount\":0,"
+            + "\"totalRuleKeyFilterSkips\":1,\"totalRuleKeyFilterFalsePositives\":3,"
+            + "\"ruleKeyFilterFalsePositiveRate\":0.75}");
   }
 
   private void assertJsonEquals(String expected, String actual) {
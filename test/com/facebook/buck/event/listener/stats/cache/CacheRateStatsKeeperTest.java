@@ -132,6 +132,27 @@ public class CacheRateStatsKeeperTest {
     assertThat(stats.getUpdatedRulesCount(), Matchers.is(5));
   }
 
+  @Test
+  public void memoryCacheHit() {
+    CacheRateStatsKeeper cacheRateStatsKeeper = new CacheRateStatsKeeper();
+    cacheRateStatsKeeper.ruleCountCalculated(
+        BuildEvent.RuleCountCalculated.ruleCountCalculated(ImmutableSet.of(), 4));
+    cacheRateStatsKeeper.buildRuleFinished(
+        finishedEvent(CacheResult.hit("memory", ArtifactCacheMode.memory)));
+    cacheRateStatsKeeper.buildRuleFinished(
+        finishedEvent(CacheResult.hit("dir", ArtifactCacheMode.dir)));
+    cacheRateStatsKeeper.buildRuleFinished(
+        finishedEvent(CacheResult.hit("memory", ArtifactCacheMode.memory)));
+    cacheRateStatsKeeper.buildRuleFinished(finishedEvent(CacheResult.miss()));
+
+    CacheRateStatsKeeper.CacheRateStatsUpdateEvent stats = cacheRateStatsKeeper.getStats();
+
+    assertThat(stats.getCacheHitCount(), Matchers.is(3));
+    assertThat(stats.getMemoryCacheHitCount(), Matchers.is(2));
+    assertThat(stats.getMemoryCacheHitRate(), Matchers.is(50.0));
+    assertThat(stats.getCacheMissRate(), Matchers.is(25.0));
+  }
+
   @Test
   public void cacheError() {
     CacheRateStatsKeeper cacheRateStatsKeeper = new CacheRateStatsKeeper();
@@ -26,6 +26,7 @@ import com.facebook.buck.artifact_cache.ArtifactInfo;
 import com.facebook.buck.artifact_cache.CacheResult;
 import com.facebook.buck.artifact_cache.CacheResultType;
 import com.facebook.buck.artifact_cache.ClientCertificateHandler;
+import com.facebook.buck.artifact_cache.DaemonicArtifactCacheState;
 import com.facebook.buck.artifact_cache.DirArtifactCacheTestUtil;
 import com.facebook.buck.artifact_cache.TestArtifactCaches;
 import com.facebook.buck.artifact_cache.config.ArtifactCacheBuckConfig;
@@ -53,12 +54,15 @@ import com.facebook.buck.io.filesystem.impl.DefaultProjectFilesystemFactory;
 import com.facebook.buck.support.bgtasks.TaskManagerCommandScope;
 import com.facebook.buck.support.bgtasks.TestBackgroundTaskManager;
 import com.facebook.buck.testutil.TemporaryPaths;
+import com.facebook.buck.util.concurrent.ExplicitRunExecutorService;
 import com.facebook.buck.util.environment.Architecture;
 import com.facebook.buck.util.environment.Platform;
 import com.facebook.buck.util.timing.FakeClock;
 import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import java.io.DataOutputStream;
@@ -157,6 +161,14 @@ public class ServedCacheIntegrationTest {
         String.format("http_max_fetch_retries = %d", retryCount));
   }
 
+  private ArtifactCacheBuckConfig createMockLocalThriftCacheConfig(int port) throws Exception {
+    return createMockLocalConfig(
+        "[cache]",
+        "mode = thrift_over_http",
+        String.format("http_url = http://127.0.0.1:%d/", port),
+        "hybrid_thrift_endpoint = /hybrid_thrift");
+  }
+
   private ArtifactCacheBuckConfig createMockLocalDirCacheConfig() throws Exception {
     return createMockLocalConfig(
         "[cache]", "mode = dir", "dir = test-cache", "http_timeout_seconds = 10000");
@@ -559,6 +571,102 @@ public class ServedCacheIntegrationTest {
     assertTrue(containsKey(serverBackedDirCache, ruleKey));
   }
 
+  @Test
+  public void testFetchFromServedDircacheOverThrift() throws Exception {
+    webServer = new WebServer(/* port */ 0, projectFilesystem, FakeClock.doNotCare());
+    webServer.updateAndStartIfNeeded(Optional.of(dirCache));
+
+    ArtifactCache serverBackedCache =
+        createArtifactCache(createMockLocalThriftCacheConfig(webServer.getPort()));
+
+    Path fetchedContents = tmpDir.newFile();
+    CacheResult cacheResult =
+        Futures.getUnchecked(
+            serverBackedCache.fetchAsync(
+                null, A_FILE_RULE_KEY, LazyPath.ofInstance(fetchedContents)));
+    assertThat(cacheResult.getType().isSuccess(), Matchers.is(true));
+    assertThat(cacheResult.getMetadata(), Matchers.equalTo(A_FILE_METADATA));
+    assertThat(
+        projectFilesystem.readFileIfItExists(fetchedContents).get(), Matchers.equalTo(A_FILE_DATA));
+
+    cacheResult =
+        Futures.getUnchecked(
+            serverBackedCache.fetchAsync(
+                null, new RuleKey("00111222333444"), LazyPath.ofInstance(fetchedContents)));
+    assertThat(cacheResult.getType(), Matchers.equalTo(CacheResultType.MISS));
+  }
+
+  @Test
+  public void testMultiFetchAndMultiContainsFromServedDircacheOverThrift() throws Exception {
+    webServer = new WebServer(/* port */ 0, projectFilesystem, FakeClock.doNotCare());
+    webServer.updateAndStartIfNeeded(Optional.of(dirCache));
+
+    // Fetches are only sent once the executor runs, so that they go out in a single request.
+    ExplicitRunExecutorService fetchExecutor = new ExplicitRunExecutorService();
+    ArtifactCache serverBackedCache =
+        createArtifactCache(
+            createMockLocalConfig(
+                "[cache]",
+                "mode = thrift_over_http",
+                String.format("http_url = http://127.0.0.1:%d/", webServer.getPort()),
+                "hybrid_thrift_endpoint = /hybrid_thrift",
+                "http_thread_pool_size = 1"),
+            fetchExecutor);
+
+    RuleKey missingRuleKey = new RuleKey("00111222333444");
+    Path fetchedContents = tmpDir.newFile();
+    ListenableFuture<CacheResult> hit =
+        serverBackedCache.fetchAsync(null, A_FILE_RULE_KEY, LazyPath.ofInstance(fetchedContents));
+    ListenableFuture<CacheResult> miss =
+        serverBackedCache.fetchAsync(null, missingRuleKey, LazyPath.ofInstance(tmpDir.newFile()));
+    fetchExecutor.run();
+
+    assertThat(hit.get().getType(), Matchers.equalTo(CacheResultType.HIT));
+    assertThat(hit.get().getMetadata(), Matchers.equalTo(A_FILE_METADATA));
+    assertThat(
+        projectFilesystem.readFileIfItExists(fetchedContents).get(), Matchers.equalTo(A_FILE_DATA));
+    assertThat(miss.get().getType(), Matchers.equalTo(CacheResultType.MISS));
+
+    ListenableFuture<ImmutableMap<RuleKey, CacheResult>> contains =
+        serverBackedCache.multiContainsAsync(ImmutableSet.of(A_FILE_RULE_KEY, missingRuleKey));
+    fetchExecutor.run();
+
+    ImmutableMap<RuleKey, CacheResult> containsResults = contains.get();
+    assertThat(
+        containsResults.get(A_FILE_RULE_KEY).getType(), Matchers.equalTo(CacheResultType.CONTAINS));
+    assertThat(
+        containsResults.get(missingRuleKey).getType(), Matchers.equalTo(CacheResultType.MISS));
+  }
+
+  @Test
+  public void testStoreAndFetchOverThrift() throws Exception {
+    webServer = new WebServer(/* port */ 0, projectFilesystem, FakeClock.doNotCare());
+    webServer.updateAndStartIfNeeded(Optional.of(dirCache));
+
+    ArtifactCache serverBackedCache =
+        createArtifactCache(createMockLocalThriftCacheConfig(webServer.getPort()));
+
+    RuleKey ruleKey = new RuleKey("00111222333444");
+    ImmutableMap<String, String> metadata = ImmutableMap.of("some key", "some value");
+    Path originalDataPath = tmpDir.newFile();
+    String data = "you won't believe this!";
+    projectFilesystem.writeContentsToPath(data, originalDataPath);
+
+    serverBackedCache
+        .store(
+            ArtifactInfo.builder().addRuleKeys(ruleKey).setMetadata(metadata).build(),
+            BorrowablePath.notBorrowablePath(originalDataPath))
+        .get();
+
+    LazyPath fetchedContents = LazyPath.ofInstance(tmpDir.newFile());
+    CacheResult cacheResult =
+        Futures.getUnchecked(serverBackedCache.fetchAsync(null, ruleKey, fetchedContents));
+    assertThat(cacheResult.getType().isSuccess(), Matchers.is(true));
+    assertThat(cacheResult.getMetadata(), Matchers.equalTo(metadata));
+    assertThat(
+        projectFilesystem.readFileIfItExists(fetchedContents.get()).get(), Matchers.equalTo(data));
+  }
+
   private boolean containsKey(ArtifactCache cache, RuleKey ruleKey) throws Exception {
     Path fetchedContents = tmpDir.newFile();
     CacheResult cacheResult =
@@ -568,6 +676,11 @@ public class ServedCacheIntegrationTest {
   }
 
   private ArtifactCache createArtifactCache(ArtifactCacheBuckConfig buckConfig) {
+    return createArtifactCache(buckConfig, DIRECT_EXECUTOR_SERVICE);
+  }
+
+  private ArtifactCache createArtifactCache(
+      ArtifactCacheBuckConfig buckConfig, ListeningExecutorService fetchExecutorService) {
     return new ArtifactCaches(
             buckConfig,
             buckEventBus,
@@ -576,12 +689,13 @@ public class ServedCacheIntegrationTest {
             projectFilesystem,
             Optional.empty(),
             DIRECT_EXECUTOR_SERVICE,
-            DIRECT_EXECUTOR_SERVICE,
+            fetchExecutorService,
             DIRECT_EXECUTOR_SERVICE,
             managerScope,
             "test://",
             "hostname",
-            ClientCertificateHandler.fromConfiguration(buckConfig))
+            ClientCertificateHandler.fromConfiguration(buckConfig),
+            new DaemonicArtifactCacheState())
         .newInstance();
   }
 }
@@ -50,6 +50,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Ordering;
+import com.google.common.hash.Hashing;
 import com.google.common.jimfs.Configuration;
 import com.google.common.jimfs.Jimfs;
 import java.io.ByteArrayInputStream;
@@ -75,6 +76,7 @@ import java.util.EnumSet;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.Optional;
+import java.util.Random;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -782,4 +784,14 @@ public class DefaultProjectFilesystemTest {
 
     filesystem.computeSha1(Paths.get("afakefile.txt"));
   }
+
+  @Test
+  public void testComputeSha1OfFileLargerThanReadBuffer() throws IOException {
+    byte[] contents = new byte[3 * 1024 * 1024 + 17];
+    new Random(42).nextBytes(contents);
+    Path path = Paths.get("large.bin");
+    filesystem.writeBytesToPath(contents, path);
+
+    assertEquals(Hashing.sha1().hashBytes(contents), filesystem.computeSha1(path).asHashCode());
+  }
 }
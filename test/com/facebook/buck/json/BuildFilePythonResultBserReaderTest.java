@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.json;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+import com.facebook.buck.util.bser.BserSerializer;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/** Tests for {@link BuildFilePythonResultBserReader}. */
+public final class BuildFilePythonResultBserReaderTest {
+  @Rule public ExpectedException expectedException = ExpectedException.none();
+
+  @Test
+  public void readsStreamedValuesAndTrailer() throws IOException {
+    Map<String, Object> value = new LinkedHashMap<>();
+    value.put("buck.foo", null);
+    value.put("buck.bar", ImmutableList.of(1, 2, 3));
+    byte[] output =
+        serialize(
+            ImmutableMap.of("value", value),
+            ImmutableMap.of("value", ImmutableMap.of("name", "other")),
+            ImmutableMap.of(
+                "diagnostics",
+                ImmutableList.of(ImmutableMap.of("level", "warning", "message", "Oops")),
+                "encode_nanos",
+                1234,
+                "profile",
+                "profile data"));
+
+    List<Map<String, Object>> convertedValues = new ArrayList<>();
+    BuildFilePythonResultBserReader reader =
+        new BuildFilePythonResultBserReader(new ByteArrayInputStream(output));
+    BuildFilePythonResult result =
+        reader.readResult(
+            v -> {
+              convertedValues.add(v);
+              return ImmutableMap.of("converted", v.size());
+            });
+
+    Map<String, Object> expectedValue = new LinkedHashMap<>();
+    expectedValue.put("buck.foo", null);
+    // Note the L -- integers are read as longs, like in JSON results.
+    expectedValue.put("buck.bar", ImmutableList.of(1L, 2L, 3L));
+    assertEquals(
+        ImmutableList.of(expectedValue, ImmutableMap.of("name", "other")), convertedValues);
+    assertThat(
+        result,
+        is(
+            BuildFilePythonResult.of(
+                ImmutableList.of(
+                    ImmutableMap.of("converted", 2), ImmutableMap.of("converted", 1)),
+                ImmutableList.of(ImmutableMap.of("level", "warning", "message", "Oops")),
+                Optional.of("profile data"))));
+    assertEquals(1234L, reader.getEncodeNanos());
+    assertThat(reader.getDecodeNanos(), greaterThan(0L));
+  }
+
+  @Test
+  public void readsConsecutiveResults() throws IOException {
+    byte[] output =
+        serialize(
+            ImmutableMap.of("value", ImmutableMap.of("name", "first")),
+            ImmutableMap.of("diagnostics", ImmutableList.of()),
+            ImmutableMap.of("profile", "second"));
+
+    BuildFilePythonResultBserReader reader =
+        new BuildFilePythonResultBserReader(new ByteArrayInputStream(output));
+
+    assertThat(
+        reader.readResult(v -> v),
+        is(
+            BuildFilePythonResult.of(
+                ImmutableList.of(ImmutableMap.of("name", "first")),
+                ImmutableList.of(),
+                Optional.empty())));
+    assertThat(
+        reader.readResult(v -> v),
+        is(
+            BuildFilePythonResult.of(
+                ImmutableList.of(), ImmutableList.of(), Optional.of("second"))));
+    assertEquals(0L, reader.getEncodeNanos());
+  }
+
+  @Test
+  public void nullListElementsAreRejected() throws IOException {
+    byte[] output =
+        serialize(
+            ImmutableMap.of("value", ImmutableMap.of("srcs", Arrays.asList("Foo.java", null))));
+
+    expectedException.expect(IllegalArgumentException.class);
+    new BuildFilePythonResultBserReader(new ByteArrayInputStream(output)).readResult(v -> v);
+  }
+
+  @Test
+  public void truncatedOutputIsAnError() throws IOException {
+    byte[] output = serialize(ImmutableMap.of("value", ImmutableMap.of("name", "first")));
+
+    expectedException.expect(IOException.class);
+    new BuildFilePythonResultBserReader(
+            new ByteArrayInputStream(Arrays.copyOf(output, output.length - 1)))
+        .readResult(v -> v);
+  }
+
+  private static byte[] serialize(Object... pdus) throws IOException {
+    BserSerializer serializer = new BserSerializer();
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    for (Object pdu : pdus) {
+      serializer.serializeToStream(pdu, output);
+    }
+    return output.toByteArray();
+  }
+}
@@ -69,6 +69,8 @@ import com.google.devtools.build.lib.events.PrintingEventHandler;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -77,6 +79,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.hamcrest.Matchers;
 import org.junit.Before;
 import org.junit.Rule;
@@ -131,6 +136,51 @@ public class PythonDslProjectBuildFileParserTest {
         new ByteArrayInputStream(stdout.orElse("").getBytes(StandardCharsets.UTF_8)));
   }
 
+  /**
+   * Creates a process which, like buck.py, only writes the response to a request once the request
+   * has been sent, so that readers can't consume responses ahead of their requests.
+   */
+  private static FakeProcess fakeProcessAnsweringEachRequest(List<Object> values) {
+    byte[] response;
+    try {
+      response =
+          ObjectMappers.WRITER.writeValueAsBytes(
+              ImmutableMap.of("values", values, "diagnostics", ImmutableList.of()));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    Queue<ByteArrayInputStream> responses = new ConcurrentLinkedQueue<>();
+    OutputStream stdin =
+        new OutputStream() {
+          @Override
+          public void write(int b) {
+            // Requests are terminated by newlines.
+            if (b == '\n') {
+              responses.add(new ByteArrayInputStream(response));
+            }
+          }
+        };
+    InputStream stdout =
+        new InputStream() {
+          @Override
+          public int read() {
+            byte[] b = new byte[1];
+            return read(b, 0, 1) < 0 ? -1 : b[0] & 0xff;
+          }
+
+          @Override
+          public int read(byte[] b, int off, int len) {
+            ByteArrayInputStream current = responses.peek();
+            while (current != null && current.available() == 0) {
+              responses.poll();
+              current = responses.peek();
+            }
+            return current == null ? -1 : current.read(b, off, len);
+          }
+        };
+    return new FakeProcess(0, stdin, stdout, new ByteArrayInputStream(new byte[0]));
+  }
+
   @Test
   public void whenSubprocessReturnsSuccessThenProjectBuildFileParserClosesCleanly()
       throws IOException, BuildFileParseException, InterruptedException {
@@ -530,6 +580,86 @@ public class PythonDslProjectBuildFileParserTest {
     assertNotNull(udrLoader.knownTypes(cell.getRootCell()).getRule("//foo:udr.bzl:my_rule"));
   }
 
+  @Test
+  public void pooledProcessIsReusedByTheNextParser() throws Exception {
+    TestProjectBuildFileParserFactory buildFileParserFactory =
+        new TestProjectBuildFileParserFactory(cell.getRootCell().getRoot(), knownNativeRuleTypes);
+    AtomicInteger launchedProcesses = new AtomicInteger();
+    Path buildFile = cell.getRootCell().getRoot().resolve("foo/BUCK").getPath();
+
+    try (PythonDslProcessPool processPool = new PythonDslProcessPool(1, 1, Long.MAX_VALUE)) {
+      for (int i = 0; i < 2; i++) {
+        try (PythonDslProjectBuildFileParser buildFileParser =
+            buildFileParserFactory.createParserUsingProcessPool(
+                processPool, launchedProcesses, ImmutableList.of(buildFile.toString()))) {
+          buildFileParser.getManifest(buildFile);
+        }
+      }
+    }
+
+    assertEquals(1, launchedProcesses.get());
+  }
+
+  @Test
+  public void pooledProcessIsNotReusedOnceALoadedFileChanges() throws Exception {
+    TestProjectBuildFileParserFactory buildFileParserFactory =
+        new TestProjectBuildFileParserFactory(cell.getRootCell().getRoot(), knownNativeRuleTypes);
+    AtomicInteger launchedProcesses = new AtomicInteger();
+    Path buildFile = cell.getRootCell().getRoot().resolve("foo/BUCK").getPath();
+    AbsPath extension = cell.getRootCell().getRoot().resolve("foo/defs.bzl");
+    ImmutableList<String> includes = ImmutableList.of(buildFile.toString(), extension.toString());
+
+    try (PythonDslProcessPool processPool = new PythonDslProcessPool(1, 1, Long.MAX_VALUE)) {
+      try (PythonDslProjectBuildFileParser buildFileParser =
+          buildFileParserFactory.createParserUsingProcessPool(
+              processPool, launchedProcesses, includes)) {
+        buildFileParser.getManifest(buildFile);
+      }
+
+      // Changes to build files don't matter, as they are not cached by buck.py.
+      processPool.invalidatePath(AbsPath.of(buildFile));
+      try (PythonDslProjectBuildFileParser buildFileParser =
+          buildFileParserFactory.createParserUsingProcessPool(
+              processPool, launchedProcesses, includes)) {
+        buildFileParser.getManifest(buildFile);
+      }
+      assertEquals(1, launchedProcesses.get());
+
+      processPool.invalidatePath(extension);
+      try (PythonDslProjectBuildFileParser buildFileParser =
+          buildFileParserFactory.createParserUsingProcessPool(
+              processPool, launchedProcesses, includes)) {
+        buildFileParser.getManifest(buildFile);
+      }
+      assertEquals(2, launchedProcesses.get());
+    }
+  }
+
+  @Test
+  public void pooledProcessIsNotReusedAfterARequestWithoutIncludes() throws Exception {
+    TestProjectBuildFileParserFactory buildFileParserFactory =
+        new TestProjectBuildFileParserFactory(cell.getRootCell().getRoot(), knownNativeRuleTypes);
+    AtomicInteger launchedProcesses = new AtomicInteger();
+    Path buildFile = cell.getRootCell().getRoot().resolve("foo/BUCK").getPath();
+
+    try (PythonDslProcessPool processPool = new PythonDslProcessPool(1, 1, Long.MAX_VALUE)) {
+      // buck.py answers with no values when it fails to serialize them, so the files it loaded for
+      // the build file are unknown.
+      try (PythonDslProjectBuildFileParser buildFileParser =
+          buildFileParserFactory.createParserUsingProcessPoolAnswering(
+              processPool, launchedProcesses, ImmutableList.of())) {
+        buildFileParser.getManifest(buildFile);
+      }
+      try (PythonDslProjectBuildFileParser buildFileParser =
+          buildFileParserFactory.createParserUsingProcessPool(
+              processPool, launchedProcesses, ImmutableList.of(buildFile.toString()))) {
+        buildFileParser.getManifest(buildFile);
+      }
+    }
+
+    assertEquals(2, launchedProcesses.get());
+  }
+
   /**
    * ProjectBuildFileParser test double which counts the number of times rules are parsed to test
    * caching logic in Parser.
@@ -665,6 +795,34 @@ public class PythonDslProjectBuildFileParserTest {
           buckEventBus);
     }
 
+    PythonDslProjectBuildFileParser createParserUsingProcessPool(
+        PythonDslProcessPool processPool,
+        AtomicInteger launchedProcesses,
+        ImmutableList<String> includes) {
+      return createParserUsingProcessPoolAnswering(
+          processPool,
+          launchedProcesses,
+          ImmutableList.of(
+              ImmutableMap.of(MetaRules.INCLUDES, includes),
+              ImmutableMap.of(MetaRules.CONFIGS, ImmutableMap.of()),
+              ImmutableMap.of(MetaRules.ENV, ImmutableMap.of())));
+    }
+
+    PythonDslProjectBuildFileParser createParserUsingProcessPoolAnswering(
+        PythonDslProcessPool processPool, AtomicInteger launchedProcesses, List<Object> values) {
+      return new TestPythonDslProjectBuildFileParser(
+          "fake-python",
+          new FakeProcessExecutor(
+              params -> {
+                launchedProcesses.incrementAndGet();
+                return fakeProcessAnsweringEachRequest(values);
+              },
+              new TestConsole()),
+          BuckEventBusForTests.newInstance(),
+          Optional.empty(),
+          Optional.of(processPool));
+    }
+
     TestSkylarkParser createSkylarkParser(Cell cell) {
       return new TestSkylarkParser(getOptions("fake-python"), cell.getFilesystem(), cell);
     }
@@ -716,6 +874,15 @@ public class PythonDslProjectBuildFileParserTest {
           ProcessExecutor processExecutor,
           BuckEventBus buckEventBus,
           Optional<UserDefinedRuleLoader> udrLoader) {
+        this(pythonInterpreter, processExecutor, buckEventBus, udrLoader, Optional.empty());
+      }
+
+      public TestPythonDslProjectBuildFileParser(
+          String pythonInterpreter,
+          ProcessExecutor processExecutor,
+          BuckEventBus buckEventBus,
+          Optional<UserDefinedRuleLoader> udrLoader,
+          Optional<PythonDslProcessPool> processPool) {
         super(
             getOptions(pythonInterpreter),
             new DefaultTypeCoercerFactory(),
@@ -723,7 +890,8 @@ public class PythonDslProjectBuildFileParserTest {
             buckEventBus,
             processExecutor,
             Optional.empty(),
-            udrLoader);
+            udrLoader,
+            processPool);
       }
     }
 
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.parser.cache;
+
+import static org.junit.Assert.assertEquals;
+
+import com.facebook.buck.core.filesystems.AbsPath;
+import com.facebook.buck.parser.api.BuildFileManifest;
+import com.facebook.buck.parser.api.ProjectBuildFileParser;
+import com.facebook.buck.parser.options.ProjectBuildFileParserOptions;
+import com.facebook.buck.skylark.io.GlobSpec;
+import com.facebook.buck.skylark.io.GlobSpecWithResult;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class CachingProjectBuildFileParserDecoratorTest {
+  private static final ImmutableMap<String, ImmutableMap<String, String>> CONFIG =
+      ImmutableMap.of("section", ImmutableMap.of("key", "a", "unread_key", "b"));
+
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  private Path buildFile;
+  private Path extensionFile;
+  private ParserCacheStorage storage;
+  private FakeParser delegate;
+
+  @Before
+  public void setUp() throws IOException {
+    buildFile = write("BUCK", "java_library(name = 'foo', srcs = glob(['*.java']))");
+    extensionFile = write("defs.bzl", "FOO = 1");
+    storage = LocalParserCacheStorage.of(tmp.newFolder("cache"));
+    delegate = new FakeParser();
+  }
+
+  @Test
+  public void unchangedBuildFileIsServedFromCacheAcrossParsers() throws Exception {
+    BuildFileManifest manifest = parse(CONFIG);
+    BuildFileManifest cachedManifest = parse(CONFIG);
+
+    assertEquals(1, delegate.parseCount);
+    assertEquals(manifest, cachedManifest);
+  }
+
+  @Test
+  public void changedBuildFileIsParsedAgain() throws Exception {
+    parse(CONFIG);
+    write("BUCK", "java_library(name = 'bar')");
+    parse(CONFIG);
+
+    assertEquals(2, delegate.parseCount);
+  }
+
+  @Test
+  public void changedExtensionFileIsParsedAgain() throws Exception {
+    parse(CONFIG);
+    write("defs.bzl", "FOO = 2");
+    parse(CONFIG);
+
+    assertEquals(2, delegate.parseCount);
+  }
+
+  @Test
+  public void changedConfigValueIsParsedAgain() throws Exception {
+    parse(CONFIG);
+    parse(ImmutableMap.of("section", ImmutableMap.of("key", "b")));
+    parse(ImmutableMap.of("section", ImmutableMap.of("other_key", "b")));
+
+    assertEquals(3, delegate.parseCount);
+  }
+
+  @Test
+  public void changedGlobResultsAreParsedAgain() throws Exception {
+    parse(CONFIG);
+    delegate.globResultsMatch = false;
+    parse(CONFIG);
+
+    assertEquals(2, delegate.parseCount);
+  }
+
+  @Test
+  public void resultsOfParsersThatCannotCheckGlobsAreNotCached() throws Exception {
+    delegate.canCheckGlobs = false;
+    parse(CONFIG);
+    parse(CONFIG);
+
+    assertEquals(2, delegate.parseCount);
+  }
+
+  private BuildFileManifest parse(ImmutableMap<String, ImmutableMap<String, String>> rawConfig)
+      throws Exception {
+    ProjectBuildFileParserOptions options =
+        ProjectBuildFileParserOptions.builder()
+            .setProjectRoot(AbsPath.of(tmp.getRoot()))
+            .setAllowEmptyGlobs(true)
+            .setIgnorePaths(ImmutableSet.of())
+            .setBuildFileName("BUCK")
+            .setRawConfig(rawConfig)
+            .setDescriptions(ImmutableSet.of())
+            .setPerFeatureProviders(ImmutableSet.of())
+            .setBuildFileImportWhitelist(ImmutableList.of())
+            .setPythonInterpreter("skylark")
+            .build();
+    // A new decorator per parse, like a new daemon would create.
+    try (ProjectBuildFileParser parser =
+        CachingProjectBuildFileParserDecorator.of(delegate, storage, options, ImmutableMap.of())) {
+      return parser.getManifest(buildFile);
+    }
+  }
+
+  private Path write(String name, String contents) throws IOException {
+    Path path = tmp.getRoot().resolve(name);
+    Files.write(path, contents.getBytes(StandardCharsets.UTF_8));
+    return path;
+  }
+
+  /** Parser that reports a manifest reading {@code section.key} and a glob. */
+  private class FakeParser implements ProjectBuildFileParser {
+    private int parseCount = 0;
+    private boolean canCheckGlobs = true;
+    private boolean globResultsMatch = true;
+
+    @Override
+    public BuildFileManifest getManifest(Path parseFile) {
+      parseCount++;
+      return BuildFileManifest.of(
+          ImmutableMap.of("foo", ImmutableMap.of("name", "foo", "buck.type", "java_library")),
+          ImmutableSortedSet.of(buildFile.toString(), extensionFile.toString()),
+          ImmutableMap.of("section", ImmutableMap.of("key", Optional.of("a"))),
+          Optional.of(ImmutableMap.of()),
+          ImmutableList.of(
+              GlobSpecWithResult.of(
+                  GlobSpec.of(ImmutableList.of("*.java"), ImmutableList.of(), true),
+                  ImmutableSet.of("Foo.java"))),
+          ImmutableList.of());
+    }
+
+    @Override
+    public void reportProfile() {}
+
+    @Override
+    public ImmutableSortedSet<String> getIncludedFiles(Path parseFile) {
+      return ImmutableSortedSet.of(buildFile.toString(), extensionFile.toString());
+    }
+
+    @Override
+    public boolean globResultsMatchCurrentState(
+        Path buildFile, ImmutableList<GlobSpecWithResult> existingGlobsWithResults) {
+      if (!canCheckGlobs) {
+        throw new UnsupportedOperationException();
+      }
+      return globResultsMatch;
+    }
+
+    @Override
+    public void close() {}
+  }
+}
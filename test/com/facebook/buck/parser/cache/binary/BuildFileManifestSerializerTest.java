@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.parser.cache.binary;
+
+import static org.junit.Assert.assertEquals;
+
+import com.facebook.buck.parser.api.BuildFileManifest;
+import com.facebook.buck.parser.exceptions.ParsingError;
+import com.facebook.buck.parser.syntax.ListWithSelects;
+import com.facebook.buck.parser.syntax.SelectorValue;
+import com.facebook.buck.skylark.io.GlobSpec;
+import com.facebook.buck.skylark.io.GlobSpecWithResult;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Optional;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/** Tests for the binary serialization of {@link BuildFileManifest}. */
+public class BuildFileManifestSerializerTest {
+  @Rule public ExpectedException expectedException = ExpectedException.none();
+
+  private static BuildFileManifest createFakeManifest() {
+    ImmutableList<GlobSpecWithResult> globSpecs =
+        ImmutableList.of(
+            GlobSpecWithResult.of(
+                GlobSpec.of(ImmutableList.of("*.java"), ImmutableList.of("Foo*.java"), true),
+                ImmutableSet.of("Bar.java", "Baz.java")),
+            GlobSpecWithResult.of(
+                GlobSpec.of(ImmutableList.of("res/**"), ImmutableList.of(), false),
+                ImmutableSet.of()));
+
+    ImmutableMap<String, Object> target1 =
+        ImmutableMap.<String, Object>builder()
+            .put("name", "tar1")
+            .put("buck.type", "java_library")
+            .put("srcs", ImmutableList.of("Bar.java", "Baz.java"))
+            .put("labels", ImmutableSortedSet.of("b", "a"))
+            .put("exported", true)
+            .put("deprecated", false)
+            .put("count", -42)
+            .put("timestamp", 1L << 40)
+            .put("ratio", 0.5)
+            .put("env", ImmutableSortedMap.of("B", "2", "A", "1"))
+            .put("maybe", Optional.empty())
+            .build();
+    ImmutableMap<String, Object> target2 =
+        ImmutableMap.of(
+            "name",
+            "tar2",
+            "deps",
+            ListWithSelects.of(
+                ImmutableList.of(
+                    ImmutableList.of(":tar1"),
+                    SelectorValue.of(
+                        ImmutableMap.of(
+                            "//config:linux", ImmutableList.of(":linux"),
+                            "DEFAULT", ImmutableList.of()),
+                        "no match")),
+                ImmutableList.class));
+
+    return BuildFileManifest.of(
+        ImmutableMap.of("tar1", target1, "tar2", target2),
+        ImmutableSortedSet.of("/project/BUCK", "/project/defs.bzl"),
+        ImmutableMap.of(
+            "section", ImmutableMap.of("key", Optional.of("value"), "unset", Optional.empty())),
+        Optional.of(ImmutableMap.of("HOME", Optional.of("/home/user"), "UNSET", Optional.empty())),
+        globSpecs,
+        ImmutableList.of(
+            ParsingError.of("error1", ImmutableList.of("stack1", "stack2")),
+            ParsingError.of("error2", ImmutableList.of())));
+  }
+
+  @Test
+  public void roundTripPreservesManifest() throws Exception {
+    BuildFileManifest manifest = createFakeManifest();
+
+    BuildFileManifest deserialized =
+        BuildFileManifestSerializer.deserialize(
+            ByteBuffer.wrap(BuildFileManifestSerializer.serialize(manifest)));
+
+    assertEquals(manifest, deserialized);
+    assertEquals(
+        ImmutableList.copyOf(manifest.getTargets().get("tar1").keySet()),
+        ImmutableList.copyOf(deserialized.getTargets().get("tar1").keySet()));
+  }
+
+  @Test
+  public void roundTripWithoutEnv() throws Exception {
+    BuildFileManifest manifest =
+        BuildFileManifest.of(
+            ImmutableMap.of(),
+            ImmutableSortedSet.of(),
+            ImmutableMap.of(),
+            Optional.empty(),
+            ImmutableList.of(),
+            ImmutableList.of());
+
+    assertEquals(
+        manifest,
+        BuildFileManifestSerializer.deserialize(
+            ByteBuffer.wrap(BuildFileManifestSerializer.serialize(manifest))));
+  }
+
+  @Test
+  public void deserializationRejectsOtherFormats() throws Exception {
+    expectedException.expect(IOException.class);
+
+    BuildFileManifestSerializer.deserialize(
+        ByteBuffer.wrap(
+            com.facebook.buck.parser.cache.json.BuildFileManifestSerializer.serialize(
+                createFakeManifest())));
+  }
+
+  @Test
+  public void deserializationRejectsTruncatedInput() throws Exception {
+    byte[] serialized = BuildFileManifestSerializer.serialize(createFakeManifest());
+
+    expectedException.expect(IOException.class);
+
+    BuildFileManifestSerializer.deserialize(
+        ByteBuffer.wrap(Arrays.copyOf(serialized, serialized.length / 2)));
+  }
+}
@@ -33,6 +33,7 @@ import com.facebook.buck.core.rules.TestBuildRuleParams;
 import com.facebook.buck.core.rules.actions.ActionRegistryForTests;
 import com.facebook.buck.core.rules.impl.NoopBuildRuleWithDeclaredAndExtraDeps;
 import com.facebook.buck.core.rules.resolver.impl.TestActionGraphBuilder;
+import com.facebook.buck.core.sourcepath.ExplicitBuildTargetSourcePath;
 import com.facebook.buck.core.sourcepath.FakeSourcePath;
 import com.facebook.buck.core.sourcepath.PathSourcePath;
 import com.facebook.buck.core.sourcepath.SourcePath;
@@ -42,6 +43,7 @@ import com.facebook.buck.rules.keys.RuleKeyDiagnostics.Result;
 import com.facebook.buck.rules.keys.config.TestRuleKeyConfigurationFactory;
 import com.facebook.buck.rules.keys.hasher.StringRuleKeyHasher;
 import com.facebook.buck.testutil.DummyFileHashCache;
+import com.facebook.buck.testutil.FakeFileHashCache;
 import com.facebook.buck.util.cache.FileHashCacheMode;
 import com.facebook.buck.util.cache.impl.DefaultFileHashCache;
 import com.facebook.buck.util.cache.impl.StackedFileHashCache;
@@ -50,18 +52,25 @@ import com.facebook.buck.util.sha1.Sha1HashCode;
 import com.facebook.buck.util.types.Either;
 import com.google.common.base.Objects;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.MapMaker;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import javax.annotation.Nullable;
 import org.hamcrest.Matchers;
@@ -545,6 +554,99 @@ public class DefaultRuleKeyFactoryTest {
     assertNotEquals("Rule keys should be different! " + val1 + " != " + val2, key1, key2);
   }
 
+  @Test
+  public void prefetchInputsReportsPathsFromRuleAndAppendablesButNotDeps() {
+    SourcePathRuleFinder ruleFinder = new TestActionGraphBuilder();
+    ProjectFilesystem filesystem = new FakeProjectFilesystem();
+    List<Path> prefetched = new ArrayList<>();
+    FileHashLoader fileHashLoader =
+        new DummyFileHashCache() {
+          @Override
+          public void prefetch(Iterable<Path> paths) {
+            Iterables.addAll(prefetched, paths);
+          }
+        };
+    DefaultRuleKeyFactory factory = new TestDefaultRuleKeyFactory(fileHashLoader, ruleFinder);
+
+    PathSourcePath input = FakeSourcePath.of(filesystem, "input");
+    PathSourcePath nestedInput = FakeSourcePath.of(filesystem, "nested");
+    BuildRule dep = new EmptyFakeBuildRule(BuildTargetFactory.newInstance("//:dep"));
+    AddsToRuleKey appendable =
+        new AddsToRuleKey() {
+          @AddToRuleKey private final SourcePath nestedField = nestedInput;
+        };
+
+    BuildRule rule =
+        new NoopBuildRuleWithDeclaredAndExtraDeps(
+            BuildTargetFactory.newInstance("//:target"),
+            filesystem,
+            TestBuildRuleParams.create().withDeclaredDeps(ImmutableSortedSet.of(dep))) {
+          @AddToRuleKey private final SourcePath inputField = input;
+
+          @AddToRuleKey private final AddsToRuleKey appendableField = appendable;
+
+          @AddToRuleKey
+          private final SourcePath depOutput =
+              ExplicitBuildTargetSourcePath.of(dep.getBuildTarget(), Paths.get("out"));
+        };
+
+    factory.prefetchInputs(rule);
+
+    assertThat(
+        prefetched,
+        Matchers.containsInAnyOrder(
+            filesystem.resolve(input.getRelativePath()),
+            filesystem.resolve(nestedInput.getRelativePath())));
+  }
+
+  @Test
+  public void keyBuiltAfterPrefetchingReusesTheWalkedFields() {
+    SourcePathRuleFinder ruleFinder = new TestActionGraphBuilder();
+    ProjectFilesystem filesystem = new FakeProjectFilesystem();
+    AtomicInteger walks = new AtomicInteger();
+    Function<String, BuildRule> createRule =
+        name ->
+            new NoopBuildRuleWithDeclaredAndExtraDeps(
+                BuildTargetFactory.newInstance("//:" + name),
+                filesystem,
+                TestBuildRuleParams.create()) {
+              @AddToRuleKey
+              private final SourcePath inputField = FakeSourcePath.of(filesystem, "input");
+
+              @AddToRuleKey
+              private final AddsToRuleKey appendableField =
+                  new AddsToRuleKey() {
+                    @AddToRuleKey
+                    private final ImmutableList<SourcePath> nestedField =
+                        ImmutableList.of(FakeSourcePath.of(filesystem, "nested"));
+                  };
+
+              @AddToRuleKey
+              private final ImmutableMap<String, Optional<String>> mapField =
+                  ImmutableMap.of("a", Optional.of("b"), "c", Optional.empty());
+
+              @AddToRuleKey
+              private final Supplier<String> walkedField =
+                  () -> {
+                    walks.incrementAndGet();
+                    return "walked";
+                  };
+            };
+
+    FileHashLoader hashLoader =
+        FakeFileHashCache.createFromStrings(
+            ImmutableMap.of("input", Strings.repeat("a", 40), "nested", Strings.repeat("b", 40)));
+    RuleKey expected =
+        new TestDefaultRuleKeyFactory(hashLoader, ruleFinder).build(createRule.apply("target"));
+    walks.set(0);
+
+    DefaultRuleKeyFactory factory = new TestDefaultRuleKeyFactory(hashLoader, ruleFinder);
+    BuildRule rule = createRule.apply("target");
+    factory.prefetchInputs(rule);
+    assertEquals(expected, factory.build(rule));
+    assertEquals(1, walks.get());
+  }
+
   @SuppressWarnings("unused")
   private static class Adder implements AddsToRuleKey {
     @AddToRuleKey private String cheese = "brie";
@@ -16,9 +16,15 @@
 
 package com.facebook.buck.rules.keys;
 
+import static org.junit.Assert.assertEquals;
+
 import com.facebook.buck.rules.keys.hasher.GuavaRuleKeyHasher;
+import com.facebook.buck.rules.keys.hasher.RuleKeyHasherTypes;
+import com.google.common.base.Strings;
 import com.google.common.hash.HashCode;
 import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
@@ -44,6 +50,34 @@ public class GuavaRuleKeyHasherTest {
     }
   }
 
+  public static class EncodingTest {
+
+    @Test
+    public void stringsAreHashedAsTheirUtf8Bytes() {
+      String[] values = {
+        "",
+        "ascii",
+        "caf\u00e9",
+        "\u20ac100",
+        "emoji \ud83d\ude00",
+        "unpaired \ud83d high",
+        "unpaired \ude00 low",
+        Strings.repeat("long \u00e9\u20ac\ud83d\ude00 ", 200),
+      };
+      for (String value : values) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        HashCode expected =
+            Hashing.sha1()
+                .newHasher()
+                .putBytes(bytes)
+                .putInt(bytes.length)
+                .putByte(RuleKeyHasherTypes.STRING)
+                .hash();
+        assertEquals(value, expected, newHasher().putString(value).hash());
+      }
+    }
+  }
+
   public static GuavaRuleKeyHasher newHasher() {
     return new GuavaRuleKeyHasher(Hashing.sha1().newHasher());
   }
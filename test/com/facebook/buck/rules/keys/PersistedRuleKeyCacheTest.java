@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.rules.keys;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.core.model.BuildTargetFactory;
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.facebook.buck.core.rules.BuildRule;
+import com.facebook.buck.core.rules.TestBuildRuleParams;
+import com.facebook.buck.core.rules.impl.NoopBuildRuleWithDeclaredAndExtraDeps;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.impl.FakeProjectFilesystem;
+import com.facebook.buck.testutil.FakeProjectFileHashCache;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.facebook.buck.util.cache.InstrumentingCacheStatsTracker;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.hash.HashCode;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class PersistedRuleKeyCacheTest {
+
+  private static final HashCode SETTINGS = HashCode.fromString("aaaa");
+  private static final RuleKey DEP_KEY = new RuleKey("1111");
+  private static final RuleKey RULE_KEY = new RuleKey("2222");
+
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  private final ProjectFilesystem filesystem = new FakeProjectFilesystem();
+  private final Map<Path, HashCode> fileHashes = new HashMap<>();
+  private final Map<Path, HashCode> buildFileHashes = new HashMap<>();
+  private Path snapshotPath;
+
+  @Before
+  public void setUp() {
+    snapshotPath = tmp.getRoot().resolve("rule_key_cache.bin");
+    fileHashes.put(filesystem.getPath("dep.txt"), HashCode.fromString("01"));
+    fileHashes.put(filesystem.getPath("rule.txt"), HashCode.fromString("02"));
+    buildFileHashes.put(tmp.getRoot().resolve("BUCK"), HashCode.fromString("03"));
+  }
+
+  @Test
+  public void keysAreReusedWhenNothingChanged() throws IOException {
+    populateSnapshot();
+
+    TrackedRuleKeyCache<RuleKey> cache = newTrackedCache(newCache(SETTINGS));
+    BuildRule dep = new TestRule("//:dep", ImmutableSortedSet.of());
+    BuildRule rule = new TestRule("//:rule", ImmutableSortedSet.of(dep));
+    assertEquals(RULE_KEY, cache.get(rule, this::failToCompute));
+    assertEquals(DEP_KEY, cache.get(dep, this::failToCompute));
+  }
+
+  @Test
+  public void reusedKeysAreInvalidatedByInputChanges() throws IOException {
+    populateSnapshot();
+
+    DefaultRuleKeyCache<RuleKey> internalCache = new DefaultRuleKeyCache<>();
+    PersistedRuleKeyCache cache = newCache(internalCache, SETTINGS);
+    BuildRule dep = new TestRule("//:dep", ImmutableSortedSet.of());
+    BuildRule rule = new TestRule("//:rule", ImmutableSortedSet.of(dep));
+    newTrackedCache(cache).get(rule, this::failToCompute);
+    assertTrue(internalCache.isCached(rule));
+
+    cache.invalidateInputs(
+        ImmutableList.of(ImmutableRuleKeyInput.of(filesystem, filesystem.getPath("rule.txt"))),
+        new InstrumentingCacheStatsTracker());
+    assertFalse(internalCache.isCached(rule));
+  }
+
+  @Test
+  public void changedInputInvalidatesKeyAndDependents() throws IOException {
+    populateSnapshot();
+    fileHashes.put(filesystem.getPath("dep.txt"), HashCode.fromString("ff"));
+
+    TrackedRuleKeyCache<RuleKey> cache = newTrackedCache(newCache(SETTINGS));
+    BuildRule dep = new TestRule("//:dep", ImmutableSortedSet.of());
+    BuildRule rule = new TestRule("//:rule", ImmutableSortedSet.of(dep));
+    RuleKey recomputed = new RuleKey("3333");
+    assertEquals(recomputed, cache.get(rule, r -> newResult(recomputed)));
+    assertEquals(recomputed, cache.get(dep, r -> newResult(recomputed)));
+  }
+
+  @Test
+  public void changedBuildFileInvalidatesKeys() throws IOException {
+    populateSnapshot();
+    buildFileHashes.put(tmp.getRoot().resolve("BUCK"), HashCode.fromString("ff"));
+
+    TrackedRuleKeyCache<RuleKey> cache = newTrackedCache(newCache(SETTINGS));
+    BuildRule dep = new TestRule("//:dep", ImmutableSortedSet.of());
+    RuleKey recomputed = new RuleKey("3333");
+    assertEquals(recomputed, cache.get(dep, r -> newResult(recomputed)));
+  }
+
+  @Test
+  public void buildFileChangedAfterFirstLookupInvalidatesKeys() throws IOException {
+    populateSnapshot();
+
+    PersistedRuleKeyCache cache = newCache(SETTINGS);
+    BuildRule dep = new TestRule("//:dep", ImmutableSortedSet.of());
+    assertEquals(DEP_KEY, newTrackedCache(cache).get(dep, this::failToCompute));
+
+    Path buildFile = tmp.getRoot().resolve("BUCK");
+    buildFileHashes.put(buildFile, HashCode.fromString("ff"));
+    cache.invalidateInputs(
+        ImmutableList.of(ImmutableRuleKeyInput.of(filesystem, buildFile)),
+        new InstrumentingCacheStatsTracker());
+
+    // The daemon creates new rules from the changed build file.
+    BuildRule newDep = new TestRule("//:dep", ImmutableSortedSet.of());
+    RuleKey recomputed = new RuleKey("3333");
+    assertEquals(recomputed, newTrackedCache(cache).get(newDep, r -> newResult(recomputed)));
+  }
+
+  @Test
+  public void longDependencyChainsAreValidated() throws IOException {
+    PersistedRuleKeyCache cache = newCache(SETTINGS);
+    TrackedRuleKeyCache<RuleKey> trackedCache = newTrackedCache(cache);
+    int length = 10_000;
+    BuildRule previous = null;
+    for (int i = 0; i < length; i++) {
+      BuildRule rule =
+          new TestRule(
+              "//:rule" + i,
+              previous == null ? ImmutableSortedSet.of() : ImmutableSortedSet.of(previous));
+      ImmutableList<BuildRule> deps =
+          previous == null ? ImmutableList.of() : ImmutableList.of(previous);
+      trackedCache.get(rule, r -> newResult(RULE_KEY, deps, "rule.txt"));
+      previous = rule;
+    }
+    cache.writeSnapshot();
+
+    TrackedRuleKeyCache<RuleKey> newCache = newTrackedCache(newCache(SETTINGS));
+    previous = null;
+    for (int i = 0; i < length; i++) {
+      previous =
+          new TestRule(
+              "//:rule" + i,
+              previous == null ? ImmutableSortedSet.of() : ImmutableSortedSet.of(previous));
+    }
+    assertEquals(RULE_KEY, newCache.get(previous, this::failToCompute));
+  }
+
+  @Test
+  public void changedSettingsDiscardSnapshot() throws IOException {
+    populateSnapshot();
+
+    TrackedRuleKeyCache<RuleKey> cache = newTrackedCache(newCache(HashCode.fromString("bbbb")));
+    BuildRule dep = new TestRule("//:dep", ImmutableSortedSet.of());
+    RuleKey recomputed = new RuleKey("3333");
+    assertEquals(recomputed, cache.get(dep, r -> newResult(recomputed)));
+  }
+
+  @Test
+  public void snapshotRoundTrips() throws IOException {
+    populateSnapshot();
+
+    RuleKeyCacheSnapshot snapshot;
+    try (InputStream inputStream = Files.newInputStream(snapshotPath)) {
+      snapshot = RuleKeyCacheSnapshot.readFrom(inputStream);
+    }
+    assertEquals(SETTINGS, snapshot.getSettingsFingerprint());
+    assertEquals(ImmutableMap.copyOf(buildFileHashes), snapshot.getBuildFileHashes());
+    RuleKeyCacheSnapshot.Entry entry =
+        snapshot
+            .getEntries()
+            .get(BuildTargetFactory.newInstance("//:rule").toStringWithConfiguration());
+    assertEquals(RULE_KEY, entry.getRuleKey());
+    assertEquals(
+        ImmutableList.of(BuildTargetFactory.newInstance("//:dep").toStringWithConfiguration()),
+        entry.getDeps());
+    assertEquals(filesystem.getPath("rule.txt"), entry.getInputs().get(0).getPath());
+    assertEquals(HashCode.fromString("02"), entry.getInputs().get(0).getHashCode());
+  }
+
+  private void populateSnapshot() throws IOException {
+    PersistedRuleKeyCache cache = newCache(SETTINGS);
+    TrackedRuleKeyCache<RuleKey> trackedCache = newTrackedCache(cache);
+    BuildRule dep = new TestRule("//:dep", ImmutableSortedSet.of());
+    BuildRule rule = new TestRule("//:rule", ImmutableSortedSet.of(dep));
+    trackedCache.get(dep, r -> newResult(DEP_KEY, ImmutableList.of(), "dep.txt"));
+    trackedCache.get(rule, r -> newResult(RULE_KEY, ImmutableList.of(dep), "rule.txt"));
+    cache.writeSnapshot();
+  }
+
+  private RuleKeyResult<RuleKey> newResult(RuleKey key) {
+    return new RuleKeyResult<>(key, ImmutableList.of(), ImmutableList.of());
+  }
+
+  private RuleKeyResult<RuleKey> newResult(
+      RuleKey key, ImmutableList<BuildRule> deps, String input) {
+    return new RuleKeyResult<>(
+        key,
+        deps,
+        ImmutableList.of(ImmutableRuleKeyInput.of(filesystem, filesystem.getPath(input))));
+  }
+
+  private RuleKeyResult<RuleKey> failToCompute(Object action) {
+    throw new IllegalStateException("Expected " + action + " to be reused from the snapshot");
+  }
+
+  private PersistedRuleKeyCache newCache(HashCode settings) {
+    return newCache(new DefaultRuleKeyCache<>(), settings);
+  }
+
+  private PersistedRuleKeyCache newCache(
+      DefaultRuleKeyCache<RuleKey> internalCache, HashCode settings) {
+    return new PersistedRuleKeyCache(
+        internalCache,
+        snapshotPath,
+        settings,
+        ImmutableList.of(new FakeProjectFileHashCache(filesystem, new HashMap<>(fileHashes))),
+        () -> Optional.of(ImmutableMap.copyOf(buildFileHashes)));
+  }
+
+  private static TrackedRuleKeyCache<RuleKey> newTrackedCache(PersistedRuleKeyCache cache) {
+    return new TrackedRuleKeyCache<>(cache, new InstrumentingCacheStatsTracker());
+  }
+
+  private static class TestRule extends NoopBuildRuleWithDeclaredAndExtraDeps {
+
+    private TestRule(String target, ImmutableSortedSet<BuildRule> deps) {
+      super(
+          BuildTargetFactory.newInstance(target),
+          new FakeProjectFilesystem(),
+          TestBuildRuleParams.create().withDeclaredDeps(deps));
+    }
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) Facebook, Inc. and its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.facebook.buck.skylark.io.impl;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.core.filesystems.AbsPath;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.impl.FakeProjectFilesystem;
+import com.facebook.buck.io.filesystem.skylark.SkylarkFilesystem;
+import com.facebook.buck.skylark.io.Globber;
+import com.facebook.buck.skylark.io.GlobberFactory;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.devtools.build.lib.vfs.Path;
+import java.util.Collection;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GlobResultCacheTest {
+
+  private FakeGlobber fakeGlobber;
+  private GlobResultCache globResultCache;
+  private GlobberFactory globberFactory;
+  private Path packagePath;
+  private AbsPath packageDirectory;
+
+  @Before
+  public void setUp() {
+    ProjectFilesystem projectFilesystem = FakeProjectFilesystem.createRealTempFilesystem();
+    SkylarkFilesystem fileSystem = SkylarkFilesystem.using(projectFilesystem);
+    packageDirectory = projectFilesystem.getRootPath().resolve("pkg");
+    packagePath = fileSystem.getPath(packageDirectory.toString());
+    fakeGlobber = new FakeGlobber();
+    globResultCache = new GlobResultCache();
+    globberFactory = globResultCache.wrap(basePath -> fakeGlobber);
+  }
+
+  @Test
+  public void globberReturnsResultCachedByPreviousParse() throws Exception {
+    fakeGlobber.returnResultOnNextInvocations(ImmutableSet.of("Foo.java"));
+    assertThat(runGlob("*.java"), is(ImmutableSet.of("Foo.java")));
+    fakeGlobber.returnResultOnNextInvocations(ImmutableSet.of());
+    assertThat(runGlob("*.java"), is(ImmutableSet.of("Foo.java")));
+    assertThat(fakeGlobber.invocations, is(1));
+    assertTrue(globResultCache.hasAllGlobsOf(packageDirectory));
+  }
+
+  @Test
+  public void addedPathMatchingGlobEvictsResult() throws Exception {
+    fakeGlobber.returnResultOnNextInvocations(ImmutableSet.of("Foo.java"));
+    runGlob("**/*.java");
+
+    globResultCache.invalidatePath(packageDirectory.resolve("sub/Bar.java"));
+
+    assertFalse(globResultCache.hasAllGlobsOf(packageDirectory));
+    fakeGlobber.returnResultOnNextInvocations(ImmutableSet.of("Foo.java", "sub/Bar.java"));
+    assertThat(runGlob("**/*.java"), is(ImmutableSet.of("Foo.java", "sub/Bar.java")));
+    assertThat(fakeGlobber.invocations, is(2));
+    assertTrue(globResultCache.hasAllGlobsOf(packageDirectory));
+  }
+
+  @Test
+  public void addedPathNotMatchingAnyGlobKeepsResults() throws Exception {
+    fakeGlobber.returnResultOnNextInvocations(ImmutableSet.of("Foo.java"));
+    runGlob("*.java");
+
+    globResultCache.invalidatePath(packageDirectory.resolve("README.md"));
+    globResultCache.invalidatePath(packageDirectory.resolve("sub/Bar.java"));
+
+    assertTrue(globResultCache.hasAllGlobsOf(packageDirectory));
+    assertThat(runGlob("*.java"), is(ImmutableSet.of("Foo.java")));
+    assertThat(fakeGlobber.invocations, is(1));
+  }
+
+  @Test
+  public void addedPathMatchingExcludeKeepsResults() throws Exception {
+    fakeGlobber.returnResultOnNextInvocations(ImmutableSet.of("Foo.java"));
+    globberFactory
+        .create(packagePath)
+        .run(ImmutableList.of("*.java"), ImmutableList.of("*Test.java"), true);
+
+    globResultCache.invalidatePath(packageDirectory.resolve("FooTest.java"));
+
+    assertTrue(globResultCache.hasAllGlobsOf(packageDirectory));
+  }
+
+  @Test
+  public void removedDirectoryEvictsResultsBeneathIt() throws Exception {
+    fakeGlobber.returnResultOnNextInvocations(ImmutableSet.of("res/values/strings.xml"));
+    runGlob("res/**/*.xml");
+
+    globResultCache.invalidatePath(packageDirectory.resolve("res/values"));
+
+    assertFalse(globResultCache.hasAllGlobsOf(packageDirectory));
+  }
+
+  @Test
+  public void changedBuildFileForgetsPackageGlobs() throws Exception {
+    fakeGlobber.returnResultOnNextInvocations(ImmutableSet.of("Foo.java"));
+    runGlob("*.java");
+
+    globResultCache.invalidatePackage(packageDirectory);
+
+    assertFalse(globResultCache.hasAllGlobsOf(packageDirectory));
+    runGlob("*.java");
+    assertThat(fakeGlobber.invocations, is(2));
+  }
+
+  private Set<String> runGlob(String include) throws Exception {
+    return globberFactory
+        .create(packagePath)
+        .run(ImmutableList.of(include), ImmutableList.of(), true);
+  }
+
+  private static class FakeGlobber implements Globber {
+    private Set<String> result = ImmutableSet.of();
+    private int invocations;
+
+    @Override
+    public Set<String> run(
+        Collection<String> include, Collection<String> exclude, boolean excludeDirectories) {
+      invocations++;
+      return result;
+    }
+
+    public void returnResultOnNextInvocations(Set<String> result) {
+      this.result = result;
+    }
+  }
+}
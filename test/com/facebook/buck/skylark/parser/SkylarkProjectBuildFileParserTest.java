@@ -112,6 +112,17 @@ public class SkylarkProjectBuildFileParserTest {
         skylarkFilesystem, eventHandler, options, knownRuleTypesProvider, cell.getRootCell());
   }
 
+  private SkylarkProjectBuildFileParser createParserWithExtensionCache(
+      SkylarkExtensionCache extensionCache) {
+    return SkylarkProjectBuildFileParserTestUtils.createParserWithOptions(
+        skylarkFilesystem,
+        new PrintingEventHandler(EventKind.ALL_EVENTS),
+        getDefaultParserOptions().build(),
+        knownRuleTypesProvider,
+        cell.getRootCell(),
+        Optional.of(extensionCache));
+  }
+
   private SkylarkProjectBuildFileParser createParser(EventHandler eventHandler) {
     return createParserWithOptions(eventHandler, getDefaultParserOptions().build());
   }
@@ -581,6 +592,96 @@ public class SkylarkProjectBuildFileParserTest {
         equalTo(recordingParser.expectedCounts(vfs_path(buildFile), 1)));
   }
 
+  @Test
+  public void sharedExtensionCacheReusesExtensionsEvaluatedByAnotherParser() throws Exception {
+    Path buildFile = projectFilesystem.resolve("BUCK");
+    Files.write(
+        buildFile,
+        Arrays.asList("load('//:ext_1.bzl', 'ext_1')", "prebuilt_jar(name='foo', binary_jar=ext_1)"));
+
+    Path ext1 = projectFilesystem.resolve("ext_1.bzl");
+    Files.write(ext1, Arrays.asList("load('//:ext_2.bzl', 'ext_2')", "ext_1 = ext_2"));
+
+    Path ext2 = projectFilesystem.resolve("ext_2.bzl");
+    Files.write(ext2, Arrays.asList("ext_2 = 'hello'"));
+
+    SkylarkExtensionCache extensionCache = new SkylarkExtensionCache();
+    createParserWithExtensionCache(extensionCache).getManifest(buildFile);
+
+    RecordingParser recordingParser =
+        new RecordingParser(createParserWithExtensionCache(extensionCache));
+    Map<String, Object> rule =
+        SkylarkProjectBuildFileParserTestUtils.getSingleRule(recordingParser, buildFile);
+
+    assertThat(rule.get("binaryJar"), equalTo("hello"));
+    assertThat(
+        recordingParser.readCounts,
+        equalTo(recordingParser.expectedCounts(vfs_path(buildFile), 1)));
+    assertTrue(recordingParser.buildCounts.isEmpty());
+  }
+
+  @Test
+  public void sharedExtensionCacheDoesNotReuseExtensionsLoadingChangedFiles() throws Exception {
+    Path buildFile = projectFilesystem.resolve("BUCK");
+    Files.write(
+        buildFile,
+        Arrays.asList("load('//:ext_1.bzl', 'ext_1')", "prebuilt_jar(name='foo', binary_jar=ext_1)"));
+
+    Path ext1 = projectFilesystem.resolve("ext_1.bzl");
+    Files.write(ext1, Arrays.asList("load('//:ext_2.bzl', 'ext_2')", "ext_1 = ext_2"));
+
+    Path ext2 = projectFilesystem.resolve("ext_2.bzl");
+    Files.write(ext2, Arrays.asList("ext_2 = 'hello'"));
+
+    SkylarkExtensionCache extensionCache = new SkylarkExtensionCache();
+    createParserWithExtensionCache(extensionCache).getManifest(buildFile);
+
+    Files.write(ext2, Arrays.asList("ext_2 = 'goodbye'"));
+
+    RecordingParser recordingParser =
+        new RecordingParser(createParserWithExtensionCache(extensionCache));
+    Map<String, Object> rule =
+        SkylarkProjectBuildFileParserTestUtils.getSingleRule(recordingParser, buildFile);
+
+    assertThat(rule.get("binaryJar"), equalTo("goodbye"));
+    assertThat(
+        recordingParser.buildCounts,
+        equalTo(recordingParser.expectedCounts(vfs_path(ext1), 1, vfs_path(ext2), 1)));
+  }
+
+  @Test
+  public void sharedExtensionCacheInvalidatesOnlyExtensionsDependingOnPath() throws Exception {
+    Path buildFile = projectFilesystem.resolve("BUCK");
+    Files.write(
+        buildFile,
+        Arrays.asList(
+            "load('//:ext_1.bzl', 'ext_1')",
+            "load('//:ext_3.bzl', 'ext_3')",
+            "prebuilt_jar(name='foo', binary_jar=ext_1 + ext_3)"));
+
+    Path ext1 = projectFilesystem.resolve("ext_1.bzl");
+    Files.write(ext1, Arrays.asList("load('//:ext_2.bzl', 'ext_2')", "ext_1 = ext_2"));
+
+    Path ext2 = projectFilesystem.resolve("ext_2.bzl");
+    Files.write(ext2, Arrays.asList("ext_2 = 'hello'"));
+
+    Path ext3 = projectFilesystem.resolve("ext_3.bzl");
+    Files.write(ext3, Arrays.asList("ext_3 = 'world'"));
+
+    SkylarkExtensionCache extensionCache = new SkylarkExtensionCache();
+    createParserWithExtensionCache(extensionCache).getManifest(buildFile);
+
+    extensionCache.invalidatePath(AbsPath.of(ext2));
+
+    RecordingParser recordingParser =
+        new RecordingParser(createParserWithExtensionCache(extensionCache));
+    recordingParser.getManifest(buildFile);
+
+    assertThat(
+        recordingParser.buildCounts,
+        equalTo(recordingParser.expectedCounts(vfs_path(ext1), 1, vfs_path(ext2), 1)));
+  }
+
   @Test
   public void canHandleSameExtensionLoadedMultipleTimesFromAnotherExtension() throws Exception {
     // Verifies we can handle the case when the same extension is loaded multiple times from another
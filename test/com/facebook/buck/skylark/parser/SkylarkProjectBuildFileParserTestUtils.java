@@ -40,6 +40,7 @@ import com.google.devtools.build.lib.vfs.Path;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import org.hamcrest.Matchers;
 
 public class SkylarkProjectBuildFileParserTestUtils {
@@ -98,6 +99,22 @@ public class SkylarkProjectBuildFileParserTestUtils {
       ProjectBuildFileParserOptions options,
       KnownRuleTypesProvider knownRuleTypesProvider,
       Cell cell) {
+    return createParserWithOptions(
+        skylarkFilesystem,
+        eventHandler,
+        options,
+        knownRuleTypesProvider,
+        cell,
+        Optional.empty());
+  }
+
+  public static SkylarkProjectBuildFileParser createParserWithOptions(
+      SkylarkFilesystem skylarkFilesystem,
+      EventHandler eventHandler,
+      ProjectBuildFileParserOptions options,
+      KnownRuleTypesProvider knownRuleTypesProvider,
+      Cell cell,
+      Optional<SkylarkExtensionCache> sharedExtensionCache) {
     return SkylarkProjectBuildFileParser.using(
         options,
         BuckEventBusForTests.newInstance(),
@@ -112,7 +129,8 @@ public class SkylarkProjectBuildFileParserTestUtils {
             knownRuleTypesProvider.getUserDefinedRuleTypes(cell),
             options.getPerFeatureProviders()),
         eventHandler,
-        NativeGlobber::create);
+        NativeGlobber::create,
+        sharedExtensionCache);
   }
 
   static Map<String, Object> getSingleRule(
@@ -105,6 +105,39 @@ public class BserDeserializerTest {
     assertThat(deserialized, equalTo(expected));
   }
 
+  @Test
+  public void deserializeArrayOfInt8AsImmutableListOfLongs() throws IOException {
+    BserDeserializer deserializer =
+        new BserDeserializer(
+            BserDeserializer.KeyOrdering.UNSORTED, BserDeserializer.ValueTypes.IMMUTABLE);
+    Object deserialized =
+        deserializer.deserializeBserValue(
+            deserializer.readBserBuffer(getByteStream("000103090003030323034203F0")));
+    assertThat(deserialized, Matchers.instanceOf(ImmutableList.class));
+    assertThat(deserialized, equalTo(ImmutableList.of(0x23L, 0x42L, (long) (byte) 0xF0)));
+  }
+
+  @Test
+  public void deserializeImmutableArrayContainingNullThrows() throws IOException {
+    BserDeserializer deserializer =
+        new BserDeserializer(
+            BserDeserializer.KeyOrdering.UNSORTED, BserDeserializer.ValueTypes.IMMUTABLE);
+    thrown.expect(IllegalArgumentException.class);
+    deserializer.deserializeBserValue(getByteStream("000103060003020A0323"));
+  }
+
+  @Test
+  public void readBserBufferReadsOnePduAtATime() throws IOException {
+    BserDeserializer deserializer = new BserDeserializer(BserDeserializer.KeyOrdering.UNSORTED);
+    InputStream stream = getByteStream("00010303000300" + "0001030E02030B68656C6C6F20776F726C64");
+    assertThat(
+        deserializer.deserializeBserValue(deserializer.readBserBuffer(stream)),
+        equalTo(ImmutableList.of()));
+    assertThat(
+        deserializer.deserializeBserValue(deserializer.readBserBuffer(stream)),
+        equalTo("hello world"));
+  }
+
   @Test
   public void deserializeString() throws IOException {
     BserDeserializer deserializer = new BserDeserializer(BserDeserializer.KeyOrdering.UNSORTED);
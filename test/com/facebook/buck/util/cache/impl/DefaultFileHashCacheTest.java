@@ -29,11 +29,14 @@ import com.facebook.buck.io.filesystem.impl.FakeProjectFilesystem;
 import com.facebook.buck.testutil.TemporaryPaths;
 import com.facebook.buck.util.cache.FileHashCacheMode;
 import com.facebook.buck.util.cache.HashCodeAndFileType;
+import com.facebook.buck.util.hashing.PathHashing;
+import com.facebook.buck.util.hashing.ProjectFileHashLoader;
 import com.facebook.buck.util.zip.CustomJarOutputStream;
 import com.facebook.buck.util.zip.CustomZipOutputStream;
 import com.facebook.buck.util.zip.ZipOutputStreams;
 import com.google.common.collect.ImmutableList;
 import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
 import java.io.ByteArrayInputStream;
 import java.io.File;
@@ -45,6 +48,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.EnumSet;
+import java.util.Optional;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.jar.JarOutputStream;
@@ -370,4 +374,67 @@ public class DefaultFileHashCacheTest {
         buckOutCacheClassDelegate.get(buckOutCache.getFilesystem())
             instanceof DefaultProjectFilesystemDelegate);
   }
+
+  @Test
+  public void prefetchLoadsHashesInTheBackground() throws Exception {
+    ProjectFilesystem filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    Path first = Paths.get("first.txt");
+    Path second = Paths.get("second.txt");
+    filesystem.writeContentsToPath("first", first);
+    filesystem.writeContentsToPath("second", second);
+
+    DefaultFileHashCache cache =
+        DefaultFileHashCache.createDefaultFileHashCache(filesystem, fileHashCacheMode);
+    cache.prefetch(ImmutableList.of(first, second));
+    DefaultFileHashCache.waitForPrefetches();
+
+    assertTrue(cache.getIfPresent(first).isPresent());
+    assertTrue(cache.getIfPresent(second).isPresent());
+    assertEquals(Hashing.sha1().hashString("first", StandardCharsets.UTF_8), cache.get(first));
+    assertEquals(Hashing.sha1().hashString("second", StandardCharsets.UTF_8), cache.get(second));
+  }
+
+  @Test
+  public void directoryHashIsUnaffectedByParallelFileHashing() throws IOException {
+    ProjectFilesystem filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    Path dir = Paths.get("res");
+    for (int i = 0; i < 50; i++) {
+      Path child = dir.resolve("sub" + (i % 5)).resolve("file" + i);
+      filesystem.mkdirs(child.getParent());
+      filesystem.writeContentsToPath("contents" + i, child);
+    }
+
+    DefaultFileHashCache cache =
+        DefaultFileHashCache.createDefaultFileHashCache(filesystem, fileHashCacheMode);
+    DefaultFileHashCache reference =
+        DefaultFileHashCache.createDefaultFileHashCache(filesystem, fileHashCacheMode);
+    // Hash sequentially through a loader that ignores prefetch hints.
+    ProjectFileHashLoader sequentialLoader =
+        new ProjectFileHashLoader() {
+          @Override
+          public HashCode get(Path path) throws IOException {
+            return reference.get(path);
+          }
+
+          @Override
+          public HashCode getForArchiveMember(Path relativeArchivePath, Path memberPath)
+              throws IOException {
+            return reference.getForArchiveMember(relativeArchivePath, memberPath);
+          }
+
+          @Override
+          public long getSize(Path path) throws IOException {
+            return reference.getSize(path);
+          }
+
+          @Override
+          public Optional<HashCode> getIfPresent(Path path) {
+            return reference.getIfPresent(path);
+          }
+        };
+    Hasher hasher = Hashing.sha1().newHasher();
+    PathHashing.hashPath(hasher, sequentialLoader, filesystem, dir);
+
+    assertEquals(hasher.hash(), cache.get(dir));
+  }
 }
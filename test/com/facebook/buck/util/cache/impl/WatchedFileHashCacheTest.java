@@ -17,6 +17,7 @@
 package com.facebook.buck.util.cache.impl;
 
 import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertThat;
@@ -40,8 +41,11 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.EnumSet;
+import java.util.Optional;
 import org.hamcrest.junit.ExpectedException;
 import org.junit.Rule;
 import org.junit.Test;
@@ -242,4 +246,92 @@ public class WatchedFileHashCacheTest {
     assertFalse(cache.willGet(filesystem.getPath("buck-out/file.txt")));
     assertTrue(cache.willGet(filesystem.getPath("file.txt")));
   }
+
+  @Test
+  public void unchangedFilesAreNotRehashedAfterLoadingSnapshot() throws IOException {
+    ProjectFilesystem filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    Path snapshotPath = tmp.getRoot().resolve("snapshot.bin");
+    Path path = Paths.get("SomeClass.java");
+    FileTime modifiedTime = writeFileModifiedInThePast(filesystem, path, "original");
+
+    WatchedFileHashCache cache =
+        new WatchedFileHashCache(filesystem, fileHashCacheMode, Optional.of(snapshotPath));
+    HashCode originalHash = cache.get(path);
+    cache.writeSnapshot();
+
+    // Same size and modification time: the snapshot can't tell the difference, so the recorded
+    // hash is reused without reading the file.
+    filesystem.writeContentsToPath("modified", path);
+    Files.setLastModifiedTime(filesystem.resolve(path), modifiedTime);
+    WatchedFileHashCache newCache =
+        new WatchedFileHashCache(filesystem, fileHashCacheMode, Optional.of(snapshotPath));
+    assertEquals(originalHash, newCache.get(path));
+  }
+
+  @Test
+  public void modifiedFilesAreRehashedAfterLoadingSnapshot() throws IOException {
+    ProjectFilesystem filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    Path snapshotPath = tmp.getRoot().resolve("snapshot.bin");
+    Path path = Paths.get("SomeClass.java");
+    writeFileModifiedInThePast(filesystem, path, "original");
+
+    WatchedFileHashCache cache =
+        new WatchedFileHashCache(filesystem, fileHashCacheMode, Optional.of(snapshotPath));
+    HashCode originalHash = cache.get(path);
+    cache.writeSnapshot();
+
+    filesystem.writeContentsToPath("modified", path);
+    WatchedFileHashCache newCache =
+        new WatchedFileHashCache(filesystem, fileHashCacheMode, Optional.of(snapshotPath));
+    assertNotEquals(originalHash, newCache.get(path));
+  }
+
+  @Test
+  public void snapshotIsNotUsedForPathsChangedSinceLoading() throws IOException {
+    ProjectFilesystem filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    Path snapshotPath = tmp.getRoot().resolve("snapshot.bin");
+    Path path = Paths.get("SomeClass.java");
+    FileTime modifiedTime = writeFileModifiedInThePast(filesystem, path, "original");
+
+    WatchedFileHashCache cache =
+        new WatchedFileHashCache(filesystem, fileHashCacheMode, Optional.of(snapshotPath));
+    HashCode originalHash = cache.get(path);
+    cache.writeSnapshot();
+
+    filesystem.writeContentsToPath("modified", path);
+    Files.setLastModifiedTime(filesystem.resolve(path), modifiedTime);
+    WatchedFileHashCache newCache =
+        new WatchedFileHashCache(filesystem, fileHashCacheMode, Optional.of(snapshotPath));
+    newCache.onFileSystemChange(
+        WatchmanPathEvent.of(filesystem.getRootPath(), Kind.MODIFY, RelPath.of(path)));
+    assertNotEquals(originalHash, newCache.get(path));
+  }
+
+  @Test
+  public void corruptSnapshotIsIgnored() throws IOException {
+    ProjectFilesystem filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    Path snapshotPath = tmp.getRoot().resolve("snapshot.bin");
+    Path path = Paths.get("SomeClass.java");
+    writeFileModifiedInThePast(filesystem, path, "original");
+
+    WatchedFileHashCache cache =
+        new WatchedFileHashCache(filesystem, fileHashCacheMode, Optional.of(snapshotPath));
+    HashCode originalHash = cache.get(path);
+    cache.writeSnapshot();
+
+    // A snapshot cut short by a crashing daemon still has a valid header.
+    byte[] snapshot = Files.readAllBytes(snapshotPath);
+    Files.write(snapshotPath, Arrays.copyOf(snapshot, snapshot.length - 4));
+    WatchedFileHashCache newCache =
+        new WatchedFileHashCache(filesystem, fileHashCacheMode, Optional.of(snapshotPath));
+    assertEquals(originalHash, newCache.get(path));
+  }
+
+  private static FileTime writeFileModifiedInThePast(
+      ProjectFilesystem filesystem, Path path, String contents) throws IOException {
+    filesystem.writeContentsToPath(contents, path);
+    FileTime modifiedTime = FileTime.fromMillis(System.currentTimeMillis() - 60_000);
+    Files.setLastModifiedTime(filesystem.resolve(path), modifiedTime);
+    return modifiedTime;
+  }
 }
@@ -33,6 +33,7 @@ import com.google.common.collect.ImmutableSet;
 import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -243,6 +244,32 @@ public class UntarTest {
     extractsFiles(ArchiveFormat.TAR_BZ2, Optional.of(false));
   }
 
+  @Test
+  public void extractsTarGzFilesFromStream() throws IOException {
+    Path archivePath = getTestFilePath(ArchiveFormat.TAR_GZ.getExtension());
+    try (InputStream archive = Files.newInputStream(archivePath)) {
+      ImmutableSet<Path> unarchivedFiles =
+          Untar.gzipUnarchiver()
+              .extractArchive(
+                  archive, filesystem, ExistingFileMode.OVERWRITE_AND_CLEAN_DIRECTORIES);
+
+      ImmutableList<Path> expectedPaths =
+          ImmutableList.of(
+              Paths.get("root", "echo.sh"),
+              Paths.get("root", "alternative", "Main.java"),
+              Paths.get("root", "alternative", "Link.java"),
+              Paths.get("root", "src", "com", "facebook", "buck", "Main.java"),
+              Paths.get("root_sibling", "Other.java"));
+      Assert.assertThat(unarchivedFiles, Matchers.containsInAnyOrder(expectedPaths.toArray()));
+      assertOutputFileExists(expectedPaths.get(0), echoDotSh);
+      assertOutputFileExists(expectedPaths.get(3), mainDotJava);
+      assertOutputFileExists(expectedPaths.get(4), otherDotJava);
+
+      // The stream is left to the caller.
+      archive.read();
+    }
+  }
+
   private void extractsFiles(ArchiveFormat format, Optional<Boolean> writeSymlinksLast)
       throws IOException {
     ImmutableList<Path> expectedPaths =